@@ -0,0 +1,168 @@
+package benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import tables.BPlusTreeTable;
+import tables.ColumnarTable;
+import tables.HashArrayTable;
+import tables.HashFileTable;
+import tables.PagedFileTable;
+import tables.SearchTable;
+import tables.Table;
+
+/**
+ * Builds the tables and rows shared by
+ * every benchmark in this module.
+ * <p>
+ * Rows are generated deterministically from
+ * their ordinal, so that a key for ordinal
+ * <code>i</code> is always the same key and
+ * ordinals at or beyond the loaded row count
+ * are guaranteed misses.
+ */
+public final class Fixtures {
+	private Fixtures() {}
+
+	/**
+	 * The column layouts under test, mixing string,
+	 * integer, and boolean columns and key types.
+	 */
+	public enum Schema {
+		/** [s*, i, b] */
+		STRING_KEY(
+			List.of("name", "order", "flag"),
+			List.of("string", "integer", "boolean"),
+			0
+		),
+
+		/** [i*, s, b] */
+		INTEGER_KEY(
+			List.of("id", "name", "flag"),
+			List.of("integer", "string", "boolean"),
+			0
+		),
+
+		/** [s, s, s, i, i, i, b, b, b, s*, s, i, i, b, b] */
+		WIDE(
+			List.of("c0", "c1", "c2", "c3", "c4", "c5", "c6", "c7", "c8", "c9", "c10", "c11", "c12", "c13", "c14"),
+			List.of("string", "string", "string", "integer", "integer", "integer", "boolean", "boolean", "boolean", "string", "string", "integer", "integer", "boolean", "boolean"),
+			9
+		);
+
+		final List<String> columnNames;
+		final List<String> columnTypes;
+		final int primaryIndex;
+
+		Schema(List<String> columnNames, List<String> columnTypes, int primaryIndex) {
+			this.columnNames = columnNames;
+			this.columnTypes = columnTypes;
+			this.primaryIndex = primaryIndex;
+		}
+
+		/**
+		 * Returns the key for the given ordinal.
+		 *
+		 * @param i an ordinal.
+		 * @return the key.
+		 */
+		Object key(int i) {
+			return switch (columnTypes.get(primaryIndex)) {
+				case "integer" -> i;
+				default -> "key_" + i;
+			};
+		}
+
+		/**
+		 * Returns the row for the given ordinal,
+		 * with a null in every seventh non-key field.
+		 *
+		 * @param i an ordinal.
+		 * @return the row.
+		 */
+		List<Object> row(int i) {
+			List<Object> row = new ArrayList<>(columnTypes.size());
+			for (int j = 0; j < columnTypes.size(); j++) {
+				if (j == primaryIndex)
+					row.add(key(i));
+				else if ((i + j) % 7 == 0)
+					row.add(null);
+				else row.add(switch (columnTypes.get(j)) {
+					case "string" -> "v_" + (i ^ j);
+					case "integer" -> i * 31 + j;
+					default -> ((i + j) & 1) == 0;
+				});
+			}
+			return row;
+		}
+	}
+
+	/**
+	 * Creates an empty table of the given
+	 * implementation and schema.
+	 *
+	 * @param implementation a simple class name.
+	 * @param schema a schema.
+	 * @return the table.
+	 */
+	static Table create(String implementation, Schema schema) {
+		String tableName = "bench_%s".formatted(schema.name().toLowerCase());
+
+		Table table = switch (implementation) {
+			case "HashArrayTable" -> new HashArrayTable(tableName, schema.columnNames, schema.columnTypes, schema.primaryIndex);
+			case "SearchTable" -> new SearchTable(tableName, schema.columnNames, schema.columnTypes, schema.primaryIndex);
+			case "HashFileTable" -> new HashFileTable(tableName, schema.columnNames, schema.columnTypes, schema.primaryIndex);
+			case "PagedFileTable" -> new PagedFileTable(tableName, schema.columnNames, schema.columnTypes, schema.primaryIndex);
+			case "BPlusTreeTable" -> new BPlusTreeTable(tableName, schema.columnNames, schema.columnTypes, schema.primaryIndex);
+			case "ColumnarTable" -> new ColumnarTable(tableName, schema.columnNames, schema.columnTypes, schema.primaryIndex);
+			default -> throw new IllegalArgumentException("Unknown table implementation <%s>".formatted(implementation));
+		};
+
+		// A file table may reuse a file from an earlier trial.
+		table.clear();
+
+		return table;
+	}
+
+	/**
+	 * Returns the largest row count at which the
+	 * given implementation can be loaded in a trial.
+	 * <p>
+	 * A search table is a linked list, so loading it
+	 * takes quadratic time, and a hash file table maps
+	 * its records as one buffer of at most 2 GB.
+	 *
+	 * @param implementation a simple class name.
+	 * @return the largest row count.
+	 */
+	static int maxRows(String implementation) {
+		return switch (implementation) {
+			case "SearchTable" -> 100_000;
+			case "HashFileTable" -> 1_000_000;
+			default -> Integer.MAX_VALUE;
+		};
+	}
+
+	/**
+	 * Creates a table of the given implementation
+	 * and schema loaded with the given row count,
+	 * or throws an exception if the implementation
+	 * does not support that row count, which JMH
+	 * reports as a failed trial before continuing
+	 * with the next combination of parameters.
+	 *
+	 * @param implementation a simple class name.
+	 * @param schema a schema.
+	 * @param rows the row count.
+	 * @return the table.
+	 */
+	static Table load(String implementation, Schema schema, int rows) {
+		if (rows > maxRows(implementation))
+			throw new IllegalArgumentException("Table implementation <%s> does not support <%d> rows, so this trial is excluded".formatted(implementation, rows));
+
+		Table table = create(implementation, schema);
+		for (int i = 0; i < rows; i++)
+			table.put(schema.row(i));
+		return table;
+	}
+}
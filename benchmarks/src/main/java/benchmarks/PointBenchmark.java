@@ -0,0 +1,112 @@
+package benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tables.Table;
+
+/**
+ * Measures the point operations
+ * {@link Table#put(List)}, {@link Table#get(Object)},
+ * and {@link Table#remove(Object)} on a loaded table,
+ * reported as both throughput and sampled latency.
+ * <p>
+ * Each invocation draws the next ordinal from a
+ * fixed stride over the loaded rows, so that hits
+ * are spread over the whole table rather than
+ * repeatedly probing a cached neighborhood.
+ * Misses use ordinals beyond the loaded rows.
+ * <p>
+ * Mutating benchmarks restore the state within
+ * the same invocation (remove then put back),
+ * so the table size stays at the loaded count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointBenchmark {
+	@Param({"HashArrayTable", "SearchTable", "HashFileTable", "PagedFileTable", "BPlusTreeTable", "ColumnarTable"})
+	public String implementation;
+
+	/**
+	 * The row counts, of which the largest are only
+	 * loaded by the implementations supporting them,
+	 * as given by {@link Fixtures#maxRows(String)}.
+	 */
+	@Param({"1000", "100000", "10000000"})
+	public int rows;
+
+	@Param({"STRING_KEY", "INTEGER_KEY", "WIDE"})
+	public Fixtures.Schema schema;
+
+	private Table table;
+	private int cursor;
+
+	/*
+	 * A prime stride coprime to every row count
+	 * visits each loaded ordinal before repeating.
+	 */
+	private static final int STRIDE = 7_919;
+
+	@Setup(Level.Trial)
+	public void load() {
+		table = Fixtures.load(implementation, schema, rows);
+		cursor = 0;
+	}
+
+	private int next() {
+		cursor = (cursor + STRIDE) % rows;
+		return cursor;
+	}
+
+	@Benchmark
+	public List<Object> getHit() {
+		return table.get(schema.key(next()));
+	}
+
+	@Benchmark
+	public List<Object> getMiss() {
+		return table.get(schema.key(rows + next()));
+	}
+
+	@Benchmark
+	public boolean putHit() {
+		return table.put(schema.row(next()));
+	}
+
+	@Benchmark
+	public boolean putMissThenRemove() {
+		int i = rows + next();
+		table.put(schema.row(i));
+		return table.remove(schema.key(i));
+	}
+
+	@Benchmark
+	public boolean removeHitThenPut() {
+		int i = next();
+		boolean hit = table.remove(schema.key(i));
+		table.put(schema.row(i));
+		return hit;
+	}
+
+	@Benchmark
+	public boolean removeMiss() {
+		return table.remove(schema.key(rows + next()));
+	}
+}
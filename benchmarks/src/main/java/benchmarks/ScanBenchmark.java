@@ -0,0 +1,81 @@
+package benchmarks;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import tables.Table;
+
+/**
+ * Measures the full-table traversals
+ * {@link Table#iterator()}, {@link Table#rows()},
+ * and {@link Table#keys()} on a loaded table,
+ * reported as the average time per traversal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScanBenchmark {
+	@Param({"HashArrayTable", "SearchTable", "HashFileTable", "PagedFileTable", "BPlusTreeTable", "ColumnarTable"})
+	public String implementation;
+
+	/**
+	 * The row counts, of which the largest are only
+	 * loaded by the implementations supporting them,
+	 * as given by {@link Fixtures#maxRows(String)}.
+	 */
+	@Param({"1000", "100000", "10000000"})
+	public int rows;
+
+	@Param({"STRING_KEY", "INTEGER_KEY", "WIDE"})
+	public Fixtures.Schema schema;
+
+	private Table table;
+
+	@Setup(Level.Trial)
+	public void load() {
+		table = Fixtures.load(implementation, schema, rows);
+	}
+
+	@Benchmark
+	public void iterator(Blackhole bh) {
+		Iterator<List<Object>> iter = table.iterator();
+		while (iter.hasNext())
+			bh.consume(iter.next());
+	}
+
+	@Benchmark
+	public void iteratorFields(Blackhole bh) {
+		for (List<Object> row: table)
+			for (Object field: row)
+				bh.consume(field);
+	}
+
+	@Benchmark
+	public Set<List<Object>> rows() {
+		return table.rows();
+	}
+
+	@Benchmark
+	public Set<Object> keys() {
+		return table.keys();
+	}
+}
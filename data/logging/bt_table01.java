@@ -0,0 +1,2003 @@
+// Random Seed: 366011702
+Table bt_table01 = new BPlusTreeTable("bt_table01", List.of("d", "ed", "aa"), List.of("string", "integer", "boolean"), 0);
+bt_table01.getTableName();
+bt_table01.getColumnNames();
+bt_table01.getColumnTypes();
+bt_table01.getPrimaryIndex();
+bt_table01.clear();
+bt_table01.remove("c");
+bt_table01.get("cd98");
+bt_table01.remove("b");
+bt_table01.remove("b9c5");
+bt_table01.put(List.of("c8", 2, true));
+bt_table01.put(List.of("cb", 0, true));
+bt_table01.put(List.of("c0e", 3, false));
+bt_table01.put(List.of("ca", 0, false));
+bt_table01.put(List.of("fbb", 215, true));
+bt_table01.put(List.of("fd", 75, true));
+bt_table01.remove("f1");
+bt_table01.remove("eaf");
+bt_table01.put(List.of("b4cdd", 0, true));
+bt_table01.put(List.of("d3f", 0, false));
+bt_table01.put(List.of("e", 0, true));
+bt_table01.put(List.of("d34", 0, true));
+bt_table01.get("c872");
+bt_table01.put(List.of("cf", 180, true));
+bt_table01.remove("a4");
+bt_table01.put(List.of("a", 0, false));
+bt_table01.put(List.of("b7", 37079, false));
+bt_table01.put(List.of("de2", 0, false));
+bt_table01.put(List.of("e4", 54, true));
+bt_table01.remove("c13");
+bt_table01.remove("e9");
+bt_table01.put(List.of("a8", 1, false));
+bt_table01.remove("bf");
+bt_table01.put(List.of("b88", 5, true));
+bt_table01.put(List.of("f", 0, false));
+bt_table01.put(List.of("b5", 316, false));
+bt_table01.remove("bbf");
+bt_table01.put(List.of("e2", 0, false));
+bt_table01.remove("a9");
+bt_table01.get("c57");
+bt_table01.remove("a2");
+bt_table01.put(List.of("df", 10, false));
+bt_table01.put(Arrays.asList("f6", null, false));
+bt_table01.put(List.of("b6", 0, true));
+bt_table01.put(List.of("ee8", 103, false));
+bt_table01.remove("a7");
+bt_table01.put(List.of("f5a", 645, false));
+bt_table01.put(List.of("ab", 0, true));
+bt_table01.get("a5");
+bt_table01.remove("c5");
+bt_table01.put(List.of("f0", 0, false));
+bt_table01.put(List.of("e7", 0, false));
+bt_table01.remove("a71");
+bt_table01.put(List.of("f3", 52, true));
+bt_table01.get("ef");
+bt_table01.remove("d0");
+bt_table01.put(List.of("f7a", 0, false));
+bt_table01.get("e19e");
+bt_table01.put(List.of("a80c", 0, false));
+bt_table01.put(List.of("c6", 0, false));
+bt_table01.get("f9");
+bt_table01.put(List.of("c9", 13735, false));
+bt_table01.put(List.of("bbf3", 68791, false));
+bt_table01.put(List.of("cf8", 70, true));
+bt_table01.get("e03");
+bt_table01.put(List.of("b0", 0, false));
+bt_table01.put(List.of("e83", 516, true));
+bt_table01.put(List.of("b1", 9174, false));
+bt_table01.remove("cd2");
+bt_table01.put(List.of("d224", 0, true));
+bt_table01.put(List.of("eaa9", 883, false));
+bt_table01.get("c7b");
+bt_table01.put(List.of("f26", 6, false));
+bt_table01.put(List.of("d9", 0, true));
+bt_table01.put(List.of("e99", 0, true));
+bt_table01.remove("dfe6");
+bt_table01.remove("b9");
+bt_table01.remove("bc6");
+bt_table01.put(List.of("bd", 0, true));
+bt_table01.remove("e6");
+bt_table01.remove("c6e");
+bt_table01.put(List.of("e92", 1407, true));
+bt_table01.put(List.of("a3", 169, true));
+bt_table01.put(List.of("d1ae", 0, false));
+bt_table01.put(List.of("dc", 1414, true));
+bt_table01.remove("ccc");
+bt_table01.put(List.of("d460", 135, false));
+bt_table01.remove("b55");
+bt_table01.put(List.of("b8", 20, false));
+bt_table01.get("cbb");
+bt_table01.put(List.of("e0a5", 1568, true));
+bt_table01.put(List.of("edc", 39, true));
+bt_table01.put(List.of("b05", 0, false));
+bt_table01.remove("e84");
+bt_table01.put(List.of("a3a", 2, true));
+bt_table01.put(List.of("fbd", 471, true));
+bt_table01.put(List.of("be0", 0, false));
+bt_table01.put(List.of("af9", 2, true));
+bt_table01.remove("da");
+bt_table01.get("d8");
+bt_table01.put(List.of("a527", 0, false));
+bt_table01.get("f68");
+bt_table01.put(List.of("a3e", 342, false));
+bt_table01.put(List.of("afc7", 43, false));
+bt_table01.put(List.of("a0", 0, false));
+bt_table01.put(List.of("d272", 0, true));
+bt_table01.put(List.of("ae3", 3, false));
+bt_table01.remove("ff");
+bt_table01.put(List.of("f93", 107, true));
+bt_table01.put(List.of("c36", 4959, true));
+bt_table01.put(Arrays.asList("d2", 0, null));
+bt_table01.remove("b4");
+bt_table01.remove("d1");
+bt_table01.remove("cdfc");
+bt_table01.put(List.of("ad0a", 0, false));
+bt_table01.put(List.of("b7d", 57, true));
+bt_table01.get("c1");
+bt_table01.put(List.of("be", 0, false));
+bt_table01.put(List.of("a9f", 0, true));
+bt_table01.put(List.of("a6", 523, true));
+bt_table01.remove("ce");
+bt_table01.put(List.of("e1", 0, true));
+bt_table01.remove("fd6");
+bt_table01.put(List.of("be4", 1712, true));
+bt_table01.put(List.of("ea", 273, false));
+bt_table01.put(List.of("dc09", 114, true));
+bt_table01.put(List.of("bf2", 0, false));
+bt_table01.remove("d64");
+bt_table01.put(List.of("a3f", 44, false));
+bt_table01.put(List.of("ac7", 0, false));
+bt_table01.put(List.of("cf7", 0, true));
+bt_table01.put(List.of("fa5", 0, true));
+bt_table01.remove("ba3");
+bt_table01.put(List.of("d3", 18892, true));
+bt_table01.put(List.of("d5", 0, true));
+bt_table01.put(List.of("a89", 0, false));
+bt_table01.put(List.of("ab7", 39, true));
+bt_table01.put(List.of("b335", 0, true));
+bt_table01.put(List.of("d7", 147, false));
+bt_table01.put(List.of("f6c", 13, true));
+bt_table01.put(List.of("a68b", 1761, false));
+bt_table01.put(List.of("f0f", 0, false));
+bt_table01.get("cb4");
+bt_table01.put(List.of("fec", 0, false));
+bt_table01.put(List.of("ff29", 3, false));
+bt_table01.put(Arrays.asList("a2e", 0, null));
+bt_table01.put(List.of("c2", 0, false));
+bt_table01.put(List.of("c3e", 12, true));
+bt_table01.put(List.of("cd7", 0, true));
+bt_table01.put(List.of("be3", 54, true));
+bt_table01.put(List.of("c0f", 9023, true));
+bt_table01.remove("d6");
+bt_table01.put(List.of("a20e", 48043, false));
+bt_table01.remove("a25");
+bt_table01.remove("cd7f");
+bt_table01.put(List.of("b1a", 1836, true));
+bt_table01.put(List.of("ab0", 10, false));
+bt_table01.remove("c74");
+bt_table01.remove("bd3");
+bt_table01.put(List.of("d5a", 1135, true));
+bt_table01.put(List.of("fce8", 0, false));
+bt_table01.put(List.of("aab5", 37, false));
+bt_table01.get("f65");
+bt_table01.remove("a5843");
+bt_table01.remove("e41");
+bt_table01.remove("d68");
+bt_table01.put(List.of("a5a", 0, false));
+bt_table01.put(List.of("cec", 0, false));
+bt_table01.put(List.of("b04e7", 2749, true));
+bt_table01.remove("f95");
+bt_table01.get("e4a");
+bt_table01.put(List.of("dc25", 0, true));
+bt_table01.remove("bda");
+bt_table01.remove("c98");
+bt_table01.remove("db7");
+bt_table01.put(List.of("dba", 0, true));
+bt_table01.get("d50");
+bt_table01.remove("e0c");
+bt_table01.put(List.of("ec13", 212, false));
+bt_table01.put(List.of("b17", 0, false));
+bt_table01.put(List.of("f7f", 0, false));
+bt_table01.remove("d5ba");
+bt_table01.put(List.of("df8", 1, true));
+bt_table01.put(List.of("d0e", 0, false));
+bt_table01.get("a6d");
+bt_table01.put(List.of("e8e1", 0, false));
+bt_table01.put(List.of("ac", 2043, false));
+bt_table01.put(List.of("c3", 688, false));
+bt_table01.put(List.of("c7", 0, true));
+bt_table01.put(List.of("e63", 0, false));
+bt_table01.remove("f2");
+bt_table01.remove("a92a");
+bt_table01.put(List.of("b2381", 57736, false));
+bt_table01.put(List.of("f92", 68, false));
+bt_table01.remove("cb43");
+bt_table01.put(List.of("e71", 0, false));
+bt_table01.remove("fb");
+bt_table01.put(List.of("f64", 528, true));
+bt_table01.put(List.of("ae9", 5271, false));
+bt_table01.put(List.of("a57", 169, true));
+bt_table01.put(List.of("eb", 112, true));
+bt_table01.put(List.of("e23", 0, false));
+bt_table01.remove("fe");
+bt_table01.put(List.of("f041", 0, true));
+bt_table01.put(List.of("e74", 16736, false));
+bt_table01.remove("a87");
+bt_table01.put(List.of("b07f7", 215, true));
+bt_table01.put(List.of("fc7", 0, true));
+bt_table01.remove("eb7");
+bt_table01.put(List.of("d9f", 0, false));
+bt_table01.get("fbd6");
+bt_table01.put(List.of("bb", 3, true));
+bt_table01.remove("b92");
+bt_table01.remove("cc39");
+bt_table01.put(List.of("a22", 4489, false));
+bt_table01.put(List.of("dd4", 2907, false));
+bt_table01.put(List.of("d72", 435, true));
+bt_table01.put(List.of("ff0a", 13, false));
+bt_table01.put(List.of("a27", 18, true));
+bt_table01.remove("b0b");
+bt_table01.put(List.of("d9c21", 16, false));
+bt_table01.get("b1a8");
+bt_table01.put(List.of("b03", 3975, false));
+bt_table01.get("a1f");
+bt_table01.put(List.of("c2d", 0, true));
+bt_table01.put(List.of("db1", 496, false));
+bt_table01.put(List.of("af45", 0, false));
+bt_table01.put(List.of("ca6", 127, true));
+bt_table01.remove("fa");
+bt_table01.put(List.of("d19", 5932, false));
+bt_table01.put(List.of("af", 0, false));
+bt_table01.put(List.of("b21", 646, false));
+bt_table01.put(List.of("de", 128, false));
+bt_table01.get("ade");
+bt_table01.remove("ad");
+bt_table01.put(List.of("c49", 0, false));
+bt_table01.put(List.of("b883", 2013, false));
+bt_table01.remove("ed1");
+bt_table01.get("a4f");
+bt_table01.remove("f2c7");
+bt_table01.put(List.of("dbd", 0, false));
+bt_table01.put(List.of("c8d", 44, false));
+bt_table01.put(List.of("e8", 90549, false));
+bt_table01.remove("b29");
+bt_table01.put(List.of("d79c", 521, false));
+bt_table01.put(List.of("e5", 0, false));
+bt_table01.remove("e51");
+bt_table01.put(List.of("a5f", 12, false));
+bt_table01.put(List.of("ae", 158, true));
+bt_table01.put(List.of("a21", 27, false));
+bt_table01.put(List.of("ce9", 1633, true));
+bt_table01.put(List.of("cb0", 4, false));
+bt_table01.put(List.of("c4", 0, false));
+bt_table01.remove("f86");
+bt_table01.put(List.of("d48", 57, false));
+bt_table01.put(List.of("ddd", 1034, false));
+bt_table01.put(List.of("a97", 0, true));
+bt_table01.put(List.of("f4", 0, false));
+bt_table01.put(List.of("f6f", 12203, false));
+bt_table01.put(List.of("db", 0, true));
+bt_table01.put(List.of("e1e", 646, true));
+bt_table01.put(List.of("aca", 10, true));
+bt_table01.put(List.of("b80", 24018, false));
+bt_table01.put(List.of("c095", 132, true));
+bt_table01.put(List.of("e79", 0, true));
+bt_table01.put(List.of("cef", 9, true));
+bt_table01.get("eba7");
+bt_table01.put(List.of("c80", 88, true));
+bt_table01.put(List.of("bcc9", 0, true));
+bt_table01.put(List.of("fbe7", 61716, true));
+bt_table01.put(List.of("f3b0", 0, true));
+bt_table01.put(List.of("b1b", 0, false));
+bt_table01.get("e94");
+bt_table01.put(List.of("a4ff", 9, false));
+bt_table01.put(List.of("b2", 0, false));
+bt_table01.put(List.of("e26", 11864, false));
+bt_table01.put(List.of("d336", 11923, true));
+bt_table01.put(List.of("d5c3", 195, true));
+bt_table01.put(List.of("b66", 0, false));
+bt_table01.put(List.of("bc", 15, false));
+bt_table01.put(List.of("e57", 0, true));
+bt_table01.put(List.of("a88", 0, false));
+bt_table01.remove("a5e");
+bt_table01.put(List.of("d368", 6, true));
+bt_table01.put(List.of("a84", 3114, true));
+bt_table01.put(List.of("f7", 5219, false));
+bt_table01.put(List.of("f919", 4, true));
+bt_table01.put(List.of("d1c", 80694, true));
+bt_table01.remove("ba4");
+bt_table01.put(List.of("a775", 17977, false));
+bt_table01.put(List.of("bee", 7, false));
+bt_table01.put(List.of("b9af", 0, false));
+bt_table01.put(List.of("e4e", 2490, false));
+bt_table01.put(List.of("be17", 0, false));
+bt_table01.put(List.of("e04", 0, false));
+bt_table01.put(List.of("e53", 0, false));
+bt_table01.remove("aea");
+bt_table01.get("b38");
+bt_table01.put(List.of("ac0", 0, true));
+bt_table01.remove("dd");
+bt_table01.remove("ae6");
+bt_table01.put(List.of("dff", 0, true));
+bt_table01.put(List.of("fef", 0, true));
+bt_table01.remove("aba");
+bt_table01.put(List.of("d31", 0, true));
+bt_table01.remove("d15");
+bt_table01.put(List.of("b3b6", 0, false));
+bt_table01.put(List.of("d35", 11202, true));
+bt_table01.put(List.of("e2d", 681495, false));
+bt_table01.put(List.of("b47", 5, false));
+bt_table01.put(List.of("c87", 485, true));
+bt_table01.remove("e7b");
+bt_table01.remove("cd");
+bt_table01.get("af0");
+bt_table01.remove("ebf");
+bt_table01.put(List.of("ab55", 1687, false));
+bt_table01.put(List.of("fa0", 4840, true));
+bt_table01.put(List.of("a34", 0, true));
+bt_table01.put(Arrays.asList("a77", null, true));
+bt_table01.put(List.of("f91", 862, true));
+bt_table01.put(List.of("c1db", 9207, true));
+bt_table01.get("f7e");
+bt_table01.get("e33");
+bt_table01.remove("e8a6");
+bt_table01.remove("a5b");
+bt_table01.get("d74");
+bt_table01.remove("e2e46");
+bt_table01.put(List.of("b90", 16, false));
+bt_table01.put(List.of("df2d", 54, true));
+bt_table01.put(List.of("cc9", 0, false));
+bt_table01.remove("c6eb");
+bt_table01.get("ecc");
+bt_table01.put(List.of("f2f", 765, false));
+bt_table01.put(Arrays.asList("ad05", null, false));
+bt_table01.remove("e7f9");
+bt_table01.put(List.of("bf7", 1, false));
+bt_table01.put(List.of("ee7", 9, true));
+bt_table01.put(List.of("f06b", 532, true));
+bt_table01.put(List.of("ce1", 7, false));
+bt_table01.put(List.of("ef7", 1, true));
+bt_table01.remove("ae4");
+bt_table01.put(List.of("e3", 0, true));
+bt_table01.put(Arrays.asList("c1d4", 4480, null));
+bt_table01.put(List.of("a43", 10, false));
+bt_table01.get("b35");
+bt_table01.put(List.of("c0", 1168, true));
+bt_table01.put(List.of("f5", 279, false));
+bt_table01.put(List.of("f44", 61, false));
+bt_table01.put(List.of("ee", 29, false));
+bt_table01.put(List.of("da3", 1841, true));
+bt_table01.put(List.of("d84", 55, false));
+bt_table01.remove("a7a0");
+bt_table01.put(List.of("bfe", 4, true));
+bt_table01.get("f2d");
+bt_table01.put(List.of("c809", 3, true));
+bt_table01.put(List.of("e64", 0, true));
+bt_table01.get("ca24");
+bt_table01.remove("cda42");
+bt_table01.put(List.of("cbd", 251, false));
+bt_table01.put(List.of("ee1", 112, false));
+bt_table01.put(List.of("b031", 0, false));
+bt_table01.put(List.of("a90", 8496, true));
+bt_table01.get("f97");
+bt_table01.put(List.of("f8", 0, false));
+bt_table01.remove("faf");
+bt_table01.put(List.of("c61", 1, false));
+bt_table01.put(List.of("d7a", 44, false));
+bt_table01.put(List.of("ecb", 1, true));
+bt_table01.put(List.of("b24", 1290, false));
+bt_table01.remove("c77");
+bt_table01.remove("d70");
+bt_table01.put(List.of("ff5", 78794, false));
+bt_table01.put(List.of("b7bd", 0, true));
+bt_table01.put(List.of("a2ae", 19, true));
+bt_table01.put(List.of("a05", 1, true));
+bt_table01.put(List.of("d1a", 157, true));
+bt_table01.put(List.of("a95", 0, true));
+bt_table01.put(List.of("fae", 0, true));
+bt_table01.remove("c6f");
+bt_table01.put(List.of("d2b99", 0, true));
+bt_table01.get("d04");
+bt_table01.put(List.of("ae7", 402802, false));
+bt_table01.remove("c48");
+bt_table01.put(List.of("fc", 2, true));
+bt_table01.remove("ef27");
+bt_table01.put(List.of("f84", 17, true));
+bt_table01.put(List.of("daa", 0, false));
+bt_table01.get("a52");
+bt_table01.put(List.of("c29", 4229, false));
+bt_table01.put(List.of("a1", 3648, false));
+bt_table01.put(List.of("f56a", 0, false));
+bt_table01.put(List.of("a4e", 0, false));
+bt_table01.put(List.of("bd2", 0, false));
+bt_table01.put(List.of("b3a", 11771, false));
+bt_table01.put(List.of("debb", 1, true));
+bt_table01.get("d6f");
+bt_table01.put(List.of("b94", 0, true));
+bt_table01.put(List.of("f35", 0, false));
+bt_table01.put(List.of("e45b", 0, true));
+bt_table01.put(List.of("a7e3", 0, false));
+bt_table01.remove("a244");
+bt_table01.put(List.of("a1a", 130, true));
+bt_table01.remove("e12");
+bt_table01.remove("cf5");
+bt_table01.remove("cd0");
+bt_table01.remove("c22");
+bt_table01.remove("f09");
+bt_table01.get("bc1");
+bt_table01.remove("cc");
+bt_table01.put(List.of("c8f5", 133, true));
+bt_table01.put(List.of("fcf", 0, false));
+bt_table01.put(List.of("cedd", 760, true));
+bt_table01.remove("b65");
+bt_table01.remove("fe0");
+bt_table01.put(List.of("b6b59", 1480, true));
+bt_table01.put(List.of("e5f", 0, true));
+bt_table01.put(List.of("a802", 0, true));
+bt_table01.remove("a95b");
+bt_table01.put(List.of("fca", 0, false));
+bt_table01.remove("c683");
+bt_table01.remove("e98c");
+bt_table01.put(List.of("bbe", 109, true));
+bt_table01.put(List.of("cfd", 11, false));
+bt_table01.put(List.of("c6f5e", 0, false));
+bt_table01.put(List.of("aa2", 28, false));
+bt_table01.get("ac3");
+bt_table01.put(List.of("e0", 0, true));
+bt_table01.put(List.of("a64", 0, true));
+bt_table01.remove("a1fb");
+bt_table01.put(List.of("ec", 0, false));
+bt_table01.put(List.of("bffe", 444436, false));
+bt_table01.put(List.of("e965", 19, true));
+bt_table01.get("c90");
+bt_table01.put(List.of("b37", 4886, true));
+bt_table01.put(List.of("df5", 457, false));
+bt_table01.put(List.of("d9d", 6, true));
+bt_table01.remove("a7d");
+bt_table01.put(List.of("c655", 249, true));
+bt_table01.put(List.of("bbe2", 0, true));
+bt_table01.get("c84");
+bt_table01.get("e7a");
+bt_table01.put(List.of("c00", 2129, false));
+bt_table01.put(List.of("b815", 18, false));
+bt_table01.get("c0b");
+bt_table01.remove("cc79");
+bt_table01.put(List.of("c3fb", 0, true));
+bt_table01.put(List.of("a258", 78, true));
+bt_table01.put(Arrays.asList("d8a", null, true));
+bt_table01.put(List.of("b84", 0, false));
+bt_table01.get("adf");
+bt_table01.put(List.of("ba1d", 0, false));
+bt_table01.remove("c8bdf");
+bt_table01.remove("bdf");
+bt_table01.get("ff0");
+bt_table01.remove("ebd7");
+bt_table01.put(List.of("d96", 4, false));
+bt_table01.put(List.of("b8b", 8, true));
+bt_table01.put(List.of("a2a", 0, true));
+bt_table01.put(List.of("f1f2", 0, true));
+bt_table01.put(List.of("c5a", 1, true));
+bt_table01.put(List.of("de8", 152, true));
+bt_table01.get("a44");
+bt_table01.remove("bd5");
+bt_table01.put(List.of("cbc", 0, false));
+bt_table01.put(List.of("d6c", 276, false));
+bt_table01.put(List.of("e56c", 3, false));
+bt_table01.remove("ae8");
+bt_table01.put(Arrays.asList("aa4", 212, null));
+bt_table01.get("d1e");
+bt_table01.put(List.of("dd006", 913, false));
+bt_table01.remove("c480");
+bt_table01.get("c3eb");
+bt_table01.get("fa53");
+bt_table01.put(List.of("d4", 12, false));
+bt_table01.get("e4b");
+bt_table01.get("ef5a");
+bt_table01.remove("d83");
+bt_table01.remove("d591");
+bt_table01.put(List.of("e8a", 31, false));
+bt_table01.put(List.of("d3e", 414, false));
+bt_table01.get("cf9");
+bt_table01.remove("b79");
+bt_table01.get("d1b");
+bt_table01.put(List.of("b625", 0, true));
+bt_table01.put(List.of("e65", 3337, false));
+bt_table01.put(List.of("ef6b", 50115, false));
+bt_table01.put(List.of("a06f", 890, true));
+bt_table01.put(List.of("c3f", 0, false));
+bt_table01.put(List.of("e730", 0, true));
+bt_table01.remove("f9b");
+bt_table01.put(List.of("a9d", 8, true));
+bt_table01.put(List.of("ca9", 0, true));
+bt_table01.put(List.of("a92", 0, false));
+bt_table01.remove("cee");
+bt_table01.get("cf3");
+bt_table01.put(List.of("f2c4", 331, false));
+bt_table01.put(List.of("d65d", 0, true));
+bt_table01.put(List.of("a6b", 0, true));
+bt_table01.put(List.of("b42", 3, true));
+bt_table01.remove("e7b7");
+bt_table01.put(List.of("d71", 22085, true));
+bt_table01.put(List.of("ba2", 46915, false));
+bt_table01.put(List.of("d9a", 33682, true));
+bt_table01.put(List.of("c85a", 0, true));
+bt_table01.put(List.of("e1d", 2246, false));
+bt_table01.remove("f42");
+bt_table01.put(List.of("e8b", 0, true));
+bt_table01.get("c721");
+bt_table01.remove("cf7c");
+bt_table01.put(List.of("d9e5", 302, false));
+bt_table01.get("b23c");
+bt_table01.put(List.of("b36f", 7, true));
+bt_table01.put(List.of("a03", 0, false));
+bt_table01.put(List.of("ea8", 0, false));
+bt_table01.remove("b78");
+bt_table01.remove("f317");
+bt_table01.put(List.of("db3", 9307, true));
+bt_table01.put(List.of("c5c", 5754, false));
+bt_table01.put(List.of("dfe3", 545, true));
+bt_table01.put(List.of("d970", 9, true));
+bt_table01.remove("de3c");
+bt_table01.put(List.of("ec2d", 1, false));
+bt_table01.remove("ca5");
+bt_table01.put(List.of("c60", 4, false));
+bt_table01.put(List.of("a1e2", 5960, false));
+bt_table01.put(List.of("aff", 0, true));
+bt_table01.put(List.of("acfc", 0, true));
+bt_table01.put(List.of("b83b", 6345, true));
+bt_table01.put(List.of("b538", 0, false));
+bt_table01.put(List.of("ca0", 200, false));
+bt_table01.put(List.of("fff9", 7, true));
+bt_table01.put(List.of("a98", 177, true));
+bt_table01.remove("f10");
+bt_table01.put(List.of("f445", 6, true));
+bt_table01.remove("a8b");
+bt_table01.put(List.of("af7f4", 0, false));
+bt_table01.put(List.of("a65", 48568, false));
+bt_table01.put(List.of("dc8d", 740, false));
+bt_table01.get("e98");
+bt_table01.get("d09");
+bt_table01.put(List.of("d97", 16448, true));
+bt_table01.put(List.of("e89", 20140, true));
+bt_table01.put(List.of("aeeb4", 6, true));
+bt_table01.put(List.of("a08", 147, true));
+bt_table01.remove("fb1");
+bt_table01.put(List.of("a7a", 10695, true));
+bt_table01.put(List.of("c337", 0, true));
+bt_table01.put(List.of("b200", 8, true));
+bt_table01.put(List.of("c9a", 0, false));
+bt_table01.get("c32");
+bt_table01.put(List.of("fb5", 11, false));
+bt_table01.put(List.of("d52", 0, false));
+bt_table01.remove("af85");
+bt_table01.get("b2a");
+bt_table01.put(List.of("b19", 0, false));
+bt_table01.put(List.of("fee", 0, true));
+bt_table01.put(List.of("e4bf", 224, true));
+bt_table01.put(List.of("d27", 0, false));
+bt_table01.put(List.of("edf", 2323, true));
+bt_table01.put(List.of("bb8", 1235, false));
+bt_table01.put(List.of("d35b", 50, false));
+bt_table01.put(List.of("b858", 20, true));
+bt_table01.get("e98a");
+bt_table01.put(List.of("c2c", 0, false));
+bt_table01.remove("fd2");
+bt_table01.put(List.of("d187", 472, true));
+bt_table01.remove("cd27");
+bt_table01.put(List.of("bdd", 16, true));
+bt_table01.put(List.of("ba", 1, true));
+bt_table01.put(List.of("c52", 150, false));
+bt_table01.get("c527");
+bt_table01.remove("ce8");
+bt_table01.put(List.of("d4d", 0, true));
+bt_table01.put(List.of("d45", 0, false));
+bt_table01.put(List.of("d21", 0, true));
+bt_table01.remove("fe8");
+bt_table01.put(List.of("f4a", 0, true));
+bt_table01.put(List.of("ae0", 2, false));
+bt_table01.remove("a42");
+bt_table01.put(List.of("dc8", 246, false));
+bt_table01.put(List.of("ba1", 137, true));
+bt_table01.put(List.of("cbf7", 0, false));
+bt_table01.remove("db9");
+bt_table01.put(List.of("b977", 1991, false));
+bt_table01.remove("ab4a");
+bt_table01.put(List.of("b9e", 2488, true));
+bt_table01.put(List.of("dc2", 1, false));
+bt_table01.put(List.of("d969", 0, true));
+bt_table01.put(List.of("bed", 44, true));
+bt_table01.put(List.of("ff1", 125, true));
+bt_table01.put(List.of("c483", 1, false));
+bt_table01.put(List.of("da9", 0, false));
+bt_table01.put(List.of("befd", 0, false));
+bt_table01.put(List.of("d88", 1266, true));
+bt_table01.put(List.of("dec", 0, false));
+bt_table01.put(List.of("b1f", 125, false));
+bt_table01.get("fa4");
+bt_table01.put(List.of("e76", 78, true));
+bt_table01.remove("e179");
+bt_table01.put(List.of("a49", 0, true));
+bt_table01.put(List.of("d8bb", 0, false));
+bt_table01.remove("dce");
+bt_table01.get("a6bca");
+bt_table01.remove("e46");
+bt_table01.put(List.of("a32", 987, false));
+bt_table01.put(List.of("d61", 28032, true));
+bt_table01.put(List.of("d1d", 0, true));
+bt_table01.put(List.of("c12", 12422, true));
+bt_table01.put(List.of("a79", 0, true));
+bt_table01.remove("da4");
+bt_table01.put(List.of("bcf", 0, false));
+bt_table01.remove("a3d0");
+bt_table01.remove("f15");
+bt_table01.get("c16");
+bt_table01.get("b032");
+bt_table01.remove("e16");
+bt_table01.remove("ee5");
+bt_table01.get("c59");
+bt_table01.put(List.of("be9", 0, true));
+bt_table01.remove("c2e");
+bt_table01.put(List.of("a079", 539, true));
+bt_table01.remove("bc4");
+bt_table01.put(List.of("b3", 9, true));
+bt_table01.remove("a2643");
+bt_table01.put(List.of("f4f", 39, false));
+bt_table01.put(List.of("b7e0", 0, true));
+bt_table01.put(List.of("aaaa", 556, false));
+bt_table01.put(List.of("aa5", 0, false));
+bt_table01.put(List.of("ba9", 11, true));
+bt_table01.put(List.of("b04", 1, true));
+bt_table01.put(List.of("e60", 0, true));
+bt_table01.put(List.of("b6a", 2, false));
+bt_table01.put(List.of("a83", 0, false));
+bt_table01.remove("f60");
+bt_table01.put(List.of("b443", 15, false));
+bt_table01.put(List.of("cd9", 0, true));
+bt_table01.remove("e123");
+bt_table01.put(List.of("c3f7e", 0, true));
+bt_table01.put(List.of("bb0", 0, true));
+bt_table01.put(List.of("ee9", 1733, false));
+bt_table01.get("d13d");
+bt_table01.remove("cf6e");
+bt_table01.remove("b46");
+bt_table01.remove("e6c");
+bt_table01.remove("ad1b");
+bt_table01.get("bc3");
+bt_table01.put(List.of("aaaf", 1, true));
+bt_table01.get("ca2");
+bt_table01.put(List.of("b0c1", 2, false));
+bt_table01.put(List.of("b8f", 0, false));
+bt_table01.put(List.of("e5e", 3814, false));
+bt_table01.put(List.of("ff87", 0, false));
+bt_table01.remove("ef2");
+bt_table01.put(List.of("a11", 0, false));
+bt_table01.put(List.of("f93b", 41, false));
+bt_table01.remove("a430");
+bt_table01.put(List.of("e37", 0, false));
+bt_table01.get("c044");
+bt_table01.put(List.of("afb", 0, false));
+bt_table01.put(List.of("b4b", 2122, false));
+bt_table01.put(List.of("a02", 0, true));
+bt_table01.put(List.of("baf", 0, true));
+bt_table01.put(List.of("bae3", 3, true));
+bt_table01.put(List.of("f13", 17, false));
+bt_table01.put(List.of("b0f9", 12314, true));
+bt_table01.remove("ca31");
+bt_table01.put(List.of("e6e9", 1323, true));
+bt_table01.put(List.of("dd8", 0, true));
+bt_table01.remove("add");
+bt_table01.put(List.of("f06", 1500, false));
+bt_table01.put(List.of("e58", 872, true));
+bt_table01.put(List.of("afa", 18, true));
+bt_table01.remove("bae");
+bt_table01.put(List.of("a45a1", 580, true));
+bt_table01.put(List.of("f7f6", 309, true));
+bt_table01.put(List.of("f1f", 0, true));
+bt_table01.remove("e8d");
+bt_table01.put(List.of("e8c", 135, false));
+bt_table01.get("d0e9");
+bt_table01.put(List.of("fdc", 99, true));
+bt_table01.put(List.of("a5c", 0, true));
+bt_table01.put(List.of("cc4c", 415, false));
+bt_table01.put(List.of("dac0", 7268, false));
+bt_table01.put(List.of("ad1a", 0, true));
+bt_table01.put(List.of("e68", 44, false));
+bt_table01.put(List.of("ace4", 0, false));
+bt_table01.put(Arrays.asList("be2", 2579, null));
+bt_table01.put(List.of("a1e", 2083, false));
+bt_table01.put(List.of("e8e", 378, true));
+bt_table01.remove("d5e6");
+bt_table01.put(List.of("e3d", 0, true));
+bt_table01.put(List.of("b60", 7, false));
+bt_table01.remove("ac5");
+bt_table01.remove("e96");
+bt_table01.put(List.of("d2d", 0, true));
+bt_table01.remove("dadc");
+bt_table01.put(List.of("e5c", 3, true));
+bt_table01.put(List.of("df0", 5228, true));
+bt_table01.put(List.of("a935", 3, true));
+bt_table01.put(List.of("ed4", 0, false));
+bt_table01.put(List.of("bf4", 0, false));
+bt_table01.remove("d5f");
+bt_table01.remove("c7a");
+bt_table01.put(List.of("f05", 3597, false));
+bt_table01.put(List.of("a379", 18, false));
+bt_table01.put(List.of("f1d", 72618, false));
+bt_table01.get("e1c");
+bt_table01.remove("d20");
+bt_table01.remove("d37");
+bt_table01.put(List.of("f56", 212, true));
+bt_table01.get("fd0");
+bt_table01.put(List.of("c99", 0, true));
+bt_table01.remove("b75");
+bt_table01.put(List.of("f83", 236, true));
+bt_table01.get("a509");
+bt_table01.get("b52d");
+bt_table01.put(List.of("e90b", 1, false));
+bt_table01.put(List.of("de33", 0, true));
+bt_table01.put(List.of("e72", 2, false));
+bt_table01.put(List.of("a270", 0, true));
+bt_table01.put(List.of("cf6f", 3339, true));
+bt_table01.put(List.of("b82", 12, true));
+bt_table01.put(List.of("bce", 0, false));
+bt_table01.put(List.of("b57", 0, false));
+bt_table01.put(Arrays.asList("e36a", null, true));
+bt_table01.put(List.of("c4f", 4, true));
+bt_table01.put(List.of("c08ff", 16, false));
+bt_table01.put(List.of("c9c3", 26679, false));
+bt_table01.put(List.of("c09", 0, false));
+bt_table01.put(List.of("b7f1", 4, false));
+bt_table01.remove("fe9");
+bt_table01.get("ea9");
+bt_table01.put(List.of("aee85", 11665, false));
+bt_table01.get("be8");
+bt_table01.put(List.of("c4a4", 15788, true));
+bt_table01.put(List.of("e87", 485, false));
+bt_table01.put(List.of("a36", 0, true));
+bt_table01.remove("b27");
+bt_table01.put(List.of("cc8d", 7829, true));
+bt_table01.put(List.of("e4d6", 12, true));
+bt_table01.remove("afe");
+bt_table01.put(List.of("afc", 0, true));
+bt_table01.put(List.of("fbe", 0, false));
+bt_table01.put(List.of("b14", 0, false));
+bt_table01.put(List.of("c05", 160261, false));
+bt_table01.put(List.of("e50", 64, true));
+bt_table01.remove("cb8");
+bt_table01.remove("a73");
+bt_table01.put(List.of("c79", 101, true));
+bt_table01.remove("b15");
+bt_table01.get("c68");
+bt_table01.put(Arrays.asList("fd73", null, true));
+bt_table01.put(List.of("f7c0", 190, false));
+bt_table01.put(List.of("a4de", 0, false));
+bt_table01.remove("e156");
+bt_table01.put(List.of("a139", 0, false));
+bt_table01.put(List.of("bb1", 2528, true));
+bt_table01.put(List.of("ede9", 0, true));
+bt_table01.put(List.of("b5fa", 0, false));
+bt_table01.remove("d651");
+bt_table01.put(List.of("bb4", 9, false));
+bt_table01.put(List.of("a0e", 5833, true));
+bt_table01.put(List.of("e30", 18077, false));
+bt_table01.remove("b97");
+bt_table01.get("c5f");
+bt_table01.put(List.of("f3a", 1183, true));
+bt_table01.put(List.of("b58", 0, false));
+bt_table01.put(List.of("b10", 0, false));
+bt_table01.get("e91");
+bt_table01.put(List.of("f40", 0, false));
+bt_table01.remove("dee0");
+bt_table01.put(List.of("f049", 1, false));
+bt_table01.put(List.of("bba5", 10694, false));
+bt_table01.put(List.of("f69", 0, true));
+bt_table01.get("ff4");
+bt_table01.get("b0eb");
+bt_table01.remove("c26e");
+bt_table01.remove("adb");
+bt_table01.put(List.of("d6d9d", 158, false));
+bt_table01.remove("ebd");
+bt_table01.remove("af33");
+bt_table01.put(List.of("dde", 4, true));
+bt_table01.remove("e07");
+bt_table01.put(List.of("c89", 0, false));
+bt_table01.put(List.of("bce9", 0, false));
+bt_table01.put(List.of("d39c", 5, true));
+bt_table01.put(List.of("bfc", 62321, true));
+bt_table01.put(List.of("cb04", 65, true));
+bt_table01.put(List.of("c6b", 0, false));
+bt_table01.get("cd30");
+bt_table01.put(List.of("c3d", 33, true));
+bt_table01.put(List.of("c495", 4721, true));
+bt_table01.remove("af4");
+bt_table01.remove("f00");
+bt_table01.put(List.of("a45", 10026, false));
+bt_table01.put(List.of("a23", 0, false));
+bt_table01.put(List.of("b81", 1, true));
+bt_table01.remove("eb46");
+bt_table01.remove("be6");
+bt_table01.put(List.of("a8f", 355, true));
+bt_table01.get("b64");
+bt_table01.remove("ec5");
+bt_table01.get("c47f");
+bt_table01.put(List.of("dca", 565053, true));
+bt_table01.put(List.of("eaa", 97, false));
+bt_table01.remove("df74");
+bt_table01.put(List.of("e6fd", 0, true));
+bt_table01.put(List.of("e1cf", 0, true));
+bt_table01.put(List.of("bad", 0, false));
+bt_table01.put(List.of("ece", 0, true));
+bt_table01.put(List.of("ce7", 0, true));
+bt_table01.remove("bf8");
+bt_table01.put(List.of("a987", 8, true));
+bt_table01.put(List.of("b70", 5616, false));
+bt_table01.put(List.of("a3a5", 3, false));
+bt_table01.put(List.of("a9b", 0, true));
+bt_table01.put(List.of("ffd", 17, true));
+bt_table01.put(List.of("eb5", 4490, true));
+bt_table01.put(List.of("a768", 1253, true));
+bt_table01.remove("f36");
+bt_table01.put(List.of("cbe", 1843, false));
+bt_table01.put(List.of("fea", 20, false));
+bt_table01.put(List.of("a0ea", 56, false));
+bt_table01.remove("c95");
+bt_table01.put(List.of("b9b", 47306, true));
+bt_table01.put(List.of("bd0", 175, true));
+bt_table01.put(List.of("ac6", 4, true));
+bt_table01.put(List.of("d51", 29, true));
+bt_table01.remove("bc0");
+bt_table01.put(List.of("c86b", 0, true));
+bt_table01.put(List.of("fbf", 1, true));
+bt_table01.remove("d6a");
+bt_table01.put(List.of("a77f", 343, false));
+bt_table01.put(List.of("dfd4", 0, true));
+bt_table01.put(List.of("a85", 57, false));
+bt_table01.put(List.of("ea0", 23, true));
+bt_table01.remove("b2c");
+bt_table01.remove("d56b");
+bt_table01.remove("a80");
+bt_table01.put(List.of("a63e", 4, false));
+bt_table01.put(List.of("cf2", 0, true));
+bt_table01.remove("f96");
+bt_table01.put(List.of("dad", 0, false));
+bt_table01.put(List.of("b76", 600, true));
+bt_table01.get("a1cb");
+bt_table01.put(List.of("f63", 0, true));
+bt_table01.put(List.of("c39", 189, true));
+bt_table01.put(List.of("c8cb", 4, false));
+bt_table01.put(List.of("abbc", 2461424, true));
+bt_table01.put(List.of("f4c4", 7, true));
+bt_table01.put(List.of("fb3", 0, true));
+bt_table01.remove("e78");
+bt_table01.put(List.of("e9f", 0, false));
+bt_table01.put(List.of("eb4", 2489, true));
+bt_table01.put(List.of("b120", 1168, true));
+bt_table01.put(List.of("ac1c", 1, false));
+bt_table01.put(List.of("ccd", 0, true));
+bt_table01.remove("f79");
+bt_table01.put(List.of("a9f4", 0, true));
+bt_table01.put(List.of("c3f3f", 5, true));
+bt_table01.put(List.of("dd3", 256531, false));
+bt_table01.put(List.of("f330", 0, true));
+bt_table01.put(List.of("f16", 0, false));
+bt_table01.put(List.of("e1f", 6, true));
+bt_table01.get("ddd1");
+bt_table01.put(List.of("aee", 0, false));
+bt_table01.remove("db527");
+bt_table01.put(List.of("f2c", 0, false));
+bt_table01.put(List.of("b5a", 0, false));
+bt_table01.put(List.of("ba6", 0, true));
+bt_table01.get("abf");
+bt_table01.put(List.of("cd1", 186, false));
+bt_table01.put(List.of("b8d59", 935421, false));
+bt_table01.put(List.of("c62", 0, true));
+bt_table01.get("fae6");
+bt_table01.put(List.of("d0d", 20, false));
+bt_table01.put(List.of("dc5", 1498, true));
+bt_table01.put(Arrays.asList("f2f2", 8441, null));
+bt_table01.put(List.of("a82", 0, true));
+bt_table01.put(List.of("cc4a", 85, true));
+bt_table01.put(Arrays.asList("f9c", null, true));
+bt_table01.put(List.of("f3c", 0, false));
+bt_table01.remove("a909");
+bt_table01.put(List.of("e5b", 393, true));
+bt_table01.get("b86");
+bt_table01.get("d1f");
+bt_table01.put(List.of("dc0", 7, false));
+bt_table01.put(List.of("c6c", 2458, false));
+bt_table01.put(List.of("e4f", 0, false));
+bt_table01.get("b315");
+bt_table01.put(List.of("a376", 464, false));
+bt_table01.put(List.of("e785", 97, true));
+bt_table01.get("aec");
+bt_table01.put(List.of("e3c8", 50765, false));
+bt_table01.remove("fe8d");
+bt_table01.put(List.of("df44", 0, true));
+bt_table01.put(List.of("e52", 1, false));
+bt_table01.get("aca2");
+bt_table01.put(List.of("dd5", 10, false));
+bt_table01.put(List.of("c97", 10, true));
+bt_table01.put(List.of("d4f", 1330, false));
+bt_table01.remove("aed2");
+bt_table01.put(List.of("a7e", 75, true));
+bt_table01.remove("bc7");
+bt_table01.put(List.of("b1ed", 0, false));
+bt_table01.put(List.of("eec", 0, true));
+bt_table01.put(List.of("cb5", 0, true));
+bt_table01.remove("aef");
+bt_table01.put(List.of("cceb", 0, false));
+bt_table01.remove("b00");
+bt_table01.put(List.of("dcc", 0, false));
+bt_table01.remove("aa51");
+bt_table01.put(List.of("df1", 22, true));
+bt_table01.put(List.of("a4d", 0, false));
+bt_table01.put(List.of("f66", 4572, true));
+bt_table01.put(List.of("a8c", 2130, false));
+bt_table01.get("feb");
+bt_table01.put(List.of("e778", 5, false));
+bt_table01.put(List.of("d4c", 0, false));
+bt_table01.put(List.of("a9f1", 0, true));
+bt_table01.remove("a13");
+bt_table01.put(List.of("eda", 0, false));
+bt_table01.put(List.of("ea77", 0, true));
+bt_table01.put(List.of("ae5", 97, false));
+bt_table01.put(List.of("e08", 1626, true));
+bt_table01.remove("cf3b");
+bt_table01.put(List.of("aa1", 25, false));
+bt_table01.put(List.of("e873", 3555, true));
+bt_table01.put(List.of("e5ad", 0, false));
+bt_table01.put(List.of("a742", 71273, false));
+bt_table01.put(List.of("d6d", 829, true));
+bt_table01.put(List.of("df4d", 399, true));
+bt_table01.put(Arrays.asList("dc4b", 60361, null));
+bt_table01.put(List.of("b8d", 0, false));
+bt_table01.put(List.of("f657", 0, true));
+bt_table01.remove("c43");
+bt_table01.put(List.of("b228", 254, false));
+bt_table01.put(List.of("f7a9", 10717, true));
+bt_table01.put(List.of("a4b", 1, true));
+bt_table01.put(List.of("d7c", 14, false));
+bt_table01.get("cea");
+bt_table01.remove("b7a");
+bt_table01.get("c1d");
+bt_table01.put(List.of("e9c", 0, false));
+bt_table01.put(List.of("b01", 0, false));
+bt_table01.put(List.of("fc1", 3293501, true));
+bt_table01.put(List.of("e1a", 0, false));
+bt_table01.put(List.of("c41", 535, false));
+bt_table01.get("ef41");
+bt_table01.put(List.of("e981", 4130, true));
+bt_table01.get("e0f2");
+bt_table01.put(List.of("d91", 0, true));
+bt_table01.remove("a33");
+bt_table01.put(List.of("bd37", 0, false));
+bt_table01.put(List.of("eb05", 19, false));
+bt_table01.remove("d438d");
+bt_table01.put(List.of("e14", 0, false));
+bt_table01.put(List.of("d8f", 0, false));
+bt_table01.put(List.of("c03", 0, true));
+bt_table01.put(Arrays.asList("e92f", null, true));
+bt_table01.put(List.of("a0ff", 0, false));
+bt_table01.put(List.of("bf1", 34883, true));
+bt_table01.put(List.of("ae38", 18170, false));
+bt_table01.put(List.of("c01", 436, false));
+bt_table01.put(List.of("af8", 3008, false));
+bt_table01.put(List.of("a07", 29679, false));
+bt_table01.put(List.of("a4e1", 0, false));
+bt_table01.remove("b73");
+bt_table01.remove("fde");
+bt_table01.remove("d6e1");
+bt_table01.remove("c0a0");
+bt_table01.put(List.of("fcb", 14, true));
+bt_table01.get("da34");
+bt_table01.get("b5e");
+bt_table01.remove("ad6b");
+bt_table01.remove("a121");
+bt_table01.get("d823");
+bt_table01.put(List.of("c38", 6, false));
+bt_table01.put(List.of("e557", 1158, true));
+bt_table01.put(List.of("cf3ab", 0, true));
+bt_table01.get("a30");
+bt_table01.put(List.of("d634", 18, false));
+bt_table01.put(List.of("f3f", 201, true));
+bt_table01.put(List.of("c8e", 0, true));
+bt_table01.put(List.of("d584", 0, true));
+bt_table01.get("a79c");
+bt_table01.put(List.of("ead", 2, true));
+bt_table01.put(List.of("f12f", 0, false));
+bt_table01.put(List.of("bb0b", 331, true));
+bt_table01.put(List.of("d2b", 94, true));
+bt_table01.put(List.of("d102", 0, false));
+bt_table01.put(List.of("be1", 0, true));
+bt_table01.put(List.of("c1a", 270, true));
+bt_table01.remove("bb2");
+bt_table01.put(List.of("f50", 1636, true));
+bt_table01.get("e06");
+bt_table01.put(Arrays.asList("cc6", null, true));
+bt_table01.put(List.of("c339", 663, false));
+bt_table01.put(List.of("aa0", 5, true));
+bt_table01.put(List.of("e7c", 32, true));
+bt_table01.remove("cc36");
+bt_table01.put(Arrays.asList("fc4", null, true));
+bt_table01.put(List.of("c309", 0, false));
+bt_table01.remove("f22");
+bt_table01.put(List.of("c959", 7, false));
+bt_table01.remove("ce6b");
+bt_table01.put(List.of("a6c", 78196, true));
+bt_table01.remove("ce4");
+bt_table01.put(List.of("d22", 15163, true));
+bt_table01.remove("e09");
+bt_table01.get("f02");
+bt_table01.put(List.of("cd8", 0, false));
+bt_table01.put(List.of("cc5", 122, true));
+bt_table01.put(List.of("d58", 0, true));
+bt_table01.get("f3ea");
+bt_table01.put(List.of("b67e7", 6, false));
+bt_table01.put(List.of("bfb", 95, false));
+bt_table01.put(List.of("b9ca", 22868, true));
+bt_table01.put(List.of("c3f3", 0, true));
+bt_table01.put(List.of("a17c", 8, true));
+bt_table01.get("f8b7");
+bt_table01.remove("f2b");
+bt_table01.remove("ec9");
+bt_table01.put(List.of("d55e", 0, false));
+bt_table01.put(List.of("f4e5", 4, false));
+bt_table01.put(List.of("afd", 0, true));
+bt_table01.remove("e3f");
+bt_table01.put(List.of("a6db", 4, false));
+bt_table01.put(List.of("ed0", 0, false));
+bt_table01.remove("ad9");
+bt_table01.put(List.of("fdc5", 6, true));
+bt_table01.put(List.of("c69", 47, false));
+bt_table01.remove("dd8d");
+bt_table01.put(List.of("d5f3", 5, false));
+bt_table01.put(List.of("d40", 27637, true));
+bt_table01.put(List.of("f5d", 22, true));
+bt_table01.put(List.of("c82f", 46678, true));
+bt_table01.put(List.of("c9d1", 286, false));
+bt_table01.remove("ba8");
+bt_table01.remove("b4f");
+bt_table01.remove("d66");
+bt_table01.remove("c63b");
+bt_table01.remove("a502");
+bt_table01.put(List.of("f8ab", 0, false));
+bt_table01.put(List.of("d737", 418, false));
+bt_table01.put(List.of("fe7", 1317, false));
+bt_table01.put(Arrays.asList("a69c", 219, null));
+bt_table01.put(Arrays.asList("abdc", 16569, null));
+bt_table01.get("aa7");
+bt_table01.put(List.of("af67", 4, true));
+bt_table01.put(List.of("f5b", 829, true));
+bt_table01.put(List.of("e05", 0, false));
+bt_table01.remove("dc31");
+bt_table01.put(List.of("c1f", 0, true));
+bt_table01.put(List.of("a18", 0, true));
+bt_table01.remove("ac34");
+bt_table01.put(List.of("cb9", 7, true));
+bt_table01.put(List.of("a2f", 0, true));
+bt_table01.put(List.of("aa86", 0, true));
+bt_table01.put(List.of("aa50", 0, true));
+bt_table01.get("fa9");
+bt_table01.put(List.of("fc4e", 6, true));
+bt_table01.put(List.of("f32", 11574, false));
+bt_table01.put(List.of("f0c0", 88, false));
+bt_table01.put(List.of("c30c9", 5, false));
+bt_table01.put(List.of("b71c", 0, false));
+bt_table01.remove("ed57");
+bt_table01.remove("a8eb");
+bt_table01.get("ad2");
+bt_table01.put(List.of("c3a", 2419, false));
+bt_table01.remove("a20");
+bt_table01.put(List.of("bd1", 0, false));
+bt_table01.remove("a871");
+bt_table01.put(List.of("cfa1", 8, false));
+bt_table01.put(List.of("eea9", 0, true));
+bt_table01.put(List.of("f25", 472, true));
+bt_table01.remove("c24");
+bt_table01.remove("b89c");
+bt_table01.remove("d93");
+bt_table01.remove("b49");
+bt_table01.remove("ae1");
+bt_table01.put(List.of("b61", 0, false));
+bt_table01.put(List.of("e6e", 0, false));
+bt_table01.put(List.of("a0b", 0, true));
+bt_table01.put(List.of("cc6c", 8252, false));
+bt_table01.put(List.of("ac91", 276, true));
+bt_table01.put(List.of("b95", 488, true));
+bt_table01.get("a24");
+bt_table01.put(List.of("dcf", 0, true));
+bt_table01.remove("ab86");
+bt_table01.put(List.of("fad4", 15, false));
+bt_table01.get("f6e");
+bt_table01.put(List.of("d18", 1937, false));
+bt_table01.get("f5d8");
+bt_table01.put(List.of("e231", 19, false));
+bt_table01.remove("a1c5");
+bt_table01.put(List.of("d8a7", 0, false));
+bt_table01.remove("a8e");
+bt_table01.get("ef14");
+bt_table01.put(List.of("fe29", 35, false));
+bt_table01.put(List.of("e55", 568, true));
+bt_table01.put(List.of("b3d", 0, true));
+bt_table01.put(List.of("c7f5", 340, false));
+bt_table01.put(List.of("db17", 0, false));
+bt_table01.put(List.of("f8e", 7, true));
+bt_table01.put(List.of("c2ce", 0, true));
+bt_table01.get("b0c");
+bt_table01.put(List.of("ef84", 25040, true));
+bt_table01.put(List.of("a86b", 0, true));
+bt_table01.put(List.of("ae29", 68, true));
+bt_table01.put(List.of("b25", 930, false));
+bt_table01.put(List.of("fe0f", 0, false));
+bt_table01.get("c1e");
+bt_table01.put(Arrays.asList("c23", 2, null));
+bt_table01.remove("a2b");
+bt_table01.remove("abe");
+bt_table01.put(List.of("c46", 0, false));
+bt_table01.put(List.of("ba5c", 209, false));
+bt_table01.put(List.of("c107", 7, false));
+bt_table01.remove("aad");
+bt_table01.put(Arrays.asList("ebb", null, true));
+bt_table01.put(List.of("e3a", 0, true));
+bt_table01.remove("fc2c");
+bt_table01.remove("b44");
+bt_table01.put(List.of("def", 0, false));
+bt_table01.remove("c4dc");
+bt_table01.remove("e43");
+bt_table01.put(List.of("ded2", 0, true));
+bt_table01.put(List.of("e641", 60, false));
+bt_table01.put(List.of("f4c", 0, false));
+bt_table01.put(List.of("cc50", 30, true));
+bt_table01.put(List.of("c453", 0, true));
+bt_table01.put(List.of("cc7", 0, false));
+bt_table01.put(List.of("f3e", 99, false));
+bt_table01.remove("dc4de");
+bt_table01.put(List.of("e3b", 1056, true));
+bt_table01.put(List.of("e1cd", 6053, true));
+bt_table01.put(List.of("a63", 0, true));
+bt_table01.put(Arrays.asList("ce6", 0, null));
+bt_table01.put(List.of("b26", 0, true));
+bt_table01.put(List.of("bc2", 178712, false));
+bt_table01.put(List.of("abb6", 13, true));
+bt_table01.remove("eed3");
+bt_table01.put(List.of("fce", 14637, false));
+bt_table01.remove("f02a");
+bt_table01.remove("bfa");
+bt_table01.put(List.of("c901", 0, true));
+bt_table01.put(List.of("a1af", 295, true));
+bt_table01.put(List.of("e9a", 0, true));
+bt_table01.put(List.of("aa3", 0, true));
+bt_table01.put(List.of("c06", 8379, false));
+bt_table01.put(List.of("dd1", 300, true));
+bt_table01.put(List.of("bb46", 0, false));
+bt_table01.put(List.of("cb1", 574, false));
+bt_table01.put(List.of("a0a", 0, false));
+bt_table01.put(List.of("c454", 0, false));
+bt_table01.put(List.of("e48", 20, true));
+bt_table01.get("e9b");
+bt_table01.put(List.of("e5a", 305, true));
+bt_table01.put(List.of("b4a", 82, false));
+bt_table01.put(List.of("b50", 201, true));
+bt_table01.put(List.of("e3da", 1576, true));
+bt_table01.put(List.of("aab", 240, false));
+bt_table01.remove("a1887");
+bt_table01.remove("d9b");
+bt_table01.remove("c4b");
+bt_table01.put(List.of("e9d5", 2, false));
+bt_table01.put(List.of("da4b", 56476, true));
+bt_table01.remove("b69");
+bt_table01.put(List.of("b537", 0, true));
+bt_table01.put(List.of("b63", 0, true));
+bt_table01.put(List.of("a0b4", 0, false));
+bt_table01.put(List.of("f627", 1, false));
+bt_table01.put(List.of("f3c6", 0, true));
+bt_table01.remove("b48");
+bt_table01.put(List.of("fc9", 0, false));
+bt_table01.put(List.of("d12a", 0, false));
+bt_table01.get("bd31");
+bt_table01.put(List.of("eca", 4893, true));
+bt_table01.remove("a81");
+bt_table01.remove("f2e");
+bt_table01.put(List.of("f80", 4, false));
+bt_table01.get("a0e4");
+bt_table01.put(List.of("ca3c", 0, false));
+bt_table01.put(List.of("ed5", 0, true));
+bt_table01.put(List.of("b6a5", 0, true));
+bt_table01.remove("c635");
+bt_table01.put(List.of("c70", 0, true));
+bt_table01.remove("f0c");
+bt_table01.put(List.of("afa6", 48, false));
+bt_table01.put(List.of("a655", 0, false));
+bt_table01.remove("a4e3");
+bt_table01.put(List.of("f29", 0, false));
+bt_table01.remove("c7c");
+bt_table01.put(List.of("e7b0", 17, false));
+bt_table01.get("a12");
+bt_table01.remove("c2e8");
+bt_table01.put(List.of("b97d", 61, true));
+bt_table01.put(List.of("c9e", 92, true));
+bt_table01.get("d63");
+bt_table01.put(List.of("d9b9", 1750, false));
+bt_table01.remove("b377");
+bt_table01.put(List.of("ebc", 12, false));
+bt_table01.put(List.of("df4a", 0, false));
+bt_table01.put(List.of("cb6", 141, false));
+bt_table01.remove("bf37");
+bt_table01.put(List.of("d80", 108, false));
+bt_table01.remove("d084");
+bt_table01.put(List.of("bac", 0, false));
+bt_table01.put(List.of("f53", 0, true));
+bt_table01.remove("aaa");
+bt_table01.put(List.of("c01a", 367, false));
+bt_table01.put(List.of("cc3", 0, false));
+bt_table01.remove("dd0");
+bt_table01.put(List.of("c61e", 912, false));
+bt_table01.put(List.of("e78a", 232, false));
+bt_table01.remove("a33a");
+bt_table01.put(List.of("ef2d", 0, true));
+bt_table01.put(List.of("b7a4", 8665, true));
+bt_table01.remove("b933");
+bt_table01.put(List.of("a9f5d", 144185, true));
+bt_table01.remove("c63");
+bt_table01.put(List.of("f51", 0, false));
+bt_table01.get("dc4");
+bt_table01.put(List.of("b1d6", 6, false));
+bt_table01.put(List.of("e29", 1, true));
+bt_table01.put(List.of("f36e", 0, true));
+bt_table01.put(List.of("c30c3", 1863, false));
+bt_table01.put(List.of("c44", 0, true));
+bt_table01.put(List.of("b4d", 0, false));
+bt_table01.put(List.of("d218", 0, false));
+bt_table01.put(List.of("d40f", 0, true));
+bt_table01.put(List.of("a39", 5125, false));
+bt_table01.put(List.of("da0f", 0, false));
+bt_table01.put(List.of("c34", 0, false));
+bt_table01.put(List.of("ccb", 44, false));
+bt_table01.put(List.of("a086", 0, true));
+bt_table01.remove("a938d");
+bt_table01.put(List.of("ecd", 586, false));
+bt_table01.put(List.of("f54f", 63, false));
+bt_table01.put(List.of("fa3", 6, false));
+bt_table01.put(List.of("a121d", 345, false));
+bt_table01.get("b472");
+bt_table01.put(List.of("cd6", 17, true));
+bt_table01.remove("ec2");
+bt_table01.put(List.of("ba9cc", 36980, false));
+bt_table01.put(List.of("e6a", 7980, true));
+bt_table01.put(List.of("ae64", 0, true));
+bt_table01.put(List.of("d3f1", 249, false));
+bt_table01.remove("e40");
+bt_table01.put(List.of("a28", 178, true));
+bt_table01.put(List.of("c18", 29530, true));
+bt_table01.put(List.of("a5a4b", 1, false));
+bt_table01.put(List.of("b08", 2, true));
+bt_table01.put(List.of("a335", 247, true));
+bt_table01.put(List.of("dd9", 332, true));
+bt_table01.get("ffaa");
+bt_table01.put(List.of("f47", 659, true));
+bt_table01.put(List.of("b89", 0, true));
+bt_table01.remove("baa");
+bt_table01.get("b62");
+bt_table01.put(List.of("f218", 0, true));
+bt_table01.remove("b13");
+bt_table01.remove("cf1");
+bt_table01.remove("f293");
+bt_table01.put(List.of("a66", 137, true));
+bt_table01.put(List.of("eab", 133, false));
+bt_table01.get("f89");
+bt_table01.put(List.of("f9f", 0, true));
+bt_table01.put(List.of("afac", 1, false));
+bt_table01.put(List.of("a59", 12, false));
+bt_table01.put(List.of("efc8", 0, false));
+bt_table01.remove("eea");
+bt_table01.remove("acc");
+bt_table01.get("dbc");
+bt_table01.put(List.of("d49", 0, true));
+bt_table01.put(List.of("e937", 0, true));
+bt_table01.remove("aaab");
+bt_table01.put(List.of("b785", 0, true));
+bt_table01.put(List.of("a1c7", 9, false));
+bt_table01.put(List.of("b1c", 0, false));
+bt_table01.get("bc42");
+bt_table01.put(List.of("b341", 12, true));
+bt_table01.put(List.of("b8b3", 73, true));
+bt_table01.put(List.of("d65", 0, true));
+bt_table01.put(List.of("a2ba", 0, false));
+bt_table01.put(List.of("ab1", 0, true));
+bt_table01.put(List.of("f67", 0, false));
+bt_table01.put(List.of("bdba", 12735, true));
+bt_table01.put(List.of("c51", 499, false));
+bt_table01.remove("ede");
+bt_table01.put(List.of("d4b", 84, true));
+bt_table01.put(List.of("e406", 2, true));
+bt_table01.put(List.of("d280", 122, true));
+bt_table01.put(List.of("c8b", 0, false));
+bt_table01.put(List.of("a19", 156, false));
+bt_table01.remove("b02");
+bt_table01.remove("e402");
+bt_table01.put(List.of("bc67", 0, true));
+bt_table01.put(List.of("c86", 5855, true));
+bt_table01.put(List.of("d94", 58, true));
+bt_table01.put(List.of("acd", 2, false));
+bt_table01.get("ec12");
+bt_table01.put(List.of("fbf2", 32, true));
+bt_table01.put(List.of("c14", 0, false));
+bt_table01.remove("bc16");
+bt_table01.remove("dbb");
+bt_table01.put(List.of("b424", 48466, true));
+bt_table01.put(List.of("d62c", 0, true));
+bt_table01.put(List.of("b93", 10916, true));
+bt_table01.get("b41");
+bt_table01.put(List.of("fad", 66, true));
+bt_table01.put(List.of("b2f", 304, true));
+bt_table01.get("a0c");
+bt_table01.put(List.of("a4c", 2303, false));
+bt_table01.put(List.of("caf", 1, false));
+bt_table01.put(List.of("ad3", 145, true));
+bt_table01.remove("a04");
+bt_table01.put(List.of("fb041", 0, true));
+bt_table01.remove("a4a");
+bt_table01.put(List.of("d09b", 0, true));
+bt_table01.remove("a48b");
+bt_table01.put(List.of("ae0f", 0, false));
+bt_table01.put(List.of("fad2", 2298, false));
+bt_table01.put(List.of("c7ed", 0, true));
+bt_table01.remove("c9f4");
+bt_table01.remove("de1");
+bt_table01.put(List.of("bf92", 2, false));
+bt_table01.put(List.of("a99", 0, false));
+bt_table01.get("a255");
+bt_table01.put(List.of("bd6c", 165, true));
+bt_table01.remove("b05bc");
+bt_table01.put(List.of("d12", 123, true));
+bt_table01.put(List.of("f76", 21784, false));
+bt_table01.put(List.of("a1d", 182984, false));
+bt_table01.put(List.of("d6b", 188, true));
+bt_table01.put(List.of("c179", 149, true));
+bt_table01.put(List.of("c3da", 74, false));
+bt_table01.put(List.of("dfa", 2228, false));
+bt_table01.put(List.of("d5d", 0, true));
+bt_table01.put(List.of("c53", 1, false));
+bt_table01.put(List.of("b529", 0, false));
+bt_table01.put(List.of("a7b", 1, false));
+bt_table01.put(List.of("d6a3", 1056, false));
+bt_table01.put(List.of("efe", 0, false));
+bt_table01.put(List.of("f37", 2825, true));
+bt_table01.put(List.of("bb8b", 0, true));
+bt_table01.put(List.of("fe5a", 0, false));
+bt_table01.put(List.of("b2d", 0, true));
+bt_table01.put(List.of("bcac", 669, false));
+bt_table01.put(List.of("b4ef", 0, true));
+bt_table01.put(List.of("cbf6", 0, false));
+bt_table01.get("e1e3");
+bt_table01.get("b20");
+bt_table01.put(List.of("cb26", 66, true));
+bt_table01.put(List.of("a571", 12, true));
+bt_table01.put(List.of("f71e", 38, false));
+bt_table01.put(List.of("a937", 873, true));
+bt_table01.put(List.of("e216", 126, false));
+bt_table01.put(List.of("e39d", 2, false));
+bt_table01.put(List.of("eb0", 20, true));
+bt_table01.put(List.of("ef8", 155, true));
+bt_table01.put(List.of("edf6", 0, false));
+bt_table01.put(List.of("adac", 1661, true));
+bt_table01.remove("d55");
+bt_table01.put(List.of("e39e", 0, true));
+bt_table01.get("ea44");
+bt_table01.remove("a334");
+bt_table01.put(Arrays.asList("c382", 0, null));
+bt_table01.put(List.of("a0f3", 0, true));
+bt_table01.remove("f43");
+bt_table01.put(List.of("a09", 0, true));
+bt_table01.put(List.of("ac19", 2, true));
+bt_table01.put(List.of("a553", 41208, false));
+bt_table01.put(List.of("cff", 3, false));
+bt_table01.put(List.of("a4fe", 39635, true));
+bt_table01.get("b83");
+bt_table01.put(List.of("ad5", 0, true));
+bt_table01.put(List.of("cf0e", 0, true));
+bt_table01.put(List.of("f81", 0, false));
+bt_table01.put(List.of("f9a", 3, true));
+bt_table01.put(List.of("b047", 0, true));
+bt_table01.put(List.of("bf6", 135, true));
+bt_table01.put(List.of("bc2e", 38, true));
+bt_table01.put(List.of("bb83", 3, true));
+bt_table01.put(List.of("d5e", 0, true));
+bt_table01.get("eac");
+bt_table01.put(List.of("dee1", 2, true));
+bt_table01.remove("ea7f");
+bt_table01.put(List.of("d6d9", 0, false));
+bt_table01.put(List.of("bc9c", 0, false));
+bt_table01.put(List.of("fba", 7699, true));
+bt_table01.put(List.of("a3d6", 2189, false));
+bt_table01.put(List.of("e70", 0, false));
+bt_table01.put(List.of("c984", 0, true));
+bt_table01.put(List.of("e22", 2, false));
+bt_table01.remove("a9bbc");
+bt_table01.put(List.of("eff1", 1, false));
+bt_table01.get("abd");
+bt_table01.put(List.of("d62", 0, true));
+bt_table01.put(List.of("a00", 23, false));
+bt_table01.remove("c78c");
+bt_table01.put(List.of("a01", 1920, true));
+bt_table01.remove("d923");
+bt_table01.put(List.of("af5", 0, true));
+bt_table01.put(List.of("bcb", 6, true));
+bt_table01.put(List.of("a31", 2983, true));
+bt_table01.put(List.of("c150", 78, true));
+bt_table01.put(List.of("a574", 13522, false));
+bt_table01.remove("bfff");
+bt_table01.put(List.of("f1f7", 3, false));
+bt_table01.put(Arrays.asList("dbfa", null, false));
+bt_table01.put(List.of("d94d", 2, true));
+bt_table01.put(List.of("ca7", 4, false));
+bt_table01.put(List.of("e711", 0, false));
+bt_table01.remove("f5ae2");
+bt_table01.put(List.of("c4a", 562860, true));
+bt_table01.put(List.of("bff", 0, false));
+bt_table01.put(List.of("e418", 1, true));
+bt_table01.put(List.of("e653", 1120, true));
+bt_table01.put(List.of("c2f", 401, false));
+bt_table01.put(List.of("c8c1", 0, false));
+bt_table01.put(List.of("d02", 0, true));
+bt_table01.put(List.of("aa22", 0, true));
+bt_table01.remove("d307");
+bt_table01.put(List.of("c357", 0, false));
+bt_table01.put(List.of("cc4", 0, true));
+bt_table01.put(List.of("fe8fa", 2, true));
+bt_table01.put(List.of("a3b3", 341, true));
+bt_table01.put(List.of("efb", 212, false));
+bt_table01.put(List.of("d12d", 0, true));
+bt_table01.remove("deb");
+bt_table01.put(List.of("b18", 1952, true));
+bt_table01.remove("b3b");
+bt_table01.put(List.of("ffd2", 0, false));
+bt_table01.put(List.of("a3d", 0, true));
+bt_table01.remove("a061");
+bt_table01.remove("a9490");
+bt_table01.put(List.of("dc8b", 0, false));
+bt_table01.put(List.of("aae5", 240, false));
+bt_table01.get("d79");
+bt_table01.remove("e223");
+bt_table01.put(List.of("d69", 1, true));
+bt_table01.put(List.of("aa11", 0, false));
+bt_table01.put(List.of("a135", 0, false));
+bt_table01.put(List.of("cad", 0, false));
+bt_table01.remove("cd84");
+bt_table01.put(List.of("c24a", 91, false));
+bt_table01.put(List.of("cda2", 147, false));
+bt_table01.remove("a17");
+bt_table01.put(List.of("b574", 0, true));
+bt_table01.put(List.of("c6fc", 10, true));
+bt_table01.put(List.of("a41", 66, false));
+bt_table01.remove("d24");
+bt_table01.put(List.of("bd7", 5, true));
+bt_table01.put(List.of("a8de", 0, false));
+bt_table01.remove("e602");
+bt_table01.put(List.of("be41", 8801, true));
+bt_table01.remove("b98");
+bt_table01.remove("c35");
+bt_table01.remove("d8b5");
+bt_table01.put(List.of("f73", 13, false));
+bt_table01.put(List.of("c81", 0, true));
+bt_table01.remove("d98");
+bt_table01.put(List.of("c58b", 0, true));
+bt_table01.put(List.of("c85", 0, true));
+bt_table01.put(List.of("d2a", 0, true));
+bt_table01.put(List.of("fad83", 0, true));
+bt_table01.put(List.of("b24a", 1753, true));
+bt_table01.put(List.of("a6048", 36, true));
+bt_table01.get("a9a5");
+bt_table01.get("d85");
+bt_table01.remove("c8d97");
+bt_table01.put(List.of("f7ce", 0, false));
+bt_table01.get("eb9");
+bt_table01.remove("b96");
+bt_table01.put(List.of("f58", 0, true));
+bt_table01.put(List.of("c73d", 9, true));
+bt_table01.put(List.of("e27", 0, true));
+bt_table01.put(List.of("c294", 0, false));
+bt_table01.put(List.of("bc84", 132, false));
+bt_table01.put(List.of("ddb", 5205, true));
+bt_table01.put(List.of("a7d7", 0, false));
+bt_table01.put(List.of("adce", 0, false));
+bt_table01.put(List.of("e1b", 9444, false));
+bt_table01.remove("e4d");
+bt_table01.put(List.of("ed46", 0, true));
+bt_table01.put(List.of("a6da", 11, false));
+bt_table01.remove("ed9");
+bt_table01.put(List.of("f5f", 0, false));
+bt_table01.put(List.of("c17", 91, true));
+bt_table01.put(List.of("bbc", 0, true));
+bt_table01.get("d6c9");
+bt_table01.get("aae");
+bt_table01.put(List.of("e00", 1, true));
+bt_table01.put(List.of("b8d7", 80, false));
+bt_table01.put(List.of("d25", 5, true));
+bt_table01.put(List.of("baf3e", 1, false));
+bt_table01.get("a3b");
+bt_table01.put(List.of("a51e", 996, true));
+bt_table01.put(List.of("bd2d", 0, false));
+bt_table01.put(List.of("aff5", 0, true));
+bt_table01.put(List.of("e25", 107406, false));
+bt_table01.get("dab");
+bt_table01.remove("a303");
+bt_table01.put(List.of("bba", 8320, true));
+bt_table01.put(List.of("f0e", 47, true));
+bt_table01.remove("f186");
+bt_table01.put(List.of("d30", 0, false));
+bt_table01.get("e0ae");
+bt_table01.put(List.of("f61", 8044, true));
+bt_table01.put(List.of("a292", 78, true));
+bt_table01.put(List.of("aacc", 0, false));
+bt_table01.put(List.of("be7d", 0, true));
+bt_table01.put(List.of("d30e", 54301, true));
+bt_table01.remove("bbb");
+bt_table01.remove("b6a7");
+bt_table01.put(List.of("c7f", 7089, true));
+bt_table01.put(List.of("bcc", 525, false));
+bt_table01.put(List.of("b9f", 42, false));
+bt_table01.remove("b09");
+bt_table01.put(List.of("b6b", 0, false));
+bt_table01.remove("a72");
+bt_table01.put(List.of("b4c2", 119, true));
+bt_table01.put(List.of("daca", 0, false));
+bt_table01.put(List.of("b0c8", 477, true));
+bt_table01.put(List.of("f70a", 0, true));
+bt_table01.put(List.of("d3c", 0, true));
+bt_table01.get("cb4d");
+bt_table01.put(List.of("c58", 750, true));
+bt_table01.get("ef0");
+bt_table01.put(List.of("da8e", 50, false));
+bt_table01.put(List.of("ad8", 500, false));
+bt_table01.put(List.of("a109", 0, false));
+bt_table01.get("e804");
+bt_table01.put(List.of("ebe", 0, false));
+bt_table01.put(List.of("f59", 0, true));
+bt_table01.put(List.of("aeb", 3, false));
+bt_table01.remove("bb3f");
+bt_table01.put(List.of("e4c", 4547, true));
+bt_table01.put(List.of("c0b2", 4, true));
+bt_table01.put(List.of("bd50f", 0, true));
+bt_table01.put(List.of("b1e", 32, false));
+bt_table01.put(List.of("da66", 2, true));
+bt_table01.remove("f0fe");
+bt_table01.get("f7f7");
+bt_table01.put(List.of("b54", 1007, true));
+bt_table01.put(List.of("f39", 14, false));
+bt_table01.remove("c64");
+bt_table01.put(List.of("e69", 5, true));
+bt_table01.put(List.of("aca35", 0, false));
+bt_table01.put(List.of("da8", 20019, false));
+bt_table01.remove("bc63");
+bt_table01.remove("af09");
+bt_table01.put(List.of("be3c", 11, true));
+bt_table01.remove("aeb1");
+bt_table01.put(List.of("c021", 0, true));
+bt_table01.remove("c521");
+bt_table01.put(List.of("a0f22", 75, false));
+bt_table01.put(List.of("af6", 48, false));
+bt_table01.remove("c4fe");
+bt_table01.put(List.of("fff", 0, true));
+bt_table01.put(List.of("b457", 0, true));
+bt_table01.put(List.of("b4c", 0, true));
+bt_table01.put(List.of("aa6", 0, false));
+bt_table01.put(List.of("f27", 0, false));
+bt_table01.remove("de5");
+bt_table01.put(List.of("d0f", 0, false));
+bt_table01.put(List.of("f3f9", 0, true));
+bt_table01.put(List.of("effe", 1, true));
+bt_table01.get("fa51");
+bt_table01.put(List.of("e1e4", 27, true));
+bt_table01.remove("cb0c");
+bt_table01.remove("e6f1");
+bt_table01.put(List.of("a94", 0, false));
+bt_table01.put(List.of("ada", 0, false));
+bt_table01.put(List.of("f607", 0, false));
+bt_table01.get("c7e");
+bt_table01.put(List.of("b385", 0, true));
+bt_table01.put(List.of("bca", 0, false));
+bt_table01.put(List.of("c999", 4929, false));
+bt_table01.put(List.of("b74", 149667, false));
+bt_table01.put(List.of("abc", 3, true));
+bt_table01.remove("dd24");
+bt_table01.put(List.of("f548", 0, true));
+bt_table01.remove("f83e");
+bt_table01.get("bc8");
+bt_table01.remove("ca3");
+bt_table01.put(List.of("ab91", 2, false));
+bt_table01.put(List.of("c5bb", 0, true));
+bt_table01.put(List.of("a836", 0, true));
+bt_table01.remove("c1c");
+bt_table01.put(List.of("bf3", 0, false));
+bt_table01.put(List.of("e47", 16, true));
+bt_table01.put(List.of("c7d", 0, false));
+bt_table01.remove("f21");
+bt_table01.put(List.of("d8be", 1415, true));
+bt_table01.get("c37");
+bt_table01.put(List.of("fd5", 190, false));
+bt_table01.remove("b34");
+bt_table01.put(List.of("eb8", 0, true));
+bt_table01.get("af74");
+bt_table01.put(List.of("e81b", 230, false));
+bt_table01.get("bcd");
+bt_table01.put(List.of("e56", 106, true));
+bt_table01.put(List.of("bd1e", 0, true));
+bt_table01.remove("a55");
+bt_table01.remove("fe4");
+bt_table01.get("f8a");
+bt_table01.put(List.of("b6bc", 3, true));
+bt_table01.put(List.of("c6d", 33454, false));
+bt_table01.put(List.of("f2c0f", 0, false));
+bt_table01.put(List.of("dd7", 9, false));
+bt_table01.put(List.of("b2793", 0, false));
+bt_table01.put(List.of("e35", 0, true));
+bt_table01.remove("ec4");
+bt_table01.put(List.of("a7f", 0, false));
+bt_table01.remove("fb52");
+bt_table01.get("db5");
+bt_table01.put(List.of("b52", 12571, false));
+bt_table01.put(List.of("c734", 0, false));
+bt_table01.get("dd87");
+bt_table01.put(List.of("a14", 0, true));
+bt_table01.put(List.of("f581", 186106, false));
+bt_table01.put(List.of("b2e", 0, true));
+bt_table01.put(List.of("d496e", 334, true));
+bt_table01.get("d97e");
+bt_table01.remove("db4");
+bt_table01.remove("c94b");
+bt_table01.get("c2f06");
+bt_table01.put(List.of("f709", 205, true));
+bt_table01.put(List.of("b476", 1, true));
+bt_table01.get("bdfc");
+bt_table01.put(List.of("e61", 18924, false));
+bt_table01.remove("ab26");
+bt_table01.put(List.of("be47", 0, false));
+bt_table01.put(List.of("b56", 1534, false));
+bt_table01.remove("b680");
+bt_table01.put(List.of("a2c", 4, true));
+bt_table01.remove("dfa4");
+bt_table01.put(List.of("aa9", 29, false));
+bt_table01.get("c93f");
+bt_table01.remove("a564");
+bt_table01.put(List.of("d73d", 126705, true));
+bt_table01.put(List.of("b67d", 7, false));
+bt_table01.get("e93");
+bt_table01.put(List.of("e4ea", 18, true));
+bt_table01.put(List.of("b954", 0, true));
+bt_table01.put(List.of("d44", 60, false));
+bt_table01.put(List.of("d11", 0, false));
+bt_table01.put(List.of("beae", 67212, false));
+bt_table01.put(List.of("f34", 0, false));
+bt_table01.put(List.of("cf6", 119, false));
+bt_table01.put(List.of("eb1", 0, false));
+bt_table01.put(List.of("c47", 40, false));
+bt_table01.put(List.of("c680", 39, true));
+bt_table01.get("a61");
+bt_table01.put(List.of("fca0", 0, false));
+bt_table01.put(List.of("fb2", 0, false));
+bt_table01.remove("b1cb");
+bt_table01.put(List.of("cb2", 261, false));
+bt_table01.put(List.of("db6", 86934, false));
+bt_table01.put(List.of("c2a", 2, true));
+bt_table01.put(List.of("aacb", 1236, false));
+bt_table01.remove("c275");
+bt_table01.put(List.of("f06a", 0, true));
+bt_table01.put(List.of("ea4", 0, true));
+bt_table01.remove("a6f");
+bt_table01.put(List.of("bb33", 0, true));
+bt_table01.put(List.of("ec1", 1454, false));
+bt_table01.put(List.of("e0bc9", 561, true));
+bt_table01.put(List.of("c5c6", 2, false));
+bt_table01.put(List.of("aa8", 0, false));
+bt_table01.put(List.of("a0d", 2, false));
+bt_table01.get("a58");
+bt_table01.put(List.of("a48", 0, true));
+bt_table01.put(Arrays.asList("ee90", 0, null));
+bt_table01.put(List.of("d99", 3169, true));
+bt_table01.put(List.of("ba43d", 0, false));
+bt_table01.put(List.of("a13e", 0, true));
+bt_table01.put(List.of("f30", 0, false));
+bt_table01.put(List.of("e02", 382, false));
+bt_table01.put(List.of("a35", 17609, true));
+bt_table01.get("e3de");
+bt_table01.put(List.of("d7b", 0, true));
+bt_table01.get("bf9");
+bt_table01.put(List.of("fd0d", 9, false));
+bt_table01.put(List.of("a71c", 25, false));
+bt_table01.put(List.of("b0d", 0, false));
+bt_table01.get("ac4");
+bt_table01.remove("d43");
+bt_table01.put(List.of("a10", 4, true));
+bt_table01.put(List.of("f87", 0, false));
+bt_table01.put(List.of("bfd", 0, true));
+bt_table01.put(List.of("d919a", 0, true));
+bt_table01.put(List.of("bdcf", 0, true));
+bt_table01.put(List.of("f4d", 28073, true));
+bt_table01.put(List.of("be51", 116019, true));
+bt_table01.put(List.of("bc9b", 1695, false));
+bt_table01.put(List.of("ab5", 0, false));
+bt_table01.put(List.of("f24", 0, true));
+bt_table01.remove("de0");
+bt_table01.put(List.of("aa73", 0, true));
+bt_table01.put(List.of("e01", 0, false));
+bt_table01.put(List.of("ba7", 17, false));
+bt_table01.put(List.of("cd07", 166, true));
+bt_table01.put(List.of("b7f", 0, false));
+bt_table01.put(List.of("b31a", 19, false));
+bt_table01.get("f31");
+bt_table01.put(List.of("a9a", 165, true));
+bt_table01.remove("c9c");
+bt_table01.get("b1b7");
+bt_table01.remove("ab9");
+bt_table01.put(List.of("c879", 0, true));
+bt_table01.remove("b6dd");
+bt_table01.put(List.of("fd4", 6, true));
+bt_table01.put(List.of("a00e", 1357, false));
+bt_table01.put(List.of("bab", 7, true));
+bt_table01.put(List.of("fff8", 2511, false));
+bt_table01.put(List.of("f112", 0, false));
+bt_table01.remove("c615");
+bt_table01.put(List.of("cc0", 2018, false));
+bt_table01.put(List.of("d92", 0, false));
+bt_table01.put(List.of("c789", 0, false));
+bt_table01.get("dfd");
+bt_table01.remove("cd5");
+bt_table01.put(List.of("aaf", 0, false));
+bt_table01.put(List.of("d0b0", 45, false));
+bt_table01.get("b8cf");
+bt_table01.put(List.of("c5d8", 8693, false));
+bt_table01.put(List.of("e7a9", 0, false));
+bt_table01.put(List.of("c45", 0, true));
+bt_table01.put(List.of("e80", 0, true));
+bt_table01.put(List.of("bae2", 0, true));
+bt_table01.put(List.of("a2d", 118, true));
+bt_table01.put(List.of("b5d8", 51854, true));
+bt_table01.put(List.of("ff8", 0, false));
+bt_table01.put(List.of("eed", 0, false));
+bt_table01.get("f18");
+bt_table01.remove("cbce");
+bt_table01.get("c900");
+bt_table01.put(List.of("d00", 4236, false));
+bt_table01.put(List.of("d42", 47415, true));
+bt_table01.put(List.of("a9c", 4750, false));
+bt_table01.put(List.of("c50", 1900, false));
+bt_table01.remove("d38b");
+bt_table01.put(List.of("ca8", 32, false));
+bt_table01.remove("b0a");
+bt_table01.put(List.of("b0f", 0, true));
+bt_table01.put(List.of("e75", 0, true));
+bt_table01.put(List.of("c915", 1, false));
+bt_table01.put(List.of("a3f9", 0, false));
+bt_table01.remove("a56");
+bt_table01.put(List.of("cfe", 0, false));
+bt_table01.put(List.of("c19", 0, true));
+bt_table01.put(List.of("aac", 976, false));
+bt_table01.remove("b7e");
+bt_table01.remove("a62");
+bt_table01.put(List.of("d060", 125, false));
+bt_table01.put(List.of("a47", 101914, true));
+bt_table01.get("a1bc");
+bt_table01.put(List.of("a78", 0, false));
+bt_table01.put(List.of("c16cc", 0, true));
+bt_table01.put(List.of("ec5c", 212, false));
+bt_table01.put(List.of("edd", 3, true));
+bt_table01.put(List.of("bb3", 0, false));
+bt_table01.remove("ab4");
+bt_table01.put(List.of("b06", 0, true));
+bt_table01.put(List.of("dbd2", 0, true));
+bt_table01.put(List.of("c0a", 3, false));
+bt_table01.remove("e01f");
+bt_table01.put(List.of("da0", 0, false));
+bt_table01.put(List.of("c0ff", 0, true));
+bt_table01.put(List.of("fe78", 0, true));
+bt_table01.put(List.of("a5108", 0, false));
+bt_table01.put(List.of("a38", 0, false));
+bt_table01.put(List.of("d0fd", 0, false));
+bt_table01.put(List.of("e935", 0, true));
+bt_table01.put(List.of("ae00", 0, true));
+bt_table01.put(List.of("fc1d", 0, true));
+bt_table01.put(List.of("be5", 904, false));
+bt_table01.put(List.of("dc1", 38662, false));
+bt_table01.put(List.of("a37", 0, false));
+bt_table01.remove("e846");
+bt_table01.remove("aee5");
+bt_table01.get("bd6d");
+bt_table01.remove("f03");
+bt_table01.put(List.of("ba5", 0, false));
+bt_table01.put(List.of("fa2", 22, true));
+bt_table01.remove("aa8c");
+bt_table01.put(List.of("cfb", 0, false));
+bt_table01.remove("faf5");
+bt_table01.put(List.of("ab6", 1219999, true));
+bt_table01.get("cfb9");
+bt_table01.remove("b43c");
+bt_table01.put(List.of("ac8", 1070, true));
+bt_table01.get("c43d");
+bt_table01.put(List.of("b243", 0, false));
+bt_table01.put(Arrays.asList("da24", 1472, null));
+bt_table01.put(List.of("a74", 0, false));
+bt_table01.put(List.of("d861", 0, true));
+bt_table01.put(List.of("ab3", 9730, true));
+bt_table01.put(List.of("d77", 242, true));
+bt_table01.put(List.of("f8b", 2697, false));
+bt_table01.remove("a8e5");
+bt_table01.remove("bedf");
+bt_table01.put(List.of("cb66", 0, false));
+bt_table01.get("e38");
+bt_table01.put(List.of("e391", 31771, false));
+bt_table01.remove("c02");
+bt_table01.put(List.of("ac090", 0, true));
+bt_table01.remove("af8f");
+bt_table01.remove("eea2");
+bt_table01.put(List.of("c50b", 0, true));
+bt_table01.put(List.of("adb5", 7202, true));
+bt_table01.remove("fb6");
+bt_table01.put(List.of("fd56", 0, true));
+bt_table01.put(List.of("be7b0", 4, false));
+bt_table01.put(List.of("ca1a", 0, true));
+bt_table01.remove("d658");
+bt_table01.get("bcfc");
+bt_table01.put(List.of("beb", 15407, true));
+bt_table01.put(List.of("bd8", 0, false));
+bt_table01.put(List.of("dd86", 0, false));
+bt_table01.put(List.of("b0e3", 0, false));
+bt_table01.remove("b53");
+bt_table01.put(List.of("f0c7", 194, true));
+bt_table01.put(List.of("f9e", 0, false));
+bt_table01.put(List.of("cdd", 3, false));
+bt_table01.remove("c25");
+bt_table01.put(List.of("b0dd", 0, false));
+bt_table01.put(List.of("c40", 0, false));
+bt_table01.put(List.of("cae", 45, false));
+bt_table01.put(List.of("ec6", 18856, false));
+bt_table01.put(List.of("bef2", 74, true));
+bt_table01.put(List.of("d4e", 193841, true));
+bt_table01.put(List.of("e2a", 13, true));
+bt_table01.put(List.of("a311", 0, true));
+bt_table01.put(List.of("e10", 191, true));
+bt_table01.put(List.of("acf", 46295, true));
+bt_table01.get("ac40");
+bt_table01.put(List.of("f14", 1881, false));
+bt_table01.put(List.of("d57", 4876, true));
+bt_table01.get("d47");
+bt_table01.get("dd2");
+bt_table01.put(List.of("cf85", 0, true));
+bt_table01.remove("ba1e");
+bt_table01.get("c3468");
+bt_table01.put(List.of("fd5a", 0, true));
+bt_table01.get("f11");
+bt_table01.put(List.of("e198", 0, true));
+bt_table01.get("db40");
+bt_table01.put(List.of("a18e", 0, true));
+bt_table01.remove("eb74");
+bt_table01.put(List.of("cd6b", 0, true));
+bt_table01.put(List.of("b9a7", 0, false));
+bt_table01.remove("a7dc");
+bt_table01.remove("fe0e");
+bt_table01.put(List.of("e23a", 2, true));
+bt_table01.put(List.of("a1cd", 3, false));
+bt_table01.put(List.of("b4c7", 7, true));
+bt_table01.put(List.of("ef91", 0, false));
+bt_table01.put(List.of("fb9", 924, true));
+bt_table01.put(List.of("ffc", 0, true));
+bt_table01.put(List.of("a114", 18131, false));
+bt_table01.put(List.of("b1a4", 5, false));
+bt_table01.put(List.of("b083", 0, true));
+bt_table01.get("e8f");
+bt_table01.remove("ad1");
+bt_table01.remove("f1e");
+bt_table01.remove("a0b5");
+bt_table01.put(List.of("b6d", 57, true));
+bt_table01.remove("f8a7");
+bt_table01.remove("dbe");
+bt_table01.remove("c278");
+bt_table01.put(List.of("a46", 4, true));
+bt_table01.put(List.of("bf96", 5, true));
+bt_table01.put(List.of("f7031", 0, false));
+bt_table01.put(List.of("e257", 6, true));
+bt_table01.put(List.of("a385", 0, false));
+bt_table01.put(List.of("b667", 29, true));
+bt_table01.remove("d90d");
+bt_table01.put(List.of("d73", 0, true));
+bt_table01.remove("f65d");
+bt_table01.put(List.of("c71f", 0, true));
+bt_table01.put(List.of("c1b1", 0, false));
+bt_table01.put(List.of("d375", 0, false));
+bt_table01.put(List.of("fc9b", 0, false));
+bt_table01.put(List.of("bcf9", 0, false));
+bt_table01.put(List.of("ace", 0, true));
+bt_table01.remove("fc2");
+bt_table01.put(List.of("e21", 92, false));
+bt_table01.put(List.of("d96a", 56, false));
+bt_table01.remove("f78");
+bt_table01.put(List.of("ee0", 0, true));
+bt_table01.get("d5ec");
+bt_table01.put(List.of("bad5", 0, true));
+bt_table01.put(List.of("cca", 0, true));
+bt_table01.put(List.of("c78d", 20, true));
+bt_table01.put(List.of("ee4", 1, true));
+bt_table01.remove("ad94");
+bt_table01.remove("af10d");
+bt_table01.put(List.of("b9a", 0, false));
+bt_table01.put(List.of("c2f3", 3, false));
+bt_table01.put(List.of("a839", 0, false));
+bt_table01.put(List.of("f70", 0, true));
+bt_table01.put(List.of("ff9", 39, true));
+bt_table01.remove("be64");
+bt_table01.put(List.of("a6a", 22, true));
+bt_table01.put(List.of("e828", 0, true));
+bt_table01.put(List.of("cda", 8, true));
+bt_table01.remove("fc8");
+bt_table01.put(List.of("ce26", 35, true));
+bt_table01.remove("dbda0");
+bt_table01.put(List.of("ee1e", 39994, true));
+bt_table01.remove("cfc");
+bt_table01.put(List.of("b8e", 4, true));
+bt_table01.remove("ecd8");
+bt_table01.put(List.of("c02b", 0, true));
+bt_table01.put(List.of("c9ab", 0, false));
+bt_table01.remove("a1ee");
+bt_table01.put(List.of("d5b3", 0, true));
+bt_table01.put(List.of("c6a8", 0, false));
+bt_table01.put(List.of("c93", 957198, false));
+bt_table01.put(List.of("c55", 76, false));
+bt_table01.put(List.of("ceb", 0, true));
+bt_table01.put(List.of("ded", 191, false));
+bt_table01.put(List.of("c5c3", 0, false));
+bt_table01.put(List.of("cce", 42, true));
+bt_table01.put(Arrays.asList("b25b", null, false));
+bt_table01.remove("aac7");
+bt_table01.put(List.of("c56d", 0, true));
+bt_table01.put(List.of("e88", 0, true));
+bt_table01.put(List.of("b23", 1989, false));
+bt_table01.remove("b40");
+bt_table01.remove("a40");
+bt_table01.put(List.of("b1bf", 0, true));
+bt_table01.put(List.of("a80d", 0, true));
+bt_table01.put(List.of("fdf", 2, true));
+bt_table01.remove("bd197");
+bt_table01.remove("d684");
+bt_table01.put(List.of("ca4", 0, false));
+bt_table01.put(List.of("fcc", 1, false));
+bt_table01.put(Arrays.asList("f0f4", null, false));
+bt_table01.put(List.of("f46", 0, true));
+bt_table01.put(List.of("bab9", 0, true));
+bt_table01.get("ec54");
+bt_table01.put(List.of("a7eb", 2891, true));
+bt_table01.remove("f43f");
+bt_table01.get("e73");
+bt_table01.get("d0b");
+bt_table01.put(List.of("c78", 125, false));
+bt_table01.get("a17e2");
+bt_table01.put(List.of("f4f1", 0, false));
+bt_table01.put(List.of("b45", 7918, true));
+bt_table01.put(List.of("c3b", 0, true));
+bt_table01.remove("bd4");
+bt_table01.put(List.of("ea1", 0, false));
+bt_table01.put(List.of("b1d", 1, true));
+bt_table01.put(List.of("c715", 0, false));
+bt_table01.remove("dbf");
+bt_table01.remove("d82");
+bt_table01.remove("a866");
+bt_table01.remove("a91");
+bt_table01.put(List.of("f57", 0, false));
+bt_table01.remove("b9ea");
+bt_table01.put(List.of("f448", 0, false));
+bt_table01.remove("e62");
+bt_table01.put(List.of("c1b", 0, true));
+bt_table01.put(List.of("d28e", 18, true));
+bt_table01.put(List.of("a5a8", 7, true));
+bt_table01.put(List.of("bca5", 1248, false));
+bt_table01.remove("b6e6");
+bt_table01.put(List.of("f94", 4684, false));
+bt_table01.put(List.of("ff059", 6836, true));
+bt_table01.remove("f4b");
+bt_table01.get("e415");
+bt_table01.remove("c8a");
+bt_table01.remove("c2ba0");
+bt_table01.put(List.of("f8d", 240, true));
+bt_table01.put(List.of("dc6d", 33, true));
+bt_table01.put(List.of("b153", 0, true));
+bt_table01.put(List.of("e79f", 2258, true));
+bt_table01.put(List.of("c9e8", 4, false));
+bt_table01.put(Arrays.asList("c7c1", null, false));
+bt_table01.put(List.of("f194", 0, true));
+bt_table01.remove("da7");
+bt_table01.put(List.of("a6e", 0, false));
+bt_table01.put(List.of("df76", 0, true));
+bt_table01.remove("c91");
+bt_table01.remove("d13");
+bt_table01.remove("a889");
+bt_table01.get("b33d");
+bt_table01.put(List.of("b68a", 0, false));
+bt_table01.put(List.of("f436", 3, true));
+bt_table01.remove("dfbc");
+bt_table01.put(List.of("b9c", 0, false));
+bt_table01.put(List.of("c6cc", 0, false));
+bt_table01.put(List.of("a50", 4, true));
+bt_table01.get("c88c");
+bt_table01.put(List.of("c96", 0, false));
+bt_table01.clear();
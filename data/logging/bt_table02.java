@@ -0,0 +1,2003 @@
+// Random Seed: 366011702
+Table bt_table02 = new BPlusTreeTable("bt_table02", List.of("b4e", "b322", "bd55", "d733", "bb7", "a417"), List.of("integer", "boolean", "boolean", "integer", "integer", "boolean"), 3);
+bt_table02.getTableName();
+bt_table02.getColumnNames();
+bt_table02.getColumnTypes();
+bt_table02.getPrimaryIndex();
+bt_table02.clear();
+bt_table02.put(List.of(4, true, false, 0, 2, false));
+bt_table02.put(List.of(0, false, true, 18011, 0, false));
+bt_table02.put(List.of(470, true, false, 0, 15707, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.put(List.of(10, false, true, 0, 0, true));
+bt_table02.get(4495);
+bt_table02.put(List.of(0, true, true, 0, 3828, true));
+bt_table02.put(List.of(0, false, false, 41, 0, false));
+bt_table02.put(List.of(0, false, true, 6, 10, false));
+bt_table02.put(List.of(160, true, false, 2, 0, true));
+bt_table02.put(List.of(154, true, false, 0, 10, false));
+bt_table02.put(List.of(67, true, true, 0, 263, true));
+bt_table02.put(List.of(223, true, true, 11949, 1, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, false, 24, 0, true));
+bt_table02.put(List.of(0, false, false, 772, 0, false));
+bt_table02.put(List.of(6855, false, true, 0, 102, false));
+bt_table02.put(List.of(0, false, true, 48457, 0, true));
+bt_table02.remove(1);
+bt_table02.get(0);
+bt_table02.put(List.of(8, true, true, 19, 211, true));
+bt_table02.remove(0);
+bt_table02.remove(8);
+bt_table02.put(List.of(52, true, true, 0, 9335, false));
+bt_table02.put(List.of(4047, false, false, 0, 1672, false));
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.remove(0);
+bt_table02.get(0);
+bt_table02.put(List.of(34, true, true, 0, 0, false));
+bt_table02.put(List.of(1733, false, false, 0, 5107, false));
+bt_table02.put(List.of(661, true, false, 0, 0, false));
+bt_table02.remove(5075);
+bt_table02.put(Arrays.asList(5379, false, false, 9, null, true));
+bt_table02.put(List.of(2179, true, false, 303, 0, true));
+bt_table02.put(List.of(0, false, false, 1922, 0, true));
+bt_table02.put(List.of(14, true, true, 7362, 1692, true));
+bt_table02.put(List.of(0, true, true, 0, 0, false));
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.put(List.of(0, false, false, 6, 81863, false));
+bt_table02.put(List.of(0, false, true, 0, 10, false));
+bt_table02.remove(18);
+bt_table02.get(0);
+bt_table02.put(List.of(2, true, false, 0, 362, true));
+bt_table02.remove(125);
+bt_table02.put(List.of(1, true, true, 4, 363, true));
+bt_table02.get(0);
+bt_table02.remove(0);
+bt_table02.put(List.of(102, false, false, 1044, 1, true));
+bt_table02.put(List.of(0, false, true, 0, 1013, true));
+bt_table02.put(List.of(8260, false, false, 1, 58, false));
+bt_table02.get(29);
+bt_table02.put(List.of(0, true, true, 10981, 0, false));
+bt_table02.put(List.of(75, false, false, 113, 12921, false));
+bt_table02.put(List.of(0, true, false, 840, 3144, true));
+bt_table02.get(55454);
+bt_table02.remove(69);
+bt_table02.put(List.of(652, false, false, 435, 1, true));
+bt_table02.put(List.of(138, false, true, 0, 80, false));
+bt_table02.remove(34);
+bt_table02.put(List.of(0, false, false, 0, 124, false));
+bt_table02.remove(9);
+bt_table02.remove(889);
+bt_table02.put(List.of(301, true, false, 2734, 5, false));
+bt_table02.put(List.of(0, true, true, 18, 4986, true));
+bt_table02.remove(11);
+bt_table02.put(List.of(0, false, false, 13, 3082, false));
+bt_table02.put(List.of(0, true, true, 249, 181, false));
+bt_table02.put(List.of(5, false, true, 1575, 10311, true));
+bt_table02.put(List.of(0, false, false, 0, 0, true));
+bt_table02.get(2058);
+bt_table02.put(List.of(27186, true, true, 656367, 0, true));
+bt_table02.get(0);
+bt_table02.put(List.of(0, false, false, 0, 2533, true));
+bt_table02.put(List.of(1275, false, true, 13, 0, true));
+bt_table02.put(List.of(0, true, false, 0, 79, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, false, 0, 499, true));
+bt_table02.put(List.of(299, false, true, 0, 0, false));
+bt_table02.get(155683);
+bt_table02.put(List.of(0, true, false, 5855, 0, true));
+bt_table02.put(List.of(319542, false, true, 1, 2054, false));
+bt_table02.put(List.of(0, false, false, 99229, 167, false));
+bt_table02.put(List.of(9, true, false, 0, 164, true));
+bt_table02.put(List.of(0, true, true, 0, 7, true));
+bt_table02.put(List.of(6654, true, false, 69, 2, false));
+bt_table02.get(6);
+bt_table02.put(List.of(0, true, true, 405, 277, false));
+bt_table02.put(List.of(0, false, false, 4167, 0, false));
+bt_table02.put(List.of(0, false, false, 6779, 0, true));
+bt_table02.put(List.of(789, false, true, 6, 0, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, false, 802, 0, false));
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.put(List.of(53, true, false, 2059, 0, true));
+bt_table02.get(67);
+bt_table02.put(List.of(2427, true, false, 2, 0, false));
+bt_table02.remove(36);
+bt_table02.put(List.of(36564, true, true, 2025, 0, false));
+bt_table02.put(List.of(57941, false, true, 0, 0, false));
+bt_table02.get(0);
+bt_table02.put(List.of(206, true, true, 0, 0, true));
+bt_table02.put(List.of(0, true, true, 31526, 1, false));
+bt_table02.remove(86);
+bt_table02.put(List.of(5, true, true, 21, 51, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(8, true, false, 171, 0, true));
+bt_table02.put(List.of(10700, true, true, 0, 0, false));
+bt_table02.put(List.of(1194, false, false, 0, 66, true));
+bt_table02.get(0);
+bt_table02.put(List.of(11352, true, false, 0, 5, true));
+bt_table02.put(List.of(0, false, true, 0, 14, true));
+bt_table02.get(167);
+bt_table02.put(List.of(23670, true, true, 364, 4422446, true));
+bt_table02.put(List.of(4557, false, false, 18, 0, true));
+bt_table02.get(0);
+bt_table02.put(List.of(0, true, false, 2343, 10, false));
+bt_table02.put(List.of(12, false, false, 1841, 0, true));
+bt_table02.put(List.of(44244, true, false, 253, 56, false));
+bt_table02.put(List.of(0, true, false, 165, 0, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(388, false, true, 0, 71531, true));
+bt_table02.put(List.of(0, true, false, 0, 84, true));
+bt_table02.put(List.of(9724, false, false, 0, 3, true));
+bt_table02.put(List.of(0, true, true, 0, 0, true));
+bt_table02.put(List.of(6, true, true, 8985, 2580, false));
+bt_table02.put(List.of(0, true, true, 0, 5, true));
+bt_table02.put(List.of(0, false, true, 10906, 19476, true));
+bt_table02.get(0);
+bt_table02.get(4);
+bt_table02.put(List.of(0, true, true, 59, 49, true));
+bt_table02.get(55);
+bt_table02.put(List.of(635, false, true, 71, 0, true));
+bt_table02.remove(9);
+bt_table02.put(List.of(0, true, false, 13, 0, true));
+bt_table02.put(List.of(98, true, true, 16520, 97, true));
+bt_table02.put(List.of(0, false, true, 26056, 5, true));
+bt_table02.put(List.of(0, true, false, 1, 21, false));
+bt_table02.put(Arrays.asList(null, false, false, 0, null, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, false, 0, 0, false));
+bt_table02.put(List.of(0, true, false, 7, 114559, true));
+bt_table02.put(List.of(0, true, true, 34349, 0, false));
+bt_table02.put(List.of(27499, false, true, 0, 1171, false));
+bt_table02.put(List.of(646, false, true, 0, 0, false));
+bt_table02.put(List.of(26509, false, false, 200754, 325, true));
+bt_table02.put(List.of(2, true, false, 1077, 1, true));
+bt_table02.put(List.of(23, false, true, 9, 125, false));
+bt_table02.put(List.of(6, true, false, 190, 1072, true));
+bt_table02.put(List.of(0, true, false, 0, 0, true));
+bt_table02.put(List.of(97, true, false, 11042, 636, true));
+bt_table02.put(List.of(0, true, false, 24, 0, false));
+bt_table02.put(List.of(2, false, false, 15, 102, false));
+bt_table02.put(List.of(175, false, false, 3, 0, true));
+bt_table02.put(List.of(1303, false, false, 577, 0, false));
+bt_table02.put(List.of(16, false, false, 8, 1008, true));
+bt_table02.put(List.of(0, false, false, 1311, 1, true));
+bt_table02.remove(12);
+bt_table02.put(List.of(0, false, true, 2939, 565, true));
+bt_table02.put(List.of(81463, false, false, 0, 0, true));
+bt_table02.put(Arrays.asList(0, null, false, 1254, 44, true));
+bt_table02.put(List.of(131, true, true, 12152, 0, true));
+bt_table02.put(List.of(698, true, false, 0, 0, true));
+bt_table02.put(List.of(0, false, false, 0, 115, true));
+bt_table02.remove(770);
+bt_table02.put(List.of(11, true, false, 48, 0, true));
+bt_table02.put(List.of(23, true, false, 34, 1, false));
+bt_table02.put(List.of(632, true, false, 22, 2345, true));
+bt_table02.put(List.of(18, true, false, 50, 0, true));
+bt_table02.remove(10);
+bt_table02.put(List.of(0, false, true, 75175, 0, false));
+bt_table02.put(List.of(0, false, true, 43, 19, true));
+bt_table02.remove(4492);
+bt_table02.put(List.of(0, true, true, 0, 61309, false));
+bt_table02.put(List.of(0, true, true, 0, 11, false));
+bt_table02.put(List.of(3626, false, true, 0, 5, false));
+bt_table02.put(List.of(0, true, false, 41911, 0, true));
+bt_table02.put(List.of(11, true, false, 2306, 137, true));
+bt_table02.remove(3560);
+bt_table02.remove(36634);
+bt_table02.get(0);
+bt_table02.remove(38);
+bt_table02.put(List.of(0, true, true, 0, 0, true));
+bt_table02.get(2387);
+bt_table02.put(List.of(0, true, true, 0, 0, true));
+bt_table02.put(List.of(0, true, false, 3, 1, true));
+bt_table02.put(List.of(233, true, true, 0, 91, false));
+bt_table02.put(List.of(0, false, true, 2, 790, true));
+bt_table02.put(List.of(0, false, true, 0, 41009, false));
+bt_table02.put(List.of(22910, false, true, 0, 716, false));
+bt_table02.put(List.of(0, true, true, 0, 0, true));
+bt_table02.get(0);
+bt_table02.put(List.of(7, false, true, 0, 1666, true));
+bt_table02.put(List.of(3, false, true, 12, 0, true));
+bt_table02.get(4433);
+bt_table02.put(List.of(2993, false, false, 0, 59, false));
+bt_table02.put(List.of(2267, false, false, 0, 5, true));
+bt_table02.put(List.of(0, false, false, 2, 212, true));
+bt_table02.put(List.of(1554, false, false, 0, 17632, false));
+bt_table02.put(List.of(0, false, false, 8, 1149, false));
+bt_table02.remove(225);
+bt_table02.put(List.of(8, true, true, 0, 0, false));
+bt_table02.put(List.of(40, true, true, 0, 0, true));
+bt_table02.put(List.of(1104, true, true, 3, 4383, true));
+bt_table02.put(List.of(11, false, false, 140, 613, true));
+bt_table02.put(List.of(0, true, true, 0, 0, true));
+bt_table02.put(List.of(2162, true, false, 0, 533, false));
+bt_table02.remove(1100);
+bt_table02.remove(0);
+bt_table02.put(List.of(31061, true, true, 0, 0, false));
+bt_table02.put(List.of(0, true, true, 15378, 111, false));
+bt_table02.remove(411);
+bt_table02.put(List.of(0, true, false, 4, 14305, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, false, 1555, 0, false));
+bt_table02.get(4);
+bt_table02.put(List.of(18, true, false, 0, 0, true));
+bt_table02.get(0);
+bt_table02.put(List.of(1, false, false, 13, 0, false));
+bt_table02.put(List.of(22, false, true, 732, 40383, false));
+bt_table02.put(Arrays.asList(4, null, true, 0, 0, false));
+bt_table02.put(List.of(2544, true, false, 9, 0, true));
+bt_table02.put(Arrays.asList(0, false, false, 0, null, true));
+bt_table02.put(List.of(59, false, false, 0, 37, true));
+bt_table02.put(List.of(373200, false, true, 185, 7281, false));
+bt_table02.put(Arrays.asList(null, true, false, 5244, 1, false));
+bt_table02.get(548);
+bt_table02.put(List.of(0, false, false, 0, 19260, false));
+bt_table02.put(List.of(6091, false, false, 0, 0, false));
+bt_table02.get(5);
+bt_table02.put(List.of(1413, true, false, 263, 0, false));
+bt_table02.get(0);
+bt_table02.remove(2324);
+bt_table02.put(List.of(0, false, true, 1344, 0, true));
+bt_table02.put(List.of(1, false, true, 0, 0, true));
+bt_table02.put(List.of(0, false, false, 0, 0, true));
+bt_table02.get(178);
+bt_table02.put(List.of(17, false, false, 236, 961, true));
+bt_table02.put(List.of(0, true, false, 2748, 14, true));
+bt_table02.put(Arrays.asList(null, true, false, 1751, 0, true));
+bt_table02.remove(0);
+bt_table02.remove(0);
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, true, 0, 12, true));
+bt_table02.remove(3);
+bt_table02.put(List.of(0, false, true, 0, 3111, false));
+bt_table02.put(List.of(129, false, false, 1159, 94, false));
+bt_table02.remove(54);
+bt_table02.put(List.of(0, true, false, 0, 0, true));
+bt_table02.put(List.of(0, true, true, 1272, 0, true));
+bt_table02.remove(13);
+bt_table02.get(124);
+bt_table02.put(List.of(21342, true, true, 187, 109, true));
+bt_table02.put(List.of(0, true, false, 1, 0, true));
+bt_table02.get(1);
+bt_table02.put(List.of(0, true, true, 0, 40, false));
+bt_table02.put(List.of(1141, true, false, 0, 0, false));
+bt_table02.put(List.of(39, false, false, 0, 4, true));
+bt_table02.put(List.of(0, false, true, 0, 1784, false));
+bt_table02.put(List.of(0, true, false, 5, 0, false));
+bt_table02.put(List.of(0, true, true, 0, 0, false));
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.put(List.of(0, true, true, 165, 107, false));
+bt_table02.get(7);
+bt_table02.remove(0);
+bt_table02.remove(392);
+bt_table02.put(List.of(0, false, false, 0, 0, false));
+bt_table02.put(List.of(0, false, true, 4270, 0, true));
+bt_table02.remove(1283);
+bt_table02.put(List.of(0, true, true, 145160, 0, false));
+bt_table02.put(List.of(459, true, false, 0, 0, false));
+bt_table02.put(List.of(1, false, false, 0, 3, true));
+bt_table02.put(List.of(1573, true, false, 6, 0, true));
+bt_table02.get(0);
+bt_table02.remove(1634);
+bt_table02.remove(11);
+bt_table02.put(List.of(4177, false, true, 0, 0, false));
+bt_table02.put(List.of(1, false, true, 247, 323, false));
+bt_table02.get(0);
+bt_table02.put(List.of(0, false, false, 0, 70, false));
+bt_table02.put(List.of(77598, true, true, 2, 582, false));
+bt_table02.put(List.of(0, false, false, 0, 0, false));
+bt_table02.put(Arrays.asList(0, null, true, 78, 1, true));
+bt_table02.remove(855);
+bt_table02.remove(23);
+bt_table02.put(List.of(93187, true, false, 1, 19133, true));
+bt_table02.put(List.of(0, true, true, 290, 7295, false));
+bt_table02.put(List.of(584, false, false, 0, 28, false));
+bt_table02.put(List.of(2, false, false, 4, 0, false));
+bt_table02.put(List.of(0, true, true, 0, 1, true));
+bt_table02.put(List.of(0, true, true, 0, 12, false));
+bt_table02.put(List.of(0, true, false, 29, 0, false));
+bt_table02.put(List.of(0, false, false, 21260, 2090, true));
+bt_table02.get(5);
+bt_table02.put(List.of(155, false, false, 1174686, 249841, true));
+bt_table02.put(List.of(155, true, false, 1, 9778, true));
+bt_table02.put(List.of(0, false, false, 0, 0, false));
+bt_table02.get(79);
+bt_table02.get(0);
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.put(List.of(0, false, true, 0, 32700, true));
+bt_table02.remove(28893);
+bt_table02.get(116);
+bt_table02.put(Arrays.asList(0, null, true, 0, 0, false));
+bt_table02.remove(165);
+bt_table02.put(List.of(0, false, false, 0, 47577, true));
+bt_table02.put(List.of(0, true, true, 27, 0, true));
+bt_table02.get(694);
+bt_table02.get(29);
+bt_table02.put(List.of(3036, true, true, 0, 36, true));
+bt_table02.put(List.of(14572, true, false, 665, 48, true));
+bt_table02.put(Arrays.asList(53, false, true, 0, null, false));
+bt_table02.put(List.of(3, false, true, 11112, 44, true));
+bt_table02.put(List.of(6271, true, true, 0, 9751, false));
+bt_table02.get(7089);
+bt_table02.remove(0);
+bt_table02.put(List.of(1, true, true, 426, 0, false));
+bt_table02.put(List.of(0, false, true, 0, 0, true));
+bt_table02.put(List.of(3443, false, true, 0, 0, false));
+bt_table02.put(List.of(0, true, false, 4279, 0, false));
+bt_table02.put(List.of(4896, true, false, 0, 12, true));
+bt_table02.get(0);
+bt_table02.put(List.of(0, false, false, 52, 88, true));
+bt_table02.put(Arrays.asList(103, true, true, 0, 56, null));
+bt_table02.put(List.of(0, false, true, 12, 698, true));
+bt_table02.remove(57);
+bt_table02.put(List.of(0, false, false, 523, 0, false));
+bt_table02.put(Arrays.asList(0, true, null, 0, 0, true));
+bt_table02.put(List.of(249, true, false, 952, 1, false));
+bt_table02.put(List.of(671, true, false, 0, 6, true));
+bt_table02.put(List.of(1657, false, true, 0, 81, true));
+bt_table02.remove(7);
+bt_table02.put(Arrays.asList(2783, true, true, 3108, 0, null));
+bt_table02.put(List.of(154, true, false, 13, 0, false));
+bt_table02.get(599281);
+bt_table02.put(List.of(22496, true, false, 0, 86, true));
+bt_table02.put(List.of(236, true, true, 2, 0, false));
+bt_table02.remove(161);
+bt_table02.remove(0);
+bt_table02.put(List.of(1, true, true, 153, 4, true));
+bt_table02.put(List.of(0, false, true, 2900, 0, true));
+bt_table02.put(List.of(0, false, true, 4, 27, false));
+bt_table02.get(0);
+bt_table02.put(List.of(0, false, true, 10, 1, true));
+bt_table02.put(List.of(0, true, true, 7, 38, true));
+bt_table02.put(List.of(2672, true, true, 2610, 0, true));
+bt_table02.put(List.of(16, false, false, 0, 123, false));
+bt_table02.put(List.of(0, true, false, 17923, 0, false));
+bt_table02.put(List.of(21762, true, false, 23, 0, false));
+bt_table02.get(31);
+bt_table02.put(List.of(21850, false, true, 19, 41, true));
+bt_table02.put(List.of(854, true, false, 33, 0, false));
+bt_table02.put(List.of(0, false, false, 1, 182, true));
+bt_table02.put(List.of(3, false, false, 72, 157, false));
+bt_table02.put(List.of(0, true, true, 1, 610, false));
+bt_table02.put(List.of(0, false, true, 303, 506, true));
+bt_table02.put(List.of(0, true, false, 10, 9244, false));
+bt_table02.remove(0);
+bt_table02.remove(3);
+bt_table02.put(List.of(3, false, true, 0, 41466, false));
+bt_table02.put(List.of(0, true, true, 1263, 0, true));
+bt_table02.put(List.of(0, false, true, 0, 0, true));
+bt_table02.put(List.of(1, false, true, 106, 0, false));
+bt_table02.put(List.of(0, false, false, 0, 0, false));
+bt_table02.put(List.of(29560, false, false, 0, 0, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(498, true, false, 3, 115, false));
+bt_table02.put(List.of(0, false, false, 3, 1736, true));
+bt_table02.put(List.of(0, false, true, 2, 2, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, true, 0, 0, false));
+bt_table02.remove(2);
+bt_table02.remove(6);
+bt_table02.remove(221444);
+bt_table02.put(List.of(0, false, false, 0, 414, true));
+bt_table02.put(List.of(128, false, true, 0, 2853, true));
+bt_table02.put(List.of(12, false, false, 0, 117544, false));
+bt_table02.put(List.of(0, false, true, 101, 1353, true));
+bt_table02.put(List.of(0, true, true, 0, 179, false));
+bt_table02.put(List.of(30, false, false, 5102, 0, false));
+bt_table02.put(List.of(941, true, false, 116, 22805, true));
+bt_table02.put(List.of(95, false, false, 0, 9, true));
+bt_table02.put(List.of(53, true, false, 10, 632346, false));
+bt_table02.put(List.of(7235, true, false, 0, 2, true));
+bt_table02.put(List.of(1045, true, true, 0, 220, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(887353, false, true, 206, 354, true));
+bt_table02.put(List.of(145, false, true, 97, 51569, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(224, false, false, 21, 9, true));
+bt_table02.remove(22);
+bt_table02.remove(8177);
+bt_table02.put(List.of(254, true, false, 0, 0, false));
+bt_table02.put(List.of(89, true, true, 0, 1, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, true, 787, 35, false));
+bt_table02.put(Arrays.asList(0, null, true, 91, 18, true));
+bt_table02.put(List.of(0, false, true, 182, 0, false));
+bt_table02.put(List.of(0, true, true, 0, 17, true));
+bt_table02.get(0);
+bt_table02.put(List.of(2, true, false, 4943, 0, true));
+bt_table02.put(List.of(0, false, true, 15, 0, true));
+bt_table02.put(List.of(36449, false, true, 0, 0, true));
+bt_table02.put(List.of(0, true, false, 0, 0, true));
+bt_table02.put(List.of(8705, true, false, 0, 2, false));
+bt_table02.remove(19);
+bt_table02.put(List.of(6103, true, true, 90, 0, false));
+bt_table02.put(List.of(105, true, true, 16456, 58826, true));
+bt_table02.remove(1543);
+bt_table02.put(List.of(0, true, true, 2711, 0, false));
+bt_table02.put(List.of(25450, false, false, 3, 6, true));
+bt_table02.put(List.of(0, true, false, 0, 6231, true));
+bt_table02.put(List.of(0, true, false, 14506, 0, true));
+bt_table02.put(List.of(32476, true, false, 28, 0, false));
+bt_table02.put(List.of(256, true, true, 1, 0, true));
+bt_table02.put(List.of(10, false, true, 758, 0, true));
+bt_table02.put(List.of(14156, false, true, 0, 0, false));
+bt_table02.put(List.of(0, false, true, 0, 6, true));
+bt_table02.put(List.of(0, true, true, 462, 1992, false));
+bt_table02.put(List.of(2, false, false, 0, 0, true));
+bt_table02.put(List.of(1, true, true, 11704, 354, true));
+bt_table02.put(List.of(0, false, false, 736, 898, false));
+bt_table02.put(List.of(0, true, false, 2, 0, true));
+bt_table02.put(List.of(4, true, true, 0, 0, true));
+bt_table02.put(Arrays.asList(8, null, false, 2, 80039, false));
+bt_table02.put(List.of(96, true, true, 2182, 1050, false));
+bt_table02.put(List.of(95, true, true, 0, 0, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, false, 6663, 95, false));
+bt_table02.put(List.of(1, false, false, 0, 0, false));
+bt_table02.remove(847526);
+bt_table02.put(List.of(0, false, true, 0, 19, true));
+bt_table02.get(9);
+bt_table02.get(0);
+bt_table02.put(List.of(0, true, false, 554, 0, true));
+bt_table02.put(List.of(234, false, true, 8576, 0, true));
+bt_table02.remove(43);
+bt_table02.put(List.of(12454, true, false, 0, 0, false));
+bt_table02.remove(0);
+bt_table02.remove(62);
+bt_table02.put(List.of(0, true, true, 0, 0, true));
+bt_table02.get(0);
+bt_table02.get(170);
+bt_table02.put(List.of(0, false, false, 87, 1862, false));
+bt_table02.get(24334);
+bt_table02.put(List.of(9261, false, false, 0, 0, true));
+bt_table02.put(List.of(0, false, false, 3, 175, true));
+bt_table02.put(List.of(0, true, false, 35785, 0, true));
+bt_table02.remove(48);
+bt_table02.put(List.of(0, true, false, 46, 15, true));
+bt_table02.remove(0);
+bt_table02.remove(0);
+bt_table02.remove(1);
+bt_table02.put(List.of(14, true, false, 0, 0, true));
+bt_table02.put(List.of(0, false, true, 0, 0, true));
+bt_table02.put(List.of(1561, false, false, 0, 0, false));
+bt_table02.put(List.of(0, true, true, 0, 0, false));
+bt_table02.put(List.of(15, true, false, 39, 6020, false));
+bt_table02.put(List.of(17, false, false, 0, 280, true));
+bt_table02.get(0);
+bt_table02.put(Arrays.asList(58, true, true, 2, 38, null));
+bt_table02.put(List.of(2468, false, true, 3238, 0, false));
+bt_table02.put(List.of(0, true, false, 145, 0, true));
+bt_table02.put(List.of(0, false, false, 0, 0, true));
+bt_table02.put(List.of(0, true, true, 526, 6, false));
+bt_table02.put(List.of(17168, false, false, 39891, 0, false));
+bt_table02.put(List.of(0, false, false, 3, 0, true));
+bt_table02.put(List.of(9867, false, true, 515, 8706, false));
+bt_table02.get(22);
+bt_table02.put(List.of(754, true, true, 0, 2, true));
+bt_table02.put(List.of(0, false, true, 932, 1, true));
+bt_table02.get(6);
+bt_table02.remove(0);
+bt_table02.put(List.of(13550, false, true, 2, 0, true));
+bt_table02.put(List.of(0, false, false, 270, 47, true));
+bt_table02.remove(16761);
+bt_table02.put(List.of(17, false, false, 0, 663, false));
+bt_table02.put(List.of(0, false, true, 0, 0, true));
+bt_table02.put(List.of(524, true, false, 0, 0, true));
+bt_table02.put(List.of(177173, true, true, 0, 0, false));
+bt_table02.put(List.of(1, false, false, 0, 20, true));
+bt_table02.remove(0);
+bt_table02.remove(124);
+bt_table02.put(List.of(2, true, false, 78, 794, true));
+bt_table02.put(List.of(0, true, true, 164, 576397, false));
+bt_table02.put(List.of(354, true, false, 93246, 0, false));
+bt_table02.remove(0);
+bt_table02.get(0);
+bt_table02.put(Arrays.asList(0, false, null, 2621, 0, false));
+bt_table02.put(List.of(143829, true, false, 0, 0, false));
+bt_table02.put(List.of(24, true, true, 0, 5, true));
+bt_table02.put(List.of(249, true, true, 0, 4091, false));
+bt_table02.put(List.of(258, true, false, 0, 29435, true));
+bt_table02.put(List.of(501, false, true, 14878, 0, false));
+bt_table02.put(List.of(0, true, true, 7606, 8460, false));
+bt_table02.put(List.of(10, false, true, 1015, 0, false));
+bt_table02.put(List.of(0, true, false, 0, 0, true));
+bt_table02.put(List.of(0, false, true, 62, 59, true));
+bt_table02.put(List.of(52559, false, true, 9, 0, false));
+bt_table02.remove(19);
+bt_table02.put(List.of(1, false, true, 24408, 0, false));
+bt_table02.put(List.of(0, false, false, 2685, 700, true));
+bt_table02.put(List.of(1, true, true, 0, 543, false));
+bt_table02.put(List.of(272, false, true, 0, 1239, true));
+bt_table02.remove(8);
+bt_table02.put(List.of(28290, true, false, 0, 457, false));
+bt_table02.put(List.of(32056, false, false, 115, 1632, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(8211, true, true, 46790, 3005, false));
+bt_table02.put(List.of(0, true, true, 146274, 60404, true));
+bt_table02.put(List.of(0, false, true, 2, 0, false));
+bt_table02.remove(30682);
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, true, 0, 0, false));
+bt_table02.put(List.of(1108, true, true, 44, 0, false));
+bt_table02.put(List.of(1161, true, false, 0, 228, false));
+bt_table02.put(List.of(9157, true, true, 476, 1, true));
+bt_table02.put(List.of(1, true, false, 10, 0, true));
+bt_table02.remove(1);
+bt_table02.put(List.of(0, false, false, 1, 0, false));
+bt_table02.remove(10264);
+bt_table02.put(List.of(69131, false, true, 7, 0, true));
+bt_table02.put(List.of(0, false, false, 0, 0, true));
+bt_table02.put(List.of(0, false, false, 0, 4, false));
+bt_table02.put(List.of(3, true, false, 2465, 0, false));
+bt_table02.remove(200);
+bt_table02.put(List.of(0, true, true, 0, 8794, true));
+bt_table02.put(List.of(61, false, true, 0, 0, false));
+bt_table02.put(List.of(0, true, false, 56, 0, false));
+bt_table02.get(340670);
+bt_table02.put(List.of(0, false, false, 6697, 0, true));
+bt_table02.put(List.of(0, true, false, 176, 237, true));
+bt_table02.put(List.of(1150, true, false, 0, 180, true));
+bt_table02.put(List.of(152, true, false, 5, 229, false));
+bt_table02.put(List.of(958, false, true, 347025, 0, true));
+bt_table02.put(List.of(0, false, false, 6, 722, true));
+bt_table02.put(List.of(10176, false, true, 229167, 10, false));
+bt_table02.put(List.of(15662, false, false, 0, 0, false));
+bt_table02.put(List.of(367, true, false, 247, 34, true));
+bt_table02.put(List.of(122, false, false, 12, 19151, false));
+bt_table02.put(List.of(0, true, true, 4, 867, true));
+bt_table02.put(List.of(2, true, true, 2567, 42475, true));
+bt_table02.put(List.of(0, false, true, 178079, 3342, false));
+bt_table02.put(List.of(0, true, false, 29, 0, true));
+bt_table02.put(List.of(0, false, false, 1, 257, false));
+bt_table02.get(0);
+bt_table02.put(List.of(10, false, false, 95, 70, false));
+bt_table02.put(List.of(16749, false, true, 0, 1, true));
+bt_table02.put(List.of(4476, false, true, 1, 35, false));
+bt_table02.put(List.of(331, false, false, 23, 476, false));
+bt_table02.put(List.of(311, false, false, 2579, 885, true));
+bt_table02.remove(69);
+bt_table02.put(List.of(46, false, true, 5, 203, false));
+bt_table02.remove(96);
+bt_table02.put(List.of(88, true, false, 1330, 0, false));
+bt_table02.put(List.of(0, true, true, 12125, 143, true));
+bt_table02.get(0);
+bt_table02.put(List.of(75671, true, false, 2, 20, true));
+bt_table02.put(List.of(13, false, true, 0, 0, true));
+bt_table02.get(142);
+bt_table02.put(List.of(248, true, false, 0, 435, false));
+bt_table02.put(List.of(0, true, false, 0, 0, true));
+bt_table02.get(3);
+bt_table02.remove(807275);
+bt_table02.put(List.of(4, false, true, 0, 1, false));
+bt_table02.put(List.of(316, false, true, 305, 16, true));
+bt_table02.put(Arrays.asList(0, true, true, 138, null, true));
+bt_table02.remove(12);
+bt_table02.put(List.of(47, true, false, 84081, 5, false));
+bt_table02.put(List.of(0, false, true, 4, 168, true));
+bt_table02.put(List.of(0, false, true, 15, 2, false));
+bt_table02.put(List.of(4681, true, false, 0, 0, true));
+bt_table02.put(List.of(1357, true, false, 3, 0, false));
+bt_table02.get(1);
+bt_table02.get(7);
+bt_table02.remove(39);
+bt_table02.put(List.of(0, false, false, 0, 2, false));
+bt_table02.put(Arrays.asList(0, false, false, 0, null, true));
+bt_table02.remove(2);
+bt_table02.put(List.of(0, true, true, 6557, 433, true));
+bt_table02.put(List.of(4608, true, true, 0, 8, true));
+bt_table02.remove(14);
+bt_table02.put(List.of(4, false, false, 1, 0, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(1, true, true, 0, 16, true));
+bt_table02.put(List.of(134, true, false, 0, 401865, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(90, true, false, 113, 6121, true));
+bt_table02.get(0);
+bt_table02.get(0);
+bt_table02.put(List.of(418, true, true, 483, 158, true));
+bt_table02.put(List.of(0, false, true, 288, 0, false));
+bt_table02.put(List.of(115, true, false, 27306, 0, false));
+bt_table02.put(List.of(1076, false, true, 0, 107873, false));
+bt_table02.put(Arrays.asList(151, false, true, 2507, 62763, null));
+bt_table02.remove(2);
+bt_table02.put(List.of(7, true, true, 20, 54, false));
+bt_table02.put(List.of(0, true, true, 0, 0, false));
+bt_table02.put(List.of(0, false, false, 0, 35231, true));
+bt_table02.put(List.of(0, false, false, 12, 14, false));
+bt_table02.put(List.of(378, true, false, 6063, 10491, false));
+bt_table02.put(List.of(0, true, false, 0, 0, true));
+bt_table02.put(List.of(121, false, true, 3, 0, false));
+bt_table02.put(List.of(0, false, false, 37388, 0, true));
+bt_table02.put(List.of(0, false, true, 475, 22, true));
+bt_table02.put(List.of(0, true, true, 218, 0, false));
+bt_table02.put(List.of(0, false, true, 79, 24, false));
+bt_table02.put(List.of(0, false, true, 45335, 0, true));
+bt_table02.put(List.of(74, true, true, 0, 839, false));
+bt_table02.remove(0);
+bt_table02.remove(1);
+bt_table02.put(Arrays.asList(0, true, true, 108, 12, null));
+bt_table02.put(List.of(0, true, false, 7, 2481, true));
+bt_table02.put(List.of(0, false, false, 0, 43107, false));
+bt_table02.put(List.of(0, false, false, 11, 0, false));
+bt_table02.put(List.of(679, true, true, 1, 0, false));
+bt_table02.put(List.of(0, true, false, 14, 12, false));
+bt_table02.put(List.of(3, false, false, 0, 0, true));
+bt_table02.put(List.of(0, false, false, 0, 0, false));
+bt_table02.put(List.of(143, true, false, 0, 2673, true));
+bt_table02.put(List.of(176, false, true, 3, 0, false));
+bt_table02.put(List.of(0, false, true, 851, 0, true));
+bt_table02.put(List.of(6058, true, true, 0, 0, false));
+bt_table02.get(632);
+bt_table02.get(81585);
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, false, 0, 0, true));
+bt_table02.put(List.of(0, true, false, 1, 0, false));
+bt_table02.put(List.of(0, true, false, 15, 71592, false));
+bt_table02.put(List.of(4, true, true, 0, 0, true));
+bt_table02.put(List.of(0, true, true, 2788, 0, true));
+bt_table02.remove(629);
+bt_table02.get(1448);
+bt_table02.get(7340);
+bt_table02.remove(2);
+bt_table02.put(List.of(671, true, false, 1, 0, true));
+bt_table02.put(List.of(0, true, true, 0, 0, true));
+bt_table02.put(List.of(5573, true, true, 0, 1, false));
+bt_table02.put(List.of(0, false, true, 1683, 2, false));
+bt_table02.put(List.of(0, false, true, 0, 2, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, false, 3, 268, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(78, true, false, 0, 0, false));
+bt_table02.put(List.of(0, false, true, 7252, 90, true));
+bt_table02.put(List.of(0, false, false, 0, 0, false));
+bt_table02.put(List.of(8, true, true, 0, 0, false));
+bt_table02.put(Arrays.asList(437, true, true, 0, null, false));
+bt_table02.put(List.of(54, false, false, 0, 0, true));
+bt_table02.put(List.of(77441, false, true, 220, 119, true));
+bt_table02.remove(491677);
+bt_table02.put(List.of(0, false, false, 0, 0, false));
+bt_table02.remove(9);
+bt_table02.put(List.of(0, true, true, 31, 0, true));
+bt_table02.put(List.of(0, false, true, 1214, 0, true));
+bt_table02.remove(84);
+bt_table02.get(0);
+bt_table02.put(List.of(0, true, false, 186, 0, true));
+bt_table02.put(List.of(1, true, true, 180, 0, false));
+bt_table02.put(List.of(0, true, true, 1025, 3, true));
+bt_table02.remove(4332);
+bt_table02.put(List.of(18, false, true, 0, 87324, false));
+bt_table02.put(List.of(3620, false, false, 0, 5, true));
+bt_table02.put(List.of(46396, false, true, 243, 8913, true));
+bt_table02.put(List.of(0, true, false, 11, 3, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(952, true, true, 0, 0, false));
+bt_table02.put(List.of(1594, false, false, 0, 239, false));
+bt_table02.get(17632);
+bt_table02.remove(0);
+bt_table02.put(List.of(128, true, true, 0, 12044, false));
+bt_table02.put(List.of(0, true, true, 0, 0, false));
+bt_table02.get(10);
+bt_table02.put(List.of(0, true, false, 15570, 0, true));
+bt_table02.put(List.of(0, true, true, 12681, 0, true));
+bt_table02.put(List.of(9156, true, true, 1, 0, true));
+bt_table02.put(List.of(2207, true, false, 0, 717, true));
+bt_table02.put(List.of(5334, false, false, 0, 0, false));
+bt_table02.put(List.of(2, true, false, 54, 190, true));
+bt_table02.put(List.of(0, false, true, 0, 62, true));
+bt_table02.put(List.of(301, false, true, 0, 1316, true));
+bt_table02.put(List.of(0, true, false, 44, 0, false));
+bt_table02.put(List.of(537, true, false, 84, 0, false));
+bt_table02.put(List.of(1195, false, false, 0, 0, false));
+bt_table02.get(34);
+bt_table02.put(Arrays.asList(null, false, true, 0, 0, false));
+bt_table02.remove(232192);
+bt_table02.put(List.of(0, true, false, 0, 0, true));
+bt_table02.remove(99);
+bt_table02.put(List.of(0, false, false, 42970, 0, true));
+bt_table02.put(List.of(0, false, true, 1, 6, true));
+bt_table02.get(0);
+bt_table02.put(List.of(9, false, true, 2, 142, false));
+bt_table02.put(List.of(0, false, false, 0, 0, false));
+bt_table02.remove(2188);
+bt_table02.put(List.of(348, false, false, 74, 0, false));
+bt_table02.put(List.of(0, false, true, 1, 0, false));
+bt_table02.put(List.of(0, true, false, 1, 4, false));
+bt_table02.put(List.of(866, false, true, 497, 0, false));
+bt_table02.put(List.of(13, false, true, 0, 0, false));
+bt_table02.put(List.of(3, true, true, 0, 4151, true));
+bt_table02.put(List.of(116, true, false, 147, 0, false));
+bt_table02.put(List.of(172, false, true, 0, 6343, true));
+bt_table02.put(List.of(0, false, true, 341, 1, false));
+bt_table02.put(List.of(0, false, true, 20, 0, true));
+bt_table02.get(147);
+bt_table02.put(List.of(18, false, false, 982, 7, false));
+bt_table02.put(List.of(0, true, true, 21, 0, false));
+bt_table02.get(8);
+bt_table02.put(List.of(61, false, true, 36, 13, true));
+bt_table02.put(List.of(199, false, true, 0, 155, true));
+bt_table02.remove(1);
+bt_table02.put(List.of(109, true, false, 3, 0, true));
+bt_table02.put(List.of(0, false, true, 377, 38, true));
+bt_table02.put(List.of(6, true, true, 37, 17, true));
+bt_table02.put(Arrays.asList(null, true, false, 0, 15, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, true, 0, 44, true));
+bt_table02.put(List.of(0, true, true, 17159, 2511, true));
+bt_table02.put(List.of(3, true, true, 1518, 25594, true));
+bt_table02.get(0);
+bt_table02.put(List.of(60, false, true, 0, 60, true));
+bt_table02.put(List.of(0, true, false, 7, 0, true));
+bt_table02.put(List.of(45151, true, true, 2, 15593, false));
+bt_table02.remove(19);
+bt_table02.put(List.of(702, true, true, 1517, 105, true));
+bt_table02.get(92);
+bt_table02.put(List.of(282, false, true, 0, 15913, true));
+bt_table02.remove(18);
+bt_table02.put(List.of(0, true, true, 26, 0, false));
+bt_table02.put(List.of(0, false, true, 4237, 50, true));
+bt_table02.put(Arrays.asList(0, false, true, 7, 3199, null));
+bt_table02.put(List.of(0, false, false, 338725, 0, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(29, false, false, 0, 0, false));
+bt_table02.remove(315696);
+bt_table02.put(List.of(16, false, true, 2562, 2182, false));
+bt_table02.put(List.of(267679, false, true, 3, 178, false));
+bt_table02.put(List.of(0, true, true, 0, 0, false));
+bt_table02.put(List.of(0, false, false, 0, 0, true));
+bt_table02.put(List.of(0, false, true, 6, 0, true));
+bt_table02.put(List.of(178, true, true, 6229, 15, true));
+bt_table02.put(List.of(0, false, true, 54, 1077, false));
+bt_table02.put(List.of(275404, true, false, 0, 1162, true));
+bt_table02.put(List.of(1, false, true, 243, 0, true));
+bt_table02.put(List.of(0, false, false, 0, 0, true));
+bt_table02.put(List.of(56, true, false, 17, 0, true));
+bt_table02.put(List.of(11536, false, true, 248, 43, true));
+bt_table02.put(List.of(0, true, true, 0, 1108, true));
+bt_table02.put(Arrays.asList(5709, null, false, 0, 0, false));
+bt_table02.put(List.of(4, true, true, 787, 0, true));
+bt_table02.put(List.of(0, true, false, 1715, 0, true));
+bt_table02.get(3469);
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, false, 1, 0, true));
+bt_table02.put(List.of(0, true, false, 565, 0, true));
+bt_table02.get(70);
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, false, 0, 45, true));
+bt_table02.put(List.of(117, false, false, 0, 2, false));
+bt_table02.get(0);
+bt_table02.put(List.of(0, false, true, 51, 120, true));
+bt_table02.put(List.of(22, false, false, 32, 314, false));
+bt_table02.put(List.of(5, false, false, 9889, 169, false));
+bt_table02.remove(57);
+bt_table02.remove(0);
+bt_table02.put(List.of(3, true, false, 0, 43, false));
+bt_table02.remove(4471);
+bt_table02.get(0);
+bt_table02.put(List.of(0, true, true, 0, 510, true));
+bt_table02.remove(3564);
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, false, 4, 6, true));
+bt_table02.put(List.of(168, false, true, 941, 0, false));
+bt_table02.put(List.of(45, false, false, 17, 346, true));
+bt_table02.put(List.of(0, false, false, 639, 19, true));
+bt_table02.get(191);
+bt_table02.get(0);
+bt_table02.put(List.of(27, false, true, 0, 0, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(166, true, true, 366, 0, false));
+bt_table02.put(List.of(5037, true, true, 5, 3217, true));
+bt_table02.put(List.of(690, false, false, 324, 5188, true));
+bt_table02.put(List.of(0, true, true, 0, 0, false));
+bt_table02.put(List.of(0, false, true, 2, 0, false));
+bt_table02.put(List.of(0, false, true, 159, 405, false));
+bt_table02.put(List.of(18855, false, true, 165, 2328, false));
+bt_table02.put(List.of(3328, false, false, 3, 41, false));
+bt_table02.put(List.of(69, false, true, 86, 64623, true));
+bt_table02.put(List.of(0, true, false, 0, 0, true));
+bt_table02.get(162813);
+bt_table02.remove(47);
+bt_table02.put(List.of(0, false, true, 36114, 19, false));
+bt_table02.get(9);
+bt_table02.put(List.of(0, false, false, 12, 0, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(37289, false, true, 8, 0, true));
+bt_table02.put(List.of(17, false, true, 997, 2139, true));
+bt_table02.put(List.of(0, true, false, 0, 621, false));
+bt_table02.put(List.of(19, true, false, 461, 0, true));
+bt_table02.put(List.of(0, true, false, 2907, 0, false));
+bt_table02.put(List.of(8847, true, true, 0, 1182, false));
+bt_table02.put(List.of(364099, false, false, 25, 0, true));
+bt_table02.put(List.of(856, true, false, 17, 0, false));
+bt_table02.put(List.of(1, true, false, 120, 511, false));
+bt_table02.put(List.of(1, true, false, 129, 0, true));
+bt_table02.put(List.of(566, true, true, 0, 0, true));
+bt_table02.put(List.of(2225, false, true, 0, 86797, false));
+bt_table02.put(List.of(2, true, true, 0, 30310, false));
+bt_table02.put(List.of(15, false, true, 1, 214, false));
+bt_table02.remove(51);
+bt_table02.remove(0);
+bt_table02.get(9835);
+bt_table02.put(List.of(0, true, false, 0, 0, true));
+bt_table02.put(List.of(28, true, true, 4023, 36, true));
+bt_table02.put(List.of(0, false, true, 0, 1028, false));
+bt_table02.put(List.of(21944, false, true, 0, 5362, false));
+bt_table02.put(List.of(3325, true, false, 0, 1, true));
+bt_table02.put(List.of(6215, true, false, 2, 0, false));
+bt_table02.put(List.of(130, true, true, 682, 0, true));
+bt_table02.get(0);
+bt_table02.get(6);
+bt_table02.remove(0);
+bt_table02.put(List.of(33, false, false, 190692, 2, false));
+bt_table02.put(List.of(0, true, true, 32, 3289, true));
+bt_table02.put(List.of(61398, false, true, 182, 1, false));
+bt_table02.put(List.of(178, false, true, 2905, 1148, false));
+bt_table02.put(List.of(1290, false, true, 0, 22, true));
+bt_table02.get(515);
+bt_table02.put(List.of(1797, false, false, 0, 6197, true));
+bt_table02.get(10);
+bt_table02.put(List.of(0, false, false, 9, 1, false));
+bt_table02.put(List.of(0, true, true, 5943, 4977, true));
+bt_table02.put(List.of(0, false, false, 63, 31, true));
+bt_table02.put(List.of(1, false, false, 338, 16, false));
+bt_table02.put(List.of(0, false, false, 0, 0, true));
+bt_table02.put(List.of(134, true, false, 0, 0, false));
+bt_table02.put(List.of(118089, true, false, 0, 0, true));
+bt_table02.put(List.of(0, false, false, 0, 183078, false));
+bt_table02.get(0);
+bt_table02.get(0);
+bt_table02.put(List.of(2, true, false, 62, 0, false));
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.put(List.of(0, false, true, 460, 0, true));
+bt_table02.put(List.of(0, true, false, 10801, 92, false));
+bt_table02.put(List.of(0, false, false, 1764, 15, false));
+bt_table02.put(List.of(6, true, false, 0, 15546, true));
+bt_table02.get(7935);
+bt_table02.put(List.of(0, false, true, 0, 28, false));
+bt_table02.put(List.of(33749, true, false, 726, 758, true));
+bt_table02.put(List.of(1, false, false, 0, 0, false));
+bt_table02.put(List.of(0, false, true, 0, 0, false));
+bt_table02.remove(96);
+bt_table02.put(List.of(0, false, true, 0, 1, true));
+bt_table02.put(List.of(357, true, false, 26498, 1528, true));
+bt_table02.put(List.of(1, true, true, 0, 643, true));
+bt_table02.put(List.of(13, false, false, 0, 1109, false));
+bt_table02.put(List.of(1543, true, false, 0, 12, true));
+bt_table02.remove(1);
+bt_table02.put(List.of(6695, false, true, 0, 1, false));
+bt_table02.remove(1774);
+bt_table02.remove(394488);
+bt_table02.put(List.of(337525, false, true, 0, 1471, false));
+bt_table02.put(List.of(0, true, true, 4, 0, false));
+bt_table02.put(List.of(43, false, true, 529, 0, false));
+bt_table02.put(List.of(16, true, false, 0, 0, false));
+bt_table02.put(List.of(0, false, true, 0, 0, true));
+bt_table02.put(List.of(0, false, true, 0, 4, false));
+bt_table02.remove(558);
+bt_table02.put(List.of(0, true, true, 0, 0, false));
+bt_table02.put(List.of(85, true, false, 0, 8263, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, false, 1, 3, false));
+bt_table02.put(Arrays.asList(null, true, true, 748, 9, false));
+bt_table02.get(0);
+bt_table02.put(List.of(7562, true, false, 0, 0, true));
+bt_table02.remove(3639);
+bt_table02.put(List.of(7, true, true, 101, 11, false));
+bt_table02.put(List.of(0, false, false, 0, 0, false));
+bt_table02.put(Arrays.asList(0, true, null, 848, 34, true));
+bt_table02.put(List.of(0, true, false, 0, 181, true));
+bt_table02.put(List.of(31933, true, true, 2112, 0, false));
+bt_table02.put(List.of(0, false, true, 0, 511, false));
+bt_table02.put(List.of(0, true, true, 550195, 0, false));
+bt_table02.put(List.of(49, true, false, 0, 2586, true));
+bt_table02.put(List.of(30, true, true, 134, 174, false));
+bt_table02.remove(20);
+bt_table02.put(List.of(0, true, false, 0, 19, true));
+bt_table02.put(List.of(0, true, false, 3788, 0, false));
+bt_table02.put(List.of(343, false, false, 0, 0, false));
+bt_table02.remove(0);
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, true, 1422, 1392, false));
+bt_table02.put(List.of(13128, false, false, 0, 5245, true));
+bt_table02.remove(0);
+bt_table02.remove(4215);
+bt_table02.put(List.of(0, true, true, 0, 11, true));
+bt_table02.remove(0);
+bt_table02.remove(0);
+bt_table02.put(List.of(48, false, true, 0, 0, false));
+bt_table02.put(List.of(1, true, false, 0, 0, false));
+bt_table02.put(List.of(0, true, true, 0, 8, true));
+bt_table02.put(List.of(246, false, false, 0, 2520, true));
+bt_table02.put(List.of(0, true, false, 0, 47, true));
+bt_table02.put(List.of(62, false, true, 87, 2, false));
+bt_table02.put(List.of(91, false, true, 16, 5, true));
+bt_table02.remove(630);
+bt_table02.remove(13111);
+bt_table02.put(List.of(238, false, false, 0, 0, true));
+bt_table02.get(0);
+bt_table02.put(List.of(0, true, true, 230, 101, true));
+bt_table02.put(Arrays.asList(7, null, false, 0, 1818, true));
+bt_table02.remove(132);
+bt_table02.get(6663);
+bt_table02.put(List.of(0, true, true, 0, 6, true));
+bt_table02.put(List.of(32, true, true, 102016, 0, false));
+bt_table02.put(List.of(37, true, false, 584, 4432, false));
+bt_table02.put(List.of(1034, true, false, 1415189, 0, false));
+bt_table02.put(List.of(0, false, false, 0, 0, false));
+bt_table02.put(List.of(0, false, false, 11, 13292, false));
+bt_table02.put(List.of(4942, true, true, 437, 188, true));
+bt_table02.put(List.of(0, false, false, 141, 100, false));
+bt_table02.remove(40);
+bt_table02.remove(0);
+bt_table02.put(List.of(1414, false, false, 0, 0, false));
+bt_table02.remove(267);
+bt_table02.remove(0);
+bt_table02.remove(0);
+bt_table02.put(List.of(44, false, true, 59, 5322, true));
+bt_table02.put(List.of(0, true, true, 398, 0, false));
+bt_table02.put(List.of(3, true, false, 82, 0, false));
+bt_table02.put(List.of(0, true, true, 26, 19, true));
+bt_table02.put(List.of(7, false, true, 40, 0, true));
+bt_table02.remove(0);
+bt_table02.put(Arrays.asList(0, null, true, 0, 9, false));
+bt_table02.put(List.of(34867, true, false, 0, 0, false));
+bt_table02.put(List.of(2, false, false, 1560, 0, false));
+bt_table02.remove(12240);
+bt_table02.put(List.of(1, true, false, 675, 945, false));
+bt_table02.put(List.of(0, false, false, 4, 0, true));
+bt_table02.put(List.of(0, false, true, 2181, 0, true));
+bt_table02.put(List.of(0, true, true, 968, 1633, true));
+bt_table02.put(List.of(243, false, true, 1079, 30904, true));
+bt_table02.put(List.of(68, true, true, 0, 0, false));
+bt_table02.put(Arrays.asList(32, false, false, 1272, 2, null));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, true, 139, 0, true));
+bt_table02.remove(3);
+bt_table02.get(30947);
+bt_table02.put(List.of(0, false, false, 0, 745, false));
+bt_table02.put(List.of(1, false, true, 0, 0, false));
+bt_table02.put(List.of(0, true, false, 1271, 0, true));
+bt_table02.put(List.of(2, true, false, 12, 0, false));
+bt_table02.put(List.of(9, true, true, 0, 7, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(1109, true, false, 10, 58, true));
+bt_table02.get(0);
+bt_table02.put(List.of(49, false, true, 171, 0, false));
+bt_table02.put(List.of(0, true, true, 2, 0, false));
+bt_table02.put(List.of(329, false, true, 2836, 0, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(736, true, false, 62, 691, false));
+bt_table02.remove(1011);
+bt_table02.put(List.of(0, false, true, 0, 0, true));
+bt_table02.put(List.of(0, false, true, 5490, 0, true));
+bt_table02.put(List.of(0, true, true, 0, 35, true));
+bt_table02.put(List.of(1195, false, false, 12, 5042, false));
+bt_table02.put(List.of(1022, false, true, 0, 0, false));
+bt_table02.put(List.of(0, true, true, 75, 250, true));
+bt_table02.put(List.of(6807, false, false, 24218, 3, false));
+bt_table02.remove(0);
+bt_table02.remove(1981);
+bt_table02.put(List.of(737, false, true, 1868, 0, true));
+bt_table02.put(List.of(92, false, true, 1269, 855, true));
+bt_table02.put(List.of(8026, false, false, 0, 0, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(6763, true, true, 2, 0, false));
+bt_table02.put(List.of(958, false, true, 22, 836, true));
+bt_table02.put(List.of(22949, false, true, 0, 0, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(39, true, true, 0, 0, true));
+bt_table02.put(List.of(1479, false, false, 4916, 1879, false));
+bt_table02.put(List.of(95, true, true, 0, 0, true));
+bt_table02.put(List.of(0, false, true, 0, 0, true));
+bt_table02.put(List.of(675, true, false, 12, 819, false));
+bt_table02.put(List.of(143625, true, true, 0, 4925, false));
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.put(List.of(0, false, false, 0, 0, true));
+bt_table02.put(List.of(5156, true, false, 25778, 0, true));
+bt_table02.put(List.of(0, false, false, 5310, 0, false));
+bt_table02.put(List.of(0, true, true, 22, 1396038, false));
+bt_table02.put(List.of(558, false, false, 213, 0, true));
+bt_table02.put(List.of(49838, true, true, 2, 0, false));
+bt_table02.get(7068);
+bt_table02.get(0);
+bt_table02.put(Arrays.asList(0, true, true, 36, 0, null));
+bt_table02.put(List.of(0, true, true, 13278, 3, false));
+bt_table02.put(List.of(4443, false, false, 3, 0, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, true, 0, 11, true));
+bt_table02.put(List.of(1, false, false, 0, 23957, true));
+bt_table02.put(List.of(96562, true, false, 0, 0, false));
+bt_table02.put(List.of(0, false, true, 83208, 0, false));
+bt_table02.put(List.of(0, true, true, 3, 0, false));
+bt_table02.put(List.of(0, true, false, 0, 2058, false));
+bt_table02.put(List.of(0, false, false, 1, 185, false));
+bt_table02.get(0);
+bt_table02.put(List.of(5, false, true, 0, 1237, true));
+bt_table02.remove(41);
+bt_table02.remove(0);
+bt_table02.put(List.of(11, false, false, 0, 0, true));
+bt_table02.put(List.of(0, true, false, 1765, 0, true));
+bt_table02.remove(1);
+bt_table02.put(List.of(101, false, true, 4, 57, false));
+bt_table02.put(List.of(87, false, false, 0, 1210, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(321, false, false, 5424, 12787, true));
+bt_table02.put(List.of(2, false, false, 2, 2456, true));
+bt_table02.get(0);
+bt_table02.put(List.of(2458, true, true, 116, 1, false));
+bt_table02.remove(0);
+bt_table02.remove(11575);
+bt_table02.remove(5);
+bt_table02.put(List.of(1, true, true, 0, 0, true));
+bt_table02.put(List.of(0, false, true, 1, 0, false));
+bt_table02.put(List.of(1552, false, true, 19359, 0, true));
+bt_table02.put(Arrays.asList(0, true, false, 1508, 1481, null));
+bt_table02.put(List.of(0, true, true, 188, 0, true));
+bt_table02.put(List.of(39, true, true, 0, 5, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(4411, false, false, 44248, 0, false));
+bt_table02.put(List.of(11907, true, false, 184, 213, true));
+bt_table02.remove(8);
+bt_table02.put(List.of(0, true, true, 0, 4, false));
+bt_table02.remove(11);
+bt_table02.put(List.of(0, true, true, 4, 0, true));
+bt_table02.get(67889);
+bt_table02.put(List.of(1, false, true, 0, 1322, true));
+bt_table02.put(List.of(6166, true, false, 0, 484138, false));
+bt_table02.put(List.of(73, false, false, 2321, 0, true));
+bt_table02.put(List.of(453, true, false, 5964, 0, true));
+bt_table02.put(List.of(1, true, true, 0, 98, true));
+bt_table02.put(List.of(120, true, false, 13, 1218, false));
+bt_table02.put(List.of(76, false, true, 0, 0, true));
+bt_table02.put(List.of(57, true, true, 0, 0, true));
+bt_table02.get(182819);
+bt_table02.put(List.of(0, true, true, 61, 20610, true));
+bt_table02.remove(0);
+bt_table02.remove(0);
+bt_table02.put(List.of(189, false, false, 1227, 3, true));
+bt_table02.put(List.of(1404, false, false, 0, 800, true));
+bt_table02.put(List.of(57, true, false, 0, 2, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(5173, false, false, 18, 0, true));
+bt_table02.put(List.of(0, true, true, 3082, 0, true));
+bt_table02.put(List.of(0, true, false, 11, 0, false));
+bt_table02.put(List.of(7233, true, false, 9, 88, true));
+bt_table02.put(List.of(1, true, true, 0, 3669, false));
+bt_table02.remove(972);
+bt_table02.remove(0);
+bt_table02.get(28);
+bt_table02.remove(2);
+bt_table02.remove(4);
+bt_table02.put(Arrays.asList(null, true, true, 0, 74, true));
+bt_table02.put(List.of(0, true, true, 0, 107, false));
+bt_table02.remove(28);
+bt_table02.get(83);
+bt_table02.remove(1852);
+bt_table02.put(List.of(2, false, false, 1926, 0, false));
+bt_table02.put(List.of(3, true, true, 2731, 2886, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(113, true, false, 0, 325, true));
+bt_table02.put(List.of(22, true, true, 19343, 0, true));
+bt_table02.put(List.of(36, true, true, 14126, 3, false));
+bt_table02.remove(65);
+bt_table02.remove(0);
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, true, 0, 0, true));
+bt_table02.put(List.of(4875, true, true, 0, 0, false));
+bt_table02.put(Arrays.asList(21, true, null, 3, 9977, false));
+bt_table02.put(List.of(506, false, true, 818, 159235, true));
+bt_table02.put(List.of(12636, true, false, 0, 71, true));
+bt_table02.put(List.of(441, false, true, 1262, 4, true));
+bt_table02.put(List.of(6157, false, true, 7, 4, false));
+bt_table02.get(0);
+bt_table02.put(List.of(0, false, true, 0, 1038, false));
+bt_table02.put(List.of(0, true, true, 629, 11206, false));
+bt_table02.get(0);
+bt_table02.put(List.of(30, true, true, 0, 0, false));
+bt_table02.put(List.of(333, false, true, 103, 5261, false));
+bt_table02.put(List.of(16, true, true, 0, 2135, true));
+bt_table02.put(List.of(64, false, true, 198, 11398, false));
+bt_table02.put(List.of(6, true, true, 11, 24, true));
+bt_table02.put(List.of(1740, false, false, 1599, 74, false));
+bt_table02.put(Arrays.asList(57762, null, false, 337, 2, false));
+bt_table02.put(Arrays.asList(16, null, false, 0, 12, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, false, 0, 229560, false));
+bt_table02.put(List.of(2611, true, true, 8761, 0, false));
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.put(List.of(0, false, true, 0, 380, true));
+bt_table02.remove(4521);
+bt_table02.put(List.of(8303, false, true, 48, 0, true));
+bt_table02.put(List.of(0, true, true, 0, 0, true));
+bt_table02.get(0);
+bt_table02.put(List.of(0, false, true, 0, 2, true));
+bt_table02.remove(3778);
+bt_table02.put(List.of(0, true, true, 212195, 69, false));
+bt_table02.put(List.of(684, true, false, 0, 20, false));
+bt_table02.put(List.of(0, true, true, 0, 31, true));
+bt_table02.put(List.of(2494, false, true, 0, 78868, true));
+bt_table02.remove(31879);
+bt_table02.put(List.of(0, false, false, 0, 0, false));
+bt_table02.put(List.of(0, true, false, 0, 13, false));
+bt_table02.remove(559);
+bt_table02.put(List.of(4484, true, false, 1700, 0, true));
+bt_table02.put(List.of(420, false, false, 12, 0, false));
+bt_table02.put(List.of(154, false, false, 0, 0, true));
+bt_table02.put(List.of(29, false, false, 0, 2638, false));
+bt_table02.put(List.of(2500, true, false, 0, 8121, false));
+bt_table02.remove(23290);
+bt_table02.get(1);
+bt_table02.put(List.of(0, true, true, 0, 0, false));
+bt_table02.get(3);
+bt_table02.remove(2);
+bt_table02.put(List.of(5453, true, true, 1, 4, false));
+bt_table02.put(List.of(8, true, false, 0, 47, true));
+bt_table02.get(0);
+bt_table02.remove(686);
+bt_table02.remove(205712);
+bt_table02.remove(0);
+bt_table02.put(List.of(1157, false, true, 0, 3, false));
+bt_table02.put(List.of(0, false, false, 0, 25, false));
+bt_table02.remove(835);
+bt_table02.remove(0);
+bt_table02.get(1);
+bt_table02.put(List.of(59, true, true, 0, 372, true));
+bt_table02.put(List.of(0, true, false, 5, 0, false));
+bt_table02.put(List.of(1743, false, true, 603, 0, false));
+bt_table02.get(50863);
+bt_table02.put(List.of(0, true, true, 4377, 1896, false));
+bt_table02.put(List.of(2989, false, false, 0, 0, true));
+bt_table02.remove(488);
+bt_table02.put(List.of(3, true, false, 0, 1, false));
+bt_table02.put(List.of(582, true, false, 12, 0, true));
+bt_table02.remove(1406);
+bt_table02.remove(4);
+bt_table02.put(List.of(506, true, false, 1, 0, false));
+bt_table02.put(List.of(0, false, true, 60, 330, true));
+bt_table02.remove(2233);
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, true, 0, 6, false));
+bt_table02.put(Arrays.asList(153, null, false, 0, 172268, true));
+bt_table02.put(List.of(184, false, false, 0, 2, false));
+bt_table02.put(List.of(18, false, false, 42, 0, false));
+bt_table02.get(81);
+bt_table02.put(List.of(6, false, false, 19, 0, false));
+bt_table02.put(List.of(96, true, false, 0, 0, true));
+bt_table02.remove(258);
+bt_table02.remove(0);
+bt_table02.put(List.of(2628, true, false, 0, 0, false));
+bt_table02.put(List.of(0, true, true, 0, 1612, false));
+bt_table02.put(Arrays.asList(2225, true, false, 1, 17, null));
+bt_table02.put(List.of(0, true, true, 0, 5826, false));
+bt_table02.put(List.of(2212, true, true, 3, 0, true));
+bt_table02.put(List.of(275, false, true, 13670, 39, true));
+bt_table02.put(List.of(3790, false, true, 303, 0, false));
+bt_table02.put(List.of(0, false, true, 5, 30, false));
+bt_table02.put(List.of(4630, false, false, 3046, 18, true));
+bt_table02.put(List.of(199, true, true, 2, 14, true));
+bt_table02.put(List.of(0, false, true, 0, 5164, true));
+bt_table02.put(Arrays.asList(0, false, null, 14, 20372, true));
+bt_table02.get(0);
+bt_table02.put(List.of(2528, false, false, 0, 0, true));
+bt_table02.get(173);
+bt_table02.put(List.of(3, true, false, 79, 0, true));
+bt_table02.remove(149230);
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.put(List.of(1, true, false, 23, 1393, true));
+bt_table02.remove(0);
+bt_table02.remove(0);
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, true, 0, 1, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, true, 57, 0, true));
+bt_table02.put(List.of(5156, false, false, 25842, 8, false));
+bt_table02.put(List.of(0, true, false, 156, 0, false));
+bt_table02.put(List.of(1171, false, false, 47421, 10, false));
+bt_table02.remove(10);
+bt_table02.put(List.of(0, true, true, 0, 363, false));
+bt_table02.remove(0);
+bt_table02.remove(183);
+bt_table02.put(List.of(276213, false, true, 7, 57, true));
+bt_table02.remove(2625);
+bt_table02.remove(5002);
+bt_table02.put(List.of(4, true, false, 5865, 118, true));
+bt_table02.put(List.of(0, true, false, 177, 33, true));
+bt_table02.put(List.of(0, false, true, 0, 45742, false));
+bt_table02.get(29);
+bt_table02.put(List.of(0, false, false, 0, 3, true));
+bt_table02.put(List.of(0, false, true, 22, 0, false));
+bt_table02.put(List.of(3, true, true, 1004, 497, true));
+bt_table02.put(List.of(0, false, true, 5, 3469, true));
+bt_table02.remove(4);
+bt_table02.put(List.of(25143, false, false, 1907, 0, true));
+bt_table02.put(List.of(455922, false, true, 0, 0, true));
+bt_table02.put(List.of(2, false, false, 0, 8, false));
+bt_table02.put(List.of(7114, true, false, 0, 0, true));
+bt_table02.put(List.of(45, false, false, 110, 2, true));
+bt_table02.put(List.of(0, false, true, 54, 9654, true));
+bt_table02.put(List.of(17, true, false, 0, 0, true));
+bt_table02.get(0);
+bt_table02.put(List.of(0, false, false, 0, 0, true));
+bt_table02.put(List.of(166, true, true, 0, 0, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(11557, true, false, 0, 120, false));
+bt_table02.put(List.of(18640, true, true, 0, 0, false));
+bt_table02.get(16);
+bt_table02.put(List.of(2, false, false, 0, 27, true));
+bt_table02.put(List.of(14939, true, true, 0, 7227, false));
+bt_table02.put(List.of(0, true, true, 28, 223, true));
+bt_table02.remove(0);
+bt_table02.remove(0);
+bt_table02.get(2207);
+bt_table02.put(List.of(12, false, false, 0, 0, true));
+bt_table02.put(Arrays.asList(10, false, null, 201, 0, false));
+bt_table02.put(List.of(1, false, false, 0, 4, false));
+bt_table02.put(Arrays.asList(0, false, null, 0, 4016, false));
+bt_table02.put(List.of(0, true, true, 1244, 0, false));
+bt_table02.put(List.of(0, true, false, 0, 0, true));
+bt_table02.put(List.of(0, false, true, 0, 589, true));
+bt_table02.remove(0);
+bt_table02.put(Arrays.asList(null, true, false, 2, 0, false));
+bt_table02.put(List.of(0, false, false, 0, 323435, false));
+bt_table02.put(List.of(5007, true, true, 754, 1665, false));
+bt_table02.put(List.of(0, true, true, 31, 1085, false));
+bt_table02.put(List.of(1, true, false, 0, 0, true));
+bt_table02.put(Arrays.asList(0, false, false, 4836, 3, null));
+bt_table02.remove(14117);
+bt_table02.put(List.of(0, false, true, 0, 25, false));
+bt_table02.put(List.of(77, false, true, 0, 333, false));
+bt_table02.remove(1);
+bt_table02.put(List.of(9, false, true, 163, 123530, false));
+bt_table02.put(List.of(10, true, true, 0, 618, false));
+bt_table02.put(List.of(2, false, true, 3, 0, false));
+bt_table02.remove(45742);
+bt_table02.put(List.of(20, true, false, 0, 0, false));
+bt_table02.put(List.of(3, true, false, 0, 2, false));
+bt_table02.put(List.of(42, true, false, 6, 0, true));
+bt_table02.get(0);
+bt_table02.get(0);
+bt_table02.remove(0);
+bt_table02.put(Arrays.asList(0, true, false, 2, 0, null));
+bt_table02.put(Arrays.asList(13, null, false, 0, 661, false));
+bt_table02.put(List.of(314, false, true, 5401, 31, false));
+bt_table02.remove(1069);
+bt_table02.put(List.of(4, true, false, 390083, 0, false));
+bt_table02.put(List.of(0, true, false, 5, 0, false));
+bt_table02.put(List.of(16, true, true, 3988, 0, true));
+bt_table02.put(List.of(0, false, false, 5, 21, false));
+bt_table02.put(List.of(91, false, true, 5, 0, true));
+bt_table02.put(List.of(183, false, true, 2, 15, false));
+bt_table02.put(List.of(0, false, false, 103892, 65938, false));
+bt_table02.put(List.of(267, false, false, 9, 84, true));
+bt_table02.put(List.of(0, true, false, 0, 0, true));
+bt_table02.put(List.of(30285, false, true, 0, 12, true));
+bt_table02.put(List.of(736, false, true, 423, 394802, true));
+bt_table02.put(List.of(93, false, true, 99008, 548, false));
+bt_table02.put(List.of(16, false, true, 0, 0, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(100, true, true, 91, 0, false));
+bt_table02.put(List.of(0, true, true, 2, 191, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(11, false, false, 0, 1, false));
+bt_table02.put(List.of(54, true, false, 6, 0, true));
+bt_table02.put(List.of(0, true, false, 306, 35, true));
+bt_table02.put(List.of(3821, true, false, 232, 0, false));
+bt_table02.put(List.of(470, true, false, 5994, 30702, false));
+bt_table02.remove(4153);
+bt_table02.put(List.of(0, true, false, 0, 0, true));
+bt_table02.put(List.of(0, true, false, 0, 7, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(490, false, false, 6920, 3368, false));
+bt_table02.put(List.of(7178, false, true, 0, 0, false));
+bt_table02.get(17);
+bt_table02.put(List.of(4675, false, false, 12, 540, false));
+bt_table02.put(List.of(31, true, true, 2, 0, true));
+bt_table02.put(List.of(12562, false, true, 0, 1, false));
+bt_table02.put(List.of(0, false, true, 203, 15, false));
+bt_table02.put(List.of(0, false, true, 70, 12133, false));
+bt_table02.put(List.of(0, true, false, 112, 0, true));
+bt_table02.put(List.of(807, true, false, 51, 149, true));
+bt_table02.put(List.of(1, true, true, 3, 0, true));
+bt_table02.put(List.of(0, false, false, 5, 0, true));
+bt_table02.put(List.of(0, false, true, 143, 25, true));
+bt_table02.put(List.of(0, true, false, 33, 0, true));
+bt_table02.put(List.of(0, true, true, 86792, 0, false));
+bt_table02.put(List.of(1314, true, true, 585, 1, false));
+bt_table02.put(List.of(0, false, false, 0, 2, true));
+bt_table02.put(List.of(0, true, false, 1, 364, false));
+bt_table02.put(List.of(0, true, true, 0, 0, false));
+bt_table02.put(Arrays.asList(null, true, true, 0, 12774, true));
+bt_table02.put(List.of(0, false, false, 0, 0, false));
+bt_table02.put(List.of(526, true, false, 0, 176, false));
+bt_table02.put(List.of(0, false, true, 0, 4, true));
+bt_table02.put(List.of(0, true, false, 82, 0, false));
+bt_table02.put(List.of(303, true, true, 0, 19, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, false, 44366, 230, false));
+bt_table02.remove(8423);
+bt_table02.remove(953);
+bt_table02.put(List.of(0, true, false, 450, 5308, false));
+bt_table02.put(List.of(0, false, false, 0, 1, true));
+bt_table02.put(List.of(1, true, true, 104, 114, false));
+bt_table02.put(List.of(100, false, false, 0, 0, false));
+bt_table02.put(List.of(3, false, true, 7487, 0, true));
+bt_table02.put(List.of(1, true, true, 2060, 0, false));
+bt_table02.put(List.of(168, false, false, 27, 2, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(104, true, true, 0, 32, false));
+bt_table02.put(Arrays.asList(0, null, false, 19896, 71, true));
+bt_table02.put(List.of(0, false, false, 7, 162, true));
+bt_table02.remove(683);
+bt_table02.put(List.of(40, true, true, 39, 0, false));
+bt_table02.put(List.of(229, false, false, 0, 7, false));
+bt_table02.get(20880);
+bt_table02.put(List.of(122, false, false, 734, 23, true));
+bt_table02.put(List.of(97, false, false, 1, 0, false));
+bt_table02.remove(7);
+bt_table02.put(List.of(30, false, false, 0, 0, false));
+bt_table02.put(List.of(26, true, true, 0, 933, false));
+bt_table02.put(List.of(0, false, true, 0, 0, true));
+bt_table02.put(List.of(768, true, true, 2609, 0, true));
+bt_table02.put(List.of(18624, false, false, 0, 514, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(1012, false, true, 1, 77, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, true, 0, 2, false));
+bt_table02.put(List.of(20, false, false, 167, 12288, true));
+bt_table02.put(List.of(0, false, true, 0, 0, false));
+bt_table02.put(List.of(5513, true, true, 29846, 0, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(47, false, false, 1373, 0, true));
+bt_table02.put(List.of(12182, true, true, 4, 38, false));
+bt_table02.get(0);
+bt_table02.put(List.of(0, false, false, 1, 0, true));
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.put(List.of(83, true, false, 18, 0, false));
+bt_table02.put(List.of(0, true, false, 2485, 0, true));
+bt_table02.remove(7);
+bt_table02.remove(0);
+bt_table02.remove(1240);
+bt_table02.put(List.of(0, true, true, 2, 172983, true));
+bt_table02.put(List.of(0, false, false, 26, 0, true));
+bt_table02.put(List.of(1792, false, false, 78, 68, true));
+bt_table02.put(List.of(532, false, true, 5180, 20796, false));
+bt_table02.put(List.of(168, false, false, 28, 9, false));
+bt_table02.put(List.of(255, false, true, 0, 0, true));
+bt_table02.put(List.of(0, false, true, 0, 0, false));
+bt_table02.put(List.of(0, true, false, 0, 694, true));
+bt_table02.put(List.of(12, true, true, 1130, 163, false));
+bt_table02.put(List.of(1395, true, false, 0, 0, true));
+bt_table02.remove(176);
+bt_table02.remove(1);
+bt_table02.put(List.of(64, false, true, 0, 0, true));
+bt_table02.put(List.of(7, true, false, 0, 0, false));
+bt_table02.put(List.of(0, true, true, 0, 0, false));
+bt_table02.put(List.of(0, false, true, 0, 0, true));
+bt_table02.put(List.of(0, false, true, 24243, 3, true));
+bt_table02.remove(305);
+bt_table02.remove(0);
+bt_table02.get(21603);
+bt_table02.put(List.of(392, true, true, 0, 0, true));
+bt_table02.put(List.of(0, true, false, 0, 30, false));
+bt_table02.put(List.of(6414, true, true, 0, 104, false));
+bt_table02.put(List.of(0, false, false, 4, 58530, false));
+bt_table02.put(List.of(0, true, true, 0, 117, false));
+bt_table02.put(List.of(0, true, false, 15, 0, false));
+bt_table02.put(List.of(0, false, true, 447, 0, true));
+bt_table02.put(List.of(0, true, true, 0, 554, false));
+bt_table02.put(List.of(0, false, false, 131, 6, true));
+bt_table02.put(List.of(4635, false, false, 0, 0, true));
+bt_table02.put(List.of(0, false, false, 0, 0, false));
+bt_table02.remove(2);
+bt_table02.get(0);
+bt_table02.put(List.of(0, false, true, 227, 4099, false));
+bt_table02.put(List.of(4, true, true, 0, 0, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.remove(13);
+bt_table02.put(List.of(22191, true, true, 0, 0, false));
+bt_table02.put(List.of(120, false, false, 218, 39, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, false, 0, 73, true));
+bt_table02.put(List.of(4, true, false, 0, 7768, true));
+bt_table02.remove(3729);
+bt_table02.put(List.of(0, false, false, 2866, 0, false));
+bt_table02.put(List.of(0, false, true, 4, 0, false));
+bt_table02.put(List.of(0, false, false, 0, 5, true));
+bt_table02.remove(362);
+bt_table02.remove(997);
+bt_table02.put(List.of(0, false, false, 0, 1, false));
+bt_table02.put(List.of(10662, true, true, 251, 0, false));
+bt_table02.put(List.of(0, false, false, 979, 0, false));
+bt_table02.put(List.of(0, true, false, 0, 103, true));
+bt_table02.put(List.of(0, true, true, 8, 0, false));
+bt_table02.put(List.of(0, true, true, 0, 683, true));
+bt_table02.put(List.of(9216, true, true, 0, 0, false));
+bt_table02.put(List.of(2198, true, false, 3, 0, false));
+bt_table02.get(0);
+bt_table02.remove(0);
+bt_table02.put(List.of(479, false, false, 10, 0, false));
+bt_table02.put(Arrays.asList(15765, null, true, 837, 5835, false));
+bt_table02.put(List.of(3, false, true, 0, 0, true));
+bt_table02.put(List.of(3436, false, true, 0, 450, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(158, false, true, 0, 42, false));
+bt_table02.put(List.of(0, false, false, 0, 30, true));
+bt_table02.put(List.of(0, false, false, 101, 3138, true));
+bt_table02.put(List.of(181, false, false, 0, 7, true));
+bt_table02.get(2270);
+bt_table02.put(List.of(0, true, true, 185992, 13, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, false, 0, 3342, true));
+bt_table02.remove(354);
+bt_table02.put(List.of(0, false, true, 12572, 0, true));
+bt_table02.put(List.of(4771, false, true, 1, 0, true));
+bt_table02.get(0);
+bt_table02.get(58386);
+bt_table02.put(List.of(435, false, true, 0, 0, false));
+bt_table02.put(Arrays.asList(null, true, false, 2477, 0, false));
+bt_table02.put(List.of(116, true, true, 1, 1871, true));
+bt_table02.put(List.of(0, true, true, 272, 0, true));
+bt_table02.get(755);
+bt_table02.put(List.of(1, true, true, 2340, 5, true));
+bt_table02.put(List.of(4053, false, false, 22, 0, false));
+bt_table02.get(0);
+bt_table02.put(List.of(0, true, false, 0, 70, true));
+bt_table02.put(List.of(0, false, true, 0, 0, false));
+bt_table02.remove(129785);
+bt_table02.remove(23);
+bt_table02.remove(150);
+bt_table02.remove(0);
+bt_table02.remove(0);
+bt_table02.get(0);
+bt_table02.put(List.of(4, true, true, 1176, 2, false));
+bt_table02.put(List.of(0, false, false, 7, 1171, false));
+bt_table02.get(1);
+bt_table02.remove(44216);
+bt_table02.put(List.of(0, false, true, 1249, 17, true));
+bt_table02.put(List.of(954, false, true, 1443, 0, true));
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.put(List.of(0, false, true, 0, 585, false));
+bt_table02.put(List.of(509, true, false, 0, 2, true));
+bt_table02.get(0);
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, true, 0, 0, true));
+bt_table02.put(List.of(4403, true, true, 387, 0, true));
+bt_table02.remove(1519);
+bt_table02.put(Arrays.asList(0, null, false, 252, 2878, false));
+bt_table02.put(List.of(0, true, true, 0, 64, false));
+bt_table02.put(List.of(1, false, true, 2, 4, false));
+bt_table02.put(List.of(371, true, true, 3, 231696, true));
+bt_table02.put(Arrays.asList(null, true, true, 471, 0, true));
+bt_table02.put(List.of(0, true, false, 209968, 0, false));
+bt_table02.put(List.of(0, false, false, 1, 7837, true));
+bt_table02.put(List.of(91163, true, true, 1113, 5981, false));
+bt_table02.put(Arrays.asList(8, null, true, 5, 0, true));
+bt_table02.put(List.of(0, false, false, 0, 2, false));
+bt_table02.put(List.of(233, true, true, 0, 1246783, true));
+bt_table02.put(List.of(0, false, true, 0, 893, true));
+bt_table02.put(List.of(0, false, true, 0, 2, true));
+bt_table02.put(List.of(4656, false, false, 1478, 17281, false));
+bt_table02.put(List.of(168, false, false, 0, 7644, false));
+bt_table02.put(List.of(144, false, false, 3903, 227, false));
+bt_table02.put(List.of(0, false, false, 1, 0, true));
+bt_table02.put(List.of(21, false, false, 573, 305, true));
+bt_table02.put(List.of(560, false, true, 214, 11, true));
+bt_table02.put(List.of(0, true, true, 547, 32, true));
+bt_table02.remove(0);
+bt_table02.get(0);
+bt_table02.remove(219);
+bt_table02.put(List.of(0, true, false, 49, 921, false));
+bt_table02.get(0);
+bt_table02.put(List.of(0, false, true, 55384, 8, false));
+bt_table02.put(List.of(0, false, true, 0, 229, false));
+bt_table02.get(0);
+bt_table02.put(List.of(656, false, true, 0, 16, true));
+bt_table02.put(List.of(219, true, false, 1079, 109, false));
+bt_table02.put(List.of(10, true, true, 16, 0, false));
+bt_table02.put(List.of(20235, false, false, 0, 5, false));
+bt_table02.get(3430);
+bt_table02.put(List.of(0, false, true, 43283, 113, true));
+bt_table02.remove(1308);
+bt_table02.put(List.of(258, false, false, 0, 0, false));
+bt_table02.put(List.of(83, true, false, 504, 152, false));
+bt_table02.remove(120);
+bt_table02.put(List.of(147, false, false, 50, 120, false));
+bt_table02.put(List.of(287, false, false, 3, 0, false));
+bt_table02.put(List.of(57673, true, true, 0, 0, false));
+bt_table02.get(315);
+bt_table02.put(List.of(1, false, false, 24378, 0, false));
+bt_table02.put(List.of(7777, false, false, 6, 0, true));
+bt_table02.put(List.of(2466, true, false, 0, 9, false));
+bt_table02.put(List.of(0, false, true, 0, 91, true));
+bt_table02.put(List.of(13062, false, true, 0, 0, true));
+bt_table02.put(List.of(0, false, true, 764, 270, false));
+bt_table02.put(List.of(70, false, false, 36, 251042, true));
+bt_table02.put(Arrays.asList(10825, true, null, 5721, 1458, false));
+bt_table02.put(List.of(5, false, true, 4, 0, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(618, false, false, 10403, 0, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, true, 211, 2143, true));
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.put(List.of(16753, false, false, 0, 924, true));
+bt_table02.put(List.of(0, true, true, 35, 0, false));
+bt_table02.get(1);
+bt_table02.remove(35);
+bt_table02.put(List.of(1, true, false, 0, 0, false));
+bt_table02.put(List.of(40, false, true, 132, 0, true));
+bt_table02.put(List.of(98, false, false, 65, 11411, false));
+bt_table02.put(List.of(49, false, true, 22, 1, false));
+bt_table02.put(List.of(20364, false, true, 83, 0, true));
+bt_table02.put(List.of(878, true, true, 1, 110, false));
+bt_table02.put(List.of(1, true, true, 0, 9, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, false, 0, 0, true));
+bt_table02.put(List.of(7, false, true, 2624, 82, false));
+bt_table02.put(List.of(0, false, false, 0, 832, true));
+bt_table02.put(List.of(300, false, false, 0, 0, false));
+bt_table02.put(List.of(0, true, true, 0, 9, false));
+bt_table02.put(List.of(0, false, true, 0, 0, true));
+bt_table02.put(List.of(236, false, false, 71, 73, true));
+bt_table02.get(17628);
+bt_table02.remove(0);
+bt_table02.put(List.of(203, true, false, 12478, 3174, false));
+bt_table02.get(49);
+bt_table02.get(0);
+bt_table02.put(List.of(0, false, true, 6242, 7, false));
+bt_table02.put(List.of(0, false, true, 0, 37, false));
+bt_table02.put(List.of(0, false, false, 0, 15111, false));
+bt_table02.put(List.of(0, true, false, 5250, 141, false));
+bt_table02.put(List.of(0, false, false, 0, 43, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, true, 1003, 5526, false));
+bt_table02.put(List.of(58, false, true, 0, 0, true));
+bt_table02.put(List.of(1, false, true, 0, 148744, true));
+bt_table02.put(List.of(0, false, false, 0, 0, true));
+bt_table02.put(List.of(0, true, true, 0, 7431, true));
+bt_table02.put(List.of(0, false, true, 0, 2, true));
+bt_table02.put(List.of(44119, false, false, 0, 468, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, false, 6, 0, false));
+bt_table02.put(List.of(5236, false, true, 0, 0, false));
+bt_table02.put(List.of(25, true, false, 0, 211, false));
+bt_table02.put(List.of(14, true, true, 20041, 0, false));
+bt_table02.put(List.of(0, false, false, 0, 31, true));
+bt_table02.put(List.of(17, true, false, 262407, 0, true));
+bt_table02.put(List.of(4162, true, true, 0, 1961, false));
+bt_table02.put(List.of(6, true, true, 0, 6, true));
+bt_table02.put(List.of(227, true, false, 0, 0, false));
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.put(List.of(34565, true, false, 0, 4, true));
+bt_table02.remove(325);
+bt_table02.put(List.of(73, true, false, 0, 0, false));
+bt_table02.put(List.of(0, true, true, 4, 0, false));
+bt_table02.put(List.of(0, true, true, 5485, 0, false));
+bt_table02.put(List.of(0, true, false, 137, 0, false));
+bt_table02.put(List.of(8, true, true, 0, 19666, false));
+bt_table02.put(List.of(2207, false, false, 473, 9997, false));
+bt_table02.put(List.of(4180, false, false, 0, 1311, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(3184, false, true, 3042, 0, false));
+bt_table02.remove(25305);
+bt_table02.put(Arrays.asList(5735, true, false, 129, null, true));
+bt_table02.put(Arrays.asList(104, null, true, 0, 0, false));
+bt_table02.get(0);
+bt_table02.remove(16);
+bt_table02.put(List.of(0, false, true, 713, 0, false));
+bt_table02.put(List.of(56451, false, true, 3584, 73, true));
+bt_table02.put(List.of(0, false, false, 17580, 0, false));
+bt_table02.put(List.of(56, false, true, 0, 477, true));
+bt_table02.get(0);
+bt_table02.put(Arrays.asList(0, null, true, 0, 0, true));
+bt_table02.put(List.of(0, false, false, 3573, 3, true));
+bt_table02.put(List.of(0, true, false, 11, 47, false));
+bt_table02.get(6);
+bt_table02.remove(0);
+bt_table02.put(List.of(416, true, true, 0, 0, false));
+bt_table02.remove(183);
+bt_table02.put(List.of(4, true, true, 31, 0, true));
+bt_table02.put(List.of(174, false, true, 0, 216, false));
+bt_table02.put(List.of(0, true, false, 0, 61967, false));
+bt_table02.put(List.of(1, true, true, 0, 0, false));
+bt_table02.get(0);
+bt_table02.put(List.of(873, false, true, 0, 0, false));
+bt_table02.put(List.of(19, true, true, 0, 0, false));
+bt_table02.put(List.of(3558, true, true, 6, 23, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, true, 1891, 18, false));
+bt_table02.remove(8);
+bt_table02.put(List.of(174, true, true, 72, 10596, false));
+bt_table02.put(List.of(67, true, false, 0, 0, true));
+bt_table02.put(List.of(0, false, true, 49, 0, true));
+bt_table02.put(List.of(1, false, false, 1, 29736, true));
+bt_table02.put(List.of(6823, false, true, 29, 1, false));
+bt_table02.put(List.of(0, true, false, 31, 13, true));
+bt_table02.put(List.of(1780, false, false, 24, 4598, false));
+bt_table02.put(List.of(0, true, true, 0, 36, false));
+bt_table02.put(List.of(16, true, true, 6383, 0, false));
+bt_table02.remove(0);
+bt_table02.remove(0);
+bt_table02.remove(3383);
+bt_table02.put(List.of(6661, false, false, 112, 0, false));
+bt_table02.put(List.of(0, false, true, 0, 80, false));
+bt_table02.put(List.of(0, true, false, 2, 0, true));
+bt_table02.put(List.of(0, false, true, 0, 4926, true));
+bt_table02.remove(312);
+bt_table02.remove(0);
+bt_table02.put(List.of(855, true, true, 2, 0, true));
+bt_table02.put(List.of(19238, true, false, 6727, 12426, false));
+bt_table02.get(22);
+bt_table02.remove(1842);
+bt_table02.put(List.of(113, true, true, 0, 2, true));
+bt_table02.put(Arrays.asList(0, false, false, 11, 1, null));
+bt_table02.put(List.of(0, true, true, 0, 9, true));
+bt_table02.put(List.of(0, true, true, 3325, 109661, false));
+bt_table02.get(6759);
+bt_table02.remove(2558);
+bt_table02.remove(3);
+bt_table02.put(List.of(163, true, false, 197, 0, false));
+bt_table02.put(List.of(1, true, false, 650, 0, false));
+bt_table02.put(List.of(7046, true, true, 0, 43, true));
+bt_table02.get(1721);
+bt_table02.put(List.of(0, false, false, 0, 0, true));
+bt_table02.remove(1);
+bt_table02.put(List.of(0, true, true, 3977, 0, false));
+bt_table02.put(List.of(0, false, false, 0, 0, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(263, false, false, 884, 0, true));
+bt_table02.put(List.of(0, false, false, 0, 277, true));
+bt_table02.put(List.of(0, true, false, 778, 0, false));
+bt_table02.put(List.of(68892, false, false, 84832, 1939, true));
+bt_table02.put(List.of(0, false, false, 0, 4, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(4, true, true, 3519, 0, true));
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.put(List.of(0, false, true, 0, 841, false));
+bt_table02.put(List.of(0, false, false, 4327, 0, false));
+bt_table02.get(0);
+bt_table02.remove(0);
+bt_table02.put(List.of(14782, false, false, 0, 0, false));
+bt_table02.put(List.of(798, false, false, 1123, 901, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(92, false, false, 22, 1, false));
+bt_table02.put(List.of(0, false, false, 0, 31, true));
+bt_table02.put(List.of(0, false, true, 0, 0, false));
+bt_table02.put(List.of(1288, true, false, 1, 247, false));
+bt_table02.put(List.of(1382, false, true, 977, 0, true));
+bt_table02.put(List.of(0, true, false, 0, 2, false));
+bt_table02.put(List.of(1066, false, true, 0, 1964, true));
+bt_table02.put(List.of(0, false, false, 14, 22, false));
+bt_table02.put(List.of(780, true, true, 156907, 32, false));
+bt_table02.remove(68);
+bt_table02.put(List.of(734, false, true, 3, 6, true));
+bt_table02.remove(81);
+bt_table02.put(List.of(231, false, true, 0, 0, true));
+bt_table02.put(List.of(10, false, false, 0, 23282, true));
+bt_table02.put(List.of(3207, true, true, 107, 0, false));
+bt_table02.get(5);
+bt_table02.put(List.of(38, true, false, 1150, 0, true));
+bt_table02.put(List.of(0, false, false, 0, 274804, true));
+bt_table02.put(List.of(0, false, true, 596, 1416, false));
+bt_table02.put(List.of(0, true, true, 0, 1712, false));
+bt_table02.put(List.of(18, true, false, 0, 0, true));
+bt_table02.get(355);
+bt_table02.put(List.of(410, false, true, 5292, 0, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, true, 0, 6, false));
+bt_table02.put(List.of(15281, false, false, 1, 391, false));
+bt_table02.put(List.of(178, false, true, 33, 0, false));
+bt_table02.remove(62);
+bt_table02.put(List.of(1071, false, false, 0, 346, true));
+bt_table02.remove(1);
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, true, 357, 2481, true));
+bt_table02.put(List.of(5, true, false, 0, 0, true));
+bt_table02.put(List.of(9, false, false, 0, 0, true));
+bt_table02.remove(1804);
+bt_table02.put(List.of(1, false, true, 461, 46, false));
+bt_table02.remove(11);
+bt_table02.put(List.of(0, true, false, 2311, 0, false));
+bt_table02.remove(0);
+bt_table02.get(39315);
+bt_table02.put(List.of(0, false, true, 264, 14, true));
+bt_table02.put(List.of(4, false, false, 109, 0, true));
+bt_table02.put(List.of(12985, true, true, 0, 1, true));
+bt_table02.remove(0);
+bt_table02.get(0);
+bt_table02.put(List.of(0, true, true, 3933, 12549, true));
+bt_table02.put(List.of(0, true, false, 15254, 72, true));
+bt_table02.put(List.of(48, false, false, 98, 697, true));
+bt_table02.put(List.of(3463, true, true, 0, 0, true));
+bt_table02.remove(0);
+bt_table02.get(0);
+bt_table02.get(0);
+bt_table02.put(List.of(0, false, false, 2, 34, false));
+bt_table02.put(List.of(0, true, false, 66, 17, false));
+bt_table02.put(List.of(2, false, false, 1, 39, true));
+bt_table02.put(List.of(0, false, false, 25, 18, false));
+bt_table02.remove(199);
+bt_table02.put(List.of(0, false, true, 18832, 6327, false));
+bt_table02.get(11);
+bt_table02.put(List.of(0, false, false, 5743, 136, true));
+bt_table02.remove(1714);
+bt_table02.put(List.of(0, true, true, 88, 0, true));
+bt_table02.put(List.of(70, true, true, 0, 13209, false));
+bt_table02.put(List.of(16, true, true, 0, 0, true));
+bt_table02.put(List.of(9, false, true, 16608, 0, false));
+bt_table02.remove(87);
+bt_table02.put(List.of(0, false, false, 0, 15705, false));
+bt_table02.remove(17);
+bt_table02.remove(0);
+bt_table02.put(Arrays.asList(826, true, null, 6, 0, false));
+bt_table02.get(44);
+bt_table02.put(List.of(1741, false, true, 24, 0, false));
+bt_table02.put(List.of(0, false, false, 113, 20, false));
+bt_table02.put(List.of(7, false, true, 42, 65963, false));
+bt_table02.put(List.of(7961, true, false, 147, 0, true));
+bt_table02.remove(3);
+bt_table02.remove(54573);
+bt_table02.remove(0);
+bt_table02.put(List.of(2, true, false, 0, 0, false));
+bt_table02.put(List.of(0, false, true, 44, 65, false));
+bt_table02.get(4230);
+bt_table02.put(List.of(169, true, false, 0, 1, true));
+bt_table02.put(List.of(1435, false, true, 9012, 245, true));
+bt_table02.put(List.of(0, true, false, 8, 0, false));
+bt_table02.put(List.of(0, true, true, 7, 368, false));
+bt_table02.get(3493);
+bt_table02.put(List.of(6, true, true, 0, 0, true));
+bt_table02.get(0);
+bt_table02.put(List.of(4874, true, true, 10, 164, false));
+bt_table02.put(List.of(18775, true, false, 135, 0, false));
+bt_table02.put(List.of(0, false, false, 880, 3, false));
+bt_table02.put(List.of(0, true, false, 314, 0, false));
+bt_table02.put(List.of(533, false, true, 1069, 28740, true));
+bt_table02.put(List.of(3110, false, false, 0, 0, false));
+bt_table02.put(List.of(25, false, false, 13015, 0, true));
+bt_table02.put(List.of(3, false, false, 1, 5449, true));
+bt_table02.put(List.of(104990, true, false, 11224, 0, false));
+bt_table02.put(List.of(0, false, false, 0, 0, true));
+bt_table02.put(List.of(0, false, true, 1, 0, true));
+bt_table02.put(List.of(0, true, false, 3, 1, false));
+bt_table02.put(List.of(666, true, true, 60, 0, false));
+bt_table02.put(List.of(22830, true, false, 0, 2, true));
+bt_table02.remove(82);
+bt_table02.put(List.of(47, false, true, 0, 0, true));
+bt_table02.put(List.of(0, false, true, 17418, 42315, false));
+bt_table02.remove(0);
+bt_table02.remove(0);
+bt_table02.remove(0);
+bt_table02.put(List.of(16, true, false, 28, 15, true));
+bt_table02.remove(229);
+bt_table02.remove(0);
+bt_table02.put(List.of(46, false, true, 0, 0, true));
+bt_table02.put(List.of(84, false, false, 2, 0, true));
+bt_table02.put(List.of(0, true, false, 9, 0, false));
+bt_table02.put(List.of(29646, true, false, 1, 43, false));
+bt_table02.put(List.of(3, false, true, 0, 0, true));
+bt_table02.remove(0);
+bt_table02.put(Arrays.asList(119, true, true, 32, 46, null));
+bt_table02.put(List.of(13, true, true, 883, 91, false));
+bt_table02.remove(6363);
+bt_table02.remove(59);
+bt_table02.put(List.of(0, false, true, 3890, 0, false));
+bt_table02.put(List.of(0, true, false, 498, 0, false));
+bt_table02.remove(796);
+bt_table02.remove(2305);
+bt_table02.get(96664);
+bt_table02.put(List.of(59, false, false, 505, 0, true));
+bt_table02.put(List.of(0, true, false, 0, 1, false));
+bt_table02.remove(18);
+bt_table02.put(List.of(0, true, false, 0, 13, true));
+bt_table02.put(List.of(0, true, false, 2, 0, false));
+bt_table02.remove(93);
+bt_table02.put(List.of(0, false, true, 99079, 373, true));
+bt_table02.put(List.of(0, true, true, 0, 908, true));
+bt_table02.put(List.of(26, false, true, 0, 339, true));
+bt_table02.put(List.of(0, false, false, 0, 0, false));
+bt_table02.put(List.of(5926, false, false, 56, 2, false));
+bt_table02.remove(154);
+bt_table02.remove(1321);
+bt_table02.put(List.of(47, false, true, 0, 719, true));
+bt_table02.put(List.of(514, false, true, 13, 1, true));
+bt_table02.remove(59);
+bt_table02.put(List.of(166, true, false, 5, 1151, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, false, 487, 0, true));
+bt_table02.put(List.of(2, false, true, 445, 138, true));
+bt_table02.put(Arrays.asList(943, false, false, 197, null, false));
+bt_table02.put(List.of(3, false, false, 0, 0, true));
+bt_table02.put(List.of(0, false, false, 0, 0, true));
+bt_table02.put(List.of(0, true, true, 297, 3964, true));
+bt_table02.put(List.of(238, true, true, 177480, 0, false));
+bt_table02.put(List.of(14373, false, true, 0, 15270, false));
+bt_table02.put(List.of(141, false, true, 0, 1, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(8366, true, true, 461, 1, true));
+bt_table02.remove(2311);
+bt_table02.get(734);
+bt_table02.put(List.of(2953, false, true, 0, 0, true));
+bt_table02.put(List.of(4, true, false, 10975, 0, true));
+bt_table02.put(List.of(0, true, true, 0, 0, true));
+bt_table02.put(List.of(0, true, true, 0, 0, false));
+bt_table02.put(List.of(16, true, false, 45, 0, true));
+bt_table02.put(List.of(0, true, true, 0, 6, true));
+bt_table02.remove(4713);
+bt_table02.put(List.of(23, true, true, 1, 983, true));
+bt_table02.put(List.of(0, true, false, 2, 0, true));
+bt_table02.put(List.of(259, false, false, 0, 0, false));
+bt_table02.remove(2);
+bt_table02.put(List.of(3, false, false, 0, 14, true));
+bt_table02.put(List.of(908, true, true, 0, 26915, false));
+bt_table02.get(0);
+bt_table02.remove(179);
+bt_table02.put(List.of(20, true, true, 0, 0, false));
+bt_table02.get(0);
+bt_table02.put(List.of(352, false, true, 0, 0, true));
+bt_table02.put(List.of(223, true, true, 20938, 5, true));
+bt_table02.put(List.of(6268, true, false, 0, 0, false));
+bt_table02.get(43);
+bt_table02.put(List.of(3799, true, true, 105, 961, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(1040, false, true, 19, 603, false));
+bt_table02.put(List.of(2, false, true, 0, 887, true));
+bt_table02.put(Arrays.asList(1, null, true, 4565, 87492, true));
+bt_table02.put(List.of(49, true, false, 0, 0, false));
+bt_table02.put(List.of(0, false, false, 0, 12279, false));
+bt_table02.remove(30);
+bt_table02.get(0);
+bt_table02.put(List.of(4, false, false, 372, 0, true));
+bt_table02.remove(75120);
+bt_table02.remove(582);
+bt_table02.put(List.of(3094, false, true, 10, 0, false));
+bt_table02.put(List.of(0, true, true, 68, 38, true));
+bt_table02.remove(99);
+bt_table02.put(List.of(0, true, true, 0, 0, false));
+bt_table02.remove(186);
+bt_table02.put(Arrays.asList(null, true, true, 2, 0, false));
+bt_table02.put(List.of(0, false, true, 27049, 1, false));
+bt_table02.remove(39);
+bt_table02.put(List.of(0, false, false, 0, 2522, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, true, 0, 0, false));
+bt_table02.put(List.of(493, false, true, 5, 0, false));
+bt_table02.remove(2);
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.put(List.of(45, false, false, 0, 30, true));
+bt_table02.put(List.of(5, true, false, 43, 0, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, false, 0, 0, true));
+bt_table02.put(List.of(0, false, false, 22, 0, false));
+bt_table02.put(List.of(16, false, true, 24, 1200, true));
+bt_table02.get(5);
+bt_table02.put(List.of(0, true, true, 2590, 0, true));
+bt_table02.get(831);
+bt_table02.put(List.of(105, false, true, 691, 46, true));
+bt_table02.get(0);
+bt_table02.put(List.of(0, true, false, 6051, 1, false));
+bt_table02.remove(0);
+bt_table02.remove(13);
+bt_table02.put(List.of(0, true, false, 0, 30788, true));
+bt_table02.put(List.of(0, true, false, 3, 94, true));
+bt_table02.put(List.of(0, false, true, 0, 0, true));
+bt_table02.remove(167);
+bt_table02.put(List.of(0, true, false, 17373, 0, false));
+bt_table02.put(List.of(0, true, false, 79, 0, true));
+bt_table02.remove(32325);
+bt_table02.put(List.of(0, false, true, 846, 4, true));
+bt_table02.put(List.of(3305, true, false, 0, 0, true));
+bt_table02.put(List.of(0, true, true, 0, 0, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(190, false, true, 106, 1809, true));
+bt_table02.put(List.of(0, true, true, 4, 217, true));
+bt_table02.put(List.of(0, true, false, 2688, 4560, true));
+bt_table02.put(List.of(0, true, false, 1, 222, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(1678, true, true, 55, 159, false));
+bt_table02.get(63);
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, false, 0, 0, true));
+bt_table02.remove(1);
+bt_table02.put(List.of(3726, false, false, 10, 0, true));
+bt_table02.put(List.of(36, false, false, 32453, 1, true));
+bt_table02.put(List.of(5, false, false, 1155, 1, true));
+bt_table02.put(List.of(221, true, false, 14941, 58, true));
+bt_table02.remove(67);
+bt_table02.remove(0);
+bt_table02.put(List.of(0, true, true, 0, 0, false));
+bt_table02.put(List.of(74, false, true, 0, 0, false));
+bt_table02.put(List.of(157, true, true, 2109, 1969, true));
+bt_table02.remove(29243);
+bt_table02.put(List.of(0, true, false, 6714, 30, true));
+bt_table02.put(List.of(25, false, true, 0, 0, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(3896, false, true, 225264, 0, true));
+bt_table02.remove(1653);
+bt_table02.put(List.of(0, true, true, 29, 3, true));
+bt_table02.put(List.of(0, false, true, 0, 740, true));
+bt_table02.put(List.of(126, true, true, 0, 235199, true));
+bt_table02.put(List.of(0, false, true, 1, 0, false));
+bt_table02.put(List.of(93, true, false, 0, 0, false));
+bt_table02.put(List.of(2865, true, false, 0, 0, false));
+bt_table02.put(List.of(5909, true, true, 214, 770, true));
+bt_table02.get(0);
+bt_table02.put(List.of(1, false, false, 0, 0, true));
+bt_table02.remove(337);
+bt_table02.put(List.of(0, true, false, 0, 0, true));
+bt_table02.put(List.of(0, false, true, 17, 78, false));
+bt_table02.put(List.of(0, true, false, 0, 50, false));
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.put(List.of(4784, false, false, 0, 0, true));
+bt_table02.put(List.of(711, false, false, 38008, 0, true));
+bt_table02.put(List.of(101, false, true, 0, 5555, true));
+bt_table02.put(List.of(0, true, false, 1065, 1, true));
+bt_table02.put(List.of(161, true, false, 1, 32, false));
+bt_table02.put(List.of(304, false, false, 5289, 279, true));
+bt_table02.put(List.of(0, false, false, 0, 0, false));
+bt_table02.put(List.of(2811, true, false, 0, 15, false));
+bt_table02.put(List.of(0, false, true, 0, 20, false));
+bt_table02.put(List.of(0, true, false, 2, 0, true));
+bt_table02.get(0);
+bt_table02.remove(0);
+bt_table02.remove(0);
+bt_table02.remove(7);
+bt_table02.get(28);
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(939, false, false, 143, 0, true));
+bt_table02.put(Arrays.asList(null, true, true, 75, 71565, false));
+bt_table02.put(List.of(68224, false, false, 0, 1266, false));
+bt_table02.put(List.of(7014, true, false, 0, 21, false));
+bt_table02.put(List.of(0, false, false, 0, 12846, true));
+bt_table02.remove(9);
+bt_table02.put(List.of(532, true, true, 0, 1732, false));
+bt_table02.put(List.of(0, false, true, 118780, 63, false));
+bt_table02.put(List.of(0, false, true, 0, 48, false));
+bt_table02.remove(0);
+bt_table02.remove(3);
+bt_table02.put(List.of(0, false, false, 0, 18, true));
+bt_table02.put(List.of(448940, false, true, 0, 0, true));
+bt_table02.remove(13122);
+bt_table02.remove(0);
+bt_table02.get(3);
+bt_table02.put(Arrays.asList(null, false, true, 0, 136, true));
+bt_table02.put(List.of(0, false, false, 0, 12, false));
+bt_table02.put(List.of(0, false, true, 80881, 267, false));
+bt_table02.put(List.of(0, false, false, 0, 89342, false));
+bt_table02.put(List.of(0, true, true, 0, 0, false));
+bt_table02.put(List.of(0, false, false, 38, 0, true));
+bt_table02.put(List.of(9, true, true, 0, 5, true));
+bt_table02.put(List.of(3, false, true, 0, 68, true));
+bt_table02.put(List.of(330, true, true, 0, 9, true));
+bt_table02.put(List.of(100, true, false, 113, 38, true));
+bt_table02.put(List.of(0, false, true, 0, 17, false));
+bt_table02.put(List.of(678919, true, false, 47, 2, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(256, false, true, 0, 0, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, true, 0, 222, false));
+bt_table02.remove(0);
+bt_table02.put(List.of(0, false, true, 5483, 9355, true));
+bt_table02.put(List.of(0, false, false, 35, 0, true));
+bt_table02.put(List.of(21, true, false, 17815, 0, true));
+bt_table02.put(List.of(0, true, false, 0, 0, false));
+bt_table02.put(List.of(0, true, true, 27, 0, true));
+bt_table02.remove(437);
+bt_table02.put(List.of(54, false, true, 1, 0, false));
+bt_table02.put(List.of(8754, true, false, 0, 0, true));
+bt_table02.remove(0);
+bt_table02.put(List.of(6, false, false, 0, 2661, false));
+bt_table02.put(List.of(25950, true, false, 32, 0, false));
+bt_table02.remove(0);
+bt_table02.remove(9001);
+bt_table02.put(List.of(0, false, false, 0, 1308, false));
+bt_table02.put(List.of(65, true, true, 5397, 131, false));
+bt_table02.get(0);
+bt_table02.put(List.of(190, false, true, 7, 24, true));
+bt_table02.remove(0);
+bt_table02.remove(180);
+bt_table02.put(List.of(0, true, false, 905, 0, true));
+bt_table02.clear();
@@ -0,0 +1,2003 @@
+// Random Seed: 366011702
+Table bt_table03 = new BPlusTreeTable("bt_table03", List.of("dc3", "e6f", "d256", "a0da", "f2a", "fa94", "a253", "c27", "eff", "c7d2", "b253", "dc6", "e2b", "b431", "db3ae"), List.of("string", "string", "string", "integer", "integer", "integer", "boolean", "boolean", "boolean", "string", "string", "integer", "integer", "boolean", "boolean"), 9);
+bt_table03.getTableName();
+bt_table03.getColumnNames();
+bt_table03.getColumnTypes();
+bt_table03.getPrimaryIndex();
+bt_table03.clear();
+bt_table03.remove("df54");
+bt_table03.remove("a51");
+bt_table03.put(Arrays.asList("b497", "eba", "b9eb", 55, 23921, 0, false, false, true, "e37e", null, 12, 56, false, false));
+bt_table03.put(List.of("f46a", "fd9", "b3c7", 0, 14, 2501, false, false, true, "bdc", "a81b", 289, 14835, true, false));
+bt_table03.put(List.of("f1c0", "ad50", "d59", 156, 0, 180, false, false, false, "bec", "c391", 0, 0, false, false));
+bt_table03.remove("ab07");
+bt_table03.put(List.of("b68", "c142", "e85", 0, 4, 0, false, true, false, "a392", "d46", 6251, 730, true, false));
+bt_table03.remove("c562");
+bt_table03.remove("c76");
+bt_table03.put(List.of("b3c", "b259", "b557", 91, 10, 677, false, false, false, "f04", "aa21", 4, 0, false, false));
+bt_table03.put(List.of("d16", "cdc", "a965a", 0, 21, 3, true, true, true, "fa534", "ee38", 0, 53, true, true));
+bt_table03.put(List.of("a75", "f228", "b3a0", 0, 0, 2, false, false, true, "b6f", "d709", 0, 5924, true, true));
+bt_table03.put(List.of("d22a", "d80c", "b36", 220, 0, 0, true, true, true, "cb74", "cf2a", 0, 0, true, true));
+bt_table03.remove("f41");
+bt_table03.put(Arrays.asList("d9ce", "c66", "fc64", 0, null, 101, true, true, true, "ab2", "bacd", 0, 432, false, true));
+bt_table03.get("fb8");
+bt_table03.put(List.of("bf81", "e82", "e6b", 0, 976, 925, true, false, true, "b99f", "fdd", 3, 66, true, false));
+bt_table03.put(List.of("fa7", "cb73", "d571", 1518, 0, 61, true, false, true, "e8ec", "fd1", 9082, 759, false, true));
+bt_table03.remove("c5b");
+bt_table03.put(List.of("b4f3", "a9e", "ff3b", 421, 0, 129714, true, true, true, "d78", "f55", 0, 296, true, false));
+bt_table03.remove("d53");
+bt_table03.put(List.of("d81d7", "afc9", "d107", 436, 177, 182, true, true, true, "d78f4", "bc03", 558, 0, true, true));
+bt_table03.put(List.of("f6d", "ca8c", "d7b4", 0, 5088, 4, true, false, true, "bda9", "b1de", 0, 0, true, true));
+bt_table03.put(Arrays.asList("b13d", "b3e2", "a86", 0, 0, 20, false, true, null, "a16", "a943", 16, 7, true, false));
+bt_table03.remove("d3cd");
+bt_table03.remove("d54");
+bt_table03.get("f8f");
+bt_table03.put(List.of("e45", "f1d1", "dac", 0, 0, 11859, true, false, false, "e95", "b87", 2505, 7, true, false));
+bt_table03.put(List.of("f3b", "fac", "ab47", 159, 136, 211, false, true, false, "c94", "a0b3", 13, 230, true, true));
+bt_table03.put(List.of("df6e", "bc9", "f99", 0, 22, 29, false, false, true, "edca", "ea7", 4397, 0, true, true));
+bt_table03.put(List.of("cecf", "d93e", "ccf", 51, 637, 260, true, true, true, "ef4", "bb9", 17576, 18, true, false));
+bt_table03.put(List.of("c820", "c4e", "b51", 816, 0, 40, true, false, false, "a5d8", "a367b", 1, 0, true, false));
+bt_table03.put(List.of("b787", "a30d", "d0a", 33, 0, 0, false, true, true, "b5d", "b4cd", 0, 0, false, true));
+bt_table03.put(List.of("f6219", "a93", "a838", 0, 462, 0, true, false, false, "c966", "e0e", 0, 4, false, true));
+bt_table03.put(Arrays.asList("bb6", "a48c", null, 7603, 2, 83, false, false, true, "d75c", "c122", 6, 0, false, true));
+bt_table03.put(List.of("c21", "b2fd", "d39", 0, 37, 109, false, true, false, "dac7", "de23b", 47445, 563, false, true));
+bt_table03.put(List.of("e3c", "e6d4", "f1a", 0, 0, 12, true, false, false, "df487", "af1", 0, 0, true, true));
+bt_table03.put(List.of("f23", "d4d4", "ffe", 0, 2, 5247, true, true, true, "e519", "bdfb", 238495, 3, false, true));
+bt_table03.get("f5c2");
+bt_table03.put(List.of("fa88", "b968", "a96", 0, 0, 2004, true, false, true, "c33", "d444", 1, 311, true, true));
+bt_table03.put(List.of("c1cf", "c65", "ad72", 664, 0, 0, true, true, false, "bfc3", "ebab", 0, 0, false, false));
+bt_table03.remove("b1b3");
+bt_table03.put(List.of("abbb", "a26", "c2b3", 0, 37417, 232, true, false, true, "cd3", "d3dc", 0, 0, true, false));
+bt_table03.put(Arrays.asList("b8bc", "c71", "d2c2a", null, 1447, 11429, true, false, true, "cf0", "e90", 97, 3, true, false));
+bt_table03.remove("b9d");
+bt_table03.put(List.of("d452", "ca09", "c6a", 25515, 0, 0, true, false, true, "dc7", "f88", 0, 0, true, true));
+bt_table03.put(List.of("a69", "e2c", "aa4d", 5, 1, 0, true, true, true, "b921", "d6e", 324, 0, false, true));
+bt_table03.put(List.of("e342", "efb0", "b43", 0, 1853, 0, false, false, false, "f49", "e6d", 3, 41, false, true));
+bt_table03.put(List.of("bf5", "b585c", "eb6", 0, 5, 31, false, false, true, "d8c", "b43e", 166, 55, false, false));
+bt_table03.put(List.of("e119", "a1b", "a59b4", 0, 158, 0, true, false, true, "d647", "de3", 33, 5738, true, false));
+bt_table03.put(List.of("a1c", "fbc", "b30", 127063, 1, 300, true, false, false, "ae95", "f540", 290, 0, false, true));
+bt_table03.put(Arrays.asList("a8b13", "b2a8", "f144", 0, 0, null, true, false, false, "acd2", "f9bd", 6251, 0, true, false));
+bt_table03.put(List.of("f9f3", "d03c", "d2f", 0, 0, 4, false, false, false, "ccf7", "ff3", 54, 2696, false, true));
+bt_table03.put(Arrays.asList(null, "fec1", "dfb", 2848, 1, 0, true, true, false, "c73", "eeb", 63, 0, true, false));
+bt_table03.put(List.of("e44", "ee3e", "ce87", 1175, 7, 96, false, true, false, "a79b", "e460", 0, 6, true, true));
+bt_table03.remove("c3c");
+bt_table03.remove("d01");
+bt_table03.put(List.of("ead8", "f28", "ee16", 1, 1980, 1053, false, true, false, "ed3", "bc9f", 0, 0, false, false));
+bt_table03.get("a2bc");
+bt_table03.put(List.of("e59c", "c414", "cee3", 174, 0, 2, false, false, true, "cde", "ef6", 1079, 0, true, true));
+bt_table03.put(List.of("d4a8", "def4", "b105", 26, 2926, 0, false, true, false, "dc58", "d314", 0, 0, true, true));
+bt_table03.remove("ccd6");
+bt_table03.get("dfc8");
+bt_table03.put(List.of("b715", "dfc", "f71", 34, 0, 16, false, false, true, "b12cc", "aeb3", 264, 2234, true, true));
+bt_table03.put(Arrays.asList("ad7", "ec05", "ce3", 0, 63, 0, null, false, false, "fe2e", "dcb7", 0, 0, false, true));
+bt_table03.put(List.of("c54", "adfc", "c352", 0, 0, 19350, true, false, true, "c67", "a5cf", 172, 75230, false, true));
+bt_table03.put(List.of("b0e", "a4b5", "c0d3", 0, 4, 4577, false, true, true, "bba7", "d628", 0, 0, false, false));
+bt_table03.remove("c0ae");
+bt_table03.remove("bd9");
+bt_table03.put(List.of("fa1", "cf4c", "f515", 64876, 4, 4, true, true, false, "c111", "c7a2", 3, 694, false, false));
+bt_table03.put(List.of("bf63", "d36", "b71", 239, 35, 0, true, true, true, "c29d", "bc0a", 0, 330, false, false));
+bt_table03.put(List.of("b2bb", "b1ac", "e95e", 0, 0, 0, false, true, false, "b26c", "ac77", 54, 983, true, true));
+bt_table03.put(List.of("a87f", "e253", "a312", 0, 9, 8, false, true, true, "d5c6", "b7d1", 132, 0, true, false));
+bt_table03.put(List.of("bddf", "fa8", "eb2", 21048, 36, 0, false, true, true, "c30", "ff22", 0, 82388, true, true));
+bt_table03.remove("ddf");
+bt_table03.put(List.of("e713", "d8b17", "a57a", 7798, 10, 0, false, true, true, "e9b2", "db26", 135, 0, true, false));
+bt_table03.put(List.of("b056", "f72a", "af26", 53, 10322, 102, false, false, false, "d3a", "edb8", 0, 181, false, true));
+bt_table03.remove("d33");
+bt_table03.remove("a3d5");
+bt_table03.put(List.of("af1a", "d5d3", "de6", 0, 0, 0, true, false, true, "d611", "d8d", 0, 899, false, false));
+bt_table03.put(Arrays.asList("a588", "efd", null, 0, 0, 0, false, false, false, "a310", "d089", 2549, 116, false, true));
+bt_table03.remove("cc7d");
+bt_table03.remove("dada");
+bt_table03.put(List.of("bd9e", "e132", "a6a7", 0, 9482, 10786, false, true, true, "e7d0", "b205", 8, 3382, false, true));
+bt_table03.put(List.of("fc6", "e7c8", "f8ec", 168, 169, 1, false, true, true, "edb7", "ddbf", 0, 1168, false, false));
+bt_table03.put(List.of("fab", "d9db", "bb1e", 0, 37, 47, false, false, true, "e7e5", "b0ea", 146, 0, false, true));
+bt_table03.put(List.of("a70", "b6771", "ac9b3", 0, 25, 1868, true, true, true, "ffb", "cf2f0", 0, 0, true, true));
+bt_table03.put(List.of("fda", "f45", "eda4", 90, 57, 10, false, false, true, "d227", "ae2", 67741, 3, false, false));
+bt_table03.put(List.of("d08", "c084", "be6bd", 0, 0, 397, true, true, false, "c79a", "f140", 0, 0, true, false));
+bt_table03.put(List.of("eb0c", "a1bb", "ed35", 24, 752, 826, false, true, false, "aed", "fed", 1, 2, false, true));
+bt_table03.remove("a083");
+bt_table03.remove("a72a");
+bt_table03.put(List.of("da5", "a1b6", "d824f", 79, 166, 0, false, true, false, "f75", "c4c", 0, 1, true, true));
+bt_table03.get("ce14");
+bt_table03.put(List.of("b3e", "d95", "a551", 0, 0, 0, false, false, false, "ac9", "e0589", 356, 1952, true, true));
+bt_table03.put(List.of("b6f2", "c3f5", "a1a7", 0, 4, 0, false, true, true, "fd7", "dbe8", 158, 0, false, false));
+bt_table03.put(List.of("f509", "ccb2", "bd14", 0, 14, 62, true, true, true, "a17d", "e47c", 53, 1, true, true));
+bt_table03.put(List.of("a470", "a4e4", "ce13", 46, 0, 0, false, true, true, "bc5", "d8db", 45, 215, false, true));
+bt_table03.get("a3bb6");
+bt_table03.put(List.of("c92", "abf8", "c423", 0, 93, 28, true, true, true, "c7f9", "be86", 0, 0, false, true));
+bt_table03.get("f8b2");
+bt_table03.get("e618");
+bt_table03.put(Arrays.asList("defd", "afcf", "cdaa", 8615, 51, 2, false, false, true, "ae7c", "e7f", 0, 0, null, true));
+bt_table03.remove("f3d");
+bt_table03.put(List.of("e81", "f082", "e0a", 3, 1, 193, true, false, true, "af78", "e7fa", 2, 0, true, false));
+bt_table03.put(List.of("e428", "b6c", "bb5", 107, 359, 49, false, true, false, "c581", "bf6d", 0, 490, false, false));
+bt_table03.put(List.of("af36", "d2c", "f4e", 0, 0, 0, true, true, false, "f7bde", "c8b3", 0, 0, false, true));
+bt_table03.put(List.of("cab", "adb9", "bcff", 1, 1, 40, true, true, false, "c74a", "c08", 8, 0, false, false));
+bt_table03.put(List.of("b85", "d80f4", "da2", 20, 0, 103, true, false, true, "beb5", "aa0e", 770, 1300, true, false));
+bt_table03.put(List.of("db37", "f745", "a1fd", 0, 23, 0, true, false, false, "a60", "d2369", 21, 0, true, true));
+bt_table03.put(List.of("c83", "c9aa", "efc", 3, 29, 14, false, false, false, "bca3", "f48", 0, 0, true, false));
+bt_table03.put(List.of("e5f2", "c779", "a6b3", 25, 4, 10370, true, true, true, "f1b", "c0d", 2, 0, false, false));
+bt_table03.put(List.of("cc1", "ef55", "c0ad", 5525, 0, 978, true, true, false, "e855", "ad6", 882, 25, false, true));
+bt_table03.put(Arrays.asList("a49cf", "d00c", "fa01", 190, 4830, 0, true, false, false, "b1c1b", "f7b", 168, 0, false, null));
+bt_table03.put(List.of("c28", "e9e3", "e1e6", 0, 17880, 2419, false, false, true, "c667", "e0564", 580, 0, true, true));
+bt_table03.put(List.of("aac2", "b9b9", "ea1c", 0, 0, 12, false, true, false, "c194", "d9ee", 79, 4, false, false));
+bt_table03.put(List.of("c639", "c3e4", "c2d3", 14959, 1, 6, true, true, true, "d724", "b734", 0, 0, true, false));
+bt_table03.remove("b809");
+bt_table03.put(List.of("ea6", "d90", "ffa", 57, 4, 0, false, true, true, "de0b", "af2", 1133, 6, false, true));
+bt_table03.remove("c1e5");
+bt_table03.put(List.of("a0f75", "c7d1", "b2c3", 309, 17, 318, false, false, false, "d17d", "b408", 5615, 0, true, true));
+bt_table03.put(List.of("d4a7", "cb8b", "b16", 0, 0, 0, true, true, false, "daf2", "ce5", 0, 1950, true, false));
+bt_table03.put(List.of("a528", "d2a0", "d41", 167, 93, 1859, false, true, false, "cce2", "b7c", 3, 26218, true, false));
+bt_table03.get("e5f4");
+bt_table03.put(List.of("f4bc", "b9f2", "c56", 25, 0, 0, false, true, true, "a29", "daed", 0, 52, true, false));
+bt_table03.remove("fd7c");
+bt_table03.get("e9e9");
+bt_table03.put(Arrays.asList("a508", "e999", "b600", 19690, 9, 9241, true, false, null, "f8fa", "beed", 0, 0, false, true));
+bt_table03.get("d28");
+bt_table03.put(List.of("e24", "e18c", "d03", 124, 121, 443038, false, true, false, "faad", "d905", 0, 471399, false, false));
+bt_table03.put(List.of("c008", "bbe4", "de4c6", 49, 74307, 0, false, false, false, "bf6b", "c413", 25, 0, true, true));
+bt_table03.put(Arrays.asList(null, "cb36", "c927", 4325, 6, 337, true, true, true, "c11", "a011", 19798, 36020, false, true));
+bt_table03.remove("ee2");
+bt_table03.put(List.of("f8ed", "cc5c3", "ea54", 38086, 898, 0, false, false, true, "f9a4", "cc60", 1, 50, false, false));
+bt_table03.put(List.of("bea", "cbf", "dc38", 0, 852, 0, false, true, true, "e3be", "af2ab", 0, 374, true, false));
+bt_table03.remove("b41b");
+bt_table03.put(List.of("a833", "a7de", "f2da0", 70, 0, 458, true, true, false, "fc83", "f384", 1, 8, true, true));
+bt_table03.put(List.of("f6bc", "beb3", "d889", 425, 481, 22, false, false, false, "bd6f", "c7ad", 5, 6977, true, true));
+bt_table03.put(List.of("d1aa", "c94d", "ced", 693, 2293, 1921, true, false, false, "ec3", "e11f", 84, 106, true, false));
+bt_table03.put(List.of("dae", "ef3", "d5b", 0, 66, 0, false, false, true, "dbec", "ac1", 15, 0, true, false));
+bt_table03.put(List.of("b5f9", "fe3", "ca1", 1264, 3, 7, false, false, true, "e6f9", "d739", 5375, 0, false, false));
+bt_table03.get("e36");
+bt_table03.remove("e48e");
+bt_table03.put(List.of("b5f", "ea99", "eb2d", 0, 0, 0, false, true, true, "a5a4", "ce2d", 0, 76, true, true));
+bt_table03.put(List.of("c75c", "de0f", "f47c", 13479, 1, 49264, false, false, true, "b39", "e89f", 0, 75, false, true));
+bt_table03.put(List.of("b265", "d310", "aa43", 197, 2, 83, true, false, false, "bb6e3", "ed78", 2, 0, false, true));
+bt_table03.put(List.of("da3c", "c72", "a9be", 0, 0, 0, false, false, false, "f74a", "b843", 8, 0, false, true));
+bt_table03.put(Arrays.asList("fe5", "dcd", "c3f8", 0, 0, 0, false, false, null, "f7c2", "dcae", 1, 0, true, false));
+bt_table03.remove("f62");
+bt_table03.put(List.of("a23a", "aba3", "c5ce", 0, 0, 0, true, true, false, "e58d", "df6c", 0, 0, true, false));
+bt_table03.put(List.of("b122", "d56", "f0d", 0, 0, 90, true, true, false, "b5c", "baa2", 0, 557, true, false));
+bt_table03.put(List.of("ccb8", "a73f", "a1a9", 17, 1, 117, true, false, false, "adb8", "efff", 0, 136, true, false));
+bt_table03.remove("c20");
+bt_table03.put(List.of("fdd7", "d7f", "bd6b7", 45, 6, 187854, true, false, true, "ac39", "bde1", 826, 0, false, true));
+bt_table03.put(List.of("b483", "a42f", "c75", 16636, 0, 0, false, false, true, "e18", "f015", 12, 568, false, false));
+bt_table03.put(List.of("c9d", "fd3", "a84aa", 169, 1, 12, true, false, false, "b4b0", "d716", 0, 0, false, true));
+bt_table03.remove("cddb");
+bt_table03.remove("ee5f");
+bt_table03.put(List.of("b2da", "ff08", "c8c", 0, 0, 0, true, true, true, "c96c", "d726", 218, 4058, false, true));
+bt_table03.put(List.of("f0c46", "d06", "cc2", 0, 41, 9807, false, true, false, "a398", "a5d", 128, 0, true, true));
+bt_table03.put(List.of("c52d", "bf69", "cf88", 147, 0, 0, false, false, true, "a78b", "f0f7", 0, 0, true, false));
+bt_table03.put(List.of("eb5b", "b5f75", "b41e", 163, 13383, 1637, true, false, true, "d60", "ac36", 281, 0, true, true));
+bt_table03.put(List.of("cc67", "b9f4", "b165", 0, 0, 30, true, false, false, "abdb", "ade4", 22, 0, false, false));
+bt_table03.put(List.of("bef", "e5d", "b72", 4, 5, 1, false, false, true, "f0ab", "bd40", 88, 4, true, false));
+bt_table03.put(Arrays.asList("c313", "b3ff", null, 0, 0, 2, true, false, false, "ddc", "fd8", 11436, 7, false, false));
+bt_table03.put(Arrays.asList("ba355", null, "abf9", 0, 0, 10439, false, null, true, "c3de", "eb78", 2699, 40, true, true));
+bt_table03.remove("f2fb");
+bt_table03.put(List.of("a6f3", "c519", "ea63", 332, 30, 173, true, true, true, "e987", "d98f", 0, 33554, false, false));
+bt_table03.get("cad19");
+bt_table03.put(List.of("c5f7", "d50d", "dee", 347, 37, 787, true, true, false, "c675", "d0c7", 8363, 0, false, true));
+bt_table03.get("dd6");
+bt_table03.put(Arrays.asList("df773", "d8e", "cde5", 3, null, 0, true, false, false, "e9b3", "a196", null, 3310, true, false));
+bt_table03.remove("b9a4");
+bt_table03.remove("a1b1");
+bt_table03.get("c9be9");
+bt_table03.get("e15");
+bt_table03.put(List.of("b2b", "ba6e", "dca4", 138700, 478, 4, false, false, false, "ac518", "da6e", 0, 0, false, false));
+bt_table03.put(List.of("c024", "c159", "f2ab3", 0, 10156, 0, false, true, true, "b37c", "ef99", 0, 5, false, true));
+bt_table03.put(List.of("b8a", "a279", "cabb", 2, 0, 0, false, false, false, "ec66", "ed13", 0, 0, true, false));
+bt_table03.put(List.of("bde", "afc4", "b4c1", 0, 8, 1559, true, true, true, "c4ee", "cdf", 0, 311, false, true));
+bt_table03.put(List.of("a035", "df2", "bcf6", 8184, 49, 4684, false, true, true, "f201", "ba06", 22, 0, true, true));
+bt_table03.put(List.of("c6ec", "a9d09", "e7b1", 47, 15, 7353, false, true, false, "ff7", "d953", 0, 234, false, true));
+bt_table03.remove("e11");
+bt_table03.put(Arrays.asList("b233", "f71b", "b06a", 7, 0, 9, null, true, true, "a790", "b142", 0, 20, false, false));
+bt_table03.put(List.of("dcdb", "cda5", "d624", 0, 0, 0, false, true, true, "cb7", "ad92", 9, 4, false, false));
+bt_table03.put(List.of("c5d", "b511", "b6b3", 0, 0, 42, false, true, true, "c173", "c0c", 0, 1241, false, false));
+bt_table03.get("bf00");
+bt_table03.put(List.of("f81d", "baeac", "fb3d", 88465, 0, 1, false, false, true, "e4e5", "e102", 102539, 414, false, true));
+bt_table03.put(List.of("f917", "d434", "b3ad", 630, 19149, 0, false, true, false, "e5db", "ea3c", 13144, 47, false, false));
+bt_table03.remove("df6");
+bt_table03.get("dea");
+bt_table03.remove("b32");
+bt_table03.put(List.of("e7aa", "b11", "aec3", 0, 4391, 124, false, false, true, "b369", "adc", 0, 0, false, false));
+bt_table03.put(Arrays.asList("cbde", "b72e", null, 5, 53, null, false, false, false, "a37f", "a386", 0, 0, true, true));
+bt_table03.put(List.of("cf26", "d55b", "b75b", 0, 147, 0, true, false, false, "fb17", "c2b9", 152, 0, true, true));
+bt_table03.remove("daf");
+bt_table03.put(List.of("dabc", "e809", "f3ae", 445, 0, 115, false, false, true, "d89", "b8e6", 7177, 0, true, true));
+bt_table03.put(List.of("d38", "a7c2", "d67", 3, 4, 13243, false, false, true, "a7e39", "ea8c", 307, 70, true, false));
+bt_table03.put(List.of("f4c0", "c692", "b07", 452, 0, 0, true, true, true, "e1c3", "ddc7", 14, 0, true, true));
+bt_table03.put(List.of("c8cf", "cf4f", "d7d", 3, 115, 0, true, true, false, "eebe", "c217", 16131, 0, false, true));
+bt_table03.put(List.of("df89", "acda", "ebe3", 0, 0, 0, false, true, true, "dc93", "d24a", 0, 0, true, false));
+bt_table03.put(List.of("ae26", "c0670", "c627", 39, 669, 0, true, true, true, "b5ab", "b6ff", 0, 0, true, false));
+bt_table03.put(List.of("d5b9", "f884", "e365", 235, 848, 0, true, false, true, "a6ee6", "d2ce", 0, 0, true, true));
+bt_table03.put(List.of("a5f8", "cfa5", "d9c", 10, 0, 0, false, true, true, "a610", "b924", 183, 0, false, true));
+bt_table03.get("b7fe");
+bt_table03.remove("b6e");
+bt_table03.put(List.of("c4f0", "c9b", "b9b2", 0, 142, 288, false, false, false, "c180", "d133", 140, 0, true, false));
+bt_table03.put(List.of("a705", "efd2", "ad0", 0, 916, 0, true, true, true, "b082", "d2ee9", 0, 0, true, false));
+bt_table03.put(List.of("e15d", "fb7", "f873", 0, 14375, 33630, true, true, true, "aa1c", "ba45", 2267, 0, false, false));
+bt_table03.put(Arrays.asList("a8f5", "e3392", "b906", 1, 2936, 73, true, true, false, "fa82", "af7", 0, 235, null, false));
+bt_table03.put(List.of("d14", "a3c", "c361c", 0, 0, 0, true, true, false, "b1f9", "f6b", 0, 6, false, true));
+bt_table03.get("d23");
+bt_table03.remove("d9e");
+bt_table03.put(List.of("b7b", "e7d", "b2c0", 272, 0, 182, false, false, true, "f0d0", "a845", 95, 137, true, true));
+bt_table03.remove("f4ac");
+bt_table03.remove("d5b0");
+bt_table03.remove("a15");
+bt_table03.remove("db2");
+bt_table03.remove("ee17");
+bt_table03.put(List.of("baa03", "ec0", "ca0c", 226, 72, 15, true, false, true, "e21a", "c5a9", 97, 2309, true, true));
+bt_table03.put(List.of("c30c", "f468", "c67d", 0, 90, 2, false, true, false, "e20", "d76", 0, 0, true, false));
+bt_table03.put(List.of("d69a", "a54e", "beb2", 8, 910, 10, true, true, false, "b3078", "cd77", 0, 186, false, true));
+bt_table03.put(List.of("baa7", "f39f", "f60f", 533, 0, 352, true, true, true, "bd91", "fdb", 86, 325, true, true));
+bt_table03.put(List.of("b291", "fe58", "c82", 0, 17, 0, false, true, true, "a7ba", "ccfc", 569, 0, true, false));
+bt_table03.put(List.of("d22f", "f374", "c0ba", 15, 4, 8594, true, false, false, "a7c", "a4ab", 0, 4, false, true));
+bt_table03.put(List.of("e85f", "cb16", "d1b2", 0, 0, 0, true, true, true, "bf0", "c2b", 0, 11388, false, false));
+bt_table03.remove("bf08");
+bt_table03.put(List.of("f1e2", "f852", "d05", 5307, 1, 48, false, false, true, "e34", "d900", 0, 0, true, false));
+bt_table03.put(List.of("e066", "f7c", "a437", 1443, 0, 16, false, true, false, "fde5", "c9c06", 71046, 597, false, true));
+bt_table03.put(List.of("ee82", "c4d", "c689", 0, 2, 0, false, false, true, "b721", "a138", 50347, 0, false, true));
+bt_table03.remove("d1cf");
+bt_table03.put(List.of("d9f3", "b4f7", "a8b6", 0, 21, 4, false, false, true, "be18", "a2a4", 10, 0, false, false));
+bt_table03.put(List.of("edc9", "a402", "a98a5", 0, 0, 74, false, true, false, "b40c", "afee", 1684, 95, false, true));
+bt_table03.put(List.of("a743", "b683", "c720", 467, 0, 0, true, true, false, "a6e2", "f92d", 0, 0, false, false));
+bt_table03.put(Arrays.asList("c1d0", "d259", "d0c", 1, 4859, 4, true, null, false, "b0cb", "fde4", 0, 0, true, true));
+bt_table03.put(List.of("b893", "a744", "e5d4", 0, 756, 0, false, true, false, "a11c", "f89d", 0, 965, false, true));
+bt_table03.put(List.of("af44", "b0d7", "c88", 44882, 7, 489, true, true, true, "b995", "ae39", 28, 3133, false, true));
+bt_table03.put(List.of("a5760", "a915", "e5e99", 8225, 5961, 0, false, false, false, "bc2d", "ccd1", 4, 0, true, true));
+bt_table03.put(List.of("e615", "d24c", "b589", 12, 252, 0, false, true, true, "cf70", "dda", 291, 0, true, false));
+bt_table03.put(List.of("cc8", "b010", "a03a", 4, 14, 0, true, true, true, "bb7a", "fe35", 9986, 0, true, true));
+bt_table03.remove("b691");
+bt_table03.put(Arrays.asList("fa6", "e19", "f0a6f", 851, 0, 0, true, null, true, "a7e6", "f9d", 324691, 881, false, false));
+bt_table03.put(List.of("cac", "d6c4", "fb29", 0, 0, 40, true, false, false, "ec53", "dc9", 0, 14287, true, false));
+bt_table03.get("c04");
+bt_table03.put(List.of("b31", "a90f", "b7520", 0, 0, 0, false, true, true, "dad9", "cf22", 0, 4150, true, false));
+bt_table03.remove("fead");
+bt_table03.put(List.of("cd5c", "b5c4", "b6d7", 0, 0, 1, false, true, false, "a2f0", "b6a0", 903, 62, false, false));
+bt_table03.put(List.of("faa", "d5c", "cefc", 35, 355, 12, true, false, false, "c1d7", "d1d1", 0, 5, false, true));
+bt_table03.put(Arrays.asList("c067", "b038", "d118", 0, 6, 0, true, true, false, "b22", null, 0, 90, true, true));
+bt_table03.put(Arrays.asList("ef29", "c07", "c65e9", 0, 0, 2, true, true, true, "a657", null, 64, 13354, true, true));
+bt_table03.remove("a9c6");
+bt_table03.put(List.of("b2dc", "d983", "ad4", 5, 88, 1, false, false, false, "bde6", "a3cf", 0, 0, true, false));
+bt_table03.put(List.of("a0f", "eb8b", "cbc1", 1, 0, 0, false, false, true, "d899", "f663", 0, 0, true, true));
+bt_table03.get("c42");
+bt_table03.remove("b6d9");
+bt_table03.get("cb81");
+bt_table03.put(List.of("a8a", "c424", "a0fe", 25426, 0, 0, true, true, false, "e294", "e0f", 0, 198, true, true));
+bt_table03.put(Arrays.asList("fa47", "db870", "c874", null, 2168, 12, true, true, true, "b1fe8", "af00", 0, 5, false, false));
+bt_table03.put(List.of("e398", "d30b", "fc86", 0, 666, 0, false, true, true, "d34a", "c145", 0, 4373, false, false));
+bt_table03.put(List.of("a57f", "a67", "c90f", 1032, 0, 11, true, false, false, "cf77", "a31b", 4, 215, false, false));
+bt_table03.put(List.of("e28", "e04b", "f3b1", 3069, 1612, 0, true, false, true, "f33", "c41e", 52866, 54, false, false));
+bt_table03.put(List.of("e108", "d4a", "d621", 0, 5164, 0, true, false, false, "df12", "ba0", 0, 1, false, false));
+bt_table03.remove("f237");
+bt_table03.remove("b1db");
+bt_table03.put(List.of("bb77", "beb4", "c30b", 0, 0, 0, true, true, true, "b268", "d074", 7, 0, true, true));
+bt_table03.put(List.of("c551", "d7cb", "a7d2", 52529, 374221, 0, false, true, false, "b892", "cf63", 32, 0, false, true));
+bt_table03.remove("f84b");
+bt_table03.put(List.of("ac5b", "d315", "f82b", 310, 0, 1, false, true, false, "fe1", "a552e", 3, 0, false, true));
+bt_table03.put(List.of("efbf", "df7", "e7c1", 0, 0, 2, false, true, false, "a54b", "cc38", 9118, 0, false, true));
+bt_table03.put(List.of("ef1f", "af1b", "e32", 0, 27, 62102, true, true, true, "b06e", "bbd", 0, 0, false, false));
+bt_table03.put(List.of("dad6", "d731", "bec0", 0, 355, 0, true, false, true, "f43d", "ad9f", 6, 0, true, false));
+bt_table03.get("b12");
+bt_table03.remove("af3");
+bt_table03.remove("b7be");
+bt_table03.remove("c9c2");
+bt_table03.put(List.of("c8f", "d985", "efa", 0, 2, 9172, true, false, true, "d2bf", "dae6", 103, 2, true, false));
+bt_table03.remove("dcad");
+bt_table03.put(List.of("fd9b", "c6013", "b116", 0, 0, 0, true, false, false, "bb91", "f12", 111, 0, false, false));
+bt_table03.remove("ae74d");
+bt_table03.put(List.of("b14a", "fe59", "a69e", 88, 0, 0, false, true, true, "b28", "c15", 8135, 0, true, false));
+bt_table03.put(List.of("b91", "c4b57", "e43b", 114, 675, 0, false, true, true, "f4b5", "f7d", 1, 0, false, false));
+bt_table03.put(List.of("b1f7", "a76", "a841", 30, 0, 0, true, false, true, "ec8", "f4e7", 0, 32, false, true));
+bt_table03.put(List.of("d50b", "ac8e", "bb11", 744, 1344, 0, true, false, true, "f82", "acd8", 63, 1, true, true));
+bt_table03.remove("bbd3");
+bt_table03.put(Arrays.asList("cadf7", null, "b39e", 0, 5908, 1340, false, false, false, "a7da", "c128", 1119, 2, true, true));
+bt_table03.put(List.of("e1ae", "b2fe", "e5a1", 0, 25, 0, false, false, false, "bf97", "cc49", 530, 0, true, true));
+bt_table03.put(List.of("e018", "e7e", "c5ef", 66, 0, 0, true, true, false, "eb22", "bb94", 0, 254, false, true));
+bt_table03.put(List.of("c590", "a3f3", "cb1d5", 724, 10431, 0, false, false, false, "ac83", "bb75", 0, 0, false, true));
+bt_table03.put(List.of("a48a", "cb3", "d283", 0, 9, 3334, false, true, true, "e534", "c7a9", 0, 0, false, false));
+bt_table03.remove("dca4c");
+bt_table03.put(List.of("e8a5", "d92e", "da1", 2, 1, 0, false, true, false, "a9ff", "dd1e", 0, 19210, false, true));
+bt_table03.put(List.of("b99", "a7a3", "dcf2", 348, 166, 17, true, true, true, "a254", "f2d3", 0, 0, true, true));
+bt_table03.remove("e650");
+bt_table03.remove("bfc6");
+bt_table03.remove("d7e");
+bt_table03.remove("b3e7");
+bt_table03.put(List.of("ae2d", "b780", "c653", 14348, 0, 0, true, true, false, "f3e6", "ec83", 0, 1082, false, false));
+bt_table03.put(Arrays.asList("f598", "a3ef", "a77f4", 530, null, 0, true, false, true, "d86", "ce27", 0, 12036, true, true));
+bt_table03.get("f38");
+bt_table03.put(List.of("ff5c", "f494", "abb", 0, 0, 87, true, true, false, "cf4", "c1fe", 0, 0, true, false));
+bt_table03.put(List.of("c3c8", "b6fd", "f887f", 0, 0, 0, true, false, false, "eb3", "c68c", 0, 30, false, true));
+bt_table03.remove("e552");
+bt_table03.put(List.of("bec7", "dc89", "ed8", 0, 6847, 48, true, true, false, "ff53", "c6b4", 398, 10, true, false));
+bt_table03.put(List.of("a8db", "a225", "b7d2", 3, 4, 0, false, false, false, "e291", "b1fc0", 16, 4, true, false));
+bt_table03.get("c9f0");
+bt_table03.put(List.of("bdef", "d18d", "f052", 465, 5, 0, false, true, false, "ecfb", "a858", 1, 7, false, true));
+bt_table03.remove("d148");
+bt_table03.put(List.of("e9d7", "aca3", "bd9f", 26540, 0, 0, false, false, false, "e2f", "c225", 0, 29, true, true));
+bt_table03.put(List.of("d623", "de8c", "d81", 0, 0, 37, true, false, false, "d4e80", "b3f", 0, 18, true, false));
+bt_table03.remove("dfff");
+bt_table03.put(List.of("fe3c", "f258", "e0d", 461, 48, 0, false, false, true, "d26", "ad86", 17, 38916, false, false));
+bt_table03.put(List.of("eb97", "b2fa", "ef683", 0, 0, 0, false, false, false, "a54", "cd4", 0, 0, true, true));
+bt_table03.put(List.of("ce42", "b048", "ad14", 0, 7, 12, false, false, false, "ac2", "b8db", 0, 0, false, true));
+bt_table03.remove("b83c");
+bt_table03.put(List.of("a5a3", "e55e", "c53c", 0, 26, 0, true, false, false, "e69a", "f18f", 4814, 5, false, true));
+bt_table03.put(List.of("ebae", "ecdc", "c839", 0, 21, 10376, true, false, false, "fe3f", "efd6", 0, 148, true, true));
+bt_table03.put(List.of("c9f", "af71", "bdb4", 0, 0, 0, false, true, false, "eb55", "b960", 0, 0, true, false));
+bt_table03.remove("d935");
+bt_table03.put(List.of("be46", "cec8", "c20a", 8, 0, 3, true, false, true, "a25f", "d0f2", 6, 53257, false, false));
+bt_table03.put(List.of("bc89", "fa76", "a4d16", 1502, 0, 0, false, false, true, "ad6f0", "f5fee", 0, 0, true, false));
+bt_table03.remove("de4");
+bt_table03.remove("b0be");
+bt_table03.put(List.of("a891", "a793", "d1cd9", 2006, 67, 0, false, false, false, "e59", "e9d", 0, 182, true, true));
+bt_table03.put(List.of("adf2", "e405", "c657", 89, 0, 38, true, true, true, "c8a5", "ff6", 14837, 0, false, false));
+bt_table03.remove("faec");
+bt_table03.put(List.of("a399", "a9f3", "b76c", 0, 0, 3023, false, true, true, "fb0", "a791", 2, 52, true, false));
+bt_table03.put(Arrays.asList("b61b", "f7a6", "af0f", 0, null, 212, false, true, true, "ddb3", "fa7c", 840, 278642, true, true));
+bt_table03.remove("af89");
+bt_table03.remove("c007");
+bt_table03.put(List.of("e24f", "c774", "b580", 1, 10, 579, true, false, false, "e86", "d10", 409, 975, false, true));
+bt_table03.put(List.of("ce7c", "b5c1", "b5d0", 1, 0, 0, false, true, true, "df91", "ab8", 0, 1, true, false));
+bt_table03.remove("a9b1");
+bt_table03.put(List.of("d68d", "c1a1", "ac7c", 0, 0, 154, false, true, true, "d17f", "abe4", 0, 0, false, true));
+bt_table03.put(List.of("b0a6", "c5db", "a31e2", 1, 121, 0, true, true, false, "a7d8", "cdb", 57, 0, false, true));
+bt_table03.put(List.of("b855", "b489", "e8436", 2, 616, 1881, true, true, false, "c6c43", "fd1f", 1099, 3, true, true));
+bt_table03.put(Arrays.asList("a55d2", "b034", "aacd", 0, 0, 165, null, false, false, "ec7", "c1b6", 5, 3611, false, false));
+bt_table03.put(List.of("d32", "b9dd", "aef51", 133, 0, 15, false, true, true, "ccdf", "d135", 1211, 1644, false, true));
+bt_table03.put(List.of("e4ec", "af86", "d9b6", 7727, 6670, 4098, false, false, true, "fffa", "f07", 146934, 7, false, true));
+bt_table03.put(List.of("c819", "ee3", "a613", 0, 1511, 0, true, false, false, "e65b", "ffaf", 0, 8, true, true));
+bt_table03.put(List.of("ef09", "c07c", "a68", 2927, 65, 24036, false, true, false, "f74", "bd17", 3311, 825, true, false));
+bt_table03.remove("a30e");
+bt_table03.put(List.of("a560", "c71b", "acd1", 0, 0, 783, false, false, true, "d4d5", "e5a5", 0, 0, false, true));
+bt_table03.put(Arrays.asList("fd97", "dc39", "b8a4", 11, null, 825, false, false, false, "cba", "b01c", 138, 0, true, false));
+bt_table03.put(List.of("e48c0", "b1d5", "aadc", 0, 182, 39, false, true, true, "fc9c", "de7", 0, 2, false, true));
+bt_table03.get("cdb1");
+bt_table03.put(List.of("da64", "abc2", "db85", 0, 3, 116, false, false, false, "b535", "ed2", 4, 9555, false, false));
+bt_table03.remove("f20");
+bt_table03.put(List.of("bee6", "b0a7", "ffb5", 4, 0, 9, true, false, false, "b709", "ea93", 0, 0, false, true));
+bt_table03.put(List.of("ec40", "cc4ac", "c223", 0, 13, 15858, true, false, true, "ccb4", "f655", 7292, 299854, true, false));
+bt_table03.remove("f01");
+bt_table03.get("c656");
+bt_table03.remove("d289");
+bt_table03.remove("a02a");
+bt_table03.put(List.of("b764", "f1d9", "f9dd", 99, 0, 805786, true, false, false, "a55b", "ab4e", 169, 4173, false, true));
+bt_table03.put(List.of("ccbb", "bca7", "bc78", 0, 0, 0, false, false, false, "da26", "cebd", 0, 19, true, false));
+bt_table03.put(List.of("afb1", "f5da", "efb52", 0, 4, 0, false, true, false, "c26c", "db3c", 9448, 0, false, false));
+bt_table03.remove("b01f");
+bt_table03.put(List.of("d3b", "afe7", "cbbd", 2, 0, 51685, true, false, false, "e38d7", "e3f8", 0, 583, false, false));
+bt_table03.put(List.of("a98c", "afca", "df9", 0, 0, 0, true, false, false, "b33", "f98", 1888, 7235, false, true));
+bt_table03.remove("cfa7");
+bt_table03.put(List.of("a8d1", "b3a1", "ead51", 0, 25554, 0, false, true, false, "e484", "c832", 1, 15041, false, true));
+bt_table03.put(List.of("b488", "c226", "b438", 13, 70, 198, false, true, false, "ed65", "c10", 13518, 449, true, false));
+bt_table03.put(List.of("c5b9", "ea3", "e657", 1, 1431, 1, true, false, false, "e3ec", "d3e5", 1, 17223, false, false));
+bt_table03.put(List.of("c632", "bbf6", "c781", 0, 895, 0, true, false, true, "be81", "ed6", 1, 48486, false, false));
+bt_table03.put(List.of("ef28", "c40e", "c485", 0, 0, 0, true, true, true, "bd32", "b3fb", 1, 0, false, true));
+bt_table03.put(List.of("d513", "a7f5", "a670", 31, 0, 0, false, true, true, "edf3", "e9e", 13, 0, true, true));
+bt_table03.put(List.of("b51c", "e2f98", "b06f", 0, 12639, 419, false, true, true, "cec9", "bb7c", 374, 16, true, false));
+bt_table03.put(List.of("f2cba", "c16d", "a38c", 20705, 0, 182, false, false, false, "c640", "a3a6", 0, 0, false, true));
+bt_table03.remove("bbed");
+bt_table03.put(List.of("eb65", "bb16", "fe6", 0, 0, 0, true, true, false, "e1a0", "ae32", 27176, 14, false, false));
+bt_table03.remove("fc68");
+bt_table03.put(List.of("a6a3", "e62f", "a702", 404, 287, 0, false, true, false, "c3d2", "b13c", 95, 212, true, true));
+bt_table03.put(List.of("aec6", "aeed", "c3a0", 0, 7, 3, true, false, false, "edd4", "b0043", 0, 0, true, false));
+bt_table03.put(List.of("df8d", "ce45", "b382", 0, 0, 0, true, true, false, "faa3", "a009", 0, 1, false, true));
+bt_table03.put(List.of("c7e4", "fe03", "c1c8", 0, 18, 3005, true, true, true, "b942", "b8c7c", 534, 290, false, true));
+bt_table03.remove("dc81");
+bt_table03.put(List.of("fcf1", "e1a1", "b58c", 7640, 62116, 10, true, true, false, "cba5", "f636f", 0, 546, true, false));
+bt_table03.put(List.of("d10c", "a012", "e39", 6103, 39, 304, false, true, false, "d35d", "dbbf", 2711, 37913, true, true));
+bt_table03.put(List.of("b8c", "ab41", "d439", 3, 0, 148, false, false, false, "db8", "c23a", 0, 0, true, true));
+bt_table03.remove("cb0a");
+bt_table03.remove("f55b");
+bt_table03.put(List.of("b117b", "b49f", "ee7c", 0, 0, 0, true, true, true, "aaf2", "b7c6", 0, 0, true, false));
+bt_table03.put(List.of("d30a", "c5e", "c18f", 0, 3377, 0, true, false, true, "c18a", "bd72", 165, 203, false, true));
+bt_table03.put(List.of("bac0", "af43", "b8f62", 0, 0, 0, true, true, true, "cdc3", "ab8d", 4770, 31, true, false));
+bt_table03.put(List.of("b7f8", "c82a", "a8d", 0, 0, 0, false, true, false, "ec44", "b4ab", 1677, 0, false, true));
+bt_table03.remove("da51");
+bt_table03.put(Arrays.asList("e016", "ad00", null, 3, 0, 250, false, false, false, "cca1", "b175", 18, 0, false, true));
+bt_table03.put(List.of("e49", "af52", "dec5", 0, 0, 21750, false, false, false, "b0db", "af76", 0, 2, true, false));
+bt_table03.get("bdb0");
+bt_table03.put(List.of("f87b", "b329", "bf22", 637, 56, 0, false, false, true, "ed79", "f532", 0, 16, false, true));
+bt_table03.put(List.of("cc1a", "c421", "ba0e", 0, 0, 0, false, true, false, "b339", "e546", 13, 2, false, false));
+bt_table03.put(List.of("a62f", "bb04", "c6f7", 149, 0, 0, true, true, true, "bd6", "cfa4", 543151, 0, false, false));
+bt_table03.put(Arrays.asList("f552", "c98f", "a08c", 0, 0, 7200, true, false, null, "b3ed", "bffb", 1216, 0, true, true));
+bt_table03.get("d75");
+bt_table03.put(List.of("e0349", "eafb", "de5b", 149, 0, 19, true, false, false, "d40d", "e836", 0, 19, false, true));
+bt_table03.put(List.of("a71bc", "de9", "f1e0", 0, 0, 0, true, false, true, "c7fe", "ae0b", 0, 0, false, true));
+bt_table03.put(List.of("a0d2", "f8c6", "ace5", 14165, 1988, 15, false, true, true, "f6a", "a9ce", 271, 0, false, true));
+bt_table03.put(List.of("f29e", "cbd97", "b188", 29, 2868, 0, true, true, true, "fcd", "e4581", 286, 0, false, true));
+bt_table03.put(List.of("f0ac", "a6fd", "c664", 699, 2, 95, true, true, true, "f058", "c924", 622, 0, true, false));
+bt_table03.put(Arrays.asList("da1a", null, "c9787", 6, 0, 0, false, false, true, "b14b", "ba4a", 32455, 5, false, false));
+bt_table03.put(List.of("a7d5", "ad97e", "ccf5", 3, 1872, 0, false, true, false, "a53", "bcbf", 496, 31, true, true));
+bt_table03.put(List.of("de14", "f475", "e171", 418, 0, 1, false, true, false, "db21", "d0dc", 35, 144, false, true));
+bt_table03.put(List.of("f980", "f52c", "aa99", 55758, 286, 3, true, true, false, "b616", "b308", 0, 0, false, true));
+bt_table03.put(List.of("eb41", "da18", "d62b", 260, 30924, 24677, true, true, true, "a087", "ecf", 39, 20, false, false));
+bt_table03.put(List.of("dea4", "a85c", "a14dc", 15, 0, 0, false, true, false, "e678", "e6ca", 1242, 0, true, false));
+bt_table03.put(List.of("a548", "af77", "cf95", 133, 0, 0, false, false, false, "d4bf1", "c471", 0, 0, true, false));
+bt_table03.remove("bf85");
+bt_table03.put(List.of("e3e72", "cdf8", "a859", 0, 0, 0, true, false, false, "e1b5", "a5c6", 513, 0, false, false));
+bt_table03.put(List.of("ca101", "fc67", "bf01", 2, 5, 5414, false, false, true, "b735", "fe6f", 428, 7116, false, true));
+bt_table03.put(Arrays.asList("b774", "c42a", "a0fb", 2, 87, 11, null, false, true, "caf7", "b396", 73, 160, true, false));
+bt_table03.put(List.of("bc44", "b67", "d0d0", 0, 66, 251, true, true, true, "f88e", "e13", 0, 14, true, true));
+bt_table03.put(Arrays.asList("c048", "d6bc", "bb87", 0, 0, 1, null, false, false, "d913", "c422", 0, 113413, true, true));
+bt_table03.put(Arrays.asList("e3a0", "cf97", "dfe", 0, 13598, 0, true, null, true, "c8c4", "e9fa", 3932, 0, true, false));
+bt_table03.put(List.of("adc2", "d8d9", "a075", 31, 6821, 1818, false, true, false, "fc5", "ab95", 48, 2892, false, false));
+bt_table03.put(List.of("ce0", "c610", "b027", 27462, 0, 0, false, false, true, "dcb4", "ed30", 0, 0, true, true));
+bt_table03.put(List.of("a211", "ef02", "dcd9", 0, 1, 2, true, true, true, "cf6c", "ed48", 44, 1599, false, false));
+bt_table03.put(List.of("b0ad", "d789", "c4b7", 1, 1731, 1143, false, true, false, "a1f8", "ab27", 175, 2322, true, false));
+bt_table03.put(Arrays.asList("cfd9", "ebd9e", "e844", 192, 1051, 0, true, false, false, "cd15", "d7a7", null, 20716, false, false));
+bt_table03.put(List.of("bb00", "b00a", "d061", 0, 632, 3402, false, false, true, "ca7a", "b384", 0, 26827, true, true));
+bt_table03.put(Arrays.asList(null, "d1a45", "b246", 0, 0, 2, false, false, true, "c5b8", "de30", 2154, 0, true, false));
+bt_table03.put(List.of("a85a", "b6f6", "afec", 7, 0, 33, true, true, false, "e36f", "cfa", 0, 10081, false, true));
+bt_table03.remove("a9db");
+bt_table03.put(List.of("e453", "df4", "fe3e", 72, 4568, 0, true, true, false, "e03f3", "d450", 1728, 352, false, false));
+bt_table03.get("bbce");
+bt_table03.put(List.of("f938", "cfb0d", "a7467", 0, 7, 0, true, false, false, "b4da", "e0cb", 4, 20, false, false));
+bt_table03.put(Arrays.asList("d928", "f8d2", "a687", null, 0, 0, false, true, false, "a51a", "ac27", 0, 0, true, false));
+bt_table03.put(List.of("b445", "f08", "cae1d", 1311, 79064, 3101, false, false, false, "fcf7", "d453", 1723, 0, false, true));
+bt_table03.put(List.of("c7c4", "fe2", "f51d", 2, 0, 0, true, false, true, "d58a1", "bb08", 0, 1102, false, true));
+bt_table03.put(List.of("ace0", "a73d", "a21b", 0, 1, 59, true, false, false, "bb5a", "a566", 0, 0, false, false));
+bt_table03.put(List.of("a06", "fcdb", "e31", 751, 0, 23, false, true, true, "eae", "be0b5", 29097, 17, false, true));
+bt_table03.put(List.of("a342", "e764", "d0d9", 2, 45, 0, false, true, true, "a265", "e3e", 0, 245, false, true));
+bt_table03.put(List.of("e597", "e6b8", "ffab4", 769, 0, 1405, false, true, true, "d146", "fcf3", 0, 269, true, true));
+bt_table03.put(List.of("b712", "bebb", "bc0c", 0, 78490, 0, false, true, true, "b59", "ef1", 0, 1669, false, true));
+bt_table03.put(List.of("ba67", "c42e", "b626", 0, 2, 396, false, true, false, "a95d", "b2eb", 10, 0, false, false));
+bt_table03.put(List.of("faef", "bfaa", "c588", 1512, 0, 67120, true, false, true, "bb6e", "bf50", 0, 7, false, true));
+bt_table03.put(List.of("e5d3", "acf3", "c570", 7395, 0, 62, false, false, true, "d07", "a88c", 0, 0, false, false));
+bt_table03.get("f042");
+bt_table03.put(List.of("d895", "e483", "a44f", 0, 577, 6679, false, true, true, "d0b6", "dcb", 1, 3, true, true));
+bt_table03.put(List.of("bbf7", "aa2c", "cfa3", 67040, 5385, 7399, false, true, false, "d110", "dd78", 1327, 14, true, true));
+bt_table03.get("ad4c");
+bt_table03.put(List.of("efcd", "b2b4", "ec96", 1548, 144766, 551, true, false, false, "e5fe", "a6e0", 0, 2, true, false));
+bt_table03.remove("ca60");
+bt_table03.remove("d809");
+bt_table03.put(List.of("e220", "c671", "e2dbd", 0, 16, 49453, false, true, false, "dccd", "ea61", 5731, 0, true, true));
+bt_table03.remove("b693");
+bt_table03.put(List.of("b6591", "e1b7", "e20f", 12, 26, 76, false, false, false, "ff4a", "d52b", 0, 205, false, false));
+bt_table03.put(List.of("a593", "dfa8", "e99b", 0, 0, 400, true, false, true, "f68c", "f79c", 0, 0, false, true));
+bt_table03.remove("d72c");
+bt_table03.put(List.of("b91f", "ecac1", "c541", 0, 167, 0, true, true, false, "af41", "c609", 0, 489540, false, false));
+bt_table03.put(Arrays.asList("c1ba", "b602", "ad56", 0, 0, 13, true, false, true, "fda9", "f90", 0, 556, null, true));
+bt_table03.put(List.of("cfcd", "d717", "dde5", 75242, 2892, 0, false, true, false, "b9d7", "b37b", 5176, 19, false, true));
+bt_table03.remove("f913");
+bt_table03.get("b782");
+bt_table03.put(List.of("f57d5", "de7c7", "c5e8", 0, 1, 2354, false, false, true, "ce2b", "fb10", 0, 83, true, true));
+bt_table03.put(Arrays.asList("b594", "b662", "ec71", 0, null, 2, true, false, true, "e009", "fc3", 70, 0, true, false));
+bt_table03.put(List.of("a0c2", "dc87", "c824", 0, 0, 0, true, true, false, "a888", "a67d", 0, 3, false, false));
+bt_table03.put(List.of("ae66", "ae84", "b1b5", 0, 137, 138, true, true, true, "e157", "c4b0", 0, 58, true, false));
+bt_table03.put(List.of("f420", "b992", "f5c9", 0, 0, 0, false, true, false, "be36", "a59c3", 279, 0, true, true));
+bt_table03.get("dc96");
+bt_table03.put(List.of("fdf3", "b20c", "e8a7", 0, 933, 0, false, true, false, "a90c", "a429", 1151, 6745, false, true));
+bt_table03.put(List.of("db7b", "abaaa", "d1a2", 0, 182, 5, false, false, true, "fb6b", "d549", 1401, 0, false, true));
+bt_table03.put(List.of("d4b1", "c53b", "d381", 110, 315, 347, false, false, true, "aad9", "ed76", 5935, 1, true, false));
+bt_table03.put(List.of("f363", "f0b", "aeb4", 2, 98, 554, true, true, true, "e047", "f72", 47, 0, true, false));
+bt_table03.get("b4f8");
+bt_table03.get("a43a");
+bt_table03.put(Arrays.asList("e67", "df07", "cfa0", 16, 44, null, true, false, true, "deed", null, 39425, 0, false, true));
+bt_table03.put(List.of("e6c27", "cccf", "ac84", 0, 74, 793, true, false, true, "ab3d", "f67b", 347, 0, true, true));
+bt_table03.put(List.of("cde0", "a6233", "fe34", 76, 0, 0, true, true, true, "c175", "e467", 0, 0, true, true));
+bt_table03.put(Arrays.asList("a4b0", "d167", "f541", 0, 0, 0, false, true, false, "f835", null, 0, 0, false, true));
+bt_table03.put(List.of("a345", "b3cf", "bebc", 10274, 0, 0, false, false, false, "b9d9", "c6a7", 0, 0, true, false));
+bt_table03.put(List.of("d17", "fc3a", "a408", 345, 14234, 0, true, false, false, "b4fe", "ab6f", 431, 47, true, false));
+bt_table03.put(List.of("f22d", "c192", "ac72", 23203, 0, 1, false, false, true, "a78e", "f12c", 2, 0, true, false));
+bt_table03.put(List.of("d1a8", "d3aa", "acb", 0, 0, 149, false, true, true, "e852", "bb88", 4953, 0, true, true));
+bt_table03.remove("bd66");
+bt_table03.put(List.of("a654", "fba8", "ce60", 7386, 8, 0, false, false, false, "a3199", "cc45", 7, 0, false, false));
+bt_table03.remove("bdd4");
+bt_table03.put(Arrays.asList("cdd7", null, "b8b5c", 0, 27453, 0, true, true, false, "c7b3", "bae0", 0, 0, true, false));
+bt_table03.put(List.of("edb0", "c1cc", "ba27", 6899, 0, 0, false, false, true, "b453", "c70d", 0, 79159, false, false));
+bt_table03.put(List.of("a721", "cda8", "b03e", 0, 0, 0, false, false, false, "df57", "abe5", 2, 0, false, true));
+bt_table03.remove("d2402");
+bt_table03.put(List.of("baa0", "c13f", "b67e", 0, 0, 0, false, true, true, "d7d9", "f85", 0, 0, false, true));
+bt_table03.put(List.of("abe3", "c3ac", "a977", 6627, 19, 9, true, false, false, "c5fb", "e4dd", 0, 0, false, true));
+bt_table03.put(List.of("b962", "e5e9", "c40f", 0, 1, 230, false, true, false, "cc2d", "f356", 0, 65, true, true));
+bt_table03.put(List.of("da17b", "baf7", "f618", 0, 0, 2567, false, false, true, "cfc2c", "b10f", 90658, 3, true, false));
+bt_table03.put(List.of("b5b", "e0ad", "ed75", 56, 94, 30, false, false, false, "d088", "c0d9", 0, 0, true, false));
+bt_table03.put(List.of("c5ba", "fd93", "ebb4", 0, 15, 0, false, false, true, "c169", "b6ef", 1368, 0, false, false));
+bt_table03.remove("bb29");
+bt_table03.put(List.of("c6ef", "d221", "d07a", 1302, 103, 72, true, true, true, "a884", "ad11", 0, 128, true, false));
+bt_table03.put(List.of("c748", "fc5f", "a5321", 0, 1788902, 28019, false, true, true, "d2e", "bd69", 0, 0, false, true));
+bt_table03.get("f334");
+bt_table03.put(List.of("a810", "f52", "cb6b", 389, 16709, 87, true, false, false, "a958", "cd63", 0, 618, false, true));
+bt_table03.put(List.of("e5edc", "dd56", "e6b1", 261, 0, 1836, true, true, true, "ba89", "f739c", 0, 0, false, true));
+bt_table03.put(List.of("fada", "d94f", "a2cc", 0, 0, 479, true, true, true, "f0b2", "e46e", 3, 0, false, false));
+bt_table03.put(List.of("c7166", "ed4f", "b9a5", 2164, 0, 2, false, true, false, "a4b46", "e238", 0, 6, false, true));
+bt_table03.remove("cc18");
+bt_table03.put(List.of("c587", "a8ad", "ebf6", 0, 321, 0, false, true, true, "db73", "bd45", 32985, 41, true, false));
+bt_table03.remove("e0c9c");
+bt_table03.remove("fd04");
+bt_table03.get("ad74");
+bt_table03.remove("ebb0");
+bt_table03.put(List.of("ad73", "d87e", "a4e9", 2, 24, 0, false, false, true, "cf20", "cd61", 0, 0, true, false));
+bt_table03.put(List.of("a5f4", "a8480", "ae56", 0, 11, 17, true, false, false, "f989", "c31", 0, 61, false, false));
+bt_table03.remove("c7833");
+bt_table03.put(List.of("bbc5", "e333", "e17", 97, 1552, 0, false, false, false, "cef7e", "a9b9", 5, 27, false, true));
+bt_table03.put(List.of("df3f", "e4a7", "f7a1", 5300, 0, 31, false, true, false, "ba6c", "e865", 1, 15, true, false));
+bt_table03.put(List.of("bce4", "a407", "e6883", 16854, 0, 12544, true, true, true, "d6e0", "ba57", 85, 0, true, true));
+bt_table03.put(Arrays.asList(null, "add9", "fef0", 7, 5337, 2886, true, false, null, "aa02", "d3ed", 52849, 33697, true, false));
+bt_table03.put(List.of("c503", "a24f", "d1ea", 0, 1629, 5, false, true, false, "ecf6", "a7c70", 55, 0, false, false));
+bt_table03.put(List.of("f422", "a2dc", "e538", 249633, 0, 316, true, false, false, "ed7", "b092", 1, 167, true, true));
+bt_table03.remove("f287");
+bt_table03.put(List.of("c0a4", "cb35", "ef9", 0, 21, 0, false, true, true, "ac87", "bf46", 74, 46068, false, true));
+bt_table03.put(List.of("f502", "d6d3", "e3f11", 780, 0, 0, false, false, true, "ac7b", "e0b", 247, 2, true, true));
+bt_table03.put(List.of("cc16", "d825", "dab8", 0, 298, 427975, false, false, true, "d6fa", "b07b", 0, 593, true, false));
+bt_table03.put(List.of("b386", "b2a2", "e6c1", 4179, 102289, 0, false, false, false, "e6ec", "dd41", 1, 2817, false, false));
+bt_table03.put(List.of("bc76", "e89b", "d7d3", 0, 59, 0, false, true, false, "aeae", "e77c", 1260, 0, false, false));
+bt_table03.put(Arrays.asList("a2f7", "d359", null, 0, 64428, 0, true, false, true, "c2d4", "eecd", 13, 0, true, true));
+bt_table03.put(List.of("ac99", "c8dea", "a606", 0, 422, 1, false, false, true, "bb40", "c56b1", 437, 0, true, false));
+bt_table03.remove("d65b");
+bt_table03.put(List.of("fca4", "c3ee", "a7e38", 0, 0, 36, true, true, false, "db5d", "a3a9", 9521, 2416, true, true));
+bt_table03.get("cfed");
+bt_table03.remove("ad7a");
+bt_table03.get("bdbb");
+bt_table03.put(List.of("a421", "a5fc", "ba3b1", 32, 1, 6, false, true, true, "b972", "a4cc", 0, 7376, true, true));
+bt_table03.put(List.of("d341", "acec1", "c780", 0, 0, 2792, false, false, false, "ff1c", "b1fa", 0, 0, true, false));
+bt_table03.put(Arrays.asList("c7ef", "e8b0", "b88c", 0, 0, 45, true, true, false, "a61d", "e12b", 0, null, false, true));
+bt_table03.put(List.of("d29", "fdc6", "cbd0", 0, 0, 3, false, true, true, "f6f2", "a397", 0, 0, true, true));
+bt_table03.put(List.of("ace6", "ae3e", "b6d3", 0, 3688, 435, true, false, true, "a58c", "efeb", 7996, 7381, false, false));
+bt_table03.put(List.of("f5c", "d1fc", "f491", 25, 63, 0, false, true, false, "b40a", "a78f", 284, 0, true, false));
+bt_table03.put(Arrays.asList("ffed", "b543", "c5cb", 9713, 16458, 25913, false, false, null, "f4f2", "c579", 2, 0, true, true));
+bt_table03.put(List.of("c8cfa", "c8b2", "bb24", 82, 0, 16587, false, true, false, "ea8a", "cdba", 48, 0, true, false));
+bt_table03.remove("f0a");
+bt_table03.put(List.of("f3f3", "a8f6", "f695", 50756, 44, 0, true, false, true, "f892", "e97", 0, 0, true, false));
+bt_table03.get("beff");
+bt_table03.put(List.of("c74e", "ad79", "dfcb", 145780, 5422, 28, true, true, true, "f80f", "cadc", 25, 20, true, false));
+bt_table03.remove("b0f7");
+bt_table03.get("c7ff");
+bt_table03.put(List.of("bb36b", "b1d65", "b7a70", 18702, 0, 0, false, true, false, "c7c8", "bd9a", 1, 1, true, true));
+bt_table03.put(List.of("f3cfd", "abbe", "f1e7", 12750, 0, 24, true, false, true, "fa0b", "bc47", 1, 0, true, false));
+bt_table03.put(List.of("f903", "f1d6", "ab5e", 3879, 1864, 0, false, true, true, "d114", "bcbc", 8463, 19621, false, true));
+bt_table03.put(List.of("b2a9d", "d6b3", "b111", 1091, 0, 42077, true, false, false, "f5e", "bafe", 1, 0, false, true));
+bt_table03.put(List.of("c416", "dca2", "aaff", 83, 0, 29, true, false, true, "b3635", "e2e", 97, 0, true, true));
+bt_table03.put(List.of("f23a", "b93e", "ff06", 14, 43506, 0, true, false, true, "a622b", "c26", 1, 5, false, true));
+bt_table03.put(List.of("e05f", "f805", "de85", 25, 3497, 0, false, true, false, "c4cc", "d818", 12982, 0, true, true));
+bt_table03.remove("b5ae");
+bt_table03.put(List.of("e96b", "dbde6", "de68", 441, 2, 0, true, false, true, "f8b6", "e58b9", 0, 10, true, true));
+bt_table03.remove("ac98");
+bt_table03.put(List.of("b9c1", "a091", "da22", 0, 0, 0, false, false, true, "c0b8", "a2e4", 0, 60005, false, true));
+bt_table03.put(List.of("da6", "b226", "a137", 0, 19365, 13166, false, true, false, "d715", "b0d8", 24, 0, false, false));
+bt_table03.put(List.of("a1b3", "a3d3", "cc1b", 164, 671, 0, false, false, false, "bf2e", "c83b", 24, 193, false, true));
+bt_table03.put(List.of("e905", "fcba", "bc91", 439, 0, 0, true, false, false, "c3bc", "ad5e", 0, 0, false, true));
+bt_table03.put(List.of("f9b5", "c2ff", "efd8", 0, 0, 749, false, true, false, "b7e2", "f19f", 0, 0, true, true));
+bt_table03.put(List.of("afcb0", "f8b9", "b673", 224, 0, 2615, false, false, false, "d87", "dfe4", 113, 0, true, false));
+bt_table03.get("bcd2");
+bt_table03.put(List.of("fa4c", "a4372", "ea01", 1, 0, 1, true, false, true, "ec03d", "b2e8", 0, 10, false, false));
+bt_table03.remove("c8d1");
+bt_table03.put(List.of("d228", "c5a3", "f721", 0, 182, 512, false, false, false, "a28b", "df02", 0, 0, true, false));
+bt_table03.put(List.of("f120", "a1ad", "d88a", 0, 0, 21, false, false, false, "a690", "ccd0", 3328, 0, true, true));
+bt_table03.put(List.of("efa9", "a43c", "f5fc", 0, 461, 0, true, true, true, "edd8", "f066", 418, 1266322, false, true));
+bt_table03.put(List.of("b6e95", "de38", "a0e6", 0, 0, 1, true, false, false, "ddaa", "ce54", 0, 0, false, true));
+bt_table03.remove("a5ae");
+bt_table03.remove("f327");
+bt_table03.put(List.of("c6ab", "fa00", "e049", 83, 2, 99, false, true, false, "cd0b", "a34d", 0, 366, true, false));
+bt_table03.put(List.of("bc26", "c375", "c2ad", 0, 263, 185, false, false, false, "f54", "de18", 0, 0, true, true));
+bt_table03.put(Arrays.asList("f2ac", "d29c", "a9f6", 0, 3, 0, false, false, false, "f02c", null, 0, 0, true, true));
+bt_table03.put(Arrays.asList("b68f", "ffdd", "cafa", 9, 1307, 0, true, false, false, "a234", "f932", 708, 44, false, null));
+bt_table03.remove("e72dd");
+bt_table03.put(List.of("e61c", "d2b3", "f648", 0, 30, 1348, true, true, true, "d3d", "ed121", 0, 0, true, true));
+bt_table03.put(List.of("b45a", "dcea", "bee7", 0, 124196, 1560, true, false, false, "a26dd", "b619", 45, 0, false, false));
+bt_table03.put(List.of("d90dd", "c584", "d82c", 0, 1228, 0, false, false, false, "d10d", "b4e9", 3975, 2, false, false));
+bt_table03.put(List.of("a6af", "d360", "d6be", 0, 3, 2, true, true, false, "f8fc", "fb4", 100, 96, true, false));
+bt_table03.put(List.of("eb67", "cb32", "b98a", 275, 7, 0, true, false, false, "d11f", "acbdb", 1164, 178290, false, true));
+bt_table03.put(List.of("dd00", "a17f", "ca03", 35, 10230, 165, false, false, true, "f0ea", "c3fe", 0, 0, false, false));
+bt_table03.put(List.of("f1c", "be7", "add5", 0, 1, 17, false, true, false, "a090", "be50", 0, 40, true, false));
+bt_table03.put(List.of("e023", "f0c8", "c33d", 0, 0, 14, false, true, true, "af73d", "f7d8", 13, 0, true, true));
+bt_table03.put(List.of("e77", "a37c9", "a0a9", 240, 846, 1525, true, true, true, "bc6d", "a804", 0, 4932, true, true));
+bt_table03.put(List.of("e426", "a7f3", "f059", 681798, 0, 740, false, false, false, "b7c76", "b8d8", 0, 4, false, false));
+bt_table03.remove("a4ee4");
+bt_table03.put(List.of("a9116", "cd24", "f53b", 936, 0, 0, false, false, false, "e6bf", "fb71", 3635, 0, false, true));
+bt_table03.put(List.of("b86c", "c4f3", "e1df", 0, 71238, 0, false, false, false, "ce2", "a4c3", 577, 213, false, false));
+bt_table03.remove("b4d3");
+bt_table03.put(Arrays.asList("f6e30", "b819", "efaa", 34, 1, 2, true, null, false, "aabb", "b695", 48, 0, true, false));
+bt_table03.put(List.of("f051", "c057d", "a228", 0, 0, 13882, true, true, false, "b02b", "b879", 0, 0, true, true));
+bt_table03.put(List.of("d0ae", "d35e", "f6d1", 2903, 31, 1303, false, false, false, "d1fb", "c81b", 49, 0, true, false));
+bt_table03.put(List.of("b182", "cff78", "e65d", 1, 2451, 626, true, false, false, "d499", "c2ba", 0, 178246, true, false));
+bt_table03.remove("ac59");
+bt_table03.put(Arrays.asList("a734", "d80d", "d5eb", 0, 0, 8, null, false, false, "fe9c", "f6c0", 132, 87, true, true));
+bt_table03.remove("b49c");
+bt_table03.put(List.of("f461", "b27f", "bc653", 61129, 2314, 1, true, false, false, "c5184", "f8b8", 238, 0, true, true));
+bt_table03.put(Arrays.asList("c54e", "e1fa1", "bd7a", 1, 680, 0, false, false, true, "a2fc", null, 3188, 0, false, false));
+bt_table03.put(List.of("ce8f", "e7347", "eee", 8290, 122, 157, false, true, true, "a558", "c98b", 0, 0, false, false));
+bt_table03.get("ec6d");
+bt_table03.remove("ee1b");
+bt_table03.put(List.of("aedb", "b138", "b6d8", 0, 1, 12, false, true, false, "ad5c", "f276", 21, 152, false, false));
+bt_table03.get("ab15");
+bt_table03.put(List.of("c110", "ab43", "eb76", 0, 0, 7, false, true, false, "c09c", "d7c8", 124, 0, true, false));
+bt_table03.put(List.of("fe80", "c86e", "a681b", 23, 0, 77, true, false, false, "a635", "c5d4", 39759, 15, false, true));
+bt_table03.put(List.of("c6d9", "fbca", "b94d", 59, 31, 0, false, true, false, "d4d3", "cfbb", 0, 940, true, false));
+bt_table03.put(List.of("a156", "d519", "e2ad", 0, 32523, 0, true, true, false, "bf1e", "e244", 0, 522, false, true));
+bt_table03.put(List.of("b7ee0", "c4676", "db7a", 0, 0, 141, true, false, true, "dac9", "a4da", 761694, 714, true, false));
+bt_table03.put(List.of("a8b5", "dcfa", "bfe3", 0, 0, 0, true, false, true, "c196", "c0ce", 0, 8473, false, false));
+bt_table03.remove("f7cc");
+bt_table03.remove("edab0");
+bt_table03.put(List.of("b6bd", "c799", "a9a7", 676, 0, 0, true, true, true, "c14e", "f2c8", 2, 534, false, false));
+bt_table03.put(Arrays.asList("ecce", "af5f", "a77dd", 0, null, 4659, true, false, true, "fba9", "b2c2", 4095, 2, true, false));
+bt_table03.put(Arrays.asList("af65", "ae93", "f7d5", 0, 26, 0, true, false, false, "ee61", "c2a8", 1, 4359, true, null));
+bt_table03.put(List.of("ecc4", "b2c4", "b3d88", 178, 10717, 0, false, true, true, "f3db", "b430", 433, 1702, true, false));
+bt_table03.put(List.of("d5c8", "dc2e6", "c0147", 1, 1567, 225, false, false, true, "d9dd", "e104", 59, 0, true, true));
+bt_table03.remove("b561");
+bt_table03.remove("d8bb0");
+bt_table03.put(List.of("decf", "d2c5", "aefc", 2, 0, 153, true, false, true, "a676", "a84b", 0, 113, true, false));
+bt_table03.put(List.of("df1a", "e589", "a28cc", 151, 0, 0, true, true, true, "dfa7", "df75", 4726, 26, false, true));
+bt_table03.put(List.of("df3", "f103", "b9b0", 19, 71, 0, true, true, true, "f2a6", "cb31d", 428, 1104, false, true));
+bt_table03.put(List.of("e70c", "e42", "e2de", 1, 0, 39, false, false, true, "b070", "c5ad", 1, 2400, false, true));
+bt_table03.remove("e810");
+bt_table03.put(List.of("e48a", "afd1", "b1833", 14132, 5, 43, false, false, true, "edb", "ac9e", 3, 4237, true, false));
+bt_table03.put(List.of("e82e", "a7609", "a065", 40, 9, 72517, false, true, false, "b434", "c2ae", 0, 508, true, true));
+bt_table03.put(List.of("cb97", "a9f8", "d0cb", 0, 1092, 1911, false, false, false, "d459", "d6386", 0, 0, false, true));
+bt_table03.get("abc7");
+bt_table03.remove("b0bd");
+bt_table03.remove("a7fd");
+bt_table03.put(List.of("ae8ac", "a495", "c5bd", 4, 25, 0, false, false, true, "a0827", "c782", 0, 0, true, true));
+bt_table03.put(List.of("ad61", "de55", "b3a5", 63, 0, 0, false, true, false, "a275", "a945", 0, 848, true, false));
+bt_table03.put(List.of("b4b1", "bb2e", "ef5", 0, 0, 2, false, false, true, "d853", "e66", 5236, 181, true, true));
+bt_table03.put(List.of("ca5f", "fa77", "b86a", 0, 436, 71, true, false, false, "db6b", "ede2", 307, 615, true, false));
+bt_table03.put(Arrays.asList("f370", "a81f", "c153", 12, 6, 0, true, true, true, "a5ed", "a6c2", null, 195, true, false));
+bt_table03.put(List.of("fc91", "ca75", "a50a", 11, 3, 2171, false, true, false, "d14f", "b4a8", 19652, 0, false, false));
+bt_table03.put(List.of("d63e", "bde7", "e35d", 2977, 85, 100, false, true, false, "fb86", "a377", 0, 0, true, false));
+bt_table03.remove("af24");
+bt_table03.get("e71b");
+bt_table03.put(List.of("c50d", "bb0f2", "e8c12", 40, 40, 2355, true, true, false, "ccfd", "dc130", 670, 18013, false, false));
+bt_table03.put(List.of("fb87", "a094", "c92e", 102, 33, 18, true, false, true, "d1a0", "fcdc", 0, 5, true, true));
+bt_table03.put(List.of("ad0f3", "ac5d", "ca69", 106230, 19, 12, true, true, false, "e76b", "b30c", 65384, 0, false, true));
+bt_table03.put(List.of("e606", "a6eb", "ebac", 0, 0, 0, false, false, true, "aaf3", "daa2", 21, 0, true, true));
+bt_table03.put(List.of("d1ca", "e7e4", "de53", 0, 7316, 10929, false, true, true, "df5c", "d13e", 0, 48, true, true));
+bt_table03.put(List.of("f41b", "b878", "e6e8", 5140, 6, 28, false, false, true, "e81f", "bab3", 11, 633, true, true));
+bt_table03.put(List.of("bd36", "daf4", "d343", 0, 40, 514, true, true, true, "d7948", "f729", 404, 0, false, true));
+bt_table03.remove("c725");
+bt_table03.put(List.of("b29d", "a1a5", "b304", 0, 126, 0, true, false, false, "ef78", "c729", 0, 44068, false, true));
+bt_table03.put(List.of("a198", "b31c", "b04f", 14, 62, 2, false, false, true, "b918", "d6ec", 0, 226, false, false));
+bt_table03.put(List.of("ba16d", "fd81", "d854", 0, 5454, 379551, false, true, false, "a623", "d626", 2339, 0, false, true));
+bt_table03.get("d126");
+bt_table03.put(Arrays.asList("a728", "c5f2", "e354", 602, 0, 0, true, false, false, "ec9f3", "efdc", 0, 13, null, false));
+bt_table03.put(List.of("b418", "ffbc", "a353", 228, 4, 12724, true, false, false, "ad28", "cf58", 12, 0, false, false));
+bt_table03.put(List.of("a03b", "d2f6", "b7b3", 2, 13, 24, true, false, true, "afdd8", "eb94", 0, 0, true, false));
+bt_table03.put(Arrays.asList("dca9", "ee06", "accc", 0, null, 5, true, true, false, "d917", "b78e", 25, 240729, false, true));
+bt_table03.put(List.of("a7e0", "c042", "e045", 0, 0, 0, true, false, false, "d6b5", "dc76", 13468, 2, false, true));
+bt_table03.remove("ccc8");
+bt_table03.put(List.of("a45b", "e9ab", "cab1", 52695, 0, 48907, true, false, false, "bf06", "c296", 0, 2691, false, true));
+bt_table03.remove("fcbe");
+bt_table03.remove("a306");
+bt_table03.put(List.of("bb99", "c594", "e2d8", 5098, 10458, 1, true, true, false, "f558", "eb9b", 208, 495, false, true));
+bt_table03.put(List.of("aae39", "a4bc7", "df1d", 5811, 13, 0, true, false, false, "b23e", "e97c", 10, 194, false, false));
+bt_table03.remove("d5a0");
+bt_table03.put(List.of("ea5", "fa84", "dee2", 63, 1, 0, true, true, false, "dac4", "aaa8", 0, 0, true, true));
+bt_table03.remove("cade");
+bt_table03.put(List.of("ce15", "c0f8", "f30e", 93, 630, 0, false, false, false, "d9fd", "ceba", 6, 73, false, false));
+bt_table03.put(List.of("ee51", "b455", "b9db", 3144, 11462, 3, true, true, false, "d150", "bfe2", 3163, 5, true, false));
+bt_table03.remove("a23b");
+bt_table03.put(List.of("c515", "e2b4", "e424", 8, 3, 3, true, false, false, "f87a", "ea09", 21722, 55, true, false));
+bt_table03.get("cb47");
+bt_table03.put(List.of("ba94", "c93e", "d340", 1547, 2703, 92, true, true, false, "b7a3", "c9eb", 0, 0, true, false));
+bt_table03.put(List.of("c367", "a033", "ab8f", 3, 2, 0, true, false, false, "be83", "b0bf", 0, 0, false, true));
+bt_table03.put(List.of("d182", "d15d", "c985a", 59391, 7226, 0, true, false, false, "db82", "e46a", 0, 0, false, true));
+bt_table03.remove("b6f7");
+bt_table03.put(List.of("ff2", "cfaa", "e1d8", 0, 296, 0, false, false, false, "e3d6", "c73b", 1, 73396, true, true));
+bt_table03.put(List.of("f0eb", "d7132", "e84f", 0, 7, 765, true, true, true, "a9e8", "f5f8", 55, 173, true, true));
+bt_table03.remove("a2ca");
+bt_table03.remove("eb27");
+bt_table03.put(List.of("c334", "d74f", "add0", 0, 0, 0, false, true, false, "acb6e", "aaa5", 677, 0, false, false));
+bt_table03.put(List.of("a9cc", "b2a7", "f7d7", 0, 0, 0, false, false, false, "a6cd", "e8f3a", 0, 120, false, true));
+bt_table03.put(Arrays.asList("bc85", "c0f4", "a22b", 730, 0, 0, true, true, true, "f7842", "ee6", 4115, 0, false, null));
+bt_table03.put(List.of("a742b", "b471", "e5dd", 0, 85, 0, true, false, true, "fa6d", "f77f", 0, 395, true, false));
+bt_table03.put(List.of("a03f", "c7a3", "f8c", 0, 0, 0, true, true, false, "a15e", "ddb2", 1067, 198, true, true));
+bt_table03.put(List.of("a9da", "cb17", "d78a5", 0, 1, 17198, true, true, true, "e594", "c08a", 0, 0, false, true));
+bt_table03.put(List.of("addef", "c36e", "f2cc", 6, 157, 3584, false, false, true, "b4b5", "b77", 106, 1, true, true));
+bt_table03.put(List.of("ddf6", "e058", "fc36", 0, 1, 66, true, false, false, "b90e", "a843", 12852, 296841, false, true));
+bt_table03.put(Arrays.asList("d8cb", null, "be6e", 0, 27, 3, true, false, false, "d8a1", "ffb7", 0, 3450, false, true));
+bt_table03.put(List.of("b500", "a43f", "ab9c", 2467, 50213, 0, true, true, false, "df33", "beb0f", 0, 0, false, false));
+bt_table03.put(List.of("d3ec", "b317", "d3d0", 0, 8, 400, false, false, false, "c8a8", "d6ed", 3477, 14, false, false));
+bt_table03.put(List.of("bf61f", "ff72", "c1fa", 279, 0, 0, false, true, false, "d20a", "b47e", 3467, 10, true, true));
+bt_table03.put(Arrays.asList("bc4b8", "b50f", "a221", 378, 2332, 0, false, null, false, "d09e", "ac31", 13, 0, false, true));
+bt_table03.put(List.of("e3026", "aaa2", "b730e", 40, 72, 124104, true, true, true, "a291", "a5a6", 1778, 0, false, false));
+bt_table03.put(List.of("f77", "c528", "a35e", 0, 23155, 16, true, false, false, "f4e97", "bb23", 16, 0, true, false));
+bt_table03.put(Arrays.asList("db30", null, "e2e4", 0, 1, 0, false, false, true, "cce4", "f885", 0, 0, false, true));
+bt_table03.remove("cd36");
+bt_table03.put(Arrays.asList("c614d", null, "a3ae", 9444, 2, 31, true, true, false, "afd4", "b771", 356, 0, true, false));
+bt_table03.remove("f85d");
+bt_table03.put(List.of("ce19", "e1da", "e2ab", 22, 0, 5228, false, true, false, "c15e", "adc4", 1, 0, true, true));
+bt_table03.put(List.of("c54f", "b055", "b25e", 0, 0, 15, true, false, false, "f354", "b220", 0, 0, true, false));
+bt_table03.put(List.of("c20b", "a1519", "e752", 496, 45, 396, false, false, true, "f850", "bf7a", 0, 0, true, false));
+bt_table03.remove("acf4");
+bt_table03.get("e21e");
+bt_table03.get("bb73");
+bt_table03.put(List.of("ca93", "bf4d", "e0c7", 18, 0, 0, false, true, true, "c73f", "f0a0", 3, 50, false, false));
+bt_table03.put(List.of("e880", "dc94", "ad7d", 19974, 1335, 0, true, true, false, "a594", "cb0d", 2, 0, true, false));
+bt_table03.remove("f93f");
+bt_table03.remove("ca4b");
+bt_table03.remove("d554");
+bt_table03.put(List.of("c7fa", "e984", "baeb", 2373, 0, 0, true, true, true, "c080", "b77d", 0, 11994, true, true));
+bt_table03.put(List.of("c553", "b3cd", "c55b", 0, 742, 243, true, false, false, "bc5c", "f23b", 0, 0, false, true));
+bt_table03.put(List.of("e475", "ef13e", "c5a8", 8213, 14, 0, true, false, false, "c32d", "fa1c", 0, 36842, true, false));
+bt_table03.get("a573");
+bt_table03.get("a147");
+bt_table03.get("f199");
+bt_table03.remove("c043");
+bt_table03.put(List.of("b3c4", "d7b0", "d2e4", 0, 7, 24063, false, true, true, "fef2", "eb16", 1641, 23, false, true));
+bt_table03.put(Arrays.asList("bf82", "bea2", "b685", 3904, 172, 169237, false, true, false, "a5ea", "b10d", null, 781, false, false));
+bt_table03.get("c9c8");
+bt_table03.put(List.of("b296", "bee4", "b96a", 3, 0, 56497, false, true, false, "f187", "f47f", 1573, 28, false, true));
+bt_table03.remove("bdb");
+bt_table03.put(List.of("d665", "f220", "a5ab3", 2, 0, 78, false, false, false, "a6fe9", "e0be", 0, 0, true, false));
+bt_table03.put(List.of("d20c5", "dcfc7", "eebba", 0, 324, 288, false, true, false, "a161", "f17", 3, 0, true, true));
+bt_table03.remove("c175d");
+bt_table03.put(List.of("afe60", "da52", "ae5b", 0, 0, 0, true, false, true, "c0a7", "ad2ca", 107, 3, false, true));
+bt_table03.put(Arrays.asList("e583", "d4a4", "f022", 1, 1264, 76, null, true, false, "b3c2", "bd97", 13, 123, true, false));
+bt_table03.put(Arrays.asList(null, "e8ac", "de8a", 0, 516, 31148, null, true, false, "d2a1", "d005", 29, 73, false, false));
+bt_table03.put(List.of("e5b8", "f6d5", "c44d", 19, 69, 0, true, true, false, "f8da", "c3bd", 0, 83, true, true));
+bt_table03.put(List.of("d78b", "be92", "e531", 1, 0, 280, false, true, true, "fcd8", "c322", 0, 0, false, false));
+bt_table03.put(List.of("f64c", "bd67", "b00f", 14, 0, 538, false, true, true, "be4f", "eac8", 31, 5, false, false));
+bt_table03.put(List.of("b5b6", "c8f4", "c9e3", 46596, 3, 0, false, false, false, "ff93", "b4d6", 156, 18, false, true));
+bt_table03.put(List.of("f252", "ff66", "f4d9", 686, 0, 9, false, true, false, "a0f1", "d59f", 0, 22, false, false));
+bt_table03.put(List.of("c87c", "eeb0", "babc", 0, 27184, 0, true, true, true, "a597", "f933", 0, 3, false, true));
+bt_table03.remove("ecda");
+bt_table03.put(Arrays.asList("d89d", "fb68", "c1c5", 86, 0, 25, false, false, true, "e55b", "c993", 0, null, false, false));
+bt_table03.put(Arrays.asList("ae40e", "dc91", "af60", 39, 0, null, false, false, false, "f95c", "b7cd", 0, 0, true, false));
+bt_table03.get("e632c");
+bt_table03.put(List.of("bf42", "c0d4", "fff0", 137, 0, 169, false, true, false, "c93d", "b79d", 0, 260, false, true));
+bt_table03.put(List.of("c5bc", "b13f", "e544", 3, 0, 0, true, true, true, "df8d7", "a2a71", 1606, 6, true, true));
+bt_table03.put(List.of("bf20", "eca5c", "abdf", 0, 0, 0, false, true, true, "d69f", "e6dd", 12, 74, false, true));
+bt_table03.put(Arrays.asList("a4d0", null, "a499", 0, 37185, 1, true, true, false, "c9d5", "bb1a", 262, 14, false, true));
+bt_table03.put(Arrays.asList("af113", "bd3e", "f2f0", 0, 0, 1062, null, false, true, "ae43", "c938", 0, 0, false, true));
+bt_table03.put(List.of("fd9d", "ff7f", "d71cd", 0, 0, 0, true, false, false, "ed61", "c739", 0, 2323, true, false));
+bt_table03.remove("d51e");
+bt_table03.put(List.of("fa4ea", "dceb", "f90f", 0, 6, 872, true, true, false, "ea80", "b007", 0, 0, false, true));
+bt_table03.put(List.of("a663", "b1c0", "d9d2", 0, 131, 798538, false, false, false, "bd0f", "c6e5", 12, 41, true, true));
+bt_table03.put(List.of("e575", "a895", "cd96", 1406, 1, 36, false, true, true, "c55d", "e2ef", 14, 0, false, true));
+bt_table03.remove("d830");
+bt_table03.remove("a37b");
+bt_table03.put(List.of("f522", "ad44", "e52e", 375, 180523, 7669, false, false, false, "a084", "b4ad", 0, 0, true, true));
+bt_table03.put(List.of("f348", "fecd", "c93b", 0, 0, 0, false, false, false, "c9ea", "d405", 1472, 0, true, true));
+bt_table03.put(List.of("d30f", "aae3d", "a62e", 11695, 0, 5, true, false, true, "acf8", "d8b", 17106, 345, true, true));
+bt_table03.put(List.of("f6e6", "a0ac", "e8d7", 1370, 6, 0, false, false, true, "de6d", "c310", 252, 0, false, false));
+bt_table03.remove("dbb8");
+bt_table03.put(List.of("c484", "e43a", "ce10", 4678, 6, 0, false, false, false, "c0a9", "b6bf3", 645, 0, false, true));
+bt_table03.remove("f554");
+bt_table03.remove("dd1f");
+bt_table03.remove("a8ab");
+bt_table03.put(List.of("a217", "c167", "a3e4", 57, 484689, 60, false, true, false, "b5e3", "cad1", 0, 46678, true, false));
+bt_table03.remove("e541");
+bt_table03.put(List.of("fba0", "a01f", "de98", 0, 1, 0, true, false, false, "a1c52", "b0cf", 0, 120, false, true));
+bt_table03.put(List.of("ceab", "cf73", "c5ed", 0, 9, 1, true, true, true, "ba32", "fcb5", 285871, 0, true, false));
+bt_table03.put(List.of("f0da4", "dcc6", "cf8d", 296, 1340, 150, true, true, false, "b76f", "a8f9", 0, 435, true, true));
+bt_table03.put(List.of("d930", "db340", "ea8d", 4404, 0, 0, true, true, false, "bfb5", "ae68", 0, 13, false, false));
+bt_table03.remove("d9b8");
+bt_table03.put(List.of("a210", "d67b", "a58a", 54, 1567, 1423, false, false, false, "aba2", "cb9b9", 0, 100, true, true));
+bt_table03.put(List.of("acad", "ee1d", "db413", 12, 2847, 0, true, true, false, "b09b0", "a6f2e", 380, 41, true, true));
+bt_table03.put(List.of("a441", "d5b4", "bd90", 2612745, 0, 0, true, false, true, "d6a6", "cae0", 915, 0, false, true));
+bt_table03.put(List.of("af88", "d1b8", "c4649", 0, 0, 2, true, true, false, "bf3b4", "be27", 0, 1754, true, false));
+bt_table03.put(List.of("ef0a", "ba25", "b475", 1019, 0, 600, false, false, true, "f579", "fd80", 25, 0, false, true));
+bt_table03.put(List.of("d5ebb", "ee19", "ac8b", 0, 180, 30, false, true, true, "acdd", "cbf9", 0, 42, true, false));
+bt_table03.put(Arrays.asList("e49a", "a9ad", "ca9b", 0, 2, 185675, true, null, true, "d3d7", "b9e8", 7, 11081, false, false));
+bt_table03.remove("a1f0");
+bt_table03.put(Arrays.asList("c09b", "f098", "dd706", 486579, 0, 0, true, true, true, "ea27", "cf40", 127, 5, null, true));
+bt_table03.put(List.of("c1c9", "afd0", "a83e", 5504, 0, 586, true, false, true, "afab", "ca55", 0, 4, false, false));
+bt_table03.remove("f22a");
+bt_table03.put(Arrays.asList("f392", "a70bc", "fbe1", 1, 7938, 0, null, false, true, "f072", "b400", 6, 3815, false, false));
+bt_table03.remove("b96b");
+bt_table03.put(List.of("c7cc", "a5f9", "c5e1b", 262, 105, 0, false, true, true, "dd62", "c753", 1421, 0, false, false));
+bt_table03.put(Arrays.asList("a81e", "c115", "b195", 0, 0, 0, true, false, false, "f39e", "f4a5", 315, null, true, false));
+bt_table03.put(List.of("f13c", "c7379", "d81f", 3487, 0, 130, true, true, true, "bc3c", "ec14", 54, 0, false, false));
+bt_table03.put(List.of("bc05", "ebc2", "b723", 0, 0, 1, true, true, false, "e8dc", "b1d8", 0, 20, false, false));
+bt_table03.get("e23c");
+bt_table03.put(List.of("cce1", "d0f7", "dd99b", 3976, 0, 0, false, false, false, "b4b3", "a683", 5203, 6133, true, true));
+bt_table03.remove("b63b");
+bt_table03.put(List.of("e52c", "b8af", "b5e8", 367, 3, 16, true, false, true, "ddf22", "b941", 0, 0, false, false));
+bt_table03.put(Arrays.asList("f8d8", "a8a5a", "eeb7b", 0, 2, 1, true, true, false, "f1a8", "c2c4", null, 0, true, false));
+bt_table03.put(List.of("a448", "b03b", "a425", 0, 0, 0, false, true, false, "d730", "ac2d", 499, 6, false, false));
+bt_table03.put(Arrays.asList("a75d", "c6a3", "e5a66", 200, 0, 0, false, true, false, "dcc3", "a387", null, 118253, false, true));
+bt_table03.get("f99b");
+bt_table03.remove("cc76");
+bt_table03.put(List.of("dcfd", "d8731", "cb7c", 41, 0, 216, false, true, false, "ce31", "ae7a", 0, 0, true, false));
+bt_table03.put(List.of("ec79", "aabf", "abbd", 0, 72535, 0, true, true, false, "c7ce", "c88e", 0, 0, true, true));
+bt_table03.put(List.of("df09", "e22f", "d042", 0, 10, 0, true, false, false, "ba4ca", "cec2", 186, 647, true, true));
+bt_table03.put(List.of("d8d1d", "c53bf", "ae9c", 0, 8, 1, false, false, true, "c768e", "ed6d", 1, 0, true, false));
+bt_table03.put(List.of("da8a", "cd51", "c0406", 0, 203, 1541, true, true, true, "cedbd", "ce9c", 0, 5005, false, false));
+bt_table03.put(List.of("a689", "be440", "b5a9", 0, 0, 0, false, true, true, "a064", "c6ad", 219, 13, true, false));
+bt_table03.remove("b55c");
+bt_table03.put(List.of("c6d3", "f3c9", "b4a2", 0, 5, 65, true, true, false, "ef4f", "da0c", 58, 12, false, false));
+bt_table03.put(List.of("bbde", "aec8", "eae1", 0, 0, 42, false, true, true, "c64c", "fe3d", 4, 0, false, true));
+bt_table03.get("c925");
+bt_table03.put(List.of("a038", "dd0c", "befbb", 0, 0, 0, true, false, true, "e643", "b147", 0, 80, false, true));
+bt_table03.get("f243");
+bt_table03.remove("e3e6");
+bt_table03.put(List.of("bfee", "a94a", "f79e", 315, 6888, 15, true, false, true, "f5df", "c6b3", 0, 0, false, false));
+bt_table03.put(List.of("d1ed", "e856", "ae3b", 0, 6, 18, false, false, false, "adb1", "c9cf", 23551, 0, false, false));
+bt_table03.remove("a701");
+bt_table03.remove("db3a");
+bt_table03.put(List.of("c54a", "d857", "b090", 0, 20, 0, true, true, false, "c26d", "d7c7", 148, 88, false, true));
+bt_table03.get("bcd1");
+bt_table03.put(Arrays.asList(null, "d9af", "c018", 0, 29, 0, false, true, false, "c970", "c867", 29, 0, false, false));
+bt_table03.put(List.of("e144", "ac3c", "b394", 4, 0, 720, true, false, false, "aef2", "f6a5", 0, 0, false, true));
+bt_table03.remove("ad26");
+bt_table03.put(Arrays.asList("a08f", "b834", "cb3a", 0, 4, 0, false, true, false, "a496", null, 13, 0, false, false));
+bt_table03.put(List.of("cb9f6", "a45d", "ae8c", 56, 3319, 93, false, true, true, "d33d0", "a2c5", 14, 0, false, true));
+bt_table03.put(List.of("dd4c", "daac", "b677", 22, 4, 63, false, false, true, "eec9", "d018", 734, 0, false, true));
+bt_table03.remove("f3a3");
+bt_table03.put(List.of("dfed", "de0d", "c227", 0, 1769, 0, true, false, false, "d5ef", "caf2", 0, 1, false, false));
+bt_table03.put(List.of("d89cc", "ed048", "ee98", 0, 2745, 0, false, false, false, "a789", "efe6", 3952, 597, true, true));
+bt_table03.get("fdb1");
+bt_table03.put(List.of("e25d", "e0fc", "b256", 249, 7, 2, false, false, false, "b5c2", "e02e", 24445, 0, false, true));
+bt_table03.put(List.of("e7e6", "aae0", "b978", 182, 155079, 114, true, true, false, "aa6e", "a633", 18, 0, true, true));
+bt_table03.put(List.of("e73a", "ce95", "ca38", 9, 9628, 3975, false, false, false, "f4c3", "dbbc", 10176, 12, false, true));
+bt_table03.put(List.of("b813", "a3f6", "bbdb", 57, 371568, 0, false, true, false, "b8c1", "bb0e", 1, 0, false, true));
+bt_table03.put(List.of("a453", "b3f2", "ecef", 0, 211, 0, false, false, false, "a2b0", "bc39", 170, 2908, false, true));
+bt_table03.remove("c040");
+bt_table03.put(Arrays.asList("c806e", "c888", "bb19", 0, 0, 0, false, false, false, "ea73", "e658", 0, null, true, true));
+bt_table03.remove("c401");
+bt_table03.put(List.of("c601", "e0a9", "f59d", 2, 0, 0, false, false, false, "fa11", "d2cc", 0, 0, true, true));
+bt_table03.get("b19c");
+bt_table03.put(List.of("d2c1", "e7a1", "f86b", 0, 1202, 0, false, true, true, "b8b0", "b6e5", 80225, 0, true, false));
+bt_table03.put(List.of("af4f", "d858", "e22c", 27, 0, 5, false, true, true, "bb13", "aaf8", 63, 949, true, false));
+bt_table03.remove("bf4ca");
+bt_table03.put(List.of("b83d", "d79a", "acb2", 248, 0, 512130, true, false, false, "be10", "a189", 20202, 0, false, true));
+bt_table03.put(List.of("bb6c", "b371", "f1a7", 1, 1350, 3025, false, false, true, "dd35", "fc0", 6128, 0, false, false));
+bt_table03.put(Arrays.asList("b42e", "c130", "f467", 28, 2, 12001, true, true, true, "d1dd", null, 0, 1, false, null));
+bt_table03.remove("da7c");
+bt_table03.put(List.of("e57d", "adfa", "a0ba9", 3, 5, 8, false, true, false, "c121", "e811", 0, 0, true, true));
+bt_table03.get("aec1");
+bt_table03.put(List.of("e69b", "d151", "dbfc", 9, 0, 0, true, true, false, "f572", "bb21", 1625, 0, true, true));
+bt_table03.put(List.of("e6e2", "e1be", "cbbc", 73, 5, 58370, true, false, false, "f64a", "cbe4", 4100, 187, true, true));
+bt_table03.remove("c5f4");
+bt_table03.remove("eef1");
+bt_table03.put(List.of("b0f5", "b313", "b343", 0, 0, 0, true, false, true, "f04f", "dc79", 4234, 5700, false, true));
+bt_table03.put(List.of("ee4f", "eef", "c6d4f", 2045, 0, 6, false, false, true, "b835", "c5e2", 0, 736, false, true));
+bt_table03.put(List.of("dd92", "f599", "a5e3", 3, 41, 63, true, true, true, "fbb8", "ec95", 517, 0, true, true));
+bt_table03.put(List.of("a089", "f4ce", "e5d23", 0, 0, 0, true, true, true, "e06f", "b97e", 1, 0, true, true));
+bt_table03.remove("b1b0");
+bt_table03.put(List.of("b14c", "bc0b", "e007", 0, 0, 10656, true, true, true, "f453", "d1f3", 7, 4585, true, false));
+bt_table03.put(List.of("a651", "e9e1", "b306", 0, 0, 0, true, true, false, "f28f", "df0a", 67, 2, false, false));
+bt_table03.put(List.of("fe24", "cd8a", "d9f5", 0, 0, 0, true, false, false, "a030", "f5ec", 0, 12, true, false));
+bt_table03.put(List.of("aab7", "fdef9", "e18f", 0, 3, 0, true, false, true, "e471", "cbd3", 2367, 19354, false, true));
+bt_table03.put(Arrays.asList(null, "a581", "bf4f", 0, 21, 0, true, true, true, "cf225", "dc99", 62, 0, false, false));
+bt_table03.put(List.of("b12d", "abd1", "f575", 75, 366, 0, true, false, false, "b509", "e3d1", 3166, 5, false, false));
+bt_table03.remove("bf41");
+bt_table03.put(List.of("aa26", "ccc1", "a54c", 0, 192132, 360, false, false, true, "c6126", "fe21", 1, 3827, true, false));
+bt_table03.get("fe7b");
+bt_table03.remove("a53a");
+bt_table03.get("a1aa");
+bt_table03.put(Arrays.asList("faac", "b4aa", "eb0a", 304, 0, 1, true, true, true, "cfa9", "f49dd", 389, 0, true, null));
+bt_table03.put(Arrays.asList("a6cb", null, "ad37", 11, 0, 26, false, false, true, "a339", "bb70", 4376, 0, true, false));
+bt_table03.put(Arrays.asList("c466", "ce65", "a007b", null, 2, 0, true, false, false, "efea", "a47c", 0, 0, true, false));
+bt_table03.get("bef92");
+bt_table03.put(List.of("c9c4", "d5aa", "bbef", 0, 5, 12, false, false, false, "ac1d", "b9a6", 3291, 24, true, true));
+bt_table03.remove("d2f2");
+bt_table03.remove("f6626");
+bt_table03.put(List.of("ce4c7", "ba87", "b58fd", 0, 0, 44, false, false, false, "d4e2", "ac93", 29, 848, true, true));
+bt_table03.put(List.of("c82e", "c249", "eb7e", 0, 0, 124, false, false, false, "cd25", "b1e5", 17, 10920, false, false));
+bt_table03.remove("d45e");
+bt_table03.put(List.of("aa8b", "ac33", "cdb2", 0, 4, 2039, false, false, false, "d6da", "e21b", 2, 1177, true, false));
+bt_table03.put(List.of("af79", "d3c3", "b586", 0, 57027, 0, false, true, false, "c813", "c00c", 0, 0, true, false));
+bt_table03.put(List.of("aeb0", "e688", "a04e", 5642, 1, 0, true, true, false, "b38e", "d1369", 17, 7, true, true));
+bt_table03.remove("a8d8");
+bt_table03.remove("c7ac");
+bt_table03.put(List.of("e695", "e54", "ac636", 15, 1398, 17, true, true, false, "c7fc", "bf06f", 33, 0, true, true));
+bt_table03.remove("f196");
+bt_table03.put(List.of("b679", "dd5a", "e44f", 85, 4, 15, true, true, true, "b0d6", "dd89", 0, 0, false, true));
+bt_table03.put(Arrays.asList("ab85", "a520", "bd43f", 0, 291, 1216, false, null, false, "be2a", "a40c", 1, 0, true, false));
+bt_table03.put(List.of("fbc7", "eac0", "d81d", 909, 2148, 0, true, false, false, "b316", "ad87", 0, 1330, true, true));
+bt_table03.put(List.of("e9c8", "bf62", "b091", 0, 4, 2830, true, false, true, "d389", "bf7f", 18, 0, false, true));
+bt_table03.remove("f9c2");
+bt_table03.put(List.of("a847", "eadcd", "cf08", 320, 15475, 0, true, false, true, "ebd0", "f4bd", 0, 1385, false, true));
+bt_table03.remove("d7b7");
+bt_table03.put(Arrays.asList("a26d", "c37f", "b30d3", 26917, 65, 17, false, true, true, "a826", "aed0", null, 112060, true, false));
+bt_table03.put(Arrays.asList("f9b5a", "a209", "c560", 0, 63, 0, false, false, true, "dedd", "eb04", 0, null, false, false));
+bt_table03.put(List.of("bcf7", "dc15", "a092", 103, 1235, 55, false, false, true, "c08f", "d57a", 21, 0, false, true));
+bt_table03.put(List.of("cddb6", "a0bd", "a53d", 0, 6, 0, true, true, false, "e9af9", "d921", 2, 9, true, false));
+bt_table03.remove("e568");
+bt_table03.put(List.of("e371", "ef81", "f8ea", 2388, 398, 0, false, true, false, "bd73", "e039", 0, 762, false, false));
+bt_table03.put(Arrays.asList("deb24", "f019", "ae73", 234, 39, 1, false, false, false, "c713", "f30f", 0, null, false, false));
+bt_table03.get("bf75");
+bt_table03.remove("c038");
+bt_table03.get("b336");
+bt_table03.get("b9bd");
+bt_table03.put(List.of("b8fd", "b78b6", "aad8", 319, 146, 16, false, false, true, "f6f1", "d2b1", 0, 0, false, true));
+bt_table03.put(List.of("cac1", "a27f", "a3750", 6, 2094, 0, true, false, true, "cff0", "e057", 0, 437, true, false));
+bt_table03.put(List.of("db144", "c9f1", "e9de", 4072, 0, 0, true, true, false, "a0cf", "cceb6", 28, 8409, true, false));
+bt_table03.put(List.of("c834", "a4c6", "a41b", 0, 1139, 0, true, false, false, "b84c", "b29c", 71, 1, true, false));
+bt_table03.put(List.of("bee1", "c91e", "bdc1", 0, 1159, 12, false, false, true, "c86c", "b5bb", 346, 0, true, false));
+bt_table03.put(List.of("cf04", "cb21", "bf6e", 160, 34, 0, false, false, false, "e382", "f014", 0, 0, false, false));
+bt_table03.put(List.of("daab", "fae3", "a543", 166, 7934, 0, true, true, false, "ff42", "f633", 45, 1085, false, true));
+bt_table03.put(List.of("de34", "be2e", "c695", 0, 226, 9090, false, true, false, "de64", "bfcc", 0, 0, false, false));
+bt_table03.put(List.of("a59d", "b2e5", "c0478", 0, 0, 1755, true, true, false, "ee22", "fd50", 3, 0, true, false));
+bt_table03.put(List.of("c36cd", "beb1", "b237", 10, 0, 186, true, false, true, "d1a1", "cd65", 43, 0, false, true));
+bt_table03.put(List.of("f8f7", "c3fc", "e963", 35, 102087, 0, false, false, false, "c3c9", "a98d", 0, 0, false, true));
+bt_table03.put(List.of("b6e8", "e796", "c861", 0, 4412, 0, false, true, true, "aea55", "bc6e", 21, 1374, true, true));
+bt_table03.put(Arrays.asList("fadb", "e159", null, 0, 1, 0, true, true, true, "b3b5b", "ac46", 13, 0, true, false));
+bt_table03.get("a869");
+bt_table03.put(List.of("a715", "cddd", "bd5e", 0, 17, 30, true, false, false, "cc73", "ca9d", 17, 0, true, false));
+bt_table03.put(List.of("dbf8", "bbc1", "dbe2", 0, 0, 327, true, true, false, "acd2d", "bdaa", 0, 166, false, true));
+bt_table03.put(Arrays.asList("e914", null, "dcda", 3, 1553, 0, true, false, false, "e3fe", "ad6a", 0, 6040, true, false));
+bt_table03.put(List.of("e2d7", "e32d", "a8c2", 0, 0, 122, true, true, true, "fee6", "ecf1", 10, 0, true, false));
+bt_table03.put(List.of("d449", "c9ac", "dce7", 10, 0, 228, true, true, false, "ab1b", "b0dc", 0, 586643, true, false));
+bt_table03.put(List.of("e6d7", "fabf", "b645", 0, 1001, 4, false, true, true, "acde", "e4a9", 20, 0, false, false));
+bt_table03.put(List.of("f520", "ac5a", "aa23", 278, 43, 0, false, false, false, "d644", "db0", 26712, 0, true, false));
+bt_table03.put(Arrays.asList("abc21", "f8a0c", "a882", 0, 0, 0, true, true, false, "b477f", "cead", null, 9349, true, true));
+bt_table03.put(List.of("c065b", "f108", "de05", 0, 128, 0, false, true, true, "e38e", "c3c4", 7, 271, true, false));
+bt_table03.get("e1d2");
+bt_table03.put(List.of("c318", "b42f", "f525", 3, 212, 0, true, false, false, "aeee", "e7cb", 0, 233, true, false));
+bt_table03.put(List.of("b3af", "fa63", "e6ef", 257, 17868, 2965, true, false, true, "b5ee", "fe57", 1265, 0, true, true));
+bt_table03.put(Arrays.asList("bb67", "b447", null, 5660, 851, 86, false, true, true, "b524", "aa2a", 0, 0, false, false));
+bt_table03.remove("b5fc");
+bt_table03.put(List.of("b1d1", "a200", "de3b", 0, 0, 68, true, false, false, "d37f", "a1be", 20, 0, false, true));
+bt_table03.put(List.of("a750", "d365", "ab591", 0, 0, 123, true, false, true, "a16d", "d019", 5, 0, true, false));
+bt_table03.put(List.of("d5ad", "df03", "f699", 0, 683, 457, true, true, false, "ae7f6", "d05c", 10, 1, false, false));
+bt_table03.put(List.of("dfa3b", "f355", "a5d0", 0, 0, 0, false, true, true, "ec26", "db76", 122, 0, true, true));
+bt_table03.put(List.of("fba6", "f4fd", "d870", 0, 0, 7161, true, false, true, "d220", "fd15", 3, 0, false, true));
+bt_table03.put(List.of("ab68", "be7e", "c8b0", 3110, 4, 259, false, false, true, "fbbe", "cadd", 0, 0, false, false));
+bt_table03.put(Arrays.asList("bca6", "c37a", "b7bf", 63, null, 37, true, true, true, "ea2", "bbfd", 0, 0, true, false));
+bt_table03.put(Arrays.asList("d8ed", "e779", "cf6b", 0, 2875, 0, true, null, null, "a300", "c0e3", 0, 16826, true, false));
+bt_table03.put(List.of("f905", "a007", "ea22e", 5662, 0, 0, false, false, false, "d382", "a84f", 0, 39, true, true));
+bt_table03.put(List.of("a983", "f335", "a74f", 8, 0, 0, true, false, true, "be6d", "b178", 0, 62710, false, true));
+bt_table03.get("bf6a");
+bt_table03.put(List.of("c178", "d6e5", "c331", 0, 6286, 0, false, false, true, "afb8", "c569", 14256, 2532, true, false));
+bt_table03.put(List.of("b545", "caa", "a1e1", 0, 3, 75, true, true, true, "cd9b", "fe77", 10857, 142, false, false));
+bt_table03.put(List.of("ee32", "b713", "dde4", 0, 28, 84, true, false, false, "a68bd", "f534a", 92825, 72, true, false));
+bt_table03.put(List.of("c9e7", "b094", "b22c", 418, 0, 0, false, false, true, "f20f", "b605a", 877, 17, true, false));
+bt_table03.put(List.of("f35f", "f6b3", "bd1c", 0, 267, 80, true, false, true, "eb3e", "d92d", 6, 149, false, true));
+bt_table03.put(List.of("cfae", "c9ff", "f5e9", 4, 0, 2490, true, false, false, "cf98", "c4964", 0, 11, false, true));
+bt_table03.put(List.of("a057", "b5db", "b70b", 1, 0, 0, false, true, true, "ddc8", "a0e3", 1, 0, true, true));
+bt_table03.remove("fd7f");
+bt_table03.put(List.of("a7e0d", "b8fbb", "c897", 0, 150, 302, true, false, true, "f712", "ef36", 93, 655, true, false));
+bt_table03.remove("aeef");
+bt_table03.remove("ba9e");
+bt_table03.get("d300");
+bt_table03.put(List.of("da9b", "c6f1", "b4db", 14, 11, 21825, true, false, false, "ad4d", "bad8", 424, 0, true, false));
+bt_table03.put(List.of("ed70", "e09b", "b058", 152945, 17, 0, false, true, true, "af3f", "a604", 38552, 3, false, true));
+bt_table03.put(List.of("acc2", "ac67", "bf83", 0, 75, 33, false, false, true, "e93c", "a68a", 312, 0, false, false));
+bt_table03.put(List.of("a773", "ae49", "aae3", 4, 4, 53, false, true, false, "e5ae", "ea38", 2553, 0, false, false));
+bt_table03.put(List.of("c2a2", "ac75", "b36b", 20, 0, 0, false, true, true, "dafdb", "ad09", 74938, 120, false, true));
+bt_table03.put(List.of("e2f0", "bd92", "d020", 113, 0, 734, true, true, false, "b065", "e60e", 0, 3, true, false));
+bt_table03.put(List.of("c592", "ac35", "ce62", 24045, 0, 0, true, true, false, "b9b7", "ae19", 16110, 0, true, false));
+bt_table03.put(List.of("cb3e", "eaca", "e930", 6, 1055, 141, false, false, false, "d095", "afaa7", 0, 8, true, false));
+bt_table03.put(List.of("df35", "ad83", "dfe9", 0, 4, 0, false, true, false, "c499", "b609", 0, 0, false, false));
+bt_table03.put(List.of("b6cd", "c41d", "e78d7", 22, 0, 0, true, false, false, "a6b4", "d878", 8235, 10, true, false));
+bt_table03.put(List.of("fb79", "b261", "ce86d", 0, 2, 0, false, false, true, "a74a", "e246", 37, 108, false, false));
+bt_table03.put(List.of("c62ba", "af4d", "dbab", 0, 12, 1372, true, true, true, "fc33", "bf12", 700, 213, true, true));
+bt_table03.put(List.of("c4e4", "b07f", "d2cf", 0, 331, 462935, true, false, false, "cdc1", "c2c2", 1053, 0, false, true));
+bt_table03.put(List.of("b064", "c8c6", "bfc9", 10316, 0, 0, false, false, true, "b191", "feea", 0, 0, false, false));
+bt_table03.put(List.of("a0eb", "f347", "a6a8", 28, 8613, 49880, false, true, true, "f680", "d87b", 690, 164800, true, true));
+bt_table03.put(List.of("b937", "a93f", "e450", 2281, 651, 25, false, true, true, "f3076", "b6afc", 663, 0, true, false));
+bt_table03.put(List.of("a151", "cf99", "a887", 0, 1, 822, true, false, false, "a229", "d3ac", 0, 3, false, false));
+bt_table03.get("eba5");
+bt_table03.put(List.of("f0cc", "c071", "b821", 0, 0, 0, true, true, false, "ad380", "bec2", 0, 0, true, false));
+bt_table03.put(List.of("a52e8", "c784", "be5d", 0, 0, 0, false, false, false, "e601", "a544", 0, 0, true, true));
+bt_table03.put(List.of("d458", "cca3", "f4d6", 64, 161, 20, false, true, false, "a05b", "a992", 487, 0, true, false));
+bt_table03.remove("cb53");
+bt_table03.remove("c0d0");
+bt_table03.put(List.of("c2f0", "d9c40", "af07", 0, 171, 0, true, false, true, "c9a4", "ae6d", 1, 12551, true, false));
+bt_table03.put(List.of("daaa", "e482", "c9bc", 0, 28, 15, true, true, true, "eb1e", "e3a5", 1, 27, false, true));
+bt_table03.put(List.of("d5df", "b8eb", "e141", 59, 2496, 704, true, false, false, "b371f", "ce3a", 0, 93, true, false));
+bt_table03.put(Arrays.asList("a97a9", "b00d", null, 1119, 0, 0, true, true, false, "f24e", "efcbb", 1, null, true, false));
+bt_table03.put(List.of("bd11", "a8ea", "aef9", 39, 104263, 5, true, true, false, "a97f", "b66b", 0, 44, false, true));
+bt_table03.put(Arrays.asList("a908", "ae22", "e662", 69, 110, 0, true, false, true, "ead6", "a262", 0, null, true, false));
+bt_table03.put(List.of("adeb", "e2ca", "adad", 0, 0, 1339, true, true, false, "b1ea9", "a0a3", 0, 5, false, true));
+bt_table03.put(List.of("eba1", "d803", "ef00", 0, 0, 41, true, true, false, "d46e", "ca2a", 140, 0, false, true));
+bt_table03.put(Arrays.asList("c404", "aa76", "c2f9c", 0, 2, 360, true, true, true, "d944c", null, 0, 16511, false, false));
+bt_table03.put(Arrays.asList("d308", "f282", "a5bc", 1, null, 100, false, true, false, "f107", "a120", 0, 26872, true, false));
+bt_table03.put(List.of("ec01", "fd9e", "ac61", 8439, 0, 662, false, false, false, "cdb8", "f286", 0, 2043, false, true));
+bt_table03.remove("d67e");
+bt_table03.put(List.of("a809", "b351", "f3a8", 41, 0, 38, false, false, false, "c17c", "dc0a", 0, 0, true, false));
+bt_table03.put(List.of("dcf0", "bb0f", "f98c", 0, 131, 0, false, true, true, "b681", "e748", 1691, 0, false, false));
+bt_table03.get("c8a3");
+bt_table03.get("ee70");
+bt_table03.remove("d672");
+bt_table03.put(List.of("d179", "f105", "d9dc", 0, 0, 0, true, false, false, "d78e", "f35d", 0, 1, false, false));
+bt_table03.get("d331");
+bt_table03.get("a8fb");
+bt_table03.put(List.of("c8f3", "f880", "c001", 0, 1, 10572, false, false, false, "b4b7", "c3aa", 0, 0, false, false));
+bt_table03.remove("a924");
+bt_table03.put(List.of("d0bb", "f198", "cf60", 3, 0, 0, true, true, true, "c20f", "a6c7", 10, 0, false, true));
+bt_table03.remove("aa9e");
+bt_table03.put(List.of("f6bb", "b2ed", "e5ba", 0, 0, 0, false, false, true, "c878f", "b517", 0, 1, false, true));
+bt_table03.put(Arrays.asList("a647", "c5b5", "bd2e", 14, 0, null, true, null, false, "a6e4", "fbf3", 0, 4307, true, true));
+bt_table03.put(List.of("ff47", "c1e1", "ca3b", 35, 1, 0, false, false, false, "e33a", "ba8c", 0, 0, false, true));
+bt_table03.put(List.of("edfc", "edd7", "c1d6", 0, 86863, 0, false, false, false, "bc158", "a19f", 0, 0, false, true));
+bt_table03.put(List.of("c7ae", "bee9", "f8fb", 0, 28429, 10556, false, false, true, "d1f5", "a102", 28, 0, false, true));
+bt_table03.put(List.of("ec46", "c718", "aa92", 445, 5298, 0, false, true, false, "f962", "ba18", 0, 62, true, false));
+bt_table03.put(List.of("e2a3", "d08e", "a1ef", 180494, 324, 0, false, false, false, "dd9c", "e48d", 35403, 375, false, false));
+bt_table03.put(List.of("ba58", "f6a1", "f619", 0, 0, 11, true, false, true, "d333", "ba03", 929, 2087, true, true));
+bt_table03.get("a170");
+bt_table03.put(List.of("d6dc", "f603", "b5a0", 0, 22, 100872, true, true, false, "dd4f", "d351", 0, 0, false, false));
+bt_table03.get("a242");
+bt_table03.put(List.of("d094", "cfba", "b2b9", 0, 0, 2, false, true, false, "b145", "b54e", 56, 0, false, false));
+bt_table03.remove("faf6");
+bt_table03.put(List.of("c5a0", "e2a5", "d30c", 3064, 0, 1, false, false, true, "db29", "bcc2", 4, 0, true, false));
+bt_table03.put(Arrays.asList("dd0f", "af9e", null, 0, 177, 0, false, false, false, "a9dd", "cd7e", 0, 732, false, true));
+bt_table03.put(Arrays.asList("a0f4", "aa7f", "b640", 187, 0, 1372, true, false, true, "e033", "dd50", null, 316, true, true));
+bt_table03.put(List.of("f615", "ee4c", "e2db", 11, 32, 0, true, true, false, "db77", "be2c", 0, 0, false, true));
+bt_table03.put(List.of("d242", "d8c4", "f68e", 0, 0, 0, false, true, false, "f357", "df22", 13, 24, false, false));
+bt_table03.put(List.of("c76c", "c0c0", "a1f3", 64, 6, 38, false, true, false, "e952", "d4f56", 11, 21822, false, false));
+bt_table03.get("a129");
+bt_table03.get("c863");
+bt_table03.put(List.of("baaa", "b840", "a6e7", 4, 0, 0, false, false, true, "a92d", "b8b4", 0, 38703, false, false));
+bt_table03.get("d501");
+bt_table03.put(List.of("df24", "da73", "ce2a", 0, 491, 1, false, false, true, "c0cd", "af7c2", 1, 0, false, false));
+bt_table03.put(List.of("aa0a", "af8e9", "ebd5", 0, 3, 0, false, true, false, "b4e7", "b3f9", 281011, 3285, false, true));
+bt_table03.put(Arrays.asList("e941", "a356", "cffa", 142, 6032, 522, true, null, false, "c1e9", "cf61", 124, 0, true, false));
+bt_table03.remove("d833");
+bt_table03.put(List.of("f9df6", "a890", "a94b6", 0, 0, 0, true, false, true, "cdd3", "ce73", 0, 653, true, false));
+bt_table03.get("aec0");
+bt_table03.remove("e247");
+bt_table03.put(List.of("ae05", "a70e", "bc22", 0, 5, 24, false, true, true, "e732", "ea42", 0, 0, false, false));
+bt_table03.put(List.of("d325", "d232", "db97", 0, 0, 0, false, false, true, "a239", "a563d", 30, 2708, false, false));
+bt_table03.put(List.of("d1519", "f9ed", "a7ad", 30, 35, 620, true, true, false, "f26b", "b2a0", 0, 19, false, false));
+bt_table03.put(List.of("eb47", "acfb8", "cfe3", 1147, 386, 112, false, true, true, "b052", "cab8", 4, 0, true, false));
+bt_table03.put(List.of("b9e9", "a4fd", "e68f", 0, 0, 0, false, true, false, "afe1", "c8f0", 0, 3828, false, false));
+bt_table03.remove("b904");
+bt_table03.remove("b9d2");
+bt_table03.remove("e773e");
+bt_table03.put(List.of("c520", "d7c2", "b96c", 1, 45, 5274, true, false, true, "eb1a", "d9d7", 0, 1, true, false));
+bt_table03.put(List.of("ecd6", "f7be", "fc93", 1, 0, 177, true, false, false, "ba9c", "cf16", 0, 18, true, true));
+bt_table03.put(List.of("d7e5", "b5ea", "bbd5", 13, 21469, 19538, false, true, false, "b33a", "cb44", 0, 0, true, false));
+bt_table03.put(List.of("a34e", "ff2b", "d4db", 17, 3, 0, true, false, true, "b251", "d86a5", 0, 2, false, true));
+bt_table03.put(List.of("b8cd", "cc75", "efa2", 1402, 5133, 20, false, true, true, "b939", "c6d8a", 20482, 25, false, false));
+bt_table03.put(List.of("cff5", "d8b4", "e30f", 0, 0, 250, true, true, true, "e64b", "e2b9", 0, 0, true, true));
+bt_table03.put(List.of("ffc9", "bb1b", "bacc", 9, 0, 23, false, true, false, "d841", "f127", 27, 441, true, false));
+bt_table03.put(List.of("a813", "c4742", "d9a8", 52, 91, 3418, false, true, true, "c0c1", "fbeb1", 1651, 0, false, false));
+bt_table03.put(List.of("b9aff", "ad02", "abce", 11282, 0, 0, true, true, true, "e36e", "a1dc", 1188, 78, true, false));
+bt_table03.put(List.of("d01d", "b631", "cccc", 0, 1, 14, true, true, true, "a632", "dfd0", 24, 196, false, true));
+bt_table03.put(List.of("b8ebd", "a435", "a330", 0, 53, 0, true, false, false, "edaa", "e14c", 647, 6, false, true));
+bt_table03.put(List.of("daae", "bea6", "a745", 0, 0, 0, true, true, false, "a8e3", "b76b", 2, 14, false, false));
+bt_table03.remove("c0df");
+bt_table03.put(List.of("bec9", "ea75", "d817", 0, 0, 0, false, true, true, "c91c", "ca99", 0, 7354, false, false));
+bt_table03.put(List.of("c459", "e7fd", "f21d", 0, 0, 0, true, false, false, "b9e1", "d574", 60, 0, true, false));
+bt_table03.get("b8d3");
+bt_table03.remove("c453d");
+bt_table03.put(List.of("aeb2", "b176", "e9bc", 0, 22880, 0, false, true, true, "f9a1e", "ccda", 3, 0, true, false));
+bt_table03.put(List.of("ac8a", "bd62", "a059", 0, 15162, 0, false, false, false, "be6c", "a47a", 8, 5, false, true));
+bt_table03.put(List.of("eff4", "a41a3", "fd18", 93, 198, 31, false, false, false, "ddbe", "bf18", 0, 1182, true, false));
+bt_table03.put(List.of("fce6", "ce01e", "cafd", 24186, 0, 0, false, true, false, "a152", "e435", 0, 0, true, false));
+bt_table03.get("d073");
+bt_table03.remove("a21c");
+bt_table03.put(List.of("b6c2", "f775", "c8e0", 0, 132682, 0, true, false, true, "e00e", "b5b3", 6, 1949, false, false));
+bt_table03.put(List.of("d8c2", "a4e2", "a57b", 0, 16, 0, true, true, false, "c8a1", "db60", 0, 158, true, false));
+bt_table03.put(List.of("e0ee", "df1f3", "aaf9", 0, 2, 0, false, true, true, "db50", "b26a", 74, 0, true, true));
+bt_table03.get("eaf3");
+bt_table03.put(List.of("c9bad", "fa8e", "c8c7", 0, 20903, 0, false, false, true, "bd1d", "cc70", 1, 0, true, false));
+bt_table03.put(List.of("b7d75", "db06", "ca41", 0, 263, 0, true, true, false, "c086", "af6c", 0, 6239, false, false));
+bt_table03.put(List.of("ae21", "e7a8", "ebd8", 126135, 2793, 0, false, true, true, "f3ee", "c0a2", 0, 48, false, false));
+bt_table03.put(List.of("e805", "c8e6", "ea79", 3, 10, 0, false, false, false, "ad30", "aa0b", 0, 5074, false, true));
+bt_table03.put(Arrays.asList("cea9", "bb42", "abd9", 0, null, 0, true, true, false, "ebe9", "bd78", 0, 3, true, false));
+bt_table03.put(List.of("ca6f", "e8e5", "d700", 0, 0, 126, true, false, false, "e265", "b9b3", 115, 35, false, false));
+bt_table03.remove("b299");
+bt_table03.put(List.of("cdd360", "c143", "be40", 0, 124190, 10107, false, true, false, "ec0da", "ec22", 0, 6210, false, false));
+bt_table03.remove("c2759");
+bt_table03.put(List.of("cbe6", "bc9e", "e71a", 0, 391, 112038, false, true, false, "c606", "fb94", 157, 257, true, true));
+bt_table03.put(List.of("b3fc", "d383", "bed2", 0, 9199, 0, false, false, false, "eff7", "ba8f", 4, 2, false, true));
+bt_table03.put(Arrays.asList("a856", "bfa9", "c161b", 0, 0, 0, false, true, false, "a096", "f9dc", 0, 129, true, null));
+bt_table03.remove("bf77");
+bt_table03.get("e4b3");
+bt_table03.get("cca9");
+bt_table03.put(List.of("ad22", "a2a0", "d330", 0, 2, 0, false, false, true, "f8d4", "aad7", 4, 0, true, false));
+bt_table03.put(List.of("a235", "df71", "de3a", 0, 79469, 2, true, true, true, "cbbf", "a6bc", 0, 82, false, false));
+bt_table03.remove("a91f");
+bt_table03.put(List.of("bf4e", "a6ec", "afeb", 1668, 0, 0, false, true, false, "d91a", "aa6a", 0, 0, true, false));
+bt_table03.remove("ad6d");
+bt_table03.get("d2fa");
+bt_table03.put(Arrays.asList("f84ca", "f882", "b257", null, 0, 0, false, false, false, "b11e", "c5b3", 0, 4128, true, false));
+bt_table03.put(List.of("a333", "f2ad", "f638b", 0, 1501, 0, true, false, false, "bfc5", "fbfb", 515, 28, false, false));
+bt_table03.put(List.of("aa15", "d49f", "be9e", 0, 0, 0, false, false, true, "cd69", "d247", 16217, 1, true, true));
+bt_table03.put(List.of("b411", "a299", "dbb5", 0, 1101, 0, false, true, false, "c6ce", "a3793", 0, 5, false, true));
+bt_table03.remove("a062");
+bt_table03.put(List.of("fe53", "c9db", "a823", 0, 344, 4696, false, true, true, "c220", "bf38", 9060, 264425, false, true));
+bt_table03.get("ab5c");
+bt_table03.put(List.of("a357", "eae5", "c2b7", 3492, 107018, 0, true, false, false, "ea96", "d8f6", 99, 0, true, false));
+bt_table03.put(List.of("e8c5a", "d541", "a880", 10, 183, 411682, true, false, false, "bb38", "b301", 15, 0, false, false));
+bt_table03.put(List.of("af25", "c2d9", "a5818", 13121, 0, 1033, true, true, true, "b51f", "edc3", 0, 0, false, true));
+bt_table03.remove("e22e");
+bt_table03.get("ae63");
+bt_table03.put(List.of("ff00", "ecdf", "e41f", 0, 47, 0, false, false, true, "e409", "a269", 7433, 454, true, true));
+bt_table03.put(List.of("d64b", "ad54c", "a6fef", 39, 0, 0, true, true, true, "a824", "ec7a", 167, 0, false, false));
+bt_table03.put(List.of("fc42", "e7d23", "e150", 0, 748, 4217, false, false, false, "b8f7", "fe26", 0, 62, true, true));
+bt_table03.put(List.of("a6a5", "e134", "bb66", 1626, 4, 5, false, false, false, "b92b", "ac29", 0, 0, false, false));
+bt_table03.put(List.of("b028", "faae", "e1b1", 0, 0, 9, false, false, false, "d109", "ac76", 102, 2, false, true));
+bt_table03.get("f8c2");
+bt_table03.put(List.of("cdac", "ae52", "c96d", 2, 4008, 0, true, false, false, "e756", "acaf0", 10603, 4778, false, true));
+bt_table03.remove("b627");
+bt_table03.put(List.of("a32a", "fdc9", "b53b", 941, 0, 0, true, false, false, "cb70", "df53", 18543, 2, false, false));
+bt_table03.remove("e8f9");
+bt_table03.put(List.of("da78", "e1eb", "f10e", 407, 0, 3, false, false, true, "dc60", "d2ba", 0, 6878, false, true));
+bt_table03.put(Arrays.asList("a694", "bf21", "fb95", 0, 0, 6, true, true, true, "ea49", "e5e3", 0, 71, false, null));
+bt_table03.remove("b2fc");
+bt_table03.put(List.of("c3a4", "d14a", "c437", 0, 0, 1650, true, true, true, "d166", "c626", 0, 28, true, false));
+bt_table03.put(List.of("fc940", "cca4", "ecc5", 10, 0, 23966, true, true, false, "b53c", "a7a62", 0, 1, true, false));
+bt_table03.remove("de26");
+bt_table03.put(List.of("e573", "d1e7", "d32ca", 0, 1666, 1, false, true, true, "a1f1", "d1c5", 0, 51, true, true));
+bt_table03.put(List.of("c830", "fd9c", "fd26", 182, 85, 636, false, true, true, "b344", "ebb5", 0, 11, true, true));
+bt_table03.remove("b6c7");
+bt_table03.put(List.of("b1b4", "c5437", "c35f", 153, 35, 178, true, true, false, "d852", "c647", 0, 62, true, false));
+bt_table03.put(Arrays.asList("abdb9", "b3c1", "e385", 10039, 54, 282, true, null, true, "b352", "f827", 1066, 123171, false, true));
+bt_table03.put(List.of("d5f4", "c8ec", "a0d0", 0, 0, 0, false, false, false, "f396", "a8d6", 0, 538, true, true));
+bt_table03.put(List.of("ce12", "a868", "f795", 7455, 0, 2, false, true, false, "c9122", "fdbd", 20, 0, true, false));
+bt_table03.put(List.of("fe23", "d728", "a7c8", 10279, 0, 1209, true, true, false, "f4e1", "a4c8", 0, 179, false, false));
+bt_table03.put(List.of("a730", "e9c3", "a959", 0, 66, 3067, true, true, false, "e10e", "a66d", 13735, 2056, false, true));
+bt_table03.put(List.of("c2a6", "c724", "a28f", 78, 11603, 41, false, false, true, "a3ff", "da71", 6690, 2, true, true));
+bt_table03.put(List.of("abd63", "a178", "feb1", 685, 0, 0, false, true, true, "c19c", "af2e", 0, 49917, true, false));
+bt_table03.put(List.of("e831", "b5dc", "fe96", 6516, 0, 85, true, true, false, "acf1", "ffac", 7, 679, false, true));
+bt_table03.put(List.of("ae55", "d810", "f0d3", 0, 0, 1072, true, false, false, "a2cd", "a9a2", 5, 0, true, true));
+bt_table03.put(Arrays.asList("a19d", "cf90", "d446", 238, 143888, 992996, null, true, true, "c98e", "a87ab", 2, 0, false, true));
+bt_table03.put(List.of("b9c8", "a757", "b19b", 11, 0, 0, false, false, false, "b6f4", "fd51", 132455, 0, true, false));
+bt_table03.put(List.of("bb28", "ad75", "f622", 0, 30, 0, true, true, true, "a89b", "adc0", 0, 2, false, false));
+bt_table03.put(Arrays.asList("e3e5", "c329", "bab0", 3, 0, 165, true, false, null, "f0d2", "ec1b", 1, 26, true, false));
+bt_table03.remove("e4ed");
+bt_table03.put(List.of("f455", "ce7e", "d2a9", 0, 0, 0, true, true, true, "a016", "e7ad", 7, 0, true, false));
+bt_table03.put(List.of("fbc6", "f5f44", "ba79", 3584, 63, 0, true, true, false, "a1311", "dc43", 4, 0, true, false));
+bt_table03.remove("e149");
+bt_table03.put(List.of("d884", "d9f66", "d1a5", 20, 0, 0, true, false, false, "c5e4", "fdde", 892, 1256, true, false));
+bt_table03.put(List.of("e7710", "d5d1", "e351", 0, 0, 0, true, true, true, "f262", "b87a1", 3, 29362, false, true));
+bt_table03.put(Arrays.asList("c9b0", "eefe", "c9b2", 6024, 6158, 19, false, false, false, "a0c4a", "d53c", 0, 1, null, false));
+bt_table03.remove("f7e53");
+bt_table03.put(List.of("b3a7", "bb933", "d603", 0, 2, 14925, true, false, true, "d946", "e0a0", 0, 9299, true, false));
+bt_table03.put(Arrays.asList("d577", "cd8b", "e0db", null, 2012, 6, false, true, true, "ba1f", "c3e8", 3251, 12604, false, false));
+bt_table03.put(List.of("aa3b", "c801", "d5c2", 0, 0, 5, true, false, true, "d926", "ebfb", 68, 374, false, true));
+bt_table03.put(List.of("aa33", "a361", "d303", 0, 25185, 10892, false, true, true, "c859", "d734", 280, 198, false, false));
+bt_table03.put(List.of("e423", "f117", "fd721", 4, 66859, 24, true, false, false, "ad78", "c7f50", 4, 0, false, false));
+bt_table03.put(List.of("ac16", "b223", "d8ef", 0, 0, 43, false, false, true, "dd1a", "c2f73", 0, 0, false, false));
+bt_table03.put(Arrays.asList("e53d", "e955", "e542", 226, 2, 11231, false, true, true, "fe5e", "cb1e", 0, 183, false, null));
+bt_table03.put(Arrays.asList("b461", "aa9d", "bd86", 1543, 332, null, true, true, false, "a1fa", "ba71", 1, 0, false, false));
+bt_table03.remove("fd11");
+bt_table03.put(List.of("c8d4", "b2b7", "f963", 0, 2043, 0, true, true, false, "cb56", "a7b4", 0, 9, false, true));
+bt_table03.put(List.of("b1a6", "fbb1", "ca34", 0, 0, 73, true, true, false, "a75e", "d210", 1, 0, true, false));
+bt_table03.put(List.of("bb79", "bf9d", "be681", 176, 16795, 6261, true, true, false, "cccf0", "d004", 6, 0, false, false));
+bt_table03.remove("b8aa");
+bt_table03.put(List.of("c1af", "a5eb", "cb5b", 16, 0, 440, true, true, false, "e292", "a036", 6996, 0, false, true));
+bt_table03.remove("c40d");
+bt_table03.put(List.of("a9dc", "c42f", "dfc2", 0, 0, 407, true, true, true, "f200", "a62a", 1, 0, true, false));
+bt_table03.get("f263");
+bt_table03.get("dbaf");
+bt_table03.remove("d477");
+bt_table03.put(Arrays.asList("b2aa", "a8c6", "ba40", 1229, 3, 1, false, false, false, "e043", "cb91", 0, 0, true, null));
+bt_table03.put(List.of("a8094", "ae42", "c9b5", 0, 1, 0, true, false, false, "a456", "ec63", 229, 0, false, true));
+bt_table03.put(Arrays.asList("de19", "cbc4", "c4fa", 9, 0, 71658, true, true, false, "f06d", "fd28f", 0, 0, null, false));
+bt_table03.remove("aba7");
+bt_table03.put(List.of("e217", "b9e3", "d3e2", 6, 2256, 556, true, false, true, "c89c", "e50c", 240, 402, true, true));
+bt_table03.put(Arrays.asList("d580", "d758", "f96c", 308, 12043, 1, false, true, true, "a3e0", "a3db", 1451, 6, false, null));
+bt_table03.get("ab1ce");
+bt_table03.put(List.of("ae88", "edb4", "caaa", 48, 0, 0, true, false, true, "d6f2", "a8e6", 0, 5518, true, true));
+bt_table03.put(Arrays.asList("d689", "cca0", "bcd0", 97, 0, 0, false, true, true, "cbe54", "eb566", 9, 0, null, false));
+bt_table03.remove("a0e8");
+bt_table03.get("b02c");
+bt_table03.remove("fe14");
+bt_table03.get("f19");
+bt_table03.put(List.of("a19b", "a87ca", "e4d9", 3, 238, 0, false, false, false, "bc4b", "adae", 12, 4013, true, true));
+bt_table03.put(List.of("f1db", "c125", "ae51", 1695, 167, 0, false, false, true, "c146", "f31b", 2, 0, false, true));
+bt_table03.put(List.of("a0f6", "ec88", "f67d", 2, 17583, 0, true, false, false, "aecb", "a6ea", 0, 0, false, false));
+bt_table03.remove("dbc3");
+bt_table03.put(List.of("aa01", "b967", "c767", 3017, 1209, 5787, true, false, true, "cabf", "de9c", 7, 2705, true, false));
+bt_table03.get("fa26");
+bt_table03.put(List.of("aec7", "b92c", "ae7b", 0, 0, 1387, false, true, false, "cdf1", "ae6e", 16097, 49, true, false));
+bt_table03.remove("b417");
+bt_table03.put(List.of("afb6", "eb19", "a719", 2, 8, 638, false, true, true, "b454", "d0c5", 0, 158093, false, false));
+bt_table03.put(List.of("ae48", "fbfc", "a8ce", 41678, 17953, 111, true, false, false, "f053", "b2f5", 28, 11, false, true));
+bt_table03.remove("c3d6");
+bt_table03.remove("a4e6");
+bt_table03.remove("edfa");
+bt_table03.put(List.of("f06e", "aa0a0", "bb1c", 4603, 8, 0, true, true, true, "a38a", "c3e7", 1181, 3912, true, true));
+bt_table03.remove("ce8e");
+bt_table03.put(List.of("a493", "c857", "b973", 28, 0, 104, false, true, false, "a926", "b4bc", 0, 1859, false, false));
+bt_table03.get("fee1");
+bt_table03.put(List.of("adf3", "e131", "e020b", 31350, 45880, 1416526, false, true, true, "d407", "bb5d", 635, 0, false, false));
+bt_table03.put(List.of("f29a", "d0e6", "c63c", 0, 26, 0, true, false, false, "eab7", "ebf8", 67, 0, false, false));
+bt_table03.remove("b8df");
+bt_table03.put(List.of("eb7a", "a4fb", "d9f8", 118, 18732, 33, false, true, true, "be73", "a40f", 0, 0, true, true));
+bt_table03.put(List.of("dc91d", "b732", "b39b", 2241, 0, 0, false, true, false, "a82c", "b987", 479, 0, true, true));
+bt_table03.put(List.of("aaa0", "e490b", "be30", 0, 169, 19317, true, true, false, "f424", "a04b", 35273, 15, false, true));
+bt_table03.put(List.of("ae04", "c2bd", "b969", 0, 67, 0, false, false, true, "e9cb", "f270", 0, 18093, false, true));
+bt_table03.remove("efd7");
+bt_table03.get("f41d");
+bt_table03.put(List.of("e3ce", "f840", "e180", 24971, 276, 0, true, true, false, "b7dd2", "cc7e", 204, 0, false, true));
+bt_table03.put(List.of("ac88", "a13d", "ffb6", 0, 73, 50, false, false, false, "b238", "cf87", 65, 23, true, false));
+bt_table03.remove("b849");
+bt_table03.put(List.of("d342", "c866", "cc57", 502, 0, 10007, false, false, true, "dadb", "d71e", 3515, 178, false, true));
+bt_table03.put(List.of("c4621", "a01c", "f459", 0, 2590, 6882, true, true, true, "f11d", "c9d6", 2, 0, true, false));
+bt_table03.put(List.of("a25a", "a798b", "b9df", 103, 0, 379, true, true, true, "af18", "d125", 10, 0, true, false));
+bt_table03.put(List.of("a530", "a286", "c18c", 3, 2, 0, false, true, true, "a79e", "a5b0", 0, 174701, false, true));
+bt_table03.remove("db45");
+bt_table03.put(List.of("edf4", "da58", "e148", 45848, 0, 189295, false, true, true, "f0f8", "a78a", 0, 254477, true, true));
+bt_table03.put(List.of("e9e6", "c26b", "f527", 105, 6982, 0, false, true, true, "c48d4", "af8e", 224773, 3, true, false));
+bt_table03.put(List.of("aad2", "c86d", "d22d", 17, 0, 0, false, false, false, "cf0b", "de42", 0, 13, false, true));
+bt_table03.get("aafb");
+bt_table03.put(List.of("af94", "a46a", "c6463", 78, 0, 4, true, false, false, "f254", "d99b", 34581, 7, true, true));
+bt_table03.put(List.of("a400", "b528", "afbb", 0, 2, 0, false, false, false, "f735", "de7c", 967, 6, true, false));
+bt_table03.put(List.of("ed44", "a94e", "b4a90", 27, 0, 1767, false, true, false, "d03e", "effc", 2, 448, false, false));
+bt_table03.get("a8a1");
+bt_table03.put(List.of("b30b4", "ea1e", "abd5", 26036, 96660, 58, true, false, true, "b70a", "cc0f", 198, 3739, false, true));
+bt_table03.remove("c06b");
+bt_table03.put(List.of("beca", "fbb7", "df3a", 7886, 0, 4950, false, false, false, "b181", "da60", 0, 16, true, false));
+bt_table03.remove("f741");
+bt_table03.get("e071");
+bt_table03.put(List.of("d82e", "e323", "faa2", 2, 43, 0, true, true, true, "aeb9", "cbf3", 0, 0, false, false));
+bt_table03.put(List.of("bff14", "f696", "c155", 1, 0, 43, true, false, true, "ec35", "c636", 6, 3, false, true));
+bt_table03.put(List.of("b6e9", "f4d2", "ccc3", 11, 0, 7, false, true, true, "a28a", "b6564", 0, 0, true, false));
+bt_table03.remove("ebba");
+bt_table03.put(List.of("b4f6", "d0cc", "b6fc", 0, 1082, 0, false, false, true, "ac7a", "bf0c", 0, 0, false, false));
+bt_table03.put(List.of("ee86", "b28f3", "ad49", 0, 0, 4945, false, false, false, "c9a8", "d12f", 1057, 93, false, true));
+bt_table03.put(List.of("dbb7", "b857", "c078", 507, 0, 286, true, false, false, "f6bd", "cba9", 11257, 0, true, true));
+bt_table03.put(List.of("da29", "c6b8", "f6ac", 48, 2, 0, false, true, true, "faaa", "cd7d", 0, 476, true, true));
+bt_table03.put(List.of("e074", "e556", "fa7e", 0, 0, 0, true, false, false, "dc9e", "c3b0", 0, 0, true, false));
+bt_table03.put(List.of("abda", "c9c9f", "e4ba", 0, 1, 4477, true, false, true, "b334", "cfd4", 0, 27366, true, true));
+bt_table03.put(Arrays.asList("a8f1", "ed28", null, 0, 37, 0, false, false, false, "ab35f", "ce1f", 0, 9, true, true));
+bt_table03.get("c03a4");
+bt_table03.put(List.of("a1f2", "f52f", "d9d4", 1504, 17, 12433, false, false, true, "efd0", "ca9f", 0, 64, false, false));
+bt_table03.remove("d2c8");
+bt_table03.put(List.of("e899", "f5bb4", "e0c9", 67, 6423, 29, true, false, true, "ac30", "ca9a", 108, 3081, true, false));
+bt_table03.remove("bd41");
+bt_table03.put(List.of("fa15", "a677", "b42c", 0, 0, 0, true, true, true, "a268", "a675", 46, 0, true, false));
+bt_table03.put(List.of("cdc6", "b77e", "e7ff", 13, 33974, 9, true, false, true, "cd49", "a72c", 0, 0, true, false));
+bt_table03.get("c6e8");
+bt_table03.put(List.of("bcf1", "d435", "c23c", 0, 17666, 29310, false, true, false, "b09b", "fc76", 601, 0, true, false));
+bt_table03.remove("b792");
+bt_table03.put(Arrays.asList("f7b0", "afa3", "ea3e", 2159, 140, 4, false, true, false, "a559", "e60b", 27, null, false, false));
+bt_table03.put(List.of("f0bf", "e9b6", "b020", 65, 0, 26, false, true, false, "a071", "ac379", 118796, 0, false, false));
+bt_table03.put(List.of("c985", "cf66", "da57", 38, 0, 1, false, false, true, "a411", "c691", 5, 100, true, true));
+bt_table03.put(List.of("f71c4", "c94c", "e0d6", 83941, 3693, 169, true, true, false, "f236", "a192", 5425, 5, false, true));
+bt_table03.put(List.of("f285", "d16b", "c77e", 33, 78, 86, true, true, false, "b1aa", "b5c18", 468, 0, true, true));
+bt_table03.put(List.of("e6ee", "f0a3", "b4fb", 0, 0, 0, true, false, false, "b499", "a19a", 0, 0, false, true));
+bt_table03.put(List.of("ac65", "bf09", "ffc1", 0, 112, 0, false, true, false, "ab51", "c46b", 15, 474, false, true));
+bt_table03.put(List.of("b743", "c4ed", "c253", 163, 1006, 439, true, true, false, "d29b", "cc03", 3995, 4, false, true));
+bt_table03.remove("ae40");
+bt_table03.put(List.of("aefd", "a9e3", "d039", 4, 3, 22, true, true, false, "c983", "ee1c", 1, 16, false, true));
+bt_table03.remove("fa9d");
+bt_table03.put(List.of("b658", "a2045", "de91", 0, 0, 0, false, true, false, "f7af", "e124", 4, 0, false, true));
+bt_table03.remove("c630");
+bt_table03.put(Arrays.asList("a650", "dc84", "d12b", 2, null, 0, true, true, false, "ac05", "f639", 0, 0, true, false));
+bt_table03.put(List.of("e8b3", "bfd2", "bbc7", 0, 9254, 0, false, false, false, "a9ef", "d0e7", 0, 4, false, true));
+bt_table03.put(List.of("d530", "eb48", "af59", 995, 702, 0, false, true, false, "a1d2", "dda4", 36, 1849, false, false));
+bt_table03.remove("a38b5");
+bt_table03.remove("f549");
+bt_table03.put(List.of("d326", "e49c", "d0da", 2, 0, 24, true, false, true, "b65e", "e7ddb", 5196, 0, false, true));
+bt_table03.put(List.of("d223", "aaf5", "cda0", 1, 259, 72, false, false, false, "a905", "c9ec", 0, 1917, false, true));
+bt_table03.put(Arrays.asList("ad660", "d081", "a722", 0, 6, 0, true, false, false, "ae2c", "cc6f", 930, 2, true, null));
+bt_table03.put(List.of("be03", "df2c", "b86cc", 1866, 162, 10042, false, false, true, "b576", "b0ef", 45, 1244, true, true));
+bt_table03.remove("cd29");
+bt_table03.get("a42b");
+bt_table03.remove("cde6");
+bt_table03.put(List.of("a445", "d832", "cc4e", 315, 0, 24, false, false, false, "e0ea9", "ea92", 1, 0, false, false));
+bt_table03.get("f9c6");
+bt_table03.put(Arrays.asList("fae8", "f770", "a7cb", 3080, 3, 21073, true, true, null, "a894", "c000", 0, 0, false, true));
+bt_table03.remove("d244");
+bt_table03.remove("f4ed");
+bt_table03.put(Arrays.asList("aac6", "bef4", "d712", 6, 21, 6, false, false, true, "a5c4", "d128", 0, 0, null, true));
+bt_table03.put(List.of("a78d", "a668", "a1bf", 96, 26, 2778, true, false, true, "f0ec", "b346", 31, 70, true, false));
+bt_table03.remove("f18b");
+bt_table03.put(Arrays.asList("ddee", null, "e73d", 13411, 33, 0, false, true, false, "fd2f", "ee67", 748008, 8, false, true));
+bt_table03.remove("f21f");
+bt_table03.put(Arrays.asList("d526", "d9c9", "b8cb", 0, 5679, 1040, null, false, true, "bc451", "d4bb", 0, 0, false, false));
+bt_table03.put(List.of("ca21", "a401", "a3bae", 6571, 6020, 45, true, false, true, "d84a", "a190", 1, 35680, false, true));
+bt_table03.put(List.of("e729", "e8e0", "b18e", 5433, 2510, 0, true, true, false, "ee21", "b56a", 4, 50, false, false));
+bt_table03.remove("fff2");
+bt_table03.put(List.of("f301", "b998", "d45f", 0, 6251, 136666, true, true, false, "aa9f", "da59", 0, 0, false, false));
+bt_table03.put(List.of("abc9", "a511", "f2be", 0, 0, 37, false, false, false, "e722", "fb6c", 67220, 746, true, false));
+bt_table03.remove("cf28");
+bt_table03.put(List.of("c521d", "a624", "ea7e", 4, 696, 4, false, false, true, "f8f3", "a865", 9, 1044, true, false));
+bt_table03.put(List.of("cf59", "cb1a", "edbf", 0, 3091, 0, false, false, false, "ffbb", "ab59", 0, 2917, true, true));
+bt_table03.remove("f6a0");
+bt_table03.put(List.of("bb5e", "a7c2b", "f534", 0, 27, 4, false, false, true, "c5d3", "fe99", 8422, 1, false, true));
+bt_table03.put(List.of("f04a", "d6c8", "e12d", 14451, 0, 0, true, true, false, "ca432", "edd0", 2906, 81, true, true));
+bt_table03.put(List.of("f984", "e36c", "fdfe5", 22, 0, 8, false, true, false, "a601", "a679f", 42, 48, false, false));
+bt_table03.get("c316");
+bt_table03.put(List.of("c7b7", "c30e", "f1b9", 7708, 2273, 0, false, false, true, "e015", "b5b5", 3154, 0, true, false));
+bt_table03.put(List.of("fd1d7", "a16b", "fe6be", 3, 0, 0, false, true, true, "fbb9", "b2ce", 129, 1, true, true));
+bt_table03.get("b00b");
+bt_table03.put(List.of("cb50", "cbaa", "e0e7", 5589, 0, 228, false, true, false, "d4b9", "e349", 45313, 2, true, false));
+bt_table03.put(List.of("d08a", "b9f0", "cbdb", 0, 37080, 0, false, false, true, "d0ac", "b21b", 0, 0, true, false));
+bt_table03.put(List.of("f27d", "b66f", "dfd8", 172, 195878, 0, true, false, true, "dc90", "ce9d", 0, 0, true, false));
+bt_table03.remove("fbb4");
+bt_table03.remove("e1e2");
+bt_table03.put(List.of("fb27", "b932", "d638", 0, 2691, 2, false, true, true, "fcc01", "cd7c", 0, 11, true, true));
+bt_table03.put(Arrays.asList("d66a", null, "c3b2", 79, 1, 0, true, false, false, "be21", "cf47", 107, 1, false, false));
+bt_table03.put(Arrays.asList("ec1d", "b324", "b4ed", 117910, 0, 0, true, false, true, "ba54", "aa30", 0, null, false, true));
+bt_table03.put(List.of("edcd", "cbe7a", "d91d", 0, 0, 291, true, true, false, "c6d4", "bbad", 8, 0, true, false));
+bt_table03.put(Arrays.asList("f5f9", "acd55", "e980", 84, 0, 2, false, null, true, "d24b", "c394a", 7, 0, false, true));
+bt_table03.put(Arrays.asList("a4cb", "a71b", "e078", 2, 815, 0, true, false, false, "a944", null, 0, 0, true, true));
+bt_table03.put(List.of("d7f1", "ba0c", "c48d", 2585, 0, 715, true, false, true, "c823", "c45f", 2, 1, true, true));
+bt_table03.put(List.of("adef", "d68f", "c6c2", 3, 0, 0, true, false, false, "c344", "b203", 0, 18, false, false));
+bt_table03.get("d567");
+bt_table03.put(List.of("e4a96", "e7c9", "d100", 0, 1068, 0, false, true, true, "cf13", "a805", 38, 0, false, false));
+bt_table03.put(Arrays.asList("a3b30", "cbd1", "b65b", 25, 0, 7, true, null, false, "a61b8", "d3f5", 1, 515, false, true));
+bt_table03.remove("fcb2");
+bt_table03.put(List.of("c2cb", "c67de4", "d8a5", 0, 0, 0, true, true, true, "f2cf", "c6f3", 51, 7, true, true));
+bt_table03.get("ffba4");
+bt_table03.get("b976");
+bt_table03.put(List.of("b888", "e8e3", "bf4a", 0, 1, 0, false, false, true, "a6c6", "d1c9", 0, 0, true, true));
+bt_table03.remove("b155");
+bt_table03.put(List.of("b77f", "bd907", "df4e", 0, 14042, 14223, false, false, true, "bf0a", "abfe", 0, 0, true, false));
+bt_table03.put(List.of("c5ca", "c53e", "a8bd", 2843, 825, 266, true, false, true, "bbd2", "a996", 138, 200, false, false));
+bt_table03.remove("f630");
+bt_table03.put(List.of("ef07", "cc80", "f818", 0, 0, 0, true, true, true, "b8b2", "bb43", 0, 723, false, true));
+bt_table03.remove("bf9f");
+bt_table03.put(List.of("fa92", "b63d", "bc2c", 4, 0, 288, true, true, true, "a6a4", "dced", 133, 47, true, true));
+bt_table03.put(Arrays.asList("e0d1a", "ce51", "ca6d", 0, 86, 39, true, false, false, "eefd", "b70e", 4, 0, false, null));
+bt_table03.remove("dcf9");
+bt_table03.put(List.of("ce28", "ab7b", "b9f6", 2, 5618, 2153322, false, false, true, "a0c6", "bd19c", 0, 23, false, true));
+bt_table03.put(List.of("b9ce", "c3b1", "f2e3", 19881, 16249, 12130, false, false, true, "c91b", "f437", 40, 639, true, false));
+bt_table03.put(Arrays.asList("e913", "a5d7f", "d963", 0, 0, 4, false, true, false, "c1df", "a948", 1, 0, false, null));
+bt_table03.remove("e43d");
+bt_table03.put(List.of("c06a", "bb3c", "adc6", 14, 0, 38196, false, false, true, "c625", "a324", 1221, 0, false, false));
+bt_table03.put(List.of("e54e", "a12c", "a131a", 0, 0, 0, true, false, false, "b902", "e2611", 0, 4, false, true));
+bt_table03.put(List.of("df1c", "c45d", "a6b5", 2828, 0, 0, false, false, true, "d4f5", "d4e0", 2, 0, true, true));
+bt_table03.get("f490");
+bt_table03.put(List.of("e206", "c015", "b6eb", 384, 7304, 24, false, false, true, "a44c", "e256", 5, 76, true, true));
+bt_table03.put(List.of("d3b5", "c71d", "dc9a", 45, 0, 0, false, false, true, "a3e8a", "dbd1c", 25, 19, false, true));
+bt_table03.put(List.of("d0fb", "d345", "b97b", 15, 0, 0, true, false, false, "cc11", "d8686", 4, 114, false, true));
+bt_table03.put(List.of("a2b8", "e0c60", "fb05", 2, 0, 0, true, true, false, "cf00", "c0c3", 0, 186, true, true));
+bt_table03.put(List.of("e4e2", "feba", "cd9f", 5, 0, 0, true, true, false, "aef5", "ff14", 0, 191, false, false));
+bt_table03.put(List.of("b1f2", "cba8", "ceaf", 110, 21, 29, true, false, true, "ba56", "e8c2", 3437, 99, false, false));
+bt_table03.put(List.of("ad1e", "d153", "e58f", 38, 0, 52, false, false, true, "db8e", "a2e0", 340, 67, true, true));
+bt_table03.put(List.of("d7fb", "a218", "c4ba", 0, 608, 0, true, false, false, "d491", "a07b", 14553, 0, false, true));
+bt_table03.get("fe4a");
+bt_table03.put(List.of("e91a", "ea7b", "e3d0", 1207, 2712, 2, true, true, false, "c193", "e693d5", 99, 2569, false, false));
+bt_table03.put(List.of("c2b0", "c2e0", "bd7c", 0, 0, 1, false, true, true, "dd14", "d471", 0, 0, true, true));
+bt_table03.put(List.of("ee5b", "bca8", "abfd", 181, 0, 18, false, false, false, "e86b", "b741", 0, 1200, true, false));
+bt_table03.put(List.of("f251", "f21c", "df36", 0, 1, 23222, true, false, true, "ca07", "b32a3", 0, 0, true, false));
+bt_table03.put(List.of("ab65a", "ccb0", "bc60", 0, 0, 3773, true, true, true, "dd65", "f0e6", 0, 101635, true, true));
+bt_table03.remove("b5190");
+bt_table03.put(List.of("bffc", "d523", "a2d1", 30, 68, 0, false, true, false, "ed8d", "bdfe", 183, 46516, true, false));
+bt_table03.put(List.of("b997", "f23e", "a679", 54, 1673, 131117, false, true, false, "d43a", "b3b3", 4, 2533, true, true));
+bt_table03.get("ec6e");
+bt_table03.put(List.of("b5322", "e5e5", "f353", 155, 2369, 0, false, false, true, "b361", "bac4", 0, 0, false, true));
+bt_table03.put(List.of("a56d", "f1be", "ee8a", 196, 23781, 0, true, true, true, "c9b7", "b970", 0, 0, true, true));
+bt_table03.remove("fb70");
+bt_table03.put(List.of("f7d9", "e472", "aa0d", 0, 0, 0, false, true, true, "eae2", "d32b", 949, 618, false, true));
+bt_table03.put(List.of("b042", "d8dc", "fd58", 0, 0, 0, false, false, false, "acbf", "c01c", 21756, 0, false, true));
+bt_table03.put(List.of("e882", "b129", "d414", 0, 26, 56, true, true, false, "d74c", "a0a4", 434, 41454, true, false));
+bt_table03.put(List.of("ab14", "f73f", "adc5", 3, 0, 2, false, false, false, "c314", "b0e2", 143, 3, false, false));
+bt_table03.put(List.of("b72a", "a304", "b795", 0, 5, 0, false, false, false, "e90f", "d50f5", 8, 0, true, true));
+bt_table03.put(List.of("b198", "d191", "f1d0", 6, 6627, 365, true, false, true, "e4d27", "bf3f", 4713, 0, false, false));
+bt_table03.put(List.of("a6d8", "ff0b", "c658", 0, 0, 3, true, false, false, "a39b", "b6b8", 0, 7861, true, false));
+bt_table03.put(List.of("cb83", "e8cb", "b3131", 2158, 95080, 0, false, true, false, "ab83", "b8e2", 0, 15, true, true));
+bt_table03.put(List.of("a6b6", "e89c", "c850", 1409, 0, 18, true, false, false, "b4d0", "be2c1", 255024, 0, true, true));
+bt_table03.put(List.of("b7e5", "cc21", "bd12a", 122, 3, 50, false, false, false, "d925", "dfc0", 0, 0, false, false));
+bt_table03.put(Arrays.asList("d73c", "e68c", "d1ac", 20, 0, 0, false, false, null, "cac5", "f98e", 0, 0, true, false));
+bt_table03.put(List.of("ecb1", "ef4b", "c498", 5647, 0, 29, true, false, false, "ed8a", "b57c", 23, 9, true, false));
+bt_table03.get("ae1f");
+bt_table03.put(List.of("d27e2", "a2b7", "d112", 0, 13114, 34, true, false, false, "f942", "a3cd2", 0, 0, false, false));
+bt_table03.put(List.of("f9ad", "c24c", "a840", 46, 0, 0, true, false, false, "c511", "e377", 0, 0, false, true));
+bt_table03.put(List.of("adf9", "becd", "d3c8", 2, 2, 448, true, false, true, "a1974", "c43b", 1, 1218, true, true));
+bt_table03.put(List.of("ab21", "a829", "a393", 7910, 670, 56, true, true, true, "b167", "df61", 4, 3, false, false));
+bt_table03.put(List.of("dc04", "ec7c", "d528", 424, 0, 158, false, false, true, "a5cb", "b0747", 47, 71, true, true));
+bt_table03.put(List.of("c19d", "f7c8", "c9da", 1, 2, 0, false, true, false, "cd54", "c267f", 0, 11, true, false));
+bt_table03.put(List.of("c4cb", "ed69", "e18b", 58096, 0, 89943, false, false, false, "ea627", "aa90", 50124, 10, false, true));
+bt_table03.put(List.of("da10", "d57d", "c87e", 4380, 0, 761, true, true, false, "c02a", "bed5", 0, 0, false, true));
+bt_table03.put(List.of("f457", "b28c", "abd87", 9, 3046, 102245, false, true, true, "a15f", "ffdb", 0, 109, true, false));
+bt_table03.put(List.of("d5a9", "e932", "ab6c", 1, 0, 616, false, true, false, "ab39", "a58f", 48, 0, false, false));
+bt_table03.put(List.of("b60a", "badd", "c752", 0, 877, 0, true, false, true, "f298", "aeef4", 0, 1, false, false));
+bt_table03.put(List.of("bd94", "be4d", "c2d1", 315, 0, 74, false, true, true, "a2ce", "a4e6d", 129, 0, true, true));
+bt_table03.put(List.of("f267e", "b426", "b184", 0, 0, 24, true, false, true, "a026d", "e9f7", 583, 145, true, true));
+bt_table03.put(List.of("d5c9", "fe09", "ca84", 18, 3560, 30, false, false, true, "d404", "d740", 2045, 0, false, true));
+bt_table03.put(List.of("df81", "bc4e3", "d42c5", 1, 14, 0, false, true, true, "bb1d", "a91c", 0, 1, true, true));
+bt_table03.remove("be22");
+bt_table03.put(List.of("b51d", "eb1b", "ef85", 0, 0, 0, false, true, true, "a960", "dc28", 13756, 0, true, true));
+bt_table03.put(List.of("ee2a", "bd5b", "d038", 0, 129834, 0, true, false, true, "dff3", "a317", 4, 0, false, false));
+bt_table03.remove("d829");
+bt_table03.put(List.of("be13", "e520", "e8b8", 0, 0, 33, false, true, false, "fef4", "fecb", 0, 0, false, false));
+bt_table03.put(List.of("bfb0", "fc6f", "b6e0", 1504, 1019, 1821, false, false, false, "a438", "bdd3", 114, 0, true, true));
+bt_table03.get("cdcc");
+bt_table03.put(Arrays.asList(null, "c49a", "f7ce3", 36, 849, 0, true, true, false, "b0237", "b269", 10, 0, false, true));
+bt_table03.put(Arrays.asList("db20", "bc3b", "ac85", 0, null, 0, false, true, false, "a27a", "f0d7", 2, 0, null, true));
+bt_table03.put(List.of("b516", "c76e", "f799", 0, 215, 0, true, true, false, "f1a3", "dd6a", 0, 0, true, false));
+bt_table03.put(List.of("a8f4", "a1e5", "c39e", 1305, 0, 0, false, false, false, "a063", "e3f9", 0, 0, true, true));
+bt_table03.put(List.of("b48f", "adc3", "bb8f", 6, 0, 156, true, false, false, "c52f", "dce8", 1384, 0, false, true));
+bt_table03.put(List.of("a2b9", "be0f", "c62b", 159, 0, 5, false, true, false, "b7acc", "e622", 0, 0, false, false));
+bt_table03.get("a8d9");
+bt_table03.put(List.of("e563", "ddab", "c176", 20882, 5, 0, true, true, false, "ba47", "bbd1", 10544, 111, true, true));
+bt_table03.put(List.of("bdf6", "ea9f5", "eaf8", 3, 0, 6, true, false, false, "c3cb", "fb16", 0, 0, false, true));
+bt_table03.put(List.of("ba891", "b397", "e12f", 0, 0, 0, false, true, false, "c42b", "a11f", 0, 30, false, true));
+bt_table03.put(List.of("deca", "d2ff", "b4f9", 2037, 137, 2558, true, false, false, "c6f5", "f4fe", 0, 10, false, true));
+bt_table03.put(Arrays.asList("a488", "cab5", "ab87", 1007323, 0, 0, true, false, false, "b6ca", "f70f", null, 253, false, true));
+bt_table03.put(List.of("a0b6", "db47", "a5452", 0, 4621, 2603, false, false, true, "cfca", "e7d6", 0, 13819, false, true));
+bt_table03.put(List.of("aff2", "c7882", "a1fc", 0, 0, 10145, true, true, true, "e50e", "dc00", 5, 305, true, false));
+bt_table03.put(List.of("dfe5", "d6ff", "fefa", 0, 0, 0, true, true, false, "ec1f", "fd6f", 1640, 10, true, true));
+bt_table03.remove("cb7d0");
+bt_table03.put(List.of("cda7", "d2b5", "e042", 61, 11, 106, false, true, true, "ae28", "e001", 27, 593, false, false));
+bt_table03.put(List.of("b5c9", "fb50", "bb0d", 4603, 5, 0, true, true, false, "ae6b", "f6ba", 0, 0, true, false));
+bt_table03.put(List.of("b0b1", "d349", "f0aa", 0, 2, 754, false, true, false, "c0c2", "de48f", 0, 0, false, true));
+bt_table03.remove("f0e2");
+bt_table03.put(List.of("bf80", "ad9a", "b72d", 0, 0, 0, true, true, false, "e838", "b881", 8554, 0, true, true));
+bt_table03.remove("cfe6");
+bt_table03.put(Arrays.asList("e051", null, "f33f", 1119, 21674, 183, false, false, false, "d207", "b629", 0, 13232, true, true));
+bt_table03.put(List.of("d4c6", "df97", "a3c7", 0, 227, 0, true, true, false, "a2cf", "e66b", 69, 0, true, false));
+bt_table03.put(List.of("ef13", "ba2c", "b3ac", 0, 0, 0, true, false, true, "b12b", "b72cc", 0, 12, false, false));
+bt_table03.put(List.of("a423", "d3ab", "ae1c", 1572, 112, 97, true, true, false, "a193", "c203", 651, 0, false, true));
+bt_table03.put(Arrays.asList("d9f7", "f482f", "eaa0c", 60854, 0, 0, false, true, true, "fb32", "b4e4f", 47, 7, null, false));
+bt_table03.put(Arrays.asList("bb7f", "e4f9", "a163", 1, null, 9583, false, true, true, "f523", "bde4", 0, 33, false, true));
+bt_table03.put(Arrays.asList("a94ec", null, "e8c8", 0, 0, 242, false, false, true, "a024", "b686", 0, 0, false, true));
+bt_table03.put(List.of("da4d", "b7cf", "aed7", 0, 541, 27, false, false, true, "afa4", "a7f1", 0, 17334, true, false));
+bt_table03.put(Arrays.asList("b936", "bad1", "cb51", 32, 0, 0, true, true, false, "e239", "bb81", 0, null, false, false));
+bt_table03.put(List.of("a5f1", "cc72", "d1d4", 2, 0, 1399, true, true, true, "d863", "d286", 16, 1, true, true));
+bt_table03.remove("fc27");
+bt_table03.remove("ff32");
+bt_table03.put(List.of("ab62", "ac26", "a1d0", 1, 1621, 0, true, false, false, "dd69", "db4f", 1281, 1805, false, false));
+bt_table03.put(List.of("fc75", "ce80", "d379", 3, 144, 3, false, false, true, "e0f3", "c54c", 1, 0, true, false));
+bt_table03.get("c47b");
+bt_table03.put(List.of("ab25", "e160", "becc", 1512, 11887, 147, true, true, false, "ae4a", "a6e3", 5397, 0, false, true));
+bt_table03.put(List.of("db55", "ef69", "d760", 0, 0, 476, true, true, true, "eb38", "a957", 2770, 0, true, true));
+bt_table03.get("ba0d");
+bt_table03.put(Arrays.asList("b676", "f7d6", "e42f", 3053, 0, null, true, false, false, "b6e2", "cac2", 1378, 13, true, true));
+bt_table03.get("b96d");
+bt_table03.put(List.of("cbe2", "cf82", "a351", 0, 883, 47, true, false, true, "efb0d", "c1f5", 7, 0, true, false));
+bt_table03.put(List.of("ac82", "a347", "dc8a", 26, 155, 162296, true, false, true, "ba4e", "d28f", 1, 2441, false, false));
+bt_table03.put(List.of("ad66", "de67", "b608", 4, 61, 7182, false, false, true, "b5a3", "e021", 0, 0, true, true));
+bt_table03.remove("de4a");
+bt_table03.remove("de2d");
+bt_table03.put(List.of("e977", "fbba", "a4a9", 390, 3, 4643, false, true, false, "a4f1", "b65f", 12607, 0, true, true));
+bt_table03.remove("eb7c");
+bt_table03.put(List.of("fd52", "c567", "f559", 4845, 1, 25801, true, false, true, "b414", "dc8c", 0, 16, true, false));
+bt_table03.put(List.of("acd7", "cfec", "daf1", 8, 0, 5377, false, true, true, "b419", "bfda3", 2, 0, true, true));
+bt_table03.put(List.of("cc51", "f597", "be02", 558, 20293, 0, false, true, true, "ca16", "ab60", 348, 8, false, true));
+bt_table03.put(List.of("e3e7", "b437", "c869", 79, 76, 0, false, false, true, "be11", "c678", 1864, 23, false, false));
+bt_table03.remove("e37b");
+bt_table03.remove("a431");
+bt_table03.put(List.of("dc10", "f0d4", "cd03", 0, 0, 0, false, false, true, "e2b1", "a86c", 0, 2011, true, false));
+bt_table03.remove("a60e");
+bt_table03.put(List.of("ca45", "bfd0", "c380", 2, 3, 1369, true, false, true, "b532", "a362e", 8, 0, true, false));
+bt_table03.remove("c850f");
+bt_table03.put(List.of("d78c", "e5cc", "f808", 0, 10365, 0, false, true, true, "d4c9", "ca5a", 8, 25554, true, true));
+bt_table03.put(Arrays.asList("c252", "c16c", "c800", 280, 171, 0, false, true, false, "c8a0", "e02c", 11261, null, true, false));
+bt_table03.remove("dd5c");
+bt_table03.put(List.of("b77fc", "b47d", "be1a", 20780, 0, 0, true, false, true, "bfbd", "adf1", 9275, 14, false, false));
+bt_table03.remove("e1ba");
+bt_table03.put(List.of("db90", "c60a", "eb757", 10, 0, 5052, false, false, false, "af1f", "feaa", 25, 0, true, true));
+bt_table03.remove("ae30");
+bt_table03.put(List.of("b80a", "b170", "c808", 7, 328, 22, true, false, false, "e27c", "a2bd", 1354, 6534, true, true));
+bt_table03.put(List.of("ff07", "ac92", "da21", 28, 1531, 0, false, true, false, "dbde4", "f6e4", 2778, 3, false, true));
+bt_table03.put(Arrays.asList("d059", "fb96", "be62", 238, 181, 0, true, true, null, "adbe", "a2d0", 0, 149, false, false));
+bt_table03.put(List.of("e9f1", "e40e", "acba", 0, 56, 0, false, false, true, "c57e", "e226", 3, 0, false, true));
+bt_table03.put(List.of("c4526", "a2b4c", "e1ff", 41, 0, 0, false, false, false, "d75a", "a512a", 18, 3, false, false));
+bt_table03.get("f943");
+bt_table03.put(List.of("d1c2", "aaf4", "f0f1", 622, 0, 0, true, true, false, "bed6", "edd9", 42528, 0, false, true));
+bt_table03.put(List.of("b0d4", "f784", "a7ef", 2, 0, 0, false, true, false, "c4a2", "cd10", 2, 0, false, false));
+bt_table03.put(List.of("eec7", "edc2", "a358", 5, 0, 1219, false, false, false, "a1f4", "b5bd", 4, 1, true, false));
+bt_table03.put(List.of("a759", "dd63", "cbb1", 0, 0, 1169, true, false, false, "e9b68", "bdde1", 0, 0, false, false));
+bt_table03.put(Arrays.asList("b56e", "b9f5", "ba27c", 338, 0, 170, null, false, false, "c6caf", "d71c", 0, 17037, false, true));
+bt_table03.get("fe33");
+bt_table03.remove("d8d0");
+bt_table03.remove("b69b");
+bt_table03.put(List.of("a578", "e07a", "a956", 0, 669, 0, false, true, true, "a8bf", "f9f9", 4, 0, false, false));
+bt_table03.put(List.of("bac5", "c605", "d124", 0, 0, 0, false, false, false, "bfcf", "f61c", 237, 1450, true, true));
+bt_table03.put(List.of("ae3f", "ac9d", "ab9f", 232, 1, 0, true, false, false, "bfe5", "ea74", 185980, 0, false, true));
+bt_table03.put(List.of("ae1a1", "ab7f", "b3b8", 4, 0, 35, false, true, true, "d8df", "aa55", 15, 0, false, false));
+bt_table03.put(Arrays.asList("d274", "b87e", "eb15", 202, 0, 0, false, null, false, "f658", "e590", 291, 0, false, false));
+bt_table03.put(Arrays.asList("f69e", "ba41", "bf1d", 0, 0, 13, true, false, false, "da1f", "e6c4", 1, 0, null, false));
+bt_table03.put(List.of("c7ee", "f5ce", "fc17", 19, 0, 0, true, false, true, "af95", "d782", 0, 0, true, true));
+bt_table03.put(List.of("b5a7", "ebf5", "b204", 6014, 185, 223, false, false, false, "b23d", "c81f", 0, 0, true, true));
+bt_table03.put(List.of("bb45", "d484", "dd8c", 0, 25750, 1, true, true, false, "e028", "e781", 68, 3159, false, true));
+bt_table03.get("f660");
+bt_table03.put(List.of("d31e", "b1fc", "da49", 0, 355760, 13, false, true, false, "b684", "f948", 331, 26, true, false));
+bt_table03.put(List.of("a572", "bcb5e", "e6b5", 0, 1, 0, true, true, true, "a846", "d52d", 25584, 10509, true, false));
+bt_table03.put(List.of("bccc", "ba78", "feac", 141, 609, 0, false, true, false, "c06f", "c5636", 0, 548, false, false));
+bt_table03.put(List.of("c5f5", "a37c", "b0de", 21459, 2, 0, true, false, false, "c38c", "ff16", 1845, 0, false, false));
+bt_table03.put(List.of("db31", "c7a6", "b288", 0, 99453, 1629, true, true, true, "f64b", "d49a", 3857, 0, true, true));
+bt_table03.put(List.of("be5e", "a8a2", "b583", 2, 0, 0, false, true, false, "f53d", "f0de", 2452, 164, true, false));
+bt_table03.put(Arrays.asList("d2be", "bde8", "be9ea", null, 222, 0, false, false, false, "eb6f", "dd8f", 0, 162, false, true));
+bt_table03.remove("b547");
+bt_table03.put(List.of("f8be", "b4e4", "df86", 520, 101, 114, true, true, false, "a9fc", "a600", 312495, 0, true, false));
+bt_table03.put(List.of("ce1c", "ab5f", "d202", 0, 0, 197187, true, true, false, "dc5c", "c88a", 30, 1, false, true));
+bt_table03.put(List.of("ed9ad", "b9ac", "f46f", 3, 3, 0, true, false, false, "f011", "b2cd", 18, 5, false, false));
+bt_table03.put(List.of("cf68", "b596", "ce78", 0, 507, 1682, false, false, true, "c6f1d", "cc29", 9133, 978, false, true));
+bt_table03.put(List.of("cdd9", "e2f6", "f19c", 5266, 0, 0, true, false, false, "f0af", "e315", 0, 0, true, false));
+bt_table03.put(List.of("a733", "e43c", "e8a3", 0, 0, 0, true, false, true, "f8a0", "b3c9", 677, 0, false, true));
+bt_table03.get("da1e");
+bt_table03.remove("da55");
+bt_table03.put(List.of("a0c0", "c00a", "f132", 0, 1686, 123, true, true, false, "b4a65", "ad58", 19, 0, false, true));
+bt_table03.get("df42");
+bt_table03.put(Arrays.asList("beb6", "cad8", "cc17", 1, 74, 0, true, null, true, "ba80", "f519", 3290, 94, true, false));
+bt_table03.put(List.of("a11f5", "b2543", "e48f", 0, 47, 138229, false, true, true, "cc44", "b0c4", 668, 54, true, false));
+bt_table03.remove("b10a");
+bt_table03.put(List.of("cd781", "da1d", "c883", 730, 0, 0, true, false, false, "d23d", "d46a", 78, 166, false, false));
+bt_table03.remove("a55d");
+bt_table03.remove("dc2c");
+bt_table03.put(Arrays.asList(null, "fec9", "aa525", 0, 0, 6, false, true, false, "a1c4", "e0ab", 2500, 0, true, true));
+bt_table03.put(List.of("d76d", "a580", "fb7c", 33, 14340, 58, true, false, false, "a533", "b8a2", 0, 106, false, true));
+bt_table03.remove("f79bc");
+bt_table03.put(List.of("a24a", "be23", "fb13", 60, 0, 11, true, false, false, "d4c5", "be07", 0, 2563, true, true));
+bt_table03.get("f9552");
+bt_table03.get("e983");
+bt_table03.put(Arrays.asList("ed4e", "fe05", "ea84", 0, 225, 28145, false, true, true, "ff98", "cc9f", 6251, null, true, true));
+bt_table03.put(List.of("c3ef", "f2ef", "d7aa", 2, 55, 5658, false, true, true, "cf099", "a32c", 0, 0, false, false));
+bt_table03.remove("cf0f");
+bt_table03.remove("c0fe");
+bt_table03.put(List.of("b8ab", "bc4f", "a639", 0, 0, 0, true, true, true, "d076", "b1c1", 0, 0, false, true));
+bt_table03.remove("c46d");
+bt_table03.put(List.of("b17d", "fa97", "eef5", 2486, 0, 1439, false, false, true, "ab88", "dacd", 0, 413, false, true));
+bt_table03.put(List.of("a194", "ea95", "d3a5", 23, 0, 5799, false, false, false, "ea78", "feef", 0, 0, true, true));
+bt_table03.put(List.of("a42a", "c4f1", "b63a", 0, 0, 4, true, false, true, "a61e", "ae96", 4431, 0, true, false));
+bt_table03.put(Arrays.asList("e4d0", "fa3e", "b601", 0, 117, 0, false, false, false, "a418", "f1f5", 1, null, true, true));
+bt_table03.remove("b4e3");
+bt_table03.put(List.of("c335", "eaaf", "a29d", 104958, 0, 0, true, true, false, "d6d15", "e798", 40931, 0, false, false));
+bt_table03.put(Arrays.asList("a4dc", "e7e8", "b4bf", 0, 6, null, true, true, false, "ef87", "b82f", 0, 98436, false, true));
+bt_table03.put(List.of("e584", "f871", "eaeb", 0, 46, 7, false, true, true, "a0d6", "aede", 0, 1483, false, false));
+bt_table03.put(List.of("dee9", "a222", "e933", 4401, 0, 0, false, false, true, "f910", "d1ad", 0, 9, true, false));
+bt_table03.remove("f366");
+bt_table03.put(List.of("d33d", "c7b4", "d2ba1", 8, 4972, 179, false, false, false, "a729", "bd49", 0, 48675, false, false));
+bt_table03.put(List.of("e7fb", "af98", "a060", 45, 0, 8, false, true, false, "a5bd", "e13f", 1, 0, false, true));
+bt_table03.put(List.of("da3b", "c2c7", "e6f7", 8, 0, 103, false, false, false, "d2aa", "ed25", 1727, 4764, false, false));
+bt_table03.remove("d6a8");
+bt_table03.put(List.of("f668", "e5c0", "df7dc", 0, 16, 32, true, false, true, "f985", "eb62", 1, 1, true, true));
+bt_table03.put(List.of("d4b0", "e480", "fc6d", 20, 5249, 71, true, true, false, "df10", "c1c3", 5, 1, true, false));
+bt_table03.put(List.of("bc80", "c40c", "c8fd", 0, 1031, 165, true, true, true, "ffd5", "a042", 0, 0, true, false));
+bt_table03.put(List.of("bb35", "d800", "fa4e", 109, 0, 9106, false, false, true, "b90d", "d6cc", 0, 0, false, true));
+bt_table03.remove("b023");
+bt_table03.remove("d7f2");
+bt_table03.put(List.of("aef6", "c164", "f0bb", 611, 0, 2402, true, false, false, "e5fb", "ea87", 3800, 177, true, false));
+bt_table03.put(List.of("fade", "b46ee", "a51f", 0, 0, 0, false, false, true, "c902", "adbb", 181, 0, true, false));
+bt_table03.put(List.of("b2f8", "e527", "e728", 57, 0, 118, false, true, true, "c72f", "cd95", 141642, 1, true, false));
+bt_table03.get("c8fc");
+bt_table03.put(List.of("a6d0", "a7b2", "a2d5", 0, 0, 644, false, true, false, "ac15", "b359", 0, 0, true, true));
+bt_table03.get("a0ce1");
+bt_table03.put(Arrays.asList("f6a6", "b73f", "dae8", 1074, 0, 69, true, null, false, "e2b3", "e30d", 607, 0, false, false));
+bt_table03.put(Arrays.asList("f3f5", "f1ce", "c2072", 6, 0, 1123, true, false, true, "c968", null, 53, 0, false, true));
+bt_table03.put(List.of("b91ec", "f223", "cd948", 1, 790, 38, false, true, false, "af2c", "bd57", 8792, 20, true, false));
+bt_table03.put(List.of("fed2", "a4d7", "c13d", 0, 2006, 0, true, false, false, "a9c4", "cb9a", 0, 23206, false, true));
+bt_table03.remove("d3ad");
+bt_table03.put(List.of("cff1", "b050", "c2c0", 6, 1, 6580, false, false, true, "d72b", "b52f", 0, 1398, true, true));
+bt_table03.put(List.of("a8f8", "c36c", "d1b98", 46, 0, 29, true, false, false, "c722", "aa8e1", 31, 104, false, true));
+bt_table03.get("e5fd");
+bt_table03.put(List.of("ac699", "c472", "e57e", 5, 0, 391, true, false, true, "d620", "b82b", 0, 0, true, false));
+bt_table03.remove("dd19");
+bt_table03.get("aaf7");
+bt_table03.put(List.of("bdc9", "edc0", "e410", 14693, 0, 12684, true, true, true, "aeca", "dd59", 31, 2, false, false));
+bt_table03.put(List.of("a9f5", "df60", "dfca", 2860, 180, 360, true, true, false, "a9f9", "ad03", 0, 0, true, true));
+bt_table03.remove("be0d");
+bt_table03.put(List.of("b34d", "aa44", "d1c3e", 587, 0, 42, true, false, true, "b738", "a973", 0, 3, false, false));
+bt_table03.remove("bef1");
+bt_table03.put(List.of("cb13", "ac6d", "b66f6", 0, 838, 15092, false, false, true, "d6f9", "c16f", 220, 0, true, true));
+bt_table03.put(List.of("f3540", "a202", "f030", 2, 0, 51, true, false, true, "a7c5", "d645", 400024, 12, true, false));
+bt_table03.put(List.of("a111", "cb99", "a9ae", 0, 0, 12898, false, true, true, "d43c", "f06f", 154, 17, true, false));
+bt_table03.put(List.of("ce3db", "d9d9", "c922", 654393, 0, 3226, false, false, true, "d01e", "a56a", 0, 0, true, true));
+bt_table03.put(List.of("e1ab", "f8d1", "ffd8", 0, 0, 0, true, false, false, "b971", "ea4f", 14, 13, false, false));
+bt_table03.put(List.of("f84a", "f94e", "b5fd", 0, 0, 0, false, false, true, "c98a", "b78d", 18313, 27377, true, true));
+bt_table03.put(List.of("d92c", "a29f9", "dfc1", 103, 0, 0, false, false, true, "afe31", "b701", 0, 0, true, false));
+bt_table03.put(List.of("e1b6", "e1a6", "d785", 3, 0, 0, false, true, false, "e2fd", "a64f", 0, 0, true, false));
+bt_table03.put(List.of("c76a", "af1c", "dc03", 0, 22, 19, false, true, true, "c705", "d3f0", 2866, 9, true, false));
+bt_table03.put(List.of("efc8b", "efdf5", "a807", 0, 1, 7327, true, false, true, "a91a", "c604", 0, 0, false, true));
+bt_table03.put(List.of("f3ff", "f426", "d7bd", 0, 44, 457, false, false, false, "b9d8", "ad2d", 926, 0, false, true));
+bt_table03.put(List.of("e73b5", "bc12", "e6df", 26, 277, 0, false, false, false, "c835", "a739", 475142, 0, true, true));
+bt_table03.remove("db41");
+bt_table03.put(List.of("a45f", "eed1", "aec2", 260, 0, 53, false, true, true, "a27b", "b46b", 5900, 114731, false, false));
+bt_table03.put(List.of("cebc", "b2ee", "ceb5", 0, 1610, 0, true, true, true, "a8da", "a8ba", 693, 0, false, false));
+bt_table03.put(List.of("b03f", "cd75", "ad70", 13, 2270, 0, true, true, false, "d07c", "fc37", 0, 129, true, true));
+bt_table03.put(Arrays.asList("d8b6", "a31e", "fdf8", 0, null, 5, true, null, true, "b27d", "d416", 4940, 0, false, false));
+bt_table03.put(List.of("bc41", "aa7d3", "e380", 4, 2, 11, false, true, true, "af64", "f779", 157, 0, true, true));
+bt_table03.put(List.of("a4c9", "a1d5", "ae13", 0, 0, 88, true, true, true, "dc22", "fcfe", 0, 0, true, true));
+bt_table03.remove("a648");
+bt_table03.get("c8fa");
+bt_table03.put(List.of("ef6c", "a16c", "fc11", 561, 6, 816, true, false, false, "b706", "b3f5", 0, 0, false, true));
+bt_table03.put(Arrays.asList("bd5d", "f727a", "ad12", 0, null, 56, false, false, null, "e372", "e201", 0, 0, true, true));
+bt_table03.remove("f722");
+bt_table03.get("fcab");
+bt_table03.put(Arrays.asList("edd85", "e40f", null, 8334, 4252, 29, false, false, false, "c4e7", "b409", 72, 0, true, false));
+bt_table03.remove("d6f5");
+bt_table03.put(List.of("a93d", "b063", "ab29", 252, 64, 0, false, false, true, "a2e2", "d32d", 32, 0, true, true));
+bt_table03.put(List.of("a4cf", "de13", "b8520", 146, 7, 29, false, false, true, "f7f1", "fd91", 0, 0, false, true));
+bt_table03.remove("c417");
+bt_table03.put(Arrays.asList("aac0", null, "db25", 3595, 0, 37, true, false, false, "edf73", "e883", 0, 4835, false, true));
+bt_table03.put(List.of("c9b4", "b367", "f074", 0, 1, 86, true, false, false, "aa62", "e6b0", 0, 0, true, false));
+bt_table03.put(List.of("b94f", "ebe50", "a815", 881, 0, 0, true, false, false, "d0eb", "b2e4", 0, 1, true, true));
+bt_table03.put(List.of("a524", "d4b3", "ae85", 39, 0, 0, true, false, true, "ab36", "bcbb", 637, 1, false, false));
+bt_table03.remove("dbf14");
+bt_table03.put(List.of("b022", "dd7a", "b861", 58, 248, 302, true, false, true, "a591", "e892", 0, 668, true, true));
+bt_table03.put(List.of("edaf", "b071a", "dd93", 0, 2, 0, true, true, true, "c087", "b33e", 22, 441, false, false));
+bt_table03.put(List.of("ed5b", "b005", "c0f7", 0, 8, 20938, true, true, false, "eb79", "ea6d", 145, 0, false, false));
+bt_table03.remove("c0ed");
+bt_table03.put(List.of("fc92", "cacb", "f8c30", 0, 4, 0, true, true, true, "a2ec", "f5ff", 1, 314, true, true));
+bt_table03.remove("dafc");
+bt_table03.remove("b46a");
+bt_table03.remove("bf185");
+bt_table03.remove("f0bd");
+bt_table03.put(List.of("acc0", "c2030", "a073", 25395, 69, 0, false, false, true, "aab4", "e6d9", 296, 11, false, false));
+bt_table03.put(List.of("c53f", "b58f", "a57da", 14, 1, 0, true, true, true, "ff8f", "c460", 0, 88771, false, true));
+bt_table03.put(List.of("ad95", "bc19", "c44d4", 0, 10776, 0, true, true, true, "d6b6d", "ebd9", 245, 0, true, true));
+bt_table03.put(List.of("dc4d", "e7ca0", "b1e4c", 2, 0, 0, false, true, false, "bc79", "e1d6", 0, 0, true, false));
+bt_table03.put(List.of("ada4", "cbb7", "b7cc", 1, 0, 0, true, true, true, "d311", "ce6d", 98, 0, false, true));
+bt_table03.put(List.of("a5a5", "c92b", "c061", 0, 1, 23301, false, true, true, "b281", "ba45c", 0, 2, false, true));
+bt_table03.remove("de168");
+bt_table03.put(List.of("d843", "ea60", "b6211", 0, 609, 12859, true, false, false, "de2b", "d364", 7960, 5665, false, true));
+bt_table03.get("bae7");
+bt_table03.put(Arrays.asList("e945", "ecbf", "ac73", 0, 162, 0, false, null, false, "c817", "d497", 0, 148, true, false));
+bt_table03.put(List.of("c452", "ba35", "a067", 2, 0, 0, false, false, true, "a43d", "ac47", 0, 11, false, true));
+bt_table03.get("c6a6");
+bt_table03.put(List.of("adb7", "b704", "f7b9", 0, 0, 1, true, false, true, "a500", "e52f", 0, 197, false, false));
+bt_table03.put(List.of("cc2b", "aa57", "b859", 0, 2, 1, false, false, true, "a09c", "b8a03", 1, 2, false, true));
+bt_table03.remove("e250");
+bt_table03.put(List.of("e698", "cd34", "c2c3", 2, 6, 0, false, true, true, "e9fe", "f6ee", 0, 2174, false, true));
+bt_table03.put(List.of("b80c", "ae50", "ca25", 0, 0, 804, true, true, false, "fc63", "b513", 3, 8843, false, false));
+bt_table03.put(List.of("d7a0", "ec3a", "aa84", 732, 75, 8, false, false, true, "a82b", "fac4", 9, 0, true, true));
+bt_table03.put(List.of("f1fe", "a360", "a861", 0, 12, 10420, false, false, false, "b22d", "ccee", 6, 203, true, false));
+bt_table03.put(List.of("b938", "a1da", "ad06", 988, 0, 0, false, true, true, "dbacb", "e05e", 64, 0, true, false));
+bt_table03.put(Arrays.asList("fe4d", "e5fc", "b61a2", 0, 147, 378, false, false, true, "d23f", "a999", 348, 12, false, null));
+bt_table03.put(List.of("a867", "acb9", "d1bf", 6, 254, 162, false, false, true, "bfc8", "bc30", 26961, 75, true, false));
+bt_table03.put(List.of("dff0", "f66e", "b2a4", 1689, 4, 233, false, true, true, "f6b9", "c2a5", 3, 1, false, false));
+bt_table03.put(Arrays.asList("d0c88", null, "a5010", 162, 563, 826738, false, false, true, "e5d6", "f004", 24, 0, false, true));
+bt_table03.get("fae4");
+bt_table03.put(List.of("c17e", "a3e98", "c09f", 0, 0, 549, true, false, false, "c6d0", "d4df", 7, 6, true, false));
+bt_table03.put(List.of("d462", "ce96", "cf0a", 219, 0, 0, true, false, false, "a06e", "b6e1", 0, 10, true, false));
+bt_table03.put(List.of("bdcd", "b068", "a5cc", 0, 864, 281, true, false, false, "bfd91", "e367", 487, 1339, false, false));
+bt_table03.put(List.of("dd85", "da69", "cf5f", 48299, 3277, 7, true, false, false, "d0b1", "ca37", 169, 0, true, true));
+bt_table03.put(List.of("a82f", "d33a", "ab4d", 131, 0, 0, false, true, true, "a180a", "e797", 2426, 21, false, false));
+bt_table03.remove("d3cc");
+bt_table03.put(List.of("b56b", "cc01", "a3c6", 14, 0, 0, false, true, true, "aa72", "ac00", 0, 0, true, true));
+bt_table03.put(List.of("cb46", "cc06", "a8bde", 540, 3254, 44, true, false, false, "b6bf", "ebf3", 0, 0, true, true));
+bt_table03.put(List.of("c973", "cad5", "ae0a", 0, 0, 0, true, false, false, "cf8c", "e305", 0, 11994, false, true));
+bt_table03.remove("e898");
+bt_table03.put(Arrays.asList("dd97b", "aed1", "bff8", 0, 0, 0, true, false, false, "c22c", "f6ad", 21, 0, null, true));
+bt_table03.put(List.of("a44d", "a89f", "abb1", 0, 290963, 0, false, false, false, "b6ccb", "e306", 10448, 0, false, true));
+bt_table03.remove("d071");
+bt_table03.get("d5cc");
+bt_table03.put(List.of("c10a", "f61a", "db7e", 85, 0, 0, true, true, true, "d55ce", "ba69", 55, 0, true, true));
+bt_table03.put(List.of("d50e", "a352", "c4f2", 49, 3773, 0, true, true, true, "e314", "eb75", 5005, 206656, false, true));
+bt_table03.put(List.of("bbcb", "ab92", "d4ae", 335, 0, 1, true, true, false, "d827", "e242", 341, 0, false, false));
+bt_table03.put(List.of("d5c4", "d248", "ddd9", 110, 0, 0, false, true, true, "d71b", "d2b7", 0, 0, false, false));
+bt_table03.put(List.of("f25d", "a962", "cf03", 0, 0, 12, true, true, true, "fd5b", "dcfef", 3, 1, true, true));
+bt_table03.put(Arrays.asList("c772", "ab33", "c9ce", 0, 0, 0, false, true, false, "ba8d", null, 0, 817, true, false));
+bt_table03.put(List.of("a4c72", "e429", "e7c3", 0, 3, 0, false, true, true, "f427", "b986", 0, 0, true, true));
+bt_table03.put(List.of("b1d6d", "a212", "a776", 0, 0, 0, true, true, true, "da71e", "d22b3", 0, 4277, true, false));
+bt_table03.remove("f3a5");
+bt_table03.put(List.of("d9d8", "b6e4", "a20b", 1, 4868, 37, true, true, false, "cee9a", "b278", 469, 179, false, true));
+bt_table03.put(List.of("fbec", "ded8", "cf2c", 12698, 122, 0, false, true, true, "b2e7", "e086", 4210, 307, false, true));
+bt_table03.remove("cb86");
+bt_table03.put(List.of("b4b8", "fb82", "f998", 425, 807, 396, false, false, false, "e5b9", "a249d", 0, 0, true, true));
+bt_table03.put(List.of("b74a", "d759", "e969", 407, 0, 0, true, false, true, "a87d", "b95f8", 0, 837904, true, true));
+bt_table03.put(List.of("e0e8", "bd43", "d84b", 1223, 22, 0, false, true, false, "c409", "b742", 3, 0, true, false));
+bt_table03.put(Arrays.asList("d8ba5", "c3026", "b682", null, 0, 0, false, false, false, "fcce", "ae54", 2227, 0, true, false));
+bt_table03.put(List.of("e0dc", "e4a6", "e30a", 0, 0, 1, false, true, true, "d04e", "b23b", 302, 0, true, false));
+bt_table03.remove("ab3a");
+bt_table03.put(List.of("c9a2", "f351c", "e6d5", 2305, 0, 14640, true, true, true, "ec6c", "a0a1d", 167, 0, true, false));
+bt_table03.put(List.of("a245", "e00d", "de00", 0, 0, 0, false, false, false, "add1", "b156", 131, 110, false, false));
+bt_table03.put(List.of("a93e", "b3f0", "ce66", 47, 1, 0, false, true, false, "dc14", "d344", 0, 0, true, true));
+bt_table03.put(List.of("b127", "f50c", "db86", 0, 0, 26352, false, true, true, "aed3", "cd48", 47, 3, false, false));
+bt_table03.get("a9b3");
+bt_table03.put(List.of("cfbc", "eb6b5", "d6f6", 0, 247, 0, true, false, true, "a9a0b", "dd27", 0, 17, false, true));
+bt_table03.put(List.of("fbb5", "e67a", "cc0f5", 0, 235, 23593, false, true, true, "a15c", "dbad9", 0, 0, true, false));
+bt_table03.get("f610");
+bt_table03.put(Arrays.asList(null, "a364", "b5b2", 0, 1136, 0, true, true, true, "bbd6", "b0138", 353, 0, true, false));
+bt_table03.put(Arrays.asList("be9f", "c08d", "e8e2", 79, 0, 388526, true, false, true, "a4d8", "b002", 35814, 16, null, false));
+bt_table03.get("d418");
+bt_table03.put(Arrays.asList("ece2", "f477", "c212", null, 0, 596, false, false, false, "c299", "c4eff", 0, 8107, true, true));
+bt_table03.put(List.of("da37", "aaea", "d45b", 155678, 1605, 0, false, true, true, "b802", "d8d4", 0, 9, false, true));
+bt_table03.put(Arrays.asList("ce1e", "e13a", "c6889", 0, 0, 0, false, true, true, "cfce", "a88b", 1180, null, false, true));
+bt_table03.put(List.of("a538", "a6a60", "ab54", 0, 0, 1017, false, false, true, "fb69", "fc8c", 3, 0, true, false));
+bt_table03.remove("dc24");
+bt_table03.put(List.of("ef6f", "c137", "e528", 45, 0, 0, true, false, true, "b277", "e529", 327, 103, false, true));
+bt_table03.remove("ce39");
+bt_table03.remove("a2bb");
+bt_table03.put(List.of("ed5ce", "d93d", "b1fb", 117, 0, 1, false, true, false, "a403", "ffc6", 0, 152, false, true));
+bt_table03.put(List.of("a0c3", "f49d", "fb2b", 1, 0, 48, false, true, false, "ec4b", "e8f33", 966, 49, false, false));
+bt_table03.put(List.of("f33e", "c498a", "f7b2", 3, 0, 0, false, false, true, "cf5d", "f31a", 0, 26, true, false));
+bt_table03.put(List.of("f0ca1", "a644", "caa3", 72, 0, 22741, false, false, false, "cd52", "a37e", 26685, 1150, true, true));
+bt_table03.put(List.of("eb40", "ae37", "cdbc", 193, 0, 0, true, true, true, "b38b", "e4e0", 2, 42, true, true));
+bt_table03.put(List.of("adbc", "e1e1", "e099", 0, 2, 63, true, true, true, "e8815", "bcb6", 0, 0, false, false));
+bt_table03.put(List.of("d22c", "f2ac9", "da14", 0, 0, 21, true, false, false, "b05c", "a8a9", 0, 13011, true, true));
+bt_table03.remove("a77d");
+bt_table03.put(List.of("a6bf", "a40b", "d4ee", 0, 662, 4, false, false, true, "cc62", "aa52", 33614, 11, false, false));
+bt_table03.put(List.of("aaba", "ce69", "fe495", 0, 0, 0, true, false, true, "a283", "a88a", 40, 2307, true, false));
+bt_table03.remove("d312");
+bt_table03.remove("e7d9");
+bt_table03.remove("bb56");
+bt_table03.remove("d94d1");
+bt_table03.put(List.of("a257", "a3e2", "d73f", 0, 0, 0, true, true, false, "a52d", "f055", 0, 0, true, false));
+bt_table03.put(List.of("a552", "a0af", "ce93", 0, 115795, 0, false, true, false, "d46f", "dfef", 0, 402, false, true));
+bt_table03.put(List.of("f1e1", "c5012", "f5ae", 1188, 12, 0, false, true, true, "b2a5", "d4fe", 26, 0, false, false));
+bt_table03.remove("f2ec");
+bt_table03.remove("a47d");
+bt_table03.put(List.of("addf", "e2fe", "e84d", 0, 300, 0, true, true, true, "e4b4", "b3829", 7234, 0, true, false));
+bt_table03.put(List.of("baab", "b36c", "ca14", 0, 0, 0, true, true, false, "f028", "f7558", 0, 9295, false, false));
+bt_table03.get("eb66");
+bt_table03.put(List.of("b9fc", "b811", "d62f", 46, 167, 49, true, false, true, "bdf5", "f339", 3981, 335, false, false));
+bt_table03.remove("da7a");
+bt_table03.remove("e7d5");
+bt_table03.get("aaf63");
+bt_table03.put(List.of("ff83", "e806", "c58d", 0, 0, 0, false, true, true, "ca05", "f76be", 929, 1, true, true));
+bt_table03.put(List.of("b330", "f07f", "fa5d", 0, 0, 0, false, false, false, "ebf0", "bcb3", 1, 34, false, true));
+bt_table03.put(List.of("dc5f", "ab3c", "ecf8", 6663, 9, 0, true, true, false, "a741", "fc3b", 925, 1, false, false));
+bt_table03.put(List.of("d72f", "c506", "ef16", 75295, 0, 0, true, false, false, "d681", "acbd", 0, 10, true, true));
+bt_table03.put(List.of("e83b", "c3a2", "be0e", 0, 35, 11, true, true, true, "b7b0", "db1a", 0, 4326, true, false));
+bt_table03.put(Arrays.asList("b965", "ab0e", "f425", 1, 0, null, false, false, true, "e3b0", "c482", 0, 1229, false, false));
+bt_table03.put(List.of("ee9b", "a323", "d37c7", 3, 734, 0, false, true, true, "f831", "b5de", 975, 0, true, false));
+bt_table03.put(List.of("aa42", "c31f", "e6e7", 0, 7932, 0, false, true, false, "b59c", "b20d", 0, 457, true, false));
+bt_table03.put(List.of("dc59", "c9f9", "f685e", 800, 108, 73, false, false, true, "a5e6", "c148", 0, 15, true, true));
+bt_table03.put(List.of("cd46", "ad6e", "fc43", 0, 848, 6, true, true, false, "b8c4", "c0a6", 5, 0, true, false));
+bt_table03.put(Arrays.asList("c362", "f3ad", "f280", 0, 0, 51, true, true, true, "fe98", null, 0, 3027, false, true));
+bt_table03.remove("be8f");
+bt_table03.remove("d4a1");
+bt_table03.put(List.of("c5c9", "d4f4", "c56c", 2529, 476, 0, true, true, true, "d4e3", "dd6f", 0, 13, true, true));
+bt_table03.put(Arrays.asList("e1a2", "acaa", "cfa8", 2, 0, 177, true, false, null, "c039", "feb5", 0, 0, false, false));
+bt_table03.put(List.of("ede11", "e288", "c3bf", 2, 343, 0, false, true, false, "d5680", "a0230", 135, 0, true, true));
+bt_table03.put(List.of("d555", "f300", "a684", 5729, 0, 60, true, true, false, "aab0", "e2cf1", 0, 5, false, true));
+bt_table03.put(List.of("b0e0", "d58b", "b72d9", 7, 0, 5, true, false, false, "d145f", "b48e", 0, 48306, true, true));
+bt_table03.put(List.of("f165", "f159", "d2f23", 0, 445, 2, true, true, false, "f78a", "be57", 2035, 6, true, false));
+bt_table03.put(List.of("ac53", "f27b", "cb171", 0, 0, 4, true, true, false, "c0d84", "ada8", 0, 0, true, false));
+bt_table03.put(List.of("ff99", "bfd4", "d016", 89, 76, 0, false, true, false, "aa75", "d06a", 7, 64, false, true));
+bt_table03.put(List.of("f61e8", "a69b", "c349", 0, 37, 0, false, true, false, "c4c9", "feaf1", 54, 173, true, false));
+bt_table03.put(Arrays.asList("b236", "aca9", "cc77", 0, 0, 0, true, null, false, "af96", "a5da", 62, 0, false, true));
+bt_table03.remove("baea");
+bt_table03.remove("a9e5e");
+bt_table03.put(List.of("e35b", "cee2", "b2503", 2962, 0, 13, false, false, true, "fe63", "a0e9", 0, 526, true, true));
+bt_table03.remove("fdda");
+bt_table03.remove("a5c8");
+bt_table03.put(List.of("b126", "a74d", "f651", 0, 0, 0, false, false, true, "b540", "a5aa9", 3, 202, false, true));
+bt_table03.put(List.of("bb19d", "f0e7", "a38b", 120, 1144, 113, false, false, true, "d288", "a346", 0, 104, true, true));
+bt_table03.put(List.of("e9dc", "c5b2", "c312", 474, 24, 0, false, false, false, "ac6a", "ca89", 214, 30, false, true));
+bt_table03.put(List.of("a8288", "ca61", "a17c5", 39, 1702, 0, false, false, true, "cfe46", "b35f", 16, 15, true, false));
+bt_table03.remove("d1d7");
+bt_table03.remove("a941");
+bt_table03.remove("bdd1");
+bt_table03.put(List.of("b865", "b9a2", "d88d", 0, 0, 0, false, false, true, "e10a", "b5fb", 4, 20794, true, false));
+bt_table03.put(List.of("cbca", "c6a5", "e79b", 0, 21, 141548, true, false, false, "f563", "ac74", 2, 0, false, true));
+bt_table03.put(List.of("de6b", "ac6e", "cd3b", 30408, 0, 59, true, true, true, "b294", "a6d2", 0, 73, false, false));
+bt_table03.put(Arrays.asList("bf91", null, "c911", 122, 0, 36118, true, false, false, "a4a0", "fcc3", 1, 0, true, false));
+bt_table03.put(List.of("e9ee", "ad1d", "ab9b", 15, 15, 1, false, false, false, "bfb2", "a2b1", 20, 1557, false, false));
+bt_table03.put(List.of("d505", "fcf6", "e2eb", 0, 0, 0, false, true, false, "e263", "c446", 0, 0, false, true));
+bt_table03.remove("b282");
+bt_table03.put(List.of("b42b", "f1ca", "a783", 0, 0, 136, true, false, true, "caef", "a8b8", 0, 42, true, true));
+bt_table03.remove("e6db");
+bt_table03.put(List.of("f337", "e122", "c8d9", 72, 0, 4169, false, true, false, "d5a3", "f109", 0, 189, false, false));
+bt_table03.remove("c45a");
+bt_table03.put(List.of("d609", "a911", "a842", 0, 12, 1120, false, true, true, "d7a1", "e466a", 7066, 0, false, false));
+bt_table03.put(List.of("cc97", "cc5e", "ae89", 3, 0, 10071, false, true, true, "a50c", "cb5ad", 0, 1474, true, false));
+bt_table03.put(List.of("bb98", "b50b", "a4f3", 0, 144, 3, true, true, true, "ff7e", "bcb1", 0, 53, false, true));
+bt_table03.put(Arrays.asList("ac03", "cb7e", null, 456, 2721, 0, true, true, false, "e775", "bec1", 285, 43, false, true));
+bt_table03.put(List.of("d629", "c92a", "b15d", 4016, 0, 16, true, false, false, "bd15", "c351", 11328, 686, false, true));
+bt_table03.put(List.of("d2e7e", "a492", "e824", 5, 201, 0, true, true, true, "f5fb", "a70d", 1, 0, false, false));
+bt_table03.put(List.of("e431", "c9409", "e1f02", 0, 9375, 0, true, true, true, "b9e7", "a475", 0, 222, true, false));
+bt_table03.put(List.of("a25d", "f976", "a912d", 79, 0, 538, false, true, false, "fded", "e716", 2, 0, true, false));
+bt_table03.put(List.of("d9f19c", "a5b7", "de73", 27202, 0, 0, true, true, true, "d2eb", "c9ee", 14038, 48, true, false));
+bt_table03.put(Arrays.asList("bcaf", "c81e", "f21e", 0, 45559, 0, true, null, false, "c298", "fb97", 0, 10, true, true));
+bt_table03.put(Arrays.asList("be3f", "e1aa", "d163", 65, 0, 0, false, false, false, "c3ad", "ecbe", null, 27042, true, true));
+bt_table03.put(List.of("b498", "ff62", "c5bf", 44338, 2332, 0, false, true, true, "a410", "a625", 21351, 17, true, false));
+bt_table03.put(List.of("d373a", "c87bd", "cb07", 5298, 50, 0, false, false, true, "d1d5", "bd7e", 37, 1, false, false));
+bt_table03.get("f129");
+bt_table03.put(List.of("f685", "cb3f", "a31d", 0, 0, 179182, false, true, true, "ea1f", "c19d4", 0, 21957, false, false));
+bt_table03.put(List.of("bf5d", "a17b", "d5ae", 47, 0, 10, false, true, false, "b845", "a27e", 16, 1, true, false));
+bt_table03.put(Arrays.asList(null, "aea6", "e6a5", 0, 83, 0, false, false, false, "ffe3", "a124", 0, 1, false, false));
+bt_table03.put(List.of("b21f", "c529", "e954", 55142, 2, 0, true, false, false, "ba9b6", "ceb8", 1, 33, false, false));
+bt_table03.get("d96d");
+bt_table03.put(List.of("a4f9", "ce01", "fb31", 589, 0, 0, false, true, false, "b405", "f844", 2, 0, false, false));
+bt_table03.put(List.of("ec8b", "bcca", "efe7", 0, 7411, 0, true, false, false, "d9fb", "d27d", 0, 0, false, false));
+bt_table03.put(List.of("eee4", "b75c", "ead7", 0, 0, 1309, false, false, false, "d8062", "a878", 4111, 0, true, false));
+bt_table03.put(List.of("d7f6", "e412", "bddd", 0, 0, 25, true, false, false, "e5ce", "c1d0c", 0, 119, false, true));
+bt_table03.put(List.of("eb903", "f17b", "a2e7", 20564, 5454, 9055, false, true, false, "d4e6a", "bc01", 0, 0, false, false));
+bt_table03.remove("cd86");
+bt_table03.remove("a5f0");
+bt_table03.put(List.of("b17f", "e943", "de4c", 0, 456, 0, true, true, true, "a563", "c5d5", 0, 0, true, true));
+bt_table03.put(List.of("d805", "ba09c", "cf71", 0, 1165, 0, true, false, false, "a25c", "a8c9d", 2168, 0, false, false));
+bt_table03.put(List.of("aaca", "fa64", "f17e", 4415, 26, 47320, false, true, true, "de51", "fb78", 0, 159, false, false));
+bt_table03.put(List.of("d11e", "e09c", "d96b", 0, 0, 7, true, true, true, "b2ef", "a8c9", 0, 0, true, true));
+bt_table03.remove("a0dd");
+bt_table03.put(List.of("e137", "e1a9", "d469", 5, 0, 0, false, true, true, "eb3f", "b0ec", 10, 0, false, true));
+bt_table03.put(List.of("a004", "ba82", "d20c", 0, 0, 2, false, true, false, "af39", "af87", 0, 5926, false, false));
+bt_table03.put(List.of("a1678", "c7ea4", "e99e", 1, 2, 61, false, false, true, "c49f", "f169", 0, 47, false, false));
+bt_table03.remove("d6de7");
+bt_table03.get("a7a8");
+bt_table03.put(List.of("ccdaf", "c1f9", "b169", 2, 2398, 39, true, true, false, "e634", "d869", 8, 0, false, false));
+bt_table03.put(List.of("b46c", "e106c", "cecc", 614, 5276, 0, true, true, true, "e2aa", "f96a", 27973, 138, true, true));
+bt_table03.put(List.of("e182", "cbe1", "ffa0", 29, 9275, 54, true, false, false, "c61f", "b0af", 419, 22, true, false));
+bt_table03.put(List.of("a0ba", "bbae", "f438", 0, 0, 0, true, false, true, "ee5a", "bd26", 783, 0, true, false));
+bt_table03.put(List.of("a18c", "e369", "bdd6", 249482, 21, 0, true, true, false, "c9ca", "ca95", 0, 18, true, true));
+bt_table03.put(List.of("d432", "a51e6", "db11", 5212, 0, 0, false, true, true, "e2e5", "d79f", 381111, 8, true, false));
+bt_table03.put(List.of("de24", "e065", "dd81", 0, 0, 221, true, true, false, "a0680", "de87", 0, 2607, false, false));
+bt_table03.get("d41fd");
+bt_table03.put(List.of("de2e", "d686", "c641", 10576, 0, 47, false, false, false, "ad3e", "a60c", 0, 68, false, false));
+bt_table03.get("a467");
+bt_table03.put(List.of("b5da", "bc93", "a305", 23, 22, 0, false, false, true, "a8c8", "ebd1", 85, 912, false, true));
+bt_table03.remove("b2de");
+bt_table03.remove("f3c4");
+bt_table03.put(List.of("cb49", "b31d", "b3d8", 25, 492, 291, true, false, false, "f713", "b8cc", 49, 0, false, false));
+bt_table03.get("f1f6");
+bt_table03.get("beb7");
+bt_table03.put(List.of("c455", "add7", "ef33", 1105, 238, 0, true, true, true, "a7c9", "a8d60", 0, 2287, true, false));
+bt_table03.put(List.of("c3dc1", "e27ca", "caa9f", 2920890, 27583, 6564, true, false, false, "f1d4", "b75f", 3004, 962, true, true));
+bt_table03.put(Arrays.asList("c34c", null, "a4ec", 0, 0, 126, true, true, false, "a91d", "cd35", 37500, 358, true, false));
+bt_table03.remove("cc55");
+bt_table03.put(List.of("d536", "a932b", "cc0e", 64, 105, 0, true, true, false, "e106", "dfc3", 5, 0, true, true));
+bt_table03.remove("ce74");
+bt_table03.put(Arrays.asList("f1a6", null, "de69", 45, 994, 85, true, true, true, "e27ac", "bcc1", 0, 682, true, true));
+bt_table03.put(List.of("cada", "f824", "a778", 1338633, 38, 955, true, false, false, "d9f4", "b949", 401, 15, true, false));
+bt_table03.put(List.of("c593", "b4e6f", "b1c3", 0, 0, 342, true, false, true, "a53b", "b3ba", 0, 0, true, false));
+bt_table03.put(List.of("e603", "a5d4", "b99c", 7670, 0, 0, false, false, true, "a7d9", "f7742", 0, 0, true, true));
+bt_table03.put(List.of("fb1d", "f8d20", "aa71", 89139, 878, 13442, false, false, true, "d9ba", "f408", 53031, 57, true, false));
+bt_table03.put(List.of("f858", "fff4", "ea12", 141, 250, 2, true, true, true, "fb53", "cba1", 0, 800, true, false));
+bt_table03.remove("e013");
+bt_table03.remove("aabe");
+bt_table03.put(List.of("cef7", "b21bb", "af2d", 889, 256, 954, false, true, false, "a8648", "c497", 178, 170, true, true));
+bt_table03.remove("b1e8");
+bt_table03.remove("d317");
+bt_table03.put(List.of("c8df", "f4f8", "a5c3", 0, 0, 3138, false, false, true, "d73a", "fa10", 1644, 0, true, true));
+bt_table03.put(List.of("f75c", "e8df", "c1224", 0, 2, 633, false, true, true, "ff67", "b62a", 0, 0, false, true));
+bt_table03.remove("ae01");
+bt_table03.remove("e5f8");
+bt_table03.remove("a0252");
+bt_table03.put(Arrays.asList("db14", null, "aa5d", 5263, 0, 774, false, true, false, "b2b2", "d8d1", 57, 0, true, false));
+bt_table03.put(List.of("dc2f", "b213", "dcd7", 4886, 0, 50411, false, false, false, "fc80", "e368", 259080, 0, true, false));
+bt_table03.put(List.of("d159", "b280", "a167", 2346, 25666, 1604, true, false, true, "df28", "b395", 17, 6, true, false));
+bt_table03.get("cd9d");
+bt_table03.put(List.of("fe10", "f6df", "c234", 324, 249, 0, true, false, false, "a8a6", "b8a7", 0, 1894, true, false));
+bt_table03.put(List.of("b8ce", "e68e", "d106", 0, 1, 15, false, true, true, "a113", "c469", 17, 17, false, false));
+bt_table03.put(List.of("fe42", "c2ee", "ecea", 11, 17649, 0, true, true, false, "d0b4", "fab0", 0, 0, false, false));
+bt_table03.put(List.of("bcc0", "ba01", "dcd0", 3, 56210, 4, true, false, true, "a612", "b73d3", 0, 106, true, true));
+bt_table03.put(Arrays.asList("d5cb", "dbd7", "d7f8", 0, 0, 0, true, null, false, "a450", "ad6f", 22, 78, false, true));
+bt_table03.get("f439");
+bt_table03.remove("cfb2d");
+bt_table03.remove("ef83");
+bt_table03.put(Arrays.asList("cdcb", "e75f", "be8c", 402, 565, null, true, true, false, "eab3", "a64d", 5789, 0, true, true));
+bt_table03.put(List.of("e55f", "fb73", "fdec", 0, 0, 2, true, false, false, "a42e", "abb36", 59, 212, true, true));
+bt_table03.put(List.of("af4b", "caa9", "d1e1", 3307, 0, 222, false, false, false, "bd34", "fd61", 0, 957, true, true));
+bt_table03.put(List.of("a039", "f231", "e777", 2425, 116, 0, false, false, true, "c546", "f63e", 53, 0, true, true));
+bt_table03.put(List.of("d15c", "be37", "c198", 177, 0, 0, true, false, true, "a2fe", "b16a", 291, 309058, false, false));
+bt_table03.get("bd4a");
+bt_table03.put(List.of("a766", "e2ed", "fc9f", 23, 0, 0, false, false, false, "a369", "d430", 1114, 0, false, false));
+bt_table03.put(List.of("aef7", "b20eb", "f7ff", 0, 0, 13, true, true, false, "fb01", "dcf4", 22, 187653, false, false));
+bt_table03.put(List.of("b4e0", "be61", "ffef", 9946, 172, 93, true, false, true, "a5e9d", "dfb9", 0, 99, false, false));
+bt_table03.put(List.of("d662", "f406", "a195", 0, 20135, 0, false, true, false, "ae9a", "e951", 2, 0, false, true));
+bt_table03.remove("a4a3");
+bt_table03.remove("a28c");
+bt_table03.put(List.of("bd38", "f514", "c1763", 156, 2515, 11115, false, false, false, "a6c0", "e1c6", 144297, 0, false, true));
+bt_table03.put(List.of("dd805", "cbec", "bb22", 66, 0, 0, false, true, false, "dbef", "b326", 914, 28364, false, true));
+bt_table03.put(List.of("b3b5", "f84e", "f49f", 26, 0, 0, false, true, false, "be4b", "e770", 197, 1, true, false));
+bt_table03.get("dbc5");
+bt_table03.put(List.of("b5b9", "e096", "bf0f", 0, 0, 0, true, false, true, "ade8", "ad55", 0, 10, false, true));
+bt_table03.put(List.of("bb28d", "cf7b", "c77f", 0, 224, 111, false, true, false, "fb0f", "ade3", 0, 0, false, false));
+bt_table03.put(List.of("a7cf", "c3cc8", "a6c9", 0, 85, 30619, false, true, true, "bfbb", "fdc8", 1064, 0, false, false));
+bt_table03.remove("f555");
+bt_table03.remove("b81e");
+bt_table03.put(List.of("d08c", "af5d", "f3a6", 39827, 0, 183, false, true, false, "ee2e", "fb84", 19, 0, false, false));
+bt_table03.remove("e3cf");
+bt_table03.put(List.of("df20", "e72b", "b14e", 7736, 20016, 59, false, false, true, "d51c", "dbca", 0, 0, true, false));
+bt_table03.put(List.of("f3d0", "adfe", "d4de", 10708, 9560, 0, false, true, true, "bfeb", "ecba", 58, 10, true, true));
+bt_table03.put(List.of("d2c3", "b969f", "a9b8", 46, 18372, 24190, true, true, false, "d767", "cda3", 812, 0, true, true));
+bt_table03.put(List.of("c7da", "c373", "d7d1", 0, 0, 1, false, true, false, "c264", "fc4a", 18, 643, true, false));
+bt_table03.remove("e8c1");
+bt_table03.remove("faa8");
+bt_table03.put(List.of("a58e", "f5f4", "d97f", 0, 32, 0, true, false, false, "a0035", "d6c7", 3002, 4, true, true));
+bt_table03.put(Arrays.asList("b87f", "e13d", "c681", 578, null, 81, true, false, false, "f284", "e2f1", 116, 17344, true, false));
+bt_table03.remove("eeb5");
+bt_table03.put(List.of("e5d5", "e1df2", "a3e5", 374, 1025, 1900, true, true, true, "a3a2", "aad5", 0, 388, true, false));
+bt_table03.put(List.of("e970", "ee39", "e211", 0, 0, 2477, true, true, false, "ddce", "b80c1", 32, 0, true, true));
+bt_table03.put(List.of("aa9c", "ded9f", "a762", 24, 0, 0, false, true, true, "ec84", "a252", 0, 4013, true, false));
+bt_table03.put(List.of("fc23", "fd3a", "f04c", 35529, 0, 50, true, true, false, "b34d0", "aabc", 3, 0, true, false));
+bt_table03.put(List.of("cae68", "c80f", "f4ef", 4, 0, 0, true, true, false, "ca10", "b227", 9004, 204, true, true));
+bt_table03.get("d54e");
+bt_table03.put(List.of("a077d", "c73e", "ea4c", 709, 0, 0, true, false, true, "a47e9", "cd38", 0, 214, true, false));
+bt_table03.put(List.of("c017", "af35", "af01", 0, 17404, 0, false, false, false, "d59d", "a6f7", 0, 60, false, true));
+bt_table03.put(List.of("b56d", "def3", "ca4e", 917, 3856, 7658, true, false, false, "db2a", "b5f4", 0, 0, true, true));
+bt_table03.put(Arrays.asList(null, "e0b1", "f827f", 0, 349, 0, false, true, true, "a87b", "f738", 0, 0, true, true));
+bt_table03.put(List.of("fbb3", "c1d42", "ea39", 2, 0, 0, true, false, false, "b73ae", "b8ec", 0, 0, false, false));
+bt_table03.put(List.of("fbb6", "e950", "bbfe", 0, 53502, 1992, true, false, true, "af390", "d009", 7, 0, false, true));
+bt_table03.put(List.of("c670", "a518b", "a33f", 0, 13, 0, false, false, true, "ade7", "c947", 4, 2042, false, true));
+bt_table03.put(List.of("b9f3d", "ce745", "ee47", 0, 0, 0, true, false, true, "fa3a", "db8b", 6, 0, false, false));
+bt_table03.put(List.of("c4a1", "c981", "a110", 34, 0, 178859, true, true, false, "f9d2", "e966", 3, 38, true, true));
+bt_table03.put(List.of("b507", "d045", "cdca", 8, 0, 0, false, true, true, "b18d1", "b4a5", 516, 0, true, true));
+bt_table03.get("a21d");
+bt_table03.put(List.of("b2ac", "bcdd", "eb68", 0, 28149, 6064, false, false, false, "a348", "f18d", 22, 29, true, false));
+bt_table03.put(List.of("c45e", "d0f8", "bd4e", 0, 0, 0, false, false, false, "a098", "eb11", 16, 0, false, false));
+bt_table03.put(List.of("a7a1", "d94c", "a71a", 3, 0, 7729, true, false, false, "de9f", "a331", 64, 0, true, false));
+bt_table03.remove("c504");
+bt_table03.remove("ef39");
+bt_table03.remove("e317");
+bt_table03.put(List.of("a05e", "cc2a", "d2bc", 513, 0, 0, false, false, false, "f595", "d5f7", 519, 0, true, false));
+bt_table03.put(List.of("ed1e", "ed0f", "ce21", 0, 0, 29950, true, true, true, "ec8f", "a9e7", 3, 97, false, false));
+bt_table03.put(Arrays.asList("f126", "baf5", "b7c8", 9, 25062, 661, false, true, false, "c135", null, 0, 0, true, false));
+bt_table03.put(List.of("b06d", "db01", "ca19", 79, 0, 0, false, false, false, "b0a5", "f5ba", 0, 0, false, false));
+bt_table03.remove("b956");
+bt_table03.put(Arrays.asList("bdd0", "e1f9", "e7a0", 97, 18666, 12, false, true, true, "d5d2", "bda3", 13, 0, false, null));
+bt_table03.put(List.of("a900", "c7be", "b885", 0, 0, 7433, true, false, false, "c6da", "b503", 1, 2549, true, false));
+bt_table03.remove("ce81");
+bt_table03.get("c19b");
+bt_table03.remove("b567");
+bt_table03.get("a066");
+bt_table03.put(List.of("b248", "c30d", "c8d6", 0, 66, 1, false, false, false, "c644", "ca43", 247, 0, false, true));
+bt_table03.get("a0d7");
+bt_table03.put(List.of("edff", "c06b1", "adf7d", 2378, 0, 914, false, false, false, "c2b8", "eff2", 0, 0, false, true));
+bt_table03.put(List.of("b94c", "c7100", "fe9dc", 2, 0, 7714, false, true, false, "ae7f", "d6e6", 1, 11, true, false));
+bt_table03.put(List.of("a066e", "a241", "bded", 662, 126310, 0, false, false, false, "e7b64", "ca18", 0, 1, false, true));
+bt_table03.put(List.of("f9a79", "f628", "b8fe", 0, 101, 209382, false, true, false, "c49e", "fb4f", 8866, 0, true, false));
+bt_table03.put(List.of("b525", "aad1", "cd40", 12, 0, 9096, false, true, true, "aa4c", "c802", 108, 0, false, true));
+bt_table03.put(List.of("ad01", "e4464", "d51bb", 20048, 1466, 0, false, false, true, "bb48", "be69", 406, 276, true, false));
+bt_table03.put(List.of("f625", "a5d6", "f1f8", 0, 9557, 3274, true, false, true, "b366", "b803", 96, 30, false, false));
+bt_table03.put(List.of("f0bb3", "a79d", "bdcb", 0, 1, 334, true, false, true, "c94e", "b35b", 1, 11, false, false));
+bt_table03.put(Arrays.asList("bfca", "b71f", "eba2", 323, 20, 57, false, false, null, "e3536", "f314", 103937, 0, true, true));
+bt_table03.put(List.of("a7e1", "c1cd8", "a389", 4, 194, 0, true, false, false, "bb05", "a1f73", 0, 4, false, false));
+bt_table03.put(List.of("f03a", "fde0", "ae8d", 0, 0, 12633, true, true, false, "d8e9", "c4ae7", 0, 162, false, false));
+bt_table03.put(Arrays.asList(null, "ebb2", "f5f3", 44675, 1, 0, false, false, true, "b59a", "ad307", 78, 1053, false, false));
+bt_table03.put(List.of("beef", "f289", "effb", 0, 1090, 0, true, true, true, "e213", "b9d5", 14, 28, true, false));
+bt_table03.remove("c7d6");
+bt_table03.put(List.of("ba8b", "c6eeb", "e7e0", 0, 963, 0, false, false, false, "d9d6", "f42a", 2684, 13, true, false));
+bt_table03.put(List.of("a1f6a", "ba95", "e80b", 0, 36835, 0, false, false, false, "d893", "b7d5", 0, 0, true, false));
+bt_table03.put(List.of("f60a", "a90dd", "c200", 0, 0, 636, true, true, true, "e7e9", "a799", 61, 0, true, false));
+bt_table03.put(List.of("c8bd", "f8aa", "d320", 6541, 0, 1, false, false, false, "fa72", "d53e", 0, 0, true, false));
+bt_table03.put(List.of("b797", "c9d3", "ef04", 0, 0, 0, false, false, true, "f42e", "b003", 6577, 62, true, true));
+bt_table03.put(List.of("dd73", "f9e4", "affd", 0, 84, 1, false, false, true, "b905", "e897", 17, 171, false, true));
+bt_table03.remove("e29c");
+bt_table03.put(List.of("b051", "dcaa1", "bf15", 5186, 6, 0, false, false, true, "dbd14", "d89a", 0, 252, true, true));
+bt_table03.put(List.of("fea7", "bf23", "b16b", 0, 15, 43, true, true, true, "fdb5", "ce5b", 17, 0, true, true));
+bt_table03.put(List.of("b60f", "a708", "a4b7", 1, 2, 0, false, false, false, "d86f", "d9a2", 121, 15214, false, false));
+bt_table03.put(List.of("aa58", "c22b", "f19e", 5, 14383, 2887, true, false, true, "be2d", "c8f7", 0, 0, true, true));
+bt_table03.put(List.of("aa1a", "a59f", "a0b5e", 0, 0, 582675, true, true, false, "ec60", "c2db", 0, 5, false, false));
+bt_table03.put(List.of("db4d", "c236", "f12e", 2, 1110363, 3179, true, true, true, "a9ed", "ae5d", 0, 471, false, true));
+bt_table03.remove("b710");
+bt_table03.put(List.of("d410", "c396", "c28b", 0, 5931, 13587, false, true, false, "a96c", "ba2f", 706, 11367, true, false));
+bt_table03.remove("a1ce");
+bt_table03.put(List.of("fb07", "b57d", "ed06", 1, 0, 65, true, false, true, "b707", "cf49", 163, 0, false, false));
+bt_table03.put(List.of("b21aa", "ba14", "b1eb", 925, 0, 9612, false, true, true, "a365", "e59e", 0, 12205, false, true));
+bt_table03.get("fd95");
+bt_table03.remove("c771");
+bt_table03.put(List.of("e741", "b4364", "eca2", 4978, 0, 0, true, true, true, "bbe5", "a459", 11535, 0, true, false));
+bt_table03.put(List.of("ac300", "ca0f", "d2ca", 10844, 0, 0, false, false, false, "c9d4", "f878", 2369, 1568, false, true));
+bt_table03.put(List.of("fc95", "b451", "c66b", 0, 816, 5, true, false, true, "a050", "c69c", 4, 9981, false, true));
+bt_table03.put(List.of("a8f97", "bb95", "cfbf", 1, 0, 5166, false, true, false, "b345", "d44241", 2159, 14, false, true));
+bt_table03.put(List.of("e6ebe", "be53", "caf4", 92, 0, 8, false, false, true, "c619", "b2820", 16113, 116, true, false));
+bt_table03.put(List.of("c474", "d964", "cfc7", 0, 21, 141703, true, false, true, "af90", "ebf1", 18034, 0, true, false));
+bt_table03.put(List.of("e5e4", "e7e3", "b3f7", 0, 79, 0, false, false, true, "bc23", "d912", 27, 101, true, true));
+bt_table03.put(List.of("ee00", "b199", "bd697", 16, 0, 0, true, true, false, "bfdf9", "f83f", 2440, 0, false, false));
+bt_table03.put(List.of("c214", "e6e0", "c85d", 54, 0, 3, true, true, false, "b0afd", "a23d3", 0, 0, false, true));
+bt_table03.put(List.of("acbd9", "a26e", "ca0e", 178, 0, 31, true, false, true, "fe38", "fdfd", 3339, 0, true, false));
+bt_table03.put(List.of("ec04", "faf1", "ca70", 0, 283, 0, false, false, false, "a760", "b29f3", 0, 1, true, false));
+bt_table03.put(List.of("cac3", "b7ce", "eb20", 297, 133, 261, false, true, true, "e1d7", "b4e5", 314, 0, true, false));
+bt_table03.put(List.of("b5be", "ba5e", "b118", 2, 11380, 1, false, false, false, "fdc2", "f8bf", 121, 22575, true, false));
+bt_table03.get("b799");
+bt_table03.put(List.of("e5345", "d87c", "e09a", 1303, 0, 134, true, true, true, "fbbd", "a2586", 0, 0, true, false));
+bt_table03.put(List.of("bd99", "dae0", "ec89", 0, 0, 1, true, false, false, "d9bb", "b7c3", 0, 0, false, false));
+bt_table03.put(List.of("d66e", "ac2f3", "c4c4", 18, 192, 0, true, true, false, "bc4e", "d25a", 0, 202, false, false));
+bt_table03.remove("bcee");
+bt_table03.put(List.of("b3cb", "ab4b", "a3e6", 0, 338, 0, true, false, false, "e5474", "bace", 3660, 0, false, false));
+bt_table03.remove("d4fc");
+bt_table03.put(List.of("faa6", "d58a", "d9b1", 0, 6679, 0, true, false, true, "c7ca", "af53", 191, 0, false, false));
+bt_table03.put(List.of("beeb", "afaa", "e8d5", 33, 3, 0, true, false, false, "a522", "f449", 3, 5680, false, false));
+bt_table03.put(List.of("d402", "a9d5", "c92c", 0, 5326, 15253, false, true, false, "b2421", "e20d", 0, 5985, false, true));
+bt_table03.put(Arrays.asList(null, "a13ba", "ef86", 0, 54760, 0, false, false, true, "e788", "fb46", 0, 110, false, true));
+bt_table03.put(List.of("ada3", "a371", "f274", 0, 0, 15192, false, true, true, "c447", "ea71", 2, 3, false, true));
+bt_table03.put(Arrays.asList("af5a", null, "b59b", 0, 0, 0, false, true, false, "c1bbf", "a526", 0, 10834, false, false));
+bt_table03.put(List.of("a765", "be56", "f5a5", 28, 0, 0, false, true, false, "ea36", "d994", 205017, 526, false, false));
+bt_table03.put(List.of("ee64", "d064", "c6b95", 8, 71, 8, false, false, true, "aa91", "ba1c", 0, 0, false, true));
+bt_table03.put(List.of("f4d7", "f68d", "a177", 42, 633, 52, false, true, false, "fc09", "a187e", 0, 1, false, true));
+bt_table03.put(List.of("e09d", "e7e2", "b7c4", 122, 13, 0, false, true, true, "a06d", "bdeb", 0, 1046, false, false));
+bt_table03.put(List.of("e41b", "b2f7", "bfb4", 1, 4989, 0, true, false, false, "bff5", "a343", 0, 32801, false, false));
+bt_table03.put(Arrays.asList("badeb", "e684", "ac2a", null, 462, 0, true, false, true, "dafe", "abeb", 1, 135359, true, true));
+bt_table03.put(Arrays.asList("d0d2", "d9e8", "c434", 1345, 0, null, true, true, false, "f7c9", "bbdd", 0, 622, true, false));
+bt_table03.put(List.of("cd05", "ca891", "c3dc8", 588, 2, 0, false, false, true, "d4659", "d278", 2, 5, false, true));
+bt_table03.put(List.of("b404", "a16e", "e9db", 689, 485, 2493, true, true, true, "a440", "cef1", 53, 0, false, true));
+bt_table03.put(List.of("ad7ec", "a749", "a720", 21628, 4266, 5, true, true, true, "a206", "ecc6", 0, 0, true, true));
+bt_table03.put(List.of("bbd7b", "a4af", "bfe00", 40, 15912, 0, false, false, false, "dcaf", "b32a", 0, 4508, false, true));
+bt_table03.put(List.of("ac12", "e772", "cc9b", 0, 2, 2372, true, false, true, "a7f0", "b043", 0, 1977, false, true));
+bt_table03.put(List.of("b86b", "a041", "a1431", 198, 0, 0, false, false, true, "f0200", "c265", 0, 140, false, true));
+bt_table03.put(List.of("f4f5", "ff10", "dab4", 0, 0, 0, true, false, true, "d33c", "c7f3", 0, 0, true, false));
+bt_table03.put(List.of("ccab", "e8bd", "d995", 0, 4, 279, true, false, false, "c1a0", "c0ca", 0, 82, false, true));
+bt_table03.put(List.of("b9e0", "eaac", "f3ce", 989, 26115, 0, false, false, true, "deb2", "b0bcd", 0, 0, false, true));
+bt_table03.put(List.of("fa29", "e194", "bbfb", 103, 22, 1686, false, false, false, "c5d1c", "dcf8", 0, 37, true, false));
+bt_table03.put(Arrays.asList("e93f", "ccd8", "b31e", 1709, 0, 0, false, true, true, "eb2b", "c65a", 4903, null, true, false));
+bt_table03.remove("a0ea0");
+bt_table03.put(List.of("c52c", "c878", "df68", 0, 0, 0, false, true, false, "dde0", "d9e0", 1253, 526, false, true));
+bt_table03.put(Arrays.asList("ae77", "f5fe", null, 0, 8, 0, true, false, true, "dd9e", "cc74", 11, 2178, false, false));
+bt_table03.remove("f33d");
+bt_table03.put(List.of("ce47", "c25d", "a5f3", 55132, 0, 147261, true, false, false, "ddba", "acc55", 0, 0, false, true));
+bt_table03.remove("e337b");
+bt_table03.remove("f1c7");
+bt_table03.put(List.of("d750", "b90b", "ebd46", 22796, 146762, 0, false, true, false, "f4b1", "b465", 0, 0, false, true));
+bt_table03.put(Arrays.asList("b39c", "c9a1", "ae3a", 1303, 3728, 0, false, null, false, "f19d", "a8d2", 818, 1955, true, true));
+bt_table03.put(List.of("d178", "aae4", "c7a7", 1046, 0, 14945, true, false, false, "f5e3", "bbb5", 327123, 71, false, false));
+bt_table03.put(List.of("c2d8", "b58d", "b763", 0, 0, 0, true, true, false, "e931", "cb4b5", 0, 4, false, false));
+bt_table03.put(List.of("b463", "ea30", "f7bd", 0, 15021, 69, true, false, false, "b9428", "ce79", 41495, 5171, true, false));
+bt_table03.get("dc19");
+bt_table03.put(List.of("b262", "d51d", "a15b", 0, 8, 0, true, true, true, "d428", "cdb0", 17749, 24, false, true));
+bt_table03.put(List.of("a230", "cc10", "e0244", 810, 1, 44, false, true, true, "b02f", "ef392", 1757, 0, false, true));
+bt_table03.put(Arrays.asList("c0be", "ec4c", "b791", 549, 0, 16, null, true, false, "df34", "d9aa2", 0, 0, false, false));
+bt_table03.put(List.of("c3ca", "bf49", "b1157", 0, 8676, 0, false, false, false, "e140", "abb3", 0, 18, true, true));
+bt_table03.put(List.of("afa0", "eef4", "cacc", 0, 899, 20, false, false, true, "bba45", "e8aa", 3, 52, true, false));
+bt_table03.get("b96f");
+bt_table03.remove("aaf6");
+bt_table03.get("a763");
+bt_table03.put(List.of("e6a0", "af3b", "bf57", 56, 0, 1, true, true, true, "f72c", "b531", 0, 24, false, false));
+bt_table03.put(Arrays.asList("d091", null, "f605", 9, 0, 956, false, true, false, "afbd", "e1956", 0, 11, true, false));
+bt_table03.remove("f975");
+bt_table03.remove("ea68");
+bt_table03.put(List.of("a231", "c682", "f18a", 0, 97, 0, false, false, false, "c749", "dfcd", 387, 0, false, false));
+bt_table03.put(List.of("f992", "c96a", "c55ad", 307, 14849, 0, false, false, true, "ca83", "e746", 0, 0, true, false));
+bt_table03.put(List.of("eb49", "db08", "ad27", 591, 11033, 392, false, false, true, "ba86", "d781", 0, 0, true, true));
+bt_table03.put(List.of("de94", "f9c5", "c11f", 0, 0, 1373, false, true, false, "f791", "ae90", 1142, 3464, false, false));
+bt_table03.get("d0c3");
+bt_table03.put(List.of("ad91", "b231", "dc47", 114, 21948, 0, true, true, true, "c17b", "d749", 2, 2, true, true));
+bt_table03.remove("abf7");
+bt_table03.remove("e2c4");
+bt_table03.put(List.of("be65", "ed747", "fc49", 727, 14, 0, false, true, true, "c9f5", "afa2", 8, 0, false, true));
+bt_table03.put(List.of("a74c", "b5ad", "c06d", 0, 229, 0, true, true, true, "f907", "feb2", 28, 17943, true, false));
+bt_table03.put(List.of("eaa7e", "d7d6", "fe5f", 0, 0, 0, true, true, false, "a30f", "ba9a", 33, 196, true, true));
+bt_table03.put(List.of("e081", "bb57", "f2ca", 0, 11, 2104, false, false, true, "bea19", "a65d", 18788, 0, false, false));
+bt_table03.clear();
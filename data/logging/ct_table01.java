@@ -0,0 +1,2003 @@
+// Random Seed: 332263446
+Table ct_table01 = new ColumnarTable("ct_table01", List.of("d3", "cf6", "e4"), List.of("string", "integer", "boolean"), 0);
+ct_table01.getTableName();
+ct_table01.getColumnNames();
+ct_table01.getColumnTypes();
+ct_table01.getPrimaryIndex();
+ct_table01.clear();
+ct_table01.remove("c2");
+ct_table01.put(List.of("de2", 0, false));
+ct_table01.put(List.of("ad", 39, false));
+ct_table01.put(List.of("e3", 0, true));
+ct_table01.get("e");
+ct_table01.get("f47");
+ct_table01.remove("c0");
+ct_table01.put(List.of("a53", 670, true));
+ct_table01.put(List.of("c1", 5, false));
+ct_table01.put(List.of("b", 2411, true));
+ct_table01.put(List.of("a", 176, true));
+ct_table01.put(List.of("bc6", 587, false));
+ct_table01.put(List.of("d", 2, true));
+ct_table01.put(List.of("b9", 0, false));
+ct_table01.remove("ae");
+ct_table01.put(List.of("c", 0, false));
+ct_table01.put(List.of("a473", 0, false));
+ct_table01.put(List.of("ac", 0, true));
+ct_table01.put(List.of("aa", 31181, false));
+ct_table01.put(List.of("ca", 0, false));
+ct_table01.get("dc");
+ct_table01.put(List.of("d41", 4, false));
+ct_table01.put(List.of("aaed", 0, false));
+ct_table01.put(List.of("aead4", 2, true));
+ct_table01.put(List.of("adb", 10, false));
+ct_table01.remove("f");
+ct_table01.put(List.of("bb", 0, true));
+ct_table01.put(List.of("bba", 0, false));
+ct_table01.put(List.of("d99", 72, true));
+ct_table01.put(List.of("bc", 63227, false));
+ct_table01.put(List.of("c7", 6885, true));
+ct_table01.put(List.of("f92", 2455, true));
+ct_table01.put(List.of("da", 211, true));
+ct_table01.put(List.of("e05", 260, true));
+ct_table01.put(List.of("fb42", 0, true));
+ct_table01.remove("a57d");
+ct_table01.remove("a5");
+ct_table01.put(List.of("be", 33, false));
+ct_table01.remove("b0");
+ct_table01.put(List.of("ef", 11, true));
+ct_table01.put(List.of("c8", 0, false));
+ct_table01.remove("b5");
+ct_table01.get("a0");
+ct_table01.remove("dd6");
+ct_table01.put(List.of("ac5", 0, false));
+ct_table01.get("e5");
+ct_table01.put(List.of("d5a", 0, true));
+ct_table01.put(List.of("bb85", 0, false));
+ct_table01.remove("fc");
+ct_table01.put(List.of("f07", 0, false));
+ct_table01.get("d7");
+ct_table01.put(List.of("a0c", 0, false));
+ct_table01.put(List.of("fe", 8896, true));
+ct_table01.put(List.of("dd", 0, true));
+ct_table01.put(List.of("c5a", 0, true));
+ct_table01.remove("cd");
+ct_table01.put(List.of("efb", 0, false));
+ct_table01.put(List.of("a1", 0, true));
+ct_table01.put(List.of("f1b", 0, true));
+ct_table01.put(List.of("f6", 1185, false));
+ct_table01.remove("b9de5");
+ct_table01.remove("a4");
+ct_table01.put(List.of("a8", 0, true));
+ct_table01.put(List.of("a01", 0, false));
+ct_table01.put(List.of("a56", 0, true));
+ct_table01.remove("ae9");
+ct_table01.put(List.of("fd2", 0, true));
+ct_table01.put(List.of("ea6", 642, true));
+ct_table01.put(List.of("a2", 0, true));
+ct_table01.put(List.of("cb3e", 4, true));
+ct_table01.put(List.of("b4", 0, false));
+ct_table01.put(List.of("d9", 421, true));
+ct_table01.put(List.of("a08", 0, true));
+ct_table01.put(List.of("e0", 0, false));
+ct_table01.put(List.of("a2d2", 0, false));
+ct_table01.put(List.of("f19", 71757, false));
+ct_table01.put(List.of("a6", 230, false));
+ct_table01.put(List.of("b92", 296, true));
+ct_table01.put(List.of("c91", 0, false));
+ct_table01.remove("ae3");
+ct_table01.put(List.of("c9a", 1407, false));
+ct_table01.put(List.of("bb3", 0, false));
+ct_table01.put(List.of("d6", 4006, true));
+ct_table01.put(List.of("a37", 125, false));
+ct_table01.put(List.of("e5e", 482, false));
+ct_table01.get("f26");
+ct_table01.put(List.of("ab3", 0, true));
+ct_table01.put(List.of("eb", 0, false));
+ct_table01.put(List.of("ca71", 0, false));
+ct_table01.put(List.of("f24", 0, true));
+ct_table01.get("a06");
+ct_table01.put(List.of("f5", 0, true));
+ct_table01.put(List.of("e8", 0, true));
+ct_table01.put(List.of("e6", 55, true));
+ct_table01.put(List.of("ed", 1, true));
+ct_table01.put(List.of("ba2", 1699, true));
+ct_table01.put(List.of("a18", 1452, true));
+ct_table01.put(List.of("ba", 88636, true));
+ct_table01.put(List.of("c0c5", 0, false));
+ct_table01.remove("edc");
+ct_table01.put(List.of("e61", 0, false));
+ct_table01.put(List.of("b98", 8738, false));
+ct_table01.put(List.of("fcb", 1173, true));
+ct_table01.put(List.of("a9d", 1, true));
+ct_table01.get("dc6");
+ct_table01.put(List.of("c5", 42627, true));
+ct_table01.put(List.of("f4", 0, false));
+ct_table01.put(List.of("bd", 5, true));
+ct_table01.remove("e1");
+ct_table01.put(List.of("a9", 0, false));
+ct_table01.put(List.of("e7ec", 35, false));
+ct_table01.put(List.of("ce", 54275, false));
+ct_table01.put(List.of("c8ca", 150, true));
+ct_table01.remove("fa2");
+ct_table01.put(List.of("c40", 3, false));
+ct_table01.put(List.of("cea", 100, false));
+ct_table01.remove("f0");
+ct_table01.put(List.of("ae72", 0, true));
+ct_table01.put(List.of("c3c", 0, false));
+ct_table01.put(List.of("b7", 486, false));
+ct_table01.put(List.of("adc", 0, true));
+ct_table01.put(List.of("a3e", 0, true));
+ct_table01.put(List.of("d5", 305, false));
+ct_table01.remove("fb");
+ct_table01.put(List.of("aae", 0, true));
+ct_table01.put(List.of("b8", 119, false));
+ct_table01.put(List.of("c41", 0, false));
+ct_table01.put(List.of("dec", 251886, false));
+ct_table01.put(List.of("cfb", 0, false));
+ct_table01.put(List.of("db", 3, false));
+ct_table01.put(List.of("cf", 0, true));
+ct_table01.put(List.of("e2", 32378, false));
+ct_table01.remove("a3");
+ct_table01.put(List.of("bc7", 0, false));
+ct_table01.put(List.of("cd5", 61365, false));
+ct_table01.put(List.of("df", 0, true));
+ct_table01.put(List.of("ad6d", 0, false));
+ct_table01.put(List.of("caf", 276, true));
+ct_table01.put(List.of("b66", 9, true));
+ct_table01.get("de");
+ct_table01.put(List.of("c49", 6, false));
+ct_table01.put(List.of("b06", 0, true));
+ct_table01.put(List.of("c47", 19, true));
+ct_table01.put(List.of("bcb0", 79029, false));
+ct_table01.put(List.of("d3d", 219, true));
+ct_table01.put(List.of("b0e", 29, false));
+ct_table01.put(List.of("f7dc", 0, true));
+ct_table01.remove("ec");
+ct_table01.put(List.of("f74", 0, true));
+ct_table01.put(List.of("ae2", 0, true));
+ct_table01.put(List.of("bb2", 127897, true));
+ct_table01.put(List.of("bf8", 217380, false));
+ct_table01.remove("f7");
+ct_table01.put(List.of("c2ea", 9, true));
+ct_table01.put(List.of("d9c6", 0, false));
+ct_table01.put(List.of("ec89", 0, true));
+ct_table01.put(List.of("bbe", 0, false));
+ct_table01.remove("c6");
+ct_table01.put(List.of("d4", 1622, true));
+ct_table01.put(List.of("c8a", 0, false));
+ct_table01.put(List.of("d0a", 383, true));
+ct_table01.put(List.of("d7f9", 12, false));
+ct_table01.put(List.of("cb9", 2991, false));
+ct_table01.get("f85");
+ct_table01.remove("c4");
+ct_table01.put(List.of("a85", 0, false));
+ct_table01.put(List.of("f7a", 0, false));
+ct_table01.put(List.of("e2d", 0, false));
+ct_table01.put(List.of("e27", 13306, false));
+ct_table01.put(List.of("f0c5", 0, true));
+ct_table01.put(List.of("cb", 0, true));
+ct_table01.put(List.of("dfe", 164, true));
+ct_table01.remove("c7d8");
+ct_table01.put(List.of("af", 1, true));
+ct_table01.put(List.of("eb0", 0, true));
+ct_table01.put(List.of("ba4", 3, false));
+ct_table01.get("c57");
+ct_table01.put(List.of("fa", 4039, false));
+ct_table01.remove("f1");
+ct_table01.put(List.of("b15", 4, true));
+ct_table01.remove("bd4d");
+ct_table01.get("cb5");
+ct_table01.put(List.of("b4a0", 21111, true));
+ct_table01.remove("df6a");
+ct_table01.put(List.of("b213", 0, false));
+ct_table01.get("ab");
+ct_table01.put(List.of("d8d54", 6208, false));
+ct_table01.put(List.of("cde", 206, false));
+ct_table01.remove("e63");
+ct_table01.put(List.of("aca", 55, false));
+ct_table01.put(List.of("c20f", 36597, true));
+ct_table01.put(List.of("aa0", 0, false));
+ct_table01.put(List.of("d1", 125445, false));
+ct_table01.put(List.of("ed6", 55, false));
+ct_table01.get("ba8");
+ct_table01.put(Arrays.asList("cfa", 0, null));
+ct_table01.remove("b1");
+ct_table01.put(List.of("c961", 117, true));
+ct_table01.remove("d8d2");
+ct_table01.put(List.of("a83c", 0, true));
+ct_table01.put(List.of("fa943", 103, false));
+ct_table01.put(List.of("c98", 0, true));
+ct_table01.get("f16");
+ct_table01.remove("d0");
+ct_table01.put(List.of("b6", 36, true));
+ct_table01.put(List.of("a3c", 0, true));
+ct_table01.remove("f9");
+ct_table01.get("d38");
+ct_table01.get("a96");
+ct_table01.put(List.of("af5", 2311, false));
+ct_table01.remove("c12");
+ct_table01.get("aa804");
+ct_table01.put(List.of("c3", 0, false));
+ct_table01.put(List.of("b60", 4, true));
+ct_table01.put(List.of("bbc", 0, false));
+ct_table01.put(List.of("c378", 6, true));
+ct_table01.put(List.of("f58", 0, true));
+ct_table01.put(List.of("d919", 0, true));
+ct_table01.remove("e0a1");
+ct_table01.put(List.of("c9", 0, true));
+ct_table01.remove("c5f9");
+ct_table01.put(List.of("e22", 79, true));
+ct_table01.put(List.of("a75", 0, true));
+ct_table01.remove("adc4");
+ct_table01.put(List.of("f3", 3848, true));
+ct_table01.put(List.of("c42", 9, false));
+ct_table01.put(List.of("b3", 0, false));
+ct_table01.put(List.of("df9", 0, true));
+ct_table01.put(List.of("c5f", 12, false));
+ct_table01.remove("cb1");
+ct_table01.put(List.of("f8", 0, false));
+ct_table01.put(List.of("b6508", 3218, true));
+ct_table01.remove("ecf");
+ct_table01.put(List.of("c54", 0, true));
+ct_table01.put(List.of("bef", 7, false));
+ct_table01.put(List.of("a690", 0, false));
+ct_table01.remove("fda");
+ct_table01.get("f50");
+ct_table01.put(List.of("cc", 0, false));
+ct_table01.remove("f46");
+ct_table01.put(List.of("b45", 9733, false));
+ct_table01.put(List.of("c70", 0, true));
+ct_table01.put(List.of("fd7", 6131, false));
+ct_table01.get("fb70");
+ct_table01.put(List.of("c8d", 11, true));
+ct_table01.remove("a1c");
+ct_table01.remove("a4806");
+ct_table01.remove("b4d");
+ct_table01.get("c14");
+ct_table01.put(List.of("e5f", 0, false));
+ct_table01.put(List.of("f37", 0, true));
+ct_table01.put(List.of("e9a9", 0, false));
+ct_table01.put(List.of("ba9", 0, false));
+ct_table01.put(List.of("a87", 0, true));
+ct_table01.put(List.of("fe5", 8365, false));
+ct_table01.remove("eefe");
+ct_table01.put(List.of("f05", 258, false));
+ct_table01.put(List.of("cb57", 5, false));
+ct_table01.put(List.of("d25b8", 0, true));
+ct_table01.get("a731");
+ct_table01.get("da8");
+ct_table01.remove("a278");
+ct_table01.put(List.of("b00", 12482, false));
+ct_table01.put(List.of("d88e", 587, false));
+ct_table01.put(List.of("b16", 0, false));
+ct_table01.put(List.of("ca7", 163, false));
+ct_table01.put(List.of("a6b", 2, true));
+ct_table01.remove("c891");
+ct_table01.put(List.of("f2", 0, false));
+ct_table01.put(List.of("be8", 0, false));
+ct_table01.put(List.of("a77", 6000, true));
+ct_table01.remove("b5e");
+ct_table01.put(List.of("f178", 62, false));
+ct_table01.get("fba");
+ct_table01.put(List.of("fb82", 1, false));
+ct_table01.remove("fb1");
+ct_table01.put(List.of("bf", 10, false));
+ct_table01.put(List.of("d1e", 486, true));
+ct_table01.put(List.of("c2f7", 79, false));
+ct_table01.get("abe");
+ct_table01.put(List.of("a5a", 4, true));
+ct_table01.put(List.of("a72", 1, false));
+ct_table01.put(List.of("ff9", 228, true));
+ct_table01.put(List.of("b27d", 145, true));
+ct_table01.remove("d5c");
+ct_table01.put(List.of("a5c", 1, false));
+ct_table01.remove("b77");
+ct_table01.put(List.of("fdc", 6, true));
+ct_table01.put(List.of("b7a", 0, true));
+ct_table01.remove("a7");
+ct_table01.get("c3f");
+ct_table01.put(List.of("e9", 0, true));
+ct_table01.put(List.of("b12", 244, true));
+ct_table01.put(List.of("edd", 45090, true));
+ct_table01.put(List.of("ee7", 6, true));
+ct_table01.put(List.of("d37", 53, false));
+ct_table01.put(List.of("ad2", 1, true));
+ct_table01.put(List.of("e13", 4, false));
+ct_table01.put(List.of("d3a", 2, true));
+ct_table01.put(List.of("e47", 1335, false));
+ct_table01.put(List.of("b346", 27, false));
+ct_table01.put(List.of("fd", 0, true));
+ct_table01.put(List.of("ebc", 0, false));
+ct_table01.put(List.of("d88", 0, true));
+ct_table01.remove("ba3");
+ct_table01.put(List.of("beae", 17457, false));
+ct_table01.put(List.of("dc1", 58, true));
+ct_table01.put(List.of("bd4", 68, false));
+ct_table01.put(List.of("c2a1", 0, true));
+ct_table01.put(List.of("a96f", 341229, false));
+ct_table01.get("aad");
+ct_table01.remove("de6");
+ct_table01.put(List.of("e48", 7, false));
+ct_table01.put(List.of("a3b", 6608, false));
+ct_table01.get("b7f");
+ct_table01.put(List.of("e4c", 186, false));
+ct_table01.put(List.of("ee", 5, true));
+ct_table01.put(List.of("c74b", 0, true));
+ct_table01.put(List.of("d95", 2, false));
+ct_table01.remove("ad8");
+ct_table01.put(List.of("f70a", 14, false));
+ct_table01.remove("d6a6");
+ct_table01.remove("c285");
+ct_table01.put(List.of("abc", 561, false));
+ct_table01.put(List.of("e15", 292, true));
+ct_table01.put(List.of("b59", 0, false));
+ct_table01.get("d16");
+ct_table01.put(List.of("cb0", 5783, false));
+ct_table01.remove("b2");
+ct_table01.put(List.of("a9a", 0, true));
+ct_table01.put(List.of("ea0", 0, false));
+ct_table01.put(List.of("c54b", 0, false));
+ct_table01.remove("ee8");
+ct_table01.put(List.of("afb3", 2152, false));
+ct_table01.put(List.of("a6e", 6887, true));
+ct_table01.put(List.of("dad", 5, true));
+ct_table01.put(List.of("f0f", 816, true));
+ct_table01.remove("d512");
+ct_table01.remove("a9e");
+ct_table01.remove("c36b");
+ct_table01.remove("eba");
+ct_table01.get("b64");
+ct_table01.remove("b11");
+ct_table01.put(List.of("cca6", 26, false));
+ct_table01.remove("c9e");
+ct_table01.remove("c0b");
+ct_table01.put(List.of("e00", 26053, false));
+ct_table01.put(List.of("f1a", 2608, false));
+ct_table01.put(List.of("a442", 2319, true));
+ct_table01.remove("c09");
+ct_table01.put(List.of("bae", 111, false));
+ct_table01.put(List.of("f2c", 0, false));
+ct_table01.put(List.of("b1f4", 0, false));
+ct_table01.get("b1c");
+ct_table01.get("b66f");
+ct_table01.put(List.of("c78", 172, true));
+ct_table01.put(List.of("f1f8", 0, false));
+ct_table01.remove("de3e");
+ct_table01.get("b111");
+ct_table01.put(List.of("ced0", 2, true));
+ct_table01.put(List.of("acb", 2040, true));
+ct_table01.put(List.of("a0a3", 51, false));
+ct_table01.remove("b54");
+ct_table01.put(List.of("e76", 0, false));
+ct_table01.get("d7b");
+ct_table01.put(List.of("ab9c", 139426, false));
+ct_table01.remove("a68");
+ct_table01.get("d35");
+ct_table01.put(List.of("f00", 80, true));
+ct_table01.put(List.of("cd3", 0, true));
+ct_table01.put(List.of("aa7", 1497, true));
+ct_table01.get("f13");
+ct_table01.put(List.of("b489", 387, false));
+ct_table01.put(List.of("f1ee", 71, true));
+ct_table01.put(List.of("d47", 2505, false));
+ct_table01.put(List.of("ef9", 0, true));
+ct_table01.put(List.of("e6c", 0, false));
+ct_table01.get("c4d");
+ct_table01.put(List.of("c2ba", 9, true));
+ct_table01.put(List.of("ac9", 0, false));
+ct_table01.remove("c92");
+ct_table01.get("c55b");
+ct_table01.put(List.of("d8d", 0, true));
+ct_table01.put(List.of("b40", 9, false));
+ct_table01.put(List.of("d2d8", 33, false));
+ct_table01.remove("ebe");
+ct_table01.put(List.of("dc92", 601, false));
+ct_table01.put(List.of("c24", 0, false));
+ct_table01.put(List.of("db86", 104, true));
+ct_table01.put(List.of("ff", 0, true));
+ct_table01.remove("e18");
+ct_table01.remove("c81");
+ct_table01.put(List.of("aa6", 6, true));
+ct_table01.get("bcf");
+ct_table01.put(List.of("e0c", 13, false));
+ct_table01.put(List.of("b391", 11, true));
+ct_table01.put(List.of("d13", 2, false));
+ct_table01.remove("f37b");
+ct_table01.put(List.of("d2", 0, true));
+ct_table01.put(List.of("da5", 18726, true));
+ct_table01.put(List.of("b26", 1034, true));
+ct_table01.put(List.of("d65", 0, true));
+ct_table01.put(List.of("b76b", 23, true));
+ct_table01.put(List.of("e4f", 149675, false));
+ct_table01.put(List.of("a36ab", 0, false));
+ct_table01.put(List.of("cc2", 24, false));
+ct_table01.put(List.of("d43", 4, true));
+ct_table01.put(List.of("ded", 0, true));
+ct_table01.put(List.of("dc3", 0, true));
+ct_table01.put(List.of("b37", 0, true));
+ct_table01.get("b556");
+ct_table01.put(List.of("bd9", 0, false));
+ct_table01.put(List.of("cca", 0, true));
+ct_table01.put(List.of("f456", 0, false));
+ct_table01.put(List.of("f02", 2, true));
+ct_table01.put(List.of("b25e", 3, true));
+ct_table01.put(List.of("f4fc", 0, false));
+ct_table01.put(List.of("da3", 97, false));
+ct_table01.put(List.of("e36", 0, false));
+ct_table01.put(List.of("de48", 210, true));
+ct_table01.remove("c594");
+ct_table01.remove("e74");
+ct_table01.put(List.of("a6c", 44257, true));
+ct_table01.put(List.of("c8a2", 984532, false));
+ct_table01.get("d263");
+ct_table01.put(List.of("be1", 389, false));
+ct_table01.get("f91");
+ct_table01.put(List.of("dab", 13, true));
+ct_table01.put(List.of("adb6", 0, false));
+ct_table01.put(List.of("ec7b", 8, true));
+ct_table01.put(List.of("c79", 40, false));
+ct_table01.put(List.of("a0b", 0, true));
+ct_table01.put(List.of("c97", 0, true));
+ct_table01.put(List.of("e23", 73, true));
+ct_table01.put(List.of("acd", 1440, true));
+ct_table01.put(List.of("d20", 11, false));
+ct_table01.put(List.of("b51", 0, false));
+ct_table01.put(List.of("bcb", 510, false));
+ct_table01.put(List.of("df1", 428, true));
+ct_table01.put(List.of("b09", 2, true));
+ct_table01.put(List.of("b21", 0, false));
+ct_table01.put(List.of("df7", 0, true));
+ct_table01.put(List.of("bdc1", 7, true));
+ct_table01.remove("a79");
+ct_table01.put(List.of("d70", 28533, true));
+ct_table01.remove("ce4");
+ct_table01.put(List.of("ac3", 8441, false));
+ct_table01.get("b56");
+ct_table01.put(List.of("ddd", 0, false));
+ct_table01.put(List.of("bc5", 0, false));
+ct_table01.put(List.of("e6f", 0, true));
+ct_table01.put(List.of("c46", 84777, true));
+ct_table01.put(List.of("ece6", 4096, false));
+ct_table01.get("bbb");
+ct_table01.remove("b14");
+ct_table01.put(List.of("ee0", 715, true));
+ct_table01.put(List.of("a78", 752, false));
+ct_table01.put(List.of("bf3", 0, true));
+ct_table01.remove("e128b");
+ct_table01.put(List.of("ed7", 0, false));
+ct_table01.put(List.of("bbd", 1, true));
+ct_table01.put(List.of("d22", 0, true));
+ct_table01.remove("cf3");
+ct_table01.put(List.of("cb8", 416, true));
+ct_table01.remove("f43");
+ct_table01.put(List.of("bd83", 59, true));
+ct_table01.put(List.of("bc47", 249, false));
+ct_table01.put(List.of("ea", 46, true));
+ct_table01.get("ac0");
+ct_table01.get("a48");
+ct_table01.remove("d34");
+ct_table01.put(List.of("a529", 4, false));
+ct_table01.remove("d2a2");
+ct_table01.put(List.of("c71", 0, false));
+ct_table01.put(List.of("e7", 1489, true));
+ct_table01.put(List.of("f41", 0, true));
+ct_table01.put(List.of("d11", 0, false));
+ct_table01.put(List.of("bf2", 0, false));
+ct_table01.put(List.of("b82", 39771, false));
+ct_table01.put(List.of("cef", 0, false));
+ct_table01.put(List.of("c65", 0, false));
+ct_table01.put(List.of("a36", 8, true));
+ct_table01.put(List.of("e8e", 24, true));
+ct_table01.put(List.of("f69", 0, true));
+ct_table01.remove("b39");
+ct_table01.put(List.of("bf6", 1173, true));
+ct_table01.put(List.of("b7f5", 3100, false));
+ct_table01.get("aec7");
+ct_table01.put(List.of("d2812", 596, true));
+ct_table01.put(List.of("f588", 356, false));
+ct_table01.put(List.of("d1c", 2, true));
+ct_table01.put(List.of("bc4e", 0, true));
+ct_table01.put(List.of("a04", 1734, true));
+ct_table01.put(List.of("b3d", 0, true));
+ct_table01.put(Arrays.asList("ceb", null, false));
+ct_table01.put(List.of("e71", 471, true));
+ct_table01.put(List.of("d5a7", 11670, true));
+ct_table01.put(List.of("d10", 2466, true));
+ct_table01.get("e33");
+ct_table01.put(List.of("c36", 0, false));
+ct_table01.get("c87");
+ct_table01.get("dbf");
+ct_table01.remove("b4f");
+ct_table01.remove("c4b");
+ct_table01.remove("a1b19");
+ct_table01.put(List.of("e5b", 775, false));
+ct_table01.put(List.of("af8", 0, true));
+ct_table01.put(List.of("b91", 1067, false));
+ct_table01.remove("ad5");
+ct_table01.get("b2b7");
+ct_table01.get("ee6b");
+ct_table01.put(List.of("de7", 115, true));
+ct_table01.remove("af0");
+ct_table01.put(List.of("e80", 12, false));
+ct_table01.put(List.of("b0a", 0, false));
+ct_table01.put(Arrays.asList("aed", 161, null));
+ct_table01.put(List.of("d3c", 0, true));
+ct_table01.put(List.of("ea04", 882, true));
+ct_table01.put(List.of("d66", 1522, true));
+ct_table01.get("a45");
+ct_table01.put(List.of("b9b1", 0, true));
+ct_table01.put(List.of("ed0", 0, false));
+ct_table01.put(List.of("f17", 0, true));
+ct_table01.put(List.of("cd972", 574, false));
+ct_table01.put(List.of("b5d", 187, false));
+ct_table01.put(List.of("c13", 175, false));
+ct_table01.put(List.of("de1", 0, false));
+ct_table01.remove("a0a");
+ct_table01.put(List.of("c930", 903, false));
+ct_table01.put(List.of("a837", 607, false));
+ct_table01.put(List.of("c8c", 0, false));
+ct_table01.remove("d95b");
+ct_table01.put(List.of("bd2", 0, false));
+ct_table01.remove("cf36");
+ct_table01.remove("aadb");
+ct_table01.get("a5f");
+ct_table01.get("a492");
+ct_table01.remove("e91");
+ct_table01.put(List.of("d602", 0, false));
+ct_table01.get("b52");
+ct_table01.put(List.of("c75", 19772, true));
+ct_table01.remove("b05d");
+ct_table01.remove("efaa");
+ct_table01.remove("b70");
+ct_table01.remove("e37");
+ct_table01.put(List.of("c86", 0, false));
+ct_table01.put(List.of("bce9", 477, true));
+ct_table01.put(List.of("a2d", 32, true));
+ct_table01.put(List.of("cfd", 1, false));
+ct_table01.remove("d05");
+ct_table01.put(List.of("b63f", 0, true));
+ct_table01.put(List.of("e6a", 0, true));
+ct_table01.put(List.of("da76", 9, false));
+ct_table01.put(List.of("b341", 0, false));
+ct_table01.put(List.of("c53a2", 0, false));
+ct_table01.put(List.of("c190", 76, false));
+ct_table01.put(List.of("da05", 11, false));
+ct_table01.put(List.of("e4ea", 0, false));
+ct_table01.put(List.of("ef3", 10, false));
+ct_table01.put(List.of("eedf", 0, true));
+ct_table01.put(Arrays.asList("cc90d", null, true));
+ct_table01.get("e68");
+ct_table01.put(List.of("ac3e9", 153, true));
+ct_table01.remove("e8b");
+ct_table01.put(List.of("c5e0", 100, true));
+ct_table01.get("c03");
+ct_table01.put(List.of("a129", 3, false));
+ct_table01.remove("c70a");
+ct_table01.put(List.of("ef0a", 0, true));
+ct_table01.get("b54a");
+ct_table01.get("c6b");
+ct_table01.put(List.of("bd6", 25, false));
+ct_table01.put(List.of("da6", 0, true));
+ct_table01.remove("e73");
+ct_table01.put(List.of("c1a", 10, false));
+ct_table01.put(List.of("da0", 10, false));
+ct_table01.put(List.of("ee0d", 0, false));
+ct_table01.put(List.of("a7f", 0, false));
+ct_table01.remove("c471");
+ct_table01.put(List.of("c6f", 0, false));
+ct_table01.put(List.of("f0b", 47, false));
+ct_table01.put(List.of("af6", 0, true));
+ct_table01.put(List.of("cb34", 0, false));
+ct_table01.put(List.of("b7eb", 0, true));
+ct_table01.put(List.of("ccf", 0, true));
+ct_table01.remove("f3b9");
+ct_table01.put(List.of("f18", 0, false));
+ct_table01.put(List.of("b88", 3404, true));
+ct_table01.put(List.of("a88b", 0, true));
+ct_table01.put(List.of("dd1", 0, true));
+ct_table01.put(List.of("aec", 3, true));
+ct_table01.put(List.of("cc8", 0, true));
+ct_table01.put(List.of("f86", 5, false));
+ct_table01.put(List.of("fc7", 0, true));
+ct_table01.remove("a19");
+ct_table01.remove("cdacb");
+ct_table01.put(List.of("ec6", 0, false));
+ct_table01.put(List.of("ea5", 70, false));
+ct_table01.remove("d478");
+ct_table01.remove("b8d");
+ct_table01.put(List.of("aea", 0, false));
+ct_table01.put(List.of("f77", 0, false));
+ct_table01.put(List.of("db1", 374, true));
+ct_table01.get("ef4f");
+ct_table01.put(List.of("cdf6", 0, true));
+ct_table01.remove("f7c");
+ct_table01.put(List.of("ecaa", 13260, true));
+ct_table01.put(List.of("d9c", 1, false));
+ct_table01.put(List.of("a67", 25, true));
+ct_table01.put(List.of("a34", 0, false));
+ct_table01.put(List.of("f06", 0, false));
+ct_table01.remove("cdf");
+ct_table01.remove("bdb");
+ct_table01.put(List.of("c9d", 124, false));
+ct_table01.put(List.of("fd1", 4391, true));
+ct_table01.put(List.of("dedb", 1151, false));
+ct_table01.put(List.of("ebf", 123, false));
+ct_table01.put(List.of("b33", 4, false));
+ct_table01.put(List.of("f35", 0, false));
+ct_table01.put(List.of("cda", 149, true));
+ct_table01.put(List.of("a783", 9, true));
+ct_table01.remove("b55");
+ct_table01.put(List.of("d529", 1, true));
+ct_table01.get("c55");
+ct_table01.put(List.of("b78", 32, false));
+ct_table01.put(List.of("ca1", 78, false));
+ct_table01.put(List.of("d9f7", 1, true));
+ct_table01.put(List.of("d45b", 4, true));
+ct_table01.put(List.of("a4fc", 580, false));
+ct_table01.put(List.of("a95", 0, false));
+ct_table01.put(List.of("d2d", 0, true));
+ct_table01.put(Arrays.asList("dc4", null, false));
+ct_table01.put(List.of("a5e", 61273, true));
+ct_table01.put(List.of("e4d", 0, false));
+ct_table01.put(List.of("aeb7", 0, false));
+ct_table01.put(List.of("b62", 1, true));
+ct_table01.put(List.of("dd5", 0, true));
+ct_table01.get("a74");
+ct_table01.put(List.of("be9", 294, true));
+ct_table01.put(List.of("eb3", 112, false));
+ct_table01.put(List.of("db96", 0, false));
+ct_table01.remove("b5c6");
+ct_table01.get("be2");
+ct_table01.put(List.of("c394", 54, false));
+ct_table01.put(List.of("ea85", 0, true));
+ct_table01.put(List.of("c070", 0, true));
+ct_table01.put(List.of("a5d37", 0, false));
+ct_table01.put(List.of("b79", 7897, false));
+ct_table01.remove("c25a");
+ct_table01.get("bd8");
+ct_table01.put(List.of("bace", 101, false));
+ct_table01.remove("db9");
+ct_table01.put(List.of("af78", 508, true));
+ct_table01.remove("d40");
+ct_table01.get("fb49");
+ct_table01.put(List.of("a30", 2, true));
+ct_table01.get("ff6");
+ct_table01.put(List.of("e14", 475, true));
+ct_table01.put(List.of("bda3", 5291, true));
+ct_table01.put(List.of("c4ee", 3, false));
+ct_table01.put(List.of("b97", 0, true));
+ct_table01.put(List.of("d26", 77748, false));
+ct_table01.put(List.of("cbfe", 87, false));
+ct_table01.put(List.of("b67", 0, true));
+ct_table01.put(List.of("ca8", 35, true));
+ct_table01.remove("d7c");
+ct_table01.put(List.of("f3d5", 0, false));
+ct_table01.put(List.of("e82", 0, true));
+ct_table01.get("c32");
+ct_table01.put(List.of("d54", 93, true));
+ct_table01.put(List.of("e02", 87, true));
+ct_table01.put(List.of("a1d", 1362, true));
+ct_table01.put(List.of("b86", 1249, true));
+ct_table01.put(List.of("f3d", 0, false));
+ct_table01.put(List.of("bff", 12997, true));
+ct_table01.put(List.of("f027", 0, false));
+ct_table01.remove("df0");
+ct_table01.put(List.of("eac", 32, false));
+ct_table01.put(List.of("f28", 74036, false));
+ct_table01.put(List.of("a1f9", 290, true));
+ct_table01.put(List.of("b20", 1, true));
+ct_table01.put(List.of("de8", 0, false));
+ct_table01.put(List.of("a5ec", 0, false));
+ct_table01.put(List.of("c2f", 2, true));
+ct_table01.remove("b6c");
+ct_table01.put(List.of("a61", 5735, true));
+ct_table01.remove("f763");
+ct_table01.put(List.of("b83", 943, true));
+ct_table01.put(List.of("cfdf", 160, false));
+ct_table01.remove("bce");
+ct_table01.put(List.of("f7f5", 333, true));
+ct_table01.put(List.of("c932", 0, true));
+ct_table01.put(List.of("d691", 0, true));
+ct_table01.put(List.of("b9fc", 16159, true));
+ct_table01.put(List.of("c282", 125, true));
+ct_table01.put(List.of("ab40", 12, true));
+ct_table01.get("fb6ed");
+ct_table01.put(Arrays.asList("c56", 16, null));
+ct_table01.put(List.of("bf1", 30, true));
+ct_table01.remove("f730");
+ct_table01.remove("bfc");
+ct_table01.put(List.of("bb7", 297, true));
+ct_table01.put(List.of("b657", 0, false));
+ct_table01.put(List.of("de3", 69, false));
+ct_table01.remove("ac8");
+ct_table01.put(List.of("a15", 175, true));
+ct_table01.remove("b8c");
+ct_table01.remove("de86");
+ct_table01.put(List.of("a39", 0, false));
+ct_table01.remove("e708");
+ct_table01.remove("ed8");
+ct_table01.put(List.of("c23", 247, true));
+ct_table01.put(List.of("d24", 0, false));
+ct_table01.put(List.of("cafa", 3920, false));
+ct_table01.put(List.of("e72", 0, false));
+ct_table01.put(List.of("c31", 6, false));
+ct_table01.put(List.of("d94", 25, true));
+ct_table01.remove("a46");
+ct_table01.put(List.of("f2f", 0, false));
+ct_table01.put(List.of("ae1", 74, false));
+ct_table01.put(List.of("b9f", 139, false));
+ct_table01.put(List.of("b42", 501, false));
+ct_table01.put(List.of("b77be", 18, true));
+ct_table01.put(List.of("b1b", 0, true));
+ct_table01.remove("e1b");
+ct_table01.put(List.of("d80c", 2, false));
+ct_table01.remove("b76");
+ct_table01.put(List.of("b68", 0, true));
+ct_table01.put(List.of("b52a2", 1148, false));
+ct_table01.put(List.of("b8d1", 0, false));
+ct_table01.put(List.of("b2a", 0, true));
+ct_table01.put(List.of("c630", 25, true));
+ct_table01.put(List.of("c74", 10, false));
+ct_table01.put(List.of("e174", 0, false));
+ct_table01.remove("d9eb");
+ct_table01.put(List.of("ead", 152, false));
+ct_table01.put(List.of("d8", 44, false));
+ct_table01.put(List.of("feba", 0, true));
+ct_table01.put(List.of("aaa", 0, true));
+ct_table01.remove("a5d");
+ct_table01.put(List.of("d7e", 0, true));
+ct_table01.remove("ee9");
+ct_table01.put(List.of("b23", 20064, true));
+ct_table01.get("a7959");
+ct_table01.put(List.of("b38", 0, true));
+ct_table01.put(List.of("c46b6", 0, false));
+ct_table01.remove("ec5b");
+ct_table01.put(List.of("b45f", 1, true));
+ct_table01.put(List.of("fdf", 0, false));
+ct_table01.get("dff");
+ct_table01.put(List.of("a73", 0, false));
+ct_table01.put(List.of("d921", 0, false));
+ct_table01.remove("ea11");
+ct_table01.remove("f66");
+ct_table01.put(List.of("d4e", 0, false));
+ct_table01.put(List.of("a597", 1406, false));
+ct_table01.put(List.of("da2", 0, false));
+ct_table01.remove("b03");
+ct_table01.put(List.of("d8c", 4, true));
+ct_table01.remove("a42");
+ct_table01.put(List.of("f701", 918034, true));
+ct_table01.remove("a8b");
+ct_table01.put(List.of("f9d", 11423, false));
+ct_table01.put(List.of("c1b", 0, true));
+ct_table01.put(List.of("a0c4", 0, true));
+ct_table01.put(List.of("ce7", 21, true));
+ct_table01.remove("ce5");
+ct_table01.remove("e2a");
+ct_table01.put(List.of("b6d", 11752, true));
+ct_table01.remove("b47");
+ct_table01.put(List.of("cd0a", 0, true));
+ct_table01.put(List.of("aaf4", 5249, true));
+ct_table01.remove("cd7");
+ct_table01.remove("aeb");
+ct_table01.put(List.of("c51", 2922, true));
+ct_table01.put(List.of("a51", 22, false));
+ct_table01.put(List.of("ced", 1, true));
+ct_table01.put(List.of("ddce", 0, false));
+ct_table01.put(List.of("ed1f", 2, true));
+ct_table01.get("c33");
+ct_table01.put(List.of("eea", 0, false));
+ct_table01.put(List.of("dd1f", 1, false));
+ct_table01.get("e360");
+ct_table01.put(List.of("eff", 5008, true));
+ct_table01.remove("b69");
+ct_table01.put(List.of("f81", 0, false));
+ct_table01.put(List.of("f62", 0, true));
+ct_table01.put(List.of("fc5", 0, true));
+ct_table01.put(List.of("a03", 26, false));
+ct_table01.remove("fbd");
+ct_table01.get("ade");
+ct_table01.remove("c9b");
+ct_table01.remove("ef37");
+ct_table01.put(List.of("f7b", 4241, true));
+ct_table01.get("b571");
+ct_table01.put(List.of("e6a8", 159364, false));
+ct_table01.put(List.of("f34", 25380, false));
+ct_table01.get("ef0");
+ct_table01.put(List.of("c93", 90409, true));
+ct_table01.put(List.of("fe7b7", 0, false));
+ct_table01.remove("d27");
+ct_table01.remove("d1dcd");
+ct_table01.put(List.of("a13", 2921, true));
+ct_table01.get("fa1");
+ct_table01.put(List.of("b3e", 7, true));
+ct_table01.remove("b7b");
+ct_table01.get("cd9");
+ct_table01.put(List.of("d240", 2, true));
+ct_table01.put(List.of("ff0", 0, true));
+ct_table01.put(List.of("edb8", 1, true));
+ct_table01.put(List.of("c783", 2, true));
+ct_table01.put(List.of("f33", 0, true));
+ct_table01.put(List.of("b63", 63, false));
+ct_table01.put(List.of("b1f", 0, false));
+ct_table01.put(List.of("c38", 1153, true));
+ct_table01.put(List.of("bff4", 5, true));
+ct_table01.put(List.of("a589", 7, true));
+ct_table01.put(List.of("b99", 0, false));
+ct_table01.remove("ef7");
+ct_table01.put(Arrays.asList("adf", null, false));
+ct_table01.put(List.of("f98", 431, true));
+ct_table01.remove("b5f");
+ct_table01.put(List.of("b4ac", 98100, false));
+ct_table01.put(List.of("bc9", 2854, true));
+ct_table01.remove("f55");
+ct_table01.remove("a32");
+ct_table01.put(List.of("bfd", 25138, false));
+ct_table01.remove("f3a");
+ct_table01.put(List.of("cc6", 0, true));
+ct_table01.put(List.of("ecd4", 108, true));
+ct_table01.remove("def");
+ct_table01.put(List.of("fd8b", 0, true));
+ct_table01.remove("c73");
+ct_table01.get("b71");
+ct_table01.put(List.of("ab1", 4297, true));
+ct_table01.put(List.of("aeab", 0, true));
+ct_table01.remove("a65");
+ct_table01.put(List.of("a0e", 0, true));
+ct_table01.put(List.of("e9a49", 0, false));
+ct_table01.put(List.of("b08", 263, false));
+ct_table01.put(List.of("cba", 0, false));
+ct_table01.get("bd1");
+ct_table01.put(List.of("bed", 0, true));
+ct_table01.get("b344e");
+ct_table01.put(List.of("a738", 0, true));
+ct_table01.get("c4f");
+ct_table01.get("f367");
+ct_table01.put(List.of("b80", 1298, false));
+ct_table01.put(List.of("e8a", 0, false));
+ct_table01.put(List.of("ef8", 0, true));
+ct_table01.put(List.of("d9a", 0, true));
+ct_table01.put(List.of("dd3", 650, false));
+ct_table01.remove("ba7");
+ct_table01.put(List.of("f54", 8, true));
+ct_table01.put(List.of("c06", 2, false));
+ct_table01.put(List.of("ec0", 0, true));
+ct_table01.remove("af9");
+ct_table01.put(List.of("dda", 0, false));
+ct_table01.put(List.of("f8e", 0, false));
+ct_table01.put(List.of("baf0", 228, false));
+ct_table01.put(List.of("ede", 3289, true));
+ct_table01.put(List.of("e3e", 1026, true));
+ct_table01.get("fe7");
+ct_table01.put(List.of("c22e", 1, false));
+ct_table01.put(List.of("a97b", 4, true));
+ct_table01.get("a88");
+ct_table01.remove("ee8b");
+ct_table01.remove("e11");
+ct_table01.put(List.of("d33", 0, true));
+ct_table01.get("a69");
+ct_table01.put(List.of("ac7", 0, true));
+ct_table01.put(List.of("a6a", 0, true));
+ct_table01.remove("ff3e");
+ct_table01.put(List.of("dbd", 0, false));
+ct_table01.put(List.of("c29e", 0, false));
+ct_table01.put(List.of("f564", 1308, false));
+ct_table01.put(List.of("a43", 0, true));
+ct_table01.put(List.of("b36", 14, true));
+ct_table01.put(List.of("a04f", 8893, false));
+ct_table01.put(List.of("f9a", 182, false));
+ct_table01.put(List.of("a62", 0, true));
+ct_table01.remove("a4f");
+ct_table01.put(List.of("d285", 124774, false));
+ct_table01.put(List.of("f0e", 0, false));
+ct_table01.put(List.of("cc5", 0, true));
+ct_table01.remove("bd7");
+ct_table01.remove("e52");
+ct_table01.put(List.of("d692", 5, true));
+ct_table01.remove("d23");
+ct_table01.put(List.of("c59", 0, false));
+ct_table01.get("afb");
+ct_table01.get("cad");
+ct_table01.put(List.of("d61", 0, true));
+ct_table01.put(List.of("bdd3", 11302, true));
+ct_table01.put(List.of("d9ea", 3033, false));
+ct_table01.get("ac1");
+ct_table01.remove("f3c5");
+ct_table01.put(List.of("f045", 28, true));
+ct_table01.put(List.of("ec7a", 0, false));
+ct_table01.put(List.of("dcd", 0, true));
+ct_table01.put(List.of("a01a", 17, false));
+ct_table01.remove("f65");
+ct_table01.put(List.of("a1f", 132279, true));
+ct_table01.get("ccba");
+ct_table01.put(List.of("bad", 18, true));
+ct_table01.get("ce6");
+ct_table01.put(List.of("f1cc", 1787, false));
+ct_table01.put(List.of("e565", 1, false));
+ct_table01.get("d44");
+ct_table01.put(List.of("d89", 0, false));
+ct_table01.remove("d62d");
+ct_table01.get("a8f");
+ct_table01.remove("c76");
+ct_table01.put(List.of("fa43", 117093, false));
+ct_table01.remove("d69");
+ct_table01.put(List.of("d485", 629, true));
+ct_table01.get("e5b9");
+ct_table01.put(List.of("c8fe", 91, true));
+ct_table01.remove("cdb3");
+ct_table01.put(List.of("aa9", 2, false));
+ct_table01.put(List.of("db6", 1, false));
+ct_table01.get("f1e3");
+ct_table01.put(List.of("ce2", 0, true));
+ct_table01.get("e5c");
+ct_table01.put(List.of("b5ae3", 0, false));
+ct_table01.put(List.of("a49", 0, false));
+ct_table01.put(List.of("eef", 0, true));
+ct_table01.put(List.of("eb97", 0, true));
+ct_table01.remove("a1e0");
+ct_table01.put(List.of("c7e", 5, true));
+ct_table01.put(List.of("c0c", 63, true));
+ct_table01.put(List.of("a31", 11036, false));
+ct_table01.put(List.of("aa02", 0, true));
+ct_table01.put(List.of("f6af", 1148, true));
+ct_table01.put(List.of("b0b", 0, false));
+ct_table01.put(List.of("a4d", 3, false));
+ct_table01.remove("af4");
+ct_table01.put(List.of("b553", 2993, true));
+ct_table01.get("b293");
+ct_table01.remove("af52");
+ct_table01.put(List.of("b02", 0, true));
+ct_table01.remove("e7c");
+ct_table01.put(List.of("b5c", 0, false));
+ct_table01.put(List.of("c2a", 0, false));
+ct_table01.put(List.of("ae6", 1418, false));
+ct_table01.put(List.of("a6d", 0, false));
+ct_table01.put(List.of("f00a", 6825, false));
+ct_table01.put(List.of("c07", 200, true));
+ct_table01.remove("d91");
+ct_table01.remove("f592");
+ct_table01.get("c60");
+ct_table01.put(List.of("cdab", 0, false));
+ct_table01.put(List.of("b380", 1143073, false));
+ct_table01.put(List.of("d06", 1, false));
+ct_table01.put(List.of("fb85", 57, false));
+ct_table01.put(List.of("a40", 0, false));
+ct_table01.put(List.of("bf52", 0, true));
+ct_table01.put(List.of("f9e", 0, false));
+ct_table01.put(List.of("cbe2", 0, false));
+ct_table01.put(List.of("d0f", 0, false));
+ct_table01.put(List.of("be6", 94, false));
+ct_table01.put(List.of("ecb3", 0, false));
+ct_table01.put(List.of("f84", 259, true));
+ct_table01.put(List.of("ed7d", 0, true));
+ct_table01.put(List.of("a76", 263, true));
+ct_table01.get("bbd2");
+ct_table01.put(List.of("b4b3", 140, true));
+ct_table01.put(List.of("a90", 483, true));
+ct_table01.put(List.of("d30", 175, false));
+ct_table01.get("c5f3");
+ct_table01.put(List.of("e41", 0, true));
+ct_table01.put(List.of("a926", 0, true));
+ct_table01.put(List.of("f0a", 535, false));
+ct_table01.put(List.of("bda7", 86, true));
+ct_table01.put(List.of("c0a", 68, false));
+ct_table01.put(List.of("ca2a", 1123191, false));
+ct_table01.put(List.of("a7f4d", 0, true));
+ct_table01.put(List.of("fad", 0, false));
+ct_table01.remove("f6e");
+ct_table01.put(Arrays.asList("a50", null, false));
+ct_table01.put(List.of("d9ff", 1373, false));
+ct_table01.put(List.of("d67", 41, false));
+ct_table01.put(List.of("deb9", 18, true));
+ct_table01.remove("e995");
+ct_table01.remove("b35");
+ct_table01.put(List.of("dc8", 1010, true));
+ct_table01.put(List.of("c3863", 0, true));
+ct_table01.put(Arrays.asList("c87e", null, false));
+ct_table01.put(List.of("f8d", 20, true));
+ct_table01.put(List.of("c776", 468, false));
+ct_table01.put(List.of("e04", 50, false));
+ct_table01.put(List.of("f0ea", 3, true));
+ct_table01.put(List.of("bb98", 5, false));
+ct_table01.put(List.of("bc0f", 0, true));
+ct_table01.put(List.of("d9f3", 1, true));
+ct_table01.get("abb");
+ct_table01.remove("a98");
+ct_table01.remove("cfe");
+ct_table01.put(List.of("f5f", 0, true));
+ct_table01.remove("f758");
+ct_table01.put(List.of("f0ef", 31, false));
+ct_table01.put(List.of("fef", 0, false));
+ct_table01.put(List.of("b9b", 0, true));
+ct_table01.put(List.of("a66f", 0, false));
+ct_table01.put(List.of("ff8", 0, true));
+ct_table01.remove("d55");
+ct_table01.put(List.of("fa15", 33962, true));
+ct_table01.put(List.of("e92", 6212, false));
+ct_table01.remove("efd");
+ct_table01.put(List.of("e8b5", 0, true));
+ct_table01.put(Arrays.asList("d92", 225, null));
+ct_table01.remove("ca0e");
+ct_table01.remove("ba5");
+ct_table01.remove("bde1");
+ct_table01.put(List.of("f01", 65227, true));
+ct_table01.get("c21");
+ct_table01.remove("d0ac");
+ct_table01.put(List.of("b7e", 0, true));
+ct_table01.put(List.of("e2ca3", 0, false));
+ct_table01.put(List.of("e0cd", 462, false));
+ct_table01.remove("d1b");
+ct_table01.remove("f8a");
+ct_table01.put(List.of("a339", 0, true));
+ct_table01.get("baa");
+ct_table01.remove("fe6");
+ct_table01.put(List.of("a1a", 0, true));
+ct_table01.put(List.of("c35", 91, false));
+ct_table01.put(List.of("cdc", 0, true));
+ct_table01.put(List.of("e95", 19, false));
+ct_table01.get("a185");
+ct_table01.remove("c1c");
+ct_table01.put(List.of("e416", 1, true));
+ct_table01.put(List.of("c0f1", 0, false));
+ct_table01.put(List.of("b7bc", 17, true));
+ct_table01.put(List.of("d59", 2, true));
+ct_table01.put(List.of("da1", 46391, false));
+ct_table01.remove("ca3a");
+ct_table01.put(List.of("a0f", 8410, false));
+ct_table01.put(Arrays.asList("f276", 0, null));
+ct_table01.put(List.of("e75", 0, true));
+ct_table01.put(List.of("ef5", 416, false));
+ct_table01.put(List.of("eb1", 25, false));
+ct_table01.get("b1d");
+ct_table01.put(List.of("d78", 875, true));
+ct_table01.put(List.of("ad08", 0, true));
+ct_table01.put(List.of("baba", 2, true));
+ct_table01.put(List.of("ab2d", 0, true));
+ct_table01.remove("ad5e");
+ct_table01.get("a264");
+ct_table01.put(List.of("fda4", 0, true));
+ct_table01.get("c7c6");
+ct_table01.put(List.of("cabd", 0, true));
+ct_table01.put(List.of("bc1", 336, true));
+ct_table01.put(List.of("d07", 0, true));
+ct_table01.put(List.of("fa6", 62, true));
+ct_table01.put(List.of("d3b7", 25, false));
+ct_table01.put(List.of("f8c", 123, false));
+ct_table01.put(List.of("d39", 19, false));
+ct_table01.put(List.of("d6d7", 0, false));
+ct_table01.get("eaa");
+ct_table01.put(List.of("f491", 0, false));
+ct_table01.put(List.of("dfa", 0, true));
+ct_table01.remove("f63");
+ct_table01.put(List.of("d56", 15, true));
+ct_table01.put(List.of("d4b", 37, false));
+ct_table01.put(List.of("e30", 0, true));
+ct_table01.put(List.of("f079", 0, false));
+ct_table01.put(List.of("f12d", 14414, false));
+ct_table01.put(List.of("baf", 0, true));
+ct_table01.put(List.of("d5ba", 0, true));
+ct_table01.put(List.of("f281c", 0, true));
+ct_table01.put(List.of("b46", 128, true));
+ct_table01.put(List.of("ab7", 18, false));
+ct_table01.put(List.of("d3e", 0, true));
+ct_table01.remove("ce086");
+ct_table01.put(List.of("a28", 0, true));
+ct_table01.put(List.of("f9d3", 0, false));
+ct_table01.put(List.of("d6d0", 11, false));
+ct_table01.get("b6f3");
+ct_table01.put(List.of("bd0", 0, false));
+ct_table01.put(List.of("d76", 0, true));
+ct_table01.put(List.of("b7c", 1, true));
+ct_table01.get("d51c");
+ct_table01.remove("ad3");
+ct_table01.put(List.of("bf4", 56, true));
+ct_table01.put(List.of("ad9", 15, true));
+ct_table01.put(List.of("fae", 43, false));
+ct_table01.put(List.of("d62a", 0, false));
+ct_table01.put(List.of("f9c", 37033, true));
+ct_table01.put(List.of("ec0f", 0, false));
+ct_table01.get("b3c");
+ct_table01.remove("b3a");
+ct_table01.remove("d527");
+ct_table01.put(List.of("e06", 0, true));
+ct_table01.get("ce51");
+ct_table01.put(List.of("a6a9", 1499, true));
+ct_table01.remove("fe4");
+ct_table01.put(List.of("eec", 0, false));
+ct_table01.remove("f23");
+ct_table01.remove("ca0");
+ct_table01.put(List.of("aa2", 119, true));
+ct_table01.get("a5b3");
+ct_table01.put(List.of("dfd", 0, true));
+ct_table01.remove("b1f6");
+ct_table01.put(List.of("d1d", 5, true));
+ct_table01.put(List.of("cd58", 33, true));
+ct_table01.put(List.of("ad6", 5, true));
+ct_table01.put(List.of("fb3", 0, true));
+ct_table01.remove("ab92");
+ct_table01.remove("c998");
+ct_table01.put(List.of("b1a9", 0, false));
+ct_table01.remove("e0d");
+ct_table01.put(List.of("b85", 130, true));
+ct_table01.get("f537");
+ct_table01.put(List.of("de27", 0, true));
+ct_table01.put(List.of("efe", 0, false));
+ct_table01.put(List.of("c83", 30, true));
+ct_table01.get("c94");
+ct_table01.put(List.of("e8745", 282, true));
+ct_table01.remove("f30");
+ct_table01.put(List.of("f5b", 1, false));
+ct_table01.put(List.of("e4b", 0, true));
+ct_table01.put(List.of("a5feb", 2, true));
+ct_table01.put(List.of("a7352", 21, false));
+ct_table01.put(List.of("eeb9", 1, true));
+ct_table01.put(List.of("c16", 0, true));
+ct_table01.get("d17");
+ct_table01.put(List.of("a27", 10, false));
+ct_table01.remove("d116");
+ct_table01.get("f6f0");
+ct_table01.remove("ee1ec");
+ct_table01.put(List.of("a47", 0, false));
+ct_table01.put(List.of("e24", 1336, true));
+ct_table01.get("ce0");
+ct_table01.put(List.of("e01", 0, true));
+ct_table01.put(List.of("c95", 4, false));
+ct_table01.put(List.of("d0df", 36, false));
+ct_table01.remove("c80");
+ct_table01.put(List.of("ae8", 0, true));
+ct_table01.put(List.of("c684", 47219, false));
+ct_table01.put(List.of("f53", 3519, true));
+ct_table01.put(List.of("bb8", 18, true));
+ct_table01.put(List.of("fa7", 0, true));
+ct_table01.put(List.of("ca79", 3650, false));
+ct_table01.get("f32");
+ct_table01.put(List.of("c871", 45, true));
+ct_table01.put(List.of("c348", 30374, true));
+ct_table01.put(List.of("f9f", 18, false));
+ct_table01.put(List.of("e0a4", 5, false));
+ct_table01.put(List.of("e370", 150, true));
+ct_table01.put(List.of("fb0", 1551, false));
+ct_table01.remove("bf43");
+ct_table01.put(List.of("be92", 1215, false));
+ct_table01.put(List.of("da7a", 124, false));
+ct_table01.put(List.of("afc", 0, true));
+ct_table01.put(List.of("d74", 0, true));
+ct_table01.put(List.of("a2e", 102, false));
+ct_table01.put(List.of("d6b", 0, false));
+ct_table01.get("d48");
+ct_table01.put(Arrays.asList("d9fe", null, true));
+ct_table01.put(List.of("f740", 67, false));
+ct_table01.put(List.of("ec4", 12, false));
+ct_table01.remove("c90");
+ct_table01.put(List.of("c480e", 2724, false));
+ct_table01.put(List.of("a756", 88691, true));
+ct_table01.put(List.of("e5ee", 264, false));
+ct_table01.put(Arrays.asList("f3c", 0, null));
+ct_table01.remove("ba0");
+ct_table01.put(List.of("ccbb", 0, false));
+ct_table01.get("b2c");
+ct_table01.remove("a4b7e");
+ct_table01.put(List.of("f6fc", 0, false));
+ct_table01.put(List.of("a0cea", 671, true));
+ct_table01.get("f3ea");
+ct_table01.put(List.of("fb41", 210, false));
+ct_table01.put(List.of("d85f1", 105477, true));
+ct_table01.remove("f75");
+ct_table01.put(List.of("c03a", 305811, true));
+ct_table01.put(List.of("f434", 248, false));
+ct_table01.put(List.of("a92", 708, false));
+ct_table01.remove("b68f");
+ct_table01.put(List.of("bb36", 1, false));
+ct_table01.get("e38");
+ct_table01.put(List.of("aab", 0, true));
+ct_table01.put(List.of("cc7", 619, false));
+ct_table01.put(List.of("f15", 1216, false));
+ct_table01.get("a17");
+ct_table01.put(List.of("f712", 899, true));
+ct_table01.put(Arrays.asList("c24a", null, true));
+ct_table01.remove("b839");
+ct_table01.put(List.of("c18", 743, false));
+ct_table01.remove("ffa");
+ct_table01.put(List.of("ab60", 6913, false));
+ct_table01.put(List.of("f55b", 82, false));
+ct_table01.put(List.of("c52", 6006, false));
+ct_table01.put(List.of("eb4", 0, true));
+ct_table01.put(List.of("ffcd", 1, false));
+ct_table01.remove("adb1");
+ct_table01.get("c356");
+ct_table01.put(List.of("fb7", 0, false));
+ct_table01.put(List.of("e09", 1170, false));
+ct_table01.put(List.of("a1d4", 0, true));
+ct_table01.put(List.of("dfc", 3702, true));
+ct_table01.remove("f48");
+ct_table01.put(List.of("d73a", 53028, false));
+ct_table01.remove("e0a");
+ct_table01.put(List.of("b24", 0, true));
+ct_table01.put(List.of("d0d", 0, false));
+ct_table01.put(List.of("c0a67", 0, false));
+ct_table01.put(List.of("a395", 556, true));
+ct_table01.remove("b2e6");
+ct_table01.put(List.of("df5", 0, false));
+ct_table01.get("b43c");
+ct_table01.put(List.of("eaf", 4, true));
+ct_table01.put(List.of("b6f", 0, false));
+ct_table01.put(List.of("add", 64, true));
+ct_table01.put(List.of("f40", 111635, false));
+ct_table01.put(List.of("cd13", 3, false));
+ct_table01.put(List.of("a993", 0, true));
+ct_table01.put(List.of("bdd", 6, true));
+ct_table01.remove("ff31");
+ct_table01.put(List.of("b1d1", 3, false));
+ct_table01.put(List.of("a2cd", 0, true));
+ct_table01.remove("a50f");
+ct_table01.put(List.of("c7fa", 3, true));
+ct_table01.put(List.of("d60", 9, true));
+ct_table01.put(List.of("c726", 103, true));
+ct_table01.put(List.of("c59b", 110, true));
+ct_table01.put(List.of("a348", 25587, false));
+ct_table01.put(List.of("e7e", 5, true));
+ct_table01.put(List.of("b57", 0, false));
+ct_table01.put(List.of("a7e", 4639, false));
+ct_table01.get("e7f");
+ct_table01.put(List.of("b135", 0, true));
+ct_table01.put(List.of("e56b", 2225, true));
+ct_table01.remove("fe2");
+ct_table01.get("d559");
+ct_table01.get("e00b");
+ct_table01.put(List.of("d97", 0, true));
+ct_table01.put(List.of("c29", 2, true));
+ct_table01.put(List.of("d6e", 0, true));
+ct_table01.put(List.of("e7b", 6, true));
+ct_table01.remove("d83");
+ct_table01.remove("af70");
+ct_table01.put(List.of("cbe", 0, true));
+ct_table01.put(List.of("bdc", 0, true));
+ct_table01.put(List.of("cb6", 18661, true));
+ct_table01.put(List.of("cae", 428, true));
+ct_table01.put(List.of("d2a", 0, false));
+ct_table01.put(List.of("a303", 219, true));
+ct_table01.put(List.of("c25", 0, false));
+ct_table01.put(List.of("e07", 16, true));
+ct_table01.put(List.of("a48d", 5, true));
+ct_table01.remove("f87");
+ct_table01.put(List.of("ff2", 0, false));
+ct_table01.put(List.of("de9", 0, true));
+ct_table01.put(List.of("aa6a", 11, true));
+ct_table01.put(List.of("b49", 574, true));
+ct_table01.get("f82");
+ct_table01.put(Arrays.asList("df6f", null, false));
+ct_table01.put(List.of("ac5b", 1868, true));
+ct_table01.put(List.of("a970", 392, true));
+ct_table01.put(List.of("bde", 691, true));
+ct_table01.put(List.of("e318", 20, true));
+ct_table01.put(List.of("eee", 0, false));
+ct_table01.put(List.of("b038", 0, false));
+ct_table01.put(List.of("b61", 154, false));
+ct_table01.put(List.of("e08", 105, true));
+ct_table01.put(List.of("a49a", 0, true));
+ct_table01.put(List.of("eee0", 0, false));
+ct_table01.put(List.of("a4a", 1688308, false));
+ct_table01.put(List.of("c45", 2, true));
+ct_table01.remove("d1ff3");
+ct_table01.put(List.of("cab7", 55, true));
+ct_table01.put(List.of("a8c", 0, false));
+ct_table01.remove("dd22");
+ct_table01.put(List.of("b433", 37, false));
+ct_table01.put(List.of("f72", 0, true));
+ct_table01.put(List.of("f31", 158, true));
+ct_table01.put(List.of("b19", 0, true));
+ct_table01.remove("b683");
+ct_table01.put(List.of("c66", 0, false));
+ct_table01.put(List.of("eb8", 0, true));
+ct_table01.put(List.of("e84", 2, true));
+ct_table01.put(List.of("a8a", 0, true));
+ct_table01.put(List.of("b81", 0, true));
+ct_table01.remove("ec3");
+ct_table01.remove("f10");
+ct_table01.put(List.of("fd4", 3, false));
+ct_table01.remove("b4ae");
+ct_table01.put(List.of("ae5", 812, true));
+ct_table01.put(List.of("fac", 47, false));
+ct_table01.put(List.of("fd5", 0, false));
+ct_table01.put(List.of("a833", 0, false));
+ct_table01.put(List.of("cf4", 21, true));
+ct_table01.put(List.of("e1d", 49, true));
+ct_table01.put(List.of("d8a9b", 101, false));
+ct_table01.put(List.of("b31", 0, true));
+ct_table01.put(List.of("da7b", 2, false));
+ct_table01.put(List.of("c2df", 0, false));
+ct_table01.put(Arrays.asList("b10", 4880, null));
+ct_table01.put(List.of("ae0de", 2095, true));
+ct_table01.put(List.of("d62", 0, true));
+ct_table01.get("c28");
+ct_table01.put(List.of("c24b", 3542, true));
+ct_table01.remove("f14");
+ct_table01.remove("ca27");
+ct_table01.put(List.of("ddb", 0, true));
+ct_table01.put(List.of("b007", 0, true));
+ct_table01.put(List.of("de3f", 899, false));
+ct_table01.put(List.of("d8a", 0, true));
+ct_table01.remove("d063");
+ct_table01.put(List.of("bf0", 0, true));
+ct_table01.put(List.of("ab9", 0, false));
+ct_table01.put(List.of("e17", 9395, true));
+ct_table01.put(List.of("b967", 241, false));
+ct_table01.put(List.of("bd99", 24, true));
+ct_table01.put(List.of("d3f", 42, false));
+ct_table01.put(List.of("e666", 0, false));
+ct_table01.remove("db8d");
+ct_table01.put(List.of("a55", 0, false));
+ct_table01.remove("b49c4");
+ct_table01.get("f25b");
+ct_table01.put(List.of("bf9", 0, false));
+ct_table01.put(List.of("f2b", 0, false));
+ct_table01.remove("cdb0");
+ct_table01.put(List.of("dfc48", 0, false));
+ct_table01.remove("ea4a");
+ct_table01.put(List.of("c48", 1, true));
+ct_table01.remove("bfe");
+ct_table01.put(List.of("a59", 39, true));
+ct_table01.put(List.of("a67d", 1237, false));
+ct_table01.put(List.of("af37", 0, true));
+ct_table01.get("a178");
+ct_table01.put(List.of("cb70", 10, false));
+ct_table01.get("fb9d");
+ct_table01.put(List.of("cb13", 0, false));
+ct_table01.put(List.of("afde6", 9584, false));
+ct_table01.remove("ac7d");
+ct_table01.put(List.of("dce", 13247, true));
+ct_table01.put(List.of("b574", 1, true));
+ct_table01.put(List.of("ccd", 11, false));
+ct_table01.put(List.of("c644", 117, false));
+ct_table01.remove("a8e");
+ct_table01.put(List.of("df3", 20226, false));
+ct_table01.put(List.of("b6cc", 0, true));
+ct_table01.put(List.of("f8d4", 227, false));
+ct_table01.put(List.of("be3", 0, false));
+ct_table01.put(List.of("dde", 5058, true));
+ct_table01.remove("f79");
+ct_table01.remove("f5c");
+ct_table01.put(List.of("d7a", 617, false));
+ct_table01.remove("a38");
+ct_table01.get("fb48");
+ct_table01.put(List.of("e3b", 0, false));
+ct_table01.remove("f3e");
+ct_table01.remove("c1f");
+ct_table01.put(List.of("d0955", 0, false));
+ct_table01.put(List.of("a686", 133, false));
+ct_table01.put(List.of("c408", 6, false));
+ct_table01.remove("c9f");
+ct_table01.remove("f97");
+ct_table01.put(List.of("dae", 0, false));
+ct_table01.put(List.of("e44f", 151885, true));
+ct_table01.put(List.of("c767", 3326, false));
+ct_table01.get("f6ba");
+ct_table01.put(List.of("cf5c", 232414, false));
+ct_table01.put(List.of("fe3", 33, false));
+ct_table01.put(List.of("ec5", 1, false));
+ct_table01.remove("f7f");
+ct_table01.put(List.of("a24", 0, true));
+ct_table01.put(List.of("a12", 0, true));
+ct_table01.remove("fc9");
+ct_table01.put(List.of("c765", 0, true));
+ct_table01.get("ba5f");
+ct_table01.put(List.of("ffb", 6, true));
+ct_table01.put(List.of("ceea", 4006, true));
+ct_table01.put(List.of("eda", 104, false));
+ct_table01.put(List.of("e930", 11, false));
+ct_table01.remove("e98");
+ct_table01.put(List.of("a39ed", 0, false));
+ct_table01.put(List.of("c2d", 0, false));
+ct_table01.put(List.of("e34d", 0, false));
+ct_table01.remove("fc1");
+ct_table01.put(List.of("e94", 0, false));
+ct_table01.put(List.of("dfbe", 0, false));
+ct_table01.remove("c8e");
+ct_table01.remove("a2f");
+ct_table01.put(List.of("b8e2", 158250, false));
+ct_table01.put(List.of("cc2f", 102, false));
+ct_table01.put(List.of("cea8", 0, true));
+ct_table01.put(List.of("d0c", 1477, true));
+ct_table01.get("feb");
+ct_table01.put(List.of("e42", 26, true));
+ct_table01.put(List.of("d01", 0, false));
+ct_table01.put(List.of("ada", 1043, true));
+ct_table01.put(Arrays.asList("bca", 0, null));
+ct_table01.remove("e4a");
+ct_table01.put(List.of("dbcb", 3, true));
+ct_table01.put(List.of("d75", 365, true));
+ct_table01.put(List.of("bc4", 102526, true));
+ct_table01.remove("f04");
+ct_table01.get("ad4");
+ct_table01.remove("f95");
+ct_table01.get("b41e");
+ct_table01.remove("fcf3");
+ct_table01.put(List.of("ffdc2", 374137, false));
+ct_table01.remove("ee6");
+ct_table01.remove("d6a");
+ct_table01.remove("b7d");
+ct_table01.remove("c9b9");
+ct_table01.put(List.of("bc0", 25, true));
+ct_table01.put(List.of("a7d", 694, true));
+ct_table01.put(List.of("e06f", 330, true));
+ct_table01.put(List.of("f4c", 0, false));
+ct_table01.get("f42");
+ct_table01.put(List.of("f12", 0, false));
+ct_table01.put(List.of("a877", 0, false));
+ct_table01.put(List.of("a54", 1529, false));
+ct_table01.put(List.of("a09", 35, false));
+ct_table01.remove("dba");
+ct_table01.put(List.of("a425", 24, false));
+ct_table01.remove("c58");
+ct_table01.put(List.of("abd", 1450, false));
+ct_table01.put(List.of("ea4", 3, false));
+ct_table01.remove("bb9");
+ct_table01.put(List.of("f850", 923, true));
+ct_table01.put(List.of("d36", 0, false));
+ct_table01.put(List.of("d29", 2994, false));
+ct_table01.put(List.of("f4b2", 2129, false));
+ct_table01.put(List.of("b09f", 0, true));
+ct_table01.put(List.of("ba23", 101, true));
+ct_table01.remove("e46");
+ct_table01.put(List.of("eb6", 1, false));
+ct_table01.remove("d46");
+ct_table01.put(List.of("bda", 0, true));
+ct_table01.remove("a8d");
+ct_table01.put(List.of("bbdb", 443, false));
+ct_table01.put(List.of("dab4", 80, true));
+ct_table01.put(List.of("a087", 0, true));
+ct_table01.put(List.of("bd8b", 99, true));
+ct_table01.put(List.of("f616", 9, true));
+ct_table01.put(List.of("fb4", 25, true));
+ct_table01.remove("f2b1");
+ct_table01.put(List.of("c0e", 0, true));
+ct_table01.remove("a0d");
+ct_table01.remove("badb");
+ct_table01.get("c22");
+ct_table01.put(List.of("ba7f", 0, true));
+ct_table01.put(List.of("ff1", 19, true));
+ct_table01.remove("b5a");
+ct_table01.get("ca9a");
+ct_table01.get("e03");
+ct_table01.put(List.of("bf26", 0, true));
+ct_table01.remove("c5c");
+ct_table01.put(List.of("ac81", 0, true));
+ct_table01.put(List.of("fd9", 2, false));
+ct_table01.put(List.of("d316", 0, true));
+ct_table01.put(List.of("d948", 0, true));
+ct_table01.remove("cb95");
+ct_table01.put(List.of("d7fb", 0, false));
+ct_table01.put(List.of("fc6", 0, false));
+ct_table01.remove("b2b");
+ct_table01.put(List.of("d82", 0, true));
+ct_table01.get("f9c0");
+ct_table01.put(List.of("c82", 1, true));
+ct_table01.remove("aeb8");
+ct_table01.remove("c64");
+ct_table01.put(List.of("cbb", 0, true));
+ct_table01.put(List.of("b58e", 15696, true));
+ct_table01.get("fd6a");
+ct_table01.put(List.of("bf7", 2752, false));
+ct_table01.put(List.of("aa1", 2, false));
+ct_table01.put(List.of("e3e8d", 111, true));
+ct_table01.put(List.of("f5d9", 0, true));
+ct_table01.put(List.of("d955", 78, false));
+ct_table01.put(List.of("a9b", 1, true));
+ct_table01.put(List.of("d311", 0, false));
+ct_table01.put(List.of("efc", 0, false));
+ct_table01.remove("b16a");
+ct_table01.get("afd");
+ct_table01.put(List.of("f2d", 0, true));
+ct_table01.put(List.of("d09", 0, true));
+ct_table01.put(List.of("a1f4", 0, true));
+ct_table01.put(List.of("ad43a", 0, false));
+ct_table01.put(List.of("fa4", 21, true));
+ct_table01.put(List.of("edc8", 0, true));
+ct_table01.remove("b27");
+ct_table01.put(List.of("a00", 40279, true));
+ct_table01.put(List.of("a4bd", 0, true));
+ct_table01.put(List.of("e20", 3, true));
+ct_table01.put(List.of("a049", 10, true));
+ct_table01.remove("b97bb");
+ct_table01.put(List.of("c44a", 42, false));
+ct_table01.get("c4d4");
+ct_table01.put(List.of("c72", 2133, true));
+ct_table01.put(List.of("d81d3", 1, true));
+ct_table01.remove("acdb");
+ct_table01.put(List.of("a6d0", 8514, false));
+ct_table01.remove("ece");
+ct_table01.put(List.of("bc3", 0, false));
+ct_table01.put(List.of("eb72", 9665, false));
+ct_table01.put(List.of("c02", 752149, true));
+ct_table01.get("dd4");
+ct_table01.remove("b4a");
+ct_table01.remove("c449");
+ct_table01.remove("aa5");
+ct_table01.put(List.of("ffea", 306, false));
+ct_table01.put(List.of("c4a", 5, false));
+ct_table01.put(List.of("e8d", 354, true));
+ct_table01.remove("eb41");
+ct_table01.put(List.of("dc7", 0, false));
+ct_table01.put(List.of("edf", 0, false));
+ct_table01.remove("a4c");
+ct_table01.put(List.of("d6fb", 10, false));
+ct_table01.put(List.of("f2e", 0, true));
+ct_table01.put(List.of("f89", 85, true));
+ct_table01.put(List.of("c6786", 0, true));
+ct_table01.remove("e44e");
+ct_table01.remove("f5d");
+ct_table01.put(List.of("ae4", 6, true));
+ct_table01.get("cbbd");
+ct_table01.remove("e225");
+ct_table01.put(List.of("b9f1", 0, false));
+ct_table01.put(List.of("c99", 0, true));
+ct_table01.put(List.of("a666", 479, false));
+ct_table01.remove("aafd");
+ct_table01.put(List.of("a7b", 97, true));
+ct_table01.put(List.of("f20", 0, false));
+ct_table01.put(List.of("b3c5", 0, true));
+ct_table01.put(List.of("a29", 251, true));
+ct_table01.put(List.of("ba1", 15, false));
+ct_table01.put(List.of("cc0", 1151, false));
+ct_table01.put(List.of("ef46", 0, false));
+ct_table01.remove("e251");
+ct_table01.put(List.of("daa", 0, false));
+ct_table01.put(List.of("dc66", 0, false));
+ct_table01.put(List.of("bd2c", 374, true));
+ct_table01.put(List.of("a6f", 0, false));
+ct_table01.put(List.of("a3d3", 37696, false));
+ct_table01.remove("c126");
+ct_table01.remove("a8be");
+ct_table01.put(List.of("adff", 116, false));
+ct_table01.remove("a73d");
+ct_table01.put(List.of("a5b", 1, false));
+ct_table01.put(List.of("dc78", 0, false));
+ct_table01.remove("b53b");
+ct_table01.put(List.of("b121", 4, false));
+ct_table01.put(List.of("aedb", 99, true));
+ct_table01.put(List.of("e357", 0, true));
+ct_table01.put(List.of("dcb", 44, false));
+ct_table01.put(List.of("d652", 116, true));
+ct_table01.put(List.of("a7c", 244, false));
+ct_table01.put(List.of("a451", 1, false));
+ct_table01.get("b159");
+ct_table01.remove("d25");
+ct_table01.put(List.of("c375", 499, false));
+ct_table01.put(List.of("cfc", 0, false));
+ct_table01.put(List.of("e337", 0, false));
+ct_table01.put(List.of("e59", 0, true));
+ct_table01.remove("fbf");
+ct_table01.remove("d50");
+ct_table01.put(List.of("ea7", 0, true));
+ct_table01.put(List.of("e2e", 0, true));
+ct_table01.put(List.of("ebc6", 0, true));
+ct_table01.remove("a22c");
+ct_table01.remove("c962");
+ct_table01.put(List.of("c6c", 0, false));
+ct_table01.put(List.of("a75c", 0, false));
+ct_table01.put(List.of("bbf", 4, false));
+ct_table01.get("fdf6");
+ct_table01.put(List.of("e239", 8, false));
+ct_table01.put(List.of("e3fc", 206, false));
+ct_table01.remove("b768");
+ct_table01.put(List.of("c7c", 0, true));
+ct_table01.put(List.of("e5d", 177, false));
+ct_table01.put(List.of("f22", 37, true));
+ct_table01.put(List.of("e041", 26654, true));
+ct_table01.get("d9e");
+ct_table01.put(List.of("f357", 60, false));
+ct_table01.get("b3f");
+ct_table01.put(List.of("cdd8", 0, false));
+ct_table01.put(List.of("dd2", 383, false));
+ct_table01.put(List.of("e1c", 65, true));
+ct_table01.get("a2df");
+ct_table01.put(List.of("e91a", 14732, false));
+ct_table01.put(List.of("ed5", 0, true));
+ct_table01.get("bf3c");
+ct_table01.put(List.of("fcf", 28632, false));
+ct_table01.put(List.of("a2a", 17, false));
+ct_table01.put(List.of("d5fc", 0, false));
+ct_table01.put(List.of("b9aa", 0, false));
+ct_table01.remove("ff1c");
+ct_table01.put(List.of("c548", 97, true));
+ct_table01.put(List.of("ca52", 0, false));
+ct_table01.get("eb2");
+ct_table01.put(List.of("dc76", 24, true));
+ct_table01.put(List.of("e99", 35, true));
+ct_table01.put(List.of("b10e", 0, true));
+ct_table01.put(List.of("b8f1", 21156, true));
+ct_table01.remove("de87");
+ct_table01.put(List.of("a6e3", 1103, true));
+ct_table01.put(List.of("b4b", 2006, false));
+ct_table01.remove("cff0");
+ct_table01.get("fb792");
+ct_table01.put(List.of("a5d6", 110, false));
+ct_table01.remove("dc26");
+ct_table01.put(List.of("ab0", 6790, true));
+ct_table01.put(List.of("c2e", 0, false));
+ct_table01.put(List.of("ad42", 1, true));
+ct_table01.put(List.of("e55a", 0, true));
+ct_table01.get("e4d6");
+ct_table01.remove("ccea");
+ct_table01.get("ac8b");
+ct_table01.get("b79e");
+ct_table01.put(List.of("bd5", 1, false));
+ct_table01.put(List.of("a11", 3786, false));
+ct_table01.put(List.of("f70", 0, true));
+ct_table01.put(List.of("ca2", 8, true));
+ct_table01.remove("d5d");
+ct_table01.put(List.of("e443", 0, false));
+ct_table01.put(List.of("a3d", 1253, true));
+ct_table01.put(List.of("d98", 0, true));
+ct_table01.put(List.of("a6e2", 17025, false));
+ct_table01.get("a05");
+ct_table01.get("d4f");
+ct_table01.remove("b95");
+ct_table01.put(List.of("d9f", 12, false));
+ct_table01.put(List.of("d1e3", 1, false));
+ct_table01.get("d6d");
+ct_table01.put(List.of("e2c", 4, false));
+ct_table01.remove("c89");
+ct_table01.put(List.of("bfad", 24, false));
+ct_table01.remove("a614");
+ct_table01.remove("d132");
+ct_table01.remove("c19");
+ct_table01.put(List.of("c11", 0, false));
+ct_table01.remove("a21");
+ct_table01.put(List.of("a68b", 4, true));
+ct_table01.remove("bcc0");
+ct_table01.put(List.of("b58", 5085, false));
+ct_table01.remove("c8af");
+ct_table01.put(List.of("e8f5", 300, true));
+ct_table01.remove("a00d");
+ct_table01.put(List.of("bad12", 0, false));
+ct_table01.get("c178");
+ct_table01.remove("e154");
+ct_table01.put(List.of("f39", 6, true));
+ct_table01.get("e1f");
+ct_table01.put(List.of("f25", 2497, false));
+ct_table01.put(List.of("d8f0", 360, false));
+ct_table01.put(List.of("a0fb", 77, true));
+ct_table01.put(List.of("d15f7", 0, true));
+ct_table01.put(List.of("e5f6", 0, false));
+ct_table01.put(List.of("d63", 17270, false));
+ct_table01.put(List.of("e825", 256, true));
+ct_table01.put(List.of("cd2", 0, true));
+ct_table01.put(List.of("f88c", 0, true));
+ct_table01.put(List.of("e47c", 0, true));
+ct_table01.put(List.of("e9b7", 6, false));
+ct_table01.put(List.of("aa5b", 0, true));
+ct_table01.put(List.of("dd73", 0, false));
+ct_table01.put(List.of("b2c3", 0, true));
+ct_table01.get("aff");
+ct_table01.put(List.of("d2e", 0, false));
+ct_table01.get("defd");
+ct_table01.put(List.of("b521", 9, false));
+ct_table01.put(List.of("ce26", 0, false));
+ct_table01.put(List.of("e25", 14881, true));
+ct_table01.put(List.of("c4bd", 30, true));
+ct_table01.put(List.of("c26", 31, true));
+ct_table01.put(List.of("b9ef", 0, true));
+ct_table01.put(List.of("eee4", 0, true));
+ct_table01.put(List.of("c6204", 4, true));
+ct_table01.put(List.of("c886", 0, true));
+ct_table01.put(List.of("d450", 0, false));
+ct_table01.put(List.of("acdc", 0, true));
+ct_table01.put(List.of("fb6", 1870, false));
+ct_table01.get("ab41");
+ct_table01.put(List.of("ed5c", 1097, true));
+ct_table01.put(List.of("c510", 1070, false));
+ct_table01.put(List.of("b48", 9, false));
+ct_table01.remove("bc2");
+ct_table01.put(List.of("edb7", 17924, false));
+ct_table01.remove("bab");
+ct_table01.put(List.of("f5c8", 19358, false));
+ct_table01.put(List.of("ce7c", 19184, false));
+ct_table01.put(List.of("b34", 159, false));
+ct_table01.put(List.of("cb3", 1090, true));
+ct_table01.put(List.of("b90", 6, true));
+ct_table01.put(List.of("c68", 0, true));
+ct_table01.get("b12b");
+ct_table01.remove("fc0");
+ct_table01.put(List.of("c7b", 0, true));
+ct_table01.get("d79");
+ct_table01.remove("d87");
+ct_table01.put(List.of("fc93", 0, false));
+ct_table01.put(List.of("e9c", 0, true));
+ct_table01.put(List.of("e7a", 18165, true));
+ct_table01.put(List.of("b74f", 1, true));
+ct_table01.put(List.of("fb5", 0, true));
+ct_table01.put(List.of("bb4", 336, false));
+ct_table01.put(List.of("c27", 1, false));
+ct_table01.remove("dc0");
+ct_table01.get("e43");
+ct_table01.put(List.of("cb4", 56, false));
+ct_table01.remove("cc1");
+ct_table01.put(List.of("e39", 0, false));
+ct_table01.put(List.of("ce3", 3280, true));
+ct_table01.put(List.of("dee", 2175, true));
+ct_table01.put(List.of("aa3", 0, true));
+ct_table01.remove("e51");
+ct_table01.put(List.of("c16d", 0, true));
+ct_table01.remove("a9f");
+ct_table01.get("eb5");
+ct_table01.put(List.of("acf", 0, true));
+ct_table01.remove("c3e");
+ct_table01.put(List.of("c3b4", 3532, false));
+ct_table01.put(List.of("e577", 0, true));
+ct_table01.put(List.of("ac5e", 1937200, false));
+ct_table01.put(List.of("fc2", 460, true));
+ct_table01.get("d18");
+ct_table01.get("f96");
+ct_table01.put(List.of("a502", 3, false));
+ct_table01.put(List.of("be4", 0, false));
+ct_table01.put(List.of("b94", 0, true));
+ct_table01.put(List.of("ce69", 0, false));
+ct_table01.put(List.of("e29", 4, false));
+ct_table01.put(List.of("b84", 0, true));
+ct_table01.put(List.of("f52", 202, true));
+ct_table01.put(List.of("d414", 10, false));
+ct_table01.put(List.of("c360", 18, true));
+ct_table01.put(List.of("d127c", 239539, true));
+ct_table01.remove("fa92");
+ct_table01.put(List.of("a1b8", 345680, true));
+ct_table01.put(List.of("db2", 1434, true));
+ct_table01.put(List.of("a1f1", 17, false));
+ct_table01.put(List.of("e86", 0, true));
+ct_table01.put(List.of("c9bf", 0, false));
+ct_table01.remove("b6b");
+ct_table01.remove("fdf5");
+ct_table01.put(List.of("ed9", 0, true));
+ct_table01.put(List.of("ad8c", 21, false));
+ct_table01.put(List.of("e432", 75414, true));
+ct_table01.put(List.of("b65", 3831, true));
+ct_table01.remove("e57");
+ct_table01.remove("e18d");
+ct_table01.put(List.of("f76", 0, false));
+ct_table01.put(List.of("d61c", 1, true));
+ct_table01.remove("bfb");
+ct_table01.put(List.of("b4c", 0, false));
+ct_table01.put(List.of("c2c", 10, true));
+ct_table01.put(List.of("be32", 22, false));
+ct_table01.get("f6fe");
+ct_table01.remove("c77");
+ct_table01.put(List.of("a618", 4, true));
+ct_table01.get("b85b");
+ct_table01.put(List.of("d73", 32, false));
+ct_table01.put(List.of("a181", 0, false));
+ct_table01.remove("eca");
+ct_table01.put(List.of("bc94", 10662, true));
+ct_table01.put(List.of("ccc", 0, true));
+ct_table01.put(List.of("a8ed", 0, false));
+ct_table01.put(List.of("a84", 0, false));
+ct_table01.put(List.of("d76d", 5, true));
+ct_table01.remove("faaa");
+ct_table01.remove("bfde");
+ct_table01.remove("ccb");
+ct_table01.get("f73");
+ct_table01.put(List.of("fcd", 2729, false));
+ct_table01.get("b134");
+ct_table01.remove("ad0");
+ct_table01.get("e1e");
+ct_table01.remove("d79b");
+ct_table01.put(List.of("cc3", 90, true));
+ct_table01.remove("d93");
+ct_table01.put(List.of("de0", 0, true));
+ct_table01.remove("e92c");
+ct_table01.put(List.of("b062", 0, true));
+ct_table01.put(List.of("e9b4", 5, true));
+ct_table01.put(List.of("d64e", 10, false));
+ct_table01.remove("d032");
+ct_table01.put(List.of("e752", 0, true));
+ct_table01.remove("d10e");
+ct_table01.put(List.of("be8d", 9163, false));
+ct_table01.put(List.of("ac40", 0, false));
+ct_table01.remove("de77");
+ct_table01.put(List.of("a284d", 511, false));
+ct_table01.put(List.of("a98f", 0, false));
+ct_table01.put(Arrays.asList("a53a", 0, null));
+ct_table01.remove("aaf");
+ct_table01.put(List.of("f10d3", 0, true));
+ct_table01.put(List.of("b01", 6869, true));
+ct_table01.put(List.of("e89", 1, true));
+ct_table01.put(List.of("b785", 0, true));
+ct_table01.put(List.of("f3b", 0, true));
+ct_table01.put(List.of("a60", 4, false));
+ct_table01.get("dc42d");
+ct_table01.put(List.of("ea2", 1150, true));
+ct_table01.put(List.of("c5ae", 0, true));
+ct_table01.remove("fdb");
+ct_table01.get("ee4");
+ct_table01.put(List.of("f8b", 0, true));
+ct_table01.put(List.of("b6a", 0, false));
+ct_table01.put(List.of("e77", 21, false));
+ct_table01.remove("dd0");
+ct_table01.put(List.of("be0", 0, true));
+ct_table01.put(List.of("acd9", 0, false));
+ct_table01.remove("b75f");
+ct_table01.put(List.of("b43", 0, true));
+ct_table01.put(List.of("ee1", 538, false));
+ct_table01.put(List.of("a5fb", 0, false));
+ct_table01.remove("fbc");
+ct_table01.remove("afc9");
+ct_table01.put(List.of("ed3", 0, false));
+ct_table01.remove("e6b");
+ct_table01.put(List.of("fee", 689, true));
+ct_table01.remove("cad5");
+ct_table01.put(List.of("fe8", 26, false));
+ct_table01.put(List.of("c694", 0, false));
+ct_table01.put(List.of("fc3", 8, true));
+ct_table01.put(List.of("fd3", 0, true));
+ct_table01.put(List.of("ce4a", 1, false));
+ct_table01.put(List.of("a1e", 4514, false));
+ct_table01.put(List.of("a1be", 249, false));
+ct_table01.remove("a1374");
+ct_table01.put(List.of("baf84", 14657, true));
+ct_table01.put(List.of("b0d", 167, true));
+ct_table01.put(List.of("e0f", 8, false));
+ct_table01.remove("eae");
+ct_table01.put(List.of("f9b", 1, false));
+ct_table01.get("e307");
+ct_table01.put(List.of("e91d", 0, true));
+ct_table01.remove("b871");
+ct_table01.put(List.of("a42f", 0, true));
+ct_table01.put(List.of("a4ed", 0, false));
+ct_table01.remove("b93");
+ct_table01.put(List.of("d66e", 2, true));
+ct_table01.put(List.of("dfa54", 3079, true));
+ct_table01.remove("d8ce");
+ct_table01.put(List.of("afce", 0, false));
+ct_table01.put(List.of("e8f", 0, true));
+ct_table01.remove("a208");
+ct_table01.get("e44");
+ct_table01.remove("a70");
+ct_table01.put(List.of("ca10", 717, true));
+ct_table01.put(List.of("b150", 0, true));
+ct_table01.remove("a122");
+ct_table01.put(List.of("d2f", 20, true));
+ct_table01.put(List.of("b0b9", 86097, false));
+ct_table01.put(List.of("d8e", 1, true));
+ct_table01.remove("ace");
+ct_table01.put(List.of("aa8", 39525, false));
+ct_table01.get("a972");
+ct_table01.put(List.of("e504", 0, false));
+ct_table01.get("d72");
+ct_table01.put(List.of("e838", 240, false));
+ct_table01.put(List.of("ecbb", 0, true));
+ct_table01.put(List.of("cf2", 13, true));
+ct_table01.put(List.of("e50", 7, false));
+ct_table01.remove("b2e46");
+ct_table01.put(List.of("c407", 0, true));
+ct_table01.put(List.of("b50", 0, false));
+ct_table01.get("dc2");
+ct_table01.remove("c816");
+ct_table01.put(List.of("d81", 217, true));
+ct_table01.remove("b8e");
+ct_table01.put(List.of("a22", 54, true));
+ct_table01.put(List.of("b1d8", 0, true));
+ct_table01.remove("d180");
+ct_table01.put(List.of("bac", 0, true));
+ct_table01.put(List.of("ecb4", 71, true));
+ct_table01.put(List.of("d0cf", 19, false));
+ct_table01.put(List.of("ccb8", 12, true));
+ct_table01.put(List.of("ff8b", 0, true));
+ct_table01.put(List.of("d9e4", 716, true));
+ct_table01.put(List.of("aa6f", 2114, true));
+ct_table01.put(List.of("d90", 7, true));
+ct_table01.put(List.of("c103", 524, true));
+ct_table01.put(List.of("fa9", 13, true));
+ct_table01.put(List.of("d77", 11, false));
+ct_table01.put(List.of("b5c2", 890, true));
+ct_table01.remove("e56");
+ct_table01.put(List.of("a38e", 11, false));
+ct_table01.put(List.of("cff", 0, true));
+ct_table01.get("bcc");
+ct_table01.put(List.of("c3ec", 292, true));
+ct_table01.put(List.of("e32a", 24, true));
+ct_table01.put(List.of("fdd", 0, true));
+ct_table01.remove("aa6b");
+ct_table01.remove("c4a6");
+ct_table01.put(List.of("d85", 0, false));
+ct_table01.remove("fff");
+ct_table01.get("a3a");
+ct_table01.put(List.of("a2e7", 255, true));
+ct_table01.put(List.of("a3bd", 45216, true));
+ct_table01.put(List.of("d49", 1669, true));
+ct_table01.put(List.of("f80", 7, false));
+ct_table01.put(List.of("cc4", 0, true));
+ct_table01.put(List.of("c63", 0, true));
+ct_table01.remove("e94d");
+ct_table01.get("cc73");
+ct_table01.put(List.of("bdbf", 1032, false));
+ct_table01.put(List.of("abf", 0, true));
+ct_table01.put(List.of("d7e1", 403, false));
+ct_table01.put(List.of("b583", 0, false));
+ct_table01.put(List.of("bd3", 0, false));
+ct_table01.remove("da7");
+ct_table01.get("abf52");
+ct_table01.put(List.of("d00d", 0, true));
+ct_table01.put(List.of("bb1", 0, false));
+ct_table01.put(List.of("ea7e", 0, false));
+ct_table01.put(List.of("cac", 0, false));
+ct_table01.put(List.of("e66", 1, true));
+ct_table01.put(List.of("b966", 6, false));
+ct_table01.put(List.of("f21", 16, true));
+ct_table01.put(List.of("c8b7", 0, false));
+ct_table01.put(List.of("d51", 590, true));
+ct_table01.put(List.of("d0af", 0, true));
+ct_table01.put(List.of("c96", 83475, false));
+ct_table01.get("a24a");
+ct_table01.put(List.of("c69", 13, false));
+ct_table01.put(List.of("c6c1", 2, false));
+ct_table01.get("ea20");
+ct_table01.put(List.of("a42e", 626, false));
+ct_table01.put(List.of("f44", 31052, false));
+ct_table01.put(List.of("aa95", 383, false));
+ct_table01.get("df8");
+ct_table01.put(List.of("d039", 0, false));
+ct_table01.put(List.of("dfb", 0, false));
+ct_table01.remove("a409");
+ct_table01.remove("ec7");
+ct_table01.get("e21");
+ct_table01.put(List.of("af94", 6, false));
+ct_table01.put(List.of("b66e", 1700, true));
+ct_table01.get("a3e0");
+ct_table01.put(List.of("b8b", 0, true));
+ct_table01.put(List.of("e090", 0, false));
+ct_table01.remove("da0b");
+ct_table01.get("c576");
+ct_table01.remove("f1f");
+ct_table01.put(List.of("b94e", 4408, false));
+ct_table01.get("c405");
+ct_table01.put(List.of("d84", 7, true));
+ct_table01.put(List.of("a9f26", 0, false));
+ct_table01.put(List.of("c00", 5209, true));
+ct_table01.put(List.of("d21", 3, false));
+ct_table01.remove("cf21");
+ct_table01.remove("eaec");
+ct_table01.put(List.of("fe87", 522, true));
+ct_table01.remove("a35");
+ct_table01.put(List.of("ad39", 0, true));
+ct_table01.put(List.of("e26", 3, false));
+ct_table01.remove("b11f");
+ct_table01.remove("e16");
+ct_table01.put(List.of("a132", 0, true));
+ct_table01.get("b87f");
+ct_table01.remove("aa89");
+ct_table01.put(List.of("a66", 186, true));
+ct_table01.remove("ec1");
+ct_table01.get("f1e");
+ct_table01.get("f5bb");
+ct_table01.put(List.of("d604", 592, false));
+ct_table01.remove("cd1e");
+ct_table01.remove("d5b");
+ct_table01.put(List.of("a33", 0, false));
+ct_table01.put(Arrays.asList("ebe9", null, true));
+ct_table01.remove("ec2");
+ct_table01.remove("a9db");
+ct_table01.put(List.of("a58", 52, true));
+ct_table01.remove("a0a1");
+ct_table01.put(List.of("ee4b", 0, true));
+ct_table01.put(List.of("bd61", 326, false));
+ct_table01.remove("ab8");
+ct_table01.put(List.of("ac2", 2246, true));
+ct_table01.put(List.of("a4b", 7962, true));
+ct_table01.put(List.of("f565", 115, false));
+ct_table01.put(List.of("b76c", 4160, true));
+ct_table01.put(Arrays.asList("b27f", null, true));
+ct_table01.remove("bdae");
+ct_table01.put(List.of("f3ca", 0, true));
+ct_table01.remove("b648");
+ct_table01.put(List.of("a0e88", 5312, true));
+ct_table01.remove("dd7");
+ct_table01.put(List.of("e2b", 32684, true));
+ct_table01.put(Arrays.asList("d4a", null, false));
+ct_table01.get("a560c");
+ct_table01.put(List.of("bdf", 126231, false));
+ct_table01.put(List.of("cd87", 0, true));
+ct_table01.put(List.of("bcd", 1501, false));
+ct_table01.put(List.of("d03", 5, true));
+ct_table01.remove("e9b");
+ct_table01.remove("be7");
+ct_table01.put(List.of("db653", 0, false));
+ct_table01.remove("e6196");
+ct_table01.clear();
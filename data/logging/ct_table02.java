@@ -0,0 +1,2003 @@
+// Random Seed: 332263446
+Table ct_table02 = new ColumnarTable("ct_table02", List.of("b8a", "fd8", "db8", "d49b", "b89", "b955"), List.of("integer", "boolean", "boolean", "integer", "integer", "boolean"), 3);
+ct_table02.getTableName();
+ct_table02.getColumnNames();
+ct_table02.getColumnTypes();
+ct_table02.getPrimaryIndex();
+ct_table02.clear();
+ct_table02.remove(2);
+ct_table02.put(Arrays.asList(null, false, true, 1314, 0, false));
+ct_table02.put(List.of(0, false, false, 11, 0, true));
+ct_table02.put(List.of(950, false, true, 557, 4931, true));
+ct_table02.put(List.of(22, false, false, 5, 3449, false));
+ct_table02.put(List.of(227, false, false, 164, 0, true));
+ct_table02.put(Arrays.asList(2, null, false, 0, 0, false));
+ct_table02.put(List.of(15877, true, false, 5, 18, true));
+ct_table02.remove(6);
+ct_table02.put(List.of(13, false, true, 2, 0, true));
+ct_table02.put(List.of(42, true, false, 0, 138, false));
+ct_table02.put(List.of(285, false, true, 0, 44785, true));
+ct_table02.put(List.of(21548, true, false, 143244, 0, true));
+ct_table02.put(List.of(29, false, false, 0, 23, true));
+ct_table02.put(List.of(0, true, true, 145, 0, false));
+ct_table02.put(List.of(237, true, false, 0, 95, false));
+ct_table02.put(List.of(0, true, false, 594, 8, true));
+ct_table02.remove(0);
+ct_table02.remove(263);
+ct_table02.put(List.of(1703, false, true, 7, 23631, false));
+ct_table02.put(List.of(0, true, true, 0, 0, true));
+ct_table02.put(List.of(80883, true, false, 328, 0, true));
+ct_table02.remove(6);
+ct_table02.put(List.of(959, false, false, 0, 173036, true));
+ct_table02.get(45);
+ct_table02.put(List.of(61, false, true, 169, 0, true));
+ct_table02.get(0);
+ct_table02.put(List.of(0, false, true, 2687, 0, true));
+ct_table02.get(45);
+ct_table02.put(List.of(0, true, true, 35, 0, true));
+ct_table02.put(List.of(0, true, true, 0, 5, false));
+ct_table02.put(List.of(9, false, false, 3, 1421, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(12, false, false, 0, 0, true));
+ct_table02.put(List.of(798, false, false, 0, 0, true));
+ct_table02.put(List.of(0, false, false, 8, 0, false));
+ct_table02.put(List.of(152, false, false, 0, 0, true));
+ct_table02.put(List.of(11166, false, false, 0, 0, true));
+ct_table02.put(List.of(159, false, false, 0, 1186, true));
+ct_table02.remove(114031);
+ct_table02.put(Arrays.asList(null, true, false, 8817, 0, true));
+ct_table02.put(Arrays.asList(0, null, true, 64, 0, false));
+ct_table02.put(List.of(10, false, false, 0, 230, true));
+ct_table02.remove(0);
+ct_table02.remove(0);
+ct_table02.put(List.of(458, false, true, 0, 25, true));
+ct_table02.put(List.of(11699, false, false, 16705, 0, false));
+ct_table02.put(List.of(7, true, false, 0, 212, false));
+ct_table02.put(Arrays.asList(0, false, null, 509, 2, true));
+ct_table02.put(List.of(0, false, false, 7164, 0, false));
+ct_table02.put(List.of(95, true, true, 27, 0, false));
+ct_table02.put(Arrays.asList(23, null, true, 0, 1, true));
+ct_table02.put(Arrays.asList(0, true, null, 35634, 3, true));
+ct_table02.remove(99);
+ct_table02.put(List.of(568, true, false, 786583, 0, true));
+ct_table02.put(List.of(37, false, false, 0, 0, true));
+ct_table02.put(List.of(0, false, false, 39, 0, true));
+ct_table02.put(List.of(14, true, true, 2339, 0, true));
+ct_table02.put(List.of(3, true, true, 1, 128669, false));
+ct_table02.put(List.of(0, false, true, 0, 288, false));
+ct_table02.get(0);
+ct_table02.put(List.of(0, true, false, 23, 0, false));
+ct_table02.put(List.of(0, false, true, 0, 0, false));
+ct_table02.put(List.of(21785, false, true, 0, 286, true));
+ct_table02.put(List.of(2364, false, true, 0, 0, true));
+ct_table02.put(List.of(0, false, true, 0, 0, false));
+ct_table02.put(List.of(4, true, false, 0, 0, true));
+ct_table02.put(List.of(3, true, true, 33633, 20101, false));
+ct_table02.put(List.of(123, true, false, 273, 251, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(6, true, false, 1588, 8, false));
+ct_table02.put(List.of(152, false, false, 1, 1076, false));
+ct_table02.put(List.of(0, true, true, 160, 1, true));
+ct_table02.put(List.of(25, true, true, 32, 0, true));
+ct_table02.put(List.of(0, true, true, 0, 13, false));
+ct_table02.remove(0);
+ct_table02.remove(3);
+ct_table02.get(336);
+ct_table02.put(Arrays.asList(13422, null, true, 0, 39, false));
+ct_table02.put(List.of(0, true, true, 0, 0, false));
+ct_table02.put(List.of(0, true, false, 1095, 1, true));
+ct_table02.remove(10864);
+ct_table02.remove(1380);
+ct_table02.remove(0);
+ct_table02.get(105);
+ct_table02.put(List.of(0, true, false, 2167, 17, false));
+ct_table02.put(List.of(0, true, true, 0, 0, true));
+ct_table02.get(0);
+ct_table02.put(List.of(7, true, false, 75007, 0, true));
+ct_table02.put(List.of(3, false, false, 0, 150299, true));
+ct_table02.put(List.of(25, true, false, 1004, 0, false));
+ct_table02.put(List.of(2870, true, false, 6649, 0, false));
+ct_table02.put(List.of(0, false, true, 0, 85, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, true, 775, 0, true));
+ct_table02.remove(0);
+ct_table02.remove(1488);
+ct_table02.put(List.of(3, true, false, 4, 17, false));
+ct_table02.get(4);
+ct_table02.put(List.of(8, true, false, 18, 0, false));
+ct_table02.put(List.of(197, false, false, 52, 0, false));
+ct_table02.get(0);
+ct_table02.put(List.of(0, false, true, 208, 0, true));
+ct_table02.put(List.of(0, false, true, 1, 0, false));
+ct_table02.put(List.of(42088, true, false, 1665, 6, true));
+ct_table02.remove(132);
+ct_table02.put(List.of(0, false, true, 39, 107, false));
+ct_table02.remove(7139);
+ct_table02.put(List.of(0, true, false, 6, 5110, false));
+ct_table02.put(List.of(0, true, true, 0, 0, true));
+ct_table02.put(List.of(7117, true, true, 34736, 718, false));
+ct_table02.put(List.of(60, false, true, 0, 0, false));
+ct_table02.put(List.of(3, false, false, 301, 6589, false));
+ct_table02.get(6);
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, true, 1, 894, false));
+ct_table02.get(195);
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, false, 955, 392, false));
+ct_table02.get(17);
+ct_table02.remove(1713);
+ct_table02.put(List.of(0, false, true, 1, 0, true));
+ct_table02.put(List.of(0, false, true, 0, 1, true));
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.remove(0);
+ct_table02.get(8);
+ct_table02.put(List.of(0, true, false, 1099, 1, false));
+ct_table02.put(List.of(18, true, false, 14, 2285, true));
+ct_table02.put(List.of(98948, false, true, 29, 0, true));
+ct_table02.put(List.of(0, true, false, 0, 0, true));
+ct_table02.put(List.of(0, false, true, 64, 12, true));
+ct_table02.put(List.of(0, false, false, 68, 0, false));
+ct_table02.put(List.of(0, true, true, 0, 0, false));
+ct_table02.put(List.of(75, false, false, 0, 34, true));
+ct_table02.remove(37);
+ct_table02.put(List.of(2, true, false, 0, 0, true));
+ct_table02.put(List.of(0, false, true, 240, 80, false));
+ct_table02.get(257);
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(595, true, false, 0, 1, true));
+ct_table02.remove(752);
+ct_table02.remove(0);
+ct_table02.put(Arrays.asList(2114, false, true, 13, null, true));
+ct_table02.put(List.of(322, false, false, 50, 0, false));
+ct_table02.put(List.of(25547, false, true, 4324, 0, true));
+ct_table02.remove(172);
+ct_table02.get(0);
+ct_table02.put(List.of(0, false, false, 0, 0, false));
+ct_table02.remove(118625);
+ct_table02.put(List.of(1, false, true, 0, 2, true));
+ct_table02.put(List.of(0, true, true, 52, 99, false));
+ct_table02.remove(540);
+ct_table02.put(List.of(32, false, false, 1, 0, true));
+ct_table02.remove(121277);
+ct_table02.put(List.of(0, false, false, 2880, 0, true));
+ct_table02.put(List.of(0, true, true, 0, 89, false));
+ct_table02.get(1081);
+ct_table02.put(List.of(0, false, false, 1, 0, true));
+ct_table02.put(List.of(0, false, true, 1038, 7, true));
+ct_table02.put(List.of(0, true, true, 0, 132496, true));
+ct_table02.put(List.of(0, false, false, 0, 2, false));
+ct_table02.remove(0);
+ct_table02.remove(1);
+ct_table02.get(0);
+ct_table02.put(List.of(56012, true, true, 0, 14248, true));
+ct_table02.put(List.of(0, false, true, 0, 2454, false));
+ct_table02.put(List.of(134, false, true, 0, 749, false));
+ct_table02.put(List.of(24, true, false, 0, 644, false));
+ct_table02.get(1);
+ct_table02.remove(526);
+ct_table02.put(Arrays.asList(3743, false, true, 21, 0, null));
+ct_table02.put(List.of(266, false, true, 5, 1, false));
+ct_table02.put(List.of(0, true, false, 313, 158, true));
+ct_table02.put(List.of(53, true, true, 0, 61596, false));
+ct_table02.put(List.of(111926, true, false, 1, 8, true));
+ct_table02.remove(12040);
+ct_table02.put(List.of(18270, true, true, 0, 2328, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, true, 0, 0, false));
+ct_table02.get(140);
+ct_table02.put(List.of(0, false, true, 0, 0, false));
+ct_table02.remove(53);
+ct_table02.put(List.of(0, true, true, 10, 643, true));
+ct_table02.remove(209);
+ct_table02.put(List.of(0, true, false, 55, 92, false));
+ct_table02.put(List.of(4459, true, true, 0, 2256, false));
+ct_table02.remove(0);
+ct_table02.remove(566);
+ct_table02.put(List.of(0, true, false, 62, 0, true));
+ct_table02.put(List.of(4, false, true, 281, 657354, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, false, 65, 894, false));
+ct_table02.remove(1);
+ct_table02.remove(51);
+ct_table02.put(List.of(0, true, false, 0, 0, true));
+ct_table02.put(List.of(5148, false, false, 0, 1, true));
+ct_table02.put(List.of(11, true, false, 1419, 13, false));
+ct_table02.put(List.of(63, true, false, 0, 0, true));
+ct_table02.put(List.of(74, false, false, 171, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(3287, true, true, 3657, 0, false));
+ct_table02.put(List.of(0, true, true, 1, 541, true));
+ct_table02.put(List.of(0, false, false, 0, 920, false));
+ct_table02.put(List.of(0, false, false, 0, 7, true));
+ct_table02.remove(6255);
+ct_table02.remove(265);
+ct_table02.remove(60);
+ct_table02.put(List.of(1, true, false, 19, 0, true));
+ct_table02.put(List.of(0, false, false, 0, 1326, false));
+ct_table02.remove(2);
+ct_table02.put(List.of(124050, true, true, 1482, 17195, false));
+ct_table02.put(List.of(399, true, false, 0, 0, true));
+ct_table02.get(1311);
+ct_table02.put(List.of(68675, true, true, 0, 29, false));
+ct_table02.put(List.of(0, true, false, 62, 4, true));
+ct_table02.put(List.of(0, false, true, 27, 0, true));
+ct_table02.put(List.of(541, true, false, 0, 12, false));
+ct_table02.get(27);
+ct_table02.put(List.of(243, false, true, 0, 6, false));
+ct_table02.put(List.of(0, false, false, 37, 0, false));
+ct_table02.put(List.of(0, false, false, 0, 0, false));
+ct_table02.put(List.of(0, false, true, 319, 174, false));
+ct_table02.put(List.of(97, false, true, 19154, 0, true));
+ct_table02.get(16);
+ct_table02.put(List.of(332, false, false, 0, 2, true));
+ct_table02.put(List.of(671, true, true, 0, 12, true));
+ct_table02.get(528);
+ct_table02.put(List.of(35, false, true, 148, 157, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, true, 1555, 0, true));
+ct_table02.put(List.of(0, true, true, 769, 0, true));
+ct_table02.put(List.of(0, true, false, 0, 0, true));
+ct_table02.put(List.of(52, true, true, 0, 9, false));
+ct_table02.get(146);
+ct_table02.put(List.of(0, false, true, 0, 4, false));
+ct_table02.remove(0);
+ct_table02.get(0);
+ct_table02.put(List.of(1558, false, false, 0, 0, true));
+ct_table02.put(List.of(0, true, true, 0, 0, false));
+ct_table02.remove(0);
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, true, 22937, 36969, true));
+ct_table02.get(646);
+ct_table02.get(122142);
+ct_table02.put(List.of(2, false, true, 23, 2, false));
+ct_table02.put(List.of(12652, true, true, 3363, 40, false));
+ct_table02.put(List.of(8049, false, true, 1339, 2, false));
+ct_table02.put(List.of(2, true, true, 29372, 2464, true));
+ct_table02.put(List.of(46472, false, true, 9737, 1425, false));
+ct_table02.put(List.of(0, true, true, 0, 0, false));
+ct_table02.put(List.of(0, true, true, 0, 470, false));
+ct_table02.get(35);
+ct_table02.put(List.of(156, false, true, 0, 27, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(15, true, false, 0, 0, true));
+ct_table02.remove(27);
+ct_table02.put(List.of(0, true, true, 3, 0, true));
+ct_table02.put(List.of(0, false, true, 52, 53, true));
+ct_table02.put(List.of(0, true, true, 15520, 82, true));
+ct_table02.get(0);
+ct_table02.put(List.of(2, true, false, 0, 439787, false));
+ct_table02.put(List.of(0, true, false, 737, 49, true));
+ct_table02.put(List.of(0, false, true, 22, 0, true));
+ct_table02.put(List.of(4909, false, true, 0, 0, true));
+ct_table02.put(List.of(4, false, true, 49, 53, false));
+ct_table02.put(List.of(0, true, true, 76, 2652, false));
+ct_table02.put(List.of(6, false, false, 0, 144, false));
+ct_table02.get(225);
+ct_table02.put(Arrays.asList(141, false, null, 0, 0, null));
+ct_table02.put(List.of(133, false, true, 3, 10579, false));
+ct_table02.put(List.of(0, true, false, 5, 130264, false));
+ct_table02.get(1067);
+ct_table02.put(List.of(0, true, false, 9, 0, true));
+ct_table02.put(List.of(53, false, false, 0, 2, true));
+ct_table02.put(List.of(0, true, true, 0, 0, true));
+ct_table02.put(List.of(194, false, true, 535, 0, true));
+ct_table02.put(List.of(2017, false, true, 0, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(7, true, true, 0, 1, true));
+ct_table02.put(List.of(0, false, true, 0, 364, false));
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(85227, false, false, 7994, 0, true));
+ct_table02.remove(12);
+ct_table02.put(List.of(185, false, true, 530, 0, true));
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.remove(0);
+ct_table02.get(212);
+ct_table02.get(19259);
+ct_table02.put(List.of(5, false, false, 630, 45362, true));
+ct_table02.put(List.of(19, false, true, 0, 24, false));
+ct_table02.put(List.of(0, false, false, 554, 5, true));
+ct_table02.get(0);
+ct_table02.put(List.of(15, true, false, 3, 3080, false));
+ct_table02.put(List.of(80, true, true, 0, 0, false));
+ct_table02.put(List.of(77, false, false, 1, 0, false));
+ct_table02.put(List.of(175, false, false, 0, 0, false));
+ct_table02.get(3650);
+ct_table02.put(List.of(2635, true, true, 65032, 0, true));
+ct_table02.put(List.of(0, true, true, 0, 0, false));
+ct_table02.put(List.of(0, true, false, 48380, 0, true));
+ct_table02.put(List.of(6483, false, false, 16, 0, true));
+ct_table02.put(List.of(0, false, false, 2550, 610, false));
+ct_table02.put(List.of(25, false, true, 0, 0, true));
+ct_table02.remove(70);
+ct_table02.put(List.of(1739, false, false, 0, 0, false));
+ct_table02.get(374);
+ct_table02.get(106743);
+ct_table02.remove(11164);
+ct_table02.remove(0);
+ct_table02.put(List.of(2, false, true, 0, 4206, true));
+ct_table02.put(List.of(0, true, false, 0, 2536, false));
+ct_table02.put(List.of(1, true, true, 0, 94, false));
+ct_table02.get(0);
+ct_table02.put(List.of(64548, false, false, 0, 0, false));
+ct_table02.get(0);
+ct_table02.remove(0);
+ct_table02.put(List.of(166, false, true, 25, 0, false));
+ct_table02.put(List.of(310, false, true, 0, 8, false));
+ct_table02.get(2522);
+ct_table02.put(List.of(10075, false, true, 411, 2, false));
+ct_table02.get(34300);
+ct_table02.put(List.of(0, false, true, 82, 0, true));
+ct_table02.put(List.of(0, false, true, 0, 0, false));
+ct_table02.put(List.of(2255, true, false, 0, 75, false));
+ct_table02.put(List.of(3, false, true, 0, 343, true));
+ct_table02.put(List.of(440, false, true, 5, 4, true));
+ct_table02.put(List.of(5, false, false, 0, 0, false));
+ct_table02.put(List.of(3, true, false, 0, 6, true));
+ct_table02.put(List.of(70734, true, false, 0, 22, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(4686, false, true, 0, 0, true));
+ct_table02.put(List.of(1917, false, true, 6, 760, false));
+ct_table02.remove(140);
+ct_table02.put(List.of(0, false, true, 6336, 307, false));
+ct_table02.put(List.of(0, false, false, 70, 95, true));
+ct_table02.put(List.of(20, false, false, 0, 34, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(30551, true, true, 4461, 0, false));
+ct_table02.put(List.of(0, true, false, 0, 1944, true));
+ct_table02.remove(72579);
+ct_table02.remove(8);
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, false, 0, 3299, false));
+ct_table02.put(List.of(0, false, true, 0, 0, false));
+ct_table02.put(List.of(0, false, true, 0, 197, false));
+ct_table02.put(List.of(39969, true, true, 12, 65861, true));
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.put(List.of(48, true, true, 344, 0, true));
+ct_table02.put(List.of(0, false, false, 0, 0, false));
+ct_table02.put(List.of(1463, false, true, 92, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(24618, false, true, 6248, 0, true));
+ct_table02.put(List.of(2288, false, true, 0, 1, true));
+ct_table02.remove(19);
+ct_table02.put(List.of(0, true, true, 15975, 1, true));
+ct_table02.put(List.of(10, false, true, 0, 279, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, true, 0, 0, false));
+ct_table02.remove(1249);
+ct_table02.put(List.of(1592, true, false, 0, 0, true));
+ct_table02.put(List.of(479, true, false, 0, 0, true));
+ct_table02.put(List.of(0, true, true, 37, 679, false));
+ct_table02.remove(36);
+ct_table02.put(List.of(0, true, false, 710, 127, true));
+ct_table02.put(Arrays.asList(21115, false, null, 79, 0, false));
+ct_table02.put(List.of(0, false, true, 0, 0, false));
+ct_table02.remove(7);
+ct_table02.put(List.of(119, true, false, 0, 0, false));
+ct_table02.put(List.of(5, true, false, 2, 108, true));
+ct_table02.get(7);
+ct_table02.put(List.of(2677, true, false, 3252, 0, true));
+ct_table02.remove(25);
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, false, 331, 0, false));
+ct_table02.put(List.of(155, false, true, 235, 0, false));
+ct_table02.get(50);
+ct_table02.put(List.of(0, false, false, 2070, 6, true));
+ct_table02.put(List.of(0, false, true, 7, 0, false));
+ct_table02.remove(0);
+ct_table02.remove(1);
+ct_table02.put(List.of(190406, false, true, 0, 1, false));
+ct_table02.put(List.of(1, true, true, 2084, 0, true));
+ct_table02.put(List.of(64, true, true, 17943, 0, false));
+ct_table02.remove(3);
+ct_table02.put(List.of(0, true, true, 1, 0, false));
+ct_table02.put(List.of(50, false, true, 2035, 90626, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(45, false, true, 35, 7632, true));
+ct_table02.put(List.of(0, true, false, 9208, 0, false));
+ct_table02.get(2805);
+ct_table02.remove(4);
+ct_table02.put(List.of(75, false, true, 0, 2542, true));
+ct_table02.remove(0);
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, false, 2256, 16670, true));
+ct_table02.put(List.of(0, false, false, 37, 4592, true));
+ct_table02.put(List.of(1791, false, false, 0, 37, false));
+ct_table02.put(List.of(12, true, true, 869, 462519, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(59, false, false, 0, 143, true));
+ct_table02.put(List.of(5950, true, true, 106, 0, true));
+ct_table02.put(List.of(0, false, true, 431, 1002, true));
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(11199, true, true, 418, 70, false));
+ct_table02.put(List.of(0, false, false, 9, 0, true));
+ct_table02.put(List.of(3996, true, true, 597, 2463, true));
+ct_table02.put(List.of(0, true, true, 0, 4, true));
+ct_table02.get(7);
+ct_table02.put(List.of(150, false, true, 5, 1393, true));
+ct_table02.remove(16);
+ct_table02.remove(72443);
+ct_table02.put(List.of(0, false, false, 0, 0, false));
+ct_table02.put(List.of(18822, false, false, 0, 0, true));
+ct_table02.put(List.of(3, true, false, 0, 10, false));
+ct_table02.get(0);
+ct_table02.put(List.of(0, true, true, 0, 10, true));
+ct_table02.get(1);
+ct_table02.put(List.of(20, false, false, 0, 3288, true));
+ct_table02.put(List.of(11, false, true, 16, 37, false));
+ct_table02.put(List.of(183, false, true, 0, 0, false));
+ct_table02.put(List.of(1527, false, true, 1708, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, false, 0, 900, true));
+ct_table02.put(List.of(0, true, true, 7750, 0, false));
+ct_table02.put(List.of(1510, false, false, 443, 3305, false));
+ct_table02.put(List.of(683, false, false, 0, 1, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(952, false, false, 2, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(7808, false, true, 110, 0, false));
+ct_table02.get(14);
+ct_table02.put(List.of(0, true, true, 0, 0, true));
+ct_table02.put(Arrays.asList(null, true, true, 0, 5, false));
+ct_table02.put(List.of(8, true, true, 0, 0, false));
+ct_table02.put(List.of(29, true, true, 0, 113, false));
+ct_table02.remove(5295);
+ct_table02.put(List.of(2042, true, false, 0, 0, true));
+ct_table02.put(List.of(0, true, false, 917, 0, true));
+ct_table02.put(List.of(0, true, false, 0, 511, false));
+ct_table02.put(List.of(191590, true, false, 3725, 73, false));
+ct_table02.get(0);
+ct_table02.put(List.of(13, true, true, 0, 9973, true));
+ct_table02.put(List.of(2, true, true, 42, 38, false));
+ct_table02.put(List.of(3244, false, false, 0, 0, false));
+ct_table02.put(List.of(0, true, true, 0, 0, false));
+ct_table02.put(List.of(7, false, true, 0, 643, false));
+ct_table02.put(List.of(1, false, true, 246, 567, true));
+ct_table02.remove(0);
+ct_table02.remove(2);
+ct_table02.put(List.of(187142, false, true, 0, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, false, 2, 35632, true));
+ct_table02.put(List.of(0, true, false, 501, 910, false));
+ct_table02.put(List.of(21083, true, true, 791, 0, false));
+ct_table02.put(List.of(1750, true, true, 0, 0, false));
+ct_table02.put(List.of(0, true, false, 158759, 0, false));
+ct_table02.put(List.of(0, false, true, 18838, 0, true));
+ct_table02.put(List.of(3, false, false, 22, 67, false));
+ct_table02.remove(0);
+ct_table02.get(7);
+ct_table02.put(List.of(3, true, false, 0, 0, true));
+ct_table02.put(List.of(0, false, true, 9, 4771, true));
+ct_table02.put(List.of(3, true, false, 13427, 0, false));
+ct_table02.put(List.of(0, false, true, 138, 374, true));
+ct_table02.put(List.of(0, false, true, 0, 0, false));
+ct_table02.put(List.of(61, false, true, 1, 674, false));
+ct_table02.put(List.of(0, false, false, 1, 0, true));
+ct_table02.get(22);
+ct_table02.put(List.of(3, false, true, 0, 0, false));
+ct_table02.put(List.of(287, false, false, 0, 0, false));
+ct_table02.put(List.of(2261, false, false, 15, 0, true));
+ct_table02.put(List.of(62476, true, false, 2842, 370, true));
+ct_table02.remove(173);
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, false, 12, 26, false));
+ct_table02.put(List.of(0, false, false, 0, 0, false));
+ct_table02.put(List.of(4, false, false, 0, 9, false));
+ct_table02.put(List.of(4, false, false, 0, 0, false));
+ct_table02.put(List.of(1008, true, false, 4327, 0, true));
+ct_table02.put(List.of(3949, true, true, 0, 7, false));
+ct_table02.put(Arrays.asList(32, null, true, 55, 3, true));
+ct_table02.remove(7);
+ct_table02.put(List.of(0, true, true, 29, 27, false));
+ct_table02.put(List.of(20, true, true, 0, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(82, true, false, 40, 0, true));
+ct_table02.put(List.of(0, false, false, 1139, 1, true));
+ct_table02.put(List.of(0, false, false, 0, 28303, true));
+ct_table02.put(List.of(554, false, false, 387, 16, false));
+ct_table02.put(List.of(0, false, true, 7780, 31, false));
+ct_table02.put(Arrays.asList(0, false, true, 0, 18, null));
+ct_table02.put(List.of(1884, true, false, 5902, 0, true));
+ct_table02.put(List.of(0, false, false, 6, 571, false));
+ct_table02.put(List.of(112, false, false, 0, 0, true));
+ct_table02.put(List.of(2, true, true, 1, 19, false));
+ct_table02.put(List.of(62, false, true, 787, 15, false));
+ct_table02.put(List.of(20, false, true, 1179, 1, true));
+ct_table02.put(List.of(19, false, false, 0, 0, true));
+ct_table02.get(382);
+ct_table02.get(0);
+ct_table02.remove(0);
+ct_table02.remove(0);
+ct_table02.put(List.of(19, true, false, 6182, 0, false));
+ct_table02.put(List.of(3092, true, true, 37, 0, true));
+ct_table02.remove(2);
+ct_table02.get(0);
+ct_table02.put(List.of(0, false, false, 40, 50, false));
+ct_table02.put(List.of(16094, false, false, 0, 0, false));
+ct_table02.get(0);
+ct_table02.put(List.of(0, true, false, 0, 23, true));
+ct_table02.put(List.of(234482, false, true, 0, 0, false));
+ct_table02.put(List.of(2176, false, false, 1315, 130629, false));
+ct_table02.put(List.of(0, false, true, 0, 4794, false));
+ct_table02.put(List.of(212, true, true, 0, 4, true));
+ct_table02.put(List.of(1, false, true, 4, 11090, true));
+ct_table02.put(List.of(0, true, false, 0, 547, false));
+ct_table02.put(List.of(0, false, true, 0, 1, true));
+ct_table02.put(List.of(0, false, false, 661, 4624, false));
+ct_table02.put(List.of(41, true, true, 1462, 485, true));
+ct_table02.put(List.of(76, false, false, 326157, 0, true));
+ct_table02.put(List.of(0, true, false, 0, 1415, false));
+ct_table02.put(List.of(685, true, true, 685, 12, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(726, true, false, 24, 0, false));
+ct_table02.put(List.of(235, true, false, 0, 0, true));
+ct_table02.get(174);
+ct_table02.put(List.of(219, false, true, 0, 4, true));
+ct_table02.put(List.of(865, true, false, 626, 0, true));
+ct_table02.put(List.of(0, true, true, 0, 279, true));
+ct_table02.get(5);
+ct_table02.remove(5);
+ct_table02.put(List.of(3407, false, false, 0, 9586, false));
+ct_table02.put(List.of(0, true, true, 22921, 0, false));
+ct_table02.put(List.of(0, false, true, 0, 424, false));
+ct_table02.put(List.of(8, true, true, 0, 0, false));
+ct_table02.get(750130);
+ct_table02.put(List.of(0, false, false, 33, 5, true));
+ct_table02.remove(4);
+ct_table02.put(List.of(1589, false, true, 0, 0, false));
+ct_table02.put(List.of(0, false, false, 82, 9, true));
+ct_table02.put(List.of(0, false, false, 5427, 81, false));
+ct_table02.put(List.of(41, true, true, 22, 344, true));
+ct_table02.put(List.of(27, true, false, 0, 39, true));
+ct_table02.put(List.of(15, false, false, 0, 0, true));
+ct_table02.put(List.of(60, true, false, 43363, 0, false));
+ct_table02.put(List.of(369, false, true, 0, 44, false));
+ct_table02.put(List.of(8305, true, false, 0, 0, false));
+ct_table02.put(List.of(183, false, true, 1677, 0, true));
+ct_table02.put(Arrays.asList(0, false, null, 0, 0, false));
+ct_table02.get(0);
+ct_table02.put(List.of(0, true, false, 332, 242, false));
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.put(List.of(0, true, true, 0, 0, true));
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.get(0);
+ct_table02.put(List.of(3, false, false, 1, 1065, false));
+ct_table02.put(List.of(1, true, false, 1, 2965, false));
+ct_table02.put(List.of(57, true, false, 266, 7951, true));
+ct_table02.put(List.of(0, true, true, 0, 0, true));
+ct_table02.remove(1194);
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, true, 63, 2824, false));
+ct_table02.put(List.of(23611, true, false, 26, 0, true));
+ct_table02.remove(1136);
+ct_table02.put(List.of(0, false, false, 0, 2850, true));
+ct_table02.put(List.of(53238, true, true, 3, 599, false));
+ct_table02.remove(0);
+ct_table02.remove(0);
+ct_table02.get(3840);
+ct_table02.put(List.of(5, true, true, 2, 0, true));
+ct_table02.put(List.of(4915, true, true, 0, 0, false));
+ct_table02.put(List.of(1, false, false, 0, 0, true));
+ct_table02.put(List.of(80, true, false, 0, 240, false));
+ct_table02.remove(74);
+ct_table02.put(List.of(0, false, true, 0, 3, false));
+ct_table02.get(719);
+ct_table02.put(List.of(6627, true, false, 7076, 31, true));
+ct_table02.put(List.of(0, true, false, 1, 97243, true));
+ct_table02.put(List.of(230, false, false, 0, 0, true));
+ct_table02.put(List.of(50, false, false, 0, 0, false));
+ct_table02.put(List.of(0, true, false, 1637, 6019, true));
+ct_table02.put(List.of(7235, true, true, 0, 1235, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, false, 11772, 109, false));
+ct_table02.put(List.of(0, true, true, 178, 1, false));
+ct_table02.put(List.of(1, false, true, 3, 0, true));
+ct_table02.remove(10);
+ct_table02.remove(96);
+ct_table02.put(List.of(0, true, true, 27240, 22546, false));
+ct_table02.put(List.of(0, false, true, 326, 840, false));
+ct_table02.put(List.of(3, false, false, 1285, 0, true));
+ct_table02.put(List.of(98, true, true, 0, 69, true));
+ct_table02.get(1);
+ct_table02.put(List.of(1081, true, false, 3740, 33, true));
+ct_table02.put(List.of(2808, true, false, 192770, 925, true));
+ct_table02.put(List.of(0, false, false, 901, 0, false));
+ct_table02.put(List.of(0, true, false, 40, 646, false));
+ct_table02.put(List.of(0, false, true, 804, 0, true));
+ct_table02.get(0);
+ct_table02.remove(0);
+ct_table02.put(List.of(2, true, false, 0, 0, true));
+ct_table02.put(List.of(0, false, false, 5, 0, false));
+ct_table02.remove(0);
+ct_table02.remove(580);
+ct_table02.put(List.of(1, true, false, 0, 109, false));
+ct_table02.put(List.of(2376, true, false, 15, 0, true));
+ct_table02.put(List.of(0, false, false, 0, 2, true));
+ct_table02.put(List.of(0, false, true, 170, 0, true));
+ct_table02.put(List.of(5, false, false, 0, 109, true));
+ct_table02.put(List.of(23, true, true, 0, 195566, true));
+ct_table02.put(List.of(0, true, true, 1111, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.remove(348);
+ct_table02.remove(850);
+ct_table02.remove(101877);
+ct_table02.put(Arrays.asList(0, true, false, 0, null, false));
+ct_table02.put(List.of(1, false, true, 28, 1, false));
+ct_table02.put(List.of(219, false, true, 28053, 0, false));
+ct_table02.put(List.of(25, false, false, 0, 381, false));
+ct_table02.put(List.of(628, false, true, 78, 38, true));
+ct_table02.remove(22574);
+ct_table02.put(List.of(1500, true, false, 0, 0, false));
+ct_table02.put(List.of(4466, true, false, 117, 0, false));
+ct_table02.get(10861);
+ct_table02.put(Arrays.asList(0, true, null, 0, 0, true));
+ct_table02.put(List.of(45, false, true, 0, 185, false));
+ct_table02.put(List.of(100, true, false, 176, 29, true));
+ct_table02.put(List.of(0, false, true, 0, 3, false));
+ct_table02.put(Arrays.asList(null, false, false, 167, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(4767, true, false, 3026, 23, true));
+ct_table02.put(List.of(130, true, false, 25, 15, false));
+ct_table02.put(List.of(0, false, false, 50, 5476, true));
+ct_table02.put(List.of(0, false, true, 0, 34, false));
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.put(List.of(0, false, true, 0, 6, false));
+ct_table02.put(List.of(723, true, true, 3565, 0, true));
+ct_table02.remove(2);
+ct_table02.put(List.of(1, true, false, 21733, 0, true));
+ct_table02.put(List.of(1718, false, true, 17959, 147, true));
+ct_table02.put(List.of(338165, false, true, 5, 162, false));
+ct_table02.remove(444);
+ct_table02.put(List.of(6, false, false, 15786, 3, false));
+ct_table02.get(10);
+ct_table02.put(List.of(0, false, false, 401, 3, false));
+ct_table02.put(List.of(1262, false, true, 2, 3, false));
+ct_table02.get(0);
+ct_table02.get(124);
+ct_table02.put(List.of(17, false, true, 90, 2, true));
+ct_table02.get(0);
+ct_table02.get(1846);
+ct_table02.get(127);
+ct_table02.put(List.of(0, true, true, 0, 117, true));
+ct_table02.get(0);
+ct_table02.put(List.of(0, true, true, 0, 2567, false));
+ct_table02.remove(3);
+ct_table02.put(List.of(25, false, false, 0, 12, true));
+ct_table02.put(List.of(0, false, false, 1, 6680, false));
+ct_table02.put(List.of(3, true, false, 172, 55323, true));
+ct_table02.put(List.of(0, true, false, 17, 0, false));
+ct_table02.put(List.of(15, false, true, 82, 0, false));
+ct_table02.put(List.of(0, true, false, 2584, 1752, true));
+ct_table02.put(List.of(45523, false, true, 17, 5, false));
+ct_table02.put(List.of(0, true, true, 7, 0, false));
+ct_table02.put(List.of(17, true, true, 7, 45029, false));
+ct_table02.put(List.of(2593, true, false, 1544, 16336, true));
+ct_table02.put(List.of(5803, true, true, 0, 7, false));
+ct_table02.put(List.of(5, false, false, 608, 289, false));
+ct_table02.put(List.of(9, false, true, 0, 0, false));
+ct_table02.get(0);
+ct_table02.put(List.of(0, false, false, 1, 19, false));
+ct_table02.put(List.of(0, true, false, 6, 0, true));
+ct_table02.put(List.of(1917, false, true, 20, 0, false));
+ct_table02.put(List.of(0, true, true, 0, 21, true));
+ct_table02.get(656);
+ct_table02.put(List.of(9, true, true, 743, 1917, false));
+ct_table02.put(List.of(7836, false, false, 258, 881, false));
+ct_table02.get(0);
+ct_table02.get(57314);
+ct_table02.remove(12);
+ct_table02.put(List.of(4471, true, true, 0, 7, true));
+ct_table02.remove(853);
+ct_table02.put(List.of(141, true, true, 56, 75979, false));
+ct_table02.put(List.of(34, false, true, 0, 0, false));
+ct_table02.put(List.of(4137, true, false, 45, 0, true));
+ct_table02.put(List.of(2, true, false, 0, 0, true));
+ct_table02.get(0);
+ct_table02.put(List.of(0, true, false, 0, 96083, true));
+ct_table02.put(List.of(0, false, true, 150, 33984, true));
+ct_table02.put(List.of(1, true, false, 10, 284, true));
+ct_table02.put(List.of(124, true, false, 0, 381, false));
+ct_table02.put(List.of(0, true, false, 26459, 0, false));
+ct_table02.remove(91);
+ct_table02.put(List.of(7, true, true, 0, 2, true));
+ct_table02.put(List.of(30228, true, true, 8335, 44, true));
+ct_table02.get(0);
+ct_table02.put(List.of(5189, false, false, 0, 2, true));
+ct_table02.put(List.of(13722, false, false, 0, 0, false));
+ct_table02.put(List.of(650, false, false, 0, 0, false));
+ct_table02.put(List.of(329, true, true, 798, 36236, true));
+ct_table02.put(List.of(2, true, true, 97, 164, false));
+ct_table02.remove(294);
+ct_table02.put(List.of(1, false, false, 950, 25440, false));
+ct_table02.put(List.of(0, false, true, 0, 123941, true));
+ct_table02.put(List.of(0, true, true, 14, 1734, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(1882, false, true, 14, 2, false));
+ct_table02.put(List.of(0, true, false, 0, 4665, false));
+ct_table02.put(List.of(0, true, false, 0, 159, true));
+ct_table02.put(List.of(19780, false, false, 0, 0, false));
+ct_table02.put(List.of(2, false, true, 1801, 0, true));
+ct_table02.put(List.of(2134, true, true, 1611, 0, true));
+ct_table02.put(List.of(0, true, true, 0, 0, false));
+ct_table02.get(33);
+ct_table02.put(List.of(230, false, false, 0, 0, false));
+ct_table02.put(List.of(3571, false, true, 0, 52691, false));
+ct_table02.put(List.of(35, false, true, 0, 0, false));
+ct_table02.put(List.of(0, true, false, 2963, 54, false));
+ct_table02.put(List.of(4305, false, true, 71, 0, false));
+ct_table02.put(List.of(0, false, true, 44555, 25969, false));
+ct_table02.put(List.of(468, true, true, 5437, 18, true));
+ct_table02.put(List.of(4, true, false, 0, 0, false));
+ct_table02.remove(18178);
+ct_table02.put(List.of(0, true, true, 28, 14332, true));
+ct_table02.put(List.of(0, true, true, 586, 11, false));
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.put(List.of(0, false, true, 1, 0, false));
+ct_table02.get(0);
+ct_table02.get(0);
+ct_table02.remove(80);
+ct_table02.put(List.of(4495, true, true, 64, 0, false));
+ct_table02.put(List.of(1, false, true, 0, 4, false));
+ct_table02.put(List.of(1, true, true, 63, 0, false));
+ct_table02.put(List.of(0, true, false, 28765, 0, false));
+ct_table02.put(List.of(0, false, true, 57, 481, false));
+ct_table02.put(List.of(0, true, true, 0, 109, true));
+ct_table02.put(List.of(0, true, false, 97584, 0, false));
+ct_table02.put(List.of(5669, false, true, 498, 0, false));
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.put(List.of(0, true, true, 0, 1, false));
+ct_table02.put(List.of(0, false, true, 0, 2430, true));
+ct_table02.put(List.of(70077, false, false, 0, 6, false));
+ct_table02.remove(14210);
+ct_table02.put(List.of(1290, false, false, 274, 4, true));
+ct_table02.put(List.of(21, false, false, 1, 0, true));
+ct_table02.put(List.of(0, false, true, 0, 0, false));
+ct_table02.put(List.of(94, false, false, 83, 49204, false));
+ct_table02.get(0);
+ct_table02.put(List.of(99, true, true, 0, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(408, false, true, 4, 58, true));
+ct_table02.get(0);
+ct_table02.put(List.of(3415, true, true, 2, 1338, true));
+ct_table02.put(List.of(2, true, false, 7395, 86, false));
+ct_table02.put(List.of(0, true, true, 0, 3, false));
+ct_table02.get(321987);
+ct_table02.put(List.of(12, false, true, 1, 77, true));
+ct_table02.put(List.of(0, false, true, 653, 0, true));
+ct_table02.put(List.of(767, false, false, 0, 0, true));
+ct_table02.put(List.of(2, true, false, 0, 0, true));
+ct_table02.remove(3646);
+ct_table02.put(List.of(0, true, true, 1154, 0, true));
+ct_table02.put(List.of(23, true, false, 1410, 0, false));
+ct_table02.remove(163);
+ct_table02.get(189);
+ct_table02.put(List.of(32, true, false, 2022, 0, false));
+ct_table02.put(List.of(0, false, false, 312, 0, false));
+ct_table02.put(List.of(3205, false, false, 0, 23, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, false, 0, 230254, true));
+ct_table02.put(List.of(0, false, false, 28, 16851, false));
+ct_table02.put(List.of(100670, false, true, 0, 1260, true));
+ct_table02.remove(5);
+ct_table02.remove(0);
+ct_table02.put(List.of(626, true, true, 1111, 123401, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, false, 363, 25, false));
+ct_table02.put(List.of(919, true, false, 0, 6317, false));
+ct_table02.put(List.of(1778, false, false, 36509, 10, true));
+ct_table02.put(Arrays.asList(44, true, true, 1067, 0, null));
+ct_table02.put(List.of(148225, false, false, 0, 0, false));
+ct_table02.remove(0);
+ct_table02.remove(1183);
+ct_table02.get(13290);
+ct_table02.put(List.of(3570, false, true, 138, 0, true));
+ct_table02.remove(22);
+ct_table02.put(List.of(0, true, true, 20, 0, false));
+ct_table02.put(List.of(0, false, true, 486, 560, false));
+ct_table02.put(List.of(7, true, true, 2, 0, true));
+ct_table02.put(List.of(0, false, true, 3267, 0, true));
+ct_table02.put(List.of(0, false, true, 0, 0, false));
+ct_table02.put(List.of(237, true, true, 0, 0, false));
+ct_table02.put(List.of(106, false, true, 0, 6, true));
+ct_table02.put(List.of(0, false, false, 276, 2, false));
+ct_table02.put(List.of(0, true, false, 45, 1596, true));
+ct_table02.put(List.of(130, false, false, 0, 4, true));
+ct_table02.remove(0);
+ct_table02.get(0);
+ct_table02.put(List.of(1, true, true, 0, 0, false));
+ct_table02.put(List.of(0, false, true, 11480, 8459, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(4246, true, true, 1149, 11, false));
+ct_table02.put(List.of(552, false, false, 10, 1, false));
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.put(List.of(0, false, false, 0, 23, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(3359, false, true, 0, 0, true));
+ct_table02.get(74);
+ct_table02.put(List.of(49, true, true, 3, 18, false));
+ct_table02.put(List.of(61, true, false, 0, 2037, true));
+ct_table02.put(List.of(0, false, true, 0, 138, true));
+ct_table02.put(List.of(0, true, true, 1, 0, true));
+ct_table02.put(List.of(25004, true, false, 0, 32049, true));
+ct_table02.remove(105);
+ct_table02.put(List.of(23546, false, false, 0, 2659, true));
+ct_table02.put(List.of(3557, true, false, 0, 7, true));
+ct_table02.remove(61);
+ct_table02.put(List.of(17, false, true, 492, 684, true));
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.remove(0);
+ct_table02.remove(2632);
+ct_table02.put(List.of(8777, true, false, 583, 0, true));
+ct_table02.put(List.of(1420, false, true, 0, 0, true));
+ct_table02.put(List.of(0, false, true, 3, 424, false));
+ct_table02.put(List.of(2729, false, false, 0, 0, false));
+ct_table02.put(List.of(0, true, true, 0, 0, false));
+ct_table02.put(Arrays.asList(27392, false, false, 0, null, false));
+ct_table02.put(List.of(0, false, false, 0, 35, true));
+ct_table02.put(List.of(0, false, false, 1629, 0, true));
+ct_table02.get(0);
+ct_table02.put(List.of(0, false, true, 0, 0, false));
+ct_table02.put(List.of(0, true, true, 9, 34, true));
+ct_table02.put(List.of(5687, false, false, 6249, 3, true));
+ct_table02.remove(0);
+ct_table02.get(122);
+ct_table02.put(List.of(0, false, false, 213, 0, true));
+ct_table02.put(List.of(0, true, false, 58713, 4, true));
+ct_table02.put(Arrays.asList(null, false, false, 0, 0, false));
+ct_table02.put(List.of(24, true, true, 0, 125, true));
+ct_table02.put(List.of(229, true, true, 1998, 0, true));
+ct_table02.remove(0);
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, false, 0, 9541, true));
+ct_table02.put(List.of(0, false, false, 42786, 0, false));
+ct_table02.put(List.of(0, false, true, 112489, 8, true));
+ct_table02.put(List.of(0, false, true, 2292, 30, false));
+ct_table02.put(List.of(0, true, true, 11949, 3204, true));
+ct_table02.put(List.of(670, true, false, 0, 445, false));
+ct_table02.remove(9781);
+ct_table02.get(0);
+ct_table02.put(List.of(0, false, true, 0, 294, false));
+ct_table02.put(List.of(6, false, true, 0, 95461, false));
+ct_table02.put(List.of(1, true, true, 0, 62, false));
+ct_table02.put(List.of(32, false, false, 10, 1, true));
+ct_table02.get(56);
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.put(List.of(12, false, true, 161, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, false, 0, 0, false));
+ct_table02.put(List.of(1125, false, true, 12629, 0, true));
+ct_table02.put(List.of(0, true, false, 51, 1, true));
+ct_table02.put(List.of(0, false, true, 0, 2651, false));
+ct_table02.put(List.of(12280, true, false, 2, 0, false));
+ct_table02.put(List.of(794, true, true, 9908, 0, false));
+ct_table02.put(List.of(26, true, true, 0, 0, true));
+ct_table02.remove(0);
+ct_table02.remove(1);
+ct_table02.remove(1382);
+ct_table02.put(List.of(8583, true, false, 0, 26057, false));
+ct_table02.remove(0);
+ct_table02.get(4);
+ct_table02.put(List.of(44, false, false, 652, 19, false));
+ct_table02.put(List.of(3, true, false, 0, 541, false));
+ct_table02.put(List.of(113, true, false, 0, 0, false));
+ct_table02.put(List.of(62, false, false, 248, 0, true));
+ct_table02.remove(3010);
+ct_table02.put(List.of(0, false, false, 0, 576536, true));
+ct_table02.put(List.of(15225, true, false, 199, 0, false));
+ct_table02.put(List.of(1, false, false, 9, 2, false));
+ct_table02.put(List.of(59, false, false, 82966, 3, false));
+ct_table02.put(List.of(2435, true, true, 0, 14, true));
+ct_table02.put(List.of(7636, true, true, 0, 17, true));
+ct_table02.get(5);
+ct_table02.put(List.of(0, false, true, 0, 31, true));
+ct_table02.put(List.of(1396, false, true, 22, 2250, true));
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.put(List.of(660, false, false, 0, 0, true));
+ct_table02.remove(14537);
+ct_table02.put(List.of(0, false, false, 2, 212, false));
+ct_table02.put(Arrays.asList(null, true, false, 344, 0, true));
+ct_table02.put(List.of(1, false, false, 0, 45, true));
+ct_table02.put(List.of(88, false, false, 39, 1, true));
+ct_table02.put(List.of(1549, false, true, 1, 0, false));
+ct_table02.put(List.of(0, false, false, 78, 0, false));
+ct_table02.put(List.of(0, true, true, 95, 2606, false));
+ct_table02.put(Arrays.asList(10, false, true, 0, null, true));
+ct_table02.put(List.of(2, true, true, 0, 28621, false));
+ct_table02.put(List.of(0, true, false, 36968, 0, false));
+ct_table02.put(List.of(90, true, false, 0, 1, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.put(List.of(15350, true, true, 60, 1317, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.put(List.of(0, false, true, 0, 149436, false));
+ct_table02.put(List.of(3180, true, false, 665, 34539, true));
+ct_table02.put(List.of(0, true, false, 71, 0, true));
+ct_table02.put(List.of(29, false, true, 11, 12, false));
+ct_table02.put(List.of(547, true, false, 126, 11, true));
+ct_table02.get(59);
+ct_table02.put(List.of(0, true, false, 0, 0, false));
+ct_table02.put(List.of(2863, false, true, 0, 2864, false));
+ct_table02.put(List.of(0, false, true, 0, 1461, false));
+ct_table02.remove(229);
+ct_table02.put(List.of(4, false, false, 4875, 146, false));
+ct_table02.put(List.of(0, false, true, 114, 312, true));
+ct_table02.put(List.of(68, false, true, 0, 6, true));
+ct_table02.put(List.of(2679, true, true, 4, 9, false));
+ct_table02.remove(0);
+ct_table02.remove(0);
+ct_table02.get(167);
+ct_table02.remove(57);
+ct_table02.remove(0);
+ct_table02.put(List.of(31089, false, true, 0, 0, false));
+ct_table02.remove(0);
+ct_table02.remove(0);
+ct_table02.put(List.of(6, true, true, 17177, 2019, false));
+ct_table02.put(List.of(0, false, true, 0, 129, false));
+ct_table02.put(List.of(0, true, false, 0, 963, true));
+ct_table02.get(194);
+ct_table02.put(List.of(0, true, false, 0, 17, false));
+ct_table02.put(List.of(0, false, false, 498967, 0, true));
+ct_table02.put(List.of(28083, true, true, 0, 0, false));
+ct_table02.put(List.of(2, false, false, 0, 0, true));
+ct_table02.remove(0);
+ct_table02.put(Arrays.asList(150, true, false, 0, null, true));
+ct_table02.put(Arrays.asList(0, false, null, 7613, 1, true));
+ct_table02.put(List.of(0, true, false, 0, 27430, false));
+ct_table02.put(Arrays.asList(514570, null, true, 2864, 0, false));
+ct_table02.put(List.of(141, true, false, 0, 104, false));
+ct_table02.remove(1095);
+ct_table02.put(List.of(0, false, true, 3232, 12, true));
+ct_table02.put(List.of(1761, false, false, 6, 27951, false));
+ct_table02.put(List.of(36, false, false, 29, 0, false));
+ct_table02.put(List.of(0, false, true, 429, 85, true));
+ct_table02.put(List.of(85, false, false, 433, 0, false));
+ct_table02.remove(0);
+ct_table02.get(0);
+ct_table02.put(List.of(0, false, false, 4119, 1514, false));
+ct_table02.put(List.of(0, true, true, 0, 1001, false));
+ct_table02.put(List.of(100474, false, true, 9, 42, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(3210, false, false, 11999, 772, true));
+ct_table02.put(List.of(1828, true, true, 4455, 0, true));
+ct_table02.put(List.of(220, true, false, 1383584, 0, true));
+ct_table02.put(List.of(0, true, false, 5246, 0, false));
+ct_table02.put(List.of(0, false, true, 1, 3549, true));
+ct_table02.remove(1);
+ct_table02.put(List.of(242, false, true, 1019, 0, true));
+ct_table02.remove(0);
+ct_table02.remove(20);
+ct_table02.get(0);
+ct_table02.remove(2);
+ct_table02.put(List.of(0, false, false, 4, 0, false));
+ct_table02.get(0);
+ct_table02.put(List.of(0, true, false, 0, 719, false));
+ct_table02.put(List.of(3879, true, false, 88, 0, true));
+ct_table02.put(List.of(29, false, true, 6, 0, true));
+ct_table02.put(List.of(0, false, true, 11221, 359, true));
+ct_table02.get(0);
+ct_table02.put(List.of(18, false, true, 57, 4901, true));
+ct_table02.put(List.of(0, true, false, 0, 0, true));
+ct_table02.remove(284);
+ct_table02.get(27);
+ct_table02.put(List.of(6991, false, false, 0, 61, true));
+ct_table02.put(List.of(0, true, false, 27384, 0, true));
+ct_table02.put(List.of(345, false, true, 0, 0, true));
+ct_table02.put(List.of(0, false, false, 106, 0, true));
+ct_table02.put(List.of(7090, true, false, 10395, 0, true));
+ct_table02.put(List.of(1, true, false, 15, 0, false));
+ct_table02.put(List.of(6042, true, false, 1, 0, false));
+ct_table02.put(List.of(2242, true, true, 450, 0, false));
+ct_table02.remove(16084);
+ct_table02.put(List.of(0, true, false, 0, 880, false));
+ct_table02.remove(0);
+ct_table02.remove(29);
+ct_table02.put(List.of(121, true, false, 622, 0, false));
+ct_table02.remove(29);
+ct_table02.put(List.of(372967, false, true, 53, 0, false));
+ct_table02.put(List.of(0, true, true, 62888, 0, true));
+ct_table02.remove(11782);
+ct_table02.put(List.of(37, true, true, 0, 0, true));
+ct_table02.remove(18);
+ct_table02.put(List.of(2, false, false, 0, 692966, true));
+ct_table02.remove(0);
+ct_table02.remove(1219);
+ct_table02.remove(2038);
+ct_table02.put(List.of(660, false, true, 0, 26, true));
+ct_table02.put(List.of(57, true, true, 4, 0, true));
+ct_table02.put(List.of(0, true, true, 1038, 96, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(467, false, true, 0, 3, false));
+ct_table02.put(List.of(2, true, false, 1, 0, false));
+ct_table02.get(1092);
+ct_table02.put(List.of(0, true, true, 0, 4804, true));
+ct_table02.put(List.of(5, true, false, 0, 454594, true));
+ct_table02.put(List.of(324, true, true, 1, 576, true));
+ct_table02.put(List.of(13, true, false, 46, 88, true));
+ct_table02.put(List.of(304, false, false, 0, 312, true));
+ct_table02.put(List.of(0, false, true, 37299, 0, false));
+ct_table02.put(List.of(4, true, false, 61, 19, false));
+ct_table02.put(List.of(0, true, false, 14, 0, false));
+ct_table02.put(List.of(60600, false, true, 0, 1268, false));
+ct_table02.get(1689);
+ct_table02.put(List.of(5, false, false, 226, 1, true));
+ct_table02.put(List.of(2, true, true, 196, 0, true));
+ct_table02.remove(2197);
+ct_table02.put(List.of(1885, true, true, 30, 5, false));
+ct_table02.put(List.of(18, false, true, 0, 1, false));
+ct_table02.put(List.of(13, false, false, 0, 0, true));
+ct_table02.put(List.of(0, true, false, 29, 31, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(549, false, true, 226, 5247, true));
+ct_table02.get(3000);
+ct_table02.put(List.of(0, true, false, 230, 14397, true));
+ct_table02.put(List.of(0, true, true, 7, 0, true));
+ct_table02.put(List.of(5237, true, false, 0, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(9964, false, false, 0, 0, true));
+ct_table02.put(List.of(0, false, false, 0, 31, false));
+ct_table02.put(List.of(307, true, true, 0, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(559636, true, true, 0, 1, true));
+ct_table02.put(List.of(103, false, true, 510, 0, false));
+ct_table02.put(List.of(0, false, true, 36028, 0, true));
+ct_table02.remove(17);
+ct_table02.get(107);
+ct_table02.get(4);
+ct_table02.get(409);
+ct_table02.remove(31);
+ct_table02.put(List.of(208, true, false, 0, 0, false));
+ct_table02.get(937);
+ct_table02.put(List.of(7789, false, false, 198, 959, false));
+ct_table02.put(List.of(0, false, true, 114, 0, false));
+ct_table02.put(List.of(0, false, true, 12, 0, true));
+ct_table02.remove(16733);
+ct_table02.put(List.of(1, true, false, 14570, 241, false));
+ct_table02.put(Arrays.asList(0, true, true, 1, null, false));
+ct_table02.remove(60);
+ct_table02.put(List.of(0, true, true, 860, 8, false));
+ct_table02.remove(210959);
+ct_table02.put(List.of(1, false, true, 313, 2252, false));
+ct_table02.put(Arrays.asList(null, true, false, 46057, 0, true));
+ct_table02.put(List.of(1833, true, false, 13972, 3, false));
+ct_table02.remove(38);
+ct_table02.put(Arrays.asList(0, null, true, 957, 0, false));
+ct_table02.put(List.of(21, false, true, 56, 0, true));
+ct_table02.put(List.of(3296, false, false, 90, 657, false));
+ct_table02.put(List.of(3, true, true, 0, 3030, true));
+ct_table02.get(0);
+ct_table02.put(List.of(681, false, true, 288, 3, true));
+ct_table02.get(11);
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, true, 604, 9027, false));
+ct_table02.put(List.of(0, false, true, 2, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(58136, true, true, 0, 5, true));
+ct_table02.put(List.of(131, true, false, 0, 1930, true));
+ct_table02.get(0);
+ct_table02.put(List.of(8, false, true, 0, 2771, true));
+ct_table02.put(List.of(0, false, false, 17385, 7250, true));
+ct_table02.get(0);
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.remove(1111);
+ct_table02.remove(0);
+ct_table02.remove(0);
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, false, 0, 738, false));
+ct_table02.put(List.of(11002, false, true, 0, 94644, false));
+ct_table02.put(List.of(28, false, false, 12443, 1, true));
+ct_table02.put(List.of(9009, true, true, 0, 0, true));
+ct_table02.put(Arrays.asList(5, true, null, 734, 0, true));
+ct_table02.remove(0);
+ct_table02.remove(1226);
+ct_table02.put(List.of(0, true, false, 203, 1995, false));
+ct_table02.remove(43);
+ct_table02.put(List.of(4540, true, false, 63, 114, false));
+ct_table02.put(List.of(0, false, false, 0, 176, true));
+ct_table02.put(List.of(83531, false, false, 197, 0, false));
+ct_table02.get(2);
+ct_table02.put(List.of(1, false, false, 1, 0, false));
+ct_table02.put(List.of(0, false, true, 0, 6747, false));
+ct_table02.put(List.of(9323, false, false, 9, 1688, true));
+ct_table02.put(List.of(5104, true, true, 2217, 1813, false));
+ct_table02.put(List.of(18760, false, true, 15629, 0, false));
+ct_table02.put(List.of(16455, false, false, 0, 2, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(5060, false, false, 0, 668, true));
+ct_table02.put(List.of(4, true, true, 367, 4926, true));
+ct_table02.put(List.of(1, false, false, 24, 13, true));
+ct_table02.put(Arrays.asList(2, true, null, 0, 14, true));
+ct_table02.put(List.of(49, false, false, 222, 0, true));
+ct_table02.put(List.of(79, true, false, 9, 0, true));
+ct_table02.put(List.of(0, false, true, 57, 0, false));
+ct_table02.put(Arrays.asList(0, false, false, 0, null, true));
+ct_table02.get(1703);
+ct_table02.put(List.of(507, false, false, 1682, 14, false));
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.put(List.of(1352, true, true, 6, 193, false));
+ct_table02.get(0);
+ct_table02.remove(1);
+ct_table02.remove(0);
+ct_table02.put(List.of(3, true, false, 187, 0, false));
+ct_table02.put(List.of(18, false, false, 1646, 0, true));
+ct_table02.remove(2);
+ct_table02.put(List.of(43398, false, true, 0, 55, true));
+ct_table02.put(List.of(200, true, true, 9, 0, true));
+ct_table02.put(List.of(0, true, false, 1494, 108161, false));
+ct_table02.put(List.of(0, false, false, 0, 556, false));
+ct_table02.remove(2);
+ct_table02.put(List.of(14, true, false, 0, 250, true));
+ct_table02.put(List.of(1981, true, false, 0, 0, true));
+ct_table02.put(List.of(0, false, false, 93798, 9, false));
+ct_table02.put(List.of(779, true, false, 28, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(18, false, false, 0, 30148, true));
+ct_table02.put(List.of(0, false, false, 0, 322, false));
+ct_table02.put(List.of(4, true, true, 0, 9759, false));
+ct_table02.put(List.of(46466, true, false, 5595, 650, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, false, 3355, 6, false));
+ct_table02.put(List.of(0, true, true, 22, 16, true));
+ct_table02.put(List.of(257, false, true, 6678, 0, true));
+ct_table02.put(List.of(4924, true, false, 0, 2, false));
+ct_table02.put(List.of(0, true, false, 560, 3, false));
+ct_table02.put(List.of(0, true, true, 7291, 0, true));
+ct_table02.put(List.of(85, true, true, 0, 8, false));
+ct_table02.put(List.of(412, true, true, 84, 0, false));
+ct_table02.remove(168);
+ct_table02.put(List.of(0, false, false, 17, 0, false));
+ct_table02.put(List.of(0, true, true, 0, 1, false));
+ct_table02.put(List.of(0, false, false, 625, 63573, true));
+ct_table02.put(List.of(114, false, false, 0, 329, false));
+ct_table02.put(Arrays.asList(0, true, true, 0, 3603, null));
+ct_table02.put(List.of(8, false, false, 0, 10, false));
+ct_table02.put(List.of(0, true, false, 350003, 0, true));
+ct_table02.put(List.of(11, true, false, 645, 53606, true));
+ct_table02.put(List.of(0, false, false, 20, 3854, false));
+ct_table02.put(List.of(0, true, true, 0, 258, false));
+ct_table02.put(List.of(8, true, false, 18, 3, false));
+ct_table02.remove(1320);
+ct_table02.put(List.of(3, false, true, 0, 0, false));
+ct_table02.put(List.of(0, false, false, 8276, 0, false));
+ct_table02.put(List.of(69875, false, true, 927, 30, false));
+ct_table02.put(List.of(0, false, true, 0, 56113, true));
+ct_table02.get(76);
+ct_table02.put(List.of(57, true, false, 0, 13, true));
+ct_table02.put(List.of(4, false, false, 111, 0, false));
+ct_table02.put(List.of(0, true, true, 161, 1, false));
+ct_table02.remove(103);
+ct_table02.put(List.of(366, true, false, 486724, 0, false));
+ct_table02.put(List.of(702, true, false, 2, 18, false));
+ct_table02.put(List.of(3132, true, true, 0, 0, false));
+ct_table02.put(List.of(0, true, false, 0, 0, false));
+ct_table02.get(1);
+ct_table02.put(List.of(0, true, true, 184, 86, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(7, true, true, 0, 1550, true));
+ct_table02.put(List.of(26, true, true, 0, 920, false));
+ct_table02.remove(0);
+ct_table02.remove(1);
+ct_table02.get(69);
+ct_table02.put(List.of(0, true, true, 0, 45, false));
+ct_table02.remove(9315);
+ct_table02.put(List.of(56622, true, true, 91, 52269, true));
+ct_table02.put(List.of(9, false, false, 1001, 0, true));
+ct_table02.put(List.of(0, true, false, 305, 0, true));
+ct_table02.put(List.of(1079, true, true, 0, 0, true));
+ct_table02.remove(15);
+ct_table02.put(List.of(0, true, false, 1182, 35, false));
+ct_table02.put(List.of(0, false, true, 0, 1551, false));
+ct_table02.remove(4);
+ct_table02.put(List.of(171014, true, false, 0, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(109, true, false, 649, 0, false));
+ct_table02.get(31);
+ct_table02.put(List.of(27, true, false, 0, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(810, true, true, 26, 0, false));
+ct_table02.put(List.of(195, false, true, 10607, 525, false));
+ct_table02.put(List.of(0, true, false, 0, 1096, true));
+ct_table02.put(List.of(356, true, false, 0, 0, false));
+ct_table02.put(List.of(95, true, true, 1, 19, true));
+ct_table02.get(46222);
+ct_table02.get(24);
+ct_table02.remove(2);
+ct_table02.put(List.of(0, false, false, 0, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, true, 0, 19, false));
+ct_table02.put(List.of(0, false, false, 5478, 422, false));
+ct_table02.put(List.of(0, false, false, 0, 0, false));
+ct_table02.remove(108);
+ct_table02.put(List.of(0, false, false, 0, 149, false));
+ct_table02.put(List.of(0, true, false, 42, 40, true));
+ct_table02.put(List.of(0, false, true, 81, 158, true));
+ct_table02.put(List.of(98, true, false, 0, 0, true));
+ct_table02.put(List.of(96, false, false, 72, 0, true));
+ct_table02.put(List.of(97, true, false, 8002, 137, true));
+ct_table02.get(0);
+ct_table02.remove(69);
+ct_table02.remove(5);
+ct_table02.get(7);
+ct_table02.put(List.of(1, false, false, 43, 2, false));
+ct_table02.put(List.of(10094, true, false, 0, 0, false));
+ct_table02.remove(80);
+ct_table02.get(3);
+ct_table02.put(List.of(288, false, false, 75878, 337917, true));
+ct_table02.put(List.of(0, true, true, 0, 11, false));
+ct_table02.remove(2561);
+ct_table02.put(List.of(0, false, true, 551, 107, true));
+ct_table02.put(List.of(1194, false, true, 14991, 0, true));
+ct_table02.put(List.of(0, true, false, 10745, 0, true));
+ct_table02.put(List.of(1, false, false, 268, 223, false));
+ct_table02.get(0);
+ct_table02.put(List.of(8591, false, false, 511, 0, false));
+ct_table02.put(List.of(0, true, false, 0, 0, false));
+ct_table02.put(List.of(9076, true, false, 15270, 3065, true));
+ct_table02.remove(6123);
+ct_table02.put(Arrays.asList(null, true, true, 0, 0, false));
+ct_table02.put(List.of(0, true, true, 2259, 0, true));
+ct_table02.remove(29);
+ct_table02.remove(0);
+ct_table02.put(List.of(8, true, true, 0, 3562, false));
+ct_table02.put(List.of(33335, false, true, 0, 8, false));
+ct_table02.remove(13);
+ct_table02.put(List.of(21, false, false, 0, 78, true));
+ct_table02.put(List.of(0, false, false, 0, 0, false));
+ct_table02.get(4);
+ct_table02.get(0);
+ct_table02.put(List.of(0, false, true, 4822, 0, true));
+ct_table02.remove(6);
+ct_table02.remove(0);
+ct_table02.put(List.of(4, false, true, 0, 0, false));
+ct_table02.remove(0);
+ct_table02.remove(45398);
+ct_table02.put(List.of(0, true, true, 30856, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, false, 0, 0, false));
+ct_table02.put(List.of(16204, true, false, 0, 0, false));
+ct_table02.put(List.of(0, false, false, 0, 0, false));
+ct_table02.get(0);
+ct_table02.put(List.of(0, true, false, 5, 0, true));
+ct_table02.put(List.of(1638, true, false, 0, 0, true));
+ct_table02.remove(90362);
+ct_table02.put(List.of(0, false, false, 0, 90607, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(56141, true, true, 3672, 41, false));
+ct_table02.put(List.of(990, true, true, 2003, 0, true));
+ct_table02.put(List.of(2799, false, false, 0, 721, false));
+ct_table02.get(84);
+ct_table02.put(List.of(2869, true, true, 0, 0, true));
+ct_table02.put(List.of(7, true, false, 8, 2947, true));
+ct_table02.remove(387);
+ct_table02.put(Arrays.asList(20208, null, false, 0, 4602, null));
+ct_table02.put(List.of(0, false, true, 0, 0, false));
+ct_table02.put(List.of(0, true, true, 0, 0, false));
+ct_table02.put(List.of(26, true, true, 0, 0, false));
+ct_table02.put(List.of(0, true, false, 0, 376, false));
+ct_table02.put(List.of(5, false, true, 12312, 3843, false));
+ct_table02.remove(7902);
+ct_table02.put(List.of(2, false, true, 0, 0, false));
+ct_table02.remove(4);
+ct_table02.put(List.of(0, false, false, 14, 5190, false));
+ct_table02.get(215);
+ct_table02.put(List.of(0, false, true, 131, 0, false));
+ct_table02.put(List.of(334, false, true, 4283, 10774, false));
+ct_table02.put(List.of(48, true, false, 0, 0, true));
+ct_table02.put(Arrays.asList(17, null, true, 4548, 0, false));
+ct_table02.put(List.of(9, false, false, 0, 2, false));
+ct_table02.put(List.of(1838, true, false, 0, 633, true));
+ct_table02.put(List.of(262536, true, true, 1860, 48, true));
+ct_table02.put(List.of(0, false, false, 16744, 179068, false));
+ct_table02.put(List.of(0, true, false, 311, 0, true));
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.remove(34577);
+ct_table02.put(List.of(16, true, false, 739, 2, true));
+ct_table02.put(List.of(0, true, true, 6852, 328, true));
+ct_table02.remove(112);
+ct_table02.remove(121);
+ct_table02.put(List.of(21, true, true, 0, 16499, true));
+ct_table02.put(List.of(0, false, false, 222, 1, false));
+ct_table02.put(List.of(5, false, true, 1019611, 0, true));
+ct_table02.put(Arrays.asList(376, null, false, 6177, 0, false));
+ct_table02.put(List.of(0, false, true, 0, 0, false));
+ct_table02.put(List.of(91, false, false, 1291, 0, false));
+ct_table02.put(List.of(1, true, true, 4087, 0, false));
+ct_table02.get(384);
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, true, 3, 0, false));
+ct_table02.remove(18);
+ct_table02.put(List.of(168, false, false, 767, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, false, 0, 5557, true));
+ct_table02.put(List.of(97, true, false, 1, 45, true));
+ct_table02.put(List.of(0, true, false, 126, 4157, true));
+ct_table02.put(List.of(0, false, false, 18277, 0, true));
+ct_table02.put(Arrays.asList(0, false, true, 0, 2670, null));
+ct_table02.put(List.of(0, false, true, 56, 0, true));
+ct_table02.remove(1);
+ct_table02.put(List.of(75, true, true, 118, 36, true));
+ct_table02.put(List.of(21, false, false, 0, 0, false));
+ct_table02.put(List.of(7590, true, false, 0, 0, true));
+ct_table02.put(List.of(10, false, true, 0, 54, false));
+ct_table02.get(0);
+ct_table02.put(List.of(3889, false, true, 3, 134, false));
+ct_table02.put(List.of(72, false, false, 1538, 41, false));
+ct_table02.remove(295);
+ct_table02.put(List.of(83, false, true, 0, 0, false));
+ct_table02.get(76);
+ct_table02.put(List.of(11, false, true, 121, 0, true));
+ct_table02.put(List.of(0, true, false, 3280, 0, false));
+ct_table02.put(List.of(0, true, false, 0, 1, false));
+ct_table02.put(List.of(76, false, false, 53, 0, true));
+ct_table02.put(List.of(7770, true, false, 2, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(1562, true, true, 135212, 6, true));
+ct_table02.put(List.of(7, false, false, 448, 10, false));
+ct_table02.remove(26267);
+ct_table02.put(List.of(0, true, true, 0, 0, true));
+ct_table02.put(List.of(0, true, false, 13, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, false, 5780, 29, false));
+ct_table02.remove(1632);
+ct_table02.remove(26979);
+ct_table02.put(List.of(228, false, true, 201, 0, true));
+ct_table02.remove(184);
+ct_table02.put(List.of(365, false, true, 0, 21, true));
+ct_table02.put(List.of(23, true, true, 6, 0, true));
+ct_table02.put(List.of(2180, true, false, 738, 3190, true));
+ct_table02.put(List.of(0, true, false, 13175, 33, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, true, 0, 0, false));
+ct_table02.remove(188);
+ct_table02.put(List.of(22, true, false, 0, 0, false));
+ct_table02.put(List.of(0, true, false, 104183, 10, false));
+ct_table02.put(List.of(636, true, false, 0, 5478, false));
+ct_table02.put(Arrays.asList(0, false, true, 32, 0, null));
+ct_table02.put(List.of(102, false, false, 415, 0, true));
+ct_table02.put(List.of(173, false, false, 0, 2, true));
+ct_table02.put(List.of(4, true, false, 34, 78277, true));
+ct_table02.put(List.of(114, true, false, 0, 0, true));
+ct_table02.put(List.of(578, false, false, 724, 6280, false));
+ct_table02.put(List.of(26, true, false, 9, 0, false));
+ct_table02.put(List.of(4, true, false, 65, 1, false));
+ct_table02.put(List.of(214, true, false, 160, 8, true));
+ct_table02.put(List.of(0, false, true, 0, 1977, true));
+ct_table02.put(Arrays.asList(null, false, false, 0, 0, false));
+ct_table02.put(List.of(7, false, false, 1, 3, false));
+ct_table02.put(List.of(375, false, true, 0, 0, false));
+ct_table02.put(Arrays.asList(0, false, true, 27720, 42, null));
+ct_table02.put(List.of(263, true, false, 0, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(110, false, false, 0, 208, true));
+ct_table02.put(List.of(610, true, true, 0, 1267, false));
+ct_table02.put(List.of(0, true, true, 0, 63, false));
+ct_table02.put(List.of(0, true, true, 103932, 0, false));
+ct_table02.put(List.of(0, false, true, 18, 316, false));
+ct_table02.remove(579851);
+ct_table02.remove(25);
+ct_table02.put(List.of(5734, false, false, 15, 20305, false));
+ct_table02.put(Arrays.asList(0, null, false, 0, 0, false));
+ct_table02.remove(81);
+ct_table02.get(17);
+ct_table02.put(List.of(0, false, true, 11904, 214651, false));
+ct_table02.remove(0);
+ct_table02.get(10);
+ct_table02.remove(14);
+ct_table02.put(List.of(1, false, false, 527, 2, false));
+ct_table02.put(List.of(0, true, true, 0, 0, true));
+ct_table02.get(7854);
+ct_table02.put(List.of(272, false, true, 909, 0, true));
+ct_table02.put(List.of(9, false, true, 0, 28111, false));
+ct_table02.put(List.of(0, true, false, 377, 1768, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(20, false, false, 0, 0, false));
+ct_table02.put(List.of(1743, false, true, 372, 0, false));
+ct_table02.put(Arrays.asList(0, false, true, 0, 4, null));
+ct_table02.put(List.of(0, false, false, 204, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(30, false, false, 69, 487, true));
+ct_table02.put(List.of(0, true, true, 0, 0, false));
+ct_table02.put(List.of(90, false, false, 0, 5, false));
+ct_table02.get(1944);
+ct_table02.put(List.of(15, true, true, 888, 0, true));
+ct_table02.get(239);
+ct_table02.put(List.of(0, false, false, 1969628, 0, false));
+ct_table02.put(List.of(0, true, false, 1, 1181, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, false, 5, 111, false));
+ct_table02.put(List.of(2643, true, false, 3251, 0, false));
+ct_table02.put(List.of(101, false, true, 0, 0, false));
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.get(107);
+ct_table02.put(List.of(0, true, true, 0, 79, false));
+ct_table02.put(List.of(0, true, true, 3, 0, true));
+ct_table02.put(List.of(1, false, false, 0, 208, true));
+ct_table02.put(List.of(83, false, true, 0, 1, false));
+ct_table02.put(List.of(0, true, true, 0, 32269, true));
+ct_table02.put(List.of(2519, false, true, 0, 2044, true));
+ct_table02.put(List.of(184, true, true, 4, 0, true));
+ct_table02.remove(7418);
+ct_table02.remove(3068);
+ct_table02.remove(0);
+ct_table02.put(List.of(1, true, true, 0, 1, true));
+ct_table02.put(List.of(0, true, false, 29, 0, false));
+ct_table02.get(0);
+ct_table02.put(List.of(6, false, true, 26658, 4, true));
+ct_table02.put(List.of(755, false, false, 31, 0, false));
+ct_table02.put(List.of(3710, false, true, 2, 0, true));
+ct_table02.put(List.of(17307, true, true, 1182, 689, true));
+ct_table02.put(List.of(0, true, true, 101, 0, false));
+ct_table02.remove(2);
+ct_table02.put(List.of(0, false, false, 1, 10773, false));
+ct_table02.get(33);
+ct_table02.put(List.of(0, false, false, 60, 1, false));
+ct_table02.put(List.of(0, true, false, 3, 0, true));
+ct_table02.put(List.of(43, false, true, 12507, 0, true));
+ct_table02.put(List.of(0, true, false, 0, 2001, false));
+ct_table02.put(List.of(109, false, true, 23603, 66, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(64, false, true, 6590, 5, false));
+ct_table02.put(List.of(2433, true, false, 2186, 686, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(49, true, true, 599, 3, true));
+ct_table02.get(0);
+ct_table02.get(0);
+ct_table02.put(List.of(0, false, true, 771, 0, true));
+ct_table02.put(List.of(53, true, true, 11, 179, false));
+ct_table02.get(82403);
+ct_table02.put(List.of(152, false, true, 66989, 0, true));
+ct_table02.put(List.of(183, false, false, 0, 303, false));
+ct_table02.put(List.of(0, true, true, 84, 0, true));
+ct_table02.put(List.of(0, true, false, 8, 54, false));
+ct_table02.put(List.of(190, true, false, 53464, 53, true));
+ct_table02.put(List.of(1, false, false, 0, 3812, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(25632, true, false, 0, 0, true));
+ct_table02.put(List.of(3, false, false, 0, 1898, false));
+ct_table02.put(List.of(8, false, false, 1619, 2226, false));
+ct_table02.put(List.of(8, true, true, 0, 0, false));
+ct_table02.put(List.of(0, true, true, 1017, 8, false));
+ct_table02.put(List.of(1, false, false, 2724, 1057, true));
+ct_table02.get(5);
+ct_table02.put(List.of(8494, true, true, 0, 4818, false));
+ct_table02.put(List.of(1903, false, true, 3, 0, false));
+ct_table02.put(List.of(0, false, false, 880, 0, false));
+ct_table02.put(List.of(0, true, false, 227, 0, false));
+ct_table02.put(List.of(7, false, true, 0, 0, true));
+ct_table02.remove(0);
+ct_table02.remove(2);
+ct_table02.remove(0);
+ct_table02.put(List.of(84981, true, true, 0, 0, false));
+ct_table02.put(List.of(484, false, true, 1, 0, true));
+ct_table02.remove(1);
+ct_table02.remove(0);
+ct_table02.remove(0);
+ct_table02.remove(24);
+ct_table02.put(List.of(17963, false, true, 0, 3, true));
+ct_table02.get(50303);
+ct_table02.put(List.of(0, true, false, 0, 198, false));
+ct_table02.put(List.of(25476, false, false, 598, 0, true));
+ct_table02.put(List.of(0, false, false, 396, 0, false));
+ct_table02.put(List.of(503, false, true, 0, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(9347, false, false, 0, 0, false));
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(28, false, false, 0, 500582, false));
+ct_table02.put(List.of(4212, true, false, 4, 40, true));
+ct_table02.put(List.of(33, true, false, 0, 210, false));
+ct_table02.put(List.of(1242, true, true, 7, 17, true));
+ct_table02.remove(369);
+ct_table02.put(List.of(3093, true, false, 0, 0, true));
+ct_table02.put(List.of(57161, false, true, 0, 21396, false));
+ct_table02.put(List.of(0, false, true, 0, 650, true));
+ct_table02.put(List.of(310, false, false, 44, 0, false));
+ct_table02.get(0);
+ct_table02.put(List.of(0, true, true, 16, 32, false));
+ct_table02.remove(763);
+ct_table02.put(List.of(2, false, false, 536, 67, true));
+ct_table02.remove(106);
+ct_table02.put(List.of(21, true, false, 653, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(3, false, true, 1936, 3, true));
+ct_table02.remove(0);
+ct_table02.remove(2);
+ct_table02.put(List.of(32, true, true, 0, 105, true));
+ct_table02.put(List.of(9168, true, true, 1265, 71, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(2536, false, false, 3108, 1, true));
+ct_table02.put(List.of(0, true, false, 11, 36127, false));
+ct_table02.put(List.of(3329, false, false, 0, 4657, true));
+ct_table02.put(List.of(0, false, false, 127, 12, true));
+ct_table02.remove(1);
+ct_table02.put(List.of(29, true, false, 11, 36, false));
+ct_table02.put(List.of(0, false, false, 0, 10, false));
+ct_table02.put(List.of(0, false, false, 142, 449, true));
+ct_table02.get(0);
+ct_table02.put(List.of(0, true, false, 6443, 0, false));
+ct_table02.put(List.of(30, true, true, 2514, 0, false));
+ct_table02.put(List.of(645, true, true, 0, 1453, true));
+ct_table02.remove(0);
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, false, 20012, 0, true));
+ct_table02.put(List.of(4, false, false, 1, 123720, true));
+ct_table02.put(List.of(0, true, false, 2603, 192, true));
+ct_table02.put(List.of(0, false, false, 0, 24192, false));
+ct_table02.get(1143);
+ct_table02.put(List.of(0, false, false, 5079, 0, true));
+ct_table02.put(List.of(0, false, true, 1109, 0, true));
+ct_table02.put(List.of(9251, false, false, 1, 1, false));
+ct_table02.put(List.of(0, false, false, 0, 325, false));
+ct_table02.get(1);
+ct_table02.remove(1);
+ct_table02.put(List.of(721, true, true, 1, 465, true));
+ct_table02.put(List.of(2, true, false, 1423, 188, false));
+ct_table02.put(List.of(0, true, true, 0, 0, false));
+ct_table02.put(List.of(21, false, true, 4019, 35262, false));
+ct_table02.put(List.of(7629, true, true, 120, 27970, true));
+ct_table02.put(List.of(0, false, false, 1945, 0, false));
+ct_table02.put(List.of(0, false, false, 0, 1, true));
+ct_table02.put(List.of(0, false, true, 913, 0, true));
+ct_table02.put(List.of(2, false, false, 2, 47, false));
+ct_table02.put(List.of(0, false, true, 657, 57, false));
+ct_table02.put(List.of(389, true, false, 0, 52940, true));
+ct_table02.put(List.of(787, false, true, 41820, 0, false));
+ct_table02.put(List.of(2, false, true, 0, 0, true));
+ct_table02.remove(31);
+ct_table02.put(List.of(0, false, false, 2, 476, true));
+ct_table02.put(List.of(1168, false, true, 0, 0, false));
+ct_table02.put(List.of(0, false, false, 5759, 3, false));
+ct_table02.get(16809);
+ct_table02.put(List.of(0, true, false, 9, 0, true));
+ct_table02.remove(7795);
+ct_table02.put(List.of(0, true, true, 9, 1, true));
+ct_table02.put(List.of(0, false, true, 0, 182, true));
+ct_table02.put(List.of(0, false, false, 0, 2088, true));
+ct_table02.put(List.of(52, true, true, 13, 336, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(2, true, false, 3007, 16, false));
+ct_table02.put(List.of(0, false, false, 0, 0, false));
+ct_table02.get(107);
+ct_table02.put(List.of(0, false, true, 0, 0, false));
+ct_table02.put(Arrays.asList(25, false, false, 106, null, true));
+ct_table02.put(List.of(34, true, true, 31, 0, false));
+ct_table02.put(List.of(1, true, true, 13, 0, false));
+ct_table02.put(List.of(55, false, true, 0, 7318, true));
+ct_table02.put(Arrays.asList(264, null, true, 0, 4685, true));
+ct_table02.remove(721);
+ct_table02.put(List.of(6849, true, true, 2557, 3, true));
+ct_table02.put(List.of(5323, true, true, 0, 1, false));
+ct_table02.put(List.of(3, false, false, 0, 5952, true));
+ct_table02.remove(0);
+ct_table02.put(Arrays.asList(585, null, true, 84, 1, true));
+ct_table02.remove(0);
+ct_table02.get(357);
+ct_table02.put(List.of(1, false, true, 0, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(45, true, false, 186, 0, true));
+ct_table02.get(20873);
+ct_table02.put(List.of(0, true, true, 664, 90282, false));
+ct_table02.put(List.of(232, false, false, 4259, 0, true));
+ct_table02.remove(5);
+ct_table02.put(List.of(0, false, false, 0, 1, true));
+ct_table02.put(List.of(31, true, false, 3, 0, false));
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.put(List.of(0, true, true, 0, 6821, true));
+ct_table02.remove(7926);
+ct_table02.remove(18);
+ct_table02.put(Arrays.asList(128, false, null, 19, 2, true));
+ct_table02.put(List.of(85, false, false, 996, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, true, 1, 0, true));
+ct_table02.put(List.of(0, false, false, 29, 2581, true));
+ct_table02.put(List.of(128, true, true, 11, 0, true));
+ct_table02.put(List.of(2400, true, true, 2403, 0, false));
+ct_table02.put(List.of(0, true, true, 0, 0, true));
+ct_table02.get(0);
+ct_table02.put(List.of(0, false, false, 857, 3, false));
+ct_table02.put(List.of(0, false, true, 0, 0, false));
+ct_table02.put(List.of(0, false, false, 2, 1, true));
+ct_table02.put(List.of(0, false, false, 2, 0, false));
+ct_table02.put(List.of(0, true, true, 0, 0, true));
+ct_table02.put(List.of(0, false, false, 31, 1, true));
+ct_table02.remove(6859);
+ct_table02.remove(89907);
+ct_table02.put(List.of(824, false, false, 21, 18, false));
+ct_table02.put(List.of(0, false, true, 9252, 0, false));
+ct_table02.put(List.of(4, true, true, 58669, 0, true));
+ct_table02.put(List.of(327, true, false, 2413, 0, true));
+ct_table02.put(List.of(105, false, false, 0, 0, false));
+ct_table02.put(List.of(2812, false, true, 0, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, false, 73, 0, true));
+ct_table02.put(List.of(179, true, false, 0, 0, false));
+ct_table02.get(0);
+ct_table02.remove(488);
+ct_table02.remove(16);
+ct_table02.put(List.of(0, false, true, 0, 172, true));
+ct_table02.put(List.of(0, false, false, 3, 1084, false));
+ct_table02.put(List.of(0, false, false, 7, 648, true));
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.put(List.of(1, true, false, 0, 2122, false));
+ct_table02.remove(385);
+ct_table02.put(List.of(1154, true, false, 0, 0, false));
+ct_table02.put(List.of(0, true, true, 436, 449, false));
+ct_table02.put(List.of(0, true, false, 2976, 81001, true));
+ct_table02.put(List.of(0, true, false, 0, 0, true));
+ct_table02.get(128);
+ct_table02.remove(0);
+ct_table02.put(List.of(2, false, true, 1858, 0, true));
+ct_table02.remove(1700);
+ct_table02.get(2);
+ct_table02.remove(817);
+ct_table02.remove(0);
+ct_table02.get(46);
+ct_table02.put(List.of(7942, true, false, 5, 12, true));
+ct_table02.get(2357);
+ct_table02.remove(12);
+ct_table02.put(List.of(0, true, true, 201040, 0, true));
+ct_table02.put(List.of(15, false, false, 2, 0, true));
+ct_table02.put(List.of(0, false, false, 0, 0, false));
+ct_table02.put(List.of(12, true, false, 2, 2, false));
+ct_table02.remove(0);
+ct_table02.get(19);
+ct_table02.get(0);
+ct_table02.get(256);
+ct_table02.put(List.of(91692, true, true, 12, 0, false));
+ct_table02.get(6981);
+ct_table02.put(List.of(0, true, false, 0, 9205, false));
+ct_table02.put(List.of(3, true, false, 0, 219, true));
+ct_table02.put(List.of(296, false, true, 100, 3, false));
+ct_table02.put(List.of(0, true, true, 0, 0, true));
+ct_table02.put(List.of(0, true, false, 50, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, false, 1, 13, true));
+ct_table02.put(List.of(75, true, false, 4039, 0, true));
+ct_table02.put(List.of(108, false, false, 682, 0, true));
+ct_table02.put(List.of(52, true, false, 0, 0, false));
+ct_table02.get(0);
+ct_table02.put(List.of(737, false, true, 0, 4, false));
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.put(List.of(349653, false, true, 0, 0, false));
+ct_table02.put(List.of(58015, true, true, 242, 632, true));
+ct_table02.get(0);
+ct_table02.put(List.of(0, false, true, 1, 49, true));
+ct_table02.put(List.of(0, false, false, 0, 1423038, true));
+ct_table02.put(List.of(82, true, true, 52958, 0, true));
+ct_table02.get(25);
+ct_table02.remove(237);
+ct_table02.put(List.of(13857, true, true, 0, 99, false));
+ct_table02.put(Arrays.asList(4, false, false, 0, 4794, null));
+ct_table02.put(List.of(1, false, true, 39, 36, false));
+ct_table02.put(List.of(1, true, true, 0, 0, false));
+ct_table02.put(List.of(3, false, false, 4767, 0, false));
+ct_table02.put(List.of(8, true, true, 0, 0, false));
+ct_table02.put(List.of(46, true, true, 0, 318, false));
+ct_table02.put(Arrays.asList(null, true, true, 0, 4, false));
+ct_table02.put(List.of(20, false, true, 0, 1, false));
+ct_table02.put(List.of(0, true, false, 0, 0, false));
+ct_table02.put(List.of(100, false, false, 633, 0, false));
+ct_table02.remove(0);
+ct_table02.remove(0);
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.put(List.of(2, false, false, 0, 0, true));
+ct_table02.put(List.of(70, true, false, 0, 770, false));
+ct_table02.put(List.of(7, false, true, 0, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(4973, false, false, 20586, 0, false));
+ct_table02.put(List.of(382, true, true, 0, 30, true));
+ct_table02.put(List.of(27, true, false, 0, 0, true));
+ct_table02.put(List.of(44, true, true, 71, 0, false));
+ct_table02.remove(0);
+ct_table02.remove(1);
+ct_table02.remove(0);
+ct_table02.put(List.of(93, true, false, 0, 0, false));
+ct_table02.put(List.of(0, false, false, 138, 719, false));
+ct_table02.remove(1);
+ct_table02.remove(14880);
+ct_table02.put(List.of(4, false, false, 0, 0, false));
+ct_table02.put(List.of(0, false, false, 0, 71, false));
+ct_table02.put(List.of(0, true, true, 1, 388, false));
+ct_table02.put(List.of(189093, false, true, 24541, 24534, false));
+ct_table02.put(List.of(0, true, true, 0, 0, false));
+ct_table02.get(54);
+ct_table02.put(List.of(0, true, false, 0, 0, false));
+ct_table02.put(List.of(0, true, true, 258, 0, false));
+ct_table02.put(List.of(131, false, false, 0, 651, false));
+ct_table02.put(List.of(273, true, true, 0, 0, false));
+ct_table02.put(List.of(6, true, false, 0, 0, false));
+ct_table02.get(0);
+ct_table02.remove(0);
+ct_table02.put(List.of(5, true, true, 0, 0, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, false, 105, 25, true));
+ct_table02.remove(3);
+ct_table02.get(57936);
+ct_table02.put(List.of(0, false, true, 0, 135, true));
+ct_table02.remove(1);
+ct_table02.put(List.of(3, true, true, 0, 721, false));
+ct_table02.put(List.of(0, true, true, 3, 1201, false));
+ct_table02.put(List.of(0, false, false, 3, 9, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(60, true, true, 0, 12, true));
+ct_table02.put(List.of(547, false, false, 0, 240561, false));
+ct_table02.remove(4400);
+ct_table02.remove(3);
+ct_table02.put(List.of(42, true, false, 0, 10398, false));
+ct_table02.put(List.of(0, true, false, 658, 4, true));
+ct_table02.put(List.of(68, false, false, 0, 48, true));
+ct_table02.put(List.of(0, true, true, 0, 1744, true));
+ct_table02.put(List.of(0, false, false, 167, 13, false));
+ct_table02.put(List.of(93, false, true, 3, 12, true));
+ct_table02.put(List.of(0, true, true, 0, 0, true));
+ct_table02.put(List.of(22, false, true, 0, 0, false));
+ct_table02.put(List.of(0, false, true, 1347, 755, true));
+ct_table02.put(List.of(0, true, true, 0, 0, true));
+ct_table02.put(List.of(0, false, false, 244, 2556, false));
+ct_table02.put(List.of(3118, true, false, 1, 8997, true));
+ct_table02.put(List.of(424, false, false, 0, 0, false));
+ct_table02.get(38);
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.put(List.of(49, false, false, 133078, 0, false));
+ct_table02.put(Arrays.asList(5, true, false, 25080, null, true));
+ct_table02.put(List.of(169623, false, false, 3, 0, true));
+ct_table02.put(List.of(3, true, true, 212, 0, false));
+ct_table02.put(List.of(0, true, false, 15, 14993, false));
+ct_table02.put(Arrays.asList(0, true, false, 44, null, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, false, 11, 0, false));
+ct_table02.put(List.of(0, false, false, 24, 931, true));
+ct_table02.put(List.of(26, false, false, 4174, 0, false));
+ct_table02.get(1061);
+ct_table02.put(List.of(491, true, false, 482, 60, true));
+ct_table02.remove(9);
+ct_table02.put(List.of(9, false, false, 301742, 0, true));
+ct_table02.put(List.of(0, true, false, 157, 0, false));
+ct_table02.put(List.of(161, true, true, 0, 14741, false));
+ct_table02.remove(51);
+ct_table02.put(List.of(1992, true, false, 0, 0, true));
+ct_table02.remove(9);
+ct_table02.put(List.of(2026, true, false, 22687, 0, true));
+ct_table02.put(Arrays.asList(1, null, false, 0, 0, true));
+ct_table02.put(List.of(21, false, false, 20, 0, false));
+ct_table02.put(List.of(34, false, true, 371, 112, true));
+ct_table02.put(List.of(215, false, true, 1658, 691, false));
+ct_table02.put(List.of(0, false, false, 9311, 993486, false));
+ct_table02.put(Arrays.asList(1069, null, true, 49, 0, true));
+ct_table02.remove(15);
+ct_table02.remove(0);
+ct_table02.put(Arrays.asList(6594, true, null, 3, 111220, false));
+ct_table02.remove(23057);
+ct_table02.put(List.of(2, false, false, 1, 32, false));
+ct_table02.put(List.of(0, false, true, 1158, 0, false));
+ct_table02.put(List.of(2, false, true, 7, 0, false));
+ct_table02.put(List.of(0, true, true, 8, 45, true));
+ct_table02.put(List.of(7, true, false, 0, 0, false));
+ct_table02.put(List.of(17, false, true, 2, 1709, false));
+ct_table02.put(Arrays.asList(10, true, false, 748, 734, null));
+ct_table02.put(List.of(0, false, true, 7, 0, true));
+ct_table02.put(Arrays.asList(17552, null, true, 0, 1121, true));
+ct_table02.remove(0);
+ct_table02.remove(0);
+ct_table02.put(List.of(226, true, true, 34013, 1, false));
+ct_table02.put(List.of(79, true, true, 13898, 906, false));
+ct_table02.put(Arrays.asList(22, true, null, 0, 182, false));
+ct_table02.get(0);
+ct_table02.remove(0);
+ct_table02.put(List.of(144702, true, true, 0, 6, false));
+ct_table02.put(List.of(1, false, false, 46, 95, true));
+ct_table02.remove(226);
+ct_table02.put(List.of(0, false, false, 72, 9413, true));
+ct_table02.put(List.of(448, true, true, 0, 0, true));
+ct_table02.put(List.of(0, false, true, 21, 3, true));
+ct_table02.put(List.of(85, true, false, 3007, 1300, true));
+ct_table02.put(List.of(15, false, true, 0, 1268, false));
+ct_table02.put(List.of(0, false, false, 0, 0, false));
+ct_table02.put(List.of(82, true, false, 653, 0, true));
+ct_table02.put(List.of(20, false, true, 0, 0, true));
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.put(List.of(10165, false, true, 0, 0, true));
+ct_table02.put(List.of(6883, false, false, 74, 341, true));
+ct_table02.put(List.of(0, true, false, 55, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(41, false, false, 0, 40, false));
+ct_table02.put(List.of(0, true, false, 1679, 288, false));
+ct_table02.get(3);
+ct_table02.remove(0);
+ct_table02.remove(72);
+ct_table02.put(List.of(0, true, false, 0, 0, true));
+ct_table02.put(List.of(28, true, true, 0, 1702, true));
+ct_table02.put(List.of(0, true, false, 191, 634, true));
+ct_table02.put(List.of(54, true, false, 598, 26, true));
+ct_table02.remove(204);
+ct_table02.remove(0);
+ct_table02.put(List.of(5769, true, false, 224, 160, false));
+ct_table02.get(0);
+ct_table02.put(Arrays.asList(1067, false, null, 98571, 0, false));
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.remove(17477);
+ct_table02.put(List.of(17071, true, false, 0, 35, false));
+ct_table02.remove(0);
+ct_table02.remove(4);
+ct_table02.put(List.of(0, false, true, 211, 127, false));
+ct_table02.put(List.of(751, true, true, 0, 55, false));
+ct_table02.put(List.of(353, true, false, 0, 160, false));
+ct_table02.remove(9265);
+ct_table02.put(List.of(1353, true, false, 0, 23, false));
+ct_table02.put(List.of(13, true, true, 11, 11, true));
+ct_table02.put(List.of(0, true, true, 414, 0, true));
+ct_table02.get(2);
+ct_table02.remove(1787);
+ct_table02.put(Arrays.asList(0, false, false, 22940, 1, null));
+ct_table02.put(List.of(0, false, false, 0, 0, false));
+ct_table02.put(List.of(0, true, false, 14, 751, false));
+ct_table02.put(List.of(0, true, true, 0, 1413, true));
+ct_table02.put(List.of(31, true, false, 63, 0, true));
+ct_table02.put(List.of(0, false, false, 509, 580, true));
+ct_table02.get(0);
+ct_table02.put(List.of(25, true, false, 362, 374, false));
+ct_table02.get(42);
+ct_table02.put(List.of(507, true, false, 72, 14, true));
+ct_table02.put(List.of(53, false, false, 1, 3776, false));
+ct_table02.put(List.of(2950, true, true, 0, 1094, false));
+ct_table02.put(List.of(395, false, false, 0, 0, true));
+ct_table02.put(List.of(0, false, false, 43, 0, false));
+ct_table02.put(List.of(2, false, false, 257429, 0, false));
+ct_table02.put(List.of(0, false, false, 0, 325, true));
+ct_table02.put(List.of(0, true, false, 7, 0, false));
+ct_table02.put(List.of(1351, false, true, 4674, 13, false));
+ct_table02.put(List.of(92, true, false, 35, 187, false));
+ct_table02.get(4);
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.put(List.of(153, false, false, 0, 0, false));
+ct_table02.put(Arrays.asList(141, true, null, 1, 435, false));
+ct_table02.put(Arrays.asList(null, false, true, 0, 827, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(0, true, false, 2, 551, false));
+ct_table02.put(List.of(1, true, false, 32488, 0, false));
+ct_table02.put(List.of(0, true, true, 0, 0, false));
+ct_table02.put(List.of(10607, true, true, 0, 0, false));
+ct_table02.get(125593);
+ct_table02.put(List.of(0, true, false, 0, 0, true));
+ct_table02.put(List.of(0, true, false, 0, 2, true));
+ct_table02.put(List.of(1120, false, true, 99, 0, true));
+ct_table02.remove(111);
+ct_table02.put(List.of(2, false, false, 0, 159, false));
+ct_table02.put(Arrays.asList(0, false, false, 130, null, false));
+ct_table02.put(List.of(13, false, false, 4756, 1027, true));
+ct_table02.put(List.of(70, false, false, 190, 0, true));
+ct_table02.remove(5);
+ct_table02.remove(1);
+ct_table02.remove(0);
+ct_table02.put(Arrays.asList(0, true, false, 217977, 0, null));
+ct_table02.get(132820);
+ct_table02.get(0);
+ct_table02.put(List.of(0, false, true, 0, 2218, false));
+ct_table02.put(List.of(521, true, false, 0, 8862, true));
+ct_table02.put(List.of(3, false, true, 568464, 0, false));
+ct_table02.put(List.of(0, false, true, 59, 14, false));
+ct_table02.put(List.of(0, true, false, 8540, 0, true));
+ct_table02.put(List.of(432, false, false, 29, 1, false));
+ct_table02.put(List.of(462, false, false, 0, 0, false));
+ct_table02.remove(1);
+ct_table02.remove(17);
+ct_table02.put(List.of(0, true, true, 1, 0, false));
+ct_table02.put(List.of(17, false, false, 0, 0, true));
+ct_table02.put(List.of(704, true, false, 11, 0, true));
+ct_table02.put(List.of(11, false, true, 3446, 208, false));
+ct_table02.put(List.of(13, true, true, 64, 0, false));
+ct_table02.put(List.of(3439, false, true, 0, 1388, false));
+ct_table02.put(List.of(0, true, true, 570799, 172, false));
+ct_table02.put(Arrays.asList(12, true, null, 7048, 26, false));
+ct_table02.put(List.of(305061, false, false, 60, 0, false));
+ct_table02.remove(0);
+ct_table02.put(List.of(1176360, false, true, 394, 0, false));
+ct_table02.put(List.of(2, true, true, 524, 79, false));
+ct_table02.put(List.of(61, true, true, 0, 1, true));
+ct_table02.put(List.of(0, false, false, 0, 0, false));
+ct_table02.put(List.of(2, false, false, 288, 0, false));
+ct_table02.put(List.of(45, true, false, 0, 46257, true));
+ct_table02.get(0);
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.put(List.of(0, false, true, 1, 29990, false));
+ct_table02.put(List.of(0, false, false, 1566, 0, true));
+ct_table02.remove(1);
+ct_table02.put(List.of(8, true, true, 0, 1, true));
+ct_table02.put(List.of(10, true, false, 13, 0, false));
+ct_table02.put(List.of(0, true, true, 0, 0, false));
+ct_table02.put(List.of(0, true, false, 0, 0, false));
+ct_table02.put(List.of(0, true, true, 0, 0, false));
+ct_table02.put(List.of(0, false, false, 0, 0, true));
+ct_table02.put(List.of(0, false, false, 0, 4124, false));
+ct_table02.put(List.of(0, true, false, 4416, 0, false));
+ct_table02.get(0);
+ct_table02.put(Arrays.asList(37, true, true, 8, 0, null));
+ct_table02.put(List.of(97, true, true, 0, 0, false));
+ct_table02.put(List.of(173444, false, true, 0, 73, true));
+ct_table02.put(List.of(116, true, true, 9, 7, false));
+ct_table02.put(List.of(0, false, false, 41, 41, false));
+ct_table02.put(List.of(34, false, true, 2, 0, false));
+ct_table02.put(List.of(0, false, false, 0, 424854, true));
+ct_table02.put(List.of(2, true, true, 0, 0, false));
+ct_table02.put(List.of(769, true, true, 1, 0, false));
+ct_table02.put(List.of(3344, false, false, 0, 47, false));
+ct_table02.remove(0);
+ct_table02.remove(12);
+ct_table02.put(List.of(2363, false, false, 45876, 0, false));
+ct_table02.remove(3442);
+ct_table02.put(List.of(1735, true, true, 299631, 0, false));
+ct_table02.put(Arrays.asList(7, false, true, 0, null, null));
+ct_table02.put(List.of(14308, false, false, 0, 0, false));
+ct_table02.remove(103);
+ct_table02.put(List.of(0, false, true, 0, 0, true));
+ct_table02.put(Arrays.asList(0, true, true, 0, null, false));
+ct_table02.remove(108);
+ct_table02.remove(2);
+ct_table02.remove(11);
+ct_table02.remove(0);
+ct_table02.put(List.of(43778, true, true, 0, 24, false));
+ct_table02.put(List.of(0, false, true, 933, 0, true));
+ct_table02.put(List.of(4, true, true, 621, 0, true));
+ct_table02.put(List.of(12, true, false, 332419, 8344, true));
+ct_table02.put(List.of(55069, true, true, 223, 38, true));
+ct_table02.put(List.of(859, true, true, 0, 1159, true));
+ct_table02.remove(396);
+ct_table02.put(List.of(0, true, true, 4416, 14074, false));
+ct_table02.remove(0);
+ct_table02.put(Arrays.asList(null, true, true, 4085, 0, false));
+ct_table02.put(List.of(0, false, false, 96, 0, false));
+ct_table02.put(List.of(0, true, false, 0, 7, false));
+ct_table02.put(List.of(0, true, false, 0, 59914, true));
+ct_table02.remove(0);
+ct_table02.get(2445);
+ct_table02.put(List.of(286, true, false, 1, 391, true));
+ct_table02.remove(4287);
+ct_table02.put(List.of(226, true, true, 0, 1, false));
+ct_table02.put(List.of(0, true, false, 63, 37, true));
+ct_table02.put(List.of(4, false, true, 8086, 0, true));
+ct_table02.remove(2);
+ct_table02.remove(41);
+ct_table02.put(Arrays.asList(19, false, true, 5, 178, null));
+ct_table02.put(List.of(0, true, false, 5, 0, false));
+ct_table02.put(List.of(29, true, true, 0, 274, false));
+ct_table02.put(List.of(203, true, true, 0, 12, true));
+ct_table02.put(List.of(5, false, true, 0, 2, true));
+ct_table02.remove(54);
+ct_table02.put(List.of(0, false, true, 21, 1, false));
+ct_table02.put(List.of(0, true, true, 0, 4031, true));
+ct_table02.put(List.of(1, false, false, 0, 66, true));
+ct_table02.put(List.of(0, false, false, 15219, 0, true));
+ct_table02.put(List.of(0, true, false, 0, 21, false));
+ct_table02.put(List.of(0, true, false, 107, 8, false));
+ct_table02.put(List.of(4, false, true, 75, 0, true));
+ct_table02.put(List.of(0, true, false, 0, 950, true));
+ct_table02.put(List.of(26, false, false, 88, 0, true));
+ct_table02.put(List.of(5399, false, false, 3197, 0, true));
+ct_table02.put(List.of(31, true, false, 10, 0, true));
+ct_table02.put(List.of(0, true, true, 11, 0, false));
+ct_table02.put(List.of(0, false, false, 1, 10, true));
+ct_table02.get(21);
+ct_table02.put(List.of(45, false, true, 0, 0, false));
+ct_table02.remove(0);
+ct_table02.get(0);
+ct_table02.put(List.of(0, true, true, 217555, 4097, true));
+ct_table02.put(List.of(196, false, false, 0, 0, true));
+ct_table02.put(List.of(0, false, false, 0, 0, false));
+ct_table02.remove(6);
+ct_table02.put(List.of(0, true, true, 0, 43, true));
+ct_table02.put(List.of(901, true, true, 0, 0, false));
+ct_table02.put(List.of(1, true, true, 51, 776107, true));
+ct_table02.put(List.of(76, true, true, 0, 1, false));
+ct_table02.put(List.of(0, true, false, 23, 9, true));
+ct_table02.remove(0);
+ct_table02.put(List.of(1, false, true, 0, 1451, true));
+ct_table02.remove(1222);
+ct_table02.get(0);
+ct_table02.clear();
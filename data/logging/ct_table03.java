@@ -0,0 +1,2003 @@
+// Random Seed: 332263446
+Table ct_table03 = new ColumnarTable("ct_table03", List.of("cd8", "b928", "bdcb", "afa", "f6a", "abd4", "a23", "d028", "bda9", "d8b", "c88a", "ce6b", "c08", "b0f", "c374"), List.of("string", "string", "string", "integer", "integer", "integer", "boolean", "boolean", "boolean", "string", "string", "integer", "integer", "boolean", "boolean"), 9);
+ct_table03.getTableName();
+ct_table03.getColumnNames();
+ct_table03.getColumnTypes();
+ct_table03.getPrimaryIndex();
+ct_table03.clear();
+ct_table03.put(List.of("ec693", "c8f1", "fa1b", 3, 47, 0, true, true, false, "cb97", "f095", 7197, 0, false, false));
+ct_table03.put(List.of("d730", "eed", "e83", 0, 0, 0, true, false, true, "c5e", "dfe6", 57, 0, true, true));
+ct_table03.get("ff50");
+ct_table03.put(List.of("e1a", "a65f", "b05", 1105, 0, 540, false, false, false, "af3", "d47b", 0, 0, true, false));
+ct_table03.put(List.of("cf65", "d28", "a5e8", 0, 0, 0, false, false, true, "c88", "a0a2", 4, 0, false, false));
+ct_table03.put(List.of("a9e4", "fbb5", "d215", 0, 29, 0, false, true, false, "db3", "c3a", 0, 416, false, false));
+ct_table03.put(Arrays.asList("a253f", "d2ee", "acd0", 1453, 148, 0, true, false, false, "f0f8", "a3d8", 20643, 91, true, null));
+ct_table03.put(List.of("afe", "a94", "ae77a", 0, 37, 110, true, true, true, "c495", "cd1", 0, 2, true, false));
+ct_table03.remove("e5de");
+ct_table03.put(List.of("fce", "af2", "c332", 0, 637, 864, true, true, false, "a07", "fffa", 97, 39, false, false));
+ct_table03.put(List.of("b2ee5", "ab91", "b4e", 45, 0, 0, true, true, false, "f837", "cf40", 131, 7627, false, true));
+ct_table03.put(List.of("e1bf", "fde", "db5", 0, 685, 230, true, false, true, "f03", "fba9", 0, 0, true, true));
+ct_table03.remove("ff7");
+ct_table03.put(List.of("bbaf", "d0e", "af11", 4, 384, 96, true, true, true, "dee1", "a9c", 0, 1926262, true, true));
+ct_table03.put(Arrays.asList("d1b7", "b62b", "f320", 16, 0, 0, true, true, false, "c096", "e2d72", null, 92671, false, true));
+ct_table03.put(List.of("bf8e", "d37c", "c5f2", 0, 313558, 625419, false, true, false, "d4d", "ba53", 0, 593, true, true));
+ct_table03.get("d96");
+ct_table03.get("b8b3");
+ct_table03.put(List.of("b17", "d9b0", "c41f", 445, 0, 6, false, true, true, "faa", "d19", 25, 352, true, true));
+ct_table03.put(Arrays.asList("e040", "b87", "e9f4", 12165, 0, null, true, false, true, "d86f", "e273", 2255, 0, false, true));
+ct_table03.put(List.of("cd9f", "d15", "ce8", 2185, 0, 0, false, true, true, "ab8e", "c173", 16, 33742, true, false));
+ct_table03.put(List.of("a053", "ecd0", "b44", 0, 57, 263406, false, true, false, "b1fba", "c10", 43, 66, true, false));
+ct_table03.put(List.of("ed4", "a96ed", "b53", 0, 0, 1204, false, false, true, "a52e", "de81", 90475, 0, true, true));
+ct_table03.remove("ecc0");
+ct_table03.remove("fea");
+ct_table03.put(List.of("f925", "bb4d", "e151", 0, 0, 4, false, true, false, "afb09", "fab", 836, 0, true, false));
+ct_table03.put(List.of("c475b", "b80cb", "a829", 12, 24, 0, true, false, false, "f83", "a64d", 184, 263, true, true));
+ct_table03.put(List.of("a977", "a6e0", "ae61b", 28, 1305, 49336, false, true, true, "c5d9", "c9c4c", 0, 6, true, true));
+ct_table03.put(Arrays.asList(null, "ce1", "ff66", 0, 1, 0, false, false, false, "c60d", "de4", 0, 0, true, false));
+ct_table03.put(List.of("dbe", "ac31", "f623", 22, 0, 0, true, false, false, "ecd", "c939", 125, 1, false, false));
+ct_table03.put(List.of("a1b", "a02", "f60", 0, 688284, 1, false, true, true, "d229", "a7204", 0, 37, true, true));
+ct_table03.put(List.of("c3b", "fec4", "b749", 0, 45830, 0, true, true, true, "f4f5", "d68", 0, 887, false, false));
+ct_table03.remove("b30");
+ct_table03.put(List.of("eb7", "bb6", "a8da", 0, 705, 37887, true, true, false, "ab36", "fa4a", 0, 0, true, true));
+ct_table03.put(List.of("a33d", "d37b", "da22a", 117282, 20, 0, true, false, false, "aee", "cd67", 96, 0, false, false));
+ct_table03.put(List.of("a966", "a75d", "a2b", 11, 69484, 126, true, false, true, "cfeba", "c0bd", 0, 42540, false, false));
+ct_table03.put(List.of("c074", "ffd", "d8da", 0, 6151, 1, true, false, false, "e93", "d496", 0, 0, false, false));
+ct_table03.put(List.of("fb8", "f550", "f6d8", 0, 0, 0, true, false, true, "fee3b", "fd30", 4, 64, true, true));
+ct_table03.put(List.of("ce80", "d38f", "b28", 0, 0, 3226, true, true, false, "b6d5", "c53", 0, 0, true, false));
+ct_table03.put(Arrays.asList("e39d", "ba00", "acdd", 281, 0, null, false, false, true, "deac", "b187", 0, 0, true, true));
+ct_table03.remove("c4f47");
+ct_table03.get("a644");
+ct_table03.put(Arrays.asList(null, "fdc3", "a673", 0, 9, 0, false, false, false, "aa688", "d9ce", 98, 1020, true, true));
+ct_table03.put(List.of("d6cc", "f8f5", "ce7d", 0, 783980, 16053, false, true, true, "a2c", "b573", 4, 5486, true, false));
+ct_table03.remove("bf83");
+ct_table03.put(List.of("c37", "c1e", "f49d", 1039, 298, 0, true, true, false, "b73", "a752", 25, 0, false, true));
+ct_table03.remove("a98e");
+ct_table03.put(List.of("e67", "b9e", "f2d6", 5459, 0, 0, true, true, false, "f28d", "c2d6", 0, 0, false, false));
+ct_table03.remove("cf5");
+ct_table03.put(List.of("d3b", "fa8f", "db4", 226029, 144, 5, false, false, true, "d653", "e3a", 11, 0, false, true));
+ct_table03.put(List.of("c278", "d55f", "c2c0", 44189, 44, 0, true, false, false, "c52e", "ad56", 6061, 0, false, true));
+ct_table03.get("e90");
+ct_table03.put(List.of("cc20", "b41ff", "af1a", 472, 21, 7821, true, true, true, "c98c", "b1576", 3661, 0, false, false));
+ct_table03.remove("b0c");
+ct_table03.get("f9ba");
+ct_table03.put(List.of("c6e", "e96", "f3f", 7103, 7820, 0, true, true, true, "d64", "f4e", 58, 23995, true, false));
+ct_table03.put(List.of("c7a", "b22", "e4e", 13221, 0, 3009, false, false, true, "ffc", "b18", 7, 2, false, true));
+ct_table03.get("e79");
+ct_table03.put(List.of("d7b4", "ab5a", "f0f3", 633, 342, 17805, false, true, true, "dcfa", "b241", 106990, 1593, true, false));
+ct_table03.remove("b9dc");
+ct_table03.remove("cbd");
+ct_table03.remove("e10");
+ct_table03.get("d927");
+ct_table03.put(List.of("b4b35", "a10", "a047", 74, 0, 0, true, false, false, "b050", "d954", 0, 21, true, true));
+ct_table03.put(Arrays.asList("b04", "ae81", "b1a7", 1038, 14, 0, true, true, true, "b75", null, 5, 0, false, false));
+ct_table03.put(List.of("ed78", "cc77", "d81e", 0, 0, 18, false, true, false, "e623", "e983", 27437, 0, false, false));
+ct_table03.put(List.of("bff5", "ec8", "f131", 0, 0, 1440, false, false, false, "d959", "d5f5", 409, 15037, false, false));
+ct_table03.put(Arrays.asList("a338", "ea9e", "cb4ae", 0, 0, 0, true, true, false, "dd14", "b559", 1671, null, true, false));
+ct_table03.get("ca1d");
+ct_table03.put(List.of("a7276", "e9e", "ca4", 65, 0, 4, true, true, true, "cab", "f1c6", 0, 0, true, false));
+ct_table03.put(List.of("b83f", "da5e", "d708", 199, 51589, 38, true, false, true, "e412", "ff3", 485, 0, false, true));
+ct_table03.put(Arrays.asList("b1b2", "c071", "a623", 0, 0, 0, false, true, null, "d985", "b9f8", 1772, 0, false, false));
+ct_table03.put(List.of("a02c", "b0e3", "c6ba", 8, 548, 21384, true, false, false, "a8dd", "f45", 259, 0, true, true));
+ct_table03.put(List.of("b3df", "d2c0", "a2ca", 0, 7, 854, true, false, false, "bfcc", "e2a6", 0, 0, true, false));
+ct_table03.put(List.of("a234", "b949", "d567", 0, 16190, 47, false, false, false, "a89d", "d6f", 0, 0, true, false));
+ct_table03.put(Arrays.asList("e295", null, "ef6", 0, 107344, 3, true, false, false, "ce9", "c43", 781, 9, false, false));
+ct_table03.put(List.of("c036", "b675", "a71a1", 6, 13, 39, true, false, false, "e6a5", "a272", 5117, 0, false, true));
+ct_table03.put(Arrays.asList("c5f5", "e12", "d7b7", 5, 0, 1, false, true, null, "f795", "b767", 1, 0, true, true));
+ct_table03.remove("de44");
+ct_table03.put(List.of("bec", "d553", "e915", 0, 2370, 23487, false, false, true, "ef1", "ce5d", 0, 0, false, true));
+ct_table03.put(List.of("f64c", "c1c0", "f421", 0, 0, 0, false, true, true, "c7d", "ac6", 168, 0, true, true));
+ct_table03.put(List.of("a0b3", "c9c", "f596", 0, 257, 1, false, false, true, "ae52", "f08", 59, 680778, false, false));
+ct_table03.put(Arrays.asList("a384", "cd6", "d0b", 4, null, 0, false, true, true, "fbb", "a1e7", 0, 0, true, true));
+ct_table03.put(List.of("d6ff", "e8a8", "f4a", 0, 10892, 0, true, false, true, "b85b0", "db7", 39, 413, false, false));
+ct_table03.remove("a4e");
+ct_table03.get("d85f");
+ct_table03.put(List.of("a0c1", "b9d", "ebd", 2, 0, 0, false, true, false, "f36", "b07c", 12, 0, true, false));
+ct_table03.put(List.of("c4c", "ffc3", "c014", 1145, 0, 0, true, true, false, "a95e", "d39d", 37823, 0, true, false));
+ct_table03.put(Arrays.asList("a487", "aeee", "a190", 1449, null, 71, true, true, true, "da9", "d7b1", 185, 25165, true, true));
+ct_table03.remove("f874");
+ct_table03.put(List.of("c669", "a261", "c0e25", 0, 0, 66734, true, false, true, "d50a", "a7f1", 73, 251, false, false));
+ct_table03.remove("bb0");
+ct_table03.put(List.of("a14", "c081", "b047", 0, 0, 0, true, false, true, "f61", "b0cd", 0, 24, false, false));
+ct_table03.remove("b628");
+ct_table03.remove("f51");
+ct_table03.put(List.of("bd06", "b67c", "d02", 0, 0, 548, false, true, false, "a81", "a50f8", 0, 3601, false, true));
+ct_table03.get("fdef");
+ct_table03.put(List.of("ed86", "a91", "a1a0", 4, 776, 378, true, true, true, "bfa", "bc08", 0, 660, false, false));
+ct_table03.get("a8e8");
+ct_table03.remove("b947");
+ct_table03.put(Arrays.asList("bb27", null, "dcf", 163, 0, 0, false, false, true, "a066", "e0a91", 0, 0, false, true));
+ct_table03.put(List.of("b41", "f0681", "d348", 2329, 0, 63702, true, true, true, "a649", "b006", 0, 0, false, true));
+ct_table03.put(Arrays.asList("a57", "c34", "c2b", 137, 0, 0, true, true, true, "d043", "a26", null, 2237, true, true));
+ct_table03.put(Arrays.asList("a3ab", "b8f", "b3b", 180, 0, null, false, true, false, "d0f5", "ff5", 1709, 7, true, false));
+ct_table03.put(List.of("e3db", "cec", "dbd3", 6, 2, 0, false, false, false, "e9f", "e0e4", 29, 0, false, true));
+ct_table03.remove("b925e");
+ct_table03.remove("d8f");
+ct_table03.put(List.of("daf", "c2a8", "e58", 5676, 693, 0, false, true, false, "c609", "ee09", 64, 596, true, false));
+ct_table03.put(List.of("a4ac", "e756", "ab5", 102807, 8, 273, false, true, true, "e6e7", "e4e6", 0, 7833, true, false));
+ct_table03.put(Arrays.asList(null, "d85d", "dfe1", 0, 1, 0, false, false, true, "a52", "fb25", 4, 32199, true, false));
+ct_table03.put(Arrays.asList("e40", "dbd0", "ebb", 70, null, 0, true, false, true, "b6d6", "e17b", 68, 18, false, false));
+ct_table03.get("a58b");
+ct_table03.put(List.of("e3f", "e2f", "c4bf", 0, 930, 1, true, true, true, "cef5", "d42e", 0, 7, false, true));
+ct_table03.get("b2a37");
+ct_table03.put(List.of("cb7d", "cce", "dd9", 12, 41, 4, true, false, true, "ddb3", "c822", 0, 0, true, true));
+ct_table03.get("dc5a");
+ct_table03.get("aa0a");
+ct_table03.put(List.of("b349", "fba3", "de6c", 0, 0, 90, true, false, false, "bea6", "b9c", 2857, 20, true, false));
+ct_table03.remove("a109");
+ct_table03.put(List.of("a2b8", "b0ad", "cf80", 9, 0, 0, false, false, false, "be42", "fe0", 0, 369, false, true));
+ct_table03.put(List.of("d4e4", "caa", "f9f5", 181, 1, 0, true, true, true, "fc1e", "a607", 0, 155, false, true));
+ct_table03.remove("a71");
+ct_table03.remove("d51a");
+ct_table03.get("a52d");
+ct_table03.put(List.of("c09b", "fef2", "c3d", 1, 0, 0, false, true, true, "c5d", "a590", 0, 0, false, false));
+ct_table03.put(List.of("e073", "f4d", "f1d", 7500, 10754, 7559, false, true, false, "a89", "d6c", 7799, 9, true, false));
+ct_table03.remove("a467");
+ct_table03.put(List.of("c52c", "f02e", "ff4", 7445, 14, 6, false, false, false, "c800", "b2e", 244, 0, false, false));
+ct_table03.put(Arrays.asList("c295", "b1e", "f5a1", 1, 16961, 0, true, true, null, "f8f", "aa2e1", 8, 645, false, false));
+ct_table03.put(List.of("bfdb", "e4e1", "f9cc2", 0, 8726, 124, false, false, false, "e3d", "a9f8", 0, 0, false, true));
+ct_table03.remove("f4f");
+ct_table03.remove("c583");
+ct_table03.remove("ceff");
+ct_table03.put(List.of("d5fa", "e41d", "fbe", 0, 6, 10, false, true, false, "a91f", "a24c", 0, 0, true, false));
+ct_table03.remove("ea3");
+ct_table03.get("f59");
+ct_table03.put(Arrays.asList("f6f", "e79b", "f82d", 0, 0, 2, null, true, false, "a020a", "b08d", 15031, 0, false, false));
+ct_table03.put(List.of("a3e6", "b4ca", "c4dd", 5598, 0, 0, false, false, true, "c582", "eb12", 37, 101, true, true));
+ct_table03.put(List.of("a062", "b761", "e010", 0, 0, 3463, true, true, false, "d923", "c8d3", 3360, 132, true, true));
+ct_table03.put(List.of("d1ad", "dd6e", "f0d", 604, 599, 8, false, false, false, "a598", "fd36", 4, 0, false, false));
+ct_table03.put(List.of("b421", "a03d", "e62", 0, 0, 0, false, true, true, "f7de7", "e30a", 0, 0, true, false));
+ct_table03.remove("b051");
+ct_table03.put(List.of("d06e", "ed580", "de5", 33, 0, 1031, false, true, false, "eef4", "e8b4", 0, 0, false, false));
+ct_table03.put(List.of("bc09", "d86", "e528", 121, 299, 0, false, false, true, "b2b3", "dfc2", 522, 3, true, false));
+ct_table03.put(List.of("c544", "d45", "c861", 8918, 0, 0, false, true, true, "d71", "a117", 14, 6121, false, false));
+ct_table03.get("fd28");
+ct_table03.put(Arrays.asList("c7f8", "d912", "ae57", 1104, 0, 25, true, true, null, "cd0", "e1e4", 56, 0, false, true));
+ct_table03.remove("bee");
+ct_table03.put(List.of("bb5", "bd36", "e808", 0, 18, 1, false, true, false, "ed9b", "c634", 13214, 0, true, false));
+ct_table03.put(List.of("fa5", "c40d", "d835", 4556, 47, 2, true, true, false, "e9a", "d20c", 18, 1754, false, false));
+ct_table03.put(List.of("a241", "fd6", "a0e5", 113, 39702, 2837, false, true, true, "dea", "c857", 208, 0, false, true));
+ct_table03.put(List.of("bbe4", "b13", "dca9", 0, 31, 121, true, false, false, "e4ed", "c736", 5176, 139, false, true));
+ct_table03.remove("b99b");
+ct_table03.put(List.of("b6e", "d1a", "a99", 0, 0, 12, true, false, false, "a28e", "bb1b", 0, 470, false, false));
+ct_table03.put(Arrays.asList("e12c", "af7", "e72e", 5317, 0, 11, false, true, true, "bda0", "b39c", 0, 0, null, false));
+ct_table03.remove("cd4");
+ct_table03.put(List.of("d092", "c61", "a16", 94, 0, 25157, false, false, false, "b7e5", "e8db", 28, 597, false, true));
+ct_table03.put(List.of("c227", "e5a", "ce84", 0, 695, 0, false, false, true, "b7e4", "a604", 0, 219, false, false));
+ct_table03.put(List.of("f5a", "c416", "cc53", 0, 39, 10, true, true, true, "deb", "d1d5", 3, 3744, true, false));
+ct_table03.put(List.of("ab2", "f51b", "f83d", 63, 0, 0, false, true, true, "cafb", "efb7", 655, 0, false, true));
+ct_table03.put(List.of("e9d", "a710", "a80", 0, 0, 143268, false, false, false, "a639", "a884", 0, 1937, true, true));
+ct_table03.get("d825");
+ct_table03.put(List.of("d9d", "d346", "e6dd", 196, 170474, 596, true, true, false, "a1bc", "a844", 0, 416, false, true));
+ct_table03.put(Arrays.asList("d609", null, "c6a", 0, 0, 0, false, false, true, "b45c", "ed5e", 1011, 1777, true, true));
+ct_table03.put(List.of("b809", "ca90", "ab46", 0, 8841, 0, false, false, true, "e989", "c304", 606, 6, false, true));
+ct_table03.remove("f597");
+ct_table03.put(List.of("f998", "edf2", "ac4", 7467, 7571, 0, false, true, true, "e515", "f1ba", 36995, 4244, false, true));
+ct_table03.get("d8fb");
+ct_table03.get("c132");
+ct_table03.put(List.of("b369", "a09b", "e325", 0, 12232, 0, true, false, false, "a30e", "e8a06", 0, 18267, false, true));
+ct_table03.put(Arrays.asList("ba872", "c362", null, 283, 0, 1271, true, true, true, "a93a", "c368", 0, 0, true, true));
+ct_table03.put(List.of("f1c", "c623", "f38", 4029, 942, 40, true, false, true, "cd9c", "b72", 74, 907, false, true));
+ct_table03.put(List.of("cf1", "b840", "a3b9", 0, 3865, 0, false, true, true, "b5ec", "f99a", 0, 3022, false, false));
+ct_table03.put(List.of("a7d5d", "b4bb", "c224", 0, 1355, 31, true, true, true, "e8ee", "ae7", 0, 0, false, false));
+ct_table03.remove("bec5");
+ct_table03.put(List.of("c08a", "b41f", "d998", 0, 0, 849, false, true, true, "df6", "fff20", 97, 0, true, false));
+ct_table03.get("aeaa");
+ct_table03.put(List.of("a10b", "eb31", "abce", 1, 254051, 0, true, true, false, "deb0", "d72c", 0, 8492, true, false));
+ct_table03.put(List.of("add7", "a734", "a554", 14, 109, 0, false, true, true, "fed", "fb39", 5, 518, false, true));
+ct_table03.put(List.of("ad93", "cf73", "ed55", 0, 27, 0, true, true, true, "e69", "fa96", 19879, 14, true, false));
+ct_table03.put(List.of("e78", "d834", "bffb", 1805, 0, 25632, false, false, false, "ea30", "d19d", 12, 2261, false, true));
+ct_table03.remove("a8a3");
+ct_table03.remove("aac2");
+ct_table03.get("a4c0");
+ct_table03.get("d2df");
+ct_table03.get("aa09");
+ct_table03.put(List.of("ff3f", "d00", "dffa", 376, 0, 19, false, false, true, "b824", "ced07", 47101, 24, false, false));
+ct_table03.put(List.of("a973", "cc13", "ee5", 2, 0, 6894, true, true, false, "b4fa2", "fdec", 16478, 6866, false, false));
+ct_table03.remove("db4b");
+ct_table03.put(List.of("dc7d", "c2a3", "d997", 0, 97, 0, false, true, false, "ec8f", "d965", 0, 0, false, false));
+ct_table03.remove("edb");
+ct_table03.put(List.of("abd5", "f7f1", "fbe7", 617, 11, 86, true, false, true, "bdd8", "a36a", 0, 1, false, false));
+ct_table03.put(List.of("ecba", "b221", "de0d", 22, 0, 0, true, false, false, "ec30", "fb9", 1671, 0, true, true));
+ct_table03.put(Arrays.asList(null, "c30", "c5c4", 8, 11, 4142, false, false, false, "b262", "a1b2", 0, 1, false, true));
+ct_table03.remove("b9f4");
+ct_table03.put(Arrays.asList("b456", null, "c192", 197570, 0, 0, true, false, true, "af82", "db9b", 0, 1, true, false));
+ct_table03.put(List.of("ce52", "cd039", "b517", 0, 6199, 177, false, true, false, "f270", "f5ea", 0, 980, false, true));
+ct_table03.put(List.of("ddf", "f41b", "a023", 198, 0, 21, true, true, false, "bd16", "e49d", 0, 3660, true, false));
+ct_table03.put(Arrays.asList("c0a1", "ffab", "f854", null, 0, 0, true, true, false, "c63f", "c1fc", 0, 0, true, false));
+ct_table03.remove("b25");
+ct_table03.remove("aee0");
+ct_table03.put(List.of("ffc24", "ea0bb", "da04", 0, 0, 0, true, true, false, "ed2", "aeea", 0, 176, true, true));
+ct_table03.get("bbab");
+ct_table03.put(List.of("c67", "f8d7", "cbc", 0, 0, 4, true, false, false, "e67c", "a2c7", 144508, 0, false, true));
+ct_table03.put(List.of("f5ba", "a5a0", "b232", 1, 0, 0, true, false, true, "c43c", "c99d", 183, 466, false, true));
+ct_table03.put(List.of("eafe", "a700", "cdd4", 0, 1, 0, true, true, true, "f01d", "f403", 13106, 191, true, true));
+ct_table03.put(List.of("e1d8", "b29", "ee3f", 1, 12, 2723, true, false, false, "ce10", "c48d", 24, 0, false, true));
+ct_table03.put(List.of("e266", "c95f", "eb25a", 0, 0, 2, true, false, true, "faf", "c565", 0, 0, true, true));
+ct_table03.get("a20");
+ct_table03.put(List.of("e84a", "b6fd", "e249", 476218, 18, 0, false, false, true, "f57", "c5e7", 0, 0, false, false));
+ct_table03.put(List.of("deca", "eeb", "ba02", 0, 0, 0, false, true, false, "fe64", "ee3", 0, 0, true, false));
+ct_table03.remove("a25");
+ct_table03.put(List.of("eb0c3", "aac", "fa0", 0, 144, 487, false, false, true, "a7aa", "c0f3", 100, 0, false, true));
+ct_table03.get("a354");
+ct_table03.put(List.of("a1b9", "ae734", "d3c0", 37685, 194226, 0, false, true, true, "f246", "b8a73", 0, 0, false, true));
+ct_table03.put(List.of("cc06", "b91e8", "f09", 11962, 35, 28, false, true, true, "b9cc", "a611", 24, 49, false, true));
+ct_table03.remove("b01d");
+ct_table03.remove("abf4");
+ct_table03.put(Arrays.asList(null, "bde2", "ef5b", 33, 0, 0, false, false, false, "cf0c", "b9a8", 1, 39035, true, false));
+ct_table03.remove("c44f");
+ct_table03.remove("bbe0");
+ct_table03.get("d7a7");
+ct_table03.remove("f566b");
+ct_table03.put(List.of("b6fc", "d04", "ccbd", 1894, 19, 7164, false, true, false, "f11", "aaa9", 0, 11818, true, true));
+ct_table03.remove("f342");
+ct_table03.get("f00b");
+ct_table03.remove("b8b7");
+ct_table03.put(List.of("b96e", "f376", "b07", 2023, 5, 69, false, true, true, "a48f", "e7345", 5, 0, false, false));
+ct_table03.remove("e819c");
+ct_table03.put(List.of("f71", "e483", "d342", 1, 25039, 593, false, true, true, "aca8", "ca14", 0, 3, false, false));
+ct_table03.get("cdc7");
+ct_table03.put(List.of("e6dc", "c4c9", "b2f", 0, 6, 0, true, false, true, "e4a7", "df4", 0, 25022, true, false));
+ct_table03.put(Arrays.asList("c320", "a22e", "a802", null, 2, 3, true, true, false, "d8c7", "a12e", 12, 0, true, false));
+ct_table03.get("b17e");
+ct_table03.get("bc8");
+ct_table03.put(List.of("fcdd", "a63", "ca6", 0, 0, 1, true, true, true, "d0fe", "ebee", 1741, 37, true, true));
+ct_table03.remove("bc44");
+ct_table03.remove("c45b");
+ct_table03.put(List.of("f653", "cc63", "e0a5", 300, 6, 0, false, false, true, "d9bb", "d31", 0, 0, true, true));
+ct_table03.put(Arrays.asList("a796", "c2e1", "dbb", 78, 38, 61, true, false, false, "a93", "b889", null, 0, false, true));
+ct_table03.put(List.of("dc6d", "ebed", "cb7", 0, 8628, 0, false, true, true, "f363", "f04c", 0, 0, true, true));
+ct_table03.remove("d42c");
+ct_table03.put(List.of("ca9", "bd4f", "b16d", 7, 0, 40298, true, false, false, "ad125", "bf73", 6597, 0, false, false));
+ct_table03.put(Arrays.asList("ae28", "dd7f", "af9f", 91928, 0, 4497, false, false, false, "dc49", "cb1e", null, 0, true, false));
+ct_table03.put(List.of("a997", "ad06", "d5af", 2412, 53, 0, true, false, false, "ac9e", "de52", 30461, 1, true, false));
+ct_table03.put(List.of("a47c", "d00f", "a5a4", 1957, 293, 0, true, true, false, "b206", "d952", 0, 246, true, true));
+ct_table03.put(List.of("e66f", "eab", "fe663", 8282, 0, 0, false, true, true, "f3e5", "a1dc", 0, 2454, false, true));
+ct_table03.get("bea");
+ct_table03.put(List.of("d501", "ca7b", "abad5", 11, 18018, 304, false, true, false, "e45", "b2cad", 2655, 7710, false, true));
+ct_table03.remove("dda5");
+ct_table03.put(List.of("efbf", "c10c", "cbf", 0, 542, 1, true, false, false, "d2d6", "d1f", 0, 0, false, true));
+ct_table03.put(List.of("b898", "cb9d", "ff0b", 15, 0, 424, false, false, true, "a1ae", "b3ce", 0, 49, true, true));
+ct_table03.put(List.of("fb2", "f6b9", "eeec", 13, 0, 0, false, true, false, "edc1", "dcc", 4999, 10, false, true));
+ct_table03.put(List.of("bc1e", "b8eb", "af58", 186, 61, 3424, true, true, true, "e4f9d", "ff0e", 0, 3, true, false));
+ct_table03.put(Arrays.asList("ed49", "c2b9", null, 0, 23984, 101, true, true, true, "b1cd", "b356", 5, 4, false, false));
+ct_table03.put(Arrays.asList("ad91", "b303", "a92e", 0, 0, null, true, false, false, "bf5", "d4d7", 0, 11, false, true));
+ct_table03.put(List.of("d3e6", "db0", "b5b3", 0, 185, 346, true, true, false, "dd33", "da70", 0, 0, true, false));
+ct_table03.put(List.of("a176", "f67e", "fcc", 212034, 297, 0, true, false, true, "a39c", "cd24", 0, 6, true, true));
+ct_table03.put(List.of("d350", "acc5", "eb6b", 0, 304, 0, true, true, false, "f4b", "a50e", 0, 0, true, true));
+ct_table03.put(List.of("fc83", "ad00", "aa74", 0, 484, 3686, true, true, false, "d438", "c95d", 0, 185, false, true));
+ct_table03.remove("b253");
+ct_table03.get("a84b");
+ct_table03.remove("d71e");
+ct_table03.put(Arrays.asList("c4a5", "a291", "b5ea", 9771, 0, 9, false, false, false, "a5e4", "f91c", 0, 45, false, null));
+ct_table03.put(Arrays.asList(null, "f9fd", "ea9", 0, 0, 0, true, true, true, "c9a6", "b35c", 89150, 0, false, false));
+ct_table03.remove("d1ef");
+ct_table03.put(List.of("fe1c2", "c377", "f2e9", 6714, 1344, 57, false, false, false, "ae0", "df2e5", 45726, 0, true, false));
+ct_table03.remove("ae06");
+ct_table03.put(List.of("db34", "a83d", "f833", 15478, 0, 20, false, true, false, "b96", "b3ba", 7, 0, false, true));
+ct_table03.put(List.of("ea26", "bf27", "ff96", 0, 8, 0, true, false, true, "cf8", "c76f", 28465, 0, true, true));
+ct_table03.remove("b2ca");
+ct_table03.put(Arrays.asList("f27", "aa61", "c30a", 23, 0, 0, false, true, true, "a7a51", "e503", 0, 148, null, true));
+ct_table03.get("ff05d");
+ct_table03.put(List.of("e16a", "a27f", "c821", 0, 252, 63, false, true, false, "c9b0", "b9cd", 0, 90, false, true));
+ct_table03.put(List.of("d1b1", "bdf7", "a7a", 0, 85, 35, false, true, true, "ca42", "ae0b", 90, 0, true, false));
+ct_table03.get("ba27");
+ct_table03.put(List.of("aef7", "ade4", "defc", 44, 236, 0, true, false, false, "b32", "b9299", 9, 0, false, false));
+ct_table03.put(List.of("cbdc", "f27d", "b066", 198, 3060, 25953, true, false, true, "ad1", "beb", 490, 117, true, false));
+ct_table03.put(List.of("eb98", "a9f4", "e395", 729, 12, 135, false, false, true, "dbf4", "f6ad", 34, 0, true, false));
+ct_table03.put(List.of("fc99", "be5", "aa9b", 3, 0, 23, true, true, false, "e380", "b597", 0, 0, true, false));
+ct_table03.put(List.of("a64", "e529", "cdb", 300, 265, 2, false, false, false, "c9dc", "ca16", 0, 588, true, false));
+ct_table03.put(List.of("f4c6", "de71", "c8d8", 9, 1834, 8, false, true, false, "e2fd1", "d80b", 0, 0, false, true));
+ct_table03.put(List.of("aa96", "eb64", "fff7", 6421, 0, 437, true, false, false, "a7c1", "fca", 11, 0, false, true));
+ct_table03.put(List.of("b3c97", "f5c4", "a1af", 86, 7, 653, false, true, false, "a9f61", "a7d5", 0, 379, false, false));
+ct_table03.remove("e32");
+ct_table03.put(List.of("c3a9b", "da24", "ee1b", 199, 0, 0, false, true, false, "cb4d", "dca", 4, 1, false, false));
+ct_table03.put(List.of("d256", "b6a9", "b7b6", 46, 1, 0, true, true, true, "a954", "be04", 0, 0, true, true));
+ct_table03.put(List.of("a0a9", "b80c", "f37c", 0, 154, 1, true, false, true, "b74", "be9d", 12, 0, false, false));
+ct_table03.put(List.of("bfb9", "e726", "a56d", 0, 414, 7, false, false, false, "e49b", "b7f3", 0, 0, false, false));
+ct_table03.put(List.of("c764", "ac11", "d099", 0, 0, 1193, true, true, true, "c1df", "f7e", 0, 26139, false, true));
+ct_table03.put(List.of("ff84", "e388", "ad7", 0, 868, 0, true, false, true, "e4b1", "a850", 177, 815, true, false));
+ct_table03.remove("cd9a");
+ct_table03.put(Arrays.asList("a191", "e2847", "d14", 0, 0, 176, true, null, false, "bd34", "d8b1", 306, 498, false, true));
+ct_table03.put(List.of("d680", "b166", "d4dc", 15, 1810, 188, true, true, true, "ec9", "c574", 6, 24, false, false));
+ct_table03.put(List.of("b8e7", "e35", "a5dc", 0, 8, 2527, false, true, true, "eb63", "d2b", 11874, 33, true, true));
+ct_table03.put(List.of("aa73", "fd17", "fe9d", 31, 0, 0, true, false, false, "f0ba", "d5e7", 0, 0, true, false));
+ct_table03.put(List.of("fec3", "d87a", "e6af", 0, 0, 0, true, false, true, "c6ee", "d086", 93, 5131, false, true));
+ct_table03.put(List.of("ca07", "dce7", "b08e0", 5018, 35313, 0, true, false, false, "dd65", "f100", 496, 0, true, false));
+ct_table03.put(List.of("a048", "b5ff", "e5d8", 316, 1574, 0, false, false, true, "db80", "e76d", 5, 1178, true, true));
+ct_table03.put(List.of("d6fe", "dc397", "e399", 0, 64, 0, false, true, true, "c8ce", "b333", 16, 0, false, false));
+ct_table03.put(List.of("a2d4", "c8f", "bd0c", 0, 0, 0, false, true, true, "cf05", "dc2e", 0, 12421, false, true));
+ct_table03.put(Arrays.asList("d762", "e452", "ad5f", 141, 18022, 33, true, true, false, "bc1c", "a8c6", null, 15, false, false));
+ct_table03.put(List.of("dd5b", "a8a8", "af1", 0, 0, 0, false, true, true, "b9a4", "cb69", 0, 0, true, true));
+ct_table03.remove("a9bd");
+ct_table03.put(List.of("e62f", "add1", "e211", 34, 0, 372, false, true, true, "a2ea", "ab4", 3289, 0, true, false));
+ct_table03.put(List.of("b09e", "a4b2", "ff68", 4692, 0, 0, true, true, false, "e3c", "d53e", 0, 0, true, false));
+ct_table03.remove("b74d");
+ct_table03.put(List.of("a0b8", "e68f", "aff4", 7, 0, 25026, false, false, true, "ba44", "cbd4", 0, 77763, false, true));
+ct_table03.put(List.of("aa20", "e6e8", "aed3", 97, 6514, 1166, false, true, true, "c92d", "ff93", 7227, 0, true, true));
+ct_table03.put(List.of("aff5", "e2c4", "dad1", 0, 0, 7872, true, false, true, "baff", "ba8e", 150, 28, false, false));
+ct_table03.remove("cf57");
+ct_table03.remove("f0c");
+ct_table03.put(List.of("de4a", "b198b", "d8a4", 0, 258, 125617, false, false, false, "f29", "c7f", 0, 0, false, true));
+ct_table03.put(List.of("cd96", "b035", "ae45", 6155, 0, 0, true, false, false, "e65", "d2dd", 8, 6, true, true));
+ct_table03.put(List.of("f302", "e2e9a", "bed1", 0, 1318, 1098, true, true, false, "d161", "a70a7", 0, 0, false, true));
+ct_table03.remove("bd623");
+ct_table03.remove("d9e1");
+ct_table03.put(List.of("f680", "c7da", "b229", 1877, 0, 1, false, false, false, "d026", "f446", 26, 155, false, false));
+ct_table03.remove("a8c9");
+ct_table03.put(List.of("cd75", "f472", "cdae", 597, 0, 43, false, false, true, "cf0", "a4a5", 0, 11, false, true));
+ct_table03.remove("af15");
+ct_table03.remove("ff981");
+ct_table03.put(List.of("b56c8", "aac7", "b5ba", 640, 0, 236, true, false, true, "d0575", "fe1a", 20, 1466, true, true));
+ct_table03.remove("a0f8");
+ct_table03.remove("f6ef");
+ct_table03.put(Arrays.asList(null, "cebd", "e35f", 16298, 0, 463, false, false, false, "e81", "c20", 4137, 75, false, false));
+ct_table03.put(Arrays.asList("bee5", "daffd", "ee51", 122, 0, 10, true, true, true, "b515", null, 2992, 0, false, false));
+ct_table03.put(List.of("e11e", "f3e0", "e88", 24, 0, 0, false, false, false, "e189", "e7c7", 0, 0, true, true));
+ct_table03.put(List.of("cdd7", "e026", "c129", 398, 251, 0, true, true, true, "e302", "e11b", 6, 0, true, false));
+ct_table03.put(List.of("aa28", "fe9", "b471", 125, 158883, 16070, false, false, true, "a871", "b1a", 21494, 6, true, true));
+ct_table03.get("c2a2");
+ct_table03.put(List.of("a0cd", "a99f", "cefe", 10268, 0, 83, false, true, true, "e784", "adef", 0, 0, true, true));
+ct_table03.put(List.of("c51f", "e9e3", "a5d5a", 0, 62, 491, true, false, false, "cddb", "cea1", 248, 0, false, true));
+ct_table03.put(List.of("d38a", "e6d", "c8162", 0, 0, 5, false, false, true, "cc15", "c5cd", 1026, 34295, false, true));
+ct_table03.get("c05");
+ct_table03.remove("e216");
+ct_table03.put(List.of("fd9c", "a4f57", "fd0", 0, 4, 574, true, true, true, "b49a", "ae27", 430, 0, false, true));
+ct_table03.remove("d459");
+ct_table03.get("c46e");
+ct_table03.remove("a6afe");
+ct_table03.put(List.of("e2ff", "e036", "c01", 49, 0, 32120, false, true, false, "c85", "ec72", 70, 0, false, true));
+ct_table03.put(List.of("f88", "e64", "e871", 63, 8493, 327913, false, true, false, "a2cb", "e2cca", 0, 24, false, false));
+ct_table03.remove("fe60");
+ct_table03.remove("a41");
+ct_table03.put(List.of("f816", "e97", "f06c", 0, 135, 0, false, false, true, "ff9a", "f75e", 0, 3, false, true));
+ct_table03.remove("cb61");
+ct_table03.put(List.of("d1aa", "c7d6", "fea2", 0, 0, 0, true, false, true, "a09d", "d3de", 77731, 107, true, false));
+ct_table03.put(List.of("aa24", "b3208", "bcf9", 1466, 0, 468, true, false, true, "a85d", "da4", 0, 0, false, true));
+ct_table03.put(Arrays.asList("d0b9", "e8f4", "b02d", 0, 0, 3, true, false, true, "b83d", "ab6", 0, 0, null, true));
+ct_table03.put(List.of("c7f3", "af99", "f42b", 0, 721, 78303, false, true, false, "d8b7", "cd7f", 115, 0, false, true));
+ct_table03.put(List.of("e54", "ea40", "bb824", 0, 0, 35, true, false, true, "cb85", "c9e1", 0, 19, false, false));
+ct_table03.put(List.of("b0df", "bf40", "e7ce", 19, 0, 0, true, false, false, "ce4b", "adfb", 0, 0, false, false));
+ct_table03.put(Arrays.asList("c39", "df2", "e987", 4, 16, 1074, false, true, false, "b732", "fe2f", 390, 29, null, false));
+ct_table03.put(List.of("b2d", "f8c1", "e4ac", 1, 179, 96, true, true, false, "e19c", "bbf18", 0, 2, false, true));
+ct_table03.get("b378");
+ct_table03.put(List.of("eb17", "ee1f", "cd1eb", 61825, 0, 0, true, true, true, "edac", "c6d6", 40, 0, false, true));
+ct_table03.put(List.of("badf", "bff1", "b05c", 0, 0, 2, false, false, true, "e6f5", "f81dd", 0, 2102, true, true));
+ct_table03.get("b0db");
+ct_table03.put(List.of("a8cbc", "af38", "a98d", 925, 0, 15, true, false, false, "e37a", "e020", 0, 4955, true, true));
+ct_table03.get("d0da");
+ct_table03.put(Arrays.asList("dacb3a", "ab78", "f187", 1, 0, 107, true, null, true, "ff2e", "c9d3", 146, 847, true, true));
+ct_table03.put(List.of("d4e3a", "cef7", "c195", 221, 0, 72196, false, true, true, "c487", "e87d", 269, 26, false, true));
+ct_table03.remove("a3a8");
+ct_table03.put(List.of("d42", "ec4e", "b38a", 1, 0, 0, false, true, false, "cd7b", "a4dd", 0, 5437, false, false));
+ct_table03.put(List.of("c427", "aecf", "f626c", 8994, 0, 0, false, true, false, "d53a", "e616", 207, 3, false, true));
+ct_table03.put(List.of("a61da", "a26f", "ed1", 23215, 13, 0, true, true, true, "e9f9c", "b4d8", 0, 2797, true, true));
+ct_table03.put(List.of("fa59", "ca99", "edd5", 1477, 0, 230035, true, true, true, "dce2", "fbe4", 4434, 188, false, false));
+ct_table03.put(List.of("b6bc", "c34d", "d90c", 77, 126, 3177, true, false, false, "d17a", "feec", 22, 86, true, false));
+ct_table03.put(List.of("a2f1", "a230", "cebe", 4532, 0, 3265, false, false, true, "cbda", "be0f", 0, 345, false, true));
+ct_table03.put(List.of("d9f5", "a6e8", "c0f", 0, 0, 299926, true, false, false, "d659", "c159", 2, 41359, false, false));
+ct_table03.put(List.of("fec", "b80d", "d08", 0, 0, 24358, true, true, false, "e04f", "a1d1", 0, 0, true, false));
+ct_table03.put(List.of("a58d", "cac0", "f1f4", 0, 0, 0, false, true, false, "bb19", "d899", 112, 2, true, false));
+ct_table03.put(List.of("e8c", "c4ef", "a2c3", 0, 2, 627, true, true, false, "a9d5", "cf1db", 366, 3790, true, false));
+ct_table03.put(List.of("b5b7", "d07e", "c6f6", 0, 0, 0, false, true, false, "e9f14", "bd1a", 20535, 195, false, false));
+ct_table03.put(List.of("b7853", "e258", "d1e1", 960, 53, 0, false, true, true, "be83", "d3a3", 380, 0, true, true));
+ct_table03.remove("a100");
+ct_table03.get("f78");
+ct_table03.remove("f785");
+ct_table03.put(List.of("af5c", "be0b2", "f353", 270, 985, 0, false, true, true, "a94e", "e87a5", 0, 0, true, false));
+ct_table03.put(List.of("f408", "feb0", "d991", 24300, 0, 0, true, true, true, "a6531", "e524", 993, 2, true, true));
+ct_table03.remove("b48f");
+ct_table03.put(Arrays.asList("a38a", "c389", null, 26532, 93, 0, false, false, true, "ddeb", "c4e", 0, 0, true, true));
+ct_table03.get("ca3");
+ct_table03.remove("f68");
+ct_table03.put(List.of("f29c", "a9cf", "f577", 18, 94, 16, false, false, true, "c4f4", "f52b", 41, 98, true, true));
+ct_table03.put(List.of("a16b", "bbee", "e04b", 0, 9, 98498, true, true, false, "d1d8", "d15a", 24, 0, false, true));
+ct_table03.put(List.of("c39a", "e164", "d203", 76, 1, 848, false, true, true, "b273", "b765", 0, 116, true, true));
+ct_table03.put(List.of("aa70", "c8e9", "a96a", 5, 1089, 534145, false, false, true, "ab43", "c005", 0, 0, true, false));
+ct_table03.put(List.of("ea80", "ab31", "c188", 0, 15468, 8, false, false, true, "d250", "ad09c", 0, 0, false, false));
+ct_table03.put(List.of("f30d", "b0f9", "cfe51", 0, 0, 34600, false, false, false, "aeb3", "de4f", 42, 9748, false, false));
+ct_table03.put(List.of("dd8", "f6d92", "a44", 289, 0, 3, true, false, true, "e28", "b4ed", 9, 0, false, false));
+ct_table03.put(List.of("fc8", "bbe8", "b5b", 136, 106, 279, false, true, false, "dceb", "e3b0", 0, 0, false, false));
+ct_table03.get("aae1");
+ct_table03.get("d3d2");
+ct_table03.put(List.of("f84a", "d3ee", "a0e08", 27, 0, 237231, false, true, false, "d9462", "aed8", 0, 0, true, false));
+ct_table03.put(Arrays.asList("be1f", "f90", "a3f", 0, 0, 8, false, true, null, "ac95", "a04e", 7, 4602, true, true));
+ct_table03.put(List.of("bae5", "c2bb6", "fa66", 0, 0, 0, false, true, false, "a103", "e144", 484, 1501, false, false));
+ct_table03.get("b0b26");
+ct_table03.put(List.of("ba6b", "c17", "f30d6", 3, 0, 16, true, false, false, "b832", "cee0", 0, 0, true, false));
+ct_table03.put(List.of("f05b9", "d440", "aa17", 0, 113374, 1535, false, false, true, "d6cf", "c556", 0, 177, false, true));
+ct_table03.get("f67");
+ct_table03.put(List.of("fe1", "dc80", "be43", 0, 22703, 0, false, true, false, "e7237", "a1b1", 0, 0, true, false));
+ct_table03.put(List.of("d6bc", "aef", "b44b", 0, 1, 0, true, false, true, "d9b", "fc9b", 262, 49, false, false));
+ct_table03.put(List.of("b36b", "a144", "def1", 0, 43, 1, false, false, false, "b796", "e7e4", 0, 0, true, false));
+ct_table03.put(List.of("b453", "d399", "c4ca", 118, 2, 748, false, true, false, "a402", "b9414", 0, 3, false, true));
+ct_table03.remove("a557");
+ct_table03.put(List.of("f248", "ee4a", "d58", 0, 29, 6679, true, true, true, "f9dc", "cedd", 0, 22, true, false));
+ct_table03.put(List.of("aefe", "acad", "d8cb", 0, 10, 13, true, true, false, "e12f", "b778", 5, 8, false, true));
+ct_table03.put(List.of("d3b1", "f9a5", "a8df", 107, 454, 101, true, false, false, "bef6", "c6095", 248, 0, false, true));
+ct_table03.put(Arrays.asList("b691", "e28d", "ab4d", 108, 0, 0, true, true, true, "a643", "d38e", null, 15489, false, true));
+ct_table03.put(List.of("a3ec", "de56", "e85", 75, 0, 39845, true, false, false, "ec27", "a3b2", 3755, 2, false, false));
+ct_table03.put(List.of("d60b", "bbc4", "b622", 0, 0, 20566, false, true, false, "d599", "a091", 0, 35, false, true));
+ct_table03.put(List.of("a31a", "c1c6", "cdd", 550, 57109, 0, false, true, true, "ef09", "a6be", 8, 0, false, true));
+ct_table03.put(List.of("d381", "b664", "bc9d", 4, 0, 244, false, false, true, "a1f0", "d3ca", 0, 31691, false, true));
+ct_table03.remove("a6b9");
+ct_table03.put(List.of("f87c", "df38", "fbb8", 14531, 0, 9360, true, true, false, "a82", "e2d4", 0, 153, true, true));
+ct_table03.put(List.of("a74e", "e407", "d48d", 0, 0, 80, true, true, false, "e475", "e0dc", 657, 497, true, true));
+ct_table03.put(List.of("dee0", "a69f", "b06e6", 6603, 0, 0, true, true, false, "f6b", "b757", 412, 92721, false, false));
+ct_table03.put(List.of("f99", "a504", "fadf", 0, 0, 2, false, true, false, "e1ef", "d160a", 0, 0, false, false));
+ct_table03.put(List.of("e886", "ea1a", "daca4", 1293, 19550, 253, true, false, false, "b268", "e4f9", 0, 9222, true, false));
+ct_table03.put(List.of("aac8", "ee9aa", "cddc2", 18, 99, 376, false, false, true, "aeaf3", "b604", 3, 0, true, true));
+ct_table03.remove("baaf");
+ct_table03.put(List.of("de90", "cb67", "c8b", 753, 0, 0, false, false, true, "d12", "b32c", 2762, 0, true, false));
+ct_table03.put(List.of("c87b", "fa68", "a777", 22, 1739, 869, true, true, true, "f3580", "f286", 15, 249, true, true));
+ct_table03.put(Arrays.asList("c841", "cf13", "e9c0", 83, 90, null, true, false, false, "e1950", "c235", 55, 0, false, false));
+ct_table03.remove("ac5f");
+ct_table03.put(List.of("adf6", "a7bb", "bf72", 0, 24198, 0, false, false, false, "aeeba", "e5b6", 6617, 0, false, false));
+ct_table03.put(List.of("f64", "cfb3", "a16d", 0, 1023473, 0, true, false, false, "a009", "c6aa", 0, 0, false, true));
+ct_table03.put(List.of("ae934", "aa19", "afbd", 0, 7, 0, true, true, false, "a073", "b98b", 0, 15, true, false));
+ct_table03.remove("bc4c");
+ct_table03.put(List.of("dfede", "c8d1", "e620", 0, 2, 0, false, false, true, "b940", "ff6d", 0, 0, true, true));
+ct_table03.put(Arrays.asList("f33e", "b79d", "f49", null, 43780, 2773, false, true, true, "ef4", "bb17", 0, 0, true, false));
+ct_table03.get("be31");
+ct_table03.put(List.of("d807", "b470", "a5e9", 194, 0, 592, false, true, false, "c3be", "a377", 9737, 395, false, false));
+ct_table03.put(List.of("af32", "ba43", "af0f", 0, 0, 0, false, true, false, "ca9b", "b9f5", 2, 0, false, false));
+ct_table03.put(List.of("bc3a", "b563", "d693", 2543, 5, 0, true, true, false, "be64", "e207", 511, 5930, true, true));
+ct_table03.put(List.of("bd85", "df87", "c96f", 32, 93, 868, true, true, true, "f972", "afe5", 3, 1, false, true));
+ct_table03.put(List.of("a65e", "b9ad", "dfa9", 0, 0, 0, false, true, true, "a3de", "af8e", 0, 431, false, false));
+ct_table03.put(List.of("c9ef", "a6213", "ce33", 10, 411, 15, false, true, true, "aa39", "decb1", 0, 4347, false, true));
+ct_table03.put(List.of("b41d", "da82a", "c6cc", 0, 108, 0, false, true, true, "d074", "c9d5d", 87, 2340, false, true));
+ct_table03.put(List.of("aba", "fc4", "cdf2", 0, 0, 0, false, false, true, "acc", "ade2", 3, 3, true, false));
+ct_table03.put(List.of("eb59", "dc5", "b10d", 0, 622, 790, false, false, false, "ba85", "e13d", 127621, 0, true, false));
+ct_table03.put(List.of("ba49", "fa3", "c251", 18, 0, 0, true, false, true, "d260", "a490", 3937, 0, false, false));
+ct_table03.remove("dc4d");
+ct_table03.put(List.of("afbf", "cfd9", "c035", 4, 25, 310, false, false, true, "cae1", "d1e4", 0, 0, false, true));
+ct_table03.remove("c7c7");
+ct_table03.put(List.of("ab80", "d482", "effe", 0, 279, 0, false, false, false, "acba", "a7a2", 0, 36, true, false));
+ct_table03.put(List.of("da25", "ac74a", "d0f2", 0, 0, 22044, true, true, false, "edef", "ded3", 7, 0, false, false));
+ct_table03.put(Arrays.asList("aaac", "b9da", "baab", 0, 212457, 0, null, true, false, "c7fb", "eaf4", 1193, 15065, false, false));
+ct_table03.remove("e594");
+ct_table03.remove("b709");
+ct_table03.put(List.of("f018", "fd18", "e478", 0, 0, 0, false, false, true, "c213", "bf75", 1099, 218, false, false));
+ct_table03.put(List.of("a85b", "e934", "ff12", 349124, 52, 18, false, true, false, "b2fe", "a629", 13, 0, false, true));
+ct_table03.remove("ea8");
+ct_table03.put(List.of("aa4", "a83", "ddd5", 2380, 60, 0, true, false, false, "dad7", "cc90", 2, 0, true, true));
+ct_table03.put(List.of("d7b3", "ee79", "df8a", 0, 2392, 3, true, true, false, "d020", "f133", 0, 141823, false, true));
+ct_table03.remove("f4e7");
+ct_table03.put(List.of("b373", "ea5d", "eff9", 74, 0, 0, true, false, true, "e651", "a9df", 0, 0, true, false));
+ct_table03.put(List.of("df16d", "a4fa", "d1d13", 136, 0, 0, false, true, true, "cbbc", "e5ab", 0, 6, true, true));
+ct_table03.put(List.of("fa39", "d9ed", "ca5", 0, 3312, 96, false, true, true, "af6fb", "ad4d", 44, 13, true, true));
+ct_table03.put(List.of("fb68", "fd92", "ac61", 147, 0, 732, true, false, true, "d51b", "fa2f", 3908, 1, false, false));
+ct_table03.put(List.of("abbe", "a7e7", "b1b4", 0, 1, 0, true, false, true, "ce59", "feef", 0, 0, true, false));
+ct_table03.put(List.of("b879", "c395", "ba6", 7, 467, 164, false, false, false, "f5e", "da75", 0, 5152, false, true));
+ct_table03.put(List.of("c05f", "f7c2", "b5f5", 0, 0, 856, true, false, false, "d7f", "a042", 1521, 168, false, true));
+ct_table03.remove("c51e");
+ct_table03.put(List.of("bf39", "ecb", "b50e", 0, 0, 21360, false, true, false, "a331", "e185", 0, 0, false, true));
+ct_table03.get("c6528");
+ct_table03.get("b2f1");
+ct_table03.get("e31e");
+ct_table03.remove("a97");
+ct_table03.remove("a720");
+ct_table03.put(List.of("bcd0", "ebbc", "da53", 0, 0, 0, false, false, false, "f42d", "c26e", 100, 0, false, false));
+ct_table03.get("feda");
+ct_table03.put(List.of("b337a", "a804", "e11f", 0, 0, 0, true, true, true, "a0fa", "d218", 0, 0, true, false));
+ct_table03.remove("b7c2");
+ct_table03.remove("a36f");
+ct_table03.put(List.of("cb0d", "b50fb", "c62", 433, 2379, 0, true, true, false, "b36a", "c6b8", 0, 0, false, false));
+ct_table03.put(List.of("e1cc", "c5dc", "a7fe", 31, 0, 0, false, true, true, "d610", "c6c3", 2841, 613, true, true));
+ct_table03.put(List.of("d6b6", "c766", "d4a1", 0, 0, 43, false, true, true, "e5f3", "c44", 5662, 10295, false, false));
+ct_table03.get("b6a7");
+ct_table03.get("d3f7");
+ct_table03.put(List.of("b295", "d591", "c04", 0, 15336, 9, true, false, false, "ffce", "ba09", 26685, 8490, true, true));
+ct_table03.put(List.of("fe96", "a7ca", "aa9f", 0, 0, 4523, true, true, true, "b38d", "b690", 0, 5, false, false));
+ct_table03.put(List.of("c83f", "ebe1", "e52b", 0, 1, 142881, false, false, false, "cfd3", "cee7c", 7, 2, true, true));
+ct_table03.get("d85b");
+ct_table03.put(List.of("c205", "cae3", "e97d", 43673, 0, 0, true, false, false, "b239", "cf92", 0, 4, false, true));
+ct_table03.put(Arrays.asList("d695", "b056", "dcf3", 7005, 126, 81, true, true, null, "fa5b", "ed2a", 0, 67, true, true));
+ct_table03.get("b015");
+ct_table03.put(List.of("d778a", "c15", "c5fd", 245, 940, 3096, true, true, true, "e593", "e7a8", 0, 308, true, true));
+ct_table03.put(Arrays.asList("d768", "afdd", "b9d0", 50328, 1045, 44, true, true, false, "acd8", "b9ff", null, 183029, true, true));
+ct_table03.put(List.of("d5f", "efa3c", "a6974", 2530, 0, 106, false, true, false, "f417", "bd84", 0, 2830, false, true));
+ct_table03.put(List.of("c5f7", "b993", "a20a", 0, 0, 0, false, false, false, "dac", "a8b3", 0, 8237, true, false));
+ct_table03.put(List.of("fc8b", "b33ad", "a4ca", 0, 17, 30, false, false, false, "d251", "b129", 0, 0, true, true));
+ct_table03.put(List.of("ed83", "be62", "a501", 0, 78952, 38879, false, false, false, "a351", "abfc", 1, 0, true, false));
+ct_table03.put(List.of("dd3b", "a749b", "e7d", 1193, 0, 1665, true, false, false, "ff22", "fa88", 0, 0, false, false));
+ct_table03.put(List.of("ba16", "ed53", "a124f", 0, 3, 27, true, false, true, "f279", "dc9f", 0, 0, false, false));
+ct_table03.put(List.of("d902", "ba0f", "b0b7", 0, 5, 133, true, false, true, "b9bc", "c7cf", 874, 0, false, false));
+ct_table03.put(List.of("d5e", "f3e1", "bd15", 0, 51, 0, false, true, false, "e80d", "b75d", 3438, 81, true, true));
+ct_table03.put(List.of("b018", "cfaa", "e60", 6973, 0, 268, true, false, true, "bf86", "d356", 0, 0, false, true));
+ct_table03.remove("a4eb");
+ct_table03.put(List.of("d71c", "fca3", "c2ec", 0, 21, 0, true, false, false, "c999", "aaf1", 0, 50, true, false));
+ct_table03.put(List.of("c578", "a45e8", "c755b", 10415, 1381, 0, true, false, true, "cf09", "a516", 0, 0, true, false));
+ct_table03.put(List.of("a2c5", "c443", "a7c6", 0, 0, 0, false, false, false, "a712", "d387", 12, 0, true, false));
+ct_table03.put(Arrays.asList("cd49", "aa90", "c50", 2826, 0, 0, false, false, true, "f516", "cd3f", 17699, 0, null, true));
+ct_table03.put(List.of("aa30", "bb61", "a9073", 3, 0, 0, true, false, false, "d52", "a515", 0, 2076, false, true));
+ct_table03.remove("bf7a");
+ct_table03.remove("bf43a");
+ct_table03.put(List.of("e3e8", "d2e52", "b352", 276, 367357, 356, true, false, false, "ee5d", "b30e", 0, 718, false, false));
+ct_table03.remove("eb58");
+ct_table03.put(List.of("c2db", "e6e", "beec", 0, 1398, 10752, true, true, true, "bfaa", "a11b", 3, 188072, true, true));
+ct_table03.put(List.of("e51c", "bf8c", "ad19", 67, 84, 0, false, true, true, "b0ada", "c7f2", 0, 93351, true, true));
+ct_table03.put(List.of("cac9", "bb5a", "a48e", 3, 0, 0, false, false, true, "c311", "e7cb", 38, 16, true, true));
+ct_table03.put(List.of("e130", "a432", "fc30", 1, 0, 0, true, true, true, "c98b", "fa6b", 0, 0, true, false));
+ct_table03.put(List.of("eb88", "edba", "c1cf", 11, 0, 1916, true, false, false, "d697", "c4a4", 2, 0, false, false));
+ct_table03.put(List.of("dd52", "e272", "f93", 44, 8654, 21492, true, true, false, "f777a", "bf37", 0, 1, true, true));
+ct_table03.put(List.of("c367", "fe86", "c12f", 12, 0, 77013, true, true, true, "ad69", "d2c", 0, 0, false, true));
+ct_table03.put(List.of("b7d9", "e3f0", "f803", 4, 1468, 0, true, true, true, "e215", "b18b", 50, 13, false, true));
+ct_table03.get("a2de2");
+ct_table03.get("f2d4");
+ct_table03.put(Arrays.asList("c919", "afc6", "ffdb", 0, 0, 41905, null, true, true, "f043", "f007", 3, 2856, false, false));
+ct_table03.remove("a5d4");
+ct_table03.put(List.of("db2a", "bfe2", "a27c", 0, 14, 0, false, true, true, "e146", "ccd2", 0, 3, false, false));
+ct_table03.put(List.of("ab2bf", "aeea1", "e859", 694, 0, 47944, true, true, true, "db5f", "e19", 0, 0, false, true));
+ct_table03.put(List.of("aa14", "da4a", "ad2e", 0, 0, 101, true, false, false, "b15c", "ae8f", 0, 457, false, true));
+ct_table03.put(List.of("de2a8", "ef2", "c366", 155, 0, 96, false, false, false, "b59b", "ce98", 21524, 0, false, true));
+ct_table03.put(List.of("bbb1", "f56", "bc20", 0, 3, 2, true, true, false, "d77b", "d7a9", 705, 0, true, false));
+ct_table03.put(List.of("c357", "c08b", "cdbd", 0, 0, 0, true, false, true, "a2b2", "d7c9", 0, 18, false, false));
+ct_table03.remove("c3eea");
+ct_table03.put(List.of("ba13", "ea5b5", "df07", 0, 0, 9407, true, false, true, "b7c4", "d32", 0, 10020, false, true));
+ct_table03.put(List.of("a582", "cc9", "c605", 0, 0, 0, true, true, false, "bf14", "f8dc", 0, 0, false, true));
+ct_table03.remove("b010");
+ct_table03.remove("a858");
+ct_table03.remove("b830");
+ct_table03.put(List.of("c2aa", "c933", "ec0e", 0, 1, 9, true, true, false, "a81d", "afd7", 0, 0, true, true));
+ct_table03.put(List.of("cc78", "a758", "e69f", 0, 23169, 14382, true, false, false, "f3ca4", "dbb0", 0, 0, true, true));
+ct_table03.put(List.of("a450", "d5e1", "cc19", 2, 0, 2287, false, false, false, "b23b", "ac65", 0, 0, true, false));
+ct_table03.put(List.of("c088", "abeb", "dc37", 0, 0, 10861, false, false, true, "e961", "c592", 111, 9016, true, false));
+ct_table03.get("b9fdc");
+ct_table03.put(List.of("f250", "aaa8e", "a258", 11, 0, 0, false, false, true, "a121", "fc04", 70440, 0, true, true));
+ct_table03.put(List.of("dade", "f0f9", "b84f", 0, 0, 79, true, false, true, "cd65", "ee0a", 1110, 1, false, true));
+ct_table03.put(List.of("e3cd", "cdb8", "fa04", 132, 1735, 10861, true, false, false, "e0b", "bafa8", 82, 0, true, true));
+ct_table03.remove("b22e");
+ct_table03.put(List.of("ca28", "b402", "ccfb", 0, 0, 2, true, true, true, "a5c6", "afd8", 520, 0, false, true));
+ct_table03.put(List.of("c2de", "c146", "d5b9", 34533, 6, 0, false, true, false, "c496", "a247b", 24, 7643, false, false));
+ct_table03.put(List.of("b47c6", "d6ca", "fef3", 68, 9, 0, false, true, true, "e76c", "aca1", 0, 10942, false, true));
+ct_table03.put(List.of("e3f5", "d1ae", "b328", 1, 10076, 0, true, false, false, "e335", "e072", 0, 8, false, true));
+ct_table03.put(List.of("cc3a", "a408", "a284", 4, 0, 0, false, true, false, "dd67", "a7a7", 0, 37, false, false));
+ct_table03.put(List.of("d3f9", "c8e7", "a650", 45, 0, 1517, false, true, false, "c881", "c620", 7, 0, false, true));
+ct_table03.remove("c65d");
+ct_table03.put(Arrays.asList("e6cf", "dacb", "b1a0", 459, 6, 0, true, true, true, "e550", "ad6c", 2359, 0, false, null));
+ct_table03.put(List.of("ba5a3", "f1b1a", "df8f2", 42, 0, 1, false, true, false, "f067", "bb63", 3975, 0, false, true));
+ct_table03.put(List.of("cee", "a95d", "b1795", 0, 78, 0, false, true, true, "f8e8", "c177", 109, 0, false, true));
+ct_table03.get("bf1e");
+ct_table03.put(List.of("cc38", "b3256", "f5df", 49, 14, 0, false, true, false, "ff8c", "c601", 0, 2, true, true));
+ct_table03.remove("c3fd");
+ct_table03.put(List.of("c0d", "c04a", "a514", 0, 0, 2, false, false, false, "aba9", "ff94", 102, 0, true, true));
+ct_table03.put(List.of("cff3", "bdb4", "cedf", 1099, 957, 0, false, true, false, "bca7", "c4ce", 20, 1851, true, false));
+ct_table03.remove("a01c");
+ct_table03.remove("bcce");
+ct_table03.put(List.of("a0e4", "dada", "c1d3", 2, 166, 0, true, true, true, "d7d", "a29c", 307, 0, true, false));
+ct_table03.put(List.of("efa", "a915a", "a9f3", 168, 0, 0, false, false, false, "bfd5", "a89e", 297, 0, true, false));
+ct_table03.remove("b502");
+ct_table03.put(List.of("c313", "cf9a4", "e66d", 0, 0, 0, true, true, true, "f25a", "a039", 51, 3, true, true));
+ct_table03.put(List.of("bf8a", "a3d4", "f4f3", 4, 0, 105, true, true, false, "b9aed", "a86", 1, 4054, false, true));
+ct_table03.put(List.of("f7f2", "e79d", "d2ed", 0, 0, 557, true, true, false, "ea1", "d21b3", 159, 0, false, false));
+ct_table03.put(List.of("dfea", "b234", "aa04", 0, 0, 0, true, true, false, "af50", "d7e6", 359, 24, true, true));
+ct_table03.get("a6b42");
+ct_table03.put(Arrays.asList("c253", "ac9b5", "ecd7", 0, 19, 41, null, true, false, "fb4e", "c5a7", 0, 0, true, true));
+ct_table03.put(List.of("f530", "ee89", "b542", 0, 30, 2, true, false, true, "a6f4", "e045", 223, 0, false, false));
+ct_table03.put(List.of("ebe0", "bf46", "ba55", 98660, 1418484, 551, true, false, false, "f207", "f53e", 34, 0, false, true));
+ct_table03.put(List.of("bb2d", "afa8", "b077", 0, 0, 30344, false, false, false, "dda4", "d06b", 10169, 184, true, false));
+ct_table03.put(List.of("f1167", "e1e7", "f06d", 2, 27229, 0, true, true, true, "ea07", "b549", 3, 1, true, true));
+ct_table03.remove("d81b");
+ct_table03.put(List.of("a835", "c814", "be06", 17, 1, 70, false, false, false, "b6b8", "bae4", 578, 0, false, true));
+ct_table03.put(List.of("cdfa", "a669", "f048", 556, 0, 166768, false, true, false, "a03f", "b95a", 423, 0, true, true));
+ct_table03.get("d2f8");
+ct_table03.put(List.of("fde6", "a8ad", "dbfa", 0, 0, 17, false, true, true, "f6b7", "da68", 0, 12, true, false));
+ct_table03.remove("c5ee");
+ct_table03.put(List.of("e1a6", "cb14", "b87b", 0, 0, 524, false, true, true, "a9294", "b1d7", 0, 0, false, false));
+ct_table03.put(List.of("bfa8", "a2ad5", "c8a1", 3014, 0, 144, true, true, true, "aff8", "c5cf", 36408, 28, true, true));
+ct_table03.remove("c442");
+ct_table03.remove("e5e6");
+ct_table03.get("c6c7");
+ct_table03.put(List.of("ccc4", "df1e", "b2fa", 1911, 0, 80840, false, true, true, "a2f7", "d0b3", 11, 0, false, false));
+ct_table03.remove("da65");
+ct_table03.put(List.of("aa13", "aaaf", "fa6f", 2, 0, 0, true, true, true, "b6d7", "e438", 0, 581, true, false));
+ct_table03.put(Arrays.asList("d91c", "c1f89", "ba70", 20057, 935, 305, true, false, false, "d46b", "cbdf", 50, 10, true, null));
+ct_table03.remove("f5a6");
+ct_table03.put(List.of("e63c", "f2a", "d8b4", 4, 0, 21, true, false, true, "c0f9", "fd56", 2, 0, true, false));
+ct_table03.put(List.of("ea5b", "afa2e", "e119", 0, 5420, 0, true, true, false, "c981", "c890", 0, 0, false, true));
+ct_table03.remove("ed29");
+ct_table03.remove("daa6");
+ct_table03.put(Arrays.asList("b589", "c30d", "d023c", 7, 0, 2470, false, true, false, "aa65", "ec17", 5716, null, false, false));
+ct_table03.put(List.of("a30d", "b0e0", "adebd", 0, 211, 191, true, true, false, "c438", "bdc6", 0, 15392, true, false));
+ct_table03.put(Arrays.asList("e30d", "f691", "fd1d", 1757, 0, 38106, false, true, false, "f4c2", "a27a", 0, null, true, true));
+ct_table03.remove("d9cd");
+ct_table03.put(List.of("e02f", "e10b", "d689", 2, 108, 136, false, true, true, "a0e3", "ca36", 1, 0, true, false));
+ct_table03.put(List.of("a07d", "c572", "c027", 448, 15, 2, false, false, true, "ee60", "d11f", 0, 34, true, false));
+ct_table03.put(Arrays.asList("bc90", null, "de2d", 44, 375, 3969, true, true, false, "eabb", "fd39", 150, 0, true, false));
+ct_table03.put(List.of("b3b8", "f020", "a84c", 13, 0, 0, false, false, true, "ca74", "ad02", 1145, 0, false, false));
+ct_table03.remove("cb2c");
+ct_table03.put(List.of("bde4", "b6ca4", "c99b", 95, 0, 218, false, true, false, "ced3", "e758", 180, 3239, true, false));
+ct_table03.remove("efea");
+ct_table03.put(List.of("fd22", "b923", "d86b", 0, 454, 0, false, true, false, "b2bb", "d301", 5375, 0, true, true));
+ct_table03.put(List.of("e8a2", "a7c97", "c1c9", 0, 4, 0, true, true, true, "a44a", "aca29", 0, 97337, true, false));
+ct_table03.put(List.of("e55", "ea13", "abc1", 656, 0, 74, false, true, false, "b454", "da72", 0, 175, true, false));
+ct_table03.put(List.of("ecc", "b9a", "fb84", 110320, 3, 55, true, true, false, "a9b1", "b578", 32641, 164, true, true));
+ct_table03.put(Arrays.asList("ea81", "ba76", "e811", 0, 33, 846876, null, true, false, "e57b", "ff2b", 5, 46, false, false));
+ct_table03.remove("de68");
+ct_table03.get("b548");
+ct_table03.put(List.of("dbc", "bb40", "ddc", 1672, 8, 1, false, true, false, "aab9", "c89e", 1161, 32, true, false));
+ct_table03.put(List.of("c33d", "a9ed", "acb2", 262, 0, 125, true, false, false, "c323", "a73dc", 4352, 2, false, true));
+ct_table03.remove("dd19");
+ct_table03.put(List.of("b88e", "bf8b", "da2d", 16, 13, 10653, true, true, true, "a488", "f106", 1708, 589, false, false));
+ct_table03.put(List.of("a538", "e87", "b988", 0, 2414, 40, false, true, true, "e45a", "f310", 35006, 385, true, true));
+ct_table03.put(List.of("c23b", "e2c5", "b31e", 0, 316545, 0, true, true, true, "f97b", "af07", 0, 0, true, true));
+ct_table03.put(Arrays.asList("c5b", null, "dc9", 51, 48, 6406, true, false, false, "ad5b", "a063", 0, 771, false, false));
+ct_table03.put(List.of("eb9", "c746", "fc0a", 5, 1, 0, false, false, true, "a96dd", "d3bac", 116706, 0, true, true));
+ct_table03.put(List.of("a2e1", "de11c", "d4fa", 65, 0, 6374, false, false, false, "cec9", "c6d", 61746, 0, false, true));
+ct_table03.put(List.of("c9ab", "de3c", "b791", 2929, 0, 527, true, false, true, "cfbb", "d0ef", 13035, 55227, true, false));
+ct_table03.get("a10f");
+ct_table03.put(List.of("b6c0", "b712", "de20", 0, 0, 48753, true, true, true, "beef", "c1de", 2, 46174, false, false));
+ct_table03.put(List.of("d0f9", "a9c0", "f205", 58949, 0, 3, true, true, true, "a8ee", "dac2", 0, 0, true, false));
+ct_table03.put(List.of("a394", "da8c", "f0f7", 10309, 1774, 0, false, true, true, "f92e", "cf7", 118797, 338, true, true));
+ct_table03.put(List.of("ac71", "a456", "c0ac", 233, 0, 2897, true, true, true, "a5e1", "f335", 2, 0, false, false));
+ct_table03.remove("b430");
+ct_table03.put(List.of("f201", "c77d", "e55b", 0, 841, 88, true, true, false, "fd38", "ee2", 12, 154, false, false));
+ct_table03.remove("bdbd");
+ct_table03.put(List.of("a83b", "c09f", "c0fa", 0, 4388, 356, false, true, true, "abb6", "cee39", 0, 15929, false, false));
+ct_table03.put(Arrays.asList("b8c7", "dd89", "aed2", 0, 0, 192, false, false, null, "acaf", "cae5", 0, 0, false, true));
+ct_table03.get("afb6");
+ct_table03.get("aad7");
+ct_table03.put(List.of("a9ab", "a944", "fa50", 10, 0, 36316, true, false, true, "b81e", "d386", 8290, 0, false, true));
+ct_table03.put(List.of("a2c8", "ad7d", "f468", 0, 701, 152422, true, true, false, "bc473", "c512", 83, 945, true, true));
+ct_table03.put(Arrays.asList("b755", "c682", "d57", 81, 47, 15554, false, false, true, "c1da", "aa72", 88, 367, null, true));
+ct_table03.put(Arrays.asList("ca73", "c3b0", "b179", 67, 2475, 1, false, false, false, "e40e", "c409", 535, 887, null, false));
+ct_table03.put(List.of("d17d", "d4e9", "c9940", 217, 934, 33869, false, false, true, "a24e", "eb9f", 436, 0, true, false));
+ct_table03.put(List.of("c20c", "e2a2", "f5b1", 0, 130, 0, true, true, true, "aaeb", "fed4", 0, 0, false, true));
+ct_table03.put(List.of("af476", "a57a", "a08a", 0, 40, 52, false, false, true, "a45d", "af6a", 29, 7204, true, true));
+ct_table03.remove("c36d");
+ct_table03.remove("c640");
+ct_table03.put(List.of("eb38", "cee6", "e73c", 0, 31, 0, false, false, true, "b457", "eab3", 20, 0, true, false));
+ct_table03.put(Arrays.asList("bbc2", "b20a", "ec18", 2, 0, 0, null, false, true, "da11", "c247c", 148, 0, false, true));
+ct_table03.put(Arrays.asList("e89a", "c6ea", "d27e", 3, 3123, 0, true, false, false, "da4d", null, 11285, 0, true, false));
+ct_table03.put(List.of("d24f", "bbb2d", "f8e9", 23, 0, 1368, false, true, true, "ca65", "d4c", 16, 1, false, true));
+ct_table03.put(List.of("ff38", "dea5", "ce67", 0, 0, 426, false, false, true, "e49", "bffd", 0, 14, false, true));
+ct_table03.remove("b0c6");
+ct_table03.put(Arrays.asList("bb96", "aed5", "ceab", 84065, 6719, 16464, null, false, false, "c3dc", "dcbd", 14, 13248, false, true));
+ct_table03.put(List.of("d5d2", "f407", "d84a", 8138, 0, 1553, true, false, true, "dd2d", "eb81", 1941, 1288, true, true));
+ct_table03.put(List.of("f6c", "ec920", "ab5e", 0, 0, 6, true, false, false, "f932", "f94", 23983, 0, true, true));
+ct_table03.put(List.of("f426", "cf4b", "b4bdd", 16, 22423, 0, true, false, false, "a31c", "fdcd", 868, 2, false, true));
+ct_table03.put(List.of("a48a", "e0e", "f42f8", 9481, 0, 1, false, false, true, "de3d", "bbdf", 0, 21, true, false));
+ct_table03.put(List.of("dc4b", "ebad", "d349", 229, 208, 5239, false, false, true, "cc5b", "cc7d", 0, 5, false, true));
+ct_table03.put(List.of("c98d", "c35a7", "bec2d", 0, 614683, 0, true, true, true, "cf1f", "a8e3", 1, 0, true, true));
+ct_table03.put(List.of("b848", "c1bb", "c051", 0, 89, 4744, false, true, false, "ca9c", "c4f9", 13, 0, false, true));
+ct_table03.put(List.of("e556", "d622", "b117", 0, 0, 0, true, true, false, "a979", "a7e62", 263, 16408, false, true));
+ct_table03.put(List.of("e3306", "b19b", "de98", 0, 0, 4094, true, false, false, "ec67", "b70e", 0, 16, true, true));
+ct_table03.put(List.of("f471", "a868", "df1d", 1718, 0, 937, true, true, false, "cb5f", "e990", 0, 0, true, false));
+ct_table03.put(List.of("eb3f", "bf9b", "aa0f", 8718, 11118, 54, false, false, true, "e162", "d5c4", 0, 26, true, true));
+ct_table03.put(List.of("ef87a", "dfca", "aba1", 17818, 0, 28375, true, false, false, "a33b0", "e656", 0, 0, true, true));
+ct_table03.get("bb6b");
+ct_table03.get("d0a8");
+ct_table03.remove("d2af");
+ct_table03.put(Arrays.asList("c29d", "a149", "c19a", 4460, 6561, 0, true, null, true, "b7a9", "f0df", 0, 324, true, false));
+ct_table03.get("e6fc");
+ct_table03.put(List.of("fdca", "dd80", "b280", 0, 22964, 0, true, true, true, "dea7", "ed19", 483902, 9552, true, false));
+ct_table03.remove("aaa4");
+ct_table03.put(Arrays.asList("a562", "a55a", "c1ce", 37, 3, 0, true, true, false, "fea1", null, 32, 1722, false, true));
+ct_table03.put(List.of("a58b9", "f92b", "d48e", 6, 0, 0, false, false, true, "c93a", "f3dd", 0, 77, true, true));
+ct_table03.put(List.of("c5b4", "aa31", "b52b", 2, 2, 5159, false, true, true, "f2c3", "ad99", 35149, 148, true, true));
+ct_table03.put(Arrays.asList(null, "a248", "caea", 8993, 0, 0, true, true, false, "abc8", "c84", 4, 0, true, false));
+ct_table03.put(List.of("aa3e", "b6de", "bf23", 77, 0, 3, true, false, false, "c538", "b468", 0, 0, true, false));
+ct_table03.get("b918");
+ct_table03.put(List.of("b7e09", "a0bd", "f7ea", 2530, 128, 38, false, false, false, "d5c3", "a5bf", 189, 0, false, false));
+ct_table03.remove("c62f");
+ct_table03.put(List.of("ad24", "e34c", "d3dd", 8770, 0, 0, false, false, true, "f1f9", "d9ac", 4603, 0, false, false));
+ct_table03.get("faf0");
+ct_table03.put(List.of("ef0e", "c60a", "e9d7", 168, 0, 71337, false, false, false, "d3c5", "a901", 16657, 50283, true, true));
+ct_table03.remove("a095");
+ct_table03.put(List.of("fa8", "d273", "e906", 0, 734, 0, false, false, true, "e01e", "d15b", 0, 1, false, true));
+ct_table03.put(List.of("e50c", "ebb9", "bc4b", 2, 0, 2, false, false, true, "bad6", "cd12", 22166, 71, false, true));
+ct_table03.put(List.of("bbc50", "e34", "db08", 0, 560, 6494, true, false, true, "fb99", "d48a", 0, 0, true, false));
+ct_table03.put(List.of("d305", "a1ac", "e1c2", 0, 538, 10478, false, true, false, "ca44", "d9ada", 0, 381, false, false));
+ct_table03.put(List.of("dd83", "d68bc", "b7ae", 0, 169, 6272, true, true, true, "e56e", "af0e", 1095531, 28, false, true));
+ct_table03.put(List.of("d4a6", "a146", "d2bb", 0, 0, 0, false, true, false, "e05c", "cf9", 0, 1580, true, false));
+ct_table03.put(List.of("c22b", "d7228", "ec83", 5388, 85653, 0, false, false, true, "f1072", "f90f", 46, 497910, false, true));
+ct_table03.put(List.of("f5e1", "d77a", "d231", 104, 0, 820, false, true, false, "dbb9", "b14b", 0, 25, false, false));
+ct_table03.remove("d8c8");
+ct_table03.put(List.of("acf5", "caba", "f3b4", 0, 0, 0, false, false, false, "f07b", "a5d2", 7, 9, true, true));
+ct_table03.get("d4d6");
+ct_table03.put(List.of("b009f", "b165", "c1d", 14108, 17, 0, false, true, true, "ae2c", "c8f5", 1, 0, true, false));
+ct_table03.remove("b6a5");
+ct_table03.put(List.of("d796", "b8cad", "b1a5", 0, 5, 4, true, false, false, "f6b8", "d90f", 0, 15, true, false));
+ct_table03.put(List.of("bbe6", "d7a8", "eee1", 0, 4, 0, false, false, true, "e32f", "b685", 1, 0, true, true));
+ct_table03.remove("ee4c");
+ct_table03.put(Arrays.asList("e636", "cdee", "e925", 12, 11366, 149096, true, true, true, "b139", null, 0, 0, true, true));
+ct_table03.put(List.of("f71c", "f8c4", "fdc9", 0, 0, 0, true, true, true, "a978", "d390", 32, 152, true, false));
+ct_table03.put(List.of("e0f2", "a52a3", "b728", 15, 412231, 1, true, false, true, "dd99", "b4db", 0, 0, false, false));
+ct_table03.remove("cbd0");
+ct_table03.put(List.of("dbdc", "dcb0", "be8a", 203, 259, 10, true, true, true, "aca3", "a426", 1911, 4292, true, false));
+ct_table03.put(Arrays.asList("fba1", null, "fb7b", 0, 0, 272, false, false, true, "b56e3", "ec923", 0, 0, false, true));
+ct_table03.put(List.of("c8ec", "c56b", "b6ff", 0, 0, 5, true, false, false, "a784", "c4c6", 6812, 0, false, true));
+ct_table03.put(Arrays.asList("bfc9", "c04d", "ba808", 8, 0, 6, true, false, null, "a3ef", "eefd5", 0, 2, false, true));
+ct_table03.remove("d5032");
+ct_table03.put(Arrays.asList("e597", "b1c8", null, 0, 0, 692, false, false, false, "a48c", "ef10", 0, 0, true, true));
+ct_table03.put(List.of("b490b", "e3b3", "ce85", 477, 42, 1038, false, true, false, "ca6d", "c428", 27, 0, true, true));
+ct_table03.put(List.of("bf4e", "a727", "a968", 0, 0, 0, true, false, true, "eecc", "d6f4", 0, 3335, false, false));
+ct_table03.get("c2d7");
+ct_table03.remove("fa1f");
+ct_table03.put(Arrays.asList("acc7", "dc32", "d123", 112818, 134731, 5, true, true, true, "afba", null, 36545, 68, false, false));
+ct_table03.put(List.of("e382", "e689", "d99e", 9, 3600, 803, false, true, true, "bba8", "f45d", 1, 1, true, true));
+ct_table03.put(List.of("d6ac", "f8dd", "e944", 6, 25, 948, true, false, true, "a4ba2", "a6bd", 17, 2, false, false));
+ct_table03.put(List.of("e4709", "b31c", "b25a", 8954, 0, 45, true, true, true, "d2f1c", "a420", 2, 9, false, true));
+ct_table03.put(List.of("abcb", "d62f", "bf6f", 176, 256, 1368, false, true, true, "eb19", "bd39", 13777, 0, true, true));
+ct_table03.put(List.of("c9a7", "d57d", "d0d2", 1868, 6, 136268, true, true, true, "fa0d", "ddcf", 6488, 2190, true, true));
+ct_table03.put(List.of("c269", "fde2", "a59d", 298, 0, 0, false, false, false, "fd6bf", "af9e", 0, 0, false, true));
+ct_table03.put(List.of("ffe", "d205", "edff", 5, 1303, 0, true, false, false, "b2b9", "b12a", 1285, 9, true, true));
+ct_table03.put(Arrays.asList("cbf9", "bd51", "f4d2", 143, 0, 3, false, false, null, "d5ea", "bdf9", 5, 0, true, true));
+ct_table03.put(List.of("c2567", "c3b3", "b4dc", 260, 13, 0, false, false, true, "eae5", "ba95", 0, 0, true, true));
+ct_table03.put(List.of("aa58", "b031", "bf66", 4, 0, 2127, true, true, false, "e07e", "a52a", 0, 30, true, true));
+ct_table03.put(List.of("d204", "e031", "d779", 222, 3, 0, true, true, false, "e6bc", "c02e8", 4, 5, false, false));
+ct_table03.put(List.of("f8a9", "aca5", "e639", 141428, 0, 1033, true, true, true, "d0cc", "e4dc", 0, 0, true, false));
+ct_table03.get("f900");
+ct_table03.put(List.of("d202", "c4f1", "e1fd7", 0, 3154, 0, false, true, false, "fa80", "db70", 0, 351, false, true));
+ct_table03.put(List.of("c990", "b833", "ae4a", 46, 0, 0, false, true, true, "f22b", "c34a", 0, 0, false, true));
+ct_table03.put(List.of("b077e", "a0756", "ee9c", 0, 59, 0, true, true, true, "c7714", "aef0", 3888, 673, false, true));
+ct_table03.get("b259");
+ct_table03.get("aae2");
+ct_table03.remove("d3be");
+ct_table03.put(List.of("aa57", "ca9e", "eb52", 517424, 0, 0, true, false, true, "ba47", "daa2", 103, 0, true, false));
+ct_table03.remove("d1e8");
+ct_table03.get("d437");
+ct_table03.put(List.of("bdd4", "af88", "bb8c2", 27, 0, 2238, false, false, false, "e36b", "a13d", 345, 0, false, false));
+ct_table03.put(List.of("bd02", "d202d", "b338f", 10961, 0, 642, true, false, true, "c24f", "c082", 0, 0, false, false));
+ct_table03.put(List.of("ed85", "b901", "b9bb", 0, 0, 3, true, true, false, "e604", "c11b", 227, 0, false, false));
+ct_table03.put(List.of("cfa2", "a2f6", "cf11", 34, 0, 7, false, false, false, "e463", "d3eb", 0, 2, false, false));
+ct_table03.remove("aa62");
+ct_table03.put(List.of("bd52", "e7f4", "cc31", 0, 5, 4, false, false, true, "ba26", "b6d2", 0, 10, true, false));
+ct_table03.put(List.of("c2b5", "d86b7", "d56f", 9310, 0, 0, true, false, false, "bdaf", "ea68", 0, 0, true, true));
+ct_table03.put(List.of("d9178", "b5f46", "c889", 0, 0, 2030, false, false, true, "e537", "e494", 0, 0, false, true));
+ct_table03.put(List.of("f1625", "e4b6", "d321", 13, 0, 0, false, false, false, "d274", "b20f", 3997, 126, false, false));
+ct_table03.remove("cabe");
+ct_table03.put(List.of("d0b8", "a440", "caa2", 0, 119, 0, true, false, false, "fe14", "a8f9", 0, 4, false, true));
+ct_table03.put(List.of("de92", "c51d", "d6a8c", 0, 0, 0, true, false, false, "d6ec", "ef2c", 165, 106, false, false));
+ct_table03.put(List.of("e8bb", "b1e8", "d2e2", 4682, 0, 44381, false, false, false, "d87f", "fe3b", 2879, 0, true, false));
+ct_table03.put(List.of("a6da", "ff51", "ab7c", 3229, 17, 6526, true, false, false, "f5b6", "aa4a", 0, 7120, false, true));
+ct_table03.put(List.of("b722", "d80e", "cc95", 0, 0, 0, true, true, true, "bc13", "fe29", 137, 144, false, false));
+ct_table03.remove("de6fa");
+ct_table03.put(Arrays.asList(null, "e10e", "ed15", 0, 314901, 18906, true, false, false, "c1fd2", "ba8c", 0, 0, false, true));
+ct_table03.remove("a93e");
+ct_table03.put(List.of("ed47", "ed5a6", "a3c6", 0, 995, 0, false, false, true, "aa5a", "a785", 0, 0, false, true));
+ct_table03.remove("e935");
+ct_table03.put(List.of("d100", "c4d29", "f535", 0, 1316, 0, false, true, false, "e389", "a7da", 49, 0, true, true));
+ct_table03.put(List.of("a386", "ea50", "c0f8", 149, 323, 0, false, true, false, "eeba", "ee68", 52, 117, true, false));
+ct_table03.put(List.of("f427e", "a51a", "c6ef", 0, 0, 0, true, true, false, "fdd3", "f023", 896, 1, true, true));
+ct_table03.put(List.of("e738b", "b8f9", "ef90", 0, 209, 0, true, false, true, "cca2", "ffe5", 38, 0, false, true));
+ct_table03.get("fe18");
+ct_table03.put(Arrays.asList("e3f2", null, "ada2", null, 1045, 0, false, true, true, "b617", "c2fb", 0, 4, false, true));
+ct_table03.remove("d93d");
+ct_table03.put(List.of("d9d6", "a391", "fbea", 39027, 0, 31589, true, true, true, "bb38", "cb74", 105, 0, false, true));
+ct_table03.get("f6e1");
+ct_table03.put(Arrays.asList("c509", "db20", "ba68", 2, 1019, 2, true, true, true, "faa6", "e806", 0, null, false, true));
+ct_table03.remove("e5d7");
+ct_table03.put(Arrays.asList("ce35", "a49b", "ded5", 1, 0, 0, true, false, true, "c392", "e93d", 0, null, true, false));
+ct_table03.put(Arrays.asList("d71b", "f514", "e3f3", 86, 0, 139, null, true, false, "b7b2", "f48e", 0, 51904, true, false));
+ct_table03.put(List.of("b312", "a469", "e8a1c", 0, 3146, 0, false, false, false, "e84f", "a523", 0, 3, true, true));
+ct_table03.put(List.of("a68f", "a9f5", "ace7", 197, 749155, 8939, false, false, true, "e091", "aee0b", 0, 1, true, true));
+ct_table03.remove("dc59");
+ct_table03.get("f448");
+ct_table03.remove("a365");
+ct_table03.put(List.of("d384", "bce5", "c673", 4556, 136, 9, true, false, true, "ea83", "cf7d", 316, 10, true, false));
+ct_table03.put(Arrays.asList("a39f", "f269", "d007", 147830, 39, 0, false, true, false, "b2cb", null, 0, 878, false, true));
+ct_table03.remove("b4d5");
+ct_table03.put(List.of("dbb2", "b264", "d778", 0, 0, 285, false, false, false, "d20d", "a027", 0, 24100, true, true));
+ct_table03.put(List.of("b0bcd", "d6a5", "b19d", 0, 4409, 0, false, false, true, "eb7a", "b064", 0, 1301, false, true));
+ct_table03.put(List.of("dd8d", "ad37", "f989", 0, 6781, 4, true, false, false, "d058", "e315", 31, 26, false, true));
+ct_table03.put(List.of("b695", "e6b5", "ac8d", 0, 0, 0, true, true, true, "fa9a", "d972", 0, 0, true, false));
+ct_table03.remove("cf5a");
+ct_table03.put(List.of("cee5", "ee5a", "e65e", 0, 0, 1997, false, false, true, "b6a6", "b0f8", 0, 971, true, false));
+ct_table03.put(List.of("a509", "dd88", "e53", 0, 4, 0, false, true, true, "a3d5", "a6b6", 0, 5353, false, false));
+ct_table03.put(List.of("f144", "d396", "c5d3", 14099, 1666, 12, true, true, true, "adb7", "cb53", 30, 0, false, true));
+ct_table03.put(List.of("cef8", "b095", "b4609", 213, 0, 495, true, true, false, "c4ac", "e5a2", 0, 7341, true, false));
+ct_table03.put(Arrays.asList("bc78", null, "b964", 0, 0, 5, false, false, false, "e985", "a6bc", 29201, 2, true, true));
+ct_table03.put(List.of("d3aa", "f3c2", "f570", 20, 0, 408, true, true, true, "a595", "af0d", 0, 112, true, false));
+ct_table03.remove("c340");
+ct_table03.put(List.of("a32d", "d1bc", "e259", 39, 0, 1257, true, false, false, "cf2e", "c0a7", 0, 0, false, false));
+ct_table03.put(List.of("fb11", "e129", "beaa2", 5, 0, 8308, false, true, true, "a1df", "dead", 0, 84, false, false));
+ct_table03.put(List.of("adaf", "c90b", "d22c", 7827, 2239, 0, false, false, false, "fd51", "a1017", 558, 52, false, true));
+ct_table03.remove("f6026");
+ct_table03.put(List.of("a806", "c13e", "f4b0", 0, 0, 511, true, true, true, "b846", "a535", 8208, 0, true, true));
+ct_table03.put(List.of("e610", "f3f0", "c4deb", 3, 0, 5, false, true, false, "ab8a", "a7c5", 33, 4146, false, false));
+ct_table03.put(List.of("ae8c", "a7558", "cc88", 0, 44, 12641, true, false, true, "e4ae", "f3d1", 2, 52, true, true));
+ct_table03.put(List.of("c894", "a313", "dc61", 1113, 937, 6494, true, false, true, "c01b", "cb52", 0, 913, true, false));
+ct_table03.put(List.of("b62d", "ded4", "c0a4", 0, 0, 0, false, false, false, "f4f8", "ec1e", 0, 2, true, true));
+ct_table03.remove("bb75");
+ct_table03.remove("f73d4");
+ct_table03.put(List.of("a349", "ad89", "fffb", 40, 0, 465, false, false, false, "de53", "d35a", 0, 0, true, true));
+ct_table03.remove("f7e5");
+ct_table03.remove("ad0e");
+ct_table03.put(List.of("a8fa", "f4a5", "af92", 50077, 1263, 18, true, true, false, "e0d2", "c32ce", 264, 0, false, false));
+ct_table03.put(List.of("f47e", "fb17", "ad82", 318459, 0, 0, false, true, true, "f369", "e60e", 0, 0, false, false));
+ct_table03.put(List.of("a077", "c80b", "d37f", 94, 282, 0, false, true, false, "a955", "b052", 26, 0, true, true));
+ct_table03.put(List.of("e92b", "a2f5", "d7fe", 2172, 0, 1, false, true, false, "ad3a", "ac16", 423, 1, true, true));
+ct_table03.remove("d173");
+ct_table03.remove("c769");
+ct_table03.put(List.of("ca2b", "cb0e", "b0bd", 7619, 4, 0, false, true, false, "c5fa", "ec12", 779, 0, true, true));
+ct_table03.put(List.of("c896", "d6c8", "b374", 0, 0, 0, false, true, true, "a687", "ad8a", 66, 72, false, false));
+ct_table03.put(List.of("ff06", "ebef", "a7a9", 0, 0, 14, false, false, false, "b3ae", "a36e", 0, 2, true, true));
+ct_table03.put(List.of("a86d", "afe1c", "bcbb", 4, 3332, 0, false, true, false, "b872", "e8edc", 6, 94, true, true));
+ct_table03.put(List.of("e5a6", "b737", "d880", 104, 3363, 0, false, true, false, "b55d", "cd4e", 30, 0, false, false));
+ct_table03.put(List.of("b8dc", "c8c3", "b2fbb", 0, 12, 0, false, false, true, "db12", "a70d", 4, 0, true, false));
+ct_table03.put(Arrays.asList("d278", "feaa", null, 3, 0, 0, true, false, true, "a1834", "d888", 0, 0, false, true));
+ct_table03.put(Arrays.asList(null, "a26c", "e31", 24, 70986, 0, true, false, false, "b27e", "f0a6", 4811, 1, false, false));
+ct_table03.put(Arrays.asList("b9c6", "f256", "baa4", 35276, 0, 1275, null, true, false, "cd01", "f489", 266, 2, true, false));
+ct_table03.put(List.of("c7c4", "f349", "a34b", 547, 1354, 0, false, false, false, "eced", "a678b", 0, 0, false, false));
+ct_table03.get("b969");
+ct_table03.put(List.of("f1df", "ccf1", "e3cb", 447, 48, 10, true, true, false, "b4cc", "bf38", 0, 0, true, false));
+ct_table03.put(List.of("e1e2", "d803", "f8c8", 63, 127, 32, true, true, false, "bfef", "ee5c", 0, 45822, false, true));
+ct_table03.put(List.of("dfd3", "c397", "ab8f", 6326, 0, 7, true, true, true, "a715", "de5c", 2, 0, true, true));
+ct_table03.remove("a9de");
+ct_table03.remove("bfbe");
+ct_table03.put(List.of("c1b3", "bf92", "d845", 14, 17787, 5, true, true, true, "d358", "c71b", 109, 0, true, false));
+ct_table03.put(List.of("c106", "ecfe7", "b2ce", 21, 1, 62, true, false, false, "bc59", "b81a", 0, 16, false, true));
+ct_table03.put(Arrays.asList("a7ad", "c528", "f005", 8, 551, 0, true, true, false, "ae91", "c8e79", 0, 0, null, true));
+ct_table03.put(Arrays.asList("a011", "ad4e", null, 0, 32, 1962, true, false, true, "c5ce", "a959", 587, 0, false, false));
+ct_table03.get("b9c6d");
+ct_table03.put(List.of("cd11", "f59b", "c860", 1555, 14177, 3, true, true, false, "cce7", "cde1", 25599, 0, true, false));
+ct_table03.put(List.of("b78a", "d640", "d6b7", 0, 34, 9, false, false, true, "afad", "ed82", 981014, 3, false, true));
+ct_table03.put(List.of("a8317", "b705", "bfc4", 4469, 0, 0, true, true, true, "e9bd", "aa0e", 6538, 132, false, true));
+ct_table03.put(List.of("b82f4", "be18", "d662", 3, 0, 7, true, true, true, "d058c", "c86a", 130, 0, false, true));
+ct_table03.remove("e13c");
+ct_table03.remove("ef02");
+ct_table03.put(List.of("b451", "a4d8", "b4b2", 0, 0, 6, true, false, false, "fccf9", "c57e", 2658, 727, true, false));
+ct_table03.put(List.of("fc6a", "c40e", "a4d9", 0, 0, 0, true, false, true, "d41b", "f16e", 5726, 611, false, true));
+ct_table03.put(Arrays.asList("bb0de", "a31d", "a983", null, 0, 33, true, false, false, "fe57", "b9fa", 182, 0, true, true));
+ct_table03.put(Arrays.asList("fbc0", "be16", "ccdde", 0, 1923, 1062, true, false, true, "d6db", "a571", 0, 0, false, null));
+ct_table03.put(List.of("df5c", "a367", "b3fa", 0, 0, 110, false, true, false, "d50b3", "f5f8", 9, 45, false, false));
+ct_table03.put(List.of("ec2f", "d7bc", "f936", 4001, 5298, 0, false, true, true, "db74", "c0f6", 186944, 0, false, false));
+ct_table03.put(List.of("f18b", "baa2", "d0e1", 2908, 38, 271, true, false, true, "d228", "cb2", 8444, 589, true, true));
+ct_table03.put(List.of("f836", "f000", "e264", 3, 15282, 0, false, true, true, "a11c", "e113", 7, 260, true, false));
+ct_table03.put(List.of("d091", "b033c", "f125a", 549, 0, 0, false, false, true, "e6db", "fdb8", 0, 31, true, true));
+ct_table03.put(Arrays.asList("e8de", "c2ce", null, 140, 99, 44, true, false, false, "dad6", "c25e0", 1562, 0, true, false));
+ct_table03.put(Arrays.asList("cb76", "f590", null, 1, 62, 1407, true, false, true, "bfdc", "c004", 938593, 3, false, false));
+ct_table03.remove("c71d");
+ct_table03.put(List.of("d031d", "b8ed", "c1f6", 5582, 23, 0, false, true, true, "adee", "edf5", 0, 0, true, true));
+ct_table03.put(List.of("b83e", "fca7", "e895", 102, 0, 80, true, false, true, "b9b0", "c9b3", 61349, 9281, true, false));
+ct_table03.put(List.of("b9a2", "af18", "a594", 4, 43, 0, true, true, true, "a2fe", "e1bd", 0, 1403, true, false));
+ct_table03.put(List.of("c84aa", "babc", "c34e", 2922, 7043, 0, true, true, false, "f087", "d720", 2, 0, false, true));
+ct_table03.remove("b67f");
+ct_table03.put(List.of("e5c0", "deaa", "c053", 20, 0, 4, true, false, true, "b78d", "b1d6", 6305, 8, false, true));
+ct_table03.get("a805");
+ct_table03.remove("c78f");
+ct_table03.remove("c895");
+ct_table03.put(List.of("e06a", "e5bc", "c22c", 0, 509, 0, true, false, true, "ba4e", "b1b3", 194, 11, false, false));
+ct_table03.put(List.of("a72e7", "bb9d", "d2ac", 0, 1, 0, false, false, true, "d7ec", "a8aa", 17, 14, false, true));
+ct_table03.put(List.of("edee", "bafa9", "f1a5", 2, 0, 0, true, true, true, "d8f3", "a64f", 0, 0, true, false));
+ct_table03.put(Arrays.asList(null, "edea7", "d9dd1", 451, 0, 0, true, false, true, "d080", "ea9f", 382, 21, true, false));
+ct_table03.put(Arrays.asList("a3cf", "aa78", "a8e6", 0, 0, 82, true, true, true, "a0ba", "d2e3", 97, null, true, true));
+ct_table03.put(List.of("eeef", "f35d", "da58", 0, 73, 169, false, false, true, "a747", "e70", 0, 52, true, false));
+ct_table03.put(List.of("b2d97", "a764", "eb5f", 1721, 0, 2, false, true, true, "f9c1", "bd53", 2, 0, false, false));
+ct_table03.put(List.of("b2d5", "a484", "ee12", 31969, 0, 0, true, true, true, "a7b2", "cb6a", 0, 2, true, true));
+ct_table03.put(Arrays.asList("b613", "a433", "e6d5", 0, 0, 2871, true, false, null, "b83a", "b4f5", 12, 6, false, true));
+ct_table03.put(List.of("d53", "c57f", "fda2", 84239, 9, 699, true, false, false, "f2a6", "c9f8", 11764, 8, false, false));
+ct_table03.put(List.of("b693", "da7d", "d6869", 6, 0, 9, false, false, true, "b2b0", "af2a", 0, 1, false, false));
+ct_table03.remove("da56");
+ct_table03.remove("fc1c");
+ct_table03.put(List.of("ec9a", "f947", "ab5d", 2470, 157, 309, false, true, false, "bd03", "ff89", 21965, 0, true, false));
+ct_table03.put(List.of("a4d2", "a0f06", "ccee", 0, 756, 0, false, true, false, "c7a0", "bd928", 2975, 0, true, true));
+ct_table03.get("b258");
+ct_table03.put(List.of("f558", "b2c9", "dd2c", 0, 0, 0, false, false, true, "ed35", "a688", 14923, 1014, false, false));
+ct_table03.put(List.of("d6ba", "b895", "db28", 15, 0, 0, true, false, true, "a319", "b6da", 0, 387, true, false));
+ct_table03.remove("e581");
+ct_table03.get("f8ca");
+ct_table03.put(List.of("b20d", "d8e6", "d397", 220, 3, 2233, true, false, false, "ea59", "bbc0", 7, 0, true, false));
+ct_table03.remove("f09e");
+ct_table03.put(Arrays.asList("afe3c", null, "ac05", 0, 31034, 18, false, false, true, "ae84", "f01b", 1168, 0, true, true));
+ct_table03.remove("b2a0d");
+ct_table03.put(List.of("e3bb", "be6a", "d658", 70, 0, 0, false, false, false, "b5f2", "b2fc", 4411, 84, true, false));
+ct_table03.put(List.of("efde", "b870", "fd04", 0, 0, 369, false, false, false, "a25a", "a925", 48, 0, false, false));
+ct_table03.remove("c670");
+ct_table03.remove("d0e6");
+ct_table03.put(List.of("e672", "d75d", "fc3a", 12, 0, 0, true, false, true, "e396", "a200", 174, 0, true, true));
+ct_table03.put(Arrays.asList("c963e", "fc17", null, 2, 5, 1, true, true, false, "d4fc", "b529", 201, 20, false, true));
+ct_table03.put(List.of("f804", "a6f0", "aebf", 189, 57, 41, true, false, false, "cd36", "e107", 0, 11, false, true));
+ct_table03.put(List.of("fc39", "a713", "eb10", 0, 1495, 139, false, true, false, "e2e7", "ac6c", 1552, 0, true, false));
+ct_table03.put(Arrays.asList("b365", "d2ae", "c0cf3", 0, 0, 12, false, null, true, "eb83", "a735", 0, 0, false, true));
+ct_table03.put(List.of("ffd4", "e3a8", "db76", 22, 3878, 15, true, true, false, "c48f", "e30b", 0, 170, true, true));
+ct_table03.get("a99b");
+ct_table03.remove("b9e5");
+ct_table03.put(List.of("b91d", "bf6e", "e85e", 27, 0, 14, false, true, false, "fcd2", "b6fe", 8, 2, true, false));
+ct_table03.put(List.of("ab62", "a665", "b10a", 866, 0, 5, false, false, false, "d70f", "dd91", 0, 0, true, false));
+ct_table03.put(List.of("f467", "a8f6", "ac49", 3, 3, 0, true, false, true, "a1fc", "ac18", 94, 0, true, true));
+ct_table03.put(Arrays.asList("e4b94", "e0a3", "ac04", 215, 2, null, false, true, true, "e288", "c3c6", 1, 0, false, false));
+ct_table03.remove("b1c4");
+ct_table03.get("b434");
+ct_table03.put(Arrays.asList("f7d", "bdc9", "e8b0", 0, 1, 0, false, false, true, "c43f1", "d252", 0, null, true, true));
+ct_table03.get("a44e");
+ct_table03.remove("b308");
+ct_table03.put(List.of("b876", "b9e0", "d085", 0, 0, 93, true, true, true, "cbbe", "e7f0", 410, 0, false, false));
+ct_table03.put(Arrays.asList("e33c", "ca75", "b34c", 0, 0, 0, true, true, null, "bcb4", "d713", 46978, 2721, false, false));
+ct_table03.put(Arrays.asList("abfe", null, "b1dc", 46068, 1138, 13, true, false, false, "ad3e", "b0191", 1, 0, false, false));
+ct_table03.put(List.of("d787", "cd6c", "c330", 4463, 20, 0, true, true, true, "c284", "a661", 0, 297, true, true));
+ct_table03.remove("a06e");
+ct_table03.remove("b318");
+ct_table03.put(List.of("fe0c", "b7e7", "bd06c", 1, 0, 455, true, true, false, "a01e5", "a566", 2, 0, true, false));
+ct_table03.remove("d4b8");
+ct_table03.put(List.of("a396", "e043", "af03", 0, 38, 560, false, false, true, "d307", "f10b", 0, 496, true, false));
+ct_table03.put(List.of("b5ca", "c8b91", "cea6", 0, 2108, 0, true, false, false, "b2db", "b00d", 0, 539, true, false));
+ct_table03.put(List.of("f8f01", "acb8", "b4a1", 1053, 70, 251, false, false, true, "c276", "cd61", 759, 458, true, true));
+ct_table03.put(List.of("c844", "a0ea", "ff57", 7821, 0, 0, true, true, false, "ac98", "a228", 13, 0, true, false));
+ct_table03.put(List.of("caaf", "e442", "c6c2", 0, 0, 5386, true, true, false, "ab84", "bd2b", 0, 3711, true, true));
+ct_table03.put(List.of("dc39", "abf7e", "ea5f", 252, 0, 26, true, false, false, "fab3d", "bfb4", 1, 5, false, false));
+ct_table03.put(List.of("d122", "da63c", "f40b", 0, 232, 83389, false, true, false, "cc0f2", "d8ab", 0, 17, true, false));
+ct_table03.put(List.of("dd4f", "d219", "a2f4", 20, 0, 0, false, false, true, "c882", "fa35", 0, 1872, false, true));
+ct_table03.put(List.of("f897", "ce2b", "a846", 175, 0, 45, true, false, false, "be89", "db8d6", 18533, 0, true, false));
+ct_table03.remove("b913");
+ct_table03.put(List.of("afcd", "e2bb", "e85b", 3182, 0, 2983, true, true, true, "b55b", "eed9", 1235, 0, false, true));
+ct_table03.put(List.of("a861", "f9a6", "b714", 3424, 434937, 6, false, true, true, "d2ca", "e7c4c", 0, 149, false, true));
+ct_table03.get("f602");
+ct_table03.put(List.of("b7f4", "f476", "aad0", 8879, 0, 0, false, true, true, "bdd6", "caa3", 0, 0, false, false));
+ct_table03.put(List.of("c322", "fa25", "a6c3", 0, 0, 0, false, true, false, "aaa6", "c94f", 1943, 0, true, false));
+ct_table03.put(List.of("a2bb", "dda7", "d162", 8307, 0, 0, true, false, true, "b6e6", "fd4b", 0, 0, false, false));
+ct_table03.remove("cfba");
+ct_table03.put(List.of("c0cc", "a274", "fece", 1, 42, 0, false, true, false, "ad2a", "feb8", 38, 33467, false, true));
+ct_table03.remove("a7c3");
+ct_table03.put(Arrays.asList("b9b3", "f32e", "cd04", 8, 196, 91536, true, true, null, "ba62", "aaf9", 12, 5112, false, false));
+ct_table03.put(List.of("b193", "d6cd", "f0fe", 744, 261, 21, false, false, true, "fdea1", "fe71", 0, 0, true, false));
+ct_table03.remove("ab24");
+ct_table03.put(List.of("f13a", "e767", "a131", 9, 13, 1359, true, true, false, "edaa", "ba6ab", 285, 2, true, true));
+ct_table03.remove("e103");
+ct_table03.put(List.of("fdbf", "b90b", "b85e", 0, 0, 7, true, false, false, "e0e2", "ec75", 4075, 1096, true, false));
+ct_table03.put(Arrays.asList("ad72", "b560", "d1f7", 4825, 51, 0, true, null, true, "ffd1", "f65c", 1, 0, false, true));
+ct_table03.put(List.of("cf10", "ba2d", "be96", 4, 0, 11, true, true, true, "f452", "e81d", 0, 0, false, true));
+ct_table03.put(List.of("a3cb", "c34b", "ca04", 0, 2, 0, false, true, false, "ed1c", "a794", 0, 23, false, true));
+ct_table03.put(Arrays.asList("a6f8", "cf94", "e3d7", 0, 3999, 0, false, false, true, "ab65", null, 159, 10, false, true));
+ct_table03.get("a92c");
+ct_table03.remove("c7b5");
+ct_table03.put(Arrays.asList("f5ab", "a790", "b167", 0, 81685, null, false, false, true, "a127", null, 531, 0, false, true));
+ct_table03.put(List.of("be564", "e012", "b475", 676, 6, 13974, false, true, false, "a636", "e3f25", 673, 0, true, true));
+ct_table03.put(List.of("a2f8", "cde9", "e81b3", 0, 23, 145, true, false, true, "df7b", "b7e9", 0, 17, false, true));
+ct_table03.put(List.of("de88", "cc5a", "c31f9", 39751, 153, 16396, false, false, true, "b424", "c14a", 15, 0, true, true));
+ct_table03.get("c248");
+ct_table03.put(List.of("b3b0", "b40f", "b412", 0, 0, 5, true, false, true, "be45", "e7a2", 0, 54, false, false));
+ct_table03.put(List.of("a11d", "bad2", "d1e5", 253, 3268, 0, false, false, false, "cdef", "d170", 0, 882, false, false));
+ct_table03.remove("b6ed");
+ct_table03.put(List.of("c321", "be82", "e7b6", 24, 1858, 0, true, false, true, "af3e", "e1915", 816, 25, false, true));
+ct_table03.remove("e765");
+ct_table03.put(Arrays.asList("a9eb", "ffe4", "a7c2", 0, 0, 0, null, true, false, "b6c0a", "e52f", 0, 2, false, true));
+ct_table03.put(List.of("af40", "b21c", "a1c8", 0, 40, 22, false, true, false, "b0a7", "be63", 0, 0, true, false));
+ct_table03.put(List.of("ff1d", "c4fe1", "a654", 46, 2210, 0, true, false, false, "c0c6", "b77b", 0, 0, false, false));
+ct_table03.put(List.of("bcf8", "f8d8", "cb44", 0, 0, 425, true, true, true, "f5f9", "c5fb", 10, 1, true, true));
+ct_table03.put(List.of("e580", "a424", "bb65", 0, 4, 108, false, false, false, "b73c", "a88e", 846, 2, true, false));
+ct_table03.put(List.of("d0bc", "d632", "c06a", 15504, 0, 0, false, false, false, "fdd7", "ab2fe", 0, 0, false, false));
+ct_table03.remove("df25");
+ct_table03.get("eb5e");
+ct_table03.put(List.of("fe74", "fad3", "b292", 0, 4273, 1947, true, false, false, "a21a", "a0b1", 357, 11082, false, false));
+ct_table03.put(List.of("b9be8", "c091", "e00f", 0, 0, 2784, true, false, true, "fa95", "e908", 10, 0, true, false));
+ct_table03.remove("f056");
+ct_table03.put(List.of("a106", "a4e4", "cb11", 0, 0, 0, true, false, true, "cfeeb", "cbd7", 741, 0, false, false));
+ct_table03.put(List.of("bd01", "a65a", "b2dd", 2, 21701, 0, false, true, true, "aabd", "f6b96", 60, 0, true, false));
+ct_table03.put(List.of("ac0c", "f370", "aa22", 0, 0, 11, true, false, true, "b8e6", "b01a", 0, 20300, false, true));
+ct_table03.get("f7628");
+ct_table03.remove("cb2e");
+ct_table03.remove("b4991");
+ct_table03.put(List.of("e5df", "b123", "a3f75", 170, 496, 9, true, false, true, "bf12", "cf90", 407705, 0, true, false));
+ct_table03.remove("ed43");
+ct_table03.put(List.of("ce94", "ee19f", "a18a", 3253, 3, 0, false, true, false, "a76cc", "d3723", 0, 35, true, true));
+ct_table03.put(Arrays.asList("fd03", "a383", "e7ea", 25, 1232, 367, true, true, true, "b45e", "b348", 0, null, false, false));
+ct_table03.put(List.of("c984", "faf8", "e15e", 10357, 2, 7, true, false, false, "ee85", "b31ec", 48978, 27, false, false));
+ct_table03.remove("bede");
+ct_table03.put(List.of("d7cb", "c50f", "b843", 0, 0, 0, true, false, true, "f7b7", "a1db", 0, 0, true, true));
+ct_table03.get("b1c9");
+ct_table03.put(Arrays.asList("c73a", "de58", "a939", 581, 45, null, false, false, true, "a84d", "c402", 25, 244, false, true));
+ct_table03.get("b61c");
+ct_table03.put(List.of("a5ed", "d855", "da9c", 0, 12360, 0, false, false, true, "ea0b", "c831", 0, 7903, false, true));
+ct_table03.put(List.of("d295", "dcc0", "d35e", 2, 1, 55, true, true, false, "f51a", "e02b", 0, 20, true, false));
+ct_table03.put(List.of("be0b", "beb8", "bdbc7", 1926, 0, 72, true, true, true, "ae02", "ba56", 0, 0, false, false));
+ct_table03.put(List.of("b72d", "e607", "dda8", 0, 0, 10002, true, false, true, "e22c", "a343", 3, 5, false, false));
+ct_table03.remove("b237");
+ct_table03.put(Arrays.asList("ba3d", "d2c1", "b403", 1, 265, 749, true, true, true, "e5ba", "a685", null, 0, false, true));
+ct_table03.put(List.of("bc1a", "e054", "caae", 26, 11, 39669, false, true, false, "a967", "e289", 0, 1, false, true));
+ct_table03.put(Arrays.asList("a0b9", "b5a8", "d51f", 26, 0, 21, false, false, false, "ace6", "ccde", null, 0, false, false));
+ct_table03.put(List.of("a761", "c941", "c835", 101, 3, 56, false, false, false, "f414", "a262", 0, 0, false, false));
+ct_table03.get("ee9b");
+ct_table03.put(List.of("e2be", "e42a", "d2ff", 1866, 0, 0, false, true, true, "e8af", "f7e1", 139, 8276, true, true));
+ct_table03.put(List.of("ad0b", "cc55", "e366", 0, 228, 0, true, false, true, "e0f4", "ad34", 0, 0, false, false));
+ct_table03.put(List.of("af7b", "e982", "b3ad", 907, 5, 2, false, false, false, "ee8e", "c9aa", 939, 5, false, false));
+ct_table03.remove("c058");
+ct_table03.put(Arrays.asList("aaba", "a4f9", "a84e", 501430, 10192, 1078, false, true, false, "ab89", null, 0, 0, true, false));
+ct_table03.put(List.of("b4f2", "b036", "be7f", 0, 1424, 381, true, false, true, "ae20", "cdc1", 0, 0, false, false));
+ct_table03.put(List.of("cb99", "d1bb", "fb3b", 0, 146, 1255, false, false, false, "f31f", "ef917", 0, 1, true, true));
+ct_table03.remove("b1e3");
+ct_table03.put(List.of("e367", "c64b", "b73aa", 29, 672, 0, false, false, false, "b3a8", "b21f", 11736, 321, true, false));
+ct_table03.put(Arrays.asList("a6a2", "cf29", null, 0, 1, 0, true, false, true, "c1d6", "c411", 0, 81, true, false));
+ct_table03.remove("be86");
+ct_table03.put(List.of("f5d4", "c0ca6", "e431", 0, 46, 0, false, true, false, "fec8", "ca1c", 10, 0, true, true));
+ct_table03.remove("c22a");
+ct_table03.put(List.of("ba7b", "bce7", "c15f", 46, 3, 3, false, true, true, "d897", "b5bb", 29, 1778, true, true));
+ct_table03.get("b6bd");
+ct_table03.remove("b263");
+ct_table03.put(List.of("c5b3", "c381", "af87", 114, 0, 1, true, false, false, "db72", "ee81", 22, 3341, true, true));
+ct_table03.put(List.of("cb79", "d943", "f267", 0, 181, 0, false, true, true, "a03a", "f20a", 2, 1, true, false));
+ct_table03.put(List.of("e32d", "c0ff", "c3d3", 10, 0, 0, false, true, false, "b070", "a19c", 940, 0, false, false));
+ct_table03.remove("eb78");
+ct_table03.put(List.of("fc3f", "af5f", "f3b1", 1, 36, 0, false, false, true, "f6d", "c591", 4, 8526, true, false));
+ct_table03.put(List.of("aef5", "b4f6", "e280", 1402, 0, 0, true, true, false, "cf91", "b790", 0, 1524, true, false));
+ct_table03.put(List.of("b18a", "acb7", "a9a6", 0, 48040, 13, false, false, true, "bc396", "e81f", 514, 0, true, true));
+ct_table03.remove("a0cb");
+ct_table03.put(List.of("f681", "cd46f", "ee78", 316, 2, 10696, false, true, false, "f14e", "fa45", 0, 10684, true, false));
+ct_table03.put(List.of("c2f0", "b494", "bc06", 0, 49, 2395, false, true, false, "dabd", "e2fe", 5, 483, false, true));
+ct_table03.get("f823");
+ct_table03.put(List.of("d2591", "f4ac", "ca06", 1870, 3047, 0, true, false, true, "a9d0", "fb67", 0, 1155, true, false));
+ct_table03.put(List.of("ce02", "a1bb", "b706", 59, 0, 0, true, false, true, "bbd9", "c3100", 0, 1217, true, true));
+ct_table03.put(List.of("b9a7", "d6e1", "f0073", 0, 3966, 138, true, false, false, "dd5a", "a75b", 24, 0, true, true));
+ct_table03.put(List.of("fcf0", "fe73", "a79d", 305, 0, 146, true, false, true, "b02b", "d575", 0, 213, true, false));
+ct_table03.put(Arrays.asList("fbe6", "e3b5", "d98c", 0, 809, 119, null, false, true, "a91e", "fb24", 137, 0, true, false));
+ct_table03.put(Arrays.asList("ee3d", "adea", "bd27", 0, 13185, null, false, true, true, "c92a", "fa7a", 2240, 0, false, false));
+ct_table03.put(List.of("b131", "e480d", "c31d", 0, 3453, 15764, false, true, false, "c164", "e338", 23, 0, true, true));
+ct_table03.put(List.of("bedd", "cc5e", "df66", 2, 17, 0, false, false, false, "aa81a", "a889", 109, 1048, true, false));
+ct_table03.remove("dc00");
+ct_table03.put(List.of("d70d", "a115", "ac39", 0, 39250, 310, false, false, true, "b912", "d02c6", 0, 5, false, true));
+ct_table03.put(List.of("d80", "da2a", "a6d2", 0, 3, 0, true, true, false, "a9c2", "ea5e", 3127, 0, false, false));
+ct_table03.get("c9cb");
+ct_table03.put(Arrays.asList("e59a", "dde0", "ba21", 5, null, 76, false, false, false, "fcdf", "bce1", 0, 8587, false, true));
+ct_table03.put(List.of("ad50", "a3a9", "e91e", 2157, 1, 0, false, false, false, "bfb1", "c281", 1123, 0, false, true));
+ct_table03.put(List.of("ea79", "ac2f", "d392", 3, 9950, 0, true, true, false, "fab3", "b0b5", 0, 1, false, false));
+ct_table03.put(List.of("f1b9", "ffb9", "ebe7", 5072, 12, 0, false, false, true, "ba77", "ec49", 0, 0, false, true));
+ct_table03.put(List.of("a5b6", "d9a3", "f482", 2693, 134, 2, false, false, true, "a522", "fa63", 4, 4, true, false));
+ct_table03.put(List.of("f338", "aa98", "b126", 269, 30229, 0, false, true, true, "b472", "c899", 3, 0, true, false));
+ct_table03.put(List.of("a2c09", "c796", "cd84", 0, 0, 9, true, true, false, "e336", "c8b6", 0, 0, true, false));
+ct_table03.put(List.of("c2e2", "b1e9", "ed79", 0, 0, 2176, false, true, false, "ea18", "c363", 41, 0, false, true));
+ct_table03.put(List.of("ace4", "d576", "a482", 7, 9214, 6, false, false, true, "a9ea", "d8a34", 0, 0, false, true));
+ct_table03.get("d89d");
+ct_table03.remove("e879");
+ct_table03.put(List.of("d2d9", "d867", "cb72", 13380, 0, 4, false, false, true, "f76c", "c722", 0, 10206, true, false));
+ct_table03.remove("a974");
+ct_table03.remove("c638");
+ct_table03.get("c5db");
+ct_table03.put(List.of("ca93", "a078", "b214", 0, 3325, 10856, false, false, true, "d97c", "e9a1", 13, 0, true, false));
+ct_table03.put(List.of("af2f", "b7be", "d82b", 0, 0, 485, false, true, true, "bccf", "a62a", 0, 0, true, true));
+ct_table03.put(List.of("a139", "ed42", "a8f3", 9, 13264, 1108, false, true, true, "c432", "c970", 61, 0, true, false));
+ct_table03.put(List.of("d7ac", "b406", "d060", 0, 19, 126, false, true, false, "d200", "fb0d", 0, 6567, true, true));
+ct_table03.put(List.of("b92c", "af6c", "e287", 6480, 1108, 4, true, false, false, "e5e0", "cf9d", 0, 624, false, false));
+ct_table03.put(List.of("dbba", "aba3", "f37ce", 313, 64, 0, false, false, false, "dbc99", "a55a2", 103, 1707, false, true));
+ct_table03.remove("bdf5");
+ct_table03.remove("dbd1");
+ct_table03.remove("e5fb");
+ct_table03.put(List.of("efc2", "a6f9", "bed3", 38, 0, 0, false, true, false, "d262", "eb03", 4, 6, false, true));
+ct_table03.put(List.of("a8d3", "effb", "d92c", 0, 1725, 172436, false, true, true, "a37e", "aa93", 0, 37724, true, true));
+ct_table03.put(List.of("ad85", "cd89", "ce34", 0, 162, 794, true, false, false, "e73f", "cccc", 0, 51, true, true));
+ct_table03.put(Arrays.asList(null, "a5ef", "a0f0", 0, 0, 0, true, true, true, "fb07", "e979", 756, 4, true, false));
+ct_table03.put(List.of("eb89", "dafb", "dba3", 5525, 0, 797899, false, false, true, "e69c", "b2fd", 0, 2202, true, false));
+ct_table03.put(List.of("fe03", "e8a5", "bb30", 45, 0, 227, false, false, false, "c286", "a23c", 25699, 12, false, true));
+ct_table03.put(List.of("d259", "a0255", "b9ce", 0, 426, 93, false, false, true, "a869", "e605", 0, 21929, true, true));
+ct_table03.put(List.of("de6d", "cd8a", "c96c", 0, 5, 20, true, false, true, "dd27", "cd45", 0, 0, true, false));
+ct_table03.put(List.of("cfa0", "b6164", "f2aa", 2, 16, 4, true, false, true, "cba2", "e3a94", 49, 0, false, true));
+ct_table03.put(List.of("e07b8", "b797", "d8e7", 0, 9, 0, false, true, false, "ab76", "bc4d", 0, 0, false, false));
+ct_table03.put(List.of("c2e3", "db3e7", "e26d", 3, 0, 5, true, false, false, "d280", "b731", 120, 0, true, true));
+ct_table03.put(List.of("ba1ab", "f78e", "b925", 0, 0, 5601, true, false, true, "d9f4", "f80f", 0, 0, false, false));
+ct_table03.put(List.of("ea9d", "d7f2", "eff7", 6111, 2, 5068, true, false, true, "cb4b", "d94d", 0, 0, true, true));
+ct_table03.get("b473a");
+ct_table03.put(Arrays.asList("b511", "bc33", "b869", 14254, 0, 0, null, true, true, "ff71", "ca52e", 0, 21337, false, false));
+ct_table03.put(List.of("ad21", "b674", "fbd97", 0, 98, 0, true, false, false, "cd80", "f171", 24625, 687, true, false));
+ct_table03.remove("aede");
+ct_table03.remove("f556");
+ct_table03.put(Arrays.asList("d3e9f", "b751", "ddfa", 266, 0, 1, true, true, true, "baaa", "fd96", 0, 0, true, null));
+ct_table03.put(Arrays.asList("f16f", "e5bea", null, 0, 0, 0, false, false, false, "f73c", "fa79", 83, 12, false, false));
+ct_table03.put(List.of("e018", "e25e3", "a10d", 0, 104, 109, true, false, false, "fb9c", "df62", 24, 0, true, true));
+ct_table03.put(List.of("a9a8", "a64a", "e187", 0, 1, 93, true, false, false, "f287", "c7dcc", 0, 59, false, false));
+ct_table03.put(List.of("c448", "f25f", "e1d3", 0, 184, 0, false, false, false, "ba8d", "d30a", 0, 44, true, false));
+ct_table03.remove("fa78");
+ct_table03.remove("c54d");
+ct_table03.remove("c983");
+ct_table03.put(Arrays.asList("bbd3", "e447", null, 0, 0, 43, true, true, false, "c319", "c914", 0, 11, false, true));
+ct_table03.put(Arrays.asList("c6ec6", null, "c1def", 74, 13, 0, true, true, true, "abc3", "f398", 804, 0, false, true));
+ct_table03.put(List.of("cf22", "b866", "c9af", 0, 131, 21, false, true, false, "bcffa", "e4e9", 2, 0, true, true));
+ct_table03.put(List.of("ec2bf", "ecd6", "ce95", 442, 371, 6954, false, false, false, "b977", "a891", 517, 2782, false, false));
+ct_table03.put(Arrays.asList(null, "e19e", "bfe3f", 11, 6, 576, true, false, true, "cdc4", "f463", 0, 28, false, true));
+ct_table03.put(Arrays.asList("e8d5", "b154", "debf", 0, 0, 0, false, true, false, "d61ac", "d355", 1728, null, false, true));
+ct_table03.put(Arrays.asList("b8a1", "a81e", null, 1897, 31, 1, false, true, true, "de8e", "cc6c", 49583, 0, true, true));
+ct_table03.get("c7c2");
+ct_table03.remove("b0f5");
+ct_table03.remove("aa52");
+ct_table03.get("b4fd");
+ct_table03.put(List.of("c6e0", "ed88", "ec3f", 0, 131, 264, false, true, false, "dc04", "c808", 0, 1, true, false));
+ct_table03.put(List.of("bd1c", "b6c4", "a84a", 0, 0, 0, true, true, true, "fde53", "e7d2", 0, 3, false, false));
+ct_table03.put(Arrays.asList("dc71", "c6b3", "a203", 1, 1, 7966, false, true, false, "f704", "f235", 805, null, true, true));
+ct_table03.get("a9ac2");
+ct_table03.put(List.of("d2e53", "bba1", "c0fc", 0, 0, 2588, false, true, true, "b6d0", "aa35", 0, 9, false, true));
+ct_table03.put(List.of("b763", "c19f", "df18", 1032, 0, 0, false, true, true, "b2bd", "ae5a", 307, 0, false, true));
+ct_table03.put(List.of("e6071", "a437", "de9e", 0, 0, 0, false, true, true, "f557", "d53d", 11974, 1997, false, false));
+ct_table03.put(List.of("ebea", "b793", "b5b1", 123926, 39558, 30, true, true, true, "db23", "e2d5", 0, 0, false, false));
+ct_table03.put(List.of("b2ba", "b0c7", "d186", 82, 0, 0, true, false, true, "fabe", "c74a7", 97274, 103, false, false));
+ct_table03.put(List.of("fe12", "cc823", "e0df", 0, 14, 446, true, true, true, "facd", "e8594", 2185, 0, false, false));
+ct_table03.get("bbbb");
+ct_table03.put(List.of("fd0e", "a9c1", "e5c8", 250583, 6685, 585, true, false, true, "c186", "b721", 0, 477, false, false));
+ct_table03.put(List.of("c2b8", "b783", "f6a1", 11235, 89, 436, false, true, true, "b1fb", "a767", 0, 0, false, true));
+ct_table03.remove("fa062");
+ct_table03.put(List.of("c0d1", "eee2", "f140", 584, 0, 8, true, true, false, "b5f0", "d046", 742, 37344, true, true));
+ct_table03.put(Arrays.asList("c5c3", "aada", "e2dfa", 7112, 0, 4, false, false, false, "c4dc", "c011", 0, null, null, false));
+ct_table03.put(Arrays.asList("ce9f", "e809", null, 72, 0, 8, false, true, false, "bd65", "a2d7", 2, 0, false, true));
+ct_table03.get("a398");
+ct_table03.put(List.of("a30b", "b2d4", "dafa", 458, 0, 5, true, false, true, "c632", "ddbf", 8, 90, false, false));
+ct_table03.put(List.of("dbcd", "b611", "b7cc", 0, 0, 1322, false, false, true, "f70f", "df56", 0, 1290, false, true));
+ct_table03.remove("afe3");
+ct_table03.put(List.of("b8f3", "ce3c6", "e710", 0, 273, 0, true, true, false, "d9f0b", "d9dd", 60, 0, false, true));
+ct_table03.remove("a385");
+ct_table03.put(List.of("df5e", "de2f", "b3a7", 5638, 0, 557, false, true, false, "a381", "b483", 109, 3714, false, false));
+ct_table03.put(List.of("d334", "a3768", "ba75", 0, 0, 0, true, false, false, "f380", "b85d", 40516, 141, false, true));
+ct_table03.remove("a7cc");
+ct_table03.remove("a938");
+ct_table03.put(List.of("b7bb", "e1a5", "f62f", 0, 0, 27, false, false, false, "ba84", "b0d4", 4, 0, true, false));
+ct_table03.remove("d5a2");
+ct_table03.put(List.of("a1ad", "b46a", "ea8a", 0, 0, 6, false, true, false, "a9f6", "c867", 3, 54609, false, false));
+ct_table03.put(List.of("cb27", "f4f2", "c9b4", 13, 232, 76, true, false, true, "b739", "a659", 4, 0, false, true));
+ct_table03.get("c9dd");
+ct_table03.remove("c934");
+ct_table03.put(List.of("da39", "a863", "d8502", 100, 2, 41, false, true, true, "ea6f", "c12d", 0, 1034, false, true));
+ct_table03.put(List.of("b9de", "f0b0", "cc36", 378, 0, 52, false, false, false, "ad60", "b860", 1, 7, false, false));
+ct_table03.put(List.of("a050", "d865", "bd63", 2442, 0, 4169, false, true, false, "d6ef", "a34e", 0, 7, false, false));
+ct_table03.put(List.of("aa2b", "acce", "e59e", 0, 0, 1, true, false, false, "f7d1", "b078", 345, 0, true, false));
+ct_table03.put(List.of("e74a", "daae", "f5ac6", 0, 5, 262, false, false, false, "abf9", "a130", 82, 42, false, false));
+ct_table03.put(List.of("aa7a", "d6c0", "e167", 0, 0, 0, false, false, true, "f36f", "a624f", 3964, 3643, false, false));
+ct_table03.put(List.of("a1de8", "ca4e", "fab9e", 90, 0, 0, true, true, false, "c8bf", "d236", 0, 6, true, true));
+ct_table03.put(List.of("c044", "c20a", "f261", 0, 0, 0, false, false, false, "ce30", "e9d5", 1, 1, false, true));
+ct_table03.put(Arrays.asList("c52a", "b37d", "bf2c", null, 13, 109, false, true, false, "d8c3", "f14f", 3, 73, false, false));
+ct_table03.get("b625");
+ct_table03.put(Arrays.asList("f651", "b0de", "b6e1", 8031, 0, 0, null, false, true, "bb16", "a9ac", 0, 2, false, true));
+ct_table03.put(List.of("aaa7", "ccd5", "afe4", 572, 1863, 696183, true, true, true, "b887", "ae25", 35, 166, false, false));
+ct_table03.put(List.of("cb56c", "d095", "c97e", 0, 49508, 0, true, true, true, "be1e", "f09b", 222, 4330, false, false));
+ct_table03.put(List.of("ac1a", "b0ff", "fd72", 0, 0, 0, false, false, false, "a9cd", "bbf5", 68, 1, true, true));
+ct_table03.put(List.of("b35d", "a3e1", "b26c", 0, 0, 9, true, true, false, "b478", "b900", 0, 25450, false, true));
+ct_table03.remove("a53e");
+ct_table03.put(List.of("a468", "e2ee", "e46e", 0, 0, 0, false, true, false, "b50e4", "dc70", 8910, 0, true, true));
+ct_table03.put(List.of("afacc", "dea8", "d9fc4", 0, 34778, 0, true, true, true, "d871", "ac3e7", 16570, 0, false, false));
+ct_table03.put(List.of("e9c6", "e7ca", "e363", 0, 62996, 1212, true, true, false, "d69b", "e220", 0, 0, true, true));
+ct_table03.put(List.of("ecdf", "cc69", "ec690", 1, 7494, 2, false, true, false, "d3fc", "e901", 0, 3, true, true));
+ct_table03.put(List.of("c4df", "a72f", "c655", 0, 1, 11, true, true, true, "a163", "e9b9", 1520, 0, true, true));
+ct_table03.put(List.of("ad55", "b7e8", "aab7", 1281, 0, 39, true, false, false, "cb40", "fa3f", 0, 216, false, true));
+ct_table03.put(List.of("e4ee", "d455", "c17e", 2541, 0, 18, true, false, true, "ec52", "d82c", 0, 7, true, true));
+ct_table03.remove("a960");
+ct_table03.get("bbc1");
+ct_table03.remove("c415");
+ct_table03.remove("d118");
+ct_table03.get("e658");
+ct_table03.put(List.of("a370", "b6f4a", "d904", 0, 194, 123739, false, false, true, "d0b2", "d722", 65832, 1968, false, true));
+ct_table03.put(List.of("ad84", "d28e", "a0f6", 15, 7, 0, true, true, false, "dc72", "c8ef", 341510, 0, false, false));
+ct_table03.remove("d821");
+ct_table03.put(List.of("cac1", "bc76", "d30e", 24, 0, 0, true, false, false, "a2f9", "f5af7", 157, 1006, true, false));
+ct_table03.put(Arrays.asList(null, "b6b3", "b244", 216, 0, 14, true, true, true, "e312", "d7ff", 140190, 0, false, false));
+ct_table03.put(List.of("b5f3", "a057", "ef9a", 4165, 3, 12, false, true, false, "ca768", "b044", 30, 0, false, true));
+ct_table03.put(List.of("c663", "eb24", "c97d", 1675, 0, 0, true, false, false, "d9d7", "c137", 0, 1, true, false));
+ct_table03.get("b91f");
+ct_table03.remove("f2d2");
+ct_table03.put(List.of("ca19", "a192", "f1ab", 0, 0, 3, true, true, false, "e00c", "ad7f", 0, 1, true, false));
+ct_table03.remove("a5fe");
+ct_table03.put(List.of("d25a", "a8f1", "cb45", 15065, 31, 507, true, false, false, "f7a6", "b540", 0, 0, true, false));
+ct_table03.put(List.of("b46c", "ac55", "e33e", 7863, 6, 28502, false, false, true, "a254", "d71a", 200, 50, false, true));
+ct_table03.remove("a7b8");
+ct_table03.get("f79e");
+ct_table03.put(Arrays.asList("b8d5", "de60", "ebd9", 0, 49, 1830, true, false, null, "e237", "ff7c", 14422, 8, true, true));
+ct_table03.remove("bf05");
+ct_table03.put(List.of("ef0f", "f2b3", "ce77", 740748, 0, 0, false, true, true, "aa476", "de35e", 108, 10, true, false));
+ct_table03.put(List.of("b6bb", "bab8", "e1c6", 42320, 11, 37, false, true, false, "f457", "aee7", 209, 0, false, false));
+ct_table03.put(List.of("cd18", "b6c8", "baa9", 2813, 86, 0, false, true, false, "ff8a", "c2d1", 131, 0, false, true));
+ct_table03.put(List.of("da5c", "d932", "d55c", 11768, 558, 15, false, true, false, "f74f", "d2e7", 1, 162, false, false));
+ct_table03.put(List.of("ab7e", "d757", "aec4", 0, 0, 0, false, true, true, "fe2d", "e3c3", 0, 0, false, true));
+ct_table03.put(List.of("ce38", "fe97", "c28b", 21, 83, 0, false, false, false, "c12a2", "bec9", 0, 0, false, true));
+ct_table03.put(List.of("ff67", "f987", "e946", 347, 0, 0, true, false, true, "fb9a", "abed", 365, 0, true, false));
+ct_table03.put(List.of("c6eb", "e2fc", "d0ec", 158, 0, 7, false, true, true, "d57b", "f146", 5, 35, true, true));
+ct_table03.put(Arrays.asList("a1a7", "beb69", "de43", 433, null, 5056, false, true, false, "acb6", "bca1", 22973, 945, true, true));
+ct_table03.put(List.of("e712", "a6394", "c72c9", 1158360, 0, 57, true, false, false, "fb87", "aa54", 69, 2305, false, true));
+ct_table03.put(List.of("c76a", "b487b", "a4418", 0, 74, 2, true, true, true, "a9ec", "db5c", 0, 168, false, false));
+ct_table03.put(List.of("cc2b", "f8a8", "ce47", 993, 0, 0, true, false, false, "cbcc", "fccd", 10963, 5676, false, true));
+ct_table03.put(List.of("c306", "dadb", "a28d", 79, 0, 31, false, false, true, "ccbc", "bf34", 5, 0, true, false));
+ct_table03.put(List.of("ba93", "c9231", "eef7", 394, 2219, 0, false, true, false, "a04d", "badc", 228, 1882, false, true));
+ct_table03.put(List.of("c0e5", "e1b60", "af8a", 0, 0, 8771, true, true, true, "aca6", "b37b", 0, 0, true, true));
+ct_table03.get("e7c1");
+ct_table03.put(Arrays.asList("df20", "a140", "cee05", 0, 1049, 4, null, false, true, "ca6f", "b9d8", 0, 0, true, true));
+ct_table03.get("ffc9");
+ct_table03.put(List.of("b8dfc", "f0be", "f51d", 0, 0, 0, false, false, false, "e417", "aef1", 0, 3, true, true));
+ct_table03.remove("dc87");
+ct_table03.put(List.of("fe32", "c7084", "bfd9", 9509, 0, 0, true, false, false, "de05", "a00b", 8878, 0, false, false));
+ct_table03.put(Arrays.asList("d48c", null, "b0c8", 0, 0, 0, true, true, false, "f4cd", "b8a8", 0, 0, null, true));
+ct_table03.put(List.of("dacd", "aae81", "b0b2", 28287, 40596, 0, false, false, false, "ad35", "a9a1", 0, 3389, true, false));
+ct_table03.put(List.of("e0c6", "b0e7", "a05c", 0, 716, 29, false, true, true, "c4a7", "ec23", 0, 323, true, true));
+ct_table03.remove("ce63");
+ct_table03.put(List.of("d3ac", "cd56", "e86b", 0, 5490, 0, false, false, false, "a0b6", "ca4c", 0, 0, true, false));
+ct_table03.put(List.of("a813", "a147", "c07b", 0, 0, 2, true, true, false, "f890", "bcdc", 0, 66239, true, false));
+ct_table03.put(List.of("c757", "e7e3", "bbff", 1, 300, 25435, true, false, true, "c465", "ea4b3", 26960, 0, true, true));
+ct_table03.put(List.of("f50e", "c3e6", "ab9a", 0, 0, 10019, true, true, true, "d6aa", "f64f", 0, 1029, true, false));
+ct_table03.remove("ce535");
+ct_table03.put(List.of("c6c6", "ef06", "cfb7", 0, 14307, 0, true, true, false, "d5db", "a4a6", 0, 634, true, true));
+ct_table03.remove("d3f0");
+ct_table03.put(Arrays.asList(null, "fb8a", "a173", 0, 38646, 530, true, false, false, "bbcc", "d126", 423, 62, true, false));
+ct_table03.put(List.of("b9c4", "ddf6", "c72a", 0, 0, 1842, true, true, false, "e916", "c47f", 31, 146, false, true));
+ct_table03.put(List.of("e6ca", "cf3e", "ba94", 0, 0, 2, false, true, true, "b459", "d4d8", 0, 17625, true, false));
+ct_table03.remove("cdec");
+ct_table03.put(List.of("c2bc", "b906", "e62cf", 0, 218473, 0, true, false, false, "b28e", "b51d", 15, 23, false, true));
+ct_table03.put(Arrays.asList("d669", "c301", "b537", 12, 2, 0, null, true, false, "db2f", "cf9f", 1265, 1, true, true));
+ct_table03.get("ca87");
+ct_table03.remove("ff25");
+ct_table03.get("b06b");
+ct_table03.put(Arrays.asList("c3c5", "d13e", "eb093", 174, 0, 0, false, false, false, "fbf6", "c2b3", null, 2487, false, true));
+ct_table03.put(List.of("cc49", "e952", "f646", 0, 0, 71, false, false, false, "c8ae", "c211", 0, 0, false, false));
+ct_table03.put(List.of("a74c", "cdce", "eee3", 618, 0, 0, true, false, false, "affd", "dbfb", 0, 1516, true, false));
+ct_table03.put(List.of("cc9d", "c0bb", "d2a5", 1, 7906, 1260, false, true, true, "a753", "db1b", 796, 6898, true, true));
+ct_table03.put(List.of("bf78", "a001", "d014", 16, 0, 0, false, false, true, "b568", "e1ba", 0, 0, true, true));
+ct_table03.put(List.of("bf68", "a43f", "d4d5", 316, 0, 0, true, true, true, "cfae", "e37d", 0, 2599, false, false));
+ct_table03.put(List.of("b96d", "fce1", "c000", 13, 137, 441, false, false, true, "e761", "fc23", 178, 3366, false, true));
+ct_table03.put(List.of("bd0b", "aff9", "f0a4", 0, 0, 0, true, true, false, "a769", "a7f3", 635, 17970, true, false));
+ct_table03.get("fa26");
+ct_table03.put(List.of("dbc4", "c4db", "a675", 4580, 0, 0, false, false, false, "a3dc", "acbf", 2, 0, false, false));
+ct_table03.put(List.of("d90b2", "e948", "ce6e", 10, 2031, 11249, true, true, true, "d352", "f721", 0, 0, false, false));
+ct_table03.put(List.of("c85cb", "f234", "b281", 0, 273, 0, true, false, true, "e507", "be12", 7, 0, true, false));
+ct_table03.put(List.of("b672", "ea52", "a309", 484, 2, 1, true, true, false, "f886", "d931", 34, 0, false, false));
+ct_table03.put(List.of("dbad", "b27c", "d49f", 9476, 0, 0, true, true, true, "dfb8", "e3aa", 0, 21416, true, true));
+ct_table03.put(Arrays.asList("f2ed", "fd10", null, 1, 2, 0, false, false, false, "dd8e", "d50f", 188, 1, false, false));
+ct_table03.remove("d8d3");
+ct_table03.get("fc7a");
+ct_table03.put(List.of("eaf3", "a0d6", "e001", 41389, 0, 9861, true, true, false, "a663f", "b862", 3930, 0, false, false));
+ct_table03.put(List.of("d2e8", "a2aa", "bb3a", 0, 0, 1, true, false, true, "a0f5", "dbe5d", 0, 27557, false, true));
+ct_table03.put(List.of("c883", "bb07f", "a702", 1, 0, 0, false, true, false, "b310e", "a4ec", 0, 0, true, true));
+ct_table03.get("dfce");
+ct_table03.get("ae40");
+ct_table03.put(List.of("da8d", "a9da", "a99d", 1426, 2380, 1, false, true, false, "e2b1", "aec6", 0, 6854, true, false));
+ct_table03.put(List.of("e0f6", "cd2f", "f595", 0, 0, 3, false, false, false, "bb3d", "bc3ad", 0, 24, true, false));
+ct_table03.get("ba2a");
+ct_table03.put(List.of("cc3a8", "b4e1", "d528", 126, 709, 0, false, false, true, "a9b96", "e732", 3271, 0, true, true));
+ct_table03.put(List.of("fc03", "bd38", "b581", 0, 2436, 49, true, true, false, "b1cb", "e1cb", 0, 613, true, true));
+ct_table03.put(List.of("a55ba", "f7b0", "df67", 255, 0, 0, false, false, true, "a5cc", "c6a1", 0, 0, false, true));
+ct_table03.get("a759");
+ct_table03.remove("bd1f");
+ct_table03.put(List.of("d5cb", "b0ea", "f96e", 0, 2, 2741, true, true, false, "e46a", "a5b9", 6599, 14937, true, true));
+ct_table03.remove("e1fa");
+ct_table03.remove("bc99");
+ct_table03.put(List.of("b8a4", "dc27", "fcda", 0, 77, 0, false, false, false, "b2c2", "a66e", 429, 0, true, true));
+ct_table03.put(Arrays.asList("e071", "a3ee", null, 8, 0, 0, false, true, false, "d6b2", "d317", 192798, 0, false, false));
+ct_table03.put(List.of("b5bf", "a6fb", "a4d0", 94, 369, 5, false, false, false, "e837", "c15d", 0, 768, true, true));
+ct_table03.remove("aa3c");
+ct_table03.get("ae3b");
+ct_table03.remove("a249");
+ct_table03.put(List.of("bf4a", "ccce", "b47b", 16, 12, 0, false, true, false, "b5de", "a631", 2251, 1, true, true));
+ct_table03.get("d6f08");
+ct_table03.put(List.of("cfd6", "a10e", "e159", 59, 497190, 0, false, true, false, "e74b", "aaad", 0, 0, false, true));
+ct_table03.put(List.of("e89af", "d863", "c2e4", 53, 0, 102, true, false, true, "b008", "f2b2", 18, 0, false, true));
+ct_table03.put(List.of("a1c0", "e576", "bd26", 0, 1787, 906, false, true, true, "d7a4", "d9c1", 16, 8, false, false));
+ct_table03.remove("bcbe");
+ct_table03.get("cdff");
+ct_table03.put(List.of("c75c", "f28b", "c90d", 30, 742, 9, true, false, true, "bdb1", "be3b", 0, 0, true, true));
+ct_table03.put(List.of("f98d", "d3df", "b527", 0, 16, 452, true, true, false, "e7ba", "e7e8", 5, 0, false, true));
+ct_table03.put(List.of("a375", "c74e", "c6df", 0, 2, 200, false, true, true, "d2aa", "babe", 2, 20125, true, true));
+ct_table03.put(List.of("ca01", "e3ef", "ceae", 0, 0, 751, true, false, true, "f0d0", "b408", 943, 0, true, false));
+ct_table03.put(List.of("fc4e", "cfd7", "bd5b", 744, 0, 0, true, true, true, "ba54", "b2d0", 0, 0, true, true));
+ct_table03.put(Arrays.asList("aac9", "e4c2", "bdeb", 5, null, 0, true, false, true, "f062", "b204", 1347, 1162, false, true));
+ct_table03.put(List.of("a355", "ee8c", "d91b", 0, 36, 0, false, true, true, "d1d4", "a761e", 10663, 29, true, true));
+ct_table03.put(List.of("b7ca", "a30a", "e9b2", 0, 174, 0, true, true, true, "e49f", "a9c7", 9, 0, false, true));
+ct_table03.remove("e918");
+ct_table03.put(List.of("a8e1", "c541", "fdf8", 61, 56, 0, true, true, true, "a02d", "c5b8", 1311, 6584, false, false));
+ct_table03.remove("b306");
+ct_table03.put(List.of("e4aa", "f884", "e5b06", 93, 97, 0, false, false, true, "cde4", "d684", 0, 407, true, false));
+ct_table03.get("bca2");
+ct_table03.remove("fdaa");
+ct_table03.put(List.of("ea2c3", "bc21", "abe08", 0, 0, 0, false, true, true, "d3a0", "f139", 6, 0, false, true));
+ct_table03.put(List.of("b632", "d7ba", "a301", 345, 5335, 255, false, false, true, "c54e", "afd63", 20, 8506, true, true));
+ct_table03.put(List.of("b42f", "f232", "b720", 0, 2, 1413, false, true, false, "f760", "bd3b", 0, 48, false, false));
+ct_table03.put(Arrays.asList("f6d9", "a995", "f77b", 24, 631, 536, false, false, false, "d74d", "ade8", 59, 1, null, true));
+ct_table03.put(List.of("df12", "e199", "ac51", 0, 9, 2, false, false, false, "d594", "ee0f", 0, 3769, false, false));
+ct_table03.put(List.of("d674", "b729", "e4e7", 130, 0, 18, true, true, true, "a3e2", "a4a7", 309, 0, true, false));
+ct_table03.remove("ae7c");
+ct_table03.put(List.of("d5e6", "bc6d", "fc44e", 14933, 148, 3, true, false, true, "ad05", "f601", 0, 25141, false, false));
+ct_table03.get("a7e8");
+ct_table03.put(List.of("b60c5", "e532", "a1169", 53, 1, 0, false, true, true, "a60d", "f242", 18, 125, true, false));
+ct_table03.get("b29b");
+ct_table03.put(List.of("ea3f", "b36e", "aa49", 134, 442, 0, false, false, false, "f725", "ea94", 0, 175, false, false));
+ct_table03.put(List.of("dace", "fe3d", "d005", 0, 0, 0, false, false, true, "eb8c", "f38b", 18968, 548, false, true));
+ct_table03.put(List.of("ee4d", "c657", "f1864", 167, 1264, 11, true, true, true, "c646", "b7dd", 0, 286, false, true));
+ct_table03.put(List.of("bea5", "d90b", "c6d4", 0, 7, 0, true, false, false, "f8f2", "a4f0", 0, 0, false, true));
+ct_table03.put(List.of("a058a", "c826", "f101", 0, 119, 711, true, false, false, "f1e8c", "e218", 64, 107, false, false));
+ct_table03.put(List.of("aed0", "f5f6", "ec01", 88, 0, 2420, true, true, true, "b687", "c162", 0, 18, false, false));
+ct_table03.put(List.of("ae7f", "a416", "b4dd", 0, 14253, 0, true, true, true, "a7fa", "b23a", 0, 4158, true, true));
+ct_table03.put(List.of("b028", "b1cc", "f478", 3, 127, 0, true, false, true, "b8c8", "ae755", 0, 2, false, false));
+ct_table03.put(List.of("e328d", "e839", "c735", 2, 0, 30, false, false, true, "ddb6", "f183", 40, 0, true, false));
+ct_table03.put(List.of("a1e4", "bb56", "c50e", 0, 0, 3, true, true, true, "a2f3", "aee1", 0, 0, false, false));
+ct_table03.remove("a5f2");
+ct_table03.put(List.of("b9ca", "ebba", "cad4", 295, 0, 0, true, false, false, "feed", "fa20", 3785, 95, false, true));
+ct_table03.remove("cb02");
+ct_table03.put(List.of("ad1c", "b2f9", "b893", 290, 0, 0, false, false, false, "b0d1", "c63e", 0, 432, true, true));
+ct_table03.put(List.of("dc93", "dbed", "e236", 0, 17056, 19025, false, true, true, "d623", "aded", 0, 26, true, false));
+ct_table03.put(List.of("ac00", "da30", "baf4", 109, 0, 23, false, true, true, "ee13", "ed77", 0, 0, true, false));
+ct_table03.put(Arrays.asList("dd41", "c63e2", "cf28", 0, 4085, 943, true, false, true, "a3f6", "e242", null, 0, true, false));
+ct_table03.remove("aaef");
+ct_table03.put(Arrays.asList(null, null, "aab1", 0, 0, 630, false, true, false, "b1aa", "c3b2", 53, 31, true, true));
+ct_table03.put(List.of("c50a", "f7f9", "e5a8", 0, 0, 669, true, false, false, "bed70", "c20d", 0, 65, false, true));
+ct_table03.put(List.of("f0b1", "d142", "c39f0", 6, 2, 0, true, false, false, "a4de", "f16d", 0, 0, true, false));
+ct_table03.put(List.of("e776", "f51e", "b144", 10634, 1, 465, false, true, true, "ace1e", "e4e33", 22323, 243, false, false));
+ct_table03.put(List.of("ad5fc", "a174", "f617", 0, 0, 4, true, false, true, "fe63", "e182", 3043, 0, false, false));
+ct_table03.put(List.of("ca0f", "f167", "b3aa", 0, 1211, 8, false, true, true, "baf1e", "ab722", 1864, 22, false, true));
+ct_table03.get("cdc0");
+ct_table03.put(Arrays.asList("a41b", "cb25", "c53f", null, 0, 0, false, true, false, "f8e6", "f6a3", 0, 402, true, false));
+ct_table03.put(List.of("be48", "e35b", "cdde", 2, 0, 0, false, false, true, "bb00", "c938", 0, 166, true, true));
+ct_table03.get("e730");
+ct_table03.get("f63a");
+ct_table03.put(List.of("b02f", "a6aa", "f2e4", 21, 29922, 14, false, true, true, "aa3f", "f73b", 7524, 0, false, true));
+ct_table03.put(List.of("b50f", "e2cb", "cb9df", 0, 2, 16344, false, false, false, "c3ca", "a5b7", 12, 0, true, false));
+ct_table03.put(List.of("c84a", "f347", "ade7", 0, 0, 0, false, false, false, "cbfe9", "a80b", 0, 0, false, false));
+ct_table03.remove("e981");
+ct_table03.put(List.of("dfc6", "eff2", "c342f", 0, 154433, 0, false, false, false, "ee75", "d90e", 0, 21, false, false));
+ct_table03.put(List.of("dc73", "de38", "e063", 0, 0, 0, false, false, true, "d351", "be6b", 0, 0, false, false));
+ct_table03.put(List.of("a96e", "bae37", "bcc2", 794, 1383, 0, false, false, true, "b84a", "ce0b", 0, 0, true, false));
+ct_table03.get("a608");
+ct_table03.remove("a265");
+ct_table03.put(List.of("fa9f", "d287b", "e2bd", 0, 0, 0, false, true, false, "ab4a", "bca5", 315789, 1, false, false));
+ct_table03.put(Arrays.asList("da4c", "f052", null, 7, 8, 13362, null, true, false, "bbfe1", "e177", 711, 0, false, false));
+ct_table03.put(List.of("eb0c", "a5b1", "fc2e", 2, 356, 0, true, false, false, "fafc", "e316", 0, 11595, true, true));
+ct_table03.remove("cbb7");
+ct_table03.put(List.of("e926", "b2c5", "bc7e", 0, 0, 0, false, true, false, "a2b7", "fcdc", 27, 0, false, true));
+ct_table03.remove("c758");
+ct_table03.remove("ecc1");
+ct_table03.remove("a952");
+ct_table03.put(List.of("d45d", "ba8f", "b47e", 20, 1003, 0, false, true, true, "a634", "a472", 0, 0, false, false));
+ct_table03.remove("af4c");
+ct_table03.put(List.of("dff9", "a2ef", "bc0e", 1, 0, 865613, false, false, true, "e1a9", "e15f", 6155, 0, false, false));
+ct_table03.put(Arrays.asList("b78c", "a7f5e", "d54f", 0, null, 12, false, true, false, "f962", "afdf", 0, 4699, false, true));
+ct_table03.put(List.of("abd2", "d5f9", "e4fc", 19794, 1, 0, true, true, true, "c1b8", "eba4", 0, 6, true, false));
+ct_table03.put(Arrays.asList("ba41d", "c786f", "d783", 0, 11, 0, false, true, true, "f08d", null, 0, 0, false, false));
+ct_table03.put(List.of("a81a", "c85b", "ed0f", 0, 43, 0, true, true, false, "c15e", "b7c78", 0, 1, false, false));
+ct_table03.put(List.of("d49e", "ccc7", "c78d", 3, 2, 0, false, false, false, "e6b1", "e178", 689, 62, true, true));
+ct_table03.put(List.of("bef1", "ec7c", "a6c2", 2, 8673, 0, false, true, true, "cf8c", "d01f", 246, 0, false, false));
+ct_table03.put(List.of("bfa2", "c5d30", "ab8d", 17, 0, 34155, false, true, false, "ed34", "b183", 0, 0, false, false));
+ct_table03.put(List.of("ccb3b", "ad9c", "f6cc", 221, 663380, 0, false, false, false, "fd60", "f869", 4, 0, false, true));
+ct_table03.put(Arrays.asList("a3e8", "b270", "f97bd", 0, 1, 4353, null, false, true, "bd47", "c07e", 0, 155, false, false));
+ct_table03.put(List.of("cd2a", "ac70", "ca37", 772, 223, 14277, false, false, true, "a69c", "f801", 118, 12, true, true));
+ct_table03.remove("b0a4");
+ct_table03.put(List.of("b44e", "a898", "fc1d", 0, 1, 0, true, false, false, "c061", "a397", 9457, 0, false, false));
+ct_table03.put(List.of("d4a2", "a4da", "c4af", 0, 0, 0, false, true, false, "c0d7", "c0be", 4170, 0, false, true));
+ct_table03.put(List.of("ae97", "a019", "cd16", 0, 0, 0, true, false, false, "ad2a9", "bcf6", 38150, 0, true, true));
+ct_table03.put(List.of("bb7e", "b942", "f36b", 0, 0, 10, true, true, true, "ad43", "d308", 10964, 1, true, false));
+ct_table03.put(List.of("f645", "a496", "fdc4", 285, 0, 0, true, false, true, "b289", "a13b", 0, 0, false, true));
+ct_table03.put(Arrays.asList("b29e", "bbf8", "c0b2", 7956, 0, 197, true, null, true, "e421", "fc94", 33, 0, false, false));
+ct_table03.put(List.of("dab9", "a214", "bcae", 96, 0, 11, true, false, false, "ff19", "bad3", 547, 0, true, false));
+ct_table03.remove("ba74");
+ct_table03.put(List.of("e1a7", "c469", "dfc4", 0, 41, 3, true, true, false, "bcbd", "ea5d8", 0, 0, true, false));
+ct_table03.put(List.of("c8db", "ef8b", "fc46", 222, 8825, 0, false, true, true, "c158", "be4f", 848, 0, false, false));
+ct_table03.put(List.of("a70c", "d266", "d3da", 0, 7, 4063, true, false, true, "cd79", "a33f", 0, 62, false, false));
+ct_table03.remove("f8f6");
+ct_table03.put(List.of("f55e", "a35af", "e2f6", 1, 19, 104, false, false, true, "c0b6", "e938", 12761, 0, true, true));
+ct_table03.put(List.of("eaf7", "e7f8", "b6be", 13, 0, 0, false, false, false, "d866", "f659", 0, 0, false, true));
+ct_table03.put(List.of("a1058", "abd6", "ad01", 4882, 0, 0, false, true, false, "b50b", "ef6e", 130, 0, true, false));
+ct_table03.put(List.of("bff8", "c12e", "dffe", 0, 0, 13, true, false, false, "b44c", "ae0c", 5668, 7, true, false));
+ct_table03.put(List.of("ae7b", "e63a", "d9aa", 943, 2, 40, false, true, false, "e96b", "c530", 9685, 0, true, true));
+ct_table03.remove("cfdd");
+ct_table03.put(List.of("a5a1", "ddda", "c872", 346621, 0, 0, false, true, true, "e5e7", "ff81", 402, 0, true, true));
+ct_table03.remove("b23f");
+ct_table03.put(List.of("a7ff", "c148", "e149", 1, 0, 0, true, false, false, "b878", "ea91", 0, 0, true, true));
+ct_table03.put(List.of("feb9", "b973", "ff72", 0, 58, 0, true, true, true, "c4b4", "bbcd", 0, 0, true, false));
+ct_table03.remove("b420");
+ct_table03.put(Arrays.asList("b063e", "d1c11", "dfdc", 1343, 0, 0, false, false, null, "f9a1", "b9e3", 89, 58, false, false));
+ct_table03.put(List.of("fc6f", "a120", "c203", 1623, 99, 5033, false, true, true, "b65a", "e65f", 1865, 0, true, false));
+ct_table03.put(List.of("c6dd", "a280", "c270", 0, 0, 1, false, true, false, "f3a2", "a1c6", 13, 4, false, false));
+ct_table03.put(Arrays.asList("a5b8", "a53d", "d748", 1917, 0, 0, true, true, false, "acd4", "a6b2", 2413, 346, false, null));
+ct_table03.put(List.of("f1ad", "a537", "ca7a", 0, 0, 14010, true, true, true, "a93b", "af93", 1, 80, false, true));
+ct_table03.put(List.of("ba06", "be94", "fe27", 0, 0, 176, true, true, true, "b7a4", "bee0", 7132, 0, false, true));
+ct_table03.remove("b14e");
+ct_table03.put(Arrays.asList("aea5", "d013", "aeba", 6257, 81, null, null, false, true, "a30a2", "ef50", 9611, 0, false, true));
+ct_table03.put(List.of("d9f9", "c99c", "bf63f", 5, 36, 0, false, false, false, "b4a8", "c1f9", 4292, 4744, false, false));
+ct_table03.put(List.of("fb20", "a68e", "beac", 79236, 0, 5, true, true, true, "b5c8", "e786", 32, 0, true, true));
+ct_table03.put(List.of("b525", "d06d", "d404", 0, 0, 0, false, true, true, "a8cf", "dd70", 1, 558, true, true));
+ct_table03.put(List.of("f9c6", "be77", "d964", 0, 385747, 0, true, true, false, "ebcf", "d506", 109, 5, false, true));
+ct_table03.put(List.of("ad86", "b745", "c504", 1, 9682, 0, true, false, false, "ec9d", "d047d", 0, 0, false, false));
+ct_table03.get("be87");
+ct_table03.get("c7de");
+ct_table03.put(List.of("b80f", "d5f6d", "a4db", 0, 0, 0, false, true, false, "cadc", "b41f6", 0, 11, true, true));
+ct_table03.put(List.of("cd35", "c28d", "ba25", 2564, 0, 6635, false, true, true, "a34d", "aa5d", 1, 0, false, false));
+ct_table03.put(Arrays.asList("af68", "d45ca", "e0b7", 120, 1158, 0, true, true, true, "b421b", "aa06", 0, 0, true, null));
+ct_table03.put(List.of("d4dcc", "b99f", "b8b1", 1590, 31, 4355, false, false, false, "d1510", "d537", 22840, 7037, true, false));
+ct_table03.put(List.of("b69a", "ddd2", "ccac", 0, 0, 0, false, false, false, "da37", "a2a0", 2, 0, false, false));
+ct_table03.put(List.of("d5ae", "ddf5", "b03c", 2602, 1798, 58, true, true, true, "ecbc", "c9df", 9, 0, true, true));
+ct_table03.remove("bbf4");
+ct_table03.put(Arrays.asList("a642", "b806", "d7a5", 48, null, 0, false, true, false, "aee9", "dde8", 3, 2884, true, false));
+ct_table03.put(List.of("d5d3", "e4b3", "fda1", 0, 1764, 6916, false, false, true, "a7b9cc", "ab50", 14, 0, false, false));
+ct_table03.get("afad8");
+ct_table03.remove("c73e");
+ct_table03.remove("a232");
+ct_table03.put(List.of("ce9d", "da38", "f60d", 0, 0, 56328, true, false, false, "b43f", "a389", 0, 0, true, false));
+ct_table03.remove("b0be");
+ct_table03.put(List.of("c069", "e39a", "ee18", 0, 0, 1, false, true, true, "a1e53", "decb", 0, 0, true, true));
+ct_table03.put(List.of("b81c", "e196", "bc37", 0, 2, 20, true, true, true, "b764", "b3ac", 0, 0, true, true));
+ct_table03.get("cd59");
+ct_table03.put(List.of("d68a", "c498", "bb91", 5, 11090, 0, false, false, true, "c8ff", "c0aa", 0, 0, true, true));
+ct_table03.put(List.of("d879", "add3", "f2ee", 0, 0, 62, false, true, false, "ce4f", "f93b", 0, 3, true, false));
+ct_table03.remove("cea5");
+ct_table03.put(List.of("bcc6", "a66a", "ed4c", 21, 4, 479, false, false, true, "d507", "b287", 1085, 0, false, false));
+ct_table03.put(List.of("bdcd", "db06", "d471", 0, 0, 1, false, true, false, "f08c", "c3b43", 0, 5503, false, false));
+ct_table03.put(List.of("c229", "bdac4", "a124", 0, 0, 166, true, false, true, "bd07", "ab4b", 0, 0, true, false));
+ct_table03.put(List.of("f161", "bafa", "a0a66", 0, 1131, 11, false, false, true, "c9c1", "fc14", 2791, 0, true, true));
+ct_table03.put(List.of("ca89", "b014", "d633", 0, 0, 485, true, false, true, "b272", "c3ac", 4, 0, true, false));
+ct_table03.put(Arrays.asList("b1eb", "dcf5c", "a2dd", 1, 226, 1, true, true, false, "cfcb", null, 0, 1, null, true));
+ct_table03.put(List.of("fdc5", "dcab", "ddcd", 0, 0, 0, false, true, true, "b397", "b8b2", 0, 0, true, true));
+ct_table03.remove("d89a");
+ct_table03.put(List.of("a7bc", "b7ad", "bb80", 25225, 37, 1787, false, false, true, "b924", "ab0b", 358, 2, true, true));
+ct_table03.remove("b3d7");
+ct_table03.put(List.of("b24f", "fe45", "b37ea", 258, 23, 1, true, false, false, "d454", "b6b6", 0, 376, false, true));
+ct_table03.remove("a6c0");
+ct_table03.put(List.of("f3fa", "a0ee", "af6b", 0, 3, 55, false, true, false, "d980", "c69f", 0, 18, true, false));
+ct_table03.get("ba82");
+ct_table03.put(Arrays.asList("e18b", "d45f", "a93f", 1857, null, 2, true, false, true, "a4386", "efc3", 0, 0, true, true));
+ct_table03.put(List.of("cd0d", "b25d", "b284", 8394, 7, 0, false, true, false, "f98d1", "a810", 91, 1071, false, false));
+ct_table03.remove("f5f0");
+ct_table03.put(List.of("f2fe", "b97a", "c33f", 0, 5, 1, true, true, false, "e7d0", "a82e", 10235, 0, false, false));
+ct_table03.remove("dbd8b");
+ct_table03.put(List.of("a04c", "a4a88", "dd1a", 26, 2, 101992, true, false, true, "f2c7", "e766", 292, 9059, false, true));
+ct_table03.remove("be50");
+ct_table03.remove("a6756");
+ct_table03.remove("c8e1");
+ct_table03.remove("fdc71");
+ct_table03.put(List.of("aa2e", "f461", "c4c3", 0, 273, 231, true, true, true, "f4f0", "dce4c", 4623, 21, true, true));
+ct_table03.put(List.of("aba6", "c90e", "e7c5", 0, 949671, 0, false, false, true, "afec", "a0ec", 0, 0, false, false));
+ct_table03.put(List.of("f1de", "d723", "dd64", 2510, 561, 797, true, false, true, "c8c1", "a226", 14, 25, false, true));
+ct_table03.put(List.of("ac6e", "d1d0", "b922", 400, 0, 83, true, false, true, "b99e", "ae55", 170, 95, true, true));
+ct_table03.remove("c6e1");
+ct_table03.put(List.of("cbe8", "c4b5", "a21c2", 0, 5889, 379, true, true, false, "ad2c", "e6c0", 0, 2824, true, true));
+ct_table03.put(List.of("f7b5", "f7d2", "de35", 1793, 0, 5482, false, true, true, "e728", "fd85", 33483, 0, true, true));
+ct_table03.put(List.of("f13b", "f996", "ae47", 3, 547, 29631, true, true, false, "a337", "a3eb", 41683, 106, true, false));
+ct_table03.put(List.of("cf48", "b8fc", "d324", 131, 0, 6367, true, false, true, "a16f", "ddea", 18, 7000, true, true));
+ct_table03.get("de9a");
+ct_table03.put(Arrays.asList("cc42", "a14c", "a5c4", 6, 59, 171, true, true, null, "bd05", "b6d1c", 0, 0, true, true));
+ct_table03.put(List.of("bf4f", "e3179", "a822", 0, 0, 2, false, true, false, "ad973", "b8e4", 667, 8, false, true));
+ct_table03.put(List.of("ea6a", "aa12", "af69", 239, 0, 2, false, true, true, "bfe6", "e4b7", 0, 13771, false, false));
+ct_table03.put(List.of("b1e2", "f96a", "f0ac", 0, 27, 0, true, false, false, "e86a", "ff3a", 5, 6654, true, true));
+ct_table03.put(List.of("aa83", "d0c1", "bb5b", 1, 0, 0, false, false, true, "c456", "e882", 0, 51, true, false));
+ct_table03.put(Arrays.asList("bc46e", "e549", "c426", 12, 0, 705, false, true, true, "e77f", "a782", null, 0, true, null));
+ct_table03.remove("b97d");
+ct_table03.remove("afe1");
+ct_table03.put(Arrays.asList("eb94", "f0a7", "f7e6", 13, 0, 0, false, true, false, "ccf3", "c9ae", 0, null, false, false));
+ct_table03.put(List.of("c81c", "aa40", "baad", 0, 636, 1, true, false, false, "d1c6", "b715", 70, 7, true, true));
+ct_table03.put(List.of("d709", "f0dad", "b501", 1, 0, 0, true, false, true, "a8bce", "f2c23", 5, 0, false, true));
+ct_table03.put(List.of("fd12", "bb04", "df86", 12068, 64, 5, false, false, true, "d8ba", "d6bf", 0, 0, false, true));
+ct_table03.remove("d913");
+ct_table03.put(List.of("e606", "b3fc", "d21a", 4, 0, 16, false, false, false, "ca7f", "cce0", 12, 5760, true, true));
+ct_table03.put(List.of("fa8c", "accd", "cbdb", 15, 0, 0, true, true, false, "ae2a", "b96b", 2, 0, true, false));
+ct_table03.get("cef7f");
+ct_table03.put(Arrays.asList("a219", "b91c", "b8f8", 0, 219, 2, false, null, true, "c489", "b296", 28, 0, true, false));
+ct_table03.put(Arrays.asList("c6ff", "ee45", "e3b7", 70222, 1717, 0, false, false, false, "ab98", "c222", null, 0, false, true));
+ct_table03.get("eb14");
+ct_table03.put(Arrays.asList("aeadb", null, "a369", 1592, 32137, 0, true, false, false, "c81b", "b3ee", 236, 4941, false, true));
+ct_table03.get("c7b1");
+ct_table03.put(List.of("c0b4", "ca82", "b207", 0, 68, 0, true, false, false, "baa8", "a9dd", 0, 0, false, false));
+ct_table03.put(List.of("a108", "fed9", "c1a4", 0, 2, 42, true, false, false, "db83d", "a830", 0, 0, true, false));
+ct_table03.remove("b82f");
+ct_table03.put(List.of("bbaa4", "db6d", "ca0a", 0, 44207, 0, true, false, false, "c210", "ccad", 21, 0, false, true));
+ct_table03.put(List.of("f1c1", "aef3", "dede", 177926, 0, 0, true, true, false, "fff4", "c0ed", 4602, 0, false, true));
+ct_table03.remove("b847");
+ct_table03.get("bf64");
+ct_table03.put(List.of("fe9b", "b974", "a77a", 0, 659, 513, false, false, true, "a85c", "b4c9", 1883, 1983, true, false));
+ct_table03.put(List.of("a307", "a87a", "bb22", 0, 2, 61, false, false, true, "f046", "be7a", 102, 0, true, true));
+ct_table03.put(List.of("f7b1", "b033", "be4ee", 0, 0, 8313, true, true, true, "bea1", "bf70", 74, 35, false, false));
+ct_table03.put(List.of("e397", "bf1f5", "aac3", 0, 427, 0, true, false, false, "e522", "ad40", 226, 4, false, false));
+ct_table03.put(List.of("fabf", "abc2", "c076", 5, 4, 9170, true, false, true, "a899", "dc7e", 17153, 3, true, false));
+ct_table03.put(List.of("d0cd", "db9a", "ae92", 0, 0, 0, true, true, true, "da46", "ff5c", 10183, 7, false, false));
+ct_table03.put(List.of("bbaa", "f3a7", "dd11", 0, 2, 283, false, true, true, "e517", "c4aa", 1, 24, true, true));
+ct_table03.put(List.of("b061", "c69c", "c383", 0, 0, 225, true, true, false, "d4ac", "ce87", 344, 14976, true, false));
+ct_table03.remove("c17c");
+ct_table03.put(List.of("fdb7", "e497", "b3c1", 1179, 0, 11, false, false, true, "d6e7", "a28a", 1048, 0, false, true));
+ct_table03.put(List.of("f223", "e331", "ae460", 10967, 120, 16, false, false, true, "ea28", "bf63", 26, 0, false, false));
+ct_table03.put(List.of("e85d", "fafd", "fd307", 0, 0, 0, true, false, false, "a573", "f573", 2, 0, true, false));
+ct_table03.put(List.of("c0e7", "c78e", "c5d1", 5189, 8, 0, false, false, true, "e58f", "a35b", 0, 0, false, true));
+ct_table03.put(List.of("a48b", "b071", "cf6469", 0, 0, 0, true, false, false, "daa7", "c836", 242, 0, true, true));
+ct_table03.put(List.of("de51", "f8f0", "da1d", 3, 52, 0, false, true, true, "f412", "e156", 0, 65, false, false));
+ct_table03.put(List.of("b5be", "eaa2", "b5fc", 7, 5, 3, false, true, false, "fb28", "cac5", 0, 19, true, true));
+ct_table03.put(List.of("a070", "ec74", "d0cb", 0, 34, 0, true, false, false, "f21ae", "b49d6", 11, 0, true, true));
+ct_table03.put(List.of("c810", "c338", "c136", 152548, 0, 9, false, true, true, "f3b5", "c5d0", 0, 0, false, false));
+ct_table03.put(List.of("b073", "e027", "eefc", 0, 0, 3, false, false, true, "c2fc", "be8c", 2, 14421, false, false));
+ct_table03.put(List.of("affe", "b098", "a6dd", 24, 3, 0, false, false, true, "d3ff", "cf17", 0, 0, false, false));
+ct_table03.get("bfc6");
+ct_table03.get("b450");
+ct_table03.put(List.of("ec2d", "b603", "f666", 0, 0, 11150, true, true, true, "f13d", "b9d3", 2985, 0, false, true));
+ct_table03.remove("ac94");
+ct_table03.put(List.of("d986", "d163", "a4bb", 0, 720, 0, true, false, false, "af3a", "c3f4", 0, 0, false, true));
+ct_table03.remove("f5b9");
+ct_table03.put(List.of("d57e", "bfd1", "f889", 1, 0, 3084, false, false, true, "bf5f", "bacf", 8, 518, false, true));
+ct_table03.put(List.of("c198", "a561", "ffbe6", 5107, 23950, 15, true, true, true, "aba4", "e250", 0, 0, false, true));
+ct_table03.get("d5f1");
+ct_table03.put(Arrays.asList("d79a", "bad56", "b579", 1, 0, 0, true, true, false, "a0d5", "a73f", 3383, 89, true, null));
+ct_table03.remove("c88e");
+ct_table03.put(List.of("aac4a", "d378", "fa53d", 48452, 1317, 1734, true, false, false, "f299", "e996", 93, 4466, false, true));
+ct_table03.remove("ffcc");
+ct_table03.put(List.of("ae380", "a034", "d9c2", 0, 177, 0, false, false, true, "bfd4", "d721", 7, 18312, false, true));
+ct_table03.put(List.of("ae69", "abf85", "a742", 0, 204, 0, true, false, false, "a332", "b976", 0, 0, false, true));
+ct_table03.put(List.of("a9f46", "d044", "a1fb", 0, 0, 0, true, true, false, "d9d4", "affa", 0, 2, true, false));
+ct_table03.put(List.of("cd03", "b2a1", "c310b", 0, 0, 385, false, false, true, "e0eb", "cd73c", 0, 0, true, true));
+ct_table03.put(Arrays.asList("b54c", "e8cf", "ffb4", 188, 159, 0, true, true, false, "c8fd", null, 22417, 3, false, false));
+ct_table03.remove("a06b");
+ct_table03.put(List.of("f73a", "e566", "a0d0", 0, 0, 0, false, false, false, "e4f0", "d3ba", 8, 0, true, false));
+ct_table03.remove("fb3c");
+ct_table03.put(Arrays.asList("b04b", "d029", "c488", null, 222, 0, false, true, false, "f2f9", "e427", 80686, 0, false, false));
+ct_table03.remove("bb71");
+ct_table03.put(List.of("b3b2", "be88", "bcfa", 646, 0, 0, false, true, false, "c9ed", "a064", 0, 1, true, true));
+ct_table03.put(List.of("c6d15", "d81c", "bab9", 789, 3509, 1, false, true, false, "b6e0", "c3e7", 237, 0, false, false));
+ct_table03.put(Arrays.asList("d86c", "e3fd", null, 0, 1, 0, false, true, true, "ac42", "a98c", 259, 0, true, false));
+ct_table03.put(List.of("a2f32", "bf54", "a51e", 0, 2, 0, false, false, true, "da35", "c873", 317, 1886, false, false));
+ct_table03.put(List.of("c59e", "a271", "f3df", 527, 2, 2, false, false, true, "a6978", "b5b0", 0, 569, false, true));
+ct_table03.put(List.of("ca61", "b6f5", "b656c", 92, 2397, 2229, true, false, false, "d1ec", "ab1c", 0, 0, true, false));
+ct_table03.remove("eb2e");
+ct_table03.get("a179");
+ct_table03.put(Arrays.asList("c78ae", "b995", "aa4c9", 0, 2, 0, true, false, false, "a81c", "afd2", 26, null, false, false));
+ct_table03.put(List.of("f227", "eb8a", "bf41", 1, 0, 254, false, false, false, "e402", "bbf0", 4, 0, true, false));
+ct_table03.put(List.of("ae1c9", "febc", "f8b3", 474, 0, 653, true, true, false, "f333", "f296", 500, 0, true, false));
+ct_table03.put(List.of("e007", "e17f", "e190", 1179, 12, 158, true, false, false, "c4f8", "a204", 0, 20725, true, true));
+ct_table03.put(Arrays.asList("cfe9", "c5de", "e543", 174185, null, 0, false, true, false, "ce37", "f189", 17, 1, true, false));
+ct_table03.put(List.of("b86b", "a371c", "adab", 473, 0, 129, false, true, false, "cf34", "b590", 3431, 0, true, false));
+ct_table03.remove("fc11");
+ct_table03.put(List.of("fbaa", "d498", "ef17", 0, 0, 0, true, true, false, "ea14", "a419", 0, 269, true, true));
+ct_table03.put(Arrays.asList("d323", "a2a1", "c095", 55, 2, 72, false, true, true, "b313", "e0ef", 0, 113, false, null));
+ct_table03.put(List.of("dd1b", "e1b1", "c8f2", 33, 0, 7570, true, true, false, "af42", "c154", 18143, 0, true, true));
+ct_table03.get("eef1");
+ct_table03.put(List.of("c228", "f1da6", "dbab", 5, 29326, 0, false, true, false, "ad16", "ef07", 163, 257, false, false));
+ct_table03.put(List.of("a7e3", "fe48", "a9fd", 0, 274, 1, false, true, false, "bcde", "e6648", 3617, 0, true, false));
+ct_table03.get("e9a5");
+ct_table03.put(List.of("b9e9", "e158", "a266", 25722, 0, 535, true, false, true, "cb50", "a01b", 0, 1070, true, true));
+ct_table03.put(List.of("bf28a", "bf55", "df27", 126, 22392, 0, true, false, false, "c868", "b294", 2, 31, true, false));
+ct_table03.put(List.of("b978", "ea2f", "dac7", 14, 0, 0, true, false, false, "d474", "ec87", 0, 0, true, true));
+ct_table03.remove("ea9a");
+ct_table03.put(List.of("ba8a", "b6a1", "fed8", 6, 255, 10, false, false, false, "cb6d", "c1e5", 0, 0, false, false));
+ct_table03.put(List.of("ce16", "ff916", "c4d6", 77, 4198, 0, false, false, false, "fb1d", "cd78", 1495, 29574, true, false));
+ct_table03.put(List.of("b7d4", "b60a", "e27cc", 3628, 7, 0, true, false, true, "deeb", "d2cc", 0, 0, false, true));
+ct_table03.put(List.of("c0cf", "fb5b", "c05a", 2, 32, 0, true, false, false, "a985", "a0578", 0, 1055, false, true));
+ct_table03.put(List.of("dd09", "f511", "b132", 14923, 1484, 867, false, true, false, "c86e", "a6c5c", 0, 14, true, true));
+ct_table03.put(List.of("bf85", "dea4", "e8e9", 2, 0, 0, true, true, false, "c7acc", "dcf9", 1, 10, false, false));
+ct_table03.put(List.of("a56e", "dc9e", "c652", 0, 0, 1802, true, true, true, "c10f", "d8e1", 0, 1, false, false));
+ct_table03.put(List.of("cf58", "a05d", "b0da", 214461, 0, 0, false, true, true, "e978", "d6a4", 84, 0, false, true));
+ct_table03.put(List.of("b575", "ac3e", "fe66", 0, 0, 1, false, true, false, "a2cf", "a013", 7, 534, true, false));
+ct_table03.put(List.of("cc23", "a282", "ed5d", 0, 492622, 448, true, false, true, "ab29", "d34c", 3, 2, false, true));
+ct_table03.get("a2bbc");
+ct_table03.put(List.of("e046", "a7b9", "f522", 65, 0, 201, true, true, false, "a869b", "a0a8", 0, 0, true, false));
+ct_table03.remove("b9e4");
+ct_table03.remove("dfaa");
+ct_table03.put(List.of("de37", "fc7e2", "dfd0", 0, 1670, 0, true, true, false, "e6a02", "a24f", 91766, 3, true, true));
+ct_table03.get("d90a");
+ct_table03.remove("cbd8");
+ct_table03.put(List.of("b32b", "ec00", "dcdb", 0, 84, 3, true, true, true, "e868", "a36d", 0, 453, false, true));
+ct_table03.remove("ba22");
+ct_table03.remove("acdf");
+ct_table03.put(Arrays.asList("c234", null, "d666", 97, 0, 0, false, false, false, "a1369", "bcf7", 0, 0, true, false));
+ct_table03.remove("a4937");
+ct_table03.remove("ab020");
+ct_table03.get("bfbf");
+ct_table03.get("af17");
+ct_table03.put(Arrays.asList("a0be2", "a2ab", "bcf1", 7877, null, 0, false, true, false, "a04e2", "d0b88", 0, 0, true, false));
+ct_table03.put(Arrays.asList("ba1e", "ae6d", "e5c1", 0, 257158, 0, true, null, false, "ef26", "b38f", 5810, 0, true, false));
+ct_table03.put(List.of("e867", "d1fe", "a8d0", 2718, 4708, 0, false, false, false, "c566", "c342", 37, 0, true, false));
+ct_table03.put(List.of("bb10", "c797", "bc12", 0, 0, 1, true, true, true, "f9de", "c5ea", 0, 5, false, true));
+ct_table03.put(List.of("b811", "fd57", "e731", 0, 3349, 62127, false, true, true, "cfc2", "a8d8", 1, 262, false, true));
+ct_table03.put(List.of("a7f0", "a895", "e545", 0, 1274, 7922, false, true, false, "aae0", "c567", 11098, 503, true, false));
+ct_table03.put(List.of("b852", "a306", "aedc", 0, 26, 0, true, true, false, "d4b2", "ddf3", 0, 2142, true, false));
+ct_table03.put(List.of("ab137", "c48c", "c93f", 0, 2165, 0, true, false, true, "b8676", "d6d6", 1033, 7, false, false));
+ct_table03.remove("aff7");
+ct_table03.put(List.of("b5f1", "d0d4", "e3c6", 0, 0, 0, true, true, false, "b3bd", "c7ba", 40, 48, false, false));
+ct_table03.put(List.of("a15d", "eba6", "d08f", 1098, 0, 452, false, false, false, "f1dc", "a7d8", 4, 79, false, true));
+ct_table03.put(List.of("f9aa12", "a003", "ab2a", 0, 8849, 0, false, false, true, "abc0", "e575", 14, 183, true, true));
+ct_table03.put(Arrays.asList("e346", "ce36", "ae9a", null, 324, 0, false, true, true, "e8d8", "d493", 0, 0, true, true));
+ct_table03.put(List.of("a6d34", "ca1b", "b9f3", 7465, 41208, 750, false, false, true, "a652", "ae65", 0, 77383, true, false));
+ct_table03.put(List.of("f761", "b865", "e0e3", 497, 2458, 0, false, true, false, "dff1", "b9ab", 0, 0, true, false));
+ct_table03.remove("f68c");
+ct_table03.put(List.of("ae18", "d565", "b8a5", 20, 14, 1286, true, false, false, "e8ad", "af4b", 0, 0, true, true));
+ct_table03.put(List.of("ec70", "d353", "a2d9", 187, 19, 7, false, true, true, "bc32", "abec", 0, 1729, false, true));
+ct_table03.get("aa37");
+ct_table03.get("ae35");
+ct_table03.put(List.of("bbe3", "ffc0", "d469", 16386, 1723, 9, false, false, true, "ee65", "c568", 12, 40, true, false));
+ct_table03.put(List.of("a446b", "a870", "ab467", 28752, 2812, 1787, true, false, false, "d711", "dd28", 11, 0, false, true));
+ct_table03.put(List.of("ce7b", "e7d6", "f50d", 0, 7251, 3, true, false, false, "c150", "a1a9", 0, 0, false, true));
+ct_table03.put(List.of("be17", "b908", "fdd6", 6932, 0, 0, false, true, false, "a6e4", "ed22", 0, 28007, true, true));
+ct_table03.put(List.of("ba16d", "ac33", "bfce", 1, 1189, 1835, false, false, false, "b492", "ecb6", 0, 0, true, false));
+ct_table03.remove("a129e");
+ct_table03.put(List.of("ac8f", "aeb0", "b0ec", 465180, 99, 13, true, false, false, "ca81", "a380", 2207, 0, false, true));
+ct_table03.get("eec0");
+ct_table03.remove("c6bb");
+ct_table03.put(List.of("c291", "f3643", "a223", 713783, 492, 0, true, false, true, "c6e6", "ee72", 0, 1, false, true));
+ct_table03.put(List.of("b96f", "eb06", "dc18", 80, 0, 206, true, false, false, "a17a", "e02a", 1, 0, true, false));
+ct_table03.put(Arrays.asList("f8a4", "d362", null, 714, 0, 3, true, true, true, "cec5", "f0b03", 0, 12, true, true));
+ct_table03.put(List.of("ea86", "f7e0", "c4e5", 7, 13, 22, false, true, false, "c10a", "a0088", 0, 306889, true, false));
+ct_table03.put(List.of("ef48", "af73", "cd37", 0, 0, 0, false, false, false, "acc3", "e6a4", 182, 0, false, false));
+ct_table03.put(List.of("ec14", "f673", "fbedc", 348, 0, 0, true, true, true, "ed64", "bfb5", 0, 465, false, true));
+ct_table03.put(Arrays.asList("d05d", "d5eb", null, 1, 0, 2, true, false, true, "ee87", "ccdc", 0, 6943, false, true));
+ct_table03.remove("c0cb");
+ct_table03.put(List.of("b2c4", "dd3f", "dc903", 166, 0, 8, false, false, false, "e52c", "c55a", 0, 184, false, false));
+ct_table03.put(List.of("e3bc", "d7c4b", "e3f6d", 2073, 0, 0, true, false, false, "a621", "bb87e", 4, 1207, true, true));
+ct_table03.put(List.of("a4f2", "f5db", "d557", 0, 0, 17197, true, true, true, "c9ff", "ed76", 508, 0, false, true));
+ct_table03.put(List.of("ba66", "f127", "ef01", 2, 0, 0, true, true, false, "b8b4", "bbb2", 2, 155, true, true));
+ct_table03.put(List.of("b222", "c483", "e1d7", 0, 0, 120633, true, false, true, "c3d2", "b639", 26, 358, false, true));
+ct_table03.put(Arrays.asList("ab13", "fcf6", "b75b6", 39, 751, 0, false, false, false, "d9d2", "a722", 10970, null, true, false));
+ct_table03.put(Arrays.asList("dc43", "a7c9", "a152", null, 0, 34740, true, true, false, "a006", "a726", 0, 2, true, true));
+ct_table03.put(List.of("b1f7", "b5a4", "c034c", 0, 62478, 203, false, true, false, "c790", "ee6a", 446, 26, false, true));
+ct_table03.put(List.of("abd0", "df13", "b7a5", 111, 0, 22, false, true, false, "d430", "bbd4", 0, 86, true, true));
+ct_table03.put(List.of("ec8d", "f35c", "bc84", 0, 99, 12, true, false, false, "fbf3", "b991", 0, 228, true, true));
+ct_table03.put(List.of("c2b1", "bf6d", "a743", 68, 1, 1040, true, true, false, "ee2e", "b958", 19521, 0, true, false));
+ct_table03.put(List.of("b585", "a362", "f89b", 8, 0, 1, false, true, false, "f95a", "c49d", 649, 0, false, true));
+ct_table03.put(List.of("af49", "add9", "b66c4", 66, 0, 26711, false, false, true, "adc1", "b570", 1226, 825, true, true));
+ct_table03.put(List.of("b775", "b7f0", "d0ee", 0, 59057, 0, true, false, true, "d4bf", "d9354", 978, 819, false, true));
+ct_table03.put(List.of("b2d9", "d3ef", "f2df", 0, 0, 18, true, false, true, "b0e5", "f5a4", 5, 0, false, true));
+ct_table03.put(List.of("dd24", "edda", "b53d8", 279, 2371, 0, true, false, true, "a66d", "a1b0", 6334, 26, true, true));
+ct_table03.get("b817");
+ct_table03.put(List.of("e7a9", "b999", "d705c", 1062, 691, 0, true, true, true, "bcca", "e94c", 1, 0, false, false));
+ct_table03.put(List.of("bdbc", "b52d", "d9bf", 151, 1022, 7, false, true, true, "acf8", "d67c", 78, 3495, false, false));
+ct_table03.put(List.of("a9e1", "d283", "cef9", 10444, 0, 4, false, true, false, "ec60", "ce61", 2, 3, false, false));
+ct_table03.put(List.of("c87d", "b824c", "bfea2", 0, 5, 263, true, true, true, "e019", "dc10", 1, 3896, false, false));
+ct_table03.put(Arrays.asList("aeda", null, "ef7c", 0, 517, 0, false, true, true, "e47d", "db9e", 0, 0, true, true));
+ct_table03.put(List.of("ae0fd", "c949", "b2ef", 0, 3441, 0, false, true, true, "b2d2", "a647", 0, 0, false, true));
+ct_table03.put(List.of("a754", "de99", "d031", 0, 0, 1457, false, true, false, "b507", "fa65", 2, 1006, false, false));
+ct_table03.put(List.of("a036", "ad23", "f7f3", 5, 0, 0, true, false, false, "c3b68", "b638", 0, 143, true, false));
+ct_table03.put(List.of("fc13", "c559", "f921", 44, 1, 45, true, true, true, "a2bcb", "c062", 0, 0, true, false));
+ct_table03.put(List.of("bc5c", "f05a", "cd85", 0, 0, 0, true, false, false, "a493", "d96a", 78, 0, true, true));
+ct_table03.remove("d683");
+ct_table03.put(Arrays.asList("c878", "ebf9", "c16b", 1, 0, 959, true, null, false, "f667", "c7fc", 0, 0, true, false));
+ct_table03.put(List.of("c712", "c4c4", "f0a9e", 0, 247, 28, false, true, false, "a085", "d35b", 0, 1, false, true));
+ct_table03.put(Arrays.asList(null, "fe40", "e46b9", 473, 25, 3022, true, true, false, "f42e", "f19f", 0, 0, false, true));
+ct_table03.remove("fb6df");
+ct_table03.put(List.of("a363", "bd90", "abea8", 31, 0, 0, true, true, false, "c27e", "ad83", 0, 19470, true, false));
+ct_table03.remove("d31f");
+ct_table03.put(List.of("ed6e", "ae1c", "bb60", 153, 10633, 0, true, true, true, "c232", "a4d9a", 0, 146, false, false));
+ct_table03.put(Arrays.asList("fc7b", "bd66", "b245", null, 1, 409, false, true, true, "ed3e", "ab57", 0, 0, false, true));
+ct_table03.put(List.of("ec21", "b2a9", "b0f0", 60, 77, 72, false, false, false, "fe1e", "b8c0", 0, 0, false, false));
+ct_table03.get("f56b");
+ct_table03.put(List.of("a193", "d7e4", "b9f5e", 0, 124, 1425, true, false, false, "b33f", "ffc4", 81, 0, false, false));
+ct_table03.remove("b7b5");
+ct_table03.put(Arrays.asList("ad1d", "ca2d", "f999", 20, 0, 5742, null, false, true, "c7a2", "b5d1", 6, 0, false, false));
+ct_table03.put(List.of("d1c1", "b31f", "da0f", 123, 6, 3, false, false, true, "a957", "abe7", 110, 13, false, false));
+ct_table03.put(List.of("bbc7c", "a1cd", "c32c", 0, 0, 105, true, true, false, "b19e", "d801", 0, 107, false, true));
+ct_table03.get("affb");
+ct_table03.put(List.of("a17f", "ec21d", "a677f", 1360, 0, 231848, false, false, false, "cd6b", "c924", 116, 30441, true, true));
+ct_table03.put(Arrays.asList("b1f1", "bfea", "c5e6", 0, 36, 0, true, false, false, "c15c", null, 0, 0, false, true));
+ct_table03.remove("ee50");
+ct_table03.put(List.of("c1dd", "d436", "acb3", 0, 5, 437, false, true, true, "e2dc", "f9ea", 253, 1, false, true));
+ct_table03.remove("da19");
+ct_table03.get("da34");
+ct_table03.put(List.of("f120", "c526", "b0478", 0, 0, 0, false, false, false, "d92a", "dea0", 239, 395, true, true));
+ct_table03.put(List.of("ba118", "a699", "ffb3", 63, 2, 9, false, true, true, "caee", "e561", 0, 6, false, true));
+ct_table03.put(List.of("a7bd1", "ac91", "aa03", 1, 59, 0, true, false, false, "f1f1", "a795", 0, 167, false, true));
+ct_table03.put(List.of("c5cb", "e166", "aa15", 82, 7, 49003, true, false, false, "a8972", "d3a6", 92, 0, true, false));
+ct_table03.put(Arrays.asList("c19c", null, "e2a5", 0, 0, 0, true, false, false, "f4fd", "edcb", 587, 267462, false, false));
+ct_table03.put(List.of("d85d1", "c1e4", "f1eb", 2692, 1128, 0, true, true, true, "cf62", "d564", 8697, 77, true, true));
+ct_table03.get("bd29");
+ct_table03.put(List.of("cbf7", "dc5f", "e7b4", 2507, 78, 20, false, false, true, "b4d1", "ae48e", 0, 0, true, true));
+ct_table03.put(List.of("d050", "a513", "ad94", 417, 0, 11, false, true, false, "eb91", "d254", 1, 0, false, true));
+ct_table03.put(List.of("f992", "b944", "de7e", 0, 0, 6345, true, true, true, "e8b2", "f533", 85, 6, true, false));
+ct_table03.put(List.of("a0b5", "cc8c", "ae0e", 21465, 0, 0, false, true, false, "b0ef", "fb8b", 3, 0, false, false));
+ct_table03.remove("df42");
+ct_table03.put(List.of("ebdf", "cb20", "bfff", 0, 345, 4, false, false, true, "c6d3", "a21c5", 35, 379, false, true));
+ct_table03.get("ebce");
+ct_table03.put(List.of("a8fd", "ca95", "e07b", 0, 0, 6, false, true, true, "e0bb", "eed8", 96, 336007, true, false));
+ct_table03.put(List.of("dd58", "f636", "f9ac", 0, 0, 1, true, false, true, "a201", "f25d", 0, 5046, true, true));
+ct_table03.get("e76a");
+ct_table03.put(List.of("b505", "d0c2", "cc62", 0, 10, 95352, false, false, false, "e3c8", "ab67", 0, 0, true, false));
+ct_table03.remove("e340");
+ct_table03.put(List.of("ae85", "bc50", "e356", 0, 0, 0, true, true, false, "b1a8", "e17ec", 12, 60, false, false));
+ct_table03.put(List.of("c3408", "cf45", "b9e8", 0, 530, 0, false, true, false, "e4d0", "fe58", 0, 3, false, false));
+ct_table03.put(List.of("b2ae", "eccc", "bac6", 0, 4084, 22, false, false, true, "da45", "f737", 0, 9874, true, false));
+ct_table03.get("e828");
+ct_table03.put(List.of("ea1f", "e7b2", "e18a", 386, 2868, 64, true, true, true, "d24a", "c88b7", 1, 0, false, false));
+ct_table03.get("e53d");
+ct_table03.put(List.of("e456", "f95b", "c911", 0, 127, 6, true, true, false, "eb0b", "b5cc", 515, 0, false, false));
+ct_table03.remove("aa16");
+ct_table03.get("f031");
+ct_table03.put(List.of("cce9", "ab8b", "b4f8", 0, 180, 5898, false, true, false, "c8a7", "c2dd", 40805, 258, true, false));
+ct_table03.put(List.of("fc12", "bed0", "fdb6", 645270, 0, 124, true, false, false, "a3c7", "b13e", 604, 13450, true, false));
+ct_table03.put(List.of("be28", "d57ec", "e2f5", 10, 0, 206, true, true, true, "a2e6", "ee5d2", 0, 0, true, true));
+ct_table03.put(List.of("c124", "b637", "a53f", 0, 0, 4, false, false, true, "f2bd", "a636b", 0, 0, true, true));
+ct_table03.put(List.of("faf2", "cd928", "df7e", 0, 0, 69, true, false, false, "adfc", "c019", 0, 56, false, true));
+ct_table03.put(List.of("df1a", "d67b", "ed21", 1, 485, 1009, true, true, true, "e54a", "e643", 0, 1, false, true));
+ct_table03.put(List.of("a08bf", "b566", "f887b", 0, 0, 12, true, false, false, "f6fb", "f534", 78, 2622, false, false));
+ct_table03.put(List.of("df51", "d6a8", "a824", 3549, 0, 1, true, true, false, "a3aa2", "a0ec4", 0, 0, true, false));
+ct_table03.put(List.of("cc04", "aeff", "b40c", 1307788, 0, 0, true, true, true, "e8c82", "cf20e", 4, 788, false, false));
+ct_table03.remove("ac44");
+ct_table03.put(List.of("bebb", "ffcb", "f3c0", 0, 14536, 5, false, true, false, "ab2b", "c033", 45, 5, true, false));
+ct_table03.put(List.of("a6ac", "abd84", "d8ca", 10530, 0, 0, false, false, true, "b07ef", "bb3e", 0, 16, true, false));
+ct_table03.remove("c66c");
+ct_table03.put(List.of("cb23", "cec6", "d1e0c", 816, 1623, 0, false, false, true, "ce83", "bcd2", 12458, 0, true, false));
+ct_table03.put(List.of("b7fb", "c174", "decf", 0, 3, 0, true, false, true, "ae89", "cf20", 8, 1, true, true));
+ct_table03.put(List.of("da6c", "b13b", "a448", 1, 510, 30484, false, false, false, "a958", "d367", 0, 11, false, true));
+ct_table03.put(List.of("af48", "f137", "a70db", 0, 0, 3, false, true, false, "a94b", "a27e", 566, 0, true, true));
+ct_table03.put(List.of("e42e", "b173", "c4a9", 476, 0, 42, false, true, true, "c5c16", "fada", 0, 0, true, true));
+ct_table03.put(List.of("d978", "bfc2", "e48b", 812, 1, 34469, true, false, true, "ea2c", "fc6c", 21, 1570, false, true));
+ct_table03.put(List.of("c221", "ab6a", "a34a", 42, 58, 0, true, false, true, "fea7", "b90d5", 5, 0, true, true));
+ct_table03.put(List.of("fe24", "cb9a", "ceffe", 1, 0, 6834, false, false, false, "af95", "c987", 4, 0, true, false));
+ct_table03.get("ad727");
+ct_table03.remove("d8e37");
+ct_table03.put(List.of("ab69", "a596", "b16b", 1234, 173, 26211, false, false, false, "af1d", "ebe9d", 9, 0, true, true));
+ct_table03.put(List.of("dc05", "a2e0", "b337", 31, 5194, 4, false, true, false, "cd50", "d72a", 0, 259, false, false));
+ct_table03.put(Arrays.asList("a2a9", "d8b6", "afb4", 5, 1083, 1090, false, true, false, "b9d1", "a98a", 120, 394, true, null));
+ct_table03.put(Arrays.asList("c7f9", "afd1", "ad03", 1, null, 0, true, true, true, "ada4", "f155", 184, 0, false, false));
+ct_table03.remove("ebb5");
+ct_table03.put(List.of("e9bc", "e433", "b4856", 0, 0, 73, true, true, false, "d494", "f4d3", 4119, 0, true, false));
+ct_table03.put(List.of("bebe", "c688", "f388", 0, 0, 2928, true, false, false, "c00d8", "e95f", 0, 62231, true, false));
+ct_table03.put(List.of("af2c", "a025", "f49c", 0, 2614, 2, true, true, true, "c787", "d01e", 15, 0, false, false));
+ct_table03.put(List.of("fc9a", "df84", "d7672", 7, 51945, 0, true, false, false, "a975", "cfe2d", 294, 715, true, true));
+ct_table03.remove("c102");
+ct_table03.put(List.of("cfb2", "f657", "d368", 301, 764, 0, false, false, true, "d64c", "a603", 0, 34, false, true));
+ct_table03.get("f670");
+ct_table03.put(Arrays.asList("f8fe", "a841", "b25b", 2, 1, 10980, true, false, true, "a23a", "ba0dc", 51, 33, null, true));
+ct_table03.put(List.of("e6d1", "dd0a", "af3c", 0, 5, 1930, false, false, true, "cf44", "dfcc", 34, 16, true, false));
+ct_table03.put(List.of("d728", "a9523", "ca2f", 4, 0, 1, false, true, false, "abad", "b668", 1719, 0, false, false));
+ct_table03.put(List.of("d582", "f34d", "e848", 28, 291, 2, false, false, false, "e771", "df990", 8, 23935, false, true));
+ct_table03.remove("cc558");
+ct_table03.remove("a8ba");
+ct_table03.get("c1eb");
+ct_table03.put(List.of("a9e9", "f0296", "ae23", 0, 0, 0, false, true, true, "de6f0", "e591", 84, 0, true, false));
+ct_table03.put(List.of("c101", "e7fa", "a3bf", 124281, 0, 9, false, true, false, "e01b", "e711", 0, 36798, true, true));
+ct_table03.put(Arrays.asList(null, "b491", "cd76", 0, 22506, 365, false, true, true, "d30c", "d519", 0, 273, false, false));
+ct_table03.put(List.of("c7ce", "c993", "d731", 4, 0, 0, true, false, false, "f56a", "a5fc7", 0, 0, true, false));
+ct_table03.put(List.of("a308d", "b4e0", "fb1a", 0, 296, 0, true, true, false, "b8cc", "c009", 678740, 0, true, true));
+ct_table03.put(List.of("dc444", "ae5c", "ca58", 0, 0, 0, true, false, true, "eb6f", "d26a", 0, 0, true, false));
+ct_table03.put(List.of("e9f5", "b8cb", "ec88", 0, 9023, 26, false, false, true, "fd81", "e63d", 1, 33635, false, true));
+ct_table03.put(List.of("b1c0", "d6af", "f070", 212, 71, 0, true, true, true, "aab5", "cb89", 4063, 127, false, true));
+ct_table03.put(List.of("e942", "f7ae", "fc65", 0, 0, 6, false, false, true, "ba73", "cf81", 0, 9, false, true));
+ct_table03.put(Arrays.asList("a1a1", null, "ae6a", 0, 0, 0, false, true, false, "b158", "a392", 0, 0, true, false));
+ct_table03.put(List.of("f1e0", "a16e", "c1d8", 0, 0, 0, false, false, false, "eaf5", "ec82", 0, 0, false, false));
+ct_table03.get("a9dc");
+ct_table03.remove("eabf");
+ct_table03.put(List.of("f843", "d1ed", "a9d4", 0, 0, 2957, true, false, false, "b463", "bd76", 375, 0, false, false));
+ct_table03.put(List.of("c275", "da93", "c0a8", 4, 20, 1, true, true, false, "eab2", "f5bd", 0, 341, true, true));
+ct_table03.put(List.of("e319", "d1c4", "bd57", 4, 0, 0, false, false, true, "bfa7", "a0d3", 0, 6, false, false));
+ct_table03.put(List.of("dcc2", "e473", "ce76", 414, 9561, 0, false, false, false, "b45f0", "a126", 6499, 1141, false, false));
+ct_table03.put(List.of("d0c4", "dae8", "a068", 0, 9438, 519, true, false, true, "d676", "cf2d", 1497, 0, false, true));
+ct_table03.remove("ee54");
+ct_table03.put(List.of("e685", "cfedb", "b7ba", 0, 0, 0, true, false, false, "df58", "acc8", 23, 345313, true, true));
+ct_table03.put(List.of("cf1d", "a662", "a36b", 0, 260, 0, true, false, false, "e2b2", "f112f", 221, 3330, true, true));
+ct_table03.put(List.of("a69b", "da47", "c1bd", 3174, 0, 3963, false, true, true, "cd71", "ed84", 0, 466, true, true));
+ct_table03.put(List.of("b6882", "a5f3", "f3f9", 0, 197057, 0, false, false, false, "dc5b", "db44", 9054, 260, false, false));
+ct_table03.remove("fcfc");
+ct_table03.get("c6c8");
+ct_table03.get("b56c");
+ct_table03.put(Arrays.asList(null, "c61c", "c8e2", 3, 0, 0, false, true, true, "c598", "d15b2", 317, 19, false, false));
+ct_table03.remove("a74f");
+ct_table03.remove("f6b4");
+ct_table03.put(List.of("dc67", "b3301", "b04c", 0, 18128, 46, false, true, true, "c4c8", "a0cf", 3975, 0, true, false));
+ct_table03.put(List.of("ac9a", "f98e", "f8f7", 0, 55, 0, false, true, false, "abf2", "b48a", 0, 0, true, false));
+ct_table03.put(Arrays.asList("fdde", "eeae", "b6af", 0, 0, 0, false, false, false, "fe67", "af44", 2, 0, null, true));
+ct_table03.remove("dd6b");
+ct_table03.put(List.of("d7d5", "b85c", "c045", 0, 0, 1, true, true, true, "d194", "ef49", 0, 0, true, true));
+ct_table03.remove("c521");
+ct_table03.put(List.of("ad3c", "c9e2", "c9c9", 1510, 0, 2685, false, true, false, "be35", "c94b", 3, 0, true, true));
+ct_table03.remove("dcb1");
+ct_table03.put(List.of("e827", "ae5e", "ac25", 0, 0, 0, false, true, false, "b124", "a447", 0, 2, true, true));
+ct_table03.put(List.of("f658", "cd2d", "c4d9", 30, 8, 0, false, false, true, "f789", "a393", 0, 3250, true, false));
+ct_table03.remove("d850");
+ct_table03.put(List.of("e46d", "ca02", "c9fb", 1, 9, 2, true, true, true, "d7cc", "dee2", 0, 70, true, true));
+ct_table03.get("fa265");
+ct_table03.remove("eb49");
+ct_table03.remove("a62d");
+ct_table03.put(List.of("df457", "ddb8", "b217", 197, 0, 3, false, true, false, "f148", "f655", 0, 0, true, false));
+ct_table03.get("a99c");
+ct_table03.put(Arrays.asList("c40a", "a0740", "bb76", 1049, 73, 0, null, true, true, "aa2d", "b2c0a", 12501, 0, true, false));
+ct_table03.put(List.of("bb2c", "b6f2", "af1f", 8611, 0, 0, false, true, false, "ac47", "cf4a", 0, 1, true, true));
+ct_table03.put(List.of("a584f", "daa4", "c423", 55, 226, 1951, false, false, false, "b343", "f0c7", 4371, 102, true, false));
+ct_table03.get("bf15");
+ct_table03.put(List.of("e7fe", "dd01", "baf6b", 0, 13757, 0, false, true, false, "bf48", "ac02", 0, 0, false, false));
+ct_table03.put(List.of("e819", "bbdd", "a92b", 0, 0, 0, false, false, false, "e049", "bd82", 58369, 17973, false, true));
+ct_table03.remove("ae01");
+ct_table03.put(List.of("ff09", "fd9a", "ad7b", 30, 0, 0, false, false, true, "bd95", "b323", 26, 3614, true, false));
+ct_table03.put(List.of("b51e6", "b0c0", "ffa2", 0, 626967, 0, true, false, true, "a186", "aae7", 98, 0, true, false));
+ct_table03.put(Arrays.asList("c748", null, "a05a", 112, 12614, 0, false, false, true, "d9da", "b68c6", 2, 0, true, false));
+ct_table03.remove("a197b");
+ct_table03.remove("fd58");
+ct_table03.remove("a89c");
+ct_table03.put(List.of("e3b9", "b46b", "e9ad", 0, 24812, 42436, true, true, false, "a946", "cc3f", 54, 0, false, true));
+ct_table03.put(List.of("a59b", "c7a6", "b3f8", 4714, 0, 87, false, false, true, "a70a", "b339", 51, 461, true, false));
+ct_table03.put(List.of("c056", "af26", "c838", 6, 0, 2106, true, true, false, "f0da", "efa3", 20, 0, true, false));
+ct_table03.remove("bdd5");
+ct_table03.put(List.of("e4d1", "cb560", "a28f", 0, 302, 1, false, true, false, "ae82", "d791", 35, 0, false, true));
+ct_table03.remove("b83c");
+ct_table03.put(List.of("ce45", "a4c5", "bde7", 2, 0, 782, false, false, true, "e308", "a478", 24, 1, false, false));
+ct_table03.put(List.of("e71e", "c64e", "ac21", 264, 84, 481, true, true, true, "a07e", "be23", 1135, 0, true, true));
+ct_table03.put(List.of("a8e2", "c169", "d24e", 8398, 50, 940, false, false, false, "fbe2", "f4d6", 0, 219, true, true));
+ct_table03.put(Arrays.asList("befa", "f58a", "f1fd", 3, 0, null, true, true, true, "fc53", "a949", 54, 11983, true, false));
+ct_table03.remove("a9bca");
+ct_table03.put(List.of("f77e", "bd49", "b22f", 0, 26, 0, false, false, true, "a3ac", "b856", 8697, 54, false, true));
+ct_table03.put(List.of("f9e5", "af14", "bea9", 0, 14133, 0, true, false, true, "eb44", "fb2a", 396, 65, false, false));
+ct_table03.remove("e2eb");
+ct_table03.put(Arrays.asList("d222", "bf30", "fda9", 0, 2363, 21, true, false, false, "a8a9", "d601", null, 0, true, false));
+ct_table03.put(List.of("f631", "e350", "d2719", 1, 27, 27, false, true, false, "d99b", "b5b6", 1199, 488, true, false));
+ct_table03.put(List.of("f703b", "d312", "fd78", 0, 0, 0, false, false, true, "c4d7", "af97", 105869, 0, false, false));
+ct_table03.remove("a4d3");
+ct_table03.put(List.of("bd04", "a72a", "c419", 0, 12, 0, false, false, false, "e4d9", "fbbd", 0, 0, false, false));
+ct_table03.put(List.of("ddf14", "a2be", "d715", 50, 1245, 1, true, true, true, "b773", "e70b", 145914, 19485, false, true));
+ct_table03.put(Arrays.asList("db2d", "a387", "afcb", 0, 5494, 1241, true, true, false, "ee99", "c9e5", 0, null, true, true));
+ct_table03.remove("fbfb");
+ct_table03.put(Arrays.asList("ae15", "ca6b", "bb87", 69, null, 2424, false, false, false, "c29a", "a128", 1, 0, false, true));
+ct_table03.put(List.of("d279", "e7a0", "c0d2", 6709, 660, 0, false, false, false, "d563", "d2a8", 0, 0, false, false));
+ct_table03.remove("cefc");
+ct_table03.put(List.of("df39", "eff5", "a02f", 0, 5493, 0, true, true, true, "bcfb", "cf08", 0, 0, true, false));
+ct_table03.put(List.of("eca3", "a494", "aaa2", 20621, 27, 14, true, true, true, "efad", "b2f4", 0, 0, true, true));
+ct_table03.remove("ce1c");
+ct_table03.remove("c493");
+ct_table03.put(List.of("b1144", "e677", "c7d7", 38, 1670, 1, true, false, false, "c7dc", "c7be", 0, 67, true, true));
+ct_table03.remove("c223");
+ct_table03.put(List.of("ea02", "b389", "b11c", 0, 0, 0, true, true, false, "a8e5", "bb1c", 0, 0, true, false));
+ct_table03.put(Arrays.asList("e017", "fd2d", null, 0, 9, 177, true, false, false, "a37b", "db81", 4388, 0, true, false));
+ct_table03.put(List.of("c1cd9", "daee", "e9df", 10, 478, 0, false, false, false, "c64d", "c35e", 62, 351, false, true));
+ct_table03.put(List.of("eed7", "a072", "fbae", 0, 0, 0, true, false, false, "ec1f", "be24", 0, 0, true, false));
+ct_table03.put(List.of("b5aa", "d505", "b53a", 0, 7, 25423, false, true, true, "c09d", "a2926", 1, 31, true, true));
+ct_table03.remove("f2b7");
+ct_table03.remove("d9533");
+ct_table03.put(List.of("a7fb", "b506", "a292", 17185, 2, 0, false, false, false, "af76", "aac54", 0, 2, true, true));
+ct_table03.get("ac76");
+ct_table03.remove("dbbfb");
+ct_table03.remove("e7d8");
+ct_table03.put(List.of("f3f3", "e3a7", "a86a6", 331, 1, 253, true, true, false, "d3e0", "bb58", 410, 9, true, true));
+ct_table03.put(List.of("c7d0", "d8ec", "c8d9", 0, 4, 6459, false, true, false, "c96d", "f95d", 1097, 0, false, true));
+ct_table03.put(List.of("da42", "d6865", "d37e", 3205, 12244, 0, false, true, true, "aa5f", "c04b", 0, 2923, true, false));
+ct_table03.put(Arrays.asList("aa44", "a3a75", "f5b8", 4037, 0, 0, false, true, null, "cd17", "d0db", 203, 26, true, true));
+ct_table03.put(List.of("bc95", "ced1", "d26d", 34, 0, 9, false, true, false, "e35d", "ed2e", 655, 0, false, true));
+ct_table03.put(List.of("aebd", "da5b", "d22a", 8, 775, 0, true, false, true, "b24e", "b36d", 1784, 241, true, true));
+ct_table03.put(List.of("b05a", "edd1", "e512", 0, 0, 6181, false, false, true, "b309", "c715", 345, 13115, false, true));
+ct_table03.remove("ab94");
+ct_table03.put(List.of("c8fa", "fa91", "e84d", 273, 363, 0, true, false, true, "e0f0", "cdcf", 0, 91346, true, false));
+ct_table03.remove("ef84");
+ct_table03.remove("dec5");
+ct_table03.put(List.of("a803", "efe6", "f811", 0, 516, 162, true, false, true, "d38b", "cbb5", 57, 148, true, false));
+ct_table03.put(List.of("a32a", "d5ad", "b699", 44, 0, 1, false, false, false, "ebde9", "a114", 0, 87, true, true));
+ct_table03.remove("ae31");
+ct_table03.put(List.of("ec7d", "b14a", "c9a4", 260, 0, 59631, false, true, true, "ca91", "de12b", 4547, 35, true, false));
+ct_table03.put(List.of("ad65", "ba5b", "a153", 1677, 8, 0, false, true, true, "c3a9", "e022", 0, 1223, false, true));
+ct_table03.put(List.of("a32f", "b227", "de80", 0, 0, 0, true, true, true, "eaee", "b57ec", 0, 780, false, false));
+ct_table03.put(List.of("f68d", "b3d2", "d195", 0, 1294, 0, false, true, false, "ace1", "a093a", 40848, 0, false, true));
+ct_table03.put(List.of("c11e", "a05b", "acf0", 884, 0, 0, true, false, false, "f9b9", "bd60", 1145, 12, false, true));
+ct_table03.remove("d735");
+ct_table03.put(List.of("ce13", "b93a", "a69d", 0, 210, 1452, true, false, true, "a031", "a73c", 0, 59, false, true));
+ct_table03.put(List.of("aa85", "b91e", "fd90", 1336, 1, 0, false, true, true, "ad7c", "cb6b", 126, 1, false, false));
+ct_table03.put(Arrays.asList("f745", "d4f2", "a1c9", 0, 0, 21, true, false, true, "beee", "ddb5", 0, null, false, true));
+ct_table03.put(Arrays.asList("c973", "ab7a", "c031", 4, 1207, 0, true, false, false, "f938", "df2f", 12, null, true, false));
+ct_table03.put(List.of("a9a25", "c334", "a864", 2554, 138, 177, true, false, true, "a755", "c98f", 0, 0, false, true));
+ct_table03.put(List.of("a246", "a59a", "ee52", 0, 0, 0, true, true, false, "d049", "fe8c", 12, 0, false, false));
+ct_table03.put(List.of("e04e", "cd1c", "a37a", 0, 21804, 0, true, false, true, "b51c", "bcff", 0, 1040465, false, true));
+ct_table03.put(List.of("c77c", "cd25", "a294", 0, 148, 2939, true, false, false, "bc35", "ba99", 0, 3775, false, true));
+ct_table03.put(List.of("e652", "fab1", "db46", 621461, 604, 295, true, false, true, "a55e", "be25", 0, 0, false, true));
+ct_table03.put(Arrays.asList(null, "cbb0f", "abb8f", 0, 0, 0, true, false, true, "e1f0", "d73d", 472, 0, false, true));
+ct_table03.put(List.of("b861", "d6b3", "bb28", 41, 13, 0, true, true, true, "cfdc", "b32f", 133, 7644, false, false));
+ct_table03.put(List.of("f451a", "c4fc", "f566", 0, 4364, 1, false, true, true, "df08e", "c24e", 1172, 0, true, true));
+ct_table03.put(List.of("afe6", "a1c1", "feb1", 0, 2, 0, false, false, true, "ab8c", "b054", 698, 0, false, false));
+ct_table03.put(List.of("bf2d", "df11", "cce6", 4, 1, 24, false, false, false, "faf1", "ca9b2", 20, 0, true, false));
+ct_table03.get("fee3");
+ct_table03.put(Arrays.asList("c2cc", null, "cddf", 0, 27105, 42, false, true, false, "bbce", "c54f", 45, 7669, true, false));
+ct_table03.put(List.of("eef0", "cd72", "f8ec", 0, 6, 317, true, false, false, "e585", "d10fd", 0, 25070, false, false));
+ct_table03.put(List.of("db4d", "ab85", "fd3e", 0, 543, 0, false, false, false, "bba7", "f1681", 107, 543, true, false));
+ct_table03.put(List.of("f4e64", "c9bc", "f01a", 0, 0, 1406, false, true, false, "c1cb", "c570", 0, 13, false, true));
+ct_table03.put(List.of("b57f", "ec05", "f977", 290, 2, 662, true, true, true, "f4ed", "ef40", 27, 17, false, true));
+ct_table03.remove("d6ce");
+ct_table03.remove("c7f4");
+ct_table03.remove("c457");
+ct_table03.put(Arrays.asList("e520", "f07a", "bd32", 0, 973, 0, true, true, true, "e059", "cf5f", 0, null, false, true));
+ct_table03.put(List.of("af996", "c139", "e31f", 0, 187, 0, true, false, true, "ad2f", "a2fa", 85, 0, false, true));
+ct_table03.put(List.of("c364", "ba89", "eca8", 0, 33233, 158, false, false, true, "b2eb", "a31f", 43, 0, true, false));
+ct_table03.get("ef57");
+ct_table03.put(List.of("bd19", "c9e72", "c0c3", 5, 1, 47, true, false, true, "a244", "f5b2", 195, 154195, true, true));
+ct_table03.put(List.of("fe42", "fa4b", "e54f", 2411, 0, 697, true, false, false, "eccbb", "b6c9", 177, 0, true, true));
+ct_table03.put(List.of("e77c", "c3d8", "bb10f", 53387, 1247, 0, true, false, true, "c976", "b55c", 20, 276, true, true));
+ct_table03.put(List.of("b271", "acca", "f44d", 0, 0, 0, false, false, false, "e697", "e209", 83928, 10, true, false));
+ct_table03.put(List.of("ad0c", "ae9f", "aba8", 446188, 58, 0, false, true, false, "d1b77", "e82d", 53662, 88, true, true));
+ct_table03.get("a559");
+ct_table03.put(List.of("b7dd3", "a242", "cf2f", 0, 0, 1, false, false, false, "f10ef", "b35e", 52, 0, true, true));
+ct_table03.put(List.of("a95a", "dcc7", "b71d", 123, 0, 46, false, true, true, "b500", "f4ea", 0, 0, false, true));
+ct_table03.put(List.of("ec76", "dae1", "c32a", 266, 105, 0, false, false, false, "de00", "eda2", 0, 0, false, true));
+ct_table03.put(List.of("b688", "fdda", "e28b", 0, 47, 0, true, false, false, "a6a5", "afa9", 0, 56, true, false));
+ct_table03.put(List.of("cd4c", "c2928", "e5a3", 0, 65, 0, false, true, true, "c2e0", "c9ec", 5, 16939, false, true));
+ct_table03.put(List.of("fadb", "a5ee", "eb2f", 937, 5, 0, true, true, false, "d876", "c2d2", 23, 320, false, false));
+ct_table03.put(List.of("f0fd", "af8c", "bb9b", 0, 0, 25, false, false, true, "dfe9", "a16b8", 746, 1, false, false));
+ct_table03.get("b1f6d");
+ct_table03.put(List.of("b269", "a4aa", "b710", 0, 12, 32, true, true, true, "ae1e1", "a1a3", 20, 0, true, true));
+ct_table03.put(List.of("be3a", "c3b49", "c4b2", 0, 0, 194, true, false, false, "c5f4", "f3d3", 0, 0, true, false));
+ct_table03.get("a4e6");
+ct_table03.put(Arrays.asList("f114", "c6e8", "b799", 9, 0, 13, null, false, false, "ab61", "b86f", 121043, 0, true, false));
+ct_table03.put(Arrays.asList("a4cd", "abf5", "c478", null, 0, 25894, true, false, null, "b7a18", "efd1", 1025, 0, false, false));
+ct_table03.put(List.of("e441", "e8a9", "ecd1f", 0, 2035, 1919, true, false, true, "fa5e", "a6ab", 0, 0, true, false));
+ct_table03.remove("b182");
+ct_table03.put(List.of("b393", "a180", "b83be", 0, 94, 25, false, true, false, "adec", "df9d", 0, 136, true, true));
+ct_table03.put(List.of("c298", "f351", "c2f59", 0, 46, 2975, false, true, true, "d082", "c80f", 2, 1, true, false));
+ct_table03.put(List.of("ddf4", "ae46", "f706", 1, 3976, 0, true, false, true, "f7ee", "b711", 54, 3, true, true));
+ct_table03.put(List.of("a736", "efba", "a373", 6, 2, 0, false, true, true, "df8c", "ae79", 0, 0, false, true));
+ct_table03.put(List.of("f493", "b3f60", "a3df", 0, 3, 23925, false, true, true, "aec2", "ef81", 1069778, 0, true, true));
+ct_table03.put(List.of("d6633", "e994", "ee1d", 0, 3976, 6, false, false, true, "e94a", "acd3", 0, 1573, true, false));
+ct_table03.put(List.of("c049", "b41a", "bdb2", 5495, 183, 69, false, true, true, "d959c", "de6e", 131682, 0, true, false));
+ct_table03.put(List.of("e64c", "d36ff", "ca0b", 87, 23, 0, true, false, false, "b2a7", "c26a", 1232, 23, false, true));
+ct_table03.put(List.of("b24d3", "f9f0", "cab2", 510, 0, 2348, true, true, false, "b6ee", "fd4d", 953, 3, true, false));
+ct_table03.put(List.of("b0c3", "f55d", "df36", 0, 82273, 1, false, false, false, "ae36", "b938", 0, 0, false, false));
+ct_table03.remove("fcaa");
+ct_table03.put(List.of("c84f9", "f507", "afd0", 0, 1871, 0, false, false, true, "af46", "b73f", 40769, 27346, true, false));
+ct_table03.get("aaee");
+ct_table03.put(List.of("e87c", "f0b77", "a273", 82, 0, 7, false, false, true, "c6c4", "c4ed", 0, 0, false, false));
+ct_table03.put(List.of("c3e0", "f275", "a749", 0, 74, 0, false, false, false, "d47e", "d076", 20, 2, true, false));
+ct_table03.put(List.of("a42f2", "c833", "c063", 0, 0, 0, true, false, false, "eb55", "afe0", 4, 1639, false, false));
+ct_table03.put(Arrays.asList("d908", null, "b533", 0, 9293, 9404, false, false, true, "c8ed", "d8cf", 2346, 0, true, false));
+ct_table03.put(List.of("d5b0", "ff26", "c3371", 173331, 4899, 73616, true, true, false, "a0df", "c42a", 0, 17065, false, false));
+ct_table03.remove("a3a0");
+ct_table03.put(List.of("f9990", "df8e", "a606", 45, 0, 2175, false, false, false, "de37f", "b3c52", 15, 1, true, false));
+ct_table03.remove("cffb");
+ct_table03.put(List.of("fae7", "e97c", "c7bf", 50495, 71, 14649, true, false, false, "d447", "d111", 6776, 0, false, true));
+ct_table03.get("e391");
+ct_table03.put(List.of("b1093", "e415", "c1c1", 0, 0, 0, true, false, false, "b484", "efb5", 0, 0, false, false));
+ct_table03.put(List.of("f07d", "b4c7", "ac26", 124, 49, 0, false, true, false, "e26b", "e378", 633, 64, true, true));
+ct_table03.put(Arrays.asList("c8a4", "d000", "fd0f", 0, 13, null, false, false, true, "b56ac", "aad1", 25, 0, true, true));
+ct_table03.put(List.of("b366", "bdc3", "dd38", 46, 57, 0, true, true, false, "eb00", "e04bf", 0, 2, true, true));
+ct_table03.put(List.of("fd63", "dc9c", "c9255", 0, 0, 4, true, false, true, "adb1c", "b3ea", 14, 2446, true, false));
+ct_table03.put(List.of("ae09", "d6f7", "d13d", 4, 103, 1, true, false, true, "c7d1", "dd5f", 0, 901, true, false));
+ct_table03.put(List.of("a825", "b52c", "a851", 319, 159, 3815, false, true, true, "cef1", "ba79", 232183, 26517, false, false));
+ct_table03.put(List.of("d0ed", "ec0d5", "cd06", 13921, 147, 0, true, false, false, "a3da", "a5db", 205, 0, false, true));
+ct_table03.put(Arrays.asList("cfe7", "cbff", "d2a3", 650, 6, 200, false, true, false, "fe5f", "ead5", null, 0, false, true));
+ct_table03.put(List.of("b76e", "bb468", "c55c", 101, 0, 10157, false, false, false, "d412", "da8e", 0, 0, false, true));
+ct_table03.put(List.of("ea5a", "c3fc", "c247", 0, 5, 1193, true, true, false, "a3a6", "d481", 0, 80, false, true));
+ct_table03.put(List.of("ca3c", "b91b", "c929", 4, 126, 1, false, false, false, "f365", "a0ef", 1, 1, false, false));
+ct_table03.put(List.of("a95f", "d9a1", "a046", 0, 5, 1816, true, true, true, "eef6", "dcbe", 0, 0, false, true));
+ct_table03.put(List.of("de9c", "f974", "f6a5", 21, 0, 0, false, false, false, "e4e0", "a8b6", 823, 0, true, false));
+ct_table03.put(List.of("e7d39", "d46c", "a8d5", 0, 224, 0, false, false, false, "f3747", "bb8a", 154, 1, false, true));
+ct_table03.put(List.of("cb38", "afc3", "ac88", 15476, 976, 3096, false, false, false, "abe0", "d64d", 178, 0, true, false));
+ct_table03.put(List.of("e4a6", "c1c3", "b555", 332, 0, 29, false, false, true, "b941", "f1e1", 0, 227, true, true));
+ct_table03.get("c99d1");
+ct_table03.put(List.of("a27b", "dbb7", "aea9", 271, 0, 0, false, false, false, "a7a11", "c7c2b", 7, 289, false, true));
+ct_table03.put(Arrays.asList(null, "b9f6", "cab5", 639, 3497, 0, false, false, false, "d0fa", "e1ee", 0, 8, false, false));
+ct_table03.put(List.of("ba1d", "cb5c", "d453", 0, 0, 7, true, true, false, "d8d5", "bced", 0, 0, false, false));
+ct_table03.remove("cbe6");
+ct_table03.put(List.of("a704", "e92cf", "bf96", 8177, 0, 3, false, true, false, "bb7a", "d26b", 442, 0, false, true));
+ct_table03.put(List.of("a3f4f", "d9a19", "b8fb", 0, 16, 681, false, false, false, "e4bd7", "be9f", 122, 177, true, false));
+ct_table03.put(List.of("adb3", "aba5", "a711", 0, 1, 0, true, false, true, "f59d", "c4283", 2, 0, false, true));
+ct_table03.remove("ca8e");
+ct_table03.put(List.of("e033", "c7cd", "d40d", 6034, 0, 1335, false, true, true, "b57e", "e7667", 0, 0, true, true));
+ct_table03.put(List.of("cc6b", "a632", "f5b7", 1, 64, 1321, false, true, false, "bbf9", "ae16", 246, 63, true, true));
+ct_table03.put(Arrays.asList("aafc", "d70b", "e56f", null, 0, 2, true, true, true, "dbf1", "cf18", 29, 30, true, true));
+ct_table03.put(List.of("b23c", "b0bc", "dd012", 83323, 15, 236, true, false, false, "a1d7", "ad87", 129848, 16, true, true));
+ct_table03.put(List.of("ba92", "ef5e", "b1e0", 4457, 1067, 3, true, false, true, "b6ef", "f202", 31456, 1652, true, true));
+ct_table03.put(List.of("eed1", "a78a", "eceb", 39576, 93, 7948, false, true, true, "bcd1", "a539e", 0, 2, true, true));
+ct_table03.remove("c19e");
+ct_table03.put(List.of("b0e2", "d65c", "d4e3", 1366, 0, 6, false, false, false, "c8c8", "a951", 0, 0, true, true));
+ct_table03.put(List.of("e61c", "f036", "faf32", 3554, 20, 0, false, true, true, "d9f6", "ea1d", 0, 1644, true, false));
+ct_table03.remove("ed45");
+ct_table03.put(List.of("d81f", "d467", "e075", 0, 0, 54, false, false, true, "d319", "d62a2", 14, 0, false, false));
+ct_table03.remove("b4c4");
+ct_table03.put(List.of("dc88", "c501", "a7b8e", 0, 5, 940910, false, true, false, "a8f4", "c1ea", 32, 0, false, true));
+ct_table03.put(List.of("b290", "a148", "d805", 0, 1024, 0, false, false, false, "bc27", "b5ad", 656, 145408, true, true));
+ct_table03.put(Arrays.asList("a018", "a051", null, 0, 1914, 1, true, false, true, "aced", "faad", 13, 242, true, true));
+ct_table03.get("bb660");
+ct_table03.remove("fd07");
+ct_table03.put(List.of("c971", "f59a", "c23f", 138, 0, 0, false, false, false, "f95e", "c760", 0, 190, true, false));
+ct_table03.remove("f54a");
+ct_table03.put(List.of("e9b8", "bc81", "af9c", 2, 280, 0, true, true, false, "e5d2", "ff9b", 0, 0, false, true));
+ct_table03.put(List.of("dd5d", "eb3c", "b2fb", 0, 0, 1851, true, true, false, "a2d3", "f81b", 12, 2, true, false));
+ct_table03.put(List.of("d96cc", "b0a6", "d0a2", 1411, 130, 0, true, false, true, "bfb8b", "a26d", 474, 32061, true, false));
+ct_table03.get("a4e09");
+ct_table03.put(List.of("d547", "c982", "b22c", 69, 36637, 0, true, true, false, "d572", "b8f91", 7370, 0, false, true));
+ct_table03.put(List.of("a9d6f", "c79b", "b8d9", 258, 0, 17049, true, true, false, "e07c", "c373", 5, 1, false, true));
+ct_table03.remove("a821");
+ct_table03.put(Arrays.asList("d1f3", "e453", "a6a4", 2153, 0, 0, false, false, true, "a63e", null, 0, 0, true, true));
+ct_table03.put(List.of("d4da", "a341", "b6f41", 0, 248109, 981, false, true, true, "a668", "fa05", 38, 0, true, false));
+ct_table03.put(List.of("ec383", "b6f95", "ba6e", 19, 0, 8195, true, true, false, "afa2", "e6ee", 4, 0, true, false));
+ct_table03.put(List.of("e5d4", "a5e0", "c7ff", 0, 0, 9, true, true, true, "b9b9", "d151", 1659, 3250, true, true));
+ct_table03.put(List.of("a4be9", "d27c", "d85f8", 0, 85, 5, false, true, true, "b7c8", "a9905", 19, 1, true, true));
+ct_table03.put(List.of("bc3b", "a125", "c8c2", 21, 38, 0, false, false, true, "d2fc", "d3db", 0, 7337, true, true));
+ct_table03.remove("facc");
+ct_table03.put(List.of("a9ba", "c7df", "bfd3", 16, 10, 591, true, true, true, "dcd9", "d515", 0, 19636, true, true));
+ct_table03.put(List.of("b0c5", "aa88", "a50611", 283, 2, 665, false, false, true, "a7f5", "b743", 63, 0, true, true));
+ct_table03.put(List.of("d2b7", "bd9a", "ebb0", 161, 0, 0, true, false, false, "aabf", "ba658", 3310, 0, false, true));
+ct_table03.put(List.of("e27a", "d400", "ce0d6", 0, 0, 17, true, false, false, "c3e03", "bcbf", 0, 0, false, false));
+ct_table03.put(List.of("dbe6", "f9ef", "cc0c", 18, 909, 0, true, false, false, "d644", "d109", 2, 0, false, false));
+ct_table03.put(List.of("fd9f", "c1085", "e782", 0, 1, 0, true, false, false, "a137", "bd74", 0, 12498, false, true));
+ct_table03.get("a633");
+ct_table03.remove("de8c");
+ct_table03.get("e9ee");
+ct_table03.put(List.of("a5e2", "b7ebf", "d214", 14, 11218, 0, true, true, true, "b24c", "a76a", 181, 0, false, false));
+ct_table03.remove("ef18");
+ct_table03.put(List.of("c024", "cd93", "dd254", 7, 51, 0, true, true, true, "c07c", "e7a6", 0, 0, true, false));
+ct_table03.put(List.of("c799d", "abcf", "eac8", 4, 0, 14, true, true, true, "d2b4", "bd503", 10, 0, true, false));
+ct_table03.put(List.of("c8c6", "a1ef", "ed54", 62, 0, 0, true, true, true, "d9d3", "e7c9", 39313, 0, true, false));
+ct_table03.put(List.of("cb24", "b8a3", "c25b", 26, 14, 611, true, true, true, "d685", "d01b", 26103, 6, true, true));
+ct_table03.put(List.of("ab2c", "f6a9", "bb45", 0, 28, 17866, true, true, true, "fb32", "ca56", 37, 1737, true, false));
+ct_table03.get("a475");
+ct_table03.put(List.of("cc99", "f687", "c3c8", 386, 6779, 0, false, true, true, "b6b4", "c8cd2", 23654, 1, false, true));
+ct_table03.put(List.of("a6fe", "d196", "f34b9", 3, 0, 0, true, true, true, "c8aa", "b41b", 187424, 1, false, true));
+ct_table03.get("d6c6");
+ct_table03.put(List.of("f451", "e6d8", "b301", 3364, 0, 1611, false, false, false, "d9ca", "d024", 9, 0, false, false));
+ct_table03.put(List.of("ef77", "c88c", "fb6c", 4776, 10, 72642, false, true, true, "d322", "d6f1", 8, 0, true, true));
+ct_table03.put(List.of("a2d6", "c038", "fb394", 0, 0, 6, false, true, true, "ccbe", "d29b", 0, 0, false, false));
+ct_table03.put(List.of("e3bf", "cda1", "b48b", 0, 0, 1002, false, false, false, "f6dc", "f693", 2, 5, false, false));
+ct_table03.put(List.of("a593", "a25d", "fbc1", 1, 1, 0, true, false, true, "c85f", "bacb", 0, 83, false, false));
+ct_table03.put(List.of("aa63", "b77c", "c6f64", 1127, 1, 0, false, false, true, "c842", "a12d", 234, 44, false, false));
+ct_table03.get("b16c");
+ct_table03.put(List.of("def8", "a3e5", "e971", 0, 182, 8, true, false, true, "d631", "b51f", 0, 0, false, true));
+ct_table03.put(List.of("ec09", "c654", "c803", 0, 4, 1803, true, false, true, "a625", "ff07", 0, 55, false, true));
+ct_table03.remove("c759a");
+ct_table03.put(List.of("ad560", "d984", "f5cf", 5564, 0, 22820, false, false, false, "afeb", "cb04", 0, 0, false, false));
+ct_table03.put(List.of("ac6b", "a26e", "df92", 9, 0, 139, false, false, false, "cb2b", "b0fb", 30, 48, false, true));
+ct_table03.put(Arrays.asList("cecc", "d47c", "b877", 22, 0, 1, true, true, false, "ce78", "dfe4", 143, null, true, false));
+ct_table03.remove("dbe7");
+ct_table03.put(Arrays.asList(null, "fc0c", "f6e3", 965, 0, 10, false, false, true, "dc01", "bd852", 12834, 0, false, true));
+ct_table03.put(List.of("c491", "b9c9", "db7e", 16, 0, 107, false, true, true, "c99db", "bd6d", 529, 2647, false, false));
+ct_table03.get("fdba");
+ct_table03.remove("ce25");
+ct_table03.get("ac72");
+ct_table03.clear();
@@ -0,0 +1,2003 @@
+// Random Seed: 655701686
+Table l1_table01 = new SearchTable("l1_table01", List.of("e", "d0", "d91"), List.of("string", "integer", "boolean"), 0);
+l1_table01.getTableName();
+l1_table01.getColumnNames();
+l1_table01.getColumnTypes();
+l1_table01.getPrimaryIndex();
+l1_table01.clear();
+l1_table01.put(List.of("d", 100, true));
+l1_table01.get("ac");
+l1_table01.put(List.of("a6e", 5, true));
+l1_table01.get("cc");
+l1_table01.put(List.of("c", 0, false));
+l1_table01.get("c1");
+l1_table01.remove("a");
+l1_table01.get("c68");
+l1_table01.put(List.of("f", 35987, false));
+l1_table01.put(List.of("d433", 497, false));
+l1_table01.put(List.of("e3a", 0, true));
+l1_table01.put(List.of("adf", 3191, false));
+l1_table01.put(List.of("a38", 211, true));
+l1_table01.put(List.of("f0", 2821, false));
+l1_table01.put(List.of("b0", 286, true));
+l1_table01.put(List.of("e7", 344, false));
+l1_table01.put(List.of("fabe", 0, true));
+l1_table01.put(List.of("f2", 4962, true));
+l1_table01.put(List.of("bcb", 0, false));
+l1_table01.put(List.of("b2d3", 0, true));
+l1_table01.put(List.of("fb", 26269, false));
+l1_table01.get("da3");
+l1_table01.put(List.of("afc", 0, true));
+l1_table01.remove("d49");
+l1_table01.put(List.of("fb9c", 0, false));
+l1_table01.remove("c6");
+l1_table01.remove("d8");
+l1_table01.put(List.of("b02", 1, true));
+l1_table01.put(List.of("b14", 21836, true));
+l1_table01.put(List.of("b1b", 0, false));
+l1_table01.put(List.of("c93e", 7, false));
+l1_table01.put(List.of("a8", 294, false));
+l1_table01.put(List.of("e09", 12, true));
+l1_table01.put(List.of("d7", 158, false));
+l1_table01.remove("d6e");
+l1_table01.put(List.of("ee", 11, false));
+l1_table01.put(List.of("d71", 3952, false));
+l1_table01.put(List.of("c60", 6, true));
+l1_table01.get("adb3");
+l1_table01.put(List.of("ccd", 0, true));
+l1_table01.put(List.of("b", 2, false));
+l1_table01.put(List.of("d94", 0, true));
+l1_table01.put(List.of("a850", 155, false));
+l1_table01.remove("e5a");
+l1_table01.put(List.of("d303", 0, true));
+l1_table01.remove("d3");
+l1_table01.put(List.of("fe26", 0, true));
+l1_table01.put(List.of("d1", 0, true));
+l1_table01.remove("ae");
+l1_table01.remove("c3");
+l1_table01.put(List.of("fb0", 0, true));
+l1_table01.get("e37");
+l1_table01.put(List.of("dbfd", 1264, false));
+l1_table01.put(List.of("fc4", 0, false));
+l1_table01.put(List.of("ad4", 0, true));
+l1_table01.remove("dc");
+l1_table01.get("df");
+l1_table01.put(List.of("be91", 0, false));
+l1_table01.put(List.of("ed", 207313, false));
+l1_table01.put(List.of("a1a", 21, false));
+l1_table01.remove("e8");
+l1_table01.get("f8");
+l1_table01.put(List.of("a6", 56893, true));
+l1_table01.remove("b6");
+l1_table01.put(List.of("f9e", 0, false));
+l1_table01.put(List.of("e1f", 1094, false));
+l1_table01.put(List.of("b7f", 240, true));
+l1_table01.remove("c5");
+l1_table01.put(List.of("c31f", 303, false));
+l1_table01.put(List.of("c91c", 0, true));
+l1_table01.put(List.of("dd9", 5, false));
+l1_table01.put(List.of("a2", 0, false));
+l1_table01.put(List.of("f21", 0, true));
+l1_table01.put(List.of("b5c", 1128, true));
+l1_table01.put(List.of("a5", 0, true));
+l1_table01.put(List.of("a4", 319, false));
+l1_table01.remove("a85");
+l1_table01.put(List.of("af", 23868, false));
+l1_table01.remove("ab");
+l1_table01.put(List.of("ced5", 93, true));
+l1_table01.put(List.of("dea", 412, true));
+l1_table01.put(List.of("a0", 6, false));
+l1_table01.remove("e2f");
+l1_table01.remove("e3c");
+l1_table01.get("fe");
+l1_table01.remove("bd3b");
+l1_table01.remove("a0c");
+l1_table01.put(List.of("cc8b0", 1, false));
+l1_table01.put(List.of("cc5", 0, false));
+l1_table01.get("f7");
+l1_table01.put(List.of("b3", 1324, false));
+l1_table01.put(List.of("bf0", 1732, true));
+l1_table01.put(List.of("a13", 33961, true));
+l1_table01.put(List.of("c276", 9599, false));
+l1_table01.put(List.of("e9b61", 2, false));
+l1_table01.put(List.of("b5", 112, true));
+l1_table01.put(List.of("c39", 67, true));
+l1_table01.put(List.of("c4", 136, false));
+l1_table01.remove("c7");
+l1_table01.remove("dd7");
+l1_table01.put(List.of("e626", 304554, false));
+l1_table01.get("c0");
+l1_table01.remove("de2");
+l1_table01.get("be5");
+l1_table01.put(List.of("afa", 3, true));
+l1_table01.get("e7d");
+l1_table01.put(List.of("ef", 3, true));
+l1_table01.put(List.of("c2f", 0, false));
+l1_table01.put(List.of("d923", 0, false));
+l1_table01.put(List.of("c50", 0, false));
+l1_table01.put(List.of("f8a", 631, true));
+l1_table01.remove("aa");
+l1_table01.put(List.of("cb3", 0, false));
+l1_table01.put(List.of("b47", 0, false));
+l1_table01.remove("ab2a");
+l1_table01.put(List.of("ba", 0, false));
+l1_table01.get("b3d");
+l1_table01.remove("f8b");
+l1_table01.put(List.of("a2e", 1264, true));
+l1_table01.put(List.of("b39", 44, false));
+l1_table01.put(List.of("ae6", 0, true));
+l1_table01.put(List.of("e69", 30057, true));
+l1_table01.put(List.of("a884", 5, false));
+l1_table01.put(List.of("f6e", 0, false));
+l1_table01.remove("db2");
+l1_table01.put(List.of("a7", 4, true));
+l1_table01.remove("aac");
+l1_table01.put(List.of("ac1", 0, true));
+l1_table01.put(List.of("f6d", 7, true));
+l1_table01.get("ad");
+l1_table01.remove("ca61");
+l1_table01.put(List.of("ea", 2316, false));
+l1_table01.put(List.of("b0e", 242, false));
+l1_table01.put(List.of("e4", 0, true));
+l1_table01.put(List.of("bf", 0, false));
+l1_table01.put(List.of("c2", 0, false));
+l1_table01.remove("ec");
+l1_table01.put(List.of("f4e", 310, false));
+l1_table01.put(List.of("eef", 226, true));
+l1_table01.put(List.of("cd", 4, false));
+l1_table01.put(Arrays.asList("b9ef", 0, null));
+l1_table01.get("d53");
+l1_table01.put(List.of("bbda", 0, false));
+l1_table01.remove("d4");
+l1_table01.get("e9");
+l1_table01.remove("f5");
+l1_table01.put(List.of("f6", 2350, true));
+l1_table01.remove("aa0e");
+l1_table01.put(List.of("ea6", 3, true));
+l1_table01.put(List.of("d18d", 0, false));
+l1_table01.get("da");
+l1_table01.put(List.of("be", 4, true));
+l1_table01.put(List.of("cb", 182, true));
+l1_table01.put(List.of("ce6", 0, false));
+l1_table01.put(List.of("f84", 38339, false));
+l1_table01.put(List.of("c32", 7844, true));
+l1_table01.put(List.of("bd", 684, false));
+l1_table01.put(List.of("e6", 46, true));
+l1_table01.put(List.of("b36", 0, true));
+l1_table01.remove("b2");
+l1_table01.remove("a46e");
+l1_table01.put(List.of("bff6", 2, false));
+l1_table01.put(List.of("a00", 0, false));
+l1_table01.put(List.of("c82", 54, false));
+l1_table01.put(List.of("b664", 113705, false));
+l1_table01.put(List.of("f92", 30, true));
+l1_table01.put(List.of("fc", 6, true));
+l1_table01.put(List.of("b3c", 0, true));
+l1_table01.put(List.of("c3c", 16073, true));
+l1_table01.put(Arrays.asList("c9", 0, null));
+l1_table01.put(List.of("a3", 0, true));
+l1_table01.put(List.of("e26", 209, false));
+l1_table01.put(List.of("c9b", 3, false));
+l1_table01.put(List.of("c5d", 0, false));
+l1_table01.put(List.of("cfc", 1, false));
+l1_table01.get("d389");
+l1_table01.put(List.of("b460", 0, true));
+l1_table01.put(List.of("db", 0, false));
+l1_table01.put(List.of("b78", 13833, true));
+l1_table01.remove("ca1");
+l1_table01.put(List.of("f058", 0, false));
+l1_table01.put(List.of("af3", 0, true));
+l1_table01.put(List.of("c42", 0, true));
+l1_table01.put(List.of("e52", 224, true));
+l1_table01.put(List.of("a10", 4704, false));
+l1_table01.put(List.of("fd9", 0, false));
+l1_table01.put(List.of("fdb", 0, true));
+l1_table01.get("b7");
+l1_table01.put(List.of("f0c", 3084, true));
+l1_table01.put(List.of("b1", 0, true));
+l1_table01.put(List.of("d11", 0, true));
+l1_table01.put(List.of("ad1", 0, true));
+l1_table01.put(List.of("afe", 31477, false));
+l1_table01.remove("cf9");
+l1_table01.remove("ece");
+l1_table01.put(List.of("bd1", 24, false));
+l1_table01.get("ff");
+l1_table01.put(List.of("ee32", 15542, false));
+l1_table01.put(List.of("b18", 0, false));
+l1_table01.put(List.of("b244c", 0, false));
+l1_table01.remove("b5d");
+l1_table01.put(List.of("d2c", 0, false));
+l1_table01.put(List.of("cea8", 0, false));
+l1_table01.remove("f53");
+l1_table01.put(List.of("de", 285, false));
+l1_table01.put(List.of("b476", 0, true));
+l1_table01.put(List.of("a75", 16, true));
+l1_table01.put(List.of("a0f3", 178, false));
+l1_table01.put(List.of("a8f", 2, true));
+l1_table01.remove("cf1");
+l1_table01.put(List.of("b73", 88482, true));
+l1_table01.remove("aac1");
+l1_table01.put(List.of("d0d", 0, true));
+l1_table01.put(List.of("de9", 1, true));
+l1_table01.get("ac5");
+l1_table01.put(List.of("e2", 5728, true));
+l1_table01.remove("bb");
+l1_table01.put(List.of("a3e", 779, false));
+l1_table01.remove("e0c");
+l1_table01.put(List.of("b9f", 0, true));
+l1_table01.remove("ddeb");
+l1_table01.remove("b8df9");
+l1_table01.put(List.of("a1", 0, true));
+l1_table01.put(List.of("f74", 4582, true));
+l1_table01.remove("ae61");
+l1_table01.put(List.of("d6", 17838, true));
+l1_table01.put(List.of("bc", 13, true));
+l1_table01.put(List.of("e8c4", 0, false));
+l1_table01.remove("c53");
+l1_table01.put(List.of("e15", 734, true));
+l1_table01.put(List.of("bce", 326, true));
+l1_table01.put(Arrays.asList("b2d", null, true));
+l1_table01.put(List.of("faec", 0, true));
+l1_table01.put(List.of("dd", 2, true));
+l1_table01.put(List.of("ccf7", 34, false));
+l1_table01.put(List.of("f3", 11, true));
+l1_table01.put(List.of("fa02", 0, false));
+l1_table01.put(List.of("b1ea", 0, false));
+l1_table01.put(List.of("b8", 1, false));
+l1_table01.put(List.of("c87", 894, false));
+l1_table01.put(List.of("fedd", 3271, true));
+l1_table01.put(List.of("ca", 0, false));
+l1_table01.remove("e08f");
+l1_table01.put(List.of("b94", 0, false));
+l1_table01.put(List.of("eb", 0, true));
+l1_table01.put(List.of("e20", 0, true));
+l1_table01.remove("ec0");
+l1_table01.put(List.of("fd", 0, true));
+l1_table01.put(List.of("a33e", 0, true));
+l1_table01.put(List.of("d35", 0, true));
+l1_table01.remove("ca43");
+l1_table01.put(List.of("e8a", 0, false));
+l1_table01.put(List.of("f4", 0, true));
+l1_table01.put(Arrays.asList("d95d", null, true));
+l1_table01.get("ab28");
+l1_table01.put(List.of("d9a", 0, false));
+l1_table01.put(List.of("c8", 543, false));
+l1_table01.put(List.of("aa1", 9865, false));
+l1_table01.put(List.of("fed2", 0, false));
+l1_table01.put(List.of("b64", 0, false));
+l1_table01.put(List.of("d2", 0, true));
+l1_table01.put(List.of("a6c2", 0, true));
+l1_table01.remove("d5fb");
+l1_table01.remove("c7b");
+l1_table01.put(List.of("c1c", 0, true));
+l1_table01.get("cfb3");
+l1_table01.put(List.of("a7b", 262, false));
+l1_table01.put(List.of("b22", 3752, false));
+l1_table01.put(List.of("e745", 0, true));
+l1_table01.put(List.of("c67a", 0, true));
+l1_table01.put(List.of("eadb", 0, false));
+l1_table01.put(List.of("a1f1", 554, true));
+l1_table01.put(List.of("f11", 0, false));
+l1_table01.remove("a944");
+l1_table01.put(List.of("ec3", 163, true));
+l1_table01.get("a1f");
+l1_table01.remove("f10");
+l1_table01.remove("f29");
+l1_table01.put(List.of("d32", 1069, true));
+l1_table01.remove("e30");
+l1_table01.put(List.of("d5", 0, true));
+l1_table01.get("b5a");
+l1_table01.remove("c14");
+l1_table01.put(List.of("e5", 0, true));
+l1_table01.put(List.of("fb85", 5738, true));
+l1_table01.put(List.of("d01", 931, false));
+l1_table01.put(List.of("ba05", 95, false));
+l1_table01.put(List.of("d00", 0, false));
+l1_table01.put(List.of("dd2", 0, true));
+l1_table01.remove("e04");
+l1_table01.put(Arrays.asList("c4f", 0, null));
+l1_table01.put(List.of("a865", 0, true));
+l1_table01.put(List.of("c5a", 1, true));
+l1_table01.put(List.of("edb", 56, true));
+l1_table01.remove("e77");
+l1_table01.put(List.of("dde", 33849, false));
+l1_table01.put(List.of("cbc", 0, true));
+l1_table01.put(List.of("caf", 30, true));
+l1_table01.put(List.of("c261", 0, true));
+l1_table01.put(List.of("e2c", 1, true));
+l1_table01.put(List.of("d0f", 0, false));
+l1_table01.put(List.of("cf3", 34, true));
+l1_table01.put(List.of("d9b", 0, true));
+l1_table01.put(List.of("b77", 0, true));
+l1_table01.get("bb8");
+l1_table01.remove("a87");
+l1_table01.remove("b9");
+l1_table01.put(List.of("a3b8", 79, true));
+l1_table01.remove("f1");
+l1_table01.put(Arrays.asList("ebc", null, true));
+l1_table01.put(List.of("f9", 0, true));
+l1_table01.put(List.of("aa4", 0, false));
+l1_table01.put(List.of("c8b", 1648, true));
+l1_table01.put(List.of("c18", 0, false));
+l1_table01.put(List.of("e3", 0, true));
+l1_table01.remove("a4c");
+l1_table01.get("af0");
+l1_table01.put(List.of("f6f2", 0, true));
+l1_table01.put(List.of("f3f", 10, true));
+l1_table01.put(List.of("ce", 0, false));
+l1_table01.remove("bd3");
+l1_table01.put(List.of("b8a", 7, true));
+l1_table01.put(List.of("c3e", 0, false));
+l1_table01.remove("ec5d");
+l1_table01.put(List.of("dbc", 309, false));
+l1_table01.put(List.of("a3b", 19, true));
+l1_table01.put(List.of("b6d", 17, false));
+l1_table01.put(List.of("cc17", 610, true));
+l1_table01.put(List.of("e46f", 4, false));
+l1_table01.put(List.of("bc0", 100, true));
+l1_table01.put(List.of("ad3", 102, false));
+l1_table01.put(List.of("b2ff", 3043, true));
+l1_table01.get("b57");
+l1_table01.put(List.of("feb", 256, true));
+l1_table01.put(List.of("bd2", 0, true));
+l1_table01.remove("daec");
+l1_table01.put(List.of("a08", 0, false));
+l1_table01.put(List.of("c6c", 0, true));
+l1_table01.put(List.of("ca00", 0, true));
+l1_table01.put(List.of("ee4", 2820, false));
+l1_table01.remove("cde");
+l1_table01.remove("cb9");
+l1_table01.put(List.of("d9", 0, false));
+l1_table01.put(List.of("b3f5", 1298, false));
+l1_table01.remove("c895");
+l1_table01.put(List.of("b0f", 0, true));
+l1_table01.put(List.of("a68", 1, false));
+l1_table01.put(List.of("bc36", 0, false));
+l1_table01.put(List.of("ac6", 287, false));
+l1_table01.put(List.of("f2a", 0, false));
+l1_table01.get("df75");
+l1_table01.put(List.of("d520d", 212, true));
+l1_table01.put(List.of("b3ff", 2, false));
+l1_table01.put(List.of("eee", 0, false));
+l1_table01.put(List.of("a503", 0, false));
+l1_table01.put(List.of("e1", 6, false));
+l1_table01.remove("b0c");
+l1_table01.put(List.of("fc7", 4930, false));
+l1_table01.remove("e606");
+l1_table01.remove("b1a");
+l1_table01.put(List.of("e8d", 0, false));
+l1_table01.put(List.of("b88", 5, true));
+l1_table01.remove("f9a9");
+l1_table01.get("b06");
+l1_table01.put(List.of("c41", 624, false));
+l1_table01.remove("f3b");
+l1_table01.put(List.of("bf4", 1438, true));
+l1_table01.remove("ebe1");
+l1_table01.get("a4a");
+l1_table01.put(List.of("b2e1", 128865, false));
+l1_table01.put(List.of("a2e4", 0, true));
+l1_table01.put(List.of("abe", 55, false));
+l1_table01.put(List.of("a2e3", 0, true));
+l1_table01.put(List.of("c7fa", 224, true));
+l1_table01.put(List.of("a7e", 0, true));
+l1_table01.put(List.of("b79", 0, true));
+l1_table01.put(List.of("bf7e", 2053, false));
+l1_table01.put(List.of("aa982", 68, true));
+l1_table01.put(List.of("cb4", 5, true));
+l1_table01.put(Arrays.asList("d1f1", 7669, null));
+l1_table01.put(List.of("f9a4", 67, false));
+l1_table01.put(List.of("fc2", 0, false));
+l1_table01.put(List.of("d93", 0, false));
+l1_table01.put(List.of("e3aa", 0, false));
+l1_table01.put(List.of("a9", 2, true));
+l1_table01.remove("a432");
+l1_table01.put(List.of("c31", 8, false));
+l1_table01.put(List.of("f90", 0, true));
+l1_table01.put(List.of("f33", 0, false));
+l1_table01.put(List.of("a45", 528, false));
+l1_table01.put(List.of("d61", 1616287, false));
+l1_table01.put(List.of("e71", 2, true));
+l1_table01.put(List.of("e0", 0, false));
+l1_table01.put(List.of("b65", 32, false));
+l1_table01.put(List.of("de8", 120327, false));
+l1_table01.remove("d5cbb");
+l1_table01.put(List.of("b4", 0, true));
+l1_table01.put(List.of("c8e", 8841, false));
+l1_table01.put(List.of("f7a", 819, false));
+l1_table01.put(List.of("d6c", 0, true));
+l1_table01.put(List.of("b04", 0, false));
+l1_table01.put(List.of("cf", 844, false));
+l1_table01.put(List.of("ffe", 0, true));
+l1_table01.put(List.of("ed3", 150940, false));
+l1_table01.put(List.of("e96", 0, true));
+l1_table01.put(List.of("b44", 22, true));
+l1_table01.put(List.of("c0e", 394, false));
+l1_table01.put(List.of("a0b7", 0, true));
+l1_table01.put(List.of("c3b", 84, false));
+l1_table01.put(List.of("ace", 654, false));
+l1_table01.put(List.of("c21", 718614, true));
+l1_table01.get("de6");
+l1_table01.put(List.of("c9f", 0, true));
+l1_table01.put(List.of("f23", 305, false));
+l1_table01.remove("bdc");
+l1_table01.put(List.of("d8b", 305, true));
+l1_table01.remove("ba5");
+l1_table01.remove("f645");
+l1_table01.put(List.of("b26", 0, true));
+l1_table01.put(List.of("c2b", 0, false));
+l1_table01.put(List.of("a69", 68, true));
+l1_table01.put(Arrays.asList("ef3", 0, null));
+l1_table01.put(List.of("c63", 9875, false));
+l1_table01.put(List.of("c12", 180, false));
+l1_table01.put(List.of("b71c", 0, false));
+l1_table01.put(Arrays.asList("b72", null, false));
+l1_table01.put(List.of("ddb", 0, true));
+l1_table01.put(List.of("f4d", 7254, true));
+l1_table01.put(List.of("d9e5", 457, true));
+l1_table01.remove("e9b");
+l1_table01.remove("f0b2");
+l1_table01.put(List.of("c545", 0, true));
+l1_table01.put(List.of("ea2", 12, true));
+l1_table01.get("adc");
+l1_table01.put(List.of("fe3", 9, false));
+l1_table01.remove("ead6");
+l1_table01.put(List.of("a671", 0, true));
+l1_table01.put(List.of("a64f", 5, true));
+l1_table01.put(List.of("b59", 5, false));
+l1_table01.put(List.of("ded7", 82, false));
+l1_table01.get("dc9");
+l1_table01.put(List.of("cb27", 0, false));
+l1_table01.put(List.of("e40", 0, true));
+l1_table01.put(List.of("efa6", 0, false));
+l1_table01.put(List.of("acd", 0, false));
+l1_table01.remove("a1b");
+l1_table01.remove("e335");
+l1_table01.put(List.of("a1e", 8527, true));
+l1_table01.put(List.of("eb15", 557, true));
+l1_table01.put(List.of("ccf", 0, true));
+l1_table01.put(List.of("a40", 299, true));
+l1_table01.put(List.of("bc1a", 340, true));
+l1_table01.put(List.of("a7ad", 7, true));
+l1_table01.remove("cedd");
+l1_table01.put(List.of("bc6", 589229, false));
+l1_table01.remove("f1e");
+l1_table01.remove("ed5");
+l1_table01.put(List.of("d79", 683, false));
+l1_table01.remove("f78");
+l1_table01.remove("f52");
+l1_table01.remove("c8bf");
+l1_table01.put(List.of("da2", 11209, true));
+l1_table01.put(List.of("fdd6", 29, false));
+l1_table01.remove("ee3");
+l1_table01.put(List.of("faf", 43, false));
+l1_table01.put(List.of("b12d", 52, true));
+l1_table01.put(List.of("b094", 20464, true));
+l1_table01.remove("ee8");
+l1_table01.put(List.of("d587", 0, false));
+l1_table01.get("d2f");
+l1_table01.put(List.of("e53f", 999, true));
+l1_table01.put(List.of("d1f", 409, false));
+l1_table01.put(List.of("dda", 0, false));
+l1_table01.remove("d8f");
+l1_table01.put(List.of("be6a", 11, true));
+l1_table01.put(List.of("c099", 1, true));
+l1_table01.put(List.of("aac7", 5, true));
+l1_table01.put(List.of("ce0c", 0, false));
+l1_table01.put(List.of("fce", 0, false));
+l1_table01.put(List.of("aadf", 0, true));
+l1_table01.remove("b112");
+l1_table01.get("c96");
+l1_table01.put(List.of("bddf", 0, true));
+l1_table01.get("bdb");
+l1_table01.put(List.of("b2e", 208, true));
+l1_table01.remove("f89");
+l1_table01.remove("a8d");
+l1_table01.remove("d08");
+l1_table01.put(List.of("df6", 19, true));
+l1_table01.put(List.of("d3b5", 3220, false));
+l1_table01.put(List.of("d74b", 97, true));
+l1_table01.put(List.of("bab", 0, false));
+l1_table01.put(List.of("d7d", 41, true));
+l1_table01.put(List.of("b51c", 0, true));
+l1_table01.get("a02");
+l1_table01.put(Arrays.asList("d432", 0, null));
+l1_table01.put(List.of("d1b", 0, false));
+l1_table01.put(List.of("ea9", 0, true));
+l1_table01.put(List.of("fa", 0, true));
+l1_table01.put(List.of("fd8", 11, true));
+l1_table01.remove("d16a");
+l1_table01.get("ed5a");
+l1_table01.put(List.of("ccdf", 2, false));
+l1_table01.put(List.of("ced", 173, false));
+l1_table01.put(List.of("f1b5", 0, true));
+l1_table01.remove("baf");
+l1_table01.remove("eba");
+l1_table01.put(List.of("cbaf", 0, true));
+l1_table01.get("b6c");
+l1_table01.put(List.of("a06", 16, true));
+l1_table01.remove("c8a7");
+l1_table01.put(List.of("c8a", 0, false));
+l1_table01.put(List.of("a2a", 17, false));
+l1_table01.put(List.of("c9d", 0, false));
+l1_table01.put(List.of("b0be", 120, true));
+l1_table01.put(List.of("a9b", 151688, true));
+l1_table01.get("bed");
+l1_table01.put(Arrays.asList("f0a", null, true));
+l1_table01.put(List.of("ead", 0, false));
+l1_table01.put(List.of("fa0", 0, true));
+l1_table01.remove("e59");
+l1_table01.put(List.of("b53", 0, true));
+l1_table01.put(List.of("bde", 0, false));
+l1_table01.remove("be7");
+l1_table01.put(List.of("a22", 0, false));
+l1_table01.put(List.of("d5a", 11, true));
+l1_table01.put(List.of("d15", 1664, false));
+l1_table01.put(List.of("c04", 0, false));
+l1_table01.put(List.of("be80", 2, false));
+l1_table01.put(List.of("ed3a", 0, false));
+l1_table01.put(List.of("c01", 0, false));
+l1_table01.get("ab0aa");
+l1_table01.put(List.of("f9d", 6, false));
+l1_table01.remove("d89");
+l1_table01.put(List.of("b17", 0, false));
+l1_table01.get("bcd2");
+l1_table01.remove("ab6");
+l1_table01.put(List.of("f12", 39385, true));
+l1_table01.put(List.of("cb00", 1, false));
+l1_table01.put(List.of("d4bb", 1, false));
+l1_table01.put(List.of("c010", 3, true));
+l1_table01.put(List.of("c07", 1, true));
+l1_table01.put(List.of("dc5", 89, false));
+l1_table01.get("c6e");
+l1_table01.put(List.of("cfa", 84126, true));
+l1_table01.put(List.of("c13", 64, true));
+l1_table01.get("d04d");
+l1_table01.remove("e3f");
+l1_table01.put(List.of("b3f", 0, false));
+l1_table01.remove("e00");
+l1_table01.remove("d7e");
+l1_table01.remove("c66");
+l1_table01.put(List.of("c47", 0, true));
+l1_table01.put(List.of("b0d", 4, true));
+l1_table01.get("ba4");
+l1_table01.get("ed7");
+l1_table01.put(List.of("fda5", 0, false));
+l1_table01.put(List.of("b7965", 1, false));
+l1_table01.remove("adc2");
+l1_table01.remove("ea59");
+l1_table01.get("d97");
+l1_table01.put(List.of("e6a8", 0, false));
+l1_table01.put(List.of("e1e", 0, false));
+l1_table01.put(List.of("d3e", 364, true));
+l1_table01.put(List.of("ade", 0, true));
+l1_table01.put(List.of("c48", 0, false));
+l1_table01.remove("cd4");
+l1_table01.put(List.of("a5a", 20412, true));
+l1_table01.remove("b90");
+l1_table01.put(List.of("aee", 1, false));
+l1_table01.put(List.of("e13", 1, false));
+l1_table01.put(List.of("b60", 71, false));
+l1_table01.put(List.of("ef1", 102, true));
+l1_table01.get("c4b");
+l1_table01.put(List.of("b92", 54483, false));
+l1_table01.put(List.of("cb962", 32, false));
+l1_table01.put(List.of("a9f", 2, true));
+l1_table01.put(List.of("b0c8", 0, true));
+l1_table01.put(List.of("fc24", 0, false));
+l1_table01.put(List.of("df4", 13, true));
+l1_table01.put(List.of("ca7", 270, false));
+l1_table01.put(List.of("a49d", 390, true));
+l1_table01.put(List.of("c0b2", 0, true));
+l1_table01.put(List.of("cc2", 18, false));
+l1_table01.remove("ccb3");
+l1_table01.remove("a88");
+l1_table01.put(List.of("e582", 4, true));
+l1_table01.put(List.of("b09", 0, true));
+l1_table01.put(List.of("f8cf", 0, true));
+l1_table01.put(List.of("ecd3", 1630, true));
+l1_table01.remove("c43");
+l1_table01.put(List.of("f83", 125363, true));
+l1_table01.put(List.of("d3a", 1114, true));
+l1_table01.put(List.of("c94", 16, false));
+l1_table01.put(List.of("f296", 8, false));
+l1_table01.put(List.of("af5", 0, true));
+l1_table01.put(List.of("c4b6", 0, false));
+l1_table01.put(List.of("dc52", 56, true));
+l1_table01.get("ba77");
+l1_table01.put(List.of("eb1", 0, true));
+l1_table01.put(List.of("c28", 2, false));
+l1_table01.remove("d39b");
+l1_table01.remove("af77");
+l1_table01.put(List.of("a07", 1, true));
+l1_table01.get("caf7");
+l1_table01.put(List.of("aef", 3, true));
+l1_table01.put(List.of("a65c", 24, false));
+l1_table01.put(List.of("a765", 411, false));
+l1_table01.put(List.of("aa3", 321518, false));
+l1_table01.put(List.of("dac", 8065, false));
+l1_table01.put(List.of("ee2", 60, true));
+l1_table01.put(List.of("bf3", 2, true));
+l1_table01.remove("a3c7d");
+l1_table01.remove("b23");
+l1_table01.put(List.of("d72", 140, true));
+l1_table01.put(List.of("c62d", 43, false));
+l1_table01.put(List.of("c0b", 0, false));
+l1_table01.put(List.of("eea", 1008, true));
+l1_table01.put(List.of("cac", 21871, true));
+l1_table01.put(List.of("ffd", 0, true));
+l1_table01.put(List.of("cba", 1, false));
+l1_table01.get("bb85");
+l1_table01.remove("d96");
+l1_table01.put(List.of("e88", 0, false));
+l1_table01.remove("d9e");
+l1_table01.put(List.of("b95", 0, true));
+l1_table01.remove("cb7");
+l1_table01.put(List.of("e73e", 103, true));
+l1_table01.remove("b9d");
+l1_table01.put(List.of("a77", 40, true));
+l1_table01.put(List.of("d454", 1235, true));
+l1_table01.put(List.of("ee7", 189, false));
+l1_table01.remove("bca");
+l1_table01.remove("baa9");
+l1_table01.put(List.of("df8", 0, false));
+l1_table01.put(List.of("c55", 0, false));
+l1_table01.put(List.of("a756", 0, false));
+l1_table01.put(List.of("ea1", 9, true));
+l1_table01.put(List.of("f548", 37, false));
+l1_table01.remove("edff");
+l1_table01.put(List.of("ce4", 133524, true));
+l1_table01.put(List.of("e32", 0, false));
+l1_table01.put(List.of("d28", 0, true));
+l1_table01.put(List.of("bf8", 0, true));
+l1_table01.get("bf5");
+l1_table01.get("ff2");
+l1_table01.put(List.of("a20", 6, true));
+l1_table01.get("a77f");
+l1_table01.get("efd");
+l1_table01.put(List.of("a55", 0, true));
+l1_table01.put(List.of("c58", 0, true));
+l1_table01.get("a4e");
+l1_table01.get("a9a");
+l1_table01.put(List.of("dff", 0, false));
+l1_table01.put(List.of("e5f7", 405, false));
+l1_table01.remove("b3a");
+l1_table01.get("ce1");
+l1_table01.put(List.of("a3a4", 0, false));
+l1_table01.put(List.of("c2a", 0, true));
+l1_table01.put(List.of("c27b", 12195, false));
+l1_table01.remove("f4b");
+l1_table01.put(List.of("f35", 0, false));
+l1_table01.put(List.of("a33", 0, false));
+l1_table01.put(List.of("bc3", 126, true));
+l1_table01.put(List.of("bc5", 0, false));
+l1_table01.put(List.of("d7a7", 290, false));
+l1_table01.put(List.of("a45f", 290, true));
+l1_table01.remove("a35");
+l1_table01.put(List.of("f1de", 0, false));
+l1_table01.put(List.of("b05", 31290, false));
+l1_table01.put(List.of("ee351", 63, false));
+l1_table01.put(List.of("ffc", 7, true));
+l1_table01.remove("d76");
+l1_table01.put(List.of("dc62", 1182, false));
+l1_table01.put(List.of("ca3", 4, false));
+l1_table01.put(List.of("a95", 10537, false));
+l1_table01.get("cbb");
+l1_table01.put(List.of("d1d5", 0, true));
+l1_table01.put(List.of("d61d", 217, true));
+l1_table01.put(Arrays.asList("daa1", null, true));
+l1_table01.put(List.of("abf", 68, false));
+l1_table01.put(List.of("d555", 0, false));
+l1_table01.put(List.of("c9e", 0, true));
+l1_table01.put(List.of("e9f", 0, true));
+l1_table01.remove("ce9");
+l1_table01.remove("c8d");
+l1_table01.put(List.of("ad2", 46, true));
+l1_table01.put(List.of("a16", 0, true));
+l1_table01.remove("acbd");
+l1_table01.put(List.of("fbe", 0, false));
+l1_table01.put(List.of("e4d", 0, false));
+l1_table01.remove("e67");
+l1_table01.remove("cd5");
+l1_table01.remove("a3f");
+l1_table01.put(List.of("d5b", 0, false));
+l1_table01.put(List.of("a8c", 4837, false));
+l1_table01.put(List.of("a9d", 317, true));
+l1_table01.remove("eff60");
+l1_table01.put(List.of("b21", 3938, true));
+l1_table01.remove("ba2");
+l1_table01.remove("cab");
+l1_table01.put(List.of("a86", 5, true));
+l1_table01.put(List.of("c072", 0, true));
+l1_table01.put(List.of("f3e", 0, false));
+l1_table01.put(List.of("c6b", 0, true));
+l1_table01.put(List.of("a80", 355, true));
+l1_table01.put(List.of("a094", 3851, true));
+l1_table01.put(List.of("ab39", 0, false));
+l1_table01.remove("cb8");
+l1_table01.put(List.of("c84", 0, true));
+l1_table01.put(List.of("e70", 19929, true));
+l1_table01.put(List.of("ea2c", 4, false));
+l1_table01.put(List.of("a01", 497, false));
+l1_table01.put(List.of("fb66", 8, false));
+l1_table01.put(List.of("db8", 68, true));
+l1_table01.put(List.of("daa", 0, true));
+l1_table01.put(List.of("c35b", 75449, false));
+l1_table01.put(List.of("aa5", 0, false));
+l1_table01.remove("bd9");
+l1_table01.get("bc9");
+l1_table01.put(List.of("c6dd", 7, false));
+l1_table01.put(List.of("fef1", 86, true));
+l1_table01.put(List.of("af8d", 0, false));
+l1_table01.get("c90c");
+l1_table01.put(List.of("ebd0", 0, false));
+l1_table01.remove("c40");
+l1_table01.put(List.of("a09", 1416, true));
+l1_table01.put(List.of("c7d", 111, false));
+l1_table01.remove("aea0");
+l1_table01.put(List.of("e5c", 0, false));
+l1_table01.put(List.of("f89a", 7, true));
+l1_table01.remove("cd67");
+l1_table01.put(List.of("b20", 13206, false));
+l1_table01.remove("f77b");
+l1_table01.put(List.of("b89d", 0, true));
+l1_table01.put(List.of("acb", 0, true));
+l1_table01.put(List.of("ef6", 1513, true));
+l1_table01.get("fe0f3");
+l1_table01.put(List.of("bb73", 0, false));
+l1_table01.get("ee62");
+l1_table01.put(List.of("fef", 0, true));
+l1_table01.put(List.of("eac", 0, false));
+l1_table01.put(List.of("b6f", 571, false));
+l1_table01.put(List.of("edf", 3541, false));
+l1_table01.get("b2f");
+l1_table01.put(List.of("a46", 103, true));
+l1_table01.remove("bf6");
+l1_table01.put(List.of("e651", 0, false));
+l1_table01.put(List.of("d93b", 0, true));
+l1_table01.put(List.of("b4a", 451, false));
+l1_table01.get("d2c4");
+l1_table01.put(List.of("da4b", 53, true));
+l1_table01.put(List.of("a48", 439, true));
+l1_table01.put(List.of("b13", 6, false));
+l1_table01.put(List.of("d52a", 0, true));
+l1_table01.put(List.of("bf2", 0, true));
+l1_table01.remove("a2eb");
+l1_table01.get("fa2");
+l1_table01.put(List.of("ff7", 5, true));
+l1_table01.put(Arrays.asList("e1d", null, true));
+l1_table01.put(List.of("b1a3", 12, false));
+l1_table01.remove("bfb");
+l1_table01.put(List.of("edc", 45, false));
+l1_table01.remove("d1e");
+l1_table01.get("c476");
+l1_table01.put(Arrays.asList("d13", null, false));
+l1_table01.remove("a761b");
+l1_table01.put(List.of("df5b6", 0, false));
+l1_table01.remove("c56");
+l1_table01.put(List.of("dbe", 0, true));
+l1_table01.remove("a31");
+l1_table01.put(List.of("a8a", 0, false));
+l1_table01.put(List.of("c0d", 1, true));
+l1_table01.put(List.of("a553", 1, false));
+l1_table01.put(List.of("bbe", 50, true));
+l1_table01.put(List.of("ad8", 11, true));
+l1_table01.put(List.of("d05", 82816, false));
+l1_table01.put(List.of("d9f6", 5208, true));
+l1_table01.remove("c6aaf");
+l1_table01.put(List.of("e78", 7, true));
+l1_table01.put(List.of("b30", 5846, true));
+l1_table01.put(List.of("e0a", 12722, true));
+l1_table01.put(List.of("b8b", 43, false));
+l1_table01.put(List.of("b1e", 100, false));
+l1_table01.put(List.of("c760", 0, false));
+l1_table01.remove("a76");
+l1_table01.put(List.of("c2d", 257, false));
+l1_table01.put(List.of("e7c", 10, true));
+l1_table01.remove("dd7f");
+l1_table01.put(List.of("e839", 2, true));
+l1_table01.remove("b88f");
+l1_table01.put(List.of("c7be", 29, true));
+l1_table01.remove("cc7");
+l1_table01.remove("f163");
+l1_table01.remove("d4ae");
+l1_table01.put(List.of("d68", 2045, false));
+l1_table01.put(List.of("b91", 0, true));
+l1_table01.put(List.of("a28e", 154, false));
+l1_table01.put(Arrays.asList("d22c", null, true));
+l1_table01.put(List.of("d8e", 0, false));
+l1_table01.put(List.of("b4c", 0, true));
+l1_table01.put(List.of("f5c", 0, false));
+l1_table01.put(List.of("ce9e", 7391, false));
+l1_table01.put(List.of("e60", 6711, false));
+l1_table01.remove("abc");
+l1_table01.get("cb230");
+l1_table01.put(List.of("e2e", 1268, false));
+l1_table01.put(List.of("a63", 19625, false));
+l1_table01.put(List.of("a8077", 0, false));
+l1_table01.put(List.of("c16b", 0, false));
+l1_table01.put(List.of("d0a", 0, false));
+l1_table01.put(List.of("ad0", 38, false));
+l1_table01.put(List.of("a6b", 15786, true));
+l1_table01.remove("ebda");
+l1_table01.put(List.of("d5c", 8, false));
+l1_table01.remove("c184");
+l1_table01.put(List.of("ca4", 5352, true));
+l1_table01.put(List.of("cfd4", 163, true));
+l1_table01.get("b27d");
+l1_table01.put(List.of("c5e8", 0, false));
+l1_table01.remove("c23");
+l1_table01.get("d0c");
+l1_table01.remove("a03");
+l1_table01.put(List.of("a42", 154, true));
+l1_table01.remove("d2ce");
+l1_table01.put(List.of("f0b", 0, false));
+l1_table01.put(List.of("bcf", 0, true));
+l1_table01.put(Arrays.asList("bb975", null, true));
+l1_table01.put(List.of("f98", 277, false));
+l1_table01.put(List.of("be6f", 0, false));
+l1_table01.put(List.of("dd5", 0, false));
+l1_table01.put(List.of("ac9", 0, false));
+l1_table01.put(List.of("af39", 0, true));
+l1_table01.put(List.of("cb7a", 54472, false));
+l1_table01.remove("dd6");
+l1_table01.put(List.of("beb", 12787, false));
+l1_table01.remove("ef0");
+l1_table01.put(List.of("bca1", 0, true));
+l1_table01.get("dcd");
+l1_table01.put(List.of("da0", 8, true));
+l1_table01.put(List.of("db5", 0, false));
+l1_table01.put(List.of("e19", 0, true));
+l1_table01.put(List.of("a44", 119427, false));
+l1_table01.put(List.of("fe9", 0, false));
+l1_table01.put(List.of("f55", 0, false));
+l1_table01.put(List.of("daf2", 20, true));
+l1_table01.put(List.of("cbbf", 0, true));
+l1_table01.put(List.of("e08", 0, true));
+l1_table01.put(List.of("ab3", 0, false));
+l1_table01.get("ecd");
+l1_table01.put(List.of("c65", 1267, false));
+l1_table01.get("fdf");
+l1_table01.put(List.of("bbd6", 134, false));
+l1_table01.put(List.of("d17", 0, false));
+l1_table01.put(List.of("fbdb", 4, false));
+l1_table01.put(List.of("fe60", 47622, true));
+l1_table01.put(List.of("a54", 0, true));
+l1_table01.put(List.of("b56f", 31, false));
+l1_table01.remove("dcce");
+l1_table01.put(List.of("b85", 29, true));
+l1_table01.remove("d27");
+l1_table01.put(List.of("ce8", 0, true));
+l1_table01.put(List.of("f743e", 0, false));
+l1_table01.put(List.of("e3b", 5, false));
+l1_table01.put(List.of("ca2", 0, true));
+l1_table01.put(List.of("e342", 0, true));
+l1_table01.get("ba50d");
+l1_table01.put(List.of("a36", 52039, true));
+l1_table01.put(List.of("f75", 221, false));
+l1_table01.get("dbec");
+l1_table01.put(List.of("a3be", 2482, false));
+l1_table01.put(List.of("dbd", 10, true));
+l1_table01.remove("a1c");
+l1_table01.remove("b3a7");
+l1_table01.put(List.of("a51", 0, true));
+l1_table01.put(List.of("a89", 1589, true));
+l1_table01.put(List.of("c002", 0, false));
+l1_table01.put(List.of("dcfd", 1258, true));
+l1_table01.put(List.of("a4d", 0, false));
+l1_table01.put(List.of("c52", 371, true));
+l1_table01.remove("aa70");
+l1_table01.remove("c24c");
+l1_table01.put(List.of("f71", 2, false));
+l1_table01.put(List.of("c27", 42, true));
+l1_table01.put(List.of("e7a", 121, true));
+l1_table01.remove("d55");
+l1_table01.get("ff67");
+l1_table01.remove("b603");
+l1_table01.put(List.of("ee42", 51, false));
+l1_table01.get("a93");
+l1_table01.put(List.of("a97", 12, false));
+l1_table01.put(List.of("bb5", 204, false));
+l1_table01.get("a9fe");
+l1_table01.put(List.of("fcb", 1, true));
+l1_table01.put(List.of("d688", 0, true));
+l1_table01.get("a0f");
+l1_table01.put(List.of("df0b", 0, true));
+l1_table01.put(List.of("ce5", 15, false));
+l1_table01.put(List.of("f48", 5466, false));
+l1_table01.remove("a49");
+l1_table01.put(List.of("af9", 50062, false));
+l1_table01.get("bd7");
+l1_table01.put(List.of("c59", 1286, false));
+l1_table01.put(List.of("afb", 0, true));
+l1_table01.put(List.of("b61", 115141, true));
+l1_table01.get("cce2");
+l1_table01.put(List.of("dfd", 137, false));
+l1_table01.get("d07");
+l1_table01.get("f585");
+l1_table01.get("c0c0");
+l1_table01.remove("a78");
+l1_table01.get("a979c");
+l1_table01.put(List.of("a8b", 0, true));
+l1_table01.put(List.of("d6c6", 0, false));
+l1_table01.put(List.of("bc7c", 1, true));
+l1_table01.remove("c047");
+l1_table01.remove("e3e");
+l1_table01.put(List.of("b9fe", 0, true));
+l1_table01.put(List.of("e54", 0, true));
+l1_table01.get("dcc5");
+l1_table01.remove("d09");
+l1_table01.remove("c62");
+l1_table01.put(List.of("add", 0, false));
+l1_table01.put(List.of("b8a4", 8, true));
+l1_table01.remove("a24c");
+l1_table01.put(List.of("fd5", 0, true));
+l1_table01.put(List.of("e78d", 75, false));
+l1_table01.put(List.of("bbec", 0, false));
+l1_table01.put(List.of("cbf", 0, true));
+l1_table01.put(List.of("b589", 0, true));
+l1_table01.remove("ee51");
+l1_table01.put(List.of("baa4", 0, true));
+l1_table01.put(List.of("d773d", 3, false));
+l1_table01.put(List.of("d3b", 0, false));
+l1_table01.put(List.of("c03", 1, true));
+l1_table01.put(List.of("b70", 10, true));
+l1_table01.remove("c2e");
+l1_table01.put(List.of("a94", 707, false));
+l1_table01.get("a84");
+l1_table01.remove("c727");
+l1_table01.get("fc9");
+l1_table01.put(List.of("cdd", 13, true));
+l1_table01.put(List.of("f937c", 0, false));
+l1_table01.put(List.of("f1ed", 0, true));
+l1_table01.remove("e65");
+l1_table01.put(List.of("fb6", 20527, false));
+l1_table01.put(List.of("e80", 16, false));
+l1_table01.put(List.of("c97", 590, true));
+l1_table01.put(List.of("e5f4", 0, false));
+l1_table01.put(List.of("ded", 23, false));
+l1_table01.put(List.of("a597", 0, true));
+l1_table01.put(List.of("a6c", 2848, true));
+l1_table01.get("c6ae");
+l1_table01.get("f96");
+l1_table01.remove("f9b");
+l1_table01.put(List.of("e61", 38, false));
+l1_table01.put(List.of("b28", 6, false));
+l1_table01.put(List.of("d63", 0, true));
+l1_table01.put(List.of("fa1", 10443, true));
+l1_table01.put(List.of("caa", 21, false));
+l1_table01.put(List.of("d36", 157, true));
+l1_table01.get("ddd");
+l1_table01.put(List.of("e29", 0, true));
+l1_table01.put(List.of("b66", 4860, true));
+l1_table01.remove("a0e0");
+l1_table01.put(List.of("d18c", 3, false));
+l1_table01.put(List.of("e7f", 16856, false));
+l1_table01.put(List.of("f2e", 2600, false));
+l1_table01.put(List.of("b6fe", 857, true));
+l1_table01.remove("ed1");
+l1_table01.put(List.of("e907", 865, false));
+l1_table01.put(List.of("b2b", 0, false));
+l1_table01.put(List.of("cebf", 3784, false));
+l1_table01.put(List.of("db7", 5, false));
+l1_table01.put(List.of("bbf0", 2, true));
+l1_table01.put(List.of("cf7", 0, false));
+l1_table01.put(List.of("b2a", 22, false));
+l1_table01.put(List.of("f520", 10, false));
+l1_table01.put(List.of("f4a", 204862, false));
+l1_table01.put(List.of("fca", 121, true));
+l1_table01.put(List.of("b74", 1252, true));
+l1_table01.remove("bb6");
+l1_table01.put(List.of("c0353", 8, false));
+l1_table01.put(List.of("c49", 2367, false));
+l1_table01.put(List.of("a7fc", 615, false));
+l1_table01.remove("ad3d");
+l1_table01.put(List.of("a74", 2878, true));
+l1_table01.put(Arrays.asList("fd0", null, true));
+l1_table01.remove("bb0");
+l1_table01.put(List.of("ddc8", 1151, true));
+l1_table01.put(List.of("bc8", 6, true));
+l1_table01.put(List.of("d7f5", 0, false));
+l1_table01.put(List.of("e910", 0, true));
+l1_table01.get("eb7");
+l1_table01.put(List.of("b4e", 20, true));
+l1_table01.put(List.of("a72", 0, false));
+l1_table01.remove("c92");
+l1_table01.put(List.of("da9", 10105, false));
+l1_table01.put(List.of("e4b", 26, true));
+l1_table01.put(List.of("aeff", 175, false));
+l1_table01.put(List.of("d435", 1652, true));
+l1_table01.put(List.of("eab", 0, false));
+l1_table01.remove("ac8");
+l1_table01.get("b81");
+l1_table01.put(List.of("a831", 13, false));
+l1_table01.remove("df098");
+l1_table01.put(List.of("a53", 1493, true));
+l1_table01.remove("a666");
+l1_table01.put(List.of("a5a72", 88, true));
+l1_table01.put(List.of("a0ea", 0, false));
+l1_table01.put(List.of("d56", 0, false));
+l1_table01.put(List.of("db3", 23, true));
+l1_table01.put(List.of("cd1", 60, true));
+l1_table01.put(List.of("bbb", 29677, false));
+l1_table01.remove("ba11");
+l1_table01.put(List.of("c90", 4, false));
+l1_table01.put(List.of("fba2", 0, true));
+l1_table01.remove("d34");
+l1_table01.put(List.of("ba07", 0, true));
+l1_table01.put(List.of("ba6", 7401, false));
+l1_table01.remove("a27d");
+l1_table01.put(List.of("c1055", 0, false));
+l1_table01.put(List.of("b797", 160, true));
+l1_table01.put(List.of("fa8", 6379, false));
+l1_table01.put(List.of("bcc", 362, true));
+l1_table01.put(List.of("f376", 8747, false));
+l1_table01.put(List.of("c0ad", 6207, true));
+l1_table01.remove("c982");
+l1_table01.put(List.of("e1a", 2741, false));
+l1_table01.remove("cfd");
+l1_table01.put(Arrays.asList("a2ff", 1893, null));
+l1_table01.put(List.of("e48", 121, false));
+l1_table01.put(List.of("fba", 27, false));
+l1_table01.remove("f66");
+l1_table01.put(List.of("f48b", 14, true));
+l1_table01.put(List.of("b62", 0, true));
+l1_table01.put(List.of("eb6", 308, true));
+l1_table01.get("ed79");
+l1_table01.put(List.of("ac13", 185, true));
+l1_table01.remove("c22");
+l1_table01.get("cf4");
+l1_table01.put(List.of("cd2", 318881, false));
+l1_table01.put(List.of("a2e5", 25594, false));
+l1_table01.put(List.of("c85", 0, false));
+l1_table01.remove("aea");
+l1_table01.put(List.of("da75", 140, true));
+l1_table01.remove("e6a");
+l1_table01.put(List.of("b7e2", 83919, true));
+l1_table01.put(List.of("aa7", 174, true));
+l1_table01.put(List.of("eac9", 0, false));
+l1_table01.put(List.of("d9c", 0, false));
+l1_table01.put(List.of("c5e", 7614, true));
+l1_table01.remove("c8d1");
+l1_table01.remove("d85c");
+l1_table01.put(List.of("cd53", 12878, false));
+l1_table01.remove("e796");
+l1_table01.put(List.of("ab22", 6994, false));
+l1_table01.put(List.of("b86", 119, true));
+l1_table01.put(List.of("f22", 0, true));
+l1_table01.get("fc8");
+l1_table01.put(List.of("f18", 4295, true));
+l1_table01.put(List.of("a53c", 355, true));
+l1_table01.remove("edc4");
+l1_table01.put(List.of("fb8", 1067, true));
+l1_table01.put(List.of("fa4", 8438, true));
+l1_table01.put(List.of("d2e", 0, false));
+l1_table01.put(List.of("d41", 0, false));
+l1_table01.put(List.of("d976", 1, true));
+l1_table01.put(Arrays.asList("c0a", 7, null));
+l1_table01.remove("cc7e");
+l1_table01.put(List.of("b755", 0, false));
+l1_table01.put(List.of("bcdf", 24, false));
+l1_table01.remove("b237");
+l1_table01.get("e43");
+l1_table01.remove("a66");
+l1_table01.put(List.of("d08e", 262, false));
+l1_table01.put(List.of("ba0", 0, true));
+l1_table01.put(List.of("c1d", 38, false));
+l1_table01.put(List.of("b37", 28, true));
+l1_table01.remove("d7443");
+l1_table01.remove("bf52");
+l1_table01.put(List.of("fd6", 3445, false));
+l1_table01.put(List.of("d3be", 46, false));
+l1_table01.put(List.of("afd", 0, true));
+l1_table01.put(List.of("eb5", 9, true));
+l1_table01.put(List.of("b87f", 12431, true));
+l1_table01.put(Arrays.asList("d1f2", 0, null));
+l1_table01.put(List.of("da7a", 0, false));
+l1_table01.put(List.of("aaf", 0, false));
+l1_table01.put(List.of("a453", 0, true));
+l1_table01.put(List.of("fc1f", 1, false));
+l1_table01.put(List.of("b07", 0, true));
+l1_table01.remove("ba42");
+l1_table01.get("aa6");
+l1_table01.put(List.of("e31", 0, false));
+l1_table01.remove("b00");
+l1_table01.put(Arrays.asList("fde", 0, null));
+l1_table01.put(List.of("c6d", 56441, true));
+l1_table01.put(List.of("b87", 6664, false));
+l1_table01.put(List.of("b15", 0, false));
+l1_table01.remove("f143");
+l1_table01.put(List.of("b2c6", 0, true));
+l1_table01.remove("bda");
+l1_table01.put(List.of("ad39", 0, true));
+l1_table01.remove("f62");
+l1_table01.put(List.of("f7c", 0, true));
+l1_table01.put(List.of("fb433", 5, false));
+l1_table01.put(Arrays.asList("a18", null, false));
+l1_table01.put(List.of("cc9", 461, true));
+l1_table01.put(List.of("f03", 652, true));
+l1_table01.put(List.of("a499", 8, false));
+l1_table01.put(List.of("a9bd", 0, true));
+l1_table01.put(List.of("a34", 0, true));
+l1_table01.put(List.of("b98", 2, false));
+l1_table01.put(List.of("beba", 254, false));
+l1_table01.put(List.of("e940", 0, true));
+l1_table01.remove("d3d");
+l1_table01.remove("c130");
+l1_table01.remove("be8");
+l1_table01.put(List.of("f1b", 3769, false));
+l1_table01.put(List.of("c73", 10028, true));
+l1_table01.get("a24");
+l1_table01.put(List.of("acb7", 29, true));
+l1_table01.put(List.of("bc4", 1, false));
+l1_table01.put(List.of("f72", 0, false));
+l1_table01.get("df0");
+l1_table01.put(List.of("e8c", 251, false));
+l1_table01.put(List.of("a264", 1454, true));
+l1_table01.remove("ef19");
+l1_table01.put(List.of("bfbf", 0, true));
+l1_table01.remove("eed");
+l1_table01.put(List.of("d53e", 0, true));
+l1_table01.put(List.of("a21", 0, false));
+l1_table01.put(List.of("eac3", 7968, true));
+l1_table01.remove("cf0");
+l1_table01.get("f8ae");
+l1_table01.remove("f42");
+l1_table01.put(List.of("c4b1", 2, true));
+l1_table01.put(List.of("a4b", 0, true));
+l1_table01.remove("e5bf");
+l1_table01.remove("ce2");
+l1_table01.remove("d8d");
+l1_table01.put(List.of("af8", 2299, true));
+l1_table01.get("b27");
+l1_table01.put(List.of("ad7", 0, true));
+l1_table01.put(List.of("edf1", 564, true));
+l1_table01.put(List.of("bec", 44313, false));
+l1_table01.put(List.of("fe7", 5654, true));
+l1_table01.put(Arrays.asList("d2a", null, false));
+l1_table01.put(List.of("da1", 0, true));
+l1_table01.remove("aae");
+l1_table01.remove("c20");
+l1_table01.put(List.of("b667", 17247, false));
+l1_table01.remove("bc79");
+l1_table01.put(List.of("dc8", 665, false));
+l1_table01.put(List.of("a6a", 0, false));
+l1_table01.get("bfbc0");
+l1_table01.put(List.of("d06", 1, true));
+l1_table01.get("e8a8");
+l1_table01.put(List.of("eb4", 25464, true));
+l1_table01.remove("ab2");
+l1_table01.put(List.of("c0c", 0, false));
+l1_table01.put(List.of("ad9", 8, true));
+l1_table01.put(List.of("bbc", 0, false));
+l1_table01.put(List.of("c155", 0, false));
+l1_table01.put(List.of("de7", 0, true));
+l1_table01.put(List.of("b3e", 3, false));
+l1_table01.put(List.of("a28", 0, true));
+l1_table01.put(List.of("d1c", 0, true));
+l1_table01.put(List.of("be9", 0, false));
+l1_table01.put(List.of("c30", 0, true));
+l1_table01.put(List.of("b2a1", 0, false));
+l1_table01.put(List.of("e79", 0, true));
+l1_table01.remove("e9d");
+l1_table01.put(List.of("c7e", 0, false));
+l1_table01.put(List.of("ea5", 0, false));
+l1_table01.put(List.of("dc7", 59, true));
+l1_table01.put(List.of("c8cba", 591, true));
+l1_table01.put(List.of("a4f", 10, false));
+l1_table01.put(List.of("b31", 9, false));
+l1_table01.remove("e370");
+l1_table01.put(List.of("c045", 27, false));
+l1_table01.remove("a13e1");
+l1_table01.put(List.of("b2f4", 350211, false));
+l1_table01.remove("be18");
+l1_table01.remove("a409");
+l1_table01.put(List.of("be86", 0, true));
+l1_table01.put(List.of("a7f9", 0, true));
+l1_table01.put(List.of("cdf", 0, true));
+l1_table01.remove("eeea");
+l1_table01.put(List.of("bff", 0, false));
+l1_table01.put(List.of("f40", 0, false));
+l1_table01.put(List.of("ed0d", 7995, true));
+l1_table01.put(List.of("bf1", 0, true));
+l1_table01.put(List.of("e25", 79, false));
+l1_table01.put(List.of("cd7", 1, true));
+l1_table01.get("f1a");
+l1_table01.put(List.of("ee0", 0, false));
+l1_table01.put(List.of("acfb", 10, false));
+l1_table01.remove("ed9");
+l1_table01.put(List.of("d54f", 15, true));
+l1_table01.remove("e834");
+l1_table01.remove("f819");
+l1_table01.put(List.of("b12", 11, false));
+l1_table01.get("f99");
+l1_table01.remove("f95");
+l1_table01.put(List.of("dd58", 2889, true));
+l1_table01.remove("b84");
+l1_table01.put(List.of("a97a", 0, false));
+l1_table01.put(List.of("e01c", 0, true));
+l1_table01.put(List.of("b123", 16, false));
+l1_table01.put(List.of("bfd4", 2, true));
+l1_table01.put(List.of("a8a96", 11686, true));
+l1_table01.put(List.of("a6d3", 1, false));
+l1_table01.put(List.of("ca9", 0, false));
+l1_table01.remove("c1d9");
+l1_table01.put(List.of("af7", 1144, false));
+l1_table01.put(List.of("b225", 0, true));
+l1_table01.put(List.of("d24", 0, true));
+l1_table01.put(List.of("ac862", 3, true));
+l1_table01.put(List.of("e94", 21, false));
+l1_table01.put(List.of("d37", 0, false));
+l1_table01.put(List.of("b5c9", 22, true));
+l1_table01.put(List.of("fcc", 22773, true));
+l1_table01.put(List.of("cd09", 0, true));
+l1_table01.put(List.of("c36", 0, false));
+l1_table01.get("cfa6");
+l1_table01.put(List.of("e3d", 0, true));
+l1_table01.put(List.of("da15", 256, true));
+l1_table01.put(List.of("a58", 43425, false));
+l1_table01.remove("cd40");
+l1_table01.put(List.of("f020", 25, true));
+l1_table01.put(List.of("a3a", 1, true));
+l1_table01.put(List.of("c6a", 14, true));
+l1_table01.remove("bb0a");
+l1_table01.put(List.of("f20", 4774, true));
+l1_table01.put(List.of("a8b4", 7, false));
+l1_table01.remove("fa5");
+l1_table01.put(List.of("a4215", 218, true));
+l1_table01.remove("b03f");
+l1_table01.put(List.of("c26", 67, true));
+l1_table01.put(List.of("ed4", 3, true));
+l1_table01.get("a56b");
+l1_table01.remove("f02");
+l1_table01.put(List.of("c9a", 0, false));
+l1_table01.put(List.of("ee289", 11, true));
+l1_table01.put(List.of("e66", 0, true));
+l1_table01.put(List.of("ddbe", 0, true));
+l1_table01.remove("a9e");
+l1_table01.put(List.of("cd0", 6, false));
+l1_table01.put(List.of("c80", 0, false));
+l1_table01.get("cf2af");
+l1_table01.remove("ef4e");
+l1_table01.put(List.of("a79", 0, false));
+l1_table01.put(List.of("d73", 1, true));
+l1_table01.remove("cf5");
+l1_table01.put(List.of("e34e", 18, true));
+l1_table01.put(List.of("a6a1", 129, true));
+l1_table01.get("e0f2");
+l1_table01.get("e35");
+l1_table01.put(List.of("fcbd", 0, false));
+l1_table01.put(List.of("c596", 1729, true));
+l1_table01.remove("bede2");
+l1_table01.put(List.of("ef6f", 314, true));
+l1_table01.get("ae3");
+l1_table01.put(List.of("abd", 1320, true));
+l1_table01.remove("e2f3");
+l1_table01.remove("bc2");
+l1_table01.put(List.of("a324", 642, false));
+l1_table01.remove("fbd");
+l1_table01.put(List.of("c8f", 101, false));
+l1_table01.put(List.of("bc099", 0, true));
+l1_table01.put(List.of("bea", 56, true));
+l1_table01.get("ffa");
+l1_table01.put(List.of("c3a", 0, false));
+l1_table01.remove("fb59");
+l1_table01.put(List.of("a760", 0, true));
+l1_table01.put(List.of("c5cc", 261, false));
+l1_table01.put(List.of("eb2", 59, true));
+l1_table01.put(List.of("b76", 0, false));
+l1_table01.put(List.of("b61a", 241, false));
+l1_table01.put(List.of("c45", 154, true));
+l1_table01.put(List.of("e46", 2, true));
+l1_table01.put(List.of("aa64", 0, false));
+l1_table01.put(List.of("dda8", 14, false));
+l1_table01.remove("be6");
+l1_table01.put(List.of("d59", 0, false));
+l1_table01.put(List.of("e325", 0, false));
+l1_table01.put(List.of("f791", 699, false));
+l1_table01.remove("ac3");
+l1_table01.get("dfb9");
+l1_table01.remove("c89");
+l1_table01.remove("b464");
+l1_table01.put(List.of("e3870", 432, true));
+l1_table01.remove("c72");
+l1_table01.put(List.of("fd27", 0, true));
+l1_table01.put(List.of("a50", 7919, false));
+l1_table01.put(List.of("e0b", 18, true));
+l1_table01.remove("d207");
+l1_table01.put(List.of("c549", 4, false));
+l1_table01.put(List.of("bdce", 0, true));
+l1_table01.put(List.of("f5a", 14, true));
+l1_table01.get("b1e4");
+l1_table01.put(List.of("fc88", 0, true));
+l1_table01.get("b24");
+l1_table01.get("c57");
+l1_table01.remove("c2a5");
+l1_table01.put(List.of("e5f", 379, false));
+l1_table01.remove("b4e59");
+l1_table01.remove("cca");
+l1_table01.put(List.of("f8e", 25441, false));
+l1_table01.put(List.of("aa8", 455, true));
+l1_table01.put(List.of("b3b5", 0, false));
+l1_table01.put(List.of("ab0", 2841, false));
+l1_table01.get("ae1a");
+l1_table01.put(List.of("b96", 14, false));
+l1_table01.get("de3");
+l1_table01.put(List.of("efc", 45, true));
+l1_table01.put(List.of("eda", 0, false));
+l1_table01.remove("db52");
+l1_table01.put(List.of("f042", 0, false));
+l1_table01.get("affb");
+l1_table01.put(List.of("cc0", 49622, false));
+l1_table01.put(List.of("bad", 0, true));
+l1_table01.put(List.of("e21", 266, true));
+l1_table01.put(List.of("ef28", 1456, true));
+l1_table01.put(List.of("b3c7", 1238, false));
+l1_table01.put(List.of("e9e", 21, true));
+l1_table01.put(List.of("b40", 2501, true));
+l1_table01.put(List.of("e74", 402, false));
+l1_table01.put(List.of("b88c", 0, false));
+l1_table01.put(List.of("af92", 67, false));
+l1_table01.put(List.of("cbd", 181, false));
+l1_table01.put(List.of("fa7", 1, false));
+l1_table01.put(List.of("db1", 2, true));
+l1_table01.put(List.of("e7b2", 19, true));
+l1_table01.put(List.of("be0", 0, true));
+l1_table01.put(List.of("fcaa", 117, false));
+l1_table01.put(List.of("acf", 0, true));
+l1_table01.put(List.of("c3f", 203, false));
+l1_table01.get("db67");
+l1_table01.put(List.of("df3", 17572, true));
+l1_table01.put(List.of("c93", 6785, false));
+l1_table01.remove("ef2");
+l1_table01.remove("ff8");
+l1_table01.put(List.of("af1", 9, true));
+l1_table01.put(List.of("d69fe", 11551, false));
+l1_table01.remove("d50d");
+l1_table01.put(List.of("deb", 0, true));
+l1_table01.put(List.of("da5", 1022, false));
+l1_table01.remove("acc");
+l1_table01.get("b56a");
+l1_table01.put(List.of("e17", 0, false));
+l1_table01.get("d3cb");
+l1_table01.put(List.of("b7e", 0, false));
+l1_table01.remove("c6eb");
+l1_table01.put(List.of("b56", 0, true));
+l1_table01.put(List.of("e783", 519, false));
+l1_table01.remove("dc1");
+l1_table01.put(List.of("a11b", 185, false));
+l1_table01.put(List.of("d78", 0, false));
+l1_table01.put(List.of("c391", 0, true));
+l1_table01.put(List.of("beb4", 0, false));
+l1_table01.put(List.of("ac2", 19, false));
+l1_table01.put(List.of("fad", 20, false));
+l1_table01.put(List.of("f58", 0, false));
+l1_table01.put(List.of("a5f", 54, false));
+l1_table01.put(List.of("d16", 4, true));
+l1_table01.put(List.of("de1", 0, false));
+l1_table01.remove("cee");
+l1_table01.put(List.of("dd1", 0, false));
+l1_table01.remove("ab5b");
+l1_table01.put(List.of("c09", 0, true));
+l1_table01.put(List.of("c9c", 382, true));
+l1_table01.put(List.of("e6b78", 20877, true));
+l1_table01.remove("d225");
+l1_table01.put(List.of("b7b", 2996, false));
+l1_table01.put(List.of("ab5", 0, true));
+l1_table01.put(List.of("aaa0", 119, false));
+l1_table01.put(List.of("ab06", 187, true));
+l1_table01.remove("cb55");
+l1_table01.put(List.of("ea8", 9444, true));
+l1_table01.put(List.of("a7d", 4043, true));
+l1_table01.remove("b97");
+l1_table01.put(List.of("d4b", 0, false));
+l1_table01.put(List.of("ac0", 566, true));
+l1_table01.put(List.of("dfbc", 1188, true));
+l1_table01.remove("c1b");
+l1_table01.put(List.of("e06", 0, true));
+l1_table01.put(List.of("f674", 1, false));
+l1_table01.put(List.of("be54", 0, false));
+l1_table01.get("ce3");
+l1_table01.put(List.of("fe2", 0, false));
+l1_table01.get("cae");
+l1_table01.put(Arrays.asList("fdd", 21557, null));
+l1_table01.put(List.of("e56", 2034, true));
+l1_table01.put(List.of("fed3", 59, true));
+l1_table01.put(List.of("e78a", 8, false));
+l1_table01.remove("bb9");
+l1_table01.remove("b5d48");
+l1_table01.put(List.of("e98", 34, true));
+l1_table01.put(List.of("bcae", 11482, false));
+l1_table01.remove("b6b");
+l1_table01.put(List.of("e28", 25, true));
+l1_table01.remove("de5");
+l1_table01.remove("d22");
+l1_table01.put(List.of("adb1", 0, true));
+l1_table01.put(List.of("b283", 0, false));
+l1_table01.put(List.of("d6d", 28615, false));
+l1_table01.put(List.of("b3b", 0, true));
+l1_table01.put(List.of("e33", 1379, true));
+l1_table01.put(List.of("f04", 0, false));
+l1_table01.remove("a5b4");
+l1_table01.put(List.of("e27", 33, false));
+l1_table01.put(List.of("bb67", 0, true));
+l1_table01.put(List.of("af78", 258, false));
+l1_table01.put(List.of("fee", 0, false));
+l1_table01.put(List.of("d0b3", 126, false));
+l1_table01.put(List.of("f02e", 23002, false));
+l1_table01.put(List.of("fc93", 0, true));
+l1_table01.put(List.of("b0b", 7, false));
+l1_table01.put(List.of("e63", 0, false));
+l1_table01.remove("c02");
+l1_table01.put(List.of("b42", 0, false));
+l1_table01.put(List.of("ed10", 1, false));
+l1_table01.put(List.of("f54", 0, false));
+l1_table01.remove("bdeb");
+l1_table01.put(List.of("d56a", 0, true));
+l1_table01.put(List.of("cda", 14056, false));
+l1_table01.remove("d98");
+l1_table01.remove("a310");
+l1_table01.put(List.of("c37", 710, false));
+l1_table01.remove("f19");
+l1_table01.put(List.of("f137", 0, false));
+l1_table01.get("bf92");
+l1_table01.put(List.of("a15", 1, false));
+l1_table01.remove("a038");
+l1_table01.remove("f1b3");
+l1_table01.remove("d43");
+l1_table01.put(List.of("d717", 206, true));
+l1_table01.put(List.of("fcf", 423, true));
+l1_table01.put(List.of("c3a3", 3, false));
+l1_table01.put(List.of("cbf4", 209, true));
+l1_table01.put(List.of("cc06", 347, false));
+l1_table01.put(List.of("fb2", 0, false));
+l1_table01.remove("e0a2");
+l1_table01.put(List.of("e996d", 10627, true));
+l1_table01.put(List.of("a6c3", 146, true));
+l1_table01.put(List.of("e38", 0, false));
+l1_table01.put(List.of("e9eb", 903, false));
+l1_table01.put(List.of("d0e", 0, false));
+l1_table01.put(List.of("c6af", 0, false));
+l1_table01.put(List.of("f5f", 0, true));
+l1_table01.get("edd3");
+l1_table01.put(List.of("b51", 25, false));
+l1_table01.put(Arrays.asList("a8e", 0, null));
+l1_table01.put(List.of("bd03", 4, false));
+l1_table01.remove("f0ba");
+l1_table01.put(List.of("f59", 0, false));
+l1_table01.put(List.of("def", 2, false));
+l1_table01.remove("fa44");
+l1_table01.put(List.of("f56", 0, true));
+l1_table01.put(List.of("c6bb", 0, true));
+l1_table01.put(List.of("a509", 0, true));
+l1_table01.put(List.of("cc1", 0, true));
+l1_table01.remove("d18");
+l1_table01.remove("cb0");
+l1_table01.get("a5b");
+l1_table01.put(List.of("f65", 11, true));
+l1_table01.remove("b67b");
+l1_table01.get("c4a");
+l1_table01.put(List.of("e909", 0, true));
+l1_table01.get("fab");
+l1_table01.put(List.of("e44", 0, false));
+l1_table01.put(List.of("e545", 172, false));
+l1_table01.put(List.of("bd93", 370, false));
+l1_table01.put(List.of("d6a", 209, false));
+l1_table01.remove("a304");
+l1_table01.put(List.of("e22", 12, false));
+l1_table01.put(List.of("e1d1", 1053, true));
+l1_table01.get("e031");
+l1_table01.put(List.of("ea972", 48061, false));
+l1_table01.put(List.of("f57f", 0, false));
+l1_table01.get("c83b");
+l1_table01.remove("ceb");
+l1_table01.get("a943");
+l1_table01.put(List.of("b854", 0, false));
+l1_table01.put(List.of("c86", 12, true));
+l1_table01.put(List.of("d69", 2225, true));
+l1_table01.put(List.of("e2b5", 9278, true));
+l1_table01.put(List.of("cfe", 2, false));
+l1_table01.get("db9");
+l1_table01.remove("a71e");
+l1_table01.put(List.of("a354", 519, true));
+l1_table01.put(List.of("df1d", 23, true));
+l1_table01.put(List.of("b828", 0, true));
+l1_table01.put(Arrays.asList("f80", 588, null));
+l1_table01.get("af4");
+l1_table01.put(List.of("bba", 0, false));
+l1_table01.remove("ccb");
+l1_table01.put(List.of("b4c3", 0, true));
+l1_table01.put(List.of("cf83", 0, true));
+l1_table01.put(List.of("aa29", 13, true));
+l1_table01.put(List.of("ac78", 344, true));
+l1_table01.remove("d7c");
+l1_table01.put(List.of("e2f0", 145674, false));
+l1_table01.get("e5d");
+l1_table01.put(List.of("e24", 58, true));
+l1_table01.put(List.of("af25", 3, false));
+l1_table01.put(List.of("b78d", 1, false));
+l1_table01.put(List.of("e83", 0, false));
+l1_table01.put(List.of("aded", 76, true));
+l1_table01.remove("d38");
+l1_table01.put(List.of("ae5da", 3841, true));
+l1_table01.put(List.of("d01d", 9709, true));
+l1_table01.remove("b3db");
+l1_table01.put(List.of("f67", 117750, true));
+l1_table01.put(List.of("ae2", 5105, true));
+l1_table01.get("b0a8");
+l1_table01.put(List.of("c00", 1, true));
+l1_table01.put(List.of("c566", 21936, true));
+l1_table01.put(List.of("b45", 0, true));
+l1_table01.get("dab");
+l1_table01.put(Arrays.asList("b46c", 4103, null));
+l1_table01.put(List.of("c34", 161, true));
+l1_table01.put(List.of("e62", 0, true));
+l1_table01.put(Arrays.asList("dd8", 570, null));
+l1_table01.put(List.of("e14", 3, true));
+l1_table01.put(List.of("f574", 0, true));
+l1_table01.remove("a9a7");
+l1_table01.put(List.of("f1a9", 77, true));
+l1_table01.put(List.of("bd92", 541, false));
+l1_table01.put(List.of("a02f", 0, false));
+l1_table01.put(List.of("b016", 2, false));
+l1_table01.put(List.of("a96", 2, true));
+l1_table01.remove("dcdd");
+l1_table01.put(List.of("daf", 0, false));
+l1_table01.put(List.of("cd97", 0, true));
+l1_table01.put(List.of("f50", 0, true));
+l1_table01.remove("be56");
+l1_table01.put(List.of("d2b5", 2, true));
+l1_table01.put(List.of("b1bc", 0, true));
+l1_table01.put(List.of("d65", 0, false));
+l1_table01.put(List.of("ba18", 0, false));
+l1_table01.put(List.of("c35", 5, true));
+l1_table01.put(List.of("a04", 0, false));
+l1_table01.get("b29d");
+l1_table01.remove("c29");
+l1_table01.put(List.of("f6a", 0, true));
+l1_table01.get("d82");
+l1_table01.put(List.of("a9c", 86943, true));
+l1_table01.put(List.of("e84", 7, false));
+l1_table01.put(List.of("f13", 23, false));
+l1_table01.remove("a2d3");
+l1_table01.put(List.of("cc76", 0, false));
+l1_table01.remove("b89");
+l1_table01.get("d668");
+l1_table01.put(List.of("f935", 0, true));
+l1_table01.put(List.of("feab", 149906, false));
+l1_table01.remove("ee94");
+l1_table01.remove("f955");
+l1_table01.put(List.of("d104", 0, false));
+l1_table01.remove("a9e5");
+l1_table01.get("de4f");
+l1_table01.put(List.of("d2d", 0, false));
+l1_table01.put(List.of("d2b", 0, false));
+l1_table01.put(List.of("e036", 8, false));
+l1_table01.put(List.of("cb7e", 0, false));
+l1_table01.remove("f79");
+l1_table01.remove("c3ca");
+l1_table01.remove("a5c4");
+l1_table01.put(List.of("b613", 53589, true));
+l1_table01.get("f83b");
+l1_table01.remove("ad6");
+l1_table01.get("d74");
+l1_table01.put(List.of("aa9", 3813, false));
+l1_table01.put(List.of("b49", 0, false));
+l1_table01.put(List.of("f2d", 0, true));
+l1_table01.put(List.of("d47", 2032, false));
+l1_table01.put(List.of("b2c0", 271, false));
+l1_table01.put(List.of("a6f52", 0, true));
+l1_table01.put(List.of("b68", 11, false));
+l1_table01.put(List.of("d33", 0, false));
+l1_table01.put(List.of("aa3b", 0, true));
+l1_table01.get("b6f1");
+l1_table01.get("e60d");
+l1_table01.get("c57a");
+l1_table01.get("b7a");
+l1_table01.put(List.of("cab2", 448079, false));
+l1_table01.put(List.of("bf1e", 873, false));
+l1_table01.put(List.of("a62", 1477, true));
+l1_table01.put(List.of("b36f", 4276, false));
+l1_table01.put(List.of("e7b", 0, true));
+l1_table01.put(List.of("f7f", 0, false));
+l1_table01.remove("ba3");
+l1_table01.put(List.of("e286", 0, false));
+l1_table01.remove("c99");
+l1_table01.put(List.of("eb9f", 0, false));
+l1_table01.put(List.of("ecb79", 2, true));
+l1_table01.put(List.of("b6a", 779, true));
+l1_table01.remove("aa0b");
+l1_table01.put(List.of("ac4", 6228, false));
+l1_table01.remove("fbf");
+l1_table01.put(List.of("e535", 1111, true));
+l1_table01.remove("cee0");
+l1_table01.put(List.of("aeb", 0, false));
+l1_table01.put(List.of("fb55", 0, false));
+l1_table01.put(List.of("f6da", 7, true));
+l1_table01.put(List.of("a053", 0, true));
+l1_table01.put(List.of("e9b0", 0, false));
+l1_table01.put(List.of("ebf", 0, false));
+l1_table01.put(List.of("fa9", 2, true));
+l1_table01.put(List.of("af6", 408, true));
+l1_table01.put(List.of("f340", 120, true));
+l1_table01.put(List.of("c20d", 9740, true));
+l1_table01.get("a0fa");
+l1_table01.put(List.of("e8ab", 5, true));
+l1_table01.get("d202");
+l1_table01.put(List.of("aec9", 1158, false));
+l1_table01.get("a1bd8");
+l1_table01.put(List.of("dd3", 3, false));
+l1_table01.put(List.of("ae71", 0, true));
+l1_table01.get("d938");
+l1_table01.put(List.of("a2f", 142, false));
+l1_table01.put(List.of("fd76", 0, true));
+l1_table01.put(List.of("f5b", 0, false));
+l1_table01.put(List.of("d19", 0, false));
+l1_table01.put(List.of("d1d", 323, false));
+l1_table01.put(List.of("e4e", 0, true));
+l1_table01.put(List.of("e92", 1, false));
+l1_table01.put(List.of("abff", 111, false));
+l1_table01.put(List.of("c16", 0, true));
+l1_table01.put(List.of("e01", 0, false));
+l1_table01.put(List.of("d2ed", 0, false));
+l1_table01.put(List.of("ebb", 0, true));
+l1_table01.remove("b576");
+l1_table01.remove("ad4f");
+l1_table01.remove("a1e11");
+l1_table01.put(List.of("af24", 2, false));
+l1_table01.put(List.of("a768", 11, false));
+l1_table01.get("c73b");
+l1_table01.put(List.of("ecf6", 1, true));
+l1_table01.put(Arrays.asList("cbfc", null, true));
+l1_table01.put(List.of("d25", 1821, false));
+l1_table01.put(List.of("f74a", 75, true));
+l1_table01.put(List.of("b97ca", 58, true));
+l1_table01.put(List.of("a98", 23, false));
+l1_table01.put(List.of("caa8", 0, true));
+l1_table01.remove("b7c");
+l1_table01.get("a0b");
+l1_table01.put(List.of("e7e", 5, false));
+l1_table01.remove("e0d");
+l1_table01.put(List.of("f6c", 5, true));
+l1_table01.put(List.of("bcc9", 52, false));
+l1_table01.remove("a5ff");
+l1_table01.put(List.of("da44", 7931, false));
+l1_table01.put(List.of("f94", 253, false));
+l1_table01.remove("a67");
+l1_table01.get("b4ec9");
+l1_table01.put(List.of("a26", 0, true));
+l1_table01.get("b943");
+l1_table01.put(List.of("a11", 56, true));
+l1_table01.put(List.of("d788", 0, false));
+l1_table01.put(List.of("f63", 2, false));
+l1_table01.put(List.of("c95", 213, false));
+l1_table01.get("fb5");
+l1_table01.put(List.of("fac", 0, true));
+l1_table01.remove("f0e");
+l1_table01.put(List.of("eb8a", 0, false));
+l1_table01.remove("a14a");
+l1_table01.put(List.of("f2a5", 0, true));
+l1_table01.put(List.of("d57", 0, true));
+l1_table01.put(List.of("e0a9", 0, false));
+l1_table01.remove("a3d");
+l1_table01.get("a2d");
+l1_table01.remove("c7c");
+l1_table01.put(List.of("b0fb", 8, false));
+l1_table01.get("cfa8");
+l1_table01.put(List.of("fff", 3, true));
+l1_table01.remove("e6e");
+l1_table01.put(List.of("d15b", 0, false));
+l1_table01.put(List.of("e39", 7704, false));
+l1_table01.remove("bf7");
+l1_table01.put(List.of("faa", 0, false));
+l1_table01.remove("e7f1");
+l1_table01.get("c065");
+l1_table01.put(List.of("f41", 10960, true));
+l1_table01.remove("ea16");
+l1_table01.remove("b8c");
+l1_table01.remove("ae9");
+l1_table01.remove("fe25");
+l1_table01.put(List.of("db6", 675, false));
+l1_table01.put(List.of("d3f", 0, true));
+l1_table01.put(List.of("c67", 203, false));
+l1_table01.put(List.of("b8d", 0, true));
+l1_table01.put(List.of("b55", 0, true));
+l1_table01.put(List.of("f0f2", 1, true));
+l1_table01.put(List.of("c46", 0, false));
+l1_table01.put(List.of("a68e", 1163, true));
+l1_table01.put(List.of("f5d9", 0, true));
+l1_table01.remove("aad");
+l1_table01.put(List.of("c698", 35, false));
+l1_table01.get("c83");
+l1_table01.put(List.of("f6b", 32, true));
+l1_table01.put(Arrays.asList("f38a", null, true));
+l1_table01.put(List.of("b0a", 5694, true));
+l1_table01.get("bd6");
+l1_table01.remove("f14");
+l1_table01.remove("f2b");
+l1_table01.put(List.of("b80", 1, false));
+l1_table01.get("ad0d");
+l1_table01.put(List.of("b9d5", 3, false));
+l1_table01.get("d4f");
+l1_table01.put(List.of("f81", 33, false));
+l1_table01.remove("d58");
+l1_table01.put(List.of("f8c", 0, true));
+l1_table01.put(List.of("d40", 251, false));
+l1_table01.put(List.of("d4c5", 90108, true));
+l1_table01.put(List.of("b43", 0, true));
+l1_table01.put(List.of("aff6", 1, false));
+l1_table01.remove("fb25");
+l1_table01.put(List.of("b75f", 0, true));
+l1_table01.put(List.of("c5da2", 0, false));
+l1_table01.put(List.of("fbbd", 274, true));
+l1_table01.put(List.of("c952", 0, true));
+l1_table01.put(List.of("a91", 1, false));
+l1_table01.put(List.of("b01", 0, true));
+l1_table01.put(List.of("ae0a", 0, true));
+l1_table01.put(List.of("d67", 0, false));
+l1_table01.put(List.of("e267", 0, true));
+l1_table01.put(List.of("c1eb", 0, true));
+l1_table01.get("fbd0");
+l1_table01.put(List.of("cdbf", 3, false));
+l1_table01.put(List.of("c3d5", 14, true));
+l1_table01.remove("d4d");
+l1_table01.put(List.of("c61", 2, false));
+l1_table01.put(List.of("dcda", 95, false));
+l1_table01.put(List.of("acf9", 0, false));
+l1_table01.put(List.of("dc01", 3, true));
+l1_table01.put(List.of("d8a", 11, true));
+l1_table01.get("f8d2");
+l1_table01.put(List.of("c33", 19, false));
+l1_table01.put(List.of("bd02", 0, false));
+l1_table01.put(List.of("a76d", 10, true));
+l1_table01.put(List.of("e42a0", 4, false));
+l1_table01.put(List.of("ff94", 3, true));
+l1_table01.remove("ce51");
+l1_table01.remove("c851");
+l1_table01.remove("c0a93");
+l1_table01.put(List.of("a11f", 2315, true));
+l1_table01.put(List.of("a12", 2877, false));
+l1_table01.remove("ea51");
+l1_table01.put(List.of("ed2e", 191571, true));
+l1_table01.get("a28b");
+l1_table01.remove("e923");
+l1_table01.remove("faf3");
+l1_table01.put(List.of("b08", 8, false));
+l1_table01.put(List.of("eff", 4, true));
+l1_table01.put(List.of("a4e4", 13336, false));
+l1_table01.put(List.of("e71e", 0, false));
+l1_table01.put(List.of("f2f", 519, false));
+l1_table01.get("e05");
+l1_table01.put(List.of("d9ae", 246, true));
+l1_table01.put(List.of("ea3", 2039, false));
+l1_table01.put(List.of("f7d", 0, true));
+l1_table01.put(List.of("d99", 0, true));
+l1_table01.put(List.of("aba", 160, false));
+l1_table01.put(List.of("c51", 0, true));
+l1_table01.put(List.of("cf6", 0, true));
+l1_table01.put(List.of("d85", 0, true));
+l1_table01.remove("f750");
+l1_table01.put(List.of("bfa", 7311, false));
+l1_table01.get("c48f");
+l1_table01.put(List.of("c1e8", 22, false));
+l1_table01.put(List.of("c06", 0, false));
+l1_table01.put(List.of("f290", 5, false));
+l1_table01.put(List.of("b090", 139, true));
+l1_table01.remove("cbb8");
+l1_table01.remove("a8799");
+l1_table01.put(List.of("d42", 1, true));
+l1_table01.put(List.of("d54", 15345, false));
+l1_table01.put(List.of("aa2f3", 83, false));
+l1_table01.put(List.of("a070", 0, true));
+l1_table01.remove("cda2");
+l1_table01.remove("c76");
+l1_table01.put(List.of("c78", 0, true));
+l1_table01.put(List.of("ad5", 0, true));
+l1_table01.remove("b954");
+l1_table01.put(List.of("ca8", 0, false));
+l1_table01.put(List.of("ae1", 56, false));
+l1_table01.put(List.of("a86a", 0, true));
+l1_table01.put(List.of("f54a", 362, false));
+l1_table01.put(List.of("b54", 1, true));
+l1_table01.remove("bbc7");
+l1_table01.remove("e495");
+l1_table01.put(List.of("ac54", 0, true));
+l1_table01.put(List.of("e9e4", 243752, false));
+l1_table01.put(List.of("f69b", 314, true));
+l1_table01.put(List.of("e6f9", 0, false));
+l1_table01.remove("ca76");
+l1_table01.put(List.of("e1e8", 0, false));
+l1_table01.put(List.of("e6b5", 11, true));
+l1_table01.put(List.of("b876", 0, true));
+l1_table01.put(List.of("c715", 0, true));
+l1_table01.put(List.of("a75e", 26351, false));
+l1_table01.put(List.of("fe68", 0, false));
+l1_table01.put(List.of("ec4", 0, true));
+l1_table01.put(List.of("c963", 0, false));
+l1_table01.remove("e72");
+l1_table01.put(List.of("d4b6", 64, false));
+l1_table01.remove("fbb");
+l1_table01.remove("b29e");
+l1_table01.put(List.of("d8c0", 0, false));
+l1_table01.put(List.of("f085", 0, false));
+l1_table01.put(List.of("a41", 807, false));
+l1_table01.put(List.of("f30e", 22242, false));
+l1_table01.put(List.of("abca", 0, true));
+l1_table01.remove("bdd4");
+l1_table01.remove("dba");
+l1_table01.put(List.of("ab9", 0, false));
+l1_table01.put(List.of("b1a9", 0, true));
+l1_table01.put(List.of("abadd", 615, true));
+l1_table01.put(List.of("d77", 0, true));
+l1_table01.put(List.of("e18d", 0, true));
+l1_table01.put(List.of("bb40", 0, false));
+l1_table01.remove("b82");
+l1_table01.remove("ed5e");
+l1_table01.remove("ae8");
+l1_table01.put(List.of("a76f6", 0, true));
+l1_table01.put(List.of("be66", 42, false));
+l1_table01.put(List.of("fe6", 0, true));
+l1_table01.put(List.of("ab71", 88, false));
+l1_table01.put(List.of("da6", 11450, true));
+l1_table01.remove("e0f5");
+l1_table01.put(List.of("bfc6", 0, true));
+l1_table01.remove("d5b7");
+l1_table01.get("eae");
+l1_table01.get("df5");
+l1_table01.put(List.of("a90", 0, true));
+l1_table01.get("f200");
+l1_table01.put(Arrays.asList("db9b", null, true));
+l1_table01.put(List.of("af59", 45, false));
+l1_table01.put(List.of("cd9", 0, false));
+l1_table01.put(List.of("bc50", 1508, true));
+l1_table01.put(List.of("edd", 11, false));
+l1_table01.put(List.of("fc5", 0, true));
+l1_table01.put(List.of("a71", 2, false));
+l1_table01.put(List.of("f071", 3515, false));
+l1_table01.put(List.of("bc2c", 0, false));
+l1_table01.put(List.of("c9ea", 0, false));
+l1_table01.put(List.of("adda", 2, false));
+l1_table01.remove("e57");
+l1_table01.put(List.of("b7209", 0, true));
+l1_table01.put(List.of("a58d", 0, false));
+l1_table01.put(List.of("a25", 80, false));
+l1_table01.put(List.of("acf0", 4852, false));
+l1_table01.remove("d10");
+l1_table01.put(List.of("fb86", 0, true));
+l1_table01.put(List.of("fec", 0, false));
+l1_table01.put(List.of("d9f", 6, true));
+l1_table01.get("b5d5");
+l1_table01.remove("fa3");
+l1_table01.remove("e8a3");
+l1_table01.put(List.of("dc6", 0, false));
+l1_table01.put(List.of("b106", 8, true));
+l1_table01.put(List.of("c8c", 1, false));
+l1_table01.put(List.of("d1d8", 1, true));
+l1_table01.put(List.of("c89d", 250, true));
+l1_table01.put(List.of("c00f", 0, true));
+l1_table01.put(List.of("f86", 0, false));
+l1_table01.put(List.of("c13f", 0, false));
+l1_table01.remove("e0f1");
+l1_table01.put(List.of("a448", 0, false));
+l1_table01.put(List.of("a7ee", 2, false));
+l1_table01.get("efa2");
+l1_table01.put(List.of("ceea", 150, false));
+l1_table01.put(List.of("a65", 0, true));
+l1_table01.put(List.of("aba7", 3972, false));
+l1_table01.remove("c64");
+l1_table01.remove("e1c");
+l1_table01.put(List.of("bb12", 0, false));
+l1_table01.put(List.of("e1b", 449, false));
+l1_table01.put(List.of("a6a8", 0, false));
+l1_table01.put(List.of("ed0", 102, true));
+l1_table01.get("e6dc");
+l1_table01.get("d856");
+l1_table01.put(List.of("ed62", 0, true));
+l1_table01.remove("f27");
+l1_table01.put(List.of("b71", 17, false));
+l1_table01.put(List.of("c85a", 2, true));
+l1_table01.put(List.of("cd3", 0, false));
+l1_table01.put(List.of("e8e", 311, true));
+l1_table01.put(List.of("c761", 5, true));
+l1_table01.put(List.of("e710", 451, true));
+l1_table01.remove("ec6f");
+l1_table01.put(List.of("d03", 1435, false));
+l1_table01.put(List.of("d04", 0, true));
+l1_table01.put(List.of("a73", 0, true));
+l1_table01.put(List.of("d44", 107, false));
+l1_table01.put(List.of("aaa16", 1, false));
+l1_table01.put(List.of("e53", 0, true));
+l1_table01.put(List.of("ae0", 0, false));
+l1_table01.put(List.of("ee1", 147259, true));
+l1_table01.put(List.of("d28c", 19, true));
+l1_table01.remove("e68");
+l1_table01.put(List.of("d46", 0, true));
+l1_table01.put(List.of("fdc", 8, true));
+l1_table01.get("a32");
+l1_table01.put(List.of("d1e2", 1295, false));
+l1_table01.get("e4de");
+l1_table01.get("ada1");
+l1_table01.put(List.of("f6a3", 874, false));
+l1_table01.put(List.of("cbe5", 5542, true));
+l1_table01.put(List.of("ea0", 0, true));
+l1_table01.get("c10");
+l1_table01.put(List.of("d170", 0, true));
+l1_table01.put(List.of("a19", 0, false));
+l1_table01.put(List.of("c06d9", 0, false));
+l1_table01.put(List.of("bd5", 0, false));
+l1_table01.remove("cc6");
+l1_table01.put(List.of("a04c", 0, true));
+l1_table01.put(List.of("e1f4e", 0, true));
+l1_table01.put(List.of("f583", 4, false));
+l1_table01.put(List.of("e207", 9, true));
+l1_table01.put(List.of("a212", 0, true));
+l1_table01.put(Arrays.asList("e58", 0, null));
+l1_table01.put(Arrays.asList("bbb1", null, false));
+l1_table01.put(List.of("a92", 813, false));
+l1_table01.put(List.of("ff1", 43, false));
+l1_table01.put(List.of("b75", 0, false));
+l1_table01.put(List.of("d92", 205, true));
+l1_table01.remove("e0a3");
+l1_table01.put(List.of("a518", 1, false));
+l1_table01.put(List.of("cf04", 0, false));
+l1_table01.get("e47");
+l1_table01.put(List.of("bcd", 79, false));
+l1_table01.remove("b1d");
+l1_table01.put(List.of("a39", 17, false));
+l1_table01.put(List.of("cb36", 206, true));
+l1_table01.put(List.of("c187", 0, false));
+l1_table01.put(List.of("d90d", 2928, false));
+l1_table01.put(List.of("ecf", 1498, true));
+l1_table01.put(List.of("a29", 3, true));
+l1_table01.put(List.of("c5f", 184, true));
+l1_table01.put(List.of("ca01", 0, false));
+l1_table01.put(List.of("b0c0", 1, true));
+l1_table01.put(List.of("b2b02", 311, true));
+l1_table01.remove("f728");
+l1_table01.put(List.of("f28a", 15, true));
+l1_table01.put(List.of("a882", 0, false));
+l1_table01.get("e6aa");
+l1_table01.remove("a0b0");
+l1_table01.remove("f4c6");
+l1_table01.put(List.of("d8c", 1, false));
+l1_table01.put(List.of("eddb", 1074605, false));
+l1_table01.remove("b327");
+l1_table01.put(List.of("b14a1", 15, true));
+l1_table01.put(List.of("e810", 281, false));
+l1_table01.put(List.of("d21", 72, false));
+l1_table01.remove("f39e");
+l1_table01.put(List.of("a99", 81, false));
+l1_table01.put(List.of("f49", 22, false));
+l1_table01.put(List.of("fd1", 0, true));
+l1_table01.remove("d6f");
+l1_table01.put(List.of("e6d", 0, false));
+l1_table01.put(List.of("d39", 136, false));
+l1_table01.put(List.of("b5d1", 58, true));
+l1_table01.remove("fc0");
+l1_table01.put(List.of("a85e", 0, true));
+l1_table01.put(List.of("d4e2", 0, false));
+l1_table01.put(List.of("b6e", 0, false));
+l1_table01.remove("abb6");
+l1_table01.get("e2a7");
+l1_table01.put(List.of("c865", 0, false));
+l1_table01.get("f73d");
+l1_table01.get("c9ed");
+l1_table01.remove("afdf6");
+l1_table01.put(List.of("d6f1", 65, false));
+l1_table01.remove("a3df");
+l1_table01.put(List.of("e38b", 952, true));
+l1_table01.put(List.of("b5534", 229, false));
+l1_table01.put(List.of("dd0d", 0, true));
+l1_table01.put(List.of("b357", 10308, false));
+l1_table01.remove("f30");
+l1_table01.get("f737");
+l1_table01.put(List.of("fcd16", 0, true));
+l1_table01.put(List.of("a82", 0, false));
+l1_table01.put(List.of("d8b4", 4, false));
+l1_table01.put(List.of("b815", 0, true));
+l1_table01.put(List.of("e722", 19, true));
+l1_table01.remove("f06");
+l1_table01.put(List.of("b58", 34, false));
+l1_table01.put(List.of("c4e", 124, false));
+l1_table01.put(List.of("c16e", 291, false));
+l1_table01.put(List.of("a53d", 0, false));
+l1_table01.clear();
@@ -0,0 +1,2003 @@
+// Random Seed: 655701686
+Table l1_table02 = new SearchTable("l1_table02", List.of("d486", "cc63", "a1c7", "b026", "b463", "b964"), List.of("integer", "boolean", "boolean", "integer", "integer", "boolean"), 3);
+l1_table02.getTableName();
+l1_table02.getColumnNames();
+l1_table02.getColumnTypes();
+l1_table02.getPrimaryIndex();
+l1_table02.clear();
+l1_table02.put(List.of(580, false, true, 11, 0, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(21, false, true, 0, 84840, false));
+l1_table02.put(List.of(0, false, false, 152, 106, true));
+l1_table02.put(List.of(13, true, true, 2, 0, false));
+l1_table02.put(List.of(15, true, false, 0, 0, false));
+l1_table02.put(List.of(40999, true, false, 0, 5808, false));
+l1_table02.get(0);
+l1_table02.put(List.of(29, false, false, 67963, 7226, true));
+l1_table02.put(List.of(1087, true, true, 2, 289794, true));
+l1_table02.put(List.of(0, false, true, 3603, 3979, false));
+l1_table02.put(List.of(4, false, false, 878, 100, false));
+l1_table02.put(List.of(0, true, false, 0, 0, false));
+l1_table02.get(1503);
+l1_table02.put(List.of(32, false, true, 0, 0, true));
+l1_table02.remove(1);
+l1_table02.put(List.of(1, true, false, 88, 9206, true));
+l1_table02.put(List.of(0, true, false, 2104, 7, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(4, false, false, 3, 8, false));
+l1_table02.put(List.of(12159, true, true, 0, 322425, false));
+l1_table02.put(List.of(0, false, true, 0, 8589, false));
+l1_table02.put(List.of(816, false, false, 135, 243, false));
+l1_table02.put(Arrays.asList(null, true, true, 0, 0, true));
+l1_table02.put(List.of(97493, true, true, 1, 59445, false));
+l1_table02.put(List.of(7091, false, true, 491, 56, true));
+l1_table02.remove(447);
+l1_table02.remove(7);
+l1_table02.put(List.of(0, false, false, 43, 37, true));
+l1_table02.get(0);
+l1_table02.remove(0);
+l1_table02.put(Arrays.asList(4326, true, true, 37, null, false));
+l1_table02.remove(3);
+l1_table02.put(List.of(0, true, false, 0, 0, true));
+l1_table02.remove(63581);
+l1_table02.get(0);
+l1_table02.put(List.of(5548, true, false, 0, 0, false));
+l1_table02.put(List.of(2, true, true, 0, 69, false));
+l1_table02.put(List.of(0, true, true, 1005, 0, false));
+l1_table02.get(997);
+l1_table02.get(727);
+l1_table02.put(List.of(2, false, false, 8, 4, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(78, true, true, 0, 86, true));
+l1_table02.put(List.of(0, false, false, 7, 0, false));
+l1_table02.put(List.of(51, true, true, 9945, 16, false));
+l1_table02.put(List.of(58, false, true, 33, 25000, false));
+l1_table02.put(List.of(7432, false, true, 0, 7, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, true, 6436, 0, true));
+l1_table02.put(List.of(4, false, true, 182, 378, false));
+l1_table02.remove(60);
+l1_table02.remove(42527);
+l1_table02.put(List.of(3, false, true, 1819, 0, true));
+l1_table02.put(List.of(4, false, false, 918, 9, false));
+l1_table02.put(List.of(0, true, false, 0, 0, true));
+l1_table02.get(0);
+l1_table02.put(List.of(6, true, true, 232, 0, true));
+l1_table02.put(List.of(0, false, true, 0, 412, false));
+l1_table02.put(List.of(0, false, true, 0, 2, false));
+l1_table02.put(List.of(0, true, true, 0, 0, true));
+l1_table02.get(1);
+l1_table02.put(List.of(0, true, false, 11135, 57, true));
+l1_table02.put(List.of(0, true, false, 0, 109189, true));
+l1_table02.put(List.of(10, true, true, 35, 2, false));
+l1_table02.remove(190);
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, true, 23, 0, true));
+l1_table02.put(List.of(85, true, false, 562, 404, false));
+l1_table02.put(List.of(0, false, true, 72, 15095, false));
+l1_table02.put(List.of(0, false, false, 0, 0, true));
+l1_table02.put(List.of(390, false, false, 0, 0, false));
+l1_table02.put(List.of(6, true, true, 5049, 0, false));
+l1_table02.remove(0);
+l1_table02.remove(479);
+l1_table02.put(List.of(96, false, true, 0, 335151, true));
+l1_table02.remove(5309);
+l1_table02.put(List.of(26, false, false, 0, 175, true));
+l1_table02.get(0);
+l1_table02.put(List.of(225, false, false, 0, 0, true));
+l1_table02.put(List.of(0, false, false, 0, 0, false));
+l1_table02.put(Arrays.asList(0, false, null, 36, 0, true));
+l1_table02.put(List.of(49, false, false, 0, 54, true));
+l1_table02.get(0);
+l1_table02.put(List.of(0, false, true, 0, 0, true));
+l1_table02.put(List.of(0, false, true, 18, 0, false));
+l1_table02.put(List.of(0, true, false, 0, 128, false));
+l1_table02.put(List.of(2150, false, true, 7, 0, false));
+l1_table02.put(List.of(32, false, false, 0, 0, true));
+l1_table02.put(List.of(0, true, true, 9, 2, false));
+l1_table02.put(List.of(7192, false, false, 0, 0, true));
+l1_table02.put(List.of(0, true, true, 4, 8, false));
+l1_table02.get(5);
+l1_table02.put(List.of(0, false, false, 0, 368, false));
+l1_table02.put(List.of(187, true, true, 204, 0, false));
+l1_table02.put(List.of(0, true, false, 0, 37945, true));
+l1_table02.put(List.of(0, false, true, 79, 47885, true));
+l1_table02.put(List.of(0, true, false, 302, 8, true));
+l1_table02.put(List.of(4433, false, true, 63, 0, true));
+l1_table02.put(List.of(1211, true, true, 184522, 0, true));
+l1_table02.put(List.of(36333, true, true, 404, 208, true));
+l1_table02.put(List.of(24992, false, true, 697, 2522, true));
+l1_table02.put(List.of(1197, false, false, 0, 0, false));
+l1_table02.put(List.of(95, false, false, 0, 162710, true));
+l1_table02.get(9);
+l1_table02.put(List.of(0, false, false, 0, 0, true));
+l1_table02.remove(30);
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, false, 88, 53, true));
+l1_table02.put(List.of(0, false, true, 195, 8600, true));
+l1_table02.put(List.of(0, true, false, 0, 1886, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, true, 469, 0, true));
+l1_table02.remove(5669);
+l1_table02.put(List.of(0, false, false, 93396, 233, true));
+l1_table02.put(List.of(0, false, false, 6217, 0, false));
+l1_table02.put(List.of(0, false, true, 2, 64, true));
+l1_table02.put(List.of(66456, true, true, 0, 0, true));
+l1_table02.put(List.of(25537, true, false, 0, 0, false));
+l1_table02.put(List.of(0, false, true, 300, 12, true));
+l1_table02.put(List.of(10, true, false, 2, 3471, true));
+l1_table02.put(List.of(54, true, true, 171, 5284, true));
+l1_table02.put(List.of(3107, false, false, 0, 14, false));
+l1_table02.put(List.of(0, true, false, 0, 0, true));
+l1_table02.put(List.of(29, true, true, 309, 19, true));
+l1_table02.remove(953);
+l1_table02.get(24);
+l1_table02.put(List.of(537, false, false, 352, 0, false));
+l1_table02.put(List.of(0, true, false, 148, 17, true));
+l1_table02.remove(0);
+l1_table02.get(120);
+l1_table02.put(List.of(0, true, false, 0, 10, true));
+l1_table02.get(28);
+l1_table02.get(124);
+l1_table02.put(List.of(457, false, false, 0, 144, true));
+l1_table02.put(List.of(0, true, false, 21, 0, true));
+l1_table02.put(List.of(144, true, false, 85, 0, false));
+l1_table02.put(List.of(0, false, true, 0, 212, false));
+l1_table02.put(Arrays.asList(0, null, true, 19, 0, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(126393, false, true, 0, 0, false));
+l1_table02.put(List.of(164997, true, false, 236, 41, true));
+l1_table02.put(List.of(529, true, false, 0, 0, false));
+l1_table02.put(List.of(4, false, false, 0, 0, true));
+l1_table02.put(List.of(0, true, true, 0, 2, true));
+l1_table02.put(List.of(0, true, false, 158, 0, false));
+l1_table02.put(List.of(476, true, true, 6203, 4, false));
+l1_table02.put(List.of(8, true, false, 2, 3, false));
+l1_table02.put(List.of(1075, false, true, 0, 30, true));
+l1_table02.put(List.of(1334, true, true, 333, 0, true));
+l1_table02.put(List.of(22477, true, true, 73, 2, true));
+l1_table02.put(List.of(597, false, false, 0, 0, true));
+l1_table02.remove(0);
+l1_table02.put(Arrays.asList(0, null, false, 79, 0, false));
+l1_table02.put(Arrays.asList(null, true, false, 125, 50, true));
+l1_table02.put(List.of(6590, true, true, 1912, 1, true));
+l1_table02.get(0);
+l1_table02.put(List.of(0, false, false, 0, 0, false));
+l1_table02.put(List.of(0, true, false, 677, 0, false));
+l1_table02.put(List.of(386, false, false, 463, 2132, false));
+l1_table02.put(List.of(0, true, false, 0, 3, false));
+l1_table02.put(List.of(17, false, false, 19065, 0, true));
+l1_table02.put(List.of(0, false, false, 158, 7199, false));
+l1_table02.remove(208);
+l1_table02.remove(808);
+l1_table02.put(List.of(284, true, false, 0, 418, true));
+l1_table02.put(List.of(0, true, false, 0, 13, true));
+l1_table02.put(List.of(0, true, true, 1, 1320, true));
+l1_table02.put(List.of(8, false, false, 0, 0, false));
+l1_table02.remove(62);
+l1_table02.put(List.of(78, true, false, 2809, 1101, true));
+l1_table02.put(List.of(175, false, true, 95, 0, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(1789, true, false, 56178, 0, true));
+l1_table02.remove(9);
+l1_table02.put(List.of(13, false, true, 0, 0, true));
+l1_table02.remove(0);
+l1_table02.remove(0);
+l1_table02.remove(0);
+l1_table02.put(List.of(261, false, true, 0, 0, false));
+l1_table02.get(0);
+l1_table02.put(List.of(0, true, false, 0, 8142, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, false, 1, 47379, false));
+l1_table02.get(91);
+l1_table02.put(List.of(8, false, true, 250060, 0, true));
+l1_table02.put(List.of(18, true, true, 1440, 20, false));
+l1_table02.put(List.of(2, true, false, 0, 128, true));
+l1_table02.put(List.of(0, true, true, 1854, 0, false));
+l1_table02.get(0);
+l1_table02.remove(0);
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, false, 0, 32869, true));
+l1_table02.put(Arrays.asList(63, false, true, 0, null, true));
+l1_table02.put(List.of(33, true, false, 0, 83477, true));
+l1_table02.get(4253);
+l1_table02.remove(1607);
+l1_table02.put(List.of(0, false, false, 5, 0, true));
+l1_table02.put(List.of(0, true, false, 4, 2015, true));
+l1_table02.put(Arrays.asList(97, null, false, 212, 80225, false));
+l1_table02.get(54);
+l1_table02.put(List.of(14, true, false, 20, 506384, false));
+l1_table02.put(List.of(17, false, false, 1641, 2, true));
+l1_table02.remove(16);
+l1_table02.remove(10);
+l1_table02.put(List.of(43, false, false, 4, 1846, true));
+l1_table02.put(List.of(0, true, false, 2552, 248, false));
+l1_table02.remove(75);
+l1_table02.put(List.of(2, false, true, 0, 54, false));
+l1_table02.get(0);
+l1_table02.put(List.of(0, false, false, 179, 649, true));
+l1_table02.remove(50);
+l1_table02.put(List.of(336, false, true, 19, 0, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(20, false, true, 39, 0, false));
+l1_table02.put(Arrays.asList(13, true, null, 0, 0, true));
+l1_table02.get(39344);
+l1_table02.put(List.of(5, false, false, 9660, 0, false));
+l1_table02.remove(4728);
+l1_table02.get(65);
+l1_table02.put(List.of(0, true, true, 777, 27, true));
+l1_table02.remove(1615);
+l1_table02.remove(0);
+l1_table02.remove(15327);
+l1_table02.put(List.of(7795, true, false, 0, 1, true));
+l1_table02.put(List.of(128, true, true, 0, 0, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, false, 0, 5139, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(5, true, false, 1, 70622, false));
+l1_table02.remove(4);
+l1_table02.get(37);
+l1_table02.put(List.of(0, true, true, 0, 87, true));
+l1_table02.put(List.of(4755, false, true, 134, 0, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, false, 2531, 0, true));
+l1_table02.put(List.of(2, true, false, 0, 0, false));
+l1_table02.put(Arrays.asList(null, false, true, 196, 0, true));
+l1_table02.put(List.of(4, true, true, 0, 34004, false));
+l1_table02.get(119);
+l1_table02.put(List.of(1162, true, false, 0, 31, true));
+l1_table02.get(0);
+l1_table02.put(List.of(0, false, false, 0, 2, true));
+l1_table02.put(List.of(27, true, true, 0, 13345, true));
+l1_table02.put(List.of(1568, true, false, 0, 0, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, false, 0, 0, false));
+l1_table02.put(List.of(332, false, false, 727, 0, true));
+l1_table02.put(Arrays.asList(null, true, true, 0, 14478, false));
+l1_table02.put(List.of(0, true, true, 0, 1217, false));
+l1_table02.put(List.of(6388, false, true, 0, 7, false));
+l1_table02.put(List.of(0, false, false, 186, 0, false));
+l1_table02.put(List.of(306, true, false, 4, 0, false));
+l1_table02.put(List.of(0, true, false, 0, 1, true));
+l1_table02.put(List.of(0, false, false, 0, 0, false));
+l1_table02.put(List.of(2852, true, false, 194, 0, false));
+l1_table02.put(List.of(0, false, false, 0, 256, true));
+l1_table02.put(List.of(0, false, false, 487, 9, false));
+l1_table02.put(List.of(0, true, true, 0, 1872, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(35, false, false, 58119, 0, false));
+l1_table02.put(List.of(4372, true, true, 61, 0, true));
+l1_table02.get(2020);
+l1_table02.put(List.of(0, true, true, 0, 34, false));
+l1_table02.put(List.of(11, true, false, 0, 0, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, false, 1715, 32, false));
+l1_table02.remove(0);
+l1_table02.remove(0);
+l1_table02.put(List.of(3606, false, false, 148, 0, false));
+l1_table02.remove(164352);
+l1_table02.put(List.of(0, true, true, 0, 1, true));
+l1_table02.put(List.of(0, true, false, 42, 0, true));
+l1_table02.put(Arrays.asList(265, false, true, 0, null, false));
+l1_table02.put(List.of(1749, true, true, 0, 1522, false));
+l1_table02.put(List.of(0, false, false, 1, 173982, true));
+l1_table02.put(List.of(0, false, true, 6106, 0, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, true, 235, 0, false));
+l1_table02.put(List.of(0, true, false, 22283, 2, true));
+l1_table02.put(List.of(222, false, false, 0, 0, true));
+l1_table02.get(0);
+l1_table02.put(List.of(1, false, true, 1, 0, true));
+l1_table02.put(List.of(0, false, true, 0, 9, false));
+l1_table02.get(0);
+l1_table02.put(List.of(587, false, true, 78922, 2373, false));
+l1_table02.put(List.of(2087, true, true, 15, 158, true));
+l1_table02.remove(8);
+l1_table02.put(List.of(0, true, false, 0, 0, true));
+l1_table02.put(List.of(47, false, false, 7, 5799, false));
+l1_table02.put(List.of(1, true, false, 0, 0, true));
+l1_table02.put(List.of(13, false, true, 1207, 2098, true));
+l1_table02.get(4010);
+l1_table02.put(List.of(0, true, true, 110976, 2, false));
+l1_table02.put(List.of(0, true, true, 430, 55, true));
+l1_table02.put(List.of(948, true, false, 0, 45, true));
+l1_table02.put(List.of(0, false, true, 0, 6011, false));
+l1_table02.get(2);
+l1_table02.put(List.of(0, false, false, 0, 18, true));
+l1_table02.put(List.of(1264, true, true, 0, 1621, false));
+l1_table02.put(List.of(468666, false, true, 0, 1, false));
+l1_table02.put(List.of(0, false, false, 24540, 202, true));
+l1_table02.put(List.of(0, true, true, 0, 0, false));
+l1_table02.put(List.of(3871, false, true, 1, 0, true));
+l1_table02.put(List.of(22, false, true, 0, 0, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(1575, false, true, 23, 167, true));
+l1_table02.put(List.of(0, true, true, 0, 361, false));
+l1_table02.put(List.of(321, false, false, 126, 0, false));
+l1_table02.put(List.of(0, false, true, 1535, 0, true));
+l1_table02.put(List.of(0, false, true, 15, 0, true));
+l1_table02.put(List.of(24, true, false, 79, 255036, false));
+l1_table02.put(List.of(0, true, true, 17, 8, false));
+l1_table02.put(List.of(95, true, true, 0, 5, false));
+l1_table02.put(List.of(564, false, true, 4782, 11, false));
+l1_table02.put(List.of(0, true, false, 590, 15, true));
+l1_table02.put(List.of(2102, true, false, 3345, 114066, true));
+l1_table02.put(List.of(11234, false, false, 1221, 0, false));
+l1_table02.put(Arrays.asList(0, true, true, 1, null, false));
+l1_table02.get(0);
+l1_table02.put(List.of(1, true, true, 47, 30424, false));
+l1_table02.put(List.of(0, false, false, 0, 238, true));
+l1_table02.put(List.of(0, false, false, 98578, 14, true));
+l1_table02.put(List.of(1, false, true, 169, 113, true));
+l1_table02.put(Arrays.asList(0, true, null, 196, 0, false));
+l1_table02.put(List.of(188901, true, false, 2170, 0, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, true, 9, 15780, false));
+l1_table02.put(List.of(878, false, false, 0, 7, false));
+l1_table02.put(List.of(11, true, false, 21, 0, true));
+l1_table02.remove(0);
+l1_table02.put(Arrays.asList(410, true, null, 0, 3, false));
+l1_table02.remove(6);
+l1_table02.put(List.of(44, true, false, 64, 39, true));
+l1_table02.put(List.of(15, true, true, 1, 2524, false));
+l1_table02.put(List.of(0, true, true, 0, 2, true));
+l1_table02.get(359);
+l1_table02.put(List.of(18946, false, true, 0, 0, false));
+l1_table02.put(List.of(0, true, true, 51, 0, true));
+l1_table02.put(List.of(0, true, true, 0, 344, true));
+l1_table02.get(1705);
+l1_table02.put(List.of(0, true, false, 0, 1820, true));
+l1_table02.put(List.of(0, false, true, 1522539, 1062, true));
+l1_table02.get(0);
+l1_table02.put(List.of(2, false, false, 9, 0, false));
+l1_table02.remove(0);
+l1_table02.remove(79);
+l1_table02.remove(16494);
+l1_table02.get(0);
+l1_table02.put(List.of(3, false, false, 0, 13911, true));
+l1_table02.remove(0);
+l1_table02.remove(0);
+l1_table02.remove(51);
+l1_table02.put(List.of(2, true, true, 0, 64, true));
+l1_table02.put(List.of(152130, true, false, 134, 8, true));
+l1_table02.put(List.of(0, true, false, 0, 0, true));
+l1_table02.put(List.of(0, false, true, 0, 1, true));
+l1_table02.put(List.of(3, false, false, 0, 0, true));
+l1_table02.remove(21);
+l1_table02.put(List.of(75, false, false, 9, 216, false));
+l1_table02.put(List.of(0, true, true, 0, 3366, false));
+l1_table02.remove(57);
+l1_table02.remove(44749);
+l1_table02.put(Arrays.asList(0, false, true, 0, null, false));
+l1_table02.put(List.of(9, false, true, 3074, 4, true));
+l1_table02.put(Arrays.asList(null, true, false, 5985, 1, false));
+l1_table02.put(List.of(0, false, true, 25, 0, true));
+l1_table02.put(List.of(98, true, false, 0, 0, true));
+l1_table02.put(List.of(0, false, false, 0, 596, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(3, false, false, 10, 0, true));
+l1_table02.put(List.of(60, true, true, 1051, 0, false));
+l1_table02.put(List.of(4, true, false, 0, 0, true));
+l1_table02.put(List.of(129, false, false, 0, 0, false));
+l1_table02.put(Arrays.asList(0, true, true, 25, 0, null));
+l1_table02.put(List.of(0, true, true, 0, 352, false));
+l1_table02.put(List.of(1, true, true, 5874, 0, true));
+l1_table02.put(List.of(0, true, false, 0, 44, true));
+l1_table02.put(List.of(4423, false, true, 153, 1070, true));
+l1_table02.put(List.of(368, true, true, 2158, 0, false));
+l1_table02.get(0);
+l1_table02.put(List.of(67, false, false, 0, 0, false));
+l1_table02.put(List.of(0, true, true, 1, 0, true));
+l1_table02.put(List.of(790, true, false, 0, 1, false));
+l1_table02.put(List.of(0, false, false, 300, 0, true));
+l1_table02.put(List.of(0, true, true, 1, 229, false));
+l1_table02.put(List.of(2185, false, false, 0, 191719, false));
+l1_table02.get(2);
+l1_table02.remove(2630);
+l1_table02.put(List.of(261928, false, false, 0, 0, true));
+l1_table02.remove(1954);
+l1_table02.put(List.of(0, false, false, 0, 422, false));
+l1_table02.get(285);
+l1_table02.put(List.of(148, true, false, 0, 0, true));
+l1_table02.put(List.of(87, false, false, 1058, 5, false));
+l1_table02.remove(2);
+l1_table02.remove(12);
+l1_table02.put(List.of(87, false, false, 0, 20, true));
+l1_table02.remove(0);
+l1_table02.remove(1425);
+l1_table02.put(List.of(7, true, false, 157, 0, false));
+l1_table02.put(List.of(7015, true, false, 0, 0, false));
+l1_table02.put(List.of(0, true, true, 0, 8, false));
+l1_table02.remove(3);
+l1_table02.remove(0);
+l1_table02.put(List.of(1, true, false, 0, 1, true));
+l1_table02.get(13);
+l1_table02.put(List.of(1, false, true, 9, 0, false));
+l1_table02.put(List.of(30, true, false, 308, 0, false));
+l1_table02.put(List.of(303, false, false, 4, 0, true));
+l1_table02.put(List.of(0, true, false, 2199, 13, true));
+l1_table02.put(List.of(0, false, true, 16, 1, true));
+l1_table02.put(List.of(975, true, true, 0, 20, false));
+l1_table02.put(List.of(47982, false, false, 27, 0, false));
+l1_table02.get(6);
+l1_table02.remove(0);
+l1_table02.put(List.of(2, true, false, 11269, 1747, false));
+l1_table02.put(List.of(0, true, true, 41, 0, true));
+l1_table02.put(List.of(1706, false, false, 0, 0, true));
+l1_table02.get(0);
+l1_table02.put(List.of(0, false, true, 0, 751, true));
+l1_table02.put(List.of(1842, false, false, 0, 202, true));
+l1_table02.put(List.of(0, false, false, 0, 1691, false));
+l1_table02.put(List.of(0, false, true, 1745, 0, false));
+l1_table02.put(List.of(208, false, true, 0, 110807, true));
+l1_table02.put(List.of(314, true, false, 1345, 0, false));
+l1_table02.put(List.of(0, true, true, 0, 0, false));
+l1_table02.put(List.of(0, false, false, 0, 48, false));
+l1_table02.put(List.of(0, false, false, 0, 35, true));
+l1_table02.put(List.of(0, true, true, 0, 419, true));
+l1_table02.put(List.of(9124, true, false, 0, 64, true));
+l1_table02.put(List.of(0, true, true, 0, 10, true));
+l1_table02.put(List.of(1201, true, true, 1, 1, false));
+l1_table02.put(List.of(56, true, false, 14, 251, false));
+l1_table02.put(Arrays.asList(0, null, true, 0, 2, null));
+l1_table02.remove(25);
+l1_table02.put(List.of(1, true, false, 0, 0, false));
+l1_table02.put(List.of(0, false, false, 3, 1152, true));
+l1_table02.put(List.of(10004, true, true, 0, 26364, true));
+l1_table02.get(2);
+l1_table02.put(Arrays.asList(1, true, false, 5800, 57, null));
+l1_table02.remove(12162);
+l1_table02.put(List.of(0, true, false, 81, 85, true));
+l1_table02.remove(2);
+l1_table02.put(List.of(3, true, true, 0, 0, true));
+l1_table02.put(List.of(0, true, true, 0, 215, true));
+l1_table02.put(List.of(0, true, true, 1, 0, true));
+l1_table02.put(List.of(0, false, true, 63, 414, true));
+l1_table02.put(List.of(6872, false, false, 0, 72, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(30, true, false, 0, 0, false));
+l1_table02.get(10587);
+l1_table02.remove(3604);
+l1_table02.put(List.of(801, false, true, 119, 0, true));
+l1_table02.put(List.of(3197, false, false, 0, 0, true));
+l1_table02.put(List.of(0, true, false, 12259, 14, true));
+l1_table02.remove(34);
+l1_table02.put(List.of(0, false, false, 31, 87, true));
+l1_table02.put(List.of(83129, false, true, 35, 1, false));
+l1_table02.put(List.of(3, false, true, 7852, 0, true));
+l1_table02.put(List.of(36, true, false, 0, 3, false));
+l1_table02.put(List.of(5, false, false, 0, 1128, true));
+l1_table02.put(List.of(214, false, true, 6292, 2168, true));
+l1_table02.put(List.of(174, false, false, 313, 0, true));
+l1_table02.put(List.of(59, false, false, 0, 0, true));
+l1_table02.put(List.of(1, true, true, 2960, 2, false));
+l1_table02.put(List.of(0, false, false, 132, 1, false));
+l1_table02.put(List.of(1921, false, true, 2, 7, false));
+l1_table02.remove(11743);
+l1_table02.remove(5092);
+l1_table02.put(List.of(1, false, true, 25, 0, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(1313, true, false, 0, 0, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, false, 0, 0, false));
+l1_table02.remove(4539);
+l1_table02.put(List.of(0, false, true, 0, 4709, false));
+l1_table02.put(List.of(0, false, false, 6, 473, false));
+l1_table02.put(List.of(0, true, false, 0, 0, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(3823, false, false, 0, 390, false));
+l1_table02.put(Arrays.asList(0, null, true, 0, 7, false));
+l1_table02.put(List.of(0, false, false, 1425, 0, true));
+l1_table02.put(List.of(1601, true, true, 119, 208, false));
+l1_table02.put(List.of(14, true, true, 36, 1170, false));
+l1_table02.put(List.of(0, false, false, 2012, 1097, false));
+l1_table02.put(List.of(5482, false, false, 0, 5686, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(4597, true, false, 556, 0, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, false, 0, 318, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(91365, true, false, 0, 14754, false));
+l1_table02.put(List.of(109, true, true, 0, 0, true));
+l1_table02.put(List.of(763, false, true, 6, 0, true));
+l1_table02.put(List.of(7, false, false, 2433, 58, false));
+l1_table02.put(List.of(9, true, true, 3, 2, true));
+l1_table02.put(List.of(0, false, false, 65, 0, false));
+l1_table02.put(List.of(15, false, true, 0, 1850, false));
+l1_table02.put(List.of(67435, true, true, 0, 216, true));
+l1_table02.put(List.of(1664, false, false, 10626, 0, false));
+l1_table02.put(List.of(1, false, true, 0, 0, false));
+l1_table02.put(List.of(1, true, true, 9, 0, false));
+l1_table02.put(List.of(17727, false, false, 0, 31, false));
+l1_table02.remove(60);
+l1_table02.remove(10519);
+l1_table02.remove(0);
+l1_table02.put(List.of(2272, true, true, 3682, 0, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, false, 1, 0, false));
+l1_table02.put(List.of(0, true, true, 4, 1, false));
+l1_table02.put(List.of(0, true, false, 0, 199, true));
+l1_table02.put(List.of(0, true, true, 0, 0, false));
+l1_table02.put(List.of(49, true, false, 0, 24, true));
+l1_table02.put(List.of(2008, false, false, 0, 0, false));
+l1_table02.put(Arrays.asList(0, false, null, 50425, 0, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, true, 0, 127, true));
+l1_table02.put(List.of(0, true, false, 0, 0, true));
+l1_table02.get(564);
+l1_table02.put(List.of(436, false, false, 0, 0, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(117, true, true, 4, 3705, true));
+l1_table02.put(List.of(0, false, false, 0, 46837, true));
+l1_table02.put(List.of(0, true, true, 0, 53725, true));
+l1_table02.put(List.of(591, false, false, 3, 88, false));
+l1_table02.put(Arrays.asList(0, true, false, 3, null, true));
+l1_table02.get(0);
+l1_table02.get(0);
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, true, 876, 128, true));
+l1_table02.put(List.of(36, false, false, 5, 359, false));
+l1_table02.remove(503);
+l1_table02.put(List.of(0, false, true, 332, 0, true));
+l1_table02.get(0);
+l1_table02.put(Arrays.asList(0, true, null, 148, 0, true));
+l1_table02.put(List.of(0, true, true, 5, 18, true));
+l1_table02.remove(4);
+l1_table02.put(List.of(0, true, true, 663, 0, true));
+l1_table02.get(0);
+l1_table02.remove(44);
+l1_table02.put(List.of(0, false, true, 201, 489, false));
+l1_table02.put(List.of(71, false, true, 921, 0, true));
+l1_table02.put(List.of(14, false, true, 155, 0, false));
+l1_table02.put(List.of(296348, true, false, 344, 735, true));
+l1_table02.remove(27);
+l1_table02.put(List.of(4, false, false, 0, 0, false));
+l1_table02.put(List.of(0, false, true, 0, 999, true));
+l1_table02.put(List.of(749, false, true, 1697, 2825, true));
+l1_table02.put(List.of(174, true, true, 0, 7, true));
+l1_table02.put(List.of(708, true, true, 60, 16, true));
+l1_table02.put(List.of(25, false, false, 1, 182, false));
+l1_table02.put(List.of(5, false, false, 216, 10323, true));
+l1_table02.remove(2654);
+l1_table02.put(List.of(31, true, false, 0, 0, true));
+l1_table02.put(List.of(0, false, true, 129, 113, true));
+l1_table02.put(List.of(4, true, false, 0, 81410, false));
+l1_table02.put(List.of(34, false, false, 0, 16075, true));
+l1_table02.remove(29);
+l1_table02.put(List.of(0, false, false, 7, 22520, true));
+l1_table02.put(List.of(178, false, false, 50730, 25, false));
+l1_table02.remove(143);
+l1_table02.put(List.of(0, false, true, 16, 250, true));
+l1_table02.get(0);
+l1_table02.put(List.of(156, true, false, 0, 0, true));
+l1_table02.put(List.of(323107, true, true, 158, 0, true));
+l1_table02.put(List.of(0, false, true, 107, 340, true));
+l1_table02.remove(85);
+l1_table02.put(List.of(2685, false, true, 128, 4852, false));
+l1_table02.put(List.of(77532, false, true, 173, 8, false));
+l1_table02.put(List.of(2, false, false, 0, 0, false));
+l1_table02.put(List.of(138153, false, true, 49, 0, true));
+l1_table02.remove(28904);
+l1_table02.put(List.of(0, false, false, 0, 2, false));
+l1_table02.put(List.of(0, true, false, 12, 81, false));
+l1_table02.put(List.of(0, false, true, 241, 339, true));
+l1_table02.remove(3);
+l1_table02.put(List.of(153, false, false, 0, 1, false));
+l1_table02.put(List.of(12, false, false, 1143, 0, false));
+l1_table02.remove(3);
+l1_table02.put(List.of(177, true, true, 1, 130, false));
+l1_table02.put(List.of(64, false, false, 9377, 0, false));
+l1_table02.put(List.of(3, false, true, 7, 18988, true));
+l1_table02.put(List.of(0, true, false, 0, 0, true));
+l1_table02.get(3);
+l1_table02.put(List.of(0, false, true, 117, 0, false));
+l1_table02.put(List.of(2508, false, false, 0, 2055, true));
+l1_table02.get(25);
+l1_table02.put(List.of(33, true, true, 0, 0, true));
+l1_table02.put(List.of(0, true, true, 101, 66, true));
+l1_table02.put(List.of(0, false, false, 22, 0, true));
+l1_table02.get(0);
+l1_table02.put(List.of(90, true, false, 0, 54, true));
+l1_table02.put(List.of(855, true, true, 0, 0, false));
+l1_table02.put(List.of(3, false, true, 0, 1392, false));
+l1_table02.put(List.of(0, false, true, 1018, 0, true));
+l1_table02.put(List.of(2039, false, false, 0, 2, true));
+l1_table02.put(List.of(0, true, false, 99630, 0, true));
+l1_table02.remove(0);
+l1_table02.put(Arrays.asList(16, null, true, 51559, 1725, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(229, false, false, 0, 0, true));
+l1_table02.remove(12641);
+l1_table02.put(List.of(2044, false, false, 2685, 322, false));
+l1_table02.put(List.of(15831, false, false, 34, 0, true));
+l1_table02.get(0);
+l1_table02.put(List.of(46636, false, true, 0, 10400, false));
+l1_table02.put(List.of(126, false, true, 577, 935, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, false, 7764, 5204, false));
+l1_table02.put(List.of(1, false, true, 661894, 27, false));
+l1_table02.remove(0);
+l1_table02.remove(0);
+l1_table02.get(6);
+l1_table02.put(List.of(0, true, false, 0, 343, false));
+l1_table02.get(0);
+l1_table02.remove(7);
+l1_table02.put(List.of(7282, true, true, 1594833, 18582, false));
+l1_table02.put(List.of(0, true, true, 133, 3, true));
+l1_table02.put(List.of(8, false, true, 2918, 0, true));
+l1_table02.put(List.of(1252, true, true, 0, 50475, true));
+l1_table02.put(List.of(0, true, false, 2541, 1380, false));
+l1_table02.get(14149);
+l1_table02.put(List.of(3, true, false, 24, 19, true));
+l1_table02.put(List.of(2, false, false, 4695, 1, true));
+l1_table02.get(0);
+l1_table02.put(List.of(1145, false, true, 17, 0, true));
+l1_table02.put(List.of(5, true, false, 0, 27, false));
+l1_table02.put(List.of(0, true, false, 0, 0, false));
+l1_table02.put(List.of(2078, true, true, 6552, 0, false));
+l1_table02.put(List.of(0, true, false, 19, 0, false));
+l1_table02.put(List.of(0, false, true, 0, 0, true));
+l1_table02.put(List.of(0, false, true, 0, 78, false));
+l1_table02.put(List.of(98, true, false, 26422, 1812, false));
+l1_table02.put(List.of(22, true, true, 6, 0, false));
+l1_table02.put(List.of(1, false, false, 0, 0, false));
+l1_table02.put(List.of(0, true, false, 0, 18727, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(171, true, false, 2285, 85, false));
+l1_table02.put(List.of(1, false, false, 0, 0, true));
+l1_table02.remove(4);
+l1_table02.put(List.of(0, false, true, 0, 13630, false));
+l1_table02.remove(72);
+l1_table02.put(List.of(372, false, false, 204, 396, true));
+l1_table02.put(List.of(0, true, true, 73, 72795, false));
+l1_table02.get(1430);
+l1_table02.put(List.of(27, true, false, 145, 0, true));
+l1_table02.put(List.of(0, true, false, 6069, 5790, true));
+l1_table02.put(List.of(0, false, true, 0, 69, true));
+l1_table02.put(List.of(0, true, false, 91, 10, false));
+l1_table02.remove(0);
+l1_table02.remove(3);
+l1_table02.put(List.of(0, false, false, 447, 0, true));
+l1_table02.put(List.of(38979, true, true, 17753, 1, true));
+l1_table02.put(List.of(1112, false, true, 0, 0, false));
+l1_table02.put(List.of(0, true, false, 27, 371, false));
+l1_table02.put(List.of(0, true, false, 12, 0, false));
+l1_table02.put(List.of(0, true, true, 0, 0, false));
+l1_table02.put(List.of(0, false, false, 0, 0, true));
+l1_table02.put(List.of(0, true, false, 33, 0, true));
+l1_table02.put(List.of(17, true, true, 0, 0, false));
+l1_table02.get(28);
+l1_table02.put(List.of(18, true, true, 120, 0, true));
+l1_table02.put(List.of(14875, true, false, 3025, 23, true));
+l1_table02.put(List.of(23, true, true, 0, 0, false));
+l1_table02.put(List.of(14576, false, true, 1857, 0, false));
+l1_table02.put(List.of(89, false, true, 2, 310, false));
+l1_table02.remove(16);
+l1_table02.put(List.of(0, true, true, 0, 1464, true));
+l1_table02.put(List.of(1, true, false, 0, 1, true));
+l1_table02.put(List.of(5, true, false, 21370, 0, true));
+l1_table02.put(List.of(94, true, false, 0, 0, false));
+l1_table02.put(List.of(2476, true, false, 16, 0, true));
+l1_table02.put(List.of(133, false, false, 0, 0, false));
+l1_table02.put(List.of(2, false, true, 161, 0, false));
+l1_table02.remove(69);
+l1_table02.put(List.of(0, false, true, 0, 108, true));
+l1_table02.put(List.of(0, true, true, 0, 104, false));
+l1_table02.put(List.of(465, true, true, 0, 110027, true));
+l1_table02.put(List.of(11, true, true, 1122, 3, true));
+l1_table02.put(List.of(19801, false, false, 114753, 0, false));
+l1_table02.put(List.of(2147, false, false, 0, 0, true));
+l1_table02.put(List.of(0, true, true, 0, 0, false));
+l1_table02.put(List.of(0, true, false, 0, 501, false));
+l1_table02.put(List.of(0, true, true, 0, 126, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(2419, true, true, 3771, 0, true));
+l1_table02.put(List.of(11, true, false, 1202, 0, true));
+l1_table02.put(List.of(10167, true, false, 0, 0, true));
+l1_table02.put(List.of(0, false, true, 0, 0, true));
+l1_table02.remove(57);
+l1_table02.put(List.of(44, false, false, 1748, 234, true));
+l1_table02.put(List.of(0, false, false, 0, 1, true));
+l1_table02.put(List.of(271, true, true, 8, 0, false));
+l1_table02.put(List.of(13425, false, false, 353, 0, true));
+l1_table02.put(List.of(0, false, true, 0, 9, true));
+l1_table02.put(List.of(2586, true, false, 0, 0, true));
+l1_table02.remove(24);
+l1_table02.put(List.of(0, true, true, 2562, 0, true));
+l1_table02.put(List.of(0, true, false, 110, 0, true));
+l1_table02.put(List.of(8, true, false, 1, 1513, true));
+l1_table02.put(List.of(402, false, false, 0, 21030, false));
+l1_table02.put(List.of(0, false, true, 0, 381, false));
+l1_table02.put(List.of(370, true, true, 0, 54, false));
+l1_table02.get(46);
+l1_table02.put(List.of(0, false, false, 0, 0, true));
+l1_table02.put(List.of(456, true, true, 3, 0, true));
+l1_table02.put(List.of(35741, false, true, 0, 0, false));
+l1_table02.put(List.of(105373, false, true, 83, 0, false));
+l1_table02.put(List.of(0, false, true, 0, 821670, false));
+l1_table02.put(List.of(0, false, false, 0, 0, false));
+l1_table02.remove(45);
+l1_table02.put(List.of(0, false, true, 0, 229, false));
+l1_table02.put(List.of(2228, true, true, 159404, 0, false));
+l1_table02.put(List.of(0, false, true, 56, 0, false));
+l1_table02.put(List.of(7794, false, true, 0, 399, true));
+l1_table02.put(List.of(0, true, false, 0, 0, false));
+l1_table02.put(List.of(1468, true, true, 14497, 225, false));
+l1_table02.put(List.of(382, true, false, 819, 67, true));
+l1_table02.put(List.of(0, false, true, 8164, 243891, true));
+l1_table02.put(Arrays.asList(53, true, null, 0, 3189, false));
+l1_table02.put(List.of(0, true, true, 9, 1719, true));
+l1_table02.put(List.of(0, true, false, 466, 7162, true));
+l1_table02.put(List.of(0, true, true, 0, 0, false));
+l1_table02.put(List.of(178, false, true, 0, 0, false));
+l1_table02.put(List.of(0, false, true, 87511, 5664, false));
+l1_table02.put(List.of(414, true, false, 3961, 0, true));
+l1_table02.put(List.of(21, false, true, 0, 0, false));
+l1_table02.put(List.of(0, true, true, 15, 0, false));
+l1_table02.put(List.of(0, false, false, 0, 0, false));
+l1_table02.get(0);
+l1_table02.remove(1287);
+l1_table02.put(List.of(11, true, true, 139, 39, true));
+l1_table02.put(List.of(2073, false, false, 316, 0, false));
+l1_table02.get(154);
+l1_table02.remove(9890);
+l1_table02.put(List.of(0, false, true, 7, 0, true));
+l1_table02.put(List.of(14, false, true, 0, 0, true));
+l1_table02.put(List.of(8, false, false, 4507, 124, false));
+l1_table02.put(List.of(0, false, false, 32, 0, true));
+l1_table02.put(List.of(445026, false, false, 0, 110, false));
+l1_table02.put(List.of(0, true, true, 459209, 15, false));
+l1_table02.put(List.of(2427, false, false, 2858, 336, true));
+l1_table02.put(List.of(334, false, false, 0, 633, false));
+l1_table02.put(List.of(2, false, false, 0, 42, false));
+l1_table02.put(List.of(0, false, false, 0, 880, false));
+l1_table02.put(List.of(0, true, false, 1, 1227, false));
+l1_table02.remove(14);
+l1_table02.remove(1464);
+l1_table02.remove(7);
+l1_table02.put(List.of(0, false, true, 0, 414, true));
+l1_table02.remove(400);
+l1_table02.get(1334);
+l1_table02.put(List.of(27, true, true, 0, 228, false));
+l1_table02.put(List.of(62, false, false, 0, 3329, true));
+l1_table02.put(List.of(0, true, false, 628, 0, false));
+l1_table02.put(List.of(8800, true, false, 0, 0, false));
+l1_table02.put(List.of(0, true, false, 6582, 2032, false));
+l1_table02.put(List.of(0, true, true, 0, 2696, false));
+l1_table02.remove(4585);
+l1_table02.put(List.of(0, false, true, 0, 2, true));
+l1_table02.put(List.of(634, false, true, 0, 51841, true));
+l1_table02.put(List.of(0, true, true, 0, 63, false));
+l1_table02.remove(127567);
+l1_table02.put(Arrays.asList(358, false, null, 0, 0, false));
+l1_table02.put(List.of(3, true, true, 1804, 0, true));
+l1_table02.put(Arrays.asList(250, true, null, 17949, 0, false));
+l1_table02.get(28);
+l1_table02.put(List.of(16, true, true, 268, 2, true));
+l1_table02.put(List.of(30114, false, true, 2790, 1, false));
+l1_table02.put(List.of(581, true, true, 0, 553, false));
+l1_table02.put(List.of(0, false, false, 0, 3684, false));
+l1_table02.remove(4549);
+l1_table02.get(9);
+l1_table02.put(List.of(9, false, true, 0, 0, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(88, false, true, 23604, 0, true));
+l1_table02.get(0);
+l1_table02.remove(0);
+l1_table02.put(List.of(1, false, false, 412, 1842, false));
+l1_table02.put(List.of(1, false, false, 0, 0, true));
+l1_table02.get(19);
+l1_table02.put(List.of(0, true, true, 18865, 68, false));
+l1_table02.put(List.of(46, false, true, 0, 113, false));
+l1_table02.put(List.of(98386, true, false, 0, 2272, true));
+l1_table02.put(List.of(15245, true, false, 904, 2, false));
+l1_table02.put(List.of(1, false, false, 86, 47, true));
+l1_table02.put(List.of(22517, false, true, 2250, 0, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(23, true, true, 0, 3, true));
+l1_table02.get(106);
+l1_table02.remove(774);
+l1_table02.put(List.of(5238, true, true, 0, 0, true));
+l1_table02.put(List.of(0, true, true, 0, 597, false));
+l1_table02.put(List.of(7228, false, false, 0, 1324, true));
+l1_table02.put(List.of(2, true, false, 26, 0, false));
+l1_table02.put(List.of(0, false, false, 0, 2, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(13277, false, true, 0, 11, true));
+l1_table02.put(List.of(0, true, true, 0, 0, true));
+l1_table02.put(List.of(23062, true, true, 0, 2556, true));
+l1_table02.put(List.of(297, false, false, 0, 863, true));
+l1_table02.put(List.of(0, true, true, 138, 305, false));
+l1_table02.put(List.of(0, true, false, 0, 18825, true));
+l1_table02.get(2);
+l1_table02.put(List.of(6523, false, false, 159, 71, true));
+l1_table02.put(List.of(3670, false, true, 0, 69, true));
+l1_table02.remove(98660);
+l1_table02.put(List.of(0, true, true, 5589, 7, true));
+l1_table02.put(List.of(21, false, true, 459254, 0, false));
+l1_table02.get(0);
+l1_table02.put(List.of(0, false, false, 0, 0, true));
+l1_table02.put(List.of(2, true, true, 5194, 31, true));
+l1_table02.remove(938);
+l1_table02.put(List.of(0, true, true, 886, 10, true));
+l1_table02.put(List.of(382, true, false, 0, 0, true));
+l1_table02.remove(5353);
+l1_table02.put(List.of(0, true, false, 1650, 21262, false));
+l1_table02.get(266);
+l1_table02.put(List.of(203, false, true, 4987, 0, true));
+l1_table02.get(0);
+l1_table02.get(0);
+l1_table02.put(List.of(1, true, false, 9, 0, false));
+l1_table02.put(List.of(0, true, false, 1381, 225863, false));
+l1_table02.put(List.of(948, true, true, 0, 2, true));
+l1_table02.put(List.of(56, true, false, 0, 0, true));
+l1_table02.put(List.of(124, false, true, 0, 0, false));
+l1_table02.put(List.of(16, false, false, 107, 0, true));
+l1_table02.put(List.of(4, false, true, 0, 3994, true));
+l1_table02.get(0);
+l1_table02.remove(33);
+l1_table02.put(Arrays.asList(1002, true, false, 1, 10185, null));
+l1_table02.put(List.of(0, false, false, 11938, 0, false));
+l1_table02.remove(7881);
+l1_table02.remove(0);
+l1_table02.put(List.of(20, true, false, 0, 10911, true));
+l1_table02.get(0);
+l1_table02.remove(305);
+l1_table02.remove(7735);
+l1_table02.get(8784);
+l1_table02.put(List.of(74, false, true, 2, 0, true));
+l1_table02.put(Arrays.asList(null, false, true, 12, 0, false));
+l1_table02.put(Arrays.asList(0, false, true, 41079, 10934, null));
+l1_table02.put(List.of(7920, false, false, 405, 30, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, true, 17628, 0, true));
+l1_table02.put(List.of(645031, true, true, 1, 0, false));
+l1_table02.put(List.of(10, true, false, 1394, 336, false));
+l1_table02.put(List.of(0, true, false, 0, 12223, false));
+l1_table02.remove(3);
+l1_table02.remove(0);
+l1_table02.put(List.of(36, true, false, 1, 22, false));
+l1_table02.remove(0);
+l1_table02.remove(12);
+l1_table02.remove(364237);
+l1_table02.put(List.of(0, false, true, 27520, 9935, true));
+l1_table02.remove(48);
+l1_table02.put(List.of(27, false, false, 12740, 20, false));
+l1_table02.put(List.of(25, true, false, 3, 0, false));
+l1_table02.put(List.of(31019, false, false, 428, 0, false));
+l1_table02.put(List.of(8619, false, true, 4822, 0, true));
+l1_table02.put(List.of(0, true, false, 33, 0, false));
+l1_table02.put(List.of(961, true, false, 0, 0, true));
+l1_table02.put(List.of(0, false, false, 149256, 0, true));
+l1_table02.put(List.of(0, true, false, 0, 0, true));
+l1_table02.put(List.of(734, false, false, 0, 0, true));
+l1_table02.put(List.of(22, true, true, 0, 4, true));
+l1_table02.put(List.of(684, true, false, 0, 0, false));
+l1_table02.remove(2107);
+l1_table02.put(List.of(1155, true, true, 5587, 2, true));
+l1_table02.put(List.of(1, true, false, 73, 445774, false));
+l1_table02.put(List.of(3736, true, true, 0, 0, false));
+l1_table02.put(List.of(0, false, false, 11837, 69, false));
+l1_table02.put(List.of(0, false, false, 0, 0, true));
+l1_table02.get(282);
+l1_table02.remove(891);
+l1_table02.put(List.of(0, false, true, 115, 0, false));
+l1_table02.put(List.of(0, false, true, 24163, 5, false));
+l1_table02.get(6057);
+l1_table02.put(List.of(93681, false, true, 0, 19654, false));
+l1_table02.put(List.of(0, false, true, 84, 0, true));
+l1_table02.put(List.of(15, false, true, 45, 0, false));
+l1_table02.put(List.of(86976, true, false, 15243, 0, true));
+l1_table02.put(List.of(79, true, false, 131, 11459, false));
+l1_table02.put(List.of(1251, false, true, 260, 48, false));
+l1_table02.put(List.of(0, true, true, 679, 1864, true));
+l1_table02.put(List.of(872, false, true, 2988, 52227, true));
+l1_table02.put(List.of(0, true, true, 0, 3075, false));
+l1_table02.put(List.of(568184, true, true, 0, 16, true));
+l1_table02.put(List.of(4148, false, true, 33, 0, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(23, false, true, 77575, 556, false));
+l1_table02.put(List.of(23872, false, false, 0, 0, true));
+l1_table02.remove(1);
+l1_table02.put(List.of(413749, true, true, 4093, 210, false));
+l1_table02.put(List.of(0, false, false, 0, 0, true));
+l1_table02.put(List.of(329, true, false, 0, 0, false));
+l1_table02.put(List.of(12, true, true, 180, 1, false));
+l1_table02.get(3118);
+l1_table02.get(0);
+l1_table02.remove(2);
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, false, 0, 668, true));
+l1_table02.put(List.of(0, true, false, 9, 0, false));
+l1_table02.put(List.of(0, false, false, 0, 0, true));
+l1_table02.remove(371);
+l1_table02.remove(0);
+l1_table02.remove(634);
+l1_table02.remove(288);
+l1_table02.get(6611);
+l1_table02.put(List.of(0, false, false, 0, 0, false));
+l1_table02.put(List.of(93, true, true, 9310, 0, false));
+l1_table02.put(List.of(174, true, true, 0, 92886, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, false, 717, 0, false));
+l1_table02.put(List.of(0, false, false, 0, 16, false));
+l1_table02.put(List.of(0, false, true, 0, 314, true));
+l1_table02.put(List.of(0, true, true, 12964, 0, true));
+l1_table02.put(List.of(27524, true, false, 2165, 22, true));
+l1_table02.put(List.of(3398, true, true, 0, 639, false));
+l1_table02.get(49379);
+l1_table02.put(List.of(0, false, true, 1294, 49, true));
+l1_table02.put(List.of(0, true, true, 0, 0, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, true, 13, 0, false));
+l1_table02.put(List.of(116, true, false, 664, 0, false));
+l1_table02.put(List.of(14848, true, true, 0, 0, true));
+l1_table02.remove(8855);
+l1_table02.put(List.of(336, false, true, 0, 988, true));
+l1_table02.put(List.of(0, false, true, 20, 0, true));
+l1_table02.put(List.of(0, true, true, 7, 0, false));
+l1_table02.remove(0);
+l1_table02.remove(73);
+l1_table02.remove(9);
+l1_table02.put(Arrays.asList(null, true, true, 0, 0, false));
+l1_table02.put(List.of(0, false, true, 30, 151895, false));
+l1_table02.put(List.of(0, false, true, 0, 952, false));
+l1_table02.put(List.of(85374, true, false, 222, 0, false));
+l1_table02.put(List.of(366, false, true, 0, 12532, true));
+l1_table02.put(List.of(37, false, true, 0, 51563, true));
+l1_table02.get(0);
+l1_table02.remove(0);
+l1_table02.put(Arrays.asList(0, false, null, 12, 9374, true));
+l1_table02.put(List.of(2067, true, true, 0, 0, true));
+l1_table02.remove(0);
+l1_table02.remove(9827);
+l1_table02.remove(16694);
+l1_table02.put(List.of(2, true, false, 1, 0, false));
+l1_table02.put(List.of(244, false, true, 2790, 3, false));
+l1_table02.put(List.of(0, true, false, 5293, 0, false));
+l1_table02.put(List.of(117, true, false, 0, 0, false));
+l1_table02.put(List.of(1915, true, false, 2, 9, false));
+l1_table02.put(List.of(1281, false, true, 0, 79, true));
+l1_table02.put(List.of(0, false, false, 0, 0, true));
+l1_table02.get(48656);
+l1_table02.put(List.of(7, false, true, 22, 1, false));
+l1_table02.put(List.of(0, false, true, 409915, 1, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(1, true, true, 213653, 0, true));
+l1_table02.put(Arrays.asList(992, false, null, 66377, 100, false));
+l1_table02.put(List.of(0, true, false, 92, 5, false));
+l1_table02.put(List.of(2, true, true, 2, 43337, true));
+l1_table02.put(List.of(0, false, true, 664, 1, false));
+l1_table02.put(List.of(0, false, false, 0, 4080, false));
+l1_table02.remove(509);
+l1_table02.put(List.of(177325, false, true, 336, 29, false));
+l1_table02.put(List.of(45, true, false, 0, 0, true));
+l1_table02.get(0);
+l1_table02.remove(2505);
+l1_table02.put(List.of(130397, false, false, 0, 132, false));
+l1_table02.put(List.of(0, false, true, 1, 0, false));
+l1_table02.remove(1023);
+l1_table02.put(List.of(42, true, true, 1, 92256, true));
+l1_table02.put(List.of(6, false, true, 9, 0, false));
+l1_table02.put(List.of(0, false, false, 2, 0, false));
+l1_table02.put(List.of(38, false, false, 0, 5, false));
+l1_table02.put(List.of(444, true, true, 2, 49, false));
+l1_table02.put(List.of(0, false, false, 26778, 771, true));
+l1_table02.put(List.of(0, false, true, 35980, 0, false));
+l1_table02.remove(10);
+l1_table02.remove(13);
+l1_table02.put(List.of(0, false, true, 24024, 308, false));
+l1_table02.put(List.of(0, false, false, 101, 175, true));
+l1_table02.remove(5991);
+l1_table02.put(List.of(599, true, true, 0, 237, true));
+l1_table02.put(List.of(0, true, true, 258, 1468, false));
+l1_table02.remove(165);
+l1_table02.put(List.of(6261, false, true, 0, 6, false));
+l1_table02.put(List.of(0, false, false, 0, 2, false));
+l1_table02.remove(0);
+l1_table02.remove(1898);
+l1_table02.remove(130);
+l1_table02.get(2371);
+l1_table02.put(List.of(2, true, false, 0, 0, false));
+l1_table02.put(List.of(4376, false, false, 0, 0, false));
+l1_table02.put(List.of(0, true, false, 21830, 0, true));
+l1_table02.put(List.of(0, true, true, 966, 8, false));
+l1_table02.put(List.of(36, true, true, 0, 10, false));
+l1_table02.remove(5263);
+l1_table02.put(List.of(0, false, true, 84844, 9, false));
+l1_table02.put(List.of(40, true, true, 0, 4175, false));
+l1_table02.put(List.of(0, true, false, 12277, 0, false));
+l1_table02.remove(149);
+l1_table02.get(1594);
+l1_table02.get(0);
+l1_table02.put(List.of(3, false, false, 363, 1, false));
+l1_table02.put(List.of(0, true, false, 3820, 7, false));
+l1_table02.remove(0);
+l1_table02.remove(0);
+l1_table02.remove(5112);
+l1_table02.put(List.of(53, false, true, 0, 0, true));
+l1_table02.get(97);
+l1_table02.remove(3);
+l1_table02.put(List.of(0, true, false, 0, 17, false));
+l1_table02.remove(670);
+l1_table02.put(List.of(0, true, false, 6335, 198, true));
+l1_table02.remove(5134);
+l1_table02.put(List.of(0, true, false, 531, 57, true));
+l1_table02.get(0);
+l1_table02.get(116158);
+l1_table02.remove(3279);
+l1_table02.put(List.of(16937, false, false, 0, 0, false));
+l1_table02.put(List.of(0, false, true, 8, 8779, false));
+l1_table02.put(List.of(74415, false, false, 0, 894, false));
+l1_table02.put(List.of(542, false, true, 0, 0, true));
+l1_table02.put(Arrays.asList(0, false, true, 6826, 1, null));
+l1_table02.put(List.of(0, false, true, 1098, 0, true));
+l1_table02.put(List.of(260, true, true, 474, 0, false));
+l1_table02.put(List.of(6263, true, true, 188, 0, false));
+l1_table02.get(0);
+l1_table02.put(List.of(0, true, false, 20082, 2769823, true));
+l1_table02.put(List.of(0, false, true, 2076, 0, true));
+l1_table02.remove(0);
+l1_table02.get(0);
+l1_table02.put(List.of(1, false, false, 0, 0, false));
+l1_table02.get(0);
+l1_table02.remove(6966);
+l1_table02.get(2066);
+l1_table02.get(39);
+l1_table02.get(0);
+l1_table02.get(0);
+l1_table02.put(List.of(0, false, true, 0, 0, false));
+l1_table02.put(List.of(14, false, true, 19464, 101, true));
+l1_table02.put(Arrays.asList(0, true, true, 0, null, false));
+l1_table02.put(List.of(26, true, false, 476, 1, true));
+l1_table02.get(1);
+l1_table02.put(List.of(0, false, false, 612, 1, true));
+l1_table02.put(List.of(5870, false, true, 0, 295, true));
+l1_table02.put(List.of(0, false, true, 0, 0, true));
+l1_table02.get(0);
+l1_table02.put(List.of(0, true, true, 769, 0, true));
+l1_table02.put(List.of(0, true, false, 22, 21703, false));
+l1_table02.put(List.of(27871, true, true, 46743, 0, false));
+l1_table02.put(List.of(0, true, false, 0, 2, true));
+l1_table02.remove(9);
+l1_table02.put(List.of(2136, false, false, 334, 0, false));
+l1_table02.put(List.of(559569, false, true, 37, 0, true));
+l1_table02.remove(1);
+l1_table02.put(List.of(0, false, false, 150, 13, false));
+l1_table02.get(701);
+l1_table02.put(Arrays.asList(156, false, false, 15642, 0, null));
+l1_table02.put(List.of(3788, false, true, 0, 2284, true));
+l1_table02.remove(1);
+l1_table02.put(List.of(0, false, false, 0, 88, false));
+l1_table02.remove(41);
+l1_table02.put(List.of(3, false, false, 0, 0, false));
+l1_table02.remove(1);
+l1_table02.get(0);
+l1_table02.put(List.of(0, true, true, 0, 14, false));
+l1_table02.remove(11986);
+l1_table02.put(List.of(0, false, false, 0, 0, true));
+l1_table02.put(List.of(0, true, false, 1566, 0, true));
+l1_table02.put(List.of(0, true, true, 1, 0, false));
+l1_table02.put(List.of(0, true, true, 0, 30, true));
+l1_table02.get(63);
+l1_table02.put(List.of(5, false, true, 263, 68, false));
+l1_table02.put(List.of(377, true, true, 0, 13, true));
+l1_table02.remove(1695);
+l1_table02.put(List.of(453, false, true, 0, 0, false));
+l1_table02.put(List.of(2730, false, true, 0, 134411, false));
+l1_table02.remove(20);
+l1_table02.put(List.of(0, false, false, 0, 0, true));
+l1_table02.put(List.of(0, true, true, 0, 0, false));
+l1_table02.put(List.of(0, true, false, 657, 325, true));
+l1_table02.put(List.of(0, false, true, 16, 3565, false));
+l1_table02.put(List.of(7, true, false, 3296, 0, false));
+l1_table02.remove(130);
+l1_table02.put(List.of(0, false, false, 8, 119, true));
+l1_table02.put(List.of(1, false, false, 75, 5219, false));
+l1_table02.remove(2);
+l1_table02.put(List.of(0, false, false, 0, 39731, true));
+l1_table02.put(Arrays.asList(0, false, false, 3, null, false));
+l1_table02.get(12);
+l1_table02.put(List.of(311, false, true, 143, 53, false));
+l1_table02.put(List.of(60156, true, false, 0, 25, false));
+l1_table02.put(List.of(1515, false, false, 0, 0, false));
+l1_table02.put(List.of(758, false, false, 109, 5, true));
+l1_table02.put(List.of(0, false, true, 120, 0, true));
+l1_table02.put(List.of(0, true, true, 0, 0, false));
+l1_table02.put(List.of(0, false, false, 0, 0, true));
+l1_table02.put(List.of(62, true, false, 1, 2957, false));
+l1_table02.remove(18409);
+l1_table02.put(List.of(5, false, false, 3274, 240873, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, false, 0, 0, false));
+l1_table02.put(List.of(171, true, true, 16, 145, false));
+l1_table02.remove(611);
+l1_table02.put(List.of(0, false, false, 0, 200, false));
+l1_table02.put(List.of(0, true, false, 0, 17, false));
+l1_table02.put(List.of(2515, true, true, 0, 0, false));
+l1_table02.get(10);
+l1_table02.remove(1);
+l1_table02.remove(1);
+l1_table02.remove(592);
+l1_table02.put(List.of(0, true, true, 0, 0, false));
+l1_table02.remove(427);
+l1_table02.remove(20994);
+l1_table02.put(List.of(4055, true, true, 0, 1505, false));
+l1_table02.put(List.of(14, true, false, 17442, 0, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(254, false, true, 16, 0, false));
+l1_table02.put(List.of(54, false, true, 0, 0, false));
+l1_table02.put(List.of(0, true, false, 0, 0, false));
+l1_table02.put(List.of(0, true, false, 0, 5, false));
+l1_table02.put(List.of(1629, true, true, 1311, 40, false));
+l1_table02.put(List.of(0, false, false, 0, 94, true));
+l1_table02.put(Arrays.asList(0, true, null, 4, 30, true));
+l1_table02.put(List.of(245, true, false, 818, 0, true));
+l1_table02.put(List.of(40, true, false, 337, 0, false));
+l1_table02.put(List.of(0, true, true, 0, 140630, false));
+l1_table02.put(List.of(29860, false, true, 33594, 506, true));
+l1_table02.put(List.of(1017466, false, true, 0, 0, false));
+l1_table02.put(List.of(17, true, false, 24293, 61933, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(25, false, false, 0, 0, true));
+l1_table02.put(Arrays.asList(null, false, true, 0, 0, true));
+l1_table02.put(List.of(12483, false, false, 0, 7559, false));
+l1_table02.put(List.of(161, false, true, 0, 0, true));
+l1_table02.put(List.of(12, false, false, 0, 0, true));
+l1_table02.put(List.of(0, true, true, 3, 0, false));
+l1_table02.put(List.of(0, true, true, 0, 0, true));
+l1_table02.put(List.of(0, false, false, 36, 0, false));
+l1_table02.put(List.of(62306, false, true, 0, 1967, true));
+l1_table02.put(List.of(13, false, true, 525, 20, true));
+l1_table02.put(List.of(0, false, true, 9713, 0, true));
+l1_table02.put(List.of(173, true, false, 49, 0, false));
+l1_table02.remove(0);
+l1_table02.remove(1962);
+l1_table02.put(List.of(0, true, true, 0, 0, false));
+l1_table02.put(List.of(54, true, false, 0, 698, false));
+l1_table02.put(List.of(38, false, true, 0, 0, false));
+l1_table02.put(List.of(309, false, false, 0, 4318, true));
+l1_table02.put(List.of(0, false, false, 25483, 44, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(223, false, false, 0, 0, true));
+l1_table02.put(List.of(49, true, true, 0, 12419, false));
+l1_table02.remove(58);
+l1_table02.remove(248358);
+l1_table02.remove(7298);
+l1_table02.put(List.of(0, false, true, 0, 0, false));
+l1_table02.get(0);
+l1_table02.put(List.of(1755, true, false, 0, 1111, true));
+l1_table02.remove(0);
+l1_table02.remove(4683);
+l1_table02.remove(101727);
+l1_table02.put(Arrays.asList(0, true, null, 345, 0, false));
+l1_table02.put(List.of(3427, false, true, 0, 1247, true));
+l1_table02.get(145);
+l1_table02.put(List.of(0, false, true, 2322, 30, false));
+l1_table02.remove(49);
+l1_table02.remove(1220);
+l1_table02.get(26);
+l1_table02.remove(265);
+l1_table02.put(List.of(74, false, true, 5, 359, false));
+l1_table02.put(List.of(72, false, false, 1, 38, false));
+l1_table02.get(0);
+l1_table02.remove(944);
+l1_table02.put(List.of(0, true, true, 0, 0, true));
+l1_table02.put(List.of(130, false, true, 0, 0, true));
+l1_table02.remove(62);
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, false, 39, 63074, true));
+l1_table02.remove(19107);
+l1_table02.put(List.of(0, false, false, 0, 369, false));
+l1_table02.put(List.of(0, true, false, 0, 0, true));
+l1_table02.put(List.of(22, true, true, 1688, 15, false));
+l1_table02.put(List.of(0, true, true, 1417, 0, true));
+l1_table02.remove(22114);
+l1_table02.put(List.of(77556, false, false, 0, 0, false));
+l1_table02.remove(816);
+l1_table02.remove(0);
+l1_table02.put(List.of(169, true, true, 19, 0, true));
+l1_table02.put(List.of(4489, false, false, 0, 0, false));
+l1_table02.put(List.of(75, false, false, 0, 2, true));
+l1_table02.put(List.of(29, false, true, 103, 0, true));
+l1_table02.remove(9);
+l1_table02.remove(0);
+l1_table02.get(161);
+l1_table02.put(List.of(332, true, true, 0, 0, false));
+l1_table02.put(List.of(0, true, true, 242, 0, false));
+l1_table02.put(List.of(1, true, false, 1490, 407, false));
+l1_table02.put(List.of(0, true, false, 113, 0, true));
+l1_table02.put(List.of(12, false, true, 90, 20, true));
+l1_table02.put(List.of(0, false, true, 665840, 0, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(1, true, false, 0, 0, false));
+l1_table02.put(Arrays.asList(null, null, false, 0, 12, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, true, 0, 0, false));
+l1_table02.put(List.of(0, false, false, 1278, 81026, false));
+l1_table02.get(24);
+l1_table02.put(List.of(8437, true, true, 90, 0, false));
+l1_table02.get(275);
+l1_table02.put(List.of(0, true, true, 0, 0, false));
+l1_table02.remove(294);
+l1_table02.get(720);
+l1_table02.put(List.of(0, true, true, 616, 24, true));
+l1_table02.put(List.of(0, false, true, 9, 0, false));
+l1_table02.get(0);
+l1_table02.put(List.of(3, false, false, 539123, 0, true));
+l1_table02.get(0);
+l1_table02.remove(1);
+l1_table02.put(List.of(166209, true, false, 0, 4284, false));
+l1_table02.put(List.of(15, false, false, 0, 2, true));
+l1_table02.get(2);
+l1_table02.put(List.of(0, false, false, 0, 0, true));
+l1_table02.remove(175);
+l1_table02.put(List.of(0, true, false, 59, 29, false));
+l1_table02.put(List.of(23, false, true, 32, 1, true));
+l1_table02.get(0);
+l1_table02.put(List.of(9, false, false, 0, 0, true));
+l1_table02.put(List.of(47, true, true, 1906, 5363, true));
+l1_table02.put(List.of(0, false, false, 1183, 34, true));
+l1_table02.put(List.of(93, true, true, 0, 0, true));
+l1_table02.remove(0);
+l1_table02.remove(45);
+l1_table02.put(List.of(99, false, true, 27, 0, true));
+l1_table02.put(List.of(728, true, true, 655, 3, true));
+l1_table02.put(List.of(2825, true, true, 0, 29773, false));
+l1_table02.put(List.of(0, true, true, 20, 343, true));
+l1_table02.put(List.of(0, true, true, 849465, 8, true));
+l1_table02.put(List.of(8370, true, false, 0, 0, false));
+l1_table02.get(174);
+l1_table02.put(List.of(44, false, false, 1, 22, false));
+l1_table02.put(List.of(51, false, false, 5, 0, false));
+l1_table02.put(List.of(313, true, true, 0, 3205, true));
+l1_table02.put(List.of(320, true, true, 7642, 391, false));
+l1_table02.remove(1);
+l1_table02.put(List.of(0, false, false, 1154, 0, false));
+l1_table02.put(List.of(0, true, true, 14, 28409, false));
+l1_table02.get(1);
+l1_table02.put(List.of(43, false, false, 0, 206, false));
+l1_table02.put(List.of(227, false, false, 0, 2, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, true, 7, 0, true));
+l1_table02.put(List.of(110, true, false, 0, 0, false));
+l1_table02.put(List.of(0, false, false, 35474, 2, false));
+l1_table02.put(List.of(1, true, true, 0, 7, true));
+l1_table02.put(List.of(1, false, false, 9697, 0, true));
+l1_table02.put(List.of(0, true, true, 0, 0, true));
+l1_table02.put(List.of(0, false, true, 2, 1600, true));
+l1_table02.put(List.of(0, true, false, 0, 0, false));
+l1_table02.get(0);
+l1_table02.put(List.of(6668, false, false, 21, 2957, true));
+l1_table02.put(List.of(8, true, false, 0, 980, false));
+l1_table02.put(List.of(452, false, false, 630, 3, false));
+l1_table02.put(List.of(0, false, false, 262, 0, false));
+l1_table02.get(25);
+l1_table02.put(List.of(80, true, true, 9851, 1150, false));
+l1_table02.put(List.of(0, true, true, 1235, 4537, true));
+l1_table02.put(List.of(9, true, false, 0, 0, true));
+l1_table02.get(0);
+l1_table02.put(List.of(373, false, false, 1090, 0, false));
+l1_table02.put(List.of(0, true, true, 0, 95, true));
+l1_table02.put(List.of(7, true, false, 196, 312, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, true, 0, 743, false));
+l1_table02.put(List.of(4089, false, true, 0, 316, false));
+l1_table02.remove(29);
+l1_table02.put(List.of(311, false, false, 94227, 69, true));
+l1_table02.get(0);
+l1_table02.put(List.of(156, true, true, 2, 3, false));
+l1_table02.put(List.of(42705, true, true, 9, 2, false));
+l1_table02.get(187);
+l1_table02.put(List.of(0, false, false, 14635, 0, true));
+l1_table02.put(List.of(4360, true, false, 90, 22, true));
+l1_table02.put(List.of(7, false, true, 0, 1948, true));
+l1_table02.remove(2);
+l1_table02.get(12);
+l1_table02.remove(5);
+l1_table02.get(31);
+l1_table02.put(List.of(0, true, true, 31, 41, true));
+l1_table02.put(List.of(5, true, true, 0, 41, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(1, false, false, 1, 0, true));
+l1_table02.put(List.of(2, false, true, 289, 0, false));
+l1_table02.put(List.of(0, true, false, 3, 0, true));
+l1_table02.put(List.of(0, true, false, 0, 0, false));
+l1_table02.put(List.of(0, true, false, 2, 38, true));
+l1_table02.put(List.of(0, false, false, 0, 6062, true));
+l1_table02.put(Arrays.asList(117, null, false, 0, 0, true));
+l1_table02.put(Arrays.asList(null, false, false, 0, 17195, false));
+l1_table02.remove(79);
+l1_table02.put(List.of(0, false, false, 1, 1323, true));
+l1_table02.get(844);
+l1_table02.put(List.of(0, false, false, 8012, 1, true));
+l1_table02.put(List.of(0, false, true, 153, 0, true));
+l1_table02.put(List.of(0, false, false, 0, 0, true));
+l1_table02.put(Arrays.asList(1289, true, false, 1, 0, null));
+l1_table02.put(List.of(42, false, true, 0, 64, false));
+l1_table02.remove(60694);
+l1_table02.get(0);
+l1_table02.put(List.of(1, false, false, 1141, 3, false));
+l1_table02.get(1);
+l1_table02.put(List.of(202, true, true, 5, 0, true));
+l1_table02.put(List.of(636, false, false, 0, 0, true));
+l1_table02.put(List.of(836, true, false, 0, 0, true));
+l1_table02.remove(1261);
+l1_table02.put(List.of(0, false, true, 0, 19970, false));
+l1_table02.put(List.of(1082, false, false, 6, 5, true));
+l1_table02.put(List.of(0, true, false, 0, 0, false));
+l1_table02.put(List.of(2485, false, true, 1001, 0, true));
+l1_table02.put(List.of(52, true, true, 32, 14, false));
+l1_table02.remove(9465);
+l1_table02.put(List.of(8, false, false, 0, 0, true));
+l1_table02.put(List.of(69, false, true, 140, 22261, true));
+l1_table02.put(List.of(0, false, true, 0, 0, true));
+l1_table02.put(Arrays.asList(2, true, null, 1544, 0, true));
+l1_table02.put(List.of(1123, false, true, 4114, 67, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(33, true, true, 35049, 240, false));
+l1_table02.get(0);
+l1_table02.remove(0);
+l1_table02.put(List.of(38, false, true, 0, 0, true));
+l1_table02.put(List.of(0, true, true, 9380, 0, true));
+l1_table02.put(List.of(3783, true, false, 795, 20964, false));
+l1_table02.put(Arrays.asList(1783, null, true, 120385, 5, true));
+l1_table02.put(List.of(0, true, false, 273824, 12, true));
+l1_table02.remove(0);
+l1_table02.remove(0);
+l1_table02.put(List.of(14, false, true, 0, 60, false));
+l1_table02.put(List.of(0, true, true, 18, 0, true));
+l1_table02.remove(3099);
+l1_table02.put(List.of(0, false, true, 2066, 0, true));
+l1_table02.put(List.of(0, false, false, 0, 0, true));
+l1_table02.get(31);
+l1_table02.put(List.of(22, false, false, 557, 0, true));
+l1_table02.put(List.of(161, true, false, 9, 0, false));
+l1_table02.put(List.of(0, true, false, 1, 0, true));
+l1_table02.remove(1832);
+l1_table02.put(List.of(0, true, false, 134, 2, true));
+l1_table02.put(List.of(1028, true, true, 10019, 4372, false));
+l1_table02.put(List.of(1, false, true, 65, 18, false));
+l1_table02.put(List.of(0, false, false, 1771, 5, false));
+l1_table02.put(List.of(10157, true, false, 44, 0, false));
+l1_table02.put(List.of(6323, false, true, 0, 18, true));
+l1_table02.remove(0);
+l1_table02.get(771);
+l1_table02.remove(22);
+l1_table02.remove(1162);
+l1_table02.put(Arrays.asList(5, true, null, 0, 0, false));
+l1_table02.put(List.of(2183, true, false, 165, 27027, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(1279, false, true, 503, 0, false));
+l1_table02.get(534);
+l1_table02.put(List.of(2037, false, true, 1, 0, false));
+l1_table02.remove(6811);
+l1_table02.put(List.of(1133497, true, false, 103, 90, true));
+l1_table02.put(List.of(1263, true, true, 0, 333, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, false, 3704, 16730, false));
+l1_table02.put(List.of(0, true, true, 1898, 0, true));
+l1_table02.get(40);
+l1_table02.remove(1378);
+l1_table02.put(List.of(137, true, true, 125, 0, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(25, false, true, 0, 0, true));
+l1_table02.put(List.of(0, false, true, 0, 0, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(1, false, false, 3754, 46, false));
+l1_table02.put(List.of(0, true, false, 270, 0, false));
+l1_table02.put(List.of(3098, true, true, 194, 2, false));
+l1_table02.put(List.of(0, true, false, 5, 0, false));
+l1_table02.put(List.of(0, false, true, 18, 2, false));
+l1_table02.put(List.of(0, false, false, 246, 1, true));
+l1_table02.put(List.of(246, false, false, 2487, 43, true));
+l1_table02.get(133);
+l1_table02.remove(2120);
+l1_table02.put(List.of(5001, false, false, 5, 546, true));
+l1_table02.remove(11119);
+l1_table02.get(42358);
+l1_table02.put(List.of(0, true, false, 4, 0, false));
+l1_table02.put(List.of(0, false, true, 0, 28, true));
+l1_table02.get(15);
+l1_table02.put(List.of(0, true, false, 0, 25, false));
+l1_table02.put(List.of(20, false, true, 30281, 2040, true));
+l1_table02.put(List.of(0, true, true, 91, 1, false));
+l1_table02.put(List.of(1892, false, false, 101426, 9, true));
+l1_table02.put(List.of(6, false, true, 0, 0, false));
+l1_table02.remove(51574);
+l1_table02.put(List.of(0, false, false, 4247, 0, true));
+l1_table02.put(List.of(0, true, true, 0, 0, true));
+l1_table02.put(List.of(12, true, true, 0, 84, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(45, true, false, 1, 57, true));
+l1_table02.get(791);
+l1_table02.get(5992);
+l1_table02.get(0);
+l1_table02.put(List.of(0, false, true, 0, 7, false));
+l1_table02.put(List.of(0, true, false, 51, 144, true));
+l1_table02.put(List.of(9931, true, true, 0, 118, true));
+l1_table02.put(List.of(1, true, false, 1360, 0, true));
+l1_table02.put(List.of(273476, false, true, 0, 318, false));
+l1_table02.put(List.of(0, false, true, 45, 392, true));
+l1_table02.put(List.of(0, false, false, 0, 5, true));
+l1_table02.put(List.of(102046, true, true, 0, 1699359, true));
+l1_table02.put(List.of(39, false, true, 64, 0, true));
+l1_table02.put(Arrays.asList(0, false, null, 0, 0, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(1, true, true, 323439, 0, true));
+l1_table02.put(List.of(8, false, false, 62627, 17, false));
+l1_table02.put(List.of(0, false, true, 10196, 4484, true));
+l1_table02.remove(2729);
+l1_table02.get(17);
+l1_table02.remove(713);
+l1_table02.remove(3);
+l1_table02.put(List.of(0, true, false, 12, 0, true));
+l1_table02.get(59);
+l1_table02.remove(2);
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, false, 0, 5, false));
+l1_table02.put(List.of(319, false, true, 4, 27, false));
+l1_table02.put(List.of(0, false, false, 126, 3, false));
+l1_table02.put(List.of(27290, true, true, 0, 18635, true));
+l1_table02.put(List.of(5400, false, true, 0, 0, true));
+l1_table02.put(Arrays.asList(916, null, false, 301, 6417, false));
+l1_table02.put(List.of(17, true, true, 0, 115, false));
+l1_table02.put(List.of(15, true, true, 11, 52, false));
+l1_table02.put(List.of(0, false, true, 1276, 0, true));
+l1_table02.get(7);
+l1_table02.put(List.of(1916, false, true, 56, 1, false));
+l1_table02.remove(17399);
+l1_table02.put(List.of(8949, false, true, 0, 9, false));
+l1_table02.remove(93);
+l1_table02.put(List.of(45, false, true, 4209, 2764, false));
+l1_table02.put(List.of(0, true, true, 0, 0, false));
+l1_table02.put(List.of(70, false, false, 0, 268, false));
+l1_table02.put(List.of(14, false, false, 192, 4, false));
+l1_table02.put(List.of(11, false, true, 43993, 0, true));
+l1_table02.put(List.of(0, false, true, 28, 72708, false));
+l1_table02.put(List.of(155, true, true, 10986, 1926, false));
+l1_table02.get(0);
+l1_table02.get(0);
+l1_table02.put(List.of(0, true, false, 26515, 44, true));
+l1_table02.put(List.of(12, true, true, 11, 0, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, false, 0, 2, true));
+l1_table02.put(List.of(0, true, false, 0, 119, false));
+l1_table02.put(List.of(14132, true, true, 0, 0, false));
+l1_table02.remove(0);
+l1_table02.get(0);
+l1_table02.put(List.of(1, false, false, 0, 7, true));
+l1_table02.put(Arrays.asList(62, null, true, 0, 32, true));
+l1_table02.remove(0);
+l1_table02.remove(0);
+l1_table02.put(List.of(634, false, false, 0, 7, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(16, true, false, 0, 1, true));
+l1_table02.get(6);
+l1_table02.put(List.of(29, true, true, 0, 6314, false));
+l1_table02.get(0);
+l1_table02.put(List.of(0, false, true, 0, 0, true));
+l1_table02.put(List.of(1224, false, false, 0, 0, true));
+l1_table02.put(List.of(10, false, false, 65, 0, true));
+l1_table02.remove(10127);
+l1_table02.put(List.of(0, false, true, 0, 76011, true));
+l1_table02.get(960);
+l1_table02.put(List.of(0, false, true, 113, 0, true));
+l1_table02.put(List.of(6, false, true, 323, 575, true));
+l1_table02.get(0);
+l1_table02.put(List.of(0, false, false, 396449, 4988, true));
+l1_table02.remove(1);
+l1_table02.put(List.of(0, false, false, 5893, 30006, false));
+l1_table02.put(List.of(132, false, false, 352, 2, false));
+l1_table02.remove(8197);
+l1_table02.remove(6478);
+l1_table02.put(List.of(0, false, true, 3, 0, false));
+l1_table02.put(List.of(2303, true, false, 9693, 0, false));
+l1_table02.put(List.of(0, true, false, 73, 0, true));
+l1_table02.put(List.of(183, true, true, 0, 10575, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, true, 4394, 4212, false));
+l1_table02.put(List.of(4443, false, false, 200, 1, false));
+l1_table02.put(List.of(0, true, true, 906, 0, false));
+l1_table02.put(List.of(0, false, true, 240, 1, false));
+l1_table02.remove(0);
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, true, 1, 11, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(2, false, false, 0, 0, true));
+l1_table02.put(List.of(0, false, true, 1, 0, false));
+l1_table02.remove(72);
+l1_table02.put(List.of(0, false, true, 1, 0, false));
+l1_table02.put(List.of(0, false, false, 0, 0, false));
+l1_table02.get(0);
+l1_table02.put(List.of(0, false, false, 20, 1, true));
+l1_table02.put(List.of(1044, false, false, 0, 0, false));
+l1_table02.remove(1);
+l1_table02.get(0);
+l1_table02.get(1);
+l1_table02.put(List.of(0, true, true, 20521, 0, false));
+l1_table02.put(List.of(35, true, false, 0, 0, true));
+l1_table02.put(List.of(3388, true, false, 493, 28, false));
+l1_table02.put(List.of(0, true, true, 37, 6, false));
+l1_table02.remove(1);
+l1_table02.put(List.of(0, false, true, 0, 0, true));
+l1_table02.remove(5325);
+l1_table02.put(List.of(219, false, true, 11, 21, false));
+l1_table02.put(List.of(235, false, false, 0, 117, false));
+l1_table02.remove(7931);
+l1_table02.put(List.of(0, true, true, 7749, 0, false));
+l1_table02.get(0);
+l1_table02.put(List.of(133462, false, true, 99142, 0, true));
+l1_table02.put(Arrays.asList(123, true, null, 0, 3350, true));
+l1_table02.remove(3);
+l1_table02.put(List.of(0, false, false, 0, 302, true));
+l1_table02.put(List.of(0, true, true, 0, 30429, false));
+l1_table02.put(List.of(5396, false, false, 0, 30, false));
+l1_table02.put(List.of(0, false, false, 12, 2920, true));
+l1_table02.put(List.of(133, false, false, 8, 3340, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, true, 2, 27, true));
+l1_table02.put(List.of(0, false, false, 0, 285, true));
+l1_table02.put(List.of(0, true, false, 8209, 0, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(54, false, false, 4, 3, true));
+l1_table02.put(List.of(5909, false, false, 3, 0, false));
+l1_table02.put(List.of(34864, false, true, 138770, 0, true));
+l1_table02.get(0);
+l1_table02.put(List.of(0, true, true, 768, 0, true));
+l1_table02.put(List.of(446, false, true, 0, 0, false));
+l1_table02.put(List.of(0, false, false, 0, 42082, true));
+l1_table02.get(752);
+l1_table02.put(List.of(0, false, true, 0, 371, true));
+l1_table02.put(List.of(311, true, true, 0, 0, true));
+l1_table02.put(List.of(264, true, false, 0, 5, true));
+l1_table02.put(List.of(1412, true, false, 0, 16, false));
+l1_table02.put(List.of(0, true, true, 1, 0, true));
+l1_table02.put(List.of(4, false, false, 406893, 0, false));
+l1_table02.remove(0);
+l1_table02.get(68);
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, true, 0, 103627, true));
+l1_table02.put(List.of(18008, true, false, 0, 9998, true));
+l1_table02.put(List.of(0, true, false, 18893, 0, false));
+l1_table02.put(List.of(0, false, false, 78, 173, false));
+l1_table02.put(List.of(0, false, false, 4195, 81, true));
+l1_table02.put(List.of(0, true, true, 0, 0, true));
+l1_table02.put(List.of(0, false, false, 6, 201, true));
+l1_table02.put(List.of(2, false, false, 0, 0, false));
+l1_table02.put(List.of(5, false, false, 14554, 0, true));
+l1_table02.put(List.of(0, true, true, 0, 1572, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(1, false, true, 0, 0, true));
+l1_table02.put(List.of(1, true, true, 0, 4812, true));
+l1_table02.remove(232);
+l1_table02.remove(3470);
+l1_table02.get(98);
+l1_table02.remove(5);
+l1_table02.put(List.of(0, false, true, 0, 749, true));
+l1_table02.put(List.of(0, true, true, 0, 2, false));
+l1_table02.put(List.of(4436, true, false, 4, 1365, true));
+l1_table02.get(0);
+l1_table02.put(List.of(0, false, true, 0, 7537, true));
+l1_table02.remove(1215);
+l1_table02.put(List.of(0, true, false, 61, 0, true));
+l1_table02.put(List.of(765, false, false, 1808, 6, true));
+l1_table02.remove(141);
+l1_table02.put(Arrays.asList(null, false, false, 0, 0, false));
+l1_table02.put(List.of(32, false, false, 122, 5, true));
+l1_table02.put(List.of(0, true, false, 0, 0, false));
+l1_table02.put(List.of(1, false, false, 2766, 346, true));
+l1_table02.put(List.of(263, true, true, 715, 7, false));
+l1_table02.remove(20563);
+l1_table02.put(List.of(19, true, false, 132, 0, true));
+l1_table02.remove(142);
+l1_table02.put(List.of(144, false, true, 0, 209, false));
+l1_table02.put(List.of(0, false, false, 38207, 12067, true));
+l1_table02.put(List.of(0, true, true, 0, 11352, false));
+l1_table02.put(List.of(0, false, true, 1107, 26449, true));
+l1_table02.put(List.of(0, false, true, 0, 0, true));
+l1_table02.remove(56);
+l1_table02.put(List.of(0, true, true, 0, 55, true));
+l1_table02.get(77);
+l1_table02.remove(2329);
+l1_table02.put(List.of(44273, false, true, 0, 0, true));
+l1_table02.put(List.of(2005, false, false, 0, 0, false));
+l1_table02.put(List.of(0, false, true, 80, 0, true));
+l1_table02.remove(9);
+l1_table02.put(List.of(9, true, true, 49470, 0, false));
+l1_table02.put(List.of(4, false, false, 26, 0, true));
+l1_table02.put(List.of(0, false, false, 0, 2597, false));
+l1_table02.put(List.of(971, true, true, 537, 82, false));
+l1_table02.put(List.of(9634, false, true, 0, 13006, true));
+l1_table02.put(List.of(0, false, false, 1121, 9, false));
+l1_table02.remove(2);
+l1_table02.get(0);
+l1_table02.remove(1);
+l1_table02.get(1);
+l1_table02.put(List.of(61, false, false, 0, 491, false));
+l1_table02.put(List.of(1, false, false, 369, 0, true));
+l1_table02.put(List.of(28, false, false, 0, 0, true));
+l1_table02.put(List.of(32724, true, false, 2965, 0, true));
+l1_table02.put(List.of(803, true, false, 281, 2051, true));
+l1_table02.put(List.of(0, true, true, 0, 0, false));
+l1_table02.put(Arrays.asList(null, false, true, 2835, 256971, true));
+l1_table02.put(List.of(757, false, true, 76, 0, true));
+l1_table02.put(List.of(1344, true, true, 0, 1, true));
+l1_table02.remove(1);
+l1_table02.put(List.of(3700, true, false, 0, 63, true));
+l1_table02.get(485194);
+l1_table02.put(List.of(330, false, false, 0, 9, true));
+l1_table02.put(List.of(10201, false, true, 4334, 0, true));
+l1_table02.put(List.of(0, false, true, 9, 0, false));
+l1_table02.get(3028);
+l1_table02.put(List.of(2339, true, true, 151, 1, false));
+l1_table02.put(List.of(0, false, true, 0, 24, true));
+l1_table02.put(List.of(775, false, true, 1147, 0, false));
+l1_table02.put(List.of(0, true, true, 1028, 0, true));
+l1_table02.remove(247);
+l1_table02.put(List.of(343, true, false, 0, 1663, true));
+l1_table02.remove(418);
+l1_table02.put(List.of(29256, true, true, 1151, 100439, true));
+l1_table02.put(List.of(0, true, false, 6854, 0, true));
+l1_table02.put(List.of(0, true, false, 112, 0, false));
+l1_table02.put(List.of(27, true, true, 0, 250, true));
+l1_table02.put(List.of(3, false, true, 0, 0, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, false, 7, 0, true));
+l1_table02.remove(0);
+l1_table02.remove(5497);
+l1_table02.get(0);
+l1_table02.get(0);
+l1_table02.remove(0);
+l1_table02.put(List.of(320, false, false, 244, 0, true));
+l1_table02.put(List.of(3, true, true, 0, 0, true));
+l1_table02.put(List.of(14, true, true, 1, 1, true));
+l1_table02.put(List.of(1, false, true, 0, 0, true));
+l1_table02.put(List.of(5906, true, false, 0, 0, false));
+l1_table02.remove(48);
+l1_table02.put(List.of(0, false, false, 387, 0, true));
+l1_table02.get(1753);
+l1_table02.put(List.of(43, true, true, 20, 3309, true));
+l1_table02.remove(701);
+l1_table02.get(1717);
+l1_table02.remove(0);
+l1_table02.remove(0);
+l1_table02.remove(38439);
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, true, 0, 0, false));
+l1_table02.put(List.of(8, false, false, 0, 0, false));
+l1_table02.remove(0);
+l1_table02.remove(41);
+l1_table02.put(List.of(2, false, true, 25793, 0, false));
+l1_table02.put(List.of(0, true, true, 16697, 183712, false));
+l1_table02.put(List.of(99, false, false, 237, 0, true));
+l1_table02.get(0);
+l1_table02.put(List.of(0, false, true, 0, 743, false));
+l1_table02.get(548);
+l1_table02.remove(854);
+l1_table02.put(List.of(484, false, false, 1994, 7945, true));
+l1_table02.put(List.of(3, true, false, 230, 2, true));
+l1_table02.put(List.of(26, false, true, 38, 0, true));
+l1_table02.put(List.of(8508, true, true, 4, 6, false));
+l1_table02.put(List.of(0, false, false, 165, 4, false));
+l1_table02.remove(50);
+l1_table02.put(List.of(2037, false, false, 0, 0, true));
+l1_table02.put(List.of(1, true, true, 61, 600, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, true, 19, 0, true));
+l1_table02.put(List.of(0, false, true, 0, 204, false));
+l1_table02.put(List.of(0, true, true, 0, 0, true));
+l1_table02.put(List.of(192418, false, false, 0, 119, true));
+l1_table02.put(List.of(0, false, false, 0, 28103, true));
+l1_table02.put(List.of(1064, false, true, 0, 0, false));
+l1_table02.put(List.of(0, true, true, 21, 0, false));
+l1_table02.put(List.of(5, false, false, 25311, 11, false));
+l1_table02.put(List.of(10349, true, true, 0, 254, false));
+l1_table02.put(List.of(0, true, false, 6, 8, true));
+l1_table02.put(Arrays.asList(20761, false, null, 0, 0, true));
+l1_table02.put(List.of(50, false, false, 0, 1112, true));
+l1_table02.put(List.of(5, false, false, 0, 0, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(4, false, false, 41, 20, false));
+l1_table02.remove(6);
+l1_table02.put(List.of(31, true, false, 0, 0, true));
+l1_table02.get(0);
+l1_table02.put(List.of(1729, true, true, 0, 1481, true));
+l1_table02.remove(0);
+l1_table02.put(Arrays.asList(751, false, true, 0, null, true));
+l1_table02.remove(376);
+l1_table02.put(Arrays.asList(0, false, false, 0, null, true));
+l1_table02.put(List.of(0, false, true, 5166, 1, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(2, true, true, 0, 177, true));
+l1_table02.put(List.of(86923, false, false, 18, 0, true));
+l1_table02.get(0);
+l1_table02.put(List.of(0, true, true, 1, 1, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(5260, false, false, 2483, 0, false));
+l1_table02.remove(1818);
+l1_table02.put(List.of(0, false, true, 146, 14, false));
+l1_table02.put(List.of(0, false, false, 0, 0, true));
+l1_table02.get(3396);
+l1_table02.put(List.of(0, false, true, 1335, 0, false));
+l1_table02.remove(0);
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, true, 0, 0, true));
+l1_table02.remove(18220);
+l1_table02.remove(0);
+l1_table02.put(List.of(8, false, false, 0, 5, true));
+l1_table02.put(List.of(0, true, false, 0, 242, false));
+l1_table02.put(List.of(87, true, false, 19, 1, false));
+l1_table02.put(List.of(9352, true, false, 175, 0, true));
+l1_table02.put(List.of(123, true, false, 1317, 9890, true));
+l1_table02.put(List.of(30, false, false, 28719, 10, true));
+l1_table02.remove(0);
+l1_table02.get(0);
+l1_table02.put(List.of(0, false, false, 30, 129, true));
+l1_table02.put(List.of(0, false, false, 13, 0, false));
+l1_table02.remove(1);
+l1_table02.put(List.of(2095, false, true, 0, 5721, true));
+l1_table02.put(List.of(14, true, false, 0, 0, false));
+l1_table02.put(List.of(624, true, true, 6172, 0, true));
+l1_table02.put(List.of(0, false, true, 31, 0, true));
+l1_table02.put(List.of(0, true, false, 0, 4, false));
+l1_table02.put(List.of(80, true, true, 20420, 78, true));
+l1_table02.put(List.of(36, true, true, 160, 25308, true));
+l1_table02.put(List.of(0, false, true, 120, 840, true));
+l1_table02.remove(42);
+l1_table02.get(0);
+l1_table02.put(List.of(0, true, true, 41, 0, true));
+l1_table02.put(List.of(161, true, false, 42, 240, true));
+l1_table02.put(List.of(564, false, false, 580, 3203, true));
+l1_table02.remove(406);
+l1_table02.put(List.of(0, false, false, 7, 10740, false));
+l1_table02.get(0);
+l1_table02.put(List.of(16, false, true, 39710, 3, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(5, false, false, 1, 7948, false));
+l1_table02.put(List.of(0, true, false, 1822, 5, false));
+l1_table02.put(List.of(96859, true, false, 5373, 0, false));
+l1_table02.put(List.of(204, true, false, 0, 173, false));
+l1_table02.get(12435);
+l1_table02.remove(169373);
+l1_table02.put(List.of(33, false, false, 0, 0, false));
+l1_table02.put(List.of(6383, true, false, 0, 0, false));
+l1_table02.put(List.of(167, false, false, 9204, 112, false));
+l1_table02.put(List.of(0, true, true, 270, 210282, true));
+l1_table02.put(List.of(0, false, true, 0, 0, true));
+l1_table02.put(List.of(826, true, false, 0, 7, false));
+l1_table02.remove(21);
+l1_table02.remove(7);
+l1_table02.put(List.of(2, true, false, 3979, 0, false));
+l1_table02.put(List.of(0, false, false, 0, 0, true));
+l1_table02.remove(87);
+l1_table02.get(274);
+l1_table02.put(List.of(19, true, true, 0, 41, false));
+l1_table02.remove(33909);
+l1_table02.put(List.of(0, true, true, 1, 0, true));
+l1_table02.put(List.of(879, false, false, 3192, 79925, false));
+l1_table02.put(List.of(10, false, false, 84, 2769, true));
+l1_table02.put(List.of(5726, true, false, 124014, 9, true));
+l1_table02.remove(2);
+l1_table02.put(List.of(0, true, true, 1, 2, false));
+l1_table02.put(List.of(4827, false, false, 0, 0, false));
+l1_table02.remove(526);
+l1_table02.put(List.of(1, true, true, 374, 0, true));
+l1_table02.put(List.of(186, true, false, 25, 7, true));
+l1_table02.get(0);
+l1_table02.get(43);
+l1_table02.get(0);
+l1_table02.put(List.of(0, true, false, 0, 23791, true));
+l1_table02.put(Arrays.asList(0, null, true, 195643, 0, true));
+l1_table02.get(0);
+l1_table02.put(List.of(23, true, false, 1, 6, false));
+l1_table02.put(List.of(718, false, true, 0, 1, false));
+l1_table02.put(Arrays.asList(39, true, true, 879, 26, null));
+l1_table02.put(List.of(0, false, true, 0, 0, false));
+l1_table02.get(15040);
+l1_table02.put(List.of(0, true, true, 0, 0, false));
+l1_table02.put(List.of(126, true, true, 0, 0, false));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, true, 8, 1, true));
+l1_table02.get(0);
+l1_table02.remove(863);
+l1_table02.put(List.of(52, true, true, 0, 0, true));
+l1_table02.put(List.of(588, true, true, 2828, 0, true));
+l1_table02.remove(66);
+l1_table02.put(List.of(1507, true, false, 0, 5, false));
+l1_table02.remove(242);
+l1_table02.put(Arrays.asList(0, false, null, 0, 60657, true));
+l1_table02.put(List.of(0, false, true, 0, 172, false));
+l1_table02.get(0);
+l1_table02.put(List.of(0, true, true, 0, 0, true));
+l1_table02.put(List.of(0, true, false, 41, 50527, true));
+l1_table02.remove(0);
+l1_table02.remove(16349);
+l1_table02.get(0);
+l1_table02.put(List.of(0, false, true, 18744, 0, true));
+l1_table02.put(List.of(0, false, false, 19253, 0, false));
+l1_table02.put(Arrays.asList(0, false, true, 5, 941, null));
+l1_table02.put(List.of(337, true, false, 21, 0, false));
+l1_table02.put(List.of(50, false, true, 0, 0, false));
+l1_table02.put(List.of(60, true, true, 0, 0, false));
+l1_table02.put(List.of(0, true, false, 828, 0, true));
+l1_table02.put(List.of(0, true, false, 1, 2153, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, false, 0, 48, true));
+l1_table02.put(Arrays.asList(null, false, false, 0, 0, false));
+l1_table02.put(List.of(26358, false, false, 213, 9170, false));
+l1_table02.get(1);
+l1_table02.put(Arrays.asList(null, true, false, 0, 0, false));
+l1_table02.put(List.of(3, true, false, 0, 8, false));
+l1_table02.put(List.of(166, false, true, 4010, 1046, true));
+l1_table02.put(List.of(9, false, false, 0, 4, true));
+l1_table02.remove(171);
+l1_table02.put(List.of(15, true, true, 124, 0, false));
+l1_table02.remove(95038);
+l1_table02.put(List.of(274, false, false, 1, 0, true));
+l1_table02.put(List.of(586, true, true, 27767, 0, true));
+l1_table02.put(List.of(0, false, true, 22202, 29821, false));
+l1_table02.get(0);
+l1_table02.put(List.of(3005, true, true, 326, 0, false));
+l1_table02.put(List.of(0, true, true, 3225, 2, true));
+l1_table02.put(List.of(25760, true, false, 11, 1335, false));
+l1_table02.put(List.of(0, true, true, 14131, 0, true));
+l1_table02.put(List.of(747, false, true, 16, 0, false));
+l1_table02.put(List.of(25, false, false, 233, 16704, false));
+l1_table02.put(List.of(5, true, false, 4, 31, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, false, false, 0, 220, false));
+l1_table02.remove(127);
+l1_table02.put(List.of(0, false, true, 0, 3859156, false));
+l1_table02.remove(0);
+l1_table02.get(9);
+l1_table02.put(List.of(0, true, false, 60, 0, true));
+l1_table02.put(List.of(0, false, false, 0, 0, false));
+l1_table02.put(List.of(0, false, false, 1, 4388, true));
+l1_table02.remove(1927);
+l1_table02.put(List.of(9, false, true, 8451, 0, true));
+l1_table02.put(List.of(23082, true, true, 381, 7714, false));
+l1_table02.put(List.of(0, true, false, 0, 0, false));
+l1_table02.remove(6);
+l1_table02.put(List.of(0, true, true, 0, 0, true));
+l1_table02.put(List.of(0, true, false, 523, 453, true));
+l1_table02.put(List.of(63, false, true, 0, 643, false));
+l1_table02.remove(1799);
+l1_table02.put(List.of(586, false, true, 0, 0, true));
+l1_table02.remove(8);
+l1_table02.put(List.of(725, true, false, 18760, 0, true));
+l1_table02.put(List.of(1203, true, true, 7404, 50, false));
+l1_table02.put(List.of(0, false, true, 0, 48950, false));
+l1_table02.put(List.of(0, true, true, 100, 15, true));
+l1_table02.put(List.of(0, false, true, 1216, 0, true));
+l1_table02.put(List.of(0, false, true, 91, 0, true));
+l1_table02.put(List.of(25, false, false, 0, 12, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(247, false, false, 1159, 12605, false));
+l1_table02.put(List.of(10, true, false, 0, 0, true));
+l1_table02.put(List.of(1, true, true, 512, 1159, false));
+l1_table02.put(List.of(0, true, false, 0, 0, true));
+l1_table02.get(58116);
+l1_table02.put(List.of(74, false, true, 2, 9469, false));
+l1_table02.put(List.of(7, false, false, 0, 0, true));
+l1_table02.put(List.of(2, true, true, 0, 194, false));
+l1_table02.get(0);
+l1_table02.put(Arrays.asList(0, false, false, 0, null, true));
+l1_table02.remove(44);
+l1_table02.put(List.of(57234, false, false, 80, 0, false));
+l1_table02.put(List.of(1, false, true, 0, 0, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(73, false, true, 42567, 6192, true));
+l1_table02.put(List.of(0, true, true, 314, 0, false));
+l1_table02.put(List.of(2, false, true, 4760563, 92, false));
+l1_table02.put(List.of(1, false, true, 15, 0, false));
+l1_table02.put(List.of(0, false, true, 18, 11, false));
+l1_table02.remove(178);
+l1_table02.put(List.of(105, false, false, 12, 127, false));
+l1_table02.remove(60);
+l1_table02.put(List.of(0, false, false, 10, 0, false));
+l1_table02.remove(11499);
+l1_table02.put(List.of(22510, false, true, 28, 230, true));
+l1_table02.get(2);
+l1_table02.put(List.of(6511, true, false, 0, 78, false));
+l1_table02.remove(8123);
+l1_table02.get(281);
+l1_table02.put(List.of(0, false, true, 1256, 0, false));
+l1_table02.put(List.of(1808, false, false, 42, 5, false));
+l1_table02.put(List.of(0, false, true, 2055, 0, false));
+l1_table02.put(List.of(91275, false, true, 0, 0, false));
+l1_table02.put(List.of(17, true, false, 4596, 0, false));
+l1_table02.remove(1358);
+l1_table02.put(List.of(0, true, true, 0, 0, true));
+l1_table02.put(List.of(68, true, false, 53641, 4, false));
+l1_table02.put(List.of(0, true, false, 32, 5, true));
+l1_table02.remove(170);
+l1_table02.put(List.of(10064, false, true, 0, 62604, false));
+l1_table02.put(List.of(0, true, false, 76, 0, true));
+l1_table02.put(List.of(10, true, true, 0, 0, false));
+l1_table02.put(List.of(39, true, false, 3, 68, true));
+l1_table02.put(Arrays.asList(12416, false, false, 39, null, true));
+l1_table02.put(List.of(0, false, false, 0, 0, false));
+l1_table02.put(List.of(1106, false, false, 0, 0, true));
+l1_table02.put(List.of(1688, true, true, 3599, 1653, false));
+l1_table02.put(List.of(5257, false, false, 26522, 0, false));
+l1_table02.put(List.of(0, false, true, 1, 0, false));
+l1_table02.get(0);
+l1_table02.get(31);
+l1_table02.put(Arrays.asList(10205, false, false, 0, 26, null));
+l1_table02.remove(3);
+l1_table02.put(List.of(8996, true, false, 0, 0, false));
+l1_table02.put(List.of(124, true, true, 0, 0, true));
+l1_table02.remove(41983);
+l1_table02.put(List.of(0, false, false, 0, 2, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(1, true, false, 0, 5416, true));
+l1_table02.remove(63713);
+l1_table02.remove(0);
+l1_table02.put(List.of(148, true, true, 0, 359, true));
+l1_table02.put(Arrays.asList(26, null, false, 0, 58305, true));
+l1_table02.put(List.of(5, false, true, 67, 1, true));
+l1_table02.put(List.of(7, false, false, 11, 532, true));
+l1_table02.get(4);
+l1_table02.put(List.of(2, true, true, 0, 0, true));
+l1_table02.put(List.of(2, true, false, 0, 1442, true));
+l1_table02.put(List.of(6, true, true, 4, 91, false));
+l1_table02.put(List.of(0, false, true, 2694, 0, true));
+l1_table02.put(List.of(501, false, false, 0, 218, true));
+l1_table02.put(List.of(18, true, true, 556, 11, false));
+l1_table02.put(List.of(2576, true, true, 0, 78, false));
+l1_table02.get(2943);
+l1_table02.remove(0);
+l1_table02.put(Arrays.asList(4, false, false, 34, null, true));
+l1_table02.put(List.of(0, true, true, 0, 0, false));
+l1_table02.put(List.of(0, false, false, 2092, 4, false));
+l1_table02.put(List.of(0, true, true, 22, 0, true));
+l1_table02.put(List.of(1146, false, false, 0, 196, false));
+l1_table02.remove(21);
+l1_table02.put(List.of(9, false, false, 0, 0, false));
+l1_table02.put(List.of(0, true, true, 53, 0, true));
+l1_table02.get(4);
+l1_table02.put(List.of(0, false, true, 3515, 0, false));
+l1_table02.remove(3);
+l1_table02.put(List.of(7546, true, false, 0, 1812, true));
+l1_table02.put(List.of(0, false, true, 0, 0, true));
+l1_table02.put(List.of(0, true, false, 1, 1324, true));
+l1_table02.put(List.of(0, true, true, 263, 19, false));
+l1_table02.put(List.of(0, true, false, 0, 0, false));
+l1_table02.put(List.of(1, false, false, 41249, 1, false));
+l1_table02.get(0);
+l1_table02.put(List.of(2538, true, false, 0, 4, false));
+l1_table02.put(List.of(0, true, true, 231, 0, false));
+l1_table02.put(Arrays.asList(null, true, false, 0, 0, true));
+l1_table02.remove(1);
+l1_table02.put(List.of(0, false, true, 4663, 1, false));
+l1_table02.remove(37);
+l1_table02.put(List.of(192, false, false, 0, 0, true));
+l1_table02.put(List.of(160, true, false, 0, 60, false));
+l1_table02.put(Arrays.asList(0, true, false, 571, null, false));
+l1_table02.put(List.of(365, true, false, 0, 23, true));
+l1_table02.put(List.of(6753, true, false, 1, 109, false));
+l1_table02.put(List.of(0, true, false, 0, 138601, true));
+l1_table02.remove(0);
+l1_table02.put(List.of(0, true, false, 0, 9, false));
+l1_table02.put(List.of(2, true, false, 42, 103, false));
+l1_table02.remove(7671);
+l1_table02.put(Arrays.asList(0, true, null, 1478, 28, true));
+l1_table02.put(List.of(0, false, true, 476, 0, false));
+l1_table02.remove(1);
+l1_table02.put(Arrays.asList(null, false, true, 0, 21, false));
+l1_table02.put(List.of(0, true, true, 0, 5226, false));
+l1_table02.put(List.of(7541, false, true, 22, 0, true));
+l1_table02.put(List.of(0, true, true, 1, 7169, false));
+l1_table02.get(5);
+l1_table02.put(List.of(118191, false, false, 0, 1, true));
+l1_table02.put(List.of(0, true, false, 0, 82, true));
+l1_table02.put(List.of(110, true, false, 0, 0, false));
+l1_table02.remove(31720);
+l1_table02.put(List.of(238, true, true, 0, 80, false));
+l1_table02.put(List.of(0, false, true, 11850, 0, false));
+l1_table02.put(List.of(673937, false, false, 239766, 0, true));
+l1_table02.put(List.of(0, false, true, 0, 11851, true));
+l1_table02.put(List.of(0, true, true, 146, 0, true));
+l1_table02.put(List.of(964, true, true, 4338, 0, true));
+l1_table02.clear();
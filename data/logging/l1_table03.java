@@ -0,0 +1,2003 @@
+// Random Seed: 655701686
+Table l1_table03 = new SearchTable("l1_table03", List.of("bdd", "ef5", "e33e", "e7cb", "a3aa", "a958", "ac2e", "b5e", "f47", "d7a", "dd5b", "ec85", "cbe", "ec20", "d1a"), List.of("string", "string", "string", "integer", "integer", "integer", "boolean", "boolean", "boolean", "string", "string", "integer", "integer", "boolean", "boolean"), 9);
+l1_table03.getTableName();
+l1_table03.getColumnNames();
+l1_table03.getColumnTypes();
+l1_table03.getPrimaryIndex();
+l1_table03.clear();
+l1_table03.put(List.of("b376", "a44e", "b262", 0, 0, 12, false, true, false, "df9", "a0d", 7630, 0, true, true));
+l1_table03.put(Arrays.asList("b19", "a2226", "c1a", 62, 36946, null, false, true, false, "c17", "ae1b", 104, 4, true, true));
+l1_table03.put(List.of("f767", "bac", "ed2", 0, 0, 0, false, false, false, "a83", "c959", 257, 118, false, true));
+l1_table03.put(List.of("e7be", "d9f1", "a23", 51, 17, 6940, true, true, false, "cc4", "d97a", 0, 0, true, true));
+l1_table03.remove("ec1");
+l1_table03.remove("edb7");
+l1_table03.put(List.of("d29", "abb", "af2", 19, 404, 322, false, false, true, "ed6", "e6f", 0, 0, false, false));
+l1_table03.put(List.of("b2f8", "b11", "b140", 0, 55539, 3, false, true, false, "a054", "ba9", 10502, 122, true, false));
+l1_table03.remove("ed03");
+l1_table03.put(List.of("da1c", "ecd66", "aa59", 0, 16, 719, false, true, false, "b6b0", "f249", 2, 0, false, false));
+l1_table03.put(List.of("f7ff", "bdf", "c9b8", 0, 0, 0, true, true, false, "fb38", "d58e", 0, 484, false, false));
+l1_table03.put(List.of("b90a", "f9a7", "fe27", 0, 6, 30, true, false, false, "cc910", "ed63", 0, 0, false, true));
+l1_table03.put(List.of("f9c", "f273", "e73", 0, 756, 0, false, false, true, "db4", "faaa", 107, 21, false, false));
+l1_table03.put(List.of("ae8c", "fd4", "f1e2", 23, 0, 5729, true, false, true, "b744", "b8b7", 0, 39, true, false));
+l1_table03.put(Arrays.asList("dce", "f1f", "fa73", 15490, 127, 0, false, true, true, "c97b", "ad94", 9, 0, true, null));
+l1_table03.get("f6f9");
+l1_table03.put(List.of("b1c", "c702", "e50", 1, 553, 4, true, false, false, "f32", "a99f8", 0, 0, true, true));
+l1_table03.put(Arrays.asList("f7ae", "d26", "d5ab", 0, 30, 34452, false, true, false, "e86c", "d463", 293, 7, false, null));
+l1_table03.put(List.of("e49", "ae7c", "cce", 469, 0, 1, false, false, false, "f2c", "de5c", 78, 73, true, false));
+l1_table03.put(List.of("a956", "eb3", "e0ec", 0, 0, 9, true, false, true, "d66", "be1", 0, 0, false, false));
+l1_table03.put(Arrays.asList(null, "b95a", "f370", 311, 0, 0, false, true, true, "e51", "e41", 0, 0, false, false));
+l1_table03.put(List.of("de64", "ccef", "b9c0", 25667, 0, 3891, false, true, true, "ebe", "b23f", 0, 62, true, true));
+l1_table03.remove("b177");
+l1_table03.put(List.of("c75", "e78fe", "a1b18", 0, 0, 59, false, true, true, "b292", "b8a1", 0, 0, true, false));
+l1_table03.put(Arrays.asList("b5915", "c298", null, 11575, 9, 16, false, true, false, "d636", "a2b", 0, 1385, true, true));
+l1_table03.put(List.of("eed5", "ad84", "ee9", 38, 32, 4, true, true, true, "e07", "c6b09", 0, 0, true, false));
+l1_table03.get("fd2");
+l1_table03.remove("be7c");
+l1_table03.put(List.of("a711", "c38", "b52", 0, 64, 74, false, false, true, "cdc", "dd4", 22, 12245, true, true));
+l1_table03.put(Arrays.asList("d27f", "d014", "e40e", 0, 21, 73, true, false, true, "b83", "f01", 0, 103, true, null));
+l1_table03.remove("e2a");
+l1_table03.put(Arrays.asList(null, "a412", "a61", 0, 2245, 0, true, true, false, "c4ae", "df32", 8568, 0, true, true));
+l1_table03.put(List.of("c95f", "d80", "bf28", 7, 3, 554, false, false, false, "bdf4", "b63", 13412, 0, false, false));
+l1_table03.put(List.of("b4b", "ef4", "b790", 8, 0, 4918, true, false, true, "accb", "af93", 7, 24433, false, false));
+l1_table03.put(List.of("a81", "d548", "bd0", 0, 0, 622133, true, true, false, "ae9e", "e45", 0, 0, false, true));
+l1_table03.put(List.of("a7a6", "ee9b", "b883", 0, 0, 0, true, false, true, "c11", "f1c", 0, 0, true, true));
+l1_table03.put(List.of("efe", "b210", "d8f1", 672, 0, 0, true, true, true, "f311", "a16e", 285, 22, false, false));
+l1_table03.put(List.of("ab24", "fe4", "b9b", 5082, 19, 0, true, false, true, "b850", "c405", 0, 2910, true, true));
+l1_table03.put(List.of("a66c", "a087", "a8e4", 8198, 1, 21961, true, true, true, "fcd", "af27", 0, 0, true, false));
+l1_table03.remove("ace7");
+l1_table03.put(Arrays.asList("b19b", "ea89", "c753", 0, 8, 492, null, true, true, "f37", "a7d2", 5, 0, true, false));
+l1_table03.put(List.of("c841", "c54", "bd8", 0, 11677, 0, false, true, true, "a846", "b7d", 1192, 0, false, false));
+l1_table03.remove("d81");
+l1_table03.remove("cb5");
+l1_table03.put(List.of("b35", "a7e2", "a2b8", 256, 0, 1933, true, false, false, "f93", "d4c9", 0, 66, false, true));
+l1_table03.put(List.of("dc4", "b10e5", "c059", 1, 1, 0, false, true, false, "a60", "b65d", 24062, 0, true, true));
+l1_table03.put(List.of("a9f5", "ac77", "e2b", 116, 24988, 6094, false, false, false, "b958", "a5c", 109, 0, false, false));
+l1_table03.get("a84c");
+l1_table03.remove("da8");
+l1_table03.remove("a05");
+l1_table03.put(List.of("d751", "ee8b", "b9dd", 0, 0, 46, false, true, true, "b105", "b25", 1, 1, false, false));
+l1_table03.put(List.of("c5c", "c98", "d4c6", 2607, 453, 0, true, true, false, "dae", "eec", 48, 39, false, true));
+l1_table03.remove("d6b");
+l1_table03.put(List.of("b708", "aee2", "a64", 8273, 4061, 0, false, false, false, "bb3", "bc96d", 0, 36406, true, true));
+l1_table03.put(List.of("a7ea", "d27c", "b8e", 0, 105, 12, true, false, true, "c3bd", "ba3cc", 2267, 0, true, false));
+l1_table03.put(List.of("f319", "a43", "cd23", 71271, 3680, 4131, false, true, true, "f5f9e", "a6ec", 92, 0, true, true));
+l1_table03.remove("c19");
+l1_table03.remove("ede");
+l1_table03.put(List.of("d572", "a369a", "ea282", 162, 2, 0, true, true, false, "dc200", "b75a", 0, 152, true, false));
+l1_table03.put(List.of("dd95", "f66ea", "b0a0", 0, 2, 0, true, true, true, "a31e9", "a399", 24473, 0, false, false));
+l1_table03.remove("e8f");
+l1_table03.put(List.of("e64", "d87", "a591", 1060, 0, 149935, false, true, false, "e3b5", "bed2", 2221, 323, false, true));
+l1_table03.put(List.of("a8f1", "dd8c", "f317f", 22, 182, 0, false, false, false, "ebd", "b063", 0, 121, true, true));
+l1_table03.put(List.of("bde8", "b0ac", "c32dd", 0, 0, 3603, true, true, true, "a7f7", "dcb", 0, 7097, true, true));
+l1_table03.remove("d7f");
+l1_table03.put(List.of("b680", "cf2", "c645", 2, 0, 289605, false, true, false, "c2be", "afdb", 92, 0, false, false));
+l1_table03.put(List.of("b32", "be4a", "f443", 2824, 2542738, 30986, true, false, false, "ec2", "e80f", 2, 68, false, true));
+l1_table03.remove("bfc2");
+l1_table03.put(List.of("a56", "b9e", "e941", 2, 1197, 0, false, false, true, "b28e", "d8ff", 242, 0, true, false));
+l1_table03.get("dbbd");
+l1_table03.remove("f67f");
+l1_table03.put(List.of("e4f", "a6d", "fe0", 0, 9, 10, true, false, false, "e0e", "e863", 80, 2398, false, true));
+l1_table03.put(List.of("b9a", "b2ce", "b48", 247, 462, 0, false, true, false, "bebe", "aff", 1, 21899, true, true));
+l1_table03.put(List.of("ca74", "a54d", "c1e", 5648, 0, 41, false, true, true, "cefa", "e16", 0, 0, true, false));
+l1_table03.put(Arrays.asList("a250", "f3381", "ab0c", 0, 108, 13195, true, true, false, "d30", "a71d", 24, 0, false, null));
+l1_table03.put(List.of("a3c5", "cf8", "d35a", 362818, 170055, 0, false, false, false, "dfa", "fda", 156, 1918, false, false));
+l1_table03.put(List.of("efb", "bc1", "f73", 886, 129721, 3, false, true, true, "d296", "b47d", 30298, 0, false, true));
+l1_table03.put(List.of("ec5", "ad59", "f64", 0, 53, 339, true, false, true, "ae5", "bcc1", 0, 0, false, true));
+l1_table03.put(Arrays.asList("d6c0d", "c09c", "c9b2", 2290, 49, null, true, false, true, "d011", "aa8d", 2, 58, true, false));
+l1_table03.remove("e920");
+l1_table03.put(List.of("a7d5", "dd78", "e4a", 0, 0, 0, true, false, true, "e6b8", "e11", 0, 0, false, true));
+l1_table03.put(List.of("cd6", "b32a", "b8416", 0, 204, 1450, false, true, false, "d4c4", "cc54", 207, 0, false, false));
+l1_table03.remove("cec");
+l1_table03.put(List.of("b41", "f76", "d30a", 1659, 1108, 2931, true, false, true, "dc0", "f289", 25, 0, true, true));
+l1_table03.remove("f9a");
+l1_table03.put(Arrays.asList("dc14", "ec6", "c7ab", 2, 135897, 0, false, null, false, "cc34", "ea1a", 1, 3871, false, true));
+l1_table03.remove("f16");
+l1_table03.put(List.of("b4ae", "d725", "ddf", 42651, 2310, 67, true, true, true, "b9d3", "d0f6", 0, 0, true, true));
+l1_table03.remove("c314");
+l1_table03.put(Arrays.asList("e4c", "f4e6", "b425", 0, 139, 0, true, false, true, "e42", null, 55, 6, true, true));
+l1_table03.put(List.of("b7d09", "ec9c", "ae58", 138, 0, 0, false, false, true, "c559", "cc77", 2011, 42, true, false));
+l1_table03.get("e82");
+l1_table03.put(Arrays.asList("ff7d", "d0aa", null, 15, 0, 0, true, true, false, "a4ce", "ada", 581, 0, false, false));
+l1_table03.put(Arrays.asList("b601", "e2ce", "e2d", 0, 10, 0, true, true, true, "e811", "a1e9", 131, 163, null, false));
+l1_table03.put(List.of("d472", "c922", "a57", 5215, 0, 0, true, true, true, "e679", "eae6", 0, 67, false, false));
+l1_table03.remove("f4c");
+l1_table03.put(List.of("bd64", "b672", "f15", 2630, 0, 1970, true, false, true, "f5d", "f77", 4, 0, false, false));
+l1_table03.get("c4d");
+l1_table03.put(List.of("e549", "db6b", "aba9", 0, 2, 51, false, false, false, "b003e", "ab7", 1, 0, true, true));
+l1_table03.remove("c0d0");
+l1_table03.put(List.of("f1d", "e264", "a256", 0, 3684, 2355, false, false, true, "e8d5", "bb2", 17864, 0, false, true));
+l1_table03.put(List.of("b23d", "b8f", "e90", 3906, 0, 0, true, false, false, "aed1", "b10", 1, 4, false, true));
+l1_table03.put(List.of("dca", "e692f", "ab4", 4882, 524, 0, true, true, true, "d5b3", "dcbb", 6, 0, false, true));
+l1_table03.put(List.of("a2c", "b35f", "d3c", 0, 0, 325, true, false, true, "a1de", "bc01", 72, 0, true, true));
+l1_table03.get("ff4");
+l1_table03.remove("de8c");
+l1_table03.put(List.of("ac62", "a6d79", "ccd6", 36, 8, 0, true, false, false, "c263", "ea30", 56, 0, true, false));
+l1_table03.remove("e68a");
+l1_table03.put(List.of("c94e", "b33", "d64", 812, 1, 414, false, true, true, "c5ee", "de8e", 14, 8, false, true));
+l1_table03.put(List.of("a888d", "cd8", "c70a", 4, 1, 1304, true, true, true, "a787", "f706", 0, 0, true, true));
+l1_table03.remove("b38a");
+l1_table03.put(List.of("bf6f", "c759", "cdba0", 21, 0, 0, false, true, false, "b1f", "b967", 0, 64, false, true));
+l1_table03.put(Arrays.asList("a7c", "fe12", "bc7", null, 0, 14, true, false, false, "c8db", "e9a", 4641, 0, false, false));
+l1_table03.put(Arrays.asList("a17", "a407", "bfe", 0, null, 0, false, false, false, "d5f", "a258", 13, 10003, true, false));
+l1_table03.put(List.of("df1", "b9f1", "d552", 0, 6352, 0, false, true, false, "fc1", "a5831", 39, 0, true, false));
+l1_table03.put(List.of("eeb", "c79", "ad1b", 502, 0, 1, false, false, true, "e9c", "ab8", 313, 700, false, true));
+l1_table03.put(List.of("ad2f", "a13d", "ac79", 654, 0, 60, false, true, true, "bbf6", "f242", 0, 4, false, true));
+l1_table03.remove("b1d7");
+l1_table03.remove("ba1");
+l1_table03.put(List.of("d496", "d31", "b6562", 0, 1, 15338, false, true, true, "fe33", "b236", 13241, 0, true, true));
+l1_table03.put(List.of("baa", "abddb", "a951", 108, 18, 53333, false, false, true, "fd7", "d711", 0, 14, false, false));
+l1_table03.put(List.of("a759", "ae70", "f098", 0, 0, 34, false, false, true, "e12", "b5f", 0, 0, true, true));
+l1_table03.remove("dbb");
+l1_table03.remove("c7bae");
+l1_table03.put(List.of("c997", "d815", "ba69", 0, 5, 8, false, true, false, "a1a0", "d0b", 33, 187, false, false));
+l1_table03.put(List.of("a465", "cd04", "b5d3", 6, 21732, 0, true, false, false, "a0b1", "b007", 24, 1043, false, true));
+l1_table03.put(List.of("e2fa", "c1a1", "eb30", 66292, 0, 5, true, false, true, "b7f6", "d470", 329, 2, false, true));
+l1_table03.remove("d20");
+l1_table03.put(List.of("a8f8", "f39", "a30", 0, 0, 1, false, false, true, "ef7bc", "f016", 0, 0, false, false));
+l1_table03.remove("c429");
+l1_table03.put(List.of("f85", "fdc4", "d60", 0, 173, 0, true, false, true, "acd8", "c1d0", 99, 4, true, false));
+l1_table03.put(List.of("e493", "a445", "f203", 6914, 387, 1746, true, false, false, "be7f", "a6092", 0, 94, false, false));
+l1_table03.remove("aaa");
+l1_table03.put(List.of("cdf0", "a820", "aca9", 27935, 0, 0, true, false, true, "a7bbd", "c70", 4924, 2126, false, true));
+l1_table03.put(Arrays.asList(null, "a5e", "df66", 0, 0, 1320, true, false, false, "eecd", "e532", 0, 0, false, false));
+l1_table03.put(Arrays.asList("aeb8", null, "e86", 251, 19, 225, false, false, false, "c4d4", "bb4", 0, 10314, false, true));
+l1_table03.put(List.of("b760", "c6ee", "eb46", 0, 5, 782, false, true, true, "b8d0", "f292", 0, 1602, true, true));
+l1_table03.put(List.of("bd4", "aa14", "a5d0", 0, 23, 5124, false, true, true, "b46", "bcd9", 0, 176, true, true));
+l1_table03.put(List.of("a627", "f2ad", "b812", 0, 0, 875, true, false, true, "bfd", "c0ff", 0, 1, true, false));
+l1_table03.put(List.of("f5e", "a05b9", "f023b", 0, 64, 1, true, false, false, "df7", "e1a6", 0, 0, false, false));
+l1_table03.put(List.of("c2a3", "a47", "c81", 2165, 18, 118, true, true, false, "daab", "f25", 0, 0, false, false));
+l1_table03.put(Arrays.asList("f79f", "ed05", "e8dd", 6, null, 43554, true, true, true, "d813", "aa0", 42, 0, false, true));
+l1_table03.put(List.of("b39b", "e413", "c9a5", 0, 0, 7052, false, true, false, "ff9", "bb2f9", 0, 266104, false, true));
+l1_table03.put(List.of("d75", "b31f", "d5d", 1, 0, 1, true, false, false, "f332", "aae2", 179, 66, true, false));
+l1_table03.put(List.of("b2c", "ce68", "e4bf", 12, 0, 0, false, false, true, "abda", "b61b", 8, 49, false, false));
+l1_table03.remove("bc73");
+l1_table03.put(List.of("ff68", "b54c", "f09", 51820, 408, 0, false, false, true, "c7f", "cdee3", 3658, 3091, false, true));
+l1_table03.put(List.of("aa6b", "a770", "f766", 0, 285, 0, true, true, false, "f51", "a9e7", 0, 0, false, true));
+l1_table03.remove("cc57f");
+l1_table03.remove("f942");
+l1_table03.put(Arrays.asList(null, "a8cb", "d9d", 722, 0, 0, true, false, false, "fbc4", "a9e8", 2, 5, false, false));
+l1_table03.remove("c137");
+l1_table03.put(List.of("bd4c9", "c3f1c", "f365", 0, 0, 1, true, false, false, "c5b", "da84", 87597, 2133, false, false));
+l1_table03.put(List.of("d12", "d681", "d189", 58, 231, 9156, true, true, true, "f8903", "dcf", 145, 0, false, true));
+l1_table03.put(List.of("bf8c", "f756", "b34a", 0, 1, 29, true, true, false, "e516", "a1db", 241766, 1634, false, true));
+l1_table03.put(List.of("e130", "b9c", "a661", 1, 0, 0, true, false, true, "aba1", "f05", 14, 5, false, false));
+l1_table03.put(List.of("bbf", "def9", "aca", 0, 731, 72, true, true, true, "c028", "b70a", 1, 122, false, false));
+l1_table03.put(List.of("bef", "ee97", "b133", 0, 0, 0, false, true, true, "b759", "cf8b", 2, 0, true, false));
+l1_table03.put(List.of("d1ae", "c6e7", "fded", 0, 1688, 631, false, true, true, "f36", "e471", 0, 2666, true, false));
+l1_table03.put(List.of("c191", "a48a", "cb82", 63, 0, 0, true, true, true, "cb31", "b0f3", 0, 5, true, true));
+l1_table03.put(List.of("aadc", "ab1", "aa58", 0, 0, 1108, true, true, false, "c780", "cb9b", 2, 863, true, false));
+l1_table03.put(Arrays.asList("eca", "f244", "ded6", 18, 0, 2528, true, false, false, "fc05", "b431", null, 291, true, true));
+l1_table03.remove("c88");
+l1_table03.remove("ebd2");
+l1_table03.put(Arrays.asList("d4d6", null, "d8aed", 120, 3357, 0, false, false, false, "be0f", "f44", 67, 134, false, false));
+l1_table03.put(List.of("c981", "d841", "d127", 0, 37, 29, true, true, true, "e9ee", "d8d1", 36, 75, true, true));
+l1_table03.put(List.of("c2c", "f65d", "db7a", 122, 0, 0, true, true, true, "dcbd", "be2", 16, 0, false, false));
+l1_table03.put(List.of("c316", "c5ba", "b69", 320, 0, 653, true, false, false, "c666", "cb8d", 0, 10, false, true));
+l1_table03.remove("c05b");
+l1_table03.put(List.of("cc8", "fe5", "f8985", 0, 0, 0, false, false, true, "f43", "a22d", 19, 54, false, false));
+l1_table03.put(Arrays.asList("a0d7", "bb7", null, 177, 0, 1107, true, true, false, "de4", "cfb", 0, 937, false, false));
+l1_table03.remove("dad");
+l1_table03.remove("fd80");
+l1_table03.put(List.of("c75f", "c67e", "ff3", 5301, 73, 0, false, true, false, "b226", "e0c8", 0, 0, false, false));
+l1_table03.put(List.of("f07", "c436", "fafe", 0, 0, 0, false, false, true, "f3c", "c62c", 0, 0, true, true));
+l1_table03.put(List.of("eba1", "ee6", "e659", 10, 4, 638, true, false, true, "c25", "b7c6", 0, 2, false, true));
+l1_table03.put(Arrays.asList("a82b8", "c283", "c516", 8, 38221, null, true, true, true, "e10", "e669", 711, 83, false, true));
+l1_table03.put(List.of("cef", "fcbe", "e4c4", 3, 1, 0, true, false, true, "dec", "a3c", 555, 0, false, false));
+l1_table03.put(List.of("c03a", "fdfb", "fda2", 35508, 0, 0, true, true, false, "a851", "e6cd", 102, 3035, true, true));
+l1_table03.put(List.of("d2f9", "b6b1", "d678", 1555, 5, 0, false, false, false, "f327", "c52c", 2363, 0, true, true));
+l1_table03.put(List.of("d45a1", "deac", "b7f9", 179, 1708, 2015, true, true, true, "fc9d", "bdd2", 16, 1, false, false));
+l1_table03.put(List.of("f5af", "e146", "a420b", 0, 0, 7, false, false, false, "a823", "f69", 0, 2, false, false));
+l1_table03.put(List.of("aa91", "c1b2", "fec5", 2806, 15629, 0, true, true, false, "ed7f", "f129", 183, 46, true, false));
+l1_table03.put(List.of("a6db", "d83", "d5e", 0, 9, 0, false, true, false, "d30f", "ec00", 7, 0, true, true));
+l1_table03.remove("c63d");
+l1_table03.remove("aa55");
+l1_table03.put(List.of("f88", "db49", "e5b", 0, 873, 1, true, true, true, "e0f", "a3af", 0, 559, true, true));
+l1_table03.put(List.of("e8a4", "cb6", "f6df", 0, 0, 0, true, false, true, "e23", "a495", 0, 0, true, true));
+l1_table03.get("a299");
+l1_table03.get("af49");
+l1_table03.put(List.of("a01e", "d86", "acf3", 66, 0, 1, false, false, false, "eefa", "cbcc", 0, 43, true, true));
+l1_table03.put(Arrays.asList("c985", "be75", null, 36, 7516, 39, false, false, false, "c7a", "fba7", 8788, 0, true, false));
+l1_table03.remove("e34");
+l1_table03.put(Arrays.asList("bcf2", "d192", "c15", null, 0, 89, false, false, true, "ffdf", "dcc", 15, 0, false, false));
+l1_table03.put(List.of("ef2fa", "bc3b", "d227", 6052, 0, 0, true, false, false, "b1f2", "d3a8", 137, 0, true, false));
+l1_table03.put(List.of("c061", "f0f", "a0eb", 0, 0, 0, false, false, false, "f7e9", "ccb9", 1574, 30132, true, false));
+l1_table03.put(Arrays.asList("ca6", "bb50", null, 1699, 0, 5, true, false, false, "dcc6", "a70", 8920, 324, false, false));
+l1_table03.put(List.of("c13d", "c908", "e736", 441, 23, 0, true, true, true, "f190", "b50", 2428, 2, true, false));
+l1_table03.put(List.of("f83c", "c03f", "c622f", 13130, 0, 0, false, true, true, "b244", "ba16", 8306, 78, false, false));
+l1_table03.put(List.of("b4fd", "c80b0", "f3d", 0, 447, 1, false, true, false, "c74", "c212", 0, 0, false, false));
+l1_table03.put(Arrays.asList("b29", "fae", "c5d6", null, 102, 116, false, false, false, "c8f1", "c44", 588, 0, true, false));
+l1_table03.remove("d7b");
+l1_table03.remove("ca5");
+l1_table03.put(List.of("ef8", "a10f", "c7bb", 744, 1, 12, false, false, true, "ad5b", "deba", 106, 5, false, true));
+l1_table03.put(List.of("bd9e", "a371", "cc37", 181, 0, 199, true, true, true, "c23b", "ba7", 1, 0, true, true));
+l1_table03.put(List.of("f30c", "a606", "f149", 0, 15, 0, true, false, false, "dbf", "c505", 22, 7, true, true));
+l1_table03.get("eff2");
+l1_table03.put(List.of("ccc", "cb62", "e4fd", 0, 203, 0, false, true, false, "a2af", "bc40", 23, 0, true, true));
+l1_table03.put(List.of("f24", "ca18", "d14", 1230, 37093, 55, false, false, true, "a52", "e7f7", 3508, 0, false, true));
+l1_table03.put(List.of("bf3f8", "b85e", "a6f", 11, 90, 64, true, false, true, "e5e", "f46", 0, 0, false, true));
+l1_table03.put(Arrays.asList("b7de", "f3e2", "cf40", 153898, 0, 17459, true, false, false, "cc4f", "bac8", 0, 0, null, false));
+l1_table03.remove("b789");
+l1_table03.put(List.of("d7e3", "d538", "b360", 1158, 1, 114, false, true, true, "bae7", "e1f6f", 0, 0, true, false));
+l1_table03.put(List.of("f29a", "ab3c", "d1ac", 96, 0, 520, false, true, true, "e4fe", "af64e", 0, 0, true, true));
+l1_table03.put(List.of("ffe1", "a202", "f3a", 269, 25, 0, false, true, false, "dd26", "efdc", 156, 11, false, false));
+l1_table03.remove("eeb2");
+l1_table03.put(List.of("b685", "ea57", "ea68", 543, 0, 0, true, true, true, "f22e", "d983", 0, 5, true, false));
+l1_table03.remove("db74");
+l1_table03.put(List.of("e52c", "befa", "b443", 2001, 0, 0, true, true, true, "c3b3", "eaf", 119, 0, true, false));
+l1_table03.get("a6a7");
+l1_table03.put(List.of("d307", "d394", "d44f", 133, 64, 587, false, true, true, "b7a7", "d21a", 52, 0, false, true));
+l1_table03.remove("ef62");
+l1_table03.put(List.of("dbf5", "b644", "ae4", 0, 0, 23065, true, false, false, "b297", "a254", 63, 0, true, false));
+l1_table03.put(List.of("b06b", "d95", "dcba", 66, 94, 1, true, false, true, "c77", "e3c4", 119671, 5000, true, true));
+l1_table03.put(List.of("cfdf", "b7c0", "c83f", 151, 0, 13855, true, true, false, "b6fc", "bc2e", 54844, 3006, true, true));
+l1_table03.remove("e7aa");
+l1_table03.put(List.of("b742", "b4d", "fd5c", 1, 333, 12, true, false, true, "e29e", "b67", 8806, 65, false, false));
+l1_table03.put(List.of("daa3", "d90", "a260", 0, 0, 0, true, false, false, "f82", "fe6b", 0, 10, true, false));
+l1_table03.put(List.of("b32b", "aeb9", "aefd", 1199, 16574, 0, true, false, true, "b01e", "ff92", 1, 38, true, false));
+l1_table03.put(List.of("f61", "f7b", "afd7", 0, 0, 0, true, true, true, "b078d", "b2ec", 0, 0, false, false));
+l1_table03.put(List.of("a0a", "b884", "fd84", 0, 15066, 137, false, false, false, "fdd0", "ced1", 7489, 0, true, true));
+l1_table03.put(List.of("a2cf", "d84", "c63e", 0, 7, 6838, true, false, true, "f9d71", "e518", 1, 1065, true, true));
+l1_table03.put(List.of("ac812", "ee5b", "df2", 0, 0, 147, true, true, false, "a5ae", "ddc", 4415, 27216, false, false));
+l1_table03.put(List.of("a1d", "cb1a9", "bd12", 0, 1, 0, true, true, false, "d60f", "d45", 3, 0, false, false));
+l1_table03.remove("e359");
+l1_table03.put(List.of("bdb7", "ede8", "d4a", 0, 122, 1998, false, false, false, "ae14", "a62e", 9, 0, false, true));
+l1_table03.put(List.of("b33d", "ea5c5", "c144", 0, 320, 102329, false, false, true, "fef6", "f7e", 19, 622, true, true));
+l1_table03.remove("b1e3");
+l1_table03.get("aa23");
+l1_table03.put(List.of("ef24", "e349", "d37b", 0, 741, 0, false, true, false, "fa48", "af82", 112, 0, false, false));
+l1_table03.remove("f147");
+l1_table03.put(List.of("a2c7", "e02", "e687", 0, 0, 3, true, false, false, "d034", "a928", 0, 2, false, true));
+l1_table03.put(List.of("f00", "ce121", "f1af", 192, 202, 14211, true, true, false, "b9f2", "a1d1", 588, 0, true, false));
+l1_table03.put(List.of("c6d6", "abec", "db2d", 155, 587, 3164, false, false, false, "d101", "df47", 0, 0, false, true));
+l1_table03.put(List.of("ce21", "a27", "d8a4", 0, 4, 0, false, true, true, "d3ac", "cb32", 0, 0, true, false));
+l1_table03.put(List.of("be6e", "f900", "e91", 86362, 0, 32, true, false, true, "d4e", "bfcf", 0, 582, true, true));
+l1_table03.remove("d0379");
+l1_table03.remove("b783");
+l1_table03.put(List.of("e2d3", "d62", "c4ed", 2, 13312, 2, false, false, false, "edb4", "e8c8", 174044, 0, true, false));
+l1_table03.put(List.of("e5a3", "a263c", "f965", 595, 26789, 3, true, false, false, "f16b", "d1c4", 54433, 8284, false, false));
+l1_table03.remove("da25");
+l1_table03.get("ee34");
+l1_table03.put(List.of("b4f4", "fc3", "ef1a", 142, 2461, 0, true, false, true, "e422", "d191", 0, 0, true, true));
+l1_table03.remove("be32c");
+l1_table03.remove("d94b");
+l1_table03.put(List.of("f1f8", "f97", "da92", 81, 0, 0, false, false, true, "dffa", "d473e", 68, 0, true, false));
+l1_table03.put(List.of("ae13a", "c69", "ed8c", 4, 0, 48, true, true, false, "f1c3", "b736", 0, 0, true, false));
+l1_table03.put(List.of("ef9", "bbc2", "eb0", 3814, 13, 0, false, true, false, "b2bb", "a508", 67, 0, true, true));
+l1_table03.put(List.of("da36", "c46a", "b484", 0, 0, 14, false, true, true, "b9783", "adf2", 9, 20, false, false));
+l1_table03.put(Arrays.asList("cc3", null, "b3235", 1002, 0, 39, false, true, false, "e8b", "a428", 0, 308, false, true));
+l1_table03.put(List.of("f8d0", "f5f09", "dc2", 19772, 256679, 0, false, false, false, "e76", "dddb", 733, 0, true, false));
+l1_table03.put(List.of("dfbd", "d699", "e608", 0, 28, 0, false, false, false, "a8fb", "e50d8", 845, 0, false, false));
+l1_table03.put(List.of("b57c", "cb2", "b24c", 621, 0, 0, false, true, true, "cbad", "e2e6", 1, 0, true, true));
+l1_table03.put(List.of("bbd", "f041", "de16", 0, 6094, 228, false, true, false, "c8963", "f91", 289, 0, true, false));
+l1_table03.put(List.of("dbba0", "b694", "a37", 57, 0, 0, true, false, true, "f982", "b8cb", 0, 88357, false, false));
+l1_table03.put(List.of("b1e7", "f681", "d871", 0, 0, 0, true, false, true, "a419", "e8ac", 0, 33, true, false));
+l1_table03.put(List.of("c7cd", "a05b", "d246", 460, 410, 49624, false, true, true, "b881", "b28f", 0, 0, true, false));
+l1_table03.put(List.of("df53", "b304", "b07d", 0, 39, 0, false, true, true, "c75a", "c2f9", 26, 0, false, true));
+l1_table03.put(List.of("ab50", "cdfa", "eeff", 4, 0, 0, false, false, false, "c8bb", "e337", 0, 18, true, true));
+l1_table03.put(List.of("f6ef", "d11f", "b13c6", 2574, 0, 4, true, false, true, "bbc3", "e1b3", 2, 251, true, true));
+l1_table03.put(List.of("dee", "cde4", "c251", 10, 0, 74, true, false, false, "c82c", "b03", 426, 0, false, true));
+l1_table03.put(List.of("d447", "d5ac", "c39c", 2, 2292, 1387, true, true, false, "eaa", "b4f", 12, 10, false, false));
+l1_table03.remove("f9b3");
+l1_table03.put(List.of("d8f3", "f57", "b746", 370, 56, 6, true, true, true, "c7e7", "a3a5", 787, 0, false, true));
+l1_table03.put(Arrays.asList("e579", "ef7", "bdd9", null, null, 100, true, true, false, "f7e7", "b42d", 31, 1089, true, true));
+l1_table03.put(List.of("df2f", "c94b", "e6b", 0, 51, 16, true, false, true, "cd0c", "d9ab", 253, 0, false, false));
+l1_table03.put(List.of("bee", "cb61", "cc42", 7, 10, 1, true, false, false, "db84", "ef39", 0, 25, true, true));
+l1_table03.put(List.of("a1f2", "ca29", "da7", 372, 0, 0, false, true, true, "b05b5", "ea6e", 11451, 0, false, false));
+l1_table03.put(List.of("ecb", "e701", "f5b3e", 0, 31419, 472, true, true, false, "d9fb", "aab", 3092, 0, true, false));
+l1_table03.get("a9c3");
+l1_table03.put(List.of("b3de", "d407", "ce16", 0, 295, 25, true, true, true, "a48b", "eb60", 0, 0, true, false));
+l1_table03.get("f758");
+l1_table03.get("bacf");
+l1_table03.put(List.of("d35f", "dce5", "b05c", 3668, 1, 0, true, false, false, "f976", "df7f", 0, 1, true, true));
+l1_table03.get("b56d");
+l1_table03.put(List.of("b512", "b34", "f293", 0, 21, 0, true, false, false, "f92cb", "e0ea8", 57, 37, true, true));
+l1_table03.put(List.of("f116", "a744", "a7a", 0, 981, 0, false, true, true, "c4fc", "ec94", 0, 0, false, false));
+l1_table03.put(List.of("abe8", "e5ac", "abcb", 45, 15, 6, false, false, true, "e81", "df7d", 14, 112982, true, false));
+l1_table03.put(List.of("edcf", "bf9", "d51d", 0, 138079, 8, false, false, false, "d299", "ed96", 0, 287, false, false));
+l1_table03.get("d3fd");
+l1_table03.put(List.of("d9f9", "a58f", "b4bb", 14089, 0, 0, true, true, false, "ae87", "f09cf", 193, 0, false, true));
+l1_table03.get("abb2f");
+l1_table03.put(List.of("bed5", "e565", "bb1", 0, 245, 6, true, true, true, "e4ff", "c4c", 0, 4283, false, true));
+l1_table03.get("fd3");
+l1_table03.put(List.of("b887", "e93", "e75", 2500, 0, 0, false, false, true, "d738", "c739", 60045, 5504, false, false));
+l1_table03.put(List.of("ece0", "a172", "f6aa", 17, 43, 1826, true, false, true, "f446", "c6f", 4422, 0, true, true));
+l1_table03.put(List.of("e5cc", "caa2", "fe0a", 0, 2, 0, false, true, false, "ebc7", "fc83", 0, 3312, true, true));
+l1_table03.put(List.of("e4f4", "d4c", "c77d3", 0, 3, 0, true, false, true, "b754", "ad07", 0, 291, false, true));
+l1_table03.get("d5e4");
+l1_table03.put(List.of("ff0", "acdee", "a7f", 18, 3, 270, false, true, false, "b5be", "a610", 0, 0, true, false));
+l1_table03.put(Arrays.asList(null, "d92e", "f244c", 80, 960, 0, false, true, false, "cf3e", "aed", 6, 0, true, false));
+l1_table03.put(List.of("f8bee", "c978", "e30d", 6, 94, 0, true, false, false, "a451", "cff", 0, 375, true, false));
+l1_table03.remove("c9d6");
+l1_table03.put(List.of("fb3", "fb4e", "b5bb", 0, 2, 105, false, true, true, "e97", "c0e4", 0, 1, true, false));
+l1_table03.put(List.of("f91d", "dbc8", "d48", 48, 0, 27, false, true, true, "a335", "b99", 122, 247, true, true));
+l1_table03.put(List.of("c28b", "b89a", "c487", 0, 13, 6, false, true, true, "f392", "f70", 156, 0, true, false));
+l1_table03.remove("be3");
+l1_table03.get("cad");
+l1_table03.put(Arrays.asList("fde8", "b6fa", "ab6b", 0, 0, 154637, false, null, true, "dda7", "b862", 61, 12917, false, null));
+l1_table03.put(List.of("c686", "d276", "f8d", 45, 109, 14, false, false, true, "f514", "cae7", 0, 0, true, true));
+l1_table03.put(List.of("a20c", "a88e", "a25f", 0, 0, 72, true, false, false, "a4f0", "bef5", 0, 135, false, true));
+l1_table03.remove("f87d");
+l1_table03.remove("f4f1");
+l1_table03.put(List.of("a9608", "b586", "cb21", 12, 0, 0, false, true, true, "e03", "d3ab", 10, 0, true, false));
+l1_table03.put(List.of("ea73", "f43d", "aaea", 0, 0, 772, true, true, true, "b05d", "a8ae", 1075, 1222, false, true));
+l1_table03.put(List.of("ca0", "f3f8", "a873a", 0, 220, 0, false, false, false, "cd95", "ce0cb", 109, 18954, false, true));
+l1_table03.put(List.of("e6e8", "b50e", "dd0", 15, 70, 1, true, false, false, "a67d", "b3b7b", 0, 379, true, true));
+l1_table03.remove("f450");
+l1_table03.put(List.of("a8d2", "c91", "f377", 9, 6957, 1143, false, false, false, "c404", "c24", 1048, 7115, true, true));
+l1_table03.remove("a981c");
+l1_table03.put(List.of("d24a", "bd0e", "a670", 48, 0, 5, false, true, false, "ffca", "d7bd", 0, 75, false, false));
+l1_table03.put(List.of("b03d", "f53b", "b130", 0, 0, 29, true, false, true, "e85", "bd71", 27217, 12923, true, false));
+l1_table03.remove("de8c6");
+l1_table03.remove("a1f8f");
+l1_table03.put(List.of("bae3", "b669", "d2d0", 0, 406, 148, false, true, false, "a011", "a984", 338, 0, true, true));
+l1_table03.put(List.of("eb0cf", "c9b0", "bbb9", 0, 897, 66296, true, true, true, "c626", "fb1", 15, 0, false, true));
+l1_table03.get("b981");
+l1_table03.get("e0b2");
+l1_table03.get("dda6");
+l1_table03.put(List.of("f2d2", "ecaf", "e872", 605, 206, 2, true, true, true, "b7f0c", "c1bf", 109, 352, true, false));
+l1_table03.get("d03b");
+l1_table03.put(Arrays.asList("f090", "e557a", "ea90", 0, 0, 1, false, null, true, "b6ae", "bb02", 2, 700, true, true));
+l1_table03.get("b3fc");
+l1_table03.put(List.of("a0d3", "d30b", "f58b", 1, 0, 0, false, false, false, "b11b", "a5b8", 2, 7, false, true));
+l1_table03.put(List.of("fa92", "eb82", "fb64", 0, 0, 0, true, false, true, "e01a", "d047", 2, 0, true, false));
+l1_table03.put(List.of("da83", "be38", "c08e", 156, 386, 34915, true, false, false, "fbcb", "ec9", 494, 1223, false, true));
+l1_table03.put(List.of("f57b", "d8dd", "bcfa", 69, 5848, 0, true, false, true, "ff96", "b3c2", 5628, 0, true, true));
+l1_table03.put(List.of("a79a", "e2c8", "d69d", 0, 0, 44, false, false, true, "b4ac", "c6bf", 1367, 2880, true, false));
+l1_table03.get("c812");
+l1_table03.remove("cea");
+l1_table03.remove("fb9");
+l1_table03.get("bb5b");
+l1_table03.remove("aaef");
+l1_table03.remove("cea4");
+l1_table03.remove("ca7c");
+l1_table03.remove("d1cc");
+l1_table03.put(List.of("f156", "b1ab", "c28b0", 0, 0, 8, true, false, false, "d506", "af5f", 14187, 0, true, false));
+l1_table03.remove("ecc6");
+l1_table03.put(Arrays.asList("d040", "cf00", null, 8, 0, 17, true, true, true, "cb15", "d401", 0, 0, true, false));
+l1_table03.put(List.of("e250", "dfe0", "a05d6", 696, 4090, 0, false, true, false, "e90e", "a07b", 477, 0, false, true));
+l1_table03.put(List.of("ff26", "c2dad", "a929", 193738, 2, 0, false, true, true, "ae42", "e62f", 1134807, 0, false, false));
+l1_table03.put(List.of("a73f", "bd14", "b16", 29, 0, 0, true, false, true, "a2c9", "ad2c", 0, 0, true, false));
+l1_table03.put(Arrays.asList("de62", "dec6", "b1d2", 0, null, 277, false, false, true, "b4b8", "b096b", 28880, 14, false, false));
+l1_table03.remove("b7cd");
+l1_table03.put(List.of("bc92", "ec24", "f16a", 66, 1, 0, false, true, false, "c6e3", "b38", 90, 0, true, false));
+l1_table03.put(List.of("c0886", "c08", "b391", 0, 320, 0, false, true, true, "dbd6", "bec1", 34, 94, true, true));
+l1_table03.put(List.of("df37", "ae92", "bd4c", 1, 411, 0, false, false, true, "fab06", "b5b1", 0, 0, false, false));
+l1_table03.put(List.of("b7ac", "a7fe", "f80f", 239018, 2286, 18, false, true, true, "df00", "acee", 0, 7373, true, true));
+l1_table03.remove("c973");
+l1_table03.get("bab3e");
+l1_table03.put(List.of("b20b", "dd9f", "bc8aa", 0, 68, 917, true, false, true, "b91b", "cb99", 7, 1, false, false));
+l1_table03.put(Arrays.asList("b6ac", "c29c", null, 0, 0, 0, true, false, true, "b7b8", "b610", 28, 4, false, false));
+l1_table03.put(List.of("a7406", "b9b5", "d5d3", 4122, 7, 0, true, true, false, "da02", "c05", 0, 1038, true, false));
+l1_table03.get("ae7d");
+l1_table03.put(List.of("a2f6", "decb", "d74c", 1182, 8700, 1542, true, false, true, "aa52", "aa83", 0, 2, true, true));
+l1_table03.put(List.of("f23a", "be4", "a181", 0, 31, 0, true, false, true, "c852", "b674", 112, 0, false, false));
+l1_table03.get("f0f6");
+l1_table03.put(List.of("e89", "ff43", "e607", 0, 0, 0, true, false, false, "fed", "b9de", 12, 118, true, false));
+l1_table03.put(List.of("c743", "b6efe", "af2d", 0, 2348, 192642, true, false, false, "d8233", "de17", 22212, 2, true, true));
+l1_table03.put(List.of("cb8b", "c798", "a19c", 7, 0, 0, false, false, false, "f17", "c9d0", 0, 0, false, false));
+l1_table03.put(List.of("b19f", "af17", "ad4b", 51, 6043, 13, false, false, false, "d7b0", "cf58", 0, 2, false, false));
+l1_table03.put(List.of("d2c1", "c24b", "b2bc", 0, 20, 0, false, true, false, "e678", "cdb", 124, 1, false, true));
+l1_table03.put(List.of("b653", "e36", "f60", 0, 0, 0, true, true, false, "f992", "b1d0", 15, 0, true, false));
+l1_table03.remove("ba8");
+l1_table03.remove("ef0d");
+l1_table03.get("e140");
+l1_table03.get("c2f7");
+l1_table03.put(Arrays.asList("b2f6", "b37d", "d774", 0, 6014, 1, null, false, false, "b611", "c8a8", 0, 353, true, false));
+l1_table03.put(List.of("db870", "e28a", "a674", 0, 0, 100, false, false, false, "a5d", "c5c8", 0, 0, true, true));
+l1_table03.put(List.of("bf96", "ba33", "f56a", 315, 0, 0, false, true, false, "d29e", "cb64", 28, 0, false, true));
+l1_table03.remove("b9ff");
+l1_table03.get("e5e8");
+l1_table03.put(List.of("d243", "b806", "dad3", 512, 0, 0, false, true, false, "c9cd", "de2a", 10, 810, false, false));
+l1_table03.get("e3bd");
+l1_table03.put(List.of("c46b", "fec7", "e644", 788, 0, 0, false, false, true, "d96e", "cb44", 27411, 0, true, true));
+l1_table03.put(Arrays.asList("e560", "bd80", "e684", 102, 0, 12, true, true, false, "b6b7", null, null, 25, true, true));
+l1_table03.put(List.of("ab13", "aee99", "b76b", 40, 15634, 0, false, false, false, "d0a4", "e3ec", 0, 0, false, true));
+l1_table03.put(List.of("d02", "b131", "da4", 22, 0, 52, false, false, false, "da2b", "a4c8", 1, 4595194, true, true));
+l1_table03.remove("c089");
+l1_table03.put(List.of("e13c", "b4a1", "ce511", 1792, 5413, 256, true, true, true, "d52b", "a15a", 0, 0, false, true));
+l1_table03.put(List.of("c802", "c695", "a4c6", 22026, 0, 82379, false, true, true, "ad69", "a8c0", 0, 84043, false, true));
+l1_table03.put(List.of("f82b", "e9b1", "f518", 266, 0, 62, true, false, true, "f49b", "ab7f", 0, 0, false, true));
+l1_table03.put(List.of("b59a", "b67c", "fff9", 0, 0, 1343, false, false, true, "f37c", "cd06", 99, 572, true, false));
+l1_table03.remove("ed8");
+l1_table03.put(List.of("ae9c", "cdd2", "c9293", 4385, 1, 0, true, false, true, "e14e", "e3b0", 0, 0, false, true));
+l1_table03.put(List.of("b85ba", "c41f", "f2e1", 0, 0, 39, false, false, false, "c0d7", "bcec", 7, 0, false, true));
+l1_table03.put(List.of("d2b05", "d23", "a819", 3586, 6, 0, true, false, true, "bd69", "a50c", 60, 12, false, false));
+l1_table03.put(Arrays.asList("ef81", "a001", "cd8b", 3, 401, 19, false, false, null, "b9db", "fb5d", 2, 81, false, false));
+l1_table03.remove("f7c1");
+l1_table03.remove("bae");
+l1_table03.put(List.of("ff42", "b47b", "d473", 0, 151, 0, false, true, true, "ed2d", "c2af", 0, 202, false, false));
+l1_table03.put(List.of("f278", "a76d2", "c749", 0, 0, 3862, false, false, false, "d979", "ac7c", 3, 0, false, false));
+l1_table03.put(List.of("f7a87", "ba3d4", "dba8", 298, 2, 0, true, false, false, "a72d", "f348", 52839, 0, false, false));
+l1_table03.put(List.of("b93", "c577", "eae20", 0, 9, 7, false, false, false, "c173", "cd30f", 0, 363, true, true));
+l1_table03.put(List.of("d20f", "a7a3", "dc81", 9721, 28, 3991, true, true, true, "ab36", "dbd2", 1, 0, true, true));
+l1_table03.put(List.of("e95", "e081", "f432", 0, 17, 0, false, true, false, "c2db", "d5f3", 15, 0, true, true));
+l1_table03.remove("c660");
+l1_table03.put(List.of("da19", "b916", "e5ee", 1536, 0, 0, true, false, true, "c016", "b6a7", 0, 37, false, true));
+l1_table03.put(List.of("ce79", "b910", "e6cb", 97, 0, 0, false, false, false, "b7bc", "d213", 0, 580, false, true));
+l1_table03.remove("c10f");
+l1_table03.put(List.of("ae27", "d317", "bebf", 35699, 7, 10, false, false, true, "c312", "aa2", 8, 0, true, false));
+l1_table03.put(Arrays.asList("ac1e9", "a3d4", "f6f", 678, 0, 60, true, false, true, "dfc7", "d901f", 81, 0, false, null));
+l1_table03.get("c9c3");
+l1_table03.put(List.of("b302", "b58d", "c116", 5844, 5, 3374, false, false, true, "c629", "dbb2", 1008, 0, false, true));
+l1_table03.put(List.of("c28d", "a431", "adb", 4, 0, 2136, true, true, false, "d8ee", "f072", 1661, 12, true, false));
+l1_table03.put(List.of("bd60", "a8a2", "a2c6", 323, 0, 0, false, false, true, "f49f", "ce1b", 81, 0, true, true));
+l1_table03.remove("e6c3");
+l1_table03.put(List.of("ccc5", "bec6", "bef8", 0, 23, 0, true, false, true, "d9b6", "aea8", 36, 1, false, true));
+l1_table03.put(List.of("f089", "de71", "cf0c", 5, 0, 0, false, false, false, "c9a6", "a2f6e", 298, 785, true, false));
+l1_table03.remove("d5ad");
+l1_table03.remove("ec8");
+l1_table03.remove("ad83");
+l1_table03.put(List.of("cc73", "b5b", "ecc", 682, 3136, 2, false, false, false, "b36c9", "d848", 0, 1337, true, false));
+l1_table03.remove("a215");
+l1_table03.put(List.of("e838", "b9c8", "a211", 0, 0, 72957, true, false, true, "e044", "b0581", 0, 6, false, true));
+l1_table03.remove("a3c8");
+l1_table03.put(Arrays.asList(null, "c220", "a6de", 0, 92, 130, false, false, false, "f0d8", "bdbf", 173, 3668, true, true));
+l1_table03.put(Arrays.asList("cd9b", "a055", "b53d", 0, 0, 0, false, false, false, "b07b", "ef40", 1836, null, false, true));
+l1_table03.put(List.of("d218", "f1e1", "fb44", 1420, 507, 48, true, false, true, "a222", "a236", 0, 13, true, false));
+l1_table03.remove("a0b9");
+l1_table03.put(List.of("d302", "d21e", "c9d9", 0, 6, 93, false, true, false, "ca3a", "a0e", 0, 2454, false, true));
+l1_table03.put(List.of("cecd", "f8d8", "af3b2", 0, 0, 167, false, true, false, "bdbe", "b418", 0, 32, true, false));
+l1_table03.put(Arrays.asList("e360", "d4c24", "c488f", 38078, 31, 0, true, false, false, "f9d5", "ae63", 2, null, true, true));
+l1_table03.put(List.of("ce0", "e135", "d1c5", 0, 0, 41, false, false, true, "b71b", "bc8d", 2851, 10, false, false));
+l1_table03.put(List.of("b044", "b739b", "a4b1", 0, 4, 2964, true, true, true, "cb4fe", "a14", 335, 0, true, true));
+l1_table03.remove("c12f");
+l1_table03.put(List.of("dfe1", "a0d9", "d4d3", 6, 339, 0, false, true, true, "ab54", "d25b", 7, 0, false, true));
+l1_table03.put(List.of("aacd9", "e786", "a43d", 1, 0, 2, false, false, true, "b4fe", "d657", 144437, 0, true, false));
+l1_table03.put(Arrays.asList("ca37d", "e9ef", "a5d2", 8, 0, 0, null, true, false, "acfa", "a17b", 11, 0, true, true));
+l1_table03.put(List.of("a46f", "ff5", "f945", 33, 783, 1329, true, false, true, "aa51", "a9f0", 3, 147, false, false));
+l1_table03.remove("a1aa");
+l1_table03.put(List.of("e156", "d301", "dfb8", 0, 2, 0, false, true, false, "fb54", "c8fb", 0, 46, false, false));
+l1_table03.put(List.of("c775", "e737", "a59", 116, 0, 16889, false, false, false, "ec51", "d4bdb", 44, 0, false, true));
+l1_table03.put(List.of("b3a3", "cc02", "b20ad", 0, 0, 0, true, true, false, "bf38", "b1eb", 0, 93477, false, true));
+l1_table03.get("bb7a");
+l1_table03.put(List.of("a07f", "af42", "e80c", 0, 0, 5129, false, true, true, "d866", "fea51", 0, 0, true, true));
+l1_table03.put(Arrays.asList("a7c2", null, "a284", 58, 15, 0, true, true, false, "b945", "c02c", 0, 0, false, false));
+l1_table03.put(List.of("fc13", "e1d8", "caa4", 0, 1, 0, false, false, false, "a634", "acf5", 78, 0, true, true));
+l1_table03.put(List.of("ce45", "e2f2", "ceaf", 7666, 4444, 14, false, true, true, "ac69", "d9d7", 1, 1442, true, true));
+l1_table03.put(List.of("ca54", "fe1", "ce66", 48, 158, 9489, true, false, true, "e18c", "b334", 390, 42, true, false));
+l1_table03.put(List.of("ccd9", "aacdf", "fba5", 0, 0, 16370, true, false, true, "b39e", "b045", 0, 0, true, true));
+l1_table03.put(List.of("cefd", "ad18", "fd9a", 0, 0, 0, true, false, false, "a32b", "d781", 3, 0, false, false));
+l1_table03.remove("eaab");
+l1_table03.get("afea");
+l1_table03.put(List.of("e244", "b5e9", "f08", 393, 0, 133, false, false, true, "bb58", "bde9", 1, 331, false, true));
+l1_table03.get("bc38");
+l1_table03.put(List.of("b84b", "a09d", "baf9", 327, 0, 1, true, false, false, "c784", "c1fa", 46, 0, true, false));
+l1_table03.put(List.of("be0e", "a47d", "a2a1", 0, 160, 118984, true, false, true, "ec9b", "ee44", 9, 2, false, true));
+l1_table03.put(List.of("a208", "eb77", "c27f", 926, 0, 1, true, false, false, "a416", "edfed", 1, 1, true, false));
+l1_table03.put(List.of("e1b2", "b7b1", "b3b6", 11197, 0, 2, true, false, true, "b27a", "bf56", 22, 0, false, true));
+l1_table03.put(List.of("a4e2", "cc21", "c4df", 2699, 3, 0, false, false, true, "d8ccf", "deaa", 1308, 0, true, true));
+l1_table03.put(List.of("bf01", "aed4", "bb6a", 0, 1646, 0, true, false, false, "ab04", "c7f7", 310, 0, false, true));
+l1_table03.remove("a8fe");
+l1_table03.put(List.of("f35b", "d004", "aa02", 817, 807, 913, true, false, true, "a965", "cd279", 2, 958, true, false));
+l1_table03.put(List.of("ffb", "c40b", "f8e5", 0, 20, 0, false, true, true, "c767", "fbc", 421, 0, false, false));
+l1_table03.put(List.of("cdf4", "d592", "ae88", 3559, 143, 0, true, false, false, "e226", "f9b0", 0, 0, true, true));
+l1_table03.put(List.of("edc8", "bf766", "e4a4", 0, 196, 276534, false, true, true, "a4af", "cac2", 19223, 55, true, true));
+l1_table03.remove("b6fd");
+l1_table03.put(List.of("abf3", "a875", "f87", 0, 1, 14550, false, false, false, "c882", "eba4", 0, 0, false, true));
+l1_table03.get("eaaf");
+l1_table03.put(List.of("b02e", "ed57", "f2fb", 0, 2124, 571, true, false, false, "ee5", "aa9d", 32, 0, false, true));
+l1_table03.put(Arrays.asList("cc79", null, "aff5", 0, 128, 21833, true, true, true, "e1f1", "a7cd", 0, 0, false, true));
+l1_table03.get("ac23");
+l1_table03.put(List.of("b135", "f4c8", "b477", 4957, 0, 13, true, true, false, "c2d0c", "a3fe", 0, 28881, false, true));
+l1_table03.remove("b990");
+l1_table03.put(List.of("e7290", "bfc5", "a93a", 0, 8, 0, false, false, false, "ae91", "c2c2", 8084, 68502, true, false));
+l1_table03.remove("b8a44");
+l1_table03.put(List.of("eb76", "efd2", "e93e", 30, 1678, 0, false, false, true, "aaaf", "eab7", 91, 0, false, false));
+l1_table03.get("c9f5");
+l1_table03.put(Arrays.asList("dd5e", "b575", "f8b6", 8861, 0, 0, true, false, true, "e0ee", "d3e3", 8, 0, true, null));
+l1_table03.get("db62");
+l1_table03.remove("e657");
+l1_table03.get("b562");
+l1_table03.put(List.of("bc97", "dc2d", "a41e", 1073, 7917, 0, false, true, false, "d1828", "f4a5", 38, 131, false, false));
+l1_table03.put(List.of("f45", "eae4", "ab8a", 192, 4, 85, false, true, false, "a4ef", "c374", 0, 0, true, false));
+l1_table03.put(Arrays.asList("f34", "ae1d", "a8ca", 0, 462, 23, false, true, true, "ab1c", "e14d", null, 46673, true, false));
+l1_table03.put(Arrays.asList("e91a", "c489", "d4d7", 29, null, 7, false, false, false, "bc89", "a8e5", 262, 2406, true, true));
+l1_table03.put(List.of("ac71", "f631", "fc63", 8, 0, 1, false, false, true, "fd02", "a9d2c", 2035, 0, true, false));
+l1_table03.put(List.of("b4b3", "efa", "c24e", 0, 2632, 443, false, false, false, "c713", "b314e", 43165, 0, false, false));
+l1_table03.put(List.of("ad06", "d52", "e6169", 0, 0, 2, false, true, true, "d356", "dfe", 4, 0, true, true));
+l1_table03.put(List.of("b21e3", "e5ab", "cc70", 485, 0, 0, false, true, true, "db71", "b216", 1360, 60, true, true));
+l1_table03.put(Arrays.asList("dcea", "cb07", "b4e4", null, 0, 2, true, false, true, "c99f", "b1d9", 5, 134, true, false));
+l1_table03.put(List.of("a45aa", "def4", "cf8a", 0, 0, 0, false, false, true, "dfc", "b7ad", 5, 0, false, true));
+l1_table03.remove("f1d3");
+l1_table03.put(List.of("fb62", "fd6e", "d304", 11, 0, 1, true, true, true, "a60e", "d949", 1, 0, true, true));
+l1_table03.put(List.of("a623", "d2b1", "b695", 0, 3965, 604, false, false, false, "fd73", "b8d7", 0, 2, false, false));
+l1_table03.put(List.of("fed8", "a5138", "f425", 1914, 0, 132, true, false, false, "a314", "a2c4", 0, 0, false, true));
+l1_table03.put(List.of("be0b", "e238", "a4ae", 29, 6, 406, true, false, true, "f957", "dd20", 0, 0, false, true));
+l1_table03.put(List.of("d51", "cfda", "a16c", 0, 1296, 0, true, true, false, "aec6", "ebbc", 0, 6, false, true));
+l1_table03.put(List.of("f2a0", "a88a5", "a37d", 0, 0, 385, false, true, false, "f71bb", "a3b0", 7, 0, false, false));
+l1_table03.put(List.of("ec7", "fd4f", "acc8", 0, 39009, 1, false, true, false, "f014", "c71", 1485, 0, false, false));
+l1_table03.put(List.of("f83f", "b2bf", "da4a", 0, 2193, 0, true, true, true, "eb25", "b317", 8, 26, true, false));
+l1_table03.get("f5be");
+l1_table03.put(List.of("f8797", "aec", "bfc", 817, 10, 2, true, false, true, "a4b0", "e6c", 45, 1656, true, true));
+l1_table03.put(List.of("da2d", "f3f0", "db886", 1, 0, 28, true, true, true, "a911", "fa1d", 2, 64, true, false));
+l1_table03.put(List.of("c051", "f53e1", "ca9a", 0, 0, 0, false, false, true, "ed6d", "bc78", 1, 0, false, true));
+l1_table03.put(List.of("a0ab", "cb05", "b786", 0, 0, 862, false, true, true, "a488", "d032", 7077, 14751, false, false));
+l1_table03.put(Arrays.asList("de06", "d602", "cf39", 0, 0, 6248, true, false, true, "efa4", "c134", null, 66, true, false));
+l1_table03.put(List.of("f198", "b97d", "f9c5", 236, 0, 0, true, true, false, "cbe2b", "fcdd", 425, 54, true, true));
+l1_table03.put(List.of("e54f", "e3e4", "a707", 52251, 75658, 0, false, false, true, "abd0", "dee5", 2050, 0, true, false));
+l1_table03.get("d5b0");
+l1_table03.put(List.of("afef", "c9ce", "dc88", 233, 1, 155, true, false, false, "b9bc", "fd40", 672, 0, true, false));
+l1_table03.put(List.of("de9c", "a73e", "bdad", 0, 4, 486, false, true, true, "c5f1", "caf9", 0, 0, false, false));
+l1_table03.put(Arrays.asList(null, "a51b", null, 3, 228, 381, true, false, true, "da3c", "bb5c", 64, 0, false, true));
+l1_table03.put(List.of("f11f", "c499f", "ce14", 321, 0, 0, true, false, true, "ce55", "d9542", 225265, 0, true, true));
+l1_table03.put(List.of("a403", "f68", "c806", 23, 0, 0, true, true, true, "de37", "f31db", 0, 0, true, false));
+l1_table03.put(List.of("ea18", "c96a", "aa7d", 3, 20, 0, false, false, true, "fbeb", "befaa", 0, 1103, false, true));
+l1_table03.put(List.of("dfc2", "a3b7", "ae2f", 0, 3, 2576, false, false, true, "aa52b", "c51a", 0, 12042, true, true));
+l1_table03.remove("da94");
+l1_table03.put(Arrays.asList("a2e7", "b3f7", "a3cd", 51, 0, 0, true, false, false, "ffdd", "df38", null, 36, false, true));
+l1_table03.put(List.of("ac7", "dab7", "dcf9c", 920, 0, 5, false, false, false, "b649", "d70", 15, 6248, false, false));
+l1_table03.put(List.of("cc50", "cb17", "e541", 0, 47, 0, true, true, false, "d1a3", "ce3c", 143, 79924, true, true));
+l1_table03.remove("be29");
+l1_table03.put(Arrays.asList("c1f", "b6a1", "b5f7", 640, 0, 7476, false, true, false, "a72f", "c05a", null, 0, true, true));
+l1_table03.put(List.of("e3a01", "c830", "a12e", 0, 7, 0, false, true, false, "d3f3", "b30a", 397, 36, true, false));
+l1_table03.put(List.of("d445", "e494", "d0de", 0, 47649, 0, true, false, true, "ce12", "b0ef", 8, 439, true, false));
+l1_table03.put(List.of("b5aa", "bf30", "bd98", 0, 0, 16, true, true, true, "be96", "b407", 0, 0, true, true));
+l1_table03.put(List.of("f5df", "cfe3", "b09c6", 0, 318, 1, true, false, false, "a62d", "c9fd", 0, 2867, true, false));
+l1_table03.remove("ff6");
+l1_table03.put(List.of("cf68", "afca", "e40b", 0, 91, 36627, true, true, false, "d94a", "a337", 0, 0, false, true));
+l1_table03.put(List.of("db70", "ca2e", "e22c", 34, 1, 2896, true, true, false, "de96", "e31a4", 0, 0, false, false));
+l1_table03.put(List.of("a1f6", "c990", "d34d", 10, 24677, 871, false, false, false, "f75d1", "a362", 0, 0, false, true));
+l1_table03.remove("e519");
+l1_table03.put(List.of("c621", "a73d", "b4d1", 0, 63037, 0, true, true, true, "c8ed", "c0f", 0, 0, true, false));
+l1_table03.get("d0c8");
+l1_table03.put(List.of("de11", "d038", "a05a", 296, 148, 948, true, true, true, "d909", "ff9b", 2047, 220, true, false));
+l1_table03.put(List.of("dc3", "f0d", "ad0e", 0, 0, 129758, false, false, false, "fdbd", "b0b2", 322, 0, false, false));
+l1_table03.put(List.of("d659", "da9a", "ac44", 0, 15171, 0, false, false, true, "e9f9a", "dbab3", 2, 840, true, false));
+l1_table03.put(List.of("f700", "c31a", "c620", 0, 2, 905, false, true, true, "ab00", "b153", 131, 322235, false, true));
+l1_table03.get("ca79");
+l1_table03.remove("b395");
+l1_table03.put(List.of("e023", "d3c0", "f201", 143, 0, 120952, true, false, false, "a3fa", "e7a8", 71036, 0, false, false));
+l1_table03.put(List.of("ade7", "c15f", "bfe8", 0, 0, 614, false, true, false, "dfdd", "a69c", 15, 0, false, false));
+l1_table03.put(Arrays.asList(null, "e01f", "bc45", 0, 692, 0, true, false, true, "eeeb", "bea8", 0, 2629, false, true));
+l1_table03.get("c35a");
+l1_table03.put(List.of("dfd8", "b014", "c1608", 20744, 81, 68, false, true, false, "c23a8", "e3f3", 0, 0, false, true));
+l1_table03.get("bd06");
+l1_table03.put(List.of("edcc", "f2d1", "cda3", 23059, 2968, 20, true, true, false, "a088", "f524", 2, 0, true, false));
+l1_table03.put(List.of("c3bb", "f8f", "a2ea", 12402, 47, 112, false, true, true, "ccdc", "bed2f", 0, 428, false, true));
+l1_table03.put(List.of("c387", "f512", "e813", 0, 87, 1, false, false, true, "d2ca", "b6e7", 0, 0, true, true));
+l1_table03.put(List.of("ea7", "f6f56", "fa1a", 0, 9, 0, true, false, true, "bd05", "f972", 5, 681, true, false));
+l1_table03.get("f2c6");
+l1_table03.put(Arrays.asList("acec", "bfa4", "c34b", 0, 1, 0, true, false, false, "ddf9", "c1b0", null, 140, true, true));
+l1_table03.put(List.of("d955", "ce6f", "dbcb", 25241, 49, 624, true, true, false, "ebb8", "d1e3", 0, 1527, true, true));
+l1_table03.remove("b583");
+l1_table03.put(Arrays.asList("fade", "df9a", "a390", 0, 272, 12694, false, false, false, "ca293", null, 0, 0, false, false));
+l1_table03.put(List.of("cacf", "fa50", "b546", 0, 0, 4, true, true, true, "bb84", "c153", 0, 258, false, true));
+l1_table03.put(List.of("f3df", "b19a", "deef", 0, 0, 95, false, false, true, "ddf4", "b573", 76, 21141, false, true));
+l1_table03.put(List.of("af07", "c358", "ef3aa", 0, 6, 241, true, false, true, "b932", "bfb4", 71, 0, true, true));
+l1_table03.get("b1b3");
+l1_table03.put(List.of("bbb0", "c29a", "bfa1", 0, 0, 0, false, false, true, "ef57", "fec8", 132, 0, false, true));
+l1_table03.put(List.of("ce6c", "c3d", "be71", 0, 0, 3893, false, false, false, "fecf", "acdd", 7, 0, false, false));
+l1_table03.put(List.of("f1fe", "d10c7", "b920", 1617, 5, 0, false, false, false, "eb61", "fada", 1, 24904, false, true));
+l1_table03.put(List.of("c34a", "de25c", "a9e2", 1, 0, 1022, false, false, false, "c2e5", "aa75", 0, 14731, true, false));
+l1_table03.remove("df52");
+l1_table03.remove("c350");
+l1_table03.put(List.of("e3f4", "cea6", "d76c", 4, 0, 205, false, true, false, "cc09", "e1cf", 0, 0, true, false));
+l1_table03.put(List.of("dfa5", "aaf7", "e1fb", 0, 2191, 0, false, false, false, "c6f8", "b813", 2, 252, true, false));
+l1_table03.put(List.of("e4ee", "e319", "e6b3", 0, 2893, 2477, false, true, true, "eb37", "ccac", 0, 99452, false, false));
+l1_table03.put(List.of("b6ee", "aab0", "e999", 555, 0, 293, true, false, true, "fd8e", "c965", 28172, 5995, false, false));
+l1_table03.put(List.of("b76a", "b8df", "ae192", 3, 12237, 22, true, true, true, "d50", "ad93", 1303, 35, true, true));
+l1_table03.put(List.of("e55", "a1fe", "b7e4", 96, 0, 0, false, false, true, "f266", "ada69", 971, 0, false, false));
+l1_table03.put(List.of("f197", "cf800", "cbe8", 143, 8457, 18, true, false, true, "c038", "ed78f", 0, 0, false, true));
+l1_table03.put(List.of("d271", "fd01", "adf5", 11, 21781, 586, true, true, false, "a682", "d49d", 538, 4, false, false));
+l1_table03.put(List.of("abfd", "d4212", "b3e9", 0, 66, 0, true, true, true, "ae02", "e1e05", 781, 0, false, false));
+l1_table03.put(List.of("aea7", "d8ea", "f1e5", 0, 19, 0, false, false, true, "dda9f", "c79f", 0, 50, false, false));
+l1_table03.get("c43a");
+l1_table03.put(Arrays.asList("a9f7", "a6e2", "f31", 0, 650, 31, true, true, true, "db2cf", null, 55, 0, true, false));
+l1_table03.put(List.of("e1a9", "fe50", "efa9", 0, 29, 0, false, true, false, "b061", "ebdf", 1, 159, true, false));
+l1_table03.get("ea4");
+l1_table03.get("ed45");
+l1_table03.get("a7ff");
+l1_table03.remove("a4cab");
+l1_table03.put(List.of("b74e", "d6a2d", "dee7", 0, 0, 1, true, false, false, "b5300", "e99", 2, 0, true, false));
+l1_table03.get("e111");
+l1_table03.remove("e816");
+l1_table03.remove("aebe");
+l1_table03.put(Arrays.asList("e598", "aa41", null, 986, 3384, 1, false, false, false, "b29a", "d73b", 884, 0, false, true));
+l1_table03.put(List.of("bc26", "e949", "bed6", 1715, 0, 6, false, false, true, "b1b9", "a1ba", 2397, 81, false, true));
+l1_table03.get("b3ba");
+l1_table03.remove("e179");
+l1_table03.put(List.of("e8de", "d0e6", "fc9e", 2879, 6702, 2, false, true, false, "ae16", "a702", 1, 0, false, false));
+l1_table03.put(Arrays.asList("ed1b", "f8a12", "ab1f", 0, null, 0, true, false, false, "bce52", "f999", 0, 112, true, true));
+l1_table03.remove("ae09");
+l1_table03.put(List.of("e9db", "cd17", "cc72b", 0, 0, 10, false, false, true, "df07", "b457", 1385, 0, false, false));
+l1_table03.put(List.of("aa4b", "de0", "cd37", 0, 118110, 22063, true, true, false, "b080", "fde9", 18141, 4091, false, false));
+l1_table03.put(List.of("ec500", "c831", "a342", 0, 2, 0, true, false, true, "a680", "b248d", 0, 0, true, false));
+l1_table03.remove("e316");
+l1_table03.put(List.of("a0ae", "b0957", "afa2", 145, 302, 0, true, false, false, "bc44", "a5d7", 0, 0, true, true));
+l1_table03.put(List.of("d1fd", "cb1", "fa6", 0, 0, 0, true, false, false, "eef5", "d8c7", 59, 363, true, true));
+l1_table03.put(List.of("d31cd", "adfb", "a6a8c", 0, 0, 14, false, true, false, "d4642", "a73a", 0, 678, true, true));
+l1_table03.put(List.of("bf2b", "afaf", "cffe", 889, 0, 0, true, true, true, "bf4e", "cade", 1292, 3437, false, true));
+l1_table03.put(List.of("ae7", "ab35", "b86bd", 0, 0, 0, true, true, true, "d5e5", "fdff4", 818, 11, false, false));
+l1_table03.put(List.of("d935", "cec8", "ff24", 6, 8024, 0, true, false, true, "e132", "f073", 0, 0, false, true));
+l1_table03.put(Arrays.asList("e32e", "c3f3", "dc33", 557, 0, 0, false, null, false, "a278", "c5f5", 165, 0, false, true));
+l1_table03.remove("a6e0");
+l1_table03.put(Arrays.asList("a854", "a99a", "de43", 852, null, 11, null, true, false, "bfc9", null, 62688, 0, true, true));
+l1_table03.put(List.of("ecf7", "a3ca", "bc635", 1918, 6291, 2755, false, false, true, "a323", "b585", 956, 0, true, false));
+l1_table03.put(List.of("da14", "d4c0", "c4c5", 7324, 0, 0, true, true, true, "e8b6", "d6f69", 1, 111, true, false));
+l1_table03.put(List.of("adca", "c28a", "c58a", 0, 55, 4610, false, true, false, "a592", "e433", 0, 0, true, false));
+l1_table03.put(List.of("f38", "b774", "d3b0", 293, 502, 13, false, false, false, "e280", "b57f", 1, 0, true, false));
+l1_table03.put(List.of("e4aa", "d421", "d1a26", 0, 922, 0, false, true, true, "efb6", "ae5a", 0, 0, false, false));
+l1_table03.put(Arrays.asList("cea9", "a802", "abf0", 362, 1, 0, false, false, false, "abd9", "bb4b", 0, 9, null, true));
+l1_table03.remove("a50b");
+l1_table03.get("b472");
+l1_table03.put(List.of("a817", "cb66", "ab86", 42839, 0, 0, false, false, false, "fb34", "e780", 2, 24, true, true));
+l1_table03.put(List.of("ea19", "cf014", "a420", 0, 0, 912, false, true, false, "e03a", "f29f", 0, 0, true, true));
+l1_table03.get("db45");
+l1_table03.put(List.of("ef8a", "f8f3", "b4bf", 1, 101, 994, false, true, false, "f74d", "b4691", 0, 12910, false, true));
+l1_table03.put(List.of("a33b", "a436", "ef2b", 0, 50440, 61, true, false, false, "efe7", "a38ec", 1, 0, true, false));
+l1_table03.remove("ea54");
+l1_table03.put(Arrays.asList("cb85", "de22", "de23", 807, 10, 2, false, false, false, "a4a40", "bc98", 0, null, true, true));
+l1_table03.put(List.of("bb36", "a2f8", "cf3c", 0, 0, 0, false, true, true, "c76ba", "e60a", 1, 3223, false, false));
+l1_table03.put(Arrays.asList("e07c", "a3a8", "c893", 126, 0, 0, false, null, true, "f308", "a873", 0, 8, false, false));
+l1_table03.put(List.of("c59d", "f588", "b5e0", 599, 11, 0, false, false, true, "d967", "cf6d", 0, 51, true, false));
+l1_table03.put(List.of("d9de", "a0fc", "c370", 40151, 0, 253, true, true, true, "f74c", "bcbf", 3, 0, true, true));
+l1_table03.put(List.of("fcdc", "de76", "a273", 0, 0, 0, true, false, true, "af54", "d843", 195, 3, true, true));
+l1_table03.put(List.of("b852", "cc04", "afd4e", 189, 2, 0, true, true, false, "c905", "c97c", 2158, 13, false, true));
+l1_table03.put(Arrays.asList("b2bd", "eb2c", "d4a7", 0, 0, 3, false, false, null, "be23", "bbe5", 0, 13898, false, false));
+l1_table03.get("a19b");
+l1_table03.remove("b458");
+l1_table03.put(Arrays.asList("a6f1", "c668", "bad1", 277, 3556, 0, false, false, true, "c915", "c15c3", 5, null, false, false));
+l1_table03.put(List.of("f26", "a6ff", "fc6", 35, 9, 35, true, true, false, "eec8", "b5b7", 0, 0, true, true));
+l1_table03.put(List.of("f801", "dacf", "ac4c", 85, 282, 11, false, false, true, "b768", "edc6", 0, 0, false, false));
+l1_table03.put(List.of("fb4", "ae6f", "a5aa", 16, 82, 68, true, true, true, "abd2", "e641", 0, 84, true, true));
+l1_table03.put(List.of("bd1d", "ca08", "fc0b", 57, 0, 44779, true, true, true, "ef4b", "b86a", 6, 304, true, false));
+l1_table03.put(List.of("ebc8", "cd6f", "e9cf", 0, 1237, 0, false, false, false, "ec2ef", "fa1b", 85, 0, false, false));
+l1_table03.put(List.of("d399", "c1a7", "a75c3", 0, 0, 0, false, false, false, "c07c", "a6c8", 13, 508, false, true));
+l1_table03.put(List.of("b68a", "b834", "e2c2", 99, 11, 50, true, true, true, "f9c8", "cc7c", 54, 0, false, true));
+l1_table03.put(List.of("a2ee", "ac56", "cb1c", 0, 20, 13, false, false, true, "ec4e", "b42fd", 6, 16780, false, true));
+l1_table03.put(List.of("a70b", "af7e", "aee9", 5, 0, 1569, false, false, true, "aaba", "cf53", 3939, 2, false, true));
+l1_table03.put(List.of("d6502", "e4c1e", "afde", 64, 116, 108457, true, false, true, "b6bd", "a1bf", 38, 166109, true, true));
+l1_table03.put(List.of("ac72", "ad5e", "b078", 0, 58, 10222, true, false, false, "e010", "a7e32", 3677, 1032, true, true));
+l1_table03.remove("fe67");
+l1_table03.put(List.of("aec7", "a332", "ef48", 0, 5387, 17809, true, true, false, "ce7", "ced3", 142, 0, false, false));
+l1_table03.remove("c7e3");
+l1_table03.remove("a657");
+l1_table03.put(Arrays.asList("f610", "bdcd", "ec06", 73, 76, 222, true, false, true, "c61a", "bf41", null, 4, true, false));
+l1_table03.put(List.of("d02d", "e469", "a039", 230, 0, 335, true, false, false, "b787", "ede2", 5390, 11808, false, false));
+l1_table03.get("c756");
+l1_table03.put(List.of("fe95", "efbe", "af072", 194, 684, 7111, false, true, true, "bc6f", "ad40", 25, 0, false, true));
+l1_table03.put(List.of("e7735", "b117", "bb99e", 0, 3, 0, false, false, true, "d658", "d452", 0, 0, true, false));
+l1_table03.remove("c2b0");
+l1_table03.put(List.of("be32", "e6db", "db0", 10, 0, 0, true, true, false, "c3516", "b893", 50, 0, false, true));
+l1_table03.put(Arrays.asList("cd5e", null, "ff750", 249, 13, 0, false, true, false, "c4f2", "c65c", 0, 59, false, false));
+l1_table03.get("e54c");
+l1_table03.put(List.of("de9f", "b17a", "eb9", 0, 2430, 4138, true, true, false, "c66a", "aee5", 0, 0, true, true));
+l1_table03.remove("d1a7");
+l1_table03.put(List.of("c01e", "c7b04", "a123", 718, 0, 88, true, false, false, "dc91", "f47e6", 2999, 1017, true, false));
+l1_table03.put(List.of("c41b", "d61f", "e2a3", 0, 0, 0, false, true, false, "b563", "d575", 2, 13, true, false));
+l1_table03.remove("e1a5");
+l1_table03.remove("cc5c");
+l1_table03.remove("f095");
+l1_table03.remove("c231");
+l1_table03.put(List.of("bb62", "c1b4", "a98d", 311, 2, 184, true, false, true, "fea", "ba08", 2, 3700, true, false));
+l1_table03.put(List.of("f10b0", "be47", "cb86", 0, 418, 213, false, true, false, "fad9", "a935", 290, 5446, false, true));
+l1_table03.put(List.of("aaa8", "cd07", "aafd", 105, 0, 0, false, false, false, "d32da", "e624", 54, 0, true, false));
+l1_table03.get("aab4");
+l1_table03.get("add4");
+l1_table03.put(List.of("ba93f", "b1ebd", "e900", 0, 277, 0, false, true, false, "cf84", "a550", 47, 0, true, false));
+l1_table03.put(List.of("da20", "a706", "b178", 10, 0, 0, false, true, true, "a20f", "e03f", 0, 18975, false, false));
+l1_table03.put(List.of("b9e1", "c3f9", "c74f", 0, 120, 10, false, false, false, "df48", "eef84", 196, 7733, true, true));
+l1_table03.put(List.of("d511", "d056", "dd0b", 0, 0, 11, false, false, false, "b358", "bbc9", 0, 9, true, true));
+l1_table03.put(List.of("c1cc", "bad6", "a718", 148238, 2, 27, true, true, false, "a40a", "a532", 1522, 0, false, false));
+l1_table03.put(Arrays.asList("cce6", "c691", "a1d5", 65665, 5209, 11, true, null, false, "e87", "f904d", 1216, 0, true, false));
+l1_table03.remove("c29f");
+l1_table03.get("ade4");
+l1_table03.remove("cc4f7");
+l1_table03.put(List.of("ba67", "d913e", "a829", 0, 82, 0, true, true, false, "c161", "dfea", 2017, 2, false, true));
+l1_table03.put(Arrays.asList("af4f", "b1f4", "a535", 21250, null, 0, true, true, true, "abd3", "cbc6", 0, 224, true, true));
+l1_table03.get("b115");
+l1_table03.get("e32b");
+l1_table03.put(List.of("b9a8", "c779", "ad17", 0, 0, 21, false, false, true, "ea5e", "e718", 20160, 5835, false, true));
+l1_table03.get("a330");
+l1_table03.put(List.of("d47f", "ee70", "fdee", 0, 0, 866, true, true, true, "f36e", "f637", 0, 112642, false, true));
+l1_table03.put(List.of("e43a1", "a6e1", "a397", 665, 0, 1, false, true, true, "e705", "adb7", 0, 10, true, true));
+l1_table03.get("a1d2");
+l1_table03.put(List.of("dc26", "d779", "ca36", 0, 0, 1238, false, false, false, "fffd", "c4c8", 0, 0, false, true));
+l1_table03.put(List.of("d0f0a", "a0a9", "a5ab", 0, 8, 254858, false, true, true, "b675", "c302", 150, 972, true, false));
+l1_table03.put(List.of("f6ec", "a33a", "b126", 5, 0, 0, false, true, false, "bedc", "dc9d", 441, 721, true, false));
+l1_table03.remove("dac9");
+l1_table03.put(List.of("ab9c", "e3af", "bbed", 0, 1, 0, false, true, false, "a101", "dc1c5", 77, 0, false, false));
+l1_table03.get("bc5a");
+l1_table03.put(List.of("d973", "b1783", "b94f0", 2319, 0, 9747, true, true, true, "bcd5", "e279", 7248, 0, false, true));
+l1_table03.remove("b08d");
+l1_table03.get("f620");
+l1_table03.put(List.of("b437", "d284", "fbaa", 0, 1430, 2, false, true, true, "c3c5", "e66b", 0, 17789, true, true));
+l1_table03.get("c1c8");
+l1_table03.put(List.of("cc48", "c7282", "a967", 148, 0, 33, true, false, false, "a6a9", "a343", 339354, 0, false, true));
+l1_table03.remove("b991");
+l1_table03.put(List.of("edf6", "bb06", "a8372", 7022, 0, 0, false, true, false, "ca86", "bc57", 435, 17, false, true));
+l1_table03.put(List.of("dbea", "a0a2", "c4a5", 11, 0, 39, false, true, false, "eb24", "b980", 0, 4213, false, true));
+l1_table03.remove("caf8");
+l1_table03.put(Arrays.asList("c088", "ede5", "d9402", null, 62, 483, false, true, false, "f5c5", "c72a", 0, 50, true, false));
+l1_table03.put(List.of("c584", "cd10", "ac94", 21, 0, 412, true, false, true, "b49b", "eab3", 67, 0, true, true));
+l1_table03.put(Arrays.asList("ec217", "d610", "e3c2", 83, 3075, 2045, false, false, false, "a06a", "e6a9", null, 0, false, true));
+l1_table03.put(List.of("b2f1", "d4cd", "ab30", 5, 0, 120, false, false, true, "bae5", "c821", 30110, 0, false, true));
+l1_table03.put(List.of("f92d", "da5b", "c7e4", 0, 982, 0, false, false, false, "c87d", "b1fb", 0, 0, true, false));
+l1_table03.put(List.of("d703", "d61c", "a7af", 0, 335, 87935, false, true, true, "a9b4", "c6b78", 2625, 0, false, true));
+l1_table03.put(List.of("b94b", "af88", "cae3", 3, 0, 13, true, true, true, "a60c", "a7d8", 5910, 535159, false, true));
+l1_table03.put(List.of("a108", "d88", "b94a", 4971, 87, 16, true, true, true, "c25b", "b497", 0, 67638, false, true));
+l1_table03.put(List.of("e8ce", "b661", "a2d1", 0, 14, 0, true, true, false, "e890", "d273", 0, 1, true, true));
+l1_table03.put(List.of("e81b", "aab9", "b4c5", 3, 217, 0, false, true, false, "b7c3", "c557", 0, 870, true, true));
+l1_table03.get("fe9c");
+l1_table03.put(Arrays.asList("b9f30", "f4e1", null, 211, 152, 75, false, false, false, "c47e", "c032", 0, 286, true, false));
+l1_table03.put(List.of("b4db", "b009", "a1f7", 1, 0, 17, true, false, true, "a26e", "eb78", 0, 431, false, true));
+l1_table03.remove("bfaaf");
+l1_table03.put(List.of("a364", "d18b", "a4ba", 2218, 0, 6947, false, true, true, "d9e3", "fed5", 0, 0, false, false));
+l1_table03.put(List.of("edf0", "e012", "f5b1", 0, 0, 15, true, false, true, "ffd9", "f28", 830, 121, false, true));
+l1_table03.put(List.of("e781", "b6e9", "c25d", 93612, 25, 0, false, true, false, "e237f", "f299", 0, 39, true, false));
+l1_table03.put(List.of("ebb0", "dafd", "b8d9", 0, 9, 2, false, true, true, "f841", "a7745", 1, 533, true, true));
+l1_table03.get("f86b");
+l1_table03.put(List.of("be45", "d0c1", "fec1", 0, 0, 0, false, true, false, "a185", "b359", 0, 0, false, true));
+l1_table03.put(List.of("d6b5", "bafc6", "b174", 0, 16931, 0, true, true, true, "e2de", "c89e9", 326, 4415, false, false));
+l1_table03.put(List.of("bafd", "d7de", "f8a3", 0, 0, 48, true, true, true, "d857", "cee5", 0, 38563, true, false));
+l1_table03.put(List.of("b3e8", "c755", "ca63", 55, 3, 0, true, false, false, "e1f2", "ac10", 1997, 0, false, false));
+l1_table03.put(Arrays.asList("b0ad", "bffc", "be3b", 453, 4111, 91, false, false, true, "c264", "c215", 0, 0, null, true));
+l1_table03.put(List.of("a924", "a8c5", "bc43", 0, 46, 0, true, true, true, "fdea", "ac08", 0, 64, true, false));
+l1_table03.remove("e3e7");
+l1_table03.put(List.of("eb62", "ab98", "a5ce", 83, 16250, 2953, false, false, true, "dc27", "e16e", 0, 4, true, true));
+l1_table03.put(List.of("f1f1", "fee0", "a786", 0, 0, 0, false, true, false, "d9a1", "cd0a", 74, 3, false, false));
+l1_table03.put(List.of("c6e5", "b751", "ceb7", 10, 47, 8, true, true, true, "f600", "be88", 0, 0, true, false));
+l1_table03.put(List.of("b176", "f034", "abee", 8789, 13, 0, true, true, true, "b3a4", "f7b6", 0, 39, false, false));
+l1_table03.remove("b8d6e");
+l1_table03.remove("e87d");
+l1_table03.put(List.of("c165", "eb13", "a149", 23, 4, 259, false, true, false, "b294", "fb6d", 0, 7, false, true));
+l1_table03.remove("a6aeb");
+l1_table03.put(List.of("d8f6", "e6d0", "d0efc", 0, 0, 153884, true, true, false, "c84c", "a724", 3, 0, false, true));
+l1_table03.put(List.of("dfbf", "b597", "ceaa", 2720, 5, 124, false, false, true, "f0f3", "c353", 0, 210, true, false));
+l1_table03.put(List.of("e03b", "b729", "fb43", 198, 20, 0, false, false, true, "b58f", "b8aa", 58, 0, true, true));
+l1_table03.put(List.of("a228", "e018", "c733", 0, 2986, 0, false, false, false, "c277", "ab64", 19, 3, false, true));
+l1_table03.put(List.of("bd38", "f031", "c1f3", 35, 8, 0, false, false, false, "fd6f", "a02d2", 0, 3106, true, false));
+l1_table03.put(List.of("f75f", "a4d6", "c1c6", 334, 0, 971253, false, true, true, "bdc0", "e1f9", 0, 21, false, false));
+l1_table03.put(List.of("efe2", "e552", "dc1e", 415, 0, 0, true, true, false, "e0cf", "ada3", 3, 1334, false, true));
+l1_table03.get("be27");
+l1_table03.put(List.of("ed992", "c22d", "c14d", 2, 0, 151, true, true, true, "ef1d", "c3da", 5, 0, true, true));
+l1_table03.put(List.of("b27f", "b1fd", "bbf9", 16751, 37122, 85439, true, true, true, "c5b8", "a9d6", 189, 50, false, true));
+l1_table03.remove("b6c9");
+l1_table03.remove("f707");
+l1_table03.put(Arrays.asList("d593", "cd2b", "fc20", 0, 1194, null, true, true, true, "c983", "f213", 78, 0, true, false));
+l1_table03.put(List.of("c5b3", "c67c", "c86a", 38, 867, 0, false, true, true, "b6de", "f10f", 213, 14, true, true));
+l1_table03.put(List.of("ab2d", "fb83", "c147", 321, 40, 0, true, true, true, "e7e8", "a6b4", 28, 281, true, false));
+l1_table03.put(List.of("cad8", "bbde", "df6b", 0, 0, 3180, false, false, true, "ecd1", "cbd8", 93, 478, false, true));
+l1_table03.put(List.of("e73e1", "ea01", "deed", 32, 0, 18, false, true, true, "f9c2", "b1b8", 0, 170392, true, false));
+l1_table03.remove("ae65");
+l1_table03.put(Arrays.asList("a72e", "ad5f", "ba0a", 0, 242, 0, true, true, false, "b9e4", null, 27885, 304, true, false));
+l1_table03.put(List.of("c1be", "c912", "bea7", 221, 11, 0, false, false, true, "ed4a", "baef", 0, 11, true, false));
+l1_table03.remove("a1bd");
+l1_table03.put(List.of("dcca4", "a0894", "d2c7", 0, 19527, 0, true, false, false, "e8da", "ea8a", 0, 0, false, false));
+l1_table03.put(Arrays.asList("aa93", "b22d", "f8c1", 0, 0, 23031, false, null, true, "b7fb", "d1ddd", 0, 1105, true, false));
+l1_table03.put(List.of("dbfa", "f76c", "cf8e", 0, 40, 0, false, true, false, "f587", "b8c5", 0, 0, true, false));
+l1_table03.put(Arrays.asList("da42", "b810", "c8f3", 0, 0, 61, false, false, false, "b4eb", "ce2f", null, 1369, false, true));
+l1_table03.put(List.of("c3c1", "b0508", "c56a", 0, 0, 267, true, true, false, "cc13b", "f33f", 0, 0, false, true));
+l1_table03.put(List.of("e629", "d71f", "fccb", 187, 1, 8, false, true, false, "ae89", "d2ec", 1, 0, false, true));
+l1_table03.put(List.of("ed15", "bdb8b", "c18b", 0, 2128, 22, false, false, true, "dd38", "a0a4", 733, 12, true, false));
+l1_table03.put(List.of("e66f", "ff01", "f080", 0, 176, 0, true, true, true, "be53", "d81b", 0, 44, false, false));
+l1_table03.put(List.of("c7db", "a251", "ad27", 0, 0, 0, true, false, true, "b64d", "cf8c", 0, 1723, true, true));
+l1_table03.remove("b658");
+l1_table03.remove("d65b");
+l1_table03.put(List.of("ee5b1", "dd00", "c82e", 322, 0, 0, false, false, true, "ed13", "cbde", 0, 0, true, false));
+l1_table03.put(List.of("c641", "c313", "ae21", 0, 0, 211, true, true, true, "a9c6", "b164", 0, 2049, true, true));
+l1_table03.put(List.of("a1cbc", "bf8d", "e8e7", 10, 0, 0, false, false, true, "c9ab", "d5e8", 39, 0, false, true));
+l1_table03.get("e5034");
+l1_table03.put(List.of("c99a", "b010", "c4fb", 1526, 0, 2, true, false, false, "e1ae", "e653", 0, 0, false, false));
+l1_table03.put(List.of("cc91", "f9f", "b4b4", 0, 0, 3105, false, true, true, "d1b4", "b927", 0, 0, true, false));
+l1_table03.remove("d939");
+l1_table03.put(List.of("fd15", "c08f", "e775", 137, 145, 0, true, true, false, "c075", "c8f9", 0, 531, false, true));
+l1_table03.get("cc14");
+l1_table03.put(List.of("fa2f", "b37e", "fbf7", 225, 45, 1, false, true, false, "d257", "a86c", 130, 237, true, true));
+l1_table03.put(Arrays.asList("de04", "db6c", null, 4, 0, 1569, false, false, true, "c527", "a0da", 0, 14, false, true));
+l1_table03.put(List.of("cac5", "e61de", "c7aba", 6, 63, 0, false, false, true, "fe4e", "c36a", 50, 0, false, false));
+l1_table03.put(List.of("e87c", "d061", "b00b", 58, 11, 170973, true, false, false, "a4cb", "e708", 0, 0, true, false));
+l1_table03.get("a08c");
+l1_table03.put(List.of("c8e2", "be256", "a5e5", 2192, 0, 0, true, true, false, "a3b3", "e6ef", 0, 0, false, true));
+l1_table03.put(List.of("c6fa", "cbd6", "eca4", 0, 2690, 0, false, false, false, "b229", "dd66", 23311, 11689, true, false));
+l1_table03.put(List.of("ea5d3", "a4f3", "b185", 0, 11, 0, false, true, true, "cb45", "d9c6", 180, 0, true, false));
+l1_table03.get("c1f6");
+l1_table03.put(Arrays.asList("fb7", "f9fb", "bfd3", 8631, 0, 8, null, true, true, "c94e7", "b4eae", 5, 0, true, false));
+l1_table03.put(List.of("c019", "f419", "becbd", 571, 785, 0, true, true, false, "b433", "d6a6", 0, 0, true, false));
+l1_table03.put(List.of("f124", "f2ef", "ab94", 0, 0, 0, true, false, true, "e945", "d278", 0, 0, false, false));
+l1_table03.put(List.of("b5bf", "a699", "a54e", 0, 0, 0, false, true, false, "d800", "b00f", 2, 0, false, false));
+l1_table03.put(List.of("c479", "c475", "e85ca", 0, 0, 13, false, false, true, "a991", "a1a8", 0, 0, false, true));
+l1_table03.put(List.of("b15c", "e381", "d6d0", 0, 796, 55119, true, false, true, "c100", "ab7a", 0, 0, true, true));
+l1_table03.get("a64b");
+l1_table03.put(List.of("f33c", "a5be", "d6e6", 3510, 5, 10536, false, true, true, "b08c", "ddda", 2472, 0, false, true));
+l1_table03.remove("d9b8");
+l1_table03.remove("c6e9");
+l1_table03.put(List.of("a647", "fa34", "a05e", 40, 0, 18939, true, false, true, "a794", "be0c", 2, 1237, false, true));
+l1_table03.remove("b092");
+l1_table03.put(List.of("a8df", "cd1f", "ae3fb", 0, 0, 30, false, true, false, "a96b", "da5c", 27, 86, true, true));
+l1_table03.put(Arrays.asList("bd28", "aa0d", "e59a", 2, 253, 0, true, true, false, "cd5f", "d70e", 0, null, false, false));
+l1_table03.put(List.of("f709", "d877", "f788", 0, 0, 0, false, false, false, "c2a0", "df40", 14, 2, false, false));
+l1_table03.put(List.of("f4f", "b383", "c50e3", 34210, 0, 0, false, true, false, "f665", "d918", 292, 251, true, true));
+l1_table03.put(List.of("e1f7", "d052", "b704", 94353, 428, 0, false, true, true, "ab9b", "a5d9", 2, 0, false, true));
+l1_table03.put(List.of("a82b", "d236", "acd3", 250, 131, 1072, false, false, false, "ca9b", "eddc", 0, 1187, false, false));
+l1_table03.put(List.of("d8cd", "cf37", "e252e", 2018, 58, 201, false, false, false, "a016", "ff07", 6131, 25323, false, true));
+l1_table03.put(List.of("dd9b", "d5e2", "a315", 26, 7, 162288, false, true, true, "c4d0", "a524c", 12, 60, false, true));
+l1_table03.remove("b248");
+l1_table03.put(List.of("f1fb1", "d672", "e666", 0, 519, 0, false, false, false, "fb31", "b2db", 1, 210, false, false));
+l1_table03.put(Arrays.asList("f96b9", "cf09", "a235", 4780, 0, 37, false, false, true, "a77c", null, 0, 0, true, false));
+l1_table03.remove("fb7c");
+l1_table03.remove("c8c63");
+l1_table03.remove("c0c2");
+l1_table03.put(List.of("a94a", "c13e", "fc4b", 0, 0, 0, false, true, true, "d895", "fb95", 0, 0, false, true));
+l1_table03.put(List.of("a06f", "b69f", "ca48", 0, 318, 1335, false, true, false, "c070", "c8ff6", 14, 104, false, false));
+l1_table03.get("aad0");
+l1_table03.put(Arrays.asList("cee02", "f1ef", "b3fe", 2, 4, 0, true, false, true, "b715", "aa37", 84, 0, null, false));
+l1_table03.put(List.of("cde8", "dbb3", "b4b2", 0, 0, 535, false, false, false, "ff03", "e6f5", 0, 0, false, false));
+l1_table03.get("de7f");
+l1_table03.remove("e6f8");
+l1_table03.remove("e8acb");
+l1_table03.put(List.of("d5c3", "d7ab", "df0f", 5, 2, 0, true, true, true, "f004", "c4b7", 16, 0, true, false));
+l1_table03.put(Arrays.asList("f6c8", null, "f056", 0, 6, 6, true, false, false, "d57d", "c0e2", 0, 202, true, null));
+l1_table03.remove("cc85");
+l1_table03.put(Arrays.asList("a6f9", "be81", "a077", 7405, 885, 1214507, false, false, true, "cfa2", "b24d", 38, 0, null, true));
+l1_table03.remove("bff4");
+l1_table03.put(List.of("a86c3", "a6e57", "e367", 173228, 449, 457, false, false, false, "d5af", "d86a", 2899, 0, false, false));
+l1_table03.get("ae2c");
+l1_table03.put(List.of("b158", "bb3f", "b9d2", 1, 18, 91, false, true, true, "f48c", "f83e", 19, 0, true, false));
+l1_table03.get("d8cb");
+l1_table03.put(List.of("c2b5", "ebaf", "f3e8", 11520, 0, 0, false, true, true, "c19b", "daae", 13971, 0, false, true));
+l1_table03.put(List.of("b961", "e52e", "c5685", 31, 1, 146200, true, false, true, "aeb0", "b2ae", 22, 0, false, true));
+l1_table03.put(List.of("b0ce9", "bd45", "bbf5", 0, 13, 0, false, false, true, "a876", "b94d", 17551, 0, false, true));
+l1_table03.put(List.of("c3bff", "e479", "c729", 1821, 3594, 3786, false, true, true, "e185", "ebd8", 16, 95, false, true));
+l1_table03.put(List.of("d892", "a89b", "a78a", 1, 0, 3142, true, false, false, "e68c", "ce33", 2632, 25860, false, true));
+l1_table03.get("a5b47");
+l1_table03.put(List.of("c419", "b654", "c5d0", 180, 155, 726, true, true, true, "d8d6", "a6ae", 1, 0, true, true));
+l1_table03.put(List.of("e4e2", "a811", "ba1d", 0, 0, 0, false, true, true, "d54a", "f491", 0, 59218, false, false));
+l1_table03.put(List.of("b4a0", "a72b", "e28f", 0, 0, 0, true, false, false, "c6f25", "a6ad", 0, 0, false, false));
+l1_table03.put(Arrays.asList("b0531", "c70d", "ad50", 0, 7, 37922, true, true, false, "d112", "c245", null, 0, true, true));
+l1_table03.put(List.of("e861", "ec228", "d7b1d", 0, 0, 0, true, false, true, "a7fb", "b679", 475, 31200, true, false));
+l1_table03.put(List.of("b127", "ff93", "f030", 27, 325, 7, false, true, false, "c1ce", "badf7", 1089, 628195, false, true));
+l1_table03.get("a4f5");
+l1_table03.put(List.of("d7e7", "d343", "de8a", 0, 4503, 0, false, true, true, "a8c1a", "dd99", 6, 0, true, false));
+l1_table03.put(List.of("cc51", "e415", "b544", 2, 2, 5218, true, true, true, "dec8", "fad7", 0, 1756, true, false));
+l1_table03.put(List.of("d31f", "c5dd", "a8b2", 0, 1377, 0, true, true, false, "bc1b", "bc56", 390, 978, false, false));
+l1_table03.put(List.of("c92e", "e7d6", "de1f", 7, 2, 0, true, true, false, "b193", "d6c2", 0, 1, true, true));
+l1_table03.put(List.of("af70", "a462", "ca13", 0, 0, 0, false, true, false, "a62c7", "d00a", 0, 3, false, false));
+l1_table03.remove("fba0");
+l1_table03.put(List.of("c1c1", "e9c69", "f963", 374, 0, 0, true, false, true, "c1ac", "e55e", 0, 0, false, true));
+l1_table03.put(List.of("d3aa", "b92a", "d6a1", 0, 147, 3, true, true, false, "ebbb", "e530b", 0, 692, false, false));
+l1_table03.remove("d5a7");
+l1_table03.put(List.of("b7f0", "a684", "f26c6", 0, 0, 0, true, false, false, "b0ca", "b4960", 0, 15, false, false));
+l1_table03.remove("b027");
+l1_table03.remove("fdfc7");
+l1_table03.put(List.of("be9b", "e6f6", "c3b4", 44307, 9766, 1823, true, true, false, "a083", "c899", 0, 982, true, false));
+l1_table03.put(List.of("a916", "bd5f", "adc0", 1392, 0, 0, false, false, false, "f22d", "a712", 133, 3018, false, true));
+l1_table03.put(List.of("cefc", "d39f", "aba5", 34383, 0, 0, true, true, true, "ed72", "a15d", 29, 0, true, false));
+l1_table03.put(List.of("c7f3", "c301", "b1da", 25924, 6, 7, true, false, true, "a5b7", "a07a", 0, 54495, false, false));
+l1_table03.put(List.of("f6ba", "bc815", "aa72", 1, 3, 0, false, true, true, "b4c2", "a069", 0, 9723, false, true));
+l1_table03.put(List.of("c009", "a94ab", "cb91", 0, 1, 0, false, false, true, "ab0e", "ea95", 0, 0, true, false));
+l1_table03.put(List.of("a899", "dea1", "e2f8", 95, 0, 470, false, false, false, "b3df", "c230", 0, 1, false, false));
+l1_table03.put(List.of("c097", "e533", "f5d8", 3097, 2381, 0, false, true, false, "b143", "b1ef", 1, 6, false, false));
+l1_table03.put(List.of("d4b2", "f961", "ab26", 1, 193, 0, true, false, true, "c365", "f9612", 0, 4621, false, true));
+l1_table03.put(List.of("fc081", "cb79", "beb3", 0, 2, 1234, true, false, false, "cd79", "dfb", 8, 0, false, false));
+l1_table03.put(List.of("afd5", "bccf", "d744f", 388539, 0, 38, false, false, false, "be43", "ac1f", 37, 4, true, false));
+l1_table03.remove("e2ab");
+l1_table03.put(List.of("a6f98", "efa7", "e91f", 1728, 0, 0, false, true, true, "dd28", "b5c0", 0, 1295, true, false));
+l1_table03.remove("dd84");
+l1_table03.put(List.of("a94d", "e547", "a24d5", 0, 61, 1, true, true, false, "a286", "f6fc", 0, 7, false, false));
+l1_table03.put(List.of("edee", "bb5e", "b250", 44, 0, 0, false, false, true, "fced", "ee86", 9, 40, true, false));
+l1_table03.put(List.of("e406", "a2963", "f5c88", 4287, 10496, 179, false, true, true, "f170", "e061", 2, 3, false, false));
+l1_table03.put(List.of("c096e", "a2d5", "f3ff", 5, 0, 126, false, true, false, "d298", "a474", 55, 1, false, false));
+l1_table03.remove("efa1");
+l1_table03.put(Arrays.asList("b5cf", "ccdb", "d3bb", 60939, 0, 0, false, false, null, "b629", "b8c6", 0, 0, false, false));
+l1_table03.put(List.of("a37b", "da5a", "c463", 13575, 44, 0, false, false, true, "fea6", "f8ad", 10031, 6, true, true));
+l1_table03.put(List.of("f1f4", "b7d3", "aa78", 10, 1, 353, false, true, false, "d3b6", "cde1", 129505, 16485, true, true));
+l1_table03.put(List.of("f72f", "df8a", "ad314", 443, 0, 0, true, true, true, "ae96", "fb53", 19, 0, false, true));
+l1_table03.put(List.of("dde4", "a3ce", "be8d", 204, 6250, 18, true, true, false, "a65a", "d984", 2, 0, false, true));
+l1_table03.put(List.of("fd4d", "c764", "b579", 0, 16062, 0, false, true, false, "b0d1", "fb15", 6, 5, false, false));
+l1_table03.remove("ceec");
+l1_table03.put(List.of("d545", "ba61", "f70cd", 0, 0, 10, false, true, false, "a866", "d55b", 0, 0, false, true));
+l1_table03.get("b7a8");
+l1_table03.remove("e59c");
+l1_table03.put(Arrays.asList("c77d", "fca8", "e763", 33397, 731, 0, false, false, true, "a141", null, 263, 112591, true, true));
+l1_table03.remove("c582");
+l1_table03.put(List.of("aed8", "a717", "aa96", 1200, 6, 0, true, true, false, "ee0a", "a297", 0, 115785, false, true));
+l1_table03.put(List.of("d0d7", "a97b", "ca93", 4683, 84, 12, true, false, true, "b03b", "cc8c", 0, 118, false, false));
+l1_table03.remove("e176");
+l1_table03.remove("a031");
+l1_table03.put(List.of("ba8d", "f11a", "e62c", 0, 2, 927, false, false, true, "a8ac", "f902", 0, 0, false, false));
+l1_table03.remove("fe87");
+l1_table03.remove("c25e");
+l1_table03.remove("ce30");
+l1_table03.put(List.of("e02a", "fbf5", "d801", 3372, 0, 22, true, false, false, "d811", "e255", 1104, 1621, false, true));
+l1_table03.get("c3dbf");
+l1_table03.remove("acd5");
+l1_table03.remove("a0613");
+l1_table03.put(List.of("c14b", "b308", "d25d", 0, 0, 0, false, true, false, "b2b8", "d626", 6, 0, false, false));
+l1_table03.put(List.of("a74c", "b72f", "eeec", 0, 0, 0, false, true, true, "e2c4", "dec7", 0, 2768, true, true));
+l1_table03.put(List.of("a239", "ac15", "deb2", 0, 19067, 0, true, false, true, "d820", "b655", 2, 0, true, false));
+l1_table03.put(List.of("d4f2c", "c1a6c", "e067", 14516, 100, 7, true, false, true, "d671", "b012", 3084, 2082, true, false));
+l1_table03.put(List.of("a92b", "b179", "a68d", 10514, 0, 322, true, false, false, "d3ce", "a8d1", 0, 23428, false, true));
+l1_table03.put(List.of("fa94", "d24c", "fb67", 0, 0, 203, false, false, true, "a3d1", "f722", 0, 0, false, true));
+l1_table03.put(List.of("e3ba", "fe8", "dd8e", 3, 2596, 5, true, false, true, "ac8a", "d929", 125, 4, true, false));
+l1_table03.put(List.of("ee2d", "e5e9", "e43f", 159, 0, 10, true, true, true, "b55d", "d3cd", 41, 78571, true, true));
+l1_table03.remove("b36e");
+l1_table03.put(List.of("d79f", "c7cb", "d826", 227, 44736, 0, false, false, false, "f097", "a17c", 4350, 0, true, false));
+l1_table03.put(List.of("e388", "abaf", "e67c", 0, 1, 147, false, false, true, "bab8", "a2fa", 4, 5269, true, false));
+l1_table03.put(List.of("b1ac", "d08c", "caf4", 10, 0, 53273, true, false, true, "a736", "b510", 0, 2117, true, true));
+l1_table03.put(List.of("b79d", "aa67", "a5bd", 2913, 0, 1576, true, false, true, "c7b2", "c34f", 0, 2, true, true));
+l1_table03.put(List.of("d80a", "a490", "e069", 11, 670, 0, true, true, false, "b97c", "eddd", 0, 0, true, true));
+l1_table03.put(List.of("d65e", "ca7e", "e3c7", 0, 40, 698, false, true, false, "ae90", "d851", 0, 157, true, false));
+l1_table03.put(List.of("b465", "bd29", "c2ec", 18, 600, 12613, true, true, false, "b598", "e18", 0, 301, true, false));
+l1_table03.put(List.of("a6fa", "b06e", "ff9f", 0, 2000, 27887, true, false, true, "af0e", "ddada", 0, 0, false, false));
+l1_table03.put(List.of("fabe3", "ae83", "d099", 2, 269228, 0, true, false, true, "ad28", "b870", 27, 23, true, true));
+l1_table03.put(List.of("eb8", "e215", "e0a4", 25, 29, 2, true, true, false, "e9ea", "cf46", 392, 203952, true, true));
+l1_table03.remove("c2a1");
+l1_table03.put(List.of("d609", "b039", "e878", 5, 0, 2, false, false, false, "b8db", "bee2", 173715, 0, true, true));
+l1_table03.put(List.of("effb", "ab92", "c537", 0, 2586, 0, true, false, false, "bd7f", "b39d", 5, 102377, true, true));
+l1_table03.put(List.of("cd39", "d069", "f2bb", 0, 1, 181, false, false, true, "f73f", "b698", 1268, 0, false, true));
+l1_table03.put(List.of("b7da", "b678", "c655", 153, 148, 0, false, true, true, "b38e", "b0e5", 0, 0, true, false));
+l1_table03.put(List.of("b07a", "ee35", "b025", 2231, 0, 903, true, true, true, "e597", "c8ca", 0, 38058, false, false));
+l1_table03.put(List.of("fb77", "cdbe", "c11b", 0, 0, 4356, true, true, true, "a4f7", "d5a5", 3423, 1710, true, false));
+l1_table03.remove("b77c");
+l1_table03.remove("afa6");
+l1_table03.remove("bdf7a");
+l1_table03.get("a6e3");
+l1_table03.remove("ab62");
+l1_table03.remove("c3e8");
+l1_table03.put(List.of("b48a", "fbd2", "f9a3", 29, 123, 1, true, false, false, "ea53", "a178", 23, 0, true, true));
+l1_table03.put(List.of("b9a6", "ff17", "daaee", 9, 0, 17296, true, false, true, "d049", "f471", 0, 3469, true, true));
+l1_table03.put(List.of("aa92", "b261", "ee489", 0, 3, 296, false, true, true, "b683", "b8be", 7, 234606, true, false));
+l1_table03.get("bcd23");
+l1_table03.remove("b95f");
+l1_table03.put(List.of("b0c1", "c8d6", "c948", 810, 0, 0, false, true, true, "f8e2", "aa10", 0, 0, true, false));
+l1_table03.remove("edbf");
+l1_table03.put(List.of("e86d", "dde49", "b3057", 89, 4, 0, true, true, false, "d946", "cf73", 0, 24, false, true));
+l1_table03.put(List.of("ebe3", "ad6af", "dd98", 209, 139, 707, false, true, true, "ac5b", "a618", 4, 22, true, false));
+l1_table03.get("a81b8");
+l1_table03.put(List.of("af85", "d121", "ffd8", 204, 3, 1, false, false, true, "faab", "c60d", 1061, 232, true, false));
+l1_table03.remove("f38e");
+l1_table03.get("a77e");
+l1_table03.put(List.of("ac16", "b146", "f3b1", 0, 98, 0, true, true, true, "bf17", "d8bc", 217, 41, false, true));
+l1_table03.remove("c7aa");
+l1_table03.put(Arrays.asList("aea5", "fb2f", "c14e", 715, 1371, null, false, false, false, "c3fe", "f0f0", 190, 0, false, false));
+l1_table03.put(List.of("a77d", "dad5", "c11e", 0, 486, 717, true, true, true, "ce6a", "e58f", 0, 0, false, true));
+l1_table03.remove("cf6f");
+l1_table03.get("d2f4");
+l1_table03.remove("e6f4");
+l1_table03.put(List.of("b4ee", "e865", "ae82", 5287, 2978, 10, false, false, true, "f06e", "bc88", 366, 0, false, true));
+l1_table03.put(Arrays.asList("dbe6", "e7ae", null, 36846, 7, 502, true, false, true, "cbe0", "a862", 0, 87, false, true));
+l1_table03.put(List.of("adc3", "a4d5", "adeb", 20, 6, 2318, false, false, false, "fcb83", "db4b", 0, 18135, false, false));
+l1_table03.put(List.of("de59", "e310", "ea45", 171, 0, 0, false, false, true, "f40c", "bb09", 0, 0, true, false));
+l1_table03.put(List.of("d3da", "b31e", "aa76", 198, 529, 197, false, true, false, "c3d2", "e47c", 30, 3, true, true));
+l1_table03.get("d204");
+l1_table03.put(List.of("d0f4", "a0e6", "e7d8", 0, 0, 323294, true, false, true, "cd51", "b2a5", 29, 16, true, false));
+l1_table03.put(List.of("df88", "e234", "d04a", 1, 0, 5, true, true, false, "d410", "db39", 0, 2, false, false));
+l1_table03.put(List.of("f554", "b1e1", "b86b", 21426, 0, 15135, true, true, true, "e917", "bd59", 0, 269, true, false));
+l1_table03.put(List.of("c0ac", "d1e7", "aa730", 238, 0, 0, true, true, false, "e5a1", "af63", 0, 1, false, false));
+l1_table03.remove("b630");
+l1_table03.remove("d06ae");
+l1_table03.put(List.of("c525", "c526", "be7ac", 0, 72, 8451, true, true, false, "acb3", "c0e8", 5, 0, true, false));
+l1_table03.put(Arrays.asList("fc04", "b82e", "baf7", 0, 0, null, false, true, false, "e531", "b5d2", 0, 1193, false, false));
+l1_table03.put(Arrays.asList(null, "a29d", "e166", 2289, 0, 21, true, true, true, "a126", "bc65", 0, 0, false, false));
+l1_table03.put(List.of("a298", "fa87", "ed02", 122781, 0, 0, true, false, false, "a596", "cf2a", 0, 33, false, true));
+l1_table03.remove("a9e41");
+l1_table03.put(List.of("ad1d", "a79c", "c838", 0, 0, 0, false, false, false, "d915", "b61e", 188, 0, false, false));
+l1_table03.put(List.of("d7c0", "bf08a", "db0a", 0, 1400, 30, true, true, false, "c1cf", "a1b8", 33, 0, true, true));
+l1_table03.put(List.of("aeca3", "c7d1", "ac390", 335, 0, 0, true, false, false, "f221", "dd3e", 273, 710, false, true));
+l1_table03.remove("fb90");
+l1_table03.put(List.of("faad", "d19c", "af1f", 1440, 29627, 0, false, true, false, "a616", "e16b", 20, 18, false, true));
+l1_table03.remove("ba09");
+l1_table03.put(Arrays.asList(null, "d694", "e2ad", 1, 0, 0, false, false, false, "a266", "f2e2", 0, 8966, false, false));
+l1_table03.get("fa3e");
+l1_table03.remove("e5d7");
+l1_table03.put(List.of("ae33", "ed9e2", "a76a", 0, 0, 6, true, true, false, "e97e", "e553", 3, 297, false, false));
+l1_table03.put(List.of("d050", "b18e", "caaaf", 0, 0, 0, true, false, true, "e3a2", "d07c", 7, 1, false, true));
+l1_table03.put(Arrays.asList("c44c", "deff", "af6e", 1, 1043, 1, false, false, false, "bfd9", "b3c8", 1022, null, false, false));
+l1_table03.put(List.of("ed18", "c48a", "bf6c", 0, 2, 2, true, true, false, "e2bf", "b7bdd", 59, 6, false, true));
+l1_table03.put(List.of("a086", "b71a1", "bad6f", 0, 11, 56, true, false, true, "a191", "da21", 0, 1705, true, true));
+l1_table03.put(List.of("ab90", "d010", "ea47", 0, 0, 0, false, false, false, "c4e0", "e600", 0, 0, true, true));
+l1_table03.remove("ae1c");
+l1_table03.put(List.of("f20f", "e912e", "b7fa", 0, 0, 78139, true, true, false, "d832", "b444", 2039, 0, true, true));
+l1_table03.put(List.of("fd4c", "d4056", "a8e2", 0, 488, 32, false, false, false, "f5527", "e317", 158, 10, false, false));
+l1_table03.remove("fbc5");
+l1_table03.put(List.of("d184", "fcab", "de1e", 28208, 0, 13, true, false, true, "c4e9", "a2d8", 33, 194, true, true));
+l1_table03.put(List.of("e398", "c2ad", "b1a6", 0, 965, 8, false, false, true, "aef18", "f333", 24, 11634, false, true));
+l1_table03.put(List.of("a39a", "f53a", "f010", 0, 0, 1, false, false, true, "a02e", "cedc", 0, 60, true, false));
+l1_table03.remove("b91a");
+l1_table03.get("ab81");
+l1_table03.put(Arrays.asList("e3fd", "fab6", null, 48, 365, 0, false, true, false, "a0af", "ded2", 0, 0, false, true));
+l1_table03.remove("c8f5");
+l1_table03.put(List.of("e2b1", "e113", "ab89", 1009, 0, 0, false, true, true, "e1ea", "bb21", 0, 0, false, true));
+l1_table03.put(List.of("bcf0", "b7b72", "c955", 160, 0, 0, false, false, true, "ed28", "a620", 4, 1899, false, true));
+l1_table03.remove("d68e");
+l1_table03.get("c86f");
+l1_table03.put(List.of("e43d", "ca20", "f07f", 2417, 25, 0, true, true, false, "cec1", "af129", 0, 0, true, true));
+l1_table03.remove("f0f5");
+l1_table03.remove("a207");
+l1_table03.put(List.of("f0eb", "a084", "b896", 30, 1, 52802, false, false, true, "c6ed", "b50a", 0, 77, true, false));
+l1_table03.remove("c605");
+l1_table03.put(List.of("f140", "bc9c", "f211", 0, 0, 0, false, false, false, "dfc0", "a582", 0, 0, true, false));
+l1_table03.put(List.of("e28e", "c534", "ebb00", 0, 0, 0, true, false, false, "af20", "aa1c", 58, 47, false, false));
+l1_table03.get("e53b");
+l1_table03.get("bccd");
+l1_table03.put(List.of("cd0b", "f46a", "d4c50", 0, 9, 23902, true, false, false, "a2798", "be5f", 0, 1, true, true));
+l1_table03.put(Arrays.asList("b7462", "cdda", "a542", 0, 1, 0, true, false, true, "c5c2", null, 10, 621193, false, true));
+l1_table03.put(List.of("aa5f", "f925", "c553", 303, 0, 0, true, true, false, "cd50", "d0116", 41, 0, false, false));
+l1_table03.put(List.of("f025", "a449", "c9fd2", 0, 0, 28, false, true, true, "cb1d", "b7783", 0, 0, true, true));
+l1_table03.put(List.of("dfee", "fb1a", "f6d9", 92, 61, 210, false, true, false, "a3cc", "b351", 6, 3975, false, false));
+l1_table03.put(List.of("fcce", "be19", "af18", 435, 70, 16233, true, true, false, "ba8a", "b733", 0, 0, true, false));
+l1_table03.get("d2e5");
+l1_table03.put(Arrays.asList("b886", "a026", "f26a", 43, 0, 0, false, true, false, "dc13b", "e848", null, 177, true, false));
+l1_table03.put(Arrays.asList("c8d8", "aa35", "f7f2", 0, 28568, 21, false, true, true, "cbd4", "f82d", 0, 0, false, null));
+l1_table03.put(Arrays.asList("aad5", "c8c7", "cf24", 10, 0, 8, false, true, true, "cdf8", "ae03", 432, null, false, true));
+l1_table03.put(List.of("dba2", "d2cb", "e8a2", 0, 1986, 0, true, true, true, "ad71", "c86e", 2, 656, false, true));
+l1_table03.put(List.of("b517", "a804", "b9590", 0, 0, 0, false, false, true, "c71b", "dbe4", 0, 0, true, false));
+l1_table03.put(List.of("a230", "bded", "c63f", 0, 0, 4826, false, false, false, "ad2a", "b684", 0, 37, true, true));
+l1_table03.put(List.of("b265", "fed43", "d245", 0, 6913, 0, false, true, true, "bf04", "a2380", 0, 6, true, false));
+l1_table03.put(List.of("fabf", "d19d", "be40", 0, 222, 1, true, true, false, "e39a", "a4c7", 102, 90, true, false));
+l1_table03.put(List.of("c240b", "bf9e", "df5e", 216321, 73663, 5, false, false, false, "d80e", "edb6", 6, 0, true, true));
+l1_table03.get("a7cc");
+l1_table03.get("cc23");
+l1_table03.put(List.of("b0071", "ce1d", "ea06", 14894, 319, 6990, false, false, true, "b5df", "c49e", 26, 0, true, false));
+l1_table03.put(Arrays.asList("bc043", "a7a1", "c2634", 0, 0, 555, false, true, true, "ebae", "ce4f", 0, 0, null, false));
+l1_table03.put(List.of("e6ac", "b69e", "ed0c", 13, 0, 49, false, true, false, "a7b6", "a832", 637, 49, true, true));
+l1_table03.put(Arrays.asList("c5be", "d006", null, 38, 89, 26, true, false, true, "a00b", "e62c5", 0, 0, false, false));
+l1_table03.put(List.of("ffab", "e01f2", "a830", 0, 0, 0, false, false, false, "d1fb", "bc09", 0, 882653, true, false));
+l1_table03.put(List.of("e991", "f0a1", "f153", 298, 0, 17520, false, false, false, "eb7e", "a545", 3, 438788, true, false));
+l1_table03.get("c712");
+l1_table03.get("c4a4");
+l1_table03.put(Arrays.asList(null, "c8b7", "c3e4", 11, 0, 155, true, false, false, "b1c6", "e5fa", 0, 3, true, false));
+l1_table03.remove("c587");
+l1_table03.put(List.of("c1cd", "c30d", "fd7f", 12319, 18424, 12049, true, false, false, "c857", "a372", 1552, 3, true, true));
+l1_table03.get("c360");
+l1_table03.put(List.of("bd75", "a2a3", "b4ba", 140, 4388, 1935, true, false, false, "a0e9", "b315", 0, 0, false, false));
+l1_table03.put(List.of("a0da3", "b467", "c1cda", 1, 0, 201, false, true, true, "b8a2", "ff2a", 204, 47, false, true));
+l1_table03.put(List.of("aef3", "be84", "e03d", 16890, 1254, 16, false, false, true, "d4dd", "f494", 0, 418, false, false));
+l1_table03.put(List.of("b3f9", "de74", "d58d", 87, 0, 0, false, true, true, "be058", "ef54", 0, 0, false, true));
+l1_table03.put(Arrays.asList("cb71", "fca9", "d82d", 0, 99, 0, true, null, true, "de1b", "eea1", 945, 0, false, false));
+l1_table03.put(List.of("c853", "ba43", "a44a", 2391, 0, 85, true, false, true, "ed56", "ef53", 10655, 6, true, true));
+l1_table03.put(Arrays.asList("eb5b", "d5b1", "a6f8", null, 0, 0, false, true, true, "ced33", "d941", 0, 4116, true, false));
+l1_table03.put(List.of("f5f4", "faa2", "c9c6", 3453, 3, 0, true, false, false, "a87c", "ad7a", 0, 440, false, false));
+l1_table03.put(List.of("a293", "c7f5", "e596", 4, 0, 2176, true, false, false, "bc91", "c481", 0, 1, false, true));
+l1_table03.remove("ff6f");
+l1_table03.put(Arrays.asList("a8f3", "a993", "bd0dd", 0, 19564, 0, true, false, null, "c5b7", "fbb2", 3, 7, false, false));
+l1_table03.put(Arrays.asList("de45", null, "afad", 0, null, 0, false, false, true, "b20a", "ae85", 0, 3, true, true));
+l1_table03.get("e5aa");
+l1_table03.put(List.of("ddf7", "f646", "c94a", 0, 127, 885, true, true, false, "b32e", "c39a", 0, 0, true, true));
+l1_table03.put(List.of("b952", "d84f", "c67f", 0, 0, 0, true, true, false, "a095", "fc55", 1, 80, false, true));
+l1_table03.put(List.of("e129", "ceac", "b85c", 1746, 0, 0, true, false, false, "fa3d", "ed86", 6, 0, false, false));
+l1_table03.get("c8cd");
+l1_table03.put(List.of("c0ee", "c35f", "ee3a", 0, 127, 0, false, false, false, "cbf1", "a727", 0, 0, false, false));
+l1_table03.put(List.of("f91b", "c7f9", "d78b", 328, 9, 512, false, true, true, "d11a", "fee9", 43877, 0, false, false));
+l1_table03.remove("ade1");
+l1_table03.remove("aa7a");
+l1_table03.get("dd42");
+l1_table03.put(List.of("bfa9", "e551", "b413", 0, 0, 0, false, true, false, "e79c", "d4f6", 872258, 29541, false, true));
+l1_table03.put(List.of("a6e8", "ae3b", "f732", 0, 0, 0, false, true, false, "df61", "f872", 0, 0, false, true));
+l1_table03.put(List.of("ab02", "af1e9", "ca2b", 0, 0, 0, false, true, true, "a3c0", "a7e82", 64, 92645, true, false));
+l1_table03.put(List.of("bc02", "d6a11", "e109", 24, 2, 0, false, false, true, "e2d9", "ba34", 0, 0, false, true));
+l1_table03.put(List.of("a134", "dcb8", "a99d", 0, 0, 6, false, true, true, "c039", "aaeb", 0, 8, true, true));
+l1_table03.put(List.of("de09", "c03d", "a602", 3, 788, 0, true, false, true, "c18a", "f693", 0, 0, true, false));
+l1_table03.put(List.of("cdb6", "a0f5", "b85e2", 0, 0, 0, true, true, true, "b4d3", "e29b", 10507, 11, false, true));
+l1_table03.put(List.of("e1009", "e93c", "c6a2", 0, 3558, 0, false, false, true, "aecc", "a0a1", 5, 41, false, true));
+l1_table03.get("b716");
+l1_table03.put(List.of("c424", "c594", "b64b", 138, 0, 5230, true, true, true, "f461", "b7ca", 333629, 0, true, false));
+l1_table03.get("e570");
+l1_table03.put(List.of("bc11", "ce1f", "f4a6", 10, 637128, 0, true, false, false, "e0d0", "eabb", 0, 16, false, false));
+l1_table03.put(Arrays.asList("e0f8", "f77c", "c23f", 0, 2114, 0, false, false, null, "ff40", "db6f", 4, 4366, true, false));
+l1_table03.put(List.of("bc7f0", "a2f1", "e529", 45, 0, 8953, true, true, false, "b035a", "aea6", 1198, 0, false, true));
+l1_table03.remove("b61d");
+l1_table03.put(List.of("af72", "bb17", "a1f3", 0, 0, 16, false, true, false, "a2ae", "c136", 0, 24, true, false));
+l1_table03.put(List.of("f5ac", "d526", "d7eb", 0, 0, 8411, false, true, false, "af46", "a35b", 5, 1189, false, false));
+l1_table03.put(List.of("b2fd", "a6dc", "e463", 259, 0, 0, false, true, true, "ca1e", "ddee", 0, 0, false, false));
+l1_table03.get("af2b");
+l1_table03.remove("c6fe");
+l1_table03.put(Arrays.asList("e2035", "c12d", "b80c", 385, 0, 75917, false, true, false, "c619", "b481", 100, 287, null, false));
+l1_table03.put(List.of("cc01", "e12f", "a6b9", 15, 0, 11, true, false, true, "a378", "c2cd", 1, 0, false, true));
+l1_table03.get("a3c4");
+l1_table03.put(List.of("d4f5", "b73c", "a477", 0, 2159, 2, true, true, false, "d541", "bddd", 576, 292, false, true));
+l1_table03.put(List.of("bf45", "b72d", "e492", 144, 12076, 188, false, false, false, "c09f5", "c2ca", 0, 44, false, true));
+l1_table03.put(List.of("c39f", "b711", "ac64e", 1295, 43666, 6, true, true, true, "e322", "e7d5", 15, 100014, true, true));
+l1_table03.put(Arrays.asList("a2f3", "f08b", "de644", 0, 15, 0, false, null, true, "c285", "a601", 93, 2440, false, false));
+l1_table03.put(List.of("a750", "fb61", "aee00", 0, 1, 8, true, true, true, "ce6b", "bb8a", 0, 0, false, true));
+l1_table03.put(List.of("edc87", "d0ee", "f866", 8, 4, 317, false, false, true, "c143", "e2d5", 52, 0, true, true));
+l1_table03.put(List.of("b1b2", "c3d9", "d054", 34178, 0, 0, false, false, true, "a5eb", "ffff", 3228, 97, false, true));
+l1_table03.put(List.of("aaca", "fdc1", "e4f9", 0, 0, 23, false, false, true, "e6aa0", "cd6b", 0, 74971, false, false));
+l1_table03.put(List.of("c9f4", "c0d1", "d233", 0, 0, 0, false, false, true, "ebf9", "b8e2", 25, 91835, false, true));
+l1_table03.put(List.of("e797", "d1e0", "e49e6", 5945, 589, 5064, false, false, false, "d3b1", "ee39", 16, 784, false, true));
+l1_table03.put(List.of("af16", "bdfb", "d5de", 0, 6, 13041, false, false, true, "f6c6", "ce05", 28, 240, true, false));
+l1_table03.put(List.of("edaa", "daa5", "af2a", 30, 166, 0, false, false, false, "da1e", "feb8", 74837, 155, false, true));
+l1_table03.put(List.of("fde0", "d140", "a8d0", 0, 0, 78, false, true, true, "c8a9", "fe59", 117, 1004, false, false));
+l1_table03.put(Arrays.asList(null, "f952", "efc4", 207, 0, 2, false, false, true, "b367", "e01e", 197, 1, true, true));
+l1_table03.put(List.of("a42b", "bdcd2", "fce5", 0, 0, 64, false, false, true, "fda4", "abf6", 5, 0, true, true));
+l1_table03.put(List.of("ba45", "c0dc", "b14f", 0, 100086, 215, true, false, false, "ec7b", "a669", 39166, 0, false, true));
+l1_table03.put(List.of("e83d", "a93f", "f022", 0, 814, 0, true, false, false, "de93", "b46d", 223, 0, false, true));
+l1_table03.put(List.of("b0d4f", "f751", "c345", 0, 715, 0, false, false, true, "d2a2", "b4dd", 15112, 49, false, true));
+l1_table03.get("a2a9");
+l1_table03.put(List.of("bb64", "cf79", "c6fd", 16, 4, 7, false, true, true, "df72", "d9ef", 5618, 12656, true, true));
+l1_table03.get("dd48b");
+l1_table03.put(List.of("da62", "cda4", "ccbb7", 7, 0, 7, true, true, true, "afcc6", "aa302", 4633, 0, false, true));
+l1_table03.get("b049");
+l1_table03.remove("c78b");
+l1_table03.put(List.of("dc7e", "e946", "cfe4", 1415, 0, 0, true, false, false, "cfbc", "d5ba", 13018, 1, false, true));
+l1_table03.put(Arrays.asList("a00d", "a791", "e1fd", 18, 0, null, true, false, null, "dab2", "aeb5", 0, 394, false, true));
+l1_table03.put(List.of("ac21", "aa5fe", "ebc3", 1343, 0, 3702, true, true, true, "e0de", "d897", 0, 0, true, false));
+l1_table03.put(List.of("ae1f", "a95f", "a035", 1985, 652, 877, false, false, true, "f580", "e743", 0, 4993, true, false));
+l1_table03.put(List.of("c6848", "bbf79", "d6be", 16262, 1, 34, true, false, true, "d471", "d876", 0, 658, true, false));
+l1_table03.put(List.of("aeea", "d28e", "eaff", 1, 2313, 5, false, false, true, "f8a8", "a13c", 388, 1, false, true));
+l1_table03.put(List.of("c782", "b57a0", "cc0e", 4, 0, 21, false, false, true, "e3a9", "e29d0", 2, 1, true, false));
+l1_table03.get("ef178");
+l1_table03.put(Arrays.asList("a200", "ddfc30", "b1a04", 811, 274, 1, false, true, true, "af75", "cc18", 86, 0, true, null));
+l1_table03.remove("ad08");
+l1_table03.put(List.of("a8b1", "a6e5", "f21c", 0, 0, 0, true, true, false, "f83d", "f5c0", 1503, 428, true, true));
+l1_table03.put(List.of("d9ed", "d0cd", "ab47", 3, 377, 10984, false, false, false, "c8b2", "aacc", 0, 27, true, false));
+l1_table03.get("c058");
+l1_table03.put(List.of("fc74", "b8ac", "bf88", 53, 1, 6625, true, true, true, "d4f8", "a174", 107, 0, true, false));
+l1_table03.remove("a730");
+l1_table03.remove("b66d");
+l1_table03.put(List.of("aa9e", "bf40", "af74", 652, 11, 6, false, true, false, "f944", "d7b5", 0, 0, true, false));
+l1_table03.remove("be8e");
+l1_table03.put(List.of("f623", "c9dc", "be1f", 0, 0, 0, false, false, false, "c5c2d", "a577", 106330, 1183, false, true));
+l1_table03.put(List.of("bcfd", "fa57", "a86d9", 31, 315, 0, true, false, false, "a2a7", "cef8", 0, 688, false, false));
+l1_table03.put(List.of("e29ec", "d0fa", "c07e", 0, 770, 63, false, false, false, "d49e", "d2af", 0, 604, true, true));
+l1_table03.put(List.of("f676", "b17f", "d2cd", 25, 0, 0, false, true, false, "faa6", "cc3a", 0, 1485, true, false));
+l1_table03.remove("d494");
+l1_table03.remove("cf1e");
+l1_table03.put(List.of("b665", "dfa9", "d2a7", 0, 0, 3, false, false, true, "ae53", "e994", 0, 1, false, false));
+l1_table03.put(List.of("b9f8", "c65c0", "c21a", 2, 1, 4, true, true, true, "b849", "a30f9", 0, 87624, false, false));
+l1_table03.put(List.of("ece4", "afb8", "a24b", 0, 2, 407, false, true, false, "d209", "b162", 57570, 0, false, false));
+l1_table03.remove("a301");
+l1_table03.get("e281b");
+l1_table03.put(List.of("de34", "d023", "a70a", 1, 65, 0, false, true, false, "ebe0", "caec", 9727, 10629, true, true));
+l1_table03.put(List.of("ac0b", "d2ef3", "fc29", 629, 0, 20, true, true, false, "b02d", "f81f", 488, 0, true, true));
+l1_table03.remove("d906");
+l1_table03.remove("ccda");
+l1_table03.put(Arrays.asList("ad2d3", "e0b0", "df06", 0, 4, 0, true, false, false, "ca83", "a85c", 3628, null, false, true));
+l1_table03.get("b8dd");
+l1_table03.put(List.of("c61f", "b846", "fbed", 10265, 46755, 0, false, false, true, "b537", "bc3e", 120, 344, true, false));
+l1_table03.put(Arrays.asList("b4f7", "c9d1c", "a6bd5", null, 3, 0, false, false, false, "c9f3", "a57e", 50, 0, true, true));
+l1_table03.put(List.of("c225", "c697", "ca21f", 0, 0, 0, true, true, true, "fb36", "ba94", 60, 382, true, false));
+l1_table03.remove("c1ea7");
+l1_table03.put(List.of("d255", "ed27", "bd2d", 0, 0, 10184, true, true, false, "fd0c", "ce7f", 31, 0, false, false));
+l1_table03.put(List.of("a312", "a26c", "b085c", 0, 270, 5996, true, true, false, "fba8a", "ae11", 296896, 0, false, true));
+l1_table03.put(List.of("a772", "ff06", "a052", 3, 0, 0, true, true, false, "b05b", "e89d", 57, 0, true, false));
+l1_table03.put(List.of("b3e7", "fff2", "b20f", 0, 0, 0, false, false, false, "d02b", "b8c1", 0, 6, true, true));
+l1_table03.put(Arrays.asList("aba6", "a5d6", null, 70750, 491, 145, true, true, false, "b845", "bf1a", 850, 0, false, true));
+l1_table03.remove("dcf1");
+l1_table03.put(List.of("e6b6", "a27c", "ef2c", 0, 11, 5167, true, false, false, "af7a", "a9cf", 1129, 1, true, false));
+l1_table03.put(List.of("a93c", "e442b", "b9e9", 19, 0, 0, true, true, true, "c1bc", "a8a3", 6899, 86, false, true));
+l1_table03.put(List.of("ac0f", "c060", "a530", 2316, 0, 53115, true, true, true, "a128", "de54", 0, 0, false, false));
+l1_table03.put(List.of("d06a", "fe5d", "b34b6", 0, 13, 157077, true, true, false, "a6e6", "fb23", 717, 1709, false, false));
+l1_table03.remove("c6c4");
+l1_table03.put(List.of("a7b5", "baa8", "ca97", 379, 47, 0, false, true, true, "a96e", "a28c", 1224, 12, false, false));
+l1_table03.remove("f7a0");
+l1_table03.put(List.of("ae10", "a042", "c2a9e", 0, 0, 103, true, false, false, "ad13", "e7da", 28131, 2426, true, true));
+l1_table03.put(List.of("c5e0", "cdd9", "a423", 0, 0, 0, true, false, false, "dd8b", "ab4c", 0, 6726, true, true));
+l1_table03.put(List.of("abe0f", "c146", "d87b", 0, 0, 0, true, false, true, "a740", "e23b", 360, 0, false, true));
+l1_table03.put(List.of("cf12", "a4ee", "e50f", 28, 11, 22054, true, false, true, "c0785", "f628", 12503, 152, true, true));
+l1_table03.get("d8bb");
+l1_table03.remove("f4abf");
+l1_table03.put(List.of("f3ed", "a184", "fe3e", 0, 211, 0, false, false, false, "d775", "abf1", 0, 22339, false, true));
+l1_table03.put(List.of("d162", "ab6f", "ce0d", 20518, 0, 0, false, false, true, "d733", "a4e23", 456, 512499, false, true));
+l1_table03.put(List.of("a358", "b7f4", "f5cd", 57, 3073, 0, false, true, true, "dae6", "a2b83", 892, 0, false, false));
+l1_table03.put(List.of("a2c2", "c449", "dac3", 0, 0, 0, false, false, false, "b499", "ae6d", 28199, 0, false, false));
+l1_table03.put(List.of("abae", "ad70", "cbd0", 5, 784, 257, false, true, false, "d7cd7", "ab77", 3373, 166, true, false));
+l1_table03.get("c5a5");
+l1_table03.put(List.of("c10b", "a81e", "a67e", 13, 0, 12118, true, false, false, "e0e7", "d514", 0, 3, false, true));
+l1_table03.put(Arrays.asList("f820", "b900", "ff31", 0, 2, null, true, false, false, "a111", "cc20", 1, 7, true, false));
+l1_table03.put(List.of("d5bf", "fede", "cb79b", 488, 188, 0, false, true, true, "d336", "c17e", 3493, 0, true, true));
+l1_table03.remove("c6a1");
+l1_table03.put(List.of("b31c", "b5f2f", "dd87", 0, 57, 2619, true, true, true, "a10e", "a94e", 0, 0, false, false));
+l1_table03.put(List.of("de85", "efd1", "f1ae", 0, 14, 0, false, false, true, "b8f3", "b455", 0, 0, false, true));
+l1_table03.put(Arrays.asList("b7d5", "e9c9", "c22f", 0, 11140, 0, null, true, false, "d69e", "c659", 512, 2, false, false));
+l1_table03.remove("f4c50");
+l1_table03.put(List.of("ada8", "bec9", "cf72", 4, 66, 8, false, true, false, "bc63", "b1b0", 683, 1261, true, true));
+l1_table03.remove("aa88");
+l1_table03.remove("a35d9");
+l1_table03.put(List.of("ede1", "b539", "c2906", 0, 2, 8, true, false, true, "b9c3", "f378", 0, 0, true, true));
+l1_table03.get("e3ae");
+l1_table03.remove("edd6");
+l1_table03.put(List.of("d78d", "a947", "aa63", 0, 1, 0, true, false, false, "bf5b", "d48f", 7, 5, true, false));
+l1_table03.put(List.of("aead", "d982", "a7ab4", 0, 280, 24346, false, true, false, "be70", "fd37", 138, 102, false, true));
+l1_table03.put(List.of("f20e", "c3cb", "c17f", 0, 11218, 10, false, false, true, "f4af", "c226", 0, 249, false, false));
+l1_table03.put(Arrays.asList("ebc5", "d730", "ec3a", 0, 9533, 0, true, null, false, "e120", "d268", 34, 0, false, false));
+l1_table03.put(List.of("b353", "b0362", "c0ba", 4671, 160, 308, true, false, false, "c591", "cccc", 32, 0, true, true));
+l1_table03.remove("ff2c");
+l1_table03.put(List.of("b314", "e7bb", "b120", 0, 0, 2184, false, true, true, "f65c", "d396", 11, 4780, false, true));
+l1_table03.put(List.of("f3e3", "d0ef", "be68", 137, 1, 7, false, true, true, "bfb3", "a61c", 0, 555, false, true));
+l1_table03.remove("c06b");
+l1_table03.put(List.of("d404", "c90db", "d42c", 0, 0, 3681, false, true, false, "bcf6", "cb9cd", 0, 5, true, false));
+l1_table03.put(List.of("d373", "f7db", "b5592", 0, 0, 8210, true, true, true, "c1bb", "c248", 155, 2, false, false));
+l1_table03.put(List.of("f345", "a900", "cc6e", 69, 39218, 0, true, true, false, "b035", "b52c", 267, 9, false, true));
+l1_table03.put(List.of("a1ea", "e294", "afcb", 1368, 0, 14, false, false, false, "c6b3", "b1260", 568, 0, false, false));
+l1_table03.remove("a21d");
+l1_table03.put(List.of("e0230", "c787", "a68a", 972204, 3, 0, true, true, false, "a9f9", "e261", 0, 0, true, false));
+l1_table03.put(List.of("b81c", "f3ad", "cca8", 564, 5, 0, false, true, false, "a65e4", "d715", 0, 0, false, false));
+l1_table03.put(Arrays.asList("bade", "bda9", "ce7d2", 1510, 5, 0, true, true, null, "bb0e", "a2bc", 0, 0, false, false));
+l1_table03.remove("bf67");
+l1_table03.put(List.of("c6bd", "e680", "ade9e", 0, 0, 0, true, false, true, "e5399", "aad9", 2649, 0, false, true));
+l1_table03.put(List.of("a27f", "c5b0", "db53", 0, 0, 274, false, true, false, "d38b", "c427", 0, 0, true, false));
+l1_table03.remove("c0f9");
+l1_table03.put(List.of("aa9a8", "cd88", "d890", 0, 2, 77692, false, false, false, "d77e", "b241", 3174, 142, true, true));
+l1_table03.remove("b92c");
+l1_table03.put(List.of("e480", "b821", "eb89", 0, 9, 2105, false, false, true, "a24d", "d9b5", 0, 31, false, true));
+l1_table03.put(List.of("aaad", "e212", "ac48", 0, 0, 2429, true, false, false, "f97c", "d487", 8574, 11, true, false));
+l1_table03.put(List.of("ef3e", "b40e", "cdbcc", 151019, 0, 58766, true, true, false, "fa81", "e326", 14944, 0, false, true));
+l1_table03.put(List.of("d8c9", "b7aab", "bea4", 706, 0, 4, false, true, true, "a8e6", "df56", 1623, 0, false, false));
+l1_table03.put(List.of("f123", "d3bc", "dfa6", 782, 8, 0, true, true, false, "c1b6", "e093", 25, 0, false, true));
+l1_table03.put(List.of("ace8", "b6c8", "ed25", 137, 1, 0, false, true, true, "c977", "c38d", 0, 63, false, false));
+l1_table03.remove("be20");
+l1_table03.put(List.of("af65", "b0ed", "bad3", 0, 71034, 2622, true, false, false, "dcb7", "e628", 0, 1103, true, false));
+l1_table03.put(Arrays.asList("dd50", "adee", "c879", 2, 11511, 0, false, false, false, "c0f8", null, 57, 0, false, true));
+l1_table03.put(List.of("d66e", "b696a", "d4d0", 4849, 3655, 18, false, false, true, "bf72", "ff4a", 0, 7987, true, false));
+l1_table03.put(List.of("abaa", "eca7", "d6bb", 0, 219, 5, true, true, false, "bbca", "d86b", 996, 225, true, true));
+l1_table03.put(List.of("e2469", "dcb3", "b31b", 473, 2889, 0, true, true, false, "a945", "cd34", 0, 436, true, false));
+l1_table03.get("c025");
+l1_table03.put(Arrays.asList("db61", "d5b9", "df64", 125855, 4, 0, true, true, true, "e1cc", "c250", 0, 0, null, true));
+l1_table03.put(Arrays.asList(null, "a241", "e0c1f", 3, 40, 953, true, false, true, "f886", "ca85", 20, 10463, true, false));
+l1_table03.put(List.of("e818", "c1d8", "e7c8", 138, 98, 154, false, false, true, "ad8e", "c177", 3140, 29763, false, true));
+l1_table03.remove("a2b16");
+l1_table03.put(List.of("b6157", "bb5f", "ff19", 145375, 2, 0, true, false, true, "fb04", "b355", 13, 4185, false, false));
+l1_table03.put(List.of("a4b9", "fdf0", "ea2b", 0, 1, 6, false, true, true, "c48c", "b840", 54, 0, false, false));
+l1_table03.put(List.of("e478", "cc7d", "e48a8", 0, 707, 1, false, true, true, "bc47", "ddc5", 0, 99424, false, false));
+l1_table03.put(Arrays.asList("fbfb", "d7a8", "b397", 0, 46, 0, false, true, true, "bf70", "de25", null, 417, true, false));
+l1_table03.put(List.of("bf0e5", "d4e7", "d4cc", 1190, 7, 0, false, false, true, "c7c0", "a565", 245023, 98848, true, false));
+l1_table03.put(List.of("f5b6", "e940f", "e54b", 2591, 0, 41, true, false, false, "a356e", "b220", 132, 983, true, true));
+l1_table03.put(List.of("e1b8", "e00e", "a50f", 0, 2627, 0, false, false, true, "e9d5", "b538", 0, 0, true, false));
+l1_table03.put(List.of("ef95", "db26", "bb385", 5, 0, 49800, true, false, false, "d164", "c2b33", 0, 135, true, false));
+l1_table03.put(List.of("c0bc", "bdc1", "f088", 0, 0, 26, false, true, false, "c98e", "e690", 168, 4, false, false));
+l1_table03.put(List.of("b18c", "bf50", "c5a9", 0, 1, 21, false, false, true, "f606", "dc30", 936, 0, false, false));
+l1_table03.put(List.of("eca0", "bd19", "bd67", 0, 0, 117, true, true, true, "f553", "a0b95", 0, 35296, true, true));
+l1_table03.put(List.of("b8d8", "f20b", "c390", 312, 3, 0, true, true, false, "bfd8", "e38c", 16, 7657, true, true));
+l1_table03.remove("b5d7");
+l1_table03.put(List.of("b50a2", "b4b7", "e7a4", 0, 6, 0, true, false, true, "abf9", "bf71", 0, 0, true, true));
+l1_table03.put(List.of("b249", "adb4", "ca3d", 5473, 4, 7, true, false, false, "f869", "cd1c", 0, 0, true, true));
+l1_table03.put(List.of("abbf", "a4458", "ee99", 0, 0, 64, true, true, false, "fe3c4", "a64c", 0, 1701, false, true));
+l1_table03.put(List.of("bb65", "bdf6", "f260", 0, 0, 0, true, true, false, "f747", "a5df", 112, 5919, false, false));
+l1_table03.put(List.of("b737", "a94f", "e633", 1317, 0, 1631, false, false, false, "a5e9", "ee69", 0, 0, false, false));
+l1_table03.get("e386");
+l1_table03.put(List.of("ca14", "a676", "c1c4", 32778, 23819, 0, true, false, false, "ce223", "bf24", 0, 19097, false, true));
+l1_table03.put(List.of("ae24", "f5c1", "d64a", 4810, 0, 0, true, false, true, "d1ee", "d5ff", 321, 56012, false, true));
+l1_table03.get("cf0b");
+l1_table03.put(List.of("fb1b", "ca5f", "ed5f", 0, 134731, 9, true, true, false, "e301", "d6e1", 1740, 0, false, false));
+l1_table03.put(List.of("faf1", "cf8f", "dc24a", 61, 50, 258, true, false, false, "ffe6", "f009", 63141, 0, true, true));
+l1_table03.put(List.of("ddad", "ebcc", "efae", 18182, 1019, 228, true, true, true, "a4fc", "d79c", 0, 6075, true, true));
+l1_table03.put(List.of("c7f8", "e45f", "cb509", 0, 14, 0, false, false, true, "d52c", "dc69", 1, 5322, true, false));
+l1_table03.put(List.of("d3a4", "bf4b", "ae621", 1225, 64694, 0, true, true, true, "d33e", "ae123", 12, 7874, false, false));
+l1_table03.put(List.of("b820", "d4ec", "e0ce7", 390, 6229, 0, true, false, false, "f78a", "ada13", 0, 936, false, true));
+l1_table03.get("a98a");
+l1_table03.remove("b416");
+l1_table03.put(List.of("ca2f", "b580", "efec", 86, 6105, 34, false, true, false, "f7b2", "f3b7", 0, 0, true, false));
+l1_table03.put(List.of("ab8b", "fc664", "a489", 170, 0, 0, false, true, true, "a796", "b474", 1402, 395, false, true));
+l1_table03.remove("e418");
+l1_table03.get("b979");
+l1_table03.put(List.of("a51f", "b270", "f22f", 1208, 0, 0, false, false, false, "baff", "e411", 0, 14686, false, true));
+l1_table03.put(List.of("b9777", "a9a5", "d05e", 0, 0, 118, true, true, true, "abe4", "db15", 0, 0, false, true));
+l1_table03.put(List.of("e6ab", "b0da", "a9d0", 29950, 730, 0, true, true, true, "d512", "d06e", 0, 0, false, true));
+l1_table03.put(List.of("e689", "ab4f", "c2a2", 202, 78303, 26, false, false, false, "d792", "a075", 0, 2888, true, false));
+l1_table03.remove("a908");
+l1_table03.remove("e1ee");
+l1_table03.get("d263");
+l1_table03.put(List.of("a311", "f6bd", "b623", 0, 26, 8971, true, false, true, "bd6e", "a7b3", 4, 0, false, true));
+l1_table03.put(List.of("c720", "ef8c", "c4cb", 8045, 0, 23710, false, false, false, "c5aae", "b06a", 2, 0, false, true));
+l1_table03.get("ab0a");
+l1_table03.remove("c95a");
+l1_table03.put(List.of("e0b8", "b149", "ce632", 0, 258, 2, true, true, true, "d89a9", "d8b4c", 6, 0, false, true));
+l1_table03.get("c2ee");
+l1_table03.put(List.of("aff2", "bcb7", "dbfd4", 14, 39, 654, true, true, true, "b30e", "e985", 12, 0, false, false));
+l1_table03.get("f1f6");
+l1_table03.put(List.of("b450", "d778", "e768", 0, 0, 0, true, false, true, "ca137", "cdf88", 0, 0, true, true));
+l1_table03.put(List.of("d576", "f5ef", "b19d", 0, 0, 2239, false, false, false, "ada6", "fb72", 3, 52, false, false));
+l1_table03.remove("cc1c");
+l1_table03.put(List.of("b29c", "f0f4", "b02b", 217, 0, 12, true, true, true, "a1cf", "c61d", 8, 296, false, true));
+l1_table03.put(List.of("f0e84", "b00a", "cd4b", 208, 5929, 0, true, true, true, "cc1d", "d23b", 0, 2, false, false));
+l1_table03.get("a39b8");
+l1_table03.remove("ef10f");
+l1_table03.put(List.of("dbb9", "b350", "da73", 105, 14, 45, true, true, false, "c638", "c53f7", 15947, 0, true, true));
+l1_table03.put(List.of("a76c", "a45a", "f5f9", 136, 0, 38, true, false, false, "a418", "c964", 251, 732, false, true));
+l1_table03.put(List.of("e009", "e5ae", "cf2b", 138, 3, 256988, false, true, true, "b9e3", "d277", 506, 9771, true, false));
+l1_table03.put(List.of("da8d", "ba57", "f761", 0, 73, 6, true, false, false, "ed85", "c5b54", 0, 9418, false, true));
+l1_table03.get("cca70");
+l1_table03.put(List.of("c132", "d883", "e1ac", 35886, 12, 0, true, true, true, "df33", "f3ae", 105784, 16, false, true));
+l1_table03.get("d8e3c");
+l1_table03.remove("cbdf");
+l1_table03.put(List.of("a992", "b0d0", "fa3f", 25, 0, 0, true, true, true, "ddcd", "b7a5", 0, 0, true, true));
+l1_table03.put(List.of("b286", "a65b", "bd24", 0, 9808, 14, true, true, false, "fe4d", "b7b5", 0, 333, false, true));
+l1_table03.put(List.of("e8a9", "c77b", "c2c6", 23542, 36, 6, true, true, false, "b029", "bec0", 0, 0, false, false));
+l1_table03.remove("b70e");
+l1_table03.put(Arrays.asList("ba17", null, "cab0", 6, 0, 0, true, true, true, "eed9", "caba", 1, 1, false, false));
+l1_table03.put(List.of("a4db", "db77", "aec1", 11, 3, 0, false, true, true, "dfaa", "b26b", 0, 0, true, true));
+l1_table03.put(List.of("c5eec", "c439", "a8102", 1, 1508, 0, false, false, true, "c183", "f9007", 26, 51032, false, true));
+l1_table03.put(List.of("ae69", "a115", "f1ff", 51063, 33, 0, false, true, false, "c20c", "a3d2e", 1358, 0, true, true));
+l1_table03.put(List.of("b234", "e509", "d17a", 2, 0, 2200, true, true, false, "b526", "d1ff", 0, 0, false, false));
+l1_table03.put(List.of("e904", "bc39", "de7d", 0, 71, 0, true, true, true, "dccb", "a3ab", 0, 0, true, false));
+l1_table03.remove("f96f");
+l1_table03.put(List.of("a9be", "e3ff", "e13d", 1, 0, 9, true, true, false, "ec6c", "b8a6", 7, 396, true, false));
+l1_table03.put(Arrays.asList("c822", "c31e", "dde2", 5216, 62, 441673, false, false, null, "e717", "c953", null, 0, true, true));
+l1_table03.remove("ec113");
+l1_table03.put(List.of("bdb95", "c3af", "f690", 0, 3, 0, true, false, false, "e247", "bb60", 4, 9, true, false));
+l1_table03.get("aad6");
+l1_table03.put(List.of("bfb5", "ab8e", "fc69", 0, 1, 2, true, true, true, "ac28", "b4468", 79, 0, false, true));
+l1_table03.put(List.of("cb9e", "a836", "a300", 862, 46, 1, false, true, false, "aac0", "a50d", 0, 0, true, true));
+l1_table03.put(Arrays.asList("dcc9", "ae4a", "fd156", 0, 100, 0, true, true, false, "c459", null, 4, 0, true, true));
+l1_table03.put(Arrays.asList("c883", "aadf6", "b3a8", 0, 1, 0, true, true, false, "faba", "a071", null, 203, true, false));
+l1_table03.put(List.of("b53a", "bcf9", "e6d3", 0, 0, 0, false, true, true, "f3fa", "e94c", 27, 3273, false, false));
+l1_table03.put(List.of("d424", "cd73", "cec6", 1510, 12, 0, false, false, true, "d043", "fbe7a", 0, 8396, true, false));
+l1_table03.put(List.of("ef04", "c972", "dbc96", 156, 74014, 1324, false, true, true, "bd62", "eb95", 1428, 0, false, false));
+l1_table03.get("b2ab");
+l1_table03.put(List.of("b77a", "a5b3", "acc2", 7, 0, 0, false, true, false, "f48e9", "cb46", 7118, 114, true, true));
+l1_table03.remove("c090");
+l1_table03.remove("aefc");
+l1_table03.remove("a5b5");
+l1_table03.get("fdcc");
+l1_table03.put(List.of("de69", "bf35", "c95b", 0, 0, 0, true, false, true, "fe6e", "df6a", 0, 0, false, true));
+l1_table03.remove("de53");
+l1_table03.put(List.of("cd76", "c02b", "b11f", 4, 0, 0, true, true, false, "a29e", "f814", 5, 3, false, false));
+l1_table03.put(List.of("a4c1c", "bf81", "c5c4", 0, 1, 381, true, false, true, "b24f", "c186", 4, 57142, false, false));
+l1_table03.put(List.of("b019", "a29b", "b86d", 1389, 0, 0, false, true, true, "be9e", "f881", 45, 0, true, false));
+l1_table03.put(List.of("ec56", "d369", "f1496", 747, 0, 0, true, true, false, "ab2b", "dbc1", 1, 49, false, true));
+l1_table03.get("b410");
+l1_table03.put(Arrays.asList("e857", "c7c7", "fd7d", 16, 20, 1902, true, true, true, "c8cf", "db98", 1, null, true, true));
+l1_table03.remove("e102");
+l1_table03.put(Arrays.asList("b803", "d622", "bdf2c", 24578, 743, 0, true, true, true, "f2d0", "eac0", 1, 0, true, null));
+l1_table03.put(List.of("a8a0", "f9cb", "aa6f", 55, 26, 0, false, true, true, "c3e6", "a1ce", 0, 0, true, false));
+l1_table03.remove("f3bb");
+l1_table03.get("fe31");
+l1_table03.put(List.of("a222a", "d874", "a38e", 186, 957, 0, false, true, false, "c3c0b", "bb05", 0, 943, false, false));
+l1_table03.put(Arrays.asList("dca4", "b183", "c580", null, 0, 160, false, false, true, "a12f", "c796", 444, 262, false, true));
+l1_table03.put(List.of("af4d", "b247", "f7ca", 0, 27920, 0, false, true, true, "a306", "d18e", 130, 66, true, true));
+l1_table03.put(List.of("b9c9c", "c9f1", "db65", 1, 0, 13, false, false, false, "a339", "c9a3", 5, 0, false, true));
+l1_table03.put(Arrays.asList("a6fe", "a3f5", "c3197", 0, 9, null, false, true, false, "b108", "f812", 0, 120, true, true));
+l1_table03.get("d1a8");
+l1_table03.put(List.of("a1e0", "b975", "a968", 656, 35, 0, true, false, true, "ad5c", "de9e", 258, 0, true, false));
+l1_table03.put(List.of("bf42", "cd499", "d016", 1345, 0, 5, false, false, true, "d4f2", "db3d", 140, 711, false, false));
+l1_table03.get("e0959");
+l1_table03.put(List.of("ba58", "e151", "bbd4", 5879, 8, 0, true, true, true, "c575b", "b83c9", 1, 14, false, true));
+l1_table03.put(List.of("c092", "b487", "b436", 0, 0, 0, false, true, true, "d44e", "e2d2", 15, 0, true, false));
+l1_table03.put(List.of("c5ab8", "ac8d", "c532", 78, 102, 36, true, false, false, "dd93", "f5f2", 0, 0, false, false));
+l1_table03.put(List.of("b63f", "c3d4", "e5ea", 0, 23658, 0, true, false, true, "bd299", "d910", 160, 0, false, true));
+l1_table03.put(List.of("eedca", "c67af", "d85e4", 11445, 9402, 3229, false, false, true, "dea8", "f5f6", 30, 25635, false, true));
+l1_table03.put(Arrays.asList("b99e", "a27e", "e9e8", null, 0, 0, false, false, true, "b0b5", "c17c", 0, 150678, true, true));
+l1_table03.remove("f550");
+l1_table03.put(List.of("a5b2", "ba07d", "b985", 0, 47, 0, false, false, false, "ba908", "c103", 20, 65827, true, false));
+l1_table03.put(List.of("a8f84", "a142", "bb11", 376846, 4, 0, false, false, true, "ed563", "aba2", 0, 58, true, true));
+l1_table03.put(List.of("e52a", "a6f0", "af43", 3064, 11, 10, false, false, false, "f0fd", "c77f", 6993, 57, true, true));
+l1_table03.get("bd6c");
+l1_table03.remove("b68b1");
+l1_table03.put(List.of("ee68", "dad8", "bfe1", 35, 49, 24, false, false, true, "f42a", "f77f", 1307, 0, true, true));
+l1_table03.put(List.of("f705", "d804", "b454", 0, 7, 3226, false, false, false, "a6e4", "a619", 105, 0, true, false));
+l1_table03.put(List.of("fd4b", "d4b7", "d6a9", 30938, 0, 0, false, true, false, "dbba", "b2c9", 1, 135, true, false));
+l1_table03.remove("bdee");
+l1_table03.get("c026");
+l1_table03.remove("e28ad");
+l1_table03.put(List.of("e7ef", "ebe21", "bb6e", 5, 0, 208, true, false, false, "c69a", "e85f", 0, 0, false, true));
+l1_table03.put(List.of("dd72", "f782", "a1e8", 99, 0, 79, true, false, true, "d869", "c59e", 0, 0, true, true));
+l1_table03.put(List.of("a94c", "d10f", "c284", 3369, 21, 48561, true, false, true, "a244", "ae54", 0, 0, true, true));
+l1_table03.put(Arrays.asList("e19c", "d300", "c9e1", 0, 7, 0, true, null, false, "ddb5", "a2dd", 27, 2, true, true));
+l1_table03.remove("b96c");
+l1_table03.put(List.of("c667", "c33f", "c1c5", 1, 0, 0, true, true, false, "fa1f", "a475", 16962, 9, false, false));
+l1_table03.put(Arrays.asList("db60", "acff", "c6c6", 0, null, 0, false, true, true, "c8b6", "c8b9", 0, 0, false, true));
+l1_table03.remove("dcf7");
+l1_table03.get("bb3d");
+l1_table03.put(List.of("bfa2f", "e776", "b7a3a", 1, 0, 206, false, true, false, "a927", "b291", 2, 91, true, false));
+l1_table03.put(List.of("e271", "c77c", "e049", 2002, 0, 0, false, false, false, "fd70", "e3ee", 0, 91713, true, true));
+l1_table03.put(List.of("ab0f", "dd79", "f31e", 1, 266, 1, true, true, false, "a88c", "c4f0", 0, 9312, true, false));
+l1_table03.put(List.of("ac40", "ac76", "a810", 35, 70452, 145, false, false, true, "bce6", "d134", 43, 14395, false, false));
+l1_table03.put(List.of("cceb4", "c500", "e219", 44, 319, 4242, true, true, false, "b45d", "c39d", 0, 0, false, false));
+l1_table03.put(List.of("c6d9", "a679", "b6e6", 0, 0, 0, false, true, true, "da9c", "ee15", 5, 21, true, false));
+l1_table03.put(List.of("d8c3", "b8de", "ae4e", 0, 3, 0, false, true, true, "a48f", "ff76", 22, 0, false, true));
+l1_table03.put(List.of("a1b4", "bd02f", "d7ee", 0, 329, 30, false, false, false, "fa46", "f096", 24029, 3765, true, true));
+l1_table03.put(List.of("b204", "efb9", "c00e", 0, 0, 0, false, false, true, "d173", "f7fc", 385694, 0, true, true));
+l1_table03.put(List.of("b527", "b608", "b427", 124, 0, 46783, true, true, true, "d3dc", "f70c", 0, 35, true, false));
+l1_table03.put(List.of("c01b", "f039", "d958", 0, 10, 0, true, false, false, "be01", "a764", 0, 0, true, false));
+l1_table03.remove("a245");
+l1_table03.put(List.of("e1f5", "c6124", "a558", 0, 777, 79, true, false, false, "b4c8", "ce15", 0, 6429, true, false));
+l1_table03.put(List.of("ee9d", "ba59", "e1eb", 0, 25646, 0, true, true, true, "ef22", "b8798", 574, 2656, true, false));
+l1_table03.put(List.of("e121", "da0d", "f720", 0, 8, 855, true, true, false, "d7e8", "efce", 6, 0, true, false));
+l1_table03.put(List.of("e14c", "d59c", "b8b8", 34, 0, 6947, true, false, true, "c396", "ab95", 16, 813, false, false));
+l1_table03.put(List.of("c434", "be1e", "f261", 20, 0, 0, false, true, true, "dd60", "b561", 171531, 886, false, true));
+l1_table03.put(List.of("c0e5", "ad09", "ea0d", 1, 146, 0, false, false, false, "befc", "b5a6", 67, 7, false, false));
+l1_table03.remove("d2de");
+l1_table03.remove("eee6");
+l1_table03.put(List.of("bc7d", "e983", "d248f", 25, 50077, 5721, true, false, true, "ea44", "eba7", 3137, 0, false, true));
+l1_table03.put(List.of("c563", "ed9a", "dd5c", 0, 44, 2, true, true, false, "b871", "f817", 2897, 174881, false, false));
+l1_table03.put(Arrays.asList(null, "a4de", "c7b1", 0, 0, 19, true, true, false, "a6e79", "a063d", 2000, 13, false, true));
+l1_table03.put(Arrays.asList("ccc4", "e341", "f33b2", 8, 30, 0, false, null, true, "deec", "cbb9", 0, 0, true, false));
+l1_table03.remove("b721");
+l1_table03.remove("d966");
+l1_table03.remove("abbb");
+l1_table03.put(List.of("ba70c", "b919", "e195", 0, 0, 0, true, false, true, "d745", "e3e0", 1, 0, false, true));
+l1_table03.put(List.of("fc4c7", "ec38", "fc84", 0, 0, 1, false, false, true, "cdc3", "cc7d5", 0, 0, true, false));
+l1_table03.put(Arrays.asList("f45a", "cf71", "b17e", null, 0, 0, true, null, true, "ad95", "ae57", 3, 0, true, true));
+l1_table03.put(List.of("f586", "b9da", "ef52", 3381, 0, 0, true, false, true, "d783", "ac14", 657, 0, false, false));
+l1_table03.put(List.of("af60", "cabda", "d2fe", 119188, 2, 0, false, true, false, "ea4c", "a6d6", 1, 6, false, true));
+l1_table03.put(List.of("a953", "ca40", "cf1d", 0, 0, 58233, true, true, false, "b0a4", "b4ec", 0, 0, true, true));
+l1_table03.remove("ad9d");
+l1_table03.put(List.of("e7c5", "e9762", "a30d", 1841, 54, 172, false, false, true, "fd00", "e311", 32041, 140, false, true));
+l1_table03.put(List.of("c76f", "eff4", "d7c42", 0, 0, 128, false, false, false, "e8b8", "b5462", 0, 0, true, false));
+l1_table03.remove("a686");
+l1_table03.put(List.of("a856", "b14a", "ca6d", 0, 0, 3011, false, false, false, "d0b9", "a78f", 25, 20, true, false));
+l1_table03.put(Arrays.asList("f864", "b75e", "d89c", 19, 3999, 16, false, true, true, "b782", "ce91", 0, null, true, true));
+l1_table03.put(List.of("aea9", "d612", "d0f3", 455, 5, 4435, false, true, true, "f94a", "ad9f", 15, 16, true, true));
+l1_table03.remove("da2e");
+l1_table03.remove("c8b12");
+l1_table03.remove("a5cf");
+l1_table03.put(List.of("c259", "c3cc", "b328", 65, 0, 0, false, false, true, "c5d9", "a19a8", 39209, 66, false, true));
+l1_table03.put(List.of("d103", "ead4", "f4f5", 0, 73518, 89, false, true, true, "bf6d", "fa29", 14, 0, true, false));
+l1_table03.put(List.of("a33c", "ca31", "fafb", 24, 0, 0, true, false, true, "c46c", "bfbc", 286, 0, false, false));
+l1_table03.remove("acc4");
+l1_table03.put(List.of("fb74d", "b6c3", "ab14", 97, 399, 0, false, true, true, "b430", "aad7", 0, 0, false, false));
+l1_table03.put(List.of("a35c", "e58b", "c89c", 11, 3964, 0, true, true, true, "b40f", "ff0e", 1, 72, true, false));
+l1_table03.put(List.of("d9b2", "b27e", "c2dc", 11, 1, 0, true, true, true, "e5b0", "f62d", 35, 0, false, true));
+l1_table03.get("b800");
+l1_table03.put(List.of("c1a3", "dbe7", "e368", 1, 656, 261, true, true, true, "efc9", "c601", 105, 0, true, false));
+l1_table03.remove("f2be");
+l1_table03.put(List.of("b78e", "df8e", "fa31", 0, 4665, 0, false, true, true, "b9f5", "f4c7", 6, 653, true, true));
+l1_table03.get("d590");
+l1_table03.get("d3b7");
+l1_table03.put(Arrays.asList("d68b", "b324", "b298", 0, 1259, 1, false, true, false, "a9ec", "b547", 0, 0, true, null));
+l1_table03.get("d7927");
+l1_table03.remove("a400");
+l1_table03.get("fa13e");
+l1_table03.put(List.of("ee6f", "f5c8", "edf7", 0, 21, 3272, true, true, false, "d5d9", "a57eb", 0, 0, false, false));
+l1_table03.remove("f2e7");
+l1_table03.get("ccb0");
+l1_table03.put(List.of("b420", "d36c", "df12", 0, 0, 171, true, false, true, "c082", "a814", 381, 45071, true, false));
+l1_table03.put(List.of("a921", "f9b45", "cb454", 0, 1043, 0, false, false, false, "b059", "d26a", 0, 0, true, true));
+l1_table03.put(List.of("b331", "c8c3", "f28e", 0, 0, 110, true, true, false, "c1676", "b718", 0, 1043, false, false));
+l1_table03.put(List.of("d551e", "ee16", "c74c", 6, 460, 6791, true, true, true, "a825", "ee8a", 0, 2, true, true));
+l1_table03.put(List.of("d01c", "e0d5", "a732", 0, 0, 0, false, true, false, "aced", "aac8", 0, 94085, false, true));
+l1_table03.remove("bf2be");
+l1_table03.remove("f5e2");
+l1_table03.put(List.of("df94", "ac70", "a408", 0, 0, 46, true, true, true, "ddfc", "dee8", 0, 5509, true, false));
+l1_table03.put(List.of("f9fc", "cc8b", "c72d", 0, 13520, 0, false, false, true, "c1f2", "b66b", 140, 0, false, true));
+l1_table03.remove("a546");
+l1_table03.put(List.of("c053", "ab08", "b6825", 1548, 0, 0, true, false, false, "b3e3f", "cacc3", 0, 6, false, true));
+l1_table03.remove("be33");
+l1_table03.put(List.of("e439", "e08c", "b926", 0, 600, 527, true, true, true, "b018", "bdc2", 57, 31816, true, false));
+l1_table03.put(List.of("f8eb", "bf32c", "fcfb", 9448, 0, 0, true, true, true, "a395", "b2f02", 119041, 16382, true, false));
+l1_table03.put(List.of("d4b1", "bdea", "d14c", 667, 2381, 39135, false, false, true, "bfb1", "d713", 0, 0, true, false));
+l1_table03.put(List.of("de99", "be89", "a2cb", 6760, 0, 36, false, false, true, "dd5e1", "aabc", 2, 0, false, false));
+l1_table03.put(Arrays.asList("f6ff", "c73a", "e0e6e", 0, 44701, 0, true, false, null, "c9a9", "fbbe", 0, 119, false, true));
+l1_table03.remove("e0a8");
+l1_table03.put(List.of("a76f", "df16", "c0c63", 0, 750, 19, false, false, true, "fb8f", "ac26", 22, 5253, true, true));
+l1_table03.remove("ba8e");
+l1_table03.put(List.of("a8b20", "d19b", "aadc0", 18, 0, 473, true, true, false, "b79a", "c98e6", 14, 0, false, true));
+l1_table03.put(List.of("cd3a", "e720f", "a1a7", 0, 218, 1, true, true, true, "b9ee", "c7bf", 27616, 0, false, true));
+l1_table03.get("b58b");
+l1_table03.put(List.of("fffe", "bec8", "a9283", 0, 0, 4, true, false, false, "c3ea", "a434", 22765, 0, false, false));
+l1_table03.remove("b2d9");
+l1_table03.remove("a33f9");
+l1_table03.put(List.of("fddb", "ad6e", "e6e3", 2, 62, 766, false, false, true, "a8d82", "e912", 79, 301, true, false));
+l1_table03.put(List.of("d7ca", "fc21", "e154", 15, 0, 1405, false, false, false, "e808", "a5de", 0, 40, false, true));
+l1_table03.get("ab415");
+l1_table03.put(List.of("eb4c", "f9ec", "e3ac", 64, 12, 203, true, true, true, "c4bc", "b4953", 0, 0, true, false));
+l1_table03.put(List.of("a617", "f4ff", "d49b", 0, 0, 0, false, true, false, "e520", "aebc", 58, 0, true, false));
+l1_table03.get("a1eac");
+l1_table03.remove("cbc64");
+l1_table03.remove("c93f");
+l1_table03.get("e9f7");
+l1_table03.put(List.of("eb54c", "a9725", "a858", 8, 0, 1, true, false, false, "e243", "e4d15", 0, 0, false, false));
+l1_table03.put(List.of("f077", "a695", "dde7", 108, 0, 129, false, true, false, "c4e1", "bd8ae", 10779, 0, false, true));
+l1_table03.put(List.of("c49b", "afbdc", "dc19", 0, 0, 14, false, false, true, "c736", "d9dd", 0, 0, false, true));
+l1_table03.put(List.of("ee90", "c1dd", "a566", 0, 0, 4108, true, false, true, "a942", "d0ca", 0, 530, false, true));
+l1_table03.put(List.of("a6ee", "a5f6", "eaf1", 3, 0, 0, false, true, false, "aaf5", "a6fb7", 0, 376, true, true));
+l1_table03.put(List.of("d393", "d503", "c3440", 297, 0, 855, true, false, true, "b24a1", "ed49", 63874, 0, true, false));
+l1_table03.put(List.of("bbfb", "e297", "f8c3", 0, 0, 121, true, false, false, "aad90", "f5d1", 0, 189, false, true));
+l1_table03.get("fe7f");
+l1_table03.get("c1ed");
+l1_table03.put(List.of("a344", "daa6", "b30b", 0, 28, 0, false, true, false, "d849", "af7d5", 1254, 788, true, true));
+l1_table03.get("da9d");
+l1_table03.put(Arrays.asList("b369", "a67d5", "ee43", 20, 0, 9258, null, false, false, "a5a0", "e1da", 0, 2, true, true));
+l1_table03.put(List.of("ea0e", "baa5", "be5bf", 3, 0, 5, true, true, true, "c9687", "bd44", 0, 219, false, true));
+l1_table03.remove("e61a");
+l1_table03.put(List.of("db126", "cb33", "a4ac", 0, 4113, 0, true, true, true, "c4a7", "f0d4", 0, 3, false, false));
+l1_table03.get("e9fe");
+l1_table03.put(List.of("c87b", "e8ec", "da91", 0, 2275, 1059, true, true, true, "b189", "f17e", 126, 0, true, false));
+l1_table03.put(List.of("cc89", "b93d", "cd64", 458387, 21328, 117, true, true, false, "d533", "c5c9", 0, 38, true, false));
+l1_table03.put(List.of("be14", "bc5e", "c54a5", 1, 25, 1, true, true, true, "a97d", "e1a3", 0, 1, true, true));
+l1_table03.put(List.of("c8972", "c0f4", "cdbd", 0, 172, 0, false, true, true, "af09", "f6f3", 22, 365, false, false));
+l1_table03.put(List.of("f01d", "afe2", "dcd2", 0, 0, 13, true, false, true, "feec", "b0d5", 0, 0, true, false));
+l1_table03.remove("b04f");
+l1_table03.put(List.of("f002", "d6a7", "cf17", 18, 0, 0, false, true, true, "a0cc", "a526", 0, 0, true, false));
+l1_table03.put(List.of("a233", "c5b2", "e934", 0, 0, 0, false, true, true, "b4f3", "fa7a", 1933, 0, true, false));
+l1_table03.put(List.of("b06d", "ca52", "a528", 5106, 2, 0, false, false, false, "b47e", "a805", 60, 49, false, false));
+l1_table03.put(List.of("c3f1", "d0f7", "bed4", 0, 33, 5, true, false, false, "b191", "bad8", 0, 0, true, false));
+l1_table03.put(List.of("a84b", "c9b6", "b259", 1899, 2642, 12687, false, false, false, "eb92", "b062", 7976, 0, true, true));
+l1_table03.put(List.of("a6cf", "cdb3", "eaad", 0, 7877, 1, true, true, false, "bef2", "d346", 0, 5665, true, false));
+l1_table03.get("a1b1");
+l1_table03.put(List.of("f3a8", "b8e9", "b65b", 0, 4, 0, false, true, false, "a385", "aac3b", 0, 0, true, true));
+l1_table03.put(List.of("ad73", "bff1", "b02c", 1071, 7010, 0, false, true, false, "a08f", "e812", 0, 3813, true, true));
+l1_table03.put(List.of("f13e", "e9fb", "ada7", 2, 0, 785100, true, true, false, "e1324", "a234", 2511, 5218, false, false));
+l1_table03.put(List.of("d460", "c77ff", "dccd", 0, 1286, 2788, false, true, false, "fffb", "b9fb", 27, 27, true, true));
+l1_table03.put(List.of("c7ed", "dcf0", "b3dd9", 0, 0, 50105, true, true, true, "d05d", "b941", 0, 393278, true, false));
+l1_table03.put(List.of("a271", "d753", "cf87", 27, 480, 388, false, true, true, "ad1c", "adaa", 50, 4, false, true));
+l1_table03.remove("a5b1");
+l1_table03.put(Arrays.asList("c17c9", "cac8", null, 167, 2, 5783, true, true, false, "c7b0", "bf26", 1, 9, false, false));
+l1_table03.put(List.of("dffe", "b66f", "f58a", 31, 0, 28, false, true, false, "d63a", "af04", 13, 161, false, false));
+l1_table03.get("aef9");
+l1_table03.put(List.of("dc72d", "db1e", "cda5", 6508, 0, 5, true, false, true, "d667", "bcdc", 138, 3149, true, true));
+l1_table03.put(List.of("f857", "b3acb", "ff0d", 109, 0, 0, true, true, true, "ce00", "a500", 0, 0, false, true));
+l1_table03.put(List.of("c48a7", "ccc0", "adc1", 0, 1559, 1097, false, true, false, "e585c", "a402", 57, 32350, true, true));
+l1_table03.remove("b602");
+l1_table03.put(List.of("b118", "c2f6", "b56e7", 125, 5891, 145, false, true, true, "a91b", "e005", 3432, 20, false, false));
+l1_table03.put(List.of("da00", "e408", "a33f8", 0, 3, 0, false, true, true, "c610", "e966", 64496, 0, false, false));
+l1_table03.put(List.of("b6be", "ac91", "bc96", 0, 0, 623, false, true, false, "a44d", "fd2b", 0, 330, false, false));
+l1_table03.get("b5c8");
+l1_table03.put(List.of("e6bb", "d797", "cb4f", 10616, 475, 0, false, true, false, "ff0a", "a743", 14, 4, false, false));
+l1_table03.put(List.of("d714", "df977", "f3b4", 0, 0, 112, true, true, false, "f24e", "d921", 693, 0, true, true));
+l1_table03.put(List.of("dc35", "ce8e", "b3ab", 0, 0, 0, false, true, true, "e97c", "ce71", 0, 0, false, false));
+l1_table03.put(List.of("e73b", "c834", "f29ae", 0, 7027, 0, true, false, false, "d0c2", "ef07", 54549, 868, true, false));
+l1_table03.remove("b214");
+l1_table03.put(List.of("ce5d", "b489", "a69f3", 0, 1064, 0, true, true, true, "c945", "d172", 1141, 19, false, true));
+l1_table03.put(List.of("f294", "bb0f", "d2471", 61, 1, 0, true, true, false, "d95e", "e59b", 359, 0, false, false));
+l1_table03.remove("bc4a");
+l1_table03.get("ee18");
+l1_table03.get("d490");
+l1_table03.put(List.of("dd49", "ab52", "af02", 0, 0, 0, true, true, true, "d693", "d79a", 0, 10, false, true));
+l1_table03.get("dd5ec");
+l1_table03.put(Arrays.asList("b272", "e1de", "a03f", 16, 0, 52, false, false, false, "ad7e", "fa0e", null, 33, false, true));
+l1_table03.put(Arrays.asList("f7513", "a7c5", "a444", 1811, 0, 301, true, true, true, "acf7", null, 145, 0, true, true));
+l1_table03.put(List.of("b6f4", "f218", "a307", 631, 0, 0, false, false, false, "a8ba", "b9948", 19946, 0, true, false));
+l1_table03.put(List.of("db5b", "f8b8", "a0a0", 0, 0, 0, true, true, false, "ef5b4", "e10e", 0, 93, true, false));
+l1_table03.put(List.of("d5c8", "e0f68", "c7d8", 0, 0, 0, true, false, true, "b49f", "e8df", 1172, 0, false, true));
+l1_table03.get("a9b7");
+l1_table03.put(List.of("a03a", "b1e5", "b1b6", 0, 0, 3, true, false, true, "d75e", "a697", 7482, 6, false, false));
+l1_table03.put(List.of("fbee1", "ef78", "b17c", 0, 247, 424, true, false, false, "deadb", "a7c9", 1212, 28, false, true));
+l1_table03.put(List.of("bf5d5", "ab8c", "de87", 0, 5515, 0, false, false, false, "b375", "ab3b", 531, 0, false, false));
+l1_table03.remove("ab9a");
+l1_table03.put(List.of("a778", "bfa5", "e1fc", 114402, 0, 0, true, true, false, "e25c", "d837", 59661, 0, true, true));
+l1_table03.put(List.of("e8cc", "f47e", "f9879", 78, 207174, 0, true, true, true, "b2d0", "ee26", 0, 3125, false, true));
+l1_table03.remove("e304");
+l1_table03.put(List.of("c47d", "b761", "e1af", 5, 0, 8516, false, false, true, "aaf1", "d3d8", 960, 0, true, true));
+l1_table03.put(List.of("fc4a", "d6ef", "ef7b7", 0, 0, 175962, false, false, false, "b5de", "cfeca", 1778, 29268, true, false));
+l1_table03.put(List.of("b8a7", "bb3e", "e4b0", 0, 2626, 34, false, false, false, "d0c5", "dfd9", 1182, 0, false, true));
+l1_table03.put(Arrays.asList("eb98b", "f598", "cc9b", 128, 6, null, true, false, false, "bab1", "f9bd", 14, 4394, false, false));
+l1_table03.put(List.of("c465", "cb34", "dbc9", 1261, 178009, 0, false, false, true, "ca46", "ac3e", 11, 2069, true, false));
+l1_table03.remove("c106");
+l1_table03.put(List.of("b9df", "a129", "a180", 77, 0, 0, false, true, true, "cd87", "a692", 1, 0, true, true));
+l1_table03.get("e6d6");
+l1_table03.put(List.of("ab84", "be76", "b9f9", 147, 8647, 107, false, true, false, "a590", "d48a", 0, 57, false, true));
+l1_table03.put(Arrays.asList("ec63", "c4e4", "e8bb", 65, 14753, 0, true, true, true, "e9fa", "bf44", null, 1347, false, false));
+l1_table03.put(List.of("bdd50", "a39c", "f4fe", 0, 0, 18, false, false, false, "b74f", "b3f0", 4216, 0, false, true));
+l1_table03.put(Arrays.asList("a981", "c326", "e198", null, 223427, 483, false, false, false, "d8db", null, 46592, 4, true, true));
+l1_table03.remove("b3ce");
+l1_table03.put(List.of("d534", "e235", "b9a9", 2463, 0, 0, true, true, true, "eeba", "e8d6", 31, 0, false, true));
+l1_table03.put(List.of("fdcf", "b1e6", "e88c", 1615, 1, 0, true, false, false, "ec3f", "bede", 176, 7, false, false));
+l1_table03.put(List.of("a78c", "f69c", "b207", 0, 14, 0, true, true, false, "b5ba", "f34f", 0, 0, false, false));
+l1_table03.put(List.of("c93d", "aa318", "f001", 51, 25, 17849, true, false, false, "eb07", "ca4c", 239, 236, true, true));
+l1_table03.put(Arrays.asList("d116", "bab12", "ea96", 0, 0, 15, false, false, false, "fa42", "ae31", 66768, 0, true, null));
+l1_table03.put(List.of("f6bb", "a58e", "f3b6", 666, 31966, 36593, false, false, true, "acfe", "e534", 0, 0, true, true));
+l1_table03.remove("e48b");
+l1_table03.put(List.of("c894", "ddc6", "c295c", 5, 81, 61, false, false, true, "a9ab", "bf23", 4954, 0, false, false));
+l1_table03.put(List.of("e0e4", "ab29", "b041d", 0, 18, 50, true, false, false, "c07a", "e611", 20710, 1669, true, false));
+l1_table03.put(Arrays.asList("af95", "c04d", "a5bf7", 34, 6672, 1368, true, null, false, "a30bd", "d03a", 39, 507, false, true));
+l1_table03.put(List.of("a0b8", "deeb", "a7d3", 0, 0, 0, true, false, false, "df18", "cafc", 0, 48, false, true));
+l1_table03.remove("e9493");
+l1_table03.put(List.of("f910", "d996", "a728", 0, 0, 0, false, true, true, "b9b3", "b09d", 5, 3, true, true));
+l1_table03.put(List.of("fe2e", "d205", "ea8d", 6402, 34, 21, true, false, false, "b528", "f63c", 106, 0, true, false));
+l1_table03.put(List.of("af48", "f384", "a267", 533, 75479, 333, false, true, true, "ee49", "d4de", 5927, 0, true, true));
+l1_table03.remove("b545");
+l1_table03.put(Arrays.asList("e187c", "b28b", "f7a7", 0, null, 35814, true, true, false, "a257", "fe03", 1, 90, true, false));
+l1_table03.remove("ddea");
+l1_table03.put(List.of("f68b", "da76", "fb3b", 0, 0, 0, true, true, false, "c681", "dca6", 0, 0, true, true));
+l1_table03.get("b27e0");
+l1_table03.put(Arrays.asList("bd04", null, "e360a", 1, 6, 0, false, true, true, "de82", "db81", 635, 0, true, false));
+l1_table03.put(List.of("bd8e", "ae5b", "bc4e", 14, 102, 0, true, true, true, "bb29", "e71f", 5, 0, true, false));
+l1_table03.put(List.of("a068", "f938", "b707", 6, 0, 1, false, false, true, "f2e9", "ea34", 0, 0, true, false));
+l1_table03.put(List.of("f5eb", "df97", "d15e", 0, 43, 0, false, true, false, "dda0", "dc21", 5, 0, true, false));
+l1_table03.put(List.of("c011", "ee1f", "aa85", 10, 0, 0, true, false, true, "c27f9", "fadf", 23814, 19, true, true));
+l1_table03.get("dbd8");
+l1_table03.remove("b939");
+l1_table03.put(List.of("b83c", "e569", "d285", 0, 32, 0, true, false, false, "ff1bf", "b9c5", 2644, 0, true, false));
+l1_table03.put(Arrays.asList("eb96", "bf16", "bb1da", 4842, 578, 0, null, false, true, "d3ca", "ae13", 54, 41065, false, false));
+l1_table03.put(List.of("c6cf", "c377", "bd0b", 0, 54, 0, false, true, false, "bc4b", "a4da", 0, 0, false, true));
+l1_table03.put(List.of("b859", "a6462", "fd36", 19, 0, 41, true, true, true, "e042", "d2fd", 57, 0, true, false));
+l1_table03.put(List.of("b8a5a", "f5056", "da86", 1, 318, 622, true, true, false, "bf6a", "ca84", 0, 0, false, true));
+l1_table03.put(List.of("bf4bd", "e807", "cb3e", 0, 5, 121066, true, false, true, "afcd", "b01b", 0, 0, true, false));
+l1_table03.put(List.of("cba8", "fb33", "d647", 0, 1579, 0, true, false, false, "d22f", "ba97", 0, 172, false, true));
+l1_table03.put(List.of("e92a", "d083", "e554", 16, 1, 0, false, true, true, "cc1b", "db93", 1, 0, false, false));
+l1_table03.put(List.of("ef4d", "c08b", "feb6", 0, 3564, 100, false, false, false, "c3e9", "fead", 1125, 0, false, false));
+l1_table03.put(List.of("e55a", "e7de", "db848", 1588, 6, 2, false, true, false, "d1c6", "b9f6", 0, 21, false, true));
+l1_table03.remove("f497");
+l1_table03.put(List.of("c528", "dd92", "b022", 0, 2, 21, true, true, false, "f12c", "cbeb", 14508, 2, true, false));
+l1_table03.put(List.of("de3d", "e3a8", "c0da8", 0, 0, 399, true, false, true, "ea6a", "e4656", 3, 0, false, false));
+l1_table03.put(List.of("bf7b1", "c074", "b24e", 0, 0, 111, false, false, true, "b461", "fa4a", 0, 134609, false, false));
+l1_table03.put(List.of("ae32", "cb0a", "dc5b", 0, 63, 0, true, true, true, "ed0f", "c726", 57, 6292, false, false));
+l1_table03.get("c235");
+l1_table03.put(List.of("d54c", "e561", "a45b", 174, 0, 0, false, false, false, "e53c", "a29a", 92, 0, true, true));
+l1_table03.put(List.of("d320", "a939", "f717", 0, 853, 350, true, true, true, "a3c6", "d37d", 72, 0, false, false));
+l1_table03.remove("bf83");
+l1_table03.put(List.of("be9d", "a218d", "f72d", 2, 15, 0, false, false, true, "db187", "e8b0", 6292, 0, true, false));
+l1_table03.put(List.of("a18d", "a183", "b252", 0, 0, 27, true, false, false, "ed8e", "f895", 0, 1, false, false));
+l1_table03.remove("f4ae1");
+l1_table03.put(List.of("b3b9", "dd4b", "b78f6", 128, 0, 17, false, true, true, "b3099", "ea74f", 10014, 105, false, false));
+l1_table03.remove("e5ba");
+l1_table03.put(List.of("c204e", "ad22", "e507", 11, 0, 0, false, false, true, "fd42", "bf6a2", 0, 573, false, false));
+l1_table03.get("f5d2");
+l1_table03.put(List.of("a2f5", "c9b9", "e41a", 641, 0, 310, false, false, false, "f95c", "c9c5", 287, 0, true, true));
+l1_table03.remove("aae7");
+l1_table03.put(List.of("c68e", "b1b7", "b609", 0, 32, 2, true, true, true, "bcf8", "b9ca", 0, 1449, false, false));
+l1_table03.put(List.of("c54d", "d9e1", "b284", 0, 0, 0, false, true, false, "f1a1", "c23d", 0, 0, false, true));
+l1_table03.put(List.of("ed01", "d453", "bc6aa", 0, 10, 45105, true, false, true, "eea2", "e541c", 61, 127, false, true));
+l1_table03.put(List.of("a65f", "d4c2", "d7fa", 0, 0, 8, false, true, false, "bd73", "e449", 1707, 1594, true, true));
+l1_table03.get("e1bf");
+l1_table03.put(Arrays.asList(null, "e806", "bf1f", 129, 0, 0, true, false, true, "a3e5", "bcef", 895, 8494, true, true));
+l1_table03.put(List.of("a0ad", "cc46", "f4ab5", 0, 0, 0, true, false, false, "c85c", "b89f", 0, 436, true, false));
+l1_table03.put(List.of("f58aa", "af3e", "c1ef8", 404, 372, 3847, false, true, false, "b67a", "e324", 3, 55, true, false));
+l1_table03.put(List.of("d531", "cbb4", "ae343", 0, 0, 50, false, true, true, "c59f", "e0c7", 169, 0, false, false));
+l1_table03.remove("dec0");
+l1_table03.get("bfab");
+l1_table03.get("ab05");
+l1_table03.put(List.of("f189", "eec1", "bcdb", 6, 0, 0, false, true, false, "d770", "e939", 10394, 3425, true, false));
+l1_table03.remove("ef25");
+l1_table03.put(List.of("ccc7", "df0c", "fd307", 0, 0, 0, false, false, false, "ee19", "ffc1", 496, 0, false, false));
+l1_table03.put(List.of("ca25", "e654", "cce8", 0, 627831, 1027, false, false, true, "a85d3", "bdab", 13, 0, false, true));
+l1_table03.remove("e62b");
+l1_table03.put(List.of("d1d3", "dba7", "f96f9", 0, 767, 152861, false, true, true, "fa884", "d968", 41, 508, false, false));
+l1_table03.put(List.of("ec35", "d353", "aa1f", 0, 0, 37675, false, false, true, "df2d", "e982", 0, 358, false, false));
+l1_table03.put(List.of("dd2b", "f1703", "d98e", 0, 37, 3, true, false, true, "c12c", "f657", 538, 0, false, false));
+l1_table03.put(List.of("bb0b", "cbe1", "ebf1c8", 169, 7311, 51, false, true, true, "e60b", "c2ab", 510553, 10538, true, true));
+l1_table03.put(List.of("ac5c", "f6cc", "ba86", 0, 473, 0, true, false, true, "ad6b0", "c578", 2, 0, true, true));
+l1_table03.put(List.of("fc1df", "a4951", "de20", 0, 0, 0, false, false, true, "deead", "b9be", 0, 0, false, false));
+l1_table03.put(Arrays.asList("b6b3", "b767", "c07d", 0, null, 22, false, true, false, "b719", "b87d", 0, 0, false, true));
+l1_table03.put(List.of("f23b", "a317", "cf9e", 717, 0, 0, false, false, true, "a165", "dfba", 3728, 0, false, false));
+l1_table03.remove("ee9ec");
+l1_table03.get("d4fb");
+l1_table03.put(List.of("cda8", "d577", "a42a", 0, 0, 0, false, true, false, "ea5f", "be04", 0, 0, false, false));
+l1_table03.put(List.of("cb43", "d2b8f", "bfe0", 3, 0, 6, true, false, true, "a681", "ea05", 8, 0, true, false));
+l1_table03.put(Arrays.asList("e173", "f03a", "dede", null, 0, 0, true, true, false, "e351", "ff30", 12, 1, true, false));
+l1_table03.remove("f250");
+l1_table03.put(List.of("d54d", "e73c", "a429", 2184, 1043, 111, true, true, true, "ebac", "a096", 0, 1, true, true));
+l1_table03.put(List.of("f383", "fef5b", "c1fc", 0, 2, 0, false, false, true, "abeaf", "fc73", 1438, 943, false, false));
+l1_table03.remove("f0e2");
+l1_table03.put(Arrays.asList("acb8", "dc4c", "e06fd", 67, 0, 0, false, true, false, "e6c8", "a265", 0, 41, false, null));
+l1_table03.put(List.of("aca8", "ebee", "ce8c", 5, 0, 0, false, true, true, "a47d2", "e30ff", 0, 20752, true, true));
+l1_table03.remove("b215");
+l1_table03.put(List.of("a11cb", "b320", "cea1", 127, 0, 294, true, false, true, "a960", "a346", 46, 1, true, false));
+l1_table03.get("ec29");
+l1_table03.put(List.of("c0b4", "d46f", "fac5", 1471, 70, 38, false, false, false, "abbc", "ade2", 247, 49, true, false));
+l1_table03.get("ac43");
+l1_table03.put(List.of("bc94", "eaf0", "ee72", 105, 1, 0, true, false, true, "e10b", "ddb0", 1, 152, true, true));
+l1_table03.put(List.of("e470", "bea2", "e4ce", 946, 184, 0, false, true, true, "fc26", "f023", 8739, 0, false, false));
+l1_table03.remove("b187");
+l1_table03.get("f39a");
+l1_table03.put(List.of("c64c", "b906", "af899", 6, 0, 0, false, false, false, "bcf1", "f8d9", 13319, 13, true, true));
+l1_table03.put(List.of("b1a4", "e9d1", "d6eb", 149, 9, 430, true, false, false, "dfad", "dd5f", 16, 0, false, false));
+l1_table03.remove("fd91");
+l1_table03.remove("a567");
+l1_table03.put(List.of("dbff", "f2cc3d", "ac31", 2032, 0, 0, false, false, true, "dc02", "f590", 2, 22, false, false));
+l1_table03.put(List.of("feed", "a86e", "da4f", 0, 3, 0, false, true, false, "dce0", "a554", 0, 0, false, true));
+l1_table03.put(List.of("f427", "f192", "c6c9", 10, 0, 91535, false, true, false, "bacb", "a7b0", 229, 6, false, true));
+l1_table03.put(Arrays.asList("aea5a", "b2fb", "b14d", 141, 0, 36226, false, false, true, "d83d", "fbfa", null, 10, true, false));
+l1_table03.remove("f306");
+l1_table03.get("a446");
+l1_table03.put(List.of("ab03", "a4dc", "b13d", 25, 2535, 1, false, false, true, "adf27", "c9b4", 21150, 6, true, true));
+l1_table03.put(List.of("abf8", "a7e6", "a652", 1825, 0, 4098, true, true, false, "d990", "bfc0", 1, 1333, false, false));
+l1_table03.put(List.of("d028", "ba55", "cecf", 4, 712, 1, false, true, false, "e369", "ee54", 21, 9181, false, false));
+l1_table03.put(List.of("f1fc", "b2dd", "d9ee", 0, 0, 808, true, true, false, "c39b", "a34d", 195, 0, false, false));
+l1_table03.put(Arrays.asList("ae9a", "c5bb", "a543", 0, 0, 0, true, false, false, "caf2", "a193", null, 1669, true, false));
+l1_table03.put(List.of("a14c", "bdfe", "eedc", 2, 30, 54, true, false, true, "d4ce", "bfcb", 1, 0, false, false));
+l1_table03.put(List.of("d143", "a784", "bbeb", 0, 0, 3982, true, false, false, "a1f5", "c7f6", 0, 126, true, true));
+l1_table03.put(List.of("f23d", "df1b", "d387", 0, 232724, 0, true, true, true, "abd6", "b079", 6, 623, false, true));
+l1_table03.remove("ce46");
+l1_table03.put(List.of("d870b", "bb39", "bab7", 0, 14, 0, false, false, false, "fe07", "a93b", 0, 0, false, true));
+l1_table03.put(List.of("c786", "a569", "ccf8", 0, 0, 6647, true, true, false, "dc6e", "dcf3f", 6, 0, true, false));
+l1_table03.put(List.of("e9a2", "a721", "f607", 2381, 15, 0, true, false, true, "cebb", "a3da", 0, 0, true, false));
+l1_table03.remove("b00e");
+l1_table03.put(List.of("c850", "c3a7", "df82", 52, 0, 208, true, false, false, "ac01", "d7f24", 0, 0, true, false));
+l1_table03.put(List.of("d0f5", "f718", "dda4", 0, 105, 0, false, false, true, "e5e6b", "a168", 3, 203, false, true));
+l1_table03.put(Arrays.asList("d86e", "cd3f", "b6b2", null, 0, 76, false, false, true, "c2c8", "c2a4", 41, 16468, false, false));
+l1_table03.put(List.of("dd55", "c202", "af69", 0, 5389, 14, false, true, false, "f6c1", "e9e6", 0, 25, false, false));
+l1_table03.get("dc4f");
+l1_table03.put(List.of("e92e", "f31a", "aab8", 0, 0, 2477, true, false, true, "e6c22", "a564", 12, 3034, true, true));
+l1_table03.put(List.of("db1b", "a8de", "bb79", 0, 31, 1598, false, false, true, "ea86", "b22a", 938, 6, true, true));
+l1_table03.remove("a405");
+l1_table03.put(Arrays.asList("f9e0", "e025", "b5488", 153086, 99699, 605, true, false, true, "f454", "ef92", null, 55, false, true));
+l1_table03.put(List.of("ab6d", "e0af", "eca9", 2212, 0, 2388, false, false, true, "ba29", "ccbd", 0, 5, true, true));
+l1_table03.put(List.of("d0ec9", "fd48", "ae45", 10, 7, 6, false, true, false, "eb97", "c101", 0, 0, false, false));
+l1_table03.remove("ad480");
+l1_table03.put(List.of("af80", "c3ec", "ce29", 78, 271, 39172, false, false, true, "bad9", "ef51", 1, 28, true, false));
+l1_table03.get("a072");
+l1_table03.put(List.of("bc5c", "f65f", "a87f", 13406, 16, 0, false, false, false, "e33d", "ea52", 504468, 0, false, true));
+l1_table03.put(List.of("b35c", "f967c", "b7a4c", 0, 0, 1, false, true, false, "eeef", "ea02", 3, 57, false, false));
+l1_table03.put(List.of("b3ac", "dffc", "c562", 0, 0, 0, false, true, true, "f8f0", "b56c", 0, 3089, false, false));
+l1_table03.put(List.of("f4c9d", "d33bb", "f114", 0, 0, 2, true, true, false, "d1cd", "af31f", 0, 78, true, false));
+l1_table03.put(Arrays.asList("efeb", "dddf", "f4aa", 2620, 5696, 0, true, false, null, "eae8", "d462", 2737, 4645, true, false));
+l1_table03.put(List.of("e383", "deaf", "d6a5", 58, 1058, 36, true, true, false, "e1ce", "eecc", 0, 4, false, true));
+l1_table03.put(List.of("c8d5", "b818", "e905", 0, 0, 467, true, true, false, "a029", "f9ff8", 0, 0, true, false));
+l1_table03.put(List.of("e04d2", "bf279", "fb3d", 0, 10736, 0, true, false, false, "a38a", "edaf", 0, 0, true, false));
+l1_table03.put(List.of("fe1a", "d0f1", "e89b", 54159, 0, 51284, true, true, false, "ca94", "b78b", 0, 4, true, false));
+l1_table03.put(List.of("f01e", "a3ea", "aaa6", 0, 140, 0, true, true, true, "a021", "a3111", 70030, 10, false, true));
+l1_table03.put(Arrays.asList("bf75", "b5c1", "fce7", 0, 0, 16, null, false, true, "bba6", "aab6", 14, 0, true, true));
+l1_table03.remove("a0c4");
+l1_table03.put(List.of("f441", "e77e", "f04f", 588, 18, 1722, true, true, true, "b275", "ebb4", 0, 10589, true, false));
+l1_table03.put(List.of("c179", "e4eb", "a63f", 0, 0, 0, false, false, true, "b839", "daf6", 0, 1790, false, false));
+l1_table03.put(List.of("c7da", "e8f8", "f3b5", 51, 347, 0, false, false, false, "f2c7", "f1cd", 0, 5, false, true));
+l1_table03.remove("f159");
+l1_table03.put(List.of("e419", "c09d", "b53e", 112, 24, 0, false, true, true, "ab17", "ad4a", 317, 12, true, true));
+l1_table03.put(List.of("a933", "a8ef", "bd0ee", 0, 0, 0, false, false, false, "f677", "bf18", 6823, 1, true, true));
+l1_table03.put(List.of("fbbb1", "f9d4", "ebb3", 12, 0, 0, false, false, true, "fddc3", "cad7", 0, 32, true, false));
+l1_table03.remove("b4599");
+l1_table03.put(Arrays.asList("d16d", "a803", "c08d", 0, 0, 587, true, true, true, "d3b9", "efb7", 1, null, false, true));
+l1_table03.put(List.of("ce58", "a8ce", "bba5", 0, 0, 7, true, true, true, "ab16", "e925d", 15, 336, true, true));
+l1_table03.put(List.of("f980", "abb3", "ff58", 0, 0, 0, false, false, true, "adff", "cce3", 0, 88, false, false));
+l1_table03.put(List.of("acc5", "bca6", "e30b", 15518, 210, 34, true, false, true, "da30", "ba51", 525386, 3, false, false));
+l1_table03.put(List.of("a13f", "c18c", "c2005", 0, 6231, 308, true, false, true, "d2c5", "c11a", 178, 0, false, false));
+l1_table03.put(List.of("e42e", "fc31", "cec3", 4, 51, 0, true, false, false, "f921", "bac4", 0, 0, true, true));
+l1_table03.put(List.of("c738", "cc086", "a826", 0, 0, 0, true, false, true, "a99e", "dc0f", 5, 0, false, true));
+l1_table03.get("ccb7");
+l1_table03.get("f4f2");
+l1_table03.get("ed7d");
+l1_table03.put(Arrays.asList("a169", "b59c", "dd73", null, 1263, 92, false, true, false, "df4f", "d4b7d", 352, 0, true, false));
+l1_table03.put(List.of("baa1", "afc2", "d1eb0", 0, 2, 24751, false, false, false, "e4b5", "eca8", 0, 0, true, false));
+l1_table03.put(List.of("f6b8", "af57", "b36a", 0, 0, 0, true, true, true, "e6fb", "a61e", 0, 166, false, false));
+l1_table03.put(Arrays.asList("bd3e", "f8d8f", "a6bf", 6, 0, 1719, null, false, true, "a696", "e88e", 3, 0, true, false));
+l1_table03.put(List.of("a3f2", "fa21", "be53b", 0, 10365, 0, true, false, false, "b48b", "f989", 21, 0, true, false));
+l1_table03.get("e735");
+l1_table03.put(List.of("e22a", "b3bf", "d1a9", 8, 181, 1820, true, true, false, "b9b4", "ae52", 22, 0, true, false));
+l1_table03.put(List.of("dd07e", "db92", "a861", 0, 2589, 8, false, false, false, "a3fd", "a16d", 0, 0, true, false));
+l1_table03.put(Arrays.asList("a3bc", "a5af", "fca9b", 0, 13, 9503, true, true, false, "b104", "cd3c", 0, null, false, true));
+l1_table03.put(List.of("a9ff", "f668", "e336", 212, 0, 13, true, true, false, "faed", "b1b4", 418, 0, true, false));
+l1_table03.put(List.of("f4b1", "c81e", "b5a8", 0, 14999, 243, true, false, false, "f65b", "b894", 18, 31, false, false));
+l1_table03.put(List.of("b572", "b85f", "f6c5", 0, 3885, 353, false, false, false, "ad14", "d082", 0, 0, false, false));
+l1_table03.put(List.of("cacd", "d14d", "eb042", 0, 10419, 0, true, false, false, "f4fa", "c506", 0, 0, false, false));
+l1_table03.remove("a2cc5");
+l1_table03.remove("c76d");
+l1_table03.put(List.of("e0bb", "fe62", "f4f4", 0, 0, 4917, true, false, true, "c198", "dcf2", 705, 0, true, false));
+l1_table03.remove("f5d5");
+l1_table03.put(List.of("d994", "ac4b", "d3e4", 1, 606, 2, false, false, true, "fdd5", "a790", 0, 0, false, false));
+l1_table03.remove("c269");
+l1_table03.put(List.of("bab5", "d999", "cbe4", 0, 1550, 0, true, false, false, "da8f", "c488", 63892, 0, true, true));
+l1_table03.put(List.of("b717", "aacf", "de08", 865, 424, 22, true, false, false, "f3ef", "cf22", 0, 0, false, true));
+l1_table03.get("a2fc2");
+l1_table03.put(List.of("f8e8", "f245", "d90e", 0, 0, 9151, true, true, true, "ea7c", "ab01", 0, 0, false, false));
+l1_table03.put(Arrays.asList(null, "edd1", "b169", 105, 0, 0, true, true, null, "db96", "e41d", 3670, 2, false, false));
+l1_table03.put(List.of("d2f5", "bb56", "b99b", 7711, 7, 2449, true, true, true, "f1fb", "bdc8", 5, 0, true, true));
+l1_table03.put(List.of("ed71", "e7951", "b418a", 3, 1400, 6, false, true, false, "e895", "b6df", 9, 1029, false, true));
+l1_table03.put(List.of("ce85", "a9e02", "b30c", 53, 1, 30, false, true, true, "e307", "d24e", 1810, 0, false, false));
+l1_table03.put(List.of("c1e0", "b95d", "b7c4", 0, 0, 313, true, false, false, "bd74", "e162", 384, 0, true, false));
+l1_table03.put(List.of("cb87", "f9a6", "dc7c", 883, 0, 445, true, false, false, "c386", "e268", 0, 0, false, true));
+l1_table03.put(List.of("c5b8e", "b4a12", "d4ab", 6, 0, 1613, false, true, false, "b96a", "eafd0", 293, 0, true, false));
+l1_table03.put(List.of("ba26", "b0bc", "ecbd", 38, 3, 0, true, true, false, "e2a6", "c6be", 7, 2, true, true));
+l1_table03.get("dfce");
+l1_table03.put(Arrays.asList("f362", "afcc", "e93d", 0, 0, 0, true, true, false, "cddd", "c770", 160, 1, null, false));
+l1_table03.put(List.of("fa38", "abe0", "c5b4", 216, 0, 14, false, false, true, "ec69", "fc3f", 0, 4, false, false));
+l1_table03.get("dc2f");
+l1_table03.put(List.of("d2767", "dafb", "c539", 0, 648, 377, true, true, false, "a38d", "a7f8", 2, 27, true, false));
+l1_table03.get("e7db");
+l1_table03.put(List.of("ab4a3", "cb30", "a437", 373, 0, 19, false, false, false, "d38c4", "ad404", 1, 2, true, true));
+l1_table03.put(Arrays.asList("aa21", "e144", "d8aa3", 1892, 1354, 0, false, false, false, "c50a", null, 0, 14037, true, null));
+l1_table03.put(List.of("a1e3", "d84d", "f3c3", 0, 247, 0, true, false, false, "d05b", "c4b4", 587, 0, false, true));
+l1_table03.put(List.of("ead0", "f275", "ba7b", 30, 0, 10, true, true, true, "df5c", "ce37", 0, 0, false, true));
+l1_table03.put(List.of("d24f", "d07d", "ece6", 1033, 30, 24, true, false, false, "ae75", "e4dc", 428, 15639, true, true));
+l1_table03.put(List.of("dc24", "d3b2", "ad9a", 0, 0, 0, false, false, false, "a120", "fa05", 271, 20, false, true));
+l1_table03.get("c5f9");
+l1_table03.get("d84a");
+l1_table03.put(List.of("b246a", "e3a5", "c880", 108917, 55434, 9, true, false, false, "d655", "a586", 3, 0, true, true));
+l1_table03.put(List.of("ac875", "a18e", "c304", 0, 0, 0, true, false, false, "b394", "b05a", 8, 24702, true, true));
+l1_table03.put(List.of("d37e", "b54e", "f472", 36524, 0, 4, true, true, false, "b6c6", "cf96", 0, 324, false, true));
+l1_table03.remove("a12d");
+l1_table03.put(List.of("e2c0", "bd81", "e802", 51144, 1, 0, false, true, true, "b557", "f50b", 14, 0, true, false));
+l1_table03.put(List.of("be94", "fca3", "bbfc", 138, 0, 12, true, true, true, "aba53", "eeed", 0, 0, false, true));
+l1_table03.remove("accf");
+l1_table03.put(List.of("e186", "ab7b", "aa2d", 0, 2, 0, true, false, false, "e76a", "fee50", 0, 8, true, false));
+l1_table03.put(List.of("dd77", "f97d", "af1f8", 341, 0, 125, true, false, false, "e3353", "d621", 25, 3, true, false));
+l1_table03.remove("da60");
+l1_table03.put(List.of("e74bc", "af5c", "a1f9", 0, 1396, 1, true, false, false, "fa23", "fac52", 0, 0, false, false));
+l1_table03.remove("abef");
+l1_table03.put(List.of("aebd", "d650", "ae66", 3247, 0, 0, true, false, false, "adae", "bf77", 2, 179, false, true));
+l1_table03.put(List.of("e4e4", "fa820", "c4581", 27177, 7, 0, false, true, true, "be2d", "dccc", 168, 0, false, true));
+l1_table03.put(List.of("d37c", "bc6dd", "a7bc", 0, 0, 106, false, false, true, "e3ce", "c867", 457, 3, true, false));
+l1_table03.put(List.of("f26c", "c689", "f81c", 0, 19198, 150, false, false, true, "d88e", "bb6f0", 6560, 0, true, true));
+l1_table03.put(List.of("afd60", "f385b", "e41be", 0, 276, 5434, false, true, false, "b5e46", "b501", 2, 414932, false, false));
+l1_table03.put(List.of("b82b", "afd9", "d8d16", 26, 36520, 1646, true, true, false, "b0c7", "cf13", 0, 0, false, true));
+l1_table03.put(List.of("ea31", "e2f4", "ee8f", 55, 0, 0, false, true, true, "f59a", "f64e", 3, 55788, true, false));
+l1_table03.put(Arrays.asList("b190", "e318", "d1c7", 118, 874, 1, false, null, true, "e56e4", "b4047", 0, 0, false, true));
+l1_table03.remove("fc82");
+l1_table03.put(List.of("db06", "a524", "e7ad", 256, 0, 517, false, false, false, "d645", "db7e7", 0, 2776, true, true));
+l1_table03.remove("d3c5");
+l1_table03.remove("ac99");
+l1_table03.put(List.of("a0ed", "db29", "e915", 0, 4934, 0, true, true, false, "e2ac", "d58b", 798, 0, false, false));
+l1_table03.get("f531");
+l1_table03.put(List.of("be4b1", "a833", "a8cd", 0, 0, 1, false, false, false, "ffc5", "ad4e0", 0, 3, false, false));
+l1_table03.remove("bc6b");
+l1_table03.remove("b780");
+l1_table03.get("afb0");
+l1_table03.remove("d081");
+l1_table03.remove("f7ec");
+l1_table03.get("f66c");
+l1_table03.get("a745");
+l1_table03.put(List.of("a57d", "de107", "c12b", 2018, 0, 0, true, false, false, "a024", "a0dfc", 0, 23576, true, true));
+l1_table03.remove("c61c");
+l1_table03.put(Arrays.asList("d2dc", "b38d", "babd", 0, 18, 261, true, false, true, "bdf7", "e43a", 0, null, true, true));
+l1_table03.put(List.of("be52", "ccd3", "bc6c", 2634, 56, 0, true, false, false, "dc97", "bc52", 0, 156, false, false));
+l1_table03.remove("c29a0");
+l1_table03.put(List.of("b592", "d3a6", "b770", 3083, 0, 2712, true, true, true, "d457b", "f15f", 68, 180, false, false));
+l1_table03.remove("f28d");
+l1_table03.put(Arrays.asList("baa7b", "ebed", "a96c", 0, 170, 1, true, true, false, "f8ee", "ea81", null, 5, false, false));
+l1_table03.put(List.of("e455", "c9c4", "bc16", 60, 0, 7002, false, true, true, "c558", "a84a", 11, 265, false, false));
+l1_table03.get("f532");
+l1_table03.remove("d749c");
+l1_table03.put(List.of("b26d5", "c402", "e1394", 0, 24, 14, true, false, true, "b88a", "b549", 0, 0, false, false));
+l1_table03.get("c900");
+l1_table03.get("ef6e");
+l1_table03.remove("cf7e");
+l1_table03.get("c16c");
+l1_table03.remove("cf70");
+l1_table03.put(List.of("bc27", "cea5", "af5b", 0, 9790, 0, true, true, true, "acfc", "d50b", 0, 4351, false, true));
+l1_table03.put(List.of("b04d", "b553", "d49f9", 0, 0, 9, true, true, true, "d900", "d803", 0, 0, true, true));
+l1_table03.put(List.of("f0d6", "ac83", "a357", 0, 0, 0, false, false, true, "aa73", "c55b", 0, 0, false, false));
+l1_table03.put(List.of("cbea", "ef4f8", "a0a3", 30836, 3, 25216, false, true, false, "b814", "e19a", 0, 29908, true, true));
+l1_table03.put(List.of("d274", "f3f1", "aa66", 1, 0, 435, false, false, false, "b09c", "f038", 0, 20994, true, false));
+l1_table03.put(List.of("ba20", "b9ce", "dc02e", 0, 5430, 47076, false, true, false, "ede9", "e2e2", 0, 28295, true, false));
+l1_table03.put(Arrays.asList("bf9a", "fc0f", "bc35", 3, 0, 28918, false, true, true, "b582", "c291", 11, 0, false, null));
+l1_table03.put(List.of("c892", "d322", "f29d", 7, 0, 793, false, true, true, "ec08", "b895", 209537, 305, false, true));
+l1_table03.get("b86b8");
+l1_table03.put(Arrays.asList("b584", "f764", "d392", 0, 580, 0, true, true, true, "db9e", "c65cb", 0, 0, null, true));
+l1_table03.put(List.of("af23", "ac227", "ba6b", 0, 0, 0, false, false, true, "b937", "a589", 110, 1, true, true));
+l1_table03.put(List.of("acc0", "f076", "b1e0", 8764, 0, 2, false, false, false, "bfa4a", "a4e3", 1316, 9196, true, false));
+l1_table03.put(List.of("d49c", "bc817", "ea5b", 50, 0, 456, false, false, false, "b037", "af81", 2, 3350, false, true));
+l1_table03.put(List.of("a22f", "c7ca", "aa53", 0, 500, 0, false, false, false, "ab21", "cfbb", 0, 0, false, true));
+l1_table03.put(List.of("f49e", "ad92", "ee64", 0, 0, 1, false, false, true, "ee60", "afa1", 6, 0, true, false));
+l1_table03.put(List.of("bf59", "a232", "af55", 4355, 114, 10, true, true, false, "d6dfb", "d7a5", 52846, 254, true, true));
+l1_table03.get("c58d");
+l1_table03.put(List.of("c9c8", "a502", "f9ca", 59, 51, 14, true, true, true, "b44b", "c765", 1593, 619, false, false));
+l1_table03.put(List.of("dfc4", "b1e8", "e1b7", 0, 0, 0, false, false, true, "c16d", "eacd", 10, 0, true, false));
+l1_table03.remove("d767");
+l1_table03.remove("b90ff");
+l1_table03.put(List.of("af76", "b301", "bc58", 0, 4, 0, true, true, true, "bcc3", "ce9c", 4, 2685, true, true));
+l1_table03.put(List.of("a56f", "d993", "fe42d", 0, 5, 1946, false, false, false, "cd14", "af68", 15, 45, false, false));
+l1_table03.put(List.of("b1c2", "cfe9", "c8534", 0, 5172, 107687, false, false, false, "b44e", "ae9b", 19, 0, false, false));
+l1_table03.put(List.of("c213", "b533", "c244", 10, 5960, 0, false, true, false, "e588", "cf91", 57, 0, false, false));
+l1_table03.put(List.of("d2f0", "bc4d", "eca2", 0, 2, 4, false, false, true, "a46d", "b63c", 491, 0, true, false));
+l1_table03.put(List.of("abd7", "bec37", "da65", 739389, 0, 0, false, true, true, "e9c4", "b914", 0, 105786, false, false));
+l1_table03.put(List.of("a085", "fe78", "db3b", 0, 0, 446, false, false, true, "bcd7", "a7ef", 9, 212, false, false));
+l1_table03.put(List.of("be58", "d5bc", "c9833", 44, 508, 0, false, false, true, "a455", "a0fb", 0, 5, true, true));
+l1_table03.put(List.of("f476", "ab10", "a132", 5, 3, 0, true, false, false, "c547", "cc07", 0, 0, true, true));
+l1_table03.remove("a24f");
+l1_table03.remove("c903");
+l1_table03.put(List.of("f389", "b5ec", "de31", 0, 11903, 221, false, true, true, "cc62", "a2a4", 4, 0, false, false));
+l1_table03.remove("cdc9");
+l1_table03.get("d1bc");
+l1_table03.put(List.of("b30d", "b65f", "b8ab", 0, 242, 123, true, true, true, "d953", "eb0d", 252, 2711, true, false));
+l1_table03.remove("b62d");
+l1_table03.put(List.of("aaf8", "bc3d", "b337", 27, 7, 0, false, true, true, "d3ee", "d12e", 3019, 353, false, true));
+l1_table03.get("bd221");
+l1_table03.put(List.of("a079", "f0e8", "ba7be", 0, 0, 2, false, false, false, "e1f6", "d0be", 2, 1, false, true));
+l1_table03.put(List.of("f15b", "ef31", "d378", 0, 0, 0, false, false, false, "f051", "bcd6", 7697, 0, false, true));
+l1_table03.put(List.of("a21ec", "a0c7", "ab70", 1214, 0, 0, false, false, false, "abb1", "be93", 824, 0, true, true));
+l1_table03.remove("a603");
+l1_table03.put(Arrays.asList("cf63", "d3f5", "af0d", 15, 443, 3, null, false, true, "cf85", "d383", 0, 2, true, true));
+l1_table03.put(Arrays.asList("bac6", "fefc", "d465", 8, 0, 1483, false, true, false, "e086", "a2fc", 518, 0, null, false));
+l1_table03.put(List.of("b56b", "eea3", "e9dc", 43, 567, 0, true, true, true, "c4ee", "adef", 0, 7, false, false));
+l1_table03.put(List.of("b49d", "cf9b", "ad20", 25612, 26, 95, false, true, false, "b9cb8", "dae0", 563, 1076, true, false));
+l1_table03.remove("be82");
+l1_table03.get("d0ea");
+l1_table03.put(Arrays.asList("bd3f", "adb2", "fb372", 0, 74, 0, false, false, true, "b832", null, 1915, 66, false, false));
+l1_table03.put(List.of("c989", "e80b5", "ca4f", 0, 0, 0, true, false, false, "ace5", "d34a", 126707, 0, true, true));
+l1_table03.put(List.of("c824", "d4cb", "db120", 62, 1, 70242, true, false, true, "e548", "a729", 0, 0, false, true));
+l1_table03.remove("ab5d");
+l1_table03.put(List.of("df1a", "b254", "b559", 5919, 0, 69, true, true, false, "a1dc", "d1f6", 0, 17, false, false));
+l1_table03.put(List.of("fc9a", "ca04", "b8ac0", 32, 0, 47, true, true, false, "b21e", "c45b", 470, 1, true, false));
+l1_table03.put(List.of("a295", "a94b", "c0f0", 0, 0, 377, false, false, true, "bf03", "bf39", 33, 79706, true, true));
+l1_table03.put(List.of("c575", "fd62", "a166", 8822, 0, 0, true, false, false, "c570", "ef3a", 8361, 0, true, false));
+l1_table03.put(List.of("c49a", "f6c7", "f054", 6094, 0, 0, false, false, true, "f61a", "ddde", 0, 0, true, false));
+l1_table03.get("a7aa");
+l1_table03.put(List.of("f6ad", "b3cb8", "e3d4", 4, 5, 6592, true, true, true, "d6b6", "c62f", 7496, 7120, false, true));
+l1_table03.remove("f099");
+l1_table03.remove("b67e");
+l1_table03.put(List.of("c869", "f04e", "ec65", 691, 7, 0, false, true, true, "d193", "eb42", 0, 18, true, true));
+l1_table03.put(List.of("c057", "c491", "dbd4", 0, 0, 9, false, true, false, "dc164", "a7a0", 1531, 0, false, true));
+l1_table03.put(List.of("a757", "a04f", "bb80", 13, 16, 0, false, false, true, "b03be", "cc2c", 63722, 4, false, false));
+l1_table03.remove("fae9");
+l1_table03.remove("d138");
+l1_table03.put(List.of("b7fc", "bcba", "c3de", 0, 29072, 0, false, true, false, "e528", "f836", 0, 1, true, true));
+l1_table03.put(List.of("b734", "c05d", "b5a5", 0, 23824, 93, false, true, false, "b155", "b003", 716, 879, false, false));
+l1_table03.put(Arrays.asList("ef03", "e46c", "aa7b", 0, 1003, 0, true, false, true, "df67", "c15a", 2, 9545, null, false));
+l1_table03.put(List.of("ca62", "bdf30", "b230", 64, 0, 0, true, true, false, "bc3f", "df5d", 0, 0, false, false));
+l1_table03.put(List.of("a21c", "b8598", "e823", 0, 2, 0, false, false, false, "aeec", "d17e", 10, 0, true, true));
+l1_table03.put(List.of("b2d1", "e0b7", "ec47", 14, 0, 0, false, false, false, "c9ee", "c7dc", 0, 0, true, true));
+l1_table03.put(List.of("ca03", "e052", "c5006", 11, 0, 2, false, false, true, "f498", "f856", 0, 0, false, true));
+l1_table03.get("d20e");
+l1_table03.put(List.of("c792", "f3a3", "e19d", 19455, 40, 0, false, true, true, "c0be", "b81f", 2, 0, true, true));
+l1_table03.put(List.of("adfa", "d57a9", "a153", 0, 6, 1205, true, false, true, "fca6", "d7334", 2513, 41, false, false));
+l1_table03.put(List.of("f31c", "c296", "a7c39", 153461, 36391, 6974, false, true, true, "e4d1", "a1f4", 18, 0, false, true));
+l1_table03.put(List.of("a010", "afb7", "b399", 0, 3, 59, true, true, false, "b55e", "be2c", 455, 0, false, true));
+l1_table03.put(List.of("d7af", "a43e", "f027", 0, 222, 0, false, true, false, "e68d", "d1a0", 0, 16, false, true));
+l1_table03.put(List.of("acda", "be13", "b833", 0, 0, 1387, true, true, false, "a45e", "b8f1", 426, 0, true, true));
+l1_table03.put(List.of("b7962", "fa84", "ecd4", 2, 12, 355, true, true, true, "d553", "e6d7", 6433, 20, false, true));
+l1_table03.put(List.of("c658", "d82c", "bc10", 0, 8199, 1, true, false, false, "a4647", "e3b8", 2721, 2036, false, false));
+l1_table03.put(List.of("e251", "c0b5", "f57fe", 262008, 0, 104, false, false, false, "da72", "c788", 0, 5144, false, false));
+l1_table03.get("fbec");
+l1_table03.put(List.of("a9a3", "c3663", "b7b0", 0, 0, 28, true, false, true, "fd9f", "f3e7", 22, 0, true, true));
+l1_table03.remove("c6cb");
+l1_table03.put(List.of("ebce", "ba90f", "e0be", 0, 129, 0, false, false, false, "f73b", "d39e", 86, 0, false, true));
+l1_table03.remove("bfb2");
+l1_table03.put(Arrays.asList(null, "efcf", "f5d3", 2, 0, 221326, true, true, true, "ea66", "db02", 210056, 178, false, false));
+l1_table03.get("ee4a");
+l1_table03.put(List.of("dde8", "a246", "d9f0", 0, 0, 5, false, false, true, "a2ad", "d964", 0, 0, true, false));
+l1_table03.remove("f1ab");
+l1_table03.put(List.of("f2ce", "bc32", "d502", 13, 9458, 6653, false, false, false, "eb39", "c998a", 3396, 146, true, false));
+l1_table03.put(List.of("abb9", "aa8df", "e8c0", 5, 0, 5, true, true, true, "e03e", "ef06", 14425, 0, true, true));
+l1_table03.put(Arrays.asList("b682", "c295", "bee5", 26846, 531085, 30, false, false, false, "dbdf", "de42", 1, 0, null, false));
+l1_table03.put(List.of("f710", "cef1", "b2b0", 0, 299, 0, true, true, true, "cfe5", "d6ea", 1, 0, true, true));
+l1_table03.put(List.of("bbe0", "d9d1", "d3ad", 196, 0, 0, false, false, false, "ad76", "a6c1", 152, 0, false, true));
+l1_table03.put(Arrays.asList("ef0e", "a859", "c5167", 320491, 2, 0, true, true, true, "b837", "cf25", 0, 4, null, false));
+l1_table03.put(List.of("e447", "dcd3", "c960", 188530, 25252, 0, true, true, true, "b8f4", "a2f4", 3, 0, false, true));
+l1_table03.put(List.of("a694", "b93f", "ab46", 41, 3, 85, false, false, false, "fcf5", "a289", 11, 1, false, true));
+l1_table03.put(List.of("b523", "c710", "ddb9", 11879, 15692, 0, false, true, true, "e4f3", "b0ae", 0, 0, false, true));
+l1_table03.put(List.of("ce62", "df3e", "bd5c", 0, 0, 78, false, true, false, "d386", "c17b", 281139, 0, false, false));
+l1_table03.put(List.of("b2e3", "a80d", "d7d8d", 2193, 0, 45670, true, false, true, "a7c3", "e0b1", 0, 18, false, false));
+l1_table03.put(List.of("ab0b", "a4e7", "cb65", 0, 0, 27, false, true, true, "adb14", "e3b6", 13, 527, true, true));
+l1_table03.put(List.of("a987", "f3a5", "f96c", 0, 862, 179, false, false, true, "c4f8", "cccb", 2, 5326, false, true));
+l1_table03.put(List.of("a7ed", "d707", "ca19", 0, 19, 197, false, false, false, "abdf", "bf11", 0, 8, true, false));
+l1_table03.put(List.of("fc48", "e748", "e98c0", 584, 1, 0, false, false, true, "e03c", "fd05", 10420, 3, false, true));
+l1_table03.put(List.of("f49dd", "b2f7f", "eab1", 78, 19, 4501, true, false, false, "bdb6", "f9af", 607, 0, true, false));
+l1_table03.put(List.of("cd85", "bde0", "abf4", 169, 0, 3, false, false, true, "a37a", "f2412", 177, 7670, true, true));
+l1_table03.put(List.of("f493", "aace", "a752", 8, 2, 9949, true, true, false, "ae9c9", "dc965", 0, 0, false, false));
+l1_table03.put(List.of("c4863", "caaf", "d95c5", 1865, 140, 204, true, false, true, "a733", "aa71", 8850, 0, true, true));
+l1_table03.put(List.of("a2e18", "af44", "b0c9", 18555, 0, 1959, false, false, true, "a3b4", "f689", 1594, 421, false, false));
+l1_table03.put(List.of("ce63", "f75a", "d7d9", 0, 459, 0, true, false, true, "dcaf", "bb46", 136, 0, true, false));
+l1_table03.get("aaa9");
+l1_table03.put(List.of("a401", "ed17", "c684", 479677, 0, 0, true, false, true, "aa7f", "ca92", 30, 371, false, true));
+l1_table03.put(List.of("a53f", "db55", "b940", 1, 1339, 0, false, true, true, "d543", "dccf", 1, 1, true, true));
+l1_table03.put(List.of("a4bc", "d9d9", "c649", 0, 8731, 8735, true, false, true, "c650", "cb0c", 7180, 705, false, true));
+l1_table03.put(Arrays.asList("a2b0", "c3a8", "b32a3", 86010, 16, 0, null, false, true, "a004", "b5e3", null, 0, false, false));
+l1_table03.put(List.of("cebc", "c966", "c26a", 32, 0, 38, false, true, true, "ee83", "e9f5", 2838, 7, false, true));
+l1_table03.remove("ac3a");
+l1_table03.put(List.of("f8a36", "f54d", "c2cd4", 0, 3241, 46, false, true, true, "eca1", "d319", 29, 0, false, true));
+l1_table03.remove("c987");
+l1_table03.put(List.of("e417", "bdf9", "daad", 1, 143, 10140, false, true, false, "e11a", "b3a0", 0, 2, true, false));
+l1_table03.put(Arrays.asList("bb10", "a614", "bba8f", 0, 0, 32, false, true, true, "ac6a", "e714", 0, 15, false, null));
+l1_table03.put(List.of("dabf", "a469", "ed8f", 964, 6, 132, true, false, false, "ba72", "d660", 28, 141, true, false));
+l1_table03.put(List.of("cc90", "e204", "bce5", 0, 2, 4, false, false, true, "e477", "ecc1", 0, 56, true, false));
+l1_table03.put(Arrays.asList("cdc77", "e5de", "ee22", 0, 0, 0, false, true, null, "b124", "cd3d", 0, 0, true, true));
+l1_table03.put(List.of("cbd2", "a2a2", "a1c4", 0, 117, 0, false, false, true, "a691", "fc79", 6, 0, true, false));
+l1_table03.put(List.of("d07d3", "ebb6", "fc42", 0, 1950, 0, false, true, true, "fe3a", "b5eb", 5768, 0, true, true));
+l1_table03.remove("c3d65");
+l1_table03.remove("b45e");
+l1_table03.put(List.of("ec01", "ec68d", "b26fe", 0, 0, 0, false, false, false, "c6ff", "b0c4", 0, 12, true, true));
+l1_table03.put(List.of("cadd", "a27b", "ad1a", 369, 0, 0, true, true, false, "cab8", "c08a", 1, 0, false, false));
+l1_table03.put(List.of("e91e", "afdd", "aba4", 0, 70, 0, true, false, true, "efd3", "f1dc", 0, 0, false, true));
+l1_table03.put(List.of("bdda", "aa60", "dc4e", 0, 462, 5, true, true, true, "cf42", "b0c3", 360206, 31, false, true));
+l1_table03.put(List.of("b150", "a927b", "cb54", 2, 3, 0, true, true, true, "db2e", "bc72", 0, 2447, false, false));
+l1_table03.remove("d4a3");
+l1_table03.put(List.of("f9ac", "ba70", "e4c6", 60, 0, 775, true, false, true, "ec7c", "ca5e", 365, 48, false, true));
+l1_table03.get("a63a");
+l1_table03.put(List.of("ec62", "c472", "f534", 188, 3, 1, true, true, false, "c015", "bcbb", 0, 1011, false, true));
+l1_table03.put(List.of("f206", "c9249", "f462", 0, 83, 0, true, true, true, "a55d", "b1bb", 404, 0, true, false));
+l1_table03.put(List.of("e947", "fbc1", "e9bb", 306, 123, 0, true, true, false, "b5b3", "a0c1", 0, 404, true, true));
+l1_table03.put(List.of("f794", "f879", "d6012", 493, 0, 0, true, false, true, "cf62", "e395", 0, 0, false, true));
+l1_table03.get("a1d32");
+l1_table03.put(List.of("e7ed", "ea65", "f538", 0, 551595, 670249, true, false, true, "c5ed7", "ed80", 7351, 0, true, false));
+l1_table03.put(List.of("bdc5", "facd", "dd7da", 0, 6, 2, false, true, true, "fea5", "e46a", 1989, 2, true, false));
+l1_table03.remove("a11e");
+l1_table03.remove("ff18");
+l1_table03.put(List.of("bd47", "bfa3", "e63c", 0, 255, 145, true, true, false, "a9f4", "e557", 246, 0, true, true));
+l1_table03.put(List.of("a39f", "b030", "d893", 8583, 8, 2, true, true, true, "f0b0", "df2a", 10, 693, true, false));
+l1_table03.put(Arrays.asList("b977", "de46", "d6f9", 72, 0, 0, false, true, true, "ce038", "ca289", 21, null, true, true));
+l1_table03.put(List.of("e5c4", "e4e1", "e191", 0, 0, 1, true, false, false, "a6255", "c560", 1206, 23, true, false));
+l1_table03.put(List.of("cbd3", "a66d", "f32c", 0, 2, 0, true, true, true, "d8e0", "bb9f", 2614, 0, false, false));
+l1_table03.put(List.of("a848", "b370", "c09a", 26, 0, 903, false, false, true, "e07d", "a160", 0, 0, true, true));
+l1_table03.put(Arrays.asList(null, "b7af", "e0e9d", 0, 0, 1138, false, false, false, "eb7b", "cfc8", 135, 65, false, false));
+l1_table03.remove("f269");
+l1_table03.put(List.of("da1b", "a2b1", "dda2c", 44414, 0, 133, false, true, true, "f9d3", "a8fd", 3, 352, true, true));
+l1_table03.put(List.of("c2ff", "a988", "e815", 55, 0, 34, false, false, true, "e963", "bad5", 0, 328, true, true));
+l1_table03.put(List.of("e08e", "cf5c", "df2b", 241, 351244, 0, false, false, false, "a6a0f", "d9fe", 265, 0, false, true));
+l1_table03.put(List.of("d5aa", "c932", "d6d5", 6, 0, 8, false, true, false, "b288", "b826", 1891, 15, false, true));
+l1_table03.remove("d6ae");
+l1_table03.remove("d201");
+l1_table03.put(List.of("b693", "d517", "e2f9", 0, 1364, 0, false, false, false, "db28", "c043", 0, 16602, false, true));
+l1_table03.put(List.of("c68b", "ce32", "b2ac", 1089, 11, 1, false, false, true, "b9c2", "ca80", 0, 41, false, false));
+l1_table03.put(List.of("eadc", "acaa", "cbbb", 69, 0, 239, false, true, false, "ed95", "b97a", 6, 0, true, true));
+l1_table03.put(List.of("b55b", "f4589", "dadee", 0, 929, 0, false, false, true, "e371", "c2b2c", 3, 2, true, true));
+l1_table03.remove("d141");
+l1_table03.put(List.of("b280", "e8cf", "c338", 0, 0, 1, true, true, true, "b2e8", "c60fb", 597054, 310, false, false));
+l1_table03.get("bad7");
+l1_table03.put(List.of("e1f0", "c494", "b1dc", 9, 8, 5858, false, true, true, "cb1e", "b199", 0, 1377, true, true));
+l1_table03.put(Arrays.asList("bd7c", "c09b", null, 3, 1509, 0, true, false, false, "f131", "dfa4", 0, 1967, true, true));
+l1_table03.put(List.of("a69b", "c4d2f", "d9c0", 152, 0, 0, true, true, true, "bacd", "a1b32", 0, 0, true, true));
+l1_table03.put(List.of("ccb8", "e147", "a10c", 0, 5724, 22951, false, true, true, "c96c", "f406", 2, 14272, false, true));
+l1_table03.put(List.of("ec76", "e046", "f433", 0, 7, 6666, false, true, true, "e521", "b71f", 15, 700, true, false));
+l1_table03.get("a8ed");
+l1_table03.remove("a6d89");
+l1_table03.remove("a000");
+l1_table03.put(List.of("b1ed", "a2d9", "eb74", 0, 0, 3, true, true, true, "b73f", "a7dd", 504, 80, false, true));
+l1_table03.put(List.of("a897", "ac7d", "ce64", 1, 32, 1390, false, true, false, "d7076", "b519", 720, 0, true, false));
+l1_table03.put(List.of("f749", "aedf9", "b7f5", 0, 21236, 0, true, true, false, "b4d2", "a2c36", 0, 12044, true, false));
+l1_table03.put(List.of("d6e8", "a92c", "ffb2", 34156, 46, 0, false, false, true, "cf96af", "b984", 0, 1, true, false));
+l1_table03.remove("de6b");
+l1_table03.put(List.of("aaf1b", "cc1f", "ca55", 0, 153, 0, true, true, true, "b7df", "fd6a", 0, 20397, true, true));
+l1_table03.clear();
@@ -0,0 +1,25 @@
+SQUARES BELOW 20;
+SQUARES BELOW 16;
+SQUARES BELOW 0;
+SQUARES BELOW 1000;
+SQUARES BELOW 500 AS a;
+SQUARES BELOW 100 AS a;
+SQUARES BELOW 100 AS x;
+SQUARES BELOW 1000 AS a, b;
+SQUARES BELOW 50 AS a, b;
+SQUARES BELOW 50 AS a, a;
+squares below 20 as A, b;
+SqUaReS bElOw 20 As a, B;
+ SQUARES BELOW 20 AS a, b ;
+SQUARES  BELOW  20  AS  a  ,  b;
+SQUARES BELOW 20 AS a,b;
+SQUARESBELOW20ASa,b;
+SQUARES 20;
+BELOW 20;
+SQUARES BELOW AS a, b;
+SQUARES BELOW 20 a, b;
+SQUARES BELOW 20 AS a b;
+SQUARES BELOW 20 AS a,;
+SQUARES BELOW 20 AS , b;
+ECHO "Hello, world!";
+AN UNRECOGNIZABLE QUERY;
@@ -0,0 +1,2003 @@
+// Random Seed: 1762542121
+Table m1_table01 = new HashArrayTable("m1_table01", List.of("accf", "ffaa", "c5e3c"), List.of("string", "integer", "boolean"), 0);
+m1_table01.getTableName();
+m1_table01.getColumnNames();
+m1_table01.getColumnTypes();
+m1_table01.getPrimaryIndex();
+m1_table01.clear();
+m1_table01.put(List.of("e60e", 159, false));
+m1_table01.remove("a090");
+m1_table01.put(List.of("cae9", 7192, false));
+m1_table01.put(List.of("b120", 1875, false));
+m1_table01.put(List.of("ac9d", 0, true));
+m1_table01.put(List.of("d82e", 80, false));
+m1_table01.put(List.of("d63e", 1019, true));
+m1_table01.put(List.of("f9eb", 2186, true));
+m1_table01.put(List.of("d9cd", 289, false));
+m1_table01.remove("b330");
+m1_table01.put(List.of("c773", 0, false));
+m1_table01.put(List.of("e489", 544, true));
+m1_table01.put(List.of("f2d5", 181, false));
+m1_table01.remove("c8bd");
+m1_table01.put(List.of("e9c53", 658, false));
+m1_table01.put(List.of("d0a7", 0, false));
+m1_table01.put(List.of("c30b9", 2, true));
+m1_table01.remove("ab41");
+m1_table01.put(List.of("b6c7", 320, false));
+m1_table01.put(List.of("e570", 11, false));
+m1_table01.put(List.of("ca29", 0, true));
+m1_table01.put(List.of("c886", 100, false));
+m1_table01.remove("a3d5");
+m1_table01.put(List.of("b34d", 655, false));
+m1_table01.put(List.of("a82d", 13, true));
+m1_table01.get("efda");
+m1_table01.put(List.of("d06e", 0, false));
+m1_table01.put(List.of("e4ec", 0, false));
+m1_table01.remove("fe99");
+m1_table01.put(List.of("acbc", 0, true));
+m1_table01.remove("b416");
+m1_table01.put(List.of("eef9", 4, true));
+m1_table01.put(List.of("d570", 70, false));
+m1_table01.remove("f929");
+m1_table01.remove("f598");
+m1_table01.remove("d89c");
+m1_table01.put(List.of("fe31", 1, false));
+m1_table01.remove("c9872");
+m1_table01.remove("aafdc");
+m1_table01.remove("d859d");
+m1_table01.put(List.of("f15c", 484, false));
+m1_table01.get("e9b1");
+m1_table01.put(List.of("caeb", 0, true));
+m1_table01.remove("edd1");
+m1_table01.put(List.of("f3ab", 12, false));
+m1_table01.put(List.of("efd3", 0, true));
+m1_table01.get("c097");
+m1_table01.get("e0eb");
+m1_table01.put(List.of("b70b", 1, true));
+m1_table01.put(List.of("d300", 2101, false));
+m1_table01.put(List.of("d447", 0, true));
+m1_table01.put(List.of("d5f3e", 716, true));
+m1_table01.put(List.of("c8f3", 0, true));
+m1_table01.get("fc68");
+m1_table01.put(List.of("e9e2", 6074, false));
+m1_table01.put(List.of("bc84d", 1, false));
+m1_table01.put(List.of("b7f4", 47, false));
+m1_table01.get("cd75");
+m1_table01.put(List.of("ee6c", 0, true));
+m1_table01.put(List.of("a833", 719, true));
+m1_table01.put(List.of("f807", 551, false));
+m1_table01.put(List.of("ea5b", 294, true));
+m1_table01.put(List.of("aa54", 0, true));
+m1_table01.remove("d30e");
+m1_table01.put(List.of("da6f", 0, true));
+m1_table01.put(List.of("a2d7", 0, true));
+m1_table01.put(List.of("f156", 0, true));
+m1_table01.put(List.of("ea92", 0, true));
+m1_table01.remove("d566");
+m1_table01.remove("f813");
+m1_table01.remove("e986");
+m1_table01.put(List.of("de67", 0, false));
+m1_table01.put(List.of("ece8", 0, true));
+m1_table01.put(List.of("f748", 2113, false));
+m1_table01.put(List.of("d899", 0, true));
+m1_table01.put(List.of("a198", 436, true));
+m1_table01.remove("aab32");
+m1_table01.get("d34a0");
+m1_table01.put(List.of("c1bf", 17, false));
+m1_table01.remove("b98c");
+m1_table01.put(List.of("bf2a", 1, false));
+m1_table01.get("c6ca");
+m1_table01.remove("b43d");
+m1_table01.get("cce5");
+m1_table01.put(List.of("df8c", 0, false));
+m1_table01.put(List.of("cc72", 0, false));
+m1_table01.put(List.of("fb4d", 0, false));
+m1_table01.put(List.of("a9e2d", 2355, false));
+m1_table01.put(List.of("fb87", 0, true));
+m1_table01.put(List.of("aaaf", 0, false));
+m1_table01.put(List.of("c7fb", 0, true));
+m1_table01.put(List.of("b898", 279, false));
+m1_table01.put(List.of("a084", 0, true));
+m1_table01.put(List.of("c19c", 0, true));
+m1_table01.put(List.of("ad8c", 0, false));
+m1_table01.remove("b3a49");
+m1_table01.get("d86f");
+m1_table01.put(List.of("f6da9", 10, true));
+m1_table01.get("b200");
+m1_table01.remove("d4a7");
+m1_table01.get("a1234");
+m1_table01.put(List.of("fba3", 0, true));
+m1_table01.remove("d502");
+m1_table01.put(List.of("aee6", 0, false));
+m1_table01.put(List.of("c935", 44, true));
+m1_table01.put(List.of("d1f7", 0, false));
+m1_table01.put(List.of("f07d", 0, false));
+m1_table01.put(List.of("f7699", 0, false));
+m1_table01.put(List.of("b2ff", 49, false));
+m1_table01.remove("b953");
+m1_table01.put(List.of("afd4", 0, true));
+m1_table01.remove("c69f");
+m1_table01.put(List.of("f11d", 83, false));
+m1_table01.put(List.of("f36d", 24, false));
+m1_table01.remove("ee0c");
+m1_table01.put(List.of("a4fb", 0, true));
+m1_table01.put(List.of("dc81", 0, false));
+m1_table01.put(List.of("c08e", 0, true));
+m1_table01.put(List.of("e286", 0, true));
+m1_table01.put(List.of("aea2", 0, false));
+m1_table01.put(List.of("b28c", 0, false));
+m1_table01.remove("dfa0");
+m1_table01.put(List.of("adee", 25718, true));
+m1_table01.put(List.of("c212", 6603, true));
+m1_table01.remove("b032");
+m1_table01.put(List.of("d67ea", 0, false));
+m1_table01.remove("b56a");
+m1_table01.put(List.of("ec38", 7, false));
+m1_table01.get("d83b");
+m1_table01.put(List.of("ec3e", 0, true));
+m1_table01.put(List.of("ba551", 11, true));
+m1_table01.remove("ff16");
+m1_table01.remove("c53d");
+m1_table01.put(List.of("e33a", 0, false));
+m1_table01.put(List.of("fc3d", 0, false));
+m1_table01.remove("a2eb");
+m1_table01.put(List.of("b7d7", 140, true));
+m1_table01.put(List.of("ec7f", 0, true));
+m1_table01.remove("d8c9");
+m1_table01.put(List.of("fb2f", 0, true));
+m1_table01.put(List.of("df2a", 892, true));
+m1_table01.put(List.of("be63d", 57, true));
+m1_table01.put(List.of("af9d", 0, true));
+m1_table01.put(List.of("d268", 8, true));
+m1_table01.put(List.of("ba60", 11922, false));
+m1_table01.get("afe8");
+m1_table01.put(List.of("fa86", 0, true));
+m1_table01.put(List.of("a8c9", 0, false));
+m1_table01.remove("ba21");
+m1_table01.put(List.of("b96d", 3120, true));
+m1_table01.put(List.of("fa61", 477, true));
+m1_table01.remove("af6b");
+m1_table01.put(List.of("d201", 5, false));
+m1_table01.get("f1f3");
+m1_table01.put(List.of("be41", 0, false));
+m1_table01.remove("a97e");
+m1_table01.put(List.of("a42f5", 135, true));
+m1_table01.put(List.of("ca64", 14826, true));
+m1_table01.put(List.of("bff0", 59, true));
+m1_table01.get("e5f4");
+m1_table01.put(List.of("f4db3", 0, false));
+m1_table01.put(List.of("e5cc", 0, false));
+m1_table01.put(List.of("fe0f", 85, true));
+m1_table01.remove("d1dc");
+m1_table01.get("bb39");
+m1_table01.put(List.of("a751", 2, false));
+m1_table01.put(List.of("b4c9", 0, true));
+m1_table01.put(List.of("ba6b6", 259, false));
+m1_table01.put(List.of("c77aa", 10, false));
+m1_table01.put(List.of("c3f1", 5, false));
+m1_table01.put(List.of("a043", 12, false));
+m1_table01.remove("b625");
+m1_table01.remove("a45d8");
+m1_table01.put(List.of("eff5", 0, true));
+m1_table01.put(List.of("e6eb", 0, true));
+m1_table01.remove("acf9");
+m1_table01.put(List.of("a6637", 3747, true));
+m1_table01.remove("c9b0");
+m1_table01.put(List.of("c737", 30, true));
+m1_table01.put(List.of("b0c3", 23, false));
+m1_table01.put(List.of("a6d70", 0, true));
+m1_table01.get("f088");
+m1_table01.put(List.of("ada2", 0, true));
+m1_table01.put(List.of("f396", 0, false));
+m1_table01.put(List.of("a742", 24, true));
+m1_table01.put(List.of("be5e", 13, true));
+m1_table01.remove("e717");
+m1_table01.put(List.of("e774", 10, true));
+m1_table01.put(List.of("a7af", 0, false));
+m1_table01.put(List.of("d4bc", 7248, false));
+m1_table01.put(List.of("a140a", 0, true));
+m1_table01.put(List.of("e13d", 346, true));
+m1_table01.put(List.of("c360", 0, false));
+m1_table01.put(List.of("dfab", 412112, true));
+m1_table01.put(List.of("a8ad", 650, true));
+m1_table01.remove("e8a2");
+m1_table01.get("babb6");
+m1_table01.put(List.of("a7a4", 43, false));
+m1_table01.put(List.of("d552", 0, false));
+m1_table01.put(List.of("ab1e", 0, true));
+m1_table01.remove("ea75");
+m1_table01.put(List.of("dc51", 20722, false));
+m1_table01.put(List.of("ce27", 0, true));
+m1_table01.put(List.of("e89e", 14735, true));
+m1_table01.put(List.of("a31b", 0, true));
+m1_table01.put(List.of("b5cc", 37, true));
+m1_table01.put(List.of("bc91", 61, false));
+m1_table01.put(List.of("e3e0", 0, false));
+m1_table01.put(List.of("abfb0", 98, false));
+m1_table01.put(List.of("de2a", 11, false));
+m1_table01.put(List.of("e80c", 9, true));
+m1_table01.remove("c7cde");
+m1_table01.put(List.of("e2c5", 601, true));
+m1_table01.put(List.of("bb40", 0, false));
+m1_table01.put(List.of("cc7e", 0, true));
+m1_table01.remove("adad");
+m1_table01.put(List.of("cb44", 0, true));
+m1_table01.put(List.of("f56e", 0, false));
+m1_table01.put(List.of("f074", 10, false));
+m1_table01.put(List.of("b016", 0, false));
+m1_table01.get("f6cd");
+m1_table01.remove("c5ef");
+m1_table01.put(List.of("d282", 0, true));
+m1_table01.put(List.of("b8cf", 0, true));
+m1_table01.put(List.of("af1e", 0, true));
+m1_table01.remove("c73c");
+m1_table01.remove("ab9b");
+m1_table01.put(List.of("c96b", 1, true));
+m1_table01.put(List.of("a5ac", 0, false));
+m1_table01.put(List.of("d38e", 0, false));
+m1_table01.put(List.of("e41d", 0, false));
+m1_table01.get("cd48b");
+m1_table01.put(List.of("c63d", 0, true));
+m1_table01.remove("f79e");
+m1_table01.put(List.of("e3a9", 0, true));
+m1_table01.remove("daad");
+m1_table01.put(List.of("a55f", 3, false));
+m1_table01.put(List.of("e308", 645, false));
+m1_table01.get("f3b18");
+m1_table01.put(List.of("ad98", 66648, false));
+m1_table01.put(List.of("e3b0", 5, true));
+m1_table01.put(List.of("edd2", 0, false));
+m1_table01.put(List.of("ec1b", 56, true));
+m1_table01.put(List.of("b8b0", 5874, true));
+m1_table01.put(List.of("e26f", 203, false));
+m1_table01.put(List.of("ad12", 0, true));
+m1_table01.get("bff7");
+m1_table01.put(List.of("a2ba", 401, true));
+m1_table01.put(List.of("a345", 0, false));
+m1_table01.put(List.of("c51f", 0, true));
+m1_table01.put(List.of("d610", 0, false));
+m1_table01.put(List.of("a194", 1046, false));
+m1_table01.put(List.of("c6b6", 0, true));
+m1_table01.put(List.of("a23d", 153, false));
+m1_table01.put(List.of("c2f96", 0, true));
+m1_table01.put(List.of("deee", 115, true));
+m1_table01.put(List.of("e114f", 6487, true));
+m1_table01.put(List.of("db0d", 0, false));
+m1_table01.put(List.of("f75d", 9, true));
+m1_table01.remove("a071");
+m1_table01.put(List.of("a4c4", 8452, false));
+m1_table01.put(List.of("ffd6", 40068, true));
+m1_table01.get("e825");
+m1_table01.get("edbc");
+m1_table01.put(List.of("c73b", 68, true));
+m1_table01.get("a88b");
+m1_table01.remove("d90b");
+m1_table01.put(List.of("b9ab", 0, false));
+m1_table01.put(List.of("a8cc", 0, true));
+m1_table01.put(List.of("a268f1", 0, true));
+m1_table01.put(List.of("dc95", 0, true));
+m1_table01.remove("a0b3");
+m1_table01.put(List.of("fbd0", 7943, true));
+m1_table01.get("e7d3");
+m1_table01.put(List.of("eee2", 372, false));
+m1_table01.put(List.of("fdfb", 0, false));
+m1_table01.put(List.of("fbc9", 7, true));
+m1_table01.remove("d68c");
+m1_table01.put(List.of("fb20", 1381, false));
+m1_table01.put(List.of("dda0", 0, true));
+m1_table01.put(List.of("e367", 95937, false));
+m1_table01.put(List.of("f6ba", 15, true));
+m1_table01.put(List.of("aadc", 0, false));
+m1_table01.put(List.of("bf40", 2, true));
+m1_table01.put(List.of("a451", 20, true));
+m1_table01.remove("d876");
+m1_table01.put(List.of("a6a3", 86543, true));
+m1_table01.put(List.of("bf1e", 0, true));
+m1_table01.put(List.of("c6f2", 0, true));
+m1_table01.put(List.of("c08ad", 18554, false));
+m1_table01.put(List.of("dfd86", 0, false));
+m1_table01.put(List.of("c534", 2, false));
+m1_table01.put(List.of("a265", 9818, true));
+m1_table01.put(List.of("be586", 20492, true));
+m1_table01.put(List.of("bd8d", 346, true));
+m1_table01.get("a1f3");
+m1_table01.put(List.of("ca20", 150, false));
+m1_table01.remove("d578b");
+m1_table01.put(List.of("f3a6", 0, true));
+m1_table01.put(List.of("b3ce", 0, false));
+m1_table01.remove("c174");
+m1_table01.put(List.of("a730", 11993, false));
+m1_table01.put(List.of("a93d8", 8, true));
+m1_table01.put(List.of("ac91", 55289, false));
+m1_table01.put(List.of("ea98", 0, false));
+m1_table01.put(List.of("ef7c", 26586, false));
+m1_table01.put(List.of("a762", 1, false));
+m1_table01.put(List.of("d9c5", 2, true));
+m1_table01.get("f441");
+m1_table01.remove("c65de");
+m1_table01.put(List.of("f662", 0, false));
+m1_table01.remove("d17a");
+m1_table01.put(List.of("c1fe", 280060, true));
+m1_table01.put(List.of("f6ad", 0, false));
+m1_table01.remove("b582");
+m1_table01.get("ccc5");
+m1_table01.put(List.of("c8c1", 718, true));
+m1_table01.put(List.of("c3a0", 44, false));
+m1_table01.put(List.of("d5b8", 232, true));
+m1_table01.put(List.of("c472", 4156, true));
+m1_table01.put(List.of("c31d", 62729, true));
+m1_table01.put(List.of("adf3", 3, true));
+m1_table01.remove("c721");
+m1_table01.put(List.of("e6ed", 0, false));
+m1_table01.put(List.of("edf9", 104, false));
+m1_table01.put(List.of("b57c", 23, true));
+m1_table01.put(List.of("e4f3", 0, false));
+m1_table01.put(List.of("e26c", 0, true));
+m1_table01.remove("c275");
+m1_table01.put(List.of("d84c0", 86268, false));
+m1_table01.put(List.of("fcff", 32, false));
+m1_table01.put(List.of("b9aa", 51, true));
+m1_table01.put(List.of("bbfb8", 324, true));
+m1_table01.put(List.of("dc53", 8708, true));
+m1_table01.put(List.of("ba28", 246, false));
+m1_table01.get("ba6c");
+m1_table01.put(List.of("b048", 0, false));
+m1_table01.put(List.of("abf0", 1, true));
+m1_table01.put(List.of("a61d", 0, true));
+m1_table01.remove("c34a");
+m1_table01.put(List.of("bf75", 49816, false));
+m1_table01.put(List.of("ddcef", 571, true));
+m1_table01.remove("e25b");
+m1_table01.put(List.of("a244", 53, false));
+m1_table01.remove("c60b");
+m1_table01.put(List.of("f510f", 4327, false));
+m1_table01.put(List.of("e6a9", 0, false));
+m1_table01.remove("e09b");
+m1_table01.put(List.of("cba7", 0, false));
+m1_table01.put(List.of("dc7a2", 0, false));
+m1_table01.put(List.of("ad2d", 0, true));
+m1_table01.put(List.of("a443", 0, true));
+m1_table01.put(List.of("de6b", 808, true));
+m1_table01.put(List.of("ee9e", 1974, false));
+m1_table01.put(List.of("b650", 0, false));
+m1_table01.get("bf59");
+m1_table01.put(List.of("f7baa", 46942, false));
+m1_table01.put(List.of("f248", 4089, false));
+m1_table01.put(List.of("d13c", 3, false));
+m1_table01.get("b867");
+m1_table01.remove("a468f");
+m1_table01.remove("aa516");
+m1_table01.put(List.of("bd13", 0, true));
+m1_table01.put(List.of("fd94", 0, true));
+m1_table01.remove("d13f1");
+m1_table01.put(List.of("f6c67", 28130, false));
+m1_table01.remove("f88d");
+m1_table01.put(List.of("c61a", 1, false));
+m1_table01.get("fc08");
+m1_table01.put(List.of("d0ef", 0, true));
+m1_table01.remove("cac9");
+m1_table01.put(List.of("c90f", 7047, false));
+m1_table01.put(List.of("f553", 20, true));
+m1_table01.put(List.of("dd89", 44, false));
+m1_table01.put(List.of("a610", 0, true));
+m1_table01.get("c8e9");
+m1_table01.put(List.of("a67b", 0, false));
+m1_table01.remove("fea3");
+m1_table01.remove("b699");
+m1_table01.remove("f92a");
+m1_table01.put(List.of("f8a6", 270, false));
+m1_table01.put(List.of("fc2a", 17136, false));
+m1_table01.put(List.of("d48f", 3, true));
+m1_table01.remove("e4cf");
+m1_table01.get("bfae5");
+m1_table01.remove("bfcec");
+m1_table01.remove("c270");
+m1_table01.put(List.of("f5e0", 2, true));
+m1_table01.remove("f22c");
+m1_table01.remove("d429");
+m1_table01.put(List.of("da59", 231, true));
+m1_table01.put(List.of("ce1d", 0, false));
+m1_table01.remove("dfd7");
+m1_table01.remove("c767");
+m1_table01.remove("a18b");
+m1_table01.put(List.of("f82f", 10, true));
+m1_table01.put(List.of("caf9", 35837, false));
+m1_table01.put(List.of("f2a7", 1, true));
+m1_table01.put(List.of("d5ef", 305, true));
+m1_table01.put(List.of("b843", 182132, false));
+m1_table01.put(List.of("b763", 271, false));
+m1_table01.put(List.of("c6f0", 0, true));
+m1_table01.put(Arrays.asList("cdefc", 0, null));
+m1_table01.put(List.of("c3b33", 1, true));
+m1_table01.put(List.of("c5a5", 42, false));
+m1_table01.remove("afb3");
+m1_table01.put(List.of("bb8f", 2, true));
+m1_table01.get("dc46");
+m1_table01.put(List.of("b572", 13, false));
+m1_table01.put(List.of("ca03", 34, true));
+m1_table01.put(List.of("af27", 0, true));
+m1_table01.remove("c24c");
+m1_table01.put(List.of("dfa3", 273, true));
+m1_table01.put(List.of("b839", 0, true));
+m1_table01.remove("d6b6");
+m1_table01.put(List.of("bcbd", 22, true));
+m1_table01.put(List.of("d9c3", 0, true));
+m1_table01.get("d7e9");
+m1_table01.put(List.of("fe87", 0, false));
+m1_table01.put(List.of("bab1", 151, true));
+m1_table01.remove("f985");
+m1_table01.put(List.of("e68b", 0, false));
+m1_table01.put(List.of("da589", 611, false));
+m1_table01.get("ecf6");
+m1_table01.get("a216");
+m1_table01.remove("f075");
+m1_table01.remove("afce");
+m1_table01.put(Arrays.asList("f94e", 1, null));
+m1_table01.put(List.of("a7d9", 32358, false));
+m1_table01.remove("a9d2");
+m1_table01.get("c9a9");
+m1_table01.put(List.of("f8100", 0, true));
+m1_table01.put(List.of("c045", 16486, false));
+m1_table01.remove("f667");
+m1_table01.put(List.of("f1df", 1, true));
+m1_table01.put(List.of("db3a", 2629892, true));
+m1_table01.remove("b34a0");
+m1_table01.remove("d18d");
+m1_table01.remove("b990");
+m1_table01.put(List.of("c2b6", 134, false));
+m1_table01.put(List.of("f3ec", 83, true));
+m1_table01.put(List.of("fee3", 0, false));
+m1_table01.put(List.of("d6ae1", 6, false));
+m1_table01.put(List.of("ad1c", 1513, true));
+m1_table01.put(List.of("faae", 48855, false));
+m1_table01.put(List.of("b17a", 1, false));
+m1_table01.put(List.of("c610", 273, false));
+m1_table01.remove("d550");
+m1_table01.put(List.of("d991", 16337, false));
+m1_table01.put(List.of("a492", 0, true));
+m1_table01.put(List.of("a571", 0, true));
+m1_table01.put(List.of("acd8", 62278, true));
+m1_table01.put(List.of("c2c8d", 2591, false));
+m1_table01.get("a958");
+m1_table01.put(List.of("d707", 387, true));
+m1_table01.put(List.of("e6ab", 2195, false));
+m1_table01.put(List.of("d6228", 0, false));
+m1_table01.remove("c0630");
+m1_table01.put(List.of("a2a2", 151, true));
+m1_table01.put(List.of("c2c1", 0, true));
+m1_table01.put(List.of("c80d", 23, false));
+m1_table01.remove("bc01");
+m1_table01.put(List.of("e3ca5", 0, false));
+m1_table01.get("fc81");
+m1_table01.remove("b1b8");
+m1_table01.put(List.of("e271", 0, true));
+m1_table01.put(List.of("c9ed", 22, true));
+m1_table01.put(List.of("bc6c", 212, false));
+m1_table01.put(List.of("ea81", 286, false));
+m1_table01.get("d6c3");
+m1_table01.get("b34a");
+m1_table01.put(List.of("e8cc", 0, true));
+m1_table01.remove("d375");
+m1_table01.put(List.of("d3fb", 0, true));
+m1_table01.put(List.of("ab35", 1, false));
+m1_table01.put(List.of("bcb9", 3253, true));
+m1_table01.put(List.of("de21", 52, false));
+m1_table01.put(List.of("e1c2", 188, false));
+m1_table01.put(List.of("b926", 0, true));
+m1_table01.remove("e851");
+m1_table01.put(Arrays.asList("a60d", null, true));
+m1_table01.remove("caad5");
+m1_table01.remove("b41d");
+m1_table01.get("dc41");
+m1_table01.remove("f55163");
+m1_table01.put(List.of("d8c6", 0, true));
+m1_table01.get("a624");
+m1_table01.put(List.of("a343", 4, true));
+m1_table01.remove("cad5");
+m1_table01.get("a32b");
+m1_table01.remove("b58d5");
+m1_table01.put(List.of("a6cb", 0, true));
+m1_table01.remove("e936");
+m1_table01.put(List.of("b88b", 0, false));
+m1_table01.put(List.of("dc721", 0, false));
+m1_table01.put(List.of("d85d", 477, true));
+m1_table01.put(List.of("cd04", 24, false));
+m1_table01.remove("b594");
+m1_table01.put(List.of("f4a3c", 586, false));
+m1_table01.put(List.of("af9c", 166, false));
+m1_table01.get("f99b");
+m1_table01.remove("d093");
+m1_table01.put(List.of("c80e", 1, false));
+m1_table01.put(List.of("f48d", 6336, true));
+m1_table01.put(List.of("b709", 0, true));
+m1_table01.get("f2a3");
+m1_table01.put(List.of("ee689", 4442, true));
+m1_table01.put(List.of("cd98", 30079, true));
+m1_table01.put(List.of("cb59", 1682, true));
+m1_table01.put(List.of("cca9", 0, false));
+m1_table01.remove("f03ee");
+m1_table01.put(List.of("f9e4", 0, true));
+m1_table01.put(List.of("f37d", 0, true));
+m1_table01.put(List.of("c34d", 0, true));
+m1_table01.remove("bd72");
+m1_table01.put(List.of("b6c8", 0, true));
+m1_table01.put(List.of("ad61", 86, true));
+m1_table01.remove("d93d");
+m1_table01.get("c693");
+m1_table01.put(List.of("d1b5", 52, false));
+m1_table01.put(List.of("a1d7", 44582, true));
+m1_table01.get("e2e8");
+m1_table01.put(List.of("ac8f", 0, false));
+m1_table01.put(List.of("f6f4", 171, false));
+m1_table01.put(List.of("a2f3", 134, false));
+m1_table01.put(List.of("e5b3", 416, false));
+m1_table01.put(List.of("f707", 56596, true));
+m1_table01.put(List.of("f826", 1936, true));
+m1_table01.put(List.of("f5e2", 697, false));
+m1_table01.put(List.of("c932", 0, false));
+m1_table01.put(List.of("c515", 0, false));
+m1_table01.put(List.of("f195", 2819, true));
+m1_table01.get("b945");
+m1_table01.get("d4d9");
+m1_table01.put(List.of("b000e", 0, false));
+m1_table01.remove("b503");
+m1_table01.put(Arrays.asList("af84", 12139, null));
+m1_table01.put(List.of("b5f0", 9, false));
+m1_table01.put(List.of("e03c", 270, true));
+m1_table01.put(List.of("ce60", 0, false));
+m1_table01.put(List.of("c4b1", 1, false));
+m1_table01.put(List.of("d880", 0, true));
+m1_table01.remove("ce17");
+m1_table01.remove("b3422");
+m1_table01.remove("d1ef");
+m1_table01.put(List.of("b8c1", 180, true));
+m1_table01.remove("a316");
+m1_table01.put(List.of("c909", 213, false));
+m1_table01.remove("b7cd4");
+m1_table01.put(List.of("f246", 22101, true));
+m1_table01.put(List.of("a90e", 0, true));
+m1_table01.put(List.of("e62cd", 0, false));
+m1_table01.remove("effe9");
+m1_table01.get("bbe3");
+m1_table01.put(List.of("a0da", 3268, false));
+m1_table01.put(List.of("b59d", 6, false));
+m1_table01.put(List.of("b196", 11, false));
+m1_table01.get("a287");
+m1_table01.put(List.of("fb18", 0, true));
+m1_table01.put(Arrays.asList("a6de", null, false));
+m1_table01.put(List.of("ee5f", 0, false));
+m1_table01.put(List.of("e1f8", 0, false));
+m1_table01.put(List.of("efaf", 13, false));
+m1_table01.get("ac47");
+m1_table01.put(List.of("d081", 6923, false));
+m1_table01.put(List.of("b125", 1, false));
+m1_table01.put(List.of("a623", 142, false));
+m1_table01.put(List.of("d513", 0, false));
+m1_table01.put(List.of("aa07", 10, false));
+m1_table01.put(List.of("d4df", 6, false));
+m1_table01.put(List.of("d238", 1574, true));
+m1_table01.put(List.of("e2d0", 0, true));
+m1_table01.put(List.of("c91a", 31, true));
+m1_table01.get("b1a5");
+m1_table01.put(List.of("ce04", 0, true));
+m1_table01.put(List.of("b013", 1313, false));
+m1_table01.put(Arrays.asList("b2ea", null, true));
+m1_table01.put(List.of("cec9", 0, false));
+m1_table01.put(List.of("fa3a", 79, true));
+m1_table01.put(List.of("eb44", 0, true));
+m1_table01.put(List.of("dfc2", 5824, false));
+m1_table01.get("ebc1");
+m1_table01.put(List.of("a8901", 139, true));
+m1_table01.put(List.of("eed3", 54, true));
+m1_table01.remove("f8ab");
+m1_table01.put(List.of("eab5", 1, true));
+m1_table01.put(List.of("a1c1", 0, false));
+m1_table01.put(List.of("ff88", 177, false));
+m1_table01.put(List.of("d2235", 0, true));
+m1_table01.put(List.of("e592", 2, false));
+m1_table01.put(List.of("d58e", 0, true));
+m1_table01.get("edac");
+m1_table01.put(List.of("cd59", 0, false));
+m1_table01.put(List.of("dfba", 0, false));
+m1_table01.put(List.of("c99b", 0, false));
+m1_table01.remove("bf7ef");
+m1_table01.put(List.of("ef99", 0, true));
+m1_table01.put(List.of("b221", 1966, false));
+m1_table01.remove("bfe4");
+m1_table01.put(List.of("d769", 0, false));
+m1_table01.get("b3ec");
+m1_table01.put(List.of("fd71", 0, true));
+m1_table01.put(List.of("d0f9", 0, true));
+m1_table01.put(List.of("ea41", 26, true));
+m1_table01.put(List.of("ce53", 25, false));
+m1_table01.put(List.of("c93df", 4055, false));
+m1_table01.remove("be9f");
+m1_table01.put(List.of("c6f7", 185, true));
+m1_table01.remove("d0e0");
+m1_table01.put(List.of("fe8a", 0, false));
+m1_table01.put(List.of("ab11f", 1, true));
+m1_table01.remove("bb1c");
+m1_table01.remove("c9b8");
+m1_table01.put(List.of("cef6", 63, true));
+m1_table01.get("aa21");
+m1_table01.put(List.of("b7ba", 22, false));
+m1_table01.put(List.of("d7d6", 0, false));
+m1_table01.remove("a858");
+m1_table01.put(List.of("d8aa", 2729, false));
+m1_table01.put(List.of("e5d7", 0, true));
+m1_table01.get("c075");
+m1_table01.put(List.of("f1a6", 56, false));
+m1_table01.put(List.of("c910", 440, false));
+m1_table01.remove("b584");
+m1_table01.get("df85");
+m1_table01.remove("ea80");
+m1_table01.remove("b6b2");
+m1_table01.put(List.of("f71a", 76, true));
+m1_table01.get("f6bb");
+m1_table01.put(List.of("d910", 299, false));
+m1_table01.get("af1f");
+m1_table01.put(List.of("a03cc", 0, true));
+m1_table01.remove("d50a0");
+m1_table01.put(List.of("f3be", 71900, false));
+m1_table01.get("b24c");
+m1_table01.remove("d948");
+m1_table01.get("ce7c");
+m1_table01.put(List.of("fc27", 0, false));
+m1_table01.get("a863");
+m1_table01.put(List.of("d339", 39, true));
+m1_table01.put(List.of("d76a", 0, false));
+m1_table01.remove("d706");
+m1_table01.put(List.of("c755", 276, true));
+m1_table01.put(List.of("e0f5", 0, false));
+m1_table01.get("b4ee");
+m1_table01.put(List.of("ca3a", 0, true));
+m1_table01.put(List.of("b678", 26, true));
+m1_table01.put(List.of("c416", 69631, false));
+m1_table01.put(List.of("b6bf", 1, true));
+m1_table01.put(List.of("e9259", 27, false));
+m1_table01.put(List.of("a1b8", 0, false));
+m1_table01.get("b397");
+m1_table01.remove("d3b9");
+m1_table01.remove("e850");
+m1_table01.put(List.of("cb4b", 11, false));
+m1_table01.put(List.of("b612", 0, true));
+m1_table01.put(List.of("bb39f", 0, false));
+m1_table01.put(List.of("a56a", 2, false));
+m1_table01.put(List.of("c711", 0, true));
+m1_table01.get("dfbc");
+m1_table01.put(List.of("a5d0", 193, true));
+m1_table01.put(List.of("e0c9", 24, true));
+m1_table01.put(List.of("f1ec", 0, false));
+m1_table01.put(List.of("aee7", 0, false));
+m1_table01.put(List.of("bc95", 663, true));
+m1_table01.remove("ae11");
+m1_table01.put(List.of("d258", 224, true));
+m1_table01.remove("beb8");
+m1_table01.put(List.of("c5d3", 24, true));
+m1_table01.put(List.of("ae44", 0, false));
+m1_table01.put(List.of("dada", 0, true));
+m1_table01.get("a6bf");
+m1_table01.remove("c5bc");
+m1_table01.remove("e357");
+m1_table01.remove("c6fb");
+m1_table01.put(List.of("e822", 0, true));
+m1_table01.put(List.of("a6e7", 186, false));
+m1_table01.put(List.of("c2bf", 0, true));
+m1_table01.put(List.of("b00c", 340, true));
+m1_table01.remove("f097f");
+m1_table01.remove("fcc4");
+m1_table01.get("d8fe");
+m1_table01.put(List.of("ff76", 6, false));
+m1_table01.put(List.of("d53a", 13069, false));
+m1_table01.remove("df71");
+m1_table01.put(List.of("f6e0", 14874, true));
+m1_table01.put(List.of("af2b", 1187, false));
+m1_table01.put(List.of("a086cb", 129, true));
+m1_table01.put(List.of("eb269", 0, false));
+m1_table01.put(List.of("f31c", 1, true));
+m1_table01.put(List.of("b371", 148, false));
+m1_table01.remove("f222");
+m1_table01.put(List.of("c5aa", 61, false));
+m1_table01.put(List.of("ba15", 917, true));
+m1_table01.remove("bb42");
+m1_table01.put(List.of("af02", 817, false));
+m1_table01.put(List.of("e317", 2077, true));
+m1_table01.remove("cc71");
+m1_table01.put(List.of("b7ac", 0, true));
+m1_table01.put(List.of("eedb", 2, false));
+m1_table01.put(List.of("d161", 0, false));
+m1_table01.put(List.of("f0ac", 1351, false));
+m1_table01.put(List.of("b1a7", 5520, false));
+m1_table01.put(List.of("bb44", 44, false));
+m1_table01.put(List.of("fae6", 40, true));
+m1_table01.put(List.of("bd55", 1, true));
+m1_table01.put(List.of("de36", 0, true));
+m1_table01.remove("db44");
+m1_table01.put(List.of("dc00", 41626, false));
+m1_table01.put(List.of("eda8", 0, true));
+m1_table01.put(List.of("dc28", 23, true));
+m1_table01.put(List.of("c980", 0, false));
+m1_table01.remove("dd6d");
+m1_table01.put(List.of("cc31", 33, true));
+m1_table01.get("bd85d");
+m1_table01.remove("ef87e");
+m1_table01.put(List.of("ed10", 8960, true));
+m1_table01.put(List.of("be94", 873, false));
+m1_table01.remove("e81e");
+m1_table01.remove("c3b0");
+m1_table01.get("a4fd");
+m1_table01.put(List.of("c105", 22268, true));
+m1_table01.put(List.of("acd1", 2, false));
+m1_table01.put(List.of("c42e", 0, true));
+m1_table01.put(List.of("f2000", 120, false));
+m1_table01.put(List.of("ace9", 3084, false));
+m1_table01.remove("c7ef");
+m1_table01.put(List.of("de4e", 2, true));
+m1_table01.put(List.of("f8de", 16, false));
+m1_table01.remove("c3b7");
+m1_table01.remove("c6ed");
+m1_table01.put(List.of("f166", 0, false));
+m1_table01.get("b719");
+m1_table01.put(List.of("a15d", 0, true));
+m1_table01.put(Arrays.asList("dcff", null, false));
+m1_table01.remove("da86");
+m1_table01.remove("c23f");
+m1_table01.put(List.of("b276", 4473, true));
+m1_table01.put(List.of("fc52", 11, false));
+m1_table01.put(List.of("d33c", 0, true));
+m1_table01.remove("cd23");
+m1_table01.put(List.of("e595", 2, true));
+m1_table01.remove("a7c7");
+m1_table01.put(List.of("c61b", 141, false));
+m1_table01.get("ec9f5");
+m1_table01.put(List.of("a8ac", 1002, false));
+m1_table01.remove("a9af6");
+m1_table01.put(List.of("d8b7", 12161, true));
+m1_table01.put(List.of("a9f7", 34516, true));
+m1_table01.put(List.of("aaa7", 4694, false));
+m1_table01.put(List.of("da63", 13021, false));
+m1_table01.get("b415");
+m1_table01.put(List.of("ddb5", 53, false));
+m1_table01.put(List.of("e3ea", 0, true));
+m1_table01.put(List.of("d62f", 0, true));
+m1_table01.remove("ddf6");
+m1_table01.remove("fb16");
+m1_table01.put(List.of("ab26", 0, false));
+m1_table01.put(List.of("db5d", 15, false));
+m1_table01.put(List.of("f890", 455, true));
+m1_table01.put(List.of("b1676", 695, true));
+m1_table01.put(List.of("ee60", 0, true));
+m1_table01.get("f0af");
+m1_table01.put(List.of("edfc", 0, false));
+m1_table01.put(List.of("cce4", 366, false));
+m1_table01.remove("f938");
+m1_table01.put(List.of("ab3e", 2, true));
+m1_table01.put(List.of("c67b", 4103, true));
+m1_table01.remove("e5e5");
+m1_table01.remove("be7a");
+m1_table01.put(List.of("dbfa", 25, true));
+m1_table01.get("b12b5");
+m1_table01.get("e21f");
+m1_table01.put(List.of("edc5", 5202, true));
+m1_table01.put(List.of("f701", 0, false));
+m1_table01.put(List.of("f0e7", 15440, false));
+m1_table01.put(List.of("aa67", 247, false));
+m1_table01.get("d575");
+m1_table01.put(List.of("e866", 68, false));
+m1_table01.put(List.of("b507", 43, false));
+m1_table01.get("a68eb");
+m1_table01.put(List.of("a4f2", 44, false));
+m1_table01.put(List.of("e4e0", 0, true));
+m1_table01.put(List.of("c2b9", 0, true));
+m1_table01.put(List.of("c1f9", 13, true));
+m1_table01.get("e25c7");
+m1_table01.put(List.of("e13a", 0, false));
+m1_table01.remove("b36cb");
+m1_table01.put(List.of("b720", 85, true));
+m1_table01.put(List.of("d2e2", 358, false));
+m1_table01.remove("aaf2");
+m1_table01.remove("b710");
+m1_table01.get("b37a");
+m1_table01.put(List.of("a592f", 11, true));
+m1_table01.put(List.of("bfa6", 0, false));
+m1_table01.put(List.of("e0e8", 32, true));
+m1_table01.remove("b440");
+m1_table01.put(List.of("abcb", 0, true));
+m1_table01.remove("df66");
+m1_table01.put(List.of("ff3a", 0, false));
+m1_table01.put(List.of("eb9e", 2462, false));
+m1_table01.put(List.of("a657", 29, false));
+m1_table01.put(List.of("f881", 0, true));
+m1_table01.put(List.of("dffe", 16, false));
+m1_table01.get("a056");
+m1_table01.put(List.of("be68", 0, false));
+m1_table01.remove("a6b5");
+m1_table01.put(List.of("a4ad", 4, true));
+m1_table01.remove("c7cc");
+m1_table01.put(List.of("b9bd", 351, true));
+m1_table01.remove("f3c8");
+m1_table01.remove("e7fe");
+m1_table01.remove("df0d");
+m1_table01.remove("babc");
+m1_table01.put(List.of("adf1", 9, true));
+m1_table01.put(List.of("fb44", 0, false));
+m1_table01.get("ded2");
+m1_table01.get("d9caf");
+m1_table01.put(List.of("ab1b", 0, false));
+m1_table01.put(List.of("eef1", 11045, true));
+m1_table01.put(List.of("fbc7", 0, false));
+m1_table01.get("e05b");
+m1_table01.put(List.of("f6797", 0, true));
+m1_table01.put(List.of("c865", 0, false));
+m1_table01.put(List.of("e4d4", 3, true));
+m1_table01.put(List.of("bbc3", 0, true));
+m1_table01.put(List.of("bd2d", 0, false));
+m1_table01.remove("ac00");
+m1_table01.put(List.of("e95a", 0, false));
+m1_table01.remove("bc56");
+m1_table01.remove("ef9a");
+m1_table01.get("cb0b");
+m1_table01.put(List.of("cd02", 1102, false));
+m1_table01.put(List.of("ec11", 1114, true));
+m1_table01.put(List.of("ede9", 0, false));
+m1_table01.remove("ecc8");
+m1_table01.remove("c8e0");
+m1_table01.remove("c785");
+m1_table01.put(List.of("bd14", 0, false));
+m1_table01.put(List.of("b703", 0, true));
+m1_table01.put(List.of("cfbf", 139, true));
+m1_table01.put(List.of("e979", 48, true));
+m1_table01.put(List.of("d922", 0, false));
+m1_table01.put(List.of("a3b9", 9503, false));
+m1_table01.get("c4b2");
+m1_table01.put(List.of("a33264", 0, false));
+m1_table01.put(List.of("a9b9", 6, true));
+m1_table01.put(List.of("e944", 1, true));
+m1_table01.put(List.of("a5c1", 153, true));
+m1_table01.remove("abe7");
+m1_table01.remove("fe04");
+m1_table01.put(List.of("b5dc", 0, true));
+m1_table01.put(List.of("cb81", 7637, true));
+m1_table01.put(List.of("ecdb", 28, true));
+m1_table01.put(List.of("bbe6", 11780, false));
+m1_table01.put(List.of("dde6", 0, false));
+m1_table01.put(List.of("ed79", 14, true));
+m1_table01.put(List.of("a3a7", 0, false));
+m1_table01.put(List.of("e031", 1673, false));
+m1_table01.put(List.of("b2b83", 0, true));
+m1_table01.put(List.of("a02a", 2, true));
+m1_table01.put(List.of("b438", 2, false));
+m1_table01.put(List.of("b901", 89, true));
+m1_table01.remove("d8ec");
+m1_table01.put(List.of("b15c", 36235, false));
+m1_table01.put(List.of("ad43", 3072, true));
+m1_table01.get("f237");
+m1_table01.put(List.of("c394", 0, true));
+m1_table01.put(List.of("c70d9", 1898, true));
+m1_table01.put(List.of("b488", 1940, true));
+m1_table01.put(List.of("f1b7", 0, false));
+m1_table01.put(List.of("f15a", 43652, false));
+m1_table01.put(List.of("ee08", 138405, false));
+m1_table01.remove("c2b3");
+m1_table01.put(List.of("a4d2", 1, false));
+m1_table01.get("bbbe");
+m1_table01.put(List.of("ab75", 23, true));
+m1_table01.put(List.of("a755", 343, false));
+m1_table01.put(List.of("c87b", 0, true));
+m1_table01.put(List.of("c242", 0, false));
+m1_table01.get("ba8c");
+m1_table01.put(List.of("ecc6", 51, true));
+m1_table01.put(List.of("b018", 30, false));
+m1_table01.put(List.of("a4a1", 0, false));
+m1_table01.put(List.of("d4b7", 4901, true));
+m1_table01.remove("eb0e");
+m1_table01.put(List.of("acec", 0, true));
+m1_table01.put(List.of("f039", 195, false));
+m1_table01.put(List.of("defe", 0, false));
+m1_table01.put(List.of("b2e9", 241, true));
+m1_table01.put(List.of("c1f0", 0, true));
+m1_table01.put(List.of("bd46", 0, true));
+m1_table01.put(List.of("a465a", 96, true));
+m1_table01.put(List.of("b183", 192, true));
+m1_table01.remove("c0f6");
+m1_table01.remove("cb93");
+m1_table01.put(List.of("e99d", 5792, false));
+m1_table01.put(List.of("dd59", 0, false));
+m1_table01.get("a53c");
+m1_table01.put(List.of("afda", 7282, false));
+m1_table01.get("a99a");
+m1_table01.remove("e79c");
+m1_table01.put(List.of("c560", 0, true));
+m1_table01.put(List.of("ee4b", 0, true));
+m1_table01.remove("b670");
+m1_table01.put(List.of("b58c", 151, false));
+m1_table01.remove("b59e");
+m1_table01.get("f936f");
+m1_table01.put(List.of("ecab", 687, false));
+m1_table01.remove("fb556");
+m1_table01.put(List.of("d5c1", 0, true));
+m1_table01.put(List.of("fef90", 22768, true));
+m1_table01.put(List.of("c0111", 3, true));
+m1_table01.put(List.of("a3f2", 2294, true));
+m1_table01.put(List.of("fa0d", 4990, false));
+m1_table01.remove("df2d");
+m1_table01.remove("b6eb");
+m1_table01.put(List.of("e72f", 2, true));
+m1_table01.get("e181");
+m1_table01.remove("d349");
+m1_table01.put(List.of("a939", 0, false));
+m1_table01.get("e8e5");
+m1_table01.put(List.of("c0af6", 2195, false));
+m1_table01.put(List.of("a7b9", 2526, false));
+m1_table01.remove("a95e");
+m1_table01.remove("a5fa");
+m1_table01.put(List.of("c199", 0, false));
+m1_table01.put(List.of("b8bf", 26, true));
+m1_table01.remove("c00e");
+m1_table01.remove("c578");
+m1_table01.get("b67b");
+m1_table01.put(List.of("a1b1", 0, false));
+m1_table01.remove("f3da");
+m1_table01.put(List.of("c634", 0, true));
+m1_table01.put(List.of("a6a0", 147, true));
+m1_table01.put(List.of("edb1", 0, true));
+m1_table01.put(List.of("b2398", 8005, true));
+m1_table01.put(List.of("bb14", 0, false));
+m1_table01.put(List.of("d416", 895, true));
+m1_table01.put(List.of("f9e8", 123, false));
+m1_table01.put(List.of("b0045", 566, false));
+m1_table01.put(List.of("d47e", 11, true));
+m1_table01.put(List.of("b9e3", 1, true));
+m1_table01.put(List.of("b07c", 0, true));
+m1_table01.put(List.of("d6f9", 0, true));
+m1_table01.remove("d5d7");
+m1_table01.put(List.of("a98c", 0, false));
+m1_table01.put(List.of("ba03", 3, true));
+m1_table01.remove("f063");
+m1_table01.put(List.of("aa5d", 5, false));
+m1_table01.remove("da09");
+m1_table01.get("edf8");
+m1_table01.put(List.of("ab45", 1214, true));
+m1_table01.remove("bee6");
+m1_table01.remove("d50a8");
+m1_table01.put(List.of("b807", 0, true));
+m1_table01.put(List.of("c3f9", 0, true));
+m1_table01.put(List.of("f865", 3, true));
+m1_table01.put(List.of("b02e7", 0, false));
+m1_table01.get("a0a3");
+m1_table01.put(List.of("cf16", 326, true));
+m1_table01.put(List.of("b624", 0, true));
+m1_table01.put(List.of("b3b1", 0, false));
+m1_table01.remove("bca5");
+m1_table01.put(List.of("af7b", 0, true));
+m1_table01.put(List.of("bbc09", 2, false));
+m1_table01.put(List.of("c766", 0, false));
+m1_table01.put(List.of("a026", 0, true));
+m1_table01.put(List.of("d2ec", 0, false));
+m1_table01.put(List.of("aab5", 94, true));
+m1_table01.put(List.of("e511", 0, false));
+m1_table01.put(List.of("a935", 5, true));
+m1_table01.remove("ca74");
+m1_table01.put(List.of("ffd2", 0, false));
+m1_table01.put(List.of("a2d2", 0, true));
+m1_table01.put(List.of("b30c", 0, false));
+m1_table01.put(List.of("dd96", 150, false));
+m1_table01.remove("af07");
+m1_table01.get("ed63");
+m1_table01.put(List.of("db2f", 1260, true));
+m1_table01.get("eca6");
+m1_table01.put(List.of("dcfc", 17, false));
+m1_table01.remove("a23c9");
+m1_table01.get("e70b");
+m1_table01.get("c306");
+m1_table01.put(List.of("a981", 0, false));
+m1_table01.remove("aa7d");
+m1_table01.get("a301");
+m1_table01.put(List.of("d2a9", 4530, true));
+m1_table01.put(List.of("d131", 3149, false));
+m1_table01.put(List.of("cfe8", 0, false));
+m1_table01.remove("b42d");
+m1_table01.put(List.of("fd93", 64, true));
+m1_table01.put(List.of("a6909", 406, false));
+m1_table01.put(List.of("fd35", 0, true));
+m1_table01.remove("b98e");
+m1_table01.put(List.of("c063", 10962, false));
+m1_table01.put(List.of("a8dc", 0, true));
+m1_table01.put(List.of("dbaf", 0, false));
+m1_table01.put(List.of("b91f", 13, true));
+m1_table01.put(List.of("db7d", 0, false));
+m1_table01.remove("c78c");
+m1_table01.get("bbf0");
+m1_table01.put(List.of("a87ba", 0, true));
+m1_table01.put(List.of("e9c8", 1010, true));
+m1_table01.put(List.of("a9fc", 0, true));
+m1_table01.put(List.of("c757", 819, true));
+m1_table01.put(List.of("cdce", 10992, false));
+m1_table01.remove("b3ef");
+m1_table01.put(List.of("f4cf", 646, false));
+m1_table01.put(List.of("b9ec", 136, true));
+m1_table01.put(List.of("c4af", 528, false));
+m1_table01.put(List.of("eb2f1", 0, false));
+m1_table01.put(List.of("d64b", 88, false));
+m1_table01.put(List.of("abf2", 0, true));
+m1_table01.put(List.of("b607f", 0, false));
+m1_table01.put(List.of("afa9", 8866, true));
+m1_table01.remove("be7b");
+m1_table01.remove("e5c7");
+m1_table01.remove("af78");
+m1_table01.put(List.of("f0e5", 126, false));
+m1_table01.remove("a17a");
+m1_table01.put(List.of("a04a", 0, false));
+m1_table01.put(List.of("ea45", 3, false));
+m1_table01.put(List.of("f5ba", 36, false));
+m1_table01.put(List.of("f202", 345, true));
+m1_table01.put(List.of("aed5", 0, false));
+m1_table01.remove("dabf");
+m1_table01.put(List.of("ffef", 0, true));
+m1_table01.remove("aca1");
+m1_table01.put(List.of("dbe1", 2, true));
+m1_table01.remove("aa5e");
+m1_table01.put(List.of("b3e22", 0, true));
+m1_table01.put(List.of("f148", 0, true));
+m1_table01.put(List.of("d1f2", 209, true));
+m1_table01.get("c5038");
+m1_table01.put(List.of("f91d", 0, false));
+m1_table01.put(List.of("ef5b", 0, true));
+m1_table01.put(List.of("a2db", 12681, true));
+m1_table01.put(List.of("c9c9", 1, false));
+m1_table01.remove("f0f7");
+m1_table01.put(List.of("fcc7", 0, false));
+m1_table01.put(List.of("e0ea", 0, false));
+m1_table01.put(List.of("cba0", 0, true));
+m1_table01.remove("a485");
+m1_table01.put(List.of("ce66", 23, false));
+m1_table01.get("b517");
+m1_table01.put(List.of("e067", 9, true));
+m1_table01.put(List.of("c020", 0, false));
+m1_table01.put(List.of("b7680", 0, true));
+m1_table01.put(List.of("eaee", 0, true));
+m1_table01.put(List.of("a81a", 0, true));
+m1_table01.put(List.of("c722", 0, true));
+m1_table01.put(List.of("fff6", 193, true));
+m1_table01.put(List.of("b24ee", 0, false));
+m1_table01.put(List.of("a1f2", 0, true));
+m1_table01.remove("a3d55");
+m1_table01.put(List.of("a668", 0, false));
+m1_table01.put(List.of("d990", 116, false));
+m1_table01.remove("e956");
+m1_table01.put(List.of("ec44", 0, false));
+m1_table01.put(List.of("b4ea", 0, false));
+m1_table01.put(List.of("f427", 607, false));
+m1_table01.put(List.of("fa62", 1, false));
+m1_table01.put(List.of("a2c6", 45850, false));
+m1_table01.put(List.of("cadb", 0, false));
+m1_table01.get("d903");
+m1_table01.put(List.of("c3da", 1076, false));
+m1_table01.put(List.of("e22e", 1, false));
+m1_table01.put(List.of("b3049", 0, false));
+m1_table01.put(List.of("b6cea", 2844, true));
+m1_table01.put(List.of("b096e", 0, false));
+m1_table01.put(List.of("c202", 4, false));
+m1_table01.get("a843");
+m1_table01.put(List.of("c7e5", 1, false));
+m1_table01.remove("e841");
+m1_table01.put(List.of("a513", 0, false));
+m1_table01.put(List.of("c696", 12, false));
+m1_table01.put(List.of("fd34", 18054, true));
+m1_table01.put(List.of("c50e0", 27, false));
+m1_table01.put(List.of("e7c0", 0, false));
+m1_table01.put(List.of("ee51", 0, true));
+m1_table01.put(List.of("c4d2", 19, false));
+m1_table01.put(List.of("af192", 0, false));
+m1_table01.remove("b983");
+m1_table01.put(List.of("f2c8", 0, true));
+m1_table01.put(List.of("b2ee", 117, true));
+m1_table01.put(List.of("de86", 4742, false));
+m1_table01.put(List.of("cb83", 5127, true));
+m1_table01.put(List.of("b03c", 16, false));
+m1_table01.put(List.of("ddf7", 0, true));
+m1_table01.put(List.of("e363", 47, true));
+m1_table01.remove("f3fc");
+m1_table01.put(List.of("bb87", 14, false));
+m1_table01.put(List.of("ac7a", 0, false));
+m1_table01.remove("d05b");
+m1_table01.put(List.of("a6f0", 0, false));
+m1_table01.put(List.of("c246", 3346, false));
+m1_table01.put(List.of("ba24", 38, false));
+m1_table01.remove("c530");
+m1_table01.put(List.of("da29", 0, true));
+m1_table01.put(List.of("eb295", 34, false));
+m1_table01.put(List.of("c7718", 223, true));
+m1_table01.put(List.of("f1f0", 132, true));
+m1_table01.put(List.of("ccb2", 0, true));
+m1_table01.put(List.of("b10d", 1007, true));
+m1_table01.put(List.of("f1a0", 0, true));
+m1_table01.remove("b66e");
+m1_table01.remove("ad9d2");
+m1_table01.remove("ac3e");
+m1_table01.get("d209");
+m1_table01.put(List.of("d750", 0, false));
+m1_table01.remove("a87b");
+m1_table01.remove("a074");
+m1_table01.remove("f59c");
+m1_table01.put(List.of("bc69", 1392, false));
+m1_table01.get("a062");
+m1_table01.remove("b9ba");
+m1_table01.remove("d493");
+m1_table01.put(List.of("cce8", 0, false));
+m1_table01.remove("aca2");
+m1_table01.put(List.of("f537", 162, false));
+m1_table01.put(List.of("e00d", 384, false));
+m1_table01.put(List.of("c63f", 3, false));
+m1_table01.remove("a274");
+m1_table01.put(List.of("db95", 0, true));
+m1_table01.put(List.of("a1b1b", 0, true));
+m1_table01.get("a6639");
+m1_table01.put(List.of("a694", 11, false));
+m1_table01.put(List.of("a445", 0, true));
+m1_table01.put(List.of("b1675", 0, false));
+m1_table01.put(List.of("a38da", 0, true));
+m1_table01.get("e1f1");
+m1_table01.put(List.of("f235", 15, true));
+m1_table01.put(List.of("ab04", 0, true));
+m1_table01.put(List.of("b739", 0, true));
+m1_table01.get("eae3");
+m1_table01.remove("a5c3");
+m1_table01.put(List.of("c6a23", 0, true));
+m1_table01.put(List.of("fc89", 3693, false));
+m1_table01.put(List.of("a97a", 0, false));
+m1_table01.put(List.of("f6b39", 0, true));
+m1_table01.put(List.of("b1e15", 135, true));
+m1_table01.put(List.of("e259c", 284, true));
+m1_table01.put(List.of("cf26", 2, true));
+m1_table01.put(List.of("abd3", 0, true));
+m1_table01.put(List.of("c1c2", 4, true));
+m1_table01.put(List.of("d153", 0, false));
+m1_table01.remove("b4c7");
+m1_table01.put(List.of("b0ab", 0, false));
+m1_table01.put(List.of("bc26", 8, false));
+m1_table01.put(List.of("bbae", 0, false));
+m1_table01.put(List.of("f7b8", 16215, false));
+m1_table01.put(List.of("a94c", 0, true));
+m1_table01.get("ccac");
+m1_table01.put(List.of("fa98", 13, false));
+m1_table01.get("a667");
+m1_table01.put(List.of("e009", 0, true));
+m1_table01.put(List.of("eed5", 3916, false));
+m1_table01.remove("c8eb");
+m1_table01.put(List.of("acfe0", 0, true));
+m1_table01.put(List.of("a1ed9", 0, false));
+m1_table01.put(List.of("a63f", 0, false));
+m1_table01.get("d275");
+m1_table01.put(List.of("c700", 7, true));
+m1_table01.put(List.of("a0ee", 0, true));
+m1_table01.put(List.of("e222", 22074, false));
+m1_table01.put(List.of("c9cf8", 0, false));
+m1_table01.remove("d3d5");
+m1_table01.put(List.of("a75d", 0, false));
+m1_table01.get("e974");
+m1_table01.remove("f42f");
+m1_table01.put(List.of("b3b5", 187, true));
+m1_table01.remove("dfef");
+m1_table01.put(Arrays.asList("f8f8", null, false));
+m1_table01.put(List.of("bd5a", 0, true));
+m1_table01.put(List.of("b21e", 3, false));
+m1_table01.remove("d596");
+m1_table01.put(List.of("c22a", 0, true));
+m1_table01.remove("d5f1");
+m1_table01.put(List.of("e84a", 2, false));
+m1_table01.get("d0e8");
+m1_table01.get("f2d9");
+m1_table01.put(List.of("dd5f", 1, true));
+m1_table01.put(List.of("dae7", 0, false));
+m1_table01.get("efdc");
+m1_table01.put(Arrays.asList("c2d2", 0, null));
+m1_table01.get("be4f");
+m1_table01.put(List.of("d663", 0, false));
+m1_table01.put(List.of("a7f3", 6, true));
+m1_table01.put(List.of("b523", 141, true));
+m1_table01.put(List.of("c345", 6, true));
+m1_table01.put(List.of("b353", 21, false));
+m1_table01.get("bdba");
+m1_table01.put(List.of("b796", 0, false));
+m1_table01.put(List.of("a731", 541, false));
+m1_table01.remove("c14b");
+m1_table01.put(List.of("e713", 1, false));
+m1_table01.remove("d6e4");
+m1_table01.put(List.of("ff5f", 0, true));
+m1_table01.put(List.of("a447", 0, false));
+m1_table01.put(List.of("becb", 88, false));
+m1_table01.remove("a84c");
+m1_table01.put(List.of("a2a1", 37, true));
+m1_table01.put(Arrays.asList("b640", null, false));
+m1_table01.remove("b6df");
+m1_table01.put(List.of("a2e4", 0, true));
+m1_table01.remove("f2d0");
+m1_table01.put(List.of("ae27", 45, true));
+m1_table01.put(List.of("b765a", 31, false));
+m1_table01.put(List.of("aa58", 2544, true));
+m1_table01.remove("e45f");
+m1_table01.put(List.of("f2f1", 0, false));
+m1_table01.put(List.of("ebd1", 168, false));
+m1_table01.put(List.of("ce09", 0, false));
+m1_table01.put(List.of("cea73", 5914, false));
+m1_table01.put(List.of("e86d", 8, true));
+m1_table01.put(List.of("dd9f", 0, true));
+m1_table01.remove("da33");
+m1_table01.put(List.of("dd6e", 0, false));
+m1_table01.put(List.of("a7b5", 3, true));
+m1_table01.put(List.of("a574", 2567, true));
+m1_table01.put(List.of("db31", 0, true));
+m1_table01.put(List.of("f685", 23, true));
+m1_table01.put(List.of("a02a8", 26, false));
+m1_table01.put(List.of("d542", 26817, true));
+m1_table01.put(List.of("c526", 6295, true));
+m1_table01.put(List.of("acf45", 797, true));
+m1_table01.put(List.of("da01", 0, false));
+m1_table01.remove("bbcb");
+m1_table01.put(List.of("d1c8", 0, true));
+m1_table01.get("e39d");
+m1_table01.put(List.of("daa2", 8, true));
+m1_table01.get("aa28");
+m1_table01.put(List.of("c90b", 0, false));
+m1_table01.remove("aeb95");
+m1_table01.remove("d17d");
+m1_table01.get("ced1");
+m1_table01.put(List.of("e909", 0, false));
+m1_table01.put(List.of("b837", 16, true));
+m1_table01.put(List.of("efa3", 0, false));
+m1_table01.put(List.of("d0b3", 12, false));
+m1_table01.put(List.of("f8ea", 0, true));
+m1_table01.remove("e336");
+m1_table01.remove("e110");
+m1_table01.remove("d019");
+m1_table01.put(List.of("c775", 0, true));
+m1_table01.remove("b0cb");
+m1_table01.remove("b63d3");
+m1_table01.put(List.of("d0170", 1734, false));
+m1_table01.put(List.of("b7559", 0, false));
+m1_table01.put(List.of("b5355", 55, false));
+m1_table01.get("afd0");
+m1_table01.put(List.of("bced", 6, true));
+m1_table01.remove("b09c");
+m1_table01.remove("ef08");
+m1_table01.put(List.of("ae14", 2, false));
+m1_table01.put(List.of("aea25", 0, true));
+m1_table01.put(List.of("e0d0", 0, false));
+m1_table01.remove("aa1b");
+m1_table01.put(List.of("dfa4", 48245, false));
+m1_table01.put(List.of("aead", 51, true));
+m1_table01.get("f2245");
+m1_table01.put(List.of("bbb2", 1775, false));
+m1_table01.put(List.of("ee0d", 0, false));
+m1_table01.remove("ab00");
+m1_table01.put(List.of("bde8", 926, false));
+m1_table01.put(List.of("a9bb", 0, true));
+m1_table01.put(List.of("ae1b", 1147, false));
+m1_table01.remove("ad5b");
+m1_table01.put(List.of("ab3c", 25, false));
+m1_table01.put(List.of("decd", 0, false));
+m1_table01.put(List.of("f32a", 59, false));
+m1_table01.put(List.of("d815", 7, false));
+m1_table01.put(List.of("c331", 7, true));
+m1_table01.put(List.of("f06f", 1, false));
+m1_table01.put(List.of("ad3d", 9, false));
+m1_table01.remove("f811");
+m1_table01.put(List.of("ee3a", 0, true));
+m1_table01.put(List.of("c997e", 81, false));
+m1_table01.remove("e1a1");
+m1_table01.put(List.of("d32d", 4, false));
+m1_table01.remove("b4b6a");
+m1_table01.remove("afc2");
+m1_table01.put(List.of("daf0", 2060, true));
+m1_table01.put(List.of("db8b", 18, true));
+m1_table01.put(List.of("c54f8", 46, false));
+m1_table01.get("a517");
+m1_table01.put(List.of("ab30", 0, false));
+m1_table01.remove("db8f");
+m1_table01.put(List.of("f2aa", 0, false));
+m1_table01.put(List.of("a3348", 230, false));
+m1_table01.put(List.of("a542", 0, true));
+m1_table01.remove("c9a0");
+m1_table01.remove("e77a");
+m1_table01.put(List.of("ed25", 0, true));
+m1_table01.put(Arrays.asList("e1cb", 71, null));
+m1_table01.put(List.of("c3d8", 64, true));
+m1_table01.remove("ae00");
+m1_table01.remove("a630");
+m1_table01.put(List.of("b213", 7, false));
+m1_table01.put(List.of("d322", 0, false));
+m1_table01.put(List.of("f327", 27696, false));
+m1_table01.put(List.of("cca4", 0, true));
+m1_table01.put(List.of("e458", 107, false));
+m1_table01.remove("b50e");
+m1_table01.remove("e505");
+m1_table01.put(List.of("cd12", 2312, true));
+m1_table01.remove("a3f0");
+m1_table01.put(List.of("b655", 5492, true));
+m1_table01.put(List.of("ab22", 0, true));
+m1_table01.remove("ada8");
+m1_table01.put(List.of("c28b", 0, true));
+m1_table01.put(List.of("f741", 203, true));
+m1_table01.get("e339");
+m1_table01.remove("e703");
+m1_table01.put(List.of("d030", 0, true));
+m1_table01.put(List.of("ddd2", 41, false));
+m1_table01.put(List.of("e88a", 3, true));
+m1_table01.put(List.of("b443", 0, true));
+m1_table01.put(List.of("e66b", 38541, true));
+m1_table01.put(List.of("cc3f", 34, false));
+m1_table01.put(List.of("ddd8", 17, true));
+m1_table01.put(List.of("e6d7", 0, false));
+m1_table01.remove("aeea");
+m1_table01.put(List.of("a735e", 20834, false));
+m1_table01.put(List.of("d4b6", 3805, true));
+m1_table01.put(List.of("cd93", 172675, false));
+m1_table01.put(List.of("aa3b", 0, true));
+m1_table01.put(List.of("ed8a", 17, false));
+m1_table01.put(List.of("ccc2", 0, false));
+m1_table01.put(List.of("b7ab", 7, false));
+m1_table01.remove("f75c");
+m1_table01.put(List.of("e73b", 116, true));
+m1_table01.put(List.of("be55", 0, false));
+m1_table01.put(List.of("bd97", 8, false));
+m1_table01.put(List.of("d525", 0, false));
+m1_table01.remove("d1c1");
+m1_table01.put(List.of("d7e6", 34, false));
+m1_table01.put(List.of("b24f", 20, false));
+m1_table01.remove("e202");
+m1_table01.get("c7b5");
+m1_table01.put(List.of("a9d3", 0, true));
+m1_table01.put(List.of("b61d", 0, false));
+m1_table01.put(List.of("cf6e", 1, true));
+m1_table01.put(List.of("a1c0", 1, false));
+m1_table01.put(List.of("d138", 38430, true));
+m1_table01.put(List.of("a63c8", 6, true));
+m1_table01.remove("ca0e");
+m1_table01.put(List.of("bc6d", 1, true));
+m1_table01.get("c687");
+m1_table01.put(List.of("bebf", 0, false));
+m1_table01.remove("ad57");
+m1_table01.put(List.of("f186", 0, false));
+m1_table01.put(List.of("a4aa", 24, true));
+m1_table01.remove("a1eb");
+m1_table01.put(List.of("d90d", 33916, true));
+m1_table01.remove("a68b");
+m1_table01.remove("fe49");
+m1_table01.put(List.of("f183", 0, true));
+m1_table01.put(List.of("eacd", 13, false));
+m1_table01.get("eff9");
+m1_table01.put(List.of("d324", 449, false));
+m1_table01.put(List.of("c992", 0, true));
+m1_table01.put(List.of("c161", 153, true));
+m1_table01.get("ccf8");
+m1_table01.put(List.of("b6b9", 132, true));
+m1_table01.put(List.of("a076", 9, true));
+m1_table01.put(List.of("dc64", 0, true));
+m1_table01.put(List.of("d7e3", 0, false));
+m1_table01.get("ddcd");
+m1_table01.put(List.of("f68b", 0, false));
+m1_table01.put(List.of("af4a", 1, false));
+m1_table01.put(List.of("dc03", 2590, false));
+m1_table01.put(List.of("c908", 0, true));
+m1_table01.put(List.of("bc2d", 0, false));
+m1_table01.remove("a10e");
+m1_table01.put(List.of("c68bb", 77, true));
+m1_table01.put(List.of("feb5", 19, false));
+m1_table01.put(List.of("a70d", 181, true));
+m1_table01.remove("cc92");
+m1_table01.put(List.of("f3f4", 100, false));
+m1_table01.put(List.of("b688", 248948, false));
+m1_table01.put(List.of("cdf9", 156, true));
+m1_table01.put(List.of("b712", 0, false));
+m1_table01.remove("e72c");
+m1_table01.put(List.of("ea76", 49, true));
+m1_table01.put(List.of("b339", 925, true));
+m1_table01.put(List.of("d589", 171, true));
+m1_table01.remove("eb1c");
+m1_table01.get("ab10f");
+m1_table01.put(List.of("b985", 0, false));
+m1_table01.put(Arrays.asList("b6af", 0, null));
+m1_table01.put(List.of("a335", 349, false));
+m1_table01.put(List.of("d791", 498, false));
+m1_table01.put(List.of("fd8a9", 0, false));
+m1_table01.put(List.of("d27d", 0, false));
+m1_table01.put(List.of("e73e", 0, true));
+m1_table01.put(List.of("b0fb", 0, false));
+m1_table01.remove("c480");
+m1_table01.put(List.of("f251", 10702, false));
+m1_table01.get("b7d4");
+m1_table01.put(List.of("e423", 14, false));
+m1_table01.put(List.of("c976", 194, true));
+m1_table01.put(List.of("df89", 0, true));
+m1_table01.put(List.of("e8a9", 20, false));
+m1_table01.get("be27");
+m1_table01.put(List.of("f96d", 24, false));
+m1_table01.put(List.of("d5f4", 1, false));
+m1_table01.put(List.of("bbb3", 7, true));
+m1_table01.remove("b0da");
+m1_table01.remove("feb8");
+m1_table01.put(List.of("b554", 0, true));
+m1_table01.remove("a3bb");
+m1_table01.put(List.of("c3f2", 0, false));
+m1_table01.get("ad53");
+m1_table01.remove("a510c");
+m1_table01.put(List.of("f8e7", 217, true));
+m1_table01.put(List.of("f550a", 2, false));
+m1_table01.put(List.of("c25a", 0, false));
+m1_table01.put(List.of("bb43", 0, false));
+m1_table01.put(List.of("a3fd", 1, false));
+m1_table01.put(List.of("b4e5", 2, true));
+m1_table01.put(List.of("f2af", 156, false));
+m1_table01.remove("f874");
+m1_table01.put(List.of("c2bc", 0, true));
+m1_table01.put(List.of("fda4", 0, false));
+m1_table01.put(List.of("e5b9", 0, false));
+m1_table01.put(List.of("a45a", 1729, false));
+m1_table01.get("c234e");
+m1_table01.put(List.of("d04e", 18927, true));
+m1_table01.get("ca10");
+m1_table01.remove("f651");
+m1_table01.put(List.of("f4138", 1, false));
+m1_table01.put(List.of("e9f4", 76, true));
+m1_table01.put(List.of("c484", 0, true));
+m1_table01.put(List.of("f0d4", 2766, false));
+m1_table01.put(List.of("dab8", 10, true));
+m1_table01.put(List.of("a052", 6, false));
+m1_table01.put(List.of("a318b", 0, false));
+m1_table01.put(List.of("a3f3", 0, true));
+m1_table01.put(List.of("d52a", 0, false));
+m1_table01.put(List.of("fbc33", 0, false));
+m1_table01.put(List.of("b864", 823, true));
+m1_table01.put(List.of("e934", 1, true));
+m1_table01.put(List.of("e9d2", 0, true));
+m1_table01.remove("bd3a");
+m1_table01.remove("f9c7");
+m1_table01.remove("de5f");
+m1_table01.put(List.of("aa44", 0, true));
+m1_table01.put(List.of("ebe3f", 54657, true));
+m1_table01.put(List.of("d60a4", 141, true));
+m1_table01.put(List.of("b87e", 0, true));
+m1_table01.put(List.of("e6e2", 1, false));
+m1_table01.put(List.of("b783", 1, false));
+m1_table01.put(List.of("f55d", 274, true));
+m1_table01.put(List.of("f825", 0, true));
+m1_table01.put(List.of("a0b5", 3, true));
+m1_table01.put(List.of("e3d70", 0, true));
+m1_table01.remove("fa6a");
+m1_table01.remove("e446");
+m1_table01.remove("ac05");
+m1_table01.get("b222");
+m1_table01.put(List.of("d3a7", 4, true));
+m1_table01.put(List.of("d011", 0, false));
+m1_table01.get("f94f3");
+m1_table01.put(List.of("e690", 7, false));
+m1_table01.put(List.of("a4b7e", 15, false));
+m1_table01.put(List.of("e0e1", 86, true));
+m1_table01.put(List.of("c596", 0, false));
+m1_table01.remove("ce2a");
+m1_table01.put(List.of("d2df", 0, false));
+m1_table01.put(List.of("c37a", 0, true));
+m1_table01.put(List.of("f887", 1, true));
+m1_table01.put(List.of("cea9", 210, true));
+m1_table01.put(List.of("f41f", 838, false));
+m1_table01.get("c0e9");
+m1_table01.remove("dd9b");
+m1_table01.remove("e9ef");
+m1_table01.put(List.of("dc26", 2, true));
+m1_table01.put(List.of("e796", 154, false));
+m1_table01.put(List.of("ae0f", 2, true));
+m1_table01.remove("b076");
+m1_table01.put(List.of("da28", 111, false));
+m1_table01.put(List.of("d32e", 0, false));
+m1_table01.put(List.of("b271", 0, false));
+m1_table01.put(List.of("b9de", 44, false));
+m1_table01.put(List.of("e962", 1, false));
+m1_table01.put(List.of("be5c", 0, false));
+m1_table01.put(List.of("ac52", 2328, false));
+m1_table01.remove("d93f");
+m1_table01.put(List.of("ee50", 0, true));
+m1_table01.put(List.of("d6ee4", 1177, false));
+m1_table01.put(List.of("f123", 2, true));
+m1_table01.put(List.of("b13b", 0, true));
+m1_table01.put(List.of("c2d4", 0, true));
+m1_table01.put(List.of("b3fc", 0, false));
+m1_table01.remove("d603");
+m1_table01.put(List.of("aca7", 2, false));
+m1_table01.get("f02b8");
+m1_table01.put(List.of("a95b", 822, false));
+m1_table01.put(List.of("e306", 8, false));
+m1_table01.put(List.of("fbb5", 1, false));
+m1_table01.put(List.of("da48", 13583, false));
+m1_table01.remove("f1ac");
+m1_table01.put(List.of("d438", 8534, true));
+m1_table01.put(List.of("db42", 43, true));
+m1_table01.get("d7d4");
+m1_table01.remove("a9756");
+m1_table01.put(List.of("b288", 670, true));
+m1_table01.put(List.of("c4c6", 0, true));
+m1_table01.remove("ae21");
+m1_table01.put(List.of("b1bbe", 0, false));
+m1_table01.remove("b7dd");
+m1_table01.put(List.of("a781f", 0, true));
+m1_table01.put(List.of("c31e", 1097, false));
+m1_table01.put(List.of("e364", 1532, false));
+m1_table01.remove("bb71");
+m1_table01.get("ccd6");
+m1_table01.put(List.of("ddfd", 0, true));
+m1_table01.put(List.of("e996", 1, true));
+m1_table01.get("a14a");
+m1_table01.put(Arrays.asList("a495", null, true));
+m1_table01.put(List.of("b0f5", 0, true));
+m1_table01.put(List.of("b2ec", 0, true));
+m1_table01.put(List.of("f711", 0, false));
+m1_table01.remove("ea1d");
+m1_table01.remove("a017");
+m1_table01.remove("a139d");
+m1_table01.remove("a28c");
+m1_table01.put(List.of("d832", 14, true));
+m1_table01.put(List.of("c4bc", 26954, false));
+m1_table01.put(List.of("b043", 1, false));
+m1_table01.put(List.of("a679", 2015, true));
+m1_table01.put(List.of("be109", 2705, true));
+m1_table01.put(List.of("a69e", 1, false));
+m1_table01.put(List.of("be95", 0, true));
+m1_table01.remove("db2c");
+m1_table01.put(List.of("f181", 0, false));
+m1_table01.put(List.of("d19e", 6391, true));
+m1_table01.put(List.of("e9ea", 200, true));
+m1_table01.put(List.of("aece", 0, true));
+m1_table01.remove("dba7");
+m1_table01.put(List.of("f5d8", 3, false));
+m1_table01.put(List.of("ecfa", 0, false));
+m1_table01.put(List.of("c52f", 135, false));
+m1_table01.put(List.of("ac317", 1547, true));
+m1_table01.put(List.of("bac2", 0, true));
+m1_table01.put(List.of("ecd9", 0, false));
+m1_table01.put(List.of("c031", 0, true));
+m1_table01.put(List.of("dd54", 27071, true));
+m1_table01.put(List.of("efd0", 23, false));
+m1_table01.put(List.of("b15e", 0, false));
+m1_table01.put(List.of("a44e", 53, false));
+m1_table01.put(List.of("cac4", 0, false));
+m1_table01.get("c267");
+m1_table01.put(List.of("d8ff", 845, false));
+m1_table01.put(List.of("bb02", 30, false));
+m1_table01.remove("f83e");
+m1_table01.put(List.of("a30e", 0, true));
+m1_table01.remove("baa4");
+m1_table01.put(List.of("fe90", 0, true));
+m1_table01.put(List.of("a4de", 1384, false));
+m1_table01.put(List.of("def0", 322, true));
+m1_table01.put(List.of("aa6a", 0, false));
+m1_table01.put(List.of("be40", 0, true));
+m1_table01.remove("ce3dc");
+m1_table01.get("df05");
+m1_table01.put(List.of("c45f", 276, false));
+m1_table01.put(List.of("cc9a", 1, true));
+m1_table01.remove("c319f");
+m1_table01.put(List.of("df73a", 0, false));
+m1_table01.put(List.of("c47e1", 0, false));
+m1_table01.remove("bc15");
+m1_table01.remove("a78b");
+m1_table01.put(List.of("f9b9", 2281, false));
+m1_table01.put(List.of("c820", 20387, true));
+m1_table01.get("f8a2");
+m1_table01.put(List.of("c02f", 21, true));
+m1_table01.put(List.of("cb22d", 0, false));
+m1_table01.remove("bd5e");
+m1_table01.put(List.of("f3d9", 0, false));
+m1_table01.remove("c426");
+m1_table01.put(List.of("e15d", 0, true));
+m1_table01.put(List.of("b2781", 0, false));
+m1_table01.put(List.of("c437", 1, true));
+m1_table01.put(List.of("fc8a", 132, false));
+m1_table01.put(List.of("a1c9", 16, true));
+m1_table01.put(List.of("e8fa", 141, false));
+m1_table01.put(List.of("b14d", 382, false));
+m1_table01.put(List.of("bcd0", 18, true));
+m1_table01.put(List.of("b3bc", 2, false));
+m1_table01.put(List.of("f31f", 0, false));
+m1_table01.remove("c123");
+m1_table01.remove("b44d");
+m1_table01.get("d1b2");
+m1_table01.put(List.of("dc91", 694, false));
+m1_table01.put(List.of("a22c", 58019, true));
+m1_table01.remove("c67a");
+m1_table01.put(List.of("cd61", 5, true));
+m1_table01.put(List.of("b580", 2128, false));
+m1_table01.remove("fc3c");
+m1_table01.get("c295");
+m1_table01.get("a120");
+m1_table01.put(List.of("c0d7", 0, true));
+m1_table01.remove("d6ed");
+m1_table01.put(List.of("cc1f", 0, true));
+m1_table01.remove("b1bc");
+m1_table01.put(List.of("eadc", 0, false));
+m1_table01.remove("cee49");
+m1_table01.put(List.of("dd1f", 2020, true));
+m1_table01.remove("a6a5");
+m1_table01.put(List.of("c141f", 0, false));
+m1_table01.put(List.of("fe4b", 0, true));
+m1_table01.put(List.of("b540", 0, true));
+m1_table01.put(List.of("b4ab", 0, false));
+m1_table01.put(List.of("e586", 17, true));
+m1_table01.put(List.of("aca4c", 43, false));
+m1_table01.put(List.of("f709", 0, false));
+m1_table01.put(List.of("de01", 86, true));
+m1_table01.put(List.of("aeb6", 0, false));
+m1_table01.get("b7d6");
+m1_table01.remove("a295");
+m1_table01.put(List.of("b256", 54, false));
+m1_table01.put(List.of("db1b", 0, false));
+m1_table01.put(List.of("a2c4", 1601, true));
+m1_table01.put(List.of("ca47", 1, false));
+m1_table01.put(List.of("e165", 57, false));
+m1_table01.remove("f29b");
+m1_table01.put(List.of("fe13", 1, true));
+m1_table01.remove("d2ee");
+m1_table01.put(List.of("c608", 0, false));
+m1_table01.put(List.of("c3d6", 0, false));
+m1_table01.get("e769");
+m1_table01.put(List.of("a0b6", 0, false));
+m1_table01.put(Arrays.asList("dfc9", 220, null));
+m1_table01.get("b147");
+m1_table01.remove("fd8b");
+m1_table01.get("fc4b");
+m1_table01.put(List.of("ce72d", 0, true));
+m1_table01.put(List.of("c545", 0, false));
+m1_table01.get("b7bb");
+m1_table01.put(List.of("f294", 0, false));
+m1_table01.get("e2a6");
+m1_table01.get("f6d12");
+m1_table01.remove("bc99");
+m1_table01.put(List.of("e7d8", 0, false));
+m1_table01.remove("eba1");
+m1_table01.remove("f68a8");
+m1_table01.put(List.of("c54e", 44, true));
+m1_table01.put(List.of("e20c", 0, true));
+m1_table01.put(List.of("d4d1", 18, false));
+m1_table01.get("ef89");
+m1_table01.put(List.of("ecce", 0, false));
+m1_table01.remove("ade3");
+m1_table01.remove("a97d");
+m1_table01.put(List.of("cd697", 4, true));
+m1_table01.get("ae3b");
+m1_table01.put(List.of("a1e3", 27, true));
+m1_table01.put(List.of("d05d", 0, false));
+m1_table01.remove("b290");
+m1_table01.put(List.of("c7e93", 0, true));
+m1_table01.put(List.of("a823", 0, false));
+m1_table01.put(List.of("a6f7", 100350, false));
+m1_table01.put(List.of("aec5", 0, false));
+m1_table01.remove("b9c3");
+m1_table01.put(List.of("d907", 7, false));
+m1_table01.remove("b714");
+m1_table01.remove("e9c9");
+m1_table01.put(List.of("f30b", 1, true));
+m1_table01.put(List.of("e9cf", 0, false));
+m1_table01.remove("d136");
+m1_table01.put(List.of("d623", 0, true));
+m1_table01.put(List.of("cb7b", 10618, false));
+m1_table01.put(List.of("bd0c", 9, false));
+m1_table01.put(List.of("d491", 5036, true));
+m1_table01.put(List.of("a9fd", 0, false));
+m1_table01.put(List.of("f1cc", 0, true));
+m1_table01.put(List.of("cdbf", 0, false));
+m1_table01.put(List.of("fa12", 0, false));
+m1_table01.put(Arrays.asList("da5f", null, true));
+m1_table01.put(List.of("a154", 4087, false));
+m1_table01.put(List.of("f952", 7630, false));
+m1_table01.remove("f19b");
+m1_table01.put(List.of("af01", 136, false));
+m1_table01.remove("f372");
+m1_table01.put(List.of("ea59", 61, false));
+m1_table01.put(List.of("b8fa", 0, true));
+m1_table01.remove("aa00");
+m1_table01.remove("b133");
+m1_table01.remove("d24f");
+m1_table01.put(List.of("a2cfd", 22, true));
+m1_table01.put(List.of("e146", 156, true));
+m1_table01.put(List.of("eb3d", 7, true));
+m1_table01.put(List.of("e978", 264, true));
+m1_table01.put(List.of("ca79", 153, true));
+m1_table01.put(List.of("e5f8", 0, false));
+m1_table01.put(List.of("cf3d", 114, false));
+m1_table01.put(List.of("b0616", 0, true));
+m1_table01.put(List.of("d387", 0, true));
+m1_table01.put(Arrays.asList("ea39", null, true));
+m1_table01.put(Arrays.asList("f86c", null, true));
+m1_table01.put(List.of("d063", 0, false));
+m1_table01.remove("a29a4");
+m1_table01.put(List.of("e559", 1, true));
+m1_table01.put(List.of("a704", 58, false));
+m1_table01.put(List.of("f03e", 10, true));
+m1_table01.put(List.of("d839", 419043, false));
+m1_table01.put(List.of("e6d1", 0, false));
+m1_table01.put(List.of("d53f", 0, false));
+m1_table01.put(List.of("eff7", 1, false));
+m1_table01.get("eff1e");
+m1_table01.put(List.of("b95a", 3, true));
+m1_table01.put(List.of("dc100", 10, false));
+m1_table01.put(List.of("b5cb", 3, true));
+m1_table01.put(Arrays.asList("beb9", 0, null));
+m1_table01.put(List.of("e06b", 225, false));
+m1_table01.put(List.of("c279", 97, false));
+m1_table01.put(Arrays.asList("be75", null, false));
+m1_table01.get("b36d");
+m1_table01.get("c5e0");
+m1_table01.put(List.of("e789", 0, false));
+m1_table01.put(List.of("f404", 0, false));
+m1_table01.put(List.of("a346", 4, false));
+m1_table01.put(List.of("ea78", 13607, false));
+m1_table01.put(List.of("d5ce8", 975, false));
+m1_table01.get("a522");
+m1_table01.put(List.of("b81f", 0, false));
+m1_table01.remove("f12a");
+m1_table01.put(List.of("bda4", 1438, true));
+m1_table01.get("fb6e1");
+m1_table01.put(List.of("ae70", 0, false));
+m1_table01.put(List.of("b450", 0, true));
+m1_table01.put(List.of("f4d6", 0, false));
+m1_table01.put(List.of("b0ba", 115, false));
+m1_table01.put(List.of("d210", 0, true));
+m1_table01.put(List.of("ff098", 0, true));
+m1_table01.put(List.of("aa24", 897, true));
+m1_table01.put(List.of("f25b", 0, true));
+m1_table01.put(List.of("ff799", 0, true));
+m1_table01.put(List.of("e681", 54, true));
+m1_table01.put(List.of("df84", 0, false));
+m1_table01.remove("fb02");
+m1_table01.put(List.of("e9f8", 207, false));
+m1_table01.put(List.of("fb57", 499, true));
+m1_table01.put(List.of("bead", 0, false));
+m1_table01.put(List.of("fe80", 30, true));
+m1_table01.get("ee15");
+m1_table01.remove("e61c");
+m1_table01.put(List.of("eb7f", 0, false));
+m1_table01.get("b08d");
+m1_table01.put(List.of("eba0", 32, true));
+m1_table01.put(List.of("b204", 0, false));
+m1_table01.put(List.of("e1da", 1, false));
+m1_table01.put(List.of("b1a2", 96, false));
+m1_table01.put(List.of("c197", 0, true));
+m1_table01.put(List.of("ed16", 101, true));
+m1_table01.put(List.of("cc01", 0, false));
+m1_table01.remove("cf2b");
+m1_table01.put(List.of("ad8a", 0, true));
+m1_table01.remove("baa0");
+m1_table01.put(List.of("ced6", 56653, true));
+m1_table01.put(List.of("bf37", 0, true));
+m1_table01.put(List.of("a0c7", 0, false));
+m1_table01.put(List.of("cc4f", 1178, false));
+m1_table01.get("e49d");
+m1_table01.put(List.of("a6ca", 78, true));
+m1_table01.put(List.of("bd5f0", 167, true));
+m1_table01.put(List.of("d9e0", 0, true));
+m1_table01.put(List.of("e9dd", 0, false));
+m1_table01.remove("faf0");
+m1_table01.put(List.of("ba92", 0, false));
+m1_table01.put(List.of("d8ceb", 0, true));
+m1_table01.put(List.of("f8ef", 816, false));
+m1_table01.put(List.of("b1d4", 33610, false));
+m1_table01.put(List.of("cf140", 0, false));
+m1_table01.put(List.of("da41", 0, false));
+m1_table01.remove("ac9a");
+m1_table01.put(List.of("af11", 230, false));
+m1_table01.put(List.of("a8c6", 12, true));
+m1_table01.put(List.of("e645", 0, false));
+m1_table01.get("da93");
+m1_table01.put(List.of("ba7c", 42, false));
+m1_table01.put(List.of("bd5c1", 314, false));
+m1_table01.remove("f3a0");
+m1_table01.put(List.of("eb66", 480, false));
+m1_table01.remove("ae23");
+m1_table01.put(List.of("aff0", 2085, false));
+m1_table01.put(List.of("e848d", 51, true));
+m1_table01.put(List.of("e2a3", 4, false));
+m1_table01.put(List.of("ac0c", 0, true));
+m1_table01.put(List.of("c8e4", 20, true));
+m1_table01.get("f7cf");
+m1_table01.put(List.of("ff3f", 7, false));
+m1_table01.put(List.of("cf03", 4275, false));
+m1_table01.put(List.of("f82d", 6615, false));
+m1_table01.get("f09b");
+m1_table01.remove("c921");
+m1_table01.put(List.of("dbdc", 0, false));
+m1_table01.put(List.of("a6767", 0, true));
+m1_table01.put(List.of("d0fdb", 6097, true));
+m1_table01.put(List.of("cee4", 0, true));
+m1_table01.put(List.of("ff4a", 0, true));
+m1_table01.remove("aa1c");
+m1_table01.put(List.of("df72", 2, false));
+m1_table01.remove("c06f8");
+m1_table01.remove("aa1f");
+m1_table01.put(List.of("d350", 4084, true));
+m1_table01.put(List.of("e507", 347, false));
+m1_table01.get("d3e4");
+m1_table01.put(List.of("a6ea", 8180, false));
+m1_table01.put(List.of("e4dc", 0, false));
+m1_table01.put(List.of("b3d0", 0, true));
+m1_table01.put(List.of("afe2", 0, true));
+m1_table01.put(List.of("c3e6", 0, false));
+m1_table01.put(List.of("c5d9", 83410, true));
+m1_table01.put(List.of("a041", 0, true));
+m1_table01.remove("ed26");
+m1_table01.put(List.of("c23d", 0, false));
+m1_table01.remove("b9e2");
+m1_table01.remove("e210");
+m1_table01.put(List.of("e15a", 0, false));
+m1_table01.put(List.of("a2294", 0, true));
+m1_table01.put(List.of("b662", 8, true));
+m1_table01.put(List.of("df61", 0, true));
+m1_table01.put(List.of("d4bd", 0, true));
+m1_table01.put(List.of("e886", 0, false));
+m1_table01.put(List.of("d3f8", 823, true));
+m1_table01.put(List.of("c719", 618, true));
+m1_table01.put(List.of("b96a", 2, true));
+m1_table01.get("dc1f");
+m1_table01.put(List.of("e45b", 3, false));
+m1_table01.put(List.of("db37", 0, true));
+m1_table01.put(List.of("db49", 24, true));
+m1_table01.remove("b8125");
+m1_table01.put(List.of("cf62", 685, false));
+m1_table01.put(List.of("f3ed", 0, true));
+m1_table01.put(List.of("eb82", 699, false));
+m1_table01.put(List.of("e5ac", 274, false));
+m1_table01.get("b77e");
+m1_table01.put(List.of("ef27", 0, true));
+m1_table01.put(List.of("b09a", 207, false));
+m1_table01.remove("bf03");
+m1_table01.put(List.of("d9b0", 0, true));
+m1_table01.put(List.of("b5da", 0, false));
+m1_table01.put(List.of("ca46", 6, false));
+m1_table01.put(List.of("bd77", 0, false));
+m1_table01.put(List.of("bc62", 8, false));
+m1_table01.put(List.of("b812", 1283, false));
+m1_table01.put(Arrays.asList("a376b", null, true));
+m1_table01.put(List.of("bc94", 0, true));
+m1_table01.put(List.of("c0b7", 0, true));
+m1_table01.put(List.of("b5f5", 801, false));
+m1_table01.put(List.of("fce5", 767, true));
+m1_table01.put(List.of("e3c3", 23503, false));
+m1_table01.put(List.of("bc82", 600, true));
+m1_table01.put(List.of("f1c8", 0, true));
+m1_table01.put(List.of("e860e", 3676, true));
+m1_table01.put(List.of("f2f0", 246, true));
+m1_table01.put(List.of("a444", 0, true));
+m1_table01.put(List.of("ef58", 0, true));
+m1_table01.remove("e3d7");
+m1_table01.put(List.of("eab6", 0, false));
+m1_table01.get("fcfa");
+m1_table01.put(List.of("c7da0", 15, false));
+m1_table01.put(List.of("ef5a", 790, true));
+m1_table01.put(List.of("c7fc", 0, false));
+m1_table01.put(List.of("dfe3", 0, true));
+m1_table01.put(List.of("fdf7", 0, false));
+m1_table01.get("c288");
+m1_table01.remove("ac70");
+m1_table01.put(List.of("b001", 49, true));
+m1_table01.get("e708");
+m1_table01.remove("f0c1");
+m1_table01.remove("fdb8");
+m1_table01.put(List.of("a1df", 2716, true));
+m1_table01.put(List.of("c1b26", 37822, false));
+m1_table01.put(List.of("a61b", 1964, true));
+m1_table01.get("d221");
+m1_table01.put(List.of("b642", 25, false));
+m1_table01.put(List.of("c268", 136, false));
+m1_table01.put(List.of("cb89", 0, false));
+m1_table01.put(List.of("a01df", 2, false));
+m1_table01.remove("a940");
+m1_table01.get("b2296");
+m1_table01.put(List.of("f28c", 0, true));
+m1_table01.remove("ec91");
+m1_table01.put(List.of("caa8", 0, false));
+m1_table01.put(List.of("efb42", 1061, true));
+m1_table01.put(List.of("bedf", 32664, true));
+m1_table01.put(List.of("acf6", 0, true));
+m1_table01.put(List.of("d5ad", 370, false));
+m1_table01.remove("b232");
+m1_table01.put(List.of("a867", 0, true));
+m1_table01.put(List.of("a11d", 66, false));
+m1_table01.remove("c841");
+m1_table01.get("dd26");
+m1_table01.put(List.of("b73b", 0, true));
+m1_table01.put(List.of("d0d9", 1233, false));
+m1_table01.put(List.of("c98e", 0, false));
+m1_table01.put(List.of("ef45", 23, true));
+m1_table01.put(List.of("b98d", 366, false));
+m1_table01.put(List.of("a5e3", 0, true));
+m1_table01.put(List.of("d582", 0, false));
+m1_table01.put(List.of("aa9aa", 0, false));
+m1_table01.put(List.of("b65e", 59, false));
+m1_table01.put(List.of("af39", 2972, false));
+m1_table01.remove("bb15");
+m1_table01.put(Arrays.asList("fa1b", null, false));
+m1_table01.put(List.of("bf01", 1171, false));
+m1_table01.put(List.of("afbb", 47025, false));
+m1_table01.put(List.of("b382", 13711, false));
+m1_table01.put(List.of("f51e", 199578, true));
+m1_table01.put(List.of("fbdc6", 36, false));
+m1_table01.put(List.of("b1a1", 378, false));
+m1_table01.get("a338");
+m1_table01.put(List.of("d1cd", 381, true));
+m1_table01.put(List.of("a6f1", 5, true));
+m1_table01.put(List.of("f5d7", 550, true));
+m1_table01.put(List.of("d4a0", 0, true));
+m1_table01.put(List.of("c116", 1, true));
+m1_table01.put(List.of("b379", 0, true));
+m1_table01.put(List.of("c0c4", 0, false));
+m1_table01.put(List.of("c87e", 12172, true));
+m1_table01.put(List.of("e5bb", 7, true));
+m1_table01.put(Arrays.asList("c93c", 0, null));
+m1_table01.remove("ad08");
+m1_table01.get("cbea");
+m1_table01.remove("db6c");
+m1_table01.put(List.of("f3b9", 0, false));
+m1_table01.remove("a69a8");
+m1_table01.put(List.of("f9e0", 0, true));
+m1_table01.put(List.of("b46f", 1451, true));
+m1_table01.get("dbae");
+m1_table01.put(List.of("a688f", 1, false));
+m1_table01.put(List.of("bdfc", 0, true));
+m1_table01.put(List.of("e7744", 136, false));
+m1_table01.put(List.of("dde3", 29400, true));
+m1_table01.put(List.of("d8fb", 17389, false));
+m1_table01.remove("daabc");
+m1_table01.put(List.of("a9b1", 0, false));
+m1_table01.put(List.of("ca5b", 10, false));
+m1_table01.put(Arrays.asList("d818", null, false));
+m1_table01.put(List.of("b4be6", 0, false));
+m1_table01.put(List.of("b30e", 2, true));
+m1_table01.get("a17f");
+m1_table01.remove("f193");
+m1_table01.put(List.of("ee0b", 0, false));
+m1_table01.remove("c5bd");
+m1_table01.put(List.of("c245", 34332, false));
+m1_table01.put(List.of("bcee6", 0, false));
+m1_table01.remove("f077");
+m1_table01.put(List.of("beb6", 5, true));
+m1_table01.remove("a44b");
+m1_table01.remove("df4c");
+m1_table01.put(List.of("c586", 3, true));
+m1_table01.put(List.of("f5aa", 684, true));
+m1_table01.remove("d26d");
+m1_table01.put(List.of("ab5d", 2280, true));
+m1_table01.get("e48f");
+m1_table01.put(List.of("ded9", 8915, true));
+m1_table01.remove("be35");
+m1_table01.remove("cc2c");
+m1_table01.put(List.of("cb9d", 140, false));
+m1_table01.remove("a706");
+m1_table01.put(List.of("ad49", 0, true));
+m1_table01.put(List.of("e8f1", 0, true));
+m1_table01.put(List.of("cd03", 21, false));
+m1_table01.remove("da4c");
+m1_table01.put(List.of("df54", 0, true));
+m1_table01.put(List.of("f6f1", 134, false));
+m1_table01.put(List.of("e36e", 47, true));
+m1_table01.put(List.of("b4d9", 513, false));
+m1_table01.put(List.of("bcd2", 2, true));
+m1_table01.put(List.of("ad65", 0, false));
+m1_table01.put(List.of("b5a1", 0, true));
+m1_table01.put(List.of("eada", 0, true));
+m1_table01.put(List.of("af0a", 5633, false));
+m1_table01.put(List.of("e671", 0, true));
+m1_table01.remove("af83");
+m1_table01.remove("aaf4");
+m1_table01.put(List.of("c5c2", 0, true));
+m1_table01.remove("d939");
+m1_table01.put(List.of("b01b", 0, false));
+m1_table01.remove("fe1f");
+m1_table01.put(List.of("bdd9", 76, true));
+m1_table01.put(List.of("abc8", 79, false));
+m1_table01.put(List.of("c33a", 0, false));
+m1_table01.put(List.of("e330", 2031, true));
+m1_table01.remove("e7c3b");
+m1_table01.put(List.of("bf94", 0, false));
+m1_table01.put(List.of("e0bb", 3620, true));
+m1_table01.put(List.of("c5e8c", 0, false));
+m1_table01.put(List.of("e393", 0, false));
+m1_table01.put(List.of("bf13", 0, true));
+m1_table01.clear();
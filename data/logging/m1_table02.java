@@ -0,0 +1,2003 @@
+// Random Seed: 1762542121
+Table m1_table02 = new HashArrayTable("m1_table02", List.of("e43c", "aec7", "badd", "ca6a", "ac7f", "d152"), List.of("integer", "boolean", "boolean", "integer", "integer", "boolean"), 3);
+m1_table02.getTableName();
+m1_table02.getColumnNames();
+m1_table02.getColumnTypes();
+m1_table02.getPrimaryIndex();
+m1_table02.clear();
+m1_table02.put(List.of(198, true, false, 74008, 3775, true));
+m1_table02.put(List.of(0, false, false, 0, 0, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(15850, false, true, 21, 143, true));
+m1_table02.put(List.of(15267, true, true, 0, 580059, false));
+m1_table02.put(List.of(0, false, false, 0, 0, true));
+m1_table02.put(List.of(360, false, false, 1522, 0, false));
+m1_table02.put(List.of(195, true, true, 0, 5050, false));
+m1_table02.put(List.of(1, true, true, 0, 19327, false));
+m1_table02.get(1);
+m1_table02.put(List.of(3816, true, false, 26, 191, false));
+m1_table02.put(List.of(1, false, true, 138, 33, false));
+m1_table02.put(List.of(0, true, true, 39, 0, true));
+m1_table02.put(Arrays.asList(0, false, null, 243, 0, true));
+m1_table02.remove(61);
+m1_table02.put(List.of(0, false, true, 4, 9, false));
+m1_table02.get(0);
+m1_table02.remove(8721);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 198, 1, true));
+m1_table02.get(0);
+m1_table02.put(List.of(1370840, true, true, 0, 15, false));
+m1_table02.put(List.of(8303, false, false, 6, 319, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(52865, false, true, 12, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, false, 8, 7, false));
+m1_table02.put(List.of(505, true, true, 0, 0, false));
+m1_table02.put(List.of(2, true, false, 0, 208, true));
+m1_table02.get(0);
+m1_table02.put(List.of(0, false, false, 75713, 705, false));
+m1_table02.put(List.of(95, true, true, 0, 0, true));
+m1_table02.put(List.of(0, false, false, 162158, 9502, false));
+m1_table02.put(List.of(483, true, true, 0, 3559, true));
+m1_table02.put(List.of(0, true, false, 153, 0, true));
+m1_table02.put(List.of(0, true, true, 0, 0, false));
+m1_table02.put(List.of(0, false, false, 11, 0, true));
+m1_table02.put(List.of(6, false, false, 0, 24, true));
+m1_table02.remove(0);
+m1_table02.put(Arrays.asList(0, false, false, 85, 0, null));
+m1_table02.put(List.of(690, false, false, 0, 0, false));
+m1_table02.put(List.of(0, false, false, 1, 0, false));
+m1_table02.put(List.of(0, false, true, 2, 18, true));
+m1_table02.put(List.of(0, true, true, 0, 0, false));
+m1_table02.remove(21);
+m1_table02.remove(0);
+m1_table02.put(List.of(1734, true, false, 0, 0, false));
+m1_table02.put(List.of(0, true, false, 0, 0, false));
+m1_table02.put(List.of(2, false, true, 60, 752, false));
+m1_table02.put(List.of(3, false, false, 234, 6504, false));
+m1_table02.put(List.of(243, false, false, 3, 5, true));
+m1_table02.put(List.of(0, false, true, 0, 6807, true));
+m1_table02.put(List.of(0, true, true, 12161, 5795, false));
+m1_table02.put(List.of(138192, true, false, 115793, 0, false));
+m1_table02.put(List.of(3612, true, true, 0, 212953, false));
+m1_table02.put(List.of(0, true, false, 12, 54, false));
+m1_table02.put(List.of(0, true, false, 129, 0, true));
+m1_table02.put(List.of(6162, true, true, 0, 0, false));
+m1_table02.put(List.of(0, false, false, 5, 0, true));
+m1_table02.remove(32);
+m1_table02.put(List.of(0, true, true, 0, 0, false));
+m1_table02.put(List.of(0, false, true, 0, 0, false));
+m1_table02.put(List.of(0, true, true, 72, 0, true));
+m1_table02.put(List.of(182, true, true, 3300, 0, false));
+m1_table02.remove(199);
+m1_table02.remove(0);
+m1_table02.put(List.of(48264, true, false, 34, 0, false));
+m1_table02.put(List.of(10, false, true, 0, 0, false));
+m1_table02.remove(55);
+m1_table02.get(123);
+m1_table02.put(List.of(0, false, false, 0, 0, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(8, true, true, 0, 0, true));
+m1_table02.put(List.of(20, true, true, 0, 0, false));
+m1_table02.put(List.of(1, true, true, 799, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(69, true, false, 0, 0, false));
+m1_table02.put(List.of(14, true, false, 0, 34, false));
+m1_table02.remove(455);
+m1_table02.put(List.of(807, true, true, 222, 82577, true));
+m1_table02.put(List.of(4169, false, false, 5, 0, true));
+m1_table02.put(List.of(18547, true, true, 1801, 0, true));
+m1_table02.put(List.of(1, true, true, 1, 0, true));
+m1_table02.put(List.of(6, true, true, 0, 2, true));
+m1_table02.put(List.of(75, true, true, 0, 11396, true));
+m1_table02.put(Arrays.asList(0, null, false, 0, 30, false));
+m1_table02.put(List.of(0, true, true, 42938, 0, true));
+m1_table02.put(List.of(0, true, true, 69, 754, true));
+m1_table02.remove(13699);
+m1_table02.put(List.of(554, true, false, 0, 7, false));
+m1_table02.put(List.of(298, true, false, 0, 284, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, false, 0, 83, false));
+m1_table02.put(List.of(1, true, false, 0, 0, true));
+m1_table02.remove(490);
+m1_table02.put(List.of(211, false, false, 1, 448, false));
+m1_table02.put(List.of(36313, true, false, 827, 2, false));
+m1_table02.put(List.of(566, true, true, 0, 88309, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, true, 135, 2821, true));
+m1_table02.put(List.of(1331, true, false, 15632, 0, false));
+m1_table02.put(Arrays.asList(null, false, false, 2, 0, false));
+m1_table02.put(List.of(20, true, true, 14, 79, true));
+m1_table02.put(List.of(0, true, true, 0, 3, false));
+m1_table02.put(List.of(0, true, true, 1711, 4, false));
+m1_table02.put(Arrays.asList(7, null, true, 2, 2476, false));
+m1_table02.get(544);
+m1_table02.put(List.of(13326, true, true, 3677, 0, true));
+m1_table02.put(List.of(0, false, false, 0, 0, true));
+m1_table02.remove(1);
+m1_table02.put(List.of(61, true, false, 0, 0, true));
+m1_table02.put(List.of(16, false, false, 3, 5, false));
+m1_table02.put(List.of(0, true, false, 0, 4, false));
+m1_table02.put(List.of(0, false, false, 2, 11, false));
+m1_table02.put(List.of(0, false, true, 1, 0, true));
+m1_table02.put(List.of(26, true, true, 8386, 0, true));
+m1_table02.remove(0);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, false, 21, 1, true));
+m1_table02.put(List.of(7, false, true, 0, 3862, true));
+m1_table02.put(Arrays.asList(0, null, false, 0, 9, false));
+m1_table02.put(Arrays.asList(0, true, true, 467, 694, null));
+m1_table02.put(List.of(0, true, false, 35, 0, false));
+m1_table02.put(List.of(41, true, false, 86, 451, false));
+m1_table02.remove(1009);
+m1_table02.put(List.of(2, true, true, 7602, 0, false));
+m1_table02.get(0);
+m1_table02.get(0);
+m1_table02.get(2347);
+m1_table02.put(List.of(0, false, false, 111, 0, true));
+m1_table02.put(List.of(734, true, false, 0, 13, false));
+m1_table02.put(List.of(0, true, false, 46, 0, true));
+m1_table02.remove(0);
+m1_table02.get(1);
+m1_table02.put(List.of(0, false, false, 6031, 804, true));
+m1_table02.get(0);
+m1_table02.put(List.of(12, false, true, 0, 32230, false));
+m1_table02.remove(0);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, true, 0, 32210, true));
+m1_table02.put(List.of(145, true, true, 4200, 3, true));
+m1_table02.remove(3943);
+m1_table02.put(List.of(0, true, true, 571, 0, false));
+m1_table02.put(List.of(21, true, false, 97, 0, true));
+m1_table02.put(List.of(0, false, true, 0, 0, false));
+m1_table02.put(List.of(0, true, true, 0, 0, false));
+m1_table02.put(List.of(285, false, false, 38, 0, true));
+m1_table02.put(List.of(1441, true, false, 553, 66, true));
+m1_table02.put(List.of(0, true, true, 868, 0, false));
+m1_table02.put(List.of(429, true, false, 2, 0, true));
+m1_table02.get(0);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 0, 0, true));
+m1_table02.put(List.of(51, true, false, 0, 2, false));
+m1_table02.put(List.of(80, false, true, 524, 0, true));
+m1_table02.put(List.of(2, true, true, 0, 0, true));
+m1_table02.put(List.of(0, false, false, 35830, 539, false));
+m1_table02.put(List.of(0, false, true, 28380, 2, false));
+m1_table02.put(List.of(0, false, false, 391, 0, true));
+m1_table02.put(List.of(24, false, false, 0, 0, false));
+m1_table02.put(List.of(0, false, false, 59, 587, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(8855, false, false, 37, 0, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 5483, 0, false));
+m1_table02.put(List.of(0, false, true, 14, 80, false));
+m1_table02.put(List.of(1, true, true, 14, 3, true));
+m1_table02.remove(0);
+m1_table02.remove(0);
+m1_table02.put(List.of(2618, false, false, 0, 0, true));
+m1_table02.put(List.of(56, true, false, 189, 551, true));
+m1_table02.remove(571);
+m1_table02.put(List.of(217, false, false, 0, 102530, false));
+m1_table02.remove(0);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, false, 0, 0, false));
+m1_table02.put(List.of(0, false, false, 0, 0, true));
+m1_table02.get(18);
+m1_table02.put(List.of(141, false, true, 18, 0, true));
+m1_table02.put(List.of(0, true, true, 0, 0, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, true, 152, 0, true));
+m1_table02.put(List.of(88, false, true, 0, 0, true));
+m1_table02.remove(2131);
+m1_table02.put(List.of(0, true, true, 2, 0, true));
+m1_table02.put(Arrays.asList(12960, false, null, 0, 0, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(8, true, false, 0, 44, true));
+m1_table02.put(List.of(27, true, true, 409, 0, false));
+m1_table02.put(Arrays.asList(553, true, false, 0, null, true));
+m1_table02.put(List.of(69, false, false, 188, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(40, false, false, 987, 0, true));
+m1_table02.put(List.of(0, false, false, 5850, 0, false));
+m1_table02.put(List.of(115, true, false, 0, 0, true));
+m1_table02.put(List.of(0, false, false, 123, 1, false));
+m1_table02.get(1);
+m1_table02.put(List.of(0, true, true, 18117, 0, true));
+m1_table02.put(List.of(0, true, true, 15287, 1, false));
+m1_table02.put(List.of(291, false, false, 88, 158407, true));
+m1_table02.put(List.of(38059, false, true, 0, 10, true));
+m1_table02.put(List.of(1, true, false, 3333, 299, false));
+m1_table02.put(List.of(0, false, true, 5224, 0, false));
+m1_table02.put(List.of(324, false, true, 3, 22343, false));
+m1_table02.get(0);
+m1_table02.remove(39797);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, false, 0, 0, false));
+m1_table02.put(List.of(33, true, false, 6, 10, true));
+m1_table02.put(List.of(558, true, true, 305, 45, false));
+m1_table02.put(List.of(8691, false, true, 145334, 112, true));
+m1_table02.put(List.of(0, false, false, 0, 2, false));
+m1_table02.put(List.of(1779, false, true, 0, 0, true));
+m1_table02.get(0);
+m1_table02.put(List.of(39009, true, true, 1, 7, false));
+m1_table02.put(List.of(0, false, false, 0, 266, true));
+m1_table02.get(0);
+m1_table02.put(List.of(860, false, true, 1426, 82, true));
+m1_table02.get(0);
+m1_table02.put(List.of(0, true, false, 3, 0, true));
+m1_table02.remove(70);
+m1_table02.put(List.of(0, true, false, 0, 109, false));
+m1_table02.remove(1);
+m1_table02.remove(0);
+m1_table02.put(List.of(119, false, false, 0, 3649, false));
+m1_table02.put(List.of(0, true, false, 0, 0, false));
+m1_table02.remove(25);
+m1_table02.put(List.of(327, true, true, 8, 0, false));
+m1_table02.remove(8);
+m1_table02.get(791);
+m1_table02.remove(9365);
+m1_table02.get(49963);
+m1_table02.put(List.of(0, false, false, 3003, 0, false));
+m1_table02.put(List.of(0, true, true, 5892, 0, false));
+m1_table02.get(41);
+m1_table02.put(List.of(0, false, false, 5, 5699, false));
+m1_table02.put(List.of(2818, true, true, 30917, 6, false));
+m1_table02.put(List.of(214, true, false, 0, 0, false));
+m1_table02.put(List.of(123, true, true, 4216, 0, true));
+m1_table02.remove(0);
+m1_table02.remove(155);
+m1_table02.put(List.of(69, true, false, 14, 0, false));
+m1_table02.put(List.of(0, false, false, 4, 0, false));
+m1_table02.remove(23);
+m1_table02.remove(127);
+m1_table02.put(List.of(50, false, true, 0, 3, true));
+m1_table02.remove(1);
+m1_table02.put(List.of(5, true, false, 153560, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(86538, false, true, 0, 0, true));
+m1_table02.put(List.of(0, false, false, 0, 18, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(72452, false, true, 0, 529, true));
+m1_table02.put(List.of(0, false, true, 0, 9, true));
+m1_table02.put(List.of(0, false, false, 0, 0, false));
+m1_table02.put(List.of(192, true, false, 898, 1909, false));
+m1_table02.put(List.of(0, false, true, 89, 0, false));
+m1_table02.put(List.of(2863, false, false, 143502, 10, false));
+m1_table02.put(List.of(105, true, true, 20, 0, false));
+m1_table02.put(List.of(0, true, false, 0, 0, true));
+m1_table02.put(List.of(15, true, false, 692, 0, false));
+m1_table02.remove(13533);
+m1_table02.put(List.of(732, false, false, 1205, 0, true));
+m1_table02.get(13097);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 0, 0, true));
+m1_table02.put(List.of(0, true, true, 104, 86, true));
+m1_table02.put(List.of(13, false, false, 0, 12117, true));
+m1_table02.get(464);
+m1_table02.remove(3271);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, true, 0, 498, false));
+m1_table02.put(List.of(299, false, false, 839, 7073, false));
+m1_table02.put(List.of(0, false, true, 297, 1, true));
+m1_table02.remove(435);
+m1_table02.get(0);
+m1_table02.put(List.of(0, false, true, 0, 0, true));
+m1_table02.remove(0);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, false, 7, 2265, false));
+m1_table02.put(List.of(3272, true, false, 6511, 0, true));
+m1_table02.get(13559);
+m1_table02.put(List.of(0, false, true, 0, 0, true));
+m1_table02.put(List.of(0, true, false, 0, 1130, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(93, true, true, 103, 0, true));
+m1_table02.remove(6801);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 0, 0, true));
+m1_table02.put(List.of(1568, true, true, 1332, 0, false));
+m1_table02.put(List.of(91, true, true, 0, 373, true));
+m1_table02.put(List.of(143600, true, true, 5, 6362, false));
+m1_table02.put(List.of(2753, false, true, 1, 176589, false));
+m1_table02.put(List.of(0, false, true, 28, 0, false));
+m1_table02.put(List.of(0, true, true, 1, 67, true));
+m1_table02.put(List.of(158, true, false, 9, 0, false));
+m1_table02.put(List.of(0, true, false, 3425, 9583, true));
+m1_table02.remove(874640);
+m1_table02.put(List.of(771, true, false, 0, 0, false));
+m1_table02.put(List.of(0, false, true, 0, 4, true));
+m1_table02.put(List.of(345, false, false, 64, 0, true));
+m1_table02.remove(0);
+m1_table02.remove(220);
+m1_table02.put(List.of(0, true, true, 774404, 0, false));
+m1_table02.put(List.of(0, true, true, 0, 0, false));
+m1_table02.put(List.of(12060, true, false, 6, 6, true));
+m1_table02.put(List.of(1186, true, false, 752, 29491, true));
+m1_table02.put(List.of(0, true, true, 2, 0, false));
+m1_table02.remove(3);
+m1_table02.get(0);
+m1_table02.put(List.of(177, true, true, 11, 2, false));
+m1_table02.put(List.of(1400, false, false, 370, 0, true));
+m1_table02.put(List.of(0, false, true, 118, 790, false));
+m1_table02.put(List.of(0, false, false, 330, 0, false));
+m1_table02.put(List.of(0, false, true, 0, 0, true));
+m1_table02.put(List.of(213, false, false, 0, 0, false));
+m1_table02.put(List.of(3, false, true, 0, 964, true));
+m1_table02.put(List.of(23, true, false, 23, 66201, true));
+m1_table02.put(List.of(5484, false, true, 5, 4947, true));
+m1_table02.put(List.of(0, false, false, 0, 4801, false));
+m1_table02.put(List.of(97, false, false, 0, 4, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, false, 1407, 0, false));
+m1_table02.put(List.of(14, true, true, 423, 0, true));
+m1_table02.put(List.of(591, true, true, 0, 16, false));
+m1_table02.put(List.of(0, true, false, 0, 35, false));
+m1_table02.put(List.of(964, true, true, 2571, 184, true));
+m1_table02.put(List.of(0, false, false, 0, 0, false));
+m1_table02.put(List.of(0, false, false, 0, 0, false));
+m1_table02.remove(6284);
+m1_table02.remove(0);
+m1_table02.put(Arrays.asList(118050, true, true, 0, 0, null));
+m1_table02.put(List.of(3229, false, false, 0, 123, false));
+m1_table02.get(0);
+m1_table02.put(List.of(1, true, true, 750, 197, false));
+m1_table02.put(List.of(0, false, true, 0, 0, false));
+m1_table02.put(List.of(13460, false, true, 0, 0, true));
+m1_table02.get(61);
+m1_table02.put(List.of(3, true, false, 1802, 384, false));
+m1_table02.put(List.of(21, false, false, 10, 174, true));
+m1_table02.put(List.of(135, true, true, 126, 0, true));
+m1_table02.get(0);
+m1_table02.put(List.of(0, false, true, 329724, 0, false));
+m1_table02.put(List.of(8, true, true, 0, 0, true));
+m1_table02.put(List.of(2916, false, false, 0, 15439, false));
+m1_table02.put(List.of(45544, true, true, 0, 0, true));
+m1_table02.put(List.of(0, false, true, 89, 147, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(24597, true, true, 4, 0, false));
+m1_table02.put(List.of(0, false, false, 0, 2211, false));
+m1_table02.put(List.of(0, true, true, 11441, 16, true));
+m1_table02.put(List.of(22, true, false, 1, 4, true));
+m1_table02.put(List.of(0, false, false, 0, 0, true));
+m1_table02.put(Arrays.asList(13, null, true, 10031, 0, false));
+m1_table02.put(List.of(221, false, true, 8, 101, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, true, 725, 0, false));
+m1_table02.put(List.of(0, true, true, 7240, 0, true));
+m1_table02.put(List.of(315, false, true, 0, 21478, true));
+m1_table02.remove(11257);
+m1_table02.remove(0);
+m1_table02.remove(0);
+m1_table02.put(List.of(30, false, false, 18893, 12596, true));
+m1_table02.put(List.of(0, false, false, 16, 13, false));
+m1_table02.put(List.of(35818, true, true, 5, 158, false));
+m1_table02.put(List.of(0, true, false, 0, 0, true));
+m1_table02.remove(36);
+m1_table02.remove(2);
+m1_table02.put(List.of(12, true, true, 8, 1, false));
+m1_table02.put(List.of(0, true, true, 42256, 0, true));
+m1_table02.put(List.of(5, true, false, 0, 0, false));
+m1_table02.put(List.of(0, true, true, 4989, 17, false));
+m1_table02.put(List.of(0, false, false, 0, 0, false));
+m1_table02.remove(23);
+m1_table02.remove(520);
+m1_table02.put(List.of(0, false, true, 0, 48, false));
+m1_table02.remove(1);
+m1_table02.put(List.of(4157, false, true, 3045, 507, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(5, true, false, 0, 0, true));
+m1_table02.put(List.of(112, false, false, 0, 0, true));
+m1_table02.get(0);
+m1_table02.put(List.of(2, true, true, 241, 62, false));
+m1_table02.put(Arrays.asList(1997, true, null, 0, 8570, false));
+m1_table02.put(List.of(0, false, false, 12683, 176, true));
+m1_table02.remove(5);
+m1_table02.remove(0);
+m1_table02.put(List.of(12, false, false, 2560, 1, true));
+m1_table02.put(List.of(0, false, false, 0, 0, true));
+m1_table02.put(List.of(0, false, false, 0, 0, false));
+m1_table02.put(List.of(28, true, false, 1650, 0, false));
+m1_table02.put(List.of(15, true, false, 68, 0, true));
+m1_table02.put(List.of(0, true, false, 20, 21793, true));
+m1_table02.get(35);
+m1_table02.put(List.of(0, true, false, 0, 0, false));
+m1_table02.put(List.of(0, true, false, 761, 12, true));
+m1_table02.put(List.of(18583, false, true, 0, 0, false));
+m1_table02.put(List.of(0, false, true, 0, 0, false));
+m1_table02.remove(1893);
+m1_table02.put(List.of(2, false, false, 0, 4, true));
+m1_table02.remove(524);
+m1_table02.put(List.of(4, true, true, 301, 2, false));
+m1_table02.put(List.of(0, true, false, 1704, 535, true));
+m1_table02.put(Arrays.asList(637, true, null, 39, 7, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, false, 3372, 0, false));
+m1_table02.put(List.of(0, false, true, 4, 0, true));
+m1_table02.put(List.of(0, false, true, 276, 14299, false));
+m1_table02.put(List.of(114, false, false, 63, 9428, true));
+m1_table02.get(0);
+m1_table02.remove(0);
+m1_table02.put(List.of(392, true, false, 0, 415, false));
+m1_table02.put(List.of(43, false, true, 58165, 2022, true));
+m1_table02.get(1842);
+m1_table02.get(4223);
+m1_table02.remove(14);
+m1_table02.get(602);
+m1_table02.put(List.of(22, false, true, 7, 0, false));
+m1_table02.put(List.of(0, false, true, 11, 3961, false));
+m1_table02.put(List.of(479, false, false, 0, 7, false));
+m1_table02.put(List.of(49967, false, false, 1788, 0, false));
+m1_table02.put(List.of(0, false, true, 0, 0, true));
+m1_table02.put(List.of(0, true, true, 1, 3, true));
+m1_table02.remove(0);
+m1_table02.remove(0);
+m1_table02.get(0);
+m1_table02.put(List.of(0, true, false, 7, 3, true));
+m1_table02.put(List.of(0, true, false, 166235, 0, false));
+m1_table02.put(List.of(0, false, true, 22405, 0, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(3503, true, true, 0, 24, true));
+m1_table02.remove(4);
+m1_table02.put(List.of(4479, false, true, 4495, 3, true));
+m1_table02.put(List.of(382, true, true, 50, 12, true));
+m1_table02.put(List.of(0, false, false, 3, 0, true));
+m1_table02.get(0);
+m1_table02.put(List.of(9, true, true, 93, 2, true));
+m1_table02.put(List.of(0, true, true, 1993, 53, false));
+m1_table02.get(30);
+m1_table02.remove(20);
+m1_table02.put(List.of(0, false, true, 0, 0, true));
+m1_table02.put(List.of(264, false, false, 46, 0, false));
+m1_table02.put(List.of(2, true, true, 132, 894, true));
+m1_table02.get(28);
+m1_table02.remove(20);
+m1_table02.put(List.of(479, true, false, 0, 0, false));
+m1_table02.put(List.of(58, false, false, 0, 956, true));
+m1_table02.put(List.of(62476, true, true, 0, 0, true));
+m1_table02.put(List.of(724, true, true, 4, 0, true));
+m1_table02.put(List.of(868, false, true, 15, 1, true));
+m1_table02.put(List.of(0, false, true, 1, 454, true));
+m1_table02.remove(3);
+m1_table02.remove(1964);
+m1_table02.remove(44);
+m1_table02.put(List.of(3523, true, true, 29, 90380, true));
+m1_table02.put(List.of(0, false, true, 0, 0, false));
+m1_table02.put(List.of(87, true, false, 134, 1, true));
+m1_table02.put(List.of(545519, true, true, 0, 4793, true));
+m1_table02.put(List.of(0, true, false, 0, 44196, false));
+m1_table02.get(13);
+m1_table02.put(List.of(7983, true, false, 0, 0, true));
+m1_table02.put(List.of(0, false, true, 151, 0, true));
+m1_table02.get(5);
+m1_table02.put(List.of(2, false, false, 612, 0, false));
+m1_table02.put(List.of(163, true, true, 0, 19, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(14307, false, true, 86376, 1, false));
+m1_table02.put(List.of(1, true, true, 0, 0, true));
+m1_table02.get(1);
+m1_table02.put(List.of(0, false, true, 0, 0, false));
+m1_table02.put(List.of(0, false, false, 10, 92, false));
+m1_table02.put(List.of(0, false, false, 33, 0, true));
+m1_table02.get(187);
+m1_table02.put(List.of(65334, false, false, 68, 0, true));
+m1_table02.put(List.of(2, true, false, 44945, 28, false));
+m1_table02.put(List.of(0, false, false, 0, 59642, false));
+m1_table02.remove(0);
+m1_table02.remove(2606);
+m1_table02.put(List.of(103, false, false, 5207, 0, true));
+m1_table02.put(List.of(0, false, true, 0, 0, true));
+m1_table02.remove(1333);
+m1_table02.put(List.of(0, true, true, 45, 0, true));
+m1_table02.remove(37);
+m1_table02.get(0);
+m1_table02.get(1);
+m1_table02.put(List.of(0, true, false, 0, 32872, false));
+m1_table02.remove(0);
+m1_table02.remove(166);
+m1_table02.remove(3);
+m1_table02.put(List.of(1, false, true, 22218, 0, true));
+m1_table02.put(List.of(141, true, true, 20, 0, false));
+m1_table02.put(List.of(0, true, true, 637, 2055, false));
+m1_table02.put(List.of(8, true, false, 226272, 373, false));
+m1_table02.remove(40);
+m1_table02.put(List.of(408, true, true, 7, 6, false));
+m1_table02.get(0);
+m1_table02.put(List.of(997, true, true, 644, 0, true));
+m1_table02.put(List.of(196, true, true, 10812, 7845, true));
+m1_table02.put(List.of(1486, true, false, 279, 0, false));
+m1_table02.get(0);
+m1_table02.put(List.of(0, true, true, 0, 0, true));
+m1_table02.put(List.of(415, true, true, 0, 0, false));
+m1_table02.put(List.of(0, true, true, 0, 0, false));
+m1_table02.put(List.of(35692, false, true, 18, 149926, true));
+m1_table02.put(List.of(0, true, false, 68392, 272, true));
+m1_table02.put(List.of(369, false, true, 420, 11, false));
+m1_table02.put(List.of(0, true, true, 0, 181686, false));
+m1_table02.put(List.of(491, false, false, 137, 3, true));
+m1_table02.remove(7);
+m1_table02.put(Arrays.asList(null, false, true, 0, 1280, true));
+m1_table02.put(List.of(1209, false, false, 206, 0, false));
+m1_table02.put(List.of(0, true, true, 0, 44, false));
+m1_table02.remove(9);
+m1_table02.remove(0);
+m1_table02.put(List.of(343, true, true, 0, 36, false));
+m1_table02.put(List.of(2448, true, true, 7557, 19, true));
+m1_table02.put(List.of(39, true, true, 0, 9357, true));
+m1_table02.put(List.of(0, false, false, 388, 17945, false));
+m1_table02.put(List.of(343, false, false, 10, 0, true));
+m1_table02.put(List.of(6092, true, false, 1488, 101, false));
+m1_table02.put(List.of(1, false, false, 64, 11460, true));
+m1_table02.put(List.of(0, false, true, 0, 0, false));
+m1_table02.put(List.of(2094, false, false, 36, 135, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 56, 0, true));
+m1_table02.put(List.of(23, true, true, 0, 1031, true));
+m1_table02.put(Arrays.asList(0, true, null, 0, 0, false));
+m1_table02.put(List.of(0, true, true, 0, 1, false));
+m1_table02.put(List.of(3336, true, false, 445, 0, true));
+m1_table02.put(List.of(32, false, false, 0, 291, true));
+m1_table02.remove(4627);
+m1_table02.put(List.of(42, false, true, 89, 0, true));
+m1_table02.put(List.of(14, false, false, 288, 0, true));
+m1_table02.remove(146);
+m1_table02.put(List.of(591, true, false, 0, 21476, false));
+m1_table02.remove(29);
+m1_table02.get(2);
+m1_table02.remove(2);
+m1_table02.put(List.of(0, false, false, 0, 397, true));
+m1_table02.get(0);
+m1_table02.put(List.of(0, false, true, 0, 14741, false));
+m1_table02.put(List.of(6, false, false, 0, 160, true));
+m1_table02.get(0);
+m1_table02.put(List.of(0, true, true, 10109, 0, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 0, 0, true));
+m1_table02.put(List.of(0, true, true, 15, 0, true));
+m1_table02.put(List.of(4, false, true, 114, 462, false));
+m1_table02.put(List.of(1595, true, false, 0, 6, true));
+m1_table02.put(List.of(0, true, true, 0, 319, true));
+m1_table02.put(List.of(0, false, true, 0, 332, false));
+m1_table02.put(List.of(7, true, false, 0, 92, true));
+m1_table02.put(List.of(2684, true, true, 12349, 906, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(13709, false, false, 34, 1, true));
+m1_table02.put(List.of(1, true, true, 61, 1, false));
+m1_table02.put(List.of(0, true, true, 254, 408, true));
+m1_table02.get(543);
+m1_table02.put(List.of(24, false, true, 11, 2, true));
+m1_table02.put(List.of(645, false, false, 0, 66, true));
+m1_table02.put(List.of(1312, true, true, 277, 0, true));
+m1_table02.remove(24);
+m1_table02.put(List.of(0, false, false, 90, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(73, false, false, 158, 2, true));
+m1_table02.put(Arrays.asList(0, false, false, 0, 1437, null));
+m1_table02.put(List.of(0, false, true, 0, 61, true));
+m1_table02.get(8);
+m1_table02.put(List.of(11052, false, false, 0, 533, true));
+m1_table02.get(0);
+m1_table02.put(Arrays.asList(8420, true, false, 272, null, true));
+m1_table02.put(List.of(1704, false, false, 16, 1, false));
+m1_table02.remove(6406);
+m1_table02.put(List.of(2, false, false, 0, 337, false));
+m1_table02.put(List.of(14, true, true, 70, 0, false));
+m1_table02.put(List.of(1, false, true, 56, 26742, true));
+m1_table02.put(List.of(0, false, true, 5394, 585, false));
+m1_table02.remove(5);
+m1_table02.put(List.of(772, false, false, 855, 15, true));
+m1_table02.put(List.of(0, false, false, 3123, 0, true));
+m1_table02.remove(3);
+m1_table02.put(List.of(424, false, false, 0, 1, true));
+m1_table02.put(List.of(10, false, true, 308, 0, true));
+m1_table02.put(Arrays.asList(1242, true, null, 0, 0, true));
+m1_table02.put(List.of(0, true, true, 14, 69446, true));
+m1_table02.put(List.of(0, true, true, 0, 1, true));
+m1_table02.put(List.of(0, false, true, 27, 124154, false));
+m1_table02.put(List.of(315, false, false, 269, 3844, false));
+m1_table02.put(List.of(1, false, false, 132, 0, true));
+m1_table02.put(List.of(12, true, true, 0, 130, true));
+m1_table02.put(List.of(5, false, true, 8683, 24, false));
+m1_table02.put(List.of(66, true, true, 201369, 1, true));
+m1_table02.put(List.of(0, false, true, 0, 146, true));
+m1_table02.put(List.of(11, true, false, 0, 57, false));
+m1_table02.put(List.of(0, true, false, 0, 5, true));
+m1_table02.remove(449);
+m1_table02.put(List.of(0, true, false, 0, 23824, true));
+m1_table02.put(List.of(9, false, false, 0, 5, true));
+m1_table02.put(List.of(0, true, true, 0, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(5, false, false, 513, 405, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(1470, true, true, 0, 13, true));
+m1_table02.put(List.of(0, false, true, 0, 3, true));
+m1_table02.put(List.of(3878, true, false, 368, 18018, true));
+m1_table02.get(0);
+m1_table02.remove(2896);
+m1_table02.remove(5);
+m1_table02.put(List.of(2, true, false, 0, 0, true));
+m1_table02.put(List.of(0, true, true, 0, 0, false));
+m1_table02.put(List.of(7943, true, true, 1, 13500, false));
+m1_table02.put(List.of(708, true, true, 4, 2, false));
+m1_table02.put(List.of(0, true, true, 29, 0, false));
+m1_table02.put(List.of(20, true, true, 14, 130, true));
+m1_table02.put(List.of(2882, false, false, 0, 0, false));
+m1_table02.remove(43);
+m1_table02.put(List.of(41, false, false, 1, 4953, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, true, 0, 546, false));
+m1_table02.put(List.of(0, false, true, 61634, 359, true));
+m1_table02.put(List.of(866, true, true, 0, 412, false));
+m1_table02.remove(1330);
+m1_table02.put(List.of(217, true, true, 48531, 0, false));
+m1_table02.get(0);
+m1_table02.put(List.of(0, true, true, 2032, 21, true));
+m1_table02.put(List.of(32369, false, true, 0, 10, false));
+m1_table02.put(List.of(9251, false, true, 7, 6, true));
+m1_table02.put(List.of(0, false, true, 0, 3169, true));
+m1_table02.put(List.of(4, true, false, 390, 6, false));
+m1_table02.put(List.of(18, false, true, 3283, 664642, true));
+m1_table02.put(List.of(160, true, false, 8, 0, true));
+m1_table02.get(19);
+m1_table02.put(List.of(885, true, false, 0, 98, false));
+m1_table02.get(1783);
+m1_table02.put(List.of(82, true, true, 297, 2, false));
+m1_table02.put(List.of(7, false, true, 0, 1, true));
+m1_table02.put(List.of(0, true, true, 467, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(21, true, false, 11551, 186475, true));
+m1_table02.put(List.of(0, false, true, 1605, 183, false));
+m1_table02.get(49);
+m1_table02.put(List.of(282987, true, false, 8, 19, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 0, 1, true));
+m1_table02.put(Arrays.asList(5488, true, null, 0, 0, true));
+m1_table02.put(List.of(0, false, false, 4, 5, true));
+m1_table02.put(List.of(4250, false, true, 3, 191, false));
+m1_table02.put(List.of(19518, true, true, 0, 0, false));
+m1_table02.put(Arrays.asList(7043, false, true, 3, 14, null));
+m1_table02.get(174);
+m1_table02.put(Arrays.asList(null, false, false, 0, 199, false));
+m1_table02.put(List.of(0, false, true, 2452, 0, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(5546, true, false, 190, 89, true));
+m1_table02.put(List.of(2, true, false, 154, 366, true));
+m1_table02.remove(17);
+m1_table02.remove(0);
+m1_table02.put(List.of(3066, true, false, 0, 301, false));
+m1_table02.put(List.of(0, true, false, 0, 39, true));
+m1_table02.put(Arrays.asList(0, true, null, 0, 0, true));
+m1_table02.put(List.of(62, true, false, 0, 2842, false));
+m1_table02.remove(610);
+m1_table02.put(List.of(0, false, false, 1608, 2, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(7786, true, false, 94266, 0, false));
+m1_table02.put(List.of(540, false, true, 211, 382, false));
+m1_table02.put(List.of(9, true, false, 20, 5450, true));
+m1_table02.put(List.of(6, true, true, 14687, 0, true));
+m1_table02.put(List.of(8, true, false, 0, 5946, true));
+m1_table02.put(List.of(3952, false, true, 458, 1308, true));
+m1_table02.put(List.of(7704, false, false, 0, 0, false));
+m1_table02.put(List.of(0, false, false, 0, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(32, false, false, 47, 4438, true));
+m1_table02.put(List.of(238, false, false, 0, 0, true));
+m1_table02.put(List.of(22435, false, true, 0, 0, true));
+m1_table02.put(List.of(0, true, true, 0, 521, false));
+m1_table02.put(List.of(0, true, false, 0, 0, true));
+m1_table02.put(List.of(69, true, true, 428, 4, true));
+m1_table02.put(List.of(0, false, true, 0, 0, false));
+m1_table02.put(List.of(3690, true, false, 4, 634, false));
+m1_table02.put(List.of(0, true, false, 14, 80, true));
+m1_table02.put(List.of(0, false, false, 0, 174, true));
+m1_table02.put(List.of(36, false, false, 12188, 0, true));
+m1_table02.put(List.of(0, true, true, 70, 20, false));
+m1_table02.get(0);
+m1_table02.get(1891);
+m1_table02.put(List.of(16, true, false, 0, 107, false));
+m1_table02.get(0);
+m1_table02.put(Arrays.asList(228, true, null, 11909, 3, true));
+m1_table02.put(List.of(2101, false, true, 405, 0, false));
+m1_table02.put(List.of(21, true, true, 598, 65846, false));
+m1_table02.put(List.of(241, false, true, 0, 5323, false));
+m1_table02.put(List.of(36, false, true, 0, 93, false));
+m1_table02.put(List.of(0, false, true, 42, 19, false));
+m1_table02.put(List.of(9, true, true, 0, 1, false));
+m1_table02.get(0);
+m1_table02.remove(3);
+m1_table02.put(List.of(3234, true, false, 515, 0, true));
+m1_table02.put(List.of(12018, true, true, 0, 84, true));
+m1_table02.put(List.of(0, false, false, 0, 1, true));
+m1_table02.put(List.of(742, true, true, 13, 0, false));
+m1_table02.get(22);
+m1_table02.put(List.of(71, false, true, 3043, 0, false));
+m1_table02.remove(65);
+m1_table02.put(List.of(2728, true, true, 0, 6, false));
+m1_table02.put(Arrays.asList(60, true, false, 235, 0, null));
+m1_table02.put(List.of(4, false, true, 1, 104, false));
+m1_table02.put(List.of(22, true, false, 4218, 142835, true));
+m1_table02.remove(43088);
+m1_table02.put(List.of(0, true, false, 0, 4675, true));
+m1_table02.remove(79);
+m1_table02.get(0);
+m1_table02.put(List.of(0, false, true, 0, 26, false));
+m1_table02.put(List.of(108, false, true, 1123, 0, true));
+m1_table02.put(List.of(7, true, true, 0, 1, false));
+m1_table02.put(List.of(910, true, true, 0, 5, true));
+m1_table02.remove(0);
+m1_table02.put(Arrays.asList(5, true, null, 0, 0, true));
+m1_table02.put(List.of(115, false, true, 98, 0, true));
+m1_table02.put(List.of(4, false, false, 0, 241, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(267, false, false, 0, 16, true));
+m1_table02.put(List.of(2, true, true, 11, 2123, false));
+m1_table02.get(21758);
+m1_table02.put(List.of(5, true, true, 1493, 852, false));
+m1_table02.put(List.of(207, true, true, 63, 0, true));
+m1_table02.put(List.of(4171, false, true, 794, 16212, false));
+m1_table02.get(1241);
+m1_table02.put(List.of(0, false, false, 0, 7345, false));
+m1_table02.get(3);
+m1_table02.put(List.of(1107, false, false, 537, 0, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, false, 0, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(41, false, false, 59, 475, false));
+m1_table02.put(List.of(106, false, false, 0, 1486, false));
+m1_table02.put(List.of(2333, true, true, 0, 0, false));
+m1_table02.put(List.of(0, true, false, 6230, 0, false));
+m1_table02.put(Arrays.asList(0, null, false, 14, 9, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(143, false, true, 696, 0, false));
+m1_table02.remove(0);
+m1_table02.remove(8);
+m1_table02.remove(0);
+m1_table02.put(List.of(112, false, false, 0, 341, true));
+m1_table02.put(List.of(228, true, true, 13, 0, false));
+m1_table02.put(List.of(72, true, false, 0, 0, false));
+m1_table02.put(Arrays.asList(0, true, true, 0, null, false));
+m1_table02.put(List.of(12, false, true, 1601076, 0, false));
+m1_table02.remove(17);
+m1_table02.get(270);
+m1_table02.put(Arrays.asList(null, true, true, 0, 78, true));
+m1_table02.put(List.of(1057, true, false, 5, 0, true));
+m1_table02.put(List.of(9421, true, true, 7, 2, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, false, 775, 0, false));
+m1_table02.put(List.of(0, false, false, 0, 172, false));
+m1_table02.put(List.of(0, true, false, 78, 0, true));
+m1_table02.put(List.of(217, true, true, 0, 0, true));
+m1_table02.put(List.of(0, true, false, 0, 27, false));
+m1_table02.put(List.of(5, true, false, 0, 93, false));
+m1_table02.put(List.of(22, false, true, 0, 0, true));
+m1_table02.get(0);
+m1_table02.put(List.of(701, true, true, 35, 0, false));
+m1_table02.get(41);
+m1_table02.put(List.of(279, true, false, 40, 2215, true));
+m1_table02.put(List.of(2, true, true, 15, 0, false));
+m1_table02.get(0);
+m1_table02.put(List.of(665, true, false, 4505, 4804, false));
+m1_table02.put(List.of(5, false, false, 0, 7, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(1, true, false, 619, 15244, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(6, false, false, 1, 0, true));
+m1_table02.put(Arrays.asList(0, true, true, 0, 0, null));
+m1_table02.put(List.of(18, false, true, 0, 1, false));
+m1_table02.put(List.of(8128, false, false, 11, 1466, true));
+m1_table02.put(List.of(0, false, true, 0, 12723, false));
+m1_table02.put(List.of(38, true, false, 0, 0, true));
+m1_table02.put(List.of(0, true, false, 12, 0, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, true, 5400, 0, true));
+m1_table02.put(List.of(0, true, false, 0, 0, false));
+m1_table02.put(List.of(0, false, false, 0, 5, false));
+m1_table02.put(List.of(0, true, true, 69, 18, true));
+m1_table02.put(List.of(879, false, true, 0, 3, false));
+m1_table02.put(List.of(272, true, true, 30, 0, false));
+m1_table02.put(List.of(224, false, false, 4536, 1, false));
+m1_table02.put(List.of(3179, true, false, 29, 0, true));
+m1_table02.remove(2);
+m1_table02.remove(1200);
+m1_table02.put(List.of(0, false, false, 1133, 179, true));
+m1_table02.put(List.of(440, true, false, 10, 4066, false));
+m1_table02.remove(1);
+m1_table02.get(52039);
+m1_table02.get(0);
+m1_table02.get(0);
+m1_table02.put(List.of(11364, false, true, 311, 0, true));
+m1_table02.put(List.of(50, false, false, 0, 0, true));
+m1_table02.put(List.of(86332, true, false, 0, 10, true));
+m1_table02.put(List.of(0, true, false, 1, 424, false));
+m1_table02.put(List.of(0, false, false, 1, 328, true));
+m1_table02.put(List.of(124, false, false, 0, 0, false));
+m1_table02.put(List.of(9, false, true, 39643, 0, false));
+m1_table02.put(List.of(0, false, true, 0, 3016, false));
+m1_table02.put(List.of(0, true, false, 2, 0, true));
+m1_table02.get(0);
+m1_table02.remove(1116);
+m1_table02.put(List.of(0, false, true, 282, 0, false));
+m1_table02.put(List.of(0, false, true, 4492, 1, true));
+m1_table02.put(List.of(0, true, true, 5, 0, true));
+m1_table02.remove(470);
+m1_table02.remove(2191);
+m1_table02.put(List.of(1019, true, true, 259586, 0, true));
+m1_table02.put(List.of(0, true, false, 45241, 10, true));
+m1_table02.put(List.of(0, false, false, 27210, 0, false));
+m1_table02.get(0);
+m1_table02.put(List.of(0, true, false, 0, 290, false));
+m1_table02.remove(356);
+m1_table02.get(0);
+m1_table02.put(List.of(0, false, false, 257, 1449, true));
+m1_table02.get(0);
+m1_table02.put(List.of(15923, false, true, 133, 0, true));
+m1_table02.put(List.of(17719, false, false, 1, 54, true));
+m1_table02.get(0);
+m1_table02.put(List.of(5, false, false, 84133, 0, false));
+m1_table02.put(List.of(0, false, true, 8607, 1, true));
+m1_table02.put(List.of(29, false, true, 578, 0, false));
+m1_table02.put(List.of(0, true, true, 5, 5, true));
+m1_table02.put(Arrays.asList(0, true, true, 0, 8, null));
+m1_table02.put(Arrays.asList(3386, true, true, 479, null, true));
+m1_table02.put(List.of(250, true, false, 101, 34540, true));
+m1_table02.put(Arrays.asList(0, false, null, 0, 1, true));
+m1_table02.get(17);
+m1_table02.put(List.of(0, true, true, 0, 113, true));
+m1_table02.put(List.of(2, false, true, 0, 3093, false));
+m1_table02.put(List.of(0, false, true, 74772, 28, true));
+m1_table02.put(List.of(0, true, false, 0, 0, true));
+m1_table02.put(List.of(457, true, true, 0, 0, true));
+m1_table02.put(List.of(0, false, true, 383, 0, false));
+m1_table02.put(List.of(391, false, false, 16, 27, false));
+m1_table02.put(List.of(1024, false, true, 1, 0, false));
+m1_table02.remove(12989);
+m1_table02.put(List.of(0, true, true, 37, 0, false));
+m1_table02.remove(2481);
+m1_table02.put(List.of(236, false, false, 83157, 91, false));
+m1_table02.put(List.of(8, false, true, 29, 269, false));
+m1_table02.get(0);
+m1_table02.put(List.of(0, false, true, 0, 29, false));
+m1_table02.put(List.of(351, false, false, 91, 785, true));
+m1_table02.put(List.of(0, false, false, 4, 0, true));
+m1_table02.get(0);
+m1_table02.put(List.of(0, true, false, 4, 10321, false));
+m1_table02.put(Arrays.asList(2810, null, true, 0, 0, false));
+m1_table02.put(List.of(2246, true, false, 4, 58183, false));
+m1_table02.put(List.of(2, true, true, 112, 0, true));
+m1_table02.put(List.of(0, true, true, 512, 0, false));
+m1_table02.get(0);
+m1_table02.put(List.of(0, true, false, 25995, 1202, false));
+m1_table02.remove(368);
+m1_table02.remove(10891);
+m1_table02.put(List.of(5, true, true, 15, 3, false));
+m1_table02.put(List.of(0, false, false, 17, 179, true));
+m1_table02.put(List.of(0, true, true, 152, 0, false));
+m1_table02.put(Arrays.asList(null, true, false, 178, 1093, true));
+m1_table02.put(List.of(0, true, false, 2167, 8, false));
+m1_table02.put(List.of(19, true, false, 0, 0, true));
+m1_table02.put(List.of(0, false, false, 2, 0, false));
+m1_table02.put(List.of(0, true, false, 46889, 133, true));
+m1_table02.put(List.of(5, false, false, 0, 0, false));
+m1_table02.put(List.of(0, true, false, 20, 0, false));
+m1_table02.put(List.of(5053, true, false, 0, 0, true));
+m1_table02.remove(60);
+m1_table02.put(List.of(34, true, true, 0, 5, false));
+m1_table02.put(List.of(0, false, true, 30, 0, true));
+m1_table02.put(List.of(0, true, false, 0, 41, false));
+m1_table02.put(List.of(0, true, true, 0, 1, false));
+m1_table02.put(List.of(0, false, false, 43, 83, false));
+m1_table02.remove(0);
+m1_table02.remove(0);
+m1_table02.put(List.of(4, false, false, 0, 12342, true));
+m1_table02.put(List.of(0, false, false, 0, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 14, 11, true));
+m1_table02.put(List.of(816, false, false, 74, 0, false));
+m1_table02.put(List.of(16164, true, true, 9, 7620, true));
+m1_table02.put(List.of(0, true, false, 83, 0, false));
+m1_table02.put(List.of(4, true, true, 4782, 11873, true));
+m1_table02.put(List.of(594, true, false, 131, 1, false));
+m1_table02.put(List.of(0, false, true, 35, 8, false));
+m1_table02.remove(3);
+m1_table02.put(List.of(0, false, true, 27, 0, true));
+m1_table02.put(List.of(2, false, false, 4, 0, true));
+m1_table02.put(Arrays.asList(0, null, false, 4, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 0, 336, true));
+m1_table02.put(List.of(0, false, true, 2642, 9, true));
+m1_table02.put(List.of(3, false, false, 656, 0, true));
+m1_table02.get(2674);
+m1_table02.put(List.of(1, false, true, 0, 0, true));
+m1_table02.remove(24);
+m1_table02.put(List.of(0, false, true, 10248, 13081, true));
+m1_table02.get(0);
+m1_table02.put(List.of(0, true, false, 42021, 0, false));
+m1_table02.remove(15831);
+m1_table02.put(List.of(2454, true, true, 1335, 252, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, false, 0, 36226, true));
+m1_table02.put(List.of(0, true, true, 0, 13, true));
+m1_table02.put(List.of(920, true, true, 7496, 87, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, false, 1, 357, false));
+m1_table02.put(List.of(0, false, true, 29, 0, false));
+m1_table02.get(18);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, true, 2381, 1043, false));
+m1_table02.put(List.of(1600646, false, true, 912, 0, false));
+m1_table02.remove(432);
+m1_table02.put(List.of(731, false, false, 392, 8676, false));
+m1_table02.put(List.of(3, false, false, 0, 0, true));
+m1_table02.put(List.of(0, false, false, 0, 271, false));
+m1_table02.put(List.of(3, true, true, 1091, 0, false));
+m1_table02.put(List.of(0, true, false, 147, 0, false));
+m1_table02.remove(0);
+m1_table02.remove(1829);
+m1_table02.put(List.of(0, true, false, 0, 27, false));
+m1_table02.put(List.of(0, false, true, 11411, 10161, true));
+m1_table02.put(List.of(1849, false, true, 1964, 82, true));
+m1_table02.put(List.of(152, false, true, 76628, 178, false));
+m1_table02.put(List.of(0, true, true, 1, 0, false));
+m1_table02.remove(39);
+m1_table02.put(List.of(2126, true, false, 0, 8317, true));
+m1_table02.put(List.of(1, true, true, 0, 0, true));
+m1_table02.put(List.of(1, true, true, 0, 55, true));
+m1_table02.put(List.of(0, false, true, 11, 158, false));
+m1_table02.put(List.of(84, false, false, 15, 0, false));
+m1_table02.put(List.of(606, true, false, 3, 0, false));
+m1_table02.put(List.of(0, true, true, 0, 10191, true));
+m1_table02.remove(0);
+m1_table02.remove(2);
+m1_table02.put(List.of(0, false, false, 2, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(613, false, true, 0, 0, true));
+m1_table02.remove(80);
+m1_table02.get(0);
+m1_table02.put(List.of(0, true, true, 390, 387, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(25, false, false, 0, 55893, true));
+m1_table02.put(List.of(39, true, false, 0, 3, false));
+m1_table02.put(List.of(666, false, true, 0, 717, false));
+m1_table02.put(Arrays.asList(0, true, true, 0, 2247, null));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 3, 0, true));
+m1_table02.get(0);
+m1_table02.put(List.of(1, false, false, 44434, 0, false));
+m1_table02.put(List.of(18, true, true, 20, 0, true));
+m1_table02.put(List.of(81, true, true, 13, 2, false));
+m1_table02.put(List.of(13, false, true, 0, 21318, true));
+m1_table02.put(List.of(3, false, false, 64489, 4, true));
+m1_table02.put(List.of(0, true, false, 712684, 0, true));
+m1_table02.put(List.of(10, false, false, 0, 0, true));
+m1_table02.put(List.of(1684, true, false, 0, 0, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, true, 0, 245, true));
+m1_table02.put(List.of(538, false, false, 0, 610, true));
+m1_table02.put(List.of(4706, false, false, 0, 1, true));
+m1_table02.remove(2);
+m1_table02.put(List.of(6, false, true, 0, 56, false));
+m1_table02.put(List.of(31, true, true, 62874, 9, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(6939, true, true, 123, 3, true));
+m1_table02.put(List.of(0, false, false, 0, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 0, 0, true));
+m1_table02.put(List.of(56, false, true, 105911, 9321, false));
+m1_table02.remove(0);
+m1_table02.remove(1);
+m1_table02.put(List.of(0, false, true, 0, 0, false));
+m1_table02.put(List.of(23, false, true, 6, 0, true));
+m1_table02.get(158);
+m1_table02.put(List.of(0, true, false, 0, 0, true));
+m1_table02.put(List.of(0, false, true, 0, 0, true));
+m1_table02.remove(4);
+m1_table02.put(List.of(0, false, true, 0, 1, true));
+m1_table02.remove(263);
+m1_table02.remove(52940);
+m1_table02.remove(67);
+m1_table02.put(List.of(1850, true, true, 444, 0, false));
+m1_table02.put(List.of(0, false, true, 46, 0, true));
+m1_table02.put(List.of(336, true, true, 0, 2, false));
+m1_table02.put(List.of(115, false, true, 4, 13, true));
+m1_table02.put(List.of(0, false, false, 0, 414, true));
+m1_table02.put(List.of(127682, false, true, 125, 16162, true));
+m1_table02.put(List.of(11347, true, false, 0, 57, true));
+m1_table02.put(List.of(0, false, false, 22, 1, false));
+m1_table02.remove(8);
+m1_table02.put(List.of(3297, true, true, 31, 0, true));
+m1_table02.put(List.of(0, false, true, 0, 289, false));
+m1_table02.put(List.of(7836, false, true, 9999, 16856, false));
+m1_table02.put(List.of(0, true, false, 0, 0, false));
+m1_table02.remove(226);
+m1_table02.put(List.of(17, false, false, 2975, 118, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 5893, 283, false));
+m1_table02.put(List.of(21, true, true, 0, 152, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(242100, true, false, 18, 26, false));
+m1_table02.put(List.of(1, false, false, 3, 0, true));
+m1_table02.remove(986);
+m1_table02.get(3);
+m1_table02.put(List.of(5144, false, false, 0, 0, false));
+m1_table02.put(List.of(70, true, true, 0, 8785, true));
+m1_table02.put(List.of(14, false, true, 0, 2731, true));
+m1_table02.put(List.of(0, false, true, 346, 461, true));
+m1_table02.put(List.of(0, false, false, 338, 54, false));
+m1_table02.put(List.of(813, false, true, 0, 0, true));
+m1_table02.put(List.of(3363, true, false, 2, 81231, true));
+m1_table02.put(List.of(75, true, true, 3, 276, false));
+m1_table02.put(List.of(0, true, false, 45, 166, false));
+m1_table02.get(816);
+m1_table02.get(7);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 65, 0, true));
+m1_table02.put(List.of(6, false, false, 8552, 0, true));
+m1_table02.get(0);
+m1_table02.remove(0);
+m1_table02.put(List.of(2, false, false, 26, 1, true));
+m1_table02.put(List.of(846, true, true, 1136, 5179, true));
+m1_table02.put(List.of(679, false, false, 10880, 0, false));
+m1_table02.put(List.of(0, true, false, 13, 0, true));
+m1_table02.put(List.of(0, false, false, 4, 4, false));
+m1_table02.put(Arrays.asList(1, null, false, 0, 422, false));
+m1_table02.put(List.of(0, false, true, 267, 0, true));
+m1_table02.put(List.of(0, false, false, 3968, 873, true));
+m1_table02.put(List.of(9, false, true, 0, 0, false));
+m1_table02.put(List.of(0, true, true, 1, 1174, true));
+m1_table02.put(List.of(150, false, true, 0, 62, false));
+m1_table02.put(List.of(7, false, true, 0, 2735, true));
+m1_table02.get(4);
+m1_table02.put(List.of(84, false, false, 4, 0, false));
+m1_table02.put(List.of(12982, false, false, 0, 1, true));
+m1_table02.put(List.of(7, true, true, 843, 0, true));
+m1_table02.put(List.of(82, false, false, 1, 0, true));
+m1_table02.put(Arrays.asList(0, false, false, 6, null, false));
+m1_table02.put(List.of(0, true, false, 0, 83, true));
+m1_table02.put(List.of(0, true, true, 0, 0, true));
+m1_table02.put(List.of(53, true, false, 46, 1, false));
+m1_table02.put(List.of(361, false, false, 5, 499, true));
+m1_table02.get(3);
+m1_table02.put(List.of(2, false, true, 774, 0, true));
+m1_table02.put(List.of(2045, true, true, 0, 9, true));
+m1_table02.put(List.of(2, true, true, 0, 0, true));
+m1_table02.put(List.of(1, true, false, 49, 0, true));
+m1_table02.put(List.of(6, false, true, 7, 686, true));
+m1_table02.put(List.of(1, false, false, 0, 19041, true));
+m1_table02.put(List.of(0, true, false, 12, 540, false));
+m1_table02.remove(795);
+m1_table02.put(List.of(0, true, false, 12, 0, false));
+m1_table02.put(List.of(0, false, true, 0, 0, false));
+m1_table02.put(List.of(11, false, false, 0, 42, false));
+m1_table02.get(0);
+m1_table02.put(List.of(11559, false, true, 966, 1, true));
+m1_table02.remove(25);
+m1_table02.put(List.of(0, true, true, 39, 0, false));
+m1_table02.put(List.of(153, false, true, 11, 22950, false));
+m1_table02.put(List.of(240, false, false, 58795, 70, false));
+m1_table02.remove(412);
+m1_table02.put(List.of(21, false, true, 4361, 2, true));
+m1_table02.put(List.of(8, false, true, 13479, 87, false));
+m1_table02.put(List.of(40, false, true, 0, 0, true));
+m1_table02.put(Arrays.asList(36, null, true, 2685, 0, true));
+m1_table02.put(List.of(0, true, true, 0, 33, true));
+m1_table02.get(43880);
+m1_table02.put(Arrays.asList(0, false, false, 1152, null, true));
+m1_table02.put(List.of(4, false, false, 0, 0, false));
+m1_table02.put(List.of(74, false, false, 5285, 0, false));
+m1_table02.put(List.of(0, false, true, 1301, 11152, false));
+m1_table02.put(List.of(0, false, true, 27, 0, true));
+m1_table02.put(List.of(3, false, false, 3586, 117293, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, false, 1, 3, true));
+m1_table02.put(List.of(1673, false, false, 240, 3251, true));
+m1_table02.put(List.of(0, false, false, 7, 0, true));
+m1_table02.put(List.of(1, false, false, 1522, 0, true));
+m1_table02.remove(2875);
+m1_table02.put(List.of(1, false, true, 104, 93, true));
+m1_table02.put(List.of(0, true, false, 17573, 285, false));
+m1_table02.remove(21103);
+m1_table02.put(List.of(8, true, false, 2, 8080, true));
+m1_table02.put(List.of(21, false, false, 10048, 5, false));
+m1_table02.put(List.of(0, false, true, 292, 84651, false));
+m1_table02.put(List.of(98, false, true, 10282, 1509, true));
+m1_table02.put(Arrays.asList(30, true, true, 1, null, false));
+m1_table02.remove(0);
+m1_table02.put(Arrays.asList(0, null, true, 31, 111, true));
+m1_table02.remove(915);
+m1_table02.remove(3);
+m1_table02.put(List.of(10, false, true, 0, 0, true));
+m1_table02.remove(7);
+m1_table02.remove(3089);
+m1_table02.get(0);
+m1_table02.put(Arrays.asList(null, true, false, 0, 0, false));
+m1_table02.put(List.of(14, false, false, 0, 0, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(49, true, false, 113, 0, false));
+m1_table02.get(67);
+m1_table02.put(List.of(0, true, false, 0, 5, true));
+m1_table02.put(List.of(8094, false, true, 31, 0, true));
+m1_table02.put(List.of(2186, false, true, 140, 0, true));
+m1_table02.remove(2895);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, true, 55403, 1365, true));
+m1_table02.put(List.of(40, false, true, 0, 0, true));
+m1_table02.put(List.of(0, false, false, 4, 537, true));
+m1_table02.get(0);
+m1_table02.put(List.of(0, false, true, 37, 0, false));
+m1_table02.remove(68);
+m1_table02.put(List.of(0, false, true, 74, 12674, true));
+m1_table02.put(List.of(664, true, false, 0, 1950787, true));
+m1_table02.put(List.of(0, true, true, 24, 116, true));
+m1_table02.put(List.of(6011138, false, false, 57, 0, false));
+m1_table02.remove(2284);
+m1_table02.put(List.of(0, true, true, 939, 415, true));
+m1_table02.put(List.of(0, false, true, 37, 0, true));
+m1_table02.put(List.of(19, false, false, 22, 0, true));
+m1_table02.put(List.of(0, true, false, 116, 0, true));
+m1_table02.put(Arrays.asList(5661, null, true, 8, 79520, false));
+m1_table02.put(List.of(6, true, true, 0, 0, false));
+m1_table02.put(List.of(0, true, false, 0, 1878, false));
+m1_table02.put(List.of(21, false, true, 619, 0, true));
+m1_table02.remove(0);
+m1_table02.remove(0);
+m1_table02.put(Arrays.asList(null, false, false, 0, 0, true));
+m1_table02.put(List.of(0, false, false, 9, 21, false));
+m1_table02.remove(1717);
+m1_table02.put(List.of(4, true, true, 0, 0, true));
+m1_table02.put(List.of(0, false, false, 11, 0, true));
+m1_table02.put(List.of(5416, false, true, 11758, 0, true));
+m1_table02.put(Arrays.asList(4785, false, true, 503, null, false));
+m1_table02.put(List.of(146, false, true, 2559, 287, false));
+m1_table02.get(0);
+m1_table02.put(List.of(4, true, false, 0, 0, true));
+m1_table02.put(List.of(0, true, false, 14568, 64, false));
+m1_table02.remove(2);
+m1_table02.remove(129);
+m1_table02.put(List.of(32, false, true, 110, 0, true));
+m1_table02.put(List.of(22, true, true, 0, 0, false));
+m1_table02.put(List.of(4578, false, true, 0, 1431, false));
+m1_table02.put(List.of(0, false, true, 5938, 486, true));
+m1_table02.put(List.of(0, false, false, 0, 0, false));
+m1_table02.put(List.of(17, false, false, 144, 10, false));
+m1_table02.put(List.of(0, false, false, 29901, 2366, true));
+m1_table02.put(List.of(1, false, true, 189, 5670, true));
+m1_table02.put(List.of(3517, true, true, 0, 0, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(1464, false, true, 0, 129, true));
+m1_table02.put(List.of(0, true, true, 1026, 0, false));
+m1_table02.put(List.of(3543, false, true, 17, 0, true));
+m1_table02.put(List.of(0, true, true, 0, 0, false));
+m1_table02.put(List.of(600, true, true, 175003, 0, false));
+m1_table02.put(List.of(0, true, false, 0, 116, true));
+m1_table02.put(List.of(398, false, false, 28, 0, false));
+m1_table02.put(List.of(346, false, false, 0, 82, true));
+m1_table02.put(List.of(0, false, true, 0, 2243, true));
+m1_table02.get(2966);
+m1_table02.put(List.of(23653, false, true, 0, 0, true));
+m1_table02.remove(1);
+m1_table02.put(List.of(3287, true, false, 1951, 2, true));
+m1_table02.put(List.of(2913, false, true, 0, 1903, true));
+m1_table02.put(List.of(1, false, true, 0, 0, true));
+m1_table02.put(List.of(1618, true, true, 0, 0, true));
+m1_table02.remove(2);
+m1_table02.put(List.of(10, true, false, 164, 259935, false));
+m1_table02.remove(2666);
+m1_table02.put(Arrays.asList(0, false, null, 94320, 0, true));
+m1_table02.put(List.of(1370, false, true, 0, 0, true));
+m1_table02.put(List.of(355, false, true, 6691, 4677, true));
+m1_table02.get(42);
+m1_table02.put(List.of(0, true, true, 0, 9416, true));
+m1_table02.remove(1610);
+m1_table02.put(List.of(1285, true, false, 0, 0, false));
+m1_table02.put(List.of(0, false, false, 0, 20, false));
+m1_table02.put(List.of(0, false, true, 4, 0, true));
+m1_table02.put(List.of(102161, false, true, 0, 0, true));
+m1_table02.remove(13365);
+m1_table02.put(List.of(0, true, true, 0, 0, true));
+m1_table02.put(List.of(0, false, true, 0, 32, false));
+m1_table02.put(List.of(0, true, false, 0, 0, false));
+m1_table02.put(List.of(205514, true, false, 0, 472, false));
+m1_table02.remove(126);
+m1_table02.remove(6418);
+m1_table02.put(List.of(0, true, false, 180, 0, false));
+m1_table02.put(List.of(2, true, false, 0, 163, false));
+m1_table02.put(List.of(0, false, false, 3, 4495, true));
+m1_table02.remove(0);
+m1_table02.remove(0);
+m1_table02.put(List.of(2, false, true, 2, 160, true));
+m1_table02.put(List.of(91, false, false, 2, 874, false));
+m1_table02.put(List.of(173, false, true, 7911, 249, true));
+m1_table02.get(2926);
+m1_table02.put(List.of(0, false, false, 0, 13, false));
+m1_table02.put(List.of(0, true, false, 126, 0, true));
+m1_table02.put(List.of(26, true, true, 659, 50786, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(356, true, false, 2458, 387, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 0, 0, false));
+m1_table02.put(List.of(15, false, true, 0, 345, true));
+m1_table02.get(114);
+m1_table02.remove(5);
+m1_table02.remove(1);
+m1_table02.put(List.of(8647, true, true, 36039, 6672, false));
+m1_table02.remove(84);
+m1_table02.put(List.of(3445, true, false, 36, 0, false));
+m1_table02.put(List.of(512, false, false, 0, 10939, true));
+m1_table02.put(List.of(0, true, true, 0, 0, true));
+m1_table02.put(Arrays.asList(null, true, false, 0, 0, true));
+m1_table02.put(List.of(5, true, true, 1, 46, true));
+m1_table02.put(List.of(0, true, false, 0, 284, true));
+m1_table02.put(List.of(276, true, false, 0, 0, false));
+m1_table02.put(List.of(0, true, true, 0, 0, false));
+m1_table02.put(List.of(1, true, false, 0, 0, false));
+m1_table02.put(List.of(0, true, false, 94, 0, true));
+m1_table02.remove(311);
+m1_table02.put(List.of(22, true, true, 4566, 0, false));
+m1_table02.put(List.of(0, false, true, 0, 0, true));
+m1_table02.put(List.of(13, false, true, 0, 1208, false));
+m1_table02.put(List.of(6, false, false, 0, 0, true));
+m1_table02.get(0);
+m1_table02.put(List.of(2211, false, true, 0, 5, true));
+m1_table02.remove(0);
+m1_table02.get(613);
+m1_table02.put(List.of(29, false, false, 0, 62123, true));
+m1_table02.put(List.of(190, false, false, 0, 5168, false));
+m1_table02.put(List.of(1607, true, true, 3296, 0, true));
+m1_table02.put(List.of(9, false, true, 88, 0, true));
+m1_table02.put(List.of(2, false, true, 5, 534, false));
+m1_table02.put(List.of(0, false, false, 0, 0, true));
+m1_table02.remove(263);
+m1_table02.put(List.of(0, false, true, 4, 0, true));
+m1_table02.put(List.of(8544, false, false, 0, 0, false));
+m1_table02.get(0);
+m1_table02.remove(536);
+m1_table02.put(List.of(0, true, false, 0, 0, true));
+m1_table02.put(List.of(1854, false, true, 0, 0, false));
+m1_table02.put(List.of(138119, true, false, 231512, 24871, true));
+m1_table02.put(List.of(0, false, false, 0, 0, true));
+m1_table02.remove(0);
+m1_table02.put(Arrays.asList(null, true, true, 32, 7, false));
+m1_table02.put(List.of(0, true, false, 463, 2, true));
+m1_table02.put(List.of(0, true, false, 0, 0, true));
+m1_table02.put(List.of(361, false, true, 470, 68, false));
+m1_table02.put(List.of(0, false, false, 28, 0, false));
+m1_table02.put(List.of(15, false, false, 1013, 69, true));
+m1_table02.put(List.of(0, true, true, 0, 1136, false));
+m1_table02.put(List.of(6, false, false, 0, 2726, false));
+m1_table02.put(List.of(0, false, true, 0, 0, true));
+m1_table02.remove(54555);
+m1_table02.put(List.of(0, true, true, 19, 1965, true));
+m1_table02.put(List.of(98, false, false, 0, 0, false));
+m1_table02.remove(0);
+m1_table02.remove(373);
+m1_table02.put(List.of(0, true, false, 17324, 9177, true));
+m1_table02.remove(0);
+m1_table02.remove(0);
+m1_table02.put(List.of(55220, false, false, 62, 95860, true));
+m1_table02.remove(1);
+m1_table02.get(0);
+m1_table02.put(List.of(0, true, false, 12214, 1251, true));
+m1_table02.get(3384);
+m1_table02.get(0);
+m1_table02.put(List.of(0, false, true, 0, 21, false));
+m1_table02.put(List.of(0, true, true, 11, 309700, true));
+m1_table02.put(List.of(0, true, true, 0, 296, true));
+m1_table02.put(List.of(0, false, false, 1045651, 1, true));
+m1_table02.put(List.of(0, true, false, 0, 94, false));
+m1_table02.put(List.of(12, false, false, 0, 712, false));
+m1_table02.put(List.of(0, false, true, 6112, 30395, false));
+m1_table02.put(List.of(0, false, false, 2, 0, true));
+m1_table02.remove(127);
+m1_table02.remove(921);
+m1_table02.put(List.of(3029, true, true, 0, 0, true));
+m1_table02.put(List.of(3313, false, true, 3, 0, false));
+m1_table02.put(List.of(14660, false, true, 2358, 0, false));
+m1_table02.put(List.of(3765, true, false, 0, 0, true));
+m1_table02.put(List.of(197, false, true, 160, 10989, true));
+m1_table02.put(List.of(78, true, false, 0, 51, false));
+m1_table02.put(List.of(8141, false, true, 0, 21910, false));
+m1_table02.remove(10390);
+m1_table02.put(List.of(0, false, true, 30, 19, true));
+m1_table02.put(List.of(52194, false, true, 0, 1, false));
+m1_table02.put(List.of(0, false, true, 1257, 0, false));
+m1_table02.put(List.of(109, true, false, 15, 3, true));
+m1_table02.put(List.of(105790, true, true, 0, 70, true));
+m1_table02.put(List.of(116, true, false, 5, 25, true));
+m1_table02.put(Arrays.asList(null, true, true, 16, 2, false));
+m1_table02.remove(1604);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 0, 184, true));
+m1_table02.put(List.of(0, true, false, 104, 1, true));
+m1_table02.put(List.of(0, true, true, 6403, 34, true));
+m1_table02.remove(0);
+m1_table02.remove(0);
+m1_table02.get(655);
+m1_table02.put(List.of(51159, false, false, 673, 0, false));
+m1_table02.put(List.of(184, false, false, 0, 409552, true));
+m1_table02.put(List.of(0, true, false, 0, 0, false));
+m1_table02.put(List.of(15, true, true, 137, 0, true));
+m1_table02.put(List.of(583, false, false, 0, 0, true));
+m1_table02.put(List.of(2, false, true, 21, 88846, true));
+m1_table02.put(List.of(3, false, false, 59657, 1138, true));
+m1_table02.remove(79086);
+m1_table02.put(List.of(118208, false, true, 0, 7335, false));
+m1_table02.put(List.of(0, true, true, 2, 0, false));
+m1_table02.put(List.of(80, false, false, 0, 0, false));
+m1_table02.put(List.of(0, true, true, 0, 0, false));
+m1_table02.put(List.of(334, false, true, 0, 0, false));
+m1_table02.remove(5511);
+m1_table02.get(0);
+m1_table02.remove(5089);
+m1_table02.put(List.of(48, false, true, 44, 0, true));
+m1_table02.put(List.of(41, false, false, 0, 0, false));
+m1_table02.put(List.of(0, true, false, 0, 5, true));
+m1_table02.put(List.of(0, false, true, 0, 0, false));
+m1_table02.put(List.of(0, false, true, 0, 0, false));
+m1_table02.put(List.of(0, false, false, 0, 2, true));
+m1_table02.get(4);
+m1_table02.put(List.of(121228, false, true, 0, 0, false));
+m1_table02.put(List.of(0, false, true, 0, 22, false));
+m1_table02.get(0);
+m1_table02.remove(12);
+m1_table02.put(List.of(0, false, true, 0, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, false, 0, 0, false));
+m1_table02.put(List.of(486, false, false, 35, 19, true));
+m1_table02.put(List.of(0, false, false, 0, 54619, false));
+m1_table02.put(List.of(597, false, true, 12, 0, false));
+m1_table02.get(0);
+m1_table02.put(List.of(1062, true, false, 0, 39388, false));
+m1_table02.remove(0);
+m1_table02.get(0);
+m1_table02.put(List.of(12330, true, true, 0, 0, true));
+m1_table02.put(List.of(84, true, false, 0, 0, true));
+m1_table02.put(List.of(690, false, false, 1, 348, true));
+m1_table02.put(List.of(0, true, false, 0, 0, true));
+m1_table02.put(List.of(5, true, false, 1027, 1, false));
+m1_table02.put(List.of(0, false, true, 3, 0, true));
+m1_table02.put(Arrays.asList(39287, false, null, 0, 0, true));
+m1_table02.put(List.of(796, true, true, 0, 0, false));
+m1_table02.put(List.of(78359, false, true, 0, 1097, true));
+m1_table02.remove(23018);
+m1_table02.put(List.of(0, true, false, 429, 2820, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, false, 0, 0, true));
+m1_table02.put(List.of(14, false, false, 2, 0, false));
+m1_table02.remove(1105);
+m1_table02.put(List.of(297, false, true, 5, 260, true));
+m1_table02.remove(0);
+m1_table02.remove(290);
+m1_table02.put(List.of(74, true, false, 0, 15674, true));
+m1_table02.put(List.of(0, false, false, 0, 4, false));
+m1_table02.get(0);
+m1_table02.put(List.of(56, true, true, 0, 0, false));
+m1_table02.put(List.of(0, true, true, 3376, 1, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(652, false, false, 0, 0, true));
+m1_table02.put(List.of(0, true, true, 2414, 0, true));
+m1_table02.put(List.of(3391, true, true, 0, 31, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(3, true, false, 3, 5, false));
+m1_table02.put(List.of(1018, false, false, 0, 3, false));
+m1_table02.put(List.of(0, true, true, 14, 703, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 0, 28274, false));
+m1_table02.put(List.of(66, true, false, 4, 0, true));
+m1_table02.put(Arrays.asList(0, true, null, 0, 2, false));
+m1_table02.get(206);
+m1_table02.put(List.of(0, true, true, 0, 48, false));
+m1_table02.put(Arrays.asList(701, null, true, 0, 29760, true));
+m1_table02.put(List.of(671, false, false, 713, 0, true));
+m1_table02.put(List.of(0, true, false, 712, 0, true));
+m1_table02.put(List.of(0, true, true, 450067, 2, false));
+m1_table02.put(List.of(0, true, true, 0, 195, false));
+m1_table02.remove(38681);
+m1_table02.put(List.of(253, false, false, 434, 42, false));
+m1_table02.get(33890);
+m1_table02.get(0);
+m1_table02.put(List.of(385, true, false, 0, 1204, false));
+m1_table02.remove(109823);
+m1_table02.remove(9);
+m1_table02.put(List.of(208, false, false, 16, 756, false));
+m1_table02.put(List.of(1677, false, true, 924, 1, true));
+m1_table02.put(List.of(0, false, true, 255, 15, false));
+m1_table02.put(List.of(179983, true, true, 0, 110, true));
+m1_table02.put(List.of(1, false, false, 42, 10, true));
+m1_table02.remove(0);
+m1_table02.get(2335);
+m1_table02.remove(65287);
+m1_table02.get(1);
+m1_table02.get(0);
+m1_table02.remove(15);
+m1_table02.put(List.of(0, true, false, 9, 4, false));
+m1_table02.put(List.of(0, true, false, 13467, 0, true));
+m1_table02.remove(2);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, false, 0, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(25632, true, false, 76, 570731, true));
+m1_table02.get(24);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, true, 8023, 0, true));
+m1_table02.remove(0);
+m1_table02.get(87060);
+m1_table02.put(List.of(27507, true, false, 0, 0, true));
+m1_table02.put(List.of(0, true, true, 31, 936, true));
+m1_table02.put(List.of(3899, true, false, 528, 0, false));
+m1_table02.put(List.of(0, true, false, 52, 130, true));
+m1_table02.get(44);
+m1_table02.remove(33);
+m1_table02.get(37);
+m1_table02.put(List.of(16405, false, true, 4502, 3065, false));
+m1_table02.put(List.of(0, true, false, 0, 798, true));
+m1_table02.put(List.of(0, false, false, 57064, 126, true));
+m1_table02.put(List.of(139050, true, true, 0, 202, true));
+m1_table02.put(List.of(347, true, true, 1552, 0, true));
+m1_table02.put(List.of(0, false, false, 0, 0, true));
+m1_table02.put(List.of(0, true, false, 41, 2333, true));
+m1_table02.get(46);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, false, 0, 3, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(330, true, true, 0, 1011, false));
+m1_table02.remove(32502);
+m1_table02.put(List.of(14, true, true, 0, 75, true));
+m1_table02.put(List.of(111, true, true, 47, 0, false));
+m1_table02.put(List.of(2, true, false, 179, 0, false));
+m1_table02.remove(19);
+m1_table02.get(0);
+m1_table02.get(1);
+m1_table02.put(List.of(0, false, false, 0, 56, true));
+m1_table02.put(List.of(6, false, false, 24, 0, false));
+m1_table02.put(List.of(0, false, true, 5, 14, true));
+m1_table02.put(List.of(285, true, false, 100, 11, true));
+m1_table02.put(List.of(0, true, true, 26386, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(3999, true, false, 0, 47, false));
+m1_table02.put(List.of(0, false, false, 0, 0, true));
+m1_table02.put(List.of(60, true, true, 1, 79, true));
+m1_table02.put(List.of(4678, true, true, 0, 0, false));
+m1_table02.put(List.of(5, false, true, 3, 1, true));
+m1_table02.put(List.of(2884, false, true, 2387, 0, false));
+m1_table02.put(List.of(198, true, false, 2, 0, false));
+m1_table02.put(List.of(177, true, true, 34, 488, false));
+m1_table02.put(List.of(0, false, false, 0, 6645, true));
+m1_table02.put(List.of(34, false, false, 0, 7027, false));
+m1_table02.put(List.of(9913, true, false, 0, 0, true));
+m1_table02.put(List.of(1, true, false, 243, 48929, true));
+m1_table02.put(List.of(0, false, false, 37, 688, false));
+m1_table02.put(List.of(0, false, false, 136, 0, true));
+m1_table02.put(List.of(0, true, false, 0, 0, false));
+m1_table02.remove(0);
+m1_table02.remove(7601);
+m1_table02.put(List.of(6, false, false, 1, 0, false));
+m1_table02.put(List.of(757, false, true, 0, 0, true));
+m1_table02.remove(6);
+m1_table02.put(List.of(0, false, false, 270, 0, false));
+m1_table02.put(List.of(82, true, true, 0, 1292, false));
+m1_table02.remove(5274);
+m1_table02.put(List.of(0, true, false, 0, 1942, false));
+m1_table02.put(List.of(0, false, false, 925, 16, true));
+m1_table02.put(List.of(7, false, true, 167329, 70306, false));
+m1_table02.put(List.of(45, false, true, 0, 2, true));
+m1_table02.put(List.of(107, false, true, 6053, 735, true));
+m1_table02.put(List.of(0, false, true, 3, 0, false));
+m1_table02.put(List.of(0, true, false, 8345, 0, false));
+m1_table02.put(List.of(0, true, true, 3422, 0, true));
+m1_table02.remove(3367);
+m1_table02.put(List.of(2, true, true, 4200, 0, true));
+m1_table02.put(List.of(0, true, false, 0, 52, false));
+m1_table02.remove(44);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 16, 161, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(7, true, false, 47, 33, true));
+m1_table02.put(List.of(4, false, true, 0, 1303, false));
+m1_table02.get(9302);
+m1_table02.remove(51364);
+m1_table02.put(List.of(19, true, false, 0, 397, true));
+m1_table02.put(List.of(520, false, false, 0, 3, false));
+m1_table02.put(List.of(131, false, true, 1, 22, false));
+m1_table02.put(List.of(0, true, false, 74, 337, true));
+m1_table02.put(List.of(142, false, true, 2047, 43, false));
+m1_table02.put(List.of(0, true, false, 0, 0, true));
+m1_table02.put(List.of(96, false, true, 14, 0, true));
+m1_table02.put(List.of(4, false, true, 210, 0, false));
+m1_table02.put(List.of(88572, false, false, 229, 0, false));
+m1_table02.put(List.of(0, false, false, 11016, 1002, true));
+m1_table02.put(List.of(2, true, false, 0, 1, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, false, 0, 711, false));
+m1_table02.get(0);
+m1_table02.put(List.of(0, true, false, 1430, 225, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(112, false, false, 92, 1, false));
+m1_table02.put(List.of(1, false, false, 6, 57872, true));
+m1_table02.put(List.of(150, true, true, 682, 4, true));
+m1_table02.put(List.of(13, false, false, 13160, 50, true));
+m1_table02.put(List.of(0, false, false, 25995, 36727, true));
+m1_table02.put(List.of(197, false, true, 0, 0, true));
+m1_table02.put(List.of(31, true, true, 0, 36, false));
+m1_table02.put(List.of(0, false, false, 4360, 30656, true));
+m1_table02.put(List.of(2076, true, false, 0, 0, true));
+m1_table02.remove(0);
+m1_table02.remove(0);
+m1_table02.put(Arrays.asList(0, true, true, 25, 4, null));
+m1_table02.put(List.of(0, false, true, 3965, 0, true));
+m1_table02.remove(2023);
+m1_table02.put(Arrays.asList(55, null, false, 4, 0, true));
+m1_table02.put(List.of(0, true, true, 33, 0, true));
+m1_table02.remove(0);
+m1_table02.remove(14);
+m1_table02.put(List.of(0, false, true, 0, 1, false));
+m1_table02.put(List.of(68, false, true, 4, 0, true));
+m1_table02.remove(87944);
+m1_table02.remove(0);
+m1_table02.put(List.of(78743, true, true, 0, 163726, false));
+m1_table02.remove(9);
+m1_table02.put(List.of(0, false, true, 0, 496, false));
+m1_table02.remove(0);
+m1_table02.remove(28);
+m1_table02.put(List.of(0, false, false, 0, 28, false));
+m1_table02.put(List.of(163, false, true, 0, 5747, false));
+m1_table02.remove(1008);
+m1_table02.put(List.of(0, false, false, 4989, 0, true));
+m1_table02.put(List.of(2, false, true, 0, 0, true));
+m1_table02.put(List.of(2442, false, false, 4, 0, false));
+m1_table02.put(Arrays.asList(null, true, true, 0, 0, true));
+m1_table02.put(List.of(13, false, false, 4, 5, true));
+m1_table02.put(List.of(0, true, false, 6, 8, false));
+m1_table02.put(List.of(1, true, false, 0, 2, false));
+m1_table02.put(List.of(0, true, false, 184183, 0, true));
+m1_table02.put(List.of(1, false, false, 9, 10, false));
+m1_table02.put(List.of(0, true, false, 213, 8264, true));
+m1_table02.put(List.of(0, false, false, 68, 2742, true));
+m1_table02.get(166);
+m1_table02.put(List.of(5692, true, false, 775, 0, true));
+m1_table02.put(List.of(0, false, false, 0, 0, true));
+m1_table02.put(List.of(68387, false, false, 13239, 0, false));
+m1_table02.put(List.of(295, false, true, 0, 319, false));
+m1_table02.put(List.of(1456, true, true, 126, 112, true));
+m1_table02.put(List.of(0, true, false, 30, 5514, true));
+m1_table02.put(List.of(0, true, false, 0, 5756, false));
+m1_table02.put(List.of(0, false, false, 16676, 0, false));
+m1_table02.put(List.of(711, false, true, 0, 0, true));
+m1_table02.put(List.of(0, true, true, 1190, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(51992, true, false, 21, 5576, true));
+m1_table02.put(Arrays.asList(null, false, true, 1, 393, false));
+m1_table02.put(List.of(0, false, false, 0, 173, true));
+m1_table02.put(List.of(716, false, true, 0, 1058, false));
+m1_table02.put(List.of(0, true, false, 0, 3, true));
+m1_table02.get(1484);
+m1_table02.put(List.of(0, false, true, 18, 0, true));
+m1_table02.remove(1320);
+m1_table02.put(Arrays.asList(34, true, false, 152, null, false));
+m1_table02.put(List.of(0, true, false, 0, 21, false));
+m1_table02.put(Arrays.asList(177, null, false, 0, 5, true));
+m1_table02.put(List.of(0, true, false, 633656, 0, true));
+m1_table02.remove(9);
+m1_table02.put(List.of(0, true, true, 0, 2, true));
+m1_table02.put(List.of(0, true, true, 1091, 14, false));
+m1_table02.put(List.of(0, true, false, 0, 20, true));
+m1_table02.put(List.of(1464, true, true, 0, 0, true));
+m1_table02.put(List.of(779, true, true, 0, 20, true));
+m1_table02.put(List.of(4180, false, false, 0, 11678, false));
+m1_table02.put(List.of(10, false, true, 0, 0, false));
+m1_table02.put(List.of(0, true, false, 249, 203617, false));
+m1_table02.put(List.of(17004, true, false, 1154, 7, true));
+m1_table02.put(Arrays.asList(16, null, false, 108, 0, true));
+m1_table02.put(List.of(0, true, false, 33, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(39, false, false, 0, 59, false));
+m1_table02.put(List.of(16643, true, true, 0, 3, true));
+m1_table02.get(556);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, false, 0, 0, true));
+m1_table02.put(List.of(307, false, false, 0, 0, true));
+m1_table02.put(List.of(0, true, false, 0, 351, false));
+m1_table02.remove(171);
+m1_table02.get(0);
+m1_table02.put(List.of(865, true, true, 1833, 13, false));
+m1_table02.put(List.of(1312, false, true, 0, 676, true));
+m1_table02.put(List.of(71, false, false, 0, 61, false));
+m1_table02.put(List.of(198, true, true, 2456, 11, false));
+m1_table02.put(List.of(0, true, true, 283, 0, false));
+m1_table02.put(List.of(0, false, false, 0, 6, true));
+m1_table02.put(List.of(76, false, true, 1, 0, true));
+m1_table02.remove(1);
+m1_table02.put(List.of(0, true, false, 26, 98, false));
+m1_table02.put(List.of(0, true, false, 154, 0, false));
+m1_table02.put(List.of(317, true, true, 0, 208, true));
+m1_table02.put(Arrays.asList(0, true, null, 0, 470, false));
+m1_table02.put(List.of(0, true, true, 0, 67, false));
+m1_table02.put(List.of(81259, true, false, 723, 0, false));
+m1_table02.remove(2051);
+m1_table02.put(List.of(0, true, true, 0, 0, false));
+m1_table02.put(List.of(0, false, false, 0, 48875, false));
+m1_table02.put(List.of(0, true, false, 10, 229, true));
+m1_table02.put(List.of(0, true, false, 129, 0, false));
+m1_table02.put(List.of(0, false, true, 24075, 0, false));
+m1_table02.get(1);
+m1_table02.put(List.of(72752, true, true, 0, 90, false));
+m1_table02.get(3116);
+m1_table02.put(List.of(19, true, true, 0, 3642, true));
+m1_table02.put(List.of(1881, false, false, 0, 165, false));
+m1_table02.put(List.of(0, true, false, 9, 0, false));
+m1_table02.put(List.of(0, false, false, 207, 0, true));
+m1_table02.put(List.of(12033, true, false, 0, 7924, false));
+m1_table02.remove(1);
+m1_table02.put(List.of(0, true, false, 586, 0, false));
+m1_table02.put(List.of(0, false, true, 728, 23, false));
+m1_table02.put(List.of(543, false, true, 1765, 1737, false));
+m1_table02.put(List.of(6, true, false, 6901, 0, true));
+m1_table02.put(List.of(116629, true, false, 0, 0, false));
+m1_table02.get(3635);
+m1_table02.remove(20);
+m1_table02.put(List.of(265, true, true, 184, 0, false));
+m1_table02.remove(66);
+m1_table02.put(List.of(0, false, false, 0, 284, false));
+m1_table02.get(73);
+m1_table02.put(List.of(0, true, true, 2, 27, true));
+m1_table02.put(List.of(5223, false, false, 284, 0, true));
+m1_table02.put(List.of(144731, true, true, 0, 10, true));
+m1_table02.get(66);
+m1_table02.remove(0);
+m1_table02.remove(0);
+m1_table02.put(List.of(77, true, true, 0, 0, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(7, true, false, 0, 366, false));
+m1_table02.put(List.of(1693, false, true, 0, 10, false));
+m1_table02.put(List.of(89, false, false, 21, 0, false));
+m1_table02.put(List.of(109, true, true, 0, 13, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(52, true, true, 0, 0, true));
+m1_table02.put(List.of(0, true, true, 0, 26, false));
+m1_table02.put(List.of(0, true, true, 669, 0, true));
+m1_table02.put(List.of(0, true, false, 1, 255, false));
+m1_table02.remove(0);
+m1_table02.get(0);
+m1_table02.get(2149);
+m1_table02.put(List.of(0, false, true, 1, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(22, true, false, 0, 11, false));
+m1_table02.put(List.of(0, false, false, 0, 981, false));
+m1_table02.put(List.of(245, true, false, 15682, 0, true));
+m1_table02.put(Arrays.asList(61, true, true, 0, 30, null));
+m1_table02.get(30995);
+m1_table02.put(List.of(112217, false, false, 3, 0, false));
+m1_table02.remove(11611);
+m1_table02.put(List.of(161, false, true, 0, 0, true));
+m1_table02.put(List.of(5193, true, true, 0, 0, true));
+m1_table02.put(List.of(4, false, false, 1, 877, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(597, false, true, 0, 655, false));
+m1_table02.put(List.of(0, true, false, 0, 0, false));
+m1_table02.put(List.of(56, true, false, 0, 153037, false));
+m1_table02.put(Arrays.asList(null, true, true, 0, 0, false));
+m1_table02.get(0);
+m1_table02.put(List.of(0, true, false, 0, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(1, false, true, 8277, 0, false));
+m1_table02.get(1);
+m1_table02.put(List.of(97, false, false, 0, 801, false));
+m1_table02.put(List.of(327, true, true, 3586, 1, true));
+m1_table02.put(List.of(0, false, false, 0, 38, false));
+m1_table02.get(1959);
+m1_table02.put(List.of(0, false, true, 0, 76, false));
+m1_table02.put(List.of(0, false, false, 0, 1, true));
+m1_table02.put(List.of(0, true, true, 176, 19, true));
+m1_table02.put(List.of(0, false, false, 1, 0, true));
+m1_table02.put(List.of(10940, false, false, 30, 4223, false));
+m1_table02.put(List.of(5, false, false, 0, 329, true));
+m1_table02.put(List.of(61, true, true, 0, 4, false));
+m1_table02.put(List.of(91, false, true, 76, 0, true));
+m1_table02.put(List.of(28, true, false, 28, 5492, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, false, 359, 67653, true));
+m1_table02.put(List.of(9, false, false, 0, 158, true));
+m1_table02.remove(130);
+m1_table02.put(List.of(8, false, false, 166, 3324, true));
+m1_table02.put(List.of(91860, false, false, 23767, 2977, false));
+m1_table02.put(Arrays.asList(11960, false, true, 235, 0, null));
+m1_table02.put(Arrays.asList(17, true, null, 2661, 0, true));
+m1_table02.put(List.of(38, false, true, 8, 0, true));
+m1_table02.put(List.of(77, false, false, 29727, 11098, false));
+m1_table02.put(List.of(7399, false, false, 0, 395, false));
+m1_table02.remove(29);
+m1_table02.put(List.of(0, true, false, 0, 0, true));
+m1_table02.put(List.of(0, true, false, 0, 1200, false));
+m1_table02.put(List.of(0, false, false, 31, 0, false));
+m1_table02.get(0);
+m1_table02.put(List.of(1, false, false, 0, 0, true));
+m1_table02.put(List.of(0, true, false, 0, 0, false));
+m1_table02.get(263);
+m1_table02.put(List.of(0, false, false, 20, 5, false));
+m1_table02.put(List.of(88, false, false, 1405, 134, false));
+m1_table02.put(List.of(248, true, false, 0, 15, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(13, false, false, 0, 5347, true));
+m1_table02.put(List.of(0, true, true, 0, 0, true));
+m1_table02.put(List.of(7, false, true, 0, 613, false));
+m1_table02.remove(2);
+m1_table02.put(List.of(74, false, true, 18, 1888, true));
+m1_table02.put(List.of(80261, false, false, 0, 129, true));
+m1_table02.remove(0);
+m1_table02.get(0);
+m1_table02.put(List.of(0, false, false, 10, 0, false));
+m1_table02.put(List.of(2, true, true, 13775, 0, true));
+m1_table02.put(List.of(0, true, true, 7, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(1, true, false, 0, 4, false));
+m1_table02.put(List.of(1705, false, false, 14183, 56199, true));
+m1_table02.put(List.of(0, false, true, 2589, 30, false));
+m1_table02.put(List.of(35427, false, false, 0, 0, false));
+m1_table02.put(List.of(0, true, true, 0, 24, false));
+m1_table02.put(List.of(0, true, false, 3410, 6421, true));
+m1_table02.remove(0);
+m1_table02.get(0);
+m1_table02.put(List.of(28, true, true, 272, 22, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(15, false, false, 0, 0, false));
+m1_table02.put(List.of(0, false, true, 1, 2000, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(84, true, false, 0, 47, true));
+m1_table02.remove(180);
+m1_table02.put(Arrays.asList(null, true, false, 0, 24, false));
+m1_table02.remove(0);
+m1_table02.remove(0);
+m1_table02.remove(691);
+m1_table02.remove(11);
+m1_table02.put(List.of(3, true, true, 0, 0, false));
+m1_table02.put(List.of(411, false, false, 63, 3, true));
+m1_table02.put(List.of(1264, false, false, 0, 0, false));
+m1_table02.get(0);
+m1_table02.put(List.of(14, false, false, 15850, 1, true));
+m1_table02.put(List.of(0, false, false, 0, 0, true));
+m1_table02.get(201);
+m1_table02.put(List.of(634, false, false, 40709, 60, false));
+m1_table02.get(0);
+m1_table02.put(List.of(8, true, false, 0, 146, false));
+m1_table02.remove(16);
+m1_table02.put(List.of(8, false, true, 0, 6, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 11, 0, true));
+m1_table02.put(List.of(10674, false, false, 2, 18730, false));
+m1_table02.put(List.of(11, false, false, 15, 77, true));
+m1_table02.put(List.of(43, false, true, 0, 0, true));
+m1_table02.put(List.of(0, false, false, 0, 0, false));
+m1_table02.put(List.of(137368, true, true, 13, 283526, true));
+m1_table02.put(Arrays.asList(0, false, null, 0, 7, false));
+m1_table02.put(List.of(11, false, true, 32, 6, true));
+m1_table02.remove(8);
+m1_table02.put(List.of(790, false, false, 4961, 209, true));
+m1_table02.put(List.of(3, false, true, 2, 77416, true));
+m1_table02.put(List.of(0, false, true, 2587, 21, false));
+m1_table02.put(List.of(0, false, true, 0, 0, false));
+m1_table02.put(Arrays.asList(null, false, true, 6584, 0, true));
+m1_table02.put(List.of(0, true, true, 0, 0, true));
+m1_table02.put(List.of(0, true, true, 60891, 0, true));
+m1_table02.put(List.of(0, true, false, 16, 94203, false));
+m1_table02.put(List.of(12212, true, true, 0, 324, true));
+m1_table02.put(Arrays.asList(5648, false, null, 5, 0, false));
+m1_table02.remove(0);
+m1_table02.remove(0);
+m1_table02.put(List.of(4, true, true, 138, 2, true));
+m1_table02.put(List.of(0, true, true, 0, 0, true));
+m1_table02.get(0);
+m1_table02.put(List.of(717, false, true, 0, 0, false));
+m1_table02.remove(1);
+m1_table02.put(List.of(62, false, true, 0, 0, true));
+m1_table02.put(List.of(0, true, false, 0, 78, true));
+m1_table02.get(17969);
+m1_table02.get(2);
+m1_table02.put(List.of(0, true, true, 0, 0, false));
+m1_table02.put(List.of(0, true, true, 0, 11667, false));
+m1_table02.get(0);
+m1_table02.put(List.of(32, false, true, 174, 0, true));
+m1_table02.put(List.of(9429, false, true, 0, 22, true));
+m1_table02.put(List.of(0, true, true, 0, 91, false));
+m1_table02.put(List.of(0, false, true, 66, 0, true));
+m1_table02.put(Arrays.asList(0, false, true, 13, 41, null));
+m1_table02.remove(83842);
+m1_table02.put(List.of(999, false, false, 104, 4, false));
+m1_table02.put(List.of(223, true, true, 0, 0, false));
+m1_table02.put(List.of(0, false, false, 298, 4, true));
+m1_table02.get(341);
+m1_table02.put(List.of(0, true, true, 0, 0, false));
+m1_table02.put(List.of(522, false, false, 13361, 25429, false));
+m1_table02.put(List.of(1, true, true, 0, 0, true));
+m1_table02.remove(12133);
+m1_table02.put(List.of(0, true, true, 0, 39, false));
+m1_table02.put(List.of(0, true, true, 4, 1, true));
+m1_table02.put(Arrays.asList(0, false, true, 13, 26, null));
+m1_table02.put(List.of(0, true, false, 0, 7, true));
+m1_table02.put(List.of(0, true, true, 2730, 0, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, true, 5, 2908, false));
+m1_table02.put(List.of(1, false, true, 238, 118, true));
+m1_table02.get(14);
+m1_table02.put(List.of(0, false, true, 966, 15, false));
+m1_table02.remove(32);
+m1_table02.put(List.of(0, false, false, 59, 0, true));
+m1_table02.put(List.of(0, false, false, 0, 1, false));
+m1_table02.put(List.of(348, true, true, 28, 0, false));
+m1_table02.get(33);
+m1_table02.get(1380);
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, false, 40, 103, true));
+m1_table02.put(List.of(17, true, true, 0, 8, false));
+m1_table02.put(List.of(34, true, true, 577, 0, true));
+m1_table02.remove(1);
+m1_table02.put(List.of(227, false, false, 0, 0, true));
+m1_table02.remove(14);
+m1_table02.put(List.of(2, false, true, 4875, 154, true));
+m1_table02.put(List.of(2, true, false, 268, 6064, false));
+m1_table02.put(List.of(605, true, false, 76, 0, true));
+m1_table02.get(3);
+m1_table02.remove(30751);
+m1_table02.put(List.of(1097, false, false, 99, 0, false));
+m1_table02.put(List.of(1, false, false, 5, 21, true));
+m1_table02.put(List.of(0, true, false, 23177, 18, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(4683, true, true, 0, 7866, false));
+m1_table02.put(List.of(454, true, true, 106, 0, false));
+m1_table02.put(List.of(285, true, true, 0, 203, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(14, false, false, 61446, 0, true));
+m1_table02.get(1);
+m1_table02.get(16916);
+m1_table02.put(Arrays.asList(0, null, true, 0, 122, false));
+m1_table02.put(List.of(13, true, true, 129, 70664, true));
+m1_table02.put(List.of(0, false, false, 0, 0, true));
+m1_table02.put(List.of(0, false, true, 0, 0, false));
+m1_table02.put(List.of(0, false, false, 0, 12460, true));
+m1_table02.put(List.of(0, false, true, 0, 0, true));
+m1_table02.remove(29831);
+m1_table02.put(List.of(16, true, false, 0, 0, true));
+m1_table02.put(List.of(2, false, true, 0, 27675, true));
+m1_table02.put(List.of(0, false, true, 0, 108, true));
+m1_table02.remove(408585);
+m1_table02.remove(16);
+m1_table02.put(List.of(848, false, true, 0, 11, true));
+m1_table02.put(List.of(0, false, true, 2, 0, false));
+m1_table02.put(List.of(5, false, false, 0, 30, true));
+m1_table02.remove(0);
+m1_table02.remove(54344);
+m1_table02.remove(63595);
+m1_table02.put(List.of(11, false, true, 7603, 19135, false));
+m1_table02.put(List.of(1212, false, true, 0, 0, false));
+m1_table02.get(0);
+m1_table02.get(15);
+m1_table02.put(List.of(0, false, false, 1600, 105, false));
+m1_table02.put(List.of(0, true, false, 334, 107, true));
+m1_table02.put(List.of(0, true, true, 0, 0, true));
+m1_table02.put(List.of(0, false, false, 0, 7, false));
+m1_table02.put(List.of(760, false, false, 0, 0, true));
+m1_table02.put(List.of(1286, true, true, 0, 572, true));
+m1_table02.put(List.of(39, false, false, 714, 22091, false));
+m1_table02.put(List.of(59614, false, false, 0, 0, false));
+m1_table02.put(List.of(86, true, true, 0, 0, false));
+m1_table02.put(List.of(1108, true, true, 395, 17, false));
+m1_table02.remove(1);
+m1_table02.remove(102);
+m1_table02.put(List.of(382, true, false, 0, 0, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, false, false, 0, 30, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(34, true, false, 23, 0, false));
+m1_table02.get(30);
+m1_table02.put(List.of(2, false, false, 947, 0, false));
+m1_table02.put(List.of(1936, false, true, 35, 4, false));
+m1_table02.put(List.of(0, false, false, 3, 27095, false));
+m1_table02.put(List.of(0, true, true, 0, 893, true));
+m1_table02.put(List.of(5283, true, false, 0, 9, true));
+m1_table02.put(List.of(8, true, false, 10, 1, false));
+m1_table02.put(List.of(2, false, false, 0, 7, false));
+m1_table02.put(List.of(166, false, false, 4811, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(74, false, true, 352, 0, true));
+m1_table02.remove(0);
+m1_table02.remove(0);
+m1_table02.put(List.of(6011, true, false, 1137, 0, true));
+m1_table02.put(List.of(1651, false, true, 3, 0, true));
+m1_table02.put(List.of(0, false, true, 0, 0, false));
+m1_table02.get(0);
+m1_table02.put(List.of(7, false, true, 18, 458170, false));
+m1_table02.get(111);
+m1_table02.put(List.of(0, false, false, 7, 0, true));
+m1_table02.put(List.of(7, true, false, 6, 0, true));
+m1_table02.remove(0);
+m1_table02.remove(3030);
+m1_table02.put(List.of(63, true, false, 0, 1115, false));
+m1_table02.put(List.of(9, false, true, 0, 0, true));
+m1_table02.put(List.of(14, true, true, 0, 0, false));
+m1_table02.put(List.of(20185, true, true, 3790, 19, true));
+m1_table02.get(0);
+m1_table02.put(List.of(0, true, false, 2687, 156432, false));
+m1_table02.put(List.of(465, false, false, 7, 296, true));
+m1_table02.put(List.of(42, true, false, 1633, 0, false));
+m1_table02.put(List.of(0, false, false, 0, 41, false));
+m1_table02.put(List.of(60, true, true, 163082, 0, false));
+m1_table02.get(720);
+m1_table02.put(List.of(0, true, true, 0, 0, false));
+m1_table02.put(List.of(0, false, true, 0, 29, false));
+m1_table02.remove(12621);
+m1_table02.remove(15);
+m1_table02.put(List.of(39, false, false, 5606, 4, true));
+m1_table02.get(0);
+m1_table02.put(Arrays.asList(0, null, false, 0, 7506, false));
+m1_table02.put(List.of(0, false, false, 0, 36, false));
+m1_table02.put(List.of(2222, false, false, 18233, 0, false));
+m1_table02.put(List.of(15, false, false, 3097, 11, true));
+m1_table02.put(List.of(166, true, true, 18, 43, true));
+m1_table02.put(List.of(1, false, true, 0, 2042, true));
+m1_table02.get(0);
+m1_table02.put(List.of(0, false, true, 1, 0, true));
+m1_table02.put(List.of(497, true, false, 0, 207, true));
+m1_table02.remove(0);
+m1_table02.get(0);
+m1_table02.put(List.of(0, true, true, 13, 1, true));
+m1_table02.put(List.of(1, true, false, 134878, 264, true));
+m1_table02.put(List.of(0, false, false, 0, 777, true));
+m1_table02.put(List.of(202074, false, false, 0, 0, false));
+m1_table02.put(Arrays.asList(0, false, false, 0, null, false));
+m1_table02.put(List.of(371, true, true, 1, 0, true));
+m1_table02.remove(69);
+m1_table02.put(List.of(41, false, false, 0, 4508, false));
+m1_table02.put(List.of(41, false, false, 0, 0, false));
+m1_table02.put(List.of(451, true, true, 11, 3, false));
+m1_table02.put(List.of(8, true, true, 1, 0, false));
+m1_table02.put(List.of(1, false, false, 548, 268, false));
+m1_table02.put(List.of(284636, false, true, 0, 0, false));
+m1_table02.put(List.of(12674, true, false, 1114, 0, false));
+m1_table02.put(List.of(1029, false, true, 26, 0, false));
+m1_table02.remove(36269);
+m1_table02.remove(1894);
+m1_table02.put(List.of(943, false, true, 350, 0, true));
+m1_table02.put(Arrays.asList(0, false, null, 0, 18, true));
+m1_table02.put(List.of(1903, true, true, 6905, 7, true));
+m1_table02.remove(1);
+m1_table02.remove(188);
+m1_table02.put(List.of(0, true, true, 0, 11, true));
+m1_table02.put(List.of(5451, false, false, 0, 0, true));
+m1_table02.put(List.of(0, false, false, 0, 0, true));
+m1_table02.put(Arrays.asList(0, false, null, 0, 214, false));
+m1_table02.put(List.of(966, true, true, 1415, 0, false));
+m1_table02.put(List.of(54, true, true, 4175, 0, true));
+m1_table02.put(List.of(0, false, true, 19, 14, false));
+m1_table02.put(List.of(0, true, true, 0, 9769, false));
+m1_table02.put(List.of(423, true, true, 4, 10547, true));
+m1_table02.get(299);
+m1_table02.put(List.of(0, true, false, 22, 0, false));
+m1_table02.put(List.of(17, false, false, 0, 18, false));
+m1_table02.put(List.of(0, false, false, 0, 20, true));
+m1_table02.put(List.of(0, false, true, 1203, 0, true));
+m1_table02.remove(0);
+m1_table02.put(List.of(626, true, false, 0, 8, false));
+m1_table02.put(List.of(0, true, false, 1540, 10896, false));
+m1_table02.put(List.of(0, false, true, 6, 66, false));
+m1_table02.put(List.of(0, false, true, 1761, 0, true));
+m1_table02.put(List.of(0, false, false, 0, 102468, true));
+m1_table02.put(List.of(47, true, true, 0, 0, true));
+m1_table02.put(List.of(29, false, false, 68, 0, true));
+m1_table02.get(1);
+m1_table02.remove(1404);
+m1_table02.put(List.of(5, true, false, 1, 192, false));
+m1_table02.remove(0);
+m1_table02.put(List.of(0, true, false, 0, 55, false));
+m1_table02.put(List.of(0, false, false, 0, 117, false));
+m1_table02.put(List.of(0, true, false, 0, 1, false));
+m1_table02.put(List.of(7, true, false, 8, 2, false));
+m1_table02.put(List.of(0, false, false, 0, 595, false));
+m1_table02.put(List.of(4, false, true, 2255, 31, true));
+m1_table02.put(List.of(0, true, false, 98, 961, true));
+m1_table02.get(12);
+m1_table02.remove(503);
+m1_table02.get(0);
+m1_table02.get(2);
+m1_table02.put(List.of(0, true, false, 38612, 0, true));
+m1_table02.put(List.of(0, true, false, 66, 10, true));
+m1_table02.remove(18);
+m1_table02.get(2);
+m1_table02.put(List.of(0, true, false, 2792, 45546, false));
+m1_table02.put(List.of(0, true, false, 0, 1, true));
+m1_table02.clear();
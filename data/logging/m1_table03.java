@@ -0,0 +1,2003 @@
+// Random Seed: 1762542121
+Table m1_table03 = new HashArrayTable("m1_table03", List.of("da68e", "f1da", "b7205", "c786", "b2f6", "c131", "d2aa", "eeb7", "b179", "dab7", "a615", "cad9", "e473", "a0f2", "de69"), List.of("string", "string", "string", "integer", "integer", "integer", "boolean", "boolean", "boolean", "string", "string", "integer", "integer", "boolean", "boolean"), 9);
+m1_table03.getTableName();
+m1_table03.getColumnNames();
+m1_table03.getColumnTypes();
+m1_table03.getPrimaryIndex();
+m1_table03.clear();
+m1_table03.put(List.of("ed6a", "c9d9", "e08e", 9, 2, 10, true, true, false, "c48b", "e87e", 0, 0, false, false));
+m1_table03.put(List.of("a6c5", "d798", "dae8", 0, 10, 281, true, false, true, "a7837", "c4b8", 0, 0, false, false));
+m1_table03.put(Arrays.asList("ad3b", "f241", "b030", 24306, 0, 0, true, true, true, "cddf", "d1bd", 24, 0, true, null));
+m1_table03.remove("f621");
+m1_table03.get("ad65e");
+m1_table03.put(List.of("d3ea", "bb80", "ade9", 38111, 1446, 0, true, true, false, "f746", "e691", 0, 7, true, false));
+m1_table03.remove("cb80");
+m1_table03.put(Arrays.asList(null, "e0f9", "bd6e", 140, 0, 130392, false, true, false, "d4c2", "e6ec", 36, 0, false, false));
+m1_table03.put(List.of("dc2c", "c86ed", "f2d2", 0, 0, 19, false, false, true, "cbc4", "a526", 0, 4, true, true));
+m1_table03.put(List.of("a298", "a544", "b5ca", 15, 0, 632, false, true, true, "d5eb", "c2bb", 0, 0, true, true));
+m1_table03.put(List.of("e2e2", "d568", "b4fb", 0, 162, 6, false, true, false, "db51", "a2c9d", 1994, 40479, false, true));
+m1_table03.put(List.of("a80d", "eab3", "a6dc", 0, 0, 23496, true, true, false, "ca8e", "b286", 0, 0, false, true));
+m1_table03.put(List.of("a3d9", "d577", "e62a", 50, 0, 989, false, false, true, "e5e0", "d507", 13568, 0, true, false));
+m1_table03.remove("bd2cd");
+m1_table03.remove("c2ed");
+m1_table03.get("be4c");
+m1_table03.put(Arrays.asList("dae6", "f3ea", "abb6", 0, 7053, 1638, null, false, false, "b0af", "ea47", 599, 974, true, true));
+m1_table03.put(List.of("ceb1", "eb43", "c5f3", 0, 3532, 2, true, false, true, "dfb4", "fa72", 626, 0, false, true));
+m1_table03.put(List.of("dfe9", "c304", "cc7e9", 0, 1769, 0, false, true, false, "b57a", "f6de", 2, 0, true, true));
+m1_table03.put(List.of("f007", "a145", "d8b4", 7, 1, 2905, false, false, false, "d60e", "d5ca9", 0, 1, false, true));
+m1_table03.put(List.of("f27e", "c3e2d", "bcb0", 1332, 0, 7696, true, false, true, "c8d5", "ad31c", 23537, 1273, false, false));
+m1_table03.put(List.of("b4b2", "d8fe1", "d6d3", 100, 289, 0, true, true, false, "c6cf", "bb576", 16, 0, false, true));
+m1_table03.get("ab719");
+m1_table03.put(List.of("aa10", "c6b0", "df6f", 1144, 27, 27, false, false, false, "d22e", "a2cd", 0, 1, true, true));
+m1_table03.put(List.of("e3ad", "ac10", "b5ea", 62, 0, 0, true, true, true, "a761", "f870c", 0, 433, false, false));
+m1_table03.remove("ada17");
+m1_table03.get("c6c6");
+m1_table03.put(Arrays.asList("bf16", "bbcc", "b0cd", 1, 34486, 192030, false, true, true, "df14", null, 0, 458, false, true));
+m1_table03.put(List.of("d2708", "cf6b", "beea", 473, 0, 0, false, true, false, "e64e", "a4fa", 249589, 3, true, true));
+m1_table03.put(List.of("e577", "aa085", "a009", 0, 0, 21461, false, true, false, "a7cde", "b669", 47, 0, false, true));
+m1_table03.put(List.of("a55c", "a82a", "dbec", 6112, 1, 880, false, true, true, "abfc2", "fdd9", 0, 5034, true, true));
+m1_table03.put(List.of("b074", "f0ca", "bd3d", 667, 4, 0, true, true, true, "b6a4", "ea0c", 29, 8, false, false));
+m1_table03.get("d7a6");
+m1_table03.put(List.of("a76ff", "f403", "c911", 26, 0, 154632, true, false, false, "e3c9", "fa11", 0, 522, false, true));
+m1_table03.remove("cf91");
+m1_table03.put(List.of("b144", "f658", "a76a5", 415, 0, 0, false, false, false, "a2b8", "d6f3", 1, 1, true, true));
+m1_table03.put(List.of("aa966", "a520", "cb91", 0, 632, 10, false, true, false, "d5745", "e747", 0, 17, false, false));
+m1_table03.put(List.of("d70b", "e443", "d640", 0, 0, 2113, false, false, true, "edaa", "f1400", 707, 0, false, true));
+m1_table03.put(List.of("f494", "c84a", "ffc95", 254, 132, 0, true, true, true, "a570", "ce03", 0, 0, false, false));
+m1_table03.put(List.of("be90", "a4d7", "e885", 7, 1, 0, false, false, false, "c6c228", "a164", 0, 0, true, true));
+m1_table03.get("a219");
+m1_table03.put(List.of("eb73", "c699", "b6b7", 0, 5, 6616, false, false, false, "ef9c", "f793", 0, 0, false, true));
+m1_table03.put(List.of("f20a", "cb2d7", "baab", 27, 30487, 0, true, true, false, "a425", "f0aa", 0, 0, true, false));
+m1_table03.put(List.of("a34a", "f004", "a59d", 2436, 0, 4, false, false, true, "a147", "f669", 1, 0, false, false));
+m1_table03.get("a564");
+m1_table03.put(List.of("bbe9", "f596", "f161", 0, 0, 127, true, false, true, "af97", "f8ca7", 109, 8, false, true));
+m1_table03.get("fbdd");
+m1_table03.get("a0a2");
+m1_table03.put(List.of("df06", "e413", "c06e", 1009, 0, 0, false, true, true, "a4b4c", "b65b", 0, 11, false, true));
+m1_table03.put(Arrays.asList("e032", "c98b", "d21b6", null, 1, 8236, false, false, false, "cee2", "f4e1", 23451, 30589, false, false));
+m1_table03.put(List.of("a5ee", "c3e0", "c9a3", 21, 0, 0, false, true, true, "fcd0", "ada1", 0, 0, false, false));
+m1_table03.put(List.of("a499", "cacc", "f239", 0, 1358, 0, true, true, true, "c5db", "f39ff", 1, 2, false, true));
+m1_table03.put(List.of("e277", "cbd3", "fe37", 0, 0, 50, false, true, true, "ae49", "d8ad", 0, 350, true, true));
+m1_table03.remove("cfad");
+m1_table03.put(List.of("b8e0", "f7d73", "b930", 0, 27, 0, true, true, false, "b999", "f411", 0, 0, false, true));
+m1_table03.put(List.of("e1d5", "cf60", "c3a2", 0, 3, 63, false, true, false, "b3a1", "d292", 0, 110, true, false));
+m1_table03.put(List.of("f1ae", "c060", "dfa2", 30, 0, 0, true, true, false, "c4d9f", "f278", 0, 0, false, false));
+m1_table03.put(List.of("cc1d", "f884", "c1c1", 137, 3, 0, false, true, false, "aca0", "fa55", 0, 0, true, true));
+m1_table03.put(Arrays.asList("ec4d", null, "a258", 0, 15, 0, true, true, false, "daec", "fb79", 72, 3, false, true));
+m1_table03.put(List.of("dd48", "d36f", "a47c", 12, 388, 7, false, true, true, "a986", "c2e9", 11975, 58, true, false));
+m1_table03.remove("e1fd");
+m1_table03.put(List.of("fab6", "ad7b", "eb92", 1, 0, 21, false, false, true, "d99d", "c4692", 4600, 0, false, false));
+m1_table03.get("b40e");
+m1_table03.put(List.of("a66ee", "ac832", "ff8a", 4621, 0, 0, true, true, true, "e098", "a967", 0, 7647, true, true));
+m1_table03.remove("e2ed");
+m1_table03.put(List.of("bd52", "d4e6", "db18", 8, 2, 19, false, true, true, "c06d", "a32c", 0, 1568, true, false));
+m1_table03.remove("d5c6");
+m1_table03.put(List.of("d68b", "a2d3", "cde8", 0, 1623, 342, false, false, false, "a2a7", "a7d6", 101, 0, false, false));
+m1_table03.put(List.of("b73d", "fefa", "d9ca", 118, 868, 17280, true, false, true, "b4ce", "ea43", 11435, 0, false, true));
+m1_table03.put(List.of("d2ea", "a453", "b92b", 4591, 74054, 183, true, false, true, "a35c", "bffc", 157, 5, true, false));
+m1_table03.put(List.of("e69f", "dd39", "d6c4", 0, 0, 94273, false, true, true, "f40d", "d2c7", 0, 1117, false, false));
+m1_table03.put(List.of("c3ee", "f0d7", "aa3c", 0, 0, 0, true, true, true, "ac38", "dbcaa", 4799, 25, false, true));
+m1_table03.put(List.of("a468", "f279f", "e20d0", 51, 0, 123, false, false, false, "b4108", "a1da", 0, 0, false, true));
+m1_table03.put(List.of("b9b7", "cebe", "ee7c", 0, 4962, 1594, true, true, false, "a577", "d50c", 246, 20, true, true));
+m1_table03.put(List.of("aa2b", "a7dd", "acff", 20143, 0, 77204, true, false, true, "c5bb", "a6458", 3133, 0, true, false));
+m1_table03.put(List.of("a8ff", "bbf4", "b7f2", 0, 24750, 128916, false, true, false, "acfa", "a157", 0, 48877, false, true));
+m1_table03.put(List.of("c58e", "e311", "c82e", 2, 0, 5286, true, true, true, "c103", "ca1f", 0, 0, true, true));
+m1_table03.put(List.of("abd7", "eb27", "e4b1", 0, 0, 0, true, true, true, "db5c", "e8741", 0, 0, false, true));
+m1_table03.remove("bb799");
+m1_table03.put(List.of("e8057", "adc5", "b60f", 273, 0, 0, false, false, true, "e0f4e", "b57b", 40672, 97, false, true));
+m1_table03.get("e131");
+m1_table03.remove("afd3");
+m1_table03.put(List.of("b633", "b96b", "e2f3", 0, 0, 12, false, false, true, "e7d44", "f8f3", 24445, 0, false, false));
+m1_table03.put(List.of("e95e", "b09f0", "d4ed", 74, 942, 24, false, true, true, "aa073", "ed7a", 0, 4, false, true));
+m1_table03.remove("ae61");
+m1_table03.put(List.of("e9fa", "cb60", "b9e1", 60, 0, 0, true, false, true, "fb27", "a47f", 39431, 1, true, false));
+m1_table03.put(List.of("f79f", "d872", "bdf2", 0, 1144, 0, false, true, false, "d474", "fa063", 512, 16199, true, false));
+m1_table03.put(List.of("b0d3", "b105", "fff9", 0, 173, 0, true, false, true, "f5fc", "eb42", 555, 0, false, true));
+m1_table03.get("b1db");
+m1_table03.put(List.of("a04cf", "dcdd", "ef23", 0, 10846, 795, false, true, false, "b804", "bfc1", 0, 0, false, true));
+m1_table03.put(List.of("a4a6", "ddc2", "bb62", 82, 115, 16, true, true, true, "d8894", "b70c", 0, 8, true, false));
+m1_table03.put(List.of("a440", "ca7f", "c705", 0, 0, 0, true, true, true, "a68a", "b59b", 12200, 0, true, false));
+m1_table03.get("bda7");
+m1_table03.put(List.of("c3d0", "c172", "a2bd", 0, 5759, 16, false, true, true, "b497", "d420a", 0, 9984, true, true));
+m1_table03.put(Arrays.asList("f2dc", "ac300", "a281", 5, 0, 0, true, true, false, "be8e", "cc53", 9, null, false, false));
+m1_table03.remove("a03ab");
+m1_table03.get("fec8");
+m1_table03.put(List.of("a6b7", "a548", "c4e5", 106, 0, 427, false, false, false, "dfd0", "a59a", 883, 86, true, true));
+m1_table03.put(List.of("b40e7", "f72d", "bd50", 30, 0, 8539, true, true, true, "bd76", "cbca", 1972, 0, false, false));
+m1_table03.put(List.of("bca9", "b6b2c", "c3db", 15, 0, 0, false, true, true, "ba91", "ce33", 33, 0, false, false));
+m1_table03.remove("a351");
+m1_table03.put(List.of("e304", "cbc1", "a997", 0, 0, 0, true, true, true, "d4de", "c3cd", 0, 263, false, true));
+m1_table03.get("ae38");
+m1_table03.get("bdd0");
+m1_table03.put(List.of("c848", "ac64", "ea35", 12, 0, 4, true, true, false, "da4b", "ec381", 1845, 0, false, true));
+m1_table03.put(List.of("c9b4", "aa0e", "a0afe", 24, 0, 0, true, true, true, "cd20", "eec7", 179, 0, false, true));
+m1_table03.put(List.of("ce92", "c785b", "cf7f", 2, 0, 0, true, true, false, "f797", "bc52", 0, 0, false, false));
+m1_table03.get("c682");
+m1_table03.put(Arrays.asList("bd66", "b749", "b2eb", 0, 5170, 1, false, true, false, "ccee", "d499", null, 0, false, false));
+m1_table03.remove("b8d0");
+m1_table03.put(List.of("cff3", "d1b8", "be8a", 0, 2566, 0, false, true, false, "a916", "b598", 0, 0, true, true));
+m1_table03.get("cd3bb");
+m1_table03.remove("c26b");
+m1_table03.put(List.of("a3ead", "c9d3", "afdd", 17, 0, 3398, true, true, false, "c5f5", "c7fa", 167, 0, true, false));
+m1_table03.put(List.of("de11", "e32d", "e3ce", 0, 0, 0, false, true, true, "b51a", "d337", 0, 5270, true, false));
+m1_table03.remove("fd5e");
+m1_table03.put(List.of("a9513", "f417", "a83f", 1437, 3265, 838, false, true, false, "d395", "b838b", 0, 229, false, true));
+m1_table03.put(List.of("ad74", "a740", "ead1", 27, 0, 465, false, false, true, "fb68", "b099", 0, 8, false, false));
+m1_table03.put(List.of("c42a", "afbe", "bb4f", 14274, 0, 0, true, true, false, "ca7d", "df81", 2664, 7309, true, true));
+m1_table03.get("d3c9");
+m1_table03.put(Arrays.asList("db3c", "d519", "a7ed4", 2, 0, 13, false, null, true, "f2ae", "a488", 6, 1, false, true));
+m1_table03.put(Arrays.asList("d444", "fd60", "e358", 0, 29, 0, true, false, false, "c32ab", "bfa9", 0, 53, null, true));
+m1_table03.get("d465");
+m1_table03.put(List.of("e005", "c3dd", "b780", 0, 1, 0, false, false, false, "bc5f", "cbf9", 0, 0, false, false));
+m1_table03.put(List.of("fdb7", "e392", "c7a5", 3, 10, 0, true, false, true, "ecd0", "a45b", 0, 0, true, false));
+m1_table03.put(List.of("c02d", "df3a", "adb2", 1, 0, 25, false, false, false, "a207", "b605", 0, 0, true, true));
+m1_table03.remove("b656");
+m1_table03.remove("a433");
+m1_table03.put(List.of("b836", "b6a7", "a8f3", 423, 0, 6294, false, true, false, "ef8d", "c07c", 0, 1, true, false));
+m1_table03.remove("c8a6");
+m1_table03.put(List.of("c651", "ccfc", "c2985", 0, 0, 558, false, false, false, "a437b", "dbb0", 3, 747, false, true));
+m1_table03.put(List.of("b6c3", "da6c", "bca2", 0, 47, 16, false, false, true, "c524b", "a112", 2, 2, false, true));
+m1_table03.put(List.of("f9cb", "f38b", "d56e", 0, 0, 3, false, true, true, "a8d7", "d186", 7, 0, true, true));
+m1_table03.remove("a70b");
+m1_table03.remove("f1b6");
+m1_table03.put(List.of("b26d", "d6c0", "b4e7", 170, 0, 0, true, false, true, "d853", "ab8f", 0, 0, true, false));
+m1_table03.put(List.of("fd92", "a92e9", "ebd6", 256, 0, 4, false, false, false, "c18c", "b1be", 0, 607, false, false));
+m1_table03.put(List.of("e29c", "c12f", "df98", 3288, 19, 946, true, true, false, "acb7", "e1c9", 12690, 3363, false, true));
+m1_table03.put(List.of("d434", "e01c", "bea3", 9, 2389, 0, true, true, false, "e928", "e57c", 0, 0, true, false));
+m1_table03.put(List.of("dce1", "d48e", "a936", 3587, 0, 1179, false, true, false, "bad5", "c845", 2, 110, true, true));
+m1_table03.get("ad85");
+m1_table03.put(List.of("e485", "fcce", "cc5f", 903, 176, 0, true, true, false, "e386", "dd8d", 1, 16, true, true));
+m1_table03.put(List.of("b2b75", "f9aa", "f940", 299013, 383, 110, true, false, true, "fc21", "f5d0", 5, 0, false, true));
+m1_table03.remove("af712");
+m1_table03.put(List.of("b11f", "ebb3", "c9cf", 0, 9, 103160, true, true, true, "f998", "c0e4", 0, 2, false, true));
+m1_table03.put(List.of("b894", "cecf", "bde3", 0, 14, 0, true, true, true, "da7c", "d158", 890, 0, false, true));
+m1_table03.get("c37f");
+m1_table03.get("de0b");
+m1_table03.put(List.of("b1c7", "b51a8", "f788", 40, 634, 17, false, true, false, "b60a", "bf48", 0, 3, true, true));
+m1_table03.put(List.of("baf7", "df9a", "c3c6", 32, 0, 7552, false, false, false, "d494", "d159", 0, 105, false, true));
+m1_table03.put(List.of("cac6", "f63f", "a435f", 0, 0, 0, true, true, false, "e878", "d189", 0, 2585, false, true));
+m1_table03.put(List.of("a71f", "fdc0", "d5ac", 0, 0, 1440, false, false, true, "fada", "ce77", 5853, 2, true, true));
+m1_table03.put(List.of("bd2a", "e342", "cf19", 1, 0, 0, false, false, true, "de80", "d90e", 29869, 1, true, false));
+m1_table03.put(List.of("d2d0b", "a601", "b407", 4659, 3181, 0, false, false, true, "f700", "e8b6", 0, 0, false, true));
+m1_table03.put(List.of("e170", "aa19", "c0b4", 0, 0, 1, false, false, false, "ae77", "ea88", 132485, 999, false, false));
+m1_table03.put(List.of("cbd2", "e209", "a340", 13, 117181, 0, false, true, true, "cdd7", "bc9c", 0, 0, true, true));
+m1_table03.put(Arrays.asList(null, "b33c", "a992", 58, 0, 0, true, false, true, "a2aa", "a0d6", 2, 0, false, false));
+m1_table03.put(List.of("b250", "b93e", "b546e", 1234, 0, 6, true, true, false, "f97b", "fc38", 0, 37, true, true));
+m1_table03.put(List.of("a6ee", "eaf5", "f66b", 0, 2, 0, true, false, false, "a966", "d4e7", 9, 1, true, false));
+m1_table03.put(Arrays.asList("c45e", "f92f", null, 22, 1, 36, true, true, false, "e247", "f110", 0, 433, true, false));
+m1_table03.remove("e815");
+m1_table03.remove("a825");
+m1_table03.put(Arrays.asList("a4c5", "e2c2", "ccea", 0, null, 4, false, true, true, "fc2f3", "cbe2", 0, 0, true, true));
+m1_table03.put(List.of("e837", "c23c", "fd69", 7, 20, 2, false, true, false, "c024", "d83d", 0, 0, true, true));
+m1_table03.put(Arrays.asList(null, "a040", "c3d9", 5133, 4, 410, false, false, true, "f9a7", "ae85", 33191, 2, true, false));
+m1_table03.put(List.of("c4a28", "dea3", "a88c", 0, 818, 31862, false, true, true, "d291", "cb38", 0, 14, false, false));
+m1_table03.put(List.of("c3ab", "dae0", "ffa7", 11, 85, 18478, false, true, true, "fbbe4", "d118", 0, 322, false, true));
+m1_table03.put(List.of("ea7f", "bc6b", "e6c4", 0, 0, 84, true, true, true, "edcf", "ece9", 14206, 112, false, true));
+m1_table03.put(List.of("f05d", "e1d3", "ca38", 373, 0, 2, false, false, false, "a511", "f2c5e", 19, 0, true, false));
+m1_table03.put(List.of("b091c", "a14c", "aa4bb", 0, 0, 0, false, true, true, "a1d3", "bfaa", 121, 431, true, true));
+m1_table03.put(List.of("d19f", "bb3a", "fc2f", 0, 0, 255, true, false, false, "d0d0", "aa90", 9, 0, true, true));
+m1_table03.put(List.of("c7c1", "ba78", "d7c7", 6, 1370, 3762, false, false, true, "a452", "a8812", 0, 0, false, true));
+m1_table03.put(Arrays.asList("d1af", "b86a", "cb54", null, 4278, 0, false, false, false, "e3e4", "fc8d", 1217, 0, true, true));
+m1_table03.put(List.of("a6f21", "d233", "e02e", 514, 0, 0, true, true, false, "ffc7d", "cd33", 1973, 0, true, true));
+m1_table03.put(List.of("f516d", "b3fd", "e987", 1, 665978, 5, true, false, false, "f790", "bef8", 96757, 0, true, true));
+m1_table03.get("c7ea");
+m1_table03.put(List.of("e664", "d49c", "c71f", 0, 252, 0, false, false, true, "c771", "bd2c", 0, 0, false, true));
+m1_table03.put(List.of("ee604", "ccf0", "a044", 0, 111, 0, false, false, false, "c438", "d412", 82, 0, true, false));
+m1_table03.put(List.of("cdf7", "a525", "fdc5", 0, 76, 39, false, false, false, "beb4", "fb90", 0, 304, false, true));
+m1_table03.put(List.of("a60e", "b76b", "e3f3", 1, 0, 528, true, true, false, "b6e6", "c4f6", 1393, 117, true, true));
+m1_table03.put(List.of("c923", "b5689", "f4df9", 10, 0, 0, true, true, true, "d42d", "da17", 7284, 1915, true, true));
+m1_table03.remove("b697");
+m1_table03.put(List.of("b17e", "d102", "c1a7", 16, 12, 241, true, true, false, "d012", "ae24", 0, 0, false, false));
+m1_table03.put(List.of("ea36", "e84e", "c1f1b", 16, 0, 0, false, false, true, "b942", "af92", 0, 0, true, false));
+m1_table03.remove("af03");
+m1_table03.put(List.of("c581", "afea", "f4a3", 1659, 3, 0, false, true, false, "af269", "ef833", 45, 0, true, true));
+m1_table03.put(List.of("bb3d", "ecbc", "c9a7", 1523, 4801, 9938, true, false, false, "ae92", "b7a7", 275, 1, false, true));
+m1_table03.put(List.of("e114", "e406", "e6f2", 19995, 279, 13, false, true, true, "d725a", "af9e", 19, 781, true, false));
+m1_table03.put(List.of("be57", "e0f8", "efe7", 34, 9, 0, true, true, true, "c129", "a548e", 0, 1, false, true));
+m1_table03.remove("c07f");
+m1_table03.put(List.of("a21e", "f89de", "fe77", 0, 50, 490, true, false, true, "df74", "c3d7", 228, 12037, true, true));
+m1_table03.get("cf42");
+m1_table03.put(List.of("bf18", "e53c", "ab9a", 27, 1235, 0, true, false, false, "fccbd", "f9d4", 0, 0, false, true));
+m1_table03.remove("c4d1");
+m1_table03.put(List.of("e382", "ff3d", "c810", 0, 0, 0, true, true, false, "bbc8b", "a382", 369, 4, true, true));
+m1_table03.put(List.of("c5da", "ea6d", "f7710", 151, 11, 5, true, false, false, "c5eca", "c191", 0, 355, true, false));
+m1_table03.put(Arrays.asList("aeae", "b629", "ce14", 0, null, 0, false, true, false, "dd3e", "ff462", 1, 5, true, false));
+m1_table03.put(List.of("c977", "ce7d", "d425", 7411, 1193, 6, true, true, true, "ca6a9", "fdf6", 0, 530, false, false));
+m1_table03.put(List.of("ed89", "eb0f", "c371b", 28586, 0, 1, true, false, false, "ed17f", "d742", 3857, 64, true, true));
+m1_table03.remove("cc9c");
+m1_table03.remove("b3a9");
+m1_table03.remove("a849");
+m1_table03.put(Arrays.asList(null, "dce0", "e257", 0, 0, 0, false, false, null, "f08a", null, 0, 0, true, false));
+m1_table03.remove("b424");
+m1_table03.remove("be53");
+m1_table03.put(List.of("a8e6", "a93e", "bc28", 0, 10, 0, true, true, false, "f581", "bbcf", 0, 1, false, true));
+m1_table03.put(List.of("affd4", "a272b", "dedd", 82, 20, 0, false, true, true, "b8de4", "e517", 0, 320, false, false));
+m1_table03.put(List.of("bb4e", "e00c", "c0402", 2, 1, 10395, false, true, false, "accc", "fc0f9", 1, 8, false, false));
+m1_table03.put(List.of("b226", "f6ec", "a9132", 0, 0, 10, false, false, true, "a72d", "d99e8", 3, 4, true, true));
+m1_table03.remove("b18b");
+m1_table03.put(List.of("d14a", "b318", "a68c", 0, 0, 1, false, true, false, "a43ad", "fc57", 0, 0, false, true));
+m1_table03.get("da76");
+m1_table03.put(List.of("aae88", "a7fc", "b53e", 319101, 752, 10, false, true, true, "c506", "b234", 0, 13, false, false));
+m1_table03.put(Arrays.asList(null, "a264", "d295", 68, 4788, 1115, false, true, true, "bb89", "f096", 9, 523, true, false));
+m1_table03.remove("bee7");
+m1_table03.put(List.of("abd2", "b4f4", "a038", 0, 16309, 0, true, false, true, "b9af", "b500", 0, 1, true, false));
+m1_table03.put(List.of("f6af", "e981", "dfd9", 112, 0, 0, false, true, true, "f087", "b7b1c", 1, 0, true, false));
+m1_table03.put(List.of("ec7b", "b76a", "f5d6", 0, 0, 0, true, false, false, "c01d", "a391", 7369, 187, true, true));
+m1_table03.put(List.of("dfee", "b8f50", "dc038", 0, 0, 649, true, false, false, "ac74", "a98a", 222, 0, false, true));
+m1_table03.put(List.of("e3e5", "a82c", "d343", 103517, 0, 10, false, true, false, "e7f9", "c379", 0, 36, false, false));
+m1_table03.put(List.of("ee9bd", "bdc5", "f511", 0, 5, 0, true, false, false, "b138", "ac48", 0, 0, true, true));
+m1_table03.put(List.of("bf33", "e754", "cda9", 0, 0, 1363563, true, true, false, "a857f", "e450", 0, 615, true, false));
+m1_table03.put(List.of("f5117", "a2cc", "baaf", 0, 0, 0, false, false, true, "a3b4", "e584", 16, 72, false, true));
+m1_table03.remove("cf40");
+m1_table03.get("a602");
+m1_table03.put(List.of("be72", "a5bd", "fcb6", 0, 1, 0, false, true, true, "a249", "d8d1", 0, 45, true, true));
+m1_table03.put(List.of("b220", "a6dc1", "a71b", 50, 8, 2, false, false, false, "da78", "bde7", 0, 0, true, false));
+m1_table03.put(List.of("edd4", "d62c", "fffe", 1, 0, 0, true, false, true, "d2ed", "acdf", 0, 123062, false, true));
+m1_table03.get("b16a");
+m1_table03.put(Arrays.asList("af18", "c18a", "f2b9", null, 213, 0, false, false, true, "e58b", "f6bd", 363, 0, true, false));
+m1_table03.put(List.of("f105", "dc8d", "c961", 0, 3, 244, true, true, true, "c899", "e143", 1216, 114, false, false));
+m1_table03.put(List.of("af48", "d0fb", "bc3c", 1, 1701, 25, true, false, true, "cdb2", "d038", 279, 2440, false, true));
+m1_table03.get("c4a6");
+m1_table03.put(List.of("a9f5", "df485", "adb4f", 635, 671, 71876, false, true, true, "bb03a", "f770", 1096, 0, false, true));
+m1_table03.remove("aea5");
+m1_table03.put(List.of("c7c6", "e566", "d9eb", 0, 553, 54, true, true, false, "b1ec", "bc42", 13, 35, true, false));
+m1_table03.remove("bfbe");
+m1_table03.put(List.of("e0c0", "b74d", "adaa0", 768343, 18, 0, false, true, true, "cf6a", "aa99", 138, 0, true, false));
+m1_table03.put(List.of("efed", "cd91", "de20", 3, 0, 87, false, true, false, "aee3", "e29e", 6879, 89, false, true));
+m1_table03.put(Arrays.asList("f45ed", "c2afd", "ba07", 0, 6566, 0, true, true, null, "b2b5", "de9d", 0, 2780, true, false));
+m1_table03.get("e65db");
+m1_table03.remove("ad7f");
+m1_table03.put(List.of("faa0", "e015", "b2b1", 0, 0, 0, false, true, false, "b5e3c", "c2c3", 12828, 287751, true, true));
+m1_table03.put(List.of("df3fe", "a0e6", "afaa", 0, 0, 0, true, false, true, "f67f", "a569", 0, 20, false, true));
+m1_table03.remove("f2e1");
+m1_table03.put(List.of("e76d", "a205", "c94b", 52269, 0, 67, false, false, true, "a042", "abb7", 122231, 5192, false, false));
+m1_table03.remove("d935");
+m1_table03.remove("b361");
+m1_table03.put(List.of("abdf", "ca0f", "a719", 3, 6, 0, true, false, false, "ac30", "c907", 0, 5, true, true));
+m1_table03.put(Arrays.asList(null, "ac68", "e502", 70, 0, 0, false, false, false, "a4ee", "ca08", 0, 0, true, true));
+m1_table03.get("b8fc");
+m1_table03.put(List.of("c3ad", "fb11", "ae2e", 424, 623, 0, true, true, false, "ae88", "aa66", 0, 806, false, true));
+m1_table03.put(Arrays.asList("ffb4", "bf55", "c6bc", 0, 13, 13, false, true, true, "bc9b", "b92c", 0, 0, null, true));
+m1_table03.put(List.of("fec0", "fa0c", "df65", 8, 165, 12845, false, false, true, "d359", "d80c", 0, 9752, false, true));
+m1_table03.put(List.of("f3c3", "f92d", "c9d0", 365, 3139, 2, false, true, true, "aef9", "c994", 0, 58, true, true));
+m1_table03.remove("d142");
+m1_table03.remove("f6ae");
+m1_table03.put(List.of("a879", "f74c", "c128", 0, 0, 2712, true, true, false, "e5ff", "be4a", 3, 102235, false, false));
+m1_table03.put(List.of("cc37", "aa3a", "f0c2", 1200, 0, 0, true, false, false, "e3a0", "a0eb", 0, 1, true, true));
+m1_table03.put(List.of("dd71", "a7ed", "f705", 42226, 18881, 1, false, false, false, "a6b85", "adcb", 20777, 6050, true, false));
+m1_table03.put(List.of("ab66", "a4f7", "cf96", 16, 0, 3218, true, true, true, "f8b7", "aa05", 50, 1227, false, true));
+m1_table03.remove("f339");
+m1_table03.get("b5ce");
+m1_table03.remove("dd21");
+m1_table03.remove("f9a4");
+m1_table03.put(List.of("bc8e2", "e42b", "b94d5", 67, 16954, 7820, false, false, false, "bb5e", "e384", 208, 0, false, false));
+m1_table03.put(List.of("afd1", "ef71e", "aab3f", 5292, 78972, 0, true, true, false, "e820", "c454", 0, 416, true, true));
+m1_table03.put(List.of("aa88", "b6e1", "bf49", 863, 0, 449, false, true, true, "b0c8", "c502", 0, 10971, false, false));
+m1_table03.put(List.of("b4d5", "f3e1", "f87a", 173, 557, 531, true, true, true, "d2cb", "d370", 0, 0, true, false));
+m1_table03.put(List.of("e652", "e515", "ef03", 20, 50, 25, false, false, false, "dc737", "d204", 0, 0, true, false));
+m1_table03.put(List.of("ca91", "c346", "cf25", 0, 4, 0, false, true, true, "f252", "dd58", 48, 353, false, true));
+m1_table03.remove("aa83");
+m1_table03.put(List.of("c016", "a0cf", "efa0", 1327, 0, 0, true, false, true, "b85e", "f776", 126, 6, false, false));
+m1_table03.put(List.of("de90a", "d13d", "bceb", 690, 1783, 5, false, true, false, "ab7fd", "ce6e", 4, 179, true, false));
+m1_table03.put(List.of("f799", "a7fd", "cdae", 76, 0, 327, true, false, true, "cc42", "daf5", 0, 10962, true, false));
+m1_table03.remove("a2f5");
+m1_table03.put(Arrays.asList("b287", "f978", "f356", 0, 0, 6, true, true, null, "ba83", "e7ad", 16950, 0, true, true));
+m1_table03.remove("aa13");
+m1_table03.put(List.of("efa5b", "ab7e", "dda8", 0, 0, 0, true, false, false, "ff58", "feb31", 38997, 14, false, true));
+m1_table03.remove("dfc1");
+m1_table03.put(List.of("d7ec", "cdb7", "c8f1a", 3067, 13083, 0, true, false, false, "b28b", "b6e5", 16, 380, true, false));
+m1_table03.remove("d2a6");
+m1_table03.remove("e745");
+m1_table03.put(List.of("e4d3", "ea11", "a804", 0, 5, 0, false, true, false, "b7b4", "ac0d", 127, 0, false, false));
+m1_table03.put(List.of("c196", "f43e", "f3ca", 0, 1236, 0, false, true, true, "a65d", "bb1ac", 0, 0, true, true));
+m1_table03.put(List.of("fc3a", "e7ba", "b0f8", 1055, 0, 0, true, true, false, "d565", "c0cc", 43, 1019, true, false));
+m1_table03.put(List.of("bd98", "afff", "be74f", 10, 21139, 0, true, false, false, "e5b7", "cd54d", 0, 0, false, true));
+m1_table03.remove("ce13");
+m1_table03.put(List.of("fe60", "c70c", "c993", 0, 17, 19, false, false, false, "b33f", "cf85", 0, 6, true, false));
+m1_table03.get("f980");
+m1_table03.put(List.of("a862", "c1aeb", "a012", 14, 1534, 8775, true, true, true, "f730", "b5f2", 0, 3, false, false));
+m1_table03.put(Arrays.asList("c72f", "bdc3", "ef1f", 0, null, 0, false, false, true, "fd1f", "cfb4", 28, 15, false, true));
+m1_table03.put(List.of("b5fa", "a00f", "b7f9", 178, 187320, 173, true, false, true, "cbff", "dd73", 85, 0, false, true));
+m1_table03.remove("ad11");
+m1_table03.put(List.of("d52c", "d982", "c558", 25844, 2, 0, false, false, false, "fff7", "a075", 31, 0, false, false));
+m1_table03.put(List.of("e752", "bd39", "a726", 9610, 1, 0, false, true, false, "a4b3", "ca78", 2547, 0, true, false));
+m1_table03.put(List.of("c396", "bf19", "d087", 0, 555, 0, true, true, false, "be4b", "eb15", 5330, 5, true, true));
+m1_table03.put(Arrays.asList("d0f0", "d8f1", "a3589", 35, 11587, 22178, false, false, true, "ac8e", "a3c5", 1297332, null, false, true));
+m1_table03.put(List.of("ca24", "ce942", "d079", 1672, 3232, 0, false, false, false, "f43a", "d2ba", 399385, 0, true, false));
+m1_table03.put(List.of("f843", "bc24", "f479", 9, 0, 0, true, true, true, "eb6d", "dc8b", 0, 0, false, false));
+m1_table03.put(List.of("a7ecc", "f2cb", "df0a", 41, 3255, 1676, false, true, true, "a79d", "a003", 0, 0, true, true));
+m1_table03.put(Arrays.asList("a64b1", "a4e33", "af54", 0, 1, null, true, true, true, "f42b", "d304", 3257, 15043, false, false));
+m1_table03.get("a891");
+m1_table03.put(List.of("d77e", "b745", "f424", 26262, 0, 0, false, false, false, "febb", "fc7a", 7, 4622, false, false));
+m1_table03.put(Arrays.asList("b8c0", "a8e7", "b9d6", 555, 98, 0, false, null, false, "d673e", "e552", 0, 23, true, true));
+m1_table03.remove("c1d6");
+m1_table03.put(Arrays.asList("fcdd", "f4f0", "d72f", 32, null, 2, true, false, false, "d0cd", "e79ca", 112, 50672, false, false));
+m1_table03.get("c102");
+m1_table03.put(List.of("abf5", "ae0e", "bdef", 0, 2983, 0, false, false, false, "abbb", "f9809", 0, 0, false, false));
+m1_table03.put(List.of("b484", "d43e", "e87b", 0, 1, 297, false, true, true, "d13d7", "e7a4", 0, 24, true, true));
+m1_table03.get("b95e");
+m1_table03.get("b1b2");
+m1_table03.get("de52");
+m1_table03.put(List.of("dec3b", "f5d2", "b491", 0, 2221, 2, true, true, true, "d113", "bea5", 0, 0, true, false));
+m1_table03.put(List.of("bafc", "e128", "eda2", 1122, 0, 0, true, false, false, "af77", "d5a0", 881, 0, true, false));
+m1_table03.put(List.of("adce", "cda3", "d8aab", 0, 0, 391381, false, false, false, "ff85", "aad34", 17, 0, false, false));
+m1_table03.put(List.of("f835", "c780", "e647", 891, 203, 413, true, true, false, "a6c7", "a566", 1, 0, true, false));
+m1_table03.put(List.of("b82d", "c5f0", "f901", 509, 8, 0, true, false, false, "b961", "cbc6", 218, 34659, true, false));
+m1_table03.remove("f4a6");
+m1_table03.put(List.of("ae8b", "b197", "d1c0", 526, 42797, 0, false, true, true, "f3d2", "e0a33", 0, 93075, true, false));
+m1_table03.put(List.of("c055", "cf86", "f097", 0, 8999, 8, false, false, false, "d2eb", "cf95", 27, 0, false, false));
+m1_table03.remove("a3c1");
+m1_table03.put(List.of("e97e", "f492", "d284", 1, 2061, 0, false, true, false, "e116", "d230", 10207, 14326, true, true));
+m1_table03.put(List.of("a4d9", "ef9ee", "b66a", 0, 0, 19, false, false, true, "c644", "c4d8", 151, 839, true, false));
+m1_table03.put(List.of("a8c5a", "b7810", "acc5", 0, 904, 752, false, false, true, "b40b", "bcef", 714, 0, true, true));
+m1_table03.put(List.of("b25e", "e1b8", "a159f", 29, 9, 0, false, false, true, "c942", "c489", 0, 2825, false, true));
+m1_table03.remove("a240");
+m1_table03.remove("d129");
+m1_table03.remove("e71f");
+m1_table03.remove("b859");
+m1_table03.get("c861");
+m1_table03.get("a02e");
+m1_table03.remove("fc43");
+m1_table03.put(List.of("eab1", "cb8e", "e35f", 1, 0, 0, false, true, true, "a79c", "ffb0", 0, 0, false, false));
+m1_table03.remove("c9dc");
+m1_table03.put(Arrays.asList("d121b", "a2b7", "b8dc", 1, 0, null, true, true, true, "a031", "b79d", 425, 427, true, true));
+m1_table03.remove("a2b4");
+m1_table03.put(List.of("d9b7", "f556", "cd898", 4, 0, 2, false, false, false, "f9bf", "e83b", 0, 342, true, true));
+m1_table03.put(List.of("db65", "c78f", "b7a4", 0, 3, 12, true, false, true, "d8bd", "e846", 5990, 0, false, false));
+m1_table03.put(List.of("a739", "d82b", "d085", 0, 0, 30, false, false, false, "e7ce", "aa27", 0, 169, false, true));
+m1_table03.put(List.of("abf4d", "ba30", "d81f", 12580, 8, 2, true, true, false, "c48a", "c6d7", 5748, 0, false, true));
+m1_table03.put(List.of("d220", "de56", "ee49", 3, 3812, 225, false, true, false, "d59ee", "b1fa", 22398, 0, false, false));
+m1_table03.put(List.of("d774", "c9b2", "d29f", 3567, 0, 36, false, true, true, "fc6a", "e496c", 42, 42, false, true));
+m1_table03.put(List.of("bc59", "a10a", "ee75", 2, 0, 51601, false, true, false, "f1a3c", "ee8e", 0, 126, false, false));
+m1_table03.put(List.of("f0d59", "be09", "c828", 6417, 1, 4, true, false, false, "d547", "c318", 677, 1, false, false));
+m1_table03.put(List.of("c8ab8", "c423", "a6b9", 372, 47927, 0, true, false, false, "d71f", "a47a", 0, 3080, true, true));
+m1_table03.remove("e87c");
+m1_table03.put(List.of("a47d6", "f40a", "e23d", 0, 345933, 0, true, false, true, "d97c", "dcae", 2812, 120, false, true));
+m1_table03.put(List.of("a20c", "b6c2", "d7b2", 0, 7189, 0, true, true, false, "ad1b", "d91f", 193, 26319, true, false));
+m1_table03.put(List.of("b82e", "dade", "b548", 619, 0, 0, true, false, false, "b9f3", "bd0f", 313, 3777, true, false));
+m1_table03.put(List.of("ed1f2", "b9a75", "fa47", 2, 10, 21, false, false, true, "b48e6", "d7c0", 0, 9160, true, false));
+m1_table03.put(List.of("a4d6", "adf4", "d3ae", 0, 0, 0, true, true, false, "f2a5", "ea09", 0, 0, false, false));
+m1_table03.put(Arrays.asList("b991", "e2cc", "bd48", null, 1, 0, false, true, true, "fd33", "a3e1", 0, 17792, true, true));
+m1_table03.put(List.of("d3fd", "a2f2", "e46f", 32, 10, 0, true, false, false, "e242", "e5db", 430, 7594, true, false));
+m1_table03.put(List.of("c791", "d055", "f428", 1, 0, 713, true, false, false, "ac92", "a501", 167, 0, true, false));
+m1_table03.put(List.of("cf44", "d67e", "b962", 56, 0, 0, true, true, false, "c9f7", "c702", 0, 0, false, false));
+m1_table03.remove("cde4");
+m1_table03.put(List.of("b8e8", "b911", "e8d8", 45536, 0, 0, false, true, false, "bfa89", "cf0d", 82, 1, false, false));
+m1_table03.put(List.of("c1d2", "a7938", "daf3", 0, 1, 0, false, false, false, "d21d", "c9fc", 965, 0, true, true));
+m1_table03.put(List.of("d37f", "ad6c", "f3a7", 1, 531, 12751, false, true, true, "e69c", "e949", 3, 0, false, false));
+m1_table03.put(List.of("f32f", "e63e", "c3cc", 41, 0, 0, true, true, false, "afa7", "a54b5", 0, 0, false, true));
+m1_table03.put(List.of("d46a", "aba0", "fd29", 0, 0, 899, false, true, false, "c239", "afa5", 0, 0, true, false));
+m1_table03.put(List.of("e8b55", "f67e", "d786", 0, 3959, 2, false, true, false, "fe0e", "dff4", 0, 0, false, true));
+m1_table03.remove("c61b0");
+m1_table03.put(List.of("f732", "c3ac", "ff78", 0, 0, 39, true, true, false, "ae16", "dc9e", 0, 0, false, false));
+m1_table03.put(List.of("df48", "b6ea", "f752", 0, 1403, 43, true, false, true, "e30c", "f133", 0, 3886, false, true));
+m1_table03.get("bf5b");
+m1_table03.put(List.of("bda6", "aa4da", "bf85", 0, 0, 74, false, true, true, "d4f8", "b311", 0, 0, true, true));
+m1_table03.put(List.of("d616", "c2bd", "b9a1", 3798, 136, 153, true, false, true, "a3b0", "ecffb", 11, 15895, false, false));
+m1_table03.remove("ae5b");
+m1_table03.get("c9cc");
+m1_table03.remove("ad48");
+m1_table03.put(List.of("ce97", "dc5a", "c5f2", 0, 0, 0, false, true, false, "dbaa", "beca", 11, 0, false, false));
+m1_table03.put(List.of("f51f", "ce0f", "ca008", 0, 0, 446, true, false, false, "fbd4", "fa0f", 2574, 0, true, true));
+m1_table03.put(List.of("dc86", "ea07", "ee68", 0, 15196, 11, true, true, false, "be1d", "bab4", 561, 100097, false, true));
+m1_table03.put(List.of("eed7", "b6ba", "b568", 0, 0, 0, false, false, true, "a0e0", "d516", 130, 0, true, false));
+m1_table03.put(Arrays.asList(null, "df12", "ab7b", 27, 34, 12, true, false, false, "bc8e", "c521", 0, 32791, false, false));
+m1_table03.put(List.of("a3e3", "e4fe", "ecd1", 0, 1838, 2005, true, true, false, "c428", "c053", 0, 130, false, false));
+m1_table03.put(List.of("e03d4", "b57f", "c32b", 0, 0, 5, false, true, true, "ad4d", "f7504", 178, 0, true, false));
+m1_table03.put(List.of("d44db", "b5bce", "f9c9", 0, 0, 5516, false, false, false, "dfda", "d504", 3547, 4, false, true));
+m1_table03.put(List.of("f661", "ae58", "a68fe", 25425, 0, 0, true, false, false, "a07b7", "e7b9", 0, 35, false, true));
+m1_table03.put(List.of("df86", "f9cf", "b15e7", 0, 3729, 1921, false, false, true, "d3e1", "d75a", 189, 4, true, false));
+m1_table03.put(List.of("ad99", "dc77", "d0aa", 0, 0, 0, true, false, false, "b3727", "fe3e", 1004, 1207, false, true));
+m1_table03.put(List.of("c984", "dc3d", "f461f", 673, 1363, 6, true, false, false, "ed475", "a35f", 2845, 19236, true, true));
+m1_table03.put(List.of("f047", "ad73", "faaa", 0, 0, 0, false, true, false, "dc49", "eb78", 2558, 14, false, false));
+m1_table03.remove("f056");
+m1_table03.put(List.of("e2af", "a1ba2", "e689", 0, 2808, 0, false, false, true, "f4e0f", "d436", 388, 894, true, false));
+m1_table03.put(List.of("fa37", "e8c6", "c4b5", 0, 23994, 0, true, true, false, "e536", "aaee", 0, 130, true, false));
+m1_table03.put(List.of("b265", "bbde", "fde2", 3178, 2, 0, false, true, true, "eae5", "b7c9", 3056, 33, true, false));
+m1_table03.put(List.of("c9aa", "a5b0", "cf7e6", 1978, 0, 606, false, false, true, "cd18", "dcaa", 1, 0, false, true));
+m1_table03.put(Arrays.asList("d45b", "ab92", "bd5c", 0, 1, 285, null, false, false, "e810", "bf24", 200, 50, true, false));
+m1_table03.put(List.of("a9c2", "e091", "b5b4", 0, 133, 0, true, false, false, "be2b", "b8348", 317, 83, true, true));
+m1_table03.put(List.of("f83b", "d96f", "b2758", 0, 0, 73, true, false, true, "f872", "f7b2", 0, 1398415, false, true));
+m1_table03.remove("c0fc");
+m1_table03.put(Arrays.asList("f6e1", "bb16", "d5f9", 0, 23, 70, false, null, true, "a71c", "adbb", 0, 0, false, false));
+m1_table03.remove("d133");
+m1_table03.put(List.of("b2b31", "a04f", "fc2d", 1148, 0, 49, true, false, false, "ad58", "a973", 19, 548, false, true));
+m1_table03.remove("ffbe");
+m1_table03.get("b99cd");
+m1_table03.get("f7f9");
+m1_table03.remove("f264");
+m1_table03.put(List.of("d242", "b89f", "de28", 371390, 17504, 11, false, true, true, "db98", "bec7", 3177, 10, true, false));
+m1_table03.put(List.of("c40e", "d470f", "e548", 34, 7, 0, true, true, false, "c740", "a16a", 3072, 11, false, false));
+m1_table03.put(List.of("f26a", "c0d8", "acd7", 485, 0, 2, false, true, true, "a498b", "c0fe", 1, 2, true, false));
+m1_table03.put(List.of("adf0", "ad118", "d3b4", 1830, 0, 0, true, false, true, "dc6a", "bf111", 0, 23, true, true));
+m1_table03.remove("f95c9");
+m1_table03.get("d46b");
+m1_table03.put(List.of("c059", "f2d8", "c2c8", 0, 0, 827, false, false, false, "cbef", "b094", 1, 224, false, false));
+m1_table03.remove("f932");
+m1_table03.put(List.of("a06d", "b514", "fabd", 0, 589, 6771, false, false, false, "d098", "badfa", 0, 19, false, true));
+m1_table03.remove("c6908");
+m1_table03.put(Arrays.asList("c4ee2", "ddfc", "c9c3", 46, null, 0, false, true, true, "c169", "fbba", 0, 0, true, true));
+m1_table03.put(List.of("f0ad", "cd4a", "a28f", 15880, 281624, 946, false, true, true, "c6e1", "d927", 45, 13, false, true));
+m1_table03.put(Arrays.asList("bda2", "c17d", "ca0d", 0, 0, null, true, true, false, "c6a8", "d580", 66, 2, true, false));
+m1_table03.remove("c6a3");
+m1_table03.put(List.of("b3ff9", "eb87", "b87f", 0, 0, 1286, false, true, false, "e3c5", "e744", 0, 15300, true, true));
+m1_table03.remove("ac25");
+m1_table03.remove("d6e7");
+m1_table03.put(Arrays.asList("cadc", "a6c6", "e8d5", 0, 844, 536, true, true, true, "f0e2", "b95b", 1143, 0, false, null));
+m1_table03.put(Arrays.asList("ca60", "f620", "c044", null, 0, 61, true, true, false, "cbcd", "d191", 1, 0, false, true));
+m1_table03.put(List.of("f542", "bb52", "ae25", 0, 0, 0, false, true, true, "b153", "a551", 0, 0, false, true));
+m1_table03.put(List.of("ed69", "eaa7", "f4fa", 0, 16354, 261, false, true, false, "cdaf", "d9dc", 32875, 8836, true, true));
+m1_table03.put(List.of("a05f4", "a800", "a25f", 77, 0, 0, true, false, true, "d2f1", "a011", 315, 0, false, false));
+m1_table03.put(List.of("a409", "c39e", "ed9e", 1, 12, 179, false, true, false, "c2ba", "eb9f", 0, 198, false, false));
+m1_table03.put(List.of("d7216", "b3ba", "e44b", 26210, 0, 298, true, true, false, "d1a2", "e5c4", 5, 0, false, true));
+m1_table03.put(List.of("ee19", "dbda", "a1e2", 57, 0, 1, false, false, true, "b9ff", "d3e8", 0, 11078, false, true));
+m1_table03.put(List.of("ecf8", "dffdd", "d93b", 5, 26, 0, true, false, true, "bab3", "cd094", 35661, 146573, true, false));
+m1_table03.put(Arrays.asList("fb54", "ae0fd", "e933", 993, 29, null, true, true, false, "f07b", "f454", 0, 4, false, true));
+m1_table03.remove("e0a5");
+m1_table03.put(List.of("da70", "d4064", "cc49", 0, 0, 302749, false, false, false, "b809", "db06", 700, 0, false, false));
+m1_table03.put(List.of("f8db", "f65f", "a9c4e", 147, 5, 0, true, false, true, "aa79", "fa90", 36, 0, true, false));
+m1_table03.put(List.of("c84c", "a019b", "f6eb", 1, 2, 0, true, false, true, "e4ae", "a20a", 0, 7, true, false));
+m1_table03.put(List.of("e562", "a8dd", "e296", 77, 81631, 11398, false, false, true, "cbe0", "dd94", 0, 0, false, true));
+m1_table03.put(Arrays.asList("d7350", "b7e4", null, 0, 4051, 2206, true, true, false, "e4e6", "c3c69", 1109, 2, false, false));
+m1_table03.get("afe6");
+m1_table03.remove("a832");
+m1_table03.put(List.of("bcfa", "acdb", "aab8", 0, 0, 4365, false, false, true, "ad7d", "b0e1", 0, 0, true, true));
+m1_table03.put(List.of("d394", "d4ee", "cf417", 187, 17188, 933, true, false, true, "f9b2", "a4ab", 0, 6775, true, false));
+m1_table03.remove("b0d97");
+m1_table03.put(Arrays.asList("fa34", "bfa5", "b8ae", 0, 0, 48, null, true, true, "fea9", "f0b4e", 0, 77932, false, false));
+m1_table03.put(List.of("d82d", "c82d", "e2ba", 0, 0, 2, true, false, false, "d78b", "bfb7", 7, 178, false, true));
+m1_table03.put(List.of("c76f", "a5b64", "bd79", 0, 5, 68, true, false, false, "d792", "a99b", 488, 3, false, true));
+m1_table03.put(Arrays.asList("adb5", "e9eb", null, 19, 24, 221, false, null, true, "ade6", "ab99", 1213, 196, false, true));
+m1_table03.put(List.of("a801c", "e608", "bccb", 15, 0, 0, false, true, true, "dc9a", "ca1b", 0, 2, false, false));
+m1_table03.remove("bb7d");
+m1_table03.put(List.of("a029", "f7a0", "fc7f", 0, 284, 2, true, true, true, "a9bd9", "c19f9", 0, 0, false, true));
+m1_table03.put(List.of("f358", "a7ba", "eb94", 9, 0, 2, true, false, true, "c71b", "d6ba", 4080, 631, false, true));
+m1_table03.put(List.of("ab62", "e91ff", "a2b6", 0, 0, 0, false, true, false, "f4f3", "f54d", 325, 5761, true, true));
+m1_table03.remove("e103");
+m1_table03.put(Arrays.asList(null, "d988", "a2df", 0, 0, 2676, true, false, true, "e2f9", "d01e", 0, 0, true, false));
+m1_table03.put(List.of("e75a", "a57f", "ac28", 20, 1, 4, false, false, true, "a712", "ee790", 10, 37, false, false));
+m1_table03.put(List.of("a300", "d3f2", "fefe", 0, 3, 0, false, true, false, "ac32", "b779", 0, 100, true, true));
+m1_table03.put(List.of("a383", "a3b66", "a21a", 1539, 3, 105, false, false, true, "b38d", "d40c", 2, 1, true, true));
+m1_table03.put(List.of("ff97", "a70d0", "cbcb", 66, 144, 1, false, true, true, "aba1", "aecf", 0, 1, true, false));
+m1_table03.remove("a0b9");
+m1_table03.remove("dc4c");
+m1_table03.put(List.of("ec76", "a8ccd", "ffdd", 27, 0, 0, false, false, true, "bb00", "a3b09", 0, 1106, true, false));
+m1_table03.put(List.of("c1fe6", "b76d", "e661", 0, 15, 17, false, true, false, "f2bb", "f690", 2402, 0, false, true));
+m1_table03.remove("ca9c");
+m1_table03.put(List.of("b399", "eeb9", "f53a", 0, 3533, 0, false, false, false, "a749", "d83a", 0, 78082, false, true));
+m1_table03.remove("b2a9");
+m1_table03.put(Arrays.asList("d25c", "a857", "e8bd", 0, 139, 0, true, null, true, "d520", "a063", 0, 0, false, true));
+m1_table03.put(List.of("eb59", "bb61", "a4b1", 142, 93, 38, false, false, false, "d8eb", "ac6b", 1192813, 75166, false, true));
+m1_table03.put(List.of("f43f", "a5e4f", "f75a", 0, 14, 1, false, true, true, "fee4", "d09e", 67, 11, true, true));
+m1_table03.put(List.of("c536", "a2f8", "bc26d", 575, 0, 19438, false, false, true, "db12", "a375", 0, 0, false, false));
+m1_table03.remove("e1e2");
+m1_table03.put(List.of("a6e6", "e1a5", "d9a1", 605, 18, 19, true, true, true, "b1df2", "b5712", 0, 0, false, true));
+m1_table03.put(List.of("fee6", "cb06", "f6c4", 0, 0, 0, true, true, false, "c4a1", "ac1a", 0, 78, false, false));
+m1_table03.remove("bd99");
+m1_table03.put(List.of("eccb", "a8fa", "f9b7b", 431, 0, 6505, true, true, true, "f5cf", "dbff", 292, 0, true, false));
+m1_table03.put(List.of("b448", "cb0fa", "fbb1", 436, 550, 0, true, false, false, "ff99", "bd11", 0, 0, true, true));
+m1_table03.put(Arrays.asList("a129", "c54c", "f81b", 62, 0, 0, true, false, true, "e16e", "d9e3", 2, 0, false, null));
+m1_table03.put(List.of("a65ac", "cbf1", "baa8", 0, 7, 543, true, true, false, "f5e6", "b454", 1, 13, true, false));
+m1_table03.put(List.of("a310", "d7573", "df77", 7611, 295, 0, true, false, false, "f605", "ad47", 0, 0, false, true));
+m1_table03.remove("b18c");
+m1_table03.put(List.of("e5f98", "d469", "a560", 0, 87, 2195, false, true, true, "a5031", "ccf2", 21320, 0, true, true));
+m1_table03.put(List.of("adc4", "a14f", "cfab", 1079, 0, 12, true, false, true, "d727", "b014", 118, 13, true, false));
+m1_table03.remove("f11e");
+m1_table03.put(List.of("b86b", "b93f", "aefb", 0, 8, 55, true, false, true, "b9a5", "e659", 103, 362, true, false));
+m1_table03.get("f9f6");
+m1_table03.put(List.of("e04a", "a6fe", "ced86", 3428, 0, 0, true, true, false, "aa6a8", "b24b", 0, 7, true, false));
+m1_table03.put(List.of("f532", "d2111", "d04c", 0, 2, 0, true, true, false, "e99dd", "a064", 3, 0, false, true));
+m1_table03.put(List.of("f8fe", "c6e6", "df50", 0, 2, 3, true, false, false, "c7b6", "f93c", 1437, 0, true, false));
+m1_table03.put(List.of("ee7b", "a150a", "fc58", 7342, 8, 6, true, true, false, "a09b", "bd526", 448, 7, true, true));
+m1_table03.put(Arrays.asList(null, "e50c", "c50a", 445, 1, 126018, true, false, true, "cb5f", "a87e", 14313, 122, true, false));
+m1_table03.remove("becd");
+m1_table03.put(List.of("e574", "d0f5", "bec5", 0, 63210, 20, true, true, false, "aeb9", "c11d", 0, 0, true, false));
+m1_table03.remove("fdfa");
+m1_table03.remove("af8a");
+m1_table03.remove("c11a");
+m1_table03.put(List.of("a8cf", "fbdb", "a47b", 6815, 0, 0, true, false, true, "a2ecc", "afc0d", 0, 0, false, false));
+m1_table03.put(List.of("d14e", "c8ea8", "e1e1", 50, 1, 149505, true, true, true, "f78b", "ac9f", 0, 0, false, true));
+m1_table03.get("caa7");
+m1_table03.put(List.of("fc5f", "a9df", "bed3", 0, 39, 0, true, true, true, "bce9", "e891", 39590, 0, true, true));
+m1_table03.put(Arrays.asList("cd86d", null, "f223", 0, 4, 0, false, false, true, "f5cd", "d6502", 0, 0, false, false));
+m1_table03.get("a04d2");
+m1_table03.put(List.of("ab2a", "bb85", "fdda6", 124, 0, 0, true, false, true, "e869", "b65f", 0, 0, true, false));
+m1_table03.remove("a2d9");
+m1_table03.remove("dca2");
+m1_table03.put(List.of("fedb", "a1b2", "b37e", 0, 1, 1, false, false, true, "a3adb", "a363", 0, 5, true, false));
+m1_table03.put(Arrays.asList("d74b", "bca7", "b1ca", 21249, 0, 2122, false, null, true, "f894", "e0ba", 0, 0, true, false));
+m1_table03.put(List.of("faef", "de0a", "a7ce", 0, 54738, 0, false, false, false, "fcb4", "bebe3", 0, 0, false, false));
+m1_table03.put(List.of("a62e2", "bbd8", "f2a0", 0, 0, 21397, false, true, false, "f14d", "be3a", 4010, 0, true, true));
+m1_table03.put(List.of("e45a", "e67d", "af15", 0, 181756, 0, false, true, false, "edbd", "efeb", 2, 0, false, false));
+m1_table03.put(List.of("f4a9", "b6757", "bfaf2", 0, 0, 3, true, false, false, "cd9e", "a87e4", 0, 0, true, false));
+m1_table03.remove("e90e");
+m1_table03.put(List.of("a291", "f4b8", "d652c", 219, 0, 52, false, true, true, "babf", "b13a", 26, 37, false, false));
+m1_table03.get("e807");
+m1_table03.put(List.of("eff1", "b6f85", "fc50", 2711, 0, 0, true, false, true, "b343", "ca701", 0, 62301, true, true));
+m1_table03.put(List.of("b25b", "d521", "b3603", 0, 7121, 0, true, true, true, "c41f", "c1b2", 0, 0, false, true));
+m1_table03.put(List.of("dfe1", "a1d0", "b23f", 0, 1, 97005, true, true, false, "baff", "b288a", 0, 1144, true, false));
+m1_table03.get("c03c");
+m1_table03.put(List.of("ed6d", "a32a", "b0ed", 0, 6088, 0, true, false, true, "ac87", "b610", 1, 2, true, false));
+m1_table03.put(List.of("e751", "bb46", "ad27", 0, 0, 0, true, true, true, "e7b5", "e830", 20096, 0, false, true));
+m1_table03.put(List.of("a8b0", "b1a36", "a846", 1946, 0, 74, true, true, false, "e465c", "d5d1", 1535, 11, true, true));
+m1_table03.remove("fea0");
+m1_table03.put(List.of("a94f", "eb16", "cdf0", 16, 0, 0, true, true, true, "c7e6", "b5d4", 0, 0, true, true));
+m1_table03.put(Arrays.asList("ff509", "c614", "b810", 0, 0, 0, false, true, false, "d0bf", null, 0, 0, false, false));
+m1_table03.put(Arrays.asList("de494", "f2cf", "fb07", 2556, null, 28, true, true, true, "df51", "fdada", 85, 752, false, true));
+m1_table03.put(List.of("e11a", "cf90", "a4a5", 1, 0, 266, false, true, true, "ef42", "e1f4", 125066, 30, true, true));
+m1_table03.put(List.of("faeb", "d49b", "c730", 0, 181, 3510, true, false, false, "b9a8", "eb39", 121, 0, true, true));
+m1_table03.put(List.of("c1ca4", "f8f2", "cedc", 0, 1870, 271, true, true, true, "d536", "bc83", 5, 31, false, false));
+m1_table03.put(List.of("e836", "abc6", "a70e", 169041, 0, 10, false, false, true, "cd72", "c2b00", 0, 343, true, true));
+m1_table03.put(List.of("d64a", "bbd6", "b546", 2860, 184, 0, false, true, false, "af21", "eae0", 0, 2, true, false));
+m1_table03.put(List.of("a93c", "e480", "f171", 1159, 0, 23, false, true, true, "a490", "e218", 0, 0, false, false));
+m1_table03.put(List.of("c7a6", "b005", "dc17", 15, 0, 0, true, true, true, "e82d", "fa04", 35556, 183095, true, false));
+m1_table03.put(List.of("d2e9", "bf3e", "dd76", 348, 0, 0, false, false, true, "b7c8", "e076", 555, 0, false, true));
+m1_table03.put(List.of("bdbb", "e482", "b4d4", 0, 507457, 0, false, true, true, "fafc4", "d44d", 0, 0, true, true));
+m1_table03.put(List.of("fdc9", "c617", "f2867", 260, 7, 21171, true, true, true, "a200", "e4ce", 4, 50, false, true));
+m1_table03.put(Arrays.asList("a71d3", null, "bc2c", 1306, 101, 0, true, false, false, "ff68", "c30c", 0, 871, true, false));
+m1_table03.remove("bfdf");
+m1_table03.put(List.of("a1a5", "fa1f", "e0db", 29, 0, 3, false, false, true, "afc6", "b811", 0, 1, true, false));
+m1_table03.put(List.of("d74a", "f767", "c36c", 248, 0, 21, false, true, true, "e3724", "c7c2", 0, 12, false, false));
+m1_table03.put(List.of("b71c6", "eefb7", "a6c3", 7, 0, 0, true, true, true, "aaa2", "b9146", 0, 0, false, true));
+m1_table03.put(List.of("d187", "bf8d", "ad9a", 90, 155, 0, false, false, true, "c615", "e727", 8, 0, true, true));
+m1_table03.put(List.of("a471", "fe86", "bef1", 0, 0, 0, true, false, false, "c8c2", "bcd91", 966, 0, false, true));
+m1_table03.put(List.of("aec8", "a0151", "b85b", 0, 22, 2782, true, true, false, "c96f", "d9e9", 0, 9397, false, true));
+m1_table03.put(Arrays.asList("cf92", "bf81", "a5eb", 1200, 6408, 0, true, false, false, "e0638", "f9f3", 0, null, false, true));
+m1_table03.remove("f219");
+m1_table03.put(List.of("f0693", "fdc51", "aa96", 674, 0, 1828, true, true, false, "cf78", "bf73", 255, 478, true, true));
+m1_table03.put(Arrays.asList("bd2f", "c883", "fde0", 0, 1, 74814, true, null, true, "bd6b", "fcfd", 35, 223, false, false));
+m1_table03.put(List.of("f34a", "fc06", "ba89", 26125, 0, 1, false, false, false, "c881", "b806", 3760, 215, false, true));
+m1_table03.put(List.of("a774", "f52c2", "ef83", 1947, 0, 805, false, false, false, "cb4c", "b3b7", 0, 2074, true, false));
+m1_table03.get("c0e7");
+m1_table03.put(List.of("dfce", "ceaa", "baf8", 13077, 118, 0, true, false, true, "cdb4", "b850", 0, 96444, false, false));
+m1_table03.put(List.of("c9e0f", "b960e8", "f463", 0, 0, 0, false, true, false, "e6df", "bc06", 196, 0, false, true));
+m1_table03.put(Arrays.asList("e1ef", "f2c5", "dd55", 0, 12789, null, false, true, false, "dc9f9", "e9ab", 1366, 2492, false, true));
+m1_table03.get("be59");
+m1_table03.get("b921");
+m1_table03.put(List.of("b3cc", "e731", "a6709", 32, 1, 460, true, true, true, "a6cd", "f043", 362, 0, false, true));
+m1_table03.put(List.of("b728", "de9e", "cfd7", 0, 0, 0, false, true, false, "bd92", "bdd6", 9, 67, true, false));
+m1_table03.put(List.of("ed38", "e145b", "ea94", 0, 434, 11937, true, false, false, "f7cb", "b7f16", 10, 90, true, false));
+m1_table03.put(List.of("f822", "ef25", "c620", 414, 22246, 20180, false, false, true, "dfdad", "d320", 0, 0, false, false));
+m1_table03.put(List.of("a51a", "cce6", "a53f", 0, 94, 551, true, true, false, "b795", "a6d7", 224414, 1, true, true));
+m1_table03.remove("bcfe");
+m1_table03.put(List.of("b2338", "acf2", "cf81", 0, 741, 0, true, true, false, "e0dc", "f233", 1, 75, false, false));
+m1_table03.put(List.of("cd5f", "f4da", "f340", 10, 0, 49, false, false, false, "afbab", "e290", 4735, 15, true, true));
+m1_table03.put(List.of("dbc3", "aae5a", "efcb", 0, 6, 17788, false, false, false, "d064", "f16a", 559, 10, false, false));
+m1_table03.put(Arrays.asList("def31", "d3c0", "f986", 327, 0, 180, true, false, true, "ffbc", "b855", 1763, null, false, true));
+m1_table03.put(List.of("a8d6", "b9ea", "b3fe", 117, 15705, 0, true, false, false, "e389", "e267", 0, 1645, true, false));
+m1_table03.put(List.of("b089", "a74c", "c6f5", 24, 2, 0, false, false, false, "f55f", "da12", 1, 0, true, true));
+m1_table03.put(List.of("f81e", "b446", "fc31", 32769, 18, 5881, false, false, false, "d468", "fd73", 0, 13404, true, true));
+m1_table03.put(List.of("e4a0", "c58d", "f9af", 17, 238, 0, false, false, true, "ea5f", "ed33", 16, 4437, false, true));
+m1_table03.put(List.of("fe61", "a92d", "d601", 5, 11, 953, true, false, true, "f90f", "b799", 1788, 8, true, true));
+m1_table03.put(List.of("c7d4", "d2e4", "e824", 11, 0, 0, true, true, false, "aed9", "ed240", 604, 28, false, true));
+m1_table03.get("ecb2");
+m1_table03.put(List.of("bc05", "ca12", "a523", 10953, 0, 0, true, true, true, "cd92", "b6ac0", 17, 1970, false, true));
+m1_table03.put(List.of("bdcf", "def9", "a482", 0, 8, 51, false, false, false, "e99a", "ebea", 32, 857, true, false));
+m1_table03.put(Arrays.asList("cdb8", "fdf98", "b705", 20, 0, 0, false, false, true, "dc03f", "b536", 156, null, false, true));
+m1_table03.remove("ca33d");
+m1_table03.put(List.of("ab5c", "c110", "a9bf", 0, 0, 16944, false, false, false, "f960", "e7b7", 0, 0, true, false));
+m1_table03.remove("f200");
+m1_table03.get("ee588");
+m1_table03.get("d713");
+m1_table03.put(List.of("ea3d9", "b808", "e174d", 0, 0, 9, true, true, false, "c39a", "b8cd", 0, 0, false, true));
+m1_table03.remove("f673");
+m1_table03.put(List.of("d65e", "a0145", "d4fd", 0, 0, 100, false, false, false, "e818", "b0b81", 0, 0, true, false));
+m1_table03.put(List.of("a9ca", "fdd1", "af75", 354, 1, 0, true, false, false, "b36a", "ad7c", 0, 79223, true, true));
+m1_table03.put(List.of("cd8f", "d679", "d13e", 4, 3957, 1127, true, true, false, "f445", "b5033", 0, 0, false, true));
+m1_table03.remove("bcd6");
+m1_table03.put(List.of("d974", "cc35", "ffb7", 1, 0, 0, false, true, true, "a619", "c759", 0, 0, false, false));
+m1_table03.get("fdeb");
+m1_table03.put(List.of("bc77", "c3f4", "b8209", 14188, 0, 9465, false, false, false, "da9a", "a521", 0, 123, true, false));
+m1_table03.remove("b9fb");
+m1_table03.put(List.of("d949", "aba72", "a683", 1141, 5011, 11, false, false, false, "aa25", "d0e2", 0, 142, false, false));
+m1_table03.remove("dfc8");
+m1_table03.put(List.of("b2aa", "b583", "aaeb", 0, 8740, 0, false, false, false, "d157", "a6f9c", 0, 0, false, false));
+m1_table03.put(List.of("a0ef", "d668", "eec3", 246, 969, 1, false, true, true, "dec7", "e84c9", 1007, 0, true, true));
+m1_table03.put(List.of("ec73", "a123", "d7fec", 20860, 1037, 11, false, false, false, "e98b", "dbc9", 0, 5469, false, false));
+m1_table03.put(List.of("efe0", "fffa", "dece", 0, 12, 3, true, true, false, "ae4d", "b65a", 0, 1494, true, true));
+m1_table03.put(List.of("aa7a", "a9f9", "bdc1", 0, 525, 7, true, true, false, "e854", "ef07", 0, 17, true, false));
+m1_table03.remove("abc4");
+m1_table03.remove("b132");
+m1_table03.put(List.of("f1c6", "c593", "df2e", 114, 109, 0, false, false, true, "f03f", "db4e", 76, 8461, true, true));
+m1_table03.put(List.of("f03c", "eef4", "ced8", 6, 2, 0, false, false, true, "fb33", "e075", 485, 4, true, true));
+m1_table03.put(List.of("c4fc", "ec15", "c9f9a", 27, 0, 92, true, true, false, "e882", "ac5c", 36, 0, false, true));
+m1_table03.remove("bfd26");
+m1_table03.get("b408");
+m1_table03.put(List.of("ceeb", "c0cb", "e1ba", 1021, 229, 1438, true, false, true, "c913", "e635", 0, 770, false, true));
+m1_table03.put(List.of("a8ccf", "e2907", "f442", 480, 15666, 0, true, false, false, "cda6", "d1fa", 0, 0, true, true));
+m1_table03.put(List.of("b456", "e530", "af94", 0, 0, 0, false, false, false, "a3a8", "a9bd8", 26, 13875, true, false));
+m1_table03.put(Arrays.asList(null, "f914", "fce1", 2121, 0, 0, true, false, false, "a5b5", "e15e", 5333, 1, false, false));
+m1_table03.put(List.of("ae8f", "ede0", "d40b", 110, 28, 4278, true, false, true, "fe56", "cb361", 11542, 0, false, true));
+m1_table03.put(List.of("bee3", "b675", "d428", 18, 0, 2, true, true, false, "fcb5", "c29c", 0, 20788, false, false));
+m1_table03.remove("ab1e8");
+m1_table03.get("bfa30");
+m1_table03.put(List.of("cf4a", "a5f0", "e6ff", 0, 0, 0, true, true, false, "caba", "a60b", 0, 0, false, true));
+m1_table03.remove("b75b");
+m1_table03.put(Arrays.asList("ab32", "fa1a", "e391", 140, 9, 0, null, false, true, "cd1b", "f12b", 149, 1, true, true));
+m1_table03.put(List.of("e550", "d42e", "ab6f", 21283, 0, 32574, false, true, false, "de02", "cf75c", 0, 0, true, false));
+m1_table03.put(List.of("cdf4", "aac2", "ab7f", 50413, 50119, 0, true, false, false, "c825", "b2246", 261, 1257, true, true));
+m1_table03.get("a03d");
+m1_table03.put(List.of("e7fc", "a4a4", "ab4f", 300, 0, 10, true, true, false, "aacc", "c1f4", 0, 0, true, true));
+m1_table03.remove("fb7f");
+m1_table03.remove("f3ee");
+m1_table03.put(List.of("de03", "dede", "b7ddd", 5768, 197, 4, true, false, true, "f273", "b7bd", 135228, 0, false, false));
+m1_table03.put(List.of("ed49", "d61c", "ad62f", 0, 150, 48912, false, true, true, "e262", "b1dd7", 0, 25527, true, true));
+m1_table03.put(List.of("a778", "e994", "c411", 174, 15947, 46, true, true, false, "f149", "eb5a", 68, 1, false, false));
+m1_table03.remove("d9f6");
+m1_table03.put(List.of("e682", "e8a75", "d652", 92, 0, 0, false, true, false, "a5347", "cb6a1", 0, 597, true, false));
+m1_table03.remove("cd35");
+m1_table03.put(List.of("d456", "eb7a", "abe5", 83138, 9, 3559, false, true, false, "ae90", "c7f9", 14, 12, false, false));
+m1_table03.put(List.of("f084", "b888", "a6d0", 0, 1, 10, false, true, false, "c3f67", "a94b", 83, 12075, false, true));
+m1_table03.put(Arrays.asList("ad8c5", "eb80", "a2ad", 135, 0, 34, false, true, null, "d7a0b", "d313", 0, 1, true, true));
+m1_table03.put(List.of("add0", "e055", "f2f2", 17, 0, 34, true, true, false, "bcf2", "efef", 94, 311, true, true));
+m1_table03.put(Arrays.asList("a8551", "f263", "ab38", 0, 0, 4, true, false, true, "d523", "ebd7", 7006, 174, null, true));
+m1_table03.put(List.of("d555", "e89b", "cdb5", 0, 0, 4519, false, true, true, "c66c", "fa4d", 15, 142, false, false));
+m1_table03.put(List.of("ff8f", "b69e", "effe", 0, 75309, 0, false, false, true, "b05b", "bf69", 3903, 0, false, true));
+m1_table03.put(Arrays.asList("d4c8", "dd51", "b334", 24, 15, 0, false, false, true, "cdee", null, 88, 0, false, true));
+m1_table03.put(List.of("a5af", "e6b9", "ac09", 9, 82, 584, true, true, true, "f0ea", "b2ae", 0, 29, false, true));
+m1_table03.put(Arrays.asList(null, "d229", "e529", 298, 1, 12, true, true, false, "f963", "cd4e", 29409, 0, false, true));
+m1_table03.remove("fac99");
+m1_table03.remove("aa4e");
+m1_table03.put(List.of("eb38", "d0ce", "c219", 3254, 0, 0, true, true, true, "c870", "a934", 28736, 0, false, true));
+m1_table03.put(List.of("a48b", "a1cc0", "bd57f", 1, 1563, 0, false, false, true, "ea85", "b2d63", 4, 24, false, false));
+m1_table03.put(List.of("e096", "b914", "e400", 0, 29, 0, false, true, false, "dfa9", "bc4f", 6902, 0, true, true));
+m1_table03.put(List.of("ad37", "a43b", "c60ce", 0, 2, 0, true, true, false, "ee85", "be4a0", 150, 0, false, true));
+m1_table03.put(List.of("a0d7", "cb1d8", "d4e1", 686, 4445, 389, false, false, true, "d3d6", "a467", 0, 0, false, true));
+m1_table03.put(Arrays.asList("f333f", "c356", null, 0, 7, 152031, true, false, false, "b7db3f", "b154", 46, 0, false, true));
+m1_table03.remove("e416");
+m1_table03.remove("af89");
+m1_table03.remove("cd8d");
+m1_table03.put(List.of("f90b", "fb60", "e627", 4502, 0, 7205, false, true, false, "d7d2", "fe702", 0, 3, true, true));
+m1_table03.put(List.of("c812c", "b43b", "b4a3", 6, 366, 0, true, true, false, "cebf", "b676", 92, 0, true, false));
+m1_table03.remove("d4b3");
+m1_table03.put(List.of("d704", "c9f1", "f526", 6651, 2753, 0, true, true, true, "f38c", "a743", 27, 5, false, false));
+m1_table03.put(List.of("f540", "f39d", "da6b", 134, 0, 0, true, false, false, "d42ac", "bd268", 5278, 18, false, true));
+m1_table03.remove("cfb9a");
+m1_table03.put(List.of("e1a7", "d89b", "a7a1", 1467, 109, 1309, true, false, true, "aadf", "cd14", 5397, 0, false, true));
+m1_table03.put(List.of("d9a8", "d3ed", "f674", 0, 0, 0, true, true, false, "eaa66", "a272e", 0, 0, true, true));
+m1_table03.put(List.of("a8b60", "c11b", "b64b", 0, 112491, 1, true, false, true, "f8ee", "c2cf", 0, 26, false, false));
+m1_table03.put(List.of("f6ac", "db90", "d235", 101409, 6599, 0, false, true, true, "d460", "d72e", 5, 18, true, false));
+m1_table03.remove("c802");
+m1_table03.remove("ffb1");
+m1_table03.put(List.of("a82f", "dd82", "c548", 0, 0, 0, true, false, false, "ee701", "bbd18", 691, 15, true, false));
+m1_table03.put(List.of("bdf8", "cda8", "ed5d", 0, 27, 2, false, true, true, "df24", "b0a5", 120, 66466, false, true));
+m1_table03.put(Arrays.asList("ce5f", "d8d3", "e539", 0, 18, 30722, true, false, true, "e8b5", "f931", null, 1715, true, false));
+m1_table03.put(Arrays.asList("e3399", "afba", null, 681, 2, 484, false, true, false, "a7c8", "ee17", 0, 1735, false, true));
+m1_table03.put(List.of("c1e4", "e680", "aa20", 7441, 63, 0, true, true, false, "b4f5", "b54a4", 2, 135, false, true));
+m1_table03.put(List.of("be88", "e60f", "a720", 0, 1440, 7879, false, true, true, "d849", "b6626", 140, 89986, true, true));
+m1_table03.get("f459");
+m1_table03.remove("f3e3");
+m1_table03.put(List.of("a746f", "baba", "b685", 6842, 0, 397, false, true, true, "bd4e", "d5fa", 0, 63, true, true));
+m1_table03.put(List.of("adfd", "c3897", "e5c8", 6724, 0, 17, false, false, true, "f1af", "c1c3", 26, 2, true, false));
+m1_table03.remove("b708");
+m1_table03.put(List.of("faab0", "b14c", "b21a", 0, 0, 1, false, false, true, "f847", "e362", 574, 33266, true, false));
+m1_table03.get("a411f");
+m1_table03.put(List.of("dfb9", "a7640", "e365", 124, 0, 0, false, false, false, "a932", "f10e", 51945, 1, true, true));
+m1_table03.put(List.of("f589", "b263", "f152", 14, 0, 1, true, true, false, "a3f7", "c17b", 0, 0, true, true));
+m1_table03.put(List.of("b455", "f216", "eb83", 0, 0, 0, true, true, true, "b784", "b1ff", 236, 15, true, true));
+m1_table03.put(List.of("bb29", "c6b5", "dd98", 522, 0, 0, false, false, false, "e06d", "b11c", 0, 0, true, true));
+m1_table03.put(List.of("ebd2", "bf3d", "b468", 73, 4, 4410, true, true, false, "af08", "d796", 30189, 0, false, false));
+m1_table03.put(List.of("d997", "e5ac9", "a9b81", 0, 0, 0, false, true, true, "efca", "d9fc", 619, 160, false, true));
+m1_table03.put(List.of("ff75", "bf79", "d5a8", 1654, 370391, 2885, true, false, false, "c808", "ece0", 0, 257, false, true));
+m1_table03.put(Arrays.asList("e44a", "b72a0", "bb30", 48449, 0, 10, null, true, false, "bf46", "e4e9", 0, 0, false, true));
+m1_table03.put(List.of("e8f2", "e628", "a57f3", 0, 9084, 0, true, true, false, "dc40", "a9a4", 0, 4739, false, false));
+m1_table03.put(List.of("d1bb", "dbadd", "f319", 0, 15, 0, false, true, true, "f0d1", "c5a8", 0, 16, false, false));
+m1_table03.put(List.of("c350", "ed82", "db8a", 0, 0, 0, false, true, true, "afb04", "c9d8", 209219, 8, true, false));
+m1_table03.put(List.of("b595", "aa3e", "b3b8b", 5, 22536, 0, false, true, true, "de16", "b61e8", 42, 0, true, false));
+m1_table03.remove("c4db");
+m1_table03.put(List.of("c037", "d280c", "a6b2e", 0, 4763, 10535, false, false, true, "c1fd", "a3e4", 12, 10, false, false));
+m1_table03.put(Arrays.asList("c797", "c71a", "ac90", 21, 9, 2, false, null, true, "d3d4", "e2ee", 2102, 0, false, true));
+m1_table03.put(List.of("ce4e", "e30a", "ff4d", 152, 52, 72, false, false, false, "cf2a", "dd6f", 87, 247, true, false));
+m1_table03.put(List.of("c64eb", "ae86", "cfd5", 29499, 0, 0, false, false, false, "bb21", "dfd8", 13, 3, true, true));
+m1_table03.put(List.of("d076", "bb6c", "d2c0", 1290, 0, 0, true, false, false, "b7fa", "c99a", 0, 6, true, false));
+m1_table03.put(Arrays.asList("aea0", null, "ca23", 1815, 782, 0, false, true, true, "d23c", "eb23", 0, 0, false, true));
+m1_table03.put(List.of("a0fe", "cdb3", "df49", 40784, 151, 0, true, false, true, "ba87", "ec64", 0, 0, false, false));
+m1_table03.put(List.of("f3cb", "a0cf3", "cef7d", 0, 2528, 0, true, true, true, "af1a", "a5f3b", 779633, 0, true, true));
+m1_table03.put(List.of("a516c", "fc3e", "f475", 1971, 219, 0, false, true, false, "a9df5", "a0824", 0, 1496, true, true));
+m1_table03.put(List.of("fce3", "cca7", "e930", 0, 178, 1, true, false, false, "c574", "d3d2", 0, 332, true, false));
+m1_table03.put(List.of("b195", "ef32", "af88", 0, 5, 0, false, false, false, "cd82", "c47d", 21, 0, false, true));
+m1_table03.remove("cc3b");
+m1_table03.put(List.of("d7ba", "f2469", "afd5", 9558, 24735, 3, true, true, false, "c49d8", "b01c", 0, 307, true, true));
+m1_table03.remove("b7e3");
+m1_table03.remove("ec03");
+m1_table03.get("e33e");
+m1_table03.get("f513");
+m1_table03.put(List.of("f099", "c6d9", "cc4af", 0, 0, 1, false, true, false, "bf14", "a3cf", 0, 0, false, true));
+m1_table03.put(List.of("cb811", "ac31", "a02c", 48200, 15, 325, false, false, false, "fb31", "a067", 3186, 7025, false, false));
+m1_table03.remove("b7a9");
+m1_table03.remove("d367");
+m1_table03.put(List.of("ca2c", "db838", "bd6c4", 6812, 0, 9391, false, true, true, "a77c5", "e7a2", 26270, 103, true, false));
+m1_table03.remove("db7a");
+m1_table03.put(List.of("eb20", "abc3", "ccd0", 0, 359, 461, false, true, false, "b84b", "dca0", 163, 0, true, false));
+m1_table03.put(List.of("a86f", "fc30", "a480", 0, 2, 344, false, true, true, "e730", "cb2a1", 14, 0, true, true));
+m1_table03.remove("d79f");
+m1_table03.put(List.of("c8600", "bcc0", "d3a0", 0, 0, 0, true, false, true, "b395", "eed4", 4, 0, false, true));
+m1_table03.remove("c585");
+m1_table03.put(List.of("a791", "f597", "b382e", 0, 581, 30, false, false, false, "ac6a", "d4384", 154339, 248, true, true));
+m1_table03.put(Arrays.asList("b6a1", "c1a2", "feb1", 210, 9035, 0, false, false, false, "af4b", "ab80a", 30, null, false, true));
+m1_table03.remove("bca6");
+m1_table03.get("d98b");
+m1_table03.put(List.of("e86b", "b18a3", "b564", 3855, 341, 16855, true, true, true, "a023", "dedb7", 0, 91, false, true));
+m1_table03.put(List.of("a871", "d6692", "d7bf", 8, 0, 21, true, true, false, "c06b", "d21b", 13333, 0, true, true));
+m1_table03.get("cac8");
+m1_table03.remove("d5df");
+m1_table03.put(List.of("dcbf", "ce61", "b477", 0, 202, 0, false, true, true, "c142", "b16e9", 0, 0, true, true));
+m1_table03.put(List.of("df83", "b062", "ec1d0", 4, 0, 0, true, true, true, "f3a4", "faa5", 0, 39088, true, true));
+m1_table03.put(List.of("be79", "b9d9", "ec40", 1077, 366, 0, false, false, false, "a76e", "ff67", 0, 0, true, false));
+m1_table03.put(List.of("a67f", "c694", "da8d", 0, 5, 42, false, false, false, "d1ca", "bf4e", 3, 1283, false, true));
+m1_table03.put(List.of("b031", "f464", "f419", 0, 2, 0, true, true, false, "cb97a", "fdc39", 4125, 228, true, false));
+m1_table03.put(List.of("bbe8", "d3b85", "baaac", 0, 922, 0, false, true, true, "ff146", "a545", 13, 15402, true, false));
+m1_table03.put(List.of("cb49", "c0ed", "edec8", 349, 0, 0, true, true, false, "a3e7", "e4501", 0, 0, false, true));
+m1_table03.put(Arrays.asList("e764", "a5c7", "eb70", 3187, 0, 25, null, false, false, "d348", "b744", 763, 2, false, true));
+m1_table03.remove("ed1b");
+m1_table03.put(Arrays.asList("b3a0", null, "b46c", 0, 0, 0, false, false, true, "ed7e4", "e334", 1313, 0, false, true));
+m1_table03.remove("b833");
+m1_table03.put(Arrays.asList(null, "a7fa1", "c56f4", 77, 2, 1975, true, true, true, "ac2e", "b8c55", 0, 170, false, false));
+m1_table03.put(List.of("b1c0", "eabd", "e6281", 0, 0, 1026, true, false, false, "db32", "a302", 10, 0, true, true));
+m1_table03.put(List.of("e372", "b66d", "d75e", 0, 0, 0, false, false, true, "ff19f", "d08e", 44346, 18940, true, true));
+m1_table03.remove("c354");
+m1_table03.put(List.of("fe25", "b0c9", "bb22", 12, 0, 11111, true, false, true, "dedc", "e4a13", 0, 9, false, false));
+m1_table03.get("cd96");
+m1_table03.put(List.of("bdff6", "b6b4", "ac89", 2, 0, 1, true, false, true, "be70", "ddbd", 2, 0, true, true));
+m1_table03.put(List.of("f96a", "c3c04", "a49b", 22, 204, 8, false, true, false, "c9615", "ff91", 54925, 716, true, false));
+m1_table03.get("fe35");
+m1_table03.put(List.of("f224", "a713", "b6d9", 0, 0, 0, true, false, false, "b5f6", "a40a", 0, 0, false, false));
+m1_table03.put(List.of("e496", "b5af", "ecf0", 86, 1, 1252, true, true, true, "dd17", "f1f4b", 0, 2312, false, false));
+m1_table03.put(List.of("dd67", "afde", "ea195", 0, 0, 1, false, true, true, "b51b", "b1d80", 13, 3081, false, true));
+m1_table03.put(Arrays.asList("ec8f", "ad3f", "b283", 0, 974, 3, null, false, false, "d505", "be63", 4, 1, false, true));
+m1_table03.put(List.of("c69b", "e43e", "b679", 16, 25, 5, false, false, true, "ba12", "a928", 0, 233, false, false));
+m1_table03.put(List.of("a5f6", "a4a7", "dd05", 1, 367, 0, false, false, true, "b1a6", "dfa6", 1, 1, true, true));
+m1_table03.put(List.of("ba7f8", "a9a6c", "e74e", 0, 0, 0, true, true, true, "de91", "cc73", 0, 0, false, false));
+m1_table03.put(List.of("c3c0", "a0a1", "a47d", 0, 0, 3608, true, false, true, "c2dd", "f0f0", 1380, 6, false, true));
+m1_table03.remove("f215");
+m1_table03.put(List.of("dff2", "c5a2", "c602", 0, 460, 1180, false, false, true, "cf41", "c656", 1, 0, false, true));
+m1_table03.put(List.of("b03b", "f4c3", "c2e0b", 6, 4, 17668, true, false, false, "ef6f", "ae03", 0, 0, true, false));
+m1_table03.put(List.of("db19", "f566", "d604", 418, 51, 12609, false, true, true, "a3ae", "eef6d", 0, 0, true, true));
+m1_table03.put(List.of("c7939", "c1b5", "ce31", 2136, 0, 3266, false, false, false, "d321", "fcc7c", 2, 0, false, true));
+m1_table03.remove("c1c6");
+m1_table03.put(List.of("bba9", "ac2b", "b832b", 12705, 47, 483, true, false, false, "ed444", "b52e9", 4652, 205, false, true));
+m1_table03.remove("c41a");
+m1_table03.put(List.of("e449", "d2e6", "de39", 1, 0, 19, false, true, false, "ba0a", "a7fb", 0, 0, true, false));
+m1_table03.put(List.of("a2e9a", "ec4b", "e6c0", 1673, 20, 9, true, false, false, "f6df", "b1c8", 1, 0, true, true));
+m1_table03.put(Arrays.asList("b9ed", "c3d4", null, 2100, 14033, 1536, false, false, true, "bcf7", "b0a7", 7384, 0, true, false));
+m1_table03.put(List.of("ce83", "fcd4", "d690", 139, 0, 9, true, false, true, "fdca", "d320d", 0, 659, true, true));
+m1_table03.put(List.of("c2c6", "c9db", "e781", 9, 336, 2747, true, false, true, "a9533", "c71d", 40, 0, false, true));
+m1_table03.put(List.of("a304", "c856", "ebf0", 2076, 5582, 1582, true, false, true, "f862", "be0f", 19932, 24, true, false));
+m1_table03.remove("ce79");
+m1_table03.put(List.of("e183", "b632", "bab2", 0, 0, 1, true, true, true, "df3b", "adf7", 0, 51052, true, true));
+m1_table03.put(List.of("e504d", "aade", "b7939", 1, 0, 26, false, true, true, "d169", "b4bd", 1546, 0, true, true));
+m1_table03.put(List.of("d28b", "b10c", "d5789", 109, 0, 1, false, true, false, "b6c6", "ae2a", 268872, 4, true, true));
+m1_table03.put(List.of("a730f", "b852", "abaa", 27, 208, 0, true, false, true, "ffe7", "b50fe", 0, 0, false, true));
+m1_table03.put(Arrays.asList("a0f9", "dc56", "c0e01", 0, 0, 249, true, false, true, "d0ba", "a8cb", null, 0, true, false));
+m1_table03.put(List.of("baca", "f550d", "d868", 142, 21144, 198, true, false, false, "a5e74", "a806", 35, 9736, true, false));
+m1_table03.put(List.of("bcac", "a3d6", "a5b3", 0, 0, 174, false, true, false, "bc786", "bf84", 9, 0, true, false));
+m1_table03.put(List.of("df39", "b7a28", "a2b0", 6, 0, 42, true, false, true, "f456f", "d5e9", 0, 172, false, true));
+m1_table03.put(List.of("fb2b", "aa0f6", "d7cb", 12636, 0, 0, true, true, true, "e4ee", "bdd2", 0, 30, false, false));
+m1_table03.remove("d5c3");
+m1_table03.put(List.of("b7af", "ac9c", "b0ce", 11, 0, 755, false, true, true, "e4efa", "d761", 1179, 0, true, true));
+m1_table03.put(List.of("efe3", "f2bc", "fff2", 0, 0, 123121, true, true, false, "cf4f", "be710", 6, 0, true, false));
+m1_table03.put(List.of("c285", "a3d8", "a24a", 319, 0, 151289, true, false, true, "baa7", "daff", 2359, 0, false, false));
+m1_table03.put(List.of("f8dc", "f42e", "b68f", 1, 11157, 0, false, true, true, "b278", "a152", 208, 0, true, true));
+m1_table03.get("c5df");
+m1_table03.put(List.of("a83c", "f05b", "f0cf", 1, 49, 2032, true, true, false, "d682", "a878", 4627, 2, true, false));
+m1_table03.remove("a909");
+m1_table03.remove("d03a");
+m1_table03.put(List.of("f4ae", "a841", "cbc3", 0, 78, 0, true, false, true, "b825", "f9e1", 13, 154, false, false));
+m1_table03.put(List.of("d44e", "e2e0", "b977", 284387, 0, 3, false, false, true, "b4e4", "b23a6", 8, 130568, false, true));
+m1_table03.put(List.of("b778", "cd24", "c1c7", 0, 2, 0, false, false, false, "b78ce", "b6d2", 25, 1, false, false));
+m1_table03.remove("decc");
+m1_table03.put(Arrays.asList("d205", "d6be", null, 59, 287, 13, false, false, false, "bc51", "d7be3", 0, 17, false, false));
+m1_table03.put(Arrays.asList("b534", "a167", "d4ff", 11, 977217, 0, true, false, null, "b189", "c0927", 45, 0, true, true));
+m1_table03.remove("c5cd");
+m1_table03.put(List.of("ed44", "ab5fe", "e119", 19178, 0, 5, false, false, false, "da2d0", "e7e4", 0, 12, true, false));
+m1_table03.put(List.of("d80e", "cbcf", "a938", 14, 1490, 0, true, false, true, "c00b3", "ea3f", 0, 68, true, true));
+m1_table03.put(List.of("eb12d", "b28e", "be33", 212, 0, 24, false, false, true, "af76", "d246", 93, 2, false, false));
+m1_table03.put(List.of("f124", "aa46", "d5c4", 1067, 25, 1704, false, true, true, "f2a2", "a575", 86105, 1276, false, false));
+m1_table03.put(Arrays.asList("cba5", "e03d", "f810", 0, null, 0, false, true, true, "dd9c1", "eac6", 1093, 0, true, true));
+m1_table03.put(List.of("b8ba", "bdb7e", "a25b", 0, 2, 5, false, false, true, "fa53", "c672", 0, 3, false, false));
+m1_table03.put(List.of("ac84", "b3f6", "a92a", 0, 1048, 0, false, false, true, "dac2", "e7f4", 146, 2384, false, false));
+m1_table03.put(List.of("a9eb", "ff80", "dbab", 223, 0, 0, false, true, false, "c934", "ca55", 0, 0, true, true));
+m1_table03.remove("fa56");
+m1_table03.put(List.of("b940", "b162", "fd13", 42, 0, 1, false, true, true, "c1ef", "e180", 144, 67, true, true));
+m1_table03.put(List.of("e961", "c44a", "d173", 27024, 2937, 29, false, true, false, "c4ef", "a877", 0, 391, true, false));
+m1_table03.put(List.of("eafb", "a2bc", "c33f", 0, 0, 0, false, false, true, "dddf", "a6f8", 0, 136, true, true));
+m1_table03.put(List.of("dae33", "ca2a", "abc5", 790, 4, 0, false, true, true, "f6da", "b63b", 0, 2, true, true));
+m1_table03.put(List.of("ff56", "b2fb", "f132", 1218, 0, 5489, false, true, true, "c6cc", "f6ca", 0, 0, false, false));
+m1_table03.put(List.of("d115", "ac316", "cd40", 9, 2, 530, true, true, false, "a929", "a3fc", 281, 305, false, true));
+m1_table03.put(List.of("d281", "aa85", "e28f", 0, 0, 0, true, false, true, "d443", "aaf44", 0, 74, true, false));
+m1_table03.put(List.of("cfc6", "d08d", "f766", 0, 23, 0, false, false, false, "a710", "e3f1", 3223, 4980, false, true));
+m1_table03.put(List.of("eff6", "b61e", "d193", 0, 0, 5011, true, true, true, "b8c7", "fe8d", 0, 0, false, false));
+m1_table03.remove("e45c");
+m1_table03.put(List.of("b1cd", "d152a", "bfd3", 143, 0, 0, false, false, false, "b9a2", "fac0", 0, 0, true, false));
+m1_table03.remove("b706");
+m1_table03.remove("aa86e");
+m1_table03.put(Arrays.asList("e9ae", "cc9f", "a0ddb", 186, 1949, 10660, null, true, false, "bff8", "fd4f", 0, 0, true, false));
+m1_table03.put(List.of("e3a8", "b7d0", "a6f40", 0, 0, 0, false, false, true, "f975", "ee8d", 0, 12558, true, false));
+m1_table03.put(List.of("a9b0", "b057", "c900", 0, 80, 0, true, true, false, "a79a", "c631", 0, 104, false, false));
+m1_table03.get("a313");
+m1_table03.put(List.of("dbb65", "a163", "a3ea", 8953, 0, 0, false, true, false, "cfa2", "bc92", 2, 46, false, false));
+m1_table03.remove("cfdcd");
+m1_table03.put(List.of("d70c", "bb4d", "d148", 1145, 47, 0, false, true, true, "cfb8", "e7a9", 24772, 99, false, false));
+m1_table03.remove("d45f");
+m1_table03.put(List.of("e34f", "dfd3", "d30c", 7, 7, 0, false, false, true, "a693", "bf2ab", 13, 9113, false, false));
+m1_table03.get("acad");
+m1_table03.put(List.of("f831", "ac57", "a63e", 1906, 0, 0, false, false, true, "b123", "c281b", 5, 17, true, true));
+m1_table03.put(List.of("e2a7", "fb30", "ad522", 2, 46687, 1, true, true, false, "ac34", "dadc", 0, 16, false, true));
+m1_table03.put(List.of("dcf8", "f4c12", "e870", 10, 4551, 1011, true, false, true, "a8b7", "ac2f", 4, 0, true, true));
+m1_table03.get("f758");
+m1_table03.get("c63e");
+m1_table03.put(Arrays.asList("aeb7", "f3b3", "e288", 2, 0, 0, null, true, true, "b004", "b5bf2", 6, 915, null, true));
+m1_table03.put(List.of("c0e0", "ae5a", "a5a1", 0, 0, 0, true, false, false, "de09", "f809e", 468, 0, false, false));
+m1_table03.put(List.of("bb28", "a491", "cca0", 0, 0, 7807, true, true, true, "cc83", "dbe33", 0, 129, false, false));
+m1_table03.put(List.of("cea3", "e65e", "b295", 1, 6960, 8, false, true, false, "a8d0", "f87c", 0, 523, true, true));
+m1_table03.put(List.of("c81a3", "c946", "a76d", 0, 0, 20, true, false, true, "b886", "ec039", 0, 120, true, true));
+m1_table03.put(List.of("a4c6", "b369", "da0e", 0, 13, 0, false, true, true, "c3be", "db6ab", 0, 1110, false, false));
+m1_table03.put(List.of("e414", "f34e", "a17e", 3, 366, 1, false, true, false, "aecd", "d066", 132, 2, true, false));
+m1_table03.put(List.of("fd5fd", "afbf4", "ca8f", 12, 0, 50260, true, true, true, "b872", "c5b8", 0, 2, true, false));
+m1_table03.put(List.of("b7ad", "bd9e", "b16b", 147, 0, 56889, true, false, false, "bd08", "fa27", 405, 0, true, false));
+m1_table03.put(List.of("a42d", "ada6", "cf8f", 0, 41, 655, false, true, false, "e36b", "fca0", 0, 24, false, true));
+m1_table03.put(List.of("bb27", "b07e", "b80b", 0, 2955, 0, true, true, false, "d3d27", "c441", 138, 2478, false, false));
+m1_table03.put(List.of("d75d", "f3c6", "a389", 0, 0, 2040, true, true, true, "a834", "c31a", 34997, 0, false, true));
+m1_table03.put(List.of("bf80", "ebd40", "a218", 0, 0, 1, true, false, false, "ce78", "ffab", 8146, 15, true, false));
+m1_table03.get("c97f0");
+m1_table03.put(List.of("b26b2", "c286", "dd64", 76854, 0, 10, true, true, false, "b4208", "a744", 0, 0, true, true));
+m1_table03.remove("c3e1");
+m1_table03.remove("d762");
+m1_table03.remove("a8a3");
+m1_table03.put(List.of("a5f3", "b988", "c5d4", 3, 0, 1931, false, true, false, "e2bf", "efafa", 15165, 1, false, true));
+m1_table03.remove("e6d6");
+m1_table03.put(Arrays.asList("da7a", "f2b5", "b00f", 0, 722, 16728, true, true, null, "d2d6", "e1dc", 1, 1, null, false));
+m1_table03.put(List.of("a824f", "eb24", "f5f7", 928, 193, 0, false, true, true, "ba0b", "c35a", 46, 56, false, false));
+m1_table03.put(List.of("c6da", "c9f5d", "a1e5", 0, 0, 22, true, true, true, "a635", "f284", 0, 0, false, false));
+m1_table03.remove("cacf");
+m1_table03.put(List.of("bd84", "e07d", "ad59", 49, 1660, 24524, false, false, true, "c819", "f6f3", 12738, 195, false, false));
+m1_table03.remove("e5b5");
+m1_table03.put(List.of("e9a0", "c323", "c033", 5499, 2967, 240091, false, true, false, "b649", "d263", 1439879, 0, true, false));
+m1_table03.put(List.of("f4be", "d0be", "be5a", 0, 12, 2725, false, true, true, "cdaa", "d1d7", 0, 0, true, false));
+m1_table03.remove("a68c5");
+m1_table03.put(Arrays.asList("d79d", "e733", "c2cd", 0, 0, 0, true, false, null, "ad64", "c649", 2, 0, true, true));
+m1_table03.get("db1c");
+m1_table03.put(List.of("de32f", "aac1", "a139", 0, 4753, 27678, false, false, false, "b5542", "ad6e8", 0, 57, true, true));
+m1_table03.get("cd7e");
+m1_table03.put(List.of("e5bf", "c855", "e8de", 24056, 521, 0, false, false, false, "a5a2", "c988", 17634, 45265, false, false));
+m1_table03.put(List.of("ebe9", "c00d", "c6f4", 0, 239987, 9, true, true, false, "e2b8", "d546", 3, 0, true, true));
+m1_table03.put(List.of("cc993", "a627", "d25e", 133, 9792, 0, true, false, true, "aa51", "b372", 45, 0, true, false));
+m1_table03.put(Arrays.asList("eb1f", "f01d", "e55d8", 0, 0, 0, true, true, null, "c956", "a847", 2, 259, true, true));
+m1_table03.put(List.of("d0b6", "a0a4", "f979", 0, 0, 1, true, true, false, "e901", "f96c", 1495, 879, false, true));
+m1_table03.put(List.of("e2324", "ad06c", "d26a", 0, 1467, 0, false, false, true, "fa5e", "efd7", 2, 0, false, false));
+m1_table03.put(Arrays.asList("f35b", "fae3", "cf13", 0, 3, 22444, null, true, true, "c592", "f4cb", 5090, 5129, true, false));
+m1_table03.remove("a717");
+m1_table03.put(Arrays.asList("adc41", null, "cd9d", null, null, 0, false, false, false, "d92c", "dc7ad", 0, 0, false, false));
+m1_table03.put(List.of("dca5", "c999", "b35f9", 0, 2, 0, true, true, true, "ccab", "e3190", 0, 77, true, false));
+m1_table03.remove("ce55");
+m1_table03.put(List.of("f7923", "ab0d", "e028", 39, 6, 1, true, false, false, "e8274", "c9fd", 0, 0, true, false));
+m1_table03.put(List.of("ca04", "d5dc", "d130", 1342, 0, 2, true, true, true, "e0bd", "bcc3", 11, 0, false, false));
+m1_table03.get("e6f0");
+m1_table03.put(List.of("cb2c", "d38d", "b7e8", 3189, 62, 0, false, false, true, "b7ce", "e79d", 18, 376, false, true));
+m1_table03.remove("f32d");
+m1_table03.remove("cc6d");
+m1_table03.get("e7c8");
+m1_table03.put(List.of("cf27", "ba32", "df064", 271, 14008, 0, false, false, false, "ae7a", "b558", 1995, 0, true, true));
+m1_table03.put(List.of("d811", "d966", "b95c", 0, 0, 114, false, true, false, "f86d", "dd1d", 60558, 5138, true, true));
+m1_table03.put(List.of("d2ac", "b5d9", "ac37", 400, 0, 5, false, false, false, "d392", "af65", 16, 0, true, true));
+m1_table03.put(List.of("ac15", "b3f2", "dfb8", 0, 0, 27112, true, true, true, "fd05", "a535", 0, 10935, false, false));
+m1_table03.get("bbbd");
+m1_table03.put(Arrays.asList("cd66", "a319", "ae79", 0, 9, 238, true, true, true, "dd1e0", "b581", null, 11462, true, true));
+m1_table03.put(List.of("d3e7", "ec07", "bb72", 1181, 3198, 0, false, false, false, "c194", "ba38", 0, 3, true, true));
+m1_table03.get("ad23");
+m1_table03.get("fa16");
+m1_table03.put(List.of("cbeb", "ae831", "c81b", 0, 10, 335, true, true, true, "a7b1", "c2ae", 9, 10, false, true));
+m1_table03.put(List.of("fd7c", "f028", "e9736", 0, 30, 0, true, true, false, "a681", "d19c", 0, 0, false, true));
+m1_table03.put(List.of("cd5da", "c2e6", "e73f5", 528, 3847, 8, true, false, true, "a060", "d215", 0, 0, false, false));
+m1_table03.put(List.of("c6e0", "f733", "a20df", 20, 0, 5979, false, false, false, "fe8bf", "c3fc", 383, 0, true, true));
+m1_table03.put(List.of("f4d7", "f23d", "c70ec", 0, 0, 0, false, false, true, "b913", "c82b", 0, 0, false, true));
+m1_table03.put(List.of("ca1d2", "fa522", "b1b74", 9, 0, 0, false, false, false, "c768", "aa7f", 17960, 118804, false, false));
+m1_table03.remove("beab");
+m1_table03.put(List.of("d5ed", "c130", "aafd", 0, 0, 85, true, true, false, "dc04", "c006", 0, 10, true, false));
+m1_table03.put(List.of("a66c", "d122", "d310", 350, 0, 0, true, true, true, "d2264", "bf4f", 0, 11827, true, true));
+m1_table03.put(List.of("ca73", "a21b", "eb8b", 393, 0, 532, true, true, true, "fd2f8", "ec5c", 909, 60, true, false));
+m1_table03.remove("d8af");
+m1_table03.put(Arrays.asList("a031f", "e66c", "a1b5", 0, 137494, 0, true, false, null, "cfc8", "de8c", 0, 14, false, false));
+m1_table03.put(List.of("bd16", "e8b40", "a0f4", 1089, 1181, 362, false, true, true, "f26ba", "c55a", 0, 5144, false, false));
+m1_table03.remove("a74e");
+m1_table03.put(List.of("dcda", "ee71", "a2d4", 1, 0, 0, false, false, true, "f36e", "f37e7", 0, 4, false, true));
+m1_table03.put(List.of("c50f", "cc859", "dc15", 347, 1728, 0, false, false, true, "bf032", "dba1", 6, 2498, true, false));
+m1_table03.put(List.of("c164", "e7e3", "d7c1", 2, 0, 88546, true, false, true, "c3c8", "a8f8", 12830, 78, true, true));
+m1_table03.put(List.of("fdd4", "b48a", "d22b", 0, 0, 1, true, true, true, "cc2e9", "c482", 0, 501, true, true));
+m1_table03.remove("ac79");
+m1_table03.remove("b158");
+m1_table03.put(List.of("a177", "ba94", "a80c", 29, 0, 0, false, true, false, "b0406", "e913", 1007, 558, false, false));
+m1_table03.put(List.of("e619", "a57d", "ba06", 0, 85, 0, false, true, true, "c72d", "b588", 64866, 200, true, false));
+m1_table03.put(List.of("fe09", "c7e78", "f751", 6310, 2, 15, false, true, true, "a9fa", "b2705", 1468, 14, true, true));
+m1_table03.put(List.of("ce40", "f295", "c15f1", 0, 0, 0, false, true, false, "a646", "a390", 2, 15, false, true));
+m1_table03.put(List.of("bcb3", "d121", "ed027", 0, 134, 0, false, true, false, "f7a7", "eec1", 1241, 1248, false, false));
+m1_table03.put(List.of("ae7e", "f1a7", "b579", 1, 0, 89, true, true, true, "a001", "a976", 0, 575, true, true));
+m1_table03.put(List.of("d89a", "f529", "a004", 0, 8676, 0, false, false, false, "cd2f", "f941", 0, 0, false, false));
+m1_table03.put(List.of("c0455", "a94d5", "b2c2", 0, 10928, 0, false, true, true, "a818", "f31d", 7769, 46, false, false));
+m1_table03.get("b5011");
+m1_table03.put(List.of("e25c", "ed074", "a2e0d", 895, 1252, 73, true, false, true, "c3f0", "b1df3", 1, 0, false, true));
+m1_table03.put(List.of("a059", "d70e", "f4f1", 0, 11, 0, false, false, true, "c8ea", "d599", 487, 55, true, true));
+m1_table03.get("fc95");
+m1_table03.put(List.of("c970", "b88c", "a4c8d", 0, 82, 0, false, true, true, "c727b", "fac8", 0, 26, false, true));
+m1_table03.remove("aeb0");
+m1_table03.put(List.of("cbd98", "a92e", "ca6dc", 16876, 0, 7, true, true, false, "f0f6", "fe17", 27, 4, false, false));
+m1_table03.put(List.of("f5d5", "d9d4", "cee1f", 448, 6, 10324, true, true, true, "b49b", "baaa", 0, 35, true, false));
+m1_table03.put(List.of("ac4e", "f065", "e7bbb", 24, 1, 0, false, true, true, "c528", "f34b", 9870, 17442, true, true));
+m1_table03.get("ac4d");
+m1_table03.put(List.of("a304c", "d406", "d56c", 1, 21854, 0, true, false, true, "ea60", "e498", 10, 11135, true, true));
+m1_table03.remove("c8cb");
+m1_table03.remove("b848");
+m1_table03.put(List.of("daae8", "ecb4", "e444", 0, 2211, 77, true, false, false, "f79b", "a9a8", 0, 0, true, false));
+m1_table03.put(List.of("d4dc", "b840", "d330", 3288, 29, 0, true, false, true, "a5e47", "f7423", 286, 12785, false, true));
+m1_table03.put(Arrays.asList("ee53", "cae2", "ff2f", 0, 13740, 25, false, false, true, "de5e", "f021", 0, null, true, false));
+m1_table03.get("bdcd");
+m1_table03.put(List.of("ae12", "c241", "da8b", 0, 61, 0, false, true, false, "c94d", "ca84", 220, 4, false, false));
+m1_table03.remove("f3cf");
+m1_table03.put(List.of("af44", "b547", "fa32", 0, 1, 0, false, false, false, "ba22", "ca4a", 13515, 87805, true, true));
+m1_table03.get("f311");
+m1_table03.put(List.of("b3669", "d751", "ff79", 19, 0, 3517, false, false, true, "ee28a", "de93", 0, 0, true, true));
+m1_table03.put(Arrays.asList("f0a7", "f833", "b496", 0, 108, null, true, true, false, "f62d", "d262", 0, 0, false, true));
+m1_table03.remove("f645");
+m1_table03.remove("a344");
+m1_table03.put(List.of("b651", "ba18e", "c390", 0, 5699, 0, false, false, true, "b34b", "e477", 0, 0, true, false));
+m1_table03.put(Arrays.asList("ae4e", "d061", "d0bd", 2200, 0, 0, true, true, false, "b638", "cf74", 0, 229, false, null));
+m1_table03.put(Arrays.asList("ef54", "f910", "d1a0", 8, 101, null, true, true, false, "e396", "b626", 32, 0, false, false));
+m1_table03.put(List.of("ab7d", "ce48", "b5aa", 0, 0, 0, false, false, true, "afa84", "af87", 0, 18191, true, true));
+m1_table03.put(List.of("e624", "b6c1", "fb92", 0, 0, 1, false, false, true, "d59d", "e905", 0, 420, true, true));
+m1_table03.put(List.of("bf21", "ea56", "a2d6", 2, 22, 0, true, false, false, "ff57", "fffb", 117, 7, true, true));
+m1_table03.remove("c6bf");
+m1_table03.put(List.of("dfec", "faf5", "d73a", 2, 0, 2, true, false, true, "de19", "fe9f", 15443, 26, true, true));
+m1_table03.get("b727");
+m1_table03.put(List.of("d583", "ff0d", "d674", 0, 0, 265, false, false, true, "eaa6f", "d743", 56189, 19, false, true));
+m1_table03.put(List.of("cb8f", "af26a", "a483", 3412, 17, 0, false, false, false, "ebd4", "aa31c", 727, 87, true, false));
+m1_table03.get("dd49");
+m1_table03.put(List.of("ad8b", "a52a", "cdc7", 1, 6, 0, true, false, true, "a19d", "f4a8", 0, 182, false, false));
+m1_table03.put(List.of("f361", "a007", "a04e", 3303, 6136, 0, true, true, true, "eef0", "b5dd", 6, 102573, true, true));
+m1_table03.put(List.of("c93b", "b4df", "ecaa", 0, 0, 0, true, false, false, "f24f", "ab97", 27, 7, false, true));
+m1_table03.put(List.of("e1604", "b7084", "ad5e9", 0, 163, 0, true, true, true, "d319", "ba929", 70, 2833949, false, false));
+m1_table03.put(List.of("aad86", "be6a", "d2bd", 4, 0, 10, true, true, false, "e700", "c7f21", 262, 0, true, true));
+m1_table03.put(List.of("fa0b", "a9ec", "c514", 0, 54, 1224, false, false, true, "d054", "af9f", 78, 0, false, false));
+m1_table03.put(Arrays.asList("a74b", "baf9d", "edf7", 0, 43592, 2, null, true, false, "e6a8", "ef62", 0, 23896, false, true));
+m1_table03.get("e603");
+m1_table03.put(List.of("d7cd", "cddd", "fba4", 0, 7104, 193, true, true, false, "adfe", "eea0", 5, 12, false, true));
+m1_table03.remove("d22a");
+m1_table03.put(List.of("ddf1", "fd66", "d44d7", 0, 556818, 115, false, true, true, "fafd", "d6cb", 0, 0, true, true));
+m1_table03.put(List.of("f2ab", "c6a42", "c579", 80, 203, 0, false, true, true, "de26", "bbce", 0, 60, true, true));
+m1_table03.put(List.of("d3200", "a613", "fa14", 9, 0, 0, true, false, true, "c3f7", "a0ab", 0, 0, false, true));
+m1_table03.remove("d2bc");
+m1_table03.remove("aa3f");
+m1_table03.remove("dde7");
+m1_table03.put(List.of("a784b", "a926", "b6ac", 1041, 20, 0, true, false, true, "b368", "f49f", 0, 17194, true, false));
+m1_table03.put(List.of("d757a", "fddb6", "be2f", 2, 0, 0, false, false, true, "fde9", "a66e", 22, 0, false, true));
+m1_table03.put(List.of("de53", "f3f7", "f331", 0, 96143, 1, false, true, true, "da67", "ea3e", 0, 0, false, true));
+m1_table03.get("e90b");
+m1_table03.put(List.of("f672f", "bbf0f", "de72", 116, 0, 5139, true, true, true, "bafe", "c75bb", 14, 32, false, false));
+m1_table03.remove("ccd59");
+m1_table03.remove("f3af");
+m1_table03.remove("c2f2");
+m1_table03.put(List.of("d34a", "a2ac", "ec80", 21841, 0, 44, true, false, true, "af17", "d383", 6, 644, true, true));
+m1_table03.put(Arrays.asList("a8935", null, "f225", 0, 25, 10, true, true, false, "a9db", "f5ed", 413, 191, false, true));
+m1_table03.put(List.of("e78f", "cf7e", "cd11", 4961, 35, 0, true, true, false, "bb56", "f6c5", 2421, 0, false, true));
+m1_table03.put(Arrays.asList("e704", "cdfc", "e8d6", null, 30, 0, true, false, false, "aa5f", "ae82", 10020, 0, true, true));
+m1_table03.put(List.of("b444", "e20a", "d9f7", 15, 0, 403, true, true, true, "dd61", "f17e", 0, 0, false, false));
+m1_table03.remove("ccc0f");
+m1_table03.remove("abc9c");
+m1_table03.get("c488");
+m1_table03.put(List.of("a19ab", "f232", "b9dd", 0, 0, 0, false, true, false, "b019", "b0d8", 2, 32, true, true));
+m1_table03.put(List.of("ee73", "d218", "d985", 81235, 0, 1, true, false, false, "e4eb", "cf4e", 5, 35, true, false));
+m1_table03.remove("f3a1");
+m1_table03.put(List.of("efc4", "cd459", "d6f2", 6, 0, 1, true, true, false, "b616", "c64d", 0, 0, false, true));
+m1_table03.put(List.of("ae65c", "b4e6", "b3ca", 1060, 1322, 0, false, true, false, "cfff", "da60", 0, 0, false, false));
+m1_table03.put(List.of("bcb2", "add9", "e3d0", 0, 0, 21, false, true, true, "e0da", "a4bf", 1, 0, false, true));
+m1_table03.put(List.of("def5", "f672", "a760", 0, 156, 0, true, true, true, "e0c6", "afde9", 0, 0, true, false));
+m1_table03.remove("d9ff");
+m1_table03.put(List.of("c0e6", "ef6e", "bc2f", 0, 2, 0, true, true, false, "fe7c", "f541", 25743, 5, false, false));
+m1_table03.put(List.of("aa8e", "cf4a9", "e65c", 26, 1286, 0, true, true, false, "f98b", "e5aa", 60903, 0, false, true));
+m1_table03.get("c0a0");
+m1_table03.put(List.of("b856b", "c938", "f194", 139, 0, 0, true, true, true, "b9cc", "ced7", 8, 16480, true, true));
+m1_table03.get("a72a");
+m1_table03.put(Arrays.asList("c8d8", "e53bb", "f582", 0, 10698, 3, false, false, false, "c4257", "b3b2", 0, 11, null, false));
+m1_table03.put(List.of("ddf3", "b92a", "d3fc", 0, 0, 16, false, false, false, "e0ac", "aa50", 22, 13, false, true));
+m1_table03.remove("ab67");
+m1_table03.put(List.of("d67c", "ecb7", "a0753", 0, 52514, 0, false, false, true, "a106", "bdfa", 397246, 0, false, false));
+m1_table03.get("b48f");
+m1_table03.get("aff8");
+m1_table03.put(List.of("d900", "d08f", "a2e91", 0, 0, 5, true, true, false, "fdcb", "be3e", 250, 5447, false, true));
+m1_table03.put(List.of("d3632", "d9f36", "aa37", 306, 377, 0, false, true, true, "d4e2", "d9b7a", 2060, 3115, false, false));
+m1_table03.put(List.of("dfdf", "f199", "a0670", 0, 110, 0, false, true, true, "c404", "e1d4", 10339, 0, false, true));
+m1_table03.put(List.of("d8f2", "d327", "f590", 0, 0, 111, true, true, false, "c7f8", "be3c", 23, 514, true, false));
+m1_table03.get("c2db");
+m1_table03.put(Arrays.asList("d902", "d6d9", "fe52", 8, null, 0, false, true, false, "ff606", "b2ab", 0, 4416, true, true));
+m1_table03.put(List.of("a271", "aed0", "dac8b", 606, 0, 0, false, false, false, "b9737", "b401a", 7, 152, false, false));
+m1_table03.remove("a2332");
+m1_table03.put(List.of("a73b", "f14c", "e985", 0, 4, 21, false, true, false, "fd77", "a8df", 0, 113578, false, true));
+m1_table03.get("f2a4");
+m1_table03.put(List.of("d222a", "cb75", "cbd4", 1, 113, 0, true, false, true, "fa79", "a2a4", 1853, 0, false, false));
+m1_table03.put(List.of("b934", "f1d9", "b0d6", 0, 9, 0, false, false, false, "ab5f", "d082", 0, 93, false, true));
+m1_table03.put(List.of("abb8", "e7ca", "c765", 0, 60, 11, true, true, false, "c4ab", "c0a1", 234, 0, true, false));
+m1_table03.remove("ca30");
+m1_table03.put(List.of("d544", "f88c", "ae6d", 0, 99, 0, false, true, true, "dfb0", "a231", 3142, 56047, true, false));
+m1_table03.put(List.of("d5957", "d883", "d414", 6, 3645, 22049, false, false, true, "d423", "e8009", 0, 1, false, false));
+m1_table03.put(Arrays.asList("f06c", "afb1", "ac0cb", 0, 0, 6, false, false, null, "a3fe", "eaf7", 20759, 0, true, false));
+m1_table03.put(List.of("ee92", "c16c5", "f9e2", 0, 164, 0, true, false, false, "b25c", "b11d", 1, 1, false, true));
+m1_table03.put(List.of("f35c", "d7c8", "f531", 1063, 8456, 0, true, false, false, "b54a", "da3a", 3, 0, false, true));
+m1_table03.get("ccc3");
+m1_table03.put(List.of("b417", "b5c8", "efa4", 0, 0, 0, false, true, false, "b3d20", "fc83", 0, 171, true, true));
+m1_table03.put(List.of("cf0f", "a015", "d7a1", 80, 18, 0, false, true, false, "f6f6", "a2e5", 1, 0, false, true));
+m1_table03.put(Arrays.asList("d7be", "b447", "beeb", null, 0, 0, true, false, false, "f250", "ec4c", 0, 0, false, false));
+m1_table03.put(Arrays.asList("de89", "d564", "d973", 352, 747, 4, null, true, false, "f76b", "f008", 0, 0, false, true));
+m1_table03.get("d260");
+m1_table03.get("ee76");
+m1_table03.put(List.of("dd69", "acf7", "be19", 0, 13736, 0, false, false, true, "badc", "ba7f", 0, 0, true, true));
+m1_table03.put(List.of("c962", "e004", "bc33", 43, 0, 0, true, false, true, "b53f", "a176", 0, 13210, true, true));
+m1_table03.get("ab07");
+m1_table03.put(List.of("c752", "a008", "b47e", 0, 0, 23189, true, false, true, "b637", "b687", 1479, 0, true, true));
+m1_table03.put(List.of("f100", "d040", "a214", 149, 0, 0, true, false, true, "df67", "bcbb4", 4600, 0, true, false));
+m1_table03.get("f65e");
+m1_table03.remove("c8b9");
+m1_table03.put(List.of("b6cf", "c492", "b4bc", 65225, 0, 6629, true, true, false, "f943b", "b2a0", 0, 6, false, true));
+m1_table03.put(List.of("c2b2e", "eb28", "a78e", 5, 2, 0, false, false, false, "e7fd8", "a2a5", 0, 920, false, true));
+m1_table03.put(List.of("beb0", "f7c8", "cb68", 1, 0, 2398, true, false, true, "de98", "eaaa", 63, 5199, true, false));
+m1_table03.put(List.of("f24e", "c16f", "d096", 0, 0, 0, true, true, true, "bbc5b", "d0e5", 71, 0, false, false));
+m1_table03.put(List.of("ac293", "ff5d", "d047", 0, 1, 0, false, false, true, "cc11", "b828", 17, 5616, false, false));
+m1_table03.remove("c250");
+m1_table03.put(List.of("aa633", "a377", "bd70d", 35429, 3032, 118, true, true, true, "e31a", "eebf", 10525, 2907, true, true));
+m1_table03.put(List.of("ec328", "b0f4", "bed4", 0, 6665, 0, false, true, true, "b178", "a880", 3543, 44563, false, false));
+m1_table03.remove("c6af");
+m1_table03.remove("ea00");
+m1_table03.put(List.of("c04a", "b8a31", "be9e", 0, 0, 102, false, true, false, "b6ef", "f7e6", 33, 0, true, false));
+m1_table03.get("d2e0");
+m1_table03.remove("a209e");
+m1_table03.put(Arrays.asList("a695", "e411", "aefc", 168, 0, 2081, false, true, false, "abca", "a98e", 3, null, true, false));
+m1_table03.remove("b1280");
+m1_table03.put(List.of("a9ee", "aaed", "da5e", 0, 1, 3, false, true, false, "e58f", "cf5f", 0, 2066, true, true));
+m1_table03.put(List.of("cc6f", "b736", "a0c8", 130, 13, 31044, false, true, false, "e8ca", "f124d", 1062, 291, true, true));
+m1_table03.remove("c95c");
+m1_table03.remove("f2a1");
+m1_table03.get("dbef");
+m1_table03.put(List.of("ba19", "b305", "b680", 1, 66281, 0, false, true, false, "aa059", "db9e", 0, 0, true, false));
+m1_table03.put(List.of("f6e7", "c3ab7", "c65a", 51, 2997, 2, true, true, true, "cea69", "b873", 10, 0, true, true));
+m1_table03.remove("af56");
+m1_table03.put(List.of("a586", "b3d7d", "bd47", 2049, 32, 70525, true, true, true, "be1f", "db9c", 0, 98, true, false));
+m1_table03.put(List.of("dc93", "b064", "b750", 8, 11, 25, true, true, false, "b9c34", "d4e9", 0, 108, false, true));
+m1_table03.put(List.of("b94c", "b44de", "dc06", 3, 12024, 0, false, true, false, "d01d", "d36bf", 14697, 726, false, false));
+m1_table03.put(List.of("f527e", "ccefc", "c9f4f", 0, 0, 0, true, true, true, "fa57", "a14ee", 0, 6877, false, false));
+m1_table03.put(List.of("bfe6c", "e75f", "aed18", 2232, 0, 372, true, true, false, "fef50", "bcb5", 6, 0, true, true));
+m1_table03.remove("cb1b");
+m1_table03.remove("b615");
+m1_table03.put(List.of("eb40", "f845", "e2492", 70, 436, 0, false, true, false, "cab0", "daa7", 0, 27, true, true));
+m1_table03.put(List.of("faa6", "bc9e", "a1257", 28086, 0, 0, false, true, true, "e2ef", "ff55", 0, 1961, false, true));
+m1_table03.remove("bd82");
+m1_table03.put(List.of("a6d1", "c9129", "a947", 0, 4, 2293, false, true, true, "aec31", "b5d86", 371, 26, true, false));
+m1_table03.put(List.of("fb1d", "bc8f", "c2e2", 542, 0, 7, true, false, true, "b75a", "fac5", 0, 6, true, false));
+m1_table03.put(List.of("b08c", "f5a1", "be23", 0, 0, 4, false, true, false, "a692f", "b01a", 0, 341, false, true));
+m1_table03.put(List.of("e32c", "eebe", "f1119", 5, 27395, 1270, false, false, true, "fbcd", "d1de", 0, 0, true, true));
+m1_table03.get("d7e4");
+m1_table03.get("f7e97");
+m1_table03.get("c5314");
+m1_table03.put(List.of("a05b", "a79b", "e513", 16, 0, 897, false, true, false, "cb0c", "e2e3", 40468, 6, true, false));
+m1_table03.put(List.of("a127", "e946", "fd90", 14304, 153, 19, false, true, false, "b6fc", "b5e5", 0, 4049, false, false));
+m1_table03.put(List.of("c971", "cf35", "c986", 47867, 15, 0, true, true, true, "b6e63", "bba3", 0, 32, true, true));
+m1_table03.put(List.of("edcb", "e639b", "dee1", 0, 1714, 27067, false, false, true, "b9605", "da0c", 0, 2, false, false));
+m1_table03.put(List.of("c068", "cf8e8", "eee3", 0, 0, 178, true, false, false, "b7b9f", "ffcc", 26, 0, true, false));
+m1_table03.remove("ff32");
+m1_table03.get("f7d2");
+m1_table03.put(List.of("faf3", "df750", "df0c", 0, 0, 3, true, false, true, "b27d6", "e551", 3032, 0, true, true));
+m1_table03.remove("d653");
+m1_table03.put(Arrays.asList("af70", "fd57", "aeb4", 0, null, 0, false, true, true, "c968", "b5b0", 8, 21586, true, false));
+m1_table03.put(List.of("ffe27", "f5b09", "aafa9", 8, 50, 891, true, false, true, "ba16", "b344", 0, 0, false, false));
+m1_table03.put(List.of("a859b", "fb3c0", "bc78", 0, 0, 158, false, false, true, "c565", "f784", 0, 2, true, true));
+m1_table03.remove("b98b");
+m1_table03.put(List.of("f01b", "af49", "b746", 733, 36, 3265, false, true, true, "c9d6", "ec1a", 0, 3723, false, true));
+m1_table03.get("a01b");
+m1_table03.put(List.of("b9e8", "b511", "dac8", 48072, 2, 0, false, true, true, "d14c4", "eb3e", 3, 8623, false, true));
+m1_table03.put(Arrays.asList("ec51", "b8026", "aac81", null, 14275, 30, false, true, false, "cbbc", "d8c3", 0, 2, false, false));
+m1_table03.remove("e673b");
+m1_table03.put(List.of("e9b8", "b0ea", "d924", 11, 23, 2, false, true, false, "d11f", "f528", 0, 0, false, true));
+m1_table03.put(List.of("c4cc", "b8a6", "aeda", 0, 1, 1, false, false, true, "f254", "ece7", 0, 17, true, true));
+m1_table03.put(List.of("b1238", "e8a4", "ebf7", 0, 0, 0, false, false, false, "e3b7", "a3eb", 46, 0, false, true));
+m1_table03.remove("baa3");
+m1_table03.put(List.of("f934", "a824", "f820", 10, 0, 0, false, true, true, "daa0", "aa74", 0, 0, false, true));
+m1_table03.put(List.of("eef5", "e817", "c633", 15, 1822, 0, false, false, false, "b7f7", "d400", 0, 1, true, false));
+m1_table03.put(List.of("b9226", "dc90", "d493a", 2108, 0, 0, true, true, true, "eaa0", "f683", 36, 0, false, true));
+m1_table03.put(List.of("c0aa", "b659", "bbc2", 1, 20217, 0, true, true, true, "ff2c", "a01aa", 4, 1, false, true));
+m1_table03.put(List.of("d3b1", "a4eab", "b2f2", 4434, 2, 0, false, false, true, "fdee", "c978", 1, 3885, false, true));
+m1_table03.put(List.of("a41f", "b7d37", "ec22", 680, 142, 1, true, true, false, "a7db", "c69d", 0, 0, true, false));
+m1_table03.remove("e9c1");
+m1_table03.remove("c5bf");
+m1_table03.remove("a850");
+m1_table03.put(Arrays.asList("e25d", "db10", "cc84", 0, null, 61, true, true, true, "fca2", "a1f7", 0, 4805, true, false));
+m1_table03.put(List.of("b6ff", "d996", "f018", 0, 2, 1, false, false, false, "b40a", "b8e6", 656, 0, false, true));
+m1_table03.put(List.of("d03e", "ff29", "dbe4", 0, 20275, 4, false, true, true, "b6e9", "bc36", 83, 1313, false, false));
+m1_table03.put(List.of("d4e4", "b375", "dde8", 0, 0, 0, true, true, false, "e31f", "c4937", 0, 0, true, true));
+m1_table03.put(List.of("bf12", "ad21", "f146", 295, 2, 0, false, true, false, "ace7", "d88f", 0, 89, false, false));
+m1_table03.get("b9f1");
+m1_table03.remove("fb94");
+m1_table03.remove("b9f0");
+m1_table03.get("e0d4");
+m1_table03.put(List.of("fc49", "dd0f", "ef5e", 0, 205, 8, false, false, false, "a8f6", "d278", 5, 0, false, true));
+m1_table03.get("f408");
+m1_table03.remove("e76c");
+m1_table03.put(Arrays.asList("e34b", "c4ec", "bb45", 5976, 0, 0, false, false, null, "c5c4", "c77a", 0, 61, true, true));
+m1_table03.get("ebca");
+m1_table03.put(List.of("ec0e", "f6d1", "b847", 0, 36, 0, true, false, false, "f1fc", "a7b8f", 1979, 30, false, false));
+m1_table03.remove("dfcb");
+m1_table03.put(List.of("f562", "c6db", "b174", 7, 0, 467, true, true, false, "edc3", "e397", 1425, 9, true, true));
+m1_table03.put(List.of("cecb", "d411", "b5a2", 1, 0, 0, false, true, true, "c905", "b285", 3334, 0, true, false));
+m1_table03.put(List.of("b88a", "ca90", "f4fe", 0, 29722, 5, true, true, true, "fdc7", "d9c2", 4665, 6, false, false));
+m1_table03.put(List.of("f88d0", "a860", "dbbb", 0, 0, 9431, true, false, false, "c86a", "e610", 0, 0, true, true));
+m1_table03.put(List.of("b9a0", "cc24", "e67c", 109, 25180, 34, true, false, false, "c281", "bfd1", 0, 232, false, false));
+m1_table03.put(Arrays.asList("d167", "bd31", "fbb6", 6, 57, 6189, true, null, false, "ef0d", "b90b", 0, 0, false, false));
+m1_table03.put(Arrays.asList("a671", "a7b8", "a384", null, 0, 3, false, false, true, "f243", "a978", 0, 346750, true, false));
+m1_table03.remove("f390");
+m1_table03.put(List.of("d347", "b880", "f282", 0, 0, 578, false, true, false, "f48fe", "f67d", 29, 11, true, false));
+m1_table03.put(List.of("db0a", "ae65", "c6fc", 5889, 663, 0, true, true, true, "b7ae", "c653", 0, 0, false, true));
+m1_table03.put(List.of("f0b1", "d296", "e1f7", 0, 1964, 0, true, true, true, "a430", "f0fe", 0, 0, false, true));
+m1_table03.put(List.of("d877", "d6ff", "e2e1", 0, 0, 402, true, true, true, "ad75", "e4a4", 0, 0, false, false));
+m1_table03.put(Arrays.asList("a168", "f8c2", "dcf4", null, 0, 470, false, false, false, "c09f", "c65c3", 5, 0, false, false));
+m1_table03.put(List.of("f30a", "ff4f", "df6e", 0, 1, 0, false, true, true, "d8b3", "cb97", 204, 49, true, true));
+m1_table03.get("cd21");
+m1_table03.put(List.of("f6ea", "a9b6", "d857", 4569, 14779, 0, false, true, true, "c1ff", "ec5a", 0, 1, true, true));
+m1_table03.put(List.of("ef4b", "c703f", "d558", 40, 8766, 16, false, true, false, "eb68", "a9dc", 0, 0, true, false));
+m1_table03.put(List.of("f5a5", "d6db7", "e3b9", 24, 7, 163, false, false, true, "d4f5", "e53e", 544987, 2, false, false));
+m1_table03.put(Arrays.asList("be030", "e15b", "be1a", 1240, 0, 0, true, false, null, "d92f", "a1620", 6, 1, false, false));
+m1_table03.put(List.of("bfd7", "ad91", "c43d", 0, 0, 0, true, false, true, "d0f32", "c87c", 0, 11, false, true));
+m1_table03.put(List.of("ad42c", "dc97", "ce9c", 0, 0, 13, true, true, true, "b5c28", "c0ff", 0, 1, false, false));
+m1_table03.put(List.of("a0ed", "ce64", "fedf", 0, 27217, 0, true, true, true, "e6e0", "f43d", 0, 72, true, true));
+m1_table03.remove("bdb9");
+m1_table03.put(List.of("c8d2", "a686", "e351", 99, 1, 0, true, true, true, "db23", "e76a", 0, 15852, false, true));
+m1_table03.put(List.of("e5925", "ab6a3", "b373", 0, 11, 0, false, false, false, "abdfb", "e902", 946, 0, true, false));
+m1_table03.put(List.of("c42c", "dd32", "f2fd", 15, 16, 90, true, true, true, "c8b6", "f935", 0, 18, true, true));
+m1_table03.put(List.of("a7853b", "e12a", "c68b", 0, 3, 3005, false, false, true, "a738b", "f671", 7513, 0, true, true));
+m1_table03.put(List.of("e76e", "fe413", "bac7", 0, 0, 0, true, true, true, "d85c", "b815", 16, 575, true, true));
+m1_table03.get("b118");
+m1_table03.put(List.of("b4e9", "c4b7", "a212", 0, 205, 14, true, true, false, "b065", "a0bd", 0, 18, true, false));
+m1_table03.put(List.of("bdb1", "bd1a", "e831", 0, 38, 2, false, true, false, "b00d", "bb07", 0, 2, true, false));
+m1_table03.get("dd4c");
+m1_table03.put(List.of("c0ea", "a60a", "d909", 0, 0, 0, false, true, false, "dcea", "bcc6", 0, 44773, false, false));
+m1_table03.put(List.of("d31f", "b156", "e639d", 0, 0, 72, true, false, false, "d8df", "f481", 11, 0, false, true));
+m1_table03.get("f211");
+m1_table03.put(List.of("dfea", "a5fd", "d7d7", 0, 0, 600, false, true, true, "a93f", "e1ce", 0, 7, true, true));
+m1_table03.put(List.of("b6cd", "faecd", "e1cc", 17, 1994, 0, true, true, false, "fdf8", "d549", 0, 0, false, true));
+m1_table03.put(List.of("a4c78", "b771", "f6be", 0, 0, 697, true, true, true, "b28a", "b460", 319, 0, true, false));
+m1_table03.remove("ae60");
+m1_table03.put(List.of("b23b", "de46", "f2ba", 90, 0, 0, false, false, true, "c829", "e620", 2, 0, false, true));
+m1_table03.put(List.of("dc08", "ea5c", "a1f1", 231, 0, 0, true, false, true, "bad03", "bbba", 33, 3, true, false));
+m1_table03.remove("ef6a");
+m1_table03.remove("ce903");
+m1_table03.put(List.of("bd429", "d3e9", "e966b", 0, 1, 0, false, true, false, "b2e7", "f9fc4", 5, 0, true, true));
+m1_table03.put(List.of("a2fb7", "bfc2", "e1a0c", 0, 21, 0, true, true, false, "beda", "f1de", 0, 109, false, false));
+m1_table03.put(List.of("d0ea", "a865", "accd", 1, 24, 180600, true, false, false, "f892", "ef30", 71, 1572, true, true));
+m1_table03.put(List.of("b7b9", "ae22", "bad2", 1, 1, 1572, false, false, true, "e14e", "d420", 40, 31, true, false));
+m1_table03.put(List.of("bec0a", "f4347", "bdfd", 0, 116, 811, true, false, false, "c409", "e572", 30, 36787, false, true));
+m1_table03.remove("df76");
+m1_table03.put(List.of("c7e9", "e40c", "fda1", 7, 0, 10, false, true, true, "d59f", "e834", 1213, 0, false, true));
+m1_table03.put(List.of("f190", "a7ab0", "bbf1", 0, 0, 0, false, true, false, "c3a15", "b6cae", 2, 23, true, true));
+m1_table03.get("a5a9");
+m1_table03.put(List.of("acb6", "b20c", "d731", 0, 0, 0, true, true, false, "e63d", "b33a", 1955, 0, true, false));
+m1_table03.get("e5d1");
+m1_table03.remove("aadd9");
+m1_table03.put(Arrays.asList("c7bc", "d074", null, 0, 0, 40, false, false, false, "cdcf", "b124", 335, 329, true, true));
+m1_table03.put(List.of("ccdc", "e43f", "c4f9", 45309, 0, 0, true, true, true, "b63c", "a28b", 1249, 0, false, false));
+m1_table03.put(List.of("a9ad", "f0701", "d97f", 7, 14, 69, false, true, false, "e942", "f114", 0, 2306, true, true));
+m1_table03.remove("d1e9");
+m1_table03.put(Arrays.asList("e4ab", "d403", "cda0", 4, 0, 0, false, false, false, "a334", "e4f6", 0, null, false, false));
+m1_table03.put(List.of("f9f7", "cbd1", "adc35", 802, 74, 0, false, true, true, "c5ff", "c0df", 3417, 0, false, true));
+m1_table03.put(Arrays.asList("bea10", "bb64", "cf4d", 0, 991, 7, false, true, false, "f7ac", "bbca", null, 10351, false, false));
+m1_table03.put(List.of("c4c2", "efc8d", "a9a9", 806, 0, 0, false, false, false, "f25d", "fb41", 3471, 0, true, false));
+m1_table03.remove("d545");
+m1_table03.put(List.of("b351", "f17f", "c2c7", 0, 278, 0, true, false, false, "a902", "f6b75", 12, 336146, false, false));
+m1_table03.put(List.of("c4f0", "bc14", "f896", 0, 166, 0, true, false, true, "a6d8", "fcde", 1, 0, true, false));
+m1_table03.get("ec2d");
+m1_table03.put(List.of("e298", "d66f", "da8ff", 216, 0, 3, true, true, false, "ed7d", "aadd", 0, 0, false, false));
+m1_table03.get("eeeb");
+m1_table03.remove("acef");
+m1_table03.get("ea32");
+m1_table03.put(List.of("b57e", "cf754", "ecb1", 12, 0, 24, false, false, true, "ded6", "f86b", 808, 529, true, false));
+m1_table03.put(Arrays.asList("fa03", "a1ac", "a654", 0, 0, 132, true, false, false, "ca15", "d02f", 7799, null, true, false));
+m1_table03.remove("e698");
+m1_table03.remove("d790");
+m1_table03.put(List.of("bb84", "aaa5", "ba9ed", 75, 0, 7627, true, true, true, "bcc8c", "ad4e", 8, 0, false, true));
+m1_table03.get("ed86");
+m1_table03.remove("fe70");
+m1_table03.put(List.of("e6c5", "ab3f", "f915", 0, 0, 0, false, false, true, "fcf0", "fb65", 3, 3, false, false));
+m1_table03.remove("a426");
+m1_table03.put(List.of("cb37", "cadd", "f9b6", 5, 205356, 313, false, false, false, "ec09", "b93b", 213, 23416, false, false));
+m1_table03.put(List.of("a6c8", "e3ec", "a1b6", 44, 803, 1457, false, true, true, "fa99", "abc24", 0, 0, false, true));
+m1_table03.remove("ed7f");
+m1_table03.put(List.of("a3d1c", "bfeb", "cfc3", 89, 0, 0, true, true, true, "c05a", "a0a0", 0, 0, true, false));
+m1_table03.put(Arrays.asList("b5e1", "b6c4", "cb30", 0, 538, 0, false, true, null, "fc74", "b8aa", 1403, 564, true, false));
+m1_table03.put(List.of("a851", "ec53", "c953", 0, 0, 72, false, false, false, "ff1d", "ad7a", 0, 17440, true, false));
+m1_table03.put(List.of("e1e45", "f350", "d85a", 15125, 0, 16, true, false, false, "cfd6", "c011", 14614, 0, true, true));
+m1_table03.remove("bb32");
+m1_table03.put(List.of("eac5", "ffb6", "d1f47", 1128, 19105, 0, false, true, true, "f3e7", "c9e4", 0, 0, false, true));
+m1_table03.remove("e794");
+m1_table03.put(List.of("ded0", "c56a1", "b76c", 462, 17, 12, false, true, true, "c8da", "dbcd", 200, 36, true, true));
+m1_table03.put(List.of("c08c", "d106", "f2c8c", 1, 26372, 0, false, true, false, "e1be", "e2b3", 13865, 40, false, true));
+m1_table03.put(List.of("b816c", "dd18", "e053", 5, 97, 0, false, false, true, "de1b", "db2e", 0, 78, false, true));
+m1_table03.put(List.of("eca5", "e51c", "b2b9", 0, 44, 0, true, false, false, "ddad", "da05", 32, 409, true, false));
+m1_table03.get("f3f8");
+m1_table03.put(List.of("b60e", "dfbe", "a4db", 4, 0, 9, false, true, false, "d615", "f7be", 0, 0, true, false));
+m1_table03.put(List.of("ff10", "cfc9", "c280", 11213, 20, 134, false, true, true, "b8a9", "a626", 0, 0, false, true));
+m1_table03.put(List.of("f3fd", "de4b", "ce1c", 0, 0, 58, true, true, false, "bd666", "cfc2", 5455, 1, false, true));
+m1_table03.put(List.of("f8ce0", "bf3f", "a032", 0, 502, 38, false, false, false, "eb6a", "d3f3", 7, 3, true, true));
+m1_table03.put(List.of("f781", "cb05", "e3d3", 0, 35, 101, false, false, false, "b89c", "ad0b", 0, 0, true, false));
+m1_table03.get("ae33");
+m1_table03.put(List.of("db88", "e06a1", "ec35", 3, 14, 0, false, true, false, "b0321", "e4ef", 1178, 14, true, true));
+m1_table03.put(List.of("fb5e", "f50e", "ee34", 3, 0, 0, false, true, true, "a26b", "b794", 0, 137, true, false));
+m1_table03.put(List.of("e6e50", "dca2b", "cfe4", 105, 610, 12, false, true, false, "a3881", "e039", 0, 0, false, true));
+m1_table03.put(List.of("ac7c", "ac04", "d231", 0, 482, 7, false, true, false, "d3e3", "e54e", 903, 0, true, false));
+m1_table03.put(List.of("fb91", "e83f", "d4b5", 5419, 0, 2281, false, false, true, "cd51", "a18a", 0, 0, true, true));
+m1_table03.put(List.of("b93a", "da0f", "a1b0", 0, 0, 1, false, true, false, "eafeb", "a47e7", 0, 0, true, false));
+m1_table03.get("bfc6");
+m1_table03.put(List.of("fbbe", "a3b3", "f7ef", 1, 0, 0, true, false, false, "cfdf", "d2b3c", 0, 4029, true, false));
+m1_table03.put(List.of("c4c5", "b2541", "c5a7", 0, 0, 2957, false, false, false, "da5a", "f812", 728, 0, true, false));
+m1_table03.put(Arrays.asList("fcbc", "da1f", "ed0a", 118, 3, 0, true, false, true, "f5ab", "a221", 36, 0, false, null));
+m1_table03.put(List.of("f1fe", "f1c7", "d941", 90, 16385, 0, true, false, true, "bda3", "a331", 275304, 0, true, true));
+m1_table03.get("eb65");
+m1_table03.put(List.of("b039", "e674", "f25a", 0, 0, 0, true, false, true, "c818", "eb89", 6, 0, false, false));
+m1_table03.put(List.of("ab27", "d6178", "d8a8", 3, 17469, 8, true, true, false, "a0f6", "b4f1", 52, 327, false, true));
+m1_table03.put(List.of("e621", "a795", "ab1f2", 6, 150, 0, false, true, true, "be25", "f9c3", 0, 494, true, true));
+m1_table03.put(List.of("e3a7", "c73e", "c08e5", 222, 0, 0, false, true, false, "c3df", "fa30", 138707, 0, false, true));
+m1_table03.remove("fbaa");
+m1_table03.put(List.of("ddf2", "ce46", "c4f29", 0, 9965, 0, false, true, true, "d3aa", "dfdb", 4, 169417, true, false));
+m1_table03.get("c782");
+m1_table03.put(List.of("c726", "fb85", "cb390", 57534, 11, 2, false, false, false, "fd6e", "bbe57", 869, 1182, true, true));
+m1_table03.put(List.of("d6e28", "b79b", "a9c5", 0, 0, 0, true, true, true, "bdf6", "a81c", 178, 0, false, true));
+m1_table03.put(List.of("baac", "a963", "caf5", 3146, 3, 0, false, false, false, "b9e08", "b0bc", 73, 0, false, false));
+m1_table03.get("d781");
+m1_table03.put(List.of("ae96", "faa2", "dea5", 472, 0, 30746, false, true, false, "b217", "e12e", 0, 0, true, false));
+m1_table03.remove("cb10");
+m1_table03.put(List.of("efe5", "cc82", "f2ef", 0, 101, 0, true, true, true, "f544", "d308", 0, 1, true, true));
+m1_table03.remove("f2dd");
+m1_table03.put(List.of("bdf4", "aeed", "d212", 0, 23, 0, true, true, false, "ac50", "ae31", 0, 14, true, true));
+m1_table03.put(List.of("f46f", "da1e", "beb3", 0, 0, 0, false, true, true, "d14d", "fb76", 0, 1020, true, false));
+m1_table03.put(List.of("db70", "e1df", "ffd7", 409, 0, 65, false, true, false, "b9f5", "c1fa", 1028, 242, false, true));
+m1_table03.put(List.of("eeaa", "aa8d", "ef29", 0, 2511, 0, false, false, true, "dee9", "b973", 29, 0, false, true));
+m1_table03.put(List.of("ad96", "ed75", "e1e4", 75, 506959, 9, true, false, true, "fe74", "b501", 1, 0, false, true));
+m1_table03.get("dcc4");
+m1_table03.put(List.of("fdc63", "d276", "cc5b6", 0, 0, 0, true, true, false, "e287", "dae4", 37528, 0, true, false));
+m1_table03.put(List.of("b77a", "d9f4", "a1e80", 77, 0, 11985, false, false, true, "b7b8", "a527", 0, 0, true, true));
+m1_table03.put(List.of("ac146", "de6f", "d7a90", 1, 0, 0, true, false, true, "e3484", "a5fbf", 0, 0, true, false));
+m1_table03.put(List.of("c1fc9", "b72a", "fae4f", 480, 1854, 0, true, true, false, "c451", "c27a", 0, 12, false, true));
+m1_table03.remove("f6e2");
+m1_table03.remove("fb4f");
+m1_table03.put(Arrays.asList("ebbf1", "ec2b", "e331", 3222, 0, 40, true, false, true, "ca7c1", "b5012", 256, 32, true, null));
+m1_table03.remove("c425");
+m1_table03.put(Arrays.asList("a7d3", "ac0bd", "f6d2", 7291, 0, 174, false, true, false, "f172", "e802", null, 28, false, true));
+m1_table03.remove("f55b");
+m1_table03.put(List.of("bc341", "c8cd", "d4af", 1229, 3284, 1, true, false, false, "bc57", "a9a1", 1622, 0, true, true));
+m1_table03.put(List.of("deb4", "b6fc8", "cb63", 0, 0, 0, true, true, false, "fe95", "b691", 11, 0, false, true));
+m1_table03.put(List.of("e685", "f805", "b366", 957, 3622, 0, true, false, true, "d69b", "c1712", 28, 0, false, true));
+m1_table03.put(List.of("fd9d", "d76f", "acaa", 0, 0, 32599, false, true, false, "e3625", "f78a", 0, 46, true, false));
+m1_table03.remove("ad20");
+m1_table03.put(List.of("adea", "c9ee", "bff5", 2, 27719, 0, true, false, false, "a4d4", "f490", 0, 0, true, false));
+m1_table03.put(List.of("e2f4", "e8b0", "c59c", 9, 26, 61702, true, true, false, "e9c0", "dd242", 0, 1, true, true));
+m1_table03.put(List.of("cfcd0", "f66a", "d267", 64, 1336, 0, true, true, true, "a69d", "b956", 8, 161984, true, true));
+m1_table03.put(List.of("d2fb", "f4fd", "c4e9", 0, 24, 47, false, true, true, "d810", "e4bd", 903, 50, true, false));
+m1_table03.put(List.of("b578", "a58e", "ac83", 0, 72, 0, true, false, false, "c658", "c3ec7", 0, 1, true, true));
+m1_table03.remove("b381");
+m1_table03.put(List.of("fbd3f", "a290a", "bfee", 458, 0, 8, false, true, true, "fe9c", "ef2e", 0, 17, true, false));
+m1_table03.remove("e48b");
+m1_table03.put(List.of("a5b7", "e4f4", "ef09", 337, 0, 0, true, false, false, "da2f", "c628", 19, 188, false, true));
+m1_table03.put(List.of("b9c1", "c698e", "cb674", 250, 234, 0, true, false, false, "bf61", "b6bc0", 1239, 0, false, false));
+m1_table03.put(List.of("b6356", "a8f04e", "fcb7", 19, 165, 1, false, true, true, "e1bf", "c0e64", 0, 0, true, false));
+m1_table03.put(Arrays.asList("b45e", "a0b06", "b0c2a", 17915, 0, 196, true, false, null, "ddf9", "a81f", 1065, 72827, false, false));
+m1_table03.put(List.of("bb91", "dea8", "ab63", 264, 100, 0, false, false, true, "e034", "d25a", 48921, 12633, false, false));
+m1_table03.put(List.of("edbe", "db0e", "af5c9", 2, 8, 0, false, true, false, "f96b", "c1be", 8763, 0, false, true));
+m1_table03.get("e266");
+m1_table03.put(List.of("f946", "fa64", "d671", 0, 0, 41, false, false, true, "b11ec", "a821", 61, 1196, false, false));
+m1_table03.put(List.of("f5ee", "eea5", "d188", 0, 289, 0, true, true, true, "bfec7", "b4c2", 58, 2, true, false));
+m1_table03.put(List.of("ddb6", "f7cd", "e561", 2444, 288, 1641, false, false, false, "d08f6", "b67f", 56, 2715, false, true));
+m1_table03.get("d9591");
+m1_table03.put(List.of("a141", "c43a", "d20c", 0, 0, 125, true, true, true, "fcc5", "ca5d", 62, 10663, false, true));
+m1_table03.put(List.of("ab83", "b7837", "c9f8", 3, 0, 0, true, false, true, "c6d0", "c53e", 4, 3, false, true));
+m1_table03.put(List.of("b99f", "deeb", "d26b", 76, 0, 31, true, true, true, "c3ed", "b43ce", 4397, 0, true, true));
+m1_table03.get("d89d");
+m1_table03.put(Arrays.asList("d3804", "c9d5", "e038", 0, 3, 0, null, false, true, "d045a", "ea54", 18085, 0, false, true));
+m1_table03.remove("d340");
+m1_table03.put(List.of("f5b6", "c57d", "a80b7", 15, 0, 10888, true, true, false, "c6ae", "c6eb", 52545, 0, false, true));
+m1_table03.put(List.of("b775", "ae91", "f1c1", 6, 1250, 110, false, false, false, "f92c", "ac86", 977, 0, false, true));
+m1_table03.put(List.of("ce6d", "d41f", "d2c2", 121, 0, 10, true, true, true, "f159", "dbb36", 112, 62, false, true));
+m1_table03.get("a5cb0");
+m1_table03.put(List.of("c1eb", "c29f", "dee3", 16, 14, 306, true, true, false, "d8f9", "a1ea", 40, 3, false, true));
+m1_table03.get("cff7");
+m1_table03.get("aaf7b");
+m1_table03.put(List.of("f15f", "e4983", "bf64", 3055, 1, 0, true, false, true, "be304", "c383", 4, 0, true, true));
+m1_table03.put(Arrays.asList("e4ca", "ab73", "c619", 0, 13, 0, true, false, false, "f6f2", null, 1, 0, false, false));
+m1_table03.put(List.of("f3ce", "d746", "b06e", 3, 9, 0, false, true, false, "a5aa", "ef55", 98, 10, false, true));
+m1_table03.put(List.of("c903", "c6e9", "b4e3", 34747, 39, 0, false, true, false, "de62", "dd0c", 0, 2, true, true));
+m1_table03.remove("d3df1");
+m1_table03.put(List.of("c2d0", "e960", "f612", 125, 7, 682, false, true, true, "abec", "f0cd", 4403, 77, true, true));
+m1_table03.remove("d9742");
+m1_table03.put(List.of("a13b", "c8e2", "a81e", 1047, 12, 0, true, false, false, "b5d8", "cbd08", 12, 0, false, true));
+m1_table03.put(List.of("b365", "ce32", "a36a", 3, 54105, 40, true, true, true, "a39e", "a32e", 0, 4, true, true));
+m1_table03.remove("ffa9");
+m1_table03.put(List.of("e7aa7", "b0fa", "a38f", 2, 0, 0, true, true, true, "fdea", "e963", 1136, 2, true, true));
+m1_table03.put(List.of("a1af", "e15ca", "c035", 0, 16, 94, true, false, false, "acdec", "de81", 2, 638, false, false));
+m1_table03.get("ddef");
+m1_table03.put(List.of("ab9f", "a476", "cf97", 70436, 0, 140, true, false, true, "a1afa", "e059", 1605, 39230, false, true));
+m1_table03.put(List.of("a50a", "d20f8", "bd94", 1579, 93, 1, true, false, false, "ab730", "beb1", 4, 1897, false, false));
+m1_table03.put(List.of("a2b2", "a46d6", "a4794", 0, 111268, 8875, false, false, false, "c33f2", "eeec", 6598, 81, false, true));
+m1_table03.get("e7c3");
+m1_table03.remove("e784");
+m1_table03.put(List.of("e4d18", "c0fb", "c761", 1, 354, 0, true, false, true, "afc4", "e4407", 112, 1300, true, true));
+m1_table03.put(List.of("dcbc", "fb19", "d234", 193, 0, 1, false, false, true, "f973", "c4318", 0, 0, true, true));
+m1_table03.put(List.of("ab42", "ba81", "c5788", 1, 0, 0, true, false, true, "d24a", "edcd", 2084134, 778, true, false));
+m1_table03.put(List.of("b630", "c0dce", "b4a4", 4784, 0, 2096, false, false, false, "a9cb", "fc97", 0, 0, true, false));
+m1_table03.put(List.of("ccd4", "f844", "c7bb", 5, 0, 135, true, true, false, "fd4e", "f43c", 2791, 0, true, true));
+m1_table03.put(List.of("bc65", "f5b4", "c29f8", 438, 0, 0, true, false, false, "e0e0", "d480", 258, 0, false, false));
+m1_table03.put(List.of("a06bc", "a87f", "ae9e", 0, 4, 0, false, true, true, "a0c9", "e9a3", 6505, 0, false, true));
+m1_table03.put(List.of("bedb", "d056", "be17", 0, 1, 29, false, false, true, "af59", "ca50", 2971, 0, false, true));
+m1_table03.get("ee5b");
+m1_table03.remove("f059");
+m1_table03.remove("eadb");
+m1_table03.put(List.of("ab8c", "f89d", "fe63", 27, 0, 6, true, false, true, "d96ba", "e83c", 23, 3693, false, true));
+m1_table03.put(List.of("ba45", "e59f", "c010", 0, 0, 1849, false, false, false, "b73e", "a8d3", 9, 673, true, true));
+m1_table03.put(List.of("b577f", "d52b", "e1e0", 26132, 0, 11, false, true, false, "a73d", "c95b", 0, 5, false, true));
+m1_table03.put(List.of("f23e", "d2b0", "a1360", 15, 0, 0, false, false, true, "e6be3", "bb7c", 3, 5, false, true));
+m1_table03.get("cc534");
+m1_table03.put(Arrays.asList("a810", "d8e5", null, 10, 2, 837, false, false, true, "f79c", "c70a", 110, 119, false, false));
+m1_table03.put(List.of("ee9b", "bfe47", "b71b", 0, 514, 0, true, true, false, "c493", "b737e", 39, 163236, false, false));
+m1_table03.put(List.of("b426", "cded", "e3c2", 1489, 1005, 0, true, true, false, "ceecb", "ecd6", 19093, 0, true, false));
+m1_table03.get("d49a");
+m1_table03.remove("e281");
+m1_table03.remove("dd35");
+m1_table03.put(List.of("d4ef6", "af8c", "c58c", 71, 0, 478, true, false, true, "ca3f", "c0ac", 381, 0, true, false));
+m1_table03.put(List.of("c711c", "ee8a", "b270a", 0, 390, 998, true, false, false, "bf5c", "d3c1d", 0, 416, false, false));
+m1_table03.put(List.of("f363", "bab0", "a41aa", 6228, 0, 0, true, true, true, "c332", "f0d8", 3, 0, false, false));
+m1_table03.remove("b89a");
+m1_table03.put(List.of("af978", "a101", "de07e", 35, 1897, 15, false, false, false, "e3b8", "d0d5", 0, 0, true, false));
+m1_table03.put(Arrays.asList(null, "c5f6", "d4b9", 0, 599, 14878, true, false, true, "a56e", "acc30", 2588, 0, false, true));
+m1_table03.get("ac387");
+m1_table03.put(List.of("e5a4", "ffcb", "bd33", 1, 0, 68, false, true, true, "fc5a", "cdf3", 107, 58, false, true));
+m1_table03.put(List.of("d3d8", "b769", "a175", 0, 543, 158334, true, false, true, "b1f3", "e844", 2, 17, false, true));
+m1_table03.put(List.of("c126", "e205", "cfbd", 299, 0, 62, false, true, true, "d1fc", "a7f6b", 0, 1, true, false));
+m1_table03.put(Arrays.asList("ec16", "e233", "b646", null, 0, 28395, true, false, false, "db399", "f17b", 0, 362, false, false));
+m1_table03.put(List.of("c028", "f314", "af38", 0, 5, 3373, true, true, false, "f162", "cf56", 0, 8098, false, false));
+m1_table03.put(List.of("a135", "b39b", "c22ce", 104802, 532, 0, false, true, false, "a9f2", "a999b", 1320, 8, true, true));
+m1_table03.put(List.of("f39a0", "e997", "ba51", 22, 0, 1, true, true, false, "a494d", "e1f5", 0, 46281, false, true));
+m1_table03.put(List.of("c01e", "a1d6", "d422", 0, 711, 0, false, false, false, "df1f", "e151c", 0, 52, true, true));
+m1_table03.put(List.of("d4d0", "de4f", "e4ff", 86, 0, 4, false, false, false, "f653", "a0ba", 19, 0, false, false));
+m1_table03.put(List.of("ee03", "f303", "ecb3", 39, 0, 0, false, false, false, "bc9d", "d26e", 116955, 12031, true, false));
+m1_table03.remove("e09c7");
+m1_table03.put(List.of("e125", "ba47", "b280", 0, 0, 55, true, false, true, "ae52", "b29f", 0, 0, false, false));
+m1_table03.put(List.of("b0b1", "f90d", "de6d", 0, 28, 139, false, true, true, "d5a5", "ace5", 0, 1102, false, true));
+m1_table03.put(List.of("abc1e", "a045", "c76c", 1399447, 513, 5314, false, false, false, "abe4", "e312", 0, 0, false, false));
+m1_table03.put(List.of("e9f9", "a8f9", "f1f68", 1, 21, 41099, true, true, false, "c204", "fcf3", 3723, 59464, false, false));
+m1_table03.put(List.of("edf2f", "a677", "e5d6", 5156, 138, 4, true, false, true, "eba4", "b07a3", 0, 29, true, false));
+m1_table03.remove("bf79e");
+m1_table03.put(Arrays.asList("b2423", "e756", "c3b89", 3, 12, 0, null, true, true, "a339f", "fccf8", 5, 0, true, false));
+m1_table03.put(List.of("a9b22", "a629", "be6f", 0, 0, 1, false, true, true, "de63", "f727", 0, 0, true, false));
+m1_table03.put(List.of("bf14c", "c74a", "ee2e", 1, 0, 5927, false, false, false, "eaec", "c8ca", 2227, 0, true, false));
+m1_table03.put(List.of("a925", "da4e", "ddaf", 12, 0, 930, true, true, false, "bb8a", "c341", 2, 0, true, true));
+m1_table03.put(List.of("ef76f", "a1dc", "dea3c", 0, 37, 4, false, true, false, "ce70", "e923", 14096, 0, false, true));
+m1_table03.put(List.of("d315", "bfa7", "caad", 0, 0, 70, false, true, false, "ee18", "ff65", 12, 140, true, true));
+m1_table03.get("a253");
+m1_table03.put(List.of("c543", "bcf30", "dedf", 0, 0, 0, false, true, false, "efa1", "a1e4", 0, 320, true, true));
+m1_table03.put(List.of("a4bc2", "b374", "bd68", 340838, 5, 0, false, false, true, "bd49", "e90cc", 0, 4932, false, false));
+m1_table03.put(List.of("f69d", "b3f4", "b9c7", 246, 0, 0, false, false, false, "e724", "cfa3", 0, 0, true, false));
+m1_table03.remove("c952");
+m1_table03.remove("ed51");
+m1_table03.remove("aca3");
+m1_table03.put(List.of("e282", "e9e9c", "bc1bf", 1, 15374, 1218, false, false, true, "d3de", "c11dd", 0, 0, false, true));
+m1_table03.put(List.of("c9a2", "f726", "ef20", 0, 0, 82313, false, false, false, "a01d", "bd56", 0, 263, false, false));
+m1_table03.put(List.of("de84", "b822", "c1a6", 6, 31907, 861, true, true, true, "eff2", "aa65", 0, 1677, false, true));
+m1_table03.put(List.of("f4aa", "bf07", "ce8d", 1, 0, 0, true, false, false, "f1dd", "cc85", 0, 22, true, false));
+m1_table03.put(List.of("db47", "f2ee", "f945", 757, 65, 0, true, true, true, "de94", "a8e48", 2, 0, false, false));
+m1_table03.put(List.of("e0ee", "d94e", "b5c6", 0, 96, 0, false, true, true, "ab50", "b603", 3, 12593, false, false));
+m1_table03.remove("a257");
+m1_table03.remove("e651");
+m1_table03.put(List.of("c157", "b5b2", "c9000", 2, 17175, 34, false, true, true, "cf67", "b2f9", 1506, 4015, true, true));
+m1_table03.remove("c7950");
+m1_table03.put(List.of("df8d", "b4dc", "dc80", 141, 0, 320, false, false, false, "cdb9", "c6c9", 99, 212, false, true));
+m1_table03.put(Arrays.asList("c458", "e4dd", "b8550", 0, 0, 0, true, true, true, "fbc8", "cd34", 0, 94707, null, false));
+m1_table03.remove("f2d7");
+m1_table03.put(List.of("bed7", "ae78", "cbe8", 0, 1, 0, true, false, true, "f085", "bba1", 43318, 3209, false, true));
+m1_table03.put(Arrays.asList("d6ef", "a5d8", "a16e8", 2, 0, null, false, false, true, "add1", "bdb4", 17, 0, false, false));
+m1_table03.put(List.of("e6fed", "fda5", "b176", 0, 0, 0, false, true, true, "d576", "a576", 0, 269, false, false));
+m1_table03.put(List.of("f619", "d5a2", "d9dd", 887, 0, 6073, false, false, true, "c205", "e251", 40231, 214, true, true));
+m1_table03.put(List.of("fcc2", "b3364", "aa35", 264, 22, 0, false, false, true, "a549", "cc26", 298211, 2885, true, false));
+m1_table03.get("ff4c3");
+m1_table03.put(List.of("ab347", "ab86", "b55a", 193, 1, 0, true, true, false, "c57e", "f21f", 689, 0, false, true));
+m1_table03.put(List.of("ddd0", "e6d9", "bcc7", 809, 48, 0, false, true, false, "f2a9", "a419", 0, 0, false, true));
+m1_table03.remove("b56e");
+m1_table03.put(Arrays.asList("a3d3", "c147", "c5fa", 112, 4, 5, true, true, true, "c9c6", null, 0, 0, true, false));
+m1_table03.put(List.of("a98b", "fa5d", "b817", 2, 637, 6483, false, true, false, "f197", "aef0", 0, 35990, true, false));
+m1_table03.put(List.of("c929", "d45ad", "d8f7", 0, 6, 4, false, true, true, "b99b7", "edca", 548, 13, false, false));
+m1_table03.put(List.of("c2741", "e435", "ca75", 32, 0, 0, false, true, false, "ddd31", "afc7", 633, 0, true, false));
+m1_table03.put(List.of("e47c", "b7c09", "a358", 343, 174, 0, true, false, true, "bc32", "a101c", 0, 2, false, false));
+m1_table03.remove("dad2");
+m1_table03.put(List.of("e07b", "bfd6", "a6df", 0, 0, 1037, false, true, false, "b6c5", "b899", 0, 0, false, true));
+m1_table03.put(List.of("d931", "b5c9", "b32d", 7101, 0, 133, true, false, true, "c27f", "b6d3", 1989, 36, false, false));
+m1_table03.put(Arrays.asList("d88c", "db45e", "b2da", 1, null, 2357, true, true, true, "b6ae", "e4d5", 0, 13199, false, true));
+m1_table03.put(List.of("eb2d", "b36c", "a553", 4574, 4, 194, false, false, true, "a190", "eb86", 0, 20, true, true));
+m1_table03.put(List.of("c3a43", "ca02", "dc0d", 54, 1, 0, false, false, true, "af16", "a11a", 0, 1, true, true));
+m1_table03.get("fd958");
+m1_table03.put(List.of("b470", "be8b5", "ea89", 6, 0, 0, false, false, true, "b621", "f8e4", 0, 0, true, false));
+m1_table03.get("d4fa");
+m1_table03.put(List.of("b20b", "fa39", "addc", 39976, 10, 4, false, true, true, "aa469", "a735", 19739, 0, false, false));
+m1_table03.put(Arrays.asList("e94a", "c37b", "a38d", 534, 664, 567, true, null, false, "a005", "a0e9", 0, 1020, false, false));
+m1_table03.put(List.of("ee9f", "d27f", "e045", 0, 484, 1160, true, false, false, "d662", "c469", 1363, 5825, true, false));
+m1_table03.put(List.of("a08b", "ffe2", "fd04", 2228, 4223, 0, true, true, true, "b814", "c624", 30, 6, true, false));
+m1_table03.remove("af53");
+m1_table03.put(List.of("c8de", "fa88", "f5eb", 95, 0, 1, false, true, false, "f738", "c3f8", 0, 0, true, true));
+m1_table03.put(List.of("f4961", "a512", "ab17", 1463, 0, 0, false, false, false, "b5c1", "bd260", 0, 0, true, false));
+m1_table03.put(List.of("a680", "c1b1", "ed3f", 1000, 251102, 5, false, false, true, "d3c7", "f00d", 0, 2, true, true));
+m1_table03.put(List.of("a20f", "a31d", "b1d83", 4, 0, 55, false, false, true, "f677", "c7e3", 10889, 0, false, false));
+m1_table03.put(List.of("bfc4", "d8517", "e5e2", 0, 8345, 224, true, true, false, "f8f90", "aa89", 10874, 7, false, false));
+m1_table03.remove("dd02");
+m1_table03.get("b535");
+m1_table03.put(List.of("e9f0b", "deb33", "cbc9", 66, 0, 1715, true, false, false, "a9be", "c59b", 0, 602, false, true));
+m1_table03.get("c465");
+m1_table03.put(List.of("b852e", "f51e2", "c424", 64, 1, 0, true, true, false, "d175", "c5a0", 1009, 5, true, false));
+m1_table03.get("b0571");
+m1_table03.put(Arrays.asList("ac96", "adaa1", "d4ec", null, null, 6356, true, true, false, "f816", "f71e", 65, 0, true, false));
+m1_table03.put(List.of("a261", "ec1e", "d23a", 194, 3, 783, true, false, true, "e5ce", "fb0f", 3390, 41966, true, true));
+m1_table03.put(List.of("a7d0", "aa95", "d9c42", 15, 789, 6, false, true, false, "d913", "ad5f", 1, 35, true, true));
+m1_table03.get("a116");
+m1_table03.put(List.of("c08c5", "b31c8", "fc9d", 21, 0, 7, false, false, false, "ea74", "b8ce9", 0, 1, true, false));
+m1_table03.put(List.of("c5fbb", "d3e6", "c2b4", 8334, 46, 93, true, false, false, "f0e6", "ff17", 0, 2574, false, false));
+m1_table03.put(List.of("d698", "ab55", "f010", 48, 5, 37, false, false, false, "e9b4", "e168", 126, 2, false, false));
+m1_table03.put(List.of("e39c", "c8ab1", "d4d8", 366, 6, 0, true, true, true, "cf68", "ac6e", 58, 375, true, true));
+m1_table03.get("abfb");
+m1_table03.remove("ee80");
+m1_table03.put(Arrays.asList("f4c1", "dbc8", "b654", 0, 13, 425, false, false, false, "f2f6", null, 62, 0, false, false));
+m1_table03.put(Arrays.asList("d7b0", "ba79", null, 3, 0, 36130, true, true, true, "d84e", "b4fa", 2484, 521, false, false));
+m1_table03.put(List.of("fdac", "e9568", "fad5", 509, 0, 431, true, false, true, "a2b1", "d13b", 21, 2115, false, false));
+m1_table03.put(List.of("e62d", "adda9", "a4cf", 308, 0, 1, false, false, false, "d9ed", "c2e4", 1805, 36, false, false));
+m1_table03.get("aeb5");
+m1_table03.put(Arrays.asList("f3b5", "ce95", "af6c", 140, 47, null, true, false, false, "cbd92", "d8e0", 189, 28152, true, false));
+m1_table03.get("f6fd");
+m1_table03.put(List.of("f173", "c6ff", "d5d2", 0, 73, 1, true, false, true, "b515", "f919", 5, 2, false, true));
+m1_table03.put(List.of("d1cc8", "e29b", "b9da", 0, 145, 0, false, true, true, "d180", "ceea", 0, 1718, true, false));
+m1_table03.remove("e3ab");
+m1_table03.get("dadd");
+m1_table03.get("cee0");
+m1_table03.put(List.of("b21b", "dad5", "d017", 0, 0, 0, false, false, true, "d929", "f348", 0, 1, true, true));
+m1_table03.put(List.of("b8d2", "e17c", "c022", 8954, 100, 0, true, false, false, "d8d5", "d316", 5, 4, true, false));
+m1_table03.put(List.of("e593", "d091", "f8ec", 0, 13, 0, false, false, false, "c37e", "e27d", 20, 13, false, true));
+m1_table03.put(List.of("a664", "d96a", "a7ae11", 1, 11589, 0, false, true, false, "a1d2", "b94e", 13020, 0, false, false));
+m1_table03.put(List.of("b50a", "b9b2", "f7f4", 88, 3, 94, false, false, true, "a024", "cbbd", 0, 0, false, true));
+m1_table03.remove("b11e");
+m1_table03.put(List.of("c823", "da7f", "eb0b", 16, 1, 6676, false, false, true, "ba57", "ceb7", 6, 2, true, true));
+m1_table03.put(List.of("a6f3", "f168", "c1b00", 42, 1217, 0, false, true, false, "fb3e", "de23", 0, 0, true, true));
+m1_table03.put(Arrays.asList("f304", "ef91", "fdc8", 3, 50, 0, false, null, true, "e5f0", "c400", 32, 0, false, false));
+m1_table03.put(List.of("fe2d", "a4b8", "fb7e", 85575, 3, 11, true, true, true, "df23", "ecf2", 533, 69, true, true));
+m1_table03.put(List.of("fce4b", "b7c2", "a1d9", 1177, 0, 27, true, true, true, "aba8", "ed35", 49, 1, false, true));
+m1_table03.put(List.of("d969", "a942", "e9b3", 7768, 10221, 0, true, true, true, "e4d7", "aa2c", 0, 5, false, true));
+m1_table03.put(List.of("eae6", "e3a5", "d833", 10860, 12, 0, true, false, false, "f53b", "ad03", 55, 38, false, false));
+m1_table03.put(List.of("ba9a", "ba099", "dbc1", 0, 0, 30, false, false, false, "cb4c7", "b0db", 59, 0, false, true));
+m1_table03.put(List.of("d329", "bc1f", "ee79", 0, 1844, 349725, true, false, false, "ccd1", "a213", 324, 0, false, false));
+m1_table03.put(List.of("e92b", "a6ced", "b14e", 10, 0, 163541, true, true, false, "ba9b", "aad42", 0, 5664, false, false));
+m1_table03.get("d0f1");
+m1_table03.remove("d847");
+m1_table03.put(List.of("f628", "e7bf", "e68f", 0, 0, 0, false, false, true, "f113", "d5fe", 0, 0, true, true));
+m1_table03.remove("c6c0");
+m1_table03.put(List.of("d305", "fc364", "dd3f", 14, 0, 0, true, false, false, "f6dc", "adb10", 298, 26, true, false));
+m1_table03.get("d0a9");
+m1_table03.put(List.of("e9dc7", "f058", "a494", 7, 45208, 26, false, false, true, "b2c3", "cd84e", 354, 22, true, true));
+m1_table03.put(List.of("c6d1", "aaad4", "d7e0", 0, 101, 0, false, true, true, "c084", "a387", 27, 0, false, false));
+m1_table03.put(List.of("a6ae", "f7dc", "c40f", 21, 23, 0, true, true, false, "dbce", "cd1d", 67, 4, false, false));
+m1_table03.put(List.of("f9c8", "ae5a6", "c06c", 0, 9141, 0, true, true, true, "db9a", "b7f06", 218, 0, false, true));
+m1_table03.put(List.of("d232", "ecad", "f31e", 0, 602, 996, true, false, false, "f16e", "f7df", 1, 0, false, true));
+m1_table03.put(List.of("bb551", "da61", "bd05", 0, 14785, 17016, false, false, false, "a589", "cee09", 124, 426, true, false));
+m1_table03.put(List.of("f17d", "d85aa", "a79f", 35, 19891, 20, false, true, true, "eb48", "aaac", 0, 415, false, true));
+m1_table03.put(List.of("c1c7a8", "aa42", "dffa", 0, 260, 0, true, true, false, "c45d", "ab8e", 0, 0, false, false));
+m1_table03.put(List.of("a4235", "cb67", "dbb8", 9619, 0, 155, true, true, true, "b1ef", "d99c", 15, 0, true, true));
+m1_table03.put(List.of("a561", "e888", "fc1a", 0, 74, 0, false, true, true, "eb4a", "cc3b7", 0, 0, false, false));
+m1_table03.put(List.of("cc68", "d766", "d386", 2, 0, 0, true, true, false, "fab4", "af2c", 0, 0, false, false));
+m1_table03.put(List.of("a68db", "ed5e", "c226", 0, 650, 0, true, true, false, "a370", "a37d", 9, 107979, true, true));
+m1_table03.put(List.of("d42a", "ba288", "b3cb", 46, 0, 0, false, false, false, "cb218", "e57d", 0, 22, true, false));
+m1_table03.put(List.of("aecb", "ecbb", "a0d9", 712, 965, 159, false, true, false, "be298", "a4e4", 0, 0, true, false));
+m1_table03.put(List.of("d94d", "c44f", "e59d", 0, 0, 0, false, true, true, "f607", "b3ac", 124, 4508, false, false));
+m1_table03.put(List.of("eb1e", "bd7a", "a57fc", 47, 3, 0, false, true, true, "d9d9", "d442", 2625, 447, false, true));
+m1_table03.put(List.of("db01", "c70e", "fb45", 0, 414, 0, false, true, false, "ce71", "c2e3", 24, 2, true, true));
+m1_table03.remove("a5749");
+m1_table03.remove("a9da");
+m1_table03.get("b5e4");
+m1_table03.put(List.of("ae205", "edce8", "f64e", 83277, 0, 0, true, true, true, "bc43", "db43", 0, 3, false, false));
+m1_table03.put(List.of("a072", "c667", "d88b", 0, 95, 6, true, true, false, "fdc1", "b337", 0, 57, true, false));
+m1_table03.put(List.of("a0c2", "d4c6", "c39ac", 0, 145, 0, true, false, false, "c63a", "a7d84", 6, 2005, false, true));
+m1_table03.put(List.of("a998", "d6c6", "b861", 33288, 16, 42, false, false, true, "d132", "b966", 0, 0, false, true));
+m1_table03.put(List.of("f630", "b56c", "a783", 0, 2245, 64, false, false, false, "a7ac", "a874", 0, 8, false, false));
+m1_table03.get("eea6");
+m1_table03.put(List.of("f4ee", "d17d6", "d919", 1601792, 0, 4532, false, false, true, "f5fa", "f082", 0, 0, false, false));
+m1_table03.put(Arrays.asList("a22a8", "fa80", "f623", null, 0, 0, true, false, true, "f0a5", "db23e", 0, 395, true, true));
+m1_table03.put(List.of("b6f91", "c25b", "e64d", 2, 0, 0, false, false, false, "e6bf5", "b5df", 0, 264, true, false));
+m1_table03.put(List.of("e8e1", "e726", "c4d51", 129, 11048, 62, false, true, true, "e4b0", "bf4d", 0, 0, false, false));
+m1_table03.put(List.of("af4d", "e1c9e", "ac97f", 1, 25, 5439, true, false, false, "f52b", "fed2", 0, 0, true, false));
+m1_table03.put(List.of("f543", "b1876", "ce25", 2698, 0, 9198, true, false, false, "a16e", "ffa1", 29, 0, false, true));
+m1_table03.remove("f1cd");
+m1_table03.put(List.of("fd83", "fe55", "d901", 17, 3, 12898, true, true, false, "d0fe", "ea1a", 7689, 0, false, false));
+m1_table03.remove("e5a5");
+m1_table03.put(List.of("b3e2", "aeba", "aba4", 1343, 337, 7326, false, false, true, "ea302", "a652", 33677, 13368, true, true));
+m1_table03.put(List.of("a88e", "ec3b", "a3b25", 2264, 0, 40, false, false, true, "c2730", "e78c", 128, 25929, true, true));
+m1_table03.remove("cc5d4");
+m1_table03.get("e6cd");
+m1_table03.remove("bfe1");
+m1_table03.put(List.of("b98a", "bd27", "f484", 0, 685, 9, false, true, false, "abe0", "e492", 0, 31, true, true));
+m1_table03.put(List.of("a7c2", "d917", "bcff", 11, 62, 821, false, true, true, "a12a", "e34de", 0, 0, true, true));
+m1_table03.put(List.of("a7da", "ca56", "fafb", 6, 442310, 0, true, true, false, "c15f", "ade0", 323, 0, true, true));
+m1_table03.put(Arrays.asList("f76cb", "a251", "d00b", 0, 995, 5, true, null, true, "bbaf", "b2f0b", 0, 64, false, false));
+m1_table03.put(List.of("ef16", "b3a7", "b753", 0, 0, 1505, false, false, false, "aae2", "a46d", 12, 0, true, true));
+m1_table03.remove("bd3f");
+m1_table03.remove("ffca2");
+m1_table03.put(List.of("a8bd4", "f2e8e", "c17c", 5, 4, 0, true, true, false, "ca62", "cada", 3612, 9, true, true));
+m1_table03.put(List.of("f82c", "b13e", "c20e", 5162, 9, 0, true, true, true, "dd74", "a160", 58, 45, false, false));
+m1_table03.put(List.of("b458", "d100", "fdba", 1, 32248, 1, false, false, false, "ebc7", "afa4d", 730, 26, false, false));
+m1_table03.remove("eeca");
+m1_table03.get("aeee");
+m1_table03.remove("ace0");
+m1_table03.put(Arrays.asList("a09a", "e225", "f0a4", 0, 12, 51, true, true, false, "ba6dc", "d600", null, 1, false, false));
+m1_table03.put(List.of("f22a", "b4ac", "d3ce", 3904, 0, 13, false, false, false, "a8a6", "d912", 43, 3705, true, true));
+m1_table03.put(List.of("ec31", "a9a87", "d3c5", 0, 1, 17729, true, false, true, "bb2d", "a3c3", 7819, 9, false, false));
+m1_table03.put(Arrays.asList("ae41", null, "c945", 0, 4, 4, false, false, false, "c0a8", "d2b6", 1, 80, true, true));
+m1_table03.get("d8db");
+m1_table03.remove("ffc5");
+m1_table03.put(List.of("fc19", "ab08", "d986", 63, 0, 2, false, false, true, "b59b5", "b230", 303, 1376, true, true));
+m1_table03.put(List.of("c174e", "e73d", "ec50", 0, 2, 30, false, false, false, "fe1b", "df19", 8, 0, false, false));
+m1_table03.put(List.of("c59c4", "aa22", "ed5f", 0, 717, 83, true, true, false, "a2a36", "e9f7", 251, 3, true, true));
+m1_table03.put(List.of("a5d1", "a5e8", "e7b62", 0, 0, 1, false, false, false, "bfff", "cf12f", 70, 5125, false, false));
+m1_table03.put(List.of("e69a", "e6d2", "baf2", 1723, 0, 0, false, true, true, "d154", "e5d4", 0, 980, true, true));
+m1_table03.put(List.of("c742", "f6f0", "a9cf", 18021, 0, 13153, false, true, false, "ad51", "dccb", 578, 0, false, true));
+m1_table03.put(Arrays.asList(null, "e545", "a195e", 0, 0, 2143, true, false, true, "bc89", "d3cc8", 55, 1, false, false));
+m1_table03.put(List.of("cfc0", "d4bb", "aea81", 21, 0, 78, false, true, false, "cf61", "af665", 0, 0, false, false));
+m1_table03.put(List.of("a899", "bbf2", "b1f34", 24, 2180, 0, true, true, true, "acac", "a65e", 8, 1, false, true));
+m1_table03.get("b644");
+m1_table03.put(List.of("aaf5", "defc", "b205c", 0, 0, 25, true, true, true, "d858", "ada7", 0, 0, false, false));
+m1_table03.get("da82");
+m1_table03.remove("e07f");
+m1_table03.put(List.of("fc0e", "b207", "c93e", 1143, 0, 0, true, true, false, "b194f", "df457", 0, 0, true, false));
+m1_table03.put(List.of("b99a5", "d85a5", "ce22", 0, 11, 1341, true, true, false, "f60b", "adc4b", 0, 199, true, false));
+m1_table03.remove("ac8e2");
+m1_table03.remove("c6c4");
+m1_table03.put(List.of("cf474", "b32b", "ee1d", 129, 0, 1, true, false, false, "cfb2", "a82e", 0, 0, true, false));
+m1_table03.remove("a1ff");
+m1_table03.put(List.of("b54b", "b15b", "b793", 160, 0, 0, true, false, true, "d176", "e117", 41779, 478, false, true));
+m1_table03.remove("abfa");
+m1_table03.put(List.of("bbb15", "a24d", "e66a", 31, 6, 3, false, true, true, "e359", "afb4", 924, 402, true, true));
+m1_table03.put(List.of("c321", "c1de", "d9fe", 37162, 3, 11721, true, true, true, "c0dfd", "e591", 0, 0, true, true));
+m1_table03.put(List.of("df88", "ae85f", "aae0", 0, 249, 0, false, true, true, "d052", "f5f9", 2, 0, true, false));
+m1_table03.put(List.of("c27b7", "c8f5", "c0e2", 0, 2, 0, false, true, false, "a33c", "a3ec", 44, 10, true, true));
+m1_table03.remove("d2a2");
+m1_table03.put(List.of("baa1", "ce75", "a1774", 0, 5, 6, true, true, false, "f17a", "b737", 862, 0, true, true));
+m1_table03.put(List.of("a29b", "ac11", "bc40", 0, 391, 2, false, true, true, "b5d6", "b054", 56, 282818, false, true));
+m1_table03.put(List.of("aa7e", "f693", "b326", 2584, 0, 0, false, false, false, "d2e7", "acfe6", 0, 0, true, true));
+m1_table03.put(List.of("cc8d", "da75", "d62a", 0, 0, 5, false, false, true, "a660", "c8d9", 12228, 0, true, true));
+m1_table03.put(List.of("c9da", "ac19", "e0af", 6, 0, 0, false, false, false, "a493", "c507", 159, 87675, false, false));
+m1_table03.put(List.of("a9e4", "d2ef", "ee79d", 57, 0, 43, true, false, true, "eeef", "a4e2", 4, 0, false, false));
+m1_table03.put(List.of("d635", "e57a1", "a917", 100, 1592, 253, false, false, true, "d237", "a7f7", 0, 0, false, true));
+m1_table03.put(List.of("f40f", "dab2", "b41c", 0, 65, 0, false, false, false, "d297", "b21c", 0, 62005, true, true));
+m1_table03.remove("d6d5");
+m1_table03.put(List.of("a5f9", "afa2", "fdda", 0, 0, 51, true, false, true, "d6bb", "c4666", 7, 57, true, true));
+m1_table03.remove("c421");
+m1_table03.put(List.of("e1556", "f9ce", "d045", 7, 3, 378, true, true, true, "b14a", "c68f", 78257, 1, true, true));
+m1_table03.put(List.of("b3e3", "d895", "b2640", 0, 8877, 0, true, false, false, "eece", "e115", 563, 5, false, false));
+m1_table03.put(List.of("ff93", "d639", "e394", 8248, 40, 259, false, true, false, "fc18c", "dc84", 0, 0, true, false));
+m1_table03.put(List.of("a87d3", "bd1c", "d389", 649475, 184383, 0, true, false, false, "fb3d", "bbb8", 0, 0, true, false));
+m1_table03.put(List.of("faad", "d5ab", "a75a", 1, 4, 0, true, false, true, "fc5e", "d9d0", 12, 5, false, false));
+m1_table03.put(List.of("dc24", "e8c8", "f309", 142, 966, 0, false, true, true, "acbb9", "de82", 100, 0, false, false));
+m1_table03.put(List.of("ce7b", "f94c", "c420", 0, 2, 128, false, true, true, "befc", "e858", 0, 0, true, true));
+m1_table03.put(Arrays.asList("a7f4", "db4a", "cb9f4", 72, null, 0, false, false, false, "c9833", "af24", 5, 107, false, true));
+m1_table03.remove("ca9d");
+m1_table03.put(List.of("c919", "ae91a", "d2b3", 16753, 0, 0, true, true, false, "a17c", "deca", 28, 0, false, true));
+m1_table03.put(List.of("dd36", "e3de", "e2ce", 0, 2, 225270, false, false, true, "c781", "a2a6", 370, 0, true, true));
+m1_table03.put(List.of("aed4", "ed30", "a85f", 0, 12, 0, true, true, false, "e44c", "edff", 3, 0, true, false));
+m1_table03.put(List.of("befb", "b2ce", "ec0ae", 0, 0, 0, true, false, false, "fc4f", "f344", 3, 100453, true, false));
+m1_table03.get("ef7e");
+m1_table03.put(List.of("a927", "f70a", "c74f", 0, 1, 16, false, false, true, "c528f", "cc8a", 86, 0, true, true));
+m1_table03.put(List.of("f8b5", "c28d1", "ec6c", 157102, 0, 0, false, false, false, "bb31", "f55e", 1992, 0, false, true));
+m1_table03.put(List.of("b255", "eda6", "d471", 88599, 700, 8, false, false, true, "cda33", "d2af", 0, 16, true, true));
+m1_table03.put(List.of("e6b3", "a812", "d37a", 0, 0, 0, true, false, true, "ef33", "ec87", 0, 0, true, true));
+m1_table03.remove("d916");
+m1_table03.put(List.of("a10b", "e5f9", "b31b", 3, 0, 1, false, true, false, "b00a", "d571", 264, 0, true, false));
+m1_table03.put(List.of("ea13", "ab1d7", "d50d", 3, 1835, 5, false, false, true, "e5c5f", "a907e", 0, 290476, true, true));
+m1_table03.remove("e7d0");
+m1_table03.put(Arrays.asList("be36", "c4a4", null, 504, 40018, 578, false, true, false, "fd99", "a235", null, 104462, false, true));
+m1_table03.put(List.of("a7aa", "f279", "b2fe", 68, 355, 18, true, false, false, "ecec", "b8fe", 0, 8793, false, false));
+m1_table03.put(Arrays.asList("c8db", "a9d39", "b1e8", 3, 0, 55236, true, null, false, "de92", "c4982", 2852, 3016, true, false));
+m1_table03.put(List.of("bfe24", "c5d2", "c415", 2, 4, 2642, false, true, false, "cef0", "bb5bf", 0, 858, false, false));
+m1_table03.put(List.of("b757", "def3", "b0f1", 10, 19843, 0, true, true, true, "d4e26", "e3b1", 0, 35, true, false));
+m1_table03.put(List.of("e08b", "f46b", "d10a", 155, 724, 0, true, true, false, "fef8", "a5248", 0, 0, true, true));
+m1_table03.remove("c5d16");
+m1_table03.put(List.of("d71d", "d51c", "cc90", 0, 1, 0, false, false, false, "adbc", "cbfd", 0, 6350, false, true));
+m1_table03.put(Arrays.asList("ca96", "b39d", "bd21", 20, 0, 281, false, false, false, "d2e8", "f15e", 110, 614, false, null));
+m1_table03.put(List.of("bdd5f", "d323", "c3b8", 10552, 6602, 0, true, false, false, "ed09", "fba9", 0, 0, false, false));
+m1_table03.put(List.of("fc03", "cbfb8", "f05f", 3, 50, 0, false, true, false, "b4e8", "d87a", 0, 3, false, false));
+m1_table03.put(Arrays.asList(null, "feff", "ead2", 0, null, 11590, true, true, true, "c32e4", "a8fbd", 0, 0, true, true));
+m1_table03.remove("c7b1");
+m1_table03.put(List.of("cd22", "dfa7", "add4", 0, 56, 3, true, true, false, "c403", "e486", 68, 2, true, true));
+m1_table03.put(List.of("f818", "bfe8", "ed94", 0, 2, 3, false, true, true, "c5c8", "f436d", 0, 5, true, false));
+m1_table03.remove("d4fff");
+m1_table03.put(List.of("abf4", "fc1d", "d07f", 413, 0, 414, true, false, false, "b8bc", "c452", 0, 34, true, false));
+m1_table03.remove("d34b6");
+m1_table03.put(List.of("e1b1", "b8da", "aa30", 6827, 47, 49198, true, false, false, "bbe09", "d553", 22, 0, false, false));
+m1_table03.put(List.of("d4b79", "bd00", "dc89", 11, 1, 27, false, true, false, "a30a", "d572", 42, 31, true, true));
+m1_table03.remove("ed89e");
+m1_table03.remove("af04");
+m1_table03.put(Arrays.asList("f3f16", "b8502", "eed0", 2, 65, 1087, false, false, true, "fbad", "fab1", null, 0, true, true));
+m1_table03.put(List.of("dc85", "fb9b", "de0d", 4, 26, 183, true, true, true, "fd0e", "d92d", 0, 1, false, false));
+m1_table03.put(List.of("ba86c", "dacb", "e1e3", 0, 1, 0, false, false, true, "af62", "a4cff", 8, 0, true, false));
+m1_table03.remove("b419");
+m1_table03.remove("a697");
+m1_table03.put(Arrays.asList("caf7", "f0ff", null, 33768, 0, 90, false, false, true, "b39c", "e101", 3, 0, true, true));
+m1_table03.put(List.of("d621", "d384", "a08d", 0, 11, 0, true, true, false, "d1071", "be74", 11891, 0, true, false));
+m1_table03.put(List.of("aa6e", "f0f8", "b875", 76, 0, 0, false, true, false, "e36bd", "b18f", 0, 0, false, true));
+m1_table03.remove("b722");
+m1_table03.put(List.of("c0d3", "d103", "db2d", 0, 0, 0, false, false, false, "f093", "cdfe", 0, 0, true, false));
+m1_table03.remove("a784");
+m1_table03.remove("ee5a");
+m1_table03.put(List.of("de59", "e3d2", "c69ad", 104, 0, 33018, true, false, false, "d793", "c77f", 0, 23, false, true));
+m1_table03.get("fcf07");
+m1_table03.put(List.of("b72b", "d2bb", "bfc5c", 307, 3, 1, false, true, false, "c377", "a8074", 0, 185, true, true));
+m1_table03.put(List.of("e37e", "fc75", "ea1f", 0, 0, 0, true, false, false, "eef8", "bcb1d", 0, 44, true, true));
+m1_table03.remove("b0d1");
+m1_table03.put(Arrays.asList("ca5294", "e6a2", "dd46", 1, null, 0, true, true, false, "d8676", "f3b1", 28, 0, false, true));
+m1_table03.get("c184");
+m1_table03.put(List.of("f073", "a659", "e148", 1, 0, 0, false, true, true, "ea874", "fbc1", 0, 0, true, true));
+m1_table03.put(Arrays.asList("ecae", "e55c", "ce76", 565, 0, 0, false, false, true, "a09c", null, 9478, 1, false, false));
+m1_table03.remove("e4d1");
+m1_table03.put(Arrays.asList("fddd", "a41e6", "fc9d5", 0, 0, 0, true, true, false, "ae09", "f302", 38086, null, true, true));
+m1_table03.put(List.of("ac9b", "ddbb", "e337", 0, 0, 1, true, true, false, "da9c", "bb1e", 0, 0, false, true));
+m1_table03.remove("fc947");
+m1_table03.remove("ccf13");
+m1_table03.put(Arrays.asList("e109f", "dabb", "c27d", 0, 13397, 0, true, true, true, "bdf39", "f4ba", 323, null, true, true));
+m1_table03.get("f713");
+m1_table03.put(List.of("d28c", "ca6b", "e803", 0, 126, 0, true, false, true, "bfb1", "d5a1", 258, 63, false, true));
+m1_table03.remove("e839");
+m1_table03.put(List.of("a563", "d07e", "fd25", 2634, 52560, 62, false, true, false, "b42f", "e753", 1601, 0, true, false));
+m1_table03.put(Arrays.asList("c609", "fac4", "f9a2", 0, 6, 17218, null, true, false, "a8b8", "ae7b", 168, 0, true, true));
+m1_table03.remove("f8e7c");
+m1_table03.put(List.of("bd63", "efbc", "c4ee", 0, 2, 0, true, false, true, "e82b", "c40c", 8, 0, false, true));
+m1_table03.put(Arrays.asList(null, "c1794", "a6719", 0, 483, 17732, false, true, false, "fad32", "a7ea", 25, 0, true, false));
+m1_table03.remove("c442c");
+m1_table03.remove("ed8c");
+m1_table03.put(Arrays.asList("e46b", null, "b3b52", 19, 10339, 0, false, true, true, "f4ce", "e046", 0, 10422, false, false));
+m1_table03.get("d890");
+m1_table03.put(List.of("a3aa", "a748", "f22b", 545, 0, 0, true, false, true, "b338", "d9b1", 0, 44180, false, false));
+m1_table03.put(List.of("a8739", "cd46", "b075", 0, 12, 1169, false, true, true, "cef9", "a1cdd", 477, 1364, false, false));
+m1_table03.put(List.of("dbf71", "ec13", "ef3a", 44282, 0, 5, true, true, true, "ae63", "ac54", 0, 237, false, false));
+m1_table03.get("b4c8");
+m1_table03.put(List.of("e44d", "fcec", "e704f", 0, 0, 100, false, true, true, "d5cef", "a508c", 170, 0, true, false));
+m1_table03.put(List.of("f557", "c5f51", "f757", 0, 0, 0, false, false, true, "eb0ea", "b636", 40, 35, false, false));
+m1_table03.put(List.of("d1ee", "b37f", "dc55", 0, 0, 0, true, false, true, "a3fa", "b851", 358, 0, false, false));
+m1_table03.put(Arrays.asList("df90", "f011", "e4f2", 3, 0, 21334, false, false, true, "d31a", null, 1, 502, true, true));
+m1_table03.get("cc99");
+m1_table03.put(List.of("d5cb", "ec39", "d4d6", 0, 0, 24, false, false, false, "bbafe", "b316", 0, 0, true, false));
+m1_table03.get("bfb57");
+m1_table03.put(List.of("bf9a", "fdd8", "e2bb", 23286, 0, 0, false, false, false, "f868", "b242", 126, 7, false, true));
+m1_table03.put(List.of("b5f7f", "fa07", "bd9b", 25, 0, 402, true, false, true, "fa7f", "dce8", 0, 0, true, false));
+m1_table03.get("a816");
+m1_table03.put(List.of("b0cf", "d6685", "f3ef", 0, 168, 29, false, true, false, "a5b9", "e547", 180, 28321, false, true));
+m1_table03.put(List.of("fd3f", "b420", "f330", 33, 3962, 1, false, true, true, "ebe4", "b4fc0", 4, 0, true, true));
+m1_table03.put(List.of("bd30", "ff384", "a38ba", 0, 0, 80, false, true, true, "bb20", "ede8", 25, 0, true, true));
+m1_table03.get("f1132");
+m1_table03.put(List.of("b2d1", "ee3b2", "f378", 10, 0, 26, true, true, true, "bbd7", "fd40", 0, 0, true, true));
+m1_table03.remove("fe40");
+m1_table03.put(List.of("cd0e", "c343", "f74b", 0, 13305, 1, false, true, false, "cf58", "d18a", 0, 0, true, true));
+m1_table03.put(List.of("a715", "c902b", "a153", 0, 4, 531, true, true, false, "cb3a", "cde9", 97, 1035, true, false));
+m1_table03.put(List.of("ca41", "f086", "e321", 473824, 16, 6556, true, true, true, "eebc", "d9bd", 0, 0, false, false));
+m1_table03.remove("c99e");
+m1_table03.put(List.of("d74d", "c447", "d730", 0, 0, 0, false, true, true, "d654", "f58a", 0, 343, false, true));
+m1_table03.get("ddaf2");
+m1_table03.remove("ce26");
+m1_table03.put(Arrays.asList("f8d9", "d4ae", "cc663", 150, 9, 5, false, false, true, "df9b", "a14e", null, 1, true, false));
+m1_table03.remove("ae89");
+m1_table03.put(List.of("c807f", "bbb99", "a828", 1, 395, 1, true, true, true, "a685", "fb96", 6981, 18, false, true));
+m1_table03.put(List.of("b6436", "cbc8", "dbe0", 0, 155, 1714, false, true, false, "e970", "b68f3", 0, 0, false, true));
+m1_table03.put(List.of("ae1fb", "fa93", "e879", 0, 1, 0, false, true, false, "bdf7", "d48d", 1841, 1381, true, false));
+m1_table03.put(List.of("fd14", "f8ca", "c1e6", 0, 0, 3757, true, true, true, "e9bc", "db36", 0, 0, false, true));
+m1_table03.remove("deb3");
+m1_table03.put(List.of("b3ea", "a111", "d5bbe", 4, 0, 0, false, true, false, "aab4", "a02a6", 1995, 5, false, false));
+m1_table03.put(List.of("a8eac", "ec49", "d1aa", 12, 103, 1, true, false, true, "d9a7f", "bbb9", 0, 6319, false, false));
+m1_table03.put(List.of("c662", "d50e", "b32e", 2077, 5340, 156, false, true, true, "e344", "aaad", 0, 760, true, false));
+m1_table03.put(List.of("db6d", "fd0b", "a15a", 2, 44, 0, true, false, true, "cdde3", "cd95", 304, 0, true, false));
+m1_table03.get("dcd67");
+m1_table03.put(List.of("c551", "eb8db", "c22e", 0, 13, 0, true, true, false, "f9f62", "b8c2", 0, 0, true, true));
+m1_table03.put(List.of("bcde", "e1b9", "a959", 0, 0, 77, false, true, true, "ed9d", "ebe3", 0, 25, true, false));
+m1_table03.put(List.of("aa15", "b69a5", "b7d0a", 0, 7948, 0, true, true, false, "fee2", "cd70", 0, 0, true, false));
+m1_table03.put(List.of("ae782", "f716", "fad8d", 30, 0, 250, false, false, true, "b252", "a9c6", 0, 0, false, false));
+m1_table03.put(List.of("f7a05", "b4c0", "a307", 0, 0, 369, true, true, false, "d7f0", "e113", 132, 0, false, false));
+m1_table03.put(List.of("b1f42", "da35", "eb18", 19, 1, 0, true, false, false, "d25f", "fdfd", 23, 0, false, true));
+m1_table03.put(List.of("f73d", "b94f", "be86", 0, 0, 187, false, true, true, "cae3", "c6d3", 1, 0, false, true));
+m1_table03.get("ed89a");
+m1_table03.put(List.of("b1ac", "c59a", "beed", 0, 699, 2362, false, true, true, "c7f6", "e9eb5", 394, 0, false, false));
+m1_table03.put(List.of("e3fe", "c995", "ea6a", 0, 585, 1956, false, false, false, "d676", "fda0", 6907, 671, false, false));
+m1_table03.put(List.of("af1d", "c59d", "b3f5", 15, 0, 5, false, true, true, "a6b07", "bc39", 0, 0, false, true));
+m1_table03.put(List.of("b6d4", "be11", "cc1f9", 2, 1915, 1389, false, false, true, "df99", "ac8ac", 18632, 813, false, true));
+m1_table03.get("e8a0");
+m1_table03.put(List.of("adfb", "af3c", "ea2a", 36, 20, 90, false, false, true, "cfda", "e707", 174212, 0, false, false));
+m1_table03.put(List.of("a0bb", "b4c87", "a181", 12, 8, 44, true, true, true, "c20a", "b57eb", 0, 0, false, true));
+m1_table03.remove("ed61");
+m1_table03.put(List.of("d036", "c6c1", "c60a", 1041, 0, 0, true, true, true, "b876", "d687", 0, 28, true, true));
+m1_table03.put(List.of("d4b8", "b93af", "a73f", 0, 0, 0, false, true, false, "a510", "c686", 599, 0, false, true));
+m1_table03.remove("b1ed");
+m1_table03.put(List.of("e9fd", "d7a2", "bd96", 1, 3, 2546, false, true, true, "c2ff", "b015", 1285, 3, false, false));
+m1_table03.put(List.of("c5b9", "f7dd", "bf0e", 1916, 0, 15, true, false, false, "f2f8", "e85c", 55, 24, true, false));
+m1_table03.put(List.of("dabbf", "faab", "e1af", 38, 0, 22, false, true, false, "cc21", "de6e", 0, 5419, false, false));
+m1_table03.put(List.of("f41a", "bccc", "ebcc", 487, 44, 0, false, false, true, "c58a", "a70f", 0, 6086, true, true));
+m1_table03.get("bcc8");
+m1_table03.get("ff1f0");
+m1_table03.remove("ca85");
+m1_table03.get("ba52");
+m1_table03.put(List.of("f400", "d6e5", "f0d6", 0, 159, 28, true, false, false, "f548", "ae3d", 0, 0, true, false));
+m1_table03.put(List.of("c85f", "e5de", "ccb7", 2454, 0, 11, true, true, true, "cad90", "a65f", 0, 0, false, false));
+m1_table03.put(List.of("c48d", "d47c", "dc7a", 10, 6, 0, true, false, false, "a20e", "e98e", 1430, 0, false, false));
+m1_table03.put(List.of("d1e7", "c4f7", "bb7a", 14758, 276, 1, true, true, false, "bc54", "a6a7", 0, 4704, true, false));
+m1_table03.put(List.of("f9a1", "b3e7", "c462b", 348, 0, 1659, false, false, true, "a209", "b528", 64, 2, true, false));
+m1_table03.put(List.of("e426", "dcb0", "dbd85", 52, 0, 2, false, true, true, "fc5d2", "d3455", 502, 0, true, false));
+m1_table03.put(List.of("cebc", "cbe3", "cf82", 0, 0, 64, false, true, true, "bdc0", "f846", 0, 0, true, true));
+m1_table03.remove("feef");
+m1_table03.put(List.of("a9b3", "a7a2", "d8c0", 0, 0, 9, true, false, true, "fc8e", "a84f5", 4, 4, false, true));
+m1_table03.remove("c893");
+m1_table03.put(List.of("f642", "d862", "eaab", 21329, 14392, 13, false, true, true, "af5b6", "a3e52", 0, 2695, false, false));
+m1_table03.put(List.of("c6ea3", "f64f", "c001", 48, 845, 25488, true, true, true, "e8f4", "e63a", 0, 0, false, false));
+m1_table03.remove("c27e");
+m1_table03.remove("a644");
+m1_table03.put(List.of("c2087", "c411d", "acc3", 0, 21281, 2, true, false, false, "c671", "d632", 42, 7748, true, true));
+m1_table03.put(List.of("e4c3", "b3f3", "ba33", 381, 3576, 0, false, true, false, "de5b", "fede", 0, 0, true, true));
+m1_table03.put(Arrays.asList("d13d2", "ce93", "c1ae6", 177, 0, 89813, true, true, false, "cdb1", "c319", 1321, 3753, false, null));
+m1_table03.put(List.of("aa61", "a078", "a079f", 4, 11779, 0, false, true, true, "a612d", "d225", 8, 1117, true, true));
+m1_table03.remove("a2fc1");
+m1_table03.put(List.of("b0b9", "bd44e", "a239", 1, 0, 124, true, true, true, "ba95d", "b0cf3", 29, 0, false, true));
+m1_table03.get("bb6b");
+m1_table03.put(List.of("e48c", "b903", "e6da", 0, 0, 90664, false, true, true, "ba36a", "ef61", 303, 164, false, true));
+m1_table03.get("c967b");
+m1_table03.put(List.of("e3b5", "deaf", "a2b5c", 0, 532, 162, false, true, true, "ec8a", "fae9", 361, 0, false, false));
+m1_table03.put(List.of("f458", "b741", "abaf", 51, 247, 2866, true, false, true, "d98d", "afa6", 0, 13, true, false));
+m1_table03.put(List.of("fb40", "b3e5", "a2fc", 0, 3, 0, true, false, false, "d8bc", "ec55", 32, 0, true, true));
+m1_table03.put(List.of("ba7a", "feec", "a0e1", 0, 23536, 0, true, false, true, "b1cb", "aadb", 4, 7, true, true));
+m1_table03.put(List.of("e96d", "a0b25", "f88a", 213, 0, 0, true, true, true, "b64d", "b32c", 0, 6, true, true));
+m1_table03.put(List.of("aec0", "e34e", "b6d8", 0, 0, 0, false, true, true, "dbb9", "d33d", 432, 0, true, false));
+m1_table03.put(Arrays.asList("acd5", "c8c4", "fde6", 0, 6, 16, true, false, false, "bc5b", "a7d97", null, 2, false, false));
+m1_table03.put(List.of("cc9d", "e002", "ef48", 253, 74, 0, false, true, false, "e67f", "a9a2", 0, 1, true, true));
+m1_table03.remove("d612");
+m1_table03.put(List.of("ba2a", "bf025", "d68ad", 8336, 0, 1235, false, false, true, "d7d3", "dbbe", 0, 0, true, false));
+m1_table03.put(Arrays.asList("e611", "e26b", "d38b", 17, 0, 0, true, true, true, "a0f0", "eb02", 6412, 76, null, true));
+m1_table03.get("ca40");
+m1_table03.put(List.of("d5e1", "ed57", "d09a", 1562, 0, 0, true, true, false, "c8b1", "c0f9", 0, 0, true, false));
+m1_table03.put(List.of("f585", "d15c", "f57ee", 0, 2218, 2, false, true, false, "fcdf", "bb94", 0, 0, false, false));
+m1_table03.get("debb");
+m1_table03.put(List.of("ad15", "a01f", "b713", 718, 0, 1406, true, true, false, "bb33", "a7c8c", 0, 271, true, true));
+m1_table03.put(List.of("b436", "f9db", "b4001", 16, 203, 123, true, true, false, "de40", "c3447", 0, 0, true, false));
+m1_table03.put(List.of("e3ac", "a531", "cb8b", 6, 0, 346, true, false, true, "b8a1", "f3537", 142214, 811, false, true));
+m1_table03.put(List.of("cb5b", "cd1e", "a277e", 0, 0, 363, true, true, true, "b083", "c081", 1401, 0, false, false));
+m1_table03.get("c19f");
+m1_table03.put(List.of("b9b4", "d960", "d58a3", 9436, 0, 0, true, false, true, "e9ba", "cccb", 0, 1, true, true));
+m1_table03.put(Arrays.asList("e1a27", "f4c2", "e3dc", null, 3, 0, false, true, true, "c64c", "a1c99", 0, 188, false, false));
+m1_table03.put(List.of("ddaa", "df3b6", "e8c2", 0, 56, 0, true, false, true, "e373", "a980", 151, 29412, false, true));
+m1_table03.put(List.of("d11e7", "a326", "a7dc", 0, 310, 1, false, false, true, "b90b9", "b59c", 3, 2409, true, true));
+m1_table03.remove("bc2d6");
+m1_table03.remove("dd269");
+m1_table03.put(List.of("d90ff", "ccdd", "d725", 24, 277, 46050, true, true, true, "c8378", "feab", 140, 0, false, false));
+m1_table03.put(List.of("e12f", "f4ff", "ba1d", 1271, 0, 0, false, false, false, "acf0", "de35", 1302, 0, true, false));
+m1_table03.put(List.of("ba942", "c6fa", "da9b", 8, 2, 1290, true, false, true, "ba70", "e4b9", 70, 0, true, false));
+m1_table03.put(List.of("f140", "b70d", "cc89", 213, 1, 0, false, false, true, "d28d", "cc7b", 0, 0, true, true));
+m1_table03.remove("fee46");
+m1_table03.put(List.of("b71d", "e375", "b13d9", 485, 0, 0, true, true, false, "f8a7", "fb63", 0, 81, false, true));
+m1_table03.put(List.of("d5ec5", "a507", "cee9", 0, 0, 510, false, false, true, "b74a", "e4e7", 0, 0, true, true));
+m1_table03.put(Arrays.asList(null, "bd81", "d813", 0, 0, 0, true, false, true, "b512f", "c6dc5", 1, 3480, false, true));
+m1_table03.put(List.of("d5da", "a984", "d92a9", 0, 237, 0, true, false, true, "f765", "da0e9", 45, 3, true, false));
+m1_table03.remove("d840");
+m1_table03.put(List.of("a8d2", "c8b5", "a4c1", 20, 5948, 52, true, false, false, "a1cc", "dac3", 28, 18, true, false));
+m1_table03.put(List.of("e6c3", "b628", "b359", 88809, 5, 38, true, true, false, "deb6", "aa06", 0, 0, false, false));
+m1_table03.remove("c32b5");
+m1_table03.put(List.of("b932", "f455", "e2a5", 2177, 0, 0, false, false, false, "e226", "c99c", 34, 29, true, true));
+m1_table03.put(List.of("dd2e", "bb0d", "e9b5", 0, 629, 168, false, true, false, "f7e0", "dc88c", 0, 986, false, true));
+m1_table03.remove("f4d8");
+m1_table03.remove("aac21");
+m1_table03.put(List.of("e87f", "b673", "f23f", 0, 37577, 1, true, false, false, "dbc5", "d2829", 72, 79, false, true));
+m1_table03.put(List.of("cd00", "ff4ee", "edf0", 19, 6145, 7506, true, true, false, "cd47", "cf7a", 327, 0, false, false));
+m1_table03.put(List.of("dfbd", "c74b", "d79e", 0, 3, 365, true, true, true, "b4faa", "be5ce", 15, 0, true, false));
+m1_table03.put(List.of("b2707", "c972", "ba6e", 13, 20, 0, true, true, false, "cea7", "fa94", 1712, 5635, true, false));
+m1_table03.put(List.of("f1ca2", "b2b8", "f8a3", 68343, 2, 0, false, false, true, "fd9f", "c21f", 131699, 0, true, true));
+m1_table03.put(List.of("a541", "c690", "be9f2", 0, 285, 0, true, false, true, "e80a", "a9ef", 4, 185, true, true));
+m1_table03.put(List.of("ebb0", "b7e7", "fdaea", 0, 44, 209850, true, false, true, "e01e", "cb82", 0, 3, true, false));
+m1_table03.put(List.of("b3ff", "cf7b", "f616", 83, 1040, 4778, true, true, false, "ce85", "bd508", 0, 0, false, false));
+m1_table03.put(List.of("cc0c", "cabde", "a22b", 273, 32239, 32, false, false, true, "ea2d", "a25e", 0, 958, false, true));
+m1_table03.put(List.of("b58e", "f090", "b4b63", 50, 10, 0, true, false, true, "b6238", "e864b", 0, 7, false, false));
+m1_table03.remove("c47b");
+m1_table03.put(List.of("f3bc", "e29f", "e2f2", 0, 0, 0, true, true, false, "aacf0", "f893", 3, 46289, true, true));
+m1_table03.put(List.of("f0c3", "fa28f", "bdb6", 0, 41, 15, true, true, true, "b6ae8", "a7404", 5, 0, true, false));
+m1_table03.put(List.of("df94", "bb69", "dd34", 5, 10061, 480, true, false, false, "ae32", "daba", 3, 10, false, false));
+m1_table03.put(List.of("da27", "dd6a", "d2f6", 29, 1072168, 73, false, true, false, "cc52", "e6a7", 0, 0, false, true));
+m1_table03.put(List.of("f20c", "b6c26", "b6b5", 20, 10, 915, false, true, true, "d0cc", "bde1", 0, 4, false, false));
+m1_table03.put(Arrays.asList("bd04", "c7b0", "e3d6", null, 0, 2210, true, true, true, "f4f6", "ea20", 20, 202, false, null));
+m1_table03.remove("b3ed");
+m1_table03.put(List.of("e26e", "eb610", "e4a9", 38820, 13693, 405, true, false, true, "cd57", "bd8b", 0, 33, true, false));
+m1_table03.put(List.of("bee1", "c271", "ec89", 4146, 423, 0, true, true, true, "dcd1", "cf00", 36, 313, false, false));
+m1_table03.put(List.of("ab355", "f886", "c5ae", 117, 0, 10, false, false, true, "d5ea", "b759", 2, 0, true, true));
+m1_table03.put(List.of("f40e", "a461", "e50d", 4, 52736, 6080, false, false, false, "fbfa", "a4912", 0, 274, false, true));
+m1_table03.put(Arrays.asList("f943", "c3a4", "ae26", 0, 16, 0, true, true, true, "adc2a", "d9db", 0, 0, null, true));
+m1_table03.remove("b725");
+m1_table03.put(List.of("d5fcf", "b0a9", "aa14", 0, 0, 50, true, true, false, "e59c", "ff05", 0, 0, false, false));
+m1_table03.get("fade");
+m1_table03.remove("d46f");
+m1_table03.put(List.of("e578", "fc1e", "d3a3", 70, 1184, 364, true, false, true, "a26e", "e862", 144, 1873, true, false));
+m1_table03.put(Arrays.asList("ba5f", "b06c", "ec9f", 0, 0, 1290, true, false, true, "bbaa2", "b86b2", 23, 0, false, null));
+m1_table03.put(List.of("acb35", "a1e0", "f300", 2958, 2854, 0, false, true, true, "dd745", "aa45", 0, 98, false, false));
+m1_table03.put(List.of("ad4c", "b13c", "c8c5", 0, 685, 0, true, true, false, "dccd", "ad79", 11951, 0, true, false));
+m1_table03.put(List.of("e968", "e975", "b33d", 1482888, 0, 51, true, false, true, "e7c6", "e2ec", 5, 300, false, true));
+m1_table03.get("b024");
+m1_table03.put(Arrays.asList("a0a95", "f5dde", "bf41", 1540, null, 0, false, false, false, "b0b6", "de97", 125, 0, false, true));
+m1_table03.put(List.of("b4fc", "d482", "c01c", 0, 36, 228, true, true, true, "c1c2d", "ec72", 1, 0, false, false));
+m1_table03.remove("c30f");
+m1_table03.put(Arrays.asList("f46a", "b9e4", "d2b76", 0, 0, 0, null, false, true, "f951", "ed52d", 2996, 937, true, true));
+m1_table03.put(Arrays.asList("f1c4", "ba42d", "a2e6", 118, 6, 0, false, false, false, "f0096", "ee3c", 17, 0, false, null));
+m1_table03.get("a48e");
+m1_table03.put(List.of("bac3", "d504f", "b082", 298, 27, 4, false, false, true, "b333", "f3d6", 0, 0, false, false));
+m1_table03.put(List.of("bec98", "b13d", "fbdf7", 278, 40, 0, true, true, false, "fa3b", "a5542", 1990, 0, false, false));
+m1_table03.remove("ace2");
+m1_table03.remove("f984");
+m1_table03.put(List.of("a5076", "fd97", "cabd", 0, 0, 0, true, true, true, "ea77", "ac82", 0, 3, false, false));
+m1_table03.remove("d155");
+m1_table03.put(List.of("c52b2", "dda7", "c8b4", 0, 0, 0, false, true, false, "b8d9", "abac0", 465, 0, false, true));
+m1_table03.remove("a6a8");
+m1_table03.put(List.of("b0603", "bc936", "a02d", 0, 57, 1, true, true, true, "c821", "d871", 0, 19, false, false));
+m1_table03.put(List.of("e4fb", "f7f2", "f6b4", 5, 0, 31, false, true, false, "c6a5f", "b83b", 1650, 0, false, false));
+m1_table03.remove("a5d4");
+m1_table03.put(List.of("c9d8d", "b7de", "f4f2", 23, 0, 0, true, false, false, "eb3c", "c386", 0, 230, false, false));
+m1_table03.put(List.of("ae99", "d904", "ca27", 195, 0, 0, true, false, true, "b131", "aafb", 0, 19061, false, true));
+m1_table03.put(List.of("b4a9", "a204", "ef1b", 0, 0, 0, false, false, false, "b0a0", "af61b", 123, 0, false, true));
+m1_table03.put(List.of("db96", "d0de", "f48e7", 155680, 2, 0, true, true, true, "b277", "d62d", 0, 2, true, false));
+m1_table03.put(List.of("cb0a", "e712", "dca8", 349, 9283, 0, true, true, false, "e051", "dc032", 0, 0, false, true));
+m1_table03.remove("acb4");
+m1_table03.put(List.of("aeab", "ecc5", "fff06", 66056, 6, 218821, true, true, true, "f73be", "da69", 172734, 4, false, false));
+m1_table03.put(Arrays.asList("a404", "f4838", "a8049", 4, 2854, 0, true, true, false, "e1d6", "a93bf", 10179, null, false, false));
+m1_table03.put(List.of("fc07", "a599", "ebab", 0, 1, 16, true, true, true, "bcb6e", "e442", 0, 502, false, false));
+m1_table03.put(List.of("be06e", "c587", "d104", 697, 0, 953, false, false, true, "e9d9", "a092", 0, 3613, false, false));
+m1_table03.put(List.of("c718", "ff50", "d965", 2071, 2, 6, false, false, true, "e9e3", "d328", 0, 13, true, true));
+m1_table03.put(List.of("fc9e", "a398", "d2c6", 195, 260, 31, true, true, false, "a237", "b20e", 0, 70898, false, false));
+m1_table03.put(List.of("bd87", "fcc8", "cbc0b", 17129, 0, 0, false, false, true, "ddd9", "f5d74", 3, 0, true, true));
+m1_table03.put(List.of("e17e", "d59e", "d236", 64, 0, 0, false, true, true, "ab871", "bd25", 159, 2, false, false));
+m1_table03.put(List.of("db77", "fa20", "b7c4", 274, 0, 3, true, false, false, "bc6a", "e900", 0, 0, true, true));
+m1_table03.remove("a03f");
+m1_table03.put(List.of("ffd1", "fe68e", "f0822", 68, 1008, 0, true, false, true, "a45f", "d41d", 3, 91, false, true));
+m1_table03.put(List.of("ff22", "ed2d", "d0a4", 49, 36, 408, false, true, false, "f3bf", "a861", 2859, 10919, false, false));
+m1_table03.put(Arrays.asList("c74d", "e90d", "ca6c", 283, 25, null, false, false, false, "eb00", "d2a0", 222, 13, true, false));
+m1_table03.put(List.of("ab637", "c39f0", "a620", 108, 0, 0, true, true, true, "e084", "c2f7", 0, 405, false, true));
+m1_table03.put(List.of("e3f6", "a8c7", "c476", 0, 56839, 0, true, true, true, "e001", "e597", 27, 495, false, false));
+m1_table03.put(List.of("c922", "dac5", "a875", 248, 0, 454, false, false, true, "f6cc", "c1f6", 14, 364841, false, true));
+m1_table03.put(List.of("ec416", "dbfe", "e604", 0, 175, 1307, false, false, false, "bfdc", "c4e0", 173, 14, true, false));
+m1_table03.put(Arrays.asList("a00d", "d878", "e966", 0, 1, 4, null, true, false, "e1ea", "ab31", 0, 0, false, false));
+m1_table03.put(Arrays.asList("e8d9", "a58f", "ed3a", 190, 29, 0, false, null, true, "bbe21", "adab2", 0, 0, true, false));
+m1_table03.put(List.of("fcd7", "d4e3", "e18d", 0, 0, 242, true, true, false, "f2195", "d40e", 1085, 50113, true, true));
+m1_table03.put(List.of("f570", "e516", "a14d", 0, 2532, 6368, true, true, false, "a638", "fe0b", 0, 0, true, false));
+m1_table03.put(List.of("c8e1", "b6a8", "ef92", 0, 132, 0, false, true, false, "e8fd", "a2291", 0, 55375, true, false));
+m1_table03.put(List.of("df4f", "a1d5", "a59b", 0, 0, 0, true, false, false, "ef12", "efdf", 0, 212, true, true));
+m1_table03.get("d633");
+m1_table03.remove("d7e8");
+m1_table03.remove("f480");
+m1_table03.remove("cf52");
+m1_table03.put(List.of("e8bc5", "f56f", "e237", 9, 3495, 105, false, true, false, "ac75", "bf95", 1, 131, false, true));
+m1_table03.put(List.of("e1706", "ac4c5", "f9c6", 0, 0, 1207, true, true, false, "a124", "f0fb", 4, 685, false, false));
+m1_table03.put(List.of("d150", "b19f0", "dd04", 0, 0, 85, false, false, true, "e404", "e265", 3, 0, false, true));
+m1_table03.put(List.of("e8809", "f925", "cbe1", 1, 264, 0, true, true, false, "e187", "bf82", 118, 0, true, true));
+m1_table03.put(List.of("a6302", "cccc", "eed1", 0, 0, 2, true, false, false, "b452", "adc7", 0, 12123, false, false));
+m1_table03.put(Arrays.asList("b9673", "e3b07", "d244f", 0, 14241, 32, false, false, true, "a98f", "bfa4", 0, 0, false, null));
+m1_table03.remove("ff945");
+m1_table03.put(List.of("cdbc", "e273d", "b166", 0, 39767, 0, false, true, true, "c9ef", "a621a", 653, 6504, true, true));
+m1_table03.remove("bbb1");
+m1_table03.put(List.of("d325", "e36f", "cbe6", 0, 269, 23, true, false, true, "a4e6", "d653b", 467, 65, true, true));
+m1_table03.put(List.of("f2ec", "d0d4", "d9d1", 0, 10, 0, true, false, true, "bb47e", "a7b7", 1377, 0, false, true));
+m1_table03.put(List.of("d538", "fbdc", "cbf2", 12, 1, 1, false, false, false, "a07a", "a4d8", 16, 0, false, false));
+m1_table03.remove("f259");
+m1_table03.put(List.of("e167", "b41f9", "e06a", 1113, 0, 12770, false, true, false, "b068", "e3b6", 2, 255, false, true));
+m1_table03.put(Arrays.asList("dcb8", "de64", null, 0, 0, 4, true, true, false, "a882", "b3b4", 114, 1, true, false));
+m1_table03.put(List.of("b494", "b6fa", "e06f", 0, 15, 278825, false, true, false, "b6f7", "f836", 0, 0, true, false));
+m1_table03.put(List.of("b623", "f0e1", "bc67", 2, 0, 0, false, true, true, "be8b", "df21", 1533, 0, false, true));
+m1_table03.get("a8c2c");
+m1_table03.remove("fed3");
+m1_table03.get("e623");
+m1_table03.get("de4c");
+m1_table03.put(List.of("a67e", "bc20", "be49", 3087, 254, 74, true, true, false, "ed256", "b917", 0, 1209, false, true));
+m1_table03.remove("aa0d");
+m1_table03.put(List.of("dbcf", "b6827", "a65a", 1, 0, 0, false, false, false, "c177", "fbcc", 185, 0, true, true));
+m1_table03.put(List.of("e76c3", "af5f", "c996", 194, 8277, 1, false, true, true, "dabc", "a4da", 830, 0, false, true));
+m1_table03.put(List.of("ffd4", "ff2e", "b2d2b", 114, 48511, 37, false, true, false, "f8c4", "c23e", 0, 4, false, true));
+m1_table03.put(Arrays.asList("ee6b", "b4b8", "c54a", 0, 0, 120, false, true, false, "f657c", "d8d4", 0, 0, null, false));
+m1_table03.put(List.of("ac05d", "e4b5", "cb21", 1322, 0, 1233, true, false, false, "ab34", "f09e", 6097, 8, false, true));
+m1_table03.put(Arrays.asList("b39e", "bce7", null, 0, 0, 3, true, null, true, "ed0c7", "abb4", 3, 27980, true, true));
+m1_table03.remove("a07b");
+m1_table03.put(List.of("d490", "ae11c", "d7ebe", 3, 53, 11, true, true, true, "c981", "bb9d", 0, 3, true, true));
+m1_table03.put(List.of("eeb2", "db6f", "d0c0", 59, 1, 0, false, true, true, "bc5a1", "c897", 221, 0, false, true));
+m1_table03.put(List.of("c0cd", "a8c3", "ea2f", 258, 0, 37, true, true, false, "b576", "e9a9", 0, 8, true, true));
+m1_table03.remove("f967");
+m1_table03.remove("b43a");
+m1_table03.put(List.of("a077", "c0d4", "d54a", 17, 376, 26, false, true, true, "e98f", "bd393", 1765, 5554, false, true));
+m1_table03.put(List.of("b32f", "b383", "b5f33", 1193, 19, 0, false, true, true, "d76eb", "e3c8", 1, 13300, true, true));
+m1_table03.put(List.of("c7cf", "e323", "c4ff", 1014, 6246, 1, true, true, false, "beb2", "ef26", 0, 0, true, true));
+m1_table03.remove("e11e");
+m1_table03.put(Arrays.asList("ede7", "b7e4c", "d72a", 51, null, 0, false, false, false, "b5e51", "d80cd", 5394, 839, true, true));
+m1_table03.put(List.of("f0db", "ceee", "dbb5", 2, 1522, 7989, false, false, false, "abbf", "ef2b", 4, 25110, false, false));
+m1_table03.get("c0c98");
+m1_table03.remove("ded5");
+m1_table03.put(List.of("ad10", "e6fb", "ab56", 0, 98, 147, false, false, true, "e8a7", "dcba", 3, 11908, false, true));
+m1_table03.put(List.of("b467", "fe707", "ff59", 33, 0, 0, true, true, false, "feae", "dd75", 8, 233, true, true));
+m1_table03.get("dc9c");
+m1_table03.put(List.of("b677", "d3b7", "d1273", 0, 0, 13, false, false, true, "e65a", "c460", 0, 1884, true, true));
+m1_table03.remove("fb14");
+m1_table03.put(List.of("b2ef", "e9d8", "ebb5", 0, 0, 0, false, false, true, "e922", "dc6ac", 0, 53, true, true));
+m1_table03.put(List.of("f5df", "afff9", "c0fca", 2, 31, 1, true, true, true, "f970", "f87e0", 277, 6, true, true));
+m1_table03.put(List.of("ba0f", "a45ba", "a5cd", 3080, 1021, 8554, false, false, false, "dab1", "cbbf", 4, 0, true, false));
+m1_table03.remove("fde8");
+m1_table03.put(List.of("d30a", "a36fa", "a991", 2, 43, 85510, true, false, true, "ef1c", "b78d", 50, 0, true, false));
+m1_table03.put(List.of("e1c3", "b05bc", "aa0b", 0, 0, 50, true, false, false, "f6b7", "a4c9", 56, 0, true, true));
+m1_table03.put(Arrays.asList("c7d3", "e3f0", "a44f6", 3417, null, 0, true, true, false, "e5de3", "bd24", 1, 3, true, true));
+m1_table03.put(List.of("d1bc", "b68a", "e5ab", 1, 0, 20, true, true, true, "ce01", "ae9f8", 21, 48, true, false));
+m1_table03.remove("a9cbb");
+m1_table03.remove("cce70");
+m1_table03.remove("ef93");
+m1_table03.put(List.of("af96", "ee72", "b9dc", 0, 101552, 848, true, false, false, "e4e3", "f1dc", 40, 0, true, false));
+m1_table03.put(Arrays.asList("d10d", "d5ae", "ca44", 1222, 785, 476, true, true, true, "d16b", "bcbe", 187, 8982, true, null));
+m1_table03.remove("ab11");
+m1_table03.put(List.of("ffeaa", "d48c", "a9647", 218, 2, 0, false, false, true, "a9a7", "d9685", 0, 3, true, true));
+m1_table03.put(Arrays.asList("c30e", "d74e", "de23d", 2597, 55, 16, null, false, true, "d8a7", "afce2", 11, 0, false, true));
+m1_table03.put(List.of("e01b", "aefd", "dc92", 0, 5032, 0, false, false, false, "d0df", "a3cd", 71239, 76, false, true));
+m1_table03.put(List.of("ed72", "e3da", "d8a0a", 0, 11, 13087, true, true, false, "f891", "dd37", 0, 0, false, true));
+m1_table03.put(List.of("c308", "ca4f", "daa7a", 3208, 18, 0, true, false, false, "bf50", "c9eb", 0, 178, false, true));
+m1_table03.put(List.of("c1a9", "a77b", "ccd3", 545, 91, 5943, false, true, true, "ff4e", "c185", 0, 2151, true, false));
+m1_table03.put(List.of("f740", "a2bb4", "c021", 0, 1569, 4, false, true, false, "b8f0", "b41e", 2079, 0, false, true));
+m1_table03.remove("b4ec");
+m1_table03.put(List.of("a6f2", "e2bab", "dbea", 700, 0, 0, false, false, true, "e5da", "fc5d", 0, 0, true, true));
+m1_table03.put(List.of("f09f", "af45", "cdcb", 3, 3, 0, false, false, true, "c941", "d470", 1935, 22, false, true));
+m1_table03.put(List.of("c716b", "bac1", "c97d3", 4, 0, 48, true, false, false, "c085", "edc8", 3565, 854912, true, false));
+m1_table03.put(List.of("ecefa", "bd3b", "d1d0", 0, 0, 2472, true, false, true, "c83b", "cbad", 0, 3, true, false));
+m1_table03.put(List.of("afb6", "f4d5", "f145", 0, 123663, 61774, false, true, false, "c0c1", "f206", 0, 13, true, true));
+m1_table03.put(List.of("eedc", "ea55", "c192", 3, 0, 0, false, false, false, "cc08b", "c1f3b", 0, 0, true, false));
+m1_table03.put(Arrays.asList("a5230", "e9884", null, 0, 0, 12, true, false, false, "bb06", "a37f", 0, 0, false, false));
+m1_table03.put(List.of("a9bb2", "f9df", "d573", 5035, 0, 0, true, true, true, "b31e", "afc65", 1269, 2, false, false));
+m1_table03.put(List.of("d42bf", "a1b4", "b619", 0, 0, 1068, true, false, false, "e8cb", "f02a", 0, 0, false, true));
+m1_table03.put(List.of("e3ef", "bdf9", "abde", 1, 3, 0, false, false, false, "ef3c", "fd39", 3398, 0, true, true));
+m1_table03.put(List.of("a8d1", "a7a9", "b031e", 0, 0, 5670, false, false, false, "ed60", "b552", 86, 2, false, true));
+m1_table03.remove("e9b38");
+m1_table03.put(List.of("a46f", "b6aa", "d88a", 0, 2798, 0, true, true, false, "e4442", "faf1", 0, 1, false, true));
+m1_table03.get("cc58");
+m1_table03.put(List.of("ed73", "c598", "a357", 37524, 0, 0, false, true, false, "d73f", "be36f", 14, 0, true, false));
+m1_table03.put(List.of("cae7", "ffb8b", "a2a9", 0, 8, 25187, false, true, true, "b296", "f9e9", 15, 1, true, true));
+m1_table03.remove("dbfc");
+m1_table03.put(List.of("e52a", "aa56", "ecef", 914, 6718, 8404, false, false, true, "daef", "b5e8", 28, 0, false, false));
+m1_table03.put(List.of("e1d7", "dac9c", "d2c8", 0, 669, 61, false, true, true, "f5fe", "b69c", 0, 69, true, true));
+m1_table03.put(List.of("de07", "d36d", "b87dd", 954, 63, 0, true, true, true, "ba9d", "fccc", 0, 1, true, true));
+m1_table03.put(List.of("a915b", "a853", "da8c", 0, 21, 20, false, true, false, "de2c", "b143", 0, 0, true, true));
+m1_table03.remove("eb69");
+m1_table03.put(List.of("d906", "b218e", "aace", 145779, 1057, 0, true, true, false, "f227", "d2429", 293746, 0, true, true));
+m1_table03.put(List.of("a80b", "f15b0", "e447", 2003, 1240, 1386, false, false, true, "dc2e", "b648", 11877, 0, false, false));
+m1_table03.put(List.of("fb09", "da71", "ed99", 0, 0, 0, true, false, false, "b253", "c8cf", 88, 396, false, true));
+m1_table03.put(List.of("b9552", "c2af", "f5bf", 2, 0, 0, true, true, true, "ee07", "c0b38", 0, 32814, false, true));
+m1_table03.remove("a114");
+m1_table03.remove("d2d8");
+m1_table03.remove("c2d8");
+m1_table03.put(List.of("e77b", "b161", "cf37", 0, 96991, 0, true, false, true, "d11d", "aae3", 988, 295, false, true));
+m1_table03.remove("c997");
+m1_table03.put(List.of("b24c6", "ce99", "b4348", 0, 0, 0, true, false, false, "abcae", "e32e", 249, 0, true, true));
+m1_table03.put(List.of("c9608", "d3a8", "dff3", 6, 1, 2006, true, true, true, "f8b3", "ca4c", 0, 2795, false, false));
+m1_table03.put(List.of("af8e", "d0ec3", "b0f3", 3814, 0, 201, true, false, false, "a6e5", "cf46", 0, 0, false, false));
+m1_table03.put(List.of("fecc", "abee", "c5bc8", 367, 0, 248, true, false, false, "eddd", "f567", 18, 439, false, false));
+m1_table03.put(Arrays.asList("c201", "ad523", "cc79", 0, 372, 0, false, true, false, "cd2a", "f0b0", 941304, null, false, true));
+m1_table03.put(List.of("b6ce1", "f8256", "adc0", 155, 2917, 0, false, false, true, "bad1", "acb0c", 543, 0, true, true));
+m1_table03.put(List.of("fcf6", "ca35", "cb13", 1647, 0, 133, true, true, true, "b555", "b6441", 7370, 16077, true, false));
+m1_table03.remove("a622");
+m1_table03.put(List.of("c80f", "ae5d", "fdbb", 0, 0, 4, true, false, true, "cd5a", "ec0c", 316, 15, true, false));
+m1_table03.remove("a6f74");
+m1_table03.put(Arrays.asList("a217", "c413", "b700", 0, 0, null, true, true, false, "fd9e1", "f8df1", 0, 1947, false, false));
+m1_table03.put(List.of("f496", "fa36", "a97c3", 0, 102, 10, false, true, false, "b053", "bade", 144, 0, false, true));
+m1_table03.remove("b8ce");
+m1_table03.put(List.of("fcf2a", "a086", "ab53", 0, 0, 3356, true, false, true, "a7e8", "db106", 0, 0, false, true));
+m1_table03.get("eee6e");
+m1_table03.put(List.of("d6aa", "ffce", "af43a", 192, 5661, 0, false, false, true, "e576", "e801", 0, 0, true, true));
+m1_table03.remove("dd0e");
+m1_table03.put(List.of("e749", "dd33", "c7ce6", 0, 7152, 2753, false, true, true, "b560", "c6d4", 26170, 132258, false, false));
+m1_table03.put(List.of("af3f", "cb27", "cab8", 0, 2, 0, false, true, false, "e626", "dcd29", 0, 82, true, false));
+m1_table03.get("a50fd");
+m1_table03.put(List.of("a6b8", "d510b", "eda0", 42, 199, 1, false, false, true, "ef06", "ac264", 0, 0, false, false));
+m1_table03.put(List.of("bea4", "d31e", "fca5", 38, 93, 24804, true, true, true, "dc4b", "ae8e", 0, 3313, false, true));
+m1_table03.remove("d014");
+m1_table03.put(List.of("bbee", "b609", "e6f8", 4828, 14, 0, false, false, false, "ef21", "cead2", 2104, 85726, true, true));
+m1_table03.put(List.of("fb6dd", "d8c4", "d5b1", 98, 0, 0, true, true, true, "fe02", "cb31", 642, 21353, true, true));
+m1_table03.get("bd18");
+m1_table03.put(List.of("eaa1", "cfdd", "c03e", 2043, 161, 40, true, true, true, "f8be", "fa52", 0, 204, false, false));
+m1_table03.put(List.of("be79a", "ad97", "ca031", 3, 1404, 4, true, false, true, "a65e4", "f132f", 441, 1, false, true));
+m1_table03.put(List.of("eea8", "d7dc", "f409", 0, 0, 103957, true, true, true, "e5dd", "ef0e", 0, 0, false, true));
+m1_table03.clear();
@@ -0,0 +1,2266 @@
+// Random Seed: 1082180784
+Table m2_table01 = new HashFileTable("m2_table01", List.of("dcd1a", "da1", "d80b"), List.of("string", "integer", "boolean"), 0);
+m2_table01.getTableName();
+m2_table01.getColumnNames();
+m2_table01.getColumnTypes();
+m2_table01.getPrimaryIndex();
+m2_table01.getTableName();
+m2_table01.getColumnNames();
+m2_table01.getColumnTypes();
+m2_table01.getPrimaryIndex();
+m2_table01.clear();
+m2_table01.put(List.of("a07d", 0, false));
+m2_table01.put(List.of("c471", 164, false));
+m2_table01.put(List.of("eb57", 17543, true));
+m2_table01.put(List.of("a73", 687, false));
+m2_table01.put(List.of("c3a", 0, true));
+m2_table01.put(List.of("f2d", 21, true));
+m2_table01.put(List.of("bdf", 19, true));
+m2_table01.put(List.of("d26", 222, true));
+m2_table01.put(List.of("aff4", 68384, true));
+m2_table01.put(List.of("ea2", 8, false));
+m2_table01.put(List.of("ebec", 12001, false));
+m2_table01.put(List.of("a37", 0, false));
+m2_table01.put(List.of("fb8e", 0, true));
+m2_table01.remove("fdd");
+m2_table01.put(List.of("a8fb", 1, true));
+m2_table01.get("b1b30");
+m2_table01.put(List.of("ce0c", 0, false));
+m2_table01.put(List.of("c6e93", 12, false));
+m2_table01.put(List.of("ac1c", 2717, true));
+m2_table01.put(List.of("bb8", 0, true));
+m2_table01.put(List.of("d12f", 0, false));
+m2_table01.put(List.of("f712", 382, true));
+m2_table01.remove("bc0");
+m2_table01.remove("d002");
+m2_table01.put(List.of("e69", 9501, true));
+m2_table01.put(List.of("ada5", 0, true));
+m2_table01.get("b2b");
+m2_table01.put(List.of("fd6", 43, true));
+m2_table01.remove("ed20");
+m2_table01.put(List.of("a5de", 6112, true));
+m2_table01.put(List.of("a2f71", 1237, true));
+m2_table01.get("a1dd");
+m2_table01.put(List.of("e13", 0, false));
+m2_table01.get("f82a");
+m2_table01.remove("ca9b");
+m2_table01.put(List.of("ccae", 13702, true));
+m2_table01.put(List.of("c8b", 4105, true));
+m2_table01.remove("cf2");
+m2_table01.put(List.of("ce90", 267, false));
+m2_table01.put(List.of("a1b7", 41, true));
+m2_table01.put(Arrays.asList("dfaf", null, false));
+m2_table01.put(List.of("aed", 0, true));
+m2_table01.remove("caff");
+m2_table01.remove("cc33");
+m2_table01.put(List.of("be30", 1, false));
+m2_table01.remove("be60");
+m2_table01.put(List.of("e906", 0, true));
+m2_table01.remove("a094");
+m2_table01.put(List.of("f73f", 7890, false));
+m2_table01.put(List.of("e5ef", 0, false));
+m2_table01.put(List.of("af6", 0, false));
+m2_table01.get("e173");
+m2_table01.put(List.of("d46", 14, true));
+m2_table01.put(List.of("fe6d7", 0, false));
+m2_table01.put(List.of("cc0", 2, false));
+m2_table01.put(List.of("ef4", 487, false));
+m2_table01.put(List.of("fde", 369, true));
+m2_table01.put(List.of("ecdf", 401589, true));
+m2_table01.put(List.of("a15e", 142, false));
+m2_table01.put(List.of("a464", 76, true));
+m2_table01.put(List.of("ed226", 0, true));
+m2_table01.put(List.of("c29", 4221, false));
+m2_table01.put(List.of("cac5", 0, true));
+m2_table01.put(List.of("c1a5", 466909, true));
+m2_table01.put(List.of("a6d", 1462, false));
+m2_table01.put(List.of("d5c", 2839, true));
+m2_table01.put(List.of("aae2c", 88, false));
+m2_table01.put(List.of("f30", 0, true));
+m2_table01.put(List.of("a428", 153, true));
+m2_table01.remove("d9bb");
+m2_table01.put(List.of("bb90f", 0, true));
+m2_table01.remove("b39b9");
+m2_table01.put(List.of("c0d0", 0, false));
+m2_table01.put(List.of("f418", 28817, true));
+m2_table01.put(List.of("f8b", 2766, true));
+m2_table01.put(List.of("b5d", 0, true));
+m2_table01.put(List.of("b3c", 904, false));
+m2_table01.put(List.of("e3d4", 209306, false));
+m2_table01.put(List.of("e1ae", 12, true));
+m2_table01.put(List.of("aad6", 0, false));
+m2_table01.put(List.of("cac", 35921, true));
+m2_table01.put(List.of("c7f0", 0, false));
+m2_table01.put(List.of("a56", 0, false));
+m2_table01.put(List.of("a43c", 150173, false));
+m2_table01.get("de8");
+m2_table01.put(List.of("b950", 0, true));
+m2_table01.get("bb97");
+m2_table01.put(List.of("a8ba", 0, true));
+m2_table01.put(List.of("baf3", 0, false));
+m2_table01.put(List.of("d001", 0, true));
+m2_table01.put(List.of("c6f", 1075, false));
+m2_table01.get("e541");
+m2_table01.put(List.of("a6c", 264, true));
+m2_table01.remove("bd12");
+m2_table01.put(List.of("ea6", 252, true));
+m2_table01.put(List.of("e04", 8, false));
+m2_table01.put(List.of("a7d", 9414, true));
+m2_table01.remove("be4");
+m2_table01.remove("e7b");
+m2_table01.put(List.of("bb4e6", 0, false));
+m2_table01.remove("e995");
+m2_table01.put(List.of("f443", 0, true));
+m2_table01.remove("a5e2");
+m2_table01.put(List.of("a43", 19094, false));
+m2_table01.put(List.of("e9c3", 144, true));
+m2_table01.put(List.of("aedf7", 0, false));
+m2_table01.remove("bb86");
+m2_table01.put(List.of("d42f", 151994, true));
+m2_table01.put(List.of("e4e", 26, true));
+m2_table01.remove("e575");
+m2_table01.put(List.of("e98c", 6027, true));
+m2_table01.put(List.of("adcc", 434, false));
+m2_table01.remove("b88");
+m2_table01.put(List.of("a4c8", 0, false));
+m2_table01.remove("c8e7");
+m2_table01.put(List.of("e26", 0, false));
+m2_table01.remove("fabe");
+m2_table01.put(List.of("a662", 2, true));
+m2_table01.put(List.of("e5f6", 0, true));
+m2_table01.put(List.of("c97d", 0, false));
+m2_table01.remove("a2ab");
+m2_table01.put(List.of("ca09", 0, true));
+m2_table01.put(List.of("de3d", 0, false));
+m2_table01.put(List.of("ee00", 0, true));
+m2_table01.put(List.of("dcb", 76, false));
+m2_table01.put(List.of("b694", 0, false));
+m2_table01.put(List.of("f7d6", 0, false));
+m2_table01.put(List.of("d2fd", 2, true));
+m2_table01.put(List.of("bbd1", 0, true));
+m2_table01.put(Arrays.asList("fbe6", null, false));
+m2_table01.remove("a16f");
+m2_table01.put(List.of("e249", 9688, false));
+m2_table01.put(List.of("b542", 6, true));
+m2_table01.remove("f6d");
+m2_table01.put(List.of("bdad", 8, false));
+m2_table01.put(Arrays.asList("cb7", null, false));
+m2_table01.put(List.of("ab7c", 8, true));
+m2_table01.remove("d73");
+m2_table01.put(List.of("f84", 276, true));
+m2_table01.remove("bd95");
+m2_table01.put(List.of("d5ca", 0, true));
+m2_table01.put(List.of("db7c", 0, false));
+m2_table01.put(List.of("bfbb", 0, false));
+m2_table01.put(Arrays.asList("e241", 1, null));
+m2_table01.put(List.of("f36a", 0, false));
+m2_table01.put(List.of("dda9", 0, true));
+m2_table01.put(List.of("e488", 0, false));
+m2_table01.get("a70c");
+m2_table01.put(List.of("f9b", 3025, false));
+m2_table01.remove("b106");
+m2_table01.put(List.of("aa7", 516, true));
+m2_table01.put(List.of("bc1a", 3, true));
+m2_table01.remove("bc3b");
+m2_table01.put(List.of("bd5", 0, true));
+m2_table01.put(List.of("bfd", 2, false));
+m2_table01.put(List.of("c84", 18644, false));
+m2_table01.put(List.of("b66", 782913, true));
+m2_table01.put(List.of("b4da", 0, false));
+m2_table01.put(List.of("ac3b", 1, true));
+m2_table01.put(List.of("be6", 0, false));
+m2_table01.remove("d94");
+m2_table01.get("ff0");
+m2_table01.put(List.of("f3fb", 0, true));
+m2_table01.put(List.of("c47f", 257, false));
+m2_table01.put(List.of("c2a9", 14, false));
+m2_table01.remove("ef7");
+m2_table01.put(List.of("c093", 1075, true));
+m2_table01.put(List.of("eb915", 29, false));
+m2_table01.put(List.of("f787", 176, false));
+m2_table01.put(List.of("d5c5", 0, false));
+m2_table01.put(List.of("d35", 0, true));
+m2_table01.get("cfd");
+m2_table01.put(List.of("c0a7", 0, true));
+m2_table01.put(List.of("b62", 21, false));
+m2_table01.get("a7b4");
+m2_table01.put(List.of("ee26", 235, false));
+m2_table01.put(List.of("dcfe", 37514, true));
+m2_table01.put(List.of("dd7", 0, false));
+m2_table01.put(List.of("b1a", 961, true));
+m2_table01.put(List.of("dd28", 0, false));
+m2_table01.get("cb8");
+m2_table01.get("c2517");
+m2_table01.get("ea4a");
+m2_table01.put(List.of("e9b6", 1, false));
+m2_table01.put(List.of("c96", 64, true));
+m2_table01.remove("d7bb");
+m2_table01.put(List.of("a39b", 0, false));
+m2_table01.get("dac");
+m2_table01.put(List.of("adf9", 400, true));
+m2_table01.remove("b163");
+m2_table01.remove("b05");
+m2_table01.get("da74");
+m2_table01.put(List.of("a705", 6, true));
+m2_table01.put(List.of("abf", 43, true));
+m2_table01.put(List.of("a5d", 107666, false));
+m2_table01.get("d16b9");
+m2_table01.put(List.of("e715", 354, true));
+m2_table01.put(List.of("ff69", 0, false));
+m2_table01.put(List.of("d7c6", 15, false));
+m2_table01.put(List.of("da4", 31, false));
+m2_table01.put(List.of("eca", 1, true));
+m2_table01.remove("a7e0");
+m2_table01.put(List.of("f75", 2607, false));
+m2_table01.put(List.of("f08c", 390, true));
+m2_table01.put(List.of("a95", 0, true));
+m2_table01.put(List.of("b2e", 37, false));
+m2_table01.put(List.of("fd3", 493, false));
+m2_table01.put(List.of("d6d0", 3430, false));
+m2_table01.put(List.of("cf260", 6, true));
+m2_table01.put(List.of("be34", 20, true));
+m2_table01.put(List.of("c9e", 0, true));
+m2_table01.put(List.of("bfac", 16405, false));
+m2_table01.remove("b2a");
+m2_table01.put(List.of("db8", 0, true));
+m2_table01.put(List.of("a380", 0, false));
+m2_table01.put(List.of("c2ee", 167, true));
+m2_table01.put(List.of("a1de", 0, true));
+m2_table01.remove("c330f");
+m2_table01.remove("de00b");
+m2_table01.remove("d40");
+m2_table01.put(List.of("a547", 69, false));
+m2_table01.put(List.of("bce", 4, false));
+m2_table01.put(List.of("af26", 10137, true));
+m2_table01.put(List.of("be0", 1, true));
+m2_table01.put(List.of("bdd1", 0, true));
+m2_table01.put(List.of("b78", 19, true));
+m2_table01.remove("efb");
+m2_table01.put(List.of("ecc3", 2, false));
+m2_table01.remove("ad5e");
+m2_table01.put(List.of("d3bd", 1872, false));
+m2_table01.put(List.of("a0df", 4346, true));
+m2_table01.put(List.of("c143", 0, false));
+m2_table01.put(List.of("a78d", 0, true));
+m2_table01.remove("eb06");
+m2_table01.remove("c012");
+m2_table01.remove("dea");
+m2_table01.put(List.of("bfb", 3228, true));
+m2_table01.remove("d379");
+m2_table01.put(List.of("d854", 1019, true));
+m2_table01.put(List.of("e163", 0, true));
+m2_table01.put(List.of("fd54", 13544, true));
+m2_table01.remove("e88");
+m2_table01.put(List.of("e88c", 0, true));
+m2_table01.get("f61f");
+m2_table01.get("db7b");
+m2_table01.put(List.of("c92", 15, false));
+m2_table01.put(List.of("ccc", 7, true));
+m2_table01.put(List.of("cc74", 23, true));
+m2_table01.put(List.of("eeb", 12601, false));
+m2_table01.put(List.of("f75b", 2478, false));
+m2_table01.put(List.of("fd8", 0, true));
+m2_table01.put(List.of("d52", 0, true));
+m2_table01.remove("dcd");
+m2_table01.remove("e0b");
+m2_table01.put(List.of("caa", 876, true));
+m2_table01.remove("a27e");
+m2_table01.put(List.of("fa7", 28, true));
+m2_table01.put(List.of("de04", 0, true));
+m2_table01.put(List.of("c83", 0, true));
+m2_table01.put(List.of("d0b1", 0, true));
+m2_table01.remove("c712b");
+m2_table01.put(List.of("dd4ca", 73, false));
+m2_table01.put(List.of("d5f", 0, false));
+m2_table01.get("a3471");
+m2_table01.put(List.of("cc6a", 3, false));
+m2_table01.remove("f32");
+m2_table01.put(List.of("abe2", 0, true));
+m2_table01.put(List.of("e194", 326, false));
+m2_table01.put(List.of("ba18", 0, false));
+m2_table01.put(List.of("c4e8", 2923, true));
+m2_table01.put(List.of("c176", 62, false));
+m2_table01.put(List.of("e55d", 564, false));
+m2_table01.put(List.of("d47", 0, false));
+m2_table01.put(List.of("cc2", 0, true));
+m2_table01.remove("d588");
+m2_table01.put(List.of("a8e3", 202, true));
+m2_table01.put(List.of("a74a", 12149, true));
+m2_table01.put(List.of("f310", 0, false));
+m2_table01.remove("af80");
+m2_table01.put(List.of("f9f", 0, true));
+m2_table01.put(List.of("c14", 243, false));
+m2_table01.put(List.of("bb7", 0, false));
+m2_table01.put(List.of("fe2", 545, false));
+m2_table01.put(List.of("f1a1", 0, false));
+m2_table01.get("a6db");
+m2_table01.get("bd0");
+m2_table01.get("dd5b");
+m2_table01.get("a682");
+m2_table01.remove("e235");
+m2_table01.put(List.of("b868", 24, false));
+m2_table01.put(List.of("bec", 0, true));
+m2_table01.remove("ce9b");
+m2_table01.put(List.of("cbb3", 134, true));
+m2_table01.put(List.of("aba", 27, true));
+m2_table01.put(List.of("bcf", 0, true));
+m2_table01.put(List.of("f121", 0, false));
+m2_table01.put(List.of("a2e", 68, true));
+m2_table01.put(List.of("c37", 0, true));
+m2_table01.put(List.of("f8d", 0, true));
+m2_table01.get("fbb");
+m2_table01.remove("ab79");
+m2_table01.put(List.of("a4c", 0, false));
+m2_table01.put(List.of("e777", 11, false));
+m2_table01.put(List.of("c5b", 0, false));
+m2_table01.put(List.of("a55", 3, true));
+m2_table01.put(List.of("beb", 37486, false));
+m2_table01.put(List.of("d29", 13, false));
+m2_table01.put(List.of("bdc", 0, false));
+m2_table01.put(List.of("c160", 5487, true));
+m2_table01.put(List.of("ebae", 0, true));
+m2_table01.put(Arrays.asList("b5e", 0, null));
+m2_table01.remove("ca8");
+m2_table01.put(List.of("c0a", 13, false));
+m2_table01.put(List.of("b6c68", 45, false));
+m2_table01.put(List.of("b16", 12, true));
+m2_table01.put(List.of("cd7", 0, false));
+m2_table01.remove("cae1");
+m2_table01.put(List.of("b617", 8, true));
+m2_table01.put(List.of("a77d", 506, false));
+m2_table01.put(List.of("ca3", 87, false));
+m2_table01.put(List.of("ce8", 289, false));
+m2_table01.remove("a4b");
+m2_table01.put(List.of("affa", 0, false));
+m2_table01.put(List.of("d6c2", 0, true));
+m2_table01.put(List.of("e865", 0, false));
+m2_table01.put(List.of("c390f", 1, true));
+m2_table01.remove("b5e9");
+m2_table01.put(List.of("d376", 0, true));
+m2_table01.remove("c93");
+m2_table01.put(List.of("dd7f", 817, true));
+m2_table01.remove("e2bc4");
+m2_table01.put(List.of("cc34", 0, true));
+m2_table01.remove("b96");
+m2_table01.put(List.of("a230", 0, true));
+m2_table01.put(List.of("e36", 4561, true));
+m2_table01.put(List.of("b0a3", 0, true));
+m2_table01.remove("d67");
+m2_table01.put(Arrays.asList("f141", 0, null));
+m2_table01.put(List.of("d48", 317, true));
+m2_table01.put(List.of("bec4", 0, true));
+m2_table01.put(List.of("fb5d", 23, false));
+m2_table01.put(List.of("e656", 1, false));
+m2_table01.put(List.of("cee3", 412, false));
+m2_table01.remove("b2d3");
+m2_table01.put(List.of("fe1c", 0, false));
+m2_table01.put(List.of("aa59", 0, true));
+m2_table01.put(List.of("b25a", 5, true));
+m2_table01.put(List.of("c237", 4, false));
+m2_table01.put(List.of("a0fc", 38, false));
+m2_table01.put(List.of("acc7", 0, true));
+m2_table01.remove("ed24");
+m2_table01.put(List.of("a1f", 819, true));
+m2_table01.put(List.of("ada3", 1211, false));
+m2_table01.put(List.of("b1e2", 34, true));
+m2_table01.remove("e0c");
+m2_table01.put(List.of("f28", 0, false));
+m2_table01.put(List.of("be7", 0, false));
+m2_table01.put(List.of("b61a", 0, false));
+m2_table01.get("a4cbf");
+m2_table01.remove("df87");
+m2_table01.put(List.of("aef8", 421, false));
+m2_table01.put(List.of("c6aa", 4, true));
+m2_table01.put(List.of("c41", 34053, true));
+m2_table01.put(List.of("c895", 0, true));
+m2_table01.put(List.of("baf", 358, true));
+m2_table01.put(List.of("a9c0", 2635, false));
+m2_table01.put(List.of("f62e", 0, false));
+m2_table01.remove("e34d");
+m2_table01.get("db0");
+m2_table01.get("df167");
+m2_table01.put(List.of("a9e8f", 570553, false));
+m2_table01.get("d0bb");
+m2_table01.put(List.of("b335", 0, true));
+m2_table01.put(List.of("e248", 0, false));
+m2_table01.put(List.of("a8e1", 22, false));
+m2_table01.put(List.of("a920", 11, true));
+m2_table01.get("f299");
+m2_table01.put(List.of("e9d5", 0, true));
+m2_table01.put(List.of("b93c", 0, false));
+m2_table01.put(List.of("be20", 4, false));
+m2_table01.remove("c1e1");
+m2_table01.get("e9c");
+m2_table01.put(List.of("ab4c", 727, true));
+m2_table01.put(List.of("e716", 2, true));
+m2_table01.put(List.of("a27", 25, true));
+m2_table01.remove("da5");
+m2_table01.put(List.of("f36", 499, false));
+m2_table01.put(List.of("e8322", 26, true));
+m2_table01.put(List.of("bb12", 17, true));
+m2_table01.put(List.of("b563", 3, false));
+m2_table01.put(List.of("a5f", 230, true));
+m2_table01.put(List.of("f35", 0, true));
+m2_table01.remove("a3e8");
+m2_table01.put(List.of("b01", 0, false));
+m2_table01.put(Arrays.asList("e9e8", 0, null));
+m2_table01.put(List.of("aef6", 0, true));
+m2_table01.get("b72");
+m2_table01.put(List.of("e58", 336, true));
+m2_table01.get("ad69");
+m2_table01.remove("dcfa");
+m2_table01.put(List.of("efd9", 11, false));
+m2_table01.put(List.of("fdc", 424, true));
+m2_table01.put(List.of("d32b", 0, false));
+m2_table01.put(List.of("c85a", 4287, false));
+m2_table01.remove("a6d4");
+m2_table01.remove("f4d");
+m2_table01.put(List.of("a0d5", 14, false));
+m2_table01.put(List.of("df4e", 300, true));
+m2_table01.put(List.of("e24", 15990, false));
+m2_table01.put(List.of("bf3", 0, false));
+m2_table01.put(List.of("c1e", 6, false));
+m2_table01.remove("b97");
+m2_table01.put(List.of("fec", 1122, true));
+m2_table01.put(List.of("d7c", 457, false));
+m2_table01.put(List.of("da134", 4172, true));
+m2_table01.remove("c7b");
+m2_table01.get("a582");
+m2_table01.put(List.of("c85", 95, true));
+m2_table01.remove("af0b");
+m2_table01.put(List.of("c65c", 11, true));
+m2_table01.put(List.of("a232", 478, true));
+m2_table01.get("e8cf");
+m2_table01.put(List.of("ddff", 2, false));
+m2_table01.put(List.of("c48", 21, true));
+m2_table01.put(List.of("b258", 0, true));
+m2_table01.put(List.of("a171", 3, false));
+m2_table01.remove("a118");
+m2_table01.put(List.of("ba8", 0, true));
+m2_table01.put(List.of("ca845", 69, true));
+m2_table01.put(List.of("f293", 4, false));
+m2_table01.put(List.of("a396", 0, false));
+m2_table01.put(List.of("ea5", 105630, true));
+m2_table01.put(List.of("c1f1", 0, false));
+m2_table01.put(List.of("c0f3", 0, true));
+m2_table01.get("a52f");
+m2_table01.remove("ff3e");
+m2_table01.put(List.of("a8b5", 347, true));
+m2_table01.remove("f46");
+m2_table01.put(List.of("c296", 13332, false));
+m2_table01.put(List.of("ceb4", 8309, true));
+m2_table01.put(List.of("f7db", 3, false));
+m2_table01.get("b6f4");
+m2_table01.remove("cad1a");
+m2_table01.put(List.of("c8c9", 0, false));
+m2_table01.put(List.of("b2f5", 0, false));
+m2_table01.put(List.of("d00c", 0, true));
+m2_table01.put(List.of("a38", 191, true));
+m2_table01.put(List.of("fc36", 0, false));
+m2_table01.put(List.of("e293", 0, true));
+m2_table01.put(List.of("a0174", 1, false));
+m2_table01.get("a8a1");
+m2_table01.put(List.of("c16b", 3601, false));
+m2_table01.put(List.of("d4e", 7, false));
+m2_table01.put(List.of("c8fd", 0, true));
+m2_table01.get("fe67");
+m2_table01.put(List.of("ba04", 3368, true));
+m2_table01.remove("af0");
+m2_table01.remove("fbff");
+m2_table01.put(List.of("ad41", 0, true));
+m2_table01.get("ed9a");
+m2_table01.remove("c8ce");
+m2_table01.put(List.of("d98", 0, false));
+m2_table01.put(List.of("b620", 812, true));
+m2_table01.put(List.of("f6e9", 0, true));
+m2_table01.put(List.of("bcca", 0, false));
+m2_table01.put(List.of("ece", 0, true));
+m2_table01.put(List.of("c7ba", 796, true));
+m2_table01.put(List.of("a950", 61673, true));
+m2_table01.put(List.of("e037", 0, true));
+m2_table01.put(List.of("a8e2", 0, true));
+m2_table01.put(List.of("db91", 0, true));
+m2_table01.put(List.of("db4d", 0, true));
+m2_table01.remove("a684");
+m2_table01.put(List.of("e6125", 290, false));
+m2_table01.remove("bb6");
+m2_table01.put(List.of("c026", 85364, false));
+m2_table01.remove("c228");
+m2_table01.put(List.of("b6f1", 0, true));
+m2_table01.put(List.of("b0e", 0, true));
+m2_table01.put(List.of("bb10", 194, true));
+m2_table01.put(List.of("c24", 0, false));
+m2_table01.put(List.of("d6e6", 40, true));
+m2_table01.put(List.of("c13", 0, false));
+m2_table01.put(List.of("b1f", 0, false));
+m2_table01.put(List.of("a3160", 25036, true));
+m2_table01.put(List.of("d0dc", 15, false));
+m2_table01.put(List.of("b93", 8, true));
+m2_table01.put(List.of("d820", 0, false));
+m2_table01.put(List.of("c918", 7599167, false));
+m2_table01.put(List.of("e5c2b", 184, true));
+m2_table01.remove("bfc5");
+m2_table01.put(List.of("d00", 20, true));
+m2_table01.put(List.of("f879", 1586, true));
+m2_table01.remove("aea1");
+m2_table01.put(List.of("aa8c", 0, false));
+m2_table01.put(List.of("d03", 0, true));
+m2_table01.put(List.of("b3b", 1, true));
+m2_table01.get("fb1");
+m2_table01.put(List.of("e27b", 0, true));
+m2_table01.put(List.of("e35", 9089, true));
+m2_table01.get("a3da");
+m2_table01.put(List.of("de5", 22839, true));
+m2_table01.put(List.of("cf76", 0, false));
+m2_table01.get("dc3f");
+m2_table01.get("c407");
+m2_table01.remove("e9e");
+m2_table01.put(List.of("a5c", 0, false));
+m2_table01.put(List.of("f587", 0, true));
+m2_table01.get("bcba");
+m2_table01.put(List.of("bf47", 5, true));
+m2_table01.remove("b929");
+m2_table01.get("d84d");
+m2_table01.put(List.of("d2b2", 17, false));
+m2_table01.remove("ff08");
+m2_table01.remove("cba");
+m2_table01.put(List.of("a44", 0, false));
+m2_table01.put(List.of("a509", 1, true));
+m2_table01.put(List.of("f722", 0, false));
+m2_table01.put(List.of("c01b", 0, true));
+m2_table01.put(List.of("fb8", 0, false));
+m2_table01.put(List.of("eabc", 106, false));
+m2_table01.put(List.of("c121", 0, true));
+m2_table01.put(List.of("ba96", 18, false));
+m2_table01.remove("a1c5");
+m2_table01.put(List.of("dd00", 97, false));
+m2_table01.put(List.of("ab12", 0, false));
+m2_table01.put(List.of("cf5", 10, true));
+m2_table01.put(List.of("e4b", 0, false));
+m2_table01.get("a594b");
+m2_table01.put(List.of("a8b1", 37846, false));
+m2_table01.remove("a83");
+m2_table01.put(List.of("bf1", 0, false));
+m2_table01.put(List.of("cb4f", 33, false));
+m2_table01.remove("f53");
+m2_table01.remove("bd8a");
+m2_table01.put(List.of("d65", 0, false));
+m2_table01.put(List.of("e8e", 375, true));
+m2_table01.put(List.of("adde", 3, false));
+m2_table01.remove("d37");
+m2_table01.put(List.of("e915", 4815, true));
+m2_table01.get("de08");
+m2_table01.put(List.of("daf6", 0, false));
+m2_table01.put(List.of("c6fe", 17, true));
+m2_table01.put(List.of("c02a", 16, false));
+m2_table01.remove("ec490");
+m2_table01.put(List.of("eea3", 0, false));
+m2_table01.put(List.of("ad45", 6356, false));
+m2_table01.put(List.of("dead4", 51, true));
+m2_table01.put(List.of("c26", 384, true));
+m2_table01.put(List.of("f8e", 40, false));
+m2_table01.put(List.of("f078", 3, false));
+m2_table01.put(List.of("aad3", 433, true));
+m2_table01.put(List.of("afc5", 4125, true));
+m2_table01.put(List.of("bed", 6280, true));
+m2_table01.put(List.of("fb55", 18, false));
+m2_table01.remove("aec6");
+m2_table01.put(List.of("bd45", 0, true));
+m2_table01.put(List.of("b8b", 16, false));
+m2_table01.put(List.of("f771", 0, false));
+m2_table01.remove("c928");
+m2_table01.remove("cde2");
+m2_table01.remove("dcd0");
+m2_table01.put(List.of("c9b5", 147, true));
+m2_table01.put(List.of("a1a3", 468, false));
+m2_table01.put(List.of("d5a69", 0, false));
+m2_table01.remove("fd07");
+m2_table01.put(List.of("dab", 0, false));
+m2_table01.put(List.of("cb4", 481, true));
+m2_table01.put(List.of("e74", 1700, true));
+m2_table01.get("deda");
+m2_table01.remove("f8bc");
+m2_table01.remove("bf6c");
+m2_table01.put(List.of("bf0b", 236, false));
+m2_table01.put(List.of("f804a", 191437, false));
+m2_table01.put(List.of("be227", 13, true));
+m2_table01.put(List.of("bbc1", 2755, true));
+m2_table01.remove("b7a1f");
+m2_table01.remove("c685");
+m2_table01.remove("f45");
+m2_table01.put(List.of("ab84", 0, false));
+m2_table01.get("d96b");
+m2_table01.remove("b816");
+m2_table01.put(List.of("a1ae", 13651, true));
+m2_table01.remove("f98e");
+m2_table01.put(List.of("b947", 3672, false));
+m2_table01.put(List.of("ef66", 0, true));
+m2_table01.put(List.of("c01", 0, false));
+m2_table01.put(List.of("a91b", 296, true));
+m2_table01.put(List.of("d65b", 0, true));
+m2_table01.put(List.of("c7f", 3707117, true));
+m2_table01.remove("ed9");
+m2_table01.put(List.of("e42", 391, true));
+m2_table01.remove("a607");
+m2_table01.put(List.of("a3a2", 643, true));
+m2_table01.put(List.of("a0c4", 1987, false));
+m2_table01.put(List.of("aa83e", 0, false));
+m2_table01.remove("e6ba");
+m2_table01.put(List.of("a96f", 344, false));
+m2_table01.put(List.of("f3c", 8842, false));
+m2_table01.get("f3b");
+m2_table01.put(List.of("efc", 0, false));
+m2_table01.put(List.of("e20b0", 226, false));
+m2_table01.put(List.of("e914", 48045, true));
+m2_table01.put(List.of("a69b", 0, false));
+m2_table01.put(List.of("a7e", 1575, true));
+m2_table01.put(List.of("f217", 8315, true));
+m2_table01.remove("a543");
+m2_table01.remove("bcd3d");
+m2_table01.put(List.of("b5ad", 193, true));
+m2_table01.put(List.of("d0c5", 0, false));
+m2_table01.remove("d34");
+m2_table01.put(List.of("bceff", 3757, false));
+m2_table01.remove("a361");
+m2_table01.remove("b91d");
+m2_table01.put(List.of("ea0", 12, true));
+m2_table01.put(List.of("e003", 0, false));
+m2_table01.put(List.of("ab9e", 3, false));
+m2_table01.remove("ba54");
+m2_table01.put(List.of("aeca", 0, true));
+m2_table01.remove("a2cb");
+m2_table01.remove("e5ad");
+m2_table01.remove("af8");
+m2_table01.put(List.of("d6a", 94, false));
+m2_table01.put(List.of("b1e1f", 10890, false));
+m2_table01.remove("ebb7");
+m2_table01.remove("ceb2");
+m2_table01.remove("f1b4");
+m2_table01.get("b0f");
+m2_table01.put(List.of("a559", 34, false));
+m2_table01.put(List.of("dda", 0, false));
+m2_table01.put(List.of("d783", 0, false));
+m2_table01.put(List.of("f488", 6172, true));
+m2_table01.put(List.of("b1ad", 0, true));
+m2_table01.remove("a0b7");
+m2_table01.put(List.of("c73", 14286, false));
+m2_table01.remove("d67f");
+m2_table01.put(List.of("b07d", 78, false));
+m2_table01.put(List.of("da2d", 1479, false));
+m2_table01.put(List.of("c7e4", 64, true));
+m2_table01.put(List.of("e0e5", 0, false));
+m2_table01.put(List.of("c66", 301, false));
+m2_table01.put(List.of("a4b5", 0, false));
+m2_table01.get("e93");
+m2_table01.remove("facc");
+m2_table01.put(List.of("e44e", 0, true));
+m2_table01.put(List.of("b55", 4, true));
+m2_table01.put(List.of("bdc8", 35036, false));
+m2_table01.put(List.of("c34e", 1326, false));
+m2_table01.put(List.of("bdab", 3, false));
+m2_table01.put(List.of("a5fe", 15, true));
+m2_table01.put(List.of("be93", 5, false));
+m2_table01.put(List.of("e3c6", 0, true));
+m2_table01.put(List.of("bc23", 46, false));
+m2_table01.put(List.of("cafe", 32, false));
+m2_table01.put(List.of("e70f", 291710, false));
+m2_table01.put(List.of("d69e", 0, false));
+m2_table01.put(List.of("d684", 1, false));
+m2_table01.remove("dcf9");
+m2_table01.put(List.of("ae47", 0, true));
+m2_table01.put(List.of("d47f", 0, true));
+m2_table01.put(List.of("cf0", 0, true));
+m2_table01.put(List.of("dfb2", 286, true));
+m2_table01.put(List.of("efa", 9, false));
+m2_table01.remove("e071");
+m2_table01.put(List.of("ccb", 0, false));
+m2_table01.remove("e8be");
+m2_table01.put(List.of("c8d0", 982, false));
+m2_table01.put(List.of("c654", 0, true));
+m2_table01.put(List.of("f58f9", 0, true));
+m2_table01.put(List.of("a62a", 2, true));
+m2_table01.remove("cb4a0");
+m2_table01.put(List.of("f5d", 0, true));
+m2_table01.put(List.of("e71", 0, true));
+m2_table01.put(List.of("e876", 1, false));
+m2_table01.put(List.of("d0e3", 1, true));
+m2_table01.remove("fac9");
+m2_table01.put(List.of("ae57", 212, false));
+m2_table01.put(List.of("a5f4", 0, false));
+m2_table01.put(List.of("e5f", 0, true));
+m2_table01.remove("e469");
+m2_table01.put(List.of("b85", 146, false));
+m2_table01.get("a48ff");
+m2_table01.get("ce54");
+m2_table01.remove("b747");
+m2_table01.put(List.of("d44", 0, true));
+m2_table01.put(List.of("af5", 9513, true));
+m2_table01.put(List.of("b229", 1927, false));
+m2_table01.get("eb26");
+m2_table01.put(List.of("e615", 0, true));
+m2_table01.put(List.of("c49d", 0, true));
+m2_table01.put(List.of("a8f4", 0, true));
+m2_table01.remove("f40");
+m2_table01.put(List.of("f2b6", 4, false));
+m2_table01.put(List.of("f618", 0, true));
+m2_table01.put(List.of("dec0", 0, false));
+m2_table01.put(List.of("cff", 397, true));
+m2_table01.put(List.of("bc6", 197, false));
+m2_table01.put(List.of("c571", 24640, false));
+m2_table01.put(List.of("cc8c", 2, false));
+m2_table01.put(List.of("bce3", 0, false));
+m2_table01.put(List.of("db6", 93, false));
+m2_table01.put(List.of("a4da7", 0, true));
+m2_table01.put(List.of("f89", 0, false));
+m2_table01.put(List.of("a5328", 571, true));
+m2_table01.put(List.of("afe9", 0, false));
+m2_table01.put(List.of("a4eb", 0, true));
+m2_table01.put(List.of("b0cdb", 0, false));
+m2_table01.put(List.of("e018", 0, true));
+m2_table01.put(List.of("fefb", 0, false));
+m2_table01.remove("d2ab");
+m2_table01.remove("b8ed");
+m2_table01.remove("ae3f");
+m2_table01.put(List.of("bda", 0, false));
+m2_table01.put(List.of("cfcaf", 3, true));
+m2_table01.get("ab29");
+m2_table01.put(List.of("bbfa", 450, false));
+m2_table01.put(List.of("a4a3", 0, true));
+m2_table01.get("bd1e4");
+m2_table01.put(List.of("e57", 0, false));
+m2_table01.put(List.of("ac2d8", 1699, false));
+m2_table01.get("dcf6");
+m2_table01.put(List.of("c16", 192, true));
+m2_table01.put(List.of("c51", 1, true));
+m2_table01.remove("c2d5");
+m2_table01.put(List.of("c2f8", 244902, true));
+m2_table01.put(List.of("ef9b", 0, false));
+m2_table01.put(List.of("a53e", 0, false));
+m2_table01.remove("b070");
+m2_table01.put(List.of("b3a6", 7, false));
+m2_table01.remove("e390");
+m2_table01.put(List.of("e6b1", 0, false));
+m2_table01.put(List.of("edd8", 228, false));
+m2_table01.put(List.of("b0e8", 295, false));
+m2_table01.put(List.of("bf20", 0, false));
+m2_table01.put(List.of("fd7", 34778, false));
+m2_table01.remove("b76f");
+m2_table01.put(List.of("edc", 17451, false));
+m2_table01.put(List.of("f97", 0, true));
+m2_table01.put(List.of("ad0e", 3674, false));
+m2_table01.put(List.of("d68e", 15, false));
+m2_table01.put(List.of("f12c", 0, true));
+m2_table01.put(List.of("ecc7", 0, true));
+m2_table01.put(List.of("e8b8", 367, false));
+m2_table01.put(List.of("ca2", 23, false));
+m2_table01.put(List.of("b4c", 231, true));
+m2_table01.put(List.of("aa1d", 3124, true));
+m2_table01.put(List.of("d7f9", 0, false));
+m2_table01.get("cf1c");
+m2_table01.put(List.of("b7a", 4552, true));
+m2_table01.put(List.of("b559", 0, true));
+m2_table01.put(List.of("d51f", 47, true));
+m2_table01.get("c8c");
+m2_table01.put(List.of("e301", 2, false));
+m2_table01.get("ce84");
+m2_table01.remove("e1ab");
+m2_table01.put(List.of("ea17", 0, true));
+m2_table01.get("bbe5");
+m2_table01.put(List.of("ee7", 0, true));
+m2_table01.remove("da49");
+m2_table01.put(List.of("d8e", 28608, false));
+m2_table01.put(List.of("fefc", 52, true));
+m2_table01.put(List.of("bf98", 7, false));
+m2_table01.put(List.of("bb18", 0, false));
+m2_table01.put(List.of("c43", 0, false));
+m2_table01.put(List.of("b7cc", 343, true));
+m2_table01.put(List.of("b23c", 1652, false));
+m2_table01.remove("b1ea");
+m2_table01.put(List.of("f04c", 183, true));
+m2_table01.remove("b820");
+m2_table01.put(List.of("a63a", 111812, false));
+m2_table01.get("a8af");
+m2_table01.put(List.of("df1e", 326, true));
+m2_table01.put(List.of("afed", 93, true));
+m2_table01.put(List.of("b9a7", 0, true));
+m2_table01.put(List.of("b5ec", 43379, false));
+m2_table01.put(List.of("ccd", 10, false));
+m2_table01.remove("a5dd");
+m2_table01.put(List.of("cb5c", 0, true));
+m2_table01.put(List.of("a95f6", 110, false));
+m2_table01.remove("d1e");
+m2_table01.put(List.of("a5cb", 0, false));
+m2_table01.remove("be0d");
+m2_table01.put(List.of("ae8d", 122382, true));
+m2_table01.get("f40b");
+m2_table01.put(List.of("dc375", 295, false));
+m2_table01.get("f3cc");
+m2_table01.remove("d86a");
+m2_table01.put(List.of("a41d", 356, false));
+m2_table01.remove("b46e2");
+m2_table01.put(List.of("bc8", 137, true));
+m2_table01.put(List.of("ca86", 0, true));
+m2_table01.remove("aa1");
+m2_table01.put(List.of("d368", 426, true));
+m2_table01.put(List.of("b490", 383, false));
+m2_table01.put(List.of("f59e", 181, true));
+m2_table01.put(List.of("ffa", 0, false));
+m2_table01.put(List.of("e95", 0, false));
+m2_table01.put(List.of("c787", 14, true));
+m2_table01.put(List.of("d65f", 0, false));
+m2_table01.remove("f32e");
+m2_table01.remove("b1e6");
+m2_table01.put(List.of("db61", 177, false));
+m2_table01.put(List.of("e60", 11858, false));
+m2_table01.get("a285");
+m2_table01.put(Arrays.asList("f96e", null, false));
+m2_table01.put(List.of("e6f", 0, false));
+m2_table01.put(List.of("d165", 70, false));
+m2_table01.put(List.of("cb5cd", 0, false));
+m2_table01.remove("e53d");
+m2_table01.get("b6d5");
+m2_table01.put(List.of("c623", 731, false));
+m2_table01.get("a530c");
+m2_table01.put(List.of("abd6", 45, true));
+m2_table01.put(List.of("b8f", 0, true));
+m2_table01.put(List.of("a364", 1, false));
+m2_table01.put(List.of("dc3b", 1, true));
+m2_table01.put(List.of("d28fd", 1475, false));
+m2_table01.put(List.of("e33", 37, true));
+m2_table01.put(List.of("c814", 6433, false));
+m2_table01.put(List.of("ead9", 25569, false));
+m2_table01.put(List.of("cb41", 0, true));
+m2_table01.put(List.of("acce", 0, true));
+m2_table01.put(List.of("f7c", 439, false));
+m2_table01.put(List.of("caa3", 0, false));
+m2_table01.put(List.of("a3c8", 1091, false));
+m2_table01.remove("d4f3");
+m2_table01.put(List.of("db4", 64, false));
+m2_table01.put(List.of("e86", 80, true));
+m2_table01.put(List.of("b9ef", 1145, false));
+m2_table01.put(List.of("f1b5", 858, true));
+m2_table01.put(List.of("d51", 0, false));
+m2_table01.put(List.of("a946", 120882, true));
+m2_table01.put(List.of("f57b", 5, true));
+m2_table01.get("c88a");
+m2_table01.remove("e84c");
+m2_table01.put(List.of("f7a2", 89, false));
+m2_table01.put(List.of("a4da5", 0, false));
+m2_table01.put(List.of("a429", 0, false));
+m2_table01.get("df0af");
+m2_table01.get("bfe6");
+m2_table01.put(List.of("cdc9", 0, true));
+m2_table01.put(List.of("b8136", 0, false));
+m2_table01.put(List.of("d1b", 900, true));
+m2_table01.remove("eff3");
+m2_table01.put(List.of("e8a", 578, false));
+m2_table01.put(List.of("b63", 0, false));
+m2_table01.put(List.of("adff6", 720, true));
+m2_table01.remove("ec83");
+m2_table01.put(List.of("e59", 0, false));
+m2_table01.put(List.of("f4e", 108, false));
+m2_table01.put(List.of("b866", 0, true));
+m2_table01.remove("e6a3");
+m2_table01.put(List.of("c6f6", 0, false));
+m2_table01.put(List.of("d30fe", 42, false));
+m2_table01.put(List.of("aaa8", 1, true));
+m2_table01.put(List.of("ca7e", 60571, true));
+m2_table01.put(List.of("c15d", 828, true));
+m2_table01.put(List.of("a8443", 45, false));
+m2_table01.put(List.of("f9a", 0, false));
+m2_table01.put(List.of("db26", 137081, true));
+m2_table01.put(List.of("a790", 35241, true));
+m2_table01.get("a76f");
+m2_table01.remove("f6d3");
+m2_table01.put(List.of("de00", 0, true));
+m2_table01.put(List.of("dfb7", 0, true));
+m2_table01.put(List.of("ff48", 105, false));
+m2_table01.get("dc4");
+m2_table01.remove("bfa8");
+m2_table01.put(List.of("a35b", 0, false));
+m2_table01.put(List.of("db04", 14797, true));
+m2_table01.put(List.of("ad39", 136, true));
+m2_table01.put(List.of("cab", 80308, true));
+m2_table01.put(List.of("b8b14", 1, false));
+m2_table01.put(List.of("d81", 3461, true));
+m2_table01.put(List.of("c0f4", 0, false));
+m2_table01.put(List.of("ad22", 0, false));
+m2_table01.get("e008");
+m2_table01.get("f5a");
+m2_table01.put(List.of("a1a7", 0, true));
+m2_table01.put(List.of("cdc", 0, true));
+m2_table01.put(List.of("da85", 9, true));
+m2_table01.put(List.of("b938", 768, true));
+m2_table01.get("a924");
+m2_table01.put(List.of("a7cc", 2, true));
+m2_table01.put(List.of("a9b4", 0, true));
+m2_table01.put(List.of("b711", 2, false));
+m2_table01.put(List.of("bf6a", 273798, true));
+m2_table01.put(List.of("c1d4", 1, true));
+m2_table01.put(List.of("d485", 0, false));
+m2_table01.put(List.of("d7f3", 29077, true));
+m2_table01.put(List.of("c5d5", 17409, true));
+m2_table01.put(List.of("d459", 0, true));
+m2_table01.get("cc10");
+m2_table01.get("c7f4");
+m2_table01.put(List.of("b5a4", 676, true));
+m2_table01.put(List.of("b6785", 1, true));
+m2_table01.put(List.of("b31c", 0, false));
+m2_table01.remove("ede");
+m2_table01.put(List.of("f031", 0, false));
+m2_table01.put(List.of("ecff", 0, false));
+m2_table01.get("b3b9f");
+m2_table01.get("c337");
+m2_table01.put(List.of("edc2", 0, true));
+m2_table01.put(List.of("fbb3", 0, false));
+m2_table01.put(List.of("e7d5", 69, false));
+m2_table01.get("ecd");
+m2_table01.get("be96");
+m2_table01.put(List.of("b8cb", 0, false));
+m2_table01.put(List.of("e466", 0, true));
+m2_table01.put(List.of("bb9e", 0, false));
+m2_table01.put(List.of("c13e", 38, false));
+m2_table01.put(Arrays.asList("a04", 21671, null));
+m2_table01.get("b1e1");
+m2_table01.put(List.of("a247", 863, true));
+m2_table01.put(List.of("d71ac", 1, false));
+m2_table01.put(List.of("c9bc", 2, true));
+m2_table01.put(Arrays.asList("e85", 0, null));
+m2_table01.put(List.of("cd6dc", 156, false));
+m2_table01.put(List.of("e14b", 26316, true));
+m2_table01.put(List.of("cff0", 855, false));
+m2_table01.put(List.of("ae34", 4, false));
+m2_table01.put(List.of("a4b0", 20334, false));
+m2_table01.put(List.of("a292", 7504, true));
+m2_table01.put(List.of("a4ba", 136, true));
+m2_table01.put(List.of("b15a", 186, true));
+m2_table01.put(List.of("bc50", 0, false));
+m2_table01.put(List.of("f9ff", 5862, false));
+m2_table01.put(List.of("cf2f", 36091, false));
+m2_table01.get("c07e");
+m2_table01.remove("fbd");
+m2_table01.put(List.of("ba00", 323, false));
+m2_table01.put(List.of("c46c", 16, false));
+m2_table01.put(List.of("c06ae", 172, true));
+m2_table01.put(List.of("bd36", 2934, true));
+m2_table01.put(Arrays.asList("aa9ce", null, false));
+m2_table01.put(List.of("b7ed", 268, false));
+m2_table01.put(List.of("a6d6", 0, false));
+m2_table01.put(List.of("c5a3", 0, true));
+m2_table01.remove("e500");
+m2_table01.put(List.of("c2ef", 0, false));
+m2_table01.put(List.of("ea4", 0, true));
+m2_table01.put(List.of("a07c", 240, true));
+m2_table01.get("aa4");
+m2_table01.remove("a864");
+m2_table01.put(List.of("c796", 1362, true));
+m2_table01.put(List.of("ad01", 0, true));
+m2_table01.put(List.of("a2b5", 0, true));
+m2_table01.put(List.of("a475", 12, true));
+m2_table01.put(List.of("b2c9", 0, false));
+m2_table01.remove("d3f6b");
+m2_table01.put(List.of("a91", 0, true));
+m2_table01.put(List.of("c50d", 20756, false));
+m2_table01.put(List.of("fcab", 1960, true));
+m2_table01.put(List.of("a00a", 0, true));
+m2_table01.remove("a69c4");
+m2_table01.remove("e3ed");
+m2_table01.put(List.of("f655", 0, false));
+m2_table01.remove("b5d7");
+m2_table01.put(List.of("cb5", 0, true));
+m2_table01.put(List.of("e76b", 2, true));
+m2_table01.put(List.of("cb94", 0, false));
+m2_table01.put(List.of("af85", 0, true));
+m2_table01.put(List.of("cd87", 0, false));
+m2_table01.put(List.of("a70a", 0, true));
+m2_table01.remove("d54bc");
+m2_table01.put(List.of("a182f", 6849, true));
+m2_table01.put(List.of("e7e8", 213, true));
+m2_table01.put(List.of("fcd", 0, false));
+m2_table01.remove("b471");
+m2_table01.put(List.of("a184", 676, false));
+m2_table01.put(List.of("ab8ef", 2117, false));
+m2_table01.put(List.of("bab56", 0, true));
+m2_table01.put(List.of("b986", 29904, false));
+m2_table01.remove("c97c");
+m2_table01.put(List.of("b169", 19, false));
+m2_table01.remove("cfec");
+m2_table01.remove("c736");
+m2_table01.put(List.of("c33c", 0, true));
+m2_table01.put(List.of("d825", 0, true));
+m2_table01.put(List.of("fccd", 0, true));
+m2_table01.put(List.of("ed5", 7, true));
+m2_table01.remove("b73f");
+m2_table01.put(List.of("a3c9", 49, false));
+m2_table01.put(List.of("eddf", 0, true));
+m2_table01.put(List.of("e23", 988, true));
+m2_table01.remove("a60f1");
+m2_table01.remove("d005");
+m2_table01.put(List.of("e697", 0, true));
+m2_table01.put(List.of("bdb7", 0, false));
+m2_table01.put(List.of("b3e6", 0, true));
+m2_table01.get("c5d0");
+m2_table01.put(List.of("ab37", 0, false));
+m2_table01.remove("b951");
+m2_table01.put(List.of("ec255", 7, true));
+m2_table01.put(List.of("a5f2", 0, true));
+m2_table01.put(List.of("af25", 1, true));
+m2_table01.put(List.of("d66", 0, true));
+m2_table01.put(List.of("fa6", 153, false));
+m2_table01.put(List.of("f37", 0, false));
+m2_table01.remove("d6ce");
+m2_table01.get("e01f");
+m2_table01.get("bb75");
+m2_table01.put(List.of("ab6ad", 4, true));
+m2_table01.put(List.of("aafa", 78, true));
+m2_table01.put(List.of("bec3", 0, false));
+m2_table01.get("ee97");
+m2_table01.put(List.of("c4a9", 0, false));
+m2_table01.put(List.of("c06", 0, false));
+m2_table01.put(List.of("beb12", 1765, true));
+m2_table01.put(List.of("bd42", 219, true));
+m2_table01.put(List.of("bd65", 9509, false));
+m2_table01.put(List.of("d2cd", 1520, true));
+m2_table01.remove("b210");
+m2_table01.remove("c3f");
+m2_table01.remove("df7c");
+m2_table01.put(List.of("b90e", 9, false));
+m2_table01.put(List.of("a336", 33437, false));
+m2_table01.put(List.of("bb08b", 0, false));
+m2_table01.put(List.of("ed80", 0, false));
+m2_table01.put(List.of("ae0", 1522, true));
+m2_table01.put(List.of("fe9", 0, false));
+m2_table01.put(List.of("b74e", 61, false));
+m2_table01.get("b7499");
+m2_table01.put(List.of("e96f", 0, true));
+m2_table01.get("d21e");
+m2_table01.put(List.of("aacb", 0, true));
+m2_table01.put(List.of("a44a", 1, true));
+m2_table01.put(List.of("e1aa", 115558, false));
+m2_table01.put(List.of("b7db", 0, true));
+m2_table01.put(List.of("e352", 176, true));
+m2_table01.put(List.of("b785", 875, true));
+m2_table01.put(List.of("b8c4", 56422, false));
+m2_table01.put(List.of("af66", 0, true));
+m2_table01.remove("a385");
+m2_table01.put(List.of("f6f8", 0, false));
+m2_table01.get("f551");
+m2_table01.remove("afdf");
+m2_table01.remove("fe39");
+m2_table01.put(List.of("e20f", 89, true));
+m2_table01.put(List.of("f6f", 52, true));
+m2_table01.put(List.of("e29", 3, false));
+m2_table01.remove("d02a");
+m2_table01.get("f3f0");
+m2_table01.remove("c22");
+m2_table01.put(List.of("c4fb", 0, false));
+m2_table01.put(List.of("bdb71", 4, true));
+m2_table01.put(List.of("c03", 18, true));
+m2_table01.put(List.of("ef28", 44, true));
+m2_table01.put(List.of("cbfb", 1, true));
+m2_table01.put(List.of("aab6", 17, false));
+m2_table01.put(List.of("b05e", 0, false));
+m2_table01.put(List.of("d99b", 0, false));
+m2_table01.put(List.of("f19f", 0, false));
+m2_table01.get("c784");
+m2_table01.put(List.of("b910", 6, false));
+m2_table01.remove("ac7");
+m2_table01.put(List.of("cf644", 0, true));
+m2_table01.put(List.of("e684", 0, true));
+m2_table01.get("f5f");
+m2_table01.put(List.of("a67c", 16896, false));
+m2_table01.put(List.of("a78fc", 0, true));
+m2_table01.put(List.of("b20f", 51287, true));
+m2_table01.put(List.of("bb54", 11, false));
+m2_table01.put(List.of("c8249", 1510, true));
+m2_table01.put(List.of("a048", 5, true));
+m2_table01.put(List.of("babe", 87, true));
+m2_table01.put(List.of("ecc", 0, false));
+m2_table01.put(List.of("a496", 0, false));
+m2_table01.get("ca61");
+m2_table01.remove("a4cc");
+m2_table01.get("e70a");
+m2_table01.put(List.of("d49", 18, false));
+m2_table01.remove("e8a64");
+m2_table01.put(List.of("e454", 3037, false));
+m2_table01.put(List.of("dafc", 0, false));
+m2_table01.put(List.of("bc7b5", 343, false));
+m2_table01.put(List.of("f85b", 49, false));
+m2_table01.get("b7ea");
+m2_table01.put(List.of("c92c", 0, false));
+m2_table01.put(List.of("fda6", 8665, true));
+m2_table01.put(List.of("bee9", 0, true));
+m2_table01.put(List.of("a3f1", 10, true));
+m2_table01.put(List.of("b33f4", 2394, false));
+m2_table01.put(List.of("c688", 6, true));
+m2_table01.put(List.of("b26", 0, false));
+m2_table01.put(List.of("cdc8", 0, false));
+m2_table01.remove("a74d");
+m2_table01.put(List.of("a0b1", 4, false));
+m2_table01.put(List.of("be24", 1, false));
+m2_table01.put(List.of("bded", 0, true));
+m2_table01.get("a1e7");
+m2_table01.put(List.of("aa03", 8638, false));
+m2_table01.put(List.of("aa5c", 1, true));
+m2_table01.put(List.of("b9bf", 0, true));
+m2_table01.put(List.of("d89e", 0, false));
+m2_table01.put(List.of("ce9f", 3, false));
+m2_table01.put(List.of("d405", 0, false));
+m2_table01.put(List.of("f18a", 0, false));
+m2_table01.put(List.of("b404", 3, true));
+m2_table01.put(List.of("c495", 0, true));
+m2_table01.remove("d069");
+m2_table01.put(List.of("b46", 0, false));
+m2_table01.put(List.of("ebb", 489, true));
+m2_table01.put(List.of("c5b6", 23795, true));
+m2_table01.put(List.of("d39", 8, false));
+m2_table01.put(List.of("c66b", 0, false));
+m2_table01.put(List.of("db57", 16214, false));
+m2_table01.put(List.of("e5eb", 344, false));
+m2_table01.remove("ac97");
+m2_table01.put(List.of("b151", 0, false));
+m2_table01.remove("e05d");
+m2_table01.put(List.of("ebef", 38, true));
+m2_table01.put(List.of("bf3eb", 0, false));
+m2_table01.remove("c7ed");
+m2_table01.put(List.of("b36f", 13, true));
+m2_table01.remove("d382");
+m2_table01.put(List.of("ddf5", 0, false));
+m2_table01.get("eb6");
+m2_table01.put(List.of("a4c0", 401, false));
+m2_table01.get("d5d4");
+m2_table01.get("ae51");
+// Random Seed: 1082180784
+m2_table01 = null;
+
+m2_table01 = new HashFileTable("m2_table01");
+m2_table01.getTableName();
+m2_table01.getColumnNames();
+m2_table01.getColumnTypes();
+m2_table01.getPrimaryIndex();
+m2_table01.getTableName();
+m2_table01.getColumnNames();
+m2_table01.getColumnTypes();
+m2_table01.getPrimaryIndex();
+m2_table01.get("dc8e");
+m2_table01.get("b29a");
+m2_table01.get("ca1d");
+m2_table01.get("efe6");
+m2_table01.get("f187");
+m2_table01.get("b884");
+m2_table01.get("ca14");
+m2_table01.get("b70f");
+m2_table01.get("ce74");
+m2_table01.get("fbc3");
+m2_table01.get("f7e7");
+m2_table01.get("dc45");
+m2_table01.get("cde20");
+m2_table01.get("fefaa");
+m2_table01.get("fa33");
+m2_table01.get("ff5");
+m2_table01.get("ce5");
+m2_table01.get("cde");
+m2_table01.get("d8a6");
+m2_table01.get("b264");
+m2_table01.get("a6ab");
+m2_table01.get("f763");
+m2_table01.get("b7fc");
+m2_table01.get("b272");
+m2_table01.get("d467");
+m2_table01.get("cd628");
+m2_table01.get("b24d");
+m2_table01.get("a33e");
+m2_table01.get("a9d9");
+m2_table01.get("f006");
+m2_table01.get("e302");
+m2_table01.get("f00");
+m2_table01.get("ce099");
+m2_table01.get("a1a2");
+m2_table01.get("bfac2");
+m2_table01.get("c282");
+m2_table01.get("a367");
+m2_table01.get("e6d");
+m2_table01.get("ed4a");
+m2_table01.get("bb79");
+m2_table01.get("cda7");
+m2_table01.get("f2ca");
+m2_table01.get("cdeb");
+m2_table01.get("df7e");
+m2_table01.get("a4bc");
+m2_table01.get("c46");
+m2_table01.get("f99");
+m2_table01.get("bb0a");
+m2_table01.get("cec");
+m2_table01.get("f27");
+m2_table01.get("bc5d");
+m2_table01.get("b54f");
+m2_table01.get("ce86");
+m2_table01.get("fd7e");
+m2_table01.get("a431");
+m2_table01.get("c6e");
+m2_table01.get("f8c0");
+m2_table01.get("e534");
+m2_table01.get("a6a9");
+m2_table01.get("b989");
+m2_table01.get("c4f1");
+m2_table01.get("b949");
+m2_table01.get("a14");
+m2_table01.get("b24e");
+m2_table01.get("d332");
+m2_table01.get("f2b04");
+m2_table01.get("f49d");
+m2_table01.get("b4bb");
+m2_table01.get("cf5e");
+m2_table01.get("a26f");
+m2_table01.get("c041");
+m2_table01.get("cb7d");
+m2_table01.get("c1bb");
+m2_table01.get("c0af");
+m2_table01.get("c07");
+m2_table01.get("a415");
+m2_table01.get("b4dd");
+m2_table01.get("df4");
+m2_table01.get("c55");
+m2_table01.get("c08b");
+m2_table01.get("c8a8");
+m2_table01.get("ce94");
+m2_table01.get("f76a");
+m2_table01.get("fe03");
+m2_table01.get("c39c");
+m2_table01.get("b011");
+m2_table01.get("b80e");
+m2_table01.get("e1c1");
+m2_table01.get("c52");
+m2_table01.get("c55d");
+m2_table01.get("a457");
+m2_table01.get("fa7d");
+m2_table01.get("a786");
+m2_table01.get("a087");
+m2_table01.get("a3bf");
+m2_table01.get("b306");
+m2_table01.get("cae");
+m2_table01.get("de60");
+m2_table01.get("b83a");
+m2_table01.get("dcb68");
+m2_table01.get("a5ef");
+m2_table01.get("c090");
+m2_table01.get("fba7");
+m2_table01.get("cda");
+m2_table01.get("a22d");
+m2_table01.get("cb86");
+m2_table01.get("c42");
+m2_table01.get("d938");
+m2_table01.get("dc0b");
+m2_table01.get("b6f3");
+m2_table01.get("e54f");
+m2_table01.get("a3c4");
+m2_table01.get("ad9e");
+m2_table01.get("e79f");
+m2_table01.get("de24");
+m2_table01.get("ccef");
+m2_table01.get("b3df");
+m2_table01.get("b1a4");
+m2_table01.get("a3e0");
+m2_table01.get("c99d");
+m2_table01.get("e10");
+m2_table01.get("f39c");
+m2_table01.get("daf8");
+m2_table01.get("b550d");
+m2_table01.get("a89b");
+m2_table01.get("da61a");
+m2_table01.get("ffda");
+m2_table01.get("a9c7");
+m2_table01.get("c5f9");
+m2_table01.get("bc90");
+m2_table01.get("d18");
+m2_table01.get("a9e2");
+m2_table01.get("b37");
+m2_table01.get("df80");
+m2_table01.get("fad3");
+m2_table01.get("b896");
+m2_table01.get("a81");
+m2_table01.get("f35e1");
+m2_table01.get("bd78");
+m2_table01.get("a7cc4");
+m2_table01.get("d2a7");
+m2_table01.get("f96e7");
+m2_table01.get("a460");
+m2_table01.get("a897d");
+m2_table01.get("b190");
+m2_table01.get("eaf1");
+m2_table01.get("f871");
+m2_table01.get("acb3");
+m2_table01.get("f8eb");
+m2_table01.get("a465");
+m2_table01.get("d2f8");
+m2_table01.get("c007");
+m2_table01.get("d197");
+m2_table01.get("ad837");
+m2_table01.get("d09");
+m2_table01.get("caaa");
+m2_table01.get("a8ec");
+m2_table01.get("e0e1f");
+m2_table01.get("e00a");
+m2_table01.get("a399");
+m2_table01.get("f369");
+m2_table01.get("a61f");
+m2_table01.get("b2c5");
+m2_table01.get("b8c9");
+m2_table01.get("aa37f");
+m2_table01.get("e519");
+m2_table01.get("a246");
+m2_table01.get("b9f7");
+m2_table01.get("cc191");
+m2_table01.get("aa12");
+m2_table01.get("eb76");
+m2_table01.get("fcba");
+m2_table01.get("eb75");
+m2_table01.get("a13f");
+m2_table01.get("b7f1");
+m2_table01.get("b44b");
+m2_table01.get("caa0");
+m2_table01.get("bcf5");
+m2_table01.get("aa8f");
+m2_table01.get("f336");
+m2_table01.get("ed4");
+m2_table01.get("bf5fe");
+m2_table01.get("d7b1");
+m2_table01.get("a096");
+m2_table01.get("b067");
+m2_table01.get("aad1");
+m2_table01.get("b52a");
+m2_table01.get("b261");
+m2_table01.get("e327");
+m2_table01.get("b0c4");
+m2_table01.get("fa71a");
+m2_table01.get("e874");
+m2_table01.get("ccf6");
+m2_table01.get("b9c9");
+m2_table01.get("eeb57");
+m2_table01.get("ad26");
+m2_table01.get("b410");
+m2_table01.get("f5cc6");
+m2_table01.get("f74");
+m2_table01.get("c391");
+m2_table01.get("ecd8");
+m2_table01.get("b893");
+m2_table01.get("bfa6c");
+m2_table01.get("d55f");
+m2_table01.get("d18c");
+m2_table01.get("b16ac");
+m2_table01.get("a3ed");
+m2_table01.get("f103");
+m2_table01.get("a381");
+m2_table01.get("ed85");
+m2_table01.get("abf8");
+m2_table01.get("a711");
+m2_table01.get("acae");
+m2_table01.get("c525");
+m2_table01.get("db3f");
+m2_table01.get("b5a3");
+m2_table01.get("c5c1");
+m2_table01.get("c5b5");
+m2_table01.get("d75f5");
+m2_table01.get("ce67");
+m2_table01.get("aa2d");
+m2_table01.get("b5c7");
+m2_table01.get("bdf0");
+m2_table01.get("e09e");
+m2_table01.get("d9b2");
+m2_table01.get("fd17");
+m2_table01.get("babd");
+m2_table01.get("de2f");
+m2_table01.get("cf49");
+m2_table01.get("de41");
+m2_table01.get("f3e");
+m2_table01.get("cc69");
+m2_table01.get("ed39");
+m2_table01.get("a62e");
+m2_table01.get("fcb");
+m2_table01.get("b3e9");
+m2_table01.get("d90c");
+m2_table01.get("daa5");
+m2_table01.get("e7f7");
+m2_table01.get("ba9e");
+m2_table01.get("b9d7");
+m2_table01.get("e0df");
+m2_table01.get("e02");
+m2_table01.get("fabc");
+m2_table01.get("a9a0");
+m2_table01.get("f4ec");
+m2_table01.get("c64a");
+m2_table01.get("b94b");
+m2_table01.get("e601");
+m2_table01.get("c38f");
+m2_table01.get("cd67");
+m2_table01.get("fe8b");
+m2_table01.get("f1b");
+m2_table01.get("f3a");
+m2_table01.get("c33");
+m2_table01.get("c41d");
+m2_table01.get("b3f7");
+m2_table01.get("f7395");
+m2_table01.get("c1c5");
+m2_table01.get("d3be");
+m2_table01.get("b167");
+m2_table01.get("d2fe");
+m2_table01.get("c9a");
+m2_table01.get("b716");
+m2_table01.get("c564");
+m2_table01.get("e2d9");
+m2_table01.get("cb0e");
+m2_table01.get("ff7");
+m2_table01.get("da90");
+m2_table01.get("c057");
+m2_table01.get("cea1");
+m2_table01.get("b762");
+m2_table01.get("e409");
+m2_table01.get("a1e1c");
+m2_table01.get("e1d1");
+m2_table01.get("bef3");
+m2_table01.get("cced");
+m2_table01.get("a230a");
+m2_table01.get("e826");
+m2_table01.get("c135");
+m2_table01.get("d3ca");
+m2_table01.get("a62d");
+m2_table01.get("a506");
+m2_table01.get("a51f");
+m2_table01.get("fb6c");
+m2_table01.get("edd3");
+m2_table01.get("b09f");
+m2_table01.get("d937");
+m2_table01.get("d23");
+m2_table01.get("dddc");
+m2_table01.get("b897");
+m2_table01.get("b5a0");
+m2_table01.get("b9bc");
+m2_table01.get("a208");
+m2_table01.get("cfe2f");
+m2_table01.get("c1f5");
+m2_table01.get("ff12");
+m2_table01.get("e699");
+m2_table01.get("d2b5");
+m2_table01.get("a733");
+m2_table01.get("cd81");
+m2_table01.get("b75f");
+m2_table01.get("d7893");
+m2_table01.get("c3f6");
+m2_table01.get("a2a");
+m2_table01.get("d72d");
+m2_table01.get("fbf1");
+m2_table01.get("e00b3");
+m2_table01.get("a6e3");
+m2_table01.get("d354");
+m2_table01.get("c577");
+m2_table01.get("d145");
+m2_table01.get("d827");
+m2_table01.get("e07e");
+m2_table01.get("d670");
+m2_table01.get("f962");
+m2_table01.get("b3a8");
+m2_table01.get("ae87");
+m2_table01.get("cc3e");
+m2_table01.get("b155");
+m2_table01.get("eb6b");
+m2_table01.get("ed67");
+m2_table01.get("d7a5");
+m2_table01.get("c370");
+m2_table01.get("f1a4");
+m2_table01.get("d243");
+m2_table01.get("ba56");
+m2_table01.get("aef1a");
+m2_table01.get("bc47");
+m2_table01.get("bee8");
+m2_table01.get("d6331");
+m2_table01.get("b6ee");
+m2_table01.get("c65f");
+m2_table01.get("af06");
+m2_table01.get("fdf2");
+m2_table01.get("fd67");
+m2_table01.get("a4fc");
+m2_table01.get("d95");
+m2_table01.get("d8a");
+m2_table01.get("b168");
+m2_table01.get("a4b7");
+m2_table01.get("ec0");
+m2_table01.get("c72a");
+m2_table01.get("e889");
+m2_table01.get("f3474");
+m2_table01.get("caa5");
+m2_table01.get("e6aa9");
+m2_table01.get("e953");
+m2_table01.get("cfce");
+m2_table01.get("f4a4");
+m2_table01.get("a7a0");
+m2_table01.get("fc15");
+m2_table01.get("f5e4");
+m2_table01.get("d834");
+m2_table01.get("fa3e0");
+m2_table01.get("cc4a2");
+m2_table01.get("c7c9");
+m2_table01.get("f4b0");
+m2_table01.get("d042");
+m2_table01.get("b8ea");
+m2_table01.get("a20b");
+m2_table01.get("a8fd");
+m2_table01.get("a7ad");
+m2_table01.get("eab9");
+m2_table01.get("b717");
+m2_table01.get("c5eb");
+m2_table01.get("a8bf");
+m2_table01.get("fda");
+m2_table01.get("d398");
+m2_table01.get("f50");
+m2_table01.get("b5d1");
+m2_table01.get("c32c");
+m2_table01.get("b102");
+m2_table01.get("eec9");
+m2_table01.get("d64f");
+m2_table01.get("a309");
+m2_table01.get("e66f");
+m2_table01.get("b9f");
+m2_table01.get("be69");
+m2_table01.get("d34c");
+m2_table01.get("f86");
+m2_table01.get("b82b");
+m2_table01.get("f25");
+m2_table01.get("a4e");
+m2_table01.get("f5e1");
+m2_table01.get("edf2");
+m2_table01.get("ff0b");
+m2_table01.get("c27b");
+m2_table01.get("f0b2");
+m2_table01.get("a2d8");
+m2_table01.get("b38f");
+m2_table01.get("fd01");
+m2_table01.get("cc001");
+m2_table01.get("dcb5");
+m2_table01.get("c08a");
+m2_table01.get("d4ce");
+m2_table01.get("df3");
+m2_table01.get("eec");
+m2_table01.get("a676");
+m2_table01.get("fa7b");
+m2_table01.get("ba26");
+m2_table01.get("d85f");
+m2_table01.get("fa9");
+m2_table01.get("ff5e");
+m2_table01.get("c666");
+m2_table01.get("fa8d");
+m2_table01.get("db87");
+m2_table01.get("adac");
+m2_table01.get("a8ca");
+m2_table01.get("a60b9");
+m2_table01.get("d06");
+m2_table01.get("efcd");
+m2_table01.get("c15b");
+m2_table01.get("da97");
+m2_table01.get("da65");
+m2_table01.get("ce4");
+m2_table01.get("c2c9");
+m2_table01.get("df25");
+m2_table01.get("a472");
+m2_table01.get("ac59");
+m2_table01.get("a5c0");
+m2_table01.get("b489");
+m2_table01.get("de6");
+m2_table01.get("bab89");
+m2_table01.get("db45");
+m2_table01.get("cf9b");
+m2_table01.get("d8e8");
+m2_table01.get("ab23");
+m2_table01.get("d94c");
+m2_table01.get("f7e3");
+m2_table01.get("da4a");
+m2_table01.get("c79d");
+m2_table01.get("c231");
+m2_table01.get("b62de");
+m2_table01.get("a72c");
+m2_table01.get("e2b6");
+m2_table01.get("fb758");
+m2_table01.get("b010");
+m2_table01.get("e97");
+m2_table01.get("e7b6");
+m2_table01.get("b23b1");
+m2_table01.get("a3ca");
+m2_table01.get("f126");
+m2_table01.get("ef35");
+m2_table01.get("b681");
+m2_table01.get("e156");
+m2_table01.get("a9c4");
+m2_table01.get("b510");
+m2_table01.get("e45d");
+m2_table01.get("e84bb");
+m2_table01.get("e437");
+m2_table01.get("c64b6");
+m2_table01.get("b4ad");
+m2_table01.get("f04a");
+m2_table01.get("fe6c");
+m2_table01.get("e5d");
+m2_table01.get("a376");
+m2_table01.get("b9b9f");
+m2_table01.get("f95d");
+m2_table01.get("e28");
+m2_table01.get("be3f");
+m2_table01.get("b0a8");
+m2_table01.get("acc2");
+m2_table01.get("c28e");
+m2_table01.get("d971");
+m2_table01.get("ca94");
+m2_table01.get("f8ba9");
+m2_table01.get("fa0");
+m2_table01.get("eabb");
+m2_table01.get("a596");
+m2_table01.get("eb81");
+m2_table01.get("c896");
+m2_table01.get("cf64");
+m2_table01.get("ae66");
+m2_table01.get("cd37");
+m2_table01.get("c49");
+m2_table01.get("a4604");
+m2_table01.get("da94");
+m2_table01.get("b45d");
+m2_table01.get("ff2");
+m2_table01.get("da0a");
+m2_table01.get("b92d");
+m2_table01.get("d96f8");
+m2_table01.get("a32d");
+m2_table01.get("c6bb");
+m2_table01.get("a466");
+m2_table01.get("aea8");
+m2_table01.get("bda1");
+m2_table01.get("ed2a");
+m2_table01.get("e133");
+m2_table01.get("ab28");
+m2_table01.get("a615a");
+m2_table01.get("ff11");
+m2_table01.get("cd1ae");
+m2_table01.get("a5a2e");
+m2_table01.get("d15b");
+m2_table01.get("c089");
+m2_table01.get("ccad");
+m2_table01.get("a653");
+m2_table01.get("f28e");
+m2_table01.get("ebbe");
+m2_table01.get("eb5c");
+m2_table01.get("d488");
+m2_table01.get("a15da");
+m2_table01.get("df4d");
+m2_table01.get("db3e");
+m2_table01.get("a3fca");
+m2_table01.get("ee9");
+m2_table01.get("cf5d");
+m2_table01.get("f10");
+m2_table01.get("fae7");
+m2_table01.get("ed21");
+m2_table01.get("b9d4c");
+m2_table01.get("d8017");
+m2_table01.get("fdb0");
+m2_table01.get("f62");
+m2_table01.get("ac43");
+m2_table01.get("dc22");
+m2_table01.get("ae28");
+m2_table01.get("f821");
+m2_table01.get("cbc7");
+m2_table01.get("fbc4");
+m2_table01.get("cbce");
+m2_table01.get("cb19");
+m2_table01.get("b377");
+m2_table01.get("c93d");
+m2_table01.get("cc93");
+m2_table01.get("bf47c");
+m2_table01.get("d567");
+m2_table01.get("e256");
+m2_table01.get("b5f7");
+m2_table01.get("f5a7");
+m2_table01.get("acb1");
+m2_table01.get("f4c6");
+m2_table01.get("eecc");
+m2_table01.get("ada23");
+m2_table01.get("c7be");
+m2_table01.get("c0e6f");
+m2_table01.get("c1b4");
+m2_table01.get("b121");
+m2_table01.get("cc4ea");
+m2_table01.get("c149c");
+m2_table01.get("a405");
+m2_table01.get("f650");
+m2_table01.get("b145");
+m2_table01.get("d7dd");
+m2_table01.get("a42b");
+m2_table01.get("b30f");
+m2_table01.get("edb2");
+m2_table01.get("c12c");
+m2_table01.get("b4116");
+m2_table01.get("c387");
+m2_table01.get("a784f");
+m2_table01.get("a1cb");
+m2_table01.get("a4a8");
+m2_table01.get("c180");
+m2_table01.get("c3c2");
+m2_table01.get("a6abf");
+m2_table01.get("d36a");
+m2_table01.get("ba0e");
+m2_table01.get("ba97");
+m2_table01.get("afc81");
+m2_table01.get("b341");
+m2_table01.get("d25");
+m2_table01.get("d622");
+m2_table01.get("d2f7");
+m2_table01.get("a289");
+m2_table01.get("c450");
+m2_table01.get("d4779");
+m2_table01.get("af37");
+m2_table01.get("ded1");
+m2_table01.get("c1a8");
+m2_table01.get("a107");
+m2_table01.get("f9c2");
+m2_table01.get("b297");
+m2_table01.get("fd68");
+m2_table01.get("e863");
+m2_table01.get("ef01");
+m2_table01.get("f135");
+m2_table01.get("d33");
+m2_table01.get("b696");
+m2_table01.get("bf5");
+m2_table01.get("d8c8");
+m2_table01.get("a56b");
+m2_table01.get("f747");
+m2_table01.get("dbd");
+m2_table01.get("c5cc");
+m2_table01.get("aac0");
+m2_table01.get("c1d");
+m2_table01.get("aa53b");
+m2_table01.get("c344");
+m2_table01.get("e192");
+m2_table01.get("ee1e");
+m2_table01.get("eaad4");
+m2_table01.get("a8ea0");
+m2_table01.get("b86e");
+m2_table01.get("d4cd");
+m2_table01.get("ca0c");
+m2_table01.get("a03c");
+m2_table01.get("a392");
+m2_table01.get("a977");
+m2_table01.get("b6f5");
+m2_table01.get("db74");
+m2_table01.get("c62e");
+m2_table01.get("cc16");
+m2_table01.get("bc08");
+m2_table01.get("d5be");
+m2_table01.get("c079");
+m2_table01.get("b391");
+m2_table01.get("f2c7");
+m2_table01.get("b5e2");
+m2_table01.get("a058");
+m2_table01.get("b080");
+m2_table01.get("cb46");
+m2_table01.get("d822");
+m2_table01.get("cd69");
+m2_table01.get("c9af8");
+m2_table01.get("cce0");
+m2_table01.get("b1d10");
+m2_table01.get("c942d");
+m2_table01.get("f728");
+m2_table01.get("b788");
+m2_table01.get("caa2");
+m2_table01.get("b4d6");
+m2_table01.get("e5ae");
+m2_table01.get("db69");
+m2_table01.get("fe01");
+m2_table01.get("a0c5");
+m2_table01.get("f1f9");
+m2_table01.get("ecbe");
+m2_table01.get("e28c");
+m2_table01.get("d8dc");
+m2_table01.get("b2e2");
+m2_table01.get("ddc6");
+m2_table01.get("f322");
+m2_table01.get("b249");
+m2_table01.get("ab10");
+m2_table01.get("a965");
+m2_table01.get("ab14");
+m2_table01.get("cec4");
+m2_table01.get("c148");
+m2_table01.get("b756");
+m2_table01.get("abfe");
+m2_table01.get("a7e9");
+m2_table01.get("a8d4");
+m2_table01.get("f11c");
+m2_table01.get("b20d3");
+m2_table01.get("e3b3");
+m2_table01.get("bd743");
+m2_table01.get("c835");
+m2_table01.get("bdc8c");
+m2_table01.get("b9a3");
+m2_table01.get("a987a");
+m2_table01.get("c25c");
+m2_table01.get("de6e6");
+m2_table01.get("c347");
+m2_table01.get("ee56");
+m2_table01.get("d0a0");
+m2_table01.get("cc0ec");
+m2_table01.get("a40f");
+m2_table01.get("e658");
+m2_table01.get("c2a7");
+m2_table01.get("c97a");
+m2_table01.get("fbfd7");
+m2_table01.get("c7e2");
+m2_table01.get("abf1");
+m2_table01.get("a9cd");
+m2_table01.get("cb1f");
+m2_table01.get("a43e");
+m2_table01.get("c0f0");
+m2_table01.get("d024");
+m2_table01.get("af86");
+m2_table01.get("ea9b");
+m2_table01.get("b02d");
+m2_table01.get("c362");
+m2_table01.get("e7a6");
+m2_table01.get("cef1");
+m2_table01.get("bc00e");
+m2_table01.get("c374");
+m2_table01.get("bb2b");
+m2_table01.get("a966c");
+m2_table01.get("b378");
+m2_table01.get("e8ea");
+m2_table01.get("b0e7");
+m2_table01.get("e58a");
+m2_table01.get("bf9d");
+m2_table01.get("a650");
+m2_table01.get("f95e");
+m2_table01.get("a3c0");
+m2_table01.get("c798");
+m2_table01.get("a24e");
+m2_table01.get("dfe");
+m2_table01.get("de7b");
+m2_table01.get("ceb5");
+m2_table01.get("c643");
+m2_table01.get("c555");
+m2_table01.get("bef6");
+m2_table01.get("b692");
+m2_table01.get("bb96");
+m2_table01.get("f8b9");
+m2_table01.get("c430");
+m2_table01.get("a96b9");
+m2_table01.get("cfa7");
+m2_table01.get("b0aa");
+m2_table01.get("f8d8");
+m2_table01.get("ecf9");
+m2_table01.get("ab4d");
+m2_table01.get("a60be");
+m2_table01.get("c44c");
+m2_table01.get("df9e");
+m2_table01.get("c312");
+m2_table01.get("afac");
+m2_table01.get("b724");
+m2_table01.get("c0c7");
+m2_table01.get("ac5e");
+m2_table01.get("c158");
+m2_table01.get("ab89");
+m2_table01.get("c6197");
+m2_table01.get("e72b");
+m2_table01.get("ed3c");
+m2_table01.get("f471");
+m2_table01.get("eb9b");
+m2_table01.get("f564");
+m2_table01.get("c1d3");
+m2_table01.get("aa31");
+m2_table01.get("a5d2");
+m2_table01.get("dbbc");
+m2_table01.get("ae83");
+m2_table01.get("b622");
+m2_table01.get("a065");
+m2_table01.get("a852");
+m2_table01.get("cb3c");
+m2_table01.get("a393");
+m2_table01.get("b0cc");
+m2_table01.get("e81f");
+m2_table01.get("ee99");
+m2_table01.get("ec56");
+m2_table01.get("a8ee");
+m2_table01.get("cb4e");
+m2_table01.get("d7f5");
+m2_table01.get("dcc2");
+m2_table01.get("abd9");
+m2_table01.get("fd97f");
+m2_table01.get("b46d");
+m2_table01.get("a025");
+m2_table01.get("eb21");
+m2_table01.get("eb1b");
+m2_table01.get("dbe");
+m2_table01.get("e6a0");
+m2_table01.get("cb2d");
+m2_table01.get("a054");
+m2_table01.get("f814");
+m2_table01.get("aecd0");
+m2_table01.get("ea3d");
+m2_table01.get("d6a8");
+m2_table01.get("bc4");
+m2_table01.get("b936");
+m2_table01.get("a192");
+m2_table01.get("a161");
+m2_table01.get("a30b");
+m2_table01.get("ad05");
+m2_table01.get("d269");
+m2_table01.get("b17d");
+m2_table01.get("d672");
+m2_table01.get("b85c");
+m2_table01.get("ca8b");
+m2_table01.get("c2998");
+m2_table01.get("af99");
+m2_table01.get("b64a");
+m2_table01.get("e729");
+m2_table01.get("f212");
+m2_table01.get("b1021");
+m2_table01.get("bc93");
+m2_table01.get("c1706");
+m2_table01.get("a6a2");
+m2_table01.get("a93");
+m2_table01.get("ab6c");
+m2_table01.get("d021");
+m2_table01.get("d9b8");
+m2_table01.get("dba4");
+m2_table01.get("ac0b");
+m2_table01.get("f2f2b");
+m2_table01.get("a386");
+m2_table01.get("f65a");
+m2_table01.get("cc6b");
+m2_table01.get("ecfc");
+m2_table01.get("e813");
+m2_table01.get("e7c8d");
+m2_table01.get("f253");
+m2_table01.get("e8b7");
+m2_table01.get("d65c");
+m2_table01.get("b022");
+m2_table01.get("b72c");
+m2_table01.get("d701");
+m2_table01.get("ccbf");
+m2_table01.get("a7e2");
+m2_table01.get("fc14");
+m2_table01.get("cf0b5");
+m2_table01.get("e797");
+m2_table01.get("af36");
+m2_table01.get("fb3b");
+m2_table01.get("c9b6");
+m2_table01.get("a796");
+m2_table01.get("c800");
+m2_table01.get("b83f");
+m2_table01.get("d04");
+m2_table01.get("ac67");
+m2_table01.get("d928");
+m2_table01.get("e14");
+m2_table01.get("aa8b");
+m2_table01.get("af3b");
+m2_table01.get("fbe2");
+m2_table01.get("be6b");
+m2_table01.get("c477d");
+m2_table01.get("b0dc");
+m2_table01.get("daf3d");
+m2_table01.get("bb08");
+m2_table01.get("a3f5");
+m2_table01.get("a504");
+m2_table01.get("f12f");
+m2_table01.get("c987");
+m2_table01.get("a1fe");
+m2_table01.get("a3256");
+m2_table01.get("f48");
+m2_table01.get("e755");
+m2_table01.get("e7ec");
+m2_table01.get("a3ad");
+m2_table01.get("f37af");
+m2_table01.get("e521");
+m2_table01.get("a904");
+m2_table01.get("da19");
+m2_table01.get("a85d");
+m2_table01.get("d9b5f");
+m2_table01.get("e2b2");
+m2_table01.get("aec4");
+m2_table01.get("a07e");
+m2_table01.get("a7072");
+m2_table01.get("c1c0");
+m2_table01.get("e964");
+m2_table01.get("bdc9");
+m2_table01.get("e748");
+m2_table01.get("d995");
+m2_table01.get("e738");
+m2_table01.get("a034");
+m2_table01.get("a0c0");
+m2_table01.get("f637");
+m2_table01.get("fba5");
+m2_table01.get("ab8d");
+m2_table01.get("e269");
+m2_table01.get("d40a");
+m2_table01.get("aa9a");
+m2_table01.get("adca");
+m2_table01.get("de37");
+m2_table01.get("c65c1");
+m2_table01.get("cf65");
+m2_table01.get("f617");
+m2_table01.get("d7fe");
+m2_table01.get("cc62");
+m2_table01.get("e806");
+m2_table01.get("e999");
+m2_table01.get("e1b0");
+m2_table01.get("d74c");
+m2_table01.get("ecb6");
+m2_table01.get("c7cb");
+m2_table01.get("ad54");
+m2_table01.get("d250");
+m2_table01.get("d1e1");
+m2_table01.get("f07ed");
+m2_table01.get("cd50");
+m2_table01.get("df37");
+m2_table01.get("d607");
+m2_table01.get("a4fe");
+m2_table01.get("a5e1");
+m2_table01.get("ae259");
+m2_table01.get("fca7");
+m2_table01.get("ed8e");
+m2_table01.get("a7ec");
+m2_table01.get("f0cc7");
+m2_table01.get("d334");
+m2_table01.get("c710");
+m2_table01.get("a2e7");
+m2_table01.get("e097");
+m2_table01.get("b9ca");
+m2_table01.get("bc63");
+m2_table01.get("d1f57");
+m2_table01.get("b237");
+m2_table01.get("d755");
+m2_table01.get("ad46");
+m2_table01.get("def7");
+m2_table01.get("d01");
+m2_table01.get("bdd5");
+m2_table01.get("eb3");
+m2_table01.get("aa9d");
+m2_table01.get("e19c");
+m2_table01.get("de47a");
+m2_table01.get("c0e3");
+m2_table01.get("dcab");
+m2_table01.get("ff26");
+m2_table01.get("af67");
+m2_table01.get("d7b4");
+m2_table01.get("be7c");
+m2_table01.get("aca8");
+m2_table01.get("a3bc");
+m2_table01.get("d02d2");
+m2_table01.get("bbf6");
+m2_table01.get("d4175");
+m2_table01.get("e5c3");
+m2_table01.get("ec2a");
+m2_table01.get("f9ef");
+m2_table01.get("d34e");
+m2_table01.get("e990");
+m2_table01.get("ad78");
+m2_table01.get("d4ca");
+m2_table01.get("c51c");
+m2_table01.get("b55e");
+m2_table01.get("c1772");
+m2_table01.get("f7c6");
+m2_table01.get("f94");
+m2_table01.get("f272");
+m2_table01.get("c134");
+m2_table01.get("bb70");
+m2_table01.get("edb8");
+m2_table01.get("aef3");
+m2_table01.get("b0e17");
+m2_table01.get("a7f2");
+m2_table01.get("badf");
+m2_table01.get("a757");
+m2_table01.get("c5224");
+m2_table01.get("db5");
+m2_table01.get("a01a");
+m2_table01.get("e420");
+m2_table01.get("eba6");
+m2_table01.get("aa09");
+m2_table01.get("c401");
+m2_table01.get("ab60");
+m2_table01.get("abcf");
+m2_table01.get("ea33");
+m2_table01.get("ae84");
+m2_table01.get("a557");
+m2_table01.get("a6e0");
+m2_table01.get("aca5");
+m2_table01.get("dc62");
+m2_table01.get("a886");
+m2_table01.get("c665");
+m2_table01.get("d73c0");
+m2_table01.get("ad6a");
+m2_table01.get("b922");
+m2_table01.get("c5cf");
+m2_table01.get("a89f");
+m2_table01.get("ad90");
+m2_table01.get("a136");
+m2_table01.get("ecd4");
+m2_table01.get("eaad");
+m2_table01.get("b1c6");
+m2_table01.get("afc1");
+m2_table01.get("b0ae");
+m2_table01.get("f77d");
+m2_table01.get("ad648");
+m2_table01.get("a422");
+m2_table01.get("fd3a");
+m2_table01.get("a83e");
+m2_table01.get("a256");
+m2_table01.get("b773d");
+m2_table01.get("c950");
+m2_table01.get("a33b");
+m2_table01.get("b028");
+m2_table01.get("a24c");
+m2_table01.get("c340");
+m2_table01.get("c7f3");
+m2_table01.get("fa458");
+m2_table01.get("b17c");
+m2_table01.get("eb7c");
+m2_table01.get("ac20");
+m2_table01.get("cc0d");
+m2_table01.get("e61b");
+m2_table01.get("af4e");
+m2_table01.get("cb92");
+m2_table01.get("bfc9");
+m2_table01.get("c36d");
+m2_table01.get("e47d");
+m2_table01.get("df35");
+m2_table01.get("a540");
+m2_table01.get("c223");
+m2_table01.get("cf3b");
+m2_table01.get("a147f");
+m2_table01.get("d084");
+m2_table01.get("a91f");
+m2_table01.get("bc4d");
+m2_table01.get("f0c5");
+m2_table01.get("f2c3");
+m2_table01.get("e9d4");
+m2_table01.get("fec7");
+m2_table01.get("c0f5");
+m2_table01.get("b95f");
+m2_table01.get("e68a");
+m2_table01.get("cac3");
+m2_table01.get("d9c0");
+m2_table01.get("a9d4");
+m2_table01.get("dd5d");
+m2_table01.get("d3a1");
+m2_table01.get("e662");
+m2_table01.get("e97d");
+m2_table01.get("fb1e");
+m2_table01.get("e6d3");
+m2_table01.get("b2d2");
+m2_table01.get("ffe5");
+m2_table01.get("bde6");
+m2_table01.get("e387");
+m2_table01.get("e91b");
+m2_table01.get("fc04");
+m2_table01.get("f0dc");
+m2_table01.get("c119");
+m2_table01.get("e3fb");
+m2_table01.get("a21c");
+m2_table01.get("e7ee");
+m2_table01.get("c62b");
+m2_table01.get("f5e7");
+m2_table01.get("c535");
+m2_table01.get("c863");
+m2_table01.get("de33");
+m2_table01.get("fc1");
+m2_table01.get("e138");
+m2_table01.get("a7c3");
+m2_table01.get("f0c4");
+m2_table01.get("bd89");
+m2_table01.get("b1d2");
+m2_table01.get("a72a0");
+m2_table01.get("e563");
+m2_table01.get("b84a");
+m2_table01.get("d537");
+m2_table01.get("cb26");
+m2_table01.get("c4c9");
+m2_table01.get("e5ca");
+m2_table01.get("c9bb");
+m2_table01.get("ea46");
+m2_table01.get("c3d2");
+m2_table01.get("fe91");
+m2_table01.get("e60c");
+m2_table01.get("bfda");
+m2_table01.get("c399");
+m2_table01.get("dc6f");
+m2_table01.get("d45d");
+m2_table01.get("ab0f");
+m2_table01.get("a6ec");
+m2_table01.get("f337e");
+m2_table01.get("d1d3");
+m2_table01.get("a0e3");
+m2_table01.get("f949");
+m2_table01.get("f234");
+m2_table01.get("e8dc");
+m2_table01.get("afaf7");
+m2_table01.get("b7a2");
+m2_table01.get("db94");
+m2_table01.get("f333");
+m2_table01.get("bfaf");
+m2_table01.get("b1f5");
+m2_table01.get("fa44");
+m2_table01.get("b2a1");
+m2_table01.get("d371");
+m2_table01.get("fa60");
+m2_table01.get("baf9");
+m2_table01.get("a3a3");
+m2_table01.get("b6d1");
+m2_table01.get("c4030");
+m2_table01.get("bd58");
+m2_table01.get("a143");
+m2_table01.get("aa68");
+m2_table01.get("e38");
+m2_table01.get("f324");
+m2_table01.get("bdac1");
+m2_table01.get("c211");
+m2_table01.get("e97f");
+m2_table01.get("e0a96");
+m2_table01.get("adaf");
+m2_table01.get("d385");
+m2_table01.get("cfdc");
+m2_table01.get("c8204");
+m2_table01.get("e87");
+m2_table01.get("dd22");
+m2_table01.get("e83e");
+m2_table01.get("c412");
+m2_table01.get("a5db");
+m2_table01.get("c2fa");
+m2_table01.get("ad44");
+m2_table01.get("d023");
+m2_table01.get("bbf9");
+m2_table01.get("fdf3");
+m2_table01.get("bb9a");
+m2_table01.get("df08");
+m2_table01.get("a1f5");
+m2_table01.get("fe47");
+m2_table01.get("d33b");
+m2_table01.get("e385");
+m2_table01.get("c054d");
+m2_table01.get("a8ef");
+m2_table01.get("a1a98");
+m2_table01.get("bfc7");
+m2_table01.get("ba42");
+m2_table01.get("b2fa");
+m2_table01.get("da23");
+m2_table01.get("e907");
+m2_table01.get("d50ef");
+m2_table01.get("ba2e");
+m2_table01.get("b7f8");
+m2_table01.get("b959");
+m2_table01.get("d771d");
+m2_table01.get("d68f");
+m2_table01.get("a643");
+m2_table01.get("f170");
+m2_table01.get("f44b");
+m2_table01.get("dbadc");
+m2_table01.get("efb4");
+m2_table01.get("fb00");
+m2_table01.get("c320");
+m2_table01.get("f7e9");
+m2_table01.get("d959");
+m2_table01.get("bf2b");
+m2_table01.get("e800");
+m2_table01.get("a0b2");
+m2_table01.get("db72");
+m2_table01.get("e732");
+m2_table01.clear();
@@ -0,0 +1,2266 @@
+// Random Seed: 1082180784
+Table m2_table02 = new HashFileTable("m2_table02", List.of("e9d", "eb2a", "c81", "f688", "ec4", "a49c"), List.of("integer", "boolean", "boolean", "integer", "integer", "boolean"), 3);
+m2_table02.getTableName();
+m2_table02.getColumnNames();
+m2_table02.getColumnTypes();
+m2_table02.getPrimaryIndex();
+m2_table02.getTableName();
+m2_table02.getColumnNames();
+m2_table02.getColumnTypes();
+m2_table02.getPrimaryIndex();
+m2_table02.clear();
+m2_table02.put(List.of(0, true, true, 0, 0, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(13, false, true, 0, 0, true));
+m2_table02.put(List.of(26749, true, false, 0, 1, false));
+m2_table02.put(List.of(0, true, true, 0, 0, true));
+m2_table02.put(List.of(50, false, false, 3041, 1854, false));
+m2_table02.put(List.of(0, true, true, 0, 0, false));
+m2_table02.put(List.of(0, true, true, 0, 0, true));
+m2_table02.put(List.of(224, true, true, 0, 0, true));
+m2_table02.put(List.of(10326, true, true, 358, 16, true));
+m2_table02.put(List.of(14, false, false, 77009, 17, true));
+m2_table02.get(9);
+m2_table02.put(List.of(519, true, true, 2, 5, false));
+m2_table02.put(List.of(0, true, true, 160, 0, false));
+m2_table02.put(List.of(5, false, true, 0, 0, true));
+m2_table02.put(List.of(0, true, true, 64, 0, false));
+m2_table02.put(List.of(1, true, false, 0, 0, true));
+m2_table02.put(List.of(757, true, false, 19960, 0, true));
+m2_table02.get(1264);
+m2_table02.put(List.of(489, true, true, 0, 458, false));
+m2_table02.put(List.of(64679, false, true, 0, 1, true));
+m2_table02.put(List.of(0, false, true, 0, 0, true));
+m2_table02.put(List.of(43, true, true, 0, 3475, false));
+m2_table02.put(List.of(2296, true, true, 1009, 230, false));
+m2_table02.put(Arrays.asList(26, false, false, 33, 1, null));
+m2_table02.put(List.of(298, false, false, 18, 0, true));
+m2_table02.put(List.of(0, true, true, 495, 5988, false));
+m2_table02.put(List.of(13, false, true, 20, 19, false));
+m2_table02.put(List.of(873, true, false, 25078, 0, false));
+m2_table02.remove(0);
+m2_table02.get(0);
+m2_table02.put(List.of(1, false, false, 22, 15426, false));
+m2_table02.remove(11541);
+m2_table02.put(List.of(386, true, true, 2003, 13, true));
+m2_table02.put(List.of(0, false, true, 0, 38108, true));
+m2_table02.put(List.of(5678, true, false, 0, 2876, true));
+m2_table02.put(List.of(239, true, false, 596, 26, false));
+m2_table02.put(List.of(0, false, true, 2286, 121326, false));
+m2_table02.put(List.of(422, true, false, 88071, 0, true));
+m2_table02.put(List.of(45024, true, false, 0, 381, false));
+m2_table02.remove(1);
+m2_table02.put(List.of(0, false, true, 0, 0, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(1, false, true, 1507, 0, true));
+m2_table02.put(List.of(233, false, true, 10, 12, false));
+m2_table02.get(0);
+m2_table02.get(361);
+m2_table02.put(List.of(0, false, false, 0, 1, true));
+m2_table02.put(List.of(71, true, false, 2, 4, true));
+m2_table02.put(List.of(15, false, true, 9, 99, true));
+m2_table02.remove(266);
+m2_table02.put(List.of(0, true, false, 0, 0, true));
+m2_table02.put(List.of(0, true, true, 0, 0, false));
+m2_table02.put(List.of(0, true, true, 93204, 1940, true));
+m2_table02.put(List.of(1, false, true, 0, 409, false));
+m2_table02.put(List.of(153, false, false, 1, 86, false));
+m2_table02.put(List.of(0, false, false, 0, 879, true));
+m2_table02.put(List.of(0, true, true, 3, 10, true));
+m2_table02.put(List.of(10760, false, true, 19791, 904, false));
+m2_table02.put(List.of(0, true, true, 40381, 0, true));
+m2_table02.put(Arrays.asList(0, false, null, 0, 1148, true));
+m2_table02.put(List.of(234, true, false, 0, 0, false));
+m2_table02.put(List.of(1, false, true, 0, 0, false));
+m2_table02.get(0);
+m2_table02.put(List.of(11, true, true, 689, 0, true));
+m2_table02.remove(252);
+m2_table02.put(List.of(26700, true, false, 0, 0, true));
+m2_table02.get(0);
+m2_table02.put(Arrays.asList(232, true, null, 1292, 0, false));
+m2_table02.put(List.of(0, false, false, 0, 628, false));
+m2_table02.remove(57);
+m2_table02.put(List.of(0, true, true, 0, 6, true));
+m2_table02.get(211981);
+m2_table02.put(List.of(46, false, true, 0, 8, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, true, true, 4011, 286, true));
+m2_table02.put(List.of(175, false, true, 0, 3120, true));
+m2_table02.put(List.of(49, false, false, 0, 2841, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(142, false, false, 7186, 39740, true));
+m2_table02.put(List.of(0, true, false, 82, 83976, true));
+m2_table02.put(List.of(0, true, false, 6, 5051, false));
+m2_table02.put(List.of(0, true, false, 34, 1, true));
+m2_table02.remove(1967);
+m2_table02.remove(142);
+m2_table02.put(List.of(0, false, false, 0, 0, false));
+m2_table02.put(List.of(0, true, true, 2411, 0, true));
+m2_table02.put(List.of(0, true, false, 205, 0, true));
+m2_table02.put(List.of(1, false, false, 0, 5, true));
+m2_table02.put(List.of(32, true, false, 7, 1, false));
+m2_table02.put(List.of(210, true, false, 260, 4, false));
+m2_table02.put(List.of(0, true, false, 10, 29603, false));
+m2_table02.put(List.of(14850, true, false, 1583, 0, false));
+m2_table02.put(List.of(0, true, false, 0, 8, true));
+m2_table02.put(List.of(181, false, true, 5362, 2256, false));
+m2_table02.remove(0);
+m2_table02.get(1);
+m2_table02.put(List.of(159773, true, true, 0, 0, true));
+m2_table02.put(List.of(0, true, false, 0, 30, true));
+m2_table02.put(List.of(420, false, true, 5222, 3397, false));
+m2_table02.put(List.of(420680, false, true, 9, 293, false));
+m2_table02.get(1530);
+m2_table02.remove(12);
+m2_table02.put(List.of(0, false, true, 519, 14300, false));
+m2_table02.put(List.of(0, false, false, 434784, 7802, true));
+m2_table02.remove(55248);
+m2_table02.put(List.of(2542, false, true, 0, 0, false));
+m2_table02.put(List.of(392, true, true, 3, 39566, false));
+m2_table02.put(List.of(0, false, false, 33634, 0, false));
+m2_table02.put(List.of(1451, true, true, 0, 269, true));
+m2_table02.put(List.of(395, true, true, 814, 34, true));
+m2_table02.put(Arrays.asList(0, false, false, 19729, null, false));
+m2_table02.put(Arrays.asList(6, null, true, 5931, 24741, false));
+m2_table02.put(List.of(0, true, false, 79, 102, false));
+m2_table02.put(List.of(0, false, true, 783, 423, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, false, true, 201853, 0, false));
+m2_table02.put(Arrays.asList(null, true, false, 0, 2228, true));
+m2_table02.get(0);
+m2_table02.remove(18);
+m2_table02.put(List.of(6363, true, true, 57, 2766, true));
+m2_table02.remove(24);
+m2_table02.put(List.of(0, false, false, 14, 5, true));
+m2_table02.remove(0);
+m2_table02.remove(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.put(List.of(213179, true, false, 0, 0, false));
+m2_table02.remove(5826);
+m2_table02.put(List.of(27712, true, false, 8, 22, true));
+m2_table02.put(List.of(83, false, true, 1, 0, false));
+m2_table02.put(List.of(0, true, true, 1, 5109, true));
+m2_table02.put(List.of(406, true, true, 0, 0, true));
+m2_table02.put(List.of(5368, true, false, 11, 61, true));
+m2_table02.put(List.of(0, true, true, 30, 5510, false));
+m2_table02.remove(0);
+m2_table02.remove(0);
+m2_table02.remove(2);
+m2_table02.put(List.of(22, false, true, 0, 0, false));
+m2_table02.get(265);
+m2_table02.put(List.of(227, false, false, 0, 0, false));
+m2_table02.put(List.of(141, true, false, 0, 15, false));
+m2_table02.put(List.of(0, false, false, 90, 0, true));
+m2_table02.put(List.of(4, true, true, 0, 3, false));
+m2_table02.put(List.of(7, true, false, 0, 213, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(153, true, true, 654, 62, true));
+m2_table02.put(List.of(0, false, true, 7, 0, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, false, true, 0, 74, true));
+m2_table02.put(List.of(0, false, true, 0, 0, true));
+m2_table02.put(List.of(35, true, true, 12, 0, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(1380, true, false, 21066, 3432, false));
+m2_table02.put(List.of(0, true, false, 123, 1, true));
+m2_table02.remove(6);
+m2_table02.put(List.of(1170, true, false, 621, 1683, true));
+m2_table02.get(0);
+m2_table02.put(Arrays.asList(0, true, null, 235644, 0, false));
+m2_table02.remove(52);
+m2_table02.put(List.of(0, true, false, 0, 184, false));
+m2_table02.put(List.of(0, false, true, 5, 0, true));
+m2_table02.put(List.of(5457, true, true, 0, 0, false));
+m2_table02.put(List.of(0, true, true, 261, 0, false));
+m2_table02.put(List.of(0, false, true, 7, 0, true));
+m2_table02.put(List.of(0, true, true, 215, 0, false));
+m2_table02.put(List.of(15, false, false, 0, 0, true));
+m2_table02.put(List.of(0, true, true, 31, 32602, true));
+m2_table02.get(0);
+m2_table02.put(List.of(0, true, false, 0, 0, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, true, false, 1936, 4, true));
+m2_table02.put(List.of(418, false, true, 6, 38, false));
+m2_table02.remove(0);
+m2_table02.remove(0);
+m2_table02.get(0);
+m2_table02.put(List.of(18, false, false, 38, 3, false));
+m2_table02.put(List.of(9, false, true, 463, 5146, false));
+m2_table02.put(List.of(2, true, false, 4, 0, false));
+m2_table02.get(9);
+m2_table02.remove(0);
+m2_table02.put(List.of(1, true, false, 126, 48570, true));
+m2_table02.put(List.of(13, false, true, 0, 0, true));
+m2_table02.put(List.of(1074, false, false, 0, 0, false));
+m2_table02.put(List.of(35, false, true, 202592, 37, true));
+m2_table02.put(List.of(1, false, false, 111, 0, true));
+m2_table02.put(List.of(1831, false, true, 687542, 182, true));
+m2_table02.put(List.of(1, true, false, 208, 0, false));
+m2_table02.put(List.of(0, true, false, 0, 68, true));
+m2_table02.remove(229);
+m2_table02.put(List.of(0, true, true, 0, 22, true));
+m2_table02.put(List.of(0, true, true, 0, 1, true));
+m2_table02.put(List.of(5, false, false, 0, 7, false));
+m2_table02.remove(1566);
+m2_table02.remove(21);
+m2_table02.put(List.of(0, false, true, 2, 179, false));
+m2_table02.put(List.of(0, false, false, 15, 0, true));
+m2_table02.put(List.of(1828, true, false, 25, 2567, true));
+m2_table02.remove(3);
+m2_table02.get(594);
+m2_table02.put(List.of(664, true, false, 0, 756, true));
+m2_table02.remove(52840);
+m2_table02.put(List.of(120, false, true, 0, 5, false));
+m2_table02.put(List.of(4, false, false, 0, 61, false));
+m2_table02.put(List.of(61975, true, false, 434, 33, true));
+m2_table02.put(List.of(0, false, false, 0, 678, true));
+m2_table02.put(List.of(0, true, false, 2, 0, false));
+m2_table02.get(0);
+m2_table02.remove(3);
+m2_table02.remove(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.remove(0);
+m2_table02.put(List.of(74, true, true, 0, 0, false));
+m2_table02.get(66878);
+m2_table02.put(List.of(16, true, true, 0, 2853, false));
+m2_table02.put(List.of(0, true, true, 209, 2920, true));
+m2_table02.put(List.of(40, false, true, 10774, 0, false));
+m2_table02.put(List.of(919, false, false, 6491, 0, true));
+m2_table02.put(List.of(0, true, false, 676, 0, true));
+m2_table02.remove(1);
+m2_table02.remove(18);
+m2_table02.put(List.of(9076, false, false, 0, 286, true));
+m2_table02.put(Arrays.asList(19918, true, false, 111, null, false));
+m2_table02.put(List.of(19783, false, true, 0, 209135, true));
+m2_table02.remove(236);
+m2_table02.put(List.of(1651, true, false, 0, 0, false));
+m2_table02.put(List.of(49, true, false, 6395, 257, false));
+m2_table02.put(List.of(108545, true, false, 6734, 280, false));
+m2_table02.get(0);
+m2_table02.remove(0);
+m2_table02.put(List.of(2361, false, false, 6, 0, false));
+m2_table02.get(35);
+m2_table02.put(List.of(0, true, false, 0, 412, false));
+m2_table02.put(List.of(71, false, false, 49114, 0, true));
+m2_table02.get(0);
+m2_table02.put(List.of(21, true, false, 0, 0, false));
+m2_table02.put(List.of(32, true, true, 81, 11335, false));
+m2_table02.put(List.of(0, true, true, 0, 416, false));
+m2_table02.remove(13);
+m2_table02.put(List.of(273, false, false, 81, 0, false));
+m2_table02.put(List.of(0, false, false, 8, 0, false));
+m2_table02.put(List.of(480, true, false, 0, 2, false));
+m2_table02.put(Arrays.asList(15, true, null, 1, 1573, true));
+m2_table02.put(List.of(0, false, true, 7526, 28, true));
+m2_table02.remove(11);
+m2_table02.put(List.of(469, false, false, 549, 1, false));
+m2_table02.put(List.of(1325, true, true, 0, 0, false));
+m2_table02.put(List.of(7, true, true, 0, 551, true));
+m2_table02.put(List.of(0, true, true, 275, 0, false));
+m2_table02.put(List.of(17, false, true, 4, 0, true));
+m2_table02.put(List.of(4, true, true, 4493, 0, false));
+m2_table02.put(List.of(0, true, false, 0, 25, false));
+m2_table02.remove(0);
+m2_table02.remove(0);
+m2_table02.put(List.of(1219, true, false, 0, 0, false));
+m2_table02.put(List.of(1, false, false, 2, 571, false));
+m2_table02.put(List.of(0, true, true, 53, 22929, false));
+m2_table02.put(List.of(7707, false, false, 0, 0, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(2, true, true, 15, 0, true));
+m2_table02.remove(11);
+m2_table02.get(0);
+m2_table02.put(List.of(37, false, true, 81606, 12, true));
+m2_table02.put(Arrays.asList(2405, false, null, 1745, 0, true));
+m2_table02.get(13208);
+m2_table02.remove(9);
+m2_table02.put(List.of(0, true, true, 0, 4138, true));
+m2_table02.put(List.of(63, false, true, 22574, 0, true));
+m2_table02.put(List.of(0, false, false, 131, 274, true));
+m2_table02.get(21);
+m2_table02.put(List.of(1392, false, true, 0, 0, false));
+m2_table02.put(List.of(90, false, false, 1149, 20427, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(1, false, true, 49, 0, true));
+m2_table02.put(List.of(46807, false, true, 16, 0, false));
+m2_table02.get(0);
+m2_table02.put(List.of(0, true, false, 0, 0, true));
+m2_table02.get(1);
+m2_table02.remove(168);
+m2_table02.put(List.of(0, true, false, 929, 130377, false));
+m2_table02.remove(9);
+m2_table02.put(List.of(0, true, true, 0, 14122, false));
+m2_table02.remove(0);
+m2_table02.remove(48);
+m2_table02.put(List.of(1167, true, false, 22966, 0, false));
+m2_table02.remove(8265);
+m2_table02.put(List.of(0, false, false, 0, 0, true));
+m2_table02.put(List.of(0, false, true, 17, 0, true));
+m2_table02.put(List.of(2334, true, true, 0, 190, false));
+m2_table02.get(18916);
+m2_table02.put(List.of(0, true, true, 65, 36, true));
+m2_table02.put(List.of(0, true, false, 0, 0, true));
+m2_table02.put(List.of(0, false, true, 554, 36, true));
+m2_table02.get(0);
+m2_table02.remove(1494);
+m2_table02.put(List.of(51706, false, true, 0, 93, true));
+m2_table02.put(List.of(14, false, false, 0, 0, false));
+m2_table02.put(List.of(164, true, true, 174, 235, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(12, true, true, 74, 102378, true));
+m2_table02.get(32);
+m2_table02.put(List.of(552, false, true, 0, 0, false));
+m2_table02.get(118326);
+m2_table02.put(List.of(17, true, false, 599, 3, true));
+m2_table02.put(List.of(8, true, true, 0, 56, true));
+m2_table02.put(Arrays.asList(47, true, false, 529, null, false));
+m2_table02.put(List.of(371, true, false, 1, 13, false));
+m2_table02.put(Arrays.asList(null, true, false, 1942, 0, true));
+m2_table02.put(List.of(610, false, false, 0, 21, true));
+m2_table02.put(List.of(60, false, true, 0, 0, false));
+m2_table02.put(List.of(1161, false, false, 13538, 0, true));
+m2_table02.put(List.of(635, false, true, 0, 0, false));
+m2_table02.put(List.of(0, true, false, 0, 0, false));
+m2_table02.put(List.of(0, false, true, 597, 28, false));
+m2_table02.put(List.of(0, true, true, 0, 0, true));
+m2_table02.put(List.of(206, false, true, 0, 136, false));
+m2_table02.remove(5198);
+m2_table02.put(List.of(12, true, true, 127, 27, false));
+m2_table02.put(List.of(15028, false, true, 3, 0, true));
+m2_table02.put(List.of(12062, false, true, 1, 175, false));
+m2_table02.remove(182);
+m2_table02.remove(0);
+m2_table02.remove(0);
+m2_table02.put(List.of(83, false, true, 0, 0, true));
+m2_table02.remove(0);
+m2_table02.get(33);
+m2_table02.put(List.of(476, false, false, 59508, 3, true));
+m2_table02.put(List.of(1833, false, false, 2520, 0, true));
+m2_table02.remove(0);
+m2_table02.put(Arrays.asList(9, true, null, 1588, 0, false));
+m2_table02.get(0);
+m2_table02.put(List.of(269, false, true, 1373, 35, false));
+m2_table02.put(List.of(0, false, true, 17, 4, true));
+m2_table02.put(List.of(0, true, true, 33, 72503, false));
+m2_table02.put(List.of(0, true, false, 50168, 199, false));
+m2_table02.put(List.of(614, false, false, 0, 0, false));
+m2_table02.put(List.of(2, false, true, 6270, 0, true));
+m2_table02.put(List.of(5, false, false, 4113, 0, false));
+m2_table02.put(List.of(11, true, false, 13, 0, false));
+m2_table02.put(List.of(0, true, true, 1, 1, false));
+m2_table02.remove(1504);
+m2_table02.remove(0);
+m2_table02.put(List.of(0, false, true, 2, 52, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, false, false, 0, 0, false));
+m2_table02.put(List.of(39, false, false, 0, 0, true));
+m2_table02.put(List.of(59, false, true, 19864, 5918, false));
+m2_table02.put(List.of(0, true, true, 17, 0, false));
+m2_table02.get(61047);
+m2_table02.put(List.of(356, false, true, 0, 0, true));
+m2_table02.remove(0);
+m2_table02.remove(0);
+m2_table02.put(List.of(116, false, true, 1594, 0, false));
+m2_table02.put(List.of(20, true, true, 0, 3, true));
+m2_table02.get(2596);
+m2_table02.get(86);
+m2_table02.put(List.of(0, true, true, 7, 0, true));
+m2_table02.put(List.of(70144, true, true, 22, 0, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(2, true, true, 0, 0, false));
+m2_table02.put(List.of(315, true, false, 0, 21, false));
+m2_table02.put(Arrays.asList(0, null, true, 0, 0, true));
+m2_table02.put(List.of(0, true, true, 0, 91061, true));
+m2_table02.put(List.of(3, false, false, 9458, 6, false));
+m2_table02.put(List.of(42, false, true, 4387, 0, false));
+m2_table02.put(List.of(0, false, true, 0, 37, true));
+m2_table02.get(229);
+m2_table02.get(2739);
+m2_table02.put(List.of(0, false, false, 3, 10196, true));
+m2_table02.remove(95);
+m2_table02.remove(118);
+m2_table02.put(List.of(86, false, false, 8905, 44, true));
+m2_table02.put(List.of(0, true, true, 53, 448, false));
+m2_table02.put(List.of(292730, false, false, 0, 245, false));
+m2_table02.put(List.of(20, false, false, 0, 0, false));
+m2_table02.get(17107);
+m2_table02.put(List.of(0, false, true, 0, 388, false));
+m2_table02.remove(2);
+m2_table02.put(List.of(365, true, false, 419, 10, true));
+m2_table02.put(List.of(931, false, true, 53944, 0, false));
+m2_table02.put(List.of(6, true, false, 1, 0, false));
+m2_table02.get(0);
+m2_table02.put(List.of(51, false, true, 0, 3587, true));
+m2_table02.put(List.of(4, false, false, 0, 28664, true));
+m2_table02.put(List.of(0, false, true, 0, 8, false));
+m2_table02.remove(661);
+m2_table02.put(List.of(0, false, true, 28, 0, true));
+m2_table02.put(List.of(0, true, true, 0, 1, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, true, false, 2, 0, true));
+m2_table02.put(List.of(23, false, true, 0, 1, false));
+m2_table02.put(List.of(862, false, true, 1, 0, false));
+m2_table02.put(List.of(187862, false, true, 44, 1, false));
+m2_table02.put(List.of(0, false, true, 361444, 0, false));
+m2_table02.put(List.of(0, false, true, 68, 1843, true));
+m2_table02.put(List.of(308, false, true, 0, 53, false));
+m2_table02.put(List.of(86, false, true, 0, 0, true));
+m2_table02.put(List.of(9260, true, false, 0, 0, false));
+m2_table02.put(Arrays.asList(0, false, null, 266095, 6191, true));
+m2_table02.put(List.of(1, false, true, 0, 0, true));
+m2_table02.put(List.of(37, true, true, 0, 1729, false));
+m2_table02.put(List.of(266, false, true, 0, 8, true));
+m2_table02.put(List.of(0, false, true, 0, 0, false));
+m2_table02.put(List.of(753, true, false, 0, 0, false));
+m2_table02.remove(0);
+m2_table02.get(691);
+m2_table02.put(List.of(0, false, true, 0, 0, false));
+m2_table02.remove(0);
+m2_table02.remove(36871);
+m2_table02.put(List.of(0, false, true, 0, 0, true));
+m2_table02.remove(0);
+m2_table02.remove(0);
+m2_table02.remove(201);
+m2_table02.get(9);
+m2_table02.put(List.of(471, false, false, 0, 1, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(15789, false, true, 1142, 0, true));
+m2_table02.remove(961);
+m2_table02.remove(0);
+m2_table02.put(List.of(0, false, true, 4, 6, false));
+m2_table02.put(List.of(11, false, false, 296, 0, true));
+m2_table02.put(List.of(44721, false, false, 9, 143404, false));
+m2_table02.put(List.of(0, true, false, 6509, 44, true));
+m2_table02.put(List.of(226, false, true, 18772, 1, true));
+m2_table02.put(List.of(14, false, false, 11, 231, true));
+m2_table02.put(List.of(0, true, false, 9101, 1011, true));
+m2_table02.put(List.of(0, true, true, 0, 1, false));
+m2_table02.put(List.of(0, true, false, 0, 0, false));
+m2_table02.remove(121776);
+m2_table02.put(List.of(0, false, false, 3134, 3791, true));
+m2_table02.put(List.of(228, true, true, 0, 0, false));
+m2_table02.put(List.of(0, true, true, 0, 127266, false));
+m2_table02.put(List.of(13, false, false, 494, 0, false));
+m2_table02.put(List.of(40714, true, false, 0, 1349, false));
+m2_table02.put(List.of(0, true, false, 10, 48727, false));
+m2_table02.put(List.of(36, true, false, 4492, 0, true));
+m2_table02.get(10);
+m2_table02.get(24023);
+m2_table02.put(List.of(0, false, false, 194, 0, true));
+m2_table02.put(List.of(0, false, false, 4, 0, true));
+m2_table02.put(List.of(2, false, false, 175, 61, true));
+m2_table02.put(List.of(905, true, false, 0, 0, true));
+m2_table02.remove(1058);
+m2_table02.put(List.of(1, false, true, 22, 3424, false));
+m2_table02.put(List.of(445, false, false, 853, 251, true));
+m2_table02.remove(19387);
+m2_table02.put(List.of(171, false, true, 0, 7207, true));
+m2_table02.put(List.of(0, false, true, 0, 71, true));
+m2_table02.put(List.of(541, false, true, 182, 2, true));
+m2_table02.remove(0);
+m2_table02.remove(683);
+m2_table02.put(List.of(0, true, false, 12458, 255, true));
+m2_table02.put(List.of(31, false, true, 0, 2, true));
+m2_table02.remove(0);
+m2_table02.remove(0);
+m2_table02.put(List.of(0, false, true, 5, 6, true));
+m2_table02.put(List.of(33, false, false, 63, 82, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, true, true, 142, 78, true));
+m2_table02.put(List.of(7, true, true, 34374, 0, false));
+m2_table02.put(List.of(2, true, true, 0, 294, false));
+m2_table02.get(76694);
+m2_table02.get(0);
+m2_table02.put(List.of(0, true, false, 0, 0, true));
+m2_table02.put(Arrays.asList(null, true, true, 0, 4, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(727, false, false, 0, 2113, true));
+m2_table02.remove(77);
+m2_table02.put(List.of(8, true, false, 0, 0, false));
+m2_table02.remove(2);
+m2_table02.put(List.of(0, false, true, 187, 5, true));
+m2_table02.put(List.of(544, false, false, 4, 0, true));
+m2_table02.put(List.of(0, false, false, 960, 0, false));
+m2_table02.get(23612);
+m2_table02.put(Arrays.asList(0, false, false, 0, null, true));
+m2_table02.put(Arrays.asList(null, false, true, 0, 32467, true));
+m2_table02.put(List.of(296, true, true, 0, 42, false));
+m2_table02.put(List.of(0, false, false, 0, 0, false));
+m2_table02.put(List.of(0, true, true, 0, 4, false));
+m2_table02.put(List.of(0, true, false, 0, 4, false));
+m2_table02.get(0);
+m2_table02.remove(3);
+m2_table02.get(6126);
+m2_table02.put(Arrays.asList(34, null, true, 0, 0, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(48, false, true, 221, 415, false));
+m2_table02.get(663);
+m2_table02.put(List.of(1541, true, false, 1375, 2415, false));
+m2_table02.put(Arrays.asList(0, false, true, 4, 26, null));
+m2_table02.put(List.of(16, true, true, 20, 2, true));
+m2_table02.put(List.of(9, true, false, 0, 6370, true));
+m2_table02.get(152);
+m2_table02.remove(0);
+m2_table02.put(List.of(17670, true, false, 0, 0, false));
+m2_table02.put(List.of(243, false, true, 0, 0, false));
+m2_table02.get(0);
+m2_table02.remove(0);
+m2_table02.remove(17230);
+m2_table02.put(List.of(1143, true, true, 0, 17637, false));
+m2_table02.put(List.of(0, false, true, 72, 0, false));
+m2_table02.put(List.of(716, true, false, 763, 0, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(363, true, false, 13, 68, true));
+m2_table02.put(List.of(2, false, true, 0, 1365, true));
+m2_table02.put(List.of(0, false, true, 3, 17, false));
+m2_table02.put(List.of(706, false, false, 0, 766, false));
+m2_table02.remove(4);
+m2_table02.put(List.of(8680, false, true, 92, 101, true));
+m2_table02.put(List.of(0, true, false, 0, 61, true));
+m2_table02.put(List.of(12, false, true, 0, 0, true));
+m2_table02.remove(3);
+m2_table02.remove(0);
+m2_table02.put(List.of(48998, true, false, 0, 6, false));
+m2_table02.put(List.of(0, true, true, 22, 0, true));
+m2_table02.put(Arrays.asList(0, false, null, 450475, 11, true));
+m2_table02.put(List.of(83, false, false, 2119, 7, true));
+m2_table02.put(List.of(0, true, true, 934, 68, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, true, true, 0, 0, true));
+m2_table02.put(List.of(878, true, false, 0, 126, true));
+m2_table02.put(List.of(0, false, false, 1637, 0, true));
+m2_table02.get(0);
+m2_table02.put(List.of(7990, true, true, 1128, 7, false));
+m2_table02.put(List.of(4, false, true, 0, 8751, false));
+m2_table02.put(List.of(0, false, false, 914, 0, true));
+m2_table02.put(List.of(0, false, false, 532, 0, true));
+m2_table02.put(List.of(0, false, true, 0, 16, true));
+m2_table02.get(287);
+m2_table02.remove(1);
+m2_table02.put(List.of(0, true, true, 4, 3643, true));
+m2_table02.put(List.of(8091803, false, true, 28, 0, false));
+m2_table02.put(List.of(6, false, false, 0, 15, true));
+m2_table02.remove(53358);
+m2_table02.put(List.of(0, true, true, 1, 0, true));
+m2_table02.put(List.of(8, false, false, 0, 23, true));
+m2_table02.put(List.of(3, true, false, 35, 812, true));
+m2_table02.put(List.of(4, true, false, 0, 0, true));
+m2_table02.put(List.of(0, false, false, 0, 4932, false));
+m2_table02.put(List.of(327, true, true, 0, 153, false));
+m2_table02.put(List.of(2583, true, true, 0, 14, true));
+m2_table02.put(Arrays.asList(0, null, false, 54, 48, true));
+m2_table02.put(List.of(0, true, false, 71, 45, false));
+m2_table02.put(List.of(0, false, true, 2, 238, false));
+m2_table02.remove(26);
+m2_table02.put(List.of(18998, false, true, 5720, 0, false));
+m2_table02.put(List.of(0, true, false, 489, 53, true));
+m2_table02.put(List.of(56, true, true, 61682, 8, false));
+m2_table02.put(List.of(29, false, true, 31, 0, false));
+m2_table02.put(List.of(15313, false, true, 0, 328, false));
+m2_table02.put(List.of(81, false, true, 0, 0, false));
+m2_table02.put(List.of(0, true, true, 0, 2060, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, false, false, 0, 5, true));
+m2_table02.put(List.of(260574, false, false, 19, 0, true));
+m2_table02.put(List.of(177, true, false, 0, 778, false));
+m2_table02.put(List.of(0, true, false, 0, 0, true));
+m2_table02.put(List.of(213, true, false, 2, 0, true));
+m2_table02.get(1338);
+m2_table02.remove(996);
+m2_table02.put(List.of(0, false, true, 0, 1, true));
+m2_table02.put(List.of(407, true, true, 0, 0, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, false, false, 8, 448, false));
+m2_table02.put(List.of(198982, true, false, 0, 0, true));
+m2_table02.remove(257);
+m2_table02.remove(95);
+m2_table02.put(List.of(9, true, false, 0, 595, true));
+m2_table02.get(43829);
+m2_table02.put(List.of(0, false, true, 125375, 1, false));
+m2_table02.put(List.of(1, false, true, 0, 0, false));
+m2_table02.put(List.of(0, true, true, 0, 0, false));
+m2_table02.put(List.of(1196, true, true, 0, 1015, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, true, true, 8975, 91, false));
+m2_table02.remove(13586);
+m2_table02.remove(127);
+m2_table02.put(List.of(401, false, false, 173, 1074, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, false, true, 1, 0, true));
+m2_table02.put(List.of(49, false, true, 207, 6, false));
+m2_table02.put(List.of(5, false, true, 0, 13452, false));
+m2_table02.get(58);
+m2_table02.put(List.of(0, true, false, 3, 0, false));
+m2_table02.remove(57148);
+m2_table02.remove(5);
+m2_table02.put(List.of(87, true, false, 0, 0, true));
+m2_table02.remove(56);
+m2_table02.put(List.of(16, true, true, 0, 115, false));
+m2_table02.put(List.of(0, true, true, 0, 0, false));
+m2_table02.put(List.of(1338, false, true, 28, 0, false));
+m2_table02.remove(0);
+m2_table02.get(3);
+m2_table02.put(List.of(209, true, true, 0, 6, false));
+m2_table02.put(List.of(75, true, true, 0, 0, true));
+m2_table02.remove(6);
+m2_table02.put(List.of(0, false, true, 281, 248, false));
+m2_table02.put(List.of(5216, false, false, 0, 3, false));
+m2_table02.put(List.of(0, false, true, 0, 0, false));
+m2_table02.remove(118646);
+m2_table02.put(List.of(242, false, false, 18325, 2239, false));
+m2_table02.put(List.of(12, true, true, 0, 0, false));
+m2_table02.put(List.of(66, false, true, 57249, 2, true));
+m2_table02.put(List.of(0, true, false, 217, 0, true));
+m2_table02.put(List.of(0, false, true, 5, 0, true));
+m2_table02.put(List.of(0, true, false, 0, 44386, true));
+m2_table02.put(Arrays.asList(0, true, null, 0, 0, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, false, true, 4, 6, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(234, false, false, 1086, 33, true));
+m2_table02.put(List.of(205432, false, false, 8, 443, true));
+m2_table02.put(List.of(892, false, false, 77, 0, false));
+m2_table02.put(List.of(189, false, false, 1640, 0, true));
+m2_table02.put(List.of(175, false, true, 0, 0, true));
+m2_table02.put(List.of(2, true, true, 2, 0, false));
+m2_table02.put(List.of(183, true, true, 22783, 131, false));
+m2_table02.get(0);
+m2_table02.remove(0);
+m2_table02.remove(2831);
+m2_table02.remove(0);
+m2_table02.get(13);
+m2_table02.put(List.of(0, true, true, 598, 1, true));
+m2_table02.put(List.of(0, true, true, 0, 0, false));
+m2_table02.remove(2);
+m2_table02.put(List.of(13, false, true, 1, 157871, true));
+m2_table02.put(List.of(0, false, false, 0, 0, false));
+m2_table02.put(List.of(0, true, false, 0, 0, false));
+m2_table02.put(List.of(6, true, true, 0, 171, true));
+m2_table02.put(List.of(0, true, false, 0, 33313, false));
+m2_table02.remove(1);
+m2_table02.put(List.of(0, false, true, 0, 12754, false));
+m2_table02.remove(124);
+m2_table02.put(List.of(0, true, false, 3434, 0, false));
+m2_table02.put(List.of(0, true, false, 3, 674, false));
+m2_table02.put(List.of(1472, false, false, 80, 25, false));
+m2_table02.put(List.of(0, true, true, 9304, 185, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(4639, true, true, 0, 2606, false));
+m2_table02.remove(2);
+m2_table02.remove(0);
+m2_table02.put(List.of(0, false, false, 0, 58083, false));
+m2_table02.put(List.of(0, true, true, 0, 4, false));
+m2_table02.get(1);
+m2_table02.put(List.of(670, false, true, 0, 0, true));
+m2_table02.put(List.of(3068, false, false, 8, 433, false));
+m2_table02.put(List.of(4110, false, false, 0, 81, false));
+m2_table02.put(List.of(25596, false, true, 0, 225, true));
+m2_table02.put(List.of(0, false, false, 60, 122, false));
+m2_table02.put(List.of(46, false, true, 1629, 1113, false));
+m2_table02.put(List.of(0, true, false, 0, 0, true));
+m2_table02.put(List.of(0, false, false, 173, 2, true));
+m2_table02.put(List.of(0, true, false, 0, 0, false));
+m2_table02.put(List.of(6023, false, true, 0, 3815, false));
+m2_table02.put(List.of(0, false, false, 0, 0, true));
+m2_table02.put(List.of(1, true, true, 7987, 0, false));
+m2_table02.put(List.of(734, true, true, 64, 6, false));
+m2_table02.put(List.of(867, false, false, 114, 0, false));
+m2_table02.get(0);
+m2_table02.put(Arrays.asList(6, false, true, 158, 1783, null));
+m2_table02.put(List.of(8, false, false, 3470, 326413, false));
+m2_table02.put(List.of(0, true, true, 205, 1364, true));
+m2_table02.put(List.of(5, true, false, 0, 11, false));
+m2_table02.put(Arrays.asList(1, true, true, 0, 0, null));
+m2_table02.remove(0);
+m2_table02.remove(0);
+m2_table02.put(List.of(2, false, false, 7, 0, true));
+m2_table02.put(List.of(0, false, true, 639, 21093, false));
+m2_table02.put(List.of(0, false, false, 153, 1273, true));
+m2_table02.put(List.of(7183, false, true, 0, 0, true));
+m2_table02.put(List.of(115, false, true, 679, 3574, true));
+m2_table02.put(List.of(0, true, false, 0, 49, false));
+m2_table02.put(List.of(0, false, false, 475, 0, true));
+m2_table02.put(Arrays.asList(0, false, null, 621, 32213, false));
+m2_table02.remove(2);
+m2_table02.put(List.of(2356, true, true, 56, 0, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(11331, true, false, 0, 356, false));
+m2_table02.remove(1);
+m2_table02.put(List.of(2037, false, false, 11780, 29, false));
+m2_table02.put(List.of(0, true, true, 0, 90760, true));
+m2_table02.put(List.of(168, false, false, 2100, 0, true));
+m2_table02.put(List.of(47, true, false, 470, 7462, false));
+m2_table02.put(List.of(0, true, true, 0, 152, true));
+m2_table02.get(307);
+m2_table02.put(List.of(0, false, false, 1, 3, false));
+m2_table02.put(List.of(0, false, true, 0, 244, true));
+m2_table02.put(List.of(1, true, false, 286623, 6, false));
+m2_table02.put(List.of(0, true, true, 0, 3284, true));
+m2_table02.put(List.of(4, false, true, 0, 0, false));
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(184);
+m2_table02.put(Arrays.asList(null, true, false, 17, 479, true));
+m2_table02.remove(16);
+m2_table02.put(List.of(0, true, true, 30, 0, true));
+m2_table02.get(0);
+m2_table02.remove(0);
+m2_table02.put(List.of(3, false, false, 79, 5440, true));
+m2_table02.put(List.of(4389, true, false, 8, 0, false));
+m2_table02.put(List.of(0, false, false, 0, 0, true));
+m2_table02.put(List.of(2, true, false, 0, 47, true));
+m2_table02.put(List.of(17, true, false, 0, 23405, true));
+m2_table02.put(List.of(0, true, true, 9115, 0, false));
+m2_table02.remove(1);
+m2_table02.get(234);
+m2_table02.put(List.of(2, true, true, 0, 43, true));
+m2_table02.put(List.of(7, true, false, 792, 111, true));
+m2_table02.put(List.of(0, false, false, 0, 3854, false));
+m2_table02.put(List.of(0, false, true, 28323, 77, true));
+m2_table02.put(List.of(4255, false, true, 0, 0, true));
+m2_table02.put(Arrays.asList(0, false, true, 4, null, true));
+m2_table02.put(List.of(0, false, false, 10, 0, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, false, false, 211, 437, false));
+m2_table02.put(List.of(0, false, true, 0, 8, false));
+m2_table02.put(List.of(0, false, true, 118, 0, false));
+m2_table02.get(127);
+m2_table02.put(List.of(7, false, false, 0, 0, false));
+m2_table02.put(List.of(1051, true, true, 311, 0, true));
+m2_table02.put(List.of(0, true, false, 0, 2338, false));
+m2_table02.put(List.of(0, false, true, 0, 1913, true));
+m2_table02.put(List.of(0, true, true, 1, 0, true));
+m2_table02.put(List.of(0, false, true, 73, 0, false));
+m2_table02.put(List.of(18306, false, false, 0, 72, false));
+m2_table02.put(List.of(0, true, false, 60, 22, true));
+m2_table02.get(0);
+m2_table02.put(Arrays.asList(8428, false, null, 0, 130, false));
+m2_table02.put(List.of(0, false, true, 29, 0, true));
+m2_table02.put(List.of(749, true, false, 81, 0, true));
+m2_table02.put(List.of(44284, true, false, 0, 8942, false));
+m2_table02.remove(187);
+m2_table02.put(List.of(0, false, false, 17, 48064, false));
+m2_table02.put(List.of(0, true, true, 31, 35, true));
+m2_table02.put(List.of(0, false, false, 104, 9, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, false, true, 0, 0, true));
+m2_table02.put(List.of(0, true, true, 0, 2, true));
+m2_table02.put(List.of(0, false, false, 0, 637, true));
+m2_table02.put(List.of(12, false, false, 103, 8, false));
+m2_table02.put(List.of(3023, true, false, 0, 22809, true));
+m2_table02.put(List.of(2, true, true, 0, 1220, false));
+m2_table02.remove(171);
+m2_table02.put(List.of(32, true, false, 1589, 14610, true));
+m2_table02.put(List.of(15, false, true, 161, 33, false));
+m2_table02.put(List.of(281, true, false, 0, 18, false));
+m2_table02.remove(182421);
+m2_table02.put(List.of(2508, true, true, 32, 0, false));
+m2_table02.put(List.of(0, false, true, 0, 149, true));
+m2_table02.remove(0);
+m2_table02.put(Arrays.asList(10, true, null, 0, 30, false));
+m2_table02.put(List.of(688, true, false, 0, 1, false));
+m2_table02.put(List.of(64776, true, true, 1, 1623, false));
+m2_table02.put(List.of(0, false, true, 0, 0, true));
+m2_table02.get(0);
+m2_table02.put(List.of(24, true, false, 0, 3, true));
+m2_table02.put(List.of(1644, false, false, 0, 755, true));
+m2_table02.put(List.of(70, false, false, 27063, 278, false));
+m2_table02.put(List.of(0, false, true, 422, 0, false));
+m2_table02.put(List.of(46, true, true, 0, 0, true));
+m2_table02.put(Arrays.asList(30, false, null, 0, 11, true));
+m2_table02.put(List.of(0, false, false, 0, 11474, true));
+m2_table02.put(List.of(6100, false, true, 26, 5, false));
+m2_table02.put(List.of(0, true, true, 480, 38, true));
+m2_table02.put(List.of(1, false, true, 24, 1494, true));
+m2_table02.put(List.of(5, true, false, 3, 0, false));
+m2_table02.put(List.of(0, false, true, 6, 1, false));
+m2_table02.remove(26);
+m2_table02.put(List.of(142, true, true, 972, 0, true));
+m2_table02.put(List.of(0, false, false, 0, 0, true));
+m2_table02.get(2);
+m2_table02.remove(0);
+m2_table02.remove(0);
+m2_table02.put(List.of(0, true, true, 6, 282, true));
+m2_table02.put(List.of(4244, false, false, 0, 1830, true));
+m2_table02.remove(3);
+m2_table02.put(List.of(7, false, true, 0, 79, true));
+m2_table02.remove(166);
+m2_table02.remove(904);
+m2_table02.remove(185);
+m2_table02.put(List.of(0, true, false, 21, 98, true));
+m2_table02.put(List.of(312, true, true, 48, 1434, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(20, true, false, 1313, 18178, true));
+m2_table02.put(List.of(0, true, true, 0, 7911, true));
+m2_table02.get(3);
+m2_table02.get(0);
+m2_table02.put(List.of(0, true, false, 5, 0, true));
+m2_table02.put(List.of(8439, true, false, 80, 0, false));
+m2_table02.put(List.of(0, false, false, 0, 0, true));
+m2_table02.put(List.of(0, true, true, 124, 14, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(25456, false, false, 0, 0, false));
+m2_table02.get(1);
+m2_table02.put(List.of(0, true, true, 5153, 0, true));
+m2_table02.put(List.of(9, true, false, 224, 0, true));
+m2_table02.put(List.of(12454, false, true, 1, 0, true));
+m2_table02.remove(1477);
+m2_table02.put(List.of(0, false, false, 3, 0, true));
+m2_table02.put(List.of(281, false, true, 3, 0, false));
+m2_table02.put(List.of(232, true, false, 0, 0, false));
+m2_table02.get(0);
+m2_table02.remove(424);
+m2_table02.put(List.of(0, true, false, 2, 0, true));
+m2_table02.put(List.of(2491, true, true, 18993, 184, false));
+m2_table02.put(List.of(3227, true, true, 10, 0, false));
+m2_table02.put(List.of(0, true, false, 0, 125, false));
+m2_table02.put(List.of(0, true, false, 0, 1, false));
+m2_table02.put(List.of(0, false, true, 2668, 0, false));
+m2_table02.put(List.of(1082, false, true, 19, 1660, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(105, false, true, 506, 0, false));
+m2_table02.put(List.of(0, false, false, 2432, 9849, false));
+m2_table02.get(1320);
+m2_table02.put(List.of(0, true, true, 0, 15, true));
+m2_table02.remove(14371);
+m2_table02.put(List.of(6433, true, false, 3, 0, false));
+m2_table02.put(List.of(3487, false, false, 0, 225924, false));
+m2_table02.put(List.of(0, false, false, 1, 0, false));
+m2_table02.put(List.of(229846, false, false, 0, 20, false));
+m2_table02.get(5102);
+m2_table02.put(List.of(106, false, true, 0, 13, true));
+m2_table02.put(List.of(97, false, false, 414, 0, false));
+m2_table02.put(List.of(0, true, false, 89, 14, true));
+m2_table02.put(List.of(4, false, false, 183, 1, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(751, true, true, 9, 2352, false));
+m2_table02.put(List.of(180, true, false, 0, 288, true));
+m2_table02.put(List.of(0, false, false, 113199, 973, true));
+m2_table02.put(List.of(0, true, true, 0, 185624, false));
+m2_table02.put(List.of(11, true, true, 27, 0, false));
+m2_table02.put(List.of(1706, false, false, 181, 46, false));
+m2_table02.put(List.of(0, true, false, 213453, 0, false));
+m2_table02.put(List.of(0, true, true, 1086, 2, false));
+m2_table02.remove(1972);
+m2_table02.put(List.of(0, false, true, 0, 0, false));
+m2_table02.put(List.of(2308, true, false, 3239, 589, true));
+m2_table02.put(List.of(3, true, false, 0, 0, false));
+m2_table02.remove(33217);
+m2_table02.put(List.of(0, true, true, 2, 1864, false));
+m2_table02.put(List.of(0, true, true, 16, 0, false));
+m2_table02.put(List.of(483, false, false, 9, 0, false));
+m2_table02.put(List.of(12, true, false, 35, 0, true));
+m2_table02.put(List.of(0, false, true, 0, 0, true));
+m2_table02.put(List.of(368523, false, false, 0, 0, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, true, true, 0, 0, true));
+m2_table02.remove(3667);
+m2_table02.put(List.of(2, false, false, 7, 0, true));
+m2_table02.put(List.of(6, true, true, 59, 41, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, false, false, 8, 24866, true));
+m2_table02.put(List.of(45, true, true, 0, 0, true));
+m2_table02.put(List.of(1, true, false, 0, 20, true));
+m2_table02.put(List.of(1799, true, false, 0, 0, false));
+m2_table02.put(List.of(0, true, false, 0, 48673, false));
+m2_table02.put(List.of(23, false, true, 53055, 0, true));
+m2_table02.put(Arrays.asList(49, false, null, 0, 769, false));
+m2_table02.put(List.of(0, true, true, 0, 187, false));
+m2_table02.put(List.of(0, false, true, 3629, 6, false));
+m2_table02.put(List.of(0, false, true, 248, 3818, false));
+m2_table02.remove(104972);
+m2_table02.remove(2247);
+m2_table02.put(Arrays.asList(9434, true, null, 1043, 1, true));
+m2_table02.put(List.of(0, true, true, 4170, 398, true));
+m2_table02.remove(38);
+m2_table02.put(List.of(0, true, true, 235503, 8, false));
+m2_table02.remove(2);
+m2_table02.put(Arrays.asList(9, false, true, 82, 0, null));
+m2_table02.put(List.of(2, false, true, 60, 128, true));
+m2_table02.put(List.of(69, false, false, 0, 1, false));
+m2_table02.put(List.of(0, false, false, 1119676, 69, false));
+m2_table02.remove(0);
+m2_table02.remove(0);
+m2_table02.put(List.of(0, true, true, 198, 1, false));
+m2_table02.put(List.of(53632, true, true, 0, 0, false));
+m2_table02.get(46);
+m2_table02.put(List.of(3453, true, true, 0, 0, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, true, false, 6641, 2, false));
+m2_table02.get(6471);
+m2_table02.put(List.of(0, true, false, 0, 2, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(21, true, false, 5, 0, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(28, true, true, 0, 171, false));
+m2_table02.get(4763);
+m2_table02.put(List.of(0, false, false, 0, 14, false));
+m2_table02.put(List.of(432, false, true, 15, 49295, true));
+m2_table02.put(List.of(0, true, true, 0, 0, true));
+m2_table02.put(List.of(31716, true, false, 0, 141, true));
+m2_table02.put(List.of(0, true, true, 0, 0, true));
+m2_table02.remove(7);
+m2_table02.put(List.of(887, false, false, 5968, 0, true));
+m2_table02.remove(44);
+m2_table02.get(1);
+m2_table02.put(List.of(0, false, false, 0, 162, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, true, true, 13, 0, false));
+m2_table02.put(List.of(0, false, true, 1, 25, true));
+m2_table02.put(List.of(3428, false, false, 5, 0, true));
+m2_table02.put(Arrays.asList(null, false, true, 0, 78, false));
+m2_table02.put(List.of(0, false, true, 0, 21201, true));
+m2_table02.put(List.of(0, false, false, 8, 76, false));
+m2_table02.put(List.of(5, false, false, 3, 0, true));
+m2_table02.put(List.of(0, false, false, 5, 4, false));
+m2_table02.put(List.of(73, true, true, 4, 0, true));
+m2_table02.get(5);
+m2_table02.remove(0);
+m2_table02.put(List.of(0, false, false, 18, 0, true));
+m2_table02.put(List.of(11, false, false, 244931, 3306, true));
+m2_table02.put(List.of(7, false, true, 10, 54479, true));
+m2_table02.put(List.of(9, true, true, 0, 0, true));
+m2_table02.put(List.of(3, false, true, 151913, 1, false));
+m2_table02.put(Arrays.asList(null, true, true, 0, 0, true));
+m2_table02.put(List.of(0, true, true, 0, 6, true));
+m2_table02.put(List.of(12, true, true, 466700, 153, false));
+m2_table02.put(List.of(0, true, true, 0, 224316, false));
+m2_table02.put(List.of(200282, false, true, 630955, 6, false));
+m2_table02.put(List.of(0, true, true, 0, 0, true));
+m2_table02.get(4158);
+m2_table02.put(List.of(56, true, true, 123, 0, false));
+m2_table02.get(85);
+m2_table02.put(List.of(0, true, false, 248, 118, true));
+m2_table02.put(List.of(0, false, false, 3850, 0, false));
+m2_table02.put(List.of(0, true, false, 1364, 0, false));
+m2_table02.get(178730);
+m2_table02.put(List.of(5600, true, true, 12, 679, true));
+m2_table02.put(List.of(0, true, true, 0, 5, false));
+m2_table02.put(List.of(0, false, true, 784, 0, true));
+m2_table02.put(List.of(0, true, false, 0, 0, true));
+m2_table02.put(List.of(0, false, false, 0, 0, false));
+m2_table02.put(List.of(117, true, true, 1, 0, false));
+m2_table02.put(List.of(2, false, false, 1975, 0, false));
+m2_table02.remove(311);
+m2_table02.put(List.of(62, false, true, 0, 2112, true));
+m2_table02.remove(1);
+m2_table02.put(List.of(0, true, true, 19748, 0, false));
+m2_table02.put(List.of(0, false, true, 1, 101, true));
+m2_table02.put(List.of(0, false, false, 0, 0, false));
+m2_table02.put(List.of(0, true, false, 0, 6, false));
+m2_table02.put(List.of(131, false, false, 2489, 2, false));
+m2_table02.get(8);
+m2_table02.put(List.of(0, true, true, 121, 6, true));
+m2_table02.remove(0);
+m2_table02.remove(144);
+m2_table02.put(List.of(0, false, true, 0, 9, true));
+m2_table02.remove(0);
+m2_table02.remove(565);
+m2_table02.put(List.of(3, false, true, 164, 5, true));
+m2_table02.put(Arrays.asList(3958, false, false, 54, 0, null));
+m2_table02.put(List.of(75, false, true, 0, 0, false));
+m2_table02.get(241);
+m2_table02.remove(769);
+m2_table02.put(List.of(0, true, true, 11227, 6974, true));
+m2_table02.get(433);
+m2_table02.put(List.of(0, true, false, 0, 0, false));
+m2_table02.get(0);
+m2_table02.put(List.of(0, false, true, 966, 0, true));
+m2_table02.get(0);
+m2_table02.put(List.of(0, false, true, 1916, 0, true));
+m2_table02.put(List.of(0, true, false, 283, 0, true));
+m2_table02.put(List.of(0, false, false, 75, 0, true));
+m2_table02.put(List.of(0, true, false, 125, 0, false));
+m2_table02.put(List.of(3, false, false, 897, 1, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, true, false, 69, 3, true));
+m2_table02.remove(0);
+m2_table02.get(0);
+m2_table02.remove(15123);
+m2_table02.put(List.of(4, true, true, 0, 7, false));
+m2_table02.put(List.of(20, true, true, 0, 0, false));
+m2_table02.put(List.of(3919, false, true, 0, 61, false));
+m2_table02.put(List.of(25, true, false, 878, 2044, true));
+m2_table02.put(List.of(16, false, false, 922, 0, true));
+m2_table02.get(11075);
+m2_table02.put(List.of(6, false, true, 0, 0, true));
+m2_table02.put(List.of(6, false, false, 22, 122, false));
+m2_table02.put(List.of(7, true, false, 122, 43, true));
+m2_table02.put(List.of(1, true, true, 0, 1219, false));
+m2_table02.put(List.of(1192, true, true, 4, 0, true));
+m2_table02.put(List.of(0, false, false, 0, 42, true));
+m2_table02.put(List.of(15, false, true, 27221, 1381, false));
+m2_table02.put(List.of(0, true, false, 147, 153, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(0, true, true, 2036, 0, true));
+m2_table02.put(List.of(60365, false, false, 0, 7456, true));
+m2_table02.put(Arrays.asList(null, true, true, 0, 0, true));
+m2_table02.get(4519);
+m2_table02.put(List.of(0, true, true, 3492, 0, true));
+m2_table02.put(List.of(34, true, true, 1523, 5241, true));
+m2_table02.put(List.of(0, false, false, 0, 33, false));
+m2_table02.remove(558);
+m2_table02.remove(1412);
+m2_table02.remove(29);
+m2_table02.put(List.of(3, true, false, 0, 4, true));
+m2_table02.get(1264);
+m2_table02.put(List.of(106, false, false, 723, 0, true));
+m2_table02.put(List.of(0, true, false, 2617, 1010046, true));
+m2_table02.put(List.of(0, true, false, 0, 0, true));
+m2_table02.put(List.of(6594, true, true, 8, 1, false));
+m2_table02.remove(1);
+m2_table02.put(Arrays.asList(1271, null, true, 150, 68, true));
+m2_table02.put(Arrays.asList(null, true, false, 0, 0, true));
+m2_table02.put(List.of(455, true, false, 2, 0, true));
+m2_table02.put(List.of(0, true, false, 41, 20, false));
+m2_table02.remove(351);
+m2_table02.remove(29);
+m2_table02.put(List.of(3, false, true, 32, 397, false));
+m2_table02.put(List.of(0, true, false, 589, 0, false));
+m2_table02.put(List.of(695, false, false, 1406, 21, false));
+m2_table02.put(List.of(1496, true, true, 2, 0, false));
+m2_table02.put(List.of(5233, false, true, 0, 0, false));
+m2_table02.remove(3);
+m2_table02.put(List.of(0, false, true, 234406, 578, false));
+m2_table02.put(Arrays.asList(93, true, null, 0, 230, false));
+m2_table02.get(0);
+m2_table02.put(List.of(0, true, true, 6054, 640889, true));
+m2_table02.get(104);
+m2_table02.put(List.of(0, true, true, 4, 2, true));
+m2_table02.put(List.of(0, true, true, 143253, 6049, false));
+m2_table02.put(List.of(638, true, false, 0, 234, false));
+m2_table02.remove(87);
+m2_table02.put(List.of(0, true, true, 516, 140, false));
+m2_table02.put(List.of(276, true, true, 2397, 214, true));
+m2_table02.put(List.of(131, false, false, 0, 392, true));
+m2_table02.remove(46);
+m2_table02.remove(0);
+m2_table02.remove(13815);
+m2_table02.get(0);
+m2_table02.put(List.of(537, true, true, 0, 0, false));
+m2_table02.put(List.of(0, false, true, 0, 443, true));
+m2_table02.get(593);
+m2_table02.get(516);
+m2_table02.put(List.of(0, true, true, 14, 103, false));
+m2_table02.put(List.of(513, false, false, 195, 4, true));
+m2_table02.put(List.of(1411, true, false, 86, 8, true));
+m2_table02.put(List.of(613887, false, true, 10801, 20, false));
+m2_table02.put(List.of(979594, false, true, 2, 109858, false));
+m2_table02.put(List.of(647, true, false, 582, 0, true));
+m2_table02.put(List.of(0, false, true, 3, 2, true));
+m2_table02.put(List.of(0, true, false, 0, 1721, true));
+m2_table02.remove(0);
+m2_table02.remove(0);
+m2_table02.remove(0);
+m2_table02.remove(0);
+m2_table02.put(List.of(0, true, true, 659, 0, true));
+m2_table02.put(List.of(0, true, true, 4, 806, true));
+m2_table02.put(List.of(3851, false, false, 0, 85, true));
+m2_table02.put(List.of(0, false, false, 1125, 3872, false));
+m2_table02.put(List.of(0, true, false, 2640, 10843, false));
+m2_table02.put(List.of(0, true, false, 4, 97, false));
+m2_table02.put(List.of(6, true, false, 49537, 0, true));
+m2_table02.remove(1193);
+m2_table02.remove(1479);
+m2_table02.put(List.of(0, true, false, 22, 0, true));
+m2_table02.put(List.of(143, true, true, 1, 0, true));
+m2_table02.put(List.of(637, false, true, 4, 4, false));
+m2_table02.get(0);
+m2_table02.remove(0);
+m2_table02.remove(0);
+m2_table02.remove(519);
+m2_table02.put(List.of(26, false, true, 0, 0, true));
+m2_table02.remove(11197);
+m2_table02.put(List.of(28, false, true, 0, 0, true));
+m2_table02.remove(26);
+m2_table02.put(List.of(0, true, true, 8, 534, false));
+m2_table02.put(List.of(47, false, false, 0, 0, true));
+m2_table02.put(List.of(4, true, false, 49, 1575, false));
+m2_table02.put(List.of(2536, true, true, 1303, 0, false));
+m2_table02.remove(0);
+m2_table02.put(Arrays.asList(0, true, true, 18863, 123528, null));
+m2_table02.get(362);
+m2_table02.put(List.of(0, false, true, 0, 0, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(2, true, true, 263, 0, false));
+m2_table02.put(List.of(0, true, false, 4, 17968, true));
+m2_table02.put(List.of(1, false, false, 0, 41, false));
+m2_table02.put(List.of(7, true, false, 31, 0, true));
+m2_table02.put(List.of(829, true, true, 359, 0, false));
+m2_table02.remove(0);
+m2_table02.put(List.of(5, true, false, 219, 0, false));
+m2_table02.put(List.of(48907, true, true, 23, 103, false));
+m2_table02.put(Arrays.asList(123, false, null, 404, 116, false));
+m2_table02.put(List.of(0, false, true, 642, 224, false));
+m2_table02.remove(0);
+m2_table02.remove(0);
+m2_table02.put(List.of(5162, false, true, 1041, 0, true));
+m2_table02.remove(3);
+m2_table02.remove(846);
+m2_table02.put(List.of(468, true, false, 0, 2675, false));
+m2_table02.put(List.of(13, false, true, 11, 0, false));
+m2_table02.put(List.of(735, false, true, 456, 190, true));
+m2_table02.remove(12);
+m2_table02.put(List.of(0, false, false, 0, 83, true));
+m2_table02.put(List.of(10265, false, false, 232, 100, true));
+m2_table02.remove(0);
+m2_table02.put(List.of(184052, true, false, 17, 9, false));
+m2_table02.remove(81);
+m2_table02.put(List.of(7029, true, true, 0, 0, true));
+m2_table02.get(61);
+m2_table02.put(List.of(0, true, true, 29547, 13, true));
+m2_table02.get(2);
+m2_table02.put(List.of(8, true, false, 0, 184, false));
+m2_table02.remove(0);
+m2_table02.get(0);
+m2_table02.get(17);
+m2_table02.remove(165099);
+m2_table02.put(List.of(6241, true, false, 35, 6, false));
+m2_table02.remove(125);
+m2_table02.put(List.of(0, true, false, 147, 0, true));
+m2_table02.put(List.of(167, true, false, 663, 107, false));
+m2_table02.put(List.of(0, false, true, 5486, 1267, true));
+m2_table02.put(List.of(0, false, false, 2, 0, true));
+m2_table02.put(List.of(0, true, false, 1461, 0, true));
+m2_table02.put(List.of(0, true, true, 0, 0, false));
+m2_table02.put(List.of(430, true, true, 5725, 10, false));
+m2_table02.put(List.of(402, false, true, 0, 2, true));
+m2_table02.get(4548);
+m2_table02.put(List.of(204122, true, false, 1, 0, true));
+m2_table02.get(0);
+// Random Seed: 1082180784
+m2_table02 = null;
+
+m2_table02 = new HashFileTable("m2_table02");
+m2_table02.getTableName();
+m2_table02.getColumnNames();
+m2_table02.getColumnTypes();
+m2_table02.getPrimaryIndex();
+m2_table02.getTableName();
+m2_table02.getColumnNames();
+m2_table02.getColumnTypes();
+m2_table02.getPrimaryIndex();
+m2_table02.get(15690);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(136741);
+m2_table02.get(546);
+m2_table02.get(7);
+m2_table02.get(138);
+m2_table02.get(11);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(76485);
+m2_table02.get(0);
+m2_table02.get(18);
+m2_table02.get(2783);
+m2_table02.get(0);
+m2_table02.get(10);
+m2_table02.get(56);
+m2_table02.get(10);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(25);
+m2_table02.get(0);
+m2_table02.get(29732);
+m2_table02.get(0);
+m2_table02.get(267);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(67);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(941);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(3);
+m2_table02.get(0);
+m2_table02.get(602);
+m2_table02.get(4131);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(9);
+m2_table02.get(17);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(3);
+m2_table02.get(0);
+m2_table02.get(9);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(15534);
+m2_table02.get(49);
+m2_table02.get(398);
+m2_table02.get(5909);
+m2_table02.get(46);
+m2_table02.get(0);
+m2_table02.get(5604);
+m2_table02.get(26);
+m2_table02.get(134);
+m2_table02.get(0);
+m2_table02.get(34);
+m2_table02.get(80);
+m2_table02.get(2);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(3907);
+m2_table02.get(1);
+m2_table02.get(0);
+m2_table02.get(708);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(6);
+m2_table02.get(547);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(3);
+m2_table02.get(0);
+m2_table02.get(19);
+m2_table02.get(815);
+m2_table02.get(0);
+m2_table02.get(55556);
+m2_table02.get(3964);
+m2_table02.get(0);
+m2_table02.get(17);
+m2_table02.get(0);
+m2_table02.get(32);
+m2_table02.get(0);
+m2_table02.get(15);
+m2_table02.get(0);
+m2_table02.get(186);
+m2_table02.get(844);
+m2_table02.get(0);
+m2_table02.get(250);
+m2_table02.get(0);
+m2_table02.get(3568);
+m2_table02.get(15);
+m2_table02.get(517);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(539);
+m2_table02.get(1087);
+m2_table02.get(40);
+m2_table02.get(23);
+m2_table02.get(0);
+m2_table02.get(22670);
+m2_table02.get(616);
+m2_table02.get(6);
+m2_table02.get(2409);
+m2_table02.get(0);
+m2_table02.get(242);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(48171);
+m2_table02.get(0);
+m2_table02.get(1091);
+m2_table02.get(1);
+m2_table02.get(26442);
+m2_table02.get(0);
+m2_table02.get(45);
+m2_table02.get(0);
+m2_table02.get(2);
+m2_table02.get(6);
+m2_table02.get(10);
+m2_table02.get(4);
+m2_table02.get(0);
+m2_table02.get(11023);
+m2_table02.get(0);
+m2_table02.get(1234);
+m2_table02.get(26028);
+m2_table02.get(391);
+m2_table02.get(165);
+m2_table02.get(0);
+m2_table02.get(53);
+m2_table02.get(0);
+m2_table02.get(122);
+m2_table02.get(26625);
+m2_table02.get(3);
+m2_table02.get(1);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(3);
+m2_table02.get(33);
+m2_table02.get(35);
+m2_table02.get(0);
+m2_table02.get(3);
+m2_table02.get(921);
+m2_table02.get(18);
+m2_table02.get(79);
+m2_table02.get(149089);
+m2_table02.get(84);
+m2_table02.get(852);
+m2_table02.get(1713);
+m2_table02.get(886);
+m2_table02.get(0);
+m2_table02.get(793);
+m2_table02.get(18);
+m2_table02.get(0);
+m2_table02.get(11825);
+m2_table02.get(0);
+m2_table02.get(3);
+m2_table02.get(18);
+m2_table02.get(957);
+m2_table02.get(36);
+m2_table02.get(127);
+m2_table02.get(0);
+m2_table02.get(1054);
+m2_table02.get(2316);
+m2_table02.get(4);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(249);
+m2_table02.get(3);
+m2_table02.get(3);
+m2_table02.get(434);
+m2_table02.get(1);
+m2_table02.get(0);
+m2_table02.get(24);
+m2_table02.get(0);
+m2_table02.get(215);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(11043);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(52115);
+m2_table02.get(99);
+m2_table02.get(5);
+m2_table02.get(9);
+m2_table02.get(63);
+m2_table02.get(68);
+m2_table02.get(440);
+m2_table02.get(19);
+m2_table02.get(888);
+m2_table02.get(2);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(58797);
+m2_table02.get(0);
+m2_table02.get(335);
+m2_table02.get(1775);
+m2_table02.get(4);
+m2_table02.get(0);
+m2_table02.get(5588);
+m2_table02.get(0);
+m2_table02.get(2563);
+m2_table02.get(293065);
+m2_table02.get(101);
+m2_table02.get(51);
+m2_table02.get(3253);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(106);
+m2_table02.get(121);
+m2_table02.get(273);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(576);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(366);
+m2_table02.get(52);
+m2_table02.get(103);
+m2_table02.get(1);
+m2_table02.get(10288);
+m2_table02.get(309);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(8);
+m2_table02.get(2972);
+m2_table02.get(0);
+m2_table02.get(97);
+m2_table02.get(4060);
+m2_table02.get(0);
+m2_table02.get(50);
+m2_table02.get(48);
+m2_table02.get(8);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(1742);
+m2_table02.get(19);
+m2_table02.get(0);
+m2_table02.get(12649);
+m2_table02.get(5380);
+m2_table02.get(0);
+m2_table02.get(20);
+m2_table02.get(188);
+m2_table02.get(12);
+m2_table02.get(22);
+m2_table02.get(96);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(1807);
+m2_table02.get(59535);
+m2_table02.get(0);
+m2_table02.get(8);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(19);
+m2_table02.get(326);
+m2_table02.get(0);
+m2_table02.get(131);
+m2_table02.get(148);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(70213);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(28270);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(102);
+m2_table02.get(0);
+m2_table02.get(231024);
+m2_table02.get(23381);
+m2_table02.get(131301);
+m2_table02.get(213931);
+m2_table02.get(126);
+m2_table02.get(4);
+m2_table02.get(0);
+m2_table02.get(2);
+m2_table02.get(2387);
+m2_table02.get(0);
+m2_table02.get(15);
+m2_table02.get(78);
+m2_table02.get(8);
+m2_table02.get(0);
+m2_table02.get(152);
+m2_table02.get(728);
+m2_table02.get(73);
+m2_table02.get(2858);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(101);
+m2_table02.get(15);
+m2_table02.get(1822);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(25);
+m2_table02.get(0);
+m2_table02.get(24129);
+m2_table02.get(152);
+m2_table02.get(9976);
+m2_table02.get(0);
+m2_table02.get(525);
+m2_table02.get(2076);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(128);
+m2_table02.get(59822);
+m2_table02.get(0);
+m2_table02.get(98);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(2921);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(5);
+m2_table02.get(2);
+m2_table02.get(9042);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(328);
+m2_table02.get(18465);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(74144);
+m2_table02.get(1);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(171);
+m2_table02.get(6);
+m2_table02.get(14);
+m2_table02.get(4977);
+m2_table02.get(808);
+m2_table02.get(120);
+m2_table02.get(9);
+m2_table02.get(3);
+m2_table02.get(4559);
+m2_table02.get(0);
+m2_table02.get(14119);
+m2_table02.get(166469);
+m2_table02.get(0);
+m2_table02.get(81);
+m2_table02.get(20);
+m2_table02.get(3653);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(3);
+m2_table02.get(446);
+m2_table02.get(1);
+m2_table02.get(3);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(519);
+m2_table02.get(16);
+m2_table02.get(0);
+m2_table02.get(23621);
+m2_table02.get(34);
+m2_table02.get(0);
+m2_table02.get(86);
+m2_table02.get(4);
+m2_table02.get(7716);
+m2_table02.get(0);
+m2_table02.get(1);
+m2_table02.get(0);
+m2_table02.get(6388);
+m2_table02.get(2338);
+m2_table02.get(223);
+m2_table02.get(0);
+m2_table02.get(5);
+m2_table02.get(3387);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(1434);
+m2_table02.get(482);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(4215);
+m2_table02.get(189);
+m2_table02.get(1702);
+m2_table02.get(3);
+m2_table02.get(544);
+m2_table02.get(19);
+m2_table02.get(0);
+m2_table02.get(1);
+m2_table02.get(317);
+m2_table02.get(385);
+m2_table02.get(267);
+m2_table02.get(1);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(520);
+m2_table02.get(0);
+m2_table02.get(165);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(26669);
+m2_table02.get(2594);
+m2_table02.get(0);
+m2_table02.get(688);
+m2_table02.get(6);
+m2_table02.get(1363);
+m2_table02.get(802);
+m2_table02.get(6589);
+m2_table02.get(2);
+m2_table02.get(6845);
+m2_table02.get(55980);
+m2_table02.get(0);
+m2_table02.get(44);
+m2_table02.get(2);
+m2_table02.get(2);
+m2_table02.get(315);
+m2_table02.get(0);
+m2_table02.get(161);
+m2_table02.get(1);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(12);
+m2_table02.get(21);
+m2_table02.get(0);
+m2_table02.get(77151);
+m2_table02.get(1);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(3739);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(116);
+m2_table02.get(237);
+m2_table02.get(7);
+m2_table02.get(64836);
+m2_table02.get(0);
+m2_table02.get(11);
+m2_table02.get(7);
+m2_table02.get(2);
+m2_table02.get(2911);
+m2_table02.get(13);
+m2_table02.get(2);
+m2_table02.get(806);
+m2_table02.get(24509);
+m2_table02.get(667);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(189);
+m2_table02.get(122364);
+m2_table02.get(7863);
+m2_table02.get(0);
+m2_table02.get(4280);
+m2_table02.get(12035);
+m2_table02.get(34939);
+m2_table02.get(1);
+m2_table02.get(48);
+m2_table02.get(0);
+m2_table02.get(474);
+m2_table02.get(1523);
+m2_table02.get(1870);
+m2_table02.get(2793);
+m2_table02.get(58504);
+m2_table02.get(17);
+m2_table02.get(8);
+m2_table02.get(12);
+m2_table02.get(11263);
+m2_table02.get(1001);
+m2_table02.get(1280);
+m2_table02.get(0);
+m2_table02.get(164);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(3871);
+m2_table02.get(41);
+m2_table02.get(1);
+m2_table02.get(48250);
+m2_table02.get(775);
+m2_table02.get(170);
+m2_table02.get(0);
+m2_table02.get(131);
+m2_table02.get(38);
+m2_table02.get(0);
+m2_table02.get(2);
+m2_table02.get(37382);
+m2_table02.get(101);
+m2_table02.get(10050);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(104);
+m2_table02.get(7);
+m2_table02.get(0);
+m2_table02.get(1109);
+m2_table02.get(132);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(8);
+m2_table02.get(0);
+m2_table02.get(130374);
+m2_table02.get(12846);
+m2_table02.get(563);
+m2_table02.get(0);
+m2_table02.get(11639);
+m2_table02.get(520);
+m2_table02.get(0);
+m2_table02.get(129);
+m2_table02.get(0);
+m2_table02.get(11);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(14);
+m2_table02.get(96);
+m2_table02.get(0);
+m2_table02.get(5401);
+m2_table02.get(0);
+m2_table02.get(4);
+m2_table02.get(1);
+m2_table02.get(0);
+m2_table02.get(161);
+m2_table02.get(1020);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(127);
+m2_table02.get(2023);
+m2_table02.get(0);
+m2_table02.get(52);
+m2_table02.get(0);
+m2_table02.get(7);
+m2_table02.get(634);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(85);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(2);
+m2_table02.get(0);
+m2_table02.get(206);
+m2_table02.get(0);
+m2_table02.get(3);
+m2_table02.get(45);
+m2_table02.get(21);
+m2_table02.get(0);
+m2_table02.get(8947);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(57);
+m2_table02.get(0);
+m2_table02.get(1);
+m2_table02.get(112);
+m2_table02.get(0);
+m2_table02.get(24);
+m2_table02.get(1145);
+m2_table02.get(760);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(623);
+m2_table02.get(10);
+m2_table02.get(53842);
+m2_table02.get(6);
+m2_table02.get(23);
+m2_table02.get(8);
+m2_table02.get(2);
+m2_table02.get(0);
+m2_table02.get(1);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(16);
+m2_table02.get(0);
+m2_table02.get(22);
+m2_table02.get(44);
+m2_table02.get(21770);
+m2_table02.get(82);
+m2_table02.get(32);
+m2_table02.get(0);
+m2_table02.get(10);
+m2_table02.get(1);
+m2_table02.get(1382);
+m2_table02.get(257);
+m2_table02.get(0);
+m2_table02.get(92);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(40);
+m2_table02.get(49);
+m2_table02.get(1);
+m2_table02.get(9);
+m2_table02.get(45);
+m2_table02.get(0);
+m2_table02.get(56);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(22);
+m2_table02.get(0);
+m2_table02.get(29);
+m2_table02.get(0);
+m2_table02.get(1);
+m2_table02.get(17);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(25);
+m2_table02.get(31);
+m2_table02.get(7);
+m2_table02.get(0);
+m2_table02.get(23278);
+m2_table02.get(12);
+m2_table02.get(43442);
+m2_table02.get(1);
+m2_table02.get(0);
+m2_table02.get(3);
+m2_table02.get(178);
+m2_table02.get(1);
+m2_table02.get(188318);
+m2_table02.get(0);
+m2_table02.get(35373);
+m2_table02.get(18);
+m2_table02.get(27349);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(2901);
+m2_table02.get(2700);
+m2_table02.get(391);
+m2_table02.get(1093);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(9);
+m2_table02.get(762035);
+m2_table02.get(0);
+m2_table02.get(156);
+m2_table02.get(8);
+m2_table02.get(169);
+m2_table02.get(54);
+m2_table02.get(605);
+m2_table02.get(0);
+m2_table02.get(101);
+m2_table02.get(32);
+m2_table02.get(1);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(10);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(1);
+m2_table02.get(110);
+m2_table02.get(137);
+m2_table02.get(1);
+m2_table02.get(0);
+m2_table02.get(3767);
+m2_table02.get(2);
+m2_table02.get(148);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(9);
+m2_table02.get(0);
+m2_table02.get(6);
+m2_table02.get(0);
+m2_table02.get(230);
+m2_table02.get(25733);
+m2_table02.get(269);
+m2_table02.get(2386);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(11);
+m2_table02.get(64);
+m2_table02.get(61);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(7379);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(14);
+m2_table02.get(0);
+m2_table02.get(18);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(245);
+m2_table02.get(3);
+m2_table02.get(0);
+m2_table02.get(2078);
+m2_table02.get(0);
+m2_table02.get(4207);
+m2_table02.get(81);
+m2_table02.get(26);
+m2_table02.get(3297);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(13834);
+m2_table02.get(57918);
+m2_table02.get(192);
+m2_table02.get(0);
+m2_table02.get(2);
+m2_table02.get(3928);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(59344);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(163);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(38876);
+m2_table02.get(0);
+m2_table02.get(8);
+m2_table02.get(9);
+m2_table02.get(0);
+m2_table02.get(270);
+m2_table02.get(21);
+m2_table02.get(2143);
+m2_table02.get(10591);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(53);
+m2_table02.get(0);
+m2_table02.get(8);
+m2_table02.get(0);
+m2_table02.get(392);
+m2_table02.get(200);
+m2_table02.get(0);
+m2_table02.get(13268);
+m2_table02.get(113);
+m2_table02.get(2087);
+m2_table02.get(0);
+m2_table02.get(69);
+m2_table02.get(1);
+m2_table02.get(0);
+m2_table02.get(1);
+m2_table02.get(168034);
+m2_table02.get(0);
+m2_table02.get(424);
+m2_table02.get(1);
+m2_table02.get(5);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(1);
+m2_table02.get(3);
+m2_table02.get(514);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(11);
+m2_table02.get(0);
+m2_table02.get(3513);
+m2_table02.get(250);
+m2_table02.get(4164);
+m2_table02.get(0);
+m2_table02.get(1);
+m2_table02.get(214);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(3);
+m2_table02.get(3482);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(2255);
+m2_table02.get(1);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(1);
+m2_table02.get(11);
+m2_table02.get(722);
+m2_table02.get(0);
+m2_table02.get(13);
+m2_table02.get(2);
+m2_table02.get(137);
+m2_table02.get(5259);
+m2_table02.get(21366);
+m2_table02.get(0);
+m2_table02.get(20);
+m2_table02.get(1);
+m2_table02.get(0);
+m2_table02.get(12);
+m2_table02.get(5424);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(115);
+m2_table02.get(0);
+m2_table02.get(424);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(13);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(1);
+m2_table02.get(0);
+m2_table02.get(7);
+m2_table02.get(1);
+m2_table02.get(1159);
+m2_table02.get(26);
+m2_table02.get(70100);
+m2_table02.get(2438);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(752);
+m2_table02.get(0);
+m2_table02.get(42463);
+m2_table02.get(31);
+m2_table02.get(174);
+m2_table02.get(0);
+m2_table02.get(76);
+m2_table02.get(2354);
+m2_table02.get(8);
+m2_table02.get(0);
+m2_table02.get(29);
+m2_table02.get(5);
+m2_table02.get(459);
+m2_table02.get(2);
+m2_table02.get(6);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(302);
+m2_table02.get(0);
+m2_table02.get(883);
+m2_table02.get(15290);
+m2_table02.get(5);
+m2_table02.get(713);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(6);
+m2_table02.get(6347);
+m2_table02.get(56);
+m2_table02.get(2961);
+m2_table02.get(31);
+m2_table02.get(5714);
+m2_table02.get(5);
+m2_table02.get(16163);
+m2_table02.get(0);
+m2_table02.get(109);
+m2_table02.get(14);
+m2_table02.get(3);
+m2_table02.get(0);
+m2_table02.get(2065);
+m2_table02.get(798);
+m2_table02.get(3);
+m2_table02.get(1773);
+m2_table02.get(225);
+m2_table02.get(255);
+m2_table02.get(0);
+m2_table02.get(16696);
+m2_table02.get(0);
+m2_table02.get(430);
+m2_table02.get(0);
+m2_table02.get(4);
+m2_table02.get(48279);
+m2_table02.get(155);
+m2_table02.get(1);
+m2_table02.get(5);
+m2_table02.get(8488);
+m2_table02.get(0);
+m2_table02.get(2783);
+m2_table02.get(4023);
+m2_table02.get(25);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(37);
+m2_table02.get(0);
+m2_table02.get(6009);
+m2_table02.get(22);
+m2_table02.get(0);
+m2_table02.get(51);
+m2_table02.get(482);
+m2_table02.get(0);
+m2_table02.get(79);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(142086);
+m2_table02.get(78);
+m2_table02.get(3350);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(9);
+m2_table02.get(3621159);
+m2_table02.get(10513);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(9);
+m2_table02.get(131);
+m2_table02.get(0);
+m2_table02.get(48);
+m2_table02.get(608);
+m2_table02.get(9);
+m2_table02.get(0);
+m2_table02.get(1153);
+m2_table02.get(1690);
+m2_table02.get(0);
+m2_table02.get(8);
+m2_table02.get(491);
+m2_table02.get(0);
+m2_table02.get(968);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(286);
+m2_table02.get(2);
+m2_table02.get(234);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(29147);
+m2_table02.get(2);
+m2_table02.get(0);
+m2_table02.get(55);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(243742);
+m2_table02.get(243);
+m2_table02.get(11);
+m2_table02.get(532);
+m2_table02.get(0);
+m2_table02.get(30);
+m2_table02.get(249);
+m2_table02.get(4647);
+m2_table02.get(1);
+m2_table02.get(21);
+m2_table02.get(1);
+m2_table02.get(185397);
+m2_table02.get(0);
+m2_table02.get(39);
+m2_table02.get(11393);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(763);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(60129);
+m2_table02.get(0);
+m2_table02.get(40);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(190755);
+m2_table02.get(0);
+m2_table02.get(56);
+m2_table02.get(107);
+m2_table02.get(211);
+m2_table02.get(9347);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(20);
+m2_table02.get(9078);
+m2_table02.get(1555);
+m2_table02.get(2262);
+m2_table02.get(283);
+m2_table02.get(0);
+m2_table02.get(2360);
+m2_table02.get(0);
+m2_table02.get(10);
+m2_table02.get(4);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(1889);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(94448);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(103);
+m2_table02.get(0);
+m2_table02.get(616);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(11719);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(707);
+m2_table02.get(24);
+m2_table02.get(208);
+m2_table02.get(3);
+m2_table02.get(0);
+m2_table02.get(175);
+m2_table02.get(0);
+m2_table02.get(331);
+m2_table02.get(180);
+m2_table02.get(0);
+m2_table02.get(530);
+m2_table02.get(349);
+m2_table02.get(0);
+m2_table02.get(161);
+m2_table02.get(10);
+m2_table02.get(3);
+m2_table02.get(1736);
+m2_table02.get(193);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(18);
+m2_table02.get(0);
+m2_table02.get(2);
+m2_table02.get(431);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(197);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(18);
+m2_table02.get(598);
+m2_table02.get(0);
+m2_table02.get(51);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(8);
+m2_table02.get(3);
+m2_table02.get(0);
+m2_table02.get(42935);
+m2_table02.get(467);
+m2_table02.get(5423);
+m2_table02.get(0);
+m2_table02.get(1972);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(359);
+m2_table02.get(20);
+m2_table02.get(0);
+m2_table02.get(1);
+m2_table02.get(116);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(6);
+m2_table02.get(197);
+m2_table02.get(4);
+m2_table02.get(1866);
+m2_table02.get(57);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(396);
+m2_table02.get(4);
+m2_table02.get(126);
+m2_table02.get(1863);
+m2_table02.get(86);
+m2_table02.get(123);
+m2_table02.get(0);
+m2_table02.get(425);
+m2_table02.get(0);
+m2_table02.get(1400);
+m2_table02.get(2771);
+m2_table02.get(1818);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(349);
+m2_table02.get(25);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(12413);
+m2_table02.get(56054);
+m2_table02.get(1);
+m2_table02.get(27301);
+m2_table02.get(11017);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(17);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(0);
+m2_table02.get(606);
+m2_table02.get(0);
+m2_table02.get(590);
+m2_table02.get(28);
+m2_table02.get(91);
+m2_table02.get(0);
+m2_table02.clear();
@@ -0,0 +1,2266 @@
+// Random Seed: 1082180784
+Table m2_table03 = new HashFileTable("m2_table03", List.of("c236", "af1", "ffc9", "f59", "eb3f", "b56", "d6b26", "f4f", "f1f", "c4e", "e0157", "c4821", "ca54", "c04", "bd2"), List.of("string", "string", "string", "integer", "integer", "integer", "boolean", "boolean", "boolean", "string", "string", "integer", "integer", "boolean", "boolean"), 9);
+m2_table03.getTableName();
+m2_table03.getColumnNames();
+m2_table03.getColumnTypes();
+m2_table03.getPrimaryIndex();
+m2_table03.getTableName();
+m2_table03.getColumnNames();
+m2_table03.getColumnTypes();
+m2_table03.getPrimaryIndex();
+m2_table03.clear();
+m2_table03.put(List.of("b4d8", "bcf1", "f63d", 19635, 0, 262, true, true, true, "dc76", "e309", 0, 0, true, false));
+m2_table03.put(Arrays.asList("b3bd", "a0d0", "d1b3", 0, 1327, 0, true, true, false, "cc20", "bef7", null, 0, false, false));
+m2_table03.put(Arrays.asList("b2c4", "caee", "f8d6", 294, 215, 1, false, false, false, "ccf4", "e27a", 0, 7, true, null));
+m2_table03.put(List.of("b0d5", "d431", "c839", 25659, 7209, 10, true, false, true, "bfdd", "ec23", 0, 0, false, false));
+m2_table03.put(List.of("c7c7", "c4fd", "edfa", 122469, 0, 47000, true, true, true, "cfae", "a797", 103142, 67, false, false));
+m2_table03.remove("fc7");
+m2_table03.remove("baef");
+m2_table03.put(List.of("cb82a", "c26f", "ed0c", 4, 126, 43, false, true, true, "ea57", "a908", 45, 0, false, false));
+m2_table03.put(List.of("d11c", "d39c", "deb9", 52, 53866, 41, false, false, true, "b9310", "cfe0", 87, 92388, true, true));
+m2_table03.remove("b282");
+m2_table03.remove("aa16");
+m2_table03.put(List.of("bd2b", "ddb1", "d5af", 0, 1808, 1346, false, true, false, "b185", "b94d", 33, 11898, true, true));
+m2_table03.put(List.of("db38", "c837", "df95", 3, 0, 0, false, true, false, "d697", "d702", 67, 35, false, false));
+m2_table03.put(List.of("c8330", "df96", "b978", 0, 0, 0, false, true, true, "b912", "ce65", 43292, 157, false, false));
+m2_table03.put(Arrays.asList("ee5", "d0d2", "cec7", 1, null, 0, false, false, true, "fc80", "d8c1", 49, 0, true, true));
+m2_table03.put(List.of("b776", "ec96", "a66f", 1, 0, 13, true, true, true, "a0b8", "fca6", 129, 0, true, false));
+m2_table03.put(List.of("d160", "b096", "c552", 1, 0, 0, false, false, true, "ec33", "a56d", 0, 258912, false, true));
+m2_table03.put(Arrays.asList(null, "a9bd", "baf4", 19, 2, 0, true, true, true, "de18", "ac9e", 4, 121, false, false));
+m2_table03.put(List.of("bfd8", "c378", "a098", 0, 55, 2, false, true, true, "f588", "ccfe", 7753, 16, true, false));
+m2_table03.put(List.of("a708", "b8dbd", "ea7a", 760, 2139, 0, true, false, true, "ddc7", "ee86", 852, 19, false, false));
+m2_table03.put(List.of("a2a8", "e916", "aac4", 0, 0, 180, true, false, false, "a661", "bc3d", 334, 0, false, true));
+m2_table03.put(Arrays.asList("d224", "d4a", "afab", null, 0, 13603, true, true, false, "db27a", "d9e4", 0, 374542, false, false));
+m2_table03.get("f174");
+m2_table03.put(List.of("ab52", "eb12", "b75c", 0, 202, 54452, true, true, false, "ca92", "e9f5", 1048, 0, true, true));
+m2_table03.put(List.of("f907", "c56c", "f394", 683, 756, 2, false, true, true, "bbb7", "c233", 811, 5862, true, false));
+m2_table03.put(List.of("bd64", "f305", "b5ee", 163, 0, 0, true, false, true, "bf10", "bbc8", 938, 5, false, true));
+m2_table03.remove("a268");
+m2_table03.remove("c46b");
+m2_table03.put(List.of("a10d", "af4c", "a9e9", 4592, 10, 0, true, false, false, "dfac", "a250a", 0, 0, false, true));
+m2_table03.get("ebf8");
+m2_table03.put(List.of("bb12f", "e09", "b5eb1", 40, 0, 786, false, true, false, "a278", "b8e83", 209, 2707, false, true));
+m2_table03.put(List.of("b0f2", "ccb1", "df7", 0, 0, 0, true, false, true, "ca68", "d7fb", 93, 843380, false, true));
+m2_table03.put(List.of("f5f1", "ad14", "d87e", 0, 61, 166, true, false, true, "d199", "caae4", 32, 22, true, false));
+m2_table03.put(List.of("cc2a", "c68a", "ea9a", 0, 0, 1306, true, false, false, "a7a6", "c35f", 0, 1, false, true));
+m2_table03.put(List.of("d0ae", "f210", "f5c8", 5, 3, 0, true, true, true, "c2b8", "b312", 0, 21, false, false));
+m2_table03.put(Arrays.asList("be12", "b4a0", "bc8a", 0, 65, 37, false, true, true, "beaf", null, 19, 0, true, false));
+m2_table03.get("f469");
+m2_table03.remove("a241");
+m2_table03.put(List.of("cfe2", "b38a", "aa38", 543, 0, 1, false, false, false, "af63", "e49f", 0, 0, true, false));
+m2_table03.remove("ab2d");
+m2_table03.put(List.of("d026", "e230", "b63d", 0, 5834, 0, false, false, false, "af7f", "d4a1", 304, 4, false, true));
+m2_table03.put(List.of("be71", "ff38", "a27f", 25, 0, 85, true, false, true, "bf32", "fe76", 8, 0, true, false));
+m2_table03.put(List.of("b110", "bb36", "c5d6", 479, 2244, 163, true, true, true, "d6e2", "c7d5", 4, 21510, true, true));
+m2_table03.put(List.of("b3c5", "c21e", "a990", 0, 59, 1, false, true, true, "cbaa", "b1a8", 5, 0, true, true));
+m2_table03.put(List.of("fd12", "ef4c", "e214", 0, 20, 0, true, true, true, "b2450", "d643", 16, 0, false, true));
+m2_table03.remove("aeaf");
+m2_table03.put(List.of("ede3", "a5bc", "bb8e", 0, 13421, 27, true, true, false, "c957", "dc7d", 430, 0, false, true));
+m2_table03.put(List.of("bbfb1", "bcdc", "f9f1", 0, 1, 4138, false, true, false, "a728", "a855d", 2526, 0, false, false));
+m2_table03.get("ee0c2");
+m2_table03.get("a787");
+m2_table03.put(List.of("c90d", "b2bc", "b007", 3, 19424, 8, true, true, true, "f6aa", "d3df", 62, 0, false, false));
+m2_table03.put(List.of("c95d", "f52f", "e735", 0, 34, 0, true, false, true, "f6cf", "f1d6", 3, 0, true, true));
+m2_table03.put(List.of("ee81", "fe4c", "b5bf", 0, 1, 771, false, false, true, "a1ef", "a2de", 1478, 46, false, true));
+m2_table03.put(List.of("bcd1", "a8e9", "b682", 31, 323, 2, true, true, true, "b80f", "ecd7", 14979, 269, true, true));
+m2_table03.get("d1f5");
+m2_table03.get("fce88");
+m2_table03.put(List.of("da1d", "eb08", "dd2a", 3496, 0, 73, true, true, true, "d7ae", "cc29", 0, 0, false, false));
+m2_table03.put(List.of("b3b9", "e415", "aa8a", 6559, 25011, 25208, true, false, false, "a3d2", "a955", 1360, 9447, false, false));
+m2_table03.get("ba14");
+m2_table03.remove("ec0b");
+m2_table03.remove("a3a6c");
+m2_table03.put(List.of("f26f", "bf22", "b3e1", 11, 0, 0, false, false, true, "c801", "b3af", 12, 0, true, false));
+m2_table03.put(Arrays.asList("c62d", "bcfd", "b1e4", 3, 18229, 3, null, true, false, "c392", "bccd", 1192, 0, true, false));
+m2_table03.put(List.of("ddc8", "c2ab", "a834d", 308280, 0, 0, false, false, true, "e99c", "e34a", 9051, 0, true, false));
+m2_table03.put(List.of("ab6a", "f82", "d760", 0, 0, 31375, false, true, true, "edc9", "b9d5", 96431, 1, true, false));
+m2_table03.put(List.of("fcac", "a721", "a9c23", 124479, 14, 0, false, false, false, "d61f", "b83d", 0, 70, false, false));
+m2_table03.put(List.of("afc9", "b64c", "f0f7e", 0, 108, 0, false, false, false, "a597", "fed8", 961, 1572, false, true));
+m2_table03.put(List.of("edfb", "b43e", "b2cb", 0, 190210, 125, true, true, false, "b3d7", "bc37", 372, 164, true, true));
+m2_table03.remove("bc7d");
+m2_table03.put(List.of("b1b0", "d435", "cf1b", 120191, 5, 0, true, true, true, "bb04", "a552", 0, 5, true, true));
+m2_table03.put(Arrays.asList("dd77", "f706", "f9b0", 14, null, 357671, false, true, false, "b614", "cfe5", 2356, 3, false, true));
+m2_table03.put(List.of("b308", "d2ae", "a64b", 121, 121, 13, true, true, false, "ff87", "bc8d", 28, 48, true, true));
+m2_table03.put(List.of("e3ee", "ddc9", "fbbb", 9012, 1, 0, false, true, true, "ca1a", "db0f", 0, 16, false, false));
+m2_table03.put(List.of("dd0d", "ed70", "f67a", 32, 5515, 176350, false, false, true, "dfd6e", "cc7a", 0, 0, true, false));
+m2_table03.remove("bc7f");
+m2_table03.put(List.of("fef2", "aec1a", "f8c7", 0, 1107, 0, true, false, true, "d22", "b336", 8829, 60, false, false));
+m2_table03.put(List.of("af29", "b114", "a7ee7", 0, 180, 0, false, true, false, "af345", "b4aa", 349, 1, false, true));
+m2_table03.put(Arrays.asList("d29d", null, "e64c", 49, 0, 0, false, false, true, "a7e7f", "b7c7", 2, 0, true, true));
+m2_table03.put(List.of("d24b", "d759", "d450", 0, 170, 20442, false, false, false, "d259", "ea86", 6434, 337, true, false));
+m2_table03.put(List.of("d217", "a4d5", "b1f0", 30, 0, 13, false, false, false, "afb5", "cb8c", 3, 375, false, false));
+m2_table03.put(List.of("b231", "b5e7", "aa9c", 716, 208, 250, false, false, true, "a29a", "d8ea", 130, 15, true, false));
+m2_table03.remove("ccd2");
+m2_table03.put(List.of("c47c", "c32e", "d52f", 0, 0, 46098, false, false, true, "de27", "c912", 0, 538, true, true));
+m2_table03.put(List.of("e91a", "a066", "cac0", 40, 3, 0, true, false, true, "b62a", "bc155", 0, 81, false, false));
+m2_table03.put(List.of("cea8", "bcd5", "c606", 12, 0, 10030, false, false, true, "a894", "d557", 34, 70, false, true));
+m2_table03.remove("ac72");
+m2_table03.remove("f477");
+m2_table03.put(List.of("c368", "e8ff", "c49f", 38588, 0, 0, true, false, false, "a0d4", "a117", 3, 101642, true, true));
+m2_table03.put(List.of("de4", "f3a9", "cfac", 0, 3706, 6086, true, true, false, "c769", "c109", 0, 0, false, true));
+m2_table03.put(List.of("dbd0", "b2e5", "eebb", 59, 7107, 0, true, false, true, "f261", "e7af", 16537, 0, false, false));
+m2_table03.put(List.of("fcbd", "e6ba9", "a8e5", 6184, 12954, 279, true, false, true, "b9d0", "b495", 0, 138, true, false));
+m2_table03.put(Arrays.asList("d33e", "b431", "c6ec", 1308, null, 0, true, false, false, "f609", "dc7f", 0, 0, true, true));
+m2_table03.put(List.of("c6e7", "b1e3", "a62b", 2, 184, 0, false, false, false, "d5d9", "d311", 117521, 15, true, false));
+m2_table03.put(List.of("d732", "b944", "fdc2", 114, 3130, 17, true, false, true, "dbd7", "cbdd", 5, 24, false, true));
+m2_table03.put(List.of("a486", "ce8a", "c630", 0, 0, 0, true, true, true, "ac33", "ce27c", 0, 16604, false, false));
+m2_table03.put(List.of("ed13", "f6b0", "e33d", 0, 72, 16, false, false, false, "e6c6", "f1b8", 2434, 0, true, false));
+m2_table03.put(List.of("ecb5", "e83a", "a54c", 0, 7, 6179, false, true, true, "ef3b", "b87d", 0, 4593, false, false));
+m2_table03.get("c9dd");
+m2_table03.remove("d8b0");
+m2_table03.remove("b3d96");
+m2_table03.put(List.of("cefc", "ab7c1", "a7bf", 0, 82, 188, true, false, true, "a89e", "cfe6", 0, 123018, false, true));
+m2_table03.remove("fd6d");
+m2_table03.put(List.of("f486", "abeba", "ac0e", 0, 0, 0, true, false, true, "cf6d", "a8c4", 20892, 23915, true, true));
+m2_table03.put(List.of("dd9", "c5de", "c4e3", 0, 404, 1273, false, true, true, "c930", "bfbc", 144, 0, true, true));
+m2_table03.put(List.of("c385", "b2e4", "a3795", 0, 85, 0, true, false, false, "cca3", "bbfb", 1106, 176854, true, true));
+m2_table03.put(List.of("b7d3", "eb54", "a773", 8, 538, 36, true, true, true, "cb51", "dc66", 87, 3498, false, false));
+m2_table03.remove("a6ca4");
+m2_table03.put(List.of("e199", "cf55", "c9b36", 41, 2815, 25, true, false, false, "ebba", "b2d4", 0, 0, false, true));
+m2_table03.put(List.of("ab6b", "d69", "eb90", 1, 0, 1000, false, false, false, "e91c", "e6f6", 2481, 5, true, true));
+m2_table03.get("c0c0");
+m2_table03.put(List.of("b2d9", "fdbc", "d844", 0, 0, 157013, false, false, true, "ed9f", "be65", 566, 0, true, true));
+m2_table03.put(List.of("d2f2", "a772", "a0c11", 36, 13, 8985, false, true, false, "ac58", "e0fa", 26, 69, true, false));
+m2_table03.remove("d9bf");
+m2_table03.put(Arrays.asList("c8d53", "e90ae2", "a964", 465, 55, 0, true, true, null, "fcd5", "c262", 1, 0, true, false));
+m2_table03.put(List.of("bfae", "e16f", "ad4a", 5, 43, 63, false, false, false, "b0de", "cbf95", 0, 0, false, true));
+m2_table03.put(List.of("b9e5", "c20d", "cf0de", 7534, 0, 13, false, false, false, "ba67", "bbdf", 0, 3, true, true));
+m2_table03.remove("a037");
+m2_table03.put(List.of("f95a", "aae1", "ca76", 109092, 9, 2, true, false, false, "fdb6", "bd0b", 0, 3153, false, true));
+m2_table03.put(List.of("fcf4", "cd06", "bf62", 0, 15, 0, true, false, true, "a206", "b6b1", 8971, 571, false, true));
+m2_table03.get("ae10");
+m2_table03.remove("e2cb");
+m2_table03.put(Arrays.asList("cf94", null, "c867", 26, 0, 36, false, false, true, "b702", "a1a1", 2, 0, false, true));
+m2_table03.put(List.of("db58", "d7e5", "e2ad", 0, 0, 0, true, true, false, "b99a", "d223", 0, 0, false, true));
+m2_table03.get("dccf");
+m2_table03.remove("b135");
+m2_table03.put(List.of("b046", "a091", "b2be", 141, 22, 0, true, false, false, "fcb0", "ac93", 11, 1316, false, true));
+m2_table03.remove("daeb");
+m2_table03.put(List.of("cd3e", "b0b3", "ab65", 0, 208, 0, false, false, true, "c4aa", "edd5", 0, 154, true, false));
+m2_table03.remove("d2d2");
+m2_table03.put(List.of("b834", "aaa0", "bc25", 6464, 145, 0, false, false, true, "c875", "c108", 4891, 0, true, false));
+m2_table03.remove("d24c");
+m2_table03.put(Arrays.asList("b00b6", "c1d7", "c948", 176, 0, null, false, true, true, "a953", "a5a0", 2404, 3061, true, true));
+m2_table03.put(List.of("b856", "ab39", "a263e", 5466, 0, 3, false, false, true, "f349", "a32f", 0, 136782, false, false));
+m2_table03.put(List.of("c849", "febe", "b61b", 2708, 0, 0, true, true, false, "d21c", "ac08", 885, 1465, false, false));
+m2_table03.put(List.of("a7bc", "f85c", "c8333", 0, 1, 230381, true, false, false, "b1c3", "b241", 0, 8492, false, true));
+m2_table03.put(Arrays.asList("b8aea", "baec", "cf1a", 0, 582, null, true, true, true, "e3e1", "a1fc", 0, 0, false, true));
+m2_table03.put(List.of("f79", "ac41", "db00", 0, 9809, 0, true, false, false, "b764", "d947", 2160, 0, false, true));
+m2_table03.put(List.of("a710d", "a12b", "c436", 96, 15280, 379, true, false, false, "b7a0", "eb01", 0, 3195, false, true));
+m2_table03.remove("a8a4c");
+m2_table03.remove("a108");
+m2_table03.put(List.of("b4d2e", "ad13", "cd99", 0, 0, 3628, true, false, true, "b04f", "a324", 1485, 2515, false, false));
+m2_table03.put(List.of("cf33", "b09d", "cde6", 0, 0, 0, true, false, true, "a524", "bf1b", 1275, 65, false, true));
+m2_table03.put(List.of("b22c", "ade2", "a9a7d", 3474804, 0, 0, false, false, false, "aede", "a8aa", 2730, 1, false, true));
+m2_table03.put(List.of("eaeb", "ad509", "d618", 282, 17752, 3909, true, false, false, "ac115", "d6395", 0, 872, false, false));
+m2_table03.get("a605");
+m2_table03.put(Arrays.asList(null, "fecbb", "fc66", 5, 0, 0, true, false, false, "b97c", "ef94", 13471, 5, false, false));
+m2_table03.put(List.of("bc0b", "da37", "d03c", 0, 70, 2748, false, true, false, "b8be", "af7a", 7, 0, true, false));
+m2_table03.put(List.of("b63a", "c6df", "d473", 0, 192, 9542, false, true, true, "e107", "c8a7", 2, 279, true, false));
+m2_table03.get("f8cd");
+m2_table03.put(List.of("ce47", "f452", "a913", 3, 591, 0, true, false, true, "f6d5", "a5e5", 872, 3, false, false));
+m2_table03.put(List.of("fd22", "ebc5", "cfa0", 0, 0, 0, true, true, false, "a5ec", "d033", 0, 1414, true, true));
+m2_table03.put(List.of("d3ff", "c8fe", "fd1c", 0, 0, 2, true, false, true, "ba5a", "a1cf", 0, 3, true, false));
+m2_table03.put(List.of("bb2a", "a1b9", "e268", 29, 1534, 27, true, false, false, "ae72", "d01b", 0, 242, true, true));
+m2_table03.put(List.of("a50e", "a4e9", "ab74", 0, 0, 0, true, false, false, "e1dbd", "d977", 745, 7, true, false));
+m2_table03.get("c573");
+m2_table03.put(List.of("dd1b", "b347", "d208", 0, 13437, 0, false, true, false, "cde0", "ed9b", 0, 0, true, false));
+m2_table03.put(List.of("ef7d", "eef7", "a4fc8", 3157, 0, 412, true, true, true, "b80d", "ca82", 49, 0, true, true));
+m2_table03.put(List.of("c088", "dd62", "d372", 0, 0, 0, false, true, false, "a2ee", "a5fb", 0, 46, false, true));
+m2_table03.get("c0c6");
+m2_table03.put(List.of("b955", "c273", "c834", 4, 620486, 0, false, true, true, "c778", "a119", 556, 52, false, true));
+m2_table03.put(List.of("b3f0", "f654", "cede", 0, 1239, 17191, true, true, true, "bec0", "c68c", 0, 63, true, false));
+m2_table03.put(Arrays.asList("cd0a", "e9bb", "abf38", 0, 26666, 0, true, false, true, "f1ab", null, 152, 22966, false, false));
+m2_table03.put(List.of("ca4b", "a26a", "ee21", 1, 0, 0, false, true, true, "dbb38", "acf8", 1, 3, false, true));
+m2_table03.put(List.of("cebd", "b40c", "bea2", 0, 17, 569, true, true, false, "d22d", "bce2", 2, 202, false, false));
+m2_table03.put(List.of("ff9c", "c62a", "e812", 8, 1, 62, true, false, true, "dbf1", "ed51d", 163, 76, false, true));
+m2_table03.put(List.of("b798", "db1f", "b48b", 1, 0, 0, true, false, false, "c6f3", "d37c", 0, 0, false, true));
+m2_table03.remove("dcfd");
+m2_table03.put(List.of("fad9", "c05c", "cc4b", 0, 97, 15, false, true, false, "f44c", "af93", 195, 331, false, false));
+m2_table03.put(Arrays.asList("afc", null, "a8f2", 315652, 1108, 0, false, true, false, "f0a3", "bd59", 0, 0, true, false));
+m2_table03.put(Arrays.asList("bf76", null, "ad87", 711, 170659, 3, true, true, true, "d09f", "b773", 109475, 0, true, false));
+m2_table03.remove("a4ff");
+m2_table03.put(List.of("aef7", "ab9d", "e0b6", 0, 0, 5, false, false, true, "ab90", "d034", 5792, 4452, true, false));
+m2_table03.put(Arrays.asList(null, "f8b2b", "a673", 0, 21796, 1, true, true, false, "b44f", "a91d", 964, 202, false, false));
+m2_table03.put(List.of("c8f6", "c3e2", "c622", 0, 70, 1, false, false, false, "a9aa", "dc60", 0, 0, false, false));
+m2_table03.remove("f780");
+m2_table03.put(Arrays.asList("a641", "b21f", "b4f2", 11, 0, 43, false, false, null, "a1ed", "f5c4", 3000, 3149, false, true));
+m2_table03.remove("acb7ca");
+m2_table03.remove("cdd2");
+m2_table03.put(List.of("b549", "b8b2", "a142", 0, 0, 1507212, true, true, true, "c79f", "bacc", 480, 13634, false, false));
+m2_table03.put(List.of("ad6d7", "a9d5", "bc31", 6100, 0, 2, false, true, false, "a121", "ea5d", 0, 7, true, true));
+m2_table03.put(List.of("c933", "ac98", "d8ce", 0, 56391, 0, true, false, false, "ce3b", "abae", 47, 14, true, true));
+m2_table03.remove("f61e");
+m2_table03.put(List.of("f22e", "da08", "e736", 0, 3, 0, false, true, true, "bc73", "d070", 228, 1, true, false));
+m2_table03.remove("d5f7");
+m2_table03.put(List.of("fd52", "a2f9", "e340", 7, 0, 136798, true, false, true, "fd0a", "b090", 0, 60, false, false));
+m2_table03.put(List.of("f2e5", "da43", "d4d7", 173, 663, 0, false, false, false, "d765", "ee29", 2317, 0, true, true));
+m2_table03.put(Arrays.asList("b3b8", "f2b3", "b45c", 86, null, 0, false, true, true, "f0d0", "c931", 606, 0, true, false));
+m2_table03.put(List.of("a90d", "fb24", "f34d", 0, 0, 2933, true, true, true, "a0bf", "eb61", 0, 18, true, true));
+m2_table03.put(Arrays.asList(null, "b4db", "b8f7", 32601, 351, 16570, false, true, true, "cd7a", "c973", 41777, 575, false, false));
+m2_table03.remove("a80e");
+m2_table03.put(List.of("e75b", "cefd", "ae68", 1, 74, 0, true, false, false, "b8f9", "cf53", 10957, 0, true, true));
+m2_table03.remove("d317");
+m2_table03.remove("fe82");
+m2_table03.put(List.of("c2dc", "b4e0", "cd6c", 40, 0, 4, true, false, false, "df02", "bc10", 0, 134, false, true));
+m2_table03.put(List.of("d252", "b918", "f245", 0, 3, 1, true, true, true, "fe12", "dd30", 0, 2818, true, true));
+m2_table03.remove("ea1e");
+m2_table03.put(List.of("c8e3", "c263", "b684", 15, 32, 129, false, false, false, "b7b1", "bab8", 2508, 6, false, true));
+m2_table03.put(List.of("c5a9", "e377", "b62b", 0, 0, 6, true, false, true, "bf26", "ba981", 63, 0, true, true));
+m2_table03.remove("a286");
+m2_table03.remove("b32a");
+m2_table03.put(List.of("ee20", "a22f2", "de32", 0, 27475, 146, true, false, true, "ffd9", "ed5c", 0, 416, true, false));
+m2_table03.get("f9fa");
+m2_table03.put(List.of("f4ad", "ae55", "db99", 13, 5, 0, true, false, true, "ec42", "d9be", 1, 0, true, true));
+m2_table03.get("b1de");
+m2_table03.put(List.of("c6dd", "e7d9", "bc68", 1540, 20504, 0, true, false, true, "b8ee", "c1ad", 0, 17, false, true));
+m2_table03.put(Arrays.asList("d7aa", "ab36", "fac6", 0, 0, 15968, false, true, true, "cb9f", "ea0e", 335, null, true, false));
+m2_table03.get("b919");
+m2_table03.put(List.of("b8db", "e52d", "f0b8", 67, 16, 0, false, false, true, "b4bf", "b437", 95, 0, false, false));
+m2_table03.put(List.of("da95", "a52b", "f015", 100, 20, 29, false, false, false, "d1e3", "df2b", 169, 2, true, false));
+m2_table03.put(List.of("fe79", "aa47", "d16e", 5, 0, 5087, true, false, true, "ad462", "d39b", 2, 0, false, false));
+m2_table03.put(List.of("d29a", "b5d0", "e5c9", 218, 232, 0, false, false, false, "a450", "d3cb", 8721, 0, true, true));
+m2_table03.put(List.of("e4f7", "a225", "dbeb", 15, 31686, 0, true, true, false, "c032", "a4c7", 923, 1078, true, true));
+m2_table03.remove("f7d");
+m2_table03.remove("abc2a");
+m2_table03.put(List.of("c0b5", "c3a7", "e82", 6, 3, 4, false, true, false, "e811", "b203", 24, 232, false, true));
+m2_table03.get("b4c5");
+m2_table03.put(List.of("ce05", "c884", "e2b1c", 11, 68, 0, true, true, true, "f68e", "e9081", 0, 0, false, false));
+m2_table03.get("a895");
+m2_table03.remove("c43e");
+m2_table03.put(List.of("a2c9", "f58b5", "b97ed", 0, 1, 210, false, false, true, "c2a1", "e9df", 1307, 16531, false, true));
+m2_table03.put(List.of("a19a", "a502", "ce91", 87, 5, 0, true, true, true, "dbe2", "b5d3", 0, 2, true, false));
+m2_table03.remove("b8bb");
+m2_table03.put(List.of("b78e", "b6a3", "cfe9", 2510, 85, 19437, false, true, true, "c31f", "c97b", 0, 0, true, true));
+m2_table03.put(List.of("be10", "e50a", "e6e1", 3, 2873, 12, false, true, true, "b6bb", "b0fc", 1018, 3375, false, false));
+m2_table03.put(List.of("af28", "a62f0", "b2a6", 10, 0, 12020, false, false, false, "e938", "e93a", 136, 382, false, true));
+m2_table03.put(List.of("e8df", "d634", "af962", 71, 91428, 0, false, false, true, "e723", "c518", 0, 10226, false, false));
+m2_table03.put(List.of("b04b", "a5c6", "a765", 0, 0, 0, true, true, false, "ac1b", "e7cf", 0, 0, false, false));
+m2_table03.put(List.of("d73a6", "b573", "bcd8", 0, 0, 0, false, true, false, "bc76", "fc88", 250, 24, true, false));
+m2_table03.get("adb7");
+m2_table03.remove("f4ac");
+m2_table03.put(List.of("e4e8", "dcf3", "a9af", 249662, 9774, 3960, false, true, true, "db1d", "f917", 28, 0, false, false));
+m2_table03.put(Arrays.asList("f55", "e0c5", "be54", 8, 845, 768, true, false, true, "a243", "be2a", 436, 44, false, null));
+m2_table03.put(List.of("a362", "bb23", "b152", 0, 0, 5, false, false, false, "bd90", "e5a6", 49, 9725, false, false));
+m2_table03.put(List.of("cfe3", "ea26", "b479", 414, 0, 0, true, false, false, "c9b9", "d303", 0, 0, false, false));
+m2_table03.put(List.of("c673", "bad6", "ea99", 4590, 145303, 524, false, true, false, "c1b7", "f860", 893, 122, true, true));
+m2_table03.put(List.of("dcf7", "d81b", "e788", 2332, 0, 1353, true, true, false, "f611", "abdc", 21153, 4, false, false));
+m2_table03.remove("e341");
+m2_table03.remove("e860");
+m2_table03.put(List.of("d1fe", "d9d7", "e0a2", 0, 0, 0, true, true, false, "c943", "ba63", 144, 0, true, false));
+m2_table03.put(List.of("e6072", "a745", "be39", 64180, 31588, 10, true, false, false, "c6ac", "c266", 30, 0, false, false));
+m2_table03.get("d869");
+m2_table03.remove("ea7e");
+m2_table03.put(List.of("bd23", "fff3", "c601", 0, 0, 0, false, true, false, "cbb7", "ccc1", 0, 5, true, true));
+m2_table03.put(List.of("eafc", "a58d", "a4b9", 0, 60337, 266, false, false, false, "b613", "a723", 0, 0, true, true));
+m2_table03.put(List.of("fba0", "e852", "ab589", 21, 0, 20, true, false, false, "bc04", "ba6a", 20, 6845, false, true));
+m2_table03.get("aedb");
+m2_table03.put(Arrays.asList(null, "ac16", "ca18", 509, 20, 279, false, false, true, "e99c4", "d28a", 9883, 14, true, true));
+m2_table03.put(List.of("f0fe0", "bb1a", "c34c", 0, 269, 0, true, true, true, "c329f", "e6b7", 39, 1612, false, false));
+m2_table03.put(List.of("a8bb", "ba09", "ca42", 6648, 1421, 5, false, true, false, "fb0b", "e5d2", 0, 0, false, false));
+m2_table03.put(List.of("ceb48", "c7df", "b2b4", 0, 1, 1, false, true, true, "cdbb", "e587", 0, 82900, true, true));
+m2_table03.get("d07a");
+m2_table03.remove("e553");
+m2_table03.put(List.of("ed59", "c537", "afb0", 4, 0, 4, true, false, false, "c483", "bf3c", 0, 6315, true, false));
+m2_table03.put(List.of("b1464", "c207", "e1f0", 6, 460, 2, false, true, false, "bb3f", "c0e5", 7, 0, false, true));
+m2_table03.get("dc4f");
+m2_table03.put(List.of("cc450", "bf594", "a2fe", 64, 0, 0, false, false, true, "b52c", "a5a3", 2624, 945, true, false));
+m2_table03.put(List.of("a5a5", "a8cdf", "a354", 277, 0, 229, true, false, false, "bba7", "ccfa", 8, 0, true, true));
+m2_table03.put(List.of("ed04", "cc4a", "c1137", 0, 0, 23494, true, true, true, "e919", "c252", 10, 0, true, false));
+m2_table03.put(List.of("e4a6", "fef7", "faeed", 1038, 1, 184, false, false, false, "bd51", "bac91", 0, 365, true, true));
+m2_table03.put(List.of("f012", "abf6", "fab", 0, 52, 0, true, true, true, "bede", "c50e", 395, 0, false, false));
+m2_table03.remove("b941");
+m2_table03.put(Arrays.asList("fd101", "c435", "d6c1", 8, 0, null, false, false, false, "ee0a", "ae7d", 55, 6978, false, true));
+m2_table03.put(List.of("b17fb", "f118", "e77e", 39497, 1, 0, false, true, true, "f5570", "f12e", 108, 836, true, false));
+m2_table03.put(List.of("cdd0", "c815", "b41b", 1522, 77, 0, false, false, true, "a83d", "c9c8", 4, 499, true, true));
+m2_table03.put(List.of("b29e", "b77c", "a1a0", 12, 2, 46, false, true, false, "a42b1", "ea0a", 12, 0, false, true));
+m2_table03.put(List.of("c2b7", "f258", "ab4a", 7, 88, 0, true, true, true, "ab58", "aa882", 0, 0, true, true));
+m2_table03.remove("cb3f");
+m2_table03.remove("d56a");
+m2_table03.put(List.of("ff95", "b754", "c901", 81, 8, 0, true, true, true, "b18e", "bb82", 0, 114, false, true));
+m2_table03.remove("fb043");
+m2_table03.put(List.of("b29c", "b248", "b345", 0, 0, 19, true, true, false, "c8ad", "a6ba", 0, 0, false, false));
+m2_table03.get("cdf2");
+m2_table03.put(List.of("bc87", "a76b", "fcfc", 4, 6539, 0, true, true, true, "bfef", "b5bb", 105, 0, false, true));
+m2_table03.put(List.of("cb56", "b002", "c357", 4598, 3, 13198, false, false, false, "bf91", "fc71", 10, 0, false, false));
+m2_table03.put(Arrays.asList("d6e9", "a28e", "c248", 209, null, 0, true, false, false, "d98c", "cdf1", 19831, 152, false, true));
+m2_table03.remove("cf47");
+m2_table03.put(List.of("c054", "f111", "c8fb", 19931, 0, 1, true, false, false, "a38b", "d930", 0, 0, true, false));
+m2_table03.put(List.of("a333", "e7de", "c213", 693, 0, 2907, true, false, true, "a8c8", "fc69", 506, 0, false, true));
+m2_table03.put(List.of("acfe", "f28b", "cd6e", 11, 1670, 0, false, true, true, "ba23", "f265", 7, 0, true, false));
+m2_table03.put(List.of("c05d", "e55d0", "da6d", 1390, 5736, 0, true, true, false, "e122", "de44", 0, 0, false, false));
+m2_table03.put(List.of("c754", "a6b2", "a303", 0, 0, 197, false, true, false, "c4dd", "b148", 364, 1, true, false));
+m2_table03.remove("dd12");
+m2_table03.put(List.of("a6b0", "b695", "b2552", 0, 72, 1690, true, true, false, "b82f", "b782", 0, 43, false, true));
+m2_table03.put(List.of("b7eb", "e9af", "a5e0", 0, 5, 26, false, false, true, "abd8", "d1a8", 5, 251, false, true));
+m2_table03.remove("c663");
+m2_table03.put(List.of("c2df", "bb5c", "c3d3", 0, 256, 24, true, true, true, "bb88", "a436", 2109, 0, false, true));
+m2_table03.remove("a8425");
+m2_table03.put(List.of("e668", "d8a2", "ca34", 0, 9, 73167, false, false, true, "b4d1", "ac1e", 0, 0, false, false));
+m2_table03.put(List.of("f535", "b99e", "f83a", 24, 6164, 2, false, false, false, "b0c6", "be80", 41, 21685, true, false));
+m2_table03.put(List.of("a5d7", "cf5a", "c48c", 129, 336, 0, false, true, true, "bd61", "bb0b", 0, 0, false, false));
+m2_table03.get("ec93");
+m2_table03.put(Arrays.asList("a0fd", "a248", "f58e", 3, 0, 0, true, true, true, "c251", "e950", 715, 0, true, null));
+m2_table03.put(List.of("f3c7", "ffb5", "f533", 72903, 2043, 0, true, true, false, "bd5b", "ea8f", 0, 3, true, true));
+m2_table03.put(List.of("b5b3", "e7a5", "d8f3", 554, 0, 364, true, true, false, "fccb", "b751", 0, 55, false, true));
+m2_table03.put(List.of("ebd3", "e436a", "b466", 0, 0, 50, false, false, true, "fa01", "d35b", 95, 0, true, true));
+m2_table03.put(List.of("bb73", "bf92", "a3e42", 5016, 221, 7, true, true, false, "a87a", "bc0f7", 22086, 0, true, true));
+m2_table03.put(List.of("b461", "a0fa", "e634", 616, 0, 0, false, true, false, "e4df", "b526", 0, 1293, true, true));
+m2_table03.remove("a478");
+m2_table03.put(List.of("f51b", "c591", "ec6a", 1015, 0, 0, true, false, true, "e260", "aa7c3", 0, 1337, false, true));
+m2_table03.put(List.of("fef4", "cf9f", "b6f9", 68, 0, 6, false, true, true, "aa75", "b735", 0, 0, true, false));
+m2_table03.get("d503");
+m2_table03.put(List.of("b663", "aaef", "ebdd8", 0, 0, 5, false, true, false, "bc822", "d462", 64, 0, true, false));
+m2_table03.put(List.of("ef5c", "d3dc", "f965", 4, 0, 57, false, false, true, "b17f", "db52", 5, 36, false, false));
+m2_table03.put(List.of("b47f", "bd4f", "ddbe", 3, 0, 0, false, false, true, "e263", "db78", 0, 129, false, false));
+m2_table03.put(Arrays.asList("c3e9", null, "b41a", 22, 230, 101, null, false, false, "bf51", "a28a", 18, 184, false, true));
+m2_table03.put(List.of("dd7d", "fd6dc", "df0b", 0, 751, 0, false, true, true, "b758", "add6", 81333, 1, false, true));
+m2_table03.put(List.of("baf5", "d182", "bf57", 3, 0, 156, false, true, false, "bfd0", "dc7e", 0, 2060, false, false));
+m2_table03.remove("fac3");
+m2_table03.remove("bef4");
+m2_table03.put(List.of("aff5c", "b0d0", "b9fe", 3, 28, 13, true, true, true, "a758", "f316", 0, 4287, false, false));
+m2_table03.put(List.of("a7d5", "ec25", "c9e5", 5, 82, 9, true, false, false, "e9f2", "ee4d", 0, 438, true, false));
+m2_table03.remove("caf6");
+m2_table03.put(List.of("df7ef", "b34f", "d02e", 78263, 744, 481, true, true, true, "e89c", "ff1b7", 938, 305, false, false));
+m2_table03.put(List.of("c238", "c2e0", "e564", 0, 322, 0, false, true, true, "c10f", "b25d", 4262, 0, true, true));
+m2_table03.remove("d0d7");
+m2_table03.get("b044");
+m2_table03.put(List.of("a3c2", "a7d1", "a9855", 82, 0, 2105, false, false, false, "de58", "bb60", 0, 10976, true, true));
+m2_table03.put(List.of("d7d9", "b182", "f4fc", 0, 0, 0, true, true, true, "c4a08", "cfa6", 0, 1, true, false));
+m2_table03.put(List.of("d43b", "d2c04", "be99", 0, 19, 0, false, true, false, "bafd", "a021", 117, 49, true, false));
+m2_table03.remove("d025");
+m2_table03.put(List.of("b1a3", "f62f", "b533", 1, 0, 4, false, false, false, "ac6c", "a57e", 5, 0, false, true));
+m2_table03.put(List.of("fdd0", "b3dc", "aeb2", 32, 0, 2, false, true, true, "af64", "a3baf", 1, 0, false, false));
+m2_table03.get("ef70");
+m2_table03.put(List.of("cf29", "a129f", "b44a", 0, 290, 7824, false, true, false, "c7a4", "c4a0", 0, 0, false, false));
+m2_table03.put(List.of("c208", "b387", "a162", 4418, 0, 0, true, true, true, "b115", "c1d5", 1, 0, true, false));
+m2_table03.put(List.of("d306", "c03d", "e23e4", 19, 1189, 0, false, false, true, "e422", "b2d7", 113, 0, false, true));
+m2_table03.remove("cccf");
+m2_table03.get("cecef");
+m2_table03.put(List.of("b9a6", "d7f6", "cb50", 68, 0, 0, false, true, false, "e417", "d891", 0, 19, true, false));
+m2_table03.put(List.of("e556", "c098", "a508", 0, 23, 0, true, true, false, "c4c38", "af13", 187, 0, false, true));
+m2_table03.put(List.of("a15d5", "f964", "e969", 0, 0, 0, false, false, true, "d82a", "b5632", 42, 0, false, true));
+m2_table03.put(List.of("fb97", "d6e3", "a57b", 1, 29, 0, true, false, true, "cf07", "c216", 0, 0, false, true));
+m2_table03.put(List.of("bbeb", "a6aa", "ac44", 161, 35459, 2, false, false, false, "fa68", "aa898", 0, 11, true, false));
+m2_table03.get("a0bc");
+m2_table03.put(List.of("f48f", "ef52", "cb22", 2506, 0, 14, false, true, false, "edf6", "b531", 1016, 0, false, true));
+m2_table03.put(List.of("a325", "d585", "e0ed", 0, 67, 46, false, false, false, "bc2a", "ce3d", 0, 19, true, false));
+m2_table03.put(List.of("fe6f", "b1d1", "c959", 148, 3172, 0, true, false, false, "a000", "c50b", 0, 0, true, true));
+m2_table03.put(List.of("a081", "cdc31", "ad80", 8, 0, 0, true, true, false, "ec63", "e976", 80, 0, false, false));
+m2_table03.put(List.of("d586", "ff8b", "ef8f", 232, 0, 4, true, false, true, "d116", "bbea", 1065465, 492, false, true));
+m2_table03.put(List.of("b4ef", "fd79", "c2e1", 3, 0, 0, true, true, false, "bb37", "bd5f", 0, 0, false, false));
+m2_table03.put(List.of("ce41", "feca6", "f8fd", 30, 576, 0, false, true, false, "c5e1", "a914", 13, 0, false, false));
+m2_table03.put(List.of("cc5b", "b4f0", "da02", 0, 1, 64416, true, true, false, "d2c5", "d0ff", 1316, 0, false, false));
+m2_table03.put(List.of("ccb0", "ad66", "bf1f", 0, 7542, 0, false, true, false, "a73e", "ab71", 420, 11, false, false));
+m2_table03.put(List.of("c8dc", "a489", "f07a", 2834, 3, 5, true, false, true, "e2458", "e0d9f", 0, 0, false, true));
+m2_table03.put(List.of("f85e", "c2221", "d20b", 79, 130, 4124, true, false, true, "dafd", "d5ff", 0, 1509, true, true));
+m2_table03.put(List.of("ff03", "a9ed", "fad0", 1228, 176, 59, true, false, true, "b7ec", "df3c", 504, 7, true, true));
+m2_table03.put(Arrays.asList("bb99", null, "c449", 515, 4, 1, true, false, false, "a98d", "cdde", 1, 31, true, true));
+m2_table03.put(Arrays.asList("c9e1", "a0ff", "a59e", null, 431, 3018, true, false, true, "af572", "dcd9", 33, 0, false, false));
+m2_table03.put(List.of("aab1", "a1d8", "a0c3", 2, 0, 2151, true, false, false, "fbb2", "ced4", 658, 0, false, false));
+m2_table03.put(List.of("abcba", "a8568", "d75b", 4471, 1120, 0, false, false, false, "e0c8", "afce5", 0, 0, true, true));
+m2_table03.put(Arrays.asList("d3ee", "d624", "b1bd", 0, 0, 27828, false, true, true, "d1be", "dfad", 0, 0, true, null));
+m2_table03.remove("a1bc");
+m2_table03.put(List.of("a747", "f091", "d9ba", 0, 177, 0, true, false, true, "cc04", "e3071", 0, 349, false, true));
+m2_table03.put(List.of("d408", "b101", "b7cd", 13, 4074, 23, false, true, true, "f28a", "d6c5", 0, 0, true, true));
+m2_table03.put(Arrays.asList("f397", "e12d", "b96f", 37, 0, 0, true, true, true, "fcfe", "bafb", 0, 35225, true, null));
+m2_table03.put(List.of("d86b", "d7ff", "ab6d", 16, 0, 5366, true, true, true, "cab9", "e0cc", 4368, 28, false, true));
+m2_table03.remove("d007");
+m2_table03.put(List.of("c510", "c4f2", "d358", 104, 0, 2, true, true, true, "c93a", "b538", 88, 0, true, true));
+m2_table03.put(Arrays.asList("b8e9", "cc78", "a2fb", 2005, 4, 2, true, false, true, "a7ef", "aee8", null, 0, false, false));
+m2_table03.put(List.of("c8a4", "fb51", "ed96", 59, 113, 2, false, true, true, "a332", "a36b", 0, 0, true, true));
+m2_table03.put(List.of("c11f", "e555", "dbf7", 0, 448, 0, true, true, true, "aa08", "b386", 1559, 183979, true, false));
+m2_table03.remove("b289");
+m2_table03.put(List.of("e47cd", "ce3c", "bd60", 0, 0, 0, true, false, true, "dadb", "fced", 528, 120, true, true));
+m2_table03.get("d8a8d");
+m2_table03.remove("c511");
+m2_table03.remove("f393");
+m2_table03.remove("aa63");
+m2_table03.put(List.of("fc9b", "a6d3", "fe83", 64, 55, 1, false, true, true, "fa76", "fcb3", 0, 0, true, false));
+m2_table03.remove("f77b");
+m2_table03.put(List.of("eeff", "f9d3", "a2dc", 248, 97, 2, false, true, false, "f208", "b541", 808, 0, true, true));
+m2_table03.put(Arrays.asList("b262", "c1ed", "c206", 4, 0, 78, false, null, true, "c15e", "c78ff", 0, 106, false, false));
+m2_table03.remove("c077");
+m2_table03.put(List.of("a61c", "f0c9", "cfeb", 2913, 428, 0, false, true, true, "a42a", "cd39", 0, 37, true, true));
+m2_table03.put(List.of("ddf8", "b1c5", "a763", 74, 0, 0, true, false, true, "feb08", "dfb3", 0, 0, true, true));
+m2_table03.put(List.of("c073", "f450", "aa3f6", 192424, 435, 413, true, false, false, "a7f0", "b0fd", 1, 16, false, true));
+m2_table03.get("a132");
+m2_table03.remove("bada");
+m2_table03.put(List.of("aa2f", "b520", "f473", 784, 0, 0, true, true, true, "a04bb", "a25d", 116, 0, true, false));
+m2_table03.put(List.of("b412", "e0fe", "a8a0", 0, 179, 575, false, true, true, "ae43", "c22d", 284, 0, true, true));
+m2_table03.remove("a185");
+m2_table03.put(List.of("af2d", "cd16", "cf2c", 35752, 1, 35, true, true, true, "c14a", "d67b", 2235, 169, false, true));
+m2_table03.get("d548");
+m2_table03.put(Arrays.asList("afa0", "ac76", "dbf2", 0, 0, 0, false, true, true, "d128", "d739", 2414, 1, true, null));
+m2_table03.put(Arrays.asList("c584", "aa82", "e011", 6, null, 0, false, true, false, "c433", "ab18", 0, 167, false, false));
+m2_table03.put(List.of("e843", "ab2e", "c750", 0, 1072, 0, true, true, false, "c09a2", "d7bc", 120, 71, true, false));
+m2_table03.put(List.of("d9ac", "b128", "bf99", 0, 268, 3470, false, false, false, "ea27", "cc30", 18219, 45190, false, true));
+m2_table03.remove("f1a5");
+m2_table03.put(List.of("fcf8", "fe5d", "ceab", 411, 4, 32, true, false, false, "cd38", "b599", 163, 2136, true, false));
+m2_table03.put(Arrays.asList("ac4c", "e459", "e971", 0, 0, 0, false, false, true, "fc7e", "e6a1", 0, null, true, false));
+m2_table03.remove("fbb0");
+m2_table03.put(List.of("dcad", "a975", "d0e1", 0, 538, 0, true, false, true, "ea9d", "c265", 0, 5, false, false));
+m2_table03.put(Arrays.asList("d705", "a7eb", "f9670", 0, 51, 12271, true, true, true, "b1756", "f503", 0, null, false, true));
+m2_table03.put(Arrays.asList(null, "b469", "d12c", 6, 84, 1584, true, true, true, "f927", "c86c", 164, 7090, true, false));
+m2_table03.get("afe1");
+m2_table03.put(List.of("c9f9", "e85d", "a698", 0, 0, 0, false, true, false, "a159", "a238", 26237, 0, false, true));
+m2_table03.put(List.of("fbae", "c0a4", "aab3", 78352, 47131, 140, true, false, true, "d7fd", "f855", 8, 240, false, true));
+m2_table03.remove("d9e6");
+m2_table03.put(List.of("e57a", "e346", "a4df", 0, 2, 131, false, false, true, "b9624", "dace", 0, 2583, true, true));
+m2_table03.remove("c897d");
+m2_table03.put(List.of("aed8", "fd05c", "e95b", 0, 5, 0, true, true, true, "d4c9", "c03f", 26506, 6803, true, true));
+m2_table03.get("ea93");
+m2_table03.put(List.of("d62e", "a3e5", "aae4", 0, 0, 0, false, false, true, "e121", "bb83", 80, 13, true, true));
+m2_table03.put(List.of("e346c", "aa84", "f1ef", 0, 10, 333, true, false, false, "b6fb", "bdd4c", 0, 356, false, false));
+m2_table03.remove("c149");
+m2_table03.put(List.of("d33a", "c2e7", "b92f", 7, 0, 0, true, false, true, "bb68", "e46c", 0, 19, false, false));
+m2_table03.put(List.of("ca6d", "fda26", "cb8a", 26, 55, 4884, true, true, true, "f60a", "f849", 0, 0, false, false));
+m2_table03.put(Arrays.asList("f068", "dc1e", "e08a", 5331, 1, 57, false, null, true, "e213", "e04c", 13, 17, true, false));
+m2_table03.remove("bc70");
+m2_table03.put(List.of("b844", "ac53", "a35a", 0, 0, 0, false, false, true, "b90f", "b086", 240, 6, true, false));
+m2_table03.remove("c827");
+m2_table03.get("db5e");
+m2_table03.remove("e65f");
+m2_table03.put(List.of("aa76", "b2ad", "e77ef", 0, 22, 448, true, true, true, "ab9c", "a8de", 130, 0, true, false));
+m2_table03.put(List.of("ae671", "fbb8", "e161", 304, 0, 21, false, true, true, "a002", "b012", 0, 123, true, true));
+m2_table03.put(List.of("a2fa", "f774", "aa910", 344, 62, 0, false, true, true, "b4bdf", "ca65", 0, 2457, false, true));
+m2_table03.put(List.of("ba80c", "c004", "b8f82", 22, 0, 539, false, true, false, "d4be", "fbe3", 0, 0, false, true));
+m2_table03.put(List.of("be67", "d4d5", "a126", 0, 0, 0, false, true, false, "ca45", "ceba", 91989, 4405, true, true));
+m2_table03.put(List.of("bc5a", "acded", "f7fd", 0, 1, 467764, true, false, false, "cd13", "fa35", 222, 337, false, true));
+m2_table03.put(Arrays.asList("ab57", "ad9c", "afcc1", 0, 38, 5882, false, false, false, "a69a", "d5c0", null, 1064, false, true));
+m2_table03.put(List.of("de2d", "d2dd", "a3c7", 0, 0, 1283, false, false, false, "b729", "eb71f", 0, 0, false, true));
+m2_table03.put(Arrays.asList("ce74e", "bd304", null, null, 0, 239, true, false, false, "c9a5", "fef9", 347, 0, true, false));
+m2_table03.remove("e0a0");
+m2_table03.put(Arrays.asList("b1cf", "c7db", "b4d3", 24, 0, 226, false, false, false, "bad8", "b7d1", null, 2, true, true));
+m2_table03.put(List.of("bfb3", "ae9d", "a6f9", 0, 4, 0, true, true, true, "cb71", "c523", 235, 2, true, false));
+m2_table03.put(List.of("c4e1", "b14f", "bf055", 0, 8, 8, false, true, true, "bf74", "d6f0", 0, 958, true, true));
+m2_table03.remove("b3cf");
+m2_table03.put(List.of("bfb5", "ca19", "bf25", 0, 0, 274, false, true, true, "a283", "e6b5", 38, 0, false, false));
+m2_table03.remove("fcb9");
+m2_table03.put(List.of("d848", "f834", "c9ad", 9, 0, 2, true, false, false, "d608", "fc1c", 4, 11, false, true));
+m2_table03.get("a133");
+m2_table03.put(List.of("eb91", "b54c", "d08a", 0, 2227, 0, true, true, false, "cc70", "dbf4", 0, 1, true, true));
+m2_table03.get("ac99");
+m2_table03.put(List.of("c02c", "b127", "b3d5", 0, 0, 9, false, false, true, "ecac", "e8da", 1389, 0, false, true));
+m2_table03.put(List.of("b20e1", "abc0", "a769", 0, 0, 3006, true, true, false, "ddea", "f0fd", 3, 744, false, true));
+m2_table03.put(List.of("ce0e", "efb8", "ad60", 0, 39, 11, true, true, true, "ab80", "a633b", 67, 0, false, false));
+m2_table03.put(List.of("c33e", "a770f", "e5a9", 35, 0, 22, true, false, true, "ed22", "fc01", 0, 1384, false, false));
+m2_table03.put(List.of("fe4a", "a55a", "ea9f", 572, 821, 4543, true, true, true, "ed12", "c5ca5", 1462, 0, false, false));
+m2_table03.put(List.of("c278", "c3ca", "d26f", 20, 41, 0, true, false, true, "f44d", "cdc2", 83997, 3246, true, true));
+m2_table03.remove("f0c6");
+m2_table03.put(List.of("c3a8", "ffdb", "d5c9", 161, 2, 23, true, true, false, "aeaa", "b15ec", 0, 46848, false, false));
+m2_table03.get("bb01");
+m2_table03.put(List.of("b3e0", "efdd", "e817d", 0, 10, 10942, true, false, true, "d464", "afe7", 5, 0, true, true));
+m2_table03.put(List.of("f1ea", "bc3f", "acf6b", 12, 19596, 14, false, true, true, "d4eb", "d294", 4, 1105, false, false));
+m2_table03.put(List.of("b333d", "f3837", "ebc2", 26893, 2, 0, false, false, false, "bbc78", "ab16", 0, 0, false, true));
+m2_table03.get("e951");
+m2_table03.put(List.of("b74b", "fb9c", "fd1d", 0, 0, 11787, false, true, true, "d7cf", "a776", 0, 0, false, false));
+m2_table03.put(Arrays.asList("c284", "ddde", "b86f", 3745, 0, 1040, false, true, true, "f0bb", null, 0, 0, true, false));
+m2_table03.put(List.of("b111", "b6be", "d346", 4, 3139, 1942, false, true, false, "c729", "af5e", 692, 24, true, true));
+m2_table03.remove("cafa");
+m2_table03.put(List.of("c6ee", "e9ed", "c030", 323686, 0, 0, true, true, true, "d590", "db39", 0, 0, false, true));
+m2_table03.put(Arrays.asList("e109", "a435", "e42f", 0, 0, 16, false, true, false, "e775", null, 0, 1466, false, false));
+m2_table03.put(Arrays.asList("ac65", "a174", "c3308", 10340, 55177, 0, null, true, true, "defa", "df40", 0, 23809, false, false));
+m2_table03.remove("a5ca");
+m2_table03.remove("cf80");
+m2_table03.put(Arrays.asList("ed23", "c684", "b8f5", 172, 18058, 5, true, false, false, "da3ef", "a696", 316, null, true, true));
+m2_table03.put(Arrays.asList("a6ac", "d66a", "b6e2", 3063, 262, 9, false, true, null, "fae2", "ba5d", 8, 0, false, true));
+m2_table03.put(Arrays.asList("f3f6", "d0ca", "ddc3", 0, 1, 1, true, false, false, "dba0", "a00e", null, null, true, true));
+m2_table03.put(List.of("ef13", "a7ca", "ce5d", 1025, 0, 45, false, false, true, "fa8f", "a51b", 1794, 0, false, true));
+m2_table03.remove("efc8");
+m2_table03.put(List.of("c7c3", "e52b", "a809", 983, 2060, 0, true, false, true, "bc9c1", "a1491", 0, 156, false, false));
+m2_table03.put(List.of("cf3e", "ab0ef", "ffa0e", 101, 4216, 0, false, true, false, "d733", "aff6", 106, 143, false, false));
+m2_table03.put(List.of("b1fb", "c640", "fbb7", 0, 31, 0, true, true, false, "e74a", "b275", 36995, 43, true, true));
+m2_table03.put(List.of("e0b9", "ec88", "fd7f", 49, 0, 5050, true, false, false, "eed9", "cf87", 214, 17, false, false));
+m2_table03.put(Arrays.asList("de29", "e6557", "b5d2", 336, 899, 3, true, false, false, "f80a", "c7da", 682, 0, false, null));
+m2_table03.put(List.of("c7ca", "bcaa", "db2b", 52, 27, 5, false, false, false, "a0c6", "e616", 0, 9, false, false));
+m2_table03.put(List.of("cbae", "f2ce", "e887", 0, 441, 0, true, false, true, "a96e", "e688", 401, 14442, true, false));
+m2_table03.remove("dce9");
+m2_table03.put(Arrays.asList("a3bd", "c09b", "dea1", null, 0, 0, true, true, false, "eedd", "d87b", 0, 94, true, true));
+m2_table03.remove("fcea");
+m2_table03.put(List.of("bd4b", "f9c1", "f0bc", 131, 6526, 0, false, true, false, "bb4b", "ef40", 0, 22699, false, false));
+m2_table03.put(List.of("b64e", "dcc9", "e063", 35, 0, 0, true, true, true, "a7748", "a1d1", 0, 0, true, true));
+m2_table03.put(List.of("a0f04", "cc7d", "e189", 0, 1, 1, false, true, true, "f9bb", "ccca", 1096, 2639, true, true));
+m2_table03.put(List.of("bd02", "af34", "f0c40", 0, 2, 0, false, false, true, "c799", "f053", 381, 9205, false, true));
+m2_table03.put(List.of("dee8", "a23ed", "bc4a", 0, 14, 9, false, true, false, "e58d", "d2f9", 6, 0, false, true));
+m2_table03.put(List.of("bbf8", "bbd5", "bae7", 0, 1, 573, false, false, true, "a7a3", "f4d3", 19, 0, false, true));
+m2_table03.put(List.of("e221", "a18c", "f1f7", 41, 10, 1517, true, true, false, "a006", "eded", 0, 0, false, true));
+m2_table03.put(List.of("fce2", "a473", "dff7", 0, 2005, 0, false, false, true, "a41e", "d6af", 0, 23, false, false));
+m2_table03.put(List.of("cd9b", "bde367", "f8a9", 0, 3841, 0, false, true, true, "e6bb", "a7ae", 649, 0, false, true));
+m2_table03.get("b67c");
+m2_table03.put(List.of("a534", "b970", "c811", 8, 259, 0, true, true, false, "d526", "a692", 0, 11736, true, true));
+m2_table03.put(Arrays.asList("f897", "afb2", "a2fca", 30, 2282, null, true, true, true, "be21", "a5a4", 0, 6, true, false));
+m2_table03.put(List.of("eaaf", "baed", "e4e2", 2, 0, 0, false, false, false, "d508", "ce8c", 0, 2, true, false));
+m2_table03.put(List.of("e144", "f36c", "edc1", 0, 928, 0, true, true, false, "fe24", "ac3a", 3, 1, true, false));
+m2_table03.put(List.of("c8f8", "b425", "e613", 0, 0, 0, true, true, false, "bc58", "ddcf", 1, 0, true, false));
+m2_table03.put(List.of("a469", "fa22", "c738", 1893, 11, 3259, true, false, false, "a1c4", "ad9f", 0, 0, false, false));
+m2_table03.put(List.of("f0010", "e7df", "a8be", 0, 172027, 0, true, false, false, "d3c2", "aea7", 2, 135, true, false));
+m2_table03.put(List.of("fcad", "b245", "d2f5", 11717, 412, 0, true, false, false, "cd85", "e2e0f", 556, 44, true, false));
+m2_table03.get("d3881");
+m2_table03.remove("cc75");
+m2_table03.remove("f6dd");
+m2_table03.put(List.of("e69b", "e481", "cff8", 5743, 39, 0, false, false, false, "dc38", "a34f", 0, 2238, false, false));
+m2_table03.put(List.of("ada0", "ec75", "a578", 0, 4, 0, false, false, true, "c497", "ec20", 55, 0, true, false));
+m2_table03.put(List.of("b50f", "a07f", "a06e", 0, 4, 0, true, false, true, "e85a", "c916", 2, 1007, false, false));
+m2_table03.put(List.of("f0b4", "bf97", "f8c6", 0, 2, 0, false, false, true, "d749", "eee7", 15438, 26686, false, true));
+m2_table03.put(List.of("fa2c", "e2cd", "a8b6", 61, 0, 248, false, true, false, "d945", "a789", 0, 5, true, true));
+m2_table03.put(List.of("a299", "cd19", "cf02", 0, 368, 0, true, false, false, "b093", "f9b3", 284, 0, false, false));
+m2_table03.put(Arrays.asList("e967", "b2df", "f8016", 1012, 184, 0, false, true, true, "b643", "ca1c", 0, 0, true, null));
+m2_table03.put(List.of("fbd1", "aa04", "d8f0", 21757, 0, 2, false, false, false, "a669b", "b23e", 335, 31, true, true));
+m2_table03.get("a66d");
+m2_table03.remove("b2c3c");
+m2_table03.remove("c2f1d");
+m2_table03.get("ba4f");
+m2_table03.put(List.of("cf89", "bdb5a", "c381", 4, 0, 1, false, false, false, "bda9", "a5218", 0, 0, false, true));
+m2_table03.put(Arrays.asList("efa6", "c55b", "cc44", 0, 0, 1847, true, true, false, "d9941", null, 18, 11, true, true));
+m2_table03.put(List.of("d0f2", "d9647", "a263", 213, 25, 1, false, false, true, "a17d", "a4a9", 818, 0, true, true));
+m2_table03.put(List.of("be5b", "e2dc", "cf34", 0, 0, 0, true, false, false, "aa6e3", "d1ea", 1992, 41, false, false));
+m2_table03.put(List.of("bf9f", "bc5c", "abda", 2958, 0, 2, true, true, true, "c259", "d5d3", 0, 21197, false, false));
+m2_table03.put(List.of("c2e74", "ce530", "c944", 0, 200, 0, false, false, false, "b2c1", "aa73", 761, 0, false, false));
+m2_table03.put(List.of("b96c", "c00a", "f29a", 41, 0, 0, false, true, false, "a900", "ce69", 0, 0, true, false));
+m2_table03.put(List.of("b047", "ee2f", "e3bc", 0, 0, 0, false, false, false, "b1b6", "bffb", 0, 0, true, true));
+m2_table03.put(List.of("aa55", "ff43", "f20f", 48, 959, 0, false, true, false, "c1e5", "ceb0d", 108, 252, true, false));
+m2_table03.remove("aa70");
+m2_table03.get("c310");
+m2_table03.put(List.of("e099", "b6593", "c5e2", 0, 0, 3998, true, true, true, "ed91", "ee5d", 10, 47733, true, true));
+m2_table03.put(List.of("f1ca", "a4be", "fb81", 76, 0, 56255, false, true, true, "c2c0", "adba", 0, 1164, true, true));
+m2_table03.put(List.of("de5d", "fa2b", "a8cd", 0, 97, 0, false, true, false, "dbc4", "b112", 0, 17, true, true));
+m2_table03.put(Arrays.asList("b18d", "cd8b", "ffeb", 0, null, 11542, false, false, false, "e4db", "c75a", 0, 0, false, true));
+m2_table03.put(List.of("f308", "d58d", "bd80", 4874, 309842, 0, true, false, false, "d57c", "fa19", 45401, 10, false, true));
+m2_table03.put(List.of("ba90", "b44e", "a888", 0, 2374, 0, false, false, false, "e606", "a294", 9173, 12, true, true));
+m2_table03.put(List.of("f220", "a061", "d44b", 532, 138, 59, false, false, false, "e7d2", "fe18", 4, 19, true, true));
+m2_table03.put(List.of("e2f37", "bd83", "a6be", 2758550, 252, 318, false, true, false, "d22c", "ad9b", 33591, 9, true, true));
+m2_table03.put(List.of("aae8a", "eea9", "eda4d", 0, 428, 33165, false, true, true, "f856", "daf7", 4238, 23, false, false));
+m2_table03.remove("f1e7");
+m2_table03.put(List.of("eb4f", "b1eb", "bab5", 2, 1308, 0, false, true, true, "b647", "bc60", 0, 0, true, true));
+m2_table03.put(List.of("c10b", "c28e4", "f41c", 0, 32990, 0, false, false, true, "a7b3", "b087", 0, 0, false, true));
+m2_table03.put(List.of("ad3e", "af52", "d110", 0, 5, 253194, true, false, true, "d4ba", "ac46", 0, 74, true, true));
+m2_table03.put(List.of("e6db", "f040", "ef39", 0, 0, 4, true, true, false, "eeea", "a109", 0, 0, true, true));
+m2_table03.put(List.of("c09d", "b74f", "c32d", 686, 1654, 2, false, true, true, "aefa", "f089", 12, 0, false, false));
+m2_table03.put(List.of("aa3d", "f74f", "bfc0", 255, 0, 0, false, false, false, "cabf", "a1ee", 309740, 0, true, false));
+m2_table03.put(List.of("fb12", "ffcf", "e42b4", 161, 26048, 58335, true, false, false, "ad2b", "d892", 3722, 0, false, false));
+m2_table03.remove("ba9d1");
+m2_table03.put(List.of("db22", "e9d3", "ba4d", 257, 2, 18, false, true, false, "c086", "c5ce", 872, 18, false, false));
+m2_table03.put(List.of("cb53", "b428", "d778", 145, 0, 185, false, false, false, "a92f", "d39a", 0, 12, true, false));
+m2_table03.put(List.of("c618", "c0a5", "cdad", 6, 22, 0, true, true, true, "a3db", "bb178", 9471, 5, false, false));
+m2_table03.put(List.of("efdda", "fe1a", "aa2e", 3, 0, 0, true, false, false, "d870", "dd06", 0, 40837, true, true));
+m2_table03.get("dd0b");
+m2_table03.put(List.of("fc32", "bd4c", "a262", 0, 9, 0, true, true, false, "e677", "aac9", 0, 18, true, false));
+m2_table03.put(List.of("b4be", "e134", "fd20", 0, 0, 1540, false, false, false, "a993", "e1bb", 0, 44, false, true));
+m2_table03.put(List.of("e6477", "f321", "a883", 0, 2, 740, false, false, true, "b97b", "a3126", 48, 54, false, true));
+m2_table03.put(List.of("e7f1", "c301", "c1d1", 4516, 4479, 0, false, true, false, "e9fc", "d463", 21, 0, true, true));
+m2_table03.remove("b3da");
+m2_table03.put(List.of("a562", "f755", "ded7", 145, 366, 464, true, false, true, "b5e6", "e58c", 1229, 1820, true, false));
+m2_table03.remove("f0ae");
+m2_table03.put(Arrays.asList("a0a5", "c99d2", "b0d4", 0, 0, 1, true, false, null, "baa2", "cefa", 589, 35779, false, false));
+m2_table03.put(List.of("ecb8", "d09b", "d9d2", 0, 1, 0, true, false, true, "a3390", "a658", 0, 0, false, false));
+m2_table03.put(Arrays.asList("d64c", "a45d", "eae7", 1731, 0, 9359, null, true, false, "ad16", "a9f8", 0, 498609, false, true));
+m2_table03.put(List.of("a412", "e3e7", "cd53", 0, 269, 490, false, false, false, "f691", "ddd4", 0, 0, false, true));
+m2_table03.remove("cbbb");
+m2_table03.put(List.of("e35d", "b370", "a637", 0, 431, 0, false, true, false, "a212e", "a550", 0, 0, true, false));
+m2_table03.remove("d60a");
+m2_table03.remove("e805");
+m2_table03.remove("b5bc");
+m2_table03.remove("c38d");
+m2_table03.put(Arrays.asList("d12b", "a84a", null, 0, 1, 3525, true, false, false, "b1c9", "b04e", 284, 0, false, false));
+m2_table03.remove("d2c0e");
+m2_table03.remove("eda7");
+m2_table03.put(List.of("bea8", "a9fe", "d39e", 2, 97, 82, true, true, true, "c2d6", "debc", 488, 0, true, true));
+m2_table03.put(List.of("c3b3", "ea31", "cd5e", 2, 24062, 0, false, true, false, "b2ed", "bb90", 106, 29, true, true));
+m2_table03.put(List.of("a088", "e686", "b627", 0, 0, 811, true, false, true, "e5a1", "e70c", 8465, 0, false, true));
+m2_table03.put(List.of("a08c", "dae2", "c02e", 6739, 2, 5, true, false, false, "d782", "b051", 0, 7, true, true));
+m2_table03.put(List.of("dc47", "cef75", "cb6c", 0, 0, 122729, true, true, false, "b3318", "e6f7", 148, 121, false, true));
+m2_table03.put(Arrays.asList("d000", "bbd2", "f554", 297, 1, 0, true, null, false, "c42f", "e21c", 256, 133022, false, true));
+m2_table03.remove("cb1ab");
+m2_table03.remove("a0f1");
+m2_table03.remove("cd4b");
+m2_table03.put(Arrays.asList("b0e2", "bb11", "a86b", 7, 5, 1059, false, false, null, "b8a0", "d137", null, 3, true, true));
+m2_table03.put(List.of("d6a7", "ffe1", "d3c6", 709, 205, 0, true, false, false, "ea2e", "a603", 13, 5496, false, true));
+m2_table03.put(List.of("a4cb", "c344c", "a1bd", 0, 3346, 0, true, false, true, "fb83", "dd44", 38, 0, true, false));
+m2_table03.put(List.of("bc02a", "d6f1", "ba8f", 27364, 23, 0, false, false, false, "e40d", "cb62", 3, 0, true, true));
+m2_table03.get("b34e");
+m2_table03.remove("dd7b");
+m2_table03.get("a7f6");
+m2_table03.put(List.of("adc1", "bd4a", "cfe1", 7152, 0, 512, true, false, true, "a1c8", "b8ec", 1, 209, false, true));
+m2_table03.put(List.of("b125f", "a93b", "d7982", 0, 3, 10, false, false, false, "a59c", "c4b6", 0, 34412, true, false));
+m2_table03.put(List.of("bdbc", "a9d7", "a92c", 272, 835, 1, true, false, false, "c1715", "a2e0", 1320, 58, true, true));
+m2_table03.remove("f104");
+m2_table03.put(List.of("e369", "c85c", "c4c7", 332, 21, 75, true, true, false, "bfb9", "ffca", 3, 1007, true, true));
+m2_table03.get("bd34");
+m2_table03.put(List.of("d331", "c5ee", "deb8", 0, 51, 4, true, false, true, "aebe", "b863", 448, 144, true, false));
+m2_table03.remove("d814");
+m2_table03.put(List.of("e49b", "a5e9", "f345", 2, 0, 0, true, false, true, "c62c", "a182", 4, 0, false, true));
+m2_table03.get("e8b4");
+m2_table03.put(Arrays.asList("bde07", "b882f", "a3de", 0, 62643, 541, false, true, true, "cbb4", null, 89, 0, false, false));
+m2_table03.put(List.of("b4687", "a97b", "a113", 0, 2, 16, false, false, false, "a1fe1", "d22f", 0, 0, true, true));
+m2_table03.put(List.of("b3aa", "a2ea", "aafe", 0, 13, 22, true, true, false, "abba", "db08", 15538, 19, true, false));
+m2_table03.get("fff4");
+m2_table03.remove("a583");
+m2_table03.put(List.of("daa3", "dbfd", "d365", 0, 342, 6833, true, true, false, "e93c", "a3cb", 0, 0, true, true));
+m2_table03.get("dcd7");
+m2_table03.get("ac40");
+m2_table03.put(Arrays.asList("a573", "ecf5", "dbe8", 0, null, 15, false, true, true, "dd01", "a1bb", 33, 5923335, true, true));
+m2_table03.remove("df10");
+m2_table03.put(List.of("f5f6", "eecb", "c11c", 0, 15, 5, false, false, true, "d7de", "d574", 30, 5527, false, false));
+m2_table03.put(List.of("ad76", "d206", "bca4", 76, 21, 0, true, false, false, "e7e6f", "aabe", 15, 0, true, false));
+m2_table03.put(List.of("f3e5", "acd4", "e272", 0, 0, 1531, true, true, false, "c7d0", "b10b", 0, 0, false, false));
+m2_table03.put(List.of("ebb2", "ad3c", "c89e", 0, 0, 0, true, true, true, "f974", "f8f4", 0, 0, false, false));
+m2_table03.put(Arrays.asList("ac23", "e1dd", "b51d", 2431, 1033, null, true, false, true, "b0a2", "b27f", 2750, 0, true, true));
+m2_table03.put(List.of("a8a9", "bfea", "a621", 155, 0, 2645, true, true, true, "b108", "c222", 1, 22, true, true));
+m2_table03.put(List.of("b7df", "d999", "f507", 9, 243, 1466, false, true, true, "a872", "e6a6", 81, 5427, true, false));
+m2_table03.put(List.of("be48", "d8a1", "c10ca", 0, 271, 0, true, true, false, "d76c", "fe3a", 82, 0, true, true));
+m2_table03.put(List.of("e7e9", "d648", "b1e0", 0, 0, 0, false, false, true, "bc6c49", "d6ab5", 0, 0, true, true));
+m2_table03.remove("c772");
+m2_table03.put(List.of("eeed", "aa6c", "f449", 0, 0, 0, false, false, true, "e522", "c00c", 10092, 0, true, true));
+m2_table03.put(List.of("c96a", "efab", "f6a6", 346, 14, 26, false, true, false, "bcf6", "baf6", 1345, 0, false, true));
+m2_table03.put(Arrays.asList("bf8e", "a1aa", "f6a4", 0, 0, 89, false, false, true, "bc35", null, 20601, 0, false, true));
+m2_table03.remove("fca9");
+m2_table03.put(Arrays.asList("d1e8", "c12e", "c4b9", 5, 2121, 1, false, true, null, "d74f", "ecc9", 0, 72579, true, false));
+m2_table03.put(List.of("e21d", "f399", "c906", 1957, 0, 3, true, false, true, "a5ed", "d4b2", 1757, 0, true, true));
+m2_table03.put(List.of("f7bb", "de55", "e541c", 0, 77311, 566, false, false, true, "b7d8", "da13", 26, 24, false, false));
+m2_table03.put(List.of("a5bb", "f608", "cef8", 0, 1252, 136, false, true, true, "a484", "fdd2", 33, 0, true, true));
+m2_table03.put(List.of("f94d", "be0c", "a196", 0, 8155, 67, false, true, true, "a28d", "b320", 0, 0, false, false));
+m2_table03.put(List.of("ff52", "b21d", "b9c4", 15151, 0, 330, true, false, false, "e2d3", "b690", 263, 0, false, false));
+m2_table03.put(List.of("a05d", "fc00", "ca25", 0, 37066, 36, false, false, false, "afb9", "ba69", 124, 4, false, false));
+m2_table03.put(List.of("dd45", "c3bc", "ea40c", 14, 0, 0, true, true, true, "cb2e", "b1da", 50, 13342, false, true));
+m2_table03.put(List.of("d6fa", "bc0e", "f82e", 2, 1, 117331, false, false, true, "aedb0", "fe23", 257, 15, true, false));
+m2_table03.put(List.of("b693", "b5866", "c234", 0, 0, 0, true, false, false, "edfe", "bb7f", 0, 4910, false, false));
+m2_table03.put(List.of("c481", "c4ce", "ada4", 4676, 0, 0, true, true, false, "c7b8", "e792", 21400, 29879, true, true));
+m2_table03.remove("b05d");
+m2_table03.put(List.of("fb88", "b6b3", "c04b", 0, 392, 3497, false, true, false, "d452", "bc64", 0, 0, true, true));
+m2_table03.remove("b47b");
+m2_table03.put(List.of("a9f1", "bc09", "c513", 10, 86, 2487, false, true, true, "d25b", "c358", 18, 0, true, false));
+m2_table03.put(List.of("e649", "f530", "bac8", 30, 2142, 21, true, false, false, "a199", "e8d1", 0, 0, true, false));
+m2_table03.put(List.of("bc88", "efa7", "bac0", 0, 138, 74, true, false, true, "a4d1", "ca7a", 3, 0, false, true));
+m2_table03.remove("c66a");
+m2_table03.put(List.of("dc5e", "bb1ae", "d889", 386241, 0, 14519, false, true, false, "ac88", "ccc9", 298, 28558, true, true));
+m2_table03.remove("c7b4");
+m2_table03.put(List.of("d6d1", "a6cf", "b04e8", 0, 0, 6361, false, true, false, "df93", "ad94", 0, 4057, true, false));
+m2_table03.put(List.of("aeef9", "e40a", "ef67", 26, 51, 0, true, true, false, "e8ba", "e9a7", 4550, 16, false, true));
+m2_table03.put(List.of("e22d", "beb7", "de4c4", 0, 0, 0, true, false, true, "a9d6", "bd73", 4, 0, false, false));
+m2_table03.remove("c78d");
+m2_table03.put(List.of("ad00", "dbca", "b483", 136317, 2, 62, true, false, false, "b5b5", "d0b7", 3, 1, true, false));
+m2_table03.put(List.of("c5c5d", "abe9", "e38e", 24, 1, 2513, false, false, true, "fee5", "b772", 0, 0, true, false));
+m2_table03.put(List.of("dc5d", "e206", "cc1e", 0, 0, 0, false, true, true, "d117", "e1ff", 1392, 197, true, false));
+m2_table03.remove("aa6b");
+m2_table03.put(List.of("d457", "e436", "a272", 0, 0, 4, true, false, true, "d7fa", "c756", 0, 0, true, true));
+m2_table03.put(List.of("a4b4", "c8ec", "dc1d", 6, 201123, 10, false, true, false, "ba74", "c23bd", 128, 67278, true, false));
+m2_table03.put(Arrays.asList("ac5f", "dc79", "b193", null, 0, 234, true, false, true, "fca8", "d8d6", 124, 206, false, false));
+m2_table03.put(List.of("a972", "ae62", "f131", 0, 1044, 302634, true, false, true, "fa5f", "d8a0", 15, 0, false, false));
+m2_table03.put(List.of("afd2", "a567", "c1ca", 57, 46, 0, false, false, true, "b1d6", "becc", 0, 0, false, false));
+m2_table03.remove("af5a");
+m2_table03.put(List.of("b982", "bbcd", "a4cd", 163, 1270, 0, false, true, false, "bc49", "ad56", 1, 0, false, false));
+m2_table03.put(List.of("c61c", "f0dd", "bc34", 6, 0, 3, true, true, false, "fbfe", "d23e", 223, 54, true, false));
+m2_table03.put(List.of("e7db", "f764", "c39b", 0, 0, 46, true, false, true, "afc4d", "ea34", 21542, 2, true, true));
+m2_table03.put(List.of("aa0a", "f42a", "a0aa", 10, 14, 1393, false, true, false, "d0b4", "ad0a", 2, 104605, true, true));
+m2_table03.put(List.of("f911", "a9ac", "aa81", 0, 0, 85, true, false, false, "d961", "a4ba8", 3, 0, true, true));
+m2_table03.put(List.of("fe4e", "bb34", "faed", 0, 0, 0, true, false, true, "fb6d", "a815", 585, 0, false, false));
+m2_table03.put(List.of("da3f", "cbb0", "a94d", 0, 74, 0, false, true, true, "aa671", "b6f0", 0, 133, false, true));
+m2_table03.put(List.of("eec1e", "dd1c", "c544", 146, 0, 266, false, true, true, "b5f4", "e7da", 180, 3269, false, true));
+m2_table03.remove("bae0");
+m2_table03.remove("ce1a");
+m2_table03.put(List.of("edc4", "e518", "fe44", 3, 124, 168, true, false, false, "ba68", "f72e", 38, 273, false, true));
+m2_table03.put(List.of("ba5e", "b0e6", "e30d", 1, 1, 0, false, false, true, "a3df", "b4cd", 0, 165, false, false));
+m2_table03.put(List.of("e506", "d40f", "cc08", 0, 0, 800, false, true, true, "bd54", "db28", 0, 11572533, true, true));
+m2_table03.put(List.of("a3f6", "bc6f", "d58a", 0, 0, 2250, true, false, true, "c2b2", "cd996", 36, 181438, true, false));
+m2_table03.put(List.of("b72e", "b8cc", "b435", 0, 616, 21831, false, false, true, "bc17", "c078", 0, 0, true, true));
+m2_table03.put(List.of("c52b", "c88e", "b9f3d", 4193, 0, 0, true, true, true, "e023", "a931", 10638, 0, false, false));
+m2_table03.put(List.of("d836", "b6eb3", "ea70", 0, 209, 0, false, false, true, "e136", "d587", 271, 369, true, true));
+m2_table03.put(List.of("b91e", "a64e", "ad5d", 138, 0, 213, true, true, true, "ad18", "d789", 0, 16, true, false));
+m2_table03.put(List.of("a6f5", "aee4", "bfa2", 0, 8844, 0, true, false, true, "fe43", "c2b0", 0, 12, true, true));
+m2_table03.put(List.of("af71", "ee67", "d50a", 0, 0, 3835, true, true, true, "f430", "f3b8", 5176, 0, true, false));
+m2_table03.get("f38d");
+m2_table03.get("a897");
+m2_table03.remove("bc18");
+m2_table03.put(List.of("b3f9", "d4ac7", "d594", 168, 0, 0, false, true, true, "f112", "fff0", 0, 0, true, true));
+m2_table03.put(List.of("cb33", "d69c3", "b001c", 0, 0, 275063, false, true, true, "d194", "d4c0", 2, 0, false, true));
+m2_table03.put(List.of("a1cd", "a7de", "cb20", 2028825, 0, 1681, false, true, false, "a1ad", "b5fd", 0, 0, false, true));
+m2_table03.remove("aed7");
+m2_table03.put(List.of("badb", "fb4c", "a42f", 26, 958, 3, false, true, true, "d5f0", "a341", 8880, 0, false, true));
+m2_table03.get("acd2");
+m2_table03.put(List.of("e6de", "f547", "ced0", 0, 1, 0, false, false, true, "d4c7", "bbbc", 35051, 91, true, true));
+m2_table03.put(Arrays.asList("cd05", "b874", "b238", 227, null, 0, false, true, false, "a4bd", "e35fe", 0, 1, true, false));
+m2_table03.put(List.of("b078", "aaff", "ee6f", 0, 3, 3, false, true, true, "c90c", "aad5", 0, 7536, true, true));
+m2_table03.put(List.of("da2c3", "df41", "b4e1", 0, 2, 1, true, false, true, "b322", "d99a", 18, 229, false, false));
+m2_table03.put(List.of("c4ac", "dca4", "dca3", 9, 468, 53, true, true, false, "c3e4", "aef2", 64, 0, true, false));
+m2_table03.put(List.of("a38a", "cb08", "d9a5", 0, 3, 4, false, true, true, "e4af", "e7b1", 0, 1038, false, true));
+m2_table03.put(List.of("cec1", "c864", "e86f", 0, 0, 191, false, false, false, "f666", "d07d", 0, 0, true, false));
+m2_table03.put(List.of("ccd9", "e607", "a170", 0, 0, 48577, false, false, true, "ce4b", "d2a3", 40, 0, false, true));
+m2_table03.put(List.of("ae08", "f631", "b398", 4, 73982, 73, true, false, false, "eaf0", "c81a", 661, 128, true, true));
+m2_table03.put(Arrays.asList("e467", null, "f367", 2461, 0, 0, false, true, false, "e0ec", "dd6c", 128608, 0, false, true));
+m2_table03.get("f207");
+m2_table03.put(List.of("ceda", "a61a", "d3965", 0, 7082, 0, true, false, false, "b0ba7", "ac5b", 0, 10, true, true));
+m2_table03.get("bd75");
+m2_table03.put(List.of("ebc3", "cb854", "f275", 2021, 0, 254, true, false, false, "b6a6", "cc6e7", 0, 3, false, false));
+m2_table03.remove("c309");
+m2_table03.put(List.of("f961", "a359", "ec60", 2049, 0, 0, true, true, true, "a97c", "a5df", 219, 189, true, false));
+m2_table03.remove("c317");
+m2_table03.remove("c0d6");
+m2_table03.get("d6dc");
+m2_table03.get("cdea");
+m2_table03.put(List.of("e1ad", "bd0a", "bfcc", 0, 1122, 0, false, true, true, "b8fcd", "de95", 494, 144, false, true));
+m2_table03.put(List.of("a293", "dd19", "dfc3", 1906, 703, 263, false, true, false, "d809", "e0e9", 511642, 7568, true, true));
+m2_table03.remove("f8b4");
+m2_table03.put(List.of("c504", "b323", "cb2f", 21, 0, 843, true, false, false, "bcec", "aff1", 1911, 27, false, true));
+m2_table03.put(List.of("e9c2", "a8ae", "f0709", 0, 12, 0, false, false, true, "c361", "db376", 0, 0, true, true));
+m2_table03.remove("aad7");
+m2_table03.put(List.of("a356", "bb8d", "f6c6", 0, 0, 0, false, false, true, "cc5a", "bd1ee", 0, 617, false, true));
+m2_table03.remove("a245");
+m2_table03.remove("b04a");
+m2_table03.put(List.of("dab6", "c67f", "eb50", 0, 4370, 0, true, true, false, "d62e7", "ebfc", 6783, 32, true, false));
+m2_table03.put(Arrays.asList("e28d", "a8ce", null, 0, 0, 0, true, true, true, "e5cf", "b2b3", 4, 1, true, false));
+m2_table03.put(List.of("f58b", "e7bc", "c5d1", 76875, 124, 0, true, false, false, "ee58", "a156", 0, 29, true, false));
+m2_table03.put(List.of("c2f3", "e236", "e1a6", 0, 0, 1342, true, false, false, "e630", "bdac", 0, 290, false, false));
+m2_table03.put(List.of("d0e9", "a91c", "acd0", 0, 13362, 10925, true, true, true, "ac24", "b3bb", 0, 0, false, false));
+m2_table03.put(List.of("f247", "ee59", "a4e8", 0, 0, 593, true, false, true, "b254", "aa86", 339, 0, false, true));
+m2_table03.remove("b35a");
+m2_table03.put(Arrays.asList("d95c", "e434", "ae2b", 0, 355, null, true, false, true, "b824", "dbc6", 51707, 749, false, true));
+m2_table03.remove("ef7b");
+m2_table03.put(List.of("a5c77", "b865", "cdf5", 28, 0, 0, false, true, false, "d780", "a0647", 0, 194, false, false));
+m2_table03.put(List.of("a826", "a2e60", "ad1d", 0, 95, 0, true, true, false, "e6bc", "df04", 56, 3, false, true));
+m2_table03.put(List.of("a138", "cfb0", "aaf0", 99, 0, 0, false, true, false, "c777", "b209", 0, 52247, true, true));
+m2_table03.put(Arrays.asList("f39f", "b881", "cb587", 0, 8878, 876, null, true, false, "effa", null, 29, 0, false, true));
+m2_table03.remove("b12e");
+m2_table03.remove("c674");
+m2_table03.put(List.of("ed95", "a06f", "f858", 0, 11, 77, false, true, false, "c28c", "adf6", 0, 860, false, true));
+m2_table03.get("a2d60");
+m2_table03.put(List.of("e3ff", "cb17", "c91f", 698, 0, 0, true, false, false, "ba3d", "d4d42", 39, 0, false, true));
+m2_table03.put(List.of("ed0b", "bcd4", "f731", 1224, 0, 76, true, false, true, "c9e3", "b317", 12, 2532, false, true));
+m2_table03.put(List.of("c717", "fbca", "c2aa", 1042, 7, 10, false, false, true, "b439", "dc9f", 1, 0, true, false));
+m2_table03.put(Arrays.asList("cc5c9", "b34c", "fbd7", 0, 1, 47, false, false, false, "a99d", "c4b4", 0, 6514, null, true));
+m2_table03.put(List.of("f8c3", "b915", "cb86b", 513, 0, 0, false, false, true, "ae145", "a0be", 3, 0, true, false));
+m2_table03.put(List.of("dd16", "a456d", "d369", 2, 42, 265, true, true, true, "d0c6", "d73c", 272, 171, false, false));
+m2_table03.put(List.of("b7bc", "b319c", "b0bd", 95, 16, 422, true, false, true, "e468", "b4a8", 5, 0, false, false));
+m2_table03.put(Arrays.asList("f9c5", null, "ff720", 0, 47, 14, false, true, true, "a25c", "f405", 1806, 0, false, false));
+m2_table03.remove("a1ca");
+m2_table03.put(List.of("e35e", "d381", "f37c", 5, 71, 298, false, false, false, "c272", "d936", 1, 0, true, false));
+m2_table03.put(List.of("fec4", "f1e8", "c8aa", 692, 1, 68141, false, true, false, "f3f5", "a756", 8936, 0, true, false));
+m2_table03.put(List.of("a2f6", "e28a3", "c8f1", 8, 0, 0, false, false, true, "e543", "a39f", 40800, 0, true, false));
+m2_table03.put(List.of("e2b1", "d39d", "e6fd", 0, 708, 0, true, false, true, "f6a8", "a41a", 0, 0, false, true));
+m2_table03.put(List.of("bcc1", "b303", "d8bb", 370, 0, 27, true, false, true, "ea8e", "f4275", 0, 0, true, false));
+m2_table03.put(List.of("d1f3", "f5d77", "ba40", 4801, 2183, 0, true, true, false, "fbcb", "ecd5", 8, 1, true, false));
+m2_table03.put(List.of("dab9", "bf2e", "cb04", 0, 0, 16, true, false, false, "eb25", "b46c5", 201, 2759, true, false));
+m2_table03.put(List.of("adff", "e00b", "c4ad", 0, 0, 0, true, false, true, "e5ba", "ecf4", 0, 2, false, false));
+m2_table03.put(List.of("af0f", "be61", "d7f7", 0, 8086, 0, false, false, false, "e6e8", "c982", 0, 0, false, false));
+m2_table03.remove("a030");
+m2_table03.put(Arrays.asList("fec5", "c444", "fb9f", 118, 357, 192071, true, true, false, "c303", "f2ea", 0, 378, null, false));
+m2_table03.put(List.of("b36c2", "af9b", "aaf6", 0, 0, 7, false, false, false, "c3b6", "b396", 804, 0, true, true));
+m2_table03.remove("b39f");
+m2_table03.put(List.of("c4f4", "f067", "befe", 2911, 53, 52, true, true, false, "c974", "e7fd", 0, 0, true, false));
+m2_table03.put(List.of("e53f", "c153", "d071", 33, 145, 2213, true, true, true, "c9ae", "ed43", 419, 0, false, false));
+m2_table03.put(List.of("d8be", "a57c", "cd739", 4171, 2, 20466, true, false, true, "bafa", "cfd3", 26, 142, false, true));
+m2_table03.put(List.of("d73d", "a4f1", "fb53", 0, 0, 585, true, false, true, "a318", "b0f7", 0, 99, true, false));
+m2_table03.put(List.of("db3d", "fad7", "dd90", 0, 2, 0, false, false, false, "eb3a", "a014", 0, 653, true, true));
+m2_table03.put(List.of("ceec", "a079", "b791", 0, 0, 76182, false, true, false, "a1fe5", "dacd", 19326, 6447, false, false));
+m2_table03.put(List.of("b948", "e937", "ecaf", 0, 2328, 1746, true, false, false, "bd29", "e465", 1320, 0, true, false));
+m2_table03.put(Arrays.asList("acee", "c3b4", "dc0e", 6, 0, 95610, true, null, true, "e142", "db3b", 5830, 441, false, false));
+m2_table03.put(List.of("ba85", "af7c", "bf224", 0, 3, 67, true, false, true, "e433", "defb", 37106, 0, true, true));
+m2_table03.remove("ca58");
+m2_table03.put(List.of("ec69", "a7e6a", "a201", 1, 0, 194885, false, false, false, "a7cf", "a50c", 1969, 33986, true, true));
+m2_table03.put(Arrays.asList("f857", "be9c", "de6c", 3804, 0, 4, false, true, true, "d287", "b422", null, 1, false, false));
+m2_table03.put(List.of("b946", "de49", "e82c", 0, 0, 14, false, true, false, "f7a6", "a90f", 0, 603, true, true));
+m2_table03.put(List.of("ea2c", "b191", "aabb", 29, 9290, 5, true, true, true, "ed45", "bf9b", 0, 157231, true, true));
+m2_table03.put(List.of("aad0", "c979", "c7d7", 43387, 39020, 302, false, true, true, "a7dff", "c64a8", 2, 0, false, false));
+m2_table03.put(List.of("bf4d6", "a1f6", "c2eb", 0, 103, 3339, true, false, false, "f329", "ccb3", 0, 778, false, false));
+m2_table03.put(List.of("cdcd", "ee65", "c49c", 0, 0, 273, false, false, false, "c2cc", "a020", 0, 0, true, false));
+m2_table03.put(List.of("b0039", "b1dc", "bdaa", 28, 3, 0, false, true, false, "ef96", "dd81", 0, 44677, true, false));
+m2_table03.put(Arrays.asList("ecc0", "e594", "d27f0", 0, 1, 245, false, true, false, "f050", "b889", 0, 5, true, null));
+m2_table03.put(List.of("af2f", "ab4b", "a328", 2, 0, 0, false, false, true, "fab2", "e9b0", 0, 30, false, true));
+m2_table03.put(Arrays.asList("c1b9", "dc63", null, 14, 0, 0, true, false, true, "b7aa", "b180", 0, 582, true, true));
+m2_table03.put(List.of("d6d2", "be05", "f8ed", 0, 128, 12, true, false, true, "cda5", "e0f0", 0, 0, true, false));
+m2_table03.put(List.of("c94e", "cec8", "f3d3", 0, 6679, 0, false, false, true, "a0f5", "f5cb", 0, 749, false, false));
+m2_table03.get("c46d");
+m2_table03.put(List.of("bebb", "b06f", "fd82", 0, 0, 9, true, false, false, "d46d", "b324", 0, 8, true, true));
+m2_table03.put(List.of("de51", "d8d7", "b0a4", 0, 0, 82, true, false, true, "d4cc", "da99", 0, 70, true, false));
+m2_table03.put(List.of("f297", "cb1d", "b998", 0, 0, 298, false, false, false, "eb52", "ad2c", 4001, 0, false, false));
+m2_table03.put(List.of("b6e3", "d1a5", "f079", 0, 313, 0, false, true, true, "def4", "fe30", 1389, 2, true, true));
+m2_table03.put(Arrays.asList("b8b3", "e51e", null, 0, 0, 10, true, true, true, "c187", "c504b", 0, 7, true, false));
+m2_table03.put(List.of("c1af", "d0a1", "b904", 0, 17, 33, false, false, false, "c562", "a13e", 269, 0, true, false));
+m2_table03.put(List.of("ce20", "c7f1", "d9ea", 605, 514, 9269, false, false, true, "eaf9", "e38d", 0, 3, true, false));
+m2_table03.get("aae8");
+m2_table03.put(List.of("a647", "cab4", "e5b6", 319, 3, 6, false, false, true, "aac7", "abc9", 36019, 1254, false, false));
+m2_table03.put(List.of("d15f", "d213", "d177", 478, 0, 1587, false, false, true, "a432", "a95a", 0, 65, true, false));
+m2_table03.remove("e79b");
+m2_table03.put(List.of("fadb", "afc3", "a808", 6, 0, 0, true, false, false, "ade1", "d617", 37510, 0, false, false));
+m2_table03.put(List.of("b2de", "aa80", "b593", 0, 0, 0, false, false, true, "b530", "b89d", 418, 0, false, true));
+m2_table03.put(Arrays.asList(null, "e83d", "a250", 0, 1245, 0, true, false, true, "dc9b0", "d451", 11897, 9665, true, false));
+m2_table03.remove("aae7");
+m2_table03.put(List.of("ca07", "c5f35", "f641", 581, 0, 0, true, false, false, "e7d67", "ba59", 0, 0, false, false));
+m2_table03.get("d53e");
+m2_table03.put(Arrays.asList(null, "c04fe", "d309", 7241, 9, 6, false, true, false, "a193", "b43f", 367641, 2523, false, false));
+m2_table03.put(List.of("cbe5", "c2a4", "b0eb", 0, 12, 0, false, true, true, "f852", "fc0d", 0, 0, false, false));
+m2_table03.put(List.of("a6480", "a64f", "d803", 68, 0, 797, false, true, true, "fea2", "fa8e", 6, 12, true, false));
+m2_table03.remove("fc02");
+m2_table03.put(List.of("eb30", "ee4c", "c2f6", 245, 3, 0, false, false, false, "cd28", "dd7a", 5, 0, true, false));
+m2_table03.put(List.of("f80b", "eed2", "bb5b", 43, 21, 5, false, true, false, "b0a6", "cd56", 31003, 3, false, false));
+m2_table03.put(List.of("ebe0", "c7434", "b1eaa", 0, 0, 15, true, false, true, "c76d", "fd30", 50, 330, false, true));
+m2_table03.remove("f798");
+m2_table03.put(List.of("a8b61", "fd91", "ae48", 0, 0, 29, true, true, false, "d6f6", "a6a4", 0, 797, false, true));
+m2_table03.remove("e69ad");
+m2_table03.put(Arrays.asList("c3fa", "c87f", "d202", 41, 0, 0, true, false, null, "eaed", "e0f1", 4, 97, true, true));
+m2_table03.put(List.of("ec984", "c624b", "e605", 0, 0, 10, true, true, false, "bf78", "ca81", 0, 625, false, true));
+m2_table03.put(List.of("a416", "a5d5", "caf2", 6, 1418, 94, true, true, true, "e1f2", "a581", 0, 0, false, true));
+m2_table03.put(Arrays.asList("d410e", "d91ec", "d741", null, 0, 161, true, false, false, "a018", "cf57", 0, 0, true, false));
+m2_table03.remove("eb62");
+m2_table03.put(List.of("fbe5", "e80b", "a8f1", 0, 0, 27796, true, true, true, "cfca", "a43a", 26, 6, false, true));
+m2_table03.put(List.of("b11b", "ea6b", "b27b", 844, 225, 0, false, false, false, "fcc0", "fa54", 0, 7, true, true));
+m2_table03.get("b314");
+m2_table03.put(List.of("ea49", "c746", "faa3", 0, 465, 928, true, false, false, "ef19", "ec3f", 866, 63, false, true));
+m2_table03.put(List.of("a1c3", "a0d91", "b770", 0, 40, 0, false, true, true, "f920", "a0af", 0, 146, false, false));
+m2_table03.put(Arrays.asList("ba80", "d9ae", "a5ce", 17, 720, 0, true, true, null, "ce6f", "b641", 345, 10488, false, false));
+m2_table03.put(List.of("d1ae", "aa4d", "eda5", 7239, 157, 17, false, true, false, "c600", "a36fc", 1213, 48, false, true));
+m2_table03.put(List.of("f1fa", "aae6e", "c09e", 474, 455, 299, true, true, false, "d43a3", "c78b", 1366, 346, true, false));
+m2_table03.put(Arrays.asList("b4f7", "b1b9", null, 0, 0, 0, true, false, false, "f78f", "a7a7", 0, 2955, true, false));
+m2_table03.put(List.of("b073", "da4bf", "b069", 1, 2, 0, false, false, false, "bfcb", "d87f", 0, 0, false, true));
+m2_table03.put(List.of("abb2", "c291", "a5dc", 214, 0, 54, true, true, false, "adae", "f4b3", 857, 0, true, true));
+m2_table03.put(List.of("bb09", "c328c", "b857", 3559, 0, 24983, true, true, true, "bf6b", "dd8b", 454, 37, false, true));
+m2_table03.remove("f11f");
+m2_table03.remove("fd10");
+m2_table03.put(List.of("e85e", "e056", "f815", 1794803, 0, 0, true, true, false, "ed64", "a8759", 2, 0, true, true));
+m2_table03.put(List.of("b671", "bfe2", "b508", 0, 0, 338, true, false, true, "da81", "e2d1", 0, 0, false, false));
+m2_table03.put(List.of("ab1c", "fe19", "bc38", 62, 41, 0, false, true, true, "f678", "fd78", 919, 0, true, false));
+m2_table03.put(Arrays.asList("bf8c", "be9b", "c3cb", null, 1023, 21, false, true, true, "faa8", "d17c", 0, 0, true, false));
+m2_table03.put(List.of("a592", "d404", "a985", 258, 877, 40, true, true, false, "e020", "b2e1", 447, 218, false, false));
+m2_table03.put(Arrays.asList("f280", "b1ab", "f157", 0, 0, 6, true, null, false, "eb88", "c66d", 35696, 47557, false, false));
+m2_table03.get("ef82");
+m2_table03.put(Arrays.asList("c2c4", "fe48", "a6bc", null, 1, 3, true, true, false, "f47a", "a912", 2, 587, false, true));
+m2_table03.put(List.of("f0e4", "f2c9", "f777", 0, 26, 3, true, true, false, "a856", "a593", 1, 67768, true, false));
+m2_table03.put(List.of("c4058", "a3a1", "e8e8", 0, 0, 0, true, true, true, "ed53", "cf30", 321, 27679, true, false));
+m2_table03.remove("cf31");
+m2_table03.remove("eee1");
+m2_table03.put(List.of("da77", "bf89", "fded", 5, 19776, 0, true, false, true, "f4090", "a9d8", 0, 47661, false, false));
+m2_table03.put(Arrays.asList("e20b", "f08e", "af3d", 30, 5306, 15056, false, false, true, "d77f", null, 236, 0, true, true));
+m2_table03.put(Arrays.asList("ff5c", "eb37", "ec3d", 1152, 4, 0, false, null, true, "b85d", "eb03", 0, 63, true, false));
+m2_table03.remove("a308");
+m2_table03.put(List.of("f4e6", "dca6", "b0f0", 118012, 6, 0, true, false, false, "cc41", "c6de", 904, 0, false, true));
+m2_table03.put(List.of("b8e7", "cd31", "e93c6", 20824, 0, 122, false, true, false, "e9dc", "f3e4", 2, 81928, true, true));
+m2_table03.put(List.of("d449", "beee", "c991", 1, 0, 0, false, false, false, "d4d3", "e4bf", 0, 0, true, true));
+m2_table03.put(List.of("a149", "ddeb", "e70c8", 0, 0, 14, true, true, true, "b077", "a5b8", 0, 0, false, true));
+m2_table03.put(List.of("ff07", "c94a", "c325", 237, 2, 0, false, true, false, "f829", "dfc5", 0, 2, true, false));
+m2_table03.put(List.of("ace4", "e0b3", "dc3c", 32, 0, 4111, true, true, true, "c3e3", "acf5", 0, 128, true, true));
+m2_table03.put(Arrays.asList("c0d2", "a835", "bffa7", 11969, 732, 0, true, false, true, "d1d2b", "eb8f", 1, null, false, false));
+m2_table03.get("a937");
+m2_table03.remove("ece3");
+m2_table03.put(List.of("c731", "b5fc", "f14a", 0, 359, 0, true, false, false, "ef64", "d9bc", 12, 212, true, true));
+m2_table03.put(Arrays.asList("b6a2", "d088", "dc01", 283264, 0, 24648, null, true, true, "db73", "fa58", 1, 141, true, true));
+m2_table03.put(Arrays.asList("ba57f", "f9ed", "a66b", 95, 0, 254, false, true, false, "d0f65", "a752", 166667, 0, null, false));
+m2_table03.put(Arrays.asList("a01c", "c30d0", "a128", 0, 0, 31, false, false, false, "e7f0", "db7f", 280, 119, null, true));
+m2_table03.put(List.of("e322", "e14f", "c3a6", 0, 467053, 0, false, false, true, "cad4", "eec8", 0, 3816, true, false));
+m2_table03.put(List.of("deb5", "e6fa", "ed164", 466, 242, 157, false, false, false, "b3ab", "a100", 291497, 359, true, false));
+m2_table03.put(List.of("d2959", "b52e", "e770", 0, 153, 55, true, true, true, "fde3", "f708", 15, 60, true, false));
+m2_table03.put(List.of("d6de", "f80c", "a4f6", 764, 61, 36, true, true, true, "c8f7", "d816", 118, 270, true, false));
+m2_table03.put(List.of("bb48", "ce2d", "b5db", 3085, 304047, 0, false, true, true, "e6cc", "e24f", 0, 0, false, true));
+m2_table03.put(List.of("c463", "a226", "a9e5", 1589, 3827, 3378, false, false, false, "bdf5", "e780", 0, 104, true, true));
+m2_table03.put(List.of("f017", "dc69", "b7a1", 39, 0, 13785, true, true, false, "eeb5", "b664", 66206, 1850, false, false));
+m2_table03.put(Arrays.asList("a868", "e0cb", "ae04", 0, 27, 0, true, null, false, "aa60", "ec9d", 217471, 0, true, true));
+m2_table03.remove("bdbe");
+m2_table03.put(List.of("cccd", "d279", "c335", 0, 0, 215, true, true, true, "d39f", "b813", 223, 0, false, true));
+m2_table03.put(List.of("ba2f", "b674", "a923", 834, 0, 0, false, false, true, "ecf1", "bf72", 0, 0, true, true));
+m2_table03.put(Arrays.asList("b22b", "e893", "c018", null, 0, 0, true, false, true, "db81", "d380", 69, 164, true, false));
+m2_table03.put(List.of("c516", "ad34", "a42e", 302, 846, 2140, false, true, true, "b6a5", "d1da1", 119, 14, true, false));
+m2_table03.remove("e746");
+m2_table03.put(List.of("c43c5", "b45f", "c31b", 0, 0, 2014, false, false, true, "b521", "c2da", 16, 1, true, true));
+m2_table03.put(List.of("b60b", "cbd6", "fa4f", 458, 29, 316, false, false, true, "c6c5", "fa7a", 1443, 0, false, true));
+m2_table03.put(List.of("c01f", "dc7b", "ac94", 235046, 193, 10094, true, false, true, "cbbf5", "a8db", 0, 0, true, true));
+m2_table03.put(List.of("b570", "e95c", "a4a2", 0, 8, 0, true, false, true, "db79", "a9a4d", 176795, 10, false, false));
+m2_table03.put(List.of("e7a3", "de88", "d42c", 122, 49, 370, false, false, false, "aee1", "ea7c", 634, 0, false, true));
+m2_table03.remove("f384");
+m2_table03.put(List.of("eb32", "f271", "b925", 0, 192, 0, false, true, true, "a5b04", "f8e9", 630, 945, false, false));
+m2_table03.put(Arrays.asList("ecd3", "c668", "a911", 2, 0, 11, false, true, false, "fe6e", "c7cd", 163565, 111, null, true));
+m2_table03.get("a2b9");
+m2_table03.get("be42");
+m2_table03.remove("b878");
+m2_table03.get("d49d");
+m2_table03.get("ae97f");
+m2_table03.put(List.of("ceca", "c0c2", "c0c5", 0, 0, 4792, false, true, false, "cd8a", "b740", 3, 10, true, true));
+m2_table03.put(List.of("a714", "c629", "cceb", 0, 0, 0, true, false, false, "a1a8", "f7b5", 16, 0, true, false));
+m2_table03.put(List.of("d93c", "b84e", "a9219", 0, 0, 416, true, false, false, "bc72", "f00c", 156, 902, true, false));
+m2_table03.put(List.of("bbdb", "f715", "e847", 0, 2, 0, false, true, false, "c440", "b270", 115, 2, false, false));
+m2_table03.remove("f76f");
+m2_table03.put(List.of("e081", "bad3", "b5ed6", 41, 0, 6, true, false, true, "d54f", "f68f", 0, 0, false, false));
+m2_table03.put(List.of("e381", "babb3", "b55c", 161, 4479, 0, true, false, true, "d38c", "a7bff", 0, 479, true, false));
+m2_table03.remove("b524");
+m2_table03.get("d3bae");
+m2_table03.put(List.of("ded8", "cf69", "dced", 7, 0, 6, false, false, false, "cbf0", "a053", 12594, 0, true, true));
+m2_table03.put(List.of("ba44", "ef84", "cc19", 0, 2, 157, false, true, false, "ee87", "a2ca", 1331, 2, true, true));
+m2_table03.put(List.of("d1f1", "ed50", "a979", 0, 110, 0, false, true, false, "aabc", "cf75", 0, 313, true, true));
+m2_table03.put(List.of("f6d50", "cc32", "b063", 19, 248, 0, false, true, false, "cc87", "cf70", 0, 0, false, false));
+m2_table03.remove("af72");
+m2_table03.remove("c14f");
+m2_table03.put(List.of("fc5b", "f0d9", "bfb0", 330, 0, 3401, true, false, false, "c3b2", "cae6", 0, 99, true, true));
+m2_table03.put(List.of("b748", "e911", "f16f", 2288, 0, 4, true, false, false, "d0f4", "aeeef", 0, 772, true, true));
+m2_table03.remove("d8f8");
+m2_table03.put(List.of("db2a", "f406", "bbda", 1, 0, 1929, true, false, true, "e186", "e343", 0, 0, true, true));
+m2_table03.remove("dac0");
+m2_table03.put(List.of("abdb", "e896", "f01c", 50, 3180, 0, true, false, true, "c790", "f368", 0, 0, true, true));
+m2_table03.put(Arrays.asList("d593", "af8b", "cd62", 2, 0, 25531, false, true, null, "c3f5", "d95f", 4849, 0, false, true));
+m2_table03.get("a729");
+m2_table03.get("b211");
+m2_table03.put(List.of("a23a", "ce19", "a12d", 63068, 17992, 269, true, false, true, "a58c", "ed8d", 2, 139, false, false));
+m2_table03.put(List.of("bbed", "cacd", "d8002", 1340, 0, 763, false, true, false, "a836", "c6a4", 0, 6, true, false));
+m2_table03.put(List.of("a2e2", "dad0", "d0b2", 29, 0, 0, true, false, false, "e632", "d651", 0, 0, false, true));
+m2_table03.put(Arrays.asList("a503", "be7f", "a9a6", 0, 0, 0, false, false, false, "a9c9", "cedb", 138, 0, true, null));
+m2_table03.put(List.of("dbb4", "fe71", "f9e5", 4, 0, 6003, true, true, false, "cc17", "dabe", 0, 0, true, false));
+m2_table03.remove("b389");
+m2_table03.put(List.of("a115", "ad63", "e17a", 2, 0, 0, false, true, false, "f175", "a441", 611, 0, false, true));
+m2_table03.put(List.of("aa0c", "a6c0", "f4a19", 0, 68, 1478, true, false, false, "a3e69", "fe9e", 1005, 0, false, false));
+m2_table03.put(List.of("a6b3", "ae95", "e855", 0, 115940, 11700, true, true, true, "a8c2", "ae02", 1444, 31, true, false));
+m2_table03.put(List.of("ca51", "a8933", "b89e", 1, 0, 0, true, false, false, "ae1e", "a275", 0, 0, true, true));
+m2_table03.put(List.of("bcbc", "d00a", "dd91", 2880, 0, 10368, false, true, true, "db30", "d162", 6855, 8497, true, false));
+m2_table03.put(List.of("b061", "a06c7", "f67c", 115, 0, 0, true, false, true, "bd9a", "ac17", 25727, 436, true, true));
+m2_table03.remove("cf28");
+m2_table03.remove("c550");
+m2_table03.put(Arrays.asList("fbab", "c5f64", "f084a", 3, 0, 18, false, true, false, "c1c8", "f268", 1002, null, false, true));
+m2_table03.put(List.of("ec0d", "e069", "e2b5", 0, 0, 0, false, false, true, "db55", "cad0", 456, 47097, true, true));
+m2_table03.put(List.of("d886", "c51b", "dc18", 3, 961, 0, true, true, false, "d1b4", "ffec", 13, 0, false, true));
+m2_table03.put(List.of("d841", "c48e", "aea4", 0, 31, 0, false, true, false, "db53", "b8bd", 0, 100, true, false));
+m2_table03.remove("e55b");
+m2_table03.put(List.of("c406", "c247", "c66e", 0, 0, 0, true, false, true, "e09f", "cede7", 0, 0, true, true));
+m2_table03.get("af82");
+m2_table03.remove("a306");
+m2_table03.put(List.of("d695", "e479", "ebd5", 10, 1357, 470, true, false, true, "bfca", "cbbe", 1, 0, false, false));
+m2_table03.put(List.of("dfd5", "cdca", "afeb", 2, 2, 61009, false, false, true, "e808", "ad384", 2, 0, true, true));
+m2_table03.put(List.of("d31d", "b74c", "fa1d", 13, 1, 10, true, true, false, "f697", "a317", 0, 0, false, true));
+m2_table03.put(List.of("d712", "cefdd", "d6b4", 0, 0, 388, true, false, false, "da8f", "a9f4", 630, 22, false, true));
+m2_table03.put(Arrays.asList("c8df", "e073", "bed2", null, 0, 137, true, false, true, "f549", "ab99f", 0, 0, true, true));
+m2_table03.put(List.of("cc7c", "e98a", "beff", 336484, 6, 14, false, false, true, "fc8c", "cc59", 0, 0, true, true));
+m2_table03.put(List.of("a91a", "a46b", "f2ad", 0, 1205, 0, true, true, false, "e23b", "f4ca", 0, 0, true, false));
+m2_table03.put(Arrays.asList("fed0", "f313", "e6b0", 2, 885, 1153, false, false, true, "d2ff", "e6bf", 0, null, false, true));
+m2_table03.remove("bc906");
+m2_table03.remove("f4de");
+m2_table03.get("e5f5");
+m2_table03.put(List.of("e104", "bf8f", "d649", 12355, 6150, 0, false, true, true, "a35d", "bb38", 61, 0, true, true));
+m2_table03.put(List.of("dff8", "d66c", "d6eb", 12, 6883, 0, false, true, true, "fe7a", "e1f9", 0, 1, false, false));
+m2_table03.put(List.of("cf63", "f77f", "d2f4", 0, 0, 0, false, false, false, "b097", "b313", 1, 0, true, true));
+m2_table03.put(List.of("a962", "bf65", "e86e", 568, 280, 48, false, true, true, "a37e", "bb062", 0, 491, true, false));
+m2_table03.remove("e2bd");
+m2_table03.put(List.of("a44f", "c616", "a131", 0, 72, 1, false, true, true, "fe96", "cfb9", 0, 2511, false, true));
+m2_table03.put(Arrays.asList("aa32", "a55b", "c7af", null, 2, 0, false, false, true, "d7b3", "c6b9", 1, 0, true, true));
+m2_table03.put(List.of("d78d", "dfbf", "e405", 20, 0, 0, false, true, false, "a085", "b3be", 407, 0, true, false));
+m2_table03.put(List.of("e1fb", "b40f", "d699", 1719, 0, 46, true, false, false, "bb5a", "c152", 0, 0, false, true));
+m2_table03.get("e355");
+m2_table03.put(List.of("a4744", "b931", "b315", 0, 0, 0, true, false, true, "a777", "a068", 0, 1, true, true));
+m2_table03.put(Arrays.asList("da55", null, "b3c3", 1, 13, 19, false, false, true, "b665", "f4290", 0, 141, true, false));
+m2_table03.remove("c5aa1");
+m2_table03.put(List.of("e7c2", "fb7c7", "d748", 13, 16, 0, true, true, false, "ab93", "af4f8", 71, 45, false, true));
+m2_table03.put(List.of("a19f", "d239", "d1bf", 12619, 164985, 0, false, false, true, "c83e", "a84e2", 14843, 0, false, true));
+m2_table03.put(List.of("afa35", "af764", "bc9f", 185591, 6, 168, false, true, false, "eab4", "b023", 0, 10, true, false));
+m2_table03.put(List.of("d881", "b08a", "d5d8", 0, 0, 0, true, true, true, "c03a", "ccec", 0, 0, true, true));
+m2_table03.remove("f7d5");
+m2_table03.put(List.of("e1e9", "d432", "d8cc", 0, 0, 8891, false, true, true, "bb7e", "b723", 0, 0, false, false));
+m2_table03.put(List.of("b385", "b0bb", "b23a", 9670, 31812, 6, true, true, false, "d251", "c099", 0, 0, true, false));
+m2_table03.remove("d788");
+m2_table03.put(List.of("a6f4", "e859", "d4a6", 4744, 1318, 344, true, true, false, "ebfba", "e7e2", 235, 2, false, true));
+m2_table03.put(List.of("d248", "d6fa7", "ccf0c", 0, 18, 167, true, false, false, "dff5", "fa43", 110, 1, false, true));
+m2_table03.put(Arrays.asList("cd74", "b36b", "f277", 1232, 100, 10766, null, true, true, "f066", "e017", 246, 0, true, false));
+m2_table03.put(List.of("bfe5", "b7d5", "fa0d1", 11, 16, 3, true, true, false, "ecc1", "e448", 18, 298, true, false));
+m2_table03.put(Arrays.asList("c302", null, "f154", 0, 0, 15420, false, true, false, "afa1", "f47d", 3470, 135, true, false));
+m2_table03.put(List.of("d9a9", "ebcd", "eaea", 42, 0, 0, true, true, false, "c61e", "a9bc", 2591, 0, false, true));
+m2_table03.get("a598");
+m2_table03.put(List.of("cdeb0", "f5c4b", "a86d", 0, 1579, 0, true, true, false, "cc0a", "bea9", 0, 1, true, true));
+m2_table03.put(Arrays.asList("ae91e", "c7a3", null, 70, 1253, 70, false, false, true, "f102", "caf3", 14, 16391, true, true));
+m2_table03.remove("f262");
+m2_table03.put(List.of("b5a5", "a64a", "ca26", 0, 7, 346, false, true, true, "c9a1", "c0ee", 0, 1, true, true));
+m2_table03.put(List.of("b686", "bb17", "c92a", 0, 88, 0, false, true, false, "b8d5", "cf0d7", 11, 0, true, false));
+m2_table03.put(Arrays.asList("dd90e", "ea9c", "ff6f", 0, 24, 10, true, false, false, "a71e", "f643", 0, 87, true, null));
+m2_table03.put(List.of("be16", "c0ad", "bcc4", 0, 2108, 0, true, true, true, "d2b4", "befa", 449985, 737, true, true));
+m2_table03.put(List.of("c18d", "fdfe", "acb8e", 5571, 34, 0, false, false, true, "ed62", "e580", 87315, 0, true, true));
+m2_table03.put(List.of("c6a18", "b0b4", "a88f", 0, 119, 0, false, false, false, "fdc4", "b661", 0, 46547, true, true));
+m2_table03.get("abe8");
+m2_table03.put(List.of("feaa", "dc96", "f93a", 2107, 5, 2, true, false, false, "f4c7", "f2bd", 0, 0, true, false));
+m2_table03.get("b2a4");
+m2_table03.put(List.of("e19a", "f563", "b6d7", 0, 0, 0, true, true, false, "de1c", "dcf1", 43, 7, false, true));
+m2_table03.get("db4f");
+m2_table03.put(List.of("a2c2", "c7ec", "af5f2", 11664, 0, 5473, false, false, false, "fe22", "a260", 0, 5, true, true));
+m2_table03.put(List.of("b409", "fc371", "db59", 24, 2395, 531, true, false, true, "f389", "e151", 13, 152, false, true));
+m2_table03.get("a215");
+m2_table03.put(List.of("d845", "ece1", "b715", 0, 6656, 0, true, false, true, "bd1d", "e38d8", 368665, 0, false, false));
+m2_table03.put(List.of("d445", "fd08", "b5c0", 0, 0, 0, false, false, false, "ac61", "c464", 46, 0, false, true));
+m2_table03.remove("da39");
+m2_table03.put(List.of("a82b", "bf9e", "bc7a", 827, 0, 0, false, false, false, "ecd2", "ca28", 0, 1018, false, true));
+m2_table03.get("f1eb");
+m2_table03.put(List.of("c613", "b2a2", "ab20", 1, 80, 0, true, false, true, "bd74", "c858", 48, 25, false, false));
+m2_table03.put(Arrays.asList("b963", "c8f0", "ac36", 7, 0, 0, false, true, true, "b992f", "b311b", null, 10198, true, false));
+m2_table03.put(List.of("ec34", "c35b", "c91c", 0, 8, 7, false, true, true, "f10a", "cbb3c", 0, 1697, true, false));
+m2_table03.put(Arrays.asList("d051", "aa3ff", "b46a", 15925, null, 2, false, false, true, "cb96", "abe3", 21, 9538, false, true));
+m2_table03.put(List.of("b05f", "e401", "a91c2", 0, 1715, 535, true, false, false, "bba8", "ae5f", 0, 2, true, false));
+m2_table03.remove("a6d06");
+m2_table03.put(List.of("c0b1", "c838", "fc2e", 0, 183, 91, true, false, true, "a13d", "dd53", 5, 14, true, true));
+m2_table03.put(List.of("a353", "cb48", "dff1", 0, 208, 3, false, false, false, "bd403", "bce0", 756, 14293, false, false));
+m2_table03.put(List.of("bb8fb", "a971", "b457", 4874, 18, 0, true, true, false, "f782", "ca4e", 0, 3, true, false));
+m2_table03.put(List.of("a23b", "ccfd", "bd7c0", 976, 0, 23273, true, false, true, "c1e7", "c3eb", 0, 214, false, true));
+m2_table03.put(List.of("e21e", "ae05", "d97b", 15, 276, 0, false, true, true, "ea7d", "a0c1", 40558, 0, true, false));
+m2_table03.remove("c97f");
+m2_table03.remove("d11e");
+m2_table03.put(List.of("ee38", "c1cb", "cb95", 0, 46, 0, false, false, false, "b502", "e169", 141, 0, false, true));
+m2_table03.put(List.of("a65b", "c898", "a070", 0, 3500, 0, false, false, false, "a995", "f1d1", 0, 0, false, false));
+m2_table03.remove("e3be");
+m2_table03.get("d88d");
+m2_table03.put(List.of("be43", "f9d83", "bddb", 0, 3116, 85125, false, true, true, "db29", "f603", 2551, 437, true, true));
+m2_table03.put(Arrays.asList("f0f74", "ae3e", "c369", 36, 8, 487057, true, true, true, "cd9fc", "a350", 13941, null, true, true));
+m2_table03.put(Arrays.asList("c832", "adf8", "b683", null, 41188, 596, false, true, false, "baee8", "ca2e", 1040, 593, false, true));
+m2_table03.get("daae");
+m2_table03.put(List.of("cffa", "a663", "a95f", 304, 0, 0, true, false, true, "d9a6", "b75e", 1841, 9283, true, true));
+m2_table03.get("e63b");
+m2_table03.put(Arrays.asList("f981b", "e56c", "fe53", 0, 8, 0, true, true, false, "f47f", "cb1e", null, 51, true, false));
+m2_table03.put(List.of("aac3", "a103", "bf68", 3, 0, 1, true, false, true, "b7c6", "c678", 19724, 18, true, true));
+m2_table03.put(List.of("b07d8", "c372", "a764", 19452, 3, 44, false, true, true, "b8a3", "e9de", 51, 1, false, false));
+m2_table03.remove("bb63");
+m2_table03.put(List.of("e798", "a87c", "f4848", 28400, 0, 2014, false, false, true, "d9df", "b0df", 0, 48766, true, true));
+m2_table03.put(List.of("cb79", "ad52", "abb4d", 0, 298, 1, true, true, true, "d2756", "e361", 270, 142, false, true));
+m2_table03.put(List.of("a89d", "eb8a", "dcd6", 43, 20, 0, false, false, false, "f50a", "c074", 52191, 4, true, false));
+m2_table03.put(List.of("c12b", "ea15", "b198", 3, 316, 28, false, true, true, "a427", "afb1f", 0, 0, true, true));
+m2_table03.put(List.of("f77a", "d0f6", "e743", 0, 55800, 0, true, true, true, "e6e07", "f652", 0, 0, false, false));
+m2_table03.remove("f905");
+m2_table03.put(List.of("cb47", "c3ae", "e857", 3497, 0, 0, false, false, false, "fd96", "ecfd", 459, 0, false, false));
+m2_table03.put(List.of("aed6", "b008", "bf6f", 1241, 73443, 600, true, true, false, "d172", "ea01", 11026, 0, false, false));
+m2_table03.put(List.of("e25f", "d735", "df914", 0, 0, 0, false, true, false, "d703", "c477", 1231, 0, false, true));
+m2_table03.put(Arrays.asList("e54b", "fe5e", "c698", 35, 66, 0, false, true, false, "c133", "c7c5", null, 0, true, false));
+m2_table03.put(Arrays.asList("f800", "dd56", "efc6", 671, 20361, 5004, true, null, false, "a539", "a665", 0, 1, false, false));
+m2_table03.put(List.of("e4e3b", "a49fd", "b9f6", 1036, 6, 1, true, false, true, "a13c", "e8f45", 124, 0, true, true));
+m2_table03.put(List.of("a028", "e676", "aaec", 48, 0, 652, true, true, true, "f416", "ff47", 814, 4, true, true));
+m2_table03.put(List.of("c431", "da25b", "da9f", 1, 10079, 1, false, true, false, "bed9", "d70d", 11, 56268, true, false));
+m2_table03.remove("e56b");
+m2_table03.get("f772");
+m2_table03.put(List.of("f66e", "f9da3", "ed1a", 162, 0, 85, false, true, true, "da9e", "a455", 0, 0, true, false));
+m2_table03.put(List.of("ba1c", "a842", "adeb", 0, 21738, 9, true, false, true, "c748", "e350", 0, 0, false, true));
+m2_table03.put(List.of("c4fa", "a34d", "dcc7", 0, 0, 238, true, true, true, "ffbb", "d7ca", 0, 484, false, false));
+m2_table03.put(List.of("e93d", "a224", "f5a4", 28729, 0, 312, false, true, false, "ca80", "b7ef", 8, 0, false, true));
+m2_table03.put(List.of("acb8", "c8d1", "d5e0", 0, 8027, 0, true, true, false, "ff3cd", "aed3", 0, 0, true, false));
+m2_table03.put(List.of("a792", "e988", "c417", 1, 3, 0, false, true, true, "f1ba", "c4ca", 1465, 114639, false, false));
+m2_table03.put(List.of("c5b0", "f165", "f3b7", 1, 12980, 0, false, false, true, "f80e", "ee25", 18, 147, true, true));
+m2_table03.put(List.of("cfea", "a6c2", "f1894", 356557, 114687, 0, false, false, true, "aea6", "f2ed", 0, 224802, false, false));
+m2_table03.put(List.of("b4e2", "a3aaf", "decf", 0, 0, 7, false, false, false, "c8b2", "b957", 530, 1, true, true));
+m2_table03.remove("a9fb");
+m2_table03.remove("e250");
+m2_table03.put(List.of("f73a", "c352", "acc0", 0, 0, 1288, false, false, true, "da2a", "bc909", 43, 118, false, true));
+m2_table03.put(List.of("b75e3", "dc48", "ee62", 0, 0, 0, true, true, false, "a618", "c22c", 0, 0, true, true));
+m2_table03.put(List.of("e9a4", "a9f90", "b310", 6, 4, 2, true, false, false, "fb48", "caf8", 0, 0, false, true));
+m2_table03.put(List.of("ec357", "f95b", "f035", 449, 83, 5, true, true, false, "bba0", "adc9", 0, 0, false, false));
+m2_table03.put(List.of("fbce", "ee94", "f663", 63098, 48, 15, true, false, true, "d7c5", "a2e4c", 0, 221, true, true));
+m2_table03.put(List.of("ec4a", "cad6", "a337", 0, 110, 22, true, false, true, "a5b2", "c96c", 2474, 0, false, true));
+m2_table03.put(List.of("cf43", "e5fe", "a9dd", 3, 18, 0, false, true, true, "abdd", "da351", 1445, 0, false, false));
+m2_table03.put(List.of("b165", "f1157", "d7e1", 3, 30, 1009, true, false, true, "d829", "d3bb", 214, 0, false, false));
+m2_table03.remove("e531");
+m2_table03.remove("a988");
+m2_table03.put(List.of("e84d", "f5ea", "d4fc", 47, 1, 0, false, true, true, "af0d", "c0f2", 0, 98738, false, false));
+m2_table03.get("b2c7");
+m2_table03.put(List.of("bb59", "dca9", "e73f", 0, 11823, 0, false, false, false, "ad70", "d91d", 1, 1, true, true));
+m2_table03.put(List.of("c06f", "b215", "ebf6", 6, 607, 0, true, true, true, "dc75", "a373", 46006, 19, true, false));
+m2_table03.remove("aa36");
+m2_table03.put(List.of("fd4c", "c1d8", "dc57", 0, 0, 0, true, false, true, "d675", "a890", 554, 0, true, true));
+m2_table03.put(List.of("ec020", "eaff", "c3bf", 19, 1624, 171, false, false, false, "b459", "bae8", 3717, 1, false, true));
+m2_table03.put(Arrays.asList("b5459", "ae50", null, 0, 38, 73, false, true, true, "f7c0", "adc8", 0, 0, true, true));
+m2_table03.remove("ba2b");
+m2_table03.put(List.of("cb7d3", "c5e5", "e10b", 0, 0, 18, true, false, true, "d534", "c727", 105469, 4594, false, true));
+m2_table03.put(List.of("b8af", "bf1eb", "d56f", 0, 894, 0, false, true, true, "fa5b", "cdba", 5186, 0, false, false));
+m2_table03.remove("a6da");
+m2_table03.put(Arrays.asList("ca77", "d5e72", "b7f6", 50015, 0, 0, false, false, false, "a655", "d27e", null, 0, false, true));
+m2_table03.remove("a2e3");
+m2_table03.put(Arrays.asList("c5e4", "a996", "ba86", 628, 4, 13044, false, true, false, "ace66", "e23a", 264, 6200, true, null));
+m2_table03.put(Arrays.asList("b15d", "fbf3", "fe6b", 10, 2964, null, false, false, false, "ff01", "a62f", 0, 24, false, false));
+m2_table03.remove("ae17");
+m2_table03.put(List.of("b26f", "e742", "b19fa", 6448, 2, 17, false, false, true, "e9b7", "d6fc", 0, 0, true, false));
+m2_table03.put(List.of("f659", "d228", "d3da", 0, 5, 44, true, false, true, "a402", "dba7b", 7, 4, true, false));
+m2_table03.put(List.of("d3f7", "bc2e", "a006e", 0, 1729, 45106, true, false, false, "bc514", "b979", 1150591, 0, true, false));
+m2_table03.remove("f5de");
+m2_table03.get("cce2");
+m2_table03.remove("a833f");
+m2_table03.put(List.of("a707", "e99e", "a604", 334, 488, 0, false, true, false, "be9c4", "cba1", 0, 42, false, true));
+m2_table03.put(List.of("df43", "d5ba", "a79e", 9, 0, 0, true, true, false, "d2fa", "a31e", 0, 118, false, false));
+m2_table03.put(List.of("d04b", "ad09", "bdff", 19, 21, 0, false, false, false, "cff2", "d7d5", 2, 3, false, true));
+m2_table03.remove("e087");
+m2_table03.put(List.of("e892", "d8e87", "e233e", 4521, 167, 396, true, true, true, "fca3", "aa17", 0, 0, true, true));
+m2_table03.put(List.of("f60d", "e4e5", "d686", 8188, 0, 4695, true, false, true, "b2e6", "ab25", 1, 0, false, true));
+m2_table03.put(List.of("c9098", "e5c78", "ae8a", 3, 105, 3, false, true, true, "d508e", "b48d", 47, 0, true, true));
+m2_table03.put(List.of("a49a", "f07e", "be26", 148, 166, 103, true, false, false, "a515", "c6d7f", 94, 42, false, true));
+m2_table03.remove("dc19");
+m2_table03.remove("ee2c");
+m2_table03.put(List.of("c117", "c311", "e7ec4", 591, 1332, 0, true, true, true, "d3f9", "b8df", 0, 825, false, true));
+m2_table03.put(List.of("f142", "ebcf", "ba5c", 0, 0, 6, true, true, false, "d15d", "a267", 80, 0, false, false));
+m2_table03.put(List.of("f19a", "df69", "d271", 309, 42287, 0, false, false, true, "d80f", "fadd8", 0, 0, false, true));
+m2_table03.put(List.of("ed90", "ba29", "f517", 1873, 1565, 3967, false, false, true, "fc1b", "ed07", 554, 3336, true, true));
+m2_table03.put(List.of("bc4b", "a41c", "c4e6", 55, 117, 2629, true, false, false, "ec1f", "b050", 0, 255782, false, true));
+m2_table03.put(List.of("f89b", "a736f", "a4e5", 0, 88, 0, false, true, true, "bffa", "acd9", 21, 150, true, false));
+m2_table03.put(List.of("abf7", "baee", "a780", 0, 1366, 0, true, false, false, "ebc0", "f260", 1439, 4, true, false));
+m2_table03.put(List.of("a8b4", "afd6", "dba8", 319, 1074, 7, false, false, false, "aabf", "c80a", 0, 0, true, true));
+m2_table03.put(List.of("fab94", "ba55", "bc21", 1, 188, 0, false, false, false, "f909", "e9fb", 0, 15, false, false));
+m2_table03.put(List.of("fbc5", "f7b4", "b161e", 0, 0, 0, false, true, false, "dd3a", "ea6f", 0, 0, false, true));
+m2_table03.put(List.of("d5b9", "d1296", "ae3a", 0, 0, 0, true, false, false, "c45b", "b1c2", 0, 230, true, false));
+m2_table03.put(List.of("e452", "ae7f", "a158", 0, 0, 41, true, false, true, "ceed", "b9771", 3, 116, false, false));
+m2_table03.put(List.of("e18c", "d77c", "af773", 0, 8248, 0, false, true, true, "a035", "e111", 594, 1, true, true));
+m2_table03.put(Arrays.asList("ce2f", null, "b35b", 0, 128, 0, true, false, false, "ac37c", "a00b", 770331, 0, false, false));
+m2_table03.put(List.of("f50d", "f4f5", "b465", 0, 1, 1, false, true, false, "e88ea", "ec6e5", 1280, 0, true, false));
+m2_table03.remove("f460");
+m2_table03.put(List.of("e71c", "a5be", "ef8b", 34, 0, 63, true, true, true, "b5538", "b2de2", 21, 988, true, false));
+m2_table03.put(List.of("d75c", "ee06", "ed4b", 0, 0, 3546, false, false, true, "e460", "d134", 0, 0, false, true));
+m2_table03.put(List.of("f2eb", "b3c0", "eb96", 43, 45, 3, true, false, true, "ce36", "a516", 0, 4, true, true));
+m2_table03.remove("d8c2");
+m2_table03.put(List.of("f8c1", "fd46", "b77fb", 109537, 0, 15, true, true, true, "bd03", "bb55", 0, 81, true, false));
+m2_table03.remove("e368");
+m2_table03.remove("cc91");
+m2_table03.put(List.of("a183", "f352", "d98f", 558, 22, 0, false, true, false, "db5b", "a1fa", 12905, 0, false, true));
+m2_table03.remove("afd7");
+m2_table03.get("f7b9");
+m2_table03.put(List.of("f37a", "f8cc", "e197", 0, 0, 129970, true, true, true, "e403", "dc99", 1, 284, false, true));
+m2_table03.get("c162");
+m2_table03.put(List.of("cc36", "e920", "b307", 0, 3015, 0, true, false, true, "b3de", "c267d", 35, 55, true, true));
+m2_table03.put(List.of("ad50", "d893", "f745", 279, 3, 0, false, false, false, "a4a0", "dd3c", 0, 0, false, true));
+m2_table03.put(List.of("b1f7", "bb66", "c171", 0, 21, 0, true, false, false, "f7ce", "a1f4", 12, 3013, true, true));
+m2_table03.put(List.of("f5d3", "a2c0", "a2dd", 0, 535, 0, false, true, true, "c575", "bae2", 0, 0, true, true));
+m2_table03.put(List.of("f060", "a1e36", "ed19", 0, 34, 1, true, false, false, "cb29", "b28d", 0, 15003, true, true));
+m2_table03.put(Arrays.asList("afbd", "dd85d", "b26e", 0, 0, 24, null, true, true, "a43f1", "a10c", 117673, 8, false, true));
+m2_table03.put(List.of("ae97", "f55a", "bc03", 3, 0, 0, false, true, false, "aab9", "d43d", 629, 0, false, true));
+m2_table03.remove("beaa");
+m2_table03.get("a9c55");
+m2_table03.put(List.of("c0bb", "e72d", "c4e9a", 0, 0, 17, true, true, true, "f4d9", "f0ad8", 33, 1589, false, false));
+m2_table03.remove("fa7c");
+m2_table03.get("d9f3");
+m2_table03.remove("e90a");
+m2_table03.remove("e1bd");
+m2_table03.put(List.of("b731", "a095", "d888", 0, 52, 47, true, true, true, "ac4b", "a31f7", 0, 0, false, false));
+m2_table03.put(List.of("e21a", "d78c", "a9f0a", 18, 139, 23180, false, false, false, "c788", "b6ec", 3, 2353, false, false));
+m2_table03.put(List.of("ad4b", "e910", "f908", 1223613, 868, 0, true, true, false, "a9b2", "aad8", 0, 0, true, false));
+m2_table03.remove("e0b0");
+m2_table03.put(List.of("d7d1", "bc23c", "cbfe", 27, 0, 0, false, true, true, "a11c", "dfa8", 489, 0, false, false));
+m2_table03.put(List.of("af5b", "e524", "d86d", 0, 0, 0, true, true, false, "ec71a", "a35e", 3309, 0, true, false));
+m2_table03.put(List.of("bacd", "ab33", "b331", 2, 110, 1783, true, true, true, "a2c7", "c7c8", 0, 0, false, false));
+m2_table03.put(Arrays.asList("f8ce", null, "a61e", 141, 13, 43, true, false, false, "a8fe", "c4d7", 57765, 31, true, true));
+m2_table03.put(List.of("bd06", "a3dd", "a5d0f", 128, 0, 34231, false, true, false, "d998", "dc3a", 3158, 17, false, true));
+m2_table03.get("a371");
+m2_table03.put(List.of("b5a6", "c0b3", "a35c4", 0, 0, 79, true, false, true, "d8fa", "e3df", 0, 0, true, true));
+m2_table03.get("d579");
+// Random Seed: 1082180784
+m2_table03 = null;
+
+m2_table03 = new HashFileTable("m2_table03");
+m2_table03.getTableName();
+m2_table03.getColumnNames();
+m2_table03.getColumnTypes();
+m2_table03.getPrimaryIndex();
+m2_table03.getTableName();
+m2_table03.getColumnNames();
+m2_table03.getColumnTypes();
+m2_table03.getPrimaryIndex();
+m2_table03.get("ae98");
+m2_table03.get("a5bf");
+m2_table03.get("ed4d");
+m2_table03.get("c77e");
+m2_table03.get("e307");
+m2_table03.get("a736");
+m2_table03.get("dfae");
+m2_table03.get("da15");
+m2_table03.get("c3ce");
+m2_table03.get("b870");
+m2_table03.get("ba49");
+m2_table03.get("c847");
+m2_table03.get("dc83");
+m2_table03.get("c29e");
+m2_table03.get("b7a6");
+m2_table03.get("d530");
+m2_table03.get("a3030");
+m2_table03.get("b9b6");
+m2_table03.get("a7d5b");
+m2_table03.get("d190");
+m2_table03.get("a10f");
+m2_table03.get("f16c");
+m2_table03.get("a556");
+m2_table03.get("f51c");
+m2_table03.get("af69");
+m2_table03.get("b937");
+m2_table03.get("d1a4");
+m2_table03.get("f24b");
+m2_table03.get("cb32");
+m2_table03.get("b4ede");
+m2_table03.get("f29f");
+m2_table03.get("eb7d");
+m2_table03.get("c680");
+m2_table03.get("dba6");
+m2_table03.get("a759");
+m2_table03.get("ca36");
+m2_table03.get("aa4f");
+m2_table03.get("b2cf");
+m2_table03.get("ee2a");
+m2_table03.get("d509");
+m2_table03.get("aa94");
+m2_table03.get("e1b6");
+m2_table03.get("f2caa");
+m2_table03.get("f016");
+m2_table03.get("d9d6");
+m2_table03.get("f68a");
+m2_table03.get("d3915");
+m2_table03.get("bc85");
+m2_table03.get("ac77");
+m2_table03.get("a9ce");
+m2_table03.get("aae5");
+m2_table03.get("b8f3");
+m2_table03.get("bb57");
+m2_table03.get("e8e4");
+m2_table03.get("df60");
+m2_table03.get("c58f");
+m2_table03.get("eebd");
+m2_table03.get("ff6c");
+m2_table03.get("ab3d");
+m2_table03.get("ad89");
+m2_table03.get("d93a");
+m2_table03.get("cef7");
+m2_table03.get("a395");
+m2_table03.get("d1cf");
+m2_table03.get("f4d1");
+m2_table03.get("e462");
+m2_table03.get("a3d79");
+m2_table03.get("a781");
+m2_table03.get("a919");
+m2_table03.get("bce90");
+m2_table03.get("d9f2");
+m2_table03.get("aa97");
+m2_table03.get("d581");
+m2_table03.get("ae0d");
+m2_table03.get("b561");
+m2_table03.get("c89c");
+m2_table03.get("c74c");
+m2_table03.get("d5d6");
+m2_table03.get("b7cb");
+m2_table03.get("ff30");
+m2_table03.get("a54f");
+m2_table03.get("fd53");
+m2_table03.get("d5dd");
+m2_table03.get("eaae");
+m2_table03.get("f948");
+m2_table03.get("db0f6");
+m2_table03.get("d6bd");
+m2_table03.get("b44c");
+m2_table03.get("d254");
+m2_table03.get("cfd4");
+m2_table03.get("bcaf");
+m2_table03.get("b2bd");
+m2_table03.get("bb1f");
+m2_table03.get("f2b1");
+m2_table03.get("dde43");
+m2_table03.get("c07a");
+m2_table03.get("e55f");
+m2_table03.get("b666");
+m2_table03.get("b11a");
+m2_table03.get("d8e2");
+m2_table03.get("bad7");
+m2_table03.get("bca8");
+m2_table03.get("f853");
+m2_table03.get("e04b");
+m2_table03.get("e0f2");
+m2_table03.get("ff1b");
+m2_table03.get("b492");
+m2_table03.get("a702");
+m2_table03.get("be2d");
+m2_table03.get("ac22");
+m2_table03.get("fa51");
+m2_table03.get("ad32");
+m2_table03.get("abed");
+m2_table03.get("c1ab");
+m2_table03.get("ca37");
+m2_table03.get("c498");
+m2_table03.get("d82c");
+m2_table03.get("a463");
+m2_table03.get("a63d");
+m2_table03.get("ab0a");
+m2_table03.get("bff1");
+m2_table03.get("b0c7");
+m2_table03.get("ac5a");
+m2_table03.get("fd00");
+m2_table03.get("a82e2");
+m2_table03.get("bbbc5");
+m2_table03.get("afe3");
+m2_table03.get("d073");
+m2_table03.get("deed");
+m2_table03.get("e39a");
+m2_table03.get("d5e4");
+m2_table03.get("aa78");
+m2_table03.get("a06b");
+m2_table03.get("d73e");
+m2_table03.get("f231");
+m2_table03.get("f421");
+m2_table03.get("f128");
+m2_table03.get("c49b");
+m2_table03.get("bb5d");
+m2_table03.get("cf302");
+m2_table03.get("aa972");
+m2_table03.get("e160");
+m2_table03.get("a3a0");
+m2_table03.get("bc61");
+m2_table03.get("a459");
+m2_table03.get("ec70");
+m2_table03.get("d080");
+m2_table03.get("b575");
+m2_table03.get("e1a3");
+m2_table03.get("b969");
+m2_table03.get("a4ca");
+m2_table03.get("d62b8");
+m2_table03.get("cdd6");
+m2_table03.get("d78a");
+m2_table03.get("bdfe");
+m2_table03.get("fa46");
+m2_table03.get("a36d1");
+m2_table03.get("e106");
+m2_table03.get("c050");
+m2_table03.get("a7bb");
+m2_table03.get("e7c9");
+m2_table03.get("db56");
+m2_table03.get("ba73");
+m2_table03.get("d044");
+m2_table03.get("e366b");
+m2_table03.get("eeacf");
+m2_table03.get("fc96");
+m2_table03.get("ebdb");
+m2_table03.get("cffc");
+m2_table03.get("c08f");
+m2_table03.get("aa4b");
+m2_table03.get("a446");
+m2_table03.get("ef72");
+m2_table03.get("f53f");
+m2_table03.get("d119");
+m2_table03.get("b9222");
+m2_table03.get("cb52a");
+m2_table03.get("d3c4");
+m2_table03.get("f9f5");
+m2_table03.get("dd07");
+m2_table03.get("ed40");
+m2_table03.get("c0f7");
+m2_table03.get("ddbf");
+m2_table03.get("b237e");
+m2_table03.get("a989");
+m2_table03.get("c339");
+m2_table03.get("a77e");
+m2_table03.get("fa15");
+m2_table03.get("c10b9");
+m2_table03.get("d5c4c");
+m2_table03.get("e5e7");
+m2_table03.get("b177");
+m2_table03.get("cbd7");
+m2_table03.get("e871");
+m2_table03.get("e51f");
+m2_table03.get("b219");
+m2_table03.get("b4a2");
+m2_table03.get("b90d");
+m2_table03.get("db76");
+m2_table03.get("c59dd");
+m2_table03.get("f65c");
+m2_table03.get("fdf0");
+m2_table03.get("d8ef");
+m2_table03.get("c05b");
+m2_table03.get("a7ddf");
+m2_table03.get("c95a");
+m2_table03.get("cd1f");
+m2_table03.get("c4c1");
+m2_table03.get("b7f0");
+m2_table03.get("a580");
+m2_table03.get("c2629");
+m2_table03.get("e175");
+m2_table03.get("e305");
+m2_table03.get("ba7d");
+m2_table03.get("ff7b");
+m2_table03.get("c4cf");
+m2_table03.get("c660");
+m2_table03.get("c9e7");
+m2_table03.get("d286");
+m2_table03.get("aa93");
+m2_table03.get("be45");
+m2_table03.get("c6b4");
+m2_table03.get("d6b8");
+m2_table03.get("b7be");
+m2_table03.get("cc15");
+m2_table03.get("a6f23");
+m2_table03.get("f0ed");
+m2_table03.get("b577");
+m2_table03.get("cb6b");
+m2_table03.get("e6e22");
+m2_table03.get("c96e");
+m2_table03.get("fe21");
+m2_table03.get("b551");
+m2_table03.get("e77d");
+m2_table03.get("b25fd");
+m2_table03.get("df5c");
+m2_table03.get("dcc0");
+m2_table03.get("b37c");
+m2_table03.get("ed3d");
+m2_table03.get("e8e6");
+m2_table03.get("e5a3");
+m2_table03.get("eeb1");
+m2_table03.get("d80d");
+m2_table03.get("f649");
+m2_table03.get("a48f");
+m2_table03.get("d28f8");
+m2_table03.get("dc8f");
+m2_table03.get("ac35");
+m2_table03.get("c285b");
+m2_table03.get("a4403");
+m2_table03.get("a0d51");
+m2_table03.get("f54f");
+m2_table03.get("b87a");
+m2_table03.get("c220");
+m2_table03.get("b43c");
+m2_table03.get("fbd3");
+m2_table03.get("f26e");
+m2_table03.get("b186");
+m2_table03.get("ac01");
+m2_table03.get("c7e1");
+m2_table03.get("ee74");
+m2_table03.get("bb4c5");
+m2_table03.get("de7f");
+m2_table03.get("cedd");
+m2_table03.get("c6d8");
+m2_table03.get("a690");
+m2_table03.get("c91d");
+m2_table03.get("bbdc");
+m2_table03.get("b1c5a");
+m2_table03.get("e8af1");
+m2_table03.get("b2ac");
+m2_table03.get("ff83");
+m2_table03.get("d3e5");
+m2_table03.get("d075");
+m2_table03.get("a6dd");
+m2_table03.get("d3bc");
+m2_table03.get("a2e6f");
+m2_table03.get("ec92");
+m2_table03.get("fca4");
+m2_table03.get("d541");
+m2_table03.get("a341b");
+m2_table03.get("dceb");
+m2_table03.get("b596");
+m2_table03.get("cda4");
+m2_table03.get("dd47");
+m2_table03.get("a99c7");
+m2_table03.get("a25a");
+m2_table03.get("f84b");
+m2_table03.get("a642");
+m2_table03.get("fe38");
+m2_table03.get("a529");
+m2_table03.get("ad4f3");
+m2_table03.get("e5a7");
+m2_table03.get("d9b3");
+m2_table03.get("bb93");
+m2_table03.get("b9a9");
+m2_table03.get("a829");
+m2_table03.get("d9ee");
+m2_table03.get("e637");
+m2_table03.get("ce8b");
+m2_table03.get("ba20");
+m2_table03.get("f50b");
+m2_table03.get("ca9f");
+m2_table03.get("a90c");
+m2_table03.get("b6ca");
+m2_table03.get("e9ec");
+m2_table03.get("e23c");
+m2_table03.get("c4a2");
+m2_table03.get("e3f8");
+m2_table03.get("eafe");
+m2_table03.get("d6da");
+m2_table03.get("e7e0");
+m2_table03.get("d801");
+m2_table03.get("b504");
+m2_table03.get("a19c");
+m2_table03.get("a954");
+m2_table03.get("d9ef");
+m2_table03.get("d288");
+m2_table03.get("fdf1");
+m2_table03.get("d43ba");
+m2_table03.get("f338");
+m2_table03.get("a352");
+m2_table03.get("dcd3");
+m2_table03.get("b50b");
+m2_table03.get("a892");
+m2_table03.get("e284");
+m2_table03.get("a5f8");
+m2_table03.get("a1a70");
+m2_table03.get("b823");
+m2_table03.get("b892");
+m2_table03.get("c1da");
+m2_table03.get("a4021");
+m2_table03.get("babe0");
+m2_table03.get("b72f4");
+m2_table03.get("e56f");
+m2_table03.get("ffae");
+m2_table03.get("f5ae");
+m2_table03.get("a26c");
+m2_table03.get("a7b0");
+m2_table03.get("fd8a");
+m2_table03.get("a420");
+m2_table03.get("e9668");
+m2_table03.get("bed1c");
+m2_table03.get("f2ac");
+m2_table03.get("ba244");
+m2_table03.get("b51a2");
+m2_table03.get("c398");
+m2_table03.get("cd707");
+m2_table03.get("bad9");
+m2_table03.get("d4558");
+m2_table03.get("fb9a6");
+m2_table03.get("c46a");
+m2_table03.get("ae73");
+m2_table03.get("dda1");
+m2_table03.get("dbba");
+m2_table03.get("ece5");
+m2_table03.get("a6e2");
+m2_table03.get("b8f34");
+m2_table03.get("c18f");
+m2_table03.get("bf5d");
+m2_table03.get("dad9");
+m2_table03.get("acc71");
+m2_table03.get("b532");
+m2_table03.get("c963");
+m2_table03.get("bb1b");
+m2_table03.get("ee31");
+m2_table03.get("e8e0");
+m2_table03.get("e8a3");
+m2_table03.get("c6d2");
+m2_table03.get("f81c");
+m2_table03.get("bf04");
+m2_table03.get("ffb9");
+m2_table03.get("babb");
+m2_table03.get("bc6e");
+m2_table03.get("e9c11");
+m2_table03.get("e41e");
+m2_table03.get("aa87");
+m2_table03.get("e472f");
+m2_table03.get("ab40");
+m2_table03.get("b8b8");
+m2_table03.get("dee0");
+m2_table03.get("a6d5");
+m2_table03.get("f485");
+m2_table03.get("c812");
+m2_table03.get("e2e9");
+m2_table03.get("b088");
+m2_table03.get("d700");
+m2_table03.get("ce477");
+m2_table03.get("bec6");
+m2_table03.get("cebb");
+m2_table03.get("b4d0");
+m2_table03.get("f99e");
+m2_table03.get("e3cb");
+m2_table03.get("ede2");
+m2_table03.get("fd95");
+m2_table03.get("cdab");
+m2_table03.get("b20d");
+m2_table03.get("bf05");
+m2_table03.get("cfed");
+m2_table03.get("b01e");
+m2_table03.get("c456");
+m2_table03.get("e2c7");
+m2_table03.get("b6e49");
+m2_table03.get("d5e2");
+m2_table03.get("d4f2");
+m2_table03.get("e49e");
+m2_table03.get("e057");
+m2_table03.get("d524");
+m2_table03.get("ac55");
+m2_table03.get("aebd");
+m2_table03.get("ad07");
+m2_table03.get("ef2c1");
+m2_table03.get("aeb89");
+m2_table03.get("b928");
+m2_table03.get("e4b7");
+m2_table03.get("de22");
+m2_table03.get("ce08");
+m2_table03.get("c26e");
+m2_table03.get("e086");
+m2_table03.get("acfd");
+m2_table03.get("f178");
+m2_table03.get("a5ff");
+m2_table03.get("e2ab");
+m2_table03.get("f719");
+m2_table03.get("c017");
+m2_table03.get("c071");
+m2_table03.get("a0fb");
+m2_table03.get("e675");
+m2_table03.get("a97f");
+m2_table03.get("f7d3");
+m2_table03.get("f6b9");
+m2_table03.get("e8a3f");
+m2_table03.get("b981");
+m2_table03.get("c4d5");
+m2_table03.get("bc0f");
+m2_table03.get("cf224");
+m2_table03.get("de79");
+m2_table03.get("bef9");
+m2_table03.get("a4e3");
+m2_table03.get("dfca");
+m2_table03.get("db92c");
+m2_table03.get("a93a8");
+m2_table03.get("e4ed");
+m2_table03.get("ddbc");
+m2_table03.get("d957");
+m2_table03.get("a4f0");
+m2_table03.get("b3d4");
+m2_table03.get("c28a");
+m2_table03.get("c714");
+m2_table03.get("a94cc");
+m2_table03.get("d1d1");
+m2_table03.get("a05e");
+m2_table03.get("f5fb");
+m2_table03.get("c293");
+m2_table03.get("ee704");
+m2_table03.get("a600");
+m2_table03.get("e790");
+m2_table03.get("b9ac");
+m2_table03.get("d5bb");
+m2_table03.get("dcdb");
+m2_table03.get("edf4");
+m2_table03.get("d6a34");
+m2_table03.get("fa18");
+m2_table03.get("d2d4");
+m2_table03.get("e6d8");
+m2_table03.get("afc59");
+m2_table03.get("c418");
+m2_table03.get("fc99");
+m2_table03.get("d289");
+m2_table03.get("aba5");
+m2_table03.get("bdf1");
+m2_table03.get("b3789");
+m2_table03.get("c111");
+m2_table03.get("da11");
+m2_table03.get("a0de");
+m2_table03.get("a0b0");
+m2_table03.get("a802");
+m2_table03.get("ffbff");
+m2_table03.get("a29d");
+m2_table03.get("aebc");
+m2_table03.get("eb10");
+m2_table03.get("b1a0");
+m2_table03.get("ace3");
+m2_table03.get("e5e1");
+m2_table03.get("b8b9");
+m2_table03.get("c72e");
+m2_table03.get("ccf7");
+m2_table03.get("b1fe");
+m2_table03.get("b586");
+m2_table03.get("b355");
+m2_table03.get("ca17");
+m2_table03.get("ceae");
+m2_table03.get("d089");
+m2_table03.get("c408");
+m2_table03.get("e476");
+m2_table03.get("cbdb");
+m2_table03.get("f024");
+m2_table03.get("d361");
+m2_table03.get("e6cf");
+m2_table03.get("efb2");
+m2_table03.get("b411");
+m2_table03.get("b181");
+m2_table03.get("f6d6");
+m2_table03.get("f290");
+m2_table03.get("ed4e");
+m2_table03.get("ab397");
+m2_table03.get("cc77");
+m2_table03.get("b003");
+m2_table03.get("c106");
+m2_table03.get("b587");
+m2_table03.get("af33");
+m2_table03.get("c57f");
+m2_table03.get("c42b");
+m2_table03.get("b2a8");
+m2_table03.get("d61d");
+m2_table03.get("dc8c");
+m2_table03.get("a644e");
+m2_table03.get("c34b");
+m2_table03.get("d065");
+m2_table03.get("be46");
+m2_table03.get("e87d");
+m2_table03.get("f92b");
+m2_table03.get("a383d");
+m2_table03.get("c94c");
+m2_table03.get("a724");
+m2_table03.get("dd11");
+m2_table03.get("f791");
+m2_table03.get("d5f5");
+m2_table03.get("f240");
+m2_table03.get("a2ef");
+m2_table03.get("be14");
+m2_table03.get("fbf5");
+m2_table03.get("f2a8");
+m2_table03.get("bba2");
+m2_table03.get("c871");
+m2_table03.get("c141");
+m2_table03.get("a4d0");
+m2_table03.get("cb3e");
+m2_table03.get("fcd2");
+m2_table03.get("ffb2");
+m2_table03.get("cb7e2");
+m2_table03.get("e2fa");
+m2_table03.get("d45e2");
+m2_table03.get("cd43");
+m2_table03.get("ac4a");
+m2_table03.get("a8da");
+m2_table03.get("dc87");
+m2_table03.get("c842");
+m2_table03.get("dc20");
+m2_table03.get("abf6e");
+m2_table03.get("dc7cf");
+m2_table03.get("ee3f");
+m2_table03.get("e0ca");
+m2_table03.get("fef3");
+m2_table03.get("cd29");
+m2_table03.get("c042");
+m2_table03.get("b935");
+m2_table03.get("d4cf");
+m2_table03.get("a689");
+m2_table03.get("b78a");
+m2_table03.get("a3434");
+m2_table03.get("d1f0");
+m2_table03.get("d846");
+m2_table03.get("b035");
+m2_table03.get("bd6b6");
+m2_table03.get("d458");
+m2_table03.get("f744");
+m2_table03.get("de30");
+m2_table03.get("cb35");
+m2_table03.get("b6d6");
+m2_table03.get("c6a6");
+m2_table03.get("ba3c");
+m2_table03.get("c29a");
+m2_table03.get("e5c2");
+m2_table03.get("c9ca");
+m2_table03.get("ae67");
+m2_table03.get("f91f");
+m2_table03.get("b721");
+m2_table03.get("ddb0");
+m2_table03.get("dafe");
+m2_table03.get("f5c2");
+m2_table03.get("a5cc");
+m2_table03.get("adbe");
+m2_table03.get("d312");
+m2_table03.get("c603");
+m2_table03.get("e0b2");
+m2_table03.get("a612");
+m2_table03.get("b2bb");
+m2_table03.get("e765");
+m2_table03.get("a0a8");
+m2_table03.get("af4f");
+m2_table03.get("fd27");
+m2_table03.get("fdb3");
+m2_table03.get("e94c");
+m2_table03.get("f1a2");
+m2_table03.get("a137");
+m2_table03.get("fc25");
+m2_table03.get("d824");
+m2_table03.get("ddb7");
+m2_table03.get("eb9a");
+m2_table03.get("d377");
+m2_table03.get("ce0d");
+m2_table03.get("c173");
+m2_table03.get("c669");
+m2_table03.get("deb4f");
+m2_table03.get("b6db");
+m2_table03.get("e93b");
+m2_table03.get("e065");
+m2_table03.get("f4fb");
+m2_table03.get("d730e");
+m2_table03.get("b7b0");
+m2_table03.get("a1ec");
+m2_table03.get("f413");
+m2_table03.get("bd26");
+m2_table03.get("ac4cd");
+m2_table03.get("a8d77");
+m2_table03.get("ca05");
+m2_table03.get("c6c3");
+m2_table03.get("ebe6");
+m2_table03.get("b4295");
+m2_table03.get("d430");
+m2_table03.get("bdd3");
+m2_table03.get("f6ce");
+m2_table03.get("c22b");
+m2_table03.get("a7c0");
+m2_table03.get("fead");
+m2_table03.get("f487");
+m2_table03.get("f3d1");
+m2_table03.get("d249");
+m2_table03.get("a52e");
+m2_table03.get("d7f8");
+m2_table03.get("db13");
+m2_table03.get("bb81");
+m2_table03.get("a05f");
+m2_table03.get("ac37b");
+m2_table03.get("dccc");
+m2_table03.get("a94e");
+m2_table03.get("f873");
+m2_table03.get("d04f");
+m2_table03.get("ffe3");
+m2_table03.get("c79b");
+m2_table03.get("ddd6");
+m2_table03.get("f2de");
+m2_table03.get("af2d1");
+m2_table03.get("ff53");
+m2_table03.get("b7dc9");
+m2_table03.get("ba93");
+m2_table03.get("d2c1");
+m2_table03.get("fb86");
+m2_table03.get("caed");
+m2_table03.get("c74ea");
+m2_table03.get("c429");
+m2_table03.get("adcf8");
+m2_table03.get("f466");
+m2_table03.get("d151");
+m2_table03.get("e7cd");
+m2_table03.get("a1f8");
+m2_table03.get("bd43");
+m2_table03.get("dcf33");
+m2_table03.get("b358");
+m2_table03.get("c0a2");
+m2_table03.get("c4ba9");
+m2_table03.get("f992");
+m2_table03.get("a8bd");
+m2_table03.get("bf31");
+m2_table03.get("a1db");
+m2_table03.get("c9ea");
+m2_table03.get("ae5e");
+m2_table03.get("bcb1");
+m2_table03.get("ab212");
+m2_table03.get("c84b");
+m2_table03.get("c36f");
+m2_table03.get("ca13");
+m2_table03.get("b863e");
+m2_table03.get("bca0");
+m2_table03.get("ec6d1");
+m2_table03.get("fba8");
+m2_table03.get("eb17");
+m2_table03.get("c6f8");
+m2_table03.get("d563a");
+m2_table03.get("bce1");
+m2_table03.get("aaa1");
+m2_table03.get("ee55f");
+m2_table03.get("bcda");
+m2_table03.get("e033");
+m2_table03.get("dbb7");
+m2_table03.get("accb");
+m2_table03.get("cc60");
+m2_table03.get("b0f45");
+m2_table03.get("dead");
+m2_table03.get("bcab");
+m2_table03.get("a7f8");
+m2_table03.get("a5d6");
+m2_table03.get("eb19");
+m2_table03.get("dacf");
+m2_table03.get("cdc5");
+m2_table03.get("c955f");
+m2_table03.get("cecd");
+m2_table03.get("d9cf");
+m2_table03.get("fda8");
+m2_table03.get("f718");
+m2_table03.get("d9fb");
+m2_table03.get("abc1");
+m2_table03.get("aac6a");
+m2_table03.get("da722");
+m2_table03.get("c73d");
+m2_table03.get("a538");
+m2_table03.get("e24e");
+m2_table03.get("b67a");
+m2_table03.get("e97c");
+m2_table03.get("e0b37");
+m2_table03.get("c9780");
+m2_table03.get("a2c5");
+m2_table03.get("cd88");
+m2_table03.get("cec2");
+m2_table03.get("efaa");
+m2_table03.get("d802");
+m2_table03.get("c146");
+m2_table03.get("c1d9");
+m2_table03.get("bf5a");
+m2_table03.get("f8f0");
+m2_table03.get("a223");
+m2_table03.get("f6ee");
+m2_table03.get("a741");
+m2_table03.get("bf60");
+m2_table03.get("acbd");
+m2_table03.get("e4aa");
+m2_table03.get("a785");
+m2_table03.get("c8c3");
+m2_table03.get("be91");
+m2_table03.get("c8ef");
+m2_table03.get("de74");
+m2_table03.get("e6a5");
+m2_table03.get("beec");
+m2_table03.get("c178");
+m2_table03.get("f08d");
+m2_table03.get("c955");
+m2_table03.get("e842");
+m2_table03.get("cdbe");
+m2_table03.get("ddba");
+m2_table03.get("d008d");
+m2_table03.get("a434");
+m2_table03.get("a9b63");
+m2_table03.get("fbc2");
+m2_table03.get("fa8b");
+m2_table03.get("c878");
+m2_table03.get("ba0d");
+m2_table03.get("febd");
+m2_table03.get("e047");
+m2_table03.get("dd24");
+m2_table03.get("cd9f");
+m2_table03.get("a449");
+m2_table03.get("ec6e");
+m2_table03.get("b761");
+m2_table03.get("d6e8");
+m2_table03.get("cf9e");
+m2_table03.get("e4ba");
+m2_table03.get("fe72");
+m2_table03.get("bc22");
+m2_table03.get("d9ce");
+m2_table03.get("a255");
+m2_table03.get("b6c7e");
+m2_table03.get("a670");
+m2_table03.get("df6d");
+m2_table03.get("bac5");
+m2_table03.get("bf38");
+m2_table03.get("efb7");
+m2_table03.get("f21d");
+m2_table03.get("ac0f");
+m2_table03.get("f3dc");
+m2_table03.get("f9d1");
+m2_table03.get("dac7");
+m2_table03.get("dc39");
+m2_table03.get("e2b4");
+m2_table03.get("a554");
+m2_table03.get("e48a");
+m2_table03.get("d26c");
+m2_table03.get("a323");
+m2_table03.get("cc67");
+m2_table03.get("fa70");
+m2_table03.get("e8f9");
+m2_table03.get("b3cc7");
+m2_table03.get("c88c");
+m2_table03.get("ab5df");
+m2_table03.get("f665");
+m2_table03.get("add8");
+m2_table03.get("bdcc");
+m2_table03.get("dc37");
+m2_table03.get("e8c5");
+m2_table03.get("f832");
+m2_table03.get("c478");
+m2_table03.get("bc00");
+m2_table03.get("ba7e");
+m2_table03.get("ca71e");
+m2_table03.get("f696");
+m2_table03.get("e877");
+m2_table03.get("b009");
+m2_table03.get("edde");
+m2_table03.get("abb0");
+m2_table03.get("e9ee");
+m2_table03.get("fa66");
+m2_table03.get("b699d");
+m2_table03.get("c05e");
+m2_table03.get("f255");
+m2_table03.get("f36af");
+m2_table03.get("f3bb");
+m2_table03.get("ba25");
+m2_table03.get("a5e4");
+m2_table03.get("a276");
+m2_table03.get("f6d0");
+m2_table03.get("abbc");
+m2_table03.get("de90");
+m2_table03.get("de87");
+m2_table03.get("adc2");
+m2_table03.get("d6a2");
+m2_table03.get("bffd");
+m2_table03.get("af10");
+m2_table03.get("a47e");
+m2_table03.get("c122");
+m2_table03.get("ec99");
+m2_table03.get("ddfb");
+m2_table03.get("be03");
+m2_table03.get("aff3e");
+m2_table03.get("ee5c");
+m2_table03.get("d8fd");
+m2_table03.get("b8c8b");
+m2_table03.get("d5a4");
+m2_table03.get("d2f3");
+m2_table03.get("dd65");
+m2_table03.get("fbfb");
+m2_table03.get("eeb4");
+m2_table03.get("a03e");
+m2_table03.get("d6ab");
+m2_table03.get("c605");
+m2_table03.get("fddc");
+m2_table03.get("fbd6");
+m2_table03.get("ddfe");
+m2_table03.get("c520");
+m2_table03.get("a48d");
+m2_table03.get("e255");
+m2_table03.get("bbfd");
+m2_table03.get("cd83");
+m2_table03.get("d95d");
+m2_table03.get("bf361");
+m2_table03.get("e5f2");
+m2_table03.get("dd3b");
+m2_table03.get("ba8a");
+m2_table03.get("ae6b");
+m2_table03.get("dbcb");
+m2_table03.get("fdb4");
+m2_table03.get("ec57");
+m2_table03.get("e4c2");
+m2_table03.get("b69d");
+m2_table03.get("a817");
+m2_table03.get("af19");
+m2_table03.get("bea0f");
+m2_table03.get("f179");
+m2_table03.get("cc05");
+m2_table03.get("cc13");
+m2_table03.get("d185");
+m2_table03.get("fcd3");
+m2_table03.get("ade55");
+m2_table03.get("bddc");
+m2_table03.get("b5fb");
+m2_table03.get("e022");
+m2_table03.get("d216");
+m2_table03.get("a1d37");
+m2_table03.get("a89a");
+m2_table03.get("db34");
+m2_table03.get("f18f");
+m2_table03.get("b902");
+m2_table03.get("bc46");
+m2_table03.get("cb2620");
+m2_table03.get("a945");
+m2_table03.get("c1998");
+m2_table03.get("ace5d");
+m2_table03.get("cbd9");
+m2_table03.get("f626b");
+m2_table03.get("fa3d");
+m2_table03.get("ca3c");
+m2_table03.get("bf3a");
+m2_table03.get("e4a1");
+m2_table03.get("cb09");
+m2_table03.get("fc42");
+m2_table03.get("a9931");
+m2_table03.get("a952");
+m2_table03.get("bda8");
+m2_table03.get("f203");
+m2_table03.get("bb95");
+m2_table03.get("dd1a");
+m2_table03.get("b095");
+m2_table03.get("b225");
+m2_table03.get("bca89");
+m2_table03.get("e663");
+m2_table03.get("e890");
+m2_table03.get("b027");
+m2_table03.get("ebc4");
+m2_table03.get("a0cc");
+m2_table03.get("dc88");
+m2_table03.get("e14d");
+m2_table03.get("a530");
+m2_table03.get("f0f4");
+m2_table03.get("bcb8");
+m2_table03.get("b393");
+m2_table03.get("ee89");
+m2_table03.get("dec5");
+m2_table03.get("b045");
+m2_table03.get("b47a");
+m2_table03.get("b3b1d");
+m2_table03.get("bfbd");
+m2_table03.get("f796");
+m2_table03.get("c969");
+m2_table03.get("bc356");
+m2_table03.get("d424");
+m2_table03.get("a845");
+m2_table03.get("df34d");
+m2_table03.get("e508");
+m2_table03.get("c3bd");
+m2_table03.get("fd0d");
+m2_table03.get("fc4c");
+m2_table03.get("b3392");
+m2_table03.get("a95d");
+m2_table03.get("ee83");
+m2_table03.get("ca43");
+m2_table03.get("d641");
+m2_table03.get("d16c");
+m2_table03.get("f1c2");
+m2_table03.get("f84d");
+m2_table03.get("b6711");
+m2_table03.get("b1ae");
+m2_table03.get("e347b");
+m2_table03.get("b7ee");
+m2_table03.get("a546");
+m2_table03.get("d4e8");
+m2_table03.get("d34d");
+m2_table03.get("d63d");
+m2_table03.get("bf52");
+m2_table03.get("ba8d");
+m2_table03.get("dc465");
+m2_table03.get("eaf6");
+m2_table03.get("d2c0b");
+m2_table03.get("a45e");
+m2_table03.get("afcc");
+m2_table03.get("c0ffe");
+m2_table03.get("b996");
+m2_table03.get("bed1");
+m2_table03.get("e09a");
+m2_table03.get("b9e7");
+m2_table03.get("d96c");
+m2_table03.get("a40c");
+m2_table03.get("c039");
+m2_table03.get("d114");
+m2_table03.get("e4d6");
+m2_table03.get("eeab");
+m2_table03.get("af79");
+m2_table03.get("a477");
+m2_table03.get("e8dd");
+m2_table03.get("bd7b");
+m2_table03.get("f1d2");
+m2_table03.get("b1bf");
+m2_table03.get("b838");
+m2_table03.get("dff9");
+m2_table03.get("e557");
+m2_table03.get("f35e");
+m2_table03.get("c6b3");
+m2_table03.get("a254");
+m2_table03.get("c24d");
+m2_table03.get("a186");
+m2_table03.get("fa82");
+m2_table03.get("f4ef");
+m2_table03.get("c7f8a");
+m2_table03.get("cf9ed");
+m2_table03.get("e6a4");
+m2_table03.get("ee24");
+m2_table03.get("a347");
+m2_table03.get("d1f6");
+m2_table03.get("b6bd");
+m2_table03.get("e600");
+m2_table03.get("ec54");
+m2_table03.get("e234");
+m2_table03.get("a8e0");
+m2_table03.get("a74f");
+m2_table03.get("b5f1");
+m2_table03.get("f379");
+m2_table03.get("efa2");
+m2_table03.get("a48a");
+m2_table03.get("c274");
+m2_table03.get("faac");
+m2_table03.get("be2e");
+m2_table03.get("ebf5");
+m2_table03.get("d06c");
+m2_table03.get("e8fc");
+m2_table03.get("d0815");
+m2_table03.get("b653");
+m2_table03.get("b5a7");
+m2_table03.get("e35a");
+m2_table03.get("b170");
+m2_table03.get("d095");
+m2_table03.get("ee7a");
+m2_table03.get("a656");
+m2_table03.get("ad550");
+m2_table03.get("c2d80");
+m2_table03.get("cfaa");
+m2_table03.get("f6e4");
+m2_table03.get("fef2d");
+m2_table03.get("e070");
+m2_table03.get("a822");
+m2_table03.get("b142");
+m2_table03.get("e718");
+m2_table03.get("a2ce");
+m2_table03.get("a312");
+m2_table03.get("c0824");
+m2_table03.get("e79a");
+m2_table03.get("b97e7");
+m2_table03.get("c221");
+m2_table03.get("e295");
+m2_table03.get("bf02");
+m2_table03.get("ac8b");
+m2_table03.get("e276");
+m2_table03.get("f827");
+m2_table03.get("b02a");
+m2_table03.get("e232");
+m2_table03.get("a08f2");
+m2_table03.get("a8b9");
+m2_table03.get("aa11");
+m2_table03.get("d3d1");
+m2_table03.get("ad6f");
+m2_table03.get("e399");
+m2_table03.get("c4cb");
+m2_table03.get("a1808");
+m2_table03.get("d43a");
+m2_table03.get("d059");
+m2_table03.get("b321");
+m2_table03.get("d837");
+m2_table03.get("c17bd");
+m2_table03.get("ff49");
+m2_table03.get("be7d");
+m2_table03.get("d9ad");
+m2_table03.get("a68d");
+m2_table03.get("a423");
+m2_table03.get("b84bf");
+m2_table03.get("fbf8");
+m2_table03.get("d64d");
+m2_table03.get("afb43");
+m2_table03.get("bb65");
+m2_table03.get("a7bd");
+m2_table03.get("ecca");
+m2_table03.get("c914f");
+m2_table03.get("dc2a");
+m2_table03.get("a994");
+m2_table03.get("c71c");
+m2_table03.get("be92d");
+m2_table03.get("b376");
+m2_table03.get("c880");
+m2_table03.get("d0a6");
+m2_table03.get("dff6");
+m2_table03.get("fb58");
+m2_table03.get("b388");
+m2_table03.get("ab05");
+m2_table03.get("be29");
+m2_table03.get("dcc6");
+m2_table03.get("ef74");
+m2_table03.get("bc84");
+m2_table03.get("e261");
+m2_table03.get("b9d8");
+m2_table03.get("ed47");
+m2_table03.get("d29c");
+m2_table03.get("d2d11");
+m2_table03.get("f8fa");
+m2_table03.get("e6ef");
+m2_table03.get("fc26");
+m2_table03.get("fc24");
+m2_table03.get("da7e");
+m2_table03.get("c8bc1");
+m2_table03.get("efce");
+m2_table03.get("d9866");
+m2_table03.get("e3a1");
+m2_table03.get("aacd");
+m2_table03.get("f71b");
+m2_table03.get("d882");
+m2_table03.get("cbabd");
+m2_table03.get("ef88");
+m2_table03.get("d56d");
+m2_table03.get("ea8a");
+m2_table03.get("b82a");
+m2_table03.get("a130");
+m2_table03.get("cb76");
+m2_table03.get("aad2");
+m2_table03.get("cee1");
+m2_table03.get("c6ad");
+m2_table03.get("c9ec");
+m2_table03.get("a498");
+m2_table03.get("a893");
+m2_table03.get("a537");
+m2_table03.get("a12f");
+m2_table03.get("a04d");
+m2_table03.get("ba9c");
+m2_table03.get("b402");
+m2_table03.get("a242");
+m2_table03.get("c949");
+m2_table03.get("ad7e");
+m2_table03.get("a785c");
+m2_table03.get("e062");
+m2_table03.get("d512");
+m2_table03.get("b600");
+m2_table03.get("bd28");
+m2_table03.get("bd93");
+m2_table03.get("e823");
+m2_table03.get("a082");
+m2_table03.get("a5a7");
+m2_table03.get("c254");
+m2_table03.get("addd");
+m2_table03.get("a9a5");
+m2_table03.get("b107");
+m2_table03.get("a0e10");
+m2_table03.get("c21d");
+m2_table03.get("ef98");
+m2_table03.get("d915");
+m2_table03.get("b48c");
+m2_table03.get("a1cf1");
+m2_table03.get("c9ce");
+m2_table03.clear();
@@ -0,0 +1,65 @@
+CREATE TABLE m4_table01 (id INTEGER PRIMARY, name STRING, flag BOOLEAN);
+SHOW TABLES;
+CREATE TABLE m4_table01 (id INTEGER PRIMARY, name STRING, flag BOOLEAN);
+SHOW TABLES;
+create table M4_TABLE02 (ID integer primary, NAME string, flag BOOLEAN);
+ CREATE TABLE m4_table03 (id INTEGER PRIMARY, name STRING, flag BOOLEAN) ;
+CREATE  TABLE  m4_table04  (id INTEGER PRIMARY, name STRING, flag BOOLEAN);
+CREATE TABLE m4_table05 ( id INTEGER PRIMARY , name STRING , flag BOOLEAN );
+CREATE TABLE m4_table06 (id INTEGER PRIMARY,name STRING,flag BOOLEAN);
+SHOW TABLES;
+CREATETABLE m4_table07 (id INTEGERPRIMARY, name STRING, flag BOOLEAN);
+CREATE TABLEm4_table08 (idINTEGER PRIMARY, nameSTRING, flag BOOLEAN);
+SHOW TABLES;
+CREATE TABLE t (i INTEGER PRIMARY, n STRING, f BOOLEAN);
+CREATE TABLE m4_table10_____ (n23456789012345 INTEGER PRIMARY);
+SHOW TABLES;
+CREATE TABLE m4_table11______ (n234567890123456 INTEGER PRIMARY);
+CREATE TABLE 1m_table12 (2id INTEGER PRIMARY, 3name STRING, 4flag BOOLEAN);
+CREATE TABLE _m1table13 (_id INTEGER PRIMARY, _name STRING, _flag BOOLEAN);
+CREATE TABLE (id INTEGER PRIMARY, name STRING, flag BOOLEAN);
+CREATE m4_table15 (id INTEGER PRIMARY, name STRING, flag BOOLEAN);
+CREATE TABLE m4_table16 (id INTEGER PRIMARY name STRING flag BOOLEAN);
+CREATE TABLE m4_table17 id INTEGER PRIMARY, name STRING, flag BOOLEAN;
+SHOW TABLES;
+CREATE TABLE m4_table18 (c1 INTEGER PRIMARY);
+CREATE TABLE m4_table19 (c1 INTEGER PRIMARY, c2 STRING);
+CREATE TABLE m4_table20 (c1 INTEGER PRIMARY, c2 INTEGER, c3 INTEGER, c4 INTEGER, c5 INTEGER, c6 INTEGER, c7 INTEGER, c8 INTEGER, c9 INTEGER, c10 INTEGER, c11 INTEGER, c12 INTEGER, c13 INTEGER, c14 INTEGER, c15 INTEGER);
+CREATE TABLE m4_table21 (id INTEGER, name STRING PRIMARY, flag BOOLEAN);
+SHOW TABLES;
+CREATE TABLE m4_table22 (id INTEGER PRIMARY, other STRING, other BOOLEAN);
+CREATE TABLE m4_table23 (id INTEGER, name STRING, flag BOOLEAN);
+CREATE TABLE m4_table24 (id INTEGER PRIMARY, name STRING PRIMARY, flag BOOLEAN PRIMARY);
+CREATE TABLE m4_table25 ();
+CREATE TABLE m4_table26 (c1 INTEGER PRIMARY, c2 INTEGER, c3 INTEGER, c4 INTEGER, c5 INTEGER, c6 INTEGER, c7 INTEGER, c8 INTEGER, c9 INTEGER, c10 INTEGER, c11 INTEGER, c12 INTEGER, c13 INTEGER, c14 INTEGER, c15 INTEGER, c16 INTEGER);
+SHOW TABLES;
+DROP TABLE m4_table01;
+DROP TABLE m4_table01;
+SHOW TABLES;
+CREATE TABLE m4_table01 (ps STRING PRIMARY);
+SHOW TABLES;
+drop table M4_TABLE02;
+ DROP TABLE m4_table03 ;
+DROP  TABLE  m4_table04;
+DROP TABLE t;
+SHOW TABLES;
+DROPTABLE m4_table05;
+DROP TABLEm4_table06;
+DROP m4_table17;
+DROP TABLE;
+SHOW TABLES;
+SHOW TABLES;
+show tables;
+ShOw tAbLeS;
+  SHOW  TABLES  ;
+SHOW TABLES;
+SHOWTABLES;
+SHOW;
+TABLES;
+SHOW TABLES;
+ECHO "Hello, world!";
+RANGE 5;
+SHOW TABLE m4_table01;
+SHOW TABLE m4_table00;
+AN UNRECOGNIZABLE QUERY;
+SHOW TABLES;
@@ -0,0 +1,105 @@
+CREATE TABLE m5_table1 (ps STRING PRIMARY, i INTEGER, b BOOLEAN);
+CREATE TABLE m5_table2 (s STRING, pi INTEGER PRIMARY);
+CREATE TABLE m5_table3 (s STRING, i INTEGER, pb BOOLEAN PRIMARY, t STRING);
+SHOW TABLE m5_table0;
+SHOW TABLES;
+INSERT INTO m5_table1 (ps, b, i) VALUES ("a1", false, 2);
+INSERT INTO m5_table1 (i, ps, b) VALUES (3, "a4", true);
+INSERT INTO m5_table1 (b, ps, i) VALUES (false, "a5", 6);
+INSERT INTO m5_table1 (i, b, ps) VALUES (7, true, "a8");
+INSERT INTO m5_table1 (b, i, ps) VALUES (false, 9, "a10");
+SHOW TABLES;
+INSERT INTO m5_table1 (ps, i) VALUES ("b1", 2);
+INSERT INTO m5_table1 (ps, b) VALUES ("b3", true);
+INSERT INTO m5_table1 (i, ps) VALUES (4, "b5");
+INSERT INTO m5_table1 (b, ps) VALUES (false, "b6");
+INSERT INTO m5_table1 (ps) VALUES ("b7");
+SHOW TABLES;
+INSERT INTO m5_table1 (ps, i, b, i) VALUES ("c1", 2, true, 3);
+INSERT INTO m5_table1 (ps, ps) VALUES ("c4", "c5");
+INSERT INTO m5_table1 (ps, i, b) VALUES ("c6", 7, false, 8);
+INSERT INTO m5_table1 (ps, i, b) VALUES ("c9", 10);
+INSERT INTO m5_table1 () VALUES ();
+INSERT INTO m5_table1 ps, i, b VALUES ("c11", 12, true);
+INSERT INTO m5_table1 (ps, i, b) VALUES "c13", 14, false;
+SHOW TABLES;
+INSERT INTO m5_table1 (ps) VALUES (" 0 d1+d2?	d3! ");
+INSERT INTO m5_table1 (ps) VALUES ("456");
+INSERT INTO m5_table1 (ps) VALUES ("null");
+INSERT INTO m5_table1 (ps) VALUES ("");
+INSERT INTO m5_table1 (ps) VALUES ("0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcde");
+INSERT INTO m5_table1 (ps) VALUES (7);
+INSERT INTO m5_table1 (ps) VALUES (true);
+INSERT INTO m5_table1 (ps) VALUES ("0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef");
+SHOW TABLES;
+INSERT INTO m5_table1 (ps, i) VALUES ("e1", 0);
+INSERT INTO m5_table1 (ps, i) VALUES ("e2", 300);
+INSERT INTO m5_table1 (ps, i) VALUES ("e4", +500);
+INSERT INTO m5_table1 (ps, i) VALUES ("e6", -700);
+INSERT INTO m5_table1 (ps, i) VALUES ("e8", null);
+INSERT INTO m5_table1 (ps, i) VALUES ("e9", 2147483647);
+INSERT INTO m5_table1 (ps, i) VALUES ("e10", -2147483648);
+INSERT INTO m5_table1 (ps, i) VALUES ("e11", 2147483648);
+INSERT INTO m5_table1 (ps, i) VALUES ("e12", -2147483649);
+INSERT INTO m5_table1 (ps, i) VALUES ("e13", "14");
+INSERT INTO m5_table1 (ps, i) VALUES ("e15", true);
+INSERT INTO m5_table1 (ps, i) VALUES ("e16", 017);
+INSERT INTO m5_table1 (ps, i) VALUES ("e18", 19.20);
+SHOW TABLES;
+INSERT INTO m5_table1 (ps, b) VALUES ("f1", true);
+INSERT INTO m5_table1 (ps, b) VALUES ("f2", FALSE);
+INSERT INTO m5_table1 (ps, b) VALUES ("f3", TrUe);
+INSERT INTO m5_table1 (ps, b) VALUES ("f4", fAlSe);
+INSERT INTO m5_table1 (ps, b) VALUES ("f5", NuLl);
+INSERT INTO m5_table1 (ps, b) VALUES ("f6", "true");
+INSERT INTO m5_table1 (ps, b) VALUES ("f7", 8);
+SHOW TABLES;
+INSERT INTO m5_table1 (ps, i, b) VALUES ("g1", 2, true);
+INSERT INTO m5_table1 (ps, i, b) VALUES ("g1", 3, false);
+INSERT INTO m5_table1 (ps, i, b) VALUES ("g4", 5, true);
+REPLACE INTO m5_table1 (ps, i, b) VALUES ("g4", 6, false);
+INSERT INTO m5_table1 (i, b) VALUES (7, true);
+INSERT INTO m5_table1 (ps) VALUES (null);
+INSERT INTO m5_table1 (ps, i, b) VALUES (null, 8, false);
+SHOW TABLES;
+INSERT INTO m5_table2 (s, pi) VALUES ("h1", 2);
+INSERT INTO m5_table2 (pi, s) VALUES (3, "h4");
+INSERT INTO m5_table2 (s, pi) VALUES ("h5", 6);
+REPLACE INTO m5_table2 (s, pi) VALUES ("h5", 7);
+REPLACE INTO m5_table2 (s, pi) VALUES ("h8", 9);
+INSERT INTO m5_table2 (s, pi) VALUES ("h10", 11);
+INSERT INTO m5_table2 (s, pi) VALUES ("h12", 11);
+INSERT INTO m5_table2 (s) VALUES ("h13");
+INSERT INTO m5_table2 (pi) VALUES (null);
+INSERT INTO m5_table2 (s, pi) VALUES ("h14", null);
+SHOW TABLES;
+INSERT INTO m5_table3 (s, i, pb, t) VALUES ("i1", 2, false, "i3");
+INSERT INTO m5_table3 (pb, s, i, t) VALUES (true, "i4", 5, "i6");
+REPLACE INTO m5_table3 (s, i, pb, t) VALUES ("i7", 8, true, "i9");
+REPLACE INTO m5_table3 (s, i, pb, t) VALUES ("i10", 11, false, "i12");
+INSERT INTO m5_table3 (s, i, t) VALUES ("i13", 14, "i15");
+INSERT INTO m5_table3 (s, i, pb, t) VALUES ("i16", 17, null, "i18");
+INSERT INTO m5_table3 (s, i, pb, t) VALUES ("i19", 20, true, "i21");
+INSERT INTO m5_table3 (s, i, pb, t) VALUES ("i22", 23, false, "i24");
+SHOW TABLES;
+INSERT INTO m5_table1 VALUES ("j1", 2, true);
+INSERT INTO m5_table1 VALUES ("j3", 4, false);
+REPLACE INTO m5_table1 VALUES ("j5", 6, true);
+REPLACE INTO m5_table1 VALUES ("j7", 8, null);
+INSERT INTO m5_table1 VALUES ("j9", 10, false);
+INSERT INTO m5_table1 VALUES ("j9", 11, true);
+INSERT INTO m5_table1 VALUES ("j12", 13, false, null);
+INSERT INTO m5_table1 VALUES ("j14", 15);
+INSERT INTO m5_table1 VALUES (null, 16, true);
+INSERT INTO m5_table1 VALUES (true, 17, "j18");
+INSERT INTO m5_table1 VALUES "j19", 20, false;
+SHOW TABLES;
+INSERT INTO m5_table0 (ps, i, b) VALUES ("k1", 2, true);
+SHOW TABLE m5_table0;
+DROP TABLE m5_table1;
+INSERT INTO m5_table1 (ps, i, b) VALUES ("k3", 4, false);
+DROP TABLE m5_table2;
+INSERT INTO m5_table2 (s, pi) VALUES ("k5", 6);
+DROP TABLE m5_table3;
+INSERT INTO m5_table3 (s, i, pb, t) VALUES ("k7", 8, true, "k9");
+SHOW TABLES;
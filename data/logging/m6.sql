@@ -0,0 +1,280 @@
+CREATE TABLE m6_table (ps STRING PRIMARY, i INTEGER, b BOOLEAN);
+INSERT INTO m6_table VALUES ("x", null, true);
+INSERT INTO m6_table VALUES ("xy", 5, false);
+INSERT INTO m6_table VALUES ("xx", 4, true);
+INSERT INTO m6_table VALUES ("y", 1, null);
+INSERT INTO m6_table VALUES ("yy", 2, true);
+INSERT INTO m6_table VALUES ("yx", 3, false);
+INSERT INTO m6_table VALUES ("z", null, null);
+SHOW TABLE m6_table;
+SHOW TABLES;
+SELECT * FROM m6_table;
+select * from m6_table;
+SeLeCt * fRoM m6_table;
+SELECT FROM m6_table;
+SELECT *, ps, i, b FROM m6_table;
+SELECT ps FROM m6_table;
+SELECT ps, i, b FROM m6_table;
+select ps, i, b from m6_table;
+SELECT PS FROM m6_table;
+SELECT ps m6_table;
+ps FROM m6_table;
+SELECT ps, i, b;
+SELECT ps i b FROM m6_table;
+SELECT ps AS primary FROM m6_table;
+SELECT ps AS primary, i, b FROM m6_table;
+SELECT ps AS primary, i AS number, b AS flag FROM m6_table;
+select ps as primary, i as number, b as flag from m6_table;
+SELECT ps, i AS number, b AS flag FROM m6_table;
+SELECT ps, b, i FROM m6_table;
+SELECT i, b, ps FROM m6_table;
+SELECT i AS number, b AS flag, ps AS primary FROM m6_table;
+SELECT i AS number, b AS flag, ps FROM m6_table;
+SELECT ps, i AS number_1, i AS number_2 FROM m6_table;
+SELECT ps, i, i AS i_copy FROM m6_table;
+SELECT ps, i AS i_copy, i FROM m6_table;
+SELECT b, b AS b_copy, ps FROM m6_table;
+SELECT b AS b_copy, b, ps FROM m6_table;
+SELECT ps, i, i FROM m6_table;
+SELECT ps, b, i, b FROM m6_table;
+SELECT ps, ps FROM m6_table;
+SELECT ps AS primary, ps AS primary FROM m6_table;
+SELECT i, b, ps AS primary, ps, ps FROM m6_table;
+SELECT ps, i AS b, b AS i FROM m6_table;
+SELECT ps, i AS b, i AS i_copy, b AS i, b AS b_copy, ps AS ps_copy FROM m6_table;
+SELECT i AS b, b AS ps, ps AS i FROM m6_table;
+SELECT ps AS primary_1, ps AS primary_2 FROM m6_table;
+SELECT ps AS primary_1, ps FROM m6_table;
+SELECT ps, ps AS primary_2 FROM m6_table;
+SELECT i, b FROM m6_table;
+SELECT * FROM m6_table WHERE ps = "y";
+SELECT * FROM m6_table WHERE ps <> "y";
+SELECT * FROM m6_table WHERE ps < "y";
+SELECT * FROM m6_table WHERE ps > "y";
+SELECT * FROM m6_table WHERE ps <= "y";
+SELECT * FROM m6_table WHERE ps >= "y";
+SELECT * FROM m6_table WHERE ps = "";
+SELECT * FROM m6_table WHERE ps <> "";
+SELECT * FROM m6_table WHERE ps < "";
+SELECT * FROM m6_table WHERE ps > "";
+SELECT * FROM m6_table WHERE ps <= "";
+SELECT * FROM m6_table WHERE ps >= "";
+SELECT * FROM m6_table WHERE i = 3;
+SELECT * FROM m6_table WHERE i <> 3;
+SELECT * FROM m6_table WHERE i < 3;
+SELECT * FROM m6_table WHERE i > 3;
+SELECT * FROM m6_table WHERE i <= 3;
+SELECT * FROM m6_table WHERE i >= 3;
+SELECT * FROM m6_table WHERE b = true;
+SELECT * FROM m6_table WHERE b <> true;
+SELECT * FROM m6_table WHERE b = false;
+SELECT * FROM m6_table WHERE b <> false;
+SELECT * FROM m6_table WHERE b < true;
+SELECT * FROM m6_table WHERE b > false;
+SELECT * FROM m6_table WHERE b <= true;
+SELECT * FROM m6_table WHERE b >= false;
+SELECT * FROM m6_table WHERE ps = null;
+SELECT * FROM m6_table WHERE ps <> null;
+SELECT * FROM m6_table WHERE i = null;
+SELECT * FROM m6_table WHERE i <> null;
+SELECT * FROM m6_table WHERE b = null;
+SELECT * FROM m6_table WHERE b <> null;
+SELECT * FROM m6_table WHERE ps < null;
+SELECT * FROM m6_table WHERE ps > null;
+SELECT * FROM m6_table WHERE ps <= null;
+SELECT * FROM m6_table WHERE ps >= null;
+SELECT * FROM m6_table WHERE i < null;
+SELECT * FROM m6_table WHERE i > null;
+SELECT * FROM m6_table WHERE i <= null;
+SELECT * FROM m6_table WHERE i >= null;
+SELECT * FROM m6_table WHERE b < null;
+SELECT * FROM m6_table WHERE b > null;
+SELECT * FROM m6_table WHERE b <= null;
+SELECT * FROM m6_table WHERE b >= null;
+SELECT * FROM m6_table WHERE ps = 3;
+SELECT * FROM m6_table WHERE ps = true;
+SELECT * FROM m6_table WHERE i = "y";
+SELECT * FROM m6_table WHERE i = true;
+SELECT * FROM m6_table WHERE b = "y";
+SELECT * FROM m6_table WHERE b = 3;
+SELECT * FROM m6_table  WHERE  ps = "y";
+SELECT * FROM m6_table WHERE ps="y";
+SELECT b, i, ps FROM m6_table WHERE ps <> "z";
+SELECT ps AS s FROM m6_table WHERE ps <> "z";
+SELECT * FROM m6_table WHERE x = 3;
+SELECT * FROM m6_table  i = 3;
+SELECT * FROM m6_table WHERE  = 3;
+SELECT * FROM m6_table WHERE i = ;
+SELECT * FROM m6_table WHERE ps equals "y";
+SELECT * FROM m6_table WHERE ps = asdf;
+SELECT * FROM m6_tableWHEREps = "y";
+CREATE TABLE m4_table01 (id INTEGER PRIMARY, name STRING, flag BOOLEAN);
+SHOW TABLES;
+CREATE TABLE m4_table01 (id INTEGER PRIMARY, name STRING, flag BOOLEAN);
+SHOW TABLES;
+create table M4_TABLE02 (ID integer primary, NAME string, flag BOOLEAN);
+ CREATE TABLE m4_table03 (id INTEGER PRIMARY, name STRING, flag BOOLEAN) ;
+CREATE  TABLE  m4_table04  (id INTEGER PRIMARY, name STRING, flag BOOLEAN);
+CREATE TABLE m4_table05 ( id INTEGER PRIMARY , name STRING , flag BOOLEAN );
+CREATE TABLE m4_table06 (id INTEGER PRIMARY,name STRING,flag BOOLEAN);
+SHOW TABLES;
+CREATETABLE m4_table07 (id INTEGERPRIMARY, name STRING, flag BOOLEAN);
+CREATE TABLEm4_table08 (idINTEGER PRIMARY, nameSTRING, flag BOOLEAN);
+SHOW TABLES;
+CREATE TABLE t (i INTEGER PRIMARY, n STRING, f BOOLEAN);
+CREATE TABLE m4_table10_____ (n23456789012345 INTEGER PRIMARY);
+SHOW TABLES;
+CREATE TABLE m4_table11______ (n234567890123456 INTEGER PRIMARY);
+CREATE TABLE 1m_table12 (2id INTEGER PRIMARY, 3name STRING, 4flag BOOLEAN);
+CREATE TABLE _m1table13 (_id INTEGER PRIMARY, _name STRING, _flag BOOLEAN);
+CREATE TABLE (id INTEGER PRIMARY, name STRING, flag BOOLEAN);
+CREATE m4_table15 (id INTEGER PRIMARY, name STRING, flag BOOLEAN);
+CREATE TABLE m4_table16 (id INTEGER PRIMARY name STRING flag BOOLEAN);
+CREATE TABLE m4_table17 id INTEGER PRIMARY, name STRING, flag BOOLEAN;
+SHOW TABLES;
+CREATE TABLE m4_table18 (c1 INTEGER PRIMARY);
+CREATE TABLE m4_table19 (c1 INTEGER PRIMARY, c2 STRING);
+CREATE TABLE m4_table20 (c1 INTEGER PRIMARY, c2 INTEGER, c3 INTEGER, c4 INTEGER, c5 INTEGER, c6 INTEGER, c7 INTEGER, c8 INTEGER, c9 INTEGER, c10 INTEGER, c11 INTEGER, c12 INTEGER, c13 INTEGER, c14 INTEGER, c15 INTEGER);
+CREATE TABLE m4_table21 (id INTEGER, name STRING PRIMARY, flag BOOLEAN);
+SHOW TABLES;
+CREATE TABLE m4_table22 (id INTEGER PRIMARY, other STRING, other BOOLEAN);
+CREATE TABLE m4_table23 (id INTEGER, name STRING, flag BOOLEAN);
+CREATE TABLE m4_table24 (id INTEGER PRIMARY, name STRING PRIMARY, flag BOOLEAN PRIMARY);
+CREATE TABLE m4_table25 ();
+CREATE TABLE m4_table26 (c1 INTEGER PRIMARY, c2 INTEGER, c3 INTEGER, c4 INTEGER, c5 INTEGER, c6 INTEGER, c7 INTEGER, c8 INTEGER, c9 INTEGER, c10 INTEGER, c11 INTEGER, c12 INTEGER, c13 INTEGER, c14 INTEGER, c15 INTEGER, c16 INTEGER);
+SHOW TABLES;
+DROP TABLE m4_table01;
+DROP TABLE m4_table01;
+SHOW TABLES;
+CREATE TABLE m4_table01 (ps STRING PRIMARY);
+SHOW TABLES;
+drop table M4_TABLE02;
+ DROP TABLE m4_table03 ;
+DROP  TABLE  m4_table04;
+DROP TABLE t;
+SHOW TABLES;
+DROPTABLE m4_table05;
+DROP TABLEm4_table06;
+DROP m4_table17;
+DROP TABLE;
+SHOW TABLES;
+SHOW TABLES;
+show tables;
+ShOw tAbLeS;
+  SHOW  TABLES  ;
+SHOW TABLES;
+SHOWTABLES;
+SHOW;
+TABLES;
+SHOW TABLES;
+ECHO "Hello, world!";
+RANGE 5;
+SHOW TABLE m4_table01;
+SHOW TABLE m4_table00;
+AN UNRECOGNIZABLE QUERY;
+SHOW TABLES;
+CREATE TABLE m5_table1 (ps STRING PRIMARY, i INTEGER, b BOOLEAN);
+CREATE TABLE m5_table2 (s STRING, pi INTEGER PRIMARY);
+CREATE TABLE m5_table3 (s STRING, i INTEGER, pb BOOLEAN PRIMARY, t STRING);
+SHOW TABLE m5_table0;
+SHOW TABLES;
+INSERT INTO m5_table1 (ps, b, i) VALUES ("a1", false, 2);
+INSERT INTO m5_table1 (i, ps, b) VALUES (3, "a4", true);
+INSERT INTO m5_table1 (b, ps, i) VALUES (false, "a5", 6);
+INSERT INTO m5_table1 (i, b, ps) VALUES (7, true, "a8");
+INSERT INTO m5_table1 (b, i, ps) VALUES (false, 9, "a10");
+SHOW TABLES;
+INSERT INTO m5_table1 (ps, i) VALUES ("b1", 2);
+INSERT INTO m5_table1 (ps, b) VALUES ("b3", true);
+INSERT INTO m5_table1 (i, ps) VALUES (4, "b5");
+INSERT INTO m5_table1 (b, ps) VALUES (false, "b6");
+INSERT INTO m5_table1 (ps) VALUES ("b7");
+SHOW TABLES;
+INSERT INTO m5_table1 (ps, i, b, i) VALUES ("c1", 2, true, 3);
+INSERT INTO m5_table1 (ps, ps) VALUES ("c4", "c5");
+INSERT INTO m5_table1 (ps, i, b) VALUES ("c6", 7, false, 8);
+INSERT INTO m5_table1 (ps, i, b) VALUES ("c9", 10);
+INSERT INTO m5_table1 () VALUES ();
+INSERT INTO m5_table1 ps, i, b VALUES ("c11", 12, true);
+INSERT INTO m5_table1 (ps, i, b) VALUES "c13", 14, false;
+SHOW TABLES;
+INSERT INTO m5_table1 (ps) VALUES (" 0 d1+d2?	d3! ");
+INSERT INTO m5_table1 (ps) VALUES ("456");
+INSERT INTO m5_table1 (ps) VALUES ("null");
+INSERT INTO m5_table1 (ps) VALUES ("");
+INSERT INTO m5_table1 (ps) VALUES ("0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcde");
+INSERT INTO m5_table1 (ps) VALUES (7);
+INSERT INTO m5_table1 (ps) VALUES (true);
+INSERT INTO m5_table1 (ps) VALUES ("0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef");
+SHOW TABLES;
+INSERT INTO m5_table1 (ps, i) VALUES ("e1", 0);
+INSERT INTO m5_table1 (ps, i) VALUES ("e2", 300);
+INSERT INTO m5_table1 (ps, i) VALUES ("e4", +500);
+INSERT INTO m5_table1 (ps, i) VALUES ("e6", -700);
+INSERT INTO m5_table1 (ps, i) VALUES ("e8", null);
+INSERT INTO m5_table1 (ps, i) VALUES ("e9", 2147483647);
+INSERT INTO m5_table1 (ps, i) VALUES ("e10", -2147483648);
+INSERT INTO m5_table1 (ps, i) VALUES ("e11", 2147483648);
+INSERT INTO m5_table1 (ps, i) VALUES ("e12", -2147483649);
+INSERT INTO m5_table1 (ps, i) VALUES ("e13", "14");
+INSERT INTO m5_table1 (ps, i) VALUES ("e15", true);
+INSERT INTO m5_table1 (ps, i) VALUES ("e16", 017);
+INSERT INTO m5_table1 (ps, i) VALUES ("e18", 19.20);
+SHOW TABLES;
+INSERT INTO m5_table1 (ps, b) VALUES ("f1", true);
+INSERT INTO m5_table1 (ps, b) VALUES ("f2", FALSE);
+INSERT INTO m5_table1 (ps, b) VALUES ("f3", TrUe);
+INSERT INTO m5_table1 (ps, b) VALUES ("f4", fAlSe);
+INSERT INTO m5_table1 (ps, b) VALUES ("f5", NuLl);
+INSERT INTO m5_table1 (ps, b) VALUES ("f6", "true");
+INSERT INTO m5_table1 (ps, b) VALUES ("f7", 8);
+SHOW TABLES;
+INSERT INTO m5_table1 (ps, i, b) VALUES ("g1", 2, true);
+INSERT INTO m5_table1 (ps, i, b) VALUES ("g1", 3, false);
+INSERT INTO m5_table1 (ps, i, b) VALUES ("g4", 5, true);
+REPLACE INTO m5_table1 (ps, i, b) VALUES ("g4", 6, false);
+INSERT INTO m5_table1 (i, b) VALUES (7, true);
+INSERT INTO m5_table1 (ps) VALUES (null);
+INSERT INTO m5_table1 (ps, i, b) VALUES (null, 8, false);
+SHOW TABLES;
+INSERT INTO m5_table2 (s, pi) VALUES ("h1", 2);
+INSERT INTO m5_table2 (pi, s) VALUES (3, "h4");
+INSERT INTO m5_table2 (s, pi) VALUES ("h5", 6);
+REPLACE INTO m5_table2 (s, pi) VALUES ("h5", 7);
+REPLACE INTO m5_table2 (s, pi) VALUES ("h8", 9);
+INSERT INTO m5_table2 (s, pi) VALUES ("h10", 11);
+INSERT INTO m5_table2 (s, pi) VALUES ("h12", 11);
+INSERT INTO m5_table2 (s) VALUES ("h13");
+INSERT INTO m5_table2 (pi) VALUES (null);
+INSERT INTO m5_table2 (s, pi) VALUES ("h14", null);
+SHOW TABLES;
+INSERT INTO m5_table3 (s, i, pb, t) VALUES ("i1", 2, false, "i3");
+INSERT INTO m5_table3 (pb, s, i, t) VALUES (true, "i4", 5, "i6");
+REPLACE INTO m5_table3 (s, i, pb, t) VALUES ("i7", 8, true, "i9");
+REPLACE INTO m5_table3 (s, i, pb, t) VALUES ("i10", 11, false, "i12");
+INSERT INTO m5_table3 (s, i, t) VALUES ("i13", 14, "i15");
+INSERT INTO m5_table3 (s, i, pb, t) VALUES ("i16", 17, null, "i18");
+INSERT INTO m5_table3 (s, i, pb, t) VALUES ("i19", 20, true, "i21");
+INSERT INTO m5_table3 (s, i, pb, t) VALUES ("i22", 23, false, "i24");
+SHOW TABLES;
+INSERT INTO m5_table1 VALUES ("j1", 2, true);
+INSERT INTO m5_table1 VALUES ("j3", 4, false);
+REPLACE INTO m5_table1 VALUES ("j5", 6, true);
+REPLACE INTO m5_table1 VALUES ("j7", 8, null);
+INSERT INTO m5_table1 VALUES ("j9", 10, false);
+INSERT INTO m5_table1 VALUES ("j9", 11, true);
+INSERT INTO m5_table1 VALUES ("j12", 13, false, null);
+INSERT INTO m5_table1 VALUES ("j14", 15);
+INSERT INTO m5_table1 VALUES (null, 16, true);
+INSERT INTO m5_table1 VALUES (true, 17, "j18");
+INSERT INTO m5_table1 VALUES "j19", 20, false;
+SHOW TABLES;
+INSERT INTO m5_table0 (ps, i, b) VALUES ("k1", 2, true);
+SHOW TABLE m5_table0;
+DROP TABLE m5_table1;
+INSERT INTO m5_table1 (ps, i, b) VALUES ("k3", 4, false);
+DROP TABLE m5_table2;
+INSERT INTO m5_table2 (s, pi) VALUES ("k5", 6);
+DROP TABLE m5_table3;
+INSERT INTO m5_table3 (s, i, pb, t) VALUES ("k7", 8, true, "k9");
+SHOW TABLES;
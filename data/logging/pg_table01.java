@@ -0,0 +1,2266 @@
+// Random Seed: 1796769154
+Table pg_table01 = new PagedFileTable("pg_table01", List.of("d", "f1", "a"), List.of("string", "integer", "boolean"), 0);
+pg_table01.getTableName();
+pg_table01.getColumnNames();
+pg_table01.getColumnTypes();
+pg_table01.getPrimaryIndex();
+pg_table01.getTableName();
+pg_table01.getColumnNames();
+pg_table01.getColumnTypes();
+pg_table01.getPrimaryIndex();
+pg_table01.clear();
+pg_table01.put(List.of("d5", 11377, false));
+pg_table01.put(List.of("a90", 813, true));
+pg_table01.put(List.of("b4a", 5, true));
+pg_table01.put(List.of("b0e", 0, false));
+pg_table01.get("c");
+pg_table01.put(List.of("d8ac", 0, true));
+pg_table01.put(List.of("f7d6", 40908, false));
+pg_table01.put(List.of("e2", 0, true));
+pg_table01.put(List.of("acf", 0, false));
+pg_table01.get("f7");
+pg_table01.put(List.of("adc2", 392, true));
+pg_table01.put(List.of("b5", 0, true));
+pg_table01.remove("adfb");
+pg_table01.remove("e32");
+pg_table01.remove("b7f");
+pg_table01.get("b7");
+pg_table01.put(List.of("da3", 24, false));
+pg_table01.put(List.of("eb", 0, true));
+pg_table01.remove("e");
+pg_table01.put(List.of("b633", 0, false));
+pg_table01.put(List.of("e92", 0, true));
+pg_table01.put(List.of("c05", 20, true));
+pg_table01.put(List.of("bd", 1358, true));
+pg_table01.put(List.of("d427", 0, true));
+pg_table01.remove("a4a");
+pg_table01.put(List.of("d305", 2398, false));
+pg_table01.remove("cef");
+pg_table01.put(List.of("d63a", 0, false));
+pg_table01.put(List.of("cf4", 0, false));
+pg_table01.put(List.of("db", 1, true));
+pg_table01.put(List.of("d28", 0, false));
+pg_table01.get("aa");
+pg_table01.put(List.of("a1", 23, true));
+pg_table01.put(List.of("ce", 0, true));
+pg_table01.remove("d9");
+pg_table01.put(List.of("ab", 61, false));
+pg_table01.put(List.of("bea", 0, true));
+pg_table01.get("aec");
+pg_table01.remove("e31");
+pg_table01.get("ec");
+pg_table01.put(List.of("e14", 0, false));
+pg_table01.put(List.of("ac", 0, false));
+pg_table01.put(List.of("b4", 0, true));
+pg_table01.put(List.of("d9b", 27, false));
+pg_table01.put(List.of("e0b", 307, false));
+pg_table01.put(List.of("a8", 0, true));
+pg_table01.put(List.of("f8", 193, false));
+pg_table01.put(List.of("bf", 0, false));
+pg_table01.remove("a7");
+pg_table01.put(List.of("e510", 0, false));
+pg_table01.put(Arrays.asList("e1", 574727, null));
+pg_table01.remove("e3d");
+pg_table01.remove("aa8");
+pg_table01.get("dd");
+pg_table01.put(List.of("d6f", 5, true));
+pg_table01.get("fc");
+pg_table01.put(List.of("da0", 1675, false));
+pg_table01.put(List.of("f28", 0, false));
+pg_table01.put(List.of("bca", 0, false));
+pg_table01.get("bb");
+pg_table01.put(List.of("a76", 0, false));
+pg_table01.remove("bd60");
+pg_table01.put(List.of("bc4", 53, true));
+pg_table01.put(List.of("dd6", 10, false));
+pg_table01.put(List.of("c78be", 0, false));
+pg_table01.put(List.of("e777", 0, false));
+pg_table01.put(List.of("a21", 824, true));
+pg_table01.put(List.of("d98", 0, true));
+pg_table01.put(List.of("e0", 257, true));
+pg_table01.put(List.of("af6", 0, false));
+pg_table01.put(List.of("e51", 0, true));
+pg_table01.put(List.of("aca", 68, false));
+pg_table01.get("a11");
+pg_table01.put(List.of("d2", 35, false));
+pg_table01.put(List.of("bb8", 0, true));
+pg_table01.remove("b96");
+pg_table01.put(List.of("b8", 0, true));
+pg_table01.remove("b09");
+pg_table01.put(List.of("f9", 38056, true));
+pg_table01.put(List.of("a5", 0, true));
+pg_table01.put(List.of("c3ce", 0, false));
+pg_table01.put(List.of("cc", 58763, false));
+pg_table01.put(List.of("caa", 4, false));
+pg_table01.remove("b89f6");
+pg_table01.remove("a2b1");
+pg_table01.put(List.of("bade", 275, false));
+pg_table01.get("b92");
+pg_table01.put(List.of("f46", 0, false));
+pg_table01.put(List.of("e8", 6, false));
+pg_table01.put(List.of("ba8", 4, false));
+pg_table01.remove("c27");
+pg_table01.remove("f0a");
+pg_table01.put(List.of("c2", 45, false));
+pg_table01.remove("d1");
+pg_table01.put(List.of("a55c", 552, true));
+pg_table01.put(List.of("ef", 0, false));
+pg_table01.put(List.of("cca", 0, false));
+pg_table01.put(List.of("dc", 0, true));
+pg_table01.put(List.of("a96", 2, false));
+pg_table01.remove("c89");
+pg_table01.get("a2");
+pg_table01.remove("b062");
+pg_table01.put(List.of("f98", 4754, false));
+pg_table01.put(List.of("acc", 0, true));
+pg_table01.put(List.of("f15", 1245, false));
+pg_table01.put(List.of("ed", 1, true));
+pg_table01.get("e19");
+pg_table01.remove("a34");
+pg_table01.get("be8");
+pg_table01.put(List.of("fa18", 0, true));
+pg_table01.put(List.of("af", 0, false));
+pg_table01.put(List.of("c49", 0, false));
+pg_table01.get("a748");
+pg_table01.remove("b7d1");
+pg_table01.remove("e3");
+pg_table01.put(List.of("abe1", 0, true));
+pg_table01.put(List.of("a79", 420, true));
+pg_table01.put(List.of("f12", 4866966, false));
+pg_table01.put(List.of("a4", 0, true));
+pg_table01.get("c6");
+pg_table01.put(Arrays.asList("b199", null, true));
+pg_table01.remove("c8");
+pg_table01.get("d25");
+pg_table01.put(List.of("dbc9", 0, true));
+pg_table01.put(List.of("e7", 0, false));
+pg_table01.put(List.of("c9bb", 6042, true));
+pg_table01.remove("e7aa");
+pg_table01.put(List.of("ae", 55, false));
+pg_table01.put(List.of("b7c", 5261, true));
+pg_table01.put(List.of("a66", 119, true));
+pg_table01.put(List.of("d4c", 0, false));
+pg_table01.remove("da");
+pg_table01.get("b238");
+pg_table01.put(List.of("b98", 196, true));
+pg_table01.put(List.of("a77", 0, true));
+pg_table01.put(List.of("cf3", 0, false));
+pg_table01.put(List.of("c1", 0, true));
+pg_table01.put(List.of("e94", 0, true));
+pg_table01.put(List.of("f4f", 49, false));
+pg_table01.put(List.of("a0", 0, true));
+pg_table01.put(List.of("dd12", 0, true));
+pg_table01.put(List.of("dc0d", 9481, true));
+pg_table01.put(Arrays.asList("c3", null, false));
+pg_table01.remove("bd7");
+pg_table01.remove("f6");
+pg_table01.put(List.of("f0d", 0, true));
+pg_table01.put(List.of("e44", 0, true));
+pg_table01.put(List.of("b0", 12, true));
+pg_table01.put(List.of("b3c", 2056, true));
+pg_table01.put(List.of("a3e", 46, false));
+pg_table01.put(List.of("aa61", 34, false));
+pg_table01.get("f51");
+pg_table01.put(List.of("fb9f", 0, false));
+pg_table01.remove("a278");
+pg_table01.put(List.of("a12", 13619, false));
+pg_table01.put(List.of("a95", 0, true));
+pg_table01.remove("d7");
+pg_table01.remove("fdb");
+pg_table01.remove("d71");
+pg_table01.put(List.of("b76", 0, true));
+pg_table01.remove("b657");
+pg_table01.put(List.of("e749", 1, false));
+pg_table01.put(List.of("c9", 335, true));
+pg_table01.put(List.of("dc7d5", 0, false));
+pg_table01.put(List.of("ef7fe", 1073, false));
+pg_table01.remove("a4f");
+pg_table01.put(List.of("c34", 1137, true));
+pg_table01.put(List.of("d50", 7849, false));
+pg_table01.put(List.of("b7e", 15, true));
+pg_table01.put(List.of("d106", 0, false));
+pg_table01.put(List.of("e56", 0, true));
+pg_table01.put(List.of("ae0f", 3, false));
+pg_table01.remove("aa87");
+pg_table01.remove("a65");
+pg_table01.remove("ce5");
+pg_table01.put(List.of("d8f", 0, false));
+pg_table01.remove("c822");
+pg_table01.put(List.of("b93", 7, true));
+pg_table01.put(List.of("a3", 1, false));
+pg_table01.put(List.of("ab0", 0, true));
+pg_table01.put(List.of("f5", 0, true));
+pg_table01.put(List.of("c2f7", 0, true));
+pg_table01.put(List.of("bac9", 312, false));
+pg_table01.put(List.of("fe", 5613, true));
+pg_table01.put(List.of("d1f", 0, false));
+pg_table01.remove("c88");
+pg_table01.get("ad1");
+pg_table01.put(List.of("cd3d", 11399, false));
+pg_table01.get("fdf");
+pg_table01.remove("f66");
+pg_table01.put(List.of("a6b1", 0, true));
+pg_table01.get("a7cd");
+pg_table01.put(List.of("ed9", 55, false));
+pg_table01.get("cb");
+pg_table01.get("ace0");
+pg_table01.put(List.of("e23d", 1182, true));
+pg_table01.put(Arrays.asList("fc7", null, true));
+pg_table01.remove("e04");
+pg_table01.put(List.of("fc2", 6732, false));
+pg_table01.put(List.of("a13", 0, true));
+pg_table01.remove("f42");
+pg_table01.put(List.of("dd7", 0, true));
+pg_table01.put(List.of("b15", 2020, true));
+pg_table01.get("b2");
+pg_table01.put(List.of("b97", 9, true));
+pg_table01.put(Arrays.asList("ab8", null, true));
+pg_table01.get("cf21");
+pg_table01.put(Arrays.asList("a6", 6, null));
+pg_table01.put(List.of("e95", 4, false));
+pg_table01.put(List.of("fda", 11, false));
+pg_table01.put(List.of("a5b", 0, true));
+pg_table01.get("f3");
+pg_table01.put(List.of("b55", 6673, true));
+pg_table01.remove("f521");
+pg_table01.put(List.of("df7", 9, false));
+pg_table01.get("c880");
+pg_table01.put(List.of("cc4", 27, true));
+pg_table01.put(List.of("c75", 0, false));
+pg_table01.remove("c031");
+pg_table01.put(List.of("f35", 0, true));
+pg_table01.put(List.of("f27d", 0, true));
+pg_table01.put(List.of("e84", 0, false));
+pg_table01.put(List.of("cde", 0, true));
+pg_table01.put(List.of("d4b", 0, false));
+pg_table01.put(List.of("d195", 29, false));
+pg_table01.put(List.of("b710", 0, true));
+pg_table01.remove("bcb");
+pg_table01.get("cf02");
+pg_table01.put(List.of("de", 0, false));
+pg_table01.remove("c261");
+pg_table01.put(List.of("a94", 249, true));
+pg_table01.put(List.of("b28d", 36207, true));
+pg_table01.get("da8c");
+pg_table01.put(List.of("fe1", 0, false));
+pg_table01.put(List.of("c97", 4, true));
+pg_table01.put(Arrays.asList("c8d", 0, null));
+pg_table01.remove("d92");
+pg_table01.get("f09");
+pg_table01.get("a4ba");
+pg_table01.get("c14");
+pg_table01.put(List.of("a4c", 58, true));
+pg_table01.put(Arrays.asList("b31", null, true));
+pg_table01.put(List.of("b16", 781, true));
+pg_table01.put(List.of("fd6", 183, true));
+pg_table01.get("d4");
+pg_table01.put(List.of("ba1", 0, false));
+pg_table01.put(List.of("d46", 0, true));
+pg_table01.remove("a37e");
+pg_table01.get("ff77");
+pg_table01.get("a4ac3");
+pg_table01.put(List.of("e85e", 0, false));
+pg_table01.get("a91");
+pg_table01.put(List.of("b3", 20741, true));
+pg_table01.put(List.of("ada", 30, true));
+pg_table01.put(List.of("a77aa", 0, true));
+pg_table01.put(List.of("f8b", 79, false));
+pg_table01.put(List.of("bc0", 0, false));
+pg_table01.put(List.of("d7b", 13, true));
+pg_table01.put(List.of("ed7", 6910, false));
+pg_table01.put(List.of("fbd", 26, true));
+pg_table01.remove("b91");
+pg_table01.put(List.of("e42", 0, true));
+pg_table01.put(List.of("a92", 170, true));
+pg_table01.put(List.of("e9", 10, true));
+pg_table01.get("d590");
+pg_table01.put(List.of("b41", 0, false));
+pg_table01.remove("ee");
+pg_table01.put(List.of("c40e", 4, true));
+pg_table01.put(List.of("f72", 0, true));
+pg_table01.get("ff");
+pg_table01.put(List.of("b1", 6943, true));
+pg_table01.put(List.of("ede", 2887, false));
+pg_table01.put(List.of("d8fa", 0, false));
+pg_table01.get("e02");
+pg_table01.put(List.of("fb", 1274, false));
+pg_table01.put(List.of("db1a", 1, true));
+pg_table01.remove("bf6");
+pg_table01.put(List.of("c4db", 0, true));
+pg_table01.put(List.of("c72", 378, false));
+pg_table01.put(List.of("b4d", 188, false));
+pg_table01.put(List.of("e75", 11, true));
+pg_table01.put(List.of("d8ff", 8, false));
+pg_table01.put(List.of("a8b", 96, false));
+pg_table01.get("cb3c");
+pg_table01.put(List.of("be9", 0, true));
+pg_table01.put(List.of("be10", 0, false));
+pg_table01.put(List.of("fd0", 54342, true));
+pg_table01.put(List.of("c76", 1, true));
+pg_table01.remove("bda");
+pg_table01.put(List.of("b061", 0, true));
+pg_table01.put(List.of("ad2", 0, false));
+pg_table01.remove("ad4");
+pg_table01.put(List.of("fd", 30, true));
+pg_table01.put(List.of("a892", 2, true));
+pg_table01.put(List.of("daa", 0, true));
+pg_table01.put(List.of("bdb", 0, true));
+pg_table01.get("fa0");
+pg_table01.remove("f4");
+pg_table01.remove("c95");
+pg_table01.put(List.of("bd3", 0, true));
+pg_table01.put(List.of("b2b", 36, true));
+pg_table01.put(List.of("ff1", 380, false));
+pg_table01.get("cf6e");
+pg_table01.put(List.of("cb9", 0, true));
+pg_table01.put(List.of("e5", 24809, false));
+pg_table01.put(List.of("a07", 350, false));
+pg_table01.put(List.of("de5a", 0, false));
+pg_table01.remove("c77");
+pg_table01.put(List.of("adee", 0, false));
+pg_table01.get("a52");
+pg_table01.put(List.of("a53", 395, true));
+pg_table01.put(List.of("d7ca", 0, true));
+pg_table01.get("d56");
+pg_table01.put(List.of("d30a", 0, true));
+pg_table01.remove("f3d0");
+pg_table01.put(List.of("db3", 0, true));
+pg_table01.put(List.of("bb2b", 0, false));
+pg_table01.put(List.of("d6", 778, true));
+pg_table01.put(List.of("b9", 1022, false));
+pg_table01.put(List.of("a88", 1, false));
+pg_table01.put(List.of("e6a", 10, false));
+pg_table01.put(List.of("b5f4", 8, true));
+pg_table01.put(List.of("bd9", 42, false));
+pg_table01.put(List.of("e06a", 38728, false));
+pg_table01.put(List.of("a9e1", 646, true));
+pg_table01.put(Arrays.asList("d6e", 0, null));
+pg_table01.put(List.of("e5bc6", 104, false));
+pg_table01.remove("af56");
+pg_table01.put(List.of("cc7", 0, true));
+pg_table01.put(List.of("d17", 0, false));
+pg_table01.put(List.of("bc1", 0, true));
+pg_table01.put(List.of("a39", 3, false));
+pg_table01.remove("a89");
+pg_table01.put(List.of("f2", 0, true));
+pg_table01.put(List.of("f20", 58, true));
+pg_table01.put(List.of("d2fc", 38, false));
+pg_table01.put(List.of("f57e", 0, true));
+pg_table01.put(List.of("e86", 376, true));
+pg_table01.put(List.of("cd2", 6, true));
+pg_table01.remove("ed6");
+pg_table01.put(Arrays.asList("d581", 0, null));
+pg_table01.remove("c200");
+pg_table01.put(List.of("f87", 26988, false));
+pg_table01.remove("ef4");
+pg_table01.put(List.of("f8f3", 289, false));
+pg_table01.put(List.of("b6a", 2711, false));
+pg_table01.put(List.of("bae", 1, false));
+pg_table01.put(List.of("c8c", 0, true));
+pg_table01.remove("a777");
+pg_table01.put(List.of("f41", 0, false));
+pg_table01.put(List.of("d4efc", 60, false));
+pg_table01.put(List.of("dad", 3612, false));
+pg_table01.put(List.of("b28", 0, true));
+pg_table01.put(List.of("ca1", 74, true));
+pg_table01.remove("cf");
+pg_table01.put(List.of("a288", 0, true));
+pg_table01.put(List.of("a08a", 0, false));
+pg_table01.put(List.of("dae", 1594, false));
+pg_table01.put(List.of("ab2", 12, true));
+pg_table01.put(List.of("ce6", 992, true));
+pg_table01.get("d88");
+pg_table01.put(List.of("a08", 27, true));
+pg_table01.remove("c39");
+pg_table01.get("c407");
+pg_table01.put(List.of("b62", 0, false));
+pg_table01.put(List.of("f1d", 0, true));
+pg_table01.put(List.of("c46", 4730, true));
+pg_table01.put(List.of("fc32", 0, true));
+pg_table01.remove("d95");
+pg_table01.put(List.of("ac9", 4, true));
+pg_table01.put(List.of("a6f8", 3, true));
+pg_table01.put(List.of("af0", 3, false));
+pg_table01.put(List.of("b263", 318, false));
+pg_table01.put(List.of("b794", 190, false));
+pg_table01.put(List.of("cd", 68, true));
+pg_table01.get("f1b");
+pg_table01.put(List.of("ceb", 2057, false));
+pg_table01.put(List.of("d34a", 0, false));
+pg_table01.put(List.of("a74", 5, false));
+pg_table01.put(List.of("e39", 68, false));
+pg_table01.put(List.of("f86", 2347, true));
+pg_table01.remove("cd81");
+pg_table01.put(List.of("bfb", 0, false));
+pg_table01.get("bd2");
+pg_table01.put(List.of("afb", 0, true));
+pg_table01.put(Arrays.asList("c86", 1, null));
+pg_table01.put(List.of("a23", 31, true));
+pg_table01.put(List.of("d24", 0, false));
+pg_table01.put(List.of("f2c", 0, false));
+pg_table01.put(List.of("ddc", 12050, true));
+pg_table01.get("fc39");
+pg_table01.put(List.of("bc5", 0, true));
+pg_table01.put(List.of("e16a", 698, false));
+pg_table01.put(List.of("b7a8", 287, false));
+pg_table01.put(List.of("c0", 1, false));
+pg_table01.remove("e4");
+pg_table01.put(List.of("e7b", 0, false));
+pg_table01.remove("f0");
+pg_table01.remove("e28");
+pg_table01.put(List.of("fb7", 0, true));
+pg_table01.put(List.of("fa8", 2, true));
+pg_table01.put(List.of("c915", 0, false));
+pg_table01.put(List.of("fa", 266, true));
+pg_table01.put(List.of("b38", 15748, false));
+pg_table01.put(List.of("a2b27", 3, true));
+pg_table01.put(List.of("a02", 0, false));
+pg_table01.get("b5e");
+pg_table01.put(List.of("d64", 0, false));
+pg_table01.put(List.of("cb80", 50, false));
+pg_table01.remove("c28");
+pg_table01.put(List.of("b00", 2, false));
+pg_table01.put(Arrays.asList("ee5", null, false));
+pg_table01.put(List.of("aad5d", 1, true));
+pg_table01.put(List.of("ad", 0, false));
+pg_table01.put(List.of("ec3", 2, true));
+pg_table01.remove("b7b");
+pg_table01.put(List.of("fb0", 0, true));
+pg_table01.put(List.of("c9b", 36, true));
+pg_table01.put(List.of("aa62", 10, true));
+pg_table01.put(List.of("a83", 0, false));
+pg_table01.put(List.of("bc59", 6, true));
+pg_table01.put(List.of("cd845", 0, false));
+pg_table01.put(List.of("a047e", 0, false));
+pg_table01.put(List.of("aa2b", 19794, false));
+pg_table01.remove("ba9d");
+pg_table01.put(List.of("ace", 66, false));
+pg_table01.remove("b35");
+pg_table01.put(List.of("b73", 57130, true));
+pg_table01.put(List.of("f362", 1268, true));
+pg_table01.remove("bd16");
+pg_table01.put(List.of("cb3", 41, true));
+pg_table01.put(List.of("bb7", 370, true));
+pg_table01.put(List.of("cd3", 1553, true));
+pg_table01.put(List.of("cfe", 221, false));
+pg_table01.put(List.of("b8e", 4, false));
+pg_table01.put(List.of("f57f", 5602, true));
+pg_table01.get("bf5");
+pg_table01.put(List.of("cd8", 0, false));
+pg_table01.remove("ef8");
+pg_table01.put(List.of("a00", 115, false));
+pg_table01.put(List.of("d57", 0, true));
+pg_table01.put(List.of("ea5", 31733, false));
+pg_table01.put(List.of("a25", 534, false));
+pg_table01.put(List.of("c78", 0, false));
+pg_table01.put(List.of("eb18e", 2, true));
+pg_table01.remove("df");
+pg_table01.put(List.of("b024", 3095, false));
+pg_table01.remove("bb40");
+pg_table01.put(List.of("f5f", 1, false));
+pg_table01.put(List.of("e26", 1206, false));
+pg_table01.remove("d82");
+pg_table01.put(List.of("a1f", 0, true));
+pg_table01.put(List.of("d5f", 1439, false));
+pg_table01.put(List.of("d53", 0, true));
+pg_table01.put(List.of("fae", 563, false));
+pg_table01.put(List.of("e9d", 56, true));
+pg_table01.put(List.of("e8f", 53419, true));
+pg_table01.put(List.of("dfd", 2197, false));
+pg_table01.get("c8e");
+pg_table01.remove("ea");
+pg_table01.get("a98");
+pg_table01.put(List.of("d214", 178, false));
+pg_table01.put(List.of("b511", 0, false));
+pg_table01.put(List.of("de4", 0, false));
+pg_table01.put(Arrays.asList("eee", 843, null));
+pg_table01.put(List.of("a57", 80, false));
+pg_table01.put(List.of("be16", 0, true));
+pg_table01.put(List.of("c3d", 3323, true));
+pg_table01.remove("c4");
+pg_table01.remove("edf4");
+pg_table01.remove("ad8");
+pg_table01.put(Arrays.asList("a185", null, true));
+pg_table01.put(List.of("d0c", 454525, true));
+pg_table01.put(List.of("de7", 0, true));
+pg_table01.remove("a5f");
+pg_table01.put(List.of("a31", 4, false));
+pg_table01.get("f99d");
+pg_table01.remove("ed4");
+pg_table01.put(List.of("b9c", 768, false));
+pg_table01.put(List.of("d8", 0, true));
+pg_table01.put(List.of("c45", 0, false));
+pg_table01.put(List.of("b456", 0, true));
+pg_table01.remove("f43");
+pg_table01.put(List.of("b68", 0, false));
+pg_table01.put(List.of("ffb", 32, true));
+pg_table01.put(List.of("c90", 9, true));
+pg_table01.put(List.of("ece", 15, true));
+pg_table01.remove("ca4");
+pg_table01.put(List.of("b5f", 3812, true));
+pg_table01.get("ec8e");
+pg_table01.remove("f0c");
+pg_table01.get("bc");
+pg_table01.put(List.of("efd", 0, false));
+pg_table01.put(List.of("dc8", 7053, true));
+pg_table01.get("b452");
+pg_table01.put(List.of("be4", 2, true));
+pg_table01.put(List.of("fc34", 0, true));
+pg_table01.put(List.of("cc8", 35, true));
+pg_table01.put(List.of("a26", 0, false));
+pg_table01.put(List.of("eab", 68, true));
+pg_table01.put(List.of("f6d", 3, true));
+pg_table01.put(List.of("bd5", 67557, false));
+pg_table01.remove("b08");
+pg_table01.put(List.of("a70", 762, true));
+pg_table01.put(List.of("dc2b", 3003, false));
+pg_table01.remove("aa2");
+pg_table01.put(List.of("acb", 1, true));
+pg_table01.put(List.of("c30d", 0, true));
+pg_table01.remove("fb19");
+pg_table01.put(List.of("d1b", 175, true));
+pg_table01.put(List.of("a71", 174, true));
+pg_table01.put(List.of("c9c", 49456, true));
+pg_table01.put(List.of("b244", 0, false));
+pg_table01.put(List.of("c6f", 0, false));
+pg_table01.put(List.of("bfe", 0, true));
+pg_table01.remove("c0f");
+pg_table01.put(List.of("d76", 0, true));
+pg_table01.put(List.of("a159", 0, true));
+pg_table01.get("e913");
+pg_table01.put(List.of("a1c", 0, true));
+pg_table01.put(List.of("da9", 16, true));
+pg_table01.put(List.of("d3a", 13926, false));
+pg_table01.remove("aa3");
+pg_table01.put(List.of("e33", 0, true));
+pg_table01.put(List.of("fd1", 0, true));
+pg_table01.remove("fac");
+pg_table01.remove("b2f");
+pg_table01.put(List.of("ea9e", 0, false));
+pg_table01.put(List.of("a37a", 1309, true));
+pg_table01.remove("abeed");
+pg_table01.put(List.of("abf", 0, false));
+pg_table01.remove("a51");
+pg_table01.put(List.of("fe6", 0, false));
+pg_table01.put(List.of("f1664", 61, false));
+pg_table01.remove("dc0");
+pg_table01.put(List.of("d35d", 0, true));
+pg_table01.put(List.of("e178a", 17, false));
+pg_table01.put(List.of("c5", 1231, true));
+pg_table01.put(List.of("d3", 9, true));
+pg_table01.put(List.of("bc2", 0, false));
+pg_table01.remove("d2a0");
+pg_table01.put(List.of("b8d", 863, false));
+pg_table01.put(List.of("a67c", 0, false));
+pg_table01.remove("c54");
+pg_table01.put(List.of("a6cf", 0, true));
+pg_table01.put(List.of("e46d", 619, false));
+pg_table01.remove("d43");
+pg_table01.put(List.of("d99", 0, false));
+pg_table01.put(List.of("db4", 0, true));
+pg_table01.put(List.of("ba", 0, true));
+pg_table01.put(List.of("f11", 36216, true));
+pg_table01.remove("f420");
+pg_table01.get("d0");
+pg_table01.remove("b619");
+pg_table01.put(List.of("a33", 914019, true));
+pg_table01.put(List.of("f1ae", 357, true));
+pg_table01.put(List.of("c57", 0, false));
+pg_table01.get("a09");
+pg_table01.put(List.of("d72c", 37642, false));
+pg_table01.put(List.of("cab", 2583, true));
+pg_table01.put(List.of("b05c", 0, false));
+pg_table01.put(List.of("cfd", 1, false));
+pg_table01.put(List.of("ced", 0, false));
+pg_table01.put(List.of("c79", 0, true));
+pg_table01.remove("d1d");
+pg_table01.get("c50");
+pg_table01.put(List.of("bcd", 0, true));
+pg_table01.put(List.of("c2f", 667, false));
+pg_table01.put(List.of("ec9", 0, false));
+pg_table01.put(List.of("eb1", 0, true));
+pg_table01.put(List.of("d5c", 201, true));
+pg_table01.put(List.of("c74", 0, false));
+pg_table01.put(List.of("e669", 771, true));
+pg_table01.get("dd71");
+pg_table01.put(List.of("ca3", 21, true));
+pg_table01.put(List.of("ec8", 0, false));
+pg_table01.put(List.of("fc5", 386, false));
+pg_table01.remove("a0a");
+pg_table01.put(List.of("c04", 191, true));
+pg_table01.put(List.of("b06", 0, false));
+pg_table01.put(List.of("bebc", 0, true));
+pg_table01.put(List.of("ee9", 0, false));
+pg_table01.remove("c98");
+pg_table01.put(List.of("ae5", 1140, true));
+pg_table01.put(List.of("e20", 57291, false));
+pg_table01.get("e2b");
+pg_table01.put(List.of("f95", 3173, true));
+pg_table01.put(List.of("c25", 0, true));
+pg_table01.put(List.of("a36d", 98, true));
+pg_table01.put(List.of("e0e5", 0, true));
+pg_table01.put(List.of("b2c", 390, false));
+pg_table01.put(List.of("ff0", 0, false));
+pg_table01.remove("d58");
+pg_table01.remove("d8a");
+pg_table01.put(List.of("e81", 8, false));
+pg_table01.get("c225");
+pg_table01.put(List.of("a6b", 89, false));
+pg_table01.put(List.of("de5", 0, false));
+pg_table01.put(List.of("aaa", 182, true));
+pg_table01.remove("da7");
+pg_table01.put(List.of("c3dc", 0, false));
+pg_table01.remove("a37f");
+pg_table01.remove("aa5");
+pg_table01.get("c84e");
+pg_table01.put(List.of("a29", 0, true));
+pg_table01.put(List.of("a05d", 0, false));
+pg_table01.put(List.of("c2b7d", 1058, false));
+pg_table01.put(List.of("dce0", 4, true));
+pg_table01.remove("a85");
+pg_table01.put(List.of("d4f", 1114, false));
+pg_table01.get("b7a");
+pg_table01.put(List.of("d2f", 28, true));
+pg_table01.put(List.of("e91", 10, true));
+pg_table01.get("d32c");
+pg_table01.put(List.of("f4d", 0, true));
+pg_table01.put(List.of("a59", 219, true));
+pg_table01.get("d2a8c");
+pg_table01.remove("af3");
+pg_table01.put(List.of("d09c", 294, true));
+pg_table01.put(List.of("a2c", 0, false));
+pg_table01.put(List.of("bfa", 35, true));
+pg_table01.put(List.of("adb", 434, true));
+pg_table01.put(List.of("e0a", 0, false));
+pg_table01.put(List.of("d8ee", 625190, true));
+pg_table01.put(List.of("de8c", 1178, true));
+pg_table01.put(List.of("a55", 0, true));
+pg_table01.put(List.of("d1c", 0, false));
+pg_table01.put(List.of("bff", 253, true));
+pg_table01.get("e1a1");
+pg_table01.get("cb1");
+pg_table01.remove("d68");
+pg_table01.remove("dc6");
+pg_table01.put(List.of("cb9c", 0, false));
+pg_table01.put(List.of("c65", 544, true));
+pg_table01.remove("b7e0");
+pg_table01.put(List.of("c1e", 4729, false));
+pg_table01.put(List.of("d94", 0, false));
+pg_table01.put(List.of("d46d", 7, true));
+pg_table01.put(List.of("e9a", 0, false));
+pg_table01.put(List.of("b02", 0, false));
+pg_table01.put(List.of("a49", 0, false));
+pg_table01.put(List.of("c0c", 0, false));
+pg_table01.put(List.of("e98", 18, false));
+pg_table01.remove("d54");
+pg_table01.put(List.of("e1f", 0, false));
+pg_table01.put(List.of("d8c", 5139, false));
+pg_table01.get("a9c");
+pg_table01.put(List.of("ab5", 0, false));
+pg_table01.put(List.of("bdd3", 0, false));
+pg_table01.put(List.of("c82", 16, false));
+pg_table01.remove("a126");
+pg_table01.put(List.of("e09", 0, false));
+pg_table01.remove("c09");
+pg_table01.put(List.of("b708", 0, false));
+pg_table01.put(List.of("c99", 0, false));
+pg_table01.put(List.of("db67", 99, true));
+pg_table01.put(List.of("b3db7", 0, false));
+pg_table01.put(List.of("d83", 0, false));
+pg_table01.put(List.of("dfa", 15009, true));
+pg_table01.put(List.of("c473", 1, true));
+pg_table01.put(List.of("bb0", 0, false));
+pg_table01.put(List.of("ee3", 0, false));
+pg_table01.put(List.of("b77", 0, false));
+pg_table01.put(List.of("ab4", 6, true));
+pg_table01.put(List.of("e8d", 3, false));
+pg_table01.remove("a87");
+pg_table01.remove("edbd");
+pg_table01.put(List.of("ce1", 0, true));
+pg_table01.put(List.of("d1ad", 19, false));
+pg_table01.put(List.of("ee85", 249, true));
+pg_table01.remove("ebf");
+pg_table01.put(List.of("bc3", 121, true));
+pg_table01.put(List.of("b80", 15513, true));
+pg_table01.put(List.of("bab", 12219, true));
+pg_table01.get("a7d");
+pg_table01.put(List.of("d59e", 0, true));
+pg_table01.put(List.of("cc69", 1, false));
+pg_table01.get("df3");
+pg_table01.put(List.of("aee", 25729, false));
+pg_table01.put(List.of("a44", 0, true));
+pg_table01.put(List.of("a6c", 32, false));
+pg_table01.get("fb6");
+pg_table01.put(List.of("efd0", 2, true));
+pg_table01.put(List.of("f23", 0, false));
+pg_table01.put(List.of("a6f", 0, true));
+pg_table01.put(List.of("d260", 37, false));
+pg_table01.put(List.of("c9e", 0, true));
+pg_table01.remove("b9f");
+pg_table01.remove("b5c");
+pg_table01.remove("ab7");
+pg_table01.put(List.of("b63", 0, true));
+pg_table01.put(List.of("d7e", 12, true));
+pg_table01.put(List.of("c5c", 1, false));
+pg_table01.remove("a9d");
+pg_table01.put(List.of("f96", 2323841, true));
+pg_table01.remove("df1");
+pg_table01.put(List.of("aba4", 0, false));
+pg_table01.put(List.of("d48", 0, true));
+pg_table01.put(List.of("e8a2", 20, true));
+pg_table01.remove("ac3");
+pg_table01.put(List.of("dd4", 2349, false));
+pg_table01.remove("e38");
+pg_table01.put(List.of("a68", 60, false));
+pg_table01.put(List.of("f30", 6, true));
+pg_table01.put(List.of("b19", 0, true));
+pg_table01.put(List.of("f61", 1983, false));
+pg_table01.remove("a103");
+pg_table01.remove("f92b");
+pg_table01.remove("f00b");
+pg_table01.put(List.of("a0661", 0, true));
+pg_table01.remove("add");
+pg_table01.remove("e96");
+pg_table01.put(List.of("cf80", 0, true));
+pg_table01.remove("a21f");
+pg_table01.remove("fcc");
+pg_table01.remove("b99");
+pg_table01.put(List.of("d19", 42284, true));
+pg_table01.put(List.of("e73", 12, false));
+pg_table01.put(List.of("c07", 2055, true));
+pg_table01.put(List.of("c61", 145, false));
+pg_table01.put(List.of("a052", 0, false));
+pg_table01.put(List.of("b8a", 59615, false));
+pg_table01.put(List.of("eb5", 405, false));
+pg_table01.put(List.of("e99", 128284, true));
+pg_table01.put(List.of("b2b4", 0, false));
+pg_table01.put(List.of("ae6", 4, true));
+pg_table01.put(List.of("d74", 5953, false));
+pg_table01.put(List.of("cfc1", 1, true));
+pg_table01.put(List.of("d72", 7, true));
+pg_table01.put(List.of("d4e", 0, false));
+pg_table01.put(List.of("fc6", 54, true));
+pg_table01.put(List.of("cd72", 0, true));
+pg_table01.put(List.of("c16", 0, false));
+pg_table01.remove("d21");
+pg_table01.put(List.of("f4e", 0, false));
+pg_table01.put(List.of("f21", 0, false));
+pg_table01.put(List.of("d09", 31, true));
+pg_table01.put(List.of("f65", 11, true));
+pg_table01.put(List.of("e4f5", 0, true));
+pg_table01.put(List.of("e01", 0, true));
+pg_table01.put(List.of("b0f", 1008, false));
+pg_table01.put(List.of("d378", 704, true));
+pg_table01.put(List.of("d2e8", 739, false));
+pg_table01.put(List.of("b82", 33, true));
+pg_table01.put(List.of("a85d", 21147, true));
+pg_table01.put(Arrays.asList("ecd0", 1, null));
+pg_table01.put(List.of("a5b0", 0, false));
+pg_table01.put(List.of("ddae", 145618, true));
+pg_table01.put(List.of("fb8", 0, true));
+pg_table01.remove("cf9");
+pg_table01.put(List.of("d3f", 5325, false));
+pg_table01.put(List.of("e24f", 0, true));
+pg_table01.put(List.of("ba7", 5, false));
+pg_table01.put(List.of("e4bb", 0, true));
+pg_table01.get("a7b");
+pg_table01.put(List.of("f710", 381, true));
+pg_table01.put(List.of("f33b", 43, true));
+pg_table01.get("e563");
+pg_table01.put(List.of("da97", 32, true));
+pg_table01.put(List.of("d1cc", 499, false));
+pg_table01.remove("db07");
+pg_table01.put(List.of("e3c", 235, false));
+pg_table01.put(List.of("d0f", 0, true));
+pg_table01.remove("c188");
+pg_table01.put(List.of("f375", 5, false));
+pg_table01.remove("b4c");
+pg_table01.put(Arrays.asList("f89", 77, null));
+pg_table01.remove("c03");
+pg_table01.put(List.of("b37", 12, true));
+pg_table01.remove("f27");
+pg_table01.put(List.of("b1b", 0, false));
+pg_table01.get("d41");
+pg_table01.remove("b65");
+pg_table01.put(List.of("f68", 0, false));
+pg_table01.put(List.of("a184", 64, false));
+pg_table01.put(List.of("dd9", 13, false));
+pg_table01.put(List.of("e08", 0, false));
+pg_table01.remove("fa1");
+pg_table01.put(List.of("c3c", 0, false));
+pg_table01.get("e2ce");
+pg_table01.put(List.of("dc4", 0, true));
+pg_table01.get("cfdb");
+pg_table01.get("df5");
+pg_table01.put(List.of("b357", 9707, false));
+pg_table01.put(List.of("eca", 4, true));
+pg_table01.remove("ac1");
+pg_table01.get("b5d");
+pg_table01.put(List.of("c66", 0, true));
+pg_table01.put(List.of("ae4a", 635, false));
+pg_table01.put(List.of("ab39", 2410, true));
+pg_table01.put(List.of("a85e", 1019, true));
+pg_table01.put(List.of("f485", 546, true));
+pg_table01.remove("b88");
+pg_table01.get("b523");
+pg_table01.put(List.of("d32", 0, true));
+pg_table01.put(List.of("e548", 0, true));
+pg_table01.remove("b78");
+pg_table01.put(List.of("cd5", 786, false));
+pg_table01.put(List.of("a18", 85, false));
+pg_table01.put(List.of("c67", 30603, false));
+pg_table01.put(List.of("e553", 1, true));
+pg_table01.put(List.of("f7d", 17, false));
+pg_table01.put(List.of("ae9", 4, false));
+pg_table01.put(List.of("dea8f", 0, false));
+pg_table01.get("df9");
+pg_table01.remove("ac3a");
+pg_table01.remove("bc7");
+pg_table01.put(List.of("aeef", 0, true));
+pg_table01.put(List.of("a5e", 37117, false));
+pg_table01.put(List.of("e4c4", 0, false));
+pg_table01.get("ba0");
+pg_table01.get("c36");
+pg_table01.remove("c4cb");
+pg_table01.put(List.of("b25", 0, false));
+pg_table01.put(List.of("a379", 20844, true));
+pg_table01.put(List.of("e29", 15, false));
+pg_table01.put(List.of("c4e", 101141, true));
+pg_table01.put(List.of("d10", 0, false));
+pg_table01.put(List.of("f1c", 2647, true));
+pg_table01.get("d04");
+pg_table01.put(Arrays.asList("a7f", null, true));
+pg_table01.put(List.of("d63", 12, false));
+pg_table01.put(List.of("f11d", 0, true));
+pg_table01.put(List.of("dc1", 0, true));
+pg_table01.put(List.of("d55", 38471, true));
+pg_table01.remove("ea7");
+pg_table01.remove("a8c");
+pg_table01.remove("d8439");
+pg_table01.get("b32");
+pg_table01.put(List.of("a1b", 1543, true));
+pg_table01.put(List.of("f94", 0, false));
+pg_table01.put(List.of("c799", 201, true));
+pg_table01.put(List.of("b74", 0, false));
+pg_table01.put(List.of("ce0", 0, true));
+pg_table01.put(List.of("f63", 1, true));
+pg_table01.put(List.of("ca1b", 0, false));
+pg_table01.put(List.of("c0b", 0, false));
+pg_table01.remove("c11");
+pg_table01.put(List.of("a8d", 24, false));
+pg_table01.put(List.of("a56", 138, false));
+pg_table01.put(List.of("f046", 34531, false));
+pg_table01.put(List.of("c5c8", 2, false));
+pg_table01.get("d0cf");
+pg_table01.put(List.of("e6c", 69, false));
+pg_table01.remove("e3e");
+pg_table01.remove("e5a");
+pg_table01.remove("b4b");
+pg_table01.put(List.of("d323", 1000, false));
+pg_table01.put(List.of("e67b", 24, true));
+pg_table01.remove("aa1a");
+pg_table01.put(List.of("e87", 0, false));
+pg_table01.put(List.of("c8bb", 88, false));
+pg_table01.remove("dba");
+pg_table01.remove("f3c");
+pg_table01.put(List.of("e04f", 0, false));
+pg_table01.put(List.of("afd", 22, true));
+pg_table01.put(List.of("df4", 0, false));
+pg_table01.put(List.of("a05", 47569, false));
+pg_table01.put(List.of("c40", 0, true));
+pg_table01.remove("c11a");
+pg_table01.remove("e1c");
+pg_table01.put(List.of("e230", 1, false));
+pg_table01.put(List.of("aea", 13616, true));
+pg_table01.get("a5f0");
+pg_table01.put(List.of("c7ce", 0, true));
+pg_table01.put(List.of("d43a", 704, true));
+pg_table01.put(List.of("f01", 2058, true));
+pg_table01.put(List.of("ebe3a", 0, false));
+pg_table01.put(List.of("ba8e", 64, false));
+pg_table01.put(List.of("c805", 164, false));
+pg_table01.remove("eda");
+pg_table01.put(List.of("c628", 0, true));
+pg_table01.put(List.of("de2", 100, false));
+pg_table01.put(List.of("a9df", 0, true));
+pg_table01.put(List.of("c1f", 117, true));
+pg_table01.put(List.of("ef2d", 1, true));
+pg_table01.put(List.of("c775", 0, true));
+pg_table01.put(List.of("b29", 2221, true));
+pg_table01.put(List.of("a0c4", 0, false));
+pg_table01.remove("e2b7");
+pg_table01.put(List.of("aad6", 38, false));
+pg_table01.put(List.of("d65", 6452, false));
+pg_table01.put(List.of("a5d", 0, false));
+pg_table01.remove("c184");
+pg_table01.put(List.of("a37c", 0, false));
+pg_table01.put(List.of("b24", 0, false));
+pg_table01.put(List.of("d3a6", 0, true));
+pg_table01.put(List.of("dfe", 1, false));
+pg_table01.put(List.of("c898", 23, true));
+pg_table01.put(List.of("a80a", 0, true));
+pg_table01.put(List.of("eaa", 88, false));
+pg_table01.get("bab6");
+pg_table01.put(List.of("b59", 0, false));
+pg_table01.put(List.of("d2d", 451, false));
+pg_table01.put(List.of("c44a9", 18110, true));
+pg_table01.remove("bc8");
+pg_table01.put(List.of("e60", 10224, true));
+pg_table01.put(List.of("f40", 36, false));
+pg_table01.put(List.of("d44d", 620, true));
+pg_table01.remove("c01");
+pg_table01.remove("c48");
+pg_table01.put(List.of("b89", 10, true));
+pg_table01.put(List.of("e42b", 0, false));
+pg_table01.remove("dc24");
+pg_table01.put(List.of("bdf", 0, false));
+pg_table01.put(List.of("ad3a", 0, false));
+pg_table01.remove("a656");
+pg_table01.remove("d31");
+pg_table01.remove("b95");
+pg_table01.put(List.of("bec", 0, true));
+pg_table01.put(List.of("d45", 578, false));
+pg_table01.remove("a41");
+pg_table01.put(List.of("fb1c", 12, true));
+pg_table01.remove("c70");
+pg_table01.put(List.of("a15", 17, false));
+pg_table01.get("a6b9");
+pg_table01.put(List.of("d75", 795, false));
+pg_table01.put(List.of("f8e", 917, false));
+pg_table01.put(List.of("b64", 4, false));
+pg_table01.put(List.of("cc32d", 0, false));
+pg_table01.put(List.of("c42", 12, false));
+pg_table01.remove("d0da");
+pg_table01.get("e82a9");
+pg_table01.put(List.of("a7e", 0, true));
+pg_table01.get("aa1");
+pg_table01.put(List.of("d35", 1, false));
+pg_table01.put(List.of("e07", 0, false));
+pg_table01.put(List.of("e05", 179, false));
+pg_table01.put(List.of("f57", 3, true));
+pg_table01.put(List.of("b12", 326, false));
+pg_table01.put(List.of("abc", 1024, false));
+pg_table01.put(List.of("e3b", 0, true));
+pg_table01.remove("ffc");
+pg_table01.remove("b48f");
+pg_table01.remove("e59");
+pg_table01.put(List.of("cd0", 0, false));
+pg_table01.put(List.of("adf", 57, true));
+pg_table01.put(List.of("d8d", 0, true));
+pg_table01.get("c0d");
+pg_table01.put(List.of("e77", 0, false));
+pg_table01.put(List.of("fbb", 425, false));
+pg_table01.remove("b3b");
+pg_table01.put(List.of("b4ff", 0, true));
+pg_table01.put(List.of("e4b", 1418, true));
+pg_table01.put(Arrays.asList("c30", 243, null));
+pg_table01.get("b18");
+pg_table01.remove("dd5");
+pg_table01.put(List.of("b2abe", 2, false));
+pg_table01.remove("cf7");
+pg_table01.put(List.of("bf3", 60, true));
+pg_table01.put(List.of("b5ee", 0, true));
+pg_table01.remove("edd");
+pg_table01.put(List.of("a1db", 0, false));
+pg_table01.remove("bf4");
+pg_table01.get("c297");
+pg_table01.put(Arrays.asList("ef7", 1560, null));
+pg_table01.remove("be6");
+pg_table01.put(Arrays.asList("ba26", null, false));
+pg_table01.get("afbb");
+pg_table01.put(List.of("c895", 3, true));
+pg_table01.put(List.of("b49", 0, true));
+pg_table01.put(List.of("d36", 63336, false));
+pg_table01.get("a16");
+pg_table01.remove("ff8");
+pg_table01.get("d86");
+pg_table01.get("d42");
+pg_table01.get("e05d");
+pg_table01.put(List.of("dfc", 33, false));
+pg_table01.put(List.of("f1a", 7824, false));
+pg_table01.put(List.of("f1f", 2751, true));
+pg_table01.remove("bf0");
+pg_table01.remove("db7");
+pg_table01.remove("b13");
+pg_table01.put(List.of("d38", 1, true));
+pg_table01.put(List.of("c7f", 3625, true));
+pg_table01.get("fa5");
+pg_table01.put(List.of("bbc3", 12, true));
+pg_table01.put(List.of("cdc1", 0, false));
+pg_table01.put(List.of("c3d8", 1, false));
+pg_table01.put(List.of("bfeb", 0, false));
+pg_table01.remove("c0a");
+pg_table01.put(List.of("ed04", 22, true));
+pg_table01.put(List.of("afa", 376, true));
+pg_table01.put(Arrays.asList("ffeb", 128052, null));
+pg_table01.remove("f9e");
+pg_table01.get("ce3");
+pg_table01.put(List.of("a6974", 180639, false));
+pg_table01.remove("b4aa");
+pg_table01.put(List.of("f800", 108, true));
+pg_table01.put(List.of("d048a", 1126, false));
+pg_table01.put(List.of("f16", 79, true));
+pg_table01.get("a495");
+pg_table01.put(List.of("ac7", 0, true));
+pg_table01.put(List.of("b59b", 0, true));
+pg_table01.put(List.of("ac6", 0, true));
+pg_table01.put(List.of("b9a", 0, false));
+pg_table01.put(List.of("dbe8", 12, true));
+pg_table01.put(List.of("f721", 186800, false));
+pg_table01.put(List.of("e63", 20, false));
+pg_table01.put(List.of("d81", 0, false));
+pg_table01.put(List.of("c59", 7, true));
+pg_table01.put(List.of("cf36", 0, true));
+pg_table01.remove("b90");
+pg_table01.get("cb2");
+pg_table01.put(List.of("d523", 0, false));
+pg_table01.put(List.of("d29", 0, true));
+pg_table01.put(List.of("ec02", 0, false));
+pg_table01.put(List.of("c51", 41, false));
+pg_table01.get("a73");
+pg_table01.put(List.of("b26", 0, true));
+pg_table01.put(List.of("b430", 0, false));
+pg_table01.put(List.of("a4e", 82, false));
+pg_table01.get("e06");
+pg_table01.remove("b778");
+pg_table01.remove("fba");
+pg_table01.put(List.of("f02", 4, true));
+pg_table01.get("e942");
+pg_table01.remove("d14");
+pg_table01.put(List.of("a60b", 1, true));
+pg_table01.put(Arrays.asList("e1b", null, true));
+pg_table01.get("cdb");
+pg_table01.put(List.of("a644", 3443, false));
+pg_table01.put(List.of("ebcb", 0, true));
+pg_table01.put(List.of("fdc", 276, false));
+pg_table01.put(List.of("e996", 0, true));
+pg_table01.put(List.of("c637", 0, true));
+pg_table01.put(List.of("f0f", 0, false));
+pg_table01.remove("f3f");
+pg_table01.remove("c77e");
+pg_table01.remove("d05");
+pg_table01.put(List.of("edf", 171, true));
+pg_table01.put(List.of("f707", 68, true));
+pg_table01.put(List.of("bd6b", 0, true));
+pg_table01.get("aab");
+pg_table01.remove("edb");
+pg_table01.put(List.of("b14", 7880, false));
+pg_table01.put(List.of("bc6", 0, true));
+pg_table01.get("eb7");
+pg_table01.put(List.of("f47", 5751, false));
+pg_table01.put(List.of("a03", 7, false));
+pg_table01.put(List.of("e47", 0, true));
+pg_table01.put(List.of("bff2", 59, true));
+pg_table01.put(List.of("b5e2", 628, false));
+pg_table01.put(List.of("adcb", 0, true));
+pg_table01.put(List.of("dc5", 15156, false));
+pg_table01.put(List.of("e4cc", 45, true));
+pg_table01.remove("a7c");
+pg_table01.put(List.of("e72", 460, false));
+pg_table01.put(List.of("b30", 0, true));
+pg_table01.put(List.of("f302", 3300, false));
+pg_table01.put(List.of("cab4", 476, false));
+pg_table01.put(List.of("cdcc6", 0, false));
+pg_table01.remove("a2f");
+pg_table01.put(List.of("fd01", 9506, true));
+pg_table01.put(List.of("d42e", 0, false));
+pg_table01.put(List.of("ae3", 26, false));
+pg_table01.remove("cb6");
+pg_table01.put(List.of("ae2", 96, false));
+pg_table01.put(List.of("a211", 14, true));
+pg_table01.put(List.of("dca", 112222, false));
+pg_table01.remove("e2d");
+pg_table01.put(List.of("fb5", 417, true));
+pg_table01.put(List.of("a6a8", 0, true));
+pg_table01.put(List.of("f07", 10934, false));
+pg_table01.put(List.of("bb3", 0, false));
+pg_table01.put(List.of("eb3", 0, false));
+pg_table01.put(List.of("d70", 53, false));
+pg_table01.put(List.of("e57", 0, true));
+pg_table01.get("be2");
+pg_table01.remove("f50");
+pg_table01.remove("e0f");
+pg_table01.remove("e892");
+pg_table01.put(List.of("c2b", 4870, false));
+pg_table01.put(List.of("d77", 146, true));
+pg_table01.remove("c159");
+pg_table01.put(List.of("e2c", 0, true));
+pg_table01.put(List.of("e35", 0, false));
+pg_table01.put(List.of("a0c", 0, false));
+pg_table01.put(List.of("c246", 15, true));
+pg_table01.get("e7f");
+pg_table01.put(List.of("fd3", 3754, true));
+pg_table01.remove("b01");
+pg_table01.remove("a36");
+pg_table01.put(List.of("f91", 0, true));
+pg_table01.get("b69");
+pg_table01.put(List.of("a3d", 297, true));
+pg_table01.put(List.of("cc9", 0, false));
+pg_table01.remove("c382e");
+pg_table01.put(List.of("a2a", 46, false));
+pg_table01.put(List.of("f18", 0, false));
+pg_table01.put(List.of("cf2", 0, false));
+pg_table01.put(List.of("bfe3", 0, false));
+pg_table01.get("f421");
+pg_table01.put(List.of("f32", 0, true));
+pg_table01.get("a04");
+pg_table01.get("baaf");
+pg_table01.put(List.of("bcf8", 0, false));
+pg_table01.put(List.of("d6b", 0, false));
+pg_table01.remove("d01");
+pg_table01.remove("b75");
+pg_table01.remove("afe");
+pg_table01.get("e9b");
+pg_table01.put(List.of("e5c", 919, true));
+pg_table01.put(List.of("c4b", 7189, true));
+pg_table01.put(List.of("dce92", 0, true));
+pg_table01.remove("df2");
+pg_table01.put(List.of("bb21", 2, false));
+pg_table01.put(List.of("ee1", 178, false));
+pg_table01.remove("fe3");
+pg_table01.put(List.of("bb97", 0, true));
+pg_table01.put(List.of("dc7", 0, true));
+pg_table01.put(List.of("dfb", 0, false));
+pg_table01.put(Arrays.asList("c6e", null, false));
+pg_table01.put(List.of("e0de", 2823, false));
+pg_table01.put(List.of("f33", 40, true));
+pg_table01.get("eef");
+pg_table01.put(List.of("a38", 0, false));
+pg_table01.remove("a9a4");
+pg_table01.put(List.of("cd8a", 100, true));
+pg_table01.remove("e58");
+pg_table01.get("be9e");
+// Random Seed: 1796769154
+pg_table01 = null;
+
+pg_table01 = new PagedFileTable("pg_table01");
+pg_table01.getTableName();
+pg_table01.getColumnNames();
+pg_table01.getColumnTypes();
+pg_table01.getPrimaryIndex();
+pg_table01.getTableName();
+pg_table01.getColumnNames();
+pg_table01.getColumnTypes();
+pg_table01.getPrimaryIndex();
+pg_table01.get("f49e");
+pg_table01.get("c171");
+pg_table01.get("cba");
+pg_table01.get("bd6");
+pg_table01.get("e6b");
+pg_table01.get("b21");
+pg_table01.get("c17");
+pg_table01.get("a3f");
+pg_table01.get("c5d");
+pg_table01.get("d6d");
+pg_table01.get("c047");
+pg_table01.get("d06");
+pg_table01.get("dd0");
+pg_table01.get("b86");
+pg_table01.get("c18");
+pg_table01.get("ae0");
+pg_table01.get("c94");
+pg_table01.get("baa");
+pg_table01.get("fb4");
+pg_table01.get("bbd");
+pg_table01.get("f0ff");
+pg_table01.get("ec4d");
+pg_table01.get("b55c");
+pg_table01.get("f2bf");
+pg_table01.get("ea8");
+pg_table01.get("f49b");
+pg_table01.get("d5ef");
+pg_table01.get("c639");
+pg_table01.get("fc3");
+pg_table01.get("e608");
+pg_table01.get("bfdb");
+pg_table01.get("a1d");
+pg_table01.get("bccc");
+pg_table01.get("c10");
+pg_table01.get("f6e");
+pg_table01.get("d7f4");
+pg_table01.get("efe");
+pg_table01.get("ed3");
+pg_table01.get("cbac5");
+pg_table01.get("efbc");
+pg_table01.get("cbc");
+pg_table01.get("c76d");
+pg_table01.get("b93b");
+pg_table01.get("e4f");
+pg_table01.get("f36");
+pg_table01.get("cfb");
+pg_table01.get("ecd");
+pg_table01.get("dbd0");
+pg_table01.get("c1c");
+pg_table01.get("cdb3");
+pg_table01.get("a78");
+pg_table01.get("c5890");
+pg_table01.get("d79");
+pg_table01.get("e25");
+pg_table01.get("cde2");
+pg_table01.get("ad7");
+pg_table01.get("a5a");
+pg_table01.get("e1e");
+pg_table01.get("bd72");
+pg_table01.get("d00d");
+pg_table01.get("be5");
+pg_table01.get("abda");
+pg_table01.get("fc8");
+pg_table01.get("dd16");
+pg_table01.get("ca97");
+pg_table01.get("be1");
+pg_table01.get("bf2");
+pg_table01.get("ceb6");
+pg_table01.get("ed97");
+pg_table01.get("b954");
+pg_table01.get("cd4");
+pg_table01.get("ea0");
+pg_table01.get("e833");
+pg_table01.get("f56");
+pg_table01.get("cc44d");
+pg_table01.get("f14c");
+pg_table01.get("eaf");
+pg_table01.get("cf84");
+pg_table01.get("d5ad");
+pg_table01.get("f8f");
+pg_table01.get("bfa2");
+pg_table01.get("be0");
+pg_table01.get("b7d");
+pg_table01.get("f131");
+pg_table01.get("c5e");
+pg_table01.get("ddb7");
+pg_table01.get("baf");
+pg_table01.get("dd56");
+pg_table01.get("f05");
+pg_table01.get("fe7");
+pg_table01.get("f5bf");
+pg_table01.get("cda");
+pg_table01.get("e8cc");
+pg_table01.get("d0d");
+pg_table01.get("b8c");
+pg_table01.get("bfbdd");
+pg_table01.get("b3e");
+pg_table01.get("f9b");
+pg_table01.get("b4f");
+pg_table01.get("b5a2");
+pg_table01.get("d3d6");
+pg_table01.get("a6f2a");
+pg_table01.get("b449");
+pg_table01.get("e1ba");
+pg_table01.get("dce");
+pg_table01.get("b71");
+pg_table01.get("a86");
+pg_table01.get("c87");
+pg_table01.get("c38");
+pg_table01.get("b6d");
+pg_table01.get("d516");
+pg_table01.get("f99");
+pg_table01.get("abe");
+pg_table01.get("bd1");
+pg_table01.get("e709");
+pg_table01.get("ecaa");
+pg_table01.get("f59e");
+pg_table01.get("dff");
+pg_table01.get("e717a");
+pg_table01.get("ee04");
+pg_table01.get("b571f");
+pg_table01.get("e36");
+pg_table01.get("c7b");
+pg_table01.get("a122");
+pg_table01.get("d8dc");
+pg_table01.get("b49f");
+pg_table01.get("e885");
+pg_table01.get("cc5f");
+pg_table01.get("b51");
+pg_table01.get("be67");
+pg_table01.get("d66");
+pg_table01.get("f64");
+pg_table01.get("b474");
+pg_table01.get("f6f");
+pg_table01.get("d6c");
+pg_table01.get("dcc4");
+pg_table01.get("c2d");
+pg_table01.get("a7d9");
+pg_table01.get("b3d8");
+pg_table01.get("e15f");
+pg_table01.get("ad6");
+pg_table01.get("dea8");
+pg_table01.get("a62");
+pg_table01.get("d67");
+pg_table01.get("a0e2");
+pg_table01.get("c64");
+pg_table01.get("c694");
+pg_table01.get("e79");
+pg_table01.get("a2fd");
+pg_table01.get("b440");
+pg_table01.get("dd1c");
+pg_table01.get("c0551");
+pg_table01.get("bbf");
+pg_table01.get("f70");
+pg_table01.get("e95b");
+pg_table01.get("f17c");
+pg_table01.get("e17");
+pg_table01.get("c19");
+pg_table01.get("d03");
+pg_table01.get("ad37");
+pg_table01.get("c7a");
+pg_table01.get("d623f");
+pg_table01.get("cb2c");
+pg_table01.get("e67");
+pg_table01.get("e76");
+pg_table01.get("f2d");
+pg_table01.get("a99");
+pg_table01.get("a72");
+pg_table01.get("ec66");
+pg_table01.get("e3ba");
+pg_table01.get("ef2");
+pg_table01.get("de3");
+pg_table01.get("c83");
+pg_table01.get("e8e2");
+pg_table01.get("ebb");
+pg_table01.get("a897");
+pg_table01.get("b03");
+pg_table01.get("b8b");
+pg_table01.get("b52");
+pg_table01.get("c1d");
+pg_table01.get("cae");
+pg_table01.get("d87e");
+pg_table01.get("a444");
+pg_table01.get("fc88");
+pg_table01.get("d22");
+pg_table01.get("ea4d");
+pg_table01.get("e4a");
+pg_table01.get("a225f");
+pg_table01.get("ee0");
+pg_table01.get("ab1");
+pg_table01.get("b7ca");
+pg_table01.get("fed");
+pg_table01.get("ad1fd");
+pg_table01.get("b10a");
+pg_table01.get("fcfa");
+pg_table01.get("aba");
+pg_table01.get("d9a");
+pg_table01.get("b495");
+pg_table01.get("c62");
+pg_table01.get("a504");
+pg_table01.get("c84");
+pg_table01.get("bcf");
+pg_table01.get("c41");
+pg_table01.get("a855");
+pg_table01.get("cc5");
+pg_table01.get("ee2a");
+pg_table01.get("c423");
+pg_table01.get("e6d8");
+pg_table01.get("ac5");
+pg_table01.get("f5b");
+pg_table01.get("b83");
+pg_table01.get("d9e");
+pg_table01.get("a1a");
+pg_table01.get("e42f");
+pg_table01.get("b178");
+pg_table01.get("e9b5");
+pg_table01.get("e34a");
+pg_table01.get("abe7");
+pg_table01.get("af7");
+pg_table01.get("ce2");
+pg_table01.get("c1a");
+pg_table01.get("b2ac");
+pg_table01.get("b8c8");
+pg_table01.get("f5c");
+pg_table01.get("aa9");
+pg_table01.get("b9fe");
+pg_table01.get("fbc");
+pg_table01.get("a97");
+pg_table01.get("aae");
+pg_table01.get("d522");
+pg_table01.get("ec11");
+pg_table01.get("b892");
+pg_table01.get("c6c1");
+pg_table01.get("b382");
+pg_table01.get("e30");
+pg_table01.get("c37");
+pg_table01.get("c8b");
+pg_table01.get("c8b9");
+pg_table01.get("e3a9");
+pg_table01.get("fb9");
+pg_table01.get("f54");
+pg_table01.get("dc9");
+pg_table01.get("a09f");
+pg_table01.get("debb");
+pg_table01.get("ddd8");
+pg_table01.get("c58");
+pg_table01.get("c705");
+pg_table01.get("a9e");
+pg_table01.get("c92");
+pg_table01.get("a6ba");
+pg_table01.get("cf5");
+pg_table01.get("da5");
+pg_table01.get("ce9a");
+pg_table01.get("ba62");
+pg_table01.get("b72b");
+pg_table01.get("de6");
+pg_table01.get("a42");
+pg_table01.get("d4d");
+pg_table01.get("bcc");
+pg_table01.get("aff");
+pg_table01.get("f355");
+pg_table01.get("bb6");
+pg_table01.get("ebe");
+pg_table01.get("ee7");
+pg_table01.get("fc1");
+pg_table01.get("c7c");
+pg_table01.get("a0e1");
+pg_table01.get("cde14");
+pg_table01.get("fa6");
+pg_table01.get("c9c8");
+pg_table01.get("b1c");
+pg_table01.get("b609");
+pg_table01.get("f2b");
+pg_table01.get("da4");
+pg_table01.get("ad61");
+pg_table01.get("e0d");
+pg_table01.get("d6a");
+pg_table01.get("b45");
+pg_table01.get("a39e1");
+pg_table01.get("bce");
+pg_table01.get("dbb");
+pg_table01.get("afba");
+pg_table01.get("e6f");
+pg_table01.get("e11");
+pg_table01.get("ed0");
+pg_table01.get("c342");
+pg_table01.get("aaf2");
+pg_table01.get("fa4a");
+pg_table01.get("bdd");
+pg_table01.get("d40a");
+pg_table01.get("bd08");
+pg_table01.get("b56");
+pg_table01.get("d5c8");
+pg_table01.get("ec4c");
+pg_table01.get("ee3c");
+pg_table01.get("d90");
+pg_table01.get("bba91");
+pg_table01.get("dc54");
+pg_table01.get("d8b");
+pg_table01.get("b33");
+pg_table01.get("d4b3");
+pg_table01.get("a38d");
+pg_table01.get("f19");
+pg_table01.get("ca5");
+pg_table01.get("bd38");
+pg_table01.get("fa13");
+pg_table01.get("eba");
+pg_table01.get("e052");
+pg_table01.get("b1ed");
+pg_table01.get("a0d");
+pg_table01.get("fd8");
+pg_table01.get("c26");
+pg_table01.get("df17");
+pg_table01.get("d0b");
+pg_table01.get("f3f4");
+pg_table01.get("b208");
+pg_table01.get("a5e4c");
+pg_table01.get("f1cd");
+pg_table01.get("c071");
+pg_table01.get("b1d");
+pg_table01.get("d30");
+pg_table01.get("b58f");
+pg_table01.get("cbe");
+pg_table01.get("fc0");
+pg_table01.get("f06");
+pg_table01.get("ef57");
+pg_table01.get("b517");
+pg_table01.get("c525");
+pg_table01.get("f90");
+pg_table01.get("a45");
+pg_table01.get("bb354");
+pg_table01.get("aa3b");
+pg_table01.get("e0b7");
+pg_table01.get("b84");
+pg_table01.get("f4a");
+pg_table01.get("e578");
+pg_table01.get("a2e");
+pg_table01.get("f3c7");
+pg_table01.get("a47");
+pg_table01.get("ae5a");
+pg_table01.get("cd83");
+pg_table01.get("afc");
+pg_table01.get("a653");
+pg_table01.get("cf35");
+pg_table01.get("e61");
+pg_table01.get("a5b6");
+pg_table01.get("d971");
+pg_table01.get("ab6");
+pg_table01.get("a19");
+pg_table01.get("f73");
+pg_table01.get("a46");
+pg_table01.get("ebc0");
+pg_table01.get("e458");
+pg_table01.get("dbbf");
+pg_table01.get("ce7");
+pg_table01.get("ad9");
+pg_table01.get("fa4e");
+pg_table01.get("f92d");
+pg_table01.get("bde");
+pg_table01.get("db8f");
+pg_table01.get("a0e");
+pg_table01.get("d973");
+pg_table01.get("db9");
+pg_table01.get("cbf3");
+pg_table01.get("e7a");
+pg_table01.get("ee5e");
+pg_table01.get("b3ac");
+pg_table01.get("a5c7");
+pg_table01.get("ea4");
+pg_table01.get("dc70");
+pg_table01.get("cfb6");
+pg_table01.get("b679");
+pg_table01.get("ccce");
+pg_table01.get("b7cb");
+pg_table01.get("c3e");
+pg_table01.get("bf8");
+pg_table01.get("d8e");
+pg_table01.get("f78");
+pg_table01.get("c865");
+pg_table01.get("d87");
+pg_table01.get("ead");
+pg_table01.get("a06");
+pg_table01.get("a8f");
+pg_table01.get("d10b");
+pg_table01.get("ba9");
+pg_table01.get("aeec");
+pg_table01.get("a542");
+pg_table01.get("de4d");
+pg_table01.get("f7e");
+pg_table01.get("b6e");
+pg_table01.get("e3a");
+pg_table01.get("c47");
+pg_table01.get("a8e");
+pg_table01.get("b34");
+pg_table01.get("cae9");
+pg_table01.get("d4e5");
+pg_table01.get("f5be");
+pg_table01.get("a521");
+pg_table01.get("b72");
+pg_table01.get("bb5");
+pg_table01.get("b4e");
+pg_table01.get("d78");
+pg_table01.get("e8e");
+pg_table01.get("b197");
+pg_table01.get("f6c1");
+pg_table01.get("ad2d");
+pg_table01.get("ad09");
+pg_table01.get("b1f");
+pg_table01.get("b66f");
+pg_table01.get("d1e");
+pg_table01.get("d6d0");
+pg_table01.get("f37");
+pg_table01.get("d61");
+pg_table01.get("b1e");
+pg_table01.get("fb4b");
+pg_table01.get("bcbc");
+pg_table01.get("b6f");
+pg_table01.get("e7dc");
+pg_table01.get("d85");
+pg_table01.get("e9ed");
+pg_table01.get("a261");
+pg_table01.get("f9f");
+pg_table01.get("bc23");
+pg_table01.get("f75");
+pg_table01.get("f3e");
+pg_table01.get("ac70");
+pg_table01.get("ad2f");
+pg_table01.get("edf9");
+pg_table01.get("df8");
+pg_table01.get("b50d");
+pg_table01.get("be6f");
+pg_table01.get("b900");
+pg_table01.get("dab4");
+pg_table01.get("c3f");
+pg_table01.get("e8c");
+pg_table01.get("aac");
+pg_table01.get("a96d8");
+pg_table01.get("fb78");
+pg_table01.get("dcbd");
+pg_table01.get("ba3");
+pg_table01.get("aa6");
+pg_table01.get("a28");
+pg_table01.get("e27");
+pg_table01.get("deba");
+pg_table01.get("c076");
+pg_table01.get("e00");
+pg_table01.get("ae56");
+pg_table01.get("a81");
+pg_table01.get("e4d");
+pg_table01.get("c22a");
+pg_table01.get("a6f7");
+pg_table01.get("c02");
+pg_table01.get("ec67");
+pg_table01.get("b47");
+pg_table01.get("ac19d");
+pg_table01.get("b50c");
+pg_table01.get("f44");
+pg_table01.get("cea");
+pg_table01.get("a7a7");
+pg_table01.get("e71");
+pg_table01.get("da00");
+pg_table01.get("bdc");
+pg_table01.get("d12");
+pg_table01.get("c55");
+pg_table01.get("e65c");
+pg_table01.get("a58c");
+pg_table01.get("cc3");
+pg_table01.get("bd86");
+pg_table01.get("f217");
+pg_table01.get("a84");
+pg_table01.get("e46");
+pg_table01.get("eff3");
+pg_table01.get("db5e");
+pg_table01.get("a4b27");
+pg_table01.get("d127");
+pg_table01.get("c8db");
+pg_table01.get("ec5");
+pg_table01.get("cef0");
+pg_table01.get("a10");
+pg_table01.get("b790");
+pg_table01.get("f24");
+pg_table01.get("a93");
+pg_table01.get("d7e6");
+pg_table01.get("edc");
+pg_table01.get("f38");
+pg_table01.get("dc4e");
+pg_table01.get("df99");
+pg_table01.get("f53");
+pg_table01.get("efe2");
+pg_table01.get("a0f");
+pg_table01.get("d37");
+pg_table01.get("f24d");
+pg_table01.get("e762");
+pg_table01.get("e5ae");
+pg_table01.get("a13c");
+pg_table01.get("b260");
+pg_table01.get("b05");
+pg_table01.get("e16");
+pg_table01.get("fb3");
+pg_table01.get("be34");
+pg_table01.get("f556");
+pg_table01.get("ac0e");
+pg_table01.get("eb0");
+pg_table01.get("ec4");
+pg_table01.get("c27c");
+pg_table01.get("a4d");
+pg_table01.get("c4ba");
+pg_table01.get("fca");
+pg_table01.get("a48");
+pg_table01.get("d86d");
+pg_table01.get("a5c");
+pg_table01.get("e82b");
+pg_table01.get("af5");
+pg_table01.get("c14f");
+pg_table01.get("f74");
+pg_table01.get("ca6");
+pg_table01.get("fb1");
+pg_table01.get("b81");
+pg_table01.get("c9a");
+pg_table01.get("c6a");
+pg_table01.get("e89");
+pg_table01.get("adb6");
+pg_table01.get("e49");
+pg_table01.get("cc2");
+pg_table01.get("d51");
+pg_table01.get("c139");
+pg_table01.get("d23f");
+pg_table01.get("e4b2");
+pg_table01.get("bee");
+pg_table01.get("e90");
+pg_table01.get("cd1");
+pg_table01.get("c5b");
+pg_table01.get("a35");
+pg_table01.get("a5a0");
+pg_table01.get("a816");
+pg_table01.get("c4f4");
+pg_table01.get("ae8");
+pg_table01.get("eed");
+pg_table01.get("b3cc");
+pg_table01.get("cd19");
+pg_table01.get("b521");
+pg_table01.get("bd21");
+pg_table01.get("b2a");
+pg_table01.get("d20");
+pg_table01.get("a80");
+pg_table01.get("ab5b");
+pg_table01.get("c6b");
+pg_table01.get("c4d");
+pg_table01.get("ae68");
+pg_table01.get("e64");
+pg_table01.get("d07");
+pg_table01.get("ad0");
+pg_table01.get("b9ff");
+pg_table01.get("ca2e");
+pg_table01.get("c12");
+pg_table01.get("d0e75");
+pg_table01.get("e80");
+pg_table01.get("fec");
+pg_table01.get("e62");
+pg_table01.get("e666");
+pg_table01.get("b604");
+pg_table01.get("e7af");
+pg_table01.get("c81");
+pg_table01.get("f82");
+pg_table01.get("b2e");
+pg_table01.get("bf0c3");
+pg_table01.get("eba6");
+pg_table01.get("af97");
+pg_table01.get("a4b");
+pg_table01.get("fc65");
+pg_table01.get("ab3");
+pg_table01.get("b8f");
+pg_table01.get("b32e");
+pg_table01.get("d15");
+pg_table01.get("f08");
+pg_table01.get("d3d4");
+pg_table01.get("ec6");
+pg_table01.get("d23");
+pg_table01.get("c995");
+pg_table01.get("a50a");
+pg_table01.get("c532");
+pg_table01.get("a43");
+pg_table01.get("bd8");
+pg_table01.get("b0a0");
+pg_table01.get("e6d7");
+pg_table01.get("afe0");
+pg_table01.get("c8a1");
+pg_table01.get("ff7");
+pg_table01.get("b44");
+pg_table01.get("f0a8");
+pg_table01.get("a65a");
+pg_table01.get("e0c");
+pg_table01.get("cb7");
+pg_table01.get("ad90");
+pg_table01.get("c255");
+pg_table01.get("bfd");
+pg_table01.get("df6");
+pg_table01.get("b3b1");
+pg_table01.get("e83");
+pg_table01.get("ec5b");
+pg_table01.get("e3cc");
+pg_table01.get("b0c");
+pg_table01.get("e6c3");
+pg_table01.get("f85");
+pg_table01.get("c346f");
+pg_table01.get("e425");
+pg_table01.get("c6d");
+pg_table01.get("ae4");
+pg_table01.get("dcb");
+pg_table01.get("cb0d");
+pg_table01.get("badc");
+pg_table01.get("f5a");
+pg_table01.get("d62");
+pg_table01.get("cd45");
+pg_table01.get("abd");
+pg_table01.get("a207");
+pg_table01.get("a9b");
+pg_table01.get("b22");
+pg_table01.get("dac");
+pg_table01.get("b629");
+pg_table01.get("dfbf");
+pg_table01.get("a34e9");
+pg_table01.get("afd7");
+pg_table01.get("b99c");
+pg_table01.get("bd4");
+pg_table01.get("ccc");
+pg_table01.get("b9b");
+pg_table01.get("ba2");
+pg_table01.get("cbf");
+pg_table01.get("c80");
+pg_table01.get("b966");
+pg_table01.get("a874");
+pg_table01.get("ccf");
+pg_table01.get("b0d");
+pg_table01.get("a4d6");
+pg_table01.get("d01a");
+pg_table01.get("a2e3");
+pg_table01.get("ed5");
+pg_table01.get("a24c");
+pg_table01.get("ecb");
+pg_table01.get("f52");
+pg_table01.get("b007");
+pg_table01.get("cc22");
+pg_table01.get("a40");
+pg_table01.get("ba15");
+pg_table01.get("d27");
+pg_table01.get("b48");
+pg_table01.get("fe5");
+pg_table01.get("b331");
+pg_table01.get("e93");
+pg_table01.get("b3a");
+pg_table01.get("f623");
+pg_table01.get("f501");
+pg_table01.get("f2f");
+pg_table01.get("bedf");
+pg_table01.get("b338");
+pg_table01.get("be3");
+pg_table01.get("ea2");
+pg_table01.get("cc52");
+pg_table01.get("f7c");
+pg_table01.get("e9f");
+pg_table01.get("c5a");
+pg_table01.get("dc4c5");
+pg_table01.get("c60");
+pg_table01.get("cb73");
+pg_table01.get("c4bb");
+pg_table01.get("b1a");
+pg_table01.get("ae7");
+pg_table01.get("b6c5");
+pg_table01.get("bf15");
+pg_table01.get("e10");
+pg_table01.get("c673");
+pg_table01.get("f86f");
+pg_table01.get("a463");
+pg_table01.get("d162");
+pg_table01.get("cae8e");
+pg_table01.get("eeb8");
+pg_table01.get("fbf");
+pg_table01.get("f8c2");
+pg_table01.get("fc90");
+pg_table01.get("cacf");
+pg_table01.get("a918");
+pg_table01.get("ef9");
+pg_table01.get("aba8");
+pg_table01.get("bc9");
+pg_table01.get("bef");
+pg_table01.get("bd92");
+pg_table01.get("cdcc");
+pg_table01.get("ab30");
+pg_table01.get("a1b8");
+pg_table01.get("db13");
+pg_table01.get("c994");
+pg_table01.get("ba6");
+pg_table01.get("b2bd");
+pg_table01.get("d393");
+pg_table01.get("afa5");
+pg_table01.get("acd4e");
+pg_table01.get("f3b0");
+pg_table01.get("bbce");
+pg_table01.get("e272");
+pg_table01.get("cf1");
+pg_table01.get("c068");
+pg_table01.get("ba39");
+pg_table01.get("f58");
+pg_table01.get("f9d");
+pg_table01.get("abe9");
+pg_table01.get("bb7a");
+pg_table01.get("c9d");
+pg_table01.get("d16d");
+pg_table01.get("b50");
+pg_table01.get("df78");
+pg_table01.get("be44");
+pg_table01.get("d520");
+pg_table01.get("a90d");
+pg_table01.get("b1e4");
+pg_table01.get("b05d");
+pg_table01.get("e76d");
+pg_table01.get("faf7");
+pg_table01.get("d2b");
+pg_table01.get("c23");
+pg_table01.get("e944c");
+pg_table01.get("f1e");
+pg_table01.get("a50");
+pg_table01.get("b27");
+pg_table01.get("bd9c");
+pg_table01.get("e3c1");
+pg_table01.get("dcc");
+pg_table01.get("ffd");
+pg_table01.get("d47");
+pg_table01.get("e932");
+pg_table01.get("a6a");
+pg_table01.get("ca8");
+pg_table01.get("d5b");
+pg_table01.get("d479");
+pg_table01.get("b33f5");
+pg_table01.get("ac64");
+pg_table01.get("cdf");
+pg_table01.get("eb75");
+pg_table01.get("c00");
+pg_table01.get("ed376");
+pg_table01.get("d1a9");
+pg_table01.get("bb9");
+pg_table01.get("f810");
+pg_table01.get("cee");
+pg_table01.get("c04d");
+pg_table01.get("fa3");
+pg_table01.get("aa573");
+pg_table01.get("f60");
+pg_table01.get("e43");
+pg_table01.get("d3c");
+pg_table01.get("c730");
+pg_table01.get("d8e2");
+pg_table01.get("a95e");
+pg_table01.get("fe7a");
+pg_table01.get("f985");
+pg_table01.get("da8");
+pg_table01.get("d2e");
+pg_table01.get("cd32");
+pg_table01.get("eb6");
+pg_table01.get("a963");
+pg_table01.get("d0950");
+pg_table01.get("b54a");
+pg_table01.get("db40");
+pg_table01.get("d42f");
+pg_table01.get("dbd");
+pg_table01.get("beb5");
+pg_table01.get("fecb");
+pg_table01.get("cb74");
+pg_table01.get("a1e2");
+pg_table01.get("dbb6");
+pg_table01.get("d406");
+pg_table01.get("b42");
+pg_table01.get("f6f6");
+pg_table01.get("aa26");
+pg_table01.get("f1f6");
+pg_table01.get("e9c");
+pg_table01.get("c9b8");
+pg_table01.get("bac0");
+pg_table01.get("a9106");
+pg_table01.get("f7b");
+pg_table01.get("c7d");
+pg_table01.get("d611");
+pg_table01.get("d18");
+pg_table01.get("d8e7");
+pg_table01.get("ca0");
+pg_table01.get("a60e");
+pg_table01.get("cd8f");
+pg_table01.get("dd2d");
+pg_table01.get("ab98");
+pg_table01.get("dd8");
+pg_table01.get("fd2");
+pg_table01.get("d4de");
+pg_table01.get("c370");
+pg_table01.get("a14");
+pg_table01.get("ac7f");
+pg_table01.get("ff87");
+pg_table01.get("b3f");
+pg_table01.get("ccb");
+pg_table01.get("dd89");
+pg_table01.get("d69");
+pg_table01.get("f454");
+pg_table01.get("f0b");
+pg_table01.get("f9c2");
+pg_table01.get("be2a");
+pg_table01.get("cee1");
+pg_table01.get("c3cc");
+pg_table01.get("e433");
+pg_table01.get("a61");
+pg_table01.get("a483");
+pg_table01.get("e82");
+pg_table01.get("d4d4");
+pg_table01.get("f55");
+pg_table01.get("f9a");
+pg_table01.get("e2cb");
+pg_table01.get("e40");
+pg_table01.get("ec86");
+pg_table01.get("aef");
+pg_table01.get("fa2");
+pg_table01.get("cf91");
+pg_table01.get("ccd");
+pg_table01.get("ce8a");
+pg_table01.get("a08c");
+pg_table01.get("dbf");
+pg_table01.get("d054");
+pg_table01.get("aade");
+pg_table01.get("bb1");
+pg_table01.get("c1df");
+pg_table01.get("af55");
+pg_table01.get("b3a8");
+pg_table01.get("bf1ee");
+pg_table01.get("afdc");
+pg_table01.get("c584c");
+pg_table01.get("daaa");
+pg_table01.get("fce");
+pg_table01.get("bec9");
+pg_table01.get("b518");
+pg_table01.get("fd53");
+pg_table01.get("b40");
+pg_table01.get("a6ac");
+pg_table01.get("e9e");
+pg_table01.get("a518");
+pg_table01.get("c69b");
+pg_table01.get("d7cb");
+pg_table01.get("ffa");
+pg_table01.get("c7b3");
+pg_table01.get("daf");
+pg_table01.get("a383");
+pg_table01.get("a901");
+pg_table01.get("ac83");
+pg_table01.get("f061");
+pg_table01.get("dda6");
+pg_table01.get("c73");
+pg_table01.get("db0");
+pg_table01.get("c7d9");
+pg_table01.get("f22");
+pg_table01.get("d872");
+pg_table01.get("a54");
+pg_table01.get("a8a2");
+pg_table01.get("f5748");
+pg_table01.get("f31");
+pg_table01.get("b92b");
+pg_table01.get("edce");
+pg_table01.get("c6fc");
+pg_table01.get("c08");
+pg_table01.get("bbb");
+pg_table01.get("b70");
+pg_table01.get("abb");
+pg_table01.get("ce29");
+pg_table01.get("d0a");
+pg_table01.get("e7c");
+pg_table01.get("f53f");
+pg_table01.get("ac4");
+pg_table01.get("b0b");
+pg_table01.get("a868");
+pg_table01.get("fd4");
+pg_table01.get("d39");
+pg_table01.get("b50e");
+pg_table01.get("bdb5");
+pg_table01.get("d2c");
+pg_table01.get("c91");
+pg_table01.get("c21");
+pg_table01.get("a12c");
+pg_table01.get("e18e");
+pg_table01.get("c49e");
+pg_table01.get("a881");
+pg_table01.get("e720");
+pg_table01.get("a530");
+pg_table01.get("b841");
+pg_table01.get("c20");
+pg_table01.get("c19b");
+pg_table01.get("d26");
+pg_table01.get("ebc");
+pg_table01.get("cea8");
+pg_table01.get("da5d");
+pg_table01.get("e13");
+pg_table01.get("e2bc");
+pg_table01.get("add1");
+pg_table01.get("b0ae");
+pg_table01.get("c505");
+pg_table01.get("bbe");
+pg_table01.get("f26");
+pg_table01.get("fc99");
+pg_table01.get("d344");
+pg_table01.get("e0bf");
+pg_table01.get("bd0");
+pg_table01.get("d9c");
+pg_table01.get("b61");
+pg_table01.get("f3d");
+pg_table01.get("cbdc5");
+pg_table01.get("fa61");
+pg_table01.get("f7f");
+pg_table01.get("e7f6");
+pg_table01.get("c7f6");
+pg_table01.get("c64b");
+pg_table01.get("a60");
+pg_table01.get("e12");
+pg_table01.get("c44");
+pg_table01.get("dab");
+pg_table01.get("edd9");
+pg_table01.get("b372");
+pg_table01.get("a587");
+pg_table01.get("d070");
+pg_table01.get("c841");
+pg_table01.get("f34");
+pg_table01.get("b049");
+pg_table01.get("c571");
+pg_table01.get("c24");
+pg_table01.get("dd59");
+pg_table01.get("be71");
+pg_table01.get("f9c");
+pg_table01.get("db2");
+pg_table01.get("b6c");
+pg_table01.get("e23");
+pg_table01.get("ac68");
+pg_table01.get("b6bd");
+pg_table01.get("a69");
+pg_table01.get("ebc6");
+pg_table01.get("db8");
+pg_table01.get("f845");
+pg_table01.get("a55e");
+pg_table01.get("a67");
+pg_table01.get("a04a");
+pg_table01.get("c6de");
+pg_table01.get("a947");
+pg_table01.get("fb48");
+pg_table01.get("fdc2");
+pg_table01.get("e22");
+pg_table01.get("d904");
+pg_table01.get("deb");
+pg_table01.get("dad0");
+pg_table01.get("b7f7");
+pg_table01.get("c50c");
+pg_table01.get("dcf7");
+pg_table01.get("ce30");
+pg_table01.get("f4b9");
+pg_table01.get("a37");
+pg_table01.get("fee");
+pg_table01.get("c56a");
+pg_table01.get("a237");
+pg_table01.get("fc2d");
+pg_table01.get("b5b5");
+pg_table01.get("c82d");
+pg_table01.get("bb4");
+pg_table01.get("a01");
+pg_table01.get("cbd");
+pg_table01.get("f7ccd");
+pg_table01.get("a58");
+pg_table01.get("ff5");
+pg_table01.get("bf9");
+pg_table01.get("b53d");
+pg_table01.get("f7ff");
+pg_table01.get("b742");
+pg_table01.get("a477");
+pg_table01.get("baf5");
+pg_table01.get("e778");
+pg_table01.get("c416");
+pg_table01.get("d54e");
+pg_table01.get("c455");
+pg_table01.get("bb55");
+pg_table01.get("d59");
+pg_table01.get("fa7");
+pg_table01.get("ae47");
+pg_table01.get("cba8");
+pg_table01.get("b0cf");
+pg_table01.get("e24");
+pg_table01.get("d13");
+pg_table01.get("dc63");
+pg_table01.get("c641");
+pg_table01.get("aaf");
+pg_table01.get("dcfc");
+pg_table01.get("e2f");
+pg_table01.get("b11");
+pg_table01.get("b10");
+pg_table01.get("b67");
+pg_table01.get("a031");
+pg_table01.get("efc");
+pg_table01.get("fa9");
+pg_table01.get("dda");
+pg_table01.get("a64");
+pg_table01.get("d7f");
+pg_table01.get("e2e");
+pg_table01.get("b912");
+pg_table01.get("b9ce");
+pg_table01.get("b53be");
+pg_table01.get("b683");
+pg_table01.get("fcf");
+pg_table01.get("ac0");
+pg_table01.get("f4b");
+pg_table01.get("e6c5");
+pg_table01.get("de8");
+pg_table01.get("a30");
+pg_table01.get("bce48");
+pg_table01.get("eb4");
+pg_table01.get("e733e");
+pg_table01.get("b6b");
+pg_table01.get("ade");
+pg_table01.get("ee4");
+pg_table01.get("f6a");
+pg_table01.get("c7e");
+pg_table01.get("ac35");
+pg_table01.get("a8f9");
+pg_table01.get("dd3");
+pg_table01.get("b1d5");
+pg_table01.get("ab8fb");
+pg_table01.get("d660");
+pg_table01.get("ba4");
+pg_table01.get("e83b");
+pg_table01.get("e03");
+pg_table01.get("ddb");
+pg_table01.get("a20");
+pg_table01.get("c63");
+pg_table01.get("b9e");
+pg_table01.get("beb");
+pg_table01.get("c1f4");
+pg_table01.get("a591");
+pg_table01.get("b49b");
+pg_table01.get("c35");
+pg_table01.get("ac48");
+pg_table01.get("f8ba");
+pg_table01.get("dec8");
+pg_table01.get("a0c2");
+pg_table01.get("c22");
+pg_table01.get("adac");
+pg_table01.get("c984");
+pg_table01.get("a339");
+pg_table01.get("c96");
+pg_table01.get("c70e");
+pg_table01.get("d47d");
+pg_table01.get("f76");
+pg_table01.get("d948");
+pg_table01.get("f69");
+pg_table01.get("adb1c");
+pg_table01.get("c69");
+pg_table01.get("aeb");
+pg_table01.get("d3d");
+pg_table01.get("b47e");
+pg_table01.get("db6");
+pg_table01.get("cd9");
+pg_table01.get("ef12");
+pg_table01.get("ece4");
+pg_table01.get("d95a");
+pg_table01.get("f6f8");
+pg_table01.get("acd");
+pg_table01.get("fcb");
+pg_table01.get("d7df");
+pg_table01.get("e68");
+pg_table01.get("b0b9");
+pg_table01.get("ce9");
+pg_table01.get("fe17");
+pg_table01.get("ce01");
+pg_table01.get("f97");
+pg_table01.get("eb2");
+pg_table01.get("d6a1");
+pg_table01.get("ba5");
+pg_table01.get("a726");
+pg_table01.get("dafa");
+pg_table01.get("ea1");
+pg_table01.get("e95a");
+pg_table01.get("a32");
+pg_table01.get("e18");
+pg_table01.get("b3c31");
+pg_table01.get("b0f1");
+pg_table01.get("f14");
+pg_table01.get("eccd");
+pg_table01.get("f0b4");
+pg_table01.get("a735");
+pg_table01.get("e06f");
+pg_table01.get("a266");
+pg_table01.get("fcce3");
+pg_table01.get("f455");
+pg_table01.get("d5e");
+pg_table01.get("df7d");
+pg_table01.get("b53");
+pg_table01.get("d738");
+pg_table01.get("cbb");
+pg_table01.get("c9f");
+pg_table01.get("b394");
+pg_table01.get("ce8ad");
+pg_table01.get("e54");
+pg_table01.get("eb2e");
+pg_table01.get("ab3a");
+pg_table01.get("afc1");
+pg_table01.get("cf28");
+pg_table01.get("eb9");
+pg_table01.get("ab9");
+pg_table01.get("af0c");
+pg_table01.get("e37");
+pg_table01.get("b185");
+pg_table01.get("b2c55");
+pg_table01.get("b1e2");
+pg_table01.get("c32");
+pg_table01.get("e45");
+pg_table01.get("e1e4");
+pg_table01.get("c32f");
+pg_table01.get("fd8b");
+pg_table01.get("cd26");
+pg_table01.get("d84");
+pg_table01.get("c85");
+pg_table01.get("ba09");
+pg_table01.get("a00e");
+pg_table01.get("bb67");
+pg_table01.clear();
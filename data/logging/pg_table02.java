@@ -0,0 +1,2266 @@
+// Random Seed: 1796769154
+Table pg_table02 = new PagedFileTable("pg_table02", List.of("f", "be6e", "c7", "cce", "b", "a22"), List.of("integer", "boolean", "boolean", "integer", "integer", "boolean"), 3);
+pg_table02.getTableName();
+pg_table02.getColumnNames();
+pg_table02.getColumnTypes();
+pg_table02.getPrimaryIndex();
+pg_table02.getTableName();
+pg_table02.getColumnNames();
+pg_table02.getColumnTypes();
+pg_table02.getPrimaryIndex();
+pg_table02.clear();
+pg_table02.remove(935);
+pg_table02.put(List.of(2147, false, false, 0, 34394, false));
+pg_table02.remove(1);
+pg_table02.remove(176);
+pg_table02.get(0);
+pg_table02.put(List.of(0, false, true, 15, 0, true));
+pg_table02.put(List.of(0, false, true, 0, 14, false));
+pg_table02.remove(139833);
+pg_table02.put(List.of(13, false, true, 0, 0, true));
+pg_table02.remove(12609);
+pg_table02.put(List.of(0, false, true, 4389, 6, false));
+pg_table02.put(List.of(186, false, true, 64, 103, false));
+pg_table02.put(List.of(1265, false, true, 6, 2, true));
+pg_table02.put(List.of(221, true, false, 29, 0, true));
+pg_table02.put(List.of(11, false, false, 486, 0, true));
+pg_table02.put(List.of(0, false, true, 0, 0, false));
+pg_table02.put(List.of(0, false, false, 0, 0, false));
+pg_table02.put(List.of(0, true, false, 14, 26289, false));
+pg_table02.put(List.of(270, true, true, 1, 26914, true));
+pg_table02.put(List.of(883, true, true, 0, 2373, true));
+pg_table02.put(List.of(385, false, false, 1055, 21, false));
+pg_table02.put(List.of(0, false, true, 0, 96, true));
+pg_table02.get(0);
+pg_table02.put(List.of(3214, true, false, 0, 3410, false));
+pg_table02.put(List.of(0, true, false, 3, 62503, true));
+pg_table02.put(List.of(0, false, false, 0, 100918, true));
+pg_table02.put(List.of(0, true, true, 308514, 0, false));
+pg_table02.put(List.of(390, true, true, 1955, 0, false));
+pg_table02.put(List.of(0, true, false, 694, 14435, false));
+pg_table02.put(List.of(484, false, true, 5638, 0, true));
+pg_table02.remove(1);
+pg_table02.put(List.of(0, true, true, 74, 1, false));
+pg_table02.put(List.of(37251, false, true, 1941, 431, false));
+pg_table02.put(List.of(0, false, false, 0, 323, true));
+pg_table02.put(List.of(0, true, false, 44, 37, false));
+pg_table02.put(List.of(11088, false, false, 5, 6, true));
+pg_table02.put(List.of(0, false, false, 0, 41663, false));
+pg_table02.put(List.of(0, true, true, 93, 60, false));
+pg_table02.put(List.of(2352, true, false, 2994, 0, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(149891, false, false, 1, 3, false));
+pg_table02.put(List.of(0, false, true, 0, 0, false));
+pg_table02.remove(1);
+pg_table02.remove(0);
+pg_table02.get(15116);
+pg_table02.put(List.of(0, false, false, 13, 19475, false));
+pg_table02.put(List.of(183, false, false, 67910, 1751, false));
+pg_table02.put(List.of(0, true, true, 0, 105, true));
+pg_table02.put(List.of(7617, false, false, 0, 3034, false));
+pg_table02.put(List.of(0, false, false, 12, 117, false));
+pg_table02.get(0);
+pg_table02.put(List.of(7, true, false, 0, 150, true));
+pg_table02.remove(4);
+pg_table02.put(List.of(0, true, true, 5, 2400, true));
+pg_table02.put(List.of(0, false, false, 0, 0, false));
+pg_table02.put(List.of(23009, true, false, 0, 10236, false));
+pg_table02.get(285);
+pg_table02.put(List.of(1087, false, true, 214030, 0, false));
+pg_table02.put(List.of(5, true, false, 33, 0, true));
+pg_table02.put(List.of(0, true, false, 0, 0, true));
+pg_table02.remove(22);
+pg_table02.put(List.of(0, false, true, 67732, 26258, false));
+pg_table02.put(List.of(1, false, true, 0, 0, false));
+pg_table02.put(List.of(20372, false, true, 469, 622, true));
+pg_table02.remove(38);
+pg_table02.put(List.of(0, false, true, 3, 4, false));
+pg_table02.get(211);
+pg_table02.put(List.of(15, true, true, 0, 17, true));
+pg_table02.put(List.of(0, true, true, 37401, 45236, true));
+pg_table02.put(List.of(0, true, false, 1, 7801, true));
+pg_table02.put(List.of(1, true, false, 101, 18, true));
+pg_table02.remove(91);
+pg_table02.put(Arrays.asList(0, true, false, 0, 3388, null));
+pg_table02.remove(5192);
+pg_table02.put(List.of(1, false, false, 271, 455, true));
+pg_table02.remove(31);
+pg_table02.put(List.of(9, true, true, 0, 68, true));
+pg_table02.remove(1757);
+pg_table02.get(14);
+pg_table02.put(List.of(0, false, true, 0, 22056, false));
+pg_table02.put(List.of(2744, false, true, 0, 0, false));
+pg_table02.put(List.of(990, true, false, 146, 893, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(11, true, false, 121, 150, true));
+pg_table02.put(List.of(86407, true, true, 297, 0, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(0, false, true, 2, 9, true));
+pg_table02.put(List.of(0, true, false, 0, 33, false));
+pg_table02.put(List.of(1837, false, true, 0, 0, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(235, true, false, 0, 8, false));
+pg_table02.put(List.of(8, false, false, 0, 4271, true));
+pg_table02.put(List.of(16322, false, true, 56, 0, true));
+pg_table02.put(List.of(0, false, true, 0, 6590, false));
+pg_table02.get(71);
+pg_table02.put(List.of(2067, true, false, 51, 30672, false));
+pg_table02.put(List.of(2, false, true, 226541, 38, false));
+pg_table02.remove(8);
+pg_table02.put(Arrays.asList(158, true, false, 0, null, false));
+pg_table02.put(List.of(0, false, false, 206, 325, false));
+pg_table02.put(List.of(0, false, true, 8, 0, false));
+pg_table02.put(List.of(444, false, true, 0, 0, true));
+pg_table02.remove(97);
+pg_table02.get(9989);
+pg_table02.put(List.of(626, true, true, 1, 0, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(237, false, true, 7192, 0, true));
+pg_table02.put(List.of(2, false, false, 0, 5, false));
+pg_table02.put(List.of(12, false, true, 0, 0, false));
+pg_table02.put(Arrays.asList(49, true, true, 3963, null, true));
+pg_table02.put(Arrays.asList(0, false, true, 0, 0, null));
+pg_table02.put(List.of(1827, false, true, 0, 6340, true));
+pg_table02.remove(3);
+pg_table02.put(List.of(1, false, false, 87517, 0, false));
+pg_table02.put(List.of(0, false, false, 165, 0, true));
+pg_table02.remove(3371);
+pg_table02.put(List.of(0, false, true, 38, 14, true));
+pg_table02.put(List.of(0, true, false, 1687, 51651, false));
+pg_table02.put(List.of(765, true, true, 0, 0, false));
+pg_table02.put(List.of(1261, true, true, 42, 0, false));
+pg_table02.put(List.of(0, true, true, 0, 0, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(2035, true, false, 0, 1199, false));
+pg_table02.put(List.of(0, false, true, 0, 0, true));
+pg_table02.put(List.of(12, false, true, 41, 3634, true));
+pg_table02.put(List.of(5, true, true, 0, 0, false));
+pg_table02.put(List.of(0, true, true, 0, 113, true));
+pg_table02.put(List.of(994, true, false, 41, 0, true));
+pg_table02.put(List.of(0, false, false, 0, 35, true));
+pg_table02.put(List.of(6, false, true, 0, 3614, false));
+pg_table02.put(List.of(130, true, true, 73, 0, true));
+pg_table02.put(List.of(0, true, true, 0, 0, false));
+pg_table02.put(List.of(371, true, true, 0, 55, true));
+pg_table02.put(List.of(255, true, false, 0, 0, false));
+pg_table02.put(List.of(11, false, true, 23885, 13015, true));
+pg_table02.remove(0);
+pg_table02.remove(0);
+pg_table02.remove(53);
+pg_table02.put(List.of(0, false, false, 0, 0, false));
+pg_table02.put(List.of(5, true, false, 0, 0, true));
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.put(List.of(0, false, true, 0, 0, true));
+pg_table02.put(List.of(1033, true, true, 5613, 21493, false));
+pg_table02.put(List.of(11, false, false, 0, 47888, true));
+pg_table02.put(List.of(0, true, false, 0, 0, true));
+pg_table02.put(List.of(9, true, false, 1928, 41, true));
+pg_table02.put(List.of(4552, true, false, 5, 0, false));
+pg_table02.put(List.of(1, true, true, 87986, 42, false));
+pg_table02.put(List.of(22, true, true, 1743, 273, true));
+pg_table02.put(List.of(40336, true, false, 0, 68033, false));
+pg_table02.remove(2322);
+pg_table02.put(List.of(22, false, false, 27294, 213, false));
+pg_table02.put(List.of(0, true, false, 0, 3, true));
+pg_table02.put(List.of(0, false, true, 0, 1682, true));
+pg_table02.put(List.of(0, true, false, 0, 1, true));
+pg_table02.remove(13);
+pg_table02.put(Arrays.asList(74, true, true, 459, null, false));
+pg_table02.remove(228);
+pg_table02.put(List.of(13, true, false, 61085, 28, true));
+pg_table02.put(List.of(0, false, false, 28661, 1015, true));
+pg_table02.put(List.of(0, true, true, 455, 0, true));
+pg_table02.get(0);
+pg_table02.put(List.of(26, false, false, 0, 4, true));
+pg_table02.put(List.of(162, false, false, 0, 8, false));
+pg_table02.put(List.of(0, false, false, 0, 6945, false));
+pg_table02.remove(0);
+pg_table02.get(210);
+pg_table02.remove(125);
+pg_table02.put(List.of(0, true, true, 184513, 5, false));
+pg_table02.put(List.of(240, true, false, 856251, 0, true));
+pg_table02.put(List.of(0, false, false, 1752, 12, true));
+pg_table02.remove(130);
+pg_table02.put(List.of(5760, false, true, 105, 18, true));
+pg_table02.remove(0);
+pg_table02.get(5559);
+pg_table02.put(List.of(1060, true, true, 0, 0, true));
+pg_table02.put(List.of(0, true, false, 14811, 5, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(4, true, false, 1156, 2277, true));
+pg_table02.put(List.of(27472, true, true, 227, 852, false));
+pg_table02.remove(21);
+pg_table02.put(List.of(38208, true, false, 11409, 1377, false));
+pg_table02.get(0);
+pg_table02.put(List.of(15, false, true, 566423, 0, true));
+pg_table02.put(List.of(7316, true, false, 0, 1149, true));
+pg_table02.put(List.of(5, true, true, 94, 0, false));
+pg_table02.put(List.of(0, false, false, 19, 3, false));
+pg_table02.put(List.of(0, true, true, 0, 1318, true));
+pg_table02.remove(704);
+pg_table02.get(0);
+pg_table02.put(List.of(442, false, true, 0, 0, false));
+pg_table02.put(List.of(0, false, true, 0, 0, false));
+pg_table02.put(List.of(5, true, false, 8303, 0, false));
+pg_table02.remove(4);
+pg_table02.put(List.of(0, true, true, 61, 0, true));
+pg_table02.remove(2);
+pg_table02.put(List.of(0, true, false, 82, 3, true));
+pg_table02.put(List.of(1450, true, false, 0, 0, true));
+pg_table02.put(List.of(0, true, false, 0, 0, true));
+pg_table02.put(List.of(0, true, false, 0, 6062, false));
+pg_table02.put(List.of(28647, true, false, 2, 0, false));
+pg_table02.put(List.of(7, false, true, 0, 24205, true));
+pg_table02.put(List.of(0, true, true, 0, 1, true));
+pg_table02.put(List.of(0, false, true, 0, 17, true));
+pg_table02.put(List.of(82946, false, false, 1, 550, false));
+pg_table02.get(11);
+pg_table02.put(List.of(875555, true, true, 27042, 184, false));
+pg_table02.remove(5727);
+pg_table02.remove(2175);
+pg_table02.put(List.of(2159, false, false, 72, 4127, false));
+pg_table02.remove(0);
+pg_table02.get(328);
+pg_table02.put(List.of(0, false, false, 122, 116, true));
+pg_table02.put(List.of(0, false, false, 0, 0, false));
+pg_table02.put(List.of(0, true, true, 86, 0, false));
+pg_table02.put(List.of(0, true, false, 496, 5047, true));
+pg_table02.get(6093);
+pg_table02.get(12482);
+pg_table02.get(2924);
+pg_table02.get(0);
+pg_table02.put(List.of(0, true, false, 0, 0, true));
+pg_table02.put(List.of(0, true, true, 0, 4, true));
+pg_table02.put(List.of(12, false, true, 34, 3386, true));
+pg_table02.remove(34);
+pg_table02.get(0);
+pg_table02.remove(123);
+pg_table02.put(List.of(3850, false, true, 0, 480, true));
+pg_table02.get(0);
+pg_table02.remove(0);
+pg_table02.get(0);
+pg_table02.remove(0);
+pg_table02.put(List.of(0, true, true, 0, 420, false));
+pg_table02.put(Arrays.asList(7184, null, true, 47, 1344, true));
+pg_table02.put(List.of(807, false, true, 0, 0, true));
+pg_table02.put(List.of(1, false, false, 349, 0, true));
+pg_table02.put(Arrays.asList(4462, false, false, 4087, 118312, null));
+pg_table02.put(List.of(6, false, true, 22154, 11, true));
+pg_table02.put(List.of(288, true, false, 0, 0, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(0, false, true, 769, 0, true));
+pg_table02.put(List.of(0, false, false, 11, 2, true));
+pg_table02.put(List.of(0, false, true, 9, 27553, false));
+pg_table02.put(List.of(1, false, false, 0, 833, true));
+pg_table02.put(List.of(618, true, true, 4, 3257, true));
+pg_table02.put(List.of(86174, false, true, 138, 1, true));
+pg_table02.put(List.of(13, true, true, 15, 175, true));
+pg_table02.put(List.of(438, false, true, 0, 86, false));
+pg_table02.put(List.of(24819, true, false, 457, 0, true));
+pg_table02.get(0);
+pg_table02.remove(0);
+pg_table02.put(List.of(0, false, true, 12722, 3, false));
+pg_table02.put(List.of(0, true, false, 0, 0, true));
+pg_table02.remove(581);
+pg_table02.put(List.of(863, false, false, 39628, 0, true));
+pg_table02.put(List.of(0, true, true, 0, 619, false));
+pg_table02.put(List.of(0, false, true, 20, 14203, false));
+pg_table02.put(List.of(3, false, true, 2556, 2, true));
+pg_table02.put(List.of(0, true, true, 29, 45, false));
+pg_table02.put(List.of(17, false, false, 872, 14, true));
+pg_table02.put(List.of(0, false, false, 0, 4, true));
+pg_table02.get(0);
+pg_table02.put(List.of(36, false, false, 0, 5, true));
+pg_table02.get(2295);
+pg_table02.put(Arrays.asList(null, false, true, 0, 68300, true));
+pg_table02.put(List.of(88, true, false, 0, 1, false));
+pg_table02.remove(187);
+pg_table02.put(List.of(0, true, true, 0, 3, true));
+pg_table02.put(List.of(148, true, true, 4738, 5280, false));
+pg_table02.put(List.of(67426, false, false, 6298, 3483, true));
+pg_table02.get(15339);
+pg_table02.put(List.of(8, true, true, 13, 44, false));
+pg_table02.remove(8);
+pg_table02.get(68174);
+pg_table02.put(List.of(26, true, false, 7, 275, true));
+pg_table02.put(List.of(0, true, true, 1820, 26, false));
+pg_table02.put(List.of(1562, false, true, 101, 2725, true));
+pg_table02.put(List.of(0, true, true, 94, 0, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(0, true, false, 0, 0, true));
+pg_table02.put(List.of(0, true, false, 0, 44779, true));
+pg_table02.remove(210);
+pg_table02.get(241);
+pg_table02.put(List.of(0, true, true, 0, 1031, false));
+pg_table02.remove(1);
+pg_table02.put(List.of(3290, true, false, 0, 0, false));
+pg_table02.put(List.of(0, true, true, 0, 0, false));
+pg_table02.put(List.of(103, false, false, 0, 310487, false));
+pg_table02.put(List.of(126607, true, true, 3736, 22, false));
+pg_table02.put(Arrays.asList(1, false, null, 0, 179, true));
+pg_table02.put(List.of(2, false, false, 0, 0, false));
+pg_table02.put(List.of(0, false, true, 2413, 0, false));
+pg_table02.remove(8);
+pg_table02.put(List.of(0, false, true, 0, 171462, true));
+pg_table02.put(List.of(3, true, false, 0, 0, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(0, false, false, 5, 18347, true));
+pg_table02.put(List.of(97, true, false, 195, 1, true));
+pg_table02.remove(542);
+pg_table02.put(List.of(0, false, false, 8, 62110, false));
+pg_table02.put(List.of(318, true, false, 2910, 888, true));
+pg_table02.remove(19);
+pg_table02.remove(0);
+pg_table02.remove(8);
+pg_table02.put(List.of(6152, false, true, 71548, 0, true));
+pg_table02.put(List.of(0, true, true, 0, 2, false));
+pg_table02.put(List.of(4629, true, false, 1, 0, false));
+pg_table02.remove(2529);
+pg_table02.put(List.of(10, false, false, 0, 0, false));
+pg_table02.put(List.of(207, true, true, 309, 55, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(0, false, true, 2, 32, true));
+pg_table02.remove(2);
+pg_table02.put(List.of(2, false, true, 3292, 12, true));
+pg_table02.remove(11);
+pg_table02.remove(0);
+pg_table02.remove(1);
+pg_table02.put(List.of(58, false, false, 1, 16121, true));
+pg_table02.remove(2);
+pg_table02.put(List.of(1, true, false, 0, 13337, false));
+pg_table02.remove(167803);
+pg_table02.get(2153);
+pg_table02.remove(6);
+pg_table02.put(List.of(0, false, false, 0, 0, true));
+pg_table02.put(List.of(0, false, true, 0, 0, true));
+pg_table02.get(12);
+pg_table02.remove(0);
+pg_table02.put(List.of(330769, true, true, 20268, 715, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(594, false, true, 0, 0, true));
+pg_table02.remove(2330);
+pg_table02.remove(0);
+pg_table02.put(List.of(0, false, false, 19, 815, true));
+pg_table02.remove(3041);
+pg_table02.put(List.of(2, true, false, 0, 30100, false));
+pg_table02.put(List.of(14, true, true, 10045, 2, false));
+pg_table02.put(List.of(3846, true, false, 17, 0, false));
+pg_table02.put(List.of(471, true, true, 18790, 2, false));
+pg_table02.put(List.of(0, false, false, 5, 0, false));
+pg_table02.put(List.of(0, false, false, 0, 0, true));
+pg_table02.put(List.of(1156, true, true, 0, 7, true));
+pg_table02.put(List.of(9457, true, true, 454, 41, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(4099, true, false, 0, 2520, true));
+pg_table02.put(List.of(0, false, true, 4, 0, false));
+pg_table02.put(List.of(13, false, true, 9, 30, false));
+pg_table02.put(List.of(0, true, false, 164, 28, false));
+pg_table02.put(List.of(12988, true, false, 0, 10789, true));
+pg_table02.put(List.of(0, false, false, 19, 175, false));
+pg_table02.put(List.of(4098, true, true, 0, 0, false));
+pg_table02.remove(0);
+pg_table02.get(334);
+pg_table02.put(List.of(0, false, true, 0, 0, false));
+pg_table02.get(0);
+pg_table02.put(List.of(17, false, false, 0, 50313, true));
+pg_table02.put(List.of(0, true, false, 0, 219, false));
+pg_table02.get(0);
+pg_table02.put(List.of(0, true, false, 461, 550, true));
+pg_table02.remove(1);
+pg_table02.put(List.of(8, false, true, 243, 9, false));
+pg_table02.get(6262);
+pg_table02.put(List.of(0, false, false, 0, 0, true));
+pg_table02.put(List.of(46, true, true, 19, 114, false));
+pg_table02.remove(481);
+pg_table02.put(Arrays.asList(null, false, false, 13213, 788, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(683, true, true, 0, 2, false));
+pg_table02.get(0);
+pg_table02.remove(1);
+pg_table02.put(List.of(0, false, false, 3, 0, true));
+pg_table02.put(List.of(0, false, false, 0, 0, true));
+pg_table02.put(List.of(0, true, false, 0, 109, true));
+pg_table02.get(0);
+pg_table02.remove(0);
+pg_table02.put(List.of(0, false, false, 0, 294, true));
+pg_table02.remove(2940);
+pg_table02.put(List.of(69, false, true, 0, 7, true));
+pg_table02.get(0);
+pg_table02.put(List.of(1844, false, false, 11, 0, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(352, false, true, 1, 7, false));
+pg_table02.get(0);
+pg_table02.get(154);
+pg_table02.put(List.of(303, true, false, 89, 2, false));
+pg_table02.put(List.of(1, false, false, 0, 0, false));
+pg_table02.remove(151352);
+pg_table02.remove(5976);
+pg_table02.put(List.of(84, true, true, 0, 36896, true));
+pg_table02.put(List.of(26, false, true, 329, 0, false));
+pg_table02.remove(26);
+pg_table02.put(List.of(0, true, true, 3, 0, true));
+pg_table02.get(104);
+pg_table02.put(List.of(0, true, true, 1, 0, true));
+pg_table02.put(List.of(0, true, true, 0, 1182, true));
+pg_table02.put(List.of(139, false, true, 123, 4700, false));
+pg_table02.remove(194272);
+pg_table02.put(List.of(194, false, false, 53, 1, false));
+pg_table02.get(97);
+pg_table02.put(List.of(0, false, true, 0, 0, false));
+pg_table02.put(List.of(0, true, false, 1006, 22233, false));
+pg_table02.get(0);
+pg_table02.remove(1);
+pg_table02.remove(0);
+pg_table02.put(List.of(0, false, true, 1, 0, false));
+pg_table02.put(List.of(1793, false, true, 60660, 0, true));
+pg_table02.put(List.of(120, true, false, 0, 0, false));
+pg_table02.put(List.of(189, false, true, 0, 58, true));
+pg_table02.put(List.of(1288926, false, false, 0, 19, true));
+pg_table02.put(List.of(0, false, true, 2667, 0, true));
+pg_table02.put(List.of(2664, false, true, 3, 0, false));
+pg_table02.put(List.of(0, false, true, 195, 3, true));
+pg_table02.put(List.of(13, false, true, 529, 0, true));
+pg_table02.put(List.of(0, true, false, 959, 0, false));
+pg_table02.remove(1);
+pg_table02.put(List.of(528, true, true, 0, 0, false));
+pg_table02.put(List.of(26, false, true, 0, 0, false));
+pg_table02.remove(379);
+pg_table02.put(Arrays.asList(1032, false, null, 32, 39, false));
+pg_table02.put(List.of(830, true, true, 0, 166, true));
+pg_table02.put(List.of(0, true, true, 1563, 884, true));
+pg_table02.put(List.of(125, true, true, 0, 12, true));
+pg_table02.put(List.of(6948, false, true, 21, 0, true));
+pg_table02.remove(0);
+pg_table02.get(0);
+pg_table02.put(List.of(171, false, false, 0, 1703, false));
+pg_table02.remove(0);
+pg_table02.get(12865);
+pg_table02.put(List.of(0, true, false, 14, 0, true));
+pg_table02.put(List.of(1, true, true, 0, 97, false));
+pg_table02.remove(45912);
+pg_table02.remove(19);
+pg_table02.remove(231);
+pg_table02.get(7589);
+pg_table02.put(List.of(105, true, true, 0, 0, true));
+pg_table02.put(List.of(101, false, true, 63, 0, false));
+pg_table02.put(List.of(0, false, true, 455, 318, false));
+pg_table02.remove(34);
+pg_table02.remove(646);
+pg_table02.put(List.of(0, true, false, 0, 30, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(3, false, true, 1, 0, true));
+pg_table02.put(List.of(0, false, true, 0, 0, true));
+pg_table02.put(List.of(5, true, true, 0, 308, false));
+pg_table02.put(List.of(2, false, true, 0, 103, false));
+pg_table02.put(List.of(15818, false, false, 0, 7, false));
+pg_table02.put(List.of(0, false, false, 0, 0, false));
+pg_table02.put(List.of(30, false, true, 0, 6, true));
+pg_table02.get(0);
+pg_table02.put(List.of(1, true, false, 0, 95, true));
+pg_table02.remove(0);
+pg_table02.remove(170614);
+pg_table02.put(List.of(8, false, true, 0, 0, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(35, false, true, 0, 2, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(0, true, true, 72, 0, false));
+pg_table02.remove(70);
+pg_table02.put(List.of(0, false, true, 0, 0, false));
+pg_table02.put(List.of(0, true, false, 1, 302, false));
+pg_table02.put(List.of(2, false, false, 0, 0, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(0, true, true, 20402, 0, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(0, true, false, 0, 0, false));
+pg_table02.put(List.of(0, false, true, 2165, 0, false));
+pg_table02.put(List.of(33, true, false, 252339, 9, false));
+pg_table02.get(0);
+pg_table02.put(List.of(5643, false, true, 20703, 0, false));
+pg_table02.put(List.of(0, true, false, 0, 0, false));
+pg_table02.put(List.of(0, true, false, 222, 0, true));
+pg_table02.put(List.of(54, false, false, 0, 44, true));
+pg_table02.get(2);
+pg_table02.put(List.of(0, false, true, 0, 142, false));
+pg_table02.put(List.of(0, false, true, 0, 96, true));
+pg_table02.put(List.of(30, true, true, 0, 0, true));
+pg_table02.put(List.of(105, true, true, 5278, 0, false));
+pg_table02.put(List.of(170, false, true, 786761, 0, true));
+pg_table02.put(List.of(58, true, false, 0, 0, false));
+pg_table02.put(List.of(32528, false, false, 0, 0, true));
+pg_table02.remove(118);
+pg_table02.get(0);
+pg_table02.remove(0);
+pg_table02.put(List.of(0, false, true, 0, 1215, false));
+pg_table02.put(List.of(0, true, true, 0, 0, false));
+pg_table02.put(List.of(0, false, false, 6886, 0, true));
+pg_table02.put(List.of(9663, true, true, 111, 0, true));
+pg_table02.put(List.of(1516, true, false, 0, 15, true));
+pg_table02.put(List.of(35, false, false, 9, 29, false));
+pg_table02.put(List.of(0, false, false, 93, 635, true));
+pg_table02.put(List.of(685, true, true, 0, 30477, false));
+pg_table02.put(List.of(32, true, false, 2, 103, true));
+pg_table02.put(List.of(0, false, false, 0, 122, false));
+pg_table02.remove(7);
+pg_table02.put(List.of(1126, false, true, 0, 23, true));
+pg_table02.put(List.of(0, true, true, 18039, 0, true));
+pg_table02.put(List.of(0, true, true, 0, 239184, true));
+pg_table02.put(Arrays.asList(0, false, null, 28978, 106, true));
+pg_table02.put(List.of(0, false, false, 0, 0, true));
+pg_table02.put(List.of(0, true, true, 245, 0, false));
+pg_table02.put(List.of(0, true, true, 63, 0, true));
+pg_table02.remove(86);
+pg_table02.put(List.of(0, false, false, 253, 6, true));
+pg_table02.put(List.of(283, false, false, 0, 2, true));
+pg_table02.put(List.of(776, true, true, 0, 0, true));
+pg_table02.remove(900);
+pg_table02.put(List.of(0, false, true, 17013, 0, false));
+pg_table02.remove(186);
+pg_table02.put(List.of(0, true, false, 40, 9, false));
+pg_table02.remove(14);
+pg_table02.get(0);
+pg_table02.put(List.of(0, false, false, 0, 4, true));
+pg_table02.remove(886);
+pg_table02.put(List.of(2, false, false, 1287, 0, false));
+pg_table02.put(List.of(5, true, false, 13, 30, false));
+pg_table02.remove(55225);
+pg_table02.put(List.of(1306, true, true, 7282, 0, true));
+pg_table02.put(List.of(125358, true, true, 0, 0, true));
+pg_table02.put(List.of(0, false, false, 0, 64, false));
+pg_table02.remove(45208);
+pg_table02.get(0);
+pg_table02.remove(51);
+pg_table02.get(4552);
+pg_table02.put(List.of(153, true, true, 4, 11568, true));
+pg_table02.put(List.of(0, false, true, 0, 3, true));
+pg_table02.put(List.of(0, false, false, 1, 0, false));
+pg_table02.put(List.of(14, true, true, 7388, 0, true));
+pg_table02.put(List.of(9, false, false, 97, 96, true));
+pg_table02.put(Arrays.asList(null, false, true, 1, 0, false));
+pg_table02.put(List.of(0, true, true, 0, 8, false));
+pg_table02.remove(2878);
+pg_table02.put(List.of(6396, true, true, 138, 77933, true));
+pg_table02.remove(0);
+pg_table02.remove(0);
+pg_table02.put(List.of(167988, false, false, 0, 1314, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(14, false, true, 1, 1, true));
+pg_table02.put(List.of(0, true, true, 692, 0, false));
+pg_table02.put(List.of(0, false, false, 4363, 726, false));
+pg_table02.put(List.of(0, false, false, 0, 69, false));
+pg_table02.put(List.of(3, true, false, 0, 152, false));
+pg_table02.put(List.of(0, false, false, 0, 0, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(212504, true, false, 4, 324, true));
+pg_table02.put(List.of(0, true, false, 0, 171, false));
+pg_table02.remove(119);
+pg_table02.put(Arrays.asList(null, true, true, 0, 1, true));
+pg_table02.put(List.of(0, false, true, 1212, 14030, false));
+pg_table02.put(List.of(1, false, false, 6, 0, false));
+pg_table02.put(List.of(1, true, true, 96, 72362, false));
+pg_table02.get(1);
+pg_table02.put(List.of(0, false, false, 0, 507, true));
+pg_table02.put(List.of(0, true, true, 0, 0, true));
+pg_table02.put(List.of(1, true, false, 49029, 19, false));
+pg_table02.put(List.of(897, true, true, 0, 0, false));
+pg_table02.put(List.of(1325, true, true, 61, 11921, false));
+pg_table02.put(List.of(34, false, false, 11505, 1, false));
+pg_table02.get(7);
+pg_table02.put(List.of(24, false, false, 0, 0, true));
+pg_table02.put(List.of(6, false, false, 1, 18, true));
+pg_table02.put(List.of(0, true, false, 0, 0, true));
+pg_table02.put(List.of(56, false, false, 57, 9, true));
+pg_table02.put(List.of(5, false, true, 8, 221, false));
+pg_table02.put(List.of(0, false, false, 16, 390, false));
+pg_table02.get(7880);
+pg_table02.put(List.of(350, false, false, 0, 0, false));
+pg_table02.put(Arrays.asList(0, null, true, 633, 0, false));
+pg_table02.put(List.of(848, true, true, 442, 63, false));
+pg_table02.remove(16794);
+pg_table02.put(List.of(901, false, false, 902, 0, false));
+pg_table02.put(List.of(0, true, false, 0, 5395, false));
+pg_table02.put(List.of(0, true, false, 108, 19, true));
+pg_table02.put(List.of(365, true, true, 0, 9, true));
+pg_table02.put(List.of(0, true, false, 3, 4, true));
+pg_table02.remove(102);
+pg_table02.put(List.of(0, true, false, 2, 47, false));
+pg_table02.remove(3);
+pg_table02.put(List.of(166, false, true, 10, 0, true));
+pg_table02.put(List.of(0, true, true, 0, 2222, true));
+pg_table02.put(List.of(0, false, false, 0, 13, false));
+pg_table02.put(List.of(0, true, true, 0, 2, false));
+pg_table02.put(List.of(874, true, false, 0, 118, true));
+pg_table02.put(List.of(2, false, true, 0, 95, false));
+pg_table02.put(List.of(0, true, true, 0, 0, false));
+pg_table02.put(List.of(0, true, false, 13, 0, false));
+pg_table02.put(List.of(2, true, true, 5478, 0, true));
+pg_table02.put(List.of(304, true, true, 205, 4, true));
+pg_table02.put(List.of(4, false, true, 0, 91, false));
+pg_table02.put(List.of(161, false, false, 0, 1672, false));
+pg_table02.put(List.of(0, false, false, 1, 0, false));
+pg_table02.put(List.of(0, false, false, 570, 0, false));
+pg_table02.put(List.of(0, true, true, 1, 0, true));
+pg_table02.put(List.of(11, false, true, 1, 0, false));
+pg_table02.put(List.of(1, true, false, 14375, 5, false));
+pg_table02.remove(1);
+pg_table02.put(List.of(0, true, true, 490, 33235, false));
+pg_table02.put(List.of(5, false, true, 52, 2, false));
+pg_table02.put(List.of(1, true, true, 0, 17700, true));
+pg_table02.put(List.of(9, true, false, 10, 0, true));
+pg_table02.put(List.of(0, true, true, 5, 0, false));
+pg_table02.put(List.of(0, false, true, 4, 0, true));
+pg_table02.put(List.of(7, false, true, 45, 0, true));
+pg_table02.put(List.of(0, true, false, 1, 321, false));
+pg_table02.get(3829);
+pg_table02.remove(0);
+pg_table02.put(List.of(4, false, false, 12, 453, true));
+pg_table02.put(List.of(6, true, false, 70, 10, true));
+pg_table02.put(List.of(997, true, false, 0, 0, false));
+pg_table02.remove(87);
+pg_table02.put(List.of(0, false, true, 0, 5, false));
+pg_table02.put(List.of(28021, true, false, 43, 180, true));
+pg_table02.put(List.of(0, true, true, 26, 41, true));
+pg_table02.put(List.of(0, true, false, 15, 0, false));
+pg_table02.put(List.of(1, true, false, 163, 0, true));
+pg_table02.put(List.of(0, false, true, 13, 0, true));
+pg_table02.put(List.of(1687, false, false, 179, 1, true));
+pg_table02.remove(1543);
+pg_table02.put(List.of(3, false, false, 756, 0, false));
+pg_table02.remove(415);
+pg_table02.put(List.of(8, true, false, 0, 0, false));
+pg_table02.get(0);
+pg_table02.put(List.of(33424, false, false, 0, 0, true));
+pg_table02.get(699);
+pg_table02.remove(487);
+pg_table02.put(Arrays.asList(69, true, true, 0, 1882, null));
+pg_table02.remove(41489);
+pg_table02.put(List.of(0, true, true, 7, 0, true));
+pg_table02.put(List.of(498, true, false, 1, 5, false));
+pg_table02.put(List.of(0, true, true, 0, 0, true));
+pg_table02.put(List.of(0, true, false, 0, 0, true));
+pg_table02.remove(866);
+pg_table02.put(List.of(3926, false, false, 2, 0, true));
+pg_table02.get(4828);
+pg_table02.put(List.of(0, false, false, 0, 190, true));
+pg_table02.get(0);
+pg_table02.remove(5);
+pg_table02.put(List.of(13, false, true, 27484, 0, false));
+pg_table02.get(70);
+pg_table02.put(List.of(5188, false, false, 18, 174, true));
+pg_table02.put(List.of(0, true, true, 28940, 6515, true));
+pg_table02.put(List.of(137, true, false, 3196, 20, false));
+pg_table02.get(0);
+pg_table02.put(Arrays.asList(null, false, true, 74823, 11151, true));
+pg_table02.put(Arrays.asList(1, true, true, 6554, 1750, null));
+pg_table02.remove(3953);
+pg_table02.remove(0);
+pg_table02.remove(12);
+pg_table02.get(0);
+pg_table02.put(List.of(14, true, false, 28, 0, false));
+pg_table02.put(List.of(9481, false, true, 0, 0, true));
+pg_table02.put(List.of(642, true, false, 0, 0, true));
+pg_table02.put(List.of(1, true, true, 0, 251, false));
+pg_table02.put(List.of(0, true, true, 0, 12066, false));
+pg_table02.put(List.of(18, false, true, 1244, 333, false));
+pg_table02.put(List.of(33, false, false, 0, 382, false));
+pg_table02.put(List.of(151, true, true, 1330, 206305, true));
+pg_table02.put(List.of(0, false, false, 251, 10144, false));
+pg_table02.remove(209);
+pg_table02.put(Arrays.asList(null, false, true, 18, 2, false));
+pg_table02.put(List.of(0, false, false, 0, 240, false));
+pg_table02.remove(42);
+pg_table02.remove(10);
+pg_table02.put(List.of(0, true, true, 3712, 1770, true));
+pg_table02.remove(252);
+pg_table02.put(Arrays.asList(121, false, true, 78, 314, null));
+pg_table02.put(List.of(220, true, true, 0, 0, true));
+pg_table02.put(List.of(0, false, true, 6471, 37, false));
+pg_table02.remove(0);
+pg_table02.put(Arrays.asList(0, false, null, 178, 0, true));
+pg_table02.get(612);
+pg_table02.put(List.of(12112, true, true, 12, 0, true));
+pg_table02.put(List.of(0, true, false, 0, 8, false));
+pg_table02.put(List.of(3, true, false, 0, 0, true));
+pg_table02.put(List.of(322, false, true, 36553, 1090, false));
+pg_table02.put(List.of(158, true, false, 0, 3, false));
+pg_table02.put(List.of(0, true, false, 0, 10684, true));
+pg_table02.put(List.of(328666, true, true, 76, 107, true));
+pg_table02.put(List.of(1655, true, false, 20, 0, true));
+pg_table02.put(List.of(0, true, false, 1076, 27, false));
+pg_table02.put(List.of(0, true, false, 0, 4, false));
+pg_table02.put(List.of(2602, true, false, 17, 0, false));
+pg_table02.put(List.of(5, true, true, 58, 0, false));
+pg_table02.put(List.of(0, true, true, 301, 734, false));
+pg_table02.put(List.of(0, true, true, 0, 0, false));
+pg_table02.put(List.of(0, true, true, 450, 0, false));
+pg_table02.put(List.of(226, false, false, 2, 119284, true));
+pg_table02.put(List.of(8, true, false, 6, 3107, true));
+pg_table02.put(List.of(0, false, false, 715, 1, false));
+pg_table02.put(List.of(0, false, false, 6, 1, true));
+pg_table02.put(List.of(418, false, false, 0, 0, true));
+pg_table02.remove(75);
+pg_table02.put(List.of(3936, true, false, 1, 1, true));
+pg_table02.put(List.of(22, true, true, 0, 0, false));
+pg_table02.put(List.of(0, true, false, 414, 0, false));
+pg_table02.put(List.of(0, false, false, 0, 0, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(28, true, true, 16258, 4746, true));
+pg_table02.put(List.of(0, true, false, 0, 0, false));
+pg_table02.put(List.of(0, false, true, 5162, 0, true));
+pg_table02.put(List.of(0, false, false, 0, 12125, true));
+pg_table02.get(32);
+pg_table02.put(List.of(0, true, false, 0, 7117, true));
+pg_table02.put(List.of(1002, true, false, 0, 41, false));
+pg_table02.remove(225);
+pg_table02.put(List.of(9, false, true, 2, 2, false));
+pg_table02.remove(0);
+pg_table02.get(0);
+pg_table02.get(4);
+pg_table02.put(List.of(0, false, false, 0, 21, true));
+pg_table02.put(List.of(27464, true, true, 0, 208, true));
+pg_table02.put(List.of(2, false, true, 0, 1082, false));
+pg_table02.put(List.of(0, true, true, 41, 9, false));
+pg_table02.put(List.of(16, true, false, 0, 4388, true));
+pg_table02.put(List.of(659, true, false, 0, 286, false));
+pg_table02.get(1415);
+pg_table02.put(List.of(0, true, true, 10, 1, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(0, false, true, 206, 42, true));
+pg_table02.remove(23);
+pg_table02.put(List.of(25, true, true, 110, 984, false));
+pg_table02.put(List.of(34035, true, false, 1494, 0, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(0, false, false, 19, 142, false));
+pg_table02.put(List.of(16, true, false, 27, 8827, true));
+pg_table02.put(Arrays.asList(null, false, true, 0, 0, false));
+pg_table02.get(0);
+pg_table02.get(187914);
+pg_table02.put(List.of(327, true, false, 5784, 0, false));
+pg_table02.put(List.of(33, false, false, 112, 0, false));
+pg_table02.put(List.of(429, true, true, 3, 0, false));
+pg_table02.put(List.of(0, false, false, 0, 0, false));
+pg_table02.put(List.of(147, false, true, 438, 0, false));
+pg_table02.put(List.of(1362643, false, true, 0, 0, true));
+pg_table02.put(List.of(0, true, true, 9, 0, true));
+pg_table02.put(List.of(0, true, false, 0, 208, false));
+pg_table02.put(List.of(0, true, false, 0, 0, true));
+pg_table02.remove(2);
+pg_table02.put(List.of(11281, true, true, 1185, 2345, false));
+pg_table02.put(List.of(0, true, true, 1432, 1385, false));
+pg_table02.put(List.of(2, true, false, 21, 0, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(0, true, false, 7, 100483, false));
+pg_table02.put(List.of(2, true, true, 0, 329, true));
+pg_table02.remove(171);
+pg_table02.put(List.of(0, true, false, 17, 95, true));
+pg_table02.get(741);
+pg_table02.put(List.of(16, true, false, 2, 10120, true));
+pg_table02.get(0);
+pg_table02.remove(90);
+pg_table02.put(List.of(0, true, true, 0, 2117, false));
+pg_table02.put(List.of(1, false, false, 1159, 841, true));
+pg_table02.remove(19);
+pg_table02.get(2025);
+pg_table02.put(List.of(1730, true, true, 0, 840, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(38, true, false, 499, 596, true));
+pg_table02.put(List.of(2016, true, false, 35915, 307, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(0, false, true, 4113, 18, true));
+pg_table02.put(List.of(41, true, false, 0, 0, true));
+pg_table02.remove(0);
+pg_table02.get(5302);
+pg_table02.put(List.of(0, false, true, 0, 0, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(44, false, false, 9146, 2, true));
+pg_table02.put(List.of(543, true, false, 1428, 403, true));
+pg_table02.put(List.of(172, false, false, 45, 495, false));
+pg_table02.put(List.of(12403, false, false, 0, 1, false));
+pg_table02.put(List.of(22, true, true, 0, 0, false));
+pg_table02.put(List.of(0, true, false, 0, 1, true));
+pg_table02.put(List.of(47, true, false, 519, 798, false));
+pg_table02.put(List.of(0, true, false, 0, 2976, false));
+pg_table02.put(List.of(0, true, true, 85439, 12, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(483, true, true, 254, 951, true));
+pg_table02.put(List.of(26478, false, true, 0, 0, false));
+pg_table02.remove(1);
+pg_table02.put(List.of(5128, true, false, 0, 0, true));
+pg_table02.put(List.of(4, false, true, 2, 9376, true));
+pg_table02.put(List.of(314, true, false, 21, 32, false));
+pg_table02.get(1);
+pg_table02.put(List.of(209, true, true, 13, 0, false));
+pg_table02.put(List.of(5437, false, false, 435, 18, false));
+pg_table02.put(List.of(0, false, true, 0, 70, true));
+pg_table02.put(List.of(0, true, true, 125, 141, false));
+pg_table02.get(0);
+pg_table02.put(List.of(69, true, false, 52, 0, false));
+pg_table02.put(List.of(3273, false, false, 34, 0, false));
+pg_table02.get(0);
+pg_table02.put(List.of(218, false, true, 33, 13, true));
+pg_table02.put(List.of(0, false, false, 7931, 0, false));
+pg_table02.put(List.of(767, false, false, 157, 0, false));
+pg_table02.get(0);
+pg_table02.remove(4196);
+pg_table02.put(Arrays.asList(null, true, true, 0, 99, false));
+pg_table02.put(List.of(1, false, true, 17, 0, true));
+pg_table02.put(List.of(0, false, false, 26, 470, true));
+pg_table02.get(210);
+pg_table02.put(List.of(0, true, true, 0, 4722, true));
+pg_table02.remove(134748);
+pg_table02.put(List.of(6, false, false, 283, 3238, true));
+pg_table02.put(List.of(0, false, true, 64931, 0, true));
+pg_table02.get(565);
+pg_table02.put(List.of(3, false, true, 0, 70, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(0, false, false, 0, 3963, false));
+pg_table02.put(List.of(0, false, false, 0, 0, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(46, false, false, 0, 0, false));
+pg_table02.put(List.of(17, false, true, 0, 0, true));
+pg_table02.put(List.of(3, true, true, 0, 1182, false));
+pg_table02.get(3225);
+pg_table02.put(List.of(4, false, true, 1, 0, false));
+pg_table02.put(List.of(0, true, false, 25, 0, false));
+pg_table02.put(List.of(0, false, false, 0, 435, false));
+pg_table02.get(368);
+pg_table02.put(List.of(360, false, false, 2, 329, true));
+pg_table02.put(List.of(232, true, true, 35, 0, false));
+pg_table02.put(List.of(218, false, false, 659, 0, true));
+pg_table02.remove(2180);
+pg_table02.put(List.of(147, false, true, 0, 117, true));
+pg_table02.put(List.of(0, true, true, 0, 0, false));
+pg_table02.put(List.of(32498, true, false, 0, 0, false));
+pg_table02.get(0);
+pg_table02.put(List.of(2511, true, true, 0, 2714, false));
+pg_table02.put(List.of(0, true, true, 13, 28927, true));
+pg_table02.put(List.of(0, true, false, 0, 1, false));
+pg_table02.put(List.of(0, true, true, 1919, 5806, false));
+pg_table02.remove(0);
+pg_table02.remove(0);
+pg_table02.put(List.of(58, false, true, 209, 25028, true));
+pg_table02.get(33);
+pg_table02.remove(703);
+pg_table02.remove(0);
+pg_table02.put(List.of(9, false, true, 0, 14, false));
+pg_table02.put(Arrays.asList(3, true, false, 685085, 0, null));
+pg_table02.put(Arrays.asList(0, true, null, 0, 1593, true));
+pg_table02.put(List.of(12255, true, false, 0, 0, true));
+pg_table02.put(List.of(10, true, false, 641, 795, false));
+pg_table02.put(List.of(1, true, false, 0, 495670, false));
+pg_table02.get(0);
+pg_table02.put(List.of(4368, true, true, 55, 0, true));
+pg_table02.put(List.of(0, true, false, 119, 0, true));
+pg_table02.remove(0);
+pg_table02.get(0);
+pg_table02.get(213);
+pg_table02.put(List.of(0, true, true, 0, 7, false));
+pg_table02.put(List.of(0, false, true, 5786, 0, true));
+pg_table02.put(List.of(45, false, false, 0, 0, false));
+pg_table02.put(List.of(0, true, true, 437, 83841, true));
+pg_table02.put(List.of(293, false, false, 4672, 6, false));
+pg_table02.put(List.of(0, true, false, 0, 0, true));
+pg_table02.put(List.of(0, false, false, 0, 63, true));
+pg_table02.put(List.of(0, true, false, 0, 0, false));
+pg_table02.put(List.of(53, true, false, 0, 16, false));
+pg_table02.put(List.of(0, false, false, 5, 3956, false));
+pg_table02.remove(99);
+pg_table02.put(List.of(0, true, false, 0, 11, false));
+pg_table02.put(List.of(4, false, false, 0, 1, false));
+pg_table02.remove(383);
+pg_table02.put(Arrays.asList(0, false, null, 0, 343, true));
+pg_table02.put(List.of(74, false, false, 0, 536, false));
+pg_table02.put(List.of(0, true, true, 0, 0, true));
+pg_table02.put(List.of(283, true, false, 0, 70, true));
+pg_table02.put(List.of(370, true, true, 0, 323, true));
+pg_table02.put(List.of(0, false, true, 59, 17, false));
+pg_table02.put(List.of(511, true, false, 0, 0, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(0, true, true, 4268, 141, false));
+pg_table02.remove(4725);
+pg_table02.get(0);
+pg_table02.put(List.of(0, false, false, 0, 759, false));
+pg_table02.put(List.of(30, false, false, 695, 0, false));
+pg_table02.put(List.of(0, true, false, 3, 78, false));
+pg_table02.put(List.of(0, false, false, 4626, 29, true));
+pg_table02.put(List.of(8660, false, false, 2, 4292, false));
+pg_table02.get(1647);
+pg_table02.get(3230);
+pg_table02.put(List.of(558, false, false, 19, 3676, true));
+pg_table02.put(List.of(4, true, true, 12, 9, true));
+pg_table02.put(List.of(557, false, true, 1447, 11528, true));
+pg_table02.put(List.of(3, false, false, 0, 18, false));
+pg_table02.get(6525);
+pg_table02.put(List.of(1525, true, false, 180, 0, true));
+pg_table02.put(List.of(0, true, true, 570, 0, true));
+pg_table02.remove(45251);
+pg_table02.put(List.of(245, true, true, 0, 194, false));
+pg_table02.put(List.of(9081, false, true, 0, 0, true));
+pg_table02.put(List.of(4, true, false, 60, 28822, true));
+pg_table02.put(List.of(46653, true, true, 1, 0, false));
+pg_table02.put(List.of(4468, false, true, 0, 0, true));
+pg_table02.remove(9);
+pg_table02.put(List.of(0, false, false, 0, 46, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(6, false, true, 27, 0, false));
+pg_table02.remove(87954);
+pg_table02.put(List.of(0, false, false, 3, 38, false));
+pg_table02.put(List.of(111892, true, false, 382, 0, true));
+pg_table02.put(List.of(4883, true, true, 3, 113, false));
+pg_table02.put(List.of(0, true, false, 6445, 854, true));
+pg_table02.put(List.of(488, true, false, 32, 85, false));
+pg_table02.remove(8247);
+pg_table02.get(4);
+pg_table02.put(List.of(0, true, false, 0, 0, true));
+pg_table02.remove(0);
+pg_table02.remove(1523);
+pg_table02.get(2009);
+pg_table02.remove(0);
+pg_table02.remove(543);
+pg_table02.put(List.of(4, true, false, 151, 0, false));
+pg_table02.put(List.of(0, false, true, 9683, 0, true));
+pg_table02.put(List.of(2847, false, false, 356, 5, false));
+pg_table02.put(List.of(0, false, true, 100, 151, false));
+pg_table02.put(List.of(2, true, false, 89, 0, true));
+pg_table02.get(41);
+pg_table02.put(List.of(0, true, true, 160, 106, true));
+pg_table02.get(0);
+pg_table02.put(List.of(0, false, true, 0, 312, true));
+pg_table02.put(List.of(64963, false, true, 1288, 5, false));
+pg_table02.put(List.of(9, false, false, 29709, 0, false));
+pg_table02.put(List.of(75004, false, true, 13, 255, false));
+pg_table02.put(List.of(0, false, true, 0, 0, true));
+pg_table02.put(List.of(56, true, false, 0, 0, false));
+pg_table02.put(List.of(446, false, false, 0, 1, false));
+pg_table02.remove(0);
+pg_table02.remove(0);
+pg_table02.put(List.of(0, true, true, 11, 13, false));
+pg_table02.put(List.of(41616, true, false, 0, 729, false));
+pg_table02.get(5);
+pg_table02.put(List.of(0, false, true, 944, 6, true));
+pg_table02.put(List.of(0, false, false, 0, 3, false));
+pg_table02.remove(1098);
+pg_table02.remove(0);
+pg_table02.put(List.of(0, false, false, 20, 0, true));
+pg_table02.put(List.of(0, false, true, 1, 15, false));
+pg_table02.put(List.of(6696, true, false, 236, 0, true));
+pg_table02.put(List.of(0, true, false, 0, 0, true));
+pg_table02.remove(0);
+pg_table02.remove(346);
+pg_table02.put(List.of(1251, true, false, 2616, 166679, true));
+pg_table02.put(List.of(840, false, true, 0, 15, false));
+pg_table02.put(List.of(132736, false, true, 176186, 0, false));
+pg_table02.get(16);
+pg_table02.put(List.of(58, true, true, 0, 0, false));
+pg_table02.put(List.of(27, true, true, 705, 0, false));
+pg_table02.put(List.of(2, true, true, 0, 0, true));
+pg_table02.put(List.of(0, false, false, 50492, 50, true));
+pg_table02.put(Arrays.asList(2, false, false, 0, null, true));
+pg_table02.put(List.of(0, true, true, 44, 28447, false));
+pg_table02.put(List.of(0, false, true, 4353, 0, true));
+pg_table02.put(List.of(45116, true, false, 220, 1, true));
+pg_table02.put(List.of(0, true, false, 24, 223, false));
+pg_table02.put(List.of(2, true, false, 0, 213, true));
+pg_table02.put(List.of(14, true, true, 123886, 1, false));
+pg_table02.remove(96420);
+pg_table02.put(List.of(159, false, false, 271, 2, false));
+pg_table02.remove(0);
+pg_table02.put(Arrays.asList(0, null, false, 0, 96, true));
+pg_table02.put(Arrays.asList(2, null, true, 43, 0, false));
+pg_table02.put(List.of(0, true, false, 1675, 3194, true));
+pg_table02.put(List.of(0, false, true, 0, 12, true));
+pg_table02.put(List.of(2120, true, false, 0, 828, true));
+pg_table02.put(Arrays.asList(189, false, null, 0, 8, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(1, true, true, 0, 2713, false));
+pg_table02.put(List.of(38, true, false, 1, 0, true));
+pg_table02.put(Arrays.asList(0, true, true, 0, 0, null));
+pg_table02.put(List.of(13469, false, false, 19992, 0, false));
+pg_table02.put(List.of(2528, false, true, 266, 39, true));
+pg_table02.put(List.of(0, true, false, 14134, 0, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(23, true, false, 1230, 6, false));
+pg_table02.put(List.of(385, true, true, 0, 1, false));
+pg_table02.remove(3108);
+pg_table02.put(List.of(0, false, false, 1575, 6, false));
+pg_table02.put(List.of(0, false, false, 40, 0, false));
+pg_table02.put(List.of(3, false, false, 0, 0, true));
+pg_table02.put(List.of(12267, true, false, 0, 2676, false));
+pg_table02.put(List.of(78, true, false, 21128, 187230, false));
+pg_table02.put(List.of(0, true, true, 0, 0, true));
+pg_table02.put(Arrays.asList(7, true, false, 0, null, true));
+pg_table02.put(List.of(0, false, false, 0, 0, true));
+pg_table02.remove(45);
+pg_table02.put(List.of(0, false, false, 3009, 0, true));
+pg_table02.put(List.of(40, false, false, 0, 0, true));
+pg_table02.put(List.of(0, true, true, 115, 0, false));
+pg_table02.put(List.of(200, false, false, 0, 0, false));
+pg_table02.remove(92);
+pg_table02.remove(0);
+pg_table02.remove(69);
+pg_table02.put(List.of(165, false, false, 30, 0, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(95, true, true, 3956, 0, true));
+pg_table02.put(List.of(0, false, false, 2753, 0, false));
+pg_table02.remove(71);
+pg_table02.put(List.of(19, true, false, 0, 0, false));
+pg_table02.put(List.of(1, false, true, 1128, 741, true));
+pg_table02.put(List.of(0, true, true, 195, 230866, true));
+pg_table02.put(List.of(502, true, true, 6, 3, true));
+pg_table02.put(List.of(22, true, false, 0, 0, true));
+pg_table02.put(List.of(4, false, false, 167, 0, false));
+pg_table02.put(List.of(3681, true, false, 215617, 0, false));
+pg_table02.put(List.of(1, true, false, 29, 57066, true));
+pg_table02.remove(77);
+pg_table02.get(9102);
+pg_table02.put(List.of(7, true, false, 7704, 0, false));
+pg_table02.remove(5);
+pg_table02.put(List.of(0, true, false, 0, 0, true));
+pg_table02.remove(3048);
+pg_table02.put(List.of(30, false, true, 137700, 0, false));
+pg_table02.put(List.of(0, false, true, 10937, 27, true));
+pg_table02.put(List.of(0, false, true, 12852, 0, false));
+pg_table02.get(9190);
+pg_table02.put(List.of(0, true, true, 0, 73, false));
+pg_table02.put(List.of(0, false, false, 0, 283666, true));
+pg_table02.get(0);
+pg_table02.put(List.of(0, false, false, 0, 0, true));
+pg_table02.get(0);
+pg_table02.put(List.of(14, true, false, 2, 17862, true));
+pg_table02.put(List.of(0, false, false, 9816, 64, true));
+pg_table02.remove(6260);
+pg_table02.get(31);
+pg_table02.remove(5);
+pg_table02.put(List.of(4256, true, false, 41, 0, true));
+pg_table02.put(List.of(0, false, true, 164, 28794, false));
+pg_table02.put(List.of(1243, true, true, 0, 0, false));
+pg_table02.remove(201);
+pg_table02.get(60);
+pg_table02.remove(149);
+pg_table02.put(List.of(6, true, true, 3183, 4, true));
+pg_table02.remove(0);
+pg_table02.remove(46736);
+pg_table02.put(List.of(0, false, false, 0, 54, false));
+pg_table02.get(0);
+pg_table02.put(Arrays.asList(null, true, false, 0, 0, true));
+pg_table02.put(List.of(0, true, true, 0, 0, true));
+pg_table02.put(List.of(14, true, false, 1, 0, false));
+pg_table02.put(List.of(0, true, true, 0, 0, true));
+pg_table02.put(List.of(0, false, false, 5453, 0, true));
+pg_table02.put(List.of(7028, false, true, 1560, 31, false));
+pg_table02.put(List.of(397, true, true, 19, 567, true));
+pg_table02.put(List.of(0, false, true, 1, 5, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(46, false, false, 1876, 4, true));
+pg_table02.get(0);
+pg_table02.put(List.of(0, true, false, 0, 15394, false));
+pg_table02.put(List.of(131283, true, true, 0, 0, true));
+pg_table02.remove(50);
+pg_table02.put(List.of(24245, true, false, 0, 3066, true));
+pg_table02.put(Arrays.asList(0, null, true, 0, 17916, true));
+pg_table02.put(List.of(13, true, true, 460, 16663, false));
+pg_table02.put(List.of(3, false, true, 0, 11138, false));
+pg_table02.put(List.of(102, false, false, 3, 3, false));
+pg_table02.put(List.of(50757, true, true, 0, 0, false));
+pg_table02.remove(77020);
+pg_table02.remove(0);
+pg_table02.get(248);
+pg_table02.put(List.of(182786, false, true, 512, 6, false));
+pg_table02.put(List.of(563, true, false, 0, 3366, false));
+pg_table02.put(List.of(0, false, false, 16669, 2, true));
+pg_table02.get(77807);
+pg_table02.put(List.of(0, true, false, 6, 635, true));
+pg_table02.remove(0);
+pg_table02.remove(0);
+pg_table02.remove(0);
+pg_table02.put(List.of(0, false, true, 0, 148, true));
+pg_table02.put(List.of(142702, false, false, 1, 196, true));
+pg_table02.remove(1);
+pg_table02.put(List.of(46961, false, true, 0, 1040, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(0, false, false, 0, 80, false));
+pg_table02.get(7);
+pg_table02.put(List.of(0, true, true, 0, 0, false));
+pg_table02.put(Arrays.asList(0, true, false, 1400, 256, null));
+pg_table02.put(List.of(0, true, false, 5, 14, false));
+pg_table02.put(List.of(0, true, false, 25, 1318, true));
+pg_table02.get(0);
+pg_table02.put(List.of(8, false, false, 99274, 0, true));
+pg_table02.put(Arrays.asList(1996, false, true, 0, 49, null));
+pg_table02.get(4404);
+pg_table02.put(List.of(2029, true, false, 12, 0, true));
+pg_table02.put(List.of(186, false, false, 0, 2868, false));
+pg_table02.put(List.of(39644, true, false, 94445, 0, true));
+pg_table02.put(List.of(130, true, true, 38, 0, true));
+pg_table02.put(List.of(1, true, true, 289, 0, true));
+pg_table02.put(List.of(0, false, true, 0, 2, true));
+pg_table02.put(Arrays.asList(7, true, null, 0, 0, false));
+pg_table02.remove(0);
+pg_table02.put(List.of(0, false, false, 13702, 233, false));
+pg_table02.put(List.of(0, false, true, 0, 0, false));
+pg_table02.put(List.of(0, true, false, 0, 2098, true));
+pg_table02.remove(33);
+pg_table02.put(List.of(0, true, false, 37866, 47, true));
+pg_table02.put(List.of(0, true, true, 0, 4, false));
+pg_table02.remove(0);
+pg_table02.remove(286);
+pg_table02.put(List.of(40, true, false, 0, 131, false));
+pg_table02.put(List.of(0, false, true, 603, 0, true));
+pg_table02.put(List.of(0, false, false, 0, 1, false));
+pg_table02.put(List.of(0, false, true, 3, 0, false));
+pg_table02.put(List.of(12, false, false, 250, 1, true));
+pg_table02.put(List.of(71, false, false, 15, 2027, false));
+pg_table02.put(List.of(1, false, true, 19, 119, true));
+pg_table02.put(List.of(0, true, true, 10, 58, true));
+pg_table02.remove(0);
+pg_table02.remove(229350);
+pg_table02.put(List.of(6000, false, true, 4103, 0, true));
+pg_table02.put(List.of(186, true, true, 4, 260702, false));
+pg_table02.put(Arrays.asList(858, false, true, 21, 712, null));
+pg_table02.put(List.of(4628, true, true, 0, 29, true));
+pg_table02.put(List.of(0, true, true, 0, 153, false));
+pg_table02.put(List.of(0, true, false, 0, 2, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(730, true, true, 0, 7, false));
+pg_table02.put(List.of(698, true, false, 0, 79, false));
+pg_table02.put(List.of(19123, true, true, 0, 21, true));
+pg_table02.remove(0);
+pg_table02.put(List.of(76, true, true, 3714, 0, true));
+pg_table02.put(List.of(0, false, false, 0, 0, true));
+pg_table02.put(List.of(5700, false, true, 25, 0, true));
+pg_table02.put(List.of(0, false, true, 0, 5, true));
+pg_table02.get(7542);
+// Random Seed: 1796769154
+pg_table02 = null;
+
+pg_table02 = new PagedFileTable("pg_table02");
+pg_table02.getTableName();
+pg_table02.getColumnNames();
+pg_table02.getColumnTypes();
+pg_table02.getPrimaryIndex();
+pg_table02.getTableName();
+pg_table02.getColumnNames();
+pg_table02.getColumnTypes();
+pg_table02.getPrimaryIndex();
+pg_table02.get(29754);
+pg_table02.get(117);
+pg_table02.get(1450);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(7);
+pg_table02.get(830);
+pg_table02.get(509);
+pg_table02.get(0);
+pg_table02.get(424);
+pg_table02.get(54);
+pg_table02.get(0);
+pg_table02.get(35);
+pg_table02.get(20);
+pg_table02.get(0);
+pg_table02.get(412);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(16);
+pg_table02.get(3);
+pg_table02.get(0);
+pg_table02.get(3466);
+pg_table02.get(0);
+pg_table02.get(60);
+pg_table02.get(10048);
+pg_table02.get(4);
+pg_table02.get(1252);
+pg_table02.get(0);
+pg_table02.get(29);
+pg_table02.get(0);
+pg_table02.get(86843);
+pg_table02.get(856);
+pg_table02.get(317);
+pg_table02.get(4);
+pg_table02.get(232);
+pg_table02.get(119);
+pg_table02.get(629);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(35165);
+pg_table02.get(0);
+pg_table02.get(3);
+pg_table02.get(266);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(75);
+pg_table02.get(0);
+pg_table02.get(46865);
+pg_table02.get(8);
+pg_table02.get(4);
+pg_table02.get(14338);
+pg_table02.get(0);
+pg_table02.get(3);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(2411);
+pg_table02.get(89);
+pg_table02.get(0);
+pg_table02.get(863);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(4);
+pg_table02.get(1584);
+pg_table02.get(0);
+pg_table02.get(4);
+pg_table02.get(15);
+pg_table02.get(678);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(142);
+pg_table02.get(2);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(119);
+pg_table02.get(699);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(49);
+pg_table02.get(0);
+pg_table02.get(37256);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(6);
+pg_table02.get(3324);
+pg_table02.get(1);
+pg_table02.get(1303);
+pg_table02.get(1954);
+pg_table02.get(70);
+pg_table02.get(2);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(2);
+pg_table02.get(0);
+pg_table02.get(93);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(6838);
+pg_table02.get(2);
+pg_table02.get(0);
+pg_table02.get(51);
+pg_table02.get(0);
+pg_table02.get(7);
+pg_table02.get(25199);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(25);
+pg_table02.get(0);
+pg_table02.get(192);
+pg_table02.get(30);
+pg_table02.get(2);
+pg_table02.get(26);
+pg_table02.get(1492);
+pg_table02.get(0);
+pg_table02.get(74476);
+pg_table02.get(0);
+pg_table02.get(74888);
+pg_table02.get(22);
+pg_table02.get(60);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(4);
+pg_table02.get(172);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(28);
+pg_table02.get(0);
+pg_table02.get(61);
+pg_table02.get(0);
+pg_table02.get(80);
+pg_table02.get(0);
+pg_table02.get(88383);
+pg_table02.get(66);
+pg_table02.get(0);
+pg_table02.get(73);
+pg_table02.get(2);
+pg_table02.get(0);
+pg_table02.get(106);
+pg_table02.get(0);
+pg_table02.get(255);
+pg_table02.get(0);
+pg_table02.get(259);
+pg_table02.get(28);
+pg_table02.get(0);
+pg_table02.get(10);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(231);
+pg_table02.get(2);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(387);
+pg_table02.get(127);
+pg_table02.get(5);
+pg_table02.get(64);
+pg_table02.get(2);
+pg_table02.get(15);
+pg_table02.get(0);
+pg_table02.get(176);
+pg_table02.get(11);
+pg_table02.get(1);
+pg_table02.get(0);
+pg_table02.get(57);
+pg_table02.get(2123);
+pg_table02.get(144848);
+pg_table02.get(0);
+pg_table02.get(8);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(309);
+pg_table02.get(102);
+pg_table02.get(11438);
+pg_table02.get(5665);
+pg_table02.get(13588);
+pg_table02.get(17);
+pg_table02.get(0);
+pg_table02.get(227);
+pg_table02.get(471);
+pg_table02.get(6824);
+pg_table02.get(1204);
+pg_table02.get(14);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(189);
+pg_table02.get(9350);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(375);
+pg_table02.get(0);
+pg_table02.get(95781);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(20761);
+pg_table02.get(3446);
+pg_table02.get(0);
+pg_table02.get(874);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(2450);
+pg_table02.get(22);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(401);
+pg_table02.get(21);
+pg_table02.get(9749);
+pg_table02.get(15);
+pg_table02.get(12);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(702);
+pg_table02.get(8);
+pg_table02.get(0);
+pg_table02.get(1283);
+pg_table02.get(2224);
+pg_table02.get(177);
+pg_table02.get(6);
+pg_table02.get(11946);
+pg_table02.get(0);
+pg_table02.get(6);
+pg_table02.get(46);
+pg_table02.get(202);
+pg_table02.get(33378);
+pg_table02.get(3);
+pg_table02.get(41);
+pg_table02.get(0);
+pg_table02.get(1626);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(7);
+pg_table02.get(11);
+pg_table02.get(110);
+pg_table02.get(521);
+pg_table02.get(997);
+pg_table02.get(167);
+pg_table02.get(0);
+pg_table02.get(5);
+pg_table02.get(5695);
+pg_table02.get(1);
+pg_table02.get(608);
+pg_table02.get(3084);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(29);
+pg_table02.get(0);
+pg_table02.get(28);
+pg_table02.get(3450);
+pg_table02.get(3876);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(4);
+pg_table02.get(0);
+pg_table02.get(1787);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(4);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(11);
+pg_table02.get(540);
+pg_table02.get(1066);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(347);
+pg_table02.get(2);
+pg_table02.get(137);
+pg_table02.get(6);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(1);
+pg_table02.get(522);
+pg_table02.get(5);
+pg_table02.get(859);
+pg_table02.get(72);
+pg_table02.get(0);
+pg_table02.get(330);
+pg_table02.get(0);
+pg_table02.get(586);
+pg_table02.get(0);
+pg_table02.get(31);
+pg_table02.get(7);
+pg_table02.get(1497);
+pg_table02.get(68);
+pg_table02.get(16);
+pg_table02.get(0);
+pg_table02.get(47);
+pg_table02.get(552);
+pg_table02.get(0);
+pg_table02.get(59873);
+pg_table02.get(3855);
+pg_table02.get(0);
+pg_table02.get(7148);
+pg_table02.get(32);
+pg_table02.get(516);
+pg_table02.get(397);
+pg_table02.get(0);
+pg_table02.get(1);
+pg_table02.get(49);
+pg_table02.get(41);
+pg_table02.get(0);
+pg_table02.get(4);
+pg_table02.get(16);
+pg_table02.get(31);
+pg_table02.get(2);
+pg_table02.get(0);
+pg_table02.get(26329);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(5);
+pg_table02.get(0);
+pg_table02.get(4);
+pg_table02.get(4576);
+pg_table02.get(0);
+pg_table02.get(61);
+pg_table02.get(89814);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(88);
+pg_table02.get(883);
+pg_table02.get(0);
+pg_table02.get(96);
+pg_table02.get(0);
+pg_table02.get(10);
+pg_table02.get(0);
+pg_table02.get(2);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(1512);
+pg_table02.get(0);
+pg_table02.get(2);
+pg_table02.get(246);
+pg_table02.get(0);
+pg_table02.get(10);
+pg_table02.get(11);
+pg_table02.get(0);
+pg_table02.get(7);
+pg_table02.get(6);
+pg_table02.get(41);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(8);
+pg_table02.get(29864);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(328);
+pg_table02.get(29615);
+pg_table02.get(6459);
+pg_table02.get(141);
+pg_table02.get(1013);
+pg_table02.get(8055);
+pg_table02.get(507);
+pg_table02.get(0);
+pg_table02.get(50);
+pg_table02.get(1876407);
+pg_table02.get(0);
+pg_table02.get(284);
+pg_table02.get(2865);
+pg_table02.get(15893);
+pg_table02.get(0);
+pg_table02.get(29);
+pg_table02.get(0);
+pg_table02.get(87);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(780);
+pg_table02.get(189);
+pg_table02.get(149930);
+pg_table02.get(0);
+pg_table02.get(713);
+pg_table02.get(0);
+pg_table02.get(343);
+pg_table02.get(0);
+pg_table02.get(13);
+pg_table02.get(0);
+pg_table02.get(2);
+pg_table02.get(0);
+pg_table02.get(75969);
+pg_table02.get(8);
+pg_table02.get(0);
+pg_table02.get(10);
+pg_table02.get(0);
+pg_table02.get(371);
+pg_table02.get(19880);
+pg_table02.get(215);
+pg_table02.get(0);
+pg_table02.get(1623);
+pg_table02.get(0);
+pg_table02.get(1);
+pg_table02.get(3295);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(11897);
+pg_table02.get(93);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(39);
+pg_table02.get(0);
+pg_table02.get(5237);
+pg_table02.get(47);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(674);
+pg_table02.get(30);
+pg_table02.get(2868);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(9877);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(8);
+pg_table02.get(6);
+pg_table02.get(5864);
+pg_table02.get(0);
+pg_table02.get(3);
+pg_table02.get(0);
+pg_table02.get(3);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(5777);
+pg_table02.get(82);
+pg_table02.get(0);
+pg_table02.get(6615);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(4541);
+pg_table02.get(7);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(468);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(89);
+pg_table02.get(435);
+pg_table02.get(0);
+pg_table02.get(396);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(215);
+pg_table02.get(0);
+pg_table02.get(310);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(2);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(609);
+pg_table02.get(2045);
+pg_table02.get(1);
+pg_table02.get(0);
+pg_table02.get(131);
+pg_table02.get(2830);
+pg_table02.get(0);
+pg_table02.get(458);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(14941);
+pg_table02.get(357);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(1);
+pg_table02.get(111);
+pg_table02.get(6512);
+pg_table02.get(1215);
+pg_table02.get(33);
+pg_table02.get(1083);
+pg_table02.get(28);
+pg_table02.get(0);
+pg_table02.get(2);
+pg_table02.get(34);
+pg_table02.get(0);
+pg_table02.get(77);
+pg_table02.get(0);
+pg_table02.get(8941);
+pg_table02.get(0);
+pg_table02.get(114);
+pg_table02.get(19);
+pg_table02.get(0);
+pg_table02.get(17);
+pg_table02.get(7);
+pg_table02.get(1);
+pg_table02.get(42895);
+pg_table02.get(22);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(1);
+pg_table02.get(4825);
+pg_table02.get(0);
+pg_table02.get(157664);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(698);
+pg_table02.get(5);
+pg_table02.get(178);
+pg_table02.get(52);
+pg_table02.get(2);
+pg_table02.get(0);
+pg_table02.get(590);
+pg_table02.get(0);
+pg_table02.get(1884);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(6471);
+pg_table02.get(1);
+pg_table02.get(0);
+pg_table02.get(2278);
+pg_table02.get(0);
+pg_table02.get(114);
+pg_table02.get(32);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(1760);
+pg_table02.get(0);
+pg_table02.get(41);
+pg_table02.get(5);
+pg_table02.get(1334);
+pg_table02.get(2);
+pg_table02.get(0);
+pg_table02.get(155);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(40163);
+pg_table02.get(0);
+pg_table02.get(3314);
+pg_table02.get(0);
+pg_table02.get(56);
+pg_table02.get(630);
+pg_table02.get(0);
+pg_table02.get(7);
+pg_table02.get(13);
+pg_table02.get(11);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(9);
+pg_table02.get(146);
+pg_table02.get(30);
+pg_table02.get(210);
+pg_table02.get(1779);
+pg_table02.get(443);
+pg_table02.get(735);
+pg_table02.get(0);
+pg_table02.get(63);
+pg_table02.get(0);
+pg_table02.get(117);
+pg_table02.get(0);
+pg_table02.get(12);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(135799);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(1086);
+pg_table02.get(0);
+pg_table02.get(43948);
+pg_table02.get(9565);
+pg_table02.get(0);
+pg_table02.get(997624);
+pg_table02.get(0);
+pg_table02.get(1);
+pg_table02.get(252);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(41);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(1);
+pg_table02.get(0);
+pg_table02.get(30);
+pg_table02.get(237);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(48);
+pg_table02.get(14);
+pg_table02.get(0);
+pg_table02.get(1);
+pg_table02.get(0);
+pg_table02.get(480984);
+pg_table02.get(0);
+pg_table02.get(3);
+pg_table02.get(1);
+pg_table02.get(0);
+pg_table02.get(38);
+pg_table02.get(6);
+pg_table02.get(105546);
+pg_table02.get(32290);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(23053);
+pg_table02.get(122);
+pg_table02.get(0);
+pg_table02.get(14061);
+pg_table02.get(568);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(4820);
+pg_table02.get(727);
+pg_table02.get(0);
+pg_table02.get(81);
+pg_table02.get(4);
+pg_table02.get(2510);
+pg_table02.get(199);
+pg_table02.get(9);
+pg_table02.get(0);
+pg_table02.get(3218);
+pg_table02.get(2229);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(84040);
+pg_table02.get(654);
+pg_table02.get(0);
+pg_table02.get(5);
+pg_table02.get(9);
+pg_table02.get(19);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(2);
+pg_table02.get(1);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(1268);
+pg_table02.get(597);
+pg_table02.get(72);
+pg_table02.get(42);
+pg_table02.get(34903);
+pg_table02.get(97554);
+pg_table02.get(1);
+pg_table02.get(11);
+pg_table02.get(3772);
+pg_table02.get(0);
+pg_table02.get(2507);
+pg_table02.get(0);
+pg_table02.get(1023);
+pg_table02.get(0);
+pg_table02.get(217);
+pg_table02.get(0);
+pg_table02.get(25646);
+pg_table02.get(935);
+pg_table02.get(2000);
+pg_table02.get(97);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(281);
+pg_table02.get(161);
+pg_table02.get(3);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(103);
+pg_table02.get(23);
+pg_table02.get(0);
+pg_table02.get(606);
+pg_table02.get(2);
+pg_table02.get(0);
+pg_table02.get(79);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(167);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(778);
+pg_table02.get(3);
+pg_table02.get(6);
+pg_table02.get(9348);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(3218);
+pg_table02.get(0);
+pg_table02.get(572);
+pg_table02.get(235);
+pg_table02.get(2);
+pg_table02.get(53002);
+pg_table02.get(157);
+pg_table02.get(2524);
+pg_table02.get(0);
+pg_table02.get(26);
+pg_table02.get(5);
+pg_table02.get(13);
+pg_table02.get(39329);
+pg_table02.get(191);
+pg_table02.get(0);
+pg_table02.get(63);
+pg_table02.get(0);
+pg_table02.get(1);
+pg_table02.get(0);
+pg_table02.get(14);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(102);
+pg_table02.get(72);
+pg_table02.get(126);
+pg_table02.get(1);
+pg_table02.get(9448);
+pg_table02.get(73);
+pg_table02.get(1);
+pg_table02.get(0);
+pg_table02.get(5);
+pg_table02.get(2);
+pg_table02.get(0);
+pg_table02.get(919);
+pg_table02.get(2751);
+pg_table02.get(0);
+pg_table02.get(28);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(7);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(1056);
+pg_table02.get(57);
+pg_table02.get(0);
+pg_table02.get(21);
+pg_table02.get(1529);
+pg_table02.get(10);
+pg_table02.get(26074);
+pg_table02.get(265);
+pg_table02.get(71);
+pg_table02.get(687);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(54);
+pg_table02.get(4);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(9);
+pg_table02.get(117);
+pg_table02.get(1468476);
+pg_table02.get(0);
+pg_table02.get(6950);
+pg_table02.get(0);
+pg_table02.get(499);
+pg_table02.get(84);
+pg_table02.get(459);
+pg_table02.get(9486);
+pg_table02.get(1089);
+pg_table02.get(0);
+pg_table02.get(2);
+pg_table02.get(215);
+pg_table02.get(13793);
+pg_table02.get(992);
+pg_table02.get(0);
+pg_table02.get(2);
+pg_table02.get(0);
+pg_table02.get(1);
+pg_table02.get(214);
+pg_table02.get(109);
+pg_table02.get(0);
+pg_table02.get(20671);
+pg_table02.get(441);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(3);
+pg_table02.get(4979);
+pg_table02.get(618);
+pg_table02.get(494);
+pg_table02.get(205);
+pg_table02.get(2);
+pg_table02.get(0);
+pg_table02.get(19);
+pg_table02.get(1);
+pg_table02.get(0);
+pg_table02.get(2);
+pg_table02.get(7);
+pg_table02.get(17);
+pg_table02.get(6966);
+pg_table02.get(6149);
+pg_table02.get(0);
+pg_table02.get(238178);
+pg_table02.get(63000);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(2053);
+pg_table02.get(2);
+pg_table02.get(4289);
+pg_table02.get(18171);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(1);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(72);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(162);
+pg_table02.get(0);
+pg_table02.get(1);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(1242);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(64);
+pg_table02.get(0);
+pg_table02.get(6);
+pg_table02.get(0);
+pg_table02.get(62999);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(3);
+pg_table02.get(8286);
+pg_table02.get(0);
+pg_table02.get(2063);
+pg_table02.get(46);
+pg_table02.get(4134);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(48);
+pg_table02.get(42);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(427);
+pg_table02.get(0);
+pg_table02.get(9);
+pg_table02.get(1);
+pg_table02.get(254);
+pg_table02.get(43350);
+pg_table02.get(176);
+pg_table02.get(0);
+pg_table02.get(6955);
+pg_table02.get(73);
+pg_table02.get(0);
+pg_table02.get(92);
+pg_table02.get(0);
+pg_table02.get(49);
+pg_table02.get(0);
+pg_table02.get(552);
+pg_table02.get(6);
+pg_table02.get(7697);
+pg_table02.get(2241);
+pg_table02.get(184);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(4407);
+pg_table02.get(0);
+pg_table02.get(1118);
+pg_table02.get(0);
+pg_table02.get(9076);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(3996);
+pg_table02.get(7407);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(7);
+pg_table02.get(94757);
+pg_table02.get(64);
+pg_table02.get(0);
+pg_table02.get(10295);
+pg_table02.get(20784);
+pg_table02.get(1307);
+pg_table02.get(1);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(29);
+pg_table02.get(0);
+pg_table02.get(45);
+pg_table02.get(83);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(1);
+pg_table02.get(123);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(2);
+pg_table02.get(22);
+pg_table02.get(0);
+pg_table02.get(10039);
+pg_table02.get(1955);
+pg_table02.get(9716);
+pg_table02.get(0);
+pg_table02.get(14836);
+pg_table02.get(1555);
+pg_table02.get(2321);
+pg_table02.get(3);
+pg_table02.get(213);
+pg_table02.get(0);
+pg_table02.get(147836);
+pg_table02.get(7120);
+pg_table02.get(167);
+pg_table02.get(0);
+pg_table02.get(328);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(4690);
+pg_table02.get(49);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(65);
+pg_table02.get(0);
+pg_table02.get(2676);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(1846);
+pg_table02.get(175);
+pg_table02.get(36);
+pg_table02.get(0);
+pg_table02.get(224);
+pg_table02.get(5);
+pg_table02.get(0);
+pg_table02.get(23);
+pg_table02.get(10);
+pg_table02.get(0);
+pg_table02.get(4811);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(1);
+pg_table02.get(0);
+pg_table02.get(8);
+pg_table02.get(0);
+pg_table02.get(5);
+pg_table02.get(15);
+pg_table02.get(0);
+pg_table02.get(51);
+pg_table02.get(17);
+pg_table02.get(6);
+pg_table02.get(8019);
+pg_table02.get(524);
+pg_table02.get(0);
+pg_table02.get(146);
+pg_table02.get(38);
+pg_table02.get(2390);
+pg_table02.get(0);
+pg_table02.get(5);
+pg_table02.get(32);
+pg_table02.get(7);
+pg_table02.get(256);
+pg_table02.get(344);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(562);
+pg_table02.get(235);
+pg_table02.get(0);
+pg_table02.get(2356);
+pg_table02.get(0);
+pg_table02.get(834);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(4008423);
+pg_table02.get(32563);
+pg_table02.get(40);
+pg_table02.get(18163);
+pg_table02.get(32);
+pg_table02.get(1);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(10);
+pg_table02.get(0);
+pg_table02.get(385);
+pg_table02.get(0);
+pg_table02.get(3);
+pg_table02.get(5);
+pg_table02.get(12);
+pg_table02.get(198);
+pg_table02.get(4);
+pg_table02.get(17);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(12769);
+pg_table02.get(0);
+pg_table02.get(369);
+pg_table02.get(123);
+pg_table02.get(43907);
+pg_table02.get(7490);
+pg_table02.get(1776);
+pg_table02.get(0);
+pg_table02.get(3);
+pg_table02.get(60);
+pg_table02.get(29843);
+pg_table02.get(39947);
+pg_table02.get(1797);
+pg_table02.get(157);
+pg_table02.get(0);
+pg_table02.get(2494);
+pg_table02.get(2646);
+pg_table02.get(685);
+pg_table02.get(316);
+pg_table02.get(0);
+pg_table02.get(3);
+pg_table02.get(1);
+pg_table02.get(0);
+pg_table02.get(44397);
+pg_table02.get(5048);
+pg_table02.get(0);
+pg_table02.get(28);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(30373);
+pg_table02.get(0);
+pg_table02.get(2);
+pg_table02.get(0);
+pg_table02.get(46);
+pg_table02.get(544);
+pg_table02.get(0);
+pg_table02.get(163);
+pg_table02.get(439);
+pg_table02.get(5);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(85);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(4198);
+pg_table02.get(17);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(7);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(28);
+pg_table02.get(858);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(2);
+pg_table02.get(14458);
+pg_table02.get(36698);
+pg_table02.get(204);
+pg_table02.get(2);
+pg_table02.get(193);
+pg_table02.get(2191);
+pg_table02.get(0);
+pg_table02.get(6);
+pg_table02.get(0);
+pg_table02.get(1);
+pg_table02.get(406);
+pg_table02.get(7);
+pg_table02.get(1325);
+pg_table02.get(0);
+pg_table02.get(256);
+pg_table02.get(266175);
+pg_table02.get(3127);
+pg_table02.get(0);
+pg_table02.get(0);
+pg_table02.get(21);
+pg_table02.get(444);
+pg_table02.get(3);
+pg_table02.get(0);
+pg_table02.get(5);
+pg_table02.get(0);
+pg_table02.get(4);
+pg_table02.get(39);
+pg_table02.get(4736);
+pg_table02.get(207);
+pg_table02.get(744);
+pg_table02.get(0);
+pg_table02.get(5);
+pg_table02.get(14);
+pg_table02.get(290);
+pg_table02.get(0);
+pg_table02.get(6);
+pg_table02.get(805);
+pg_table02.get(50);
+pg_table02.get(0);
+pg_table02.get(183117);
+pg_table02.get(0);
+pg_table02.get(1829);
+pg_table02.get(0);
+pg_table02.get(14);
+pg_table02.clear();
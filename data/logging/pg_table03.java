@@ -0,0 +1,2266 @@
+// Random Seed: 1796769154
+Table pg_table03 = new PagedFileTable("pg_table03", List.of("be", "f59", "d5a", "d7d", "eae", "c15", "ba3aa", "b6", "c8a", "d62e", "ec7", "e6", "a9", "e2a", "ca"), List.of("string", "string", "string", "integer", "integer", "integer", "boolean", "boolean", "boolean", "string", "string", "integer", "integer", "boolean", "boolean"), 9);
+pg_table03.getTableName();
+pg_table03.getColumnNames();
+pg_table03.getColumnTypes();
+pg_table03.getPrimaryIndex();
+pg_table03.getTableName();
+pg_table03.getColumnNames();
+pg_table03.getColumnTypes();
+pg_table03.getPrimaryIndex();
+pg_table03.clear();
+pg_table03.put(List.of("d165", "b3a4", "bb2", 11, 45465, 7, false, true, true, "a9a", "ddd2", 0, 668971, false, true));
+pg_table03.put(List.of("ab7a", "b639", "dad1", 0, 0, 1, false, false, false, "f666", "bf85", 1888, 0, false, true));
+pg_table03.put(List.of("ceee8", "ff30", "c53f", 32047, 327, 380023, false, true, true, "c3a", "bbc", 0, 8135, true, true));
+pg_table03.put(List.of("a3c", "b57", "c026", 25, 0, 49, true, true, false, "eec", "ab82", 9, 1219, false, true));
+pg_table03.remove("e5b");
+pg_table03.put(Arrays.asList("ddd", null, "f726", 0, 0, 4675, false, true, true, "b89c", "aa7", 0, 0, false, true));
+pg_table03.put(List.of("e36a", "ddf", "c85b", 0, 49, 0, false, true, true, "e9db", "e289", 135, 51, true, false));
+pg_table03.put(List.of("b0a9", "cc60", "a1a5", 1832, 24, 0, true, true, false, "a9b7", "b6a9", 0, 0, false, false));
+pg_table03.put(List.of("a5df", "d09a", "ecf", 0, 0, 0, true, false, false, "bac", "a8046", 5055, 37, false, false));
+pg_table03.put(List.of("e4f7", "bc48", "a6e", 0, 0, 0, false, true, true, "fbae", "c0e", 0, 85, false, false));
+pg_table03.put(List.of("d490", "fd0b", "e2bf", 28411, 0, 2828, true, false, false, "b664", "b36", 2, 5133, true, false));
+pg_table03.put(List.of("af39", "ca7", "f23c", 2903, 0, 0, true, false, true, "b640", "e56d", 0, 13302, false, false));
+pg_table03.put(List.of("fd7b", "f6973", "c428", 0, 0, 0, true, false, false, "d34", "f60a", 0, 154, false, false));
+pg_table03.put(List.of("fad", "a75a", "a9a0", 1691, 0, 33, true, false, false, "da2", "d08", 688972, 537, false, false));
+pg_table03.remove("a3a");
+pg_table03.get("a1fa");
+pg_table03.get("b309");
+pg_table03.put(List.of("c43", "ce51", "f40b", 0, 8, 261, false, false, true, "c54f", "ef5", 3240, 0, false, true));
+pg_table03.put(List.of("c6ae", "b20d", "ad65", 0, 1827, 0, true, false, false, "d4b8", "ba0f", 35, 2848, false, true));
+pg_table03.put(List.of("a75", "ef66", "a0c5", 187847, 6152, 135, true, true, false, "fd2b", "ded", 1734, 0, true, false));
+pg_table03.put(Arrays.asList("f331c", "fd2e", "a59c", 0, 0, 3275, true, false, true, "df1a", "dfc8", 0, 12, null, true));
+pg_table03.put(List.of("e44c5", "b4ed", "e086", 6114, 170, 872, false, true, true, "d2be", "fbbb", 0, 44612, true, false));
+pg_table03.put(List.of("be41", "f79", "b34f", 35, 8028, 0, true, true, true, "e50", "bba", 1825, 57838, true, false));
+pg_table03.put(List.of("cf0", "adb5", "e6b4", 187, 0, 0, false, false, false, "eda9", "a711", 0, 186, true, false));
+pg_table03.remove("c16b");
+pg_table03.put(List.of("d9f4", "a908f", "bb06", 0, 3, 0, false, true, false, "d9a2", "dd31", 0, 0, true, true));
+pg_table03.put(List.of("e157a", "a96dc", "f950", 6970, 8, 0, true, true, true, "c7cb", "de30", 1, 0, false, false));
+pg_table03.put(List.of("e8a", "ceb2", "fdc7b", 37, 319, 0, false, false, true, "caf", "fb2", 1109, 456, true, true));
+pg_table03.put(List.of("d1dd", "b4ba", "ee6", 0, 382, 0, false, false, false, "c4b4", "d108b", 0, 0, true, false));
+pg_table03.put(List.of("c755", "f6c", "c266", 56980, 0, 95, true, false, true, "c797", "d73", 6351, 17, true, false));
+pg_table03.remove("a0da");
+pg_table03.remove("eed5");
+pg_table03.remove("e85");
+pg_table03.put(List.of("cff", "acf5", "c553", 2, 0, 0, false, false, true, "dbc", "ac04", 0, 19097, false, true));
+pg_table03.put(List.of("b17", "a37d", "dbe", 1, 51, 0, false, true, true, "ccd48", "b8d5", 4658, 10, true, false));
+pg_table03.remove("e9f3");
+pg_table03.put(List.of("cd20", "f134", "c29", 48634, 0, 10, true, false, false, "a8fb6", "c9645", 6, 161, true, false));
+pg_table03.put(List.of("e44e", "f6c0", "d142", 0, 1, 0, false, true, false, "b66", "ca74", 102, 0, false, true));
+pg_table03.put(List.of("b504", "def", "ade9", 37058, 0, 0, true, true, false, "b54", "dc00", 190, 9868, false, false));
+pg_table03.get("b8a5");
+pg_table03.put(List.of("f64e6", "a639", "cfd2c", 66, 67, 0, false, true, false, "a3c8", "fd5", 0, 663, true, true));
+pg_table03.put(Arrays.asList("a31a", "e7f3", "f8fe", 3, 0, 0, false, false, false, "da6b", "e05a", null, 0, false, false));
+pg_table03.put(List.of("b98c", "a872", "c4c", 501, 0, 0, false, true, false, "dbe4", "a71a", 0, 10295, true, true));
+pg_table03.remove("e97");
+pg_table03.put(List.of("e15", "c4a6", "e7e", 0, 0, 1, false, false, true, "e844", "def1", 0, 73, true, true));
+pg_table03.remove("d688b");
+pg_table03.put(List.of("a079c", "c33", "e41", 20, 19, 0, false, false, false, "b9d1", "eabb0", 0, 2016, false, false));
+pg_table03.get("f303");
+pg_table03.get("e587");
+pg_table03.get("ce2f");
+pg_table03.put(List.of("c337", "ff6d", "cf08", 0, 400, 0, false, false, false, "a842", "be0a", 0, 15129, true, false));
+pg_table03.remove("c466");
+pg_table03.put(List.of("fa0a", "f998", "ab26", 408, 33, 21, true, false, true, "a1e5", "d9d", 240, 979, false, true));
+pg_table03.put(List.of("bf09", "a6d", "c497", 66, 0, 9754, true, true, false, "a2e6", "c6a1", 0, 0, false, false));
+pg_table03.get("aca8");
+pg_table03.put(List.of("a2d", "e41a8", "be0b", 0, 0, 0, false, true, false, "bc33", "e659f", 1, 0, true, true));
+pg_table03.remove("eac");
+pg_table03.remove("b343");
+pg_table03.remove("a2f5");
+pg_table03.get("ec4f0");
+pg_table03.put(List.of("e21", "cf8", "b675", 53, 4, 2, true, false, true, "ff83", "f8a", 16947, 2, false, true));
+pg_table03.put(List.of("b73e", "d298", "c656", 354, 3272, 2965, true, false, true, "d74b", "fe0d", 480, 0, true, true));
+pg_table03.put(List.of("d6b5", "a24", "be58", 514, 45, 19405, true, false, true, "e8b", "d96f", 0, 90, true, true));
+pg_table03.put(List.of("c91f", "a23f", "fdaf", 0, 0, 186, false, true, false, "d4a", "ca6e", 2472, 2905, false, true));
+pg_table03.put(List.of("dfec", "f51b", "a9c1", 13967, 0, 0, true, true, true, "b04", "b205", 0, 0, true, false));
+pg_table03.get("b151");
+pg_table03.put(List.of("eb58", "fd44e", "f3f6", 0, 15, 211241, false, true, true, "f2fd", "b5a", 21197, 0, false, false));
+pg_table03.get("bb6e");
+pg_table03.put(List.of("b25d", "f1a0", "c53", 0, 77, 0, false, false, false, "c907", "bedd", 89, 147, true, true));
+pg_table03.put(List.of("a68d", "a665", "ca303", 458, 0, 0, false, true, false, "a5dd", "ba91", 0, 1, false, true));
+pg_table03.put(List.of("d1de", "a414", "ce3a", 168, 0, 0, true, true, true, "ce4", "aad2", 0, 4217, true, false));
+pg_table03.put(List.of("f7b6", "bec0", "d3c8", 127, 0, 0, true, false, false, "e48", "c7be3", 4619, 52, false, false));
+pg_table03.put(List.of("d374", "fea5", "fff", 0, 0, 0, true, false, true, "f0ca", "ea88", 1141, 12315, true, true));
+pg_table03.put(List.of("dc3", "a723", "ddce", 9, 0, 1439, false, true, true, "a3b", "b3d", 4, 18, false, false));
+pg_table03.put(List.of("c792", "ae2f", "d01f", 0, 684, 7, true, true, false, "b20", "aa11", 1305, 0, false, false));
+pg_table03.put(List.of("ff24", "b670", "dfc9", 0, 0, 72, true, true, false, "ac8", "c724", 11289, 303, false, false));
+pg_table03.put(List.of("f125", "f2f5", "cb8", 848, 0, 0, true, false, false, "cddf", "c2a3", 12232, 50, false, false));
+pg_table03.put(List.of("e969", "c0ed", "abf2", 36, 0, 24134, true, false, true, "af360", "fab", 4050, 2696, true, false));
+pg_table03.put(Arrays.asList("bbfe", "b5c0", null, 0, 2360, 178, false, false, false, "e8da", "f2e5", 0, 420, true, false));
+pg_table03.remove("dc8c");
+pg_table03.put(Arrays.asList("fd47", "f2594", "f6ab", 7096, 612915, 0, false, true, false, "fac3", "ccd21", 2, 0, true, null));
+pg_table03.put(List.of("cb86", "bbbe", "a7e8", 0, 0, 461, false, true, true, "c526", "c2c", 0, 0, false, false));
+pg_table03.put(List.of("f8ae", "c4ad", "c48b", 0, 0, 9040, true, true, false, "a18e", "ad64", 0, 602, true, true));
+pg_table03.put(List.of("ebd3", "e495", "c7b8", 10, 50886, 0, false, false, false, "f2a8", "b6ed", 1014, 0, true, false));
+pg_table03.put(List.of("fef", "e791", "c611", 0, 178, 0, false, false, false, "ff9", "b6c6", 43, 0, false, false));
+pg_table03.put(List.of("e71d", "b34d", "c93", 32, 0, 2893, false, true, false, "a0b", "c3b3", 7, 0, true, false));
+pg_table03.put(Arrays.asList("f7a", "b873", "f62", 0, 113, 14, false, false, true, "f645", "a9b4", null, 9816, false, false));
+pg_table03.put(List.of("d27d", "bf7", "d962", 116, 108, 9101, true, false, true, "d20a", "a632", 21085, 0, false, false));
+pg_table03.put(List.of("acc9", "bc44", "e4ff", 614, 1, 0, true, false, true, "b60", "be40", 768, 0, false, true));
+pg_table03.put(List.of("d0ad0", "f42a", "c04f", 66, 38710, 64, false, true, false, "c71", "bfbf", 0, 0, false, true));
+pg_table03.remove("cac");
+pg_table03.put(List.of("b8d6", "c2e", "b14f", 0, 117, 1169, true, false, false, "db9e", "cad", 17176, 3, false, true));
+pg_table03.put(List.of("d00", "bf52", "e1b1f", 0, 68685, 160, false, false, false, "a9f", "cf74", 41214, 0, true, false));
+pg_table03.put(List.of("d76e", "a5d7", "bdf78", 14, 135, 587, false, false, false, "c335", "a7a", 0, 0, false, true));
+pg_table03.put(List.of("b2d83", "eae1", "aa6a", 0, 0, 148, false, true, true, "e29e", "ef6", 0, 0, true, false));
+pg_table03.put(List.of("f2e", "d12f", "eb8a", 52, 0, 0, false, false, false, "b87", "fcfd", 2, 0, false, false));
+pg_table03.put(Arrays.asList("d91", "cfab", "a9bf", 0, 1, 0, true, true, false, "e1ae", "f77", 14624, null, false, true));
+pg_table03.put(Arrays.asList("a1f5", "c453", "c447", 8473, 0, 0, false, false, true, "a79d", null, 172, 0, true, false));
+pg_table03.put(List.of("f45d", "ab94", "c0db", 0, 0, 2037, false, true, true, "bdcb", "d7d9", 18165, 24304, true, true));
+pg_table03.put(List.of("fdd", "e5f3", "cfaf", 0, 2866, 3325, false, false, false, "ad3", "baa5", 4959, 80, true, false));
+pg_table03.put(List.of("af2", "ba695", "e8b5e", 0, 72856, 0, false, false, true, "d0aa", "ac2", 12407, 1, true, true));
+pg_table03.put(List.of("a7c4", "e3c2", "fdde", 20981, 4, 0, false, false, false, "eea", "aeed", 415, 991, false, true));
+pg_table03.put(List.of("f295", "b756", "dffba", 7486, 0, 0, true, false, false, "d89", "c7f4", 1213, 141, true, true));
+pg_table03.get("b12d");
+pg_table03.put(List.of("bce7d", "a7ed", "c1cd", 0, 0, 68, true, false, true, "ab68", "e7e3", 0, 0, true, false));
+pg_table03.put(List.of("d6014", "e65", "bbc8", 4, 0, 0, true, false, false, "c20e", "b998", 20, 407, false, true));
+pg_table03.put(List.of("e1d", "e236", "d500", 9113, 0, 3, false, true, true, "a4b8", "b8b0", 0, 166, true, false));
+pg_table03.get("ccc49");
+pg_table03.remove("db9d");
+pg_table03.remove("b470");
+pg_table03.get("f4e4");
+pg_table03.remove("c13");
+pg_table03.remove("d7c");
+pg_table03.put(Arrays.asList("c7a6", "c5cf", "f336e", 3, 581, 121, false, true, true, "eff5", null, 21, 2235, true, false));
+pg_table03.remove("f258");
+pg_table03.get("c73a");
+pg_table03.put(List.of("ee72", "c53b", "fdb7", 0, 134, 11642, false, false, false, "bb1c", "ab54", 61, 394, true, false));
+pg_table03.remove("bacf");
+pg_table03.get("e166");
+pg_table03.put(List.of("dee", "abc8", "ef30", 0, 573, 879912, false, false, false, "f4c", "b89a", 8, 11682, true, false));
+pg_table03.remove("d4cb");
+pg_table03.put(List.of("ea95", "b8f7", "ceb7", 2, 0, 0, true, true, false, "b001", "d44", 3012, 0, false, true));
+pg_table03.put(List.of("ab79", "f61d", "fe8", 0, 0, 1237, true, false, true, "e674", "e561", 1087913, 5898, false, false));
+pg_table03.remove("fd16");
+pg_table03.put(List.of("e7d", "cc5bd", "c811", 1, 0, 3688, true, false, true, "c1d9", "fbf5", 6, 0, false, true));
+pg_table03.get("ce8");
+pg_table03.put(List.of("a67e", "f051", "da6e", 4, 467, 0, false, true, false, "c584", "fd79d", 9, 0, false, false));
+pg_table03.get("d276");
+pg_table03.put(List.of("f440", "fcd", "a846", 20, 0, 25, true, true, false, "e52", "adc", 0, 0, false, false));
+pg_table03.put(List.of("fc4", "de31", "de9e", 64, 0, 77, true, false, false, "bcf9", "ec15", 0, 1, false, false));
+pg_table03.put(Arrays.asList("cd6", "b5f5", "bc70", 3, 3, null, false, true, true, "a8c6", "eff6", 5898, 456, true, true));
+pg_table03.put(List.of("f8f43", "da1", "ffe", 0, 52, 0, true, false, false, "e4c", "ba4f", 30, 0, false, false));
+pg_table03.remove("e676");
+pg_table03.remove("cdcf");
+pg_table03.put(List.of("aad", "e1fa", "f25f", 0, 672, 1458, true, false, true, "c4ee", "d2b4", 0, 782, true, true));
+pg_table03.put(List.of("c52", "b836", "cc6", 128578, 27, 23, false, false, true, "f98a", "c6ae6", 80, 1210, true, false));
+pg_table03.put(List.of("ca38", "da2d", "de84", 11, 0, 518, false, false, true, "a8a1", "a79b", 0, 0, false, true));
+pg_table03.put(List.of("c30b", "a7a0", "c08c", 2418, 0, 0, false, false, true, "b231d", "af7f", 4878, 80, true, false));
+pg_table03.put(List.of("d1a1", "cf6", "f594", 0, 0, 108, false, false, false, "b1e7", "f31a", 623, 713, true, false));
+pg_table03.put(Arrays.asList("f85c", null, "ca09", 0, 73, 2, true, false, true, "af8", "f67", 84467, 100, false, true));
+pg_table03.get("d4a8");
+pg_table03.remove("b4ef");
+pg_table03.put(List.of("a056", "fea", "be160", 0, 96, 0, false, false, true, "aed", "bffa", 11166, 1763759, true, true));
+pg_table03.put(List.of("c125", "cd55", "a1b2", 66, 17, 96, true, false, true, "e2604", "af1", 0, 0, true, false));
+pg_table03.put(Arrays.asList("c47f", "f13", "d9c2", 0, 90, 332, null, false, true, "f222", "a667", 0, null, true, false));
+pg_table03.get("bd65");
+pg_table03.remove("f188");
+pg_table03.put(List.of("f04", "be68c", "faf", 17, 1, 0, true, true, false, "d7e2", "f7c93", 291396, 1892, true, true));
+pg_table03.put(List.of("eb0d", "a415", "a6c1", 0, 0, 1, true, false, true, "f486", "d496", 140, 0, true, true));
+pg_table03.put(List.of("fbe", "bc37", "d8b8", 194, 0, 0, false, true, true, "e214", "ddff4", 533, 81, false, false));
+pg_table03.remove("c5ca");
+pg_table03.put(List.of("ca9", "e9d8", "bd68", 4, 4, 0, true, true, false, "f81e", "b39", 85, 877, false, true));
+pg_table03.remove("d551");
+pg_table03.put(List.of("b6dc", "af4d", "c953", 11, 0, 688, false, false, false, "f3a", "b43a", 0, 0, true, true));
+pg_table03.remove("bef4");
+pg_table03.put(List.of("ac45", "ab13", "b246", 0, 95, 0, true, true, false, "ae95", "de41", 176, 344, true, true));
+pg_table03.put(List.of("db35", "cc41", "d0e", 441, 418, 0, false, false, false, "a63", "fb1f", 0, 8536, true, true));
+pg_table03.remove("c2cf");
+pg_table03.put(List.of("a903", "feb", "aaf3", 0, 0, 2590, false, false, false, "aa67", "ea6", 343, 98, true, false));
+pg_table03.remove("e705");
+pg_table03.put(List.of("bfbb", "f2cf4", "cedd", 0, 0, 1293, false, false, false, "cdeb", "d550", 0, 150, false, false));
+pg_table03.put(List.of("de73c", "dfc5", "ca35", 4062, 9, 623, false, true, false, "ee2d", "eaa9", 93, 624, true, false));
+pg_table03.put(List.of("b9469", "c54d", "c0e48", 850, 0, 382, false, true, true, "d7a", "fa41", 0, 0, true, false));
+pg_table03.put(List.of("a04e", "e9ba", "d5102", 0, 0, 0, false, true, false, "ced0", "a90f", 0, 0, true, true));
+pg_table03.put(List.of("d170", "cea7", "c68", 0, 0, 1334, true, true, true, "b477", "f5b4", 0, 21, true, false));
+pg_table03.put(List.of("bf9f8", "c55d", "a4c1", 267, 178, 576, false, false, false, "b9d", "dc25", 45, 0, false, false));
+pg_table03.remove("db6d");
+pg_table03.put(List.of("c8f", "c245", "cef9", 2564, 59, 141, true, true, true, "e136", "fc18", 3180, 0, false, false));
+pg_table03.get("c59a");
+pg_table03.remove("f887");
+pg_table03.put(List.of("bf62", "bea44", "f10", 2214334, 0, 5, true, false, false, "a9f7", "ad52", 0, 5545, false, false));
+pg_table03.put(List.of("ad7b", "ebd", "e1a9", 0, 0, 19, false, false, false, "f755", "d53b9", 0, 91, false, false));
+pg_table03.put(List.of("be20", "c938", "e4bd", 0, 24, 201, true, true, false, "f51a", "e6d1", 5, 4002, true, true));
+pg_table03.put(List.of("eec3", "ec3c", "d056", 0, 0, 0, true, false, true, "eeb", "aad0", 0, 7243, false, false));
+pg_table03.remove("bef2");
+pg_table03.get("e60e");
+pg_table03.put(List.of("c1bc", "ad01", "be7", 33, 0, 10, true, false, false, "c91c", "dda5", 1010, 0, false, false));
+pg_table03.put(List.of("df6e1", "e70", "cfd93", 2, 1965, 16505, true, false, false, "fff7", "a69c", 5, 1480, true, true));
+pg_table03.put(List.of("ff3", "ea5d", "b46", 3, 130, 8, true, false, false, "f0e", "a5c2", 341, 18, false, true));
+pg_table03.put(List.of("dd30", "fd6b", "bb3f", 0, 3, 8541, true, false, true, "c971", "ed85", 3, 0, true, true));
+pg_table03.put(List.of("e8cb", "dd09", "e4a6", 0, 0, 108765, false, false, true, "fe04", "bf1", 103, 0, true, false));
+pg_table03.put(Arrays.asList("a619", "e643", "bfca", 16384, 416, 2661, true, true, null, "b308", "cd00", 4, 0, true, true));
+pg_table03.put(Arrays.asList("bdd10", "fde", "e3dc", 0, 1, 1056, null, false, false, "af2f0", "dd75", 13850, 236, true, false));
+pg_table03.put(List.of("a82", "b0a", "df2c", 6, 0, 0, true, false, true, "b7ae", "dd49", 0, 2772, false, true));
+pg_table03.put(List.of("d5fc", "b1c9", "a738", 1, 117548, 0, true, false, false, "f16f", "a2d5", 0, 0, true, true));
+pg_table03.put(List.of("e00d", "d4f6", "d96", 5, 92, 2, false, true, true, "c5f3", "a15c", 0, 41960, false, true));
+pg_table03.put(List.of("f2d1", "d588", "cd3a", 1, 10732, 150, false, true, false, "e79a", "e88", 69, 0, false, false));
+pg_table03.put(List.of("ee5d", "d058", "a17", 0, 1217, 15, true, true, true, "f201", "d9f1", 0, 0, false, true));
+pg_table03.put(List.of("a419", "f6f3", "b07", 0, 79971, 0, false, false, true, "ca9f", "d472", 769, 283, false, true));
+pg_table03.remove("ebc9");
+pg_table03.remove("df45");
+pg_table03.put(List.of("e4d15", "a439", "e436", 19, 8592, 607, true, true, true, "d3c4", "f35f", 4, 0, true, false));
+pg_table03.put(List.of("c2992", "bfc", "e4398", 508, 13, 0, true, true, true, "e0e", "dc45", 0, 5, true, true));
+pg_table03.remove("b0f9");
+pg_table03.put(List.of("f4ea", "cc25", "d856", 359, 0, 603, false, false, true, "dc82", "fc0f", 411, 3, true, false));
+pg_table03.put(List.of("ae01", "c6c6", "c360", 4, 0, 0, true, false, false, "bdf0", "d468", 0, 0, false, false));
+pg_table03.put(List.of("d44b", "b3bc", "bc72", 1315, 116, 0, true, false, false, "b64f", "ce08", 2501, 0, true, false));
+pg_table03.put(List.of("c226", "fa2d", "bb386", 0, 751, 1, true, true, true, "f4bd", "bc1c", 0, 3887, false, true));
+pg_table03.put(List.of("d754", "b38ad", "d75f", 2, 0, 11, true, true, false, "bd03", "c9f4", 0, 0, true, true));
+pg_table03.put(List.of("f1b1", "f2af", "c31", 88, 32, 0, false, false, false, "af54", "ef2f", 1, 1, false, true));
+pg_table03.put(List.of("d3798", "af4", "acb0", 3, 586, 341, false, true, true, "b95d", "a974", 0, 0, false, false));
+pg_table03.put(List.of("b15a", "cde9", "ab45", 0, 0, 330304, false, true, true, "d566", "e96e", 0, 334, true, true));
+pg_table03.put(Arrays.asList("d5fe", "d695", "d191", 0, 75444, 299, true, false, null, "c30a", "c3e1", 0, 0, true, true));
+pg_table03.remove("d3d7");
+pg_table03.get("fe6a");
+pg_table03.put(List.of("d7ad", "a24e", "f520", 0, 0, 7, false, false, true, "dd477", "ec39", 0, 5, false, false));
+pg_table03.put(List.of("a86c", "cb5", "c138", 89, 0, 0, true, true, true, "ec0", "dc32", 4, 143, false, false));
+pg_table03.put(List.of("a9ad", "a60f", "b7eba", 0, 0, 346, true, true, false, "f458", "d32ee", 22, 0, true, true));
+pg_table03.put(List.of("c8689", "de1", "c2e9", 0, 0, 0, false, true, true, "c3c7", "d50c", 120, 0, false, false));
+pg_table03.remove("d09e");
+pg_table03.put(List.of("b20f", "bd5c", "ecca", 577, 0, 4802, true, true, false, "a4f9", "d646", 222, 0, true, false));
+pg_table03.put(List.of("e740", "d4bf", "bcc3", 0, 0, 12, true, false, false, "a4f1c", "aa77e", 3, 68, true, false));
+pg_table03.put(List.of("d49", "c6ee2", "b0fe", 0, 94089, 0, false, true, true, "c945", "c56", 2666, 0, true, true));
+pg_table03.put(List.of("c8aa", "de0", "f83", 6401, 0, 1874, true, true, false, "bb0f", "d6f3", 65, 0, false, false));
+pg_table03.put(Arrays.asList("b779", "b04df", "a63d", 0, null, 944, true, true, false, "abc6", "baa3", 0, 388, false, false));
+pg_table03.remove("cb05");
+pg_table03.remove("ef2a");
+pg_table03.get("a377");
+pg_table03.remove("de70");
+pg_table03.get("ac35e");
+pg_table03.put(List.of("b94", "bf26", "d80", 2, 0, 8759, true, false, false, "dde", "e604", 0, 0, false, false));
+pg_table03.get("fe14");
+pg_table03.put(List.of("ca71", "c977", "d2eb", 0, 0, 40, false, false, true, "ac28e", "d5d", 0, 0, false, false));
+pg_table03.put(List.of("ae2a", "e59d", "a236", 1, 418, 881, true, false, false, "b626", "c3fd", 109, 1025, false, true));
+pg_table03.put(List.of("b3e8", "ff43", "e69", 1444, 152, 0, true, false, true, "aba0", "cf85", 150, 942, false, false));
+pg_table03.put(List.of("bb8d", "abe3", "a78c", 0, 11189, 52, true, false, true, "b1c1", "f84", 5289, 3159, false, true));
+pg_table03.get("aa4");
+pg_table03.put(List.of("e7a2", "b65a", "c530", 24, 1, 116, true, true, true, "a387", "b972", 0, 0, true, true));
+pg_table03.remove("b88e");
+pg_table03.put(List.of("eb3e", "a459", "ce86", 0, 2, 375, false, false, false, "f9b1", "eb10", 0, 5270, false, true));
+pg_table03.remove("b7c0");
+pg_table03.put(List.of("ca2", "f9bbe", "c3fb", 3, 1267, 54, true, false, false, "b922", "ea03", 0, 75011, false, false));
+pg_table03.put(List.of("ce1d", "f1b3", "b59f", 99, 0, 0, true, true, false, "a08d", "e5fc", 0, 0, true, false));
+pg_table03.put(List.of("e74", "a3cd", "a8d4", 9342, 0, 959, false, true, false, "cec", "ef78", 2, 1402, false, false));
+pg_table03.put(List.of("e211", "bf6d", "cc61", 13378, 411, 109, true, false, true, "ac25", "bc58", 0, 3, false, false));
+pg_table03.get("e8b3");
+pg_table03.remove("d12e");
+pg_table03.put(List.of("a6b0", "d5a6", "a6be", 0, 53, 0, false, true, true, "f743", "c765", 4, 3, true, true));
+pg_table03.put(List.of("a8da", "e748", "dfd9", 0, 754, 3665, true, true, false, "b017", "aca9", 3, 1901, false, false));
+pg_table03.put(List.of("f7dd", "fb56", "d23e", 0, 1260, 0, true, false, false, "a590", "bfc3", 1, 17, true, false));
+pg_table03.put(Arrays.asList("c273", "deb5", "bf1d", 0, 184, 1, false, false, null, "d689", "da6", 0, 112437, true, true));
+pg_table03.get("b599");
+pg_table03.put(List.of("b86e3", "e55c", "c77d", 0, 0, 1, false, false, true, "a7f2", "b0ff", 0, 2175, true, true));
+pg_table03.put(List.of("e77f", "f46b", "f92", 2, 23, 689, true, true, false, "ff2", "c234", 1, 0, true, false));
+pg_table03.put(List.of("e511", "cd7", "c576", 0, 1156, 39, true, true, false, "b7aa", "f330", 2, 0, true, false));
+pg_table03.remove("a780");
+pg_table03.get("f8c");
+pg_table03.remove("f9ba");
+pg_table03.put(List.of("a601", "a4a3", "a2a9", 0, 0, 39986, true, false, true, "d458e", "a8a", 1, 0, false, true));
+pg_table03.put(List.of("f80", "dd4f", "a18db", 9, 0, 14359, false, true, true, "d3f30", "ac73", 6, 1206, true, true));
+pg_table03.put(List.of("a6e9", "b211", "ad9a", 75, 77, 77862, true, false, false, "c756", "d422", 0, 0, false, true));
+pg_table03.put(List.of("ebfc", "cac1", "af2d", 9, 155, 514, false, false, false, "f496", "d383", 0, 353, false, false));
+pg_table03.put(List.of("f7a6", "def7", "ae61", 0, 2, 0, true, true, true, "b43", "d434", 0, 10, false, false));
+pg_table03.put(List.of("f5f2", "f8d9", "b6ae", 0, 0, 20, false, false, false, "aa9c", "d686", 0, 0, false, true));
+pg_table03.get("a5fd");
+pg_table03.put(Arrays.asList("f8dd", "c433", "ee2", 1, 0, 237, true, false, true, "f964", null, 0, 0, true, true));
+pg_table03.remove("a9ea1");
+pg_table03.remove("b08f");
+pg_table03.put(List.of("bdad", "d1a", "f45", 2826, 396, 105025, false, true, false, "f81", "ad0b", 14, 0, true, true));
+pg_table03.put(List.of("d7d4", "ec7f", "a1bd", 0, 19, 1, false, true, true, "e62d", "fc9", 0, 0, true, true));
+pg_table03.put(List.of("d6c5", "bda1", "c43f", 1, 9999, 11506, false, false, true, "d02", "e6cc", 527, 907, false, false));
+pg_table03.put(List.of("aebc", "b187", "b79", 0, 15334, 0, false, true, true, "f7aa2", "a6c3", 0, 275, true, true));
+pg_table03.put(List.of("ae64", "dc68", "ca4f", 0, 0, 0, false, false, false, "ec38", "ae87", 241, 216, true, false));
+pg_table03.put(List.of("a6d7", "eecc", "d114", 0, 0, 0, false, false, true, "a386", "b23", 4, 0, false, true));
+pg_table03.remove("dd654");
+pg_table03.put(List.of("adb9", "aea8", "dd61", 0, 33882, 0, true, true, false, "cb31", "cb0", 0, 0, false, true));
+pg_table03.put(List.of("df42", "d126", "c6d0", 0, 628462, 21760, false, false, false, "d618", "a8d0", 0, 175, false, true));
+pg_table03.remove("b861");
+pg_table03.put(List.of("ead7", "d216", "e71e", 1001, 0, 4501, true, true, false, "f2ec", "c4ed", 699, 17, true, false));
+pg_table03.put(Arrays.asList("c6c", "b1cb", "dab6", 5134, 0, 0, false, false, true, "b58", null, 0, 145, true, true));
+pg_table03.put(List.of("abc3", "fb2d7", "f215", 0, 5, 2186, false, true, true, "b50b", "ec37", 11, 0, true, false));
+pg_table03.put(Arrays.asList("fc97", "e5b5", "ec77", null, 316, 0, false, true, false, "ec2", "dbbc", 0, 0, true, true));
+pg_table03.put(List.of("bbb6", "bf3d", "ec1", 0, 0, 13852, true, true, false, "c4a", "a9e7", 9, 0, true, false));
+pg_table03.remove("b5cd");
+pg_table03.remove("ab9e");
+pg_table03.put(List.of("f732", "ab05", "ca04", 1581, 307, 0, true, false, true, "ee27", "efee", 1995, 29458, true, false));
+pg_table03.put(List.of("c8fe", "d3a2", "c15f", 20, 0, 672, false, true, true, "d239", "acd4", 58, 479, true, true));
+pg_table03.get("e494");
+pg_table03.remove("d16");
+pg_table03.put(List.of("dd25", "ab58", "b06a", 0, 17595, 8346, false, false, false, "f746", "f7d7c", 0, 58386, true, true));
+pg_table03.put(List.of("ca8f", "d787", "f397", 0, 0, 0, true, true, true, "b01c", "ddf3", 0, 9, true, false));
+pg_table03.get("fe6c");
+pg_table03.put(List.of("fcae", "f080", "d913", 0, 0, 0, true, true, true, "a47c", "e7e1", 699, 0, false, true));
+pg_table03.put(Arrays.asList("d280", "ba58", "b5e5", null, 0, 0, false, true, false, "c2d4", "d96d", 0, 1025, true, true));
+pg_table03.put(List.of("ef97", "d7c8", "c2c1", 0, 3, 1, true, true, false, "f88", "a240", 4, 104425, false, false));
+pg_table03.put(List.of("a1e", "d5c4", "b3d3", 0, 114, 3191, false, false, true, "d1f7", "a7fb", 24, 0, false, true));
+pg_table03.put(List.of("f93", "fa5c1", "bf49", 0, 28783, 2100, false, false, true, "f2c8", "de9", 101, 0, false, false));
+pg_table03.put(List.of("d3b", "ddcf", "c9e8", 0, 0, 20, false, false, true, "cf59", "b1277", 46, 123701, false, true));
+pg_table03.put(List.of("ccfb", "d60", "b27f", 4, 0, 2, true, false, true, "e2ef", "abf3", 20462, 0, true, true));
+pg_table03.put(List.of("a783", "a3c9", "e17a", 6089, 3551, 0, false, false, true, "a156", "b24e", 1, 6, false, false));
+pg_table03.get("d5014");
+pg_table03.put(List.of("d3e1", "c4c6", "ec26", 0, 5, 152, false, false, true, "adf5", "c2a", 768, 0, false, false));
+pg_table03.put(List.of("c19f", "b1f0", "fc9b", 497, 293, 0, true, true, false, "c37d", "f64d", 67, 43, true, true));
+pg_table03.get("afeb");
+pg_table03.put(List.of("d64c", "e0153", "c701", 1759, 0, 82, false, false, true, "b1ea", "baa6", 0, 30, true, true));
+pg_table03.put(Arrays.asList("f67c", "ed8", "a70b", 2765, 0, 1, true, true, false, "a174", "b19b", 0, 87, true, null));
+pg_table03.remove("a033");
+pg_table03.put(List.of("ac53", "c9cd", "ff66", 0, 1, 1, false, false, true, "b26a", "a27e", 2933, 1187, true, true));
+pg_table03.put(List.of("abca2", "be94", "a92c", 47, 0, 0, true, false, true, "f33e", "c434", 8, 0, false, true));
+pg_table03.put(List.of("af06", "f702", "b257", 0, 0, 0, false, true, true, "b230", "ee54", 47, 0, false, true));
+pg_table03.put(List.of("b7e4", "d59f", "c626", 3060, 27, 0, false, false, false, "c3dbe", "dcf", 224654, 44, false, false));
+pg_table03.put(List.of("ce50", "f91a", "cdc", 1, 0, 59, true, true, false, "af9a", "f63a", 16, 0, false, true));
+pg_table03.put(Arrays.asList("cb7c", "c850e", "b8e8", 1049, 0, 186, null, false, false, "ecb1", "cf8f", 1439, 0, true, false));
+pg_table03.put(List.of("eaa5", "e61a4", "a5d1", 0, 0, 49, false, true, true, "cb09", "b74b", 1, 0, false, false));
+pg_table03.put(List.of("fc8f", "e53", "cbb3", 773, 0, 0, true, false, true, "aef4", "a0aa", 0, 1, true, true));
+pg_table03.remove("e9b7");
+pg_table03.get("b927");
+pg_table03.put(List.of("d52", "aa5f", "ae1", 127, 0, 0, false, false, false, "ddbe", "aab9", 0, 0, false, false));
+pg_table03.put(List.of("daaf", "d985", "bd5d", 0, 65576, 28, true, true, false, "a538", "f17", 148, 0, true, true));
+pg_table03.put(Arrays.asList("ad00", "dbf1", "f3ef", 0, 4807, 0, null, true, false, "d97", "f965", 4093, 0, true, false));
+pg_table03.put(List.of("e5bb", "faa", "ee6f", 41439, 0, 1, false, true, false, "d222", "bad", 0, 33493, false, true));
+pg_table03.remove("a0cf");
+pg_table03.put(List.of("a109", "fb08", "dd1", 232, 0, 0, false, false, true, "b23f", "d6aa", 46, 0, true, false));
+pg_table03.put(List.of("b7fa", "e5928", "ace4", 0, 0, 66, false, false, false, "aa1c", "f494", 3, 0, false, false));
+pg_table03.remove("ec2c");
+pg_table03.put(List.of("eb50", "d160", "c97a", 0, 113, 0, true, true, true, "b37a", "d2a", 7060, 54, true, true));
+pg_table03.put(List.of("e388", "f4aa", "a3215", 0, 62, 0, false, true, true, "c0f7", "beae", 6380, 6, false, false));
+pg_table03.put(List.of("ff71", "efa0", "f762", 0, 0, 1, false, false, false, "db43", "d33", 155, 29, true, true));
+pg_table03.get("d489");
+pg_table03.put(List.of("aece", "d7ee", "fd62", 12, 0, 0, true, true, false, "b17a", "e8a5", 0, 0, false, true));
+pg_table03.put(Arrays.asList("b3c2", "b383", "c1b9", 0, 0, 0, true, false, true, "fc85", "b828", 0, null, true, false));
+pg_table03.get("c2f1");
+pg_table03.put(List.of("ee4e", "bede", "c5f7", 0, 15794, 29, true, false, true, "efa", "f40c", 321, 6, true, true));
+pg_table03.put(List.of("d742", "ec50", "bf5d", 357, 1, 0, true, false, true, "fe4", "c2f4", 0, 0, false, true));
+pg_table03.put(List.of("bb88", "a6b8", "b9d9", 0, 0, 390, true, false, true, "c9eb", "b09b", 2603, 1, true, true));
+pg_table03.remove("d38a");
+pg_table03.put(List.of("daac", "a5c6", "cfa", 5, 422, 0, false, true, false, "df08", "a8a13", 12624, 180, false, false));
+pg_table03.put(List.of("ba331", "c11b", "dfaf", 1276, 4749, 3829, false, false, false, "eca2", "af29", 7, 38, true, true));
+pg_table03.put(List.of("ab60", "a6d1", "c883", 9, 9, 0, true, false, false, "b36e", "b1da", 260, 2743, false, false));
+pg_table03.put(Arrays.asList("c009", "ef25", null, 494, 6, 0, true, true, false, "aca4", "fce5", 0, 0, true, false));
+pg_table03.get("d9f");
+pg_table03.put(List.of("bf86", "b15c", "a8d14", 4355, 122009, 202, true, false, true, "be15", "acd3", 432, 17, true, false));
+pg_table03.remove("ea53");
+pg_table03.put(List.of("e17e", "b406", "b9ca", 1088, 17, 9, true, true, true, "c8d6b", "dd9f", 1629, 295, false, false));
+pg_table03.put(Arrays.asList("e4e1", "ad88", "c5de", null, 0, 0, null, false, true, "d685", "ed2", 4, 0, false, false));
+pg_table03.get("bf56");
+pg_table03.put(Arrays.asList("a128", "ef9e", "a886", 0, 16, 0, true, true, false, "d462", "edca", null, 5, false, false));
+pg_table03.put(List.of("e1110", "c1e6", "f9904", 0, 9, 0, true, false, true, "fe58", "b9934", 0, 111, true, false));
+pg_table03.remove("ab1f");
+pg_table03.get("abc2");
+pg_table03.remove("fdd4");
+pg_table03.get("f4be");
+pg_table03.put(List.of("d3e", "cc08", "c808", 11644, 63, 10, false, true, false, "d6702", "ba38", 0, 0, false, true));
+pg_table03.remove("e963");
+pg_table03.put(Arrays.asList("b2d", "b03e9", "c28b", 40494, 2, null, false, false, true, "b80f1", "ceda", 174, 0, false, true));
+pg_table03.put(List.of("f642", "c95f", "af64", 0, 1, 0, true, true, false, "dec", "e333", 236, 8, true, true));
+pg_table03.put(List.of("fb6a6", "bd3d", "a629", 2218, 11242, 248, true, false, false, "fcb5f", "c3d3", 213, 0, true, false));
+pg_table03.put(Arrays.asList("df72a", "fba5", "e86f", 0, 0, 0, null, false, true, "e34", "a12b", 0, 0, false, true));
+pg_table03.put(List.of("a898", "e265b", "a728", 0, 7, 78, false, true, true, "a6afa", "bed", 0, 0, false, false));
+pg_table03.put(List.of("a40e", "f8d", "dd46", 312, 8259, 24, true, false, true, "aa4e", "f4e1", 939, 2438, false, false));
+pg_table03.get("c746");
+pg_table03.put(List.of("d687", "c842", "d587", 20, 214, 1533, true, true, false, "f54d", "bce1", 5, 0, false, true));
+pg_table03.put(List.of("fd9", "cc0", "dcae", 51, 178, 0, true, false, true, "dbd96", "c305", 4, 0, true, true));
+pg_table03.put(Arrays.asList("f2a", "f9d0", "a16d", 0, 0, 19835, false, true, false, "a7d4", "adc3", 585, 0, null, true));
+pg_table03.put(List.of("bdb3", "b475", "d4fe", 0, 26622, 0, true, true, true, "f46a8", "b39a4", 0, 1278777, false, false));
+pg_table03.get("b55f");
+pg_table03.put(List.of("be01", "cdd", "de781", 0, 203, 20, false, true, false, "db2a", "faa5", 230, 19, true, false));
+pg_table03.put(List.of("ed68", "e672", "ea37", 22, 0, 0, true, true, false, "ad85", "c217", 3, 0, false, false));
+pg_table03.put(List.of("f38a", "e00a", "b439", 8747, 183, 3, false, false, true, "c964", "ab8e", 0, 0, true, true));
+pg_table03.put(List.of("fca6", "ca63", "b615", 14377, 0, 6, false, true, false, "dc2", "b707", 22192, 1699, false, false));
+pg_table03.remove("c5f8");
+pg_table03.remove("a7b7");
+pg_table03.get("ed6ab");
+pg_table03.put(List.of("e5d3", "d273", "ad5", 147874, 0, 0, false, false, true, "bcb9", "db5", 410, 551, false, false));
+pg_table03.put(List.of("cdad", "eb8", "af9b", 2, 2235, 0, true, true, false, "be3d", "b08b", 0, 1, true, true));
+pg_table03.put(List.of("fbf1", "af6b", "c36c", 1649, 0, 20, false, true, true, "a6a7", "f1aaa", 142851, 0, true, true));
+pg_table03.put(List.of("a72a", "dafd", "faf5", 19216, 525, 0, false, true, false, "e157", "d6ee", 14598, 87, false, true));
+pg_table03.put(List.of("eb82", "f945", "fe2d", 0, 311, 0, true, false, false, "d1d0", "e1a0", 0, 9, false, true));
+pg_table03.put(List.of("e2d3", "d677", "e78", 25210, 540, 64, true, true, false, "fd4b", "ae5b", 691, 0, false, true));
+pg_table03.put(Arrays.asList("b3a4b", "e20a", "e140", 0, 588, 2, true, true, false, "a03e", null, 227, 146, true, false));
+pg_table03.remove("e019");
+pg_table03.put(List.of("f181", "eff", "bf41", 0, 0, 11, true, false, true, "cc546", "b8cc", 4, 1689, false, false));
+pg_table03.put(List.of("d76c", "db86", "d418", 0, 1, 336, false, false, false, "a42d", "a9b5", 0, 0, true, false));
+pg_table03.put(List.of("b39b", "b4c3", "b8ea", 1722, 7, 0, false, false, false, "a516", "fe37", 0, 25, true, true));
+pg_table03.put(List.of("c5f", "a4af", "c5c3", 0, 508, 1984443, true, false, true, "aaf3a", "b9ed", 0, 4, true, false));
+pg_table03.put(List.of("f4a4", "cfc", "a0e9", 1, 1327, 88874, true, false, true, "d728", "a2b7", 1, 33437, false, true));
+pg_table03.put(Arrays.asList(null, "cc05", "a8b6", 0, 0, 0, true, false, false, "ab50", "c100", 6963, 7420, false, true));
+pg_table03.put(List.of("f894", "facf", "b220", 0, 9, 159, true, false, true, "a27", "fe0", 26, 5, false, true));
+pg_table03.put(List.of("cdaa", "f760", "ab49", 2804, 0, 0, false, false, false, "ea51", "df1f", 3, 2725, false, true));
+pg_table03.put(List.of("dc31", "d6a0", "a9b1", 1, 0, 31, false, false, false, "cbf6", "c6bf", 33566, 35, false, false));
+pg_table03.put(List.of("afd4", "a4da", "a1a6", 0, 0, 238, true, true, false, "ef0", "e567", 0, 39578, false, false));
+pg_table03.put(List.of("eef8", "f327", "cc1", 1, 143, 5738, false, false, true, "ecc3", "c6f6", 0, 15, false, true));
+pg_table03.put(List.of("f975", "e3d2", "cb4", 3, 0, 979, true, true, true, "ab3f", "fa0b", 0, 0, true, false));
+pg_table03.put(Arrays.asList("fa53", "ed36", "bb73", 0, 7425, 0, false, false, null, "b4fe", "c2060", 227, 14, false, false));
+pg_table03.put(List.of("e181", "a9b3", "ca0e", 0, 4, 140, false, false, false, "e853", "fca1", 169, 81, false, false));
+pg_table03.remove("a30d");
+pg_table03.remove("c619");
+pg_table03.put(List.of("a407", "d72b", "acb2d", 1497, 114, 26, false, true, true, "e667", "f256", 15, 0, true, true));
+pg_table03.put(Arrays.asList("edc0", "d93", "ffff", 0, 0, 9, true, true, null, "ac6f", "ff74", 0, 0, true, false));
+pg_table03.remove("baf8");
+pg_table03.put(List.of("d6b4", "b85", "b0c0", 10004, 0, 1, false, true, false, "c2fea", "b570", 0, 49, false, true));
+pg_table03.remove("c7c9");
+pg_table03.put(List.of("acb7", "e0e7", "fbc6", 400, 0, 46, false, false, false, "d9b6", "cbdb", 0, 0, true, true));
+pg_table03.get("c901");
+pg_table03.get("a2f2d");
+pg_table03.put(List.of("dcdb", "e1a", "f75c", 1236, 0, 0, true, true, true, "a441", "c259", 3787, 3478, true, false));
+pg_table03.put(List.of("ccf3", "e243", "a175", 0, 1905, 0, false, true, true, "a34b", "d077", 0, 5, true, false));
+pg_table03.put(Arrays.asList("d753", "d628", "cf3f", 0, 811, null, false, false, false, "a869", "c3ae", 21125, 34, true, false));
+pg_table03.put(List.of("c49c", "caba", "f88f", 0, 199, 0, true, false, true, "e6d", "e63e", 13174, 58, false, true));
+pg_table03.put(Arrays.asList("d9a4", "f46ed", "e0ec", 86756, 0, 2, false, null, false, "a7f5", "aa76", 0, 8587, null, true));
+pg_table03.put(List.of("d8e5", "a1f2", "a4d7", 4, 49013, 0, false, false, true, "cd68", "ab56", 0, 0, true, false));
+pg_table03.put(List.of("c6832", "a2bd5", "b878", 1, 327, 0, false, true, true, "ae6e", "ab03", 9, 0, false, true));
+pg_table03.put(List.of("b7ad", "b73f", "c269", 124380, 85, 11, true, true, true, "f250", "a888", 6936, 1621, true, false));
+pg_table03.remove("bd49");
+pg_table03.get("ec32");
+pg_table03.put(List.of("ca77", "ce20", "e9c4", 29, 0, 34759, true, true, false, "a150", "afca", 0, 28, false, false));
+pg_table03.put(List.of("af00", "ea1a", "f337", 0, 0, 0, false, false, true, "a3a00", "a844", 10, 3, true, true));
+pg_table03.put(List.of("b04f", "e0df", "ad27", 0, 0, 10, false, true, true, "bcfd", "c01a", 0, 67, false, true));
+pg_table03.put(List.of("e04b", "a617", "cbec", 0, 0, 0, true, false, false, "d5ec", "eebb", 0, 0, true, true));
+pg_table03.remove("ae30");
+pg_table03.put(Arrays.asList("c1f0", "c94f", "e7e8", 804, null, 12567, false, true, false, "b050", "f2f44", 0, 0, true, true));
+pg_table03.get("f9c3");
+pg_table03.put(List.of("b2350", "dcd4", "d6e6", 39, 0, 0, false, true, false, "c59d", "a4033", 0, 0, true, false));
+pg_table03.put(List.of("aadb", "edb7", "d8f0", 0, 4, 24601, false, true, true, "de3d", "dc64", 15, 0, true, true));
+pg_table03.put(List.of("da90", "a4651", "af4a", 0, 0, 0, false, true, true, "f574", "cca2", 0, 0, false, false));
+pg_table03.remove("d5dd");
+pg_table03.put(List.of("c383a", "e4b6f", "fe2", 10443, 0, 2, true, true, true, "b722", "a6d9", 0, 27, true, true));
+pg_table03.put(List.of("af44", "bfea", "bb1f", 0, 73741, 56, false, true, true, "bb2d", "aef9", 2513, 16068, true, true));
+pg_table03.remove("e8f6");
+pg_table03.remove("edf1");
+pg_table03.put(Arrays.asList("c0840", "bcf3", "f232", null, 0, 0, false, false, false, "a22f", "d032", 41, 6008, true, true));
+pg_table03.remove("d667");
+pg_table03.put(List.of("a8f2", "a7a1", "b228", 54, 0, 0, true, false, false, "b6e4", "f5b6", 39, 6086, false, true));
+pg_table03.put(List.of("da36", "a1838", "ca58", 0, 0, 11, true, false, true, "b5161", "bb2a", 232, 75972, false, false));
+pg_table03.remove("cac5");
+pg_table03.put(List.of("f4cc", "a7a2", "c2b4", 0, 0, 15, false, false, true, "c8ada", "e325", 1, 322, false, false));
+pg_table03.remove("c187");
+pg_table03.remove("fa46");
+pg_table03.put(List.of("bc83", "f03", "d044", 0, 0, 83842, false, false, true, "bf97", "c86e", 121, 8914, false, true));
+pg_table03.put(List.of("a3e5", "afc8", "cff6", 0, 1, 176, false, false, true, "aedfc", "c01ef", 71106, 11, true, true));
+pg_table03.put(List.of("a75c", "d726", "ec2d", 1835, 0, 1646, true, true, true, "c6f7", "cf4f", 0, 37927, false, true));
+pg_table03.put(List.of("b03d", "d3ec", "a5f2", 12115, 126, 0, false, false, false, "d33a", "cae6", 0, 10, true, true));
+pg_table03.put(List.of("bda6", "ffbe", "e250", 3639, 176, 257, true, false, true, "ec41", "bc8b", 2484, 0, true, false));
+pg_table03.put(Arrays.asList("d3e4", "f5a8", "d7f0", 0, 54, 0, false, true, false, "e5f", null, 0, 7158, false, false));
+pg_table03.remove("c69f");
+pg_table03.put(List.of("d022", "e881f", "d1ca", 0, 0, 7123, false, false, false, "ddcc", "a3b71", 0, 11, false, true));
+pg_table03.put(List.of("ac1d", "dd88", "fa1c", 2378, 0, 72, true, true, true, "a23d", "b988", 0, 0, false, true));
+pg_table03.put(Arrays.asList("de71", null, "bce7", 1, 0, 0, true, true, false, "c676", "b087", 0, 1300, true, true));
+pg_table03.put(Arrays.asList("ce0e", "e387", "cbdc", 0, 2109, 7, false, false, false, "b90c", "d7cd", null, 0, true, false));
+pg_table03.put(List.of("f3c6", "a147", "e6be0", 485, 1438, 2705, false, false, true, "a79b8", "fe98", 0, 3, false, true));
+pg_table03.put(List.of("f9a4", "af9", "f5d", 0, 43, 1306, false, true, true, "d1614", "f0ce", 0, 915020, true, false));
+pg_table03.remove("e93b");
+pg_table03.put(Arrays.asList("cbcf", "f2d63", "fa91", 20, 0, 17663, true, true, null, "a2de", "a95f", 1103, 0, false, true));
+pg_table03.remove("bb33");
+pg_table03.put(List.of("eded", "aae5", "dea", 0, 0, 223, true, false, true, "d2e9", "f97c", 20, 810, false, true));
+pg_table03.put(List.of("ba914", "f6b", "a5d31", 107021, 0, 6, true, true, false, "fb39", "a488", 0, 0, false, false));
+pg_table03.remove("e80c");
+pg_table03.remove("a6ad");
+pg_table03.put(List.of("b8ce", "bb31", "bfe6", 0, 31, 402168, false, false, true, "b4f2", "e57ff", 73128, 3186, false, false));
+pg_table03.put(List.of("cbe6", "bc99", "f400", 0, 304, 0, false, true, false, "d75a", "b949", 0, 13436, true, true));
+pg_table03.put(List.of("ccea", "aa56", "da3f", 220, 988, 333, true, true, true, "d2d5", "b7b9", 9423, 0, false, true));
+pg_table03.put(List.of("b158", "c5a4", "f77e", 4, 0, 2785, true, false, true, "f7ec", "a195", 0, 5, true, true));
+pg_table03.put(Arrays.asList("ce1c", null, "c285", 1371, 1665, 8555, false, false, true, "e20c", "e2c1", 24, 401, true, false));
+pg_table03.put(List.of("f673", "ab31", "bd6f", 0, 0, 666, true, false, false, "e05df", "c29e", 1055, 0, true, false));
+pg_table03.remove("da13");
+pg_table03.put(List.of("a0c6", "b5a7", "a45e4", 114, 4, 67, false, false, false, "f371", "a845", 5, 1, false, false));
+pg_table03.put(List.of("a179", "bd4d", "ae89", 1, 616, 1129, false, true, true, "d11", "b7b1", 31, 0, true, false));
+pg_table03.remove("f601");
+pg_table03.put(List.of("b1dc", "b748", "d133", 1, 24, 68, true, true, true, "aea5", "f9ff", 363127, 25129, true, false));
+pg_table03.put(List.of("ea11", "b08e", "fb83", 0, 0, 0, true, false, true, "a568", "c4fc", 1, 0, false, false));
+pg_table03.put(List.of("a965e", "c5fe9", "a7e6", 1878, 6, 0, false, false, false, "acd1", "ee24", 0, 0, true, false));
+pg_table03.put(List.of("a751", "c520", "d8ef", 19, 25, 382, true, true, true, "ab6e", "d8f5", 0, 0, false, true));
+pg_table03.put(List.of("d5e1", "ed9c", "a674", 0, 744, 7077, true, false, true, "c0a4", "cba1", 112, 1, false, false));
+pg_table03.put(List.of("df7e", "e3a7", "e37c", 0, 49, 54, true, false, false, "dd93", "ef3", 0, 888, true, true));
+pg_table03.put(Arrays.asList("b6be", "ff68", "f29", 0, 58, 8, false, false, false, "fa4", "a675", 173, null, true, false));
+pg_table03.put(List.of("d482", "ccdf", "db52", 80, 2, 0, true, false, true, "f251", "db0b", 0, 0, true, true));
+pg_table03.put(List.of("b1ce", "bb00", "bd36", 1638, 114660, 7955, false, true, false, "b294", "ac66", 0, 251, false, false));
+pg_table03.put(List.of("ed37", "fadf", "d4ef", 0, 24002, 0, false, false, false, "bb0e", "a66c1", 0, 0, false, true));
+pg_table03.put(List.of("f653", "f3b", "e8d1", 0, 0, 15596, true, true, true, "cab8", "cddc", 1, 198, false, false));
+pg_table03.remove("c1e1");
+pg_table03.put(List.of("a671", "d037", "adc6", 0, 11, 442, true, false, true, "b233", "c13c", 40, 0, false, true));
+pg_table03.put(List.of("c73e8", "a736", "b0d6", 30, 20, 34381, true, false, false, "c640", "c05e", 386, 31, true, false));
+pg_table03.get("ac1a");
+pg_table03.put(List.of("cd8d", "ca52", "dc1a", 4585, 1, 10, true, false, false, "b774", "a4c4", 0, 0, true, true));
+pg_table03.put(List.of("d773", "ae49", "fdf6", 114, 0, 71906, false, false, false, "ed17", "d2677", 0, 0, true, false));
+pg_table03.put(List.of("aaa6", "eabe", "c0dd", 0, 0, 12, false, true, false, "a5e9", "e2eb", 2255, 21, true, false));
+pg_table03.put(List.of("dfd5", "ce95", "e207", 0, 108, 184, true, false, true, "bf5c", "be85", 0, 0, true, true));
+pg_table03.put(Arrays.asList("ed96", "db22", "abfb", 4, 16, 53, true, false, true, "a5ab", "ed1", 0, 0, false, null));
+pg_table03.put(List.of("dfbb", "e763", "f5e", 6, 0, 6541, true, false, true, "b98a", "afd8", 7781, 0, false, true));
+pg_table03.put(List.of("b506", "c9b6", "c6f0", 2895, 4257, 63750, false, true, true, "b7a62", "dc99", 52, 0, false, true));
+pg_table03.put(List.of("b984", "d10f", "d211", 108, 0, 70, true, true, true, "a316", "e3913", 0, 0, true, true));
+pg_table03.put(List.of("e34b", "eeb5", "af30", 1, 0, 0, false, true, true, "d016f", "b768", 0, 11, false, true));
+pg_table03.put(List.of("b3b4", "c276", "a7f0", 0, 0, 0, true, false, false, "d122", "a7b8", 2, 4, false, false));
+pg_table03.put(List.of("dad6", "d8e8", "b415", 41, 0, 0, false, false, true, "b51a", "b8ba", 0, 0, true, false));
+pg_table03.put(List.of("bf7e", "f011", "aaf0", 0, 0, 0, false, true, true, "fead", "becc", 3169, 16, true, false));
+pg_table03.put(List.of("b7e1", "f774", "c9b9", 58, 990, 169, true, false, true, "ceb8", "d2a6", 42913, 0, true, true));
+pg_table03.put(List.of("fe9", "e7b2", "a072", 343, 215162, 4533, false, false, false, "ad0a", "b4d1", 1, 24, true, false));
+pg_table03.put(List.of("a838b", "b1e1", "d200", 0, 65, 11, false, true, true, "ffb7", "e003", 39, 18, true, false));
+pg_table03.put(List.of("ad99b", "d49e", "e881", 890, 1, 0, false, false, true, "c237", "e08b", 0, 0, true, true));
+pg_table03.put(List.of("ad72", "dbf0", "f932", 1, 0, 0, true, true, false, "eb39", "e6db", 3, 1605, true, false));
+pg_table03.put(List.of("b47f", "f22e", "eed1", 0, 9, 21, false, false, true, "ea57", "d4b6", 126, 0, true, false));
+pg_table03.put(List.of("f410", "b5f7", "bb9b", 120, 0, 0, true, false, false, "fd86", "bee8", 8, 0, false, false));
+pg_table03.get("e593");
+pg_table03.put(List.of("d67e", "bbad", "c4e1", 0, 1, 216, true, true, true, "b3f6f", "a115", 6774, 0, false, true));
+pg_table03.put(List.of("d96c", "a3e89", "c292", 17, 91, 0, true, false, true, "d20e", "d77a", 9944, 1, false, false));
+pg_table03.put(List.of("c3b5", "c397", "d0fd", 13, 38, 0, true, true, true, "b28c", "d1ef", 0, 94029, true, false));
+pg_table03.put(List.of("d84f", "c4ec", "be78", 0, 0, 0, false, true, false, "cc64", "fed5", 0, 0, false, true));
+pg_table03.put(List.of("dd24", "a9ba", "c8bf", 0, 19, 0, false, true, false, "e8ac6", "ffd7", 1, 39, true, false));
+pg_table03.put(List.of("a404", "c262", "e12a", 0, 0, 0, true, true, true, "a7b6", "dcbe", 302, 53553, true, false));
+pg_table03.put(List.of("fbd06", "c3778", "fc5c", 9541, 0, 0, false, false, true, "da54", "f00", 0, 0, true, true));
+pg_table03.put(List.of("bc7e", "e9f2", "b968", 0, 786, 0, true, true, false, "a7fd", "a39ce", 0, 0, false, true));
+pg_table03.put(List.of("c1c2", "b71a", "dbb1", 10, 0, 0, true, true, false, "eb1a", "e55", 1, 708, true, true));
+pg_table03.put(List.of("b409", "d0a7", "ea8a", 0, 0, 0, true, true, true, "f6f4", "f856", 1, 0, true, false));
+pg_table03.put(List.of("ab46", "d0d0", "dec4", 1, 0, 0, false, false, false, "d317", "b5ea", 1107, 0, false, true));
+pg_table03.put(List.of("b957", "aa97b", "a926f", 160, 2, 120, false, true, true, "ba49", "d540", 672, 1887, true, false));
+pg_table03.remove("c930");
+pg_table03.put(List.of("a37b", "e1b8", "b46a", 0, 18, 3, false, true, false, "bb5c2", "e2bd", 7, 0, true, true));
+pg_table03.get("dbf3");
+pg_table03.remove("f979");
+pg_table03.put(List.of("bcd2", "eea6", "af6d", 0, 0, 7568, true, true, false, "c789", "e680", 3, 1241, false, true));
+pg_table03.put(List.of("bd3f", "dee5", "c0048", 20, 306, 0, false, true, true, "f659", "e66", 25, 860, true, true));
+pg_table03.put(List.of("e897", "d48f", "ffd9", 0, 0, 673, true, false, false, "a039", "cf40", 31281, 13262, true, true));
+pg_table03.put(Arrays.asList(null, "e89a", "a102f", 0, 366771, 13, true, true, true, "f378", "e49f", 1, 11149, false, true));
+pg_table03.put(List.of("b24b", "fa8e", "e922", 3889, 0, 412, false, false, true, "fcb4", "f87f", 1861, 1297, false, true));
+pg_table03.put(List.of("f63e", "ae33", "a83b", 0, 0, 0, true, true, false, "de08", "f1df", 97, 0, false, true));
+pg_table03.remove("ecfb");
+pg_table03.put(List.of("d04d", "c06", "d090", 7, 0, 27, true, false, true, "a1be", "f118", 0, 136, false, true));
+pg_table03.put(List.of("cc1a", "aa7f", "bd4b", 0, 2, 0, true, false, false, "ea5a", "e18c", 342363, 0, true, true));
+pg_table03.put(List.of("bc2b", "ad6a", "fd7", 0, 7017, 0, true, true, false, "f032", "b92e", 51, 0, true, true));
+pg_table03.put(List.of("b716", "fb9c", "db1", 1, 0, 0, true, false, false, "f8e5", "bf6c", 0, 5, false, false));
+pg_table03.put(List.of("bb5f", "e4e", "ce1f", 0, 23404, 580, false, true, false, "a0ed6", "d6d4", 15, 0, false, false));
+pg_table03.put(List.of("b13b", "d3e3", "bff4", 26, 8, 107, false, false, false, "ca8e4", "de6f", 3408, 438, false, true));
+pg_table03.put(List.of("feb9", "a8e2b", "a9c6a", 0, 6, 0, false, true, true, "b5d6", "be4f", 0, 178, false, false));
+pg_table03.put(List.of("d511", "d54f", "ab43", 5, 9, 72, true, false, false, "ccf0", "d97d", 0, 0, true, true));
+pg_table03.remove("e1c5");
+pg_table03.remove("b326");
+pg_table03.put(List.of("f48", "fb57", "db1d", 2135, 0, 0, false, false, true, "e634", "b9a7", 367, 0, false, false));
+pg_table03.put(List.of("b5ec", "b8ad0", "a90e", 44323, 29, 7, true, false, true, "e1a6", "b56d", 0, 0, true, false));
+pg_table03.put(List.of("de6c", "cc26", "d1b0", 1158, 10255, 0, false, true, true, "baed", "d115", 0, 0, false, false));
+pg_table03.put(List.of("dd9c", "f057", "ba28", 0, 1711, 0, true, false, true, "eb72", "f73f", 653, 7, false, false));
+pg_table03.put(List.of("c54b", "f048", "d049", 0, 51, 409798, false, false, false, "d553", "b6a7", 0, 52, true, true));
+pg_table03.put(List.of("b607", "d00e", "ffbd", 0, 0, 0, false, false, false, "c31f", "d2344", 0, 0, false, false));
+pg_table03.get("e917");
+pg_table03.remove("ab11");
+pg_table03.get("ca91");
+pg_table03.put(List.of("f8be", "c791", "b3a7", 10, 0, 4461, false, true, false, "c9e3", "b6061", 0, 6664, true, true));
+pg_table03.put(List.of("a004f", "ce99", "f6d5", 238, 0, 0, true, false, true, "ce3e", "beea", 391, 0, true, true));
+pg_table03.put(List.of("c498", "dcd", "b732", 0, 2, 23779, true, false, false, "f914", "c9f1", 38, 7, true, false));
+pg_table03.put(List.of("dc3c", "a817", "a8ac", 0, 0, 1380, false, true, false, "f70f", "ea9", 0, 141, true, true));
+pg_table03.put(Arrays.asList("dd2", "b83b", null, 0, 517, 1, true, false, false, "a58b5", "f80b", 0, 143, false, true));
+pg_table03.get("cbac3");
+pg_table03.put(List.of("b799e", "c3f0", "c5c1", 86, 115695, 5, true, false, false, "afcb", "f84a", 0, 2816, true, false));
+pg_table03.remove("fb89");
+pg_table03.put(List.of("f3c0", "d9f0", "c56b", 0, 0, 2752, false, true, true, "c98f", "d083", 19, 234, false, false));
+pg_table03.put(List.of("daba", "a06c", "ae2b", 10, 0, 0, true, true, true, "ce98", "f04e", 0, 42683, true, true));
+pg_table03.put(Arrays.asList("fdf7", "a4cb", "d47c", 1104, 0, null, true, false, true, "abd5a", "f9af", 0, 3542, false, true));
+pg_table03.put(List.of("a0e8", "a335", "ea04", 0, 619, 0, true, false, true, "de1d8", "c3bb", 0, 943, false, true));
+pg_table03.put(List.of("ef8b", "ab5e", "c19d", 13096, 111, 5, true, false, false, "d2e0", "c8bd", 1608, 66, false, false));
+pg_table03.put(List.of("b0c4", "a9d2", "d07e", 64724, 2357, 372, true, false, true, "fb7a", "cd66", 0, 17, false, false));
+pg_table03.put(List.of("c7e6", "a648", "c00c", 0, 26, 1031, true, false, true, "bafe", "c62e", 48, 156, true, false));
+pg_table03.remove("ac62");
+pg_table03.put(List.of("a2b3", "d8d9", "d6a04", 0, 2, 4125, true, true, false, "e3d9", "aac4", 137, 0, true, false));
+pg_table03.remove("c5d85");
+pg_table03.put(List.of("cc582", "a588", "a5fc", 1458, 0, 0, false, true, false, "c891", "d3a1", 0, 0, false, true));
+pg_table03.put(List.of("e586", "b2f1", "b315", 2376, 65, 21, true, false, true, "afb4", "f5a4", 0, 0, false, true));
+pg_table03.put(List.of("a9ea", "f384", "d823", 0, 0, 0, true, false, false, "d7cc", "ef94", 42652, 627045, false, false));
+pg_table03.remove("bd46");
+pg_table03.put(List.of("b79c", "b1e93", "ca2c", 0, 10839, 0, false, false, false, "a26e", "f25", 0, 33, true, false));
+pg_table03.put(List.of("a720", "a384", "e623", 0, 83, 0, true, false, true, "cdfbb", "a3b8", 0, 0, false, true));
+pg_table03.put(List.of("e457ec", "e264", "a038", 0, 2541, 0, false, true, false, "c041", "d202", 0, 2, false, true));
+pg_table03.put(List.of("a6e6", "e950", "a61d", 22, 3, 50719, false, true, true, "a11c", "ad23", 46, 0, true, true));
+pg_table03.get("b081");
+pg_table03.put(Arrays.asList(null, "b421", "bf6b", 0, 0, 0, null, false, true, "e50e", "a155", 5, 2479, true, true));
+pg_table03.put(List.of("a87a", "f665", "c23d9", 40, 0, 29, false, false, true, "f314", "a4fc", 1, 262, true, true));
+pg_table03.put(List.of("e35c", "b520", "d414", 15, 0, 94878, true, true, true, "eea4", "a761", 101, 0, true, false));
+pg_table03.put(List.of("c729", "cc9d", "dc4b", 2, 0, 59, false, false, false, "d99b", "ecc", 6793, 36, false, true));
+pg_table03.put(List.of("d14d", "ea2bf", "b7c9", 489, 0, 35, true, true, false, "b022", "aa89", 0, 63, false, false));
+pg_table03.remove("d79f");
+pg_table03.put(List.of("dbca", "ef9b", "bdb4", 158, 2274982, 0, false, true, false, "a85c", "f8cf8", 0, 1, false, false));
+pg_table03.put(List.of("f819", "b8af", "a930", 13296, 0, 1555, true, true, false, "d90d", "a29a", 714, 10, true, false));
+pg_table03.put(List.of("b8540", "c6e2", "ca2d", 0, 19, 0, true, true, true, "adba", "ac63", 31274, 108019, false, true));
+pg_table03.put(List.of("aeaf", "c517", "c9fe8", 14, 5115, 0, true, true, true, "a38c", "f2b7", 0, 10404, true, true));
+pg_table03.put(List.of("ab32", "d1eb", "c01a6", 0, 53131, 7072, true, true, true, "ef1", "be24", 0, 0, true, true));
+pg_table03.get("f7ba");
+pg_table03.put(Arrays.asList("d60e", "b597", "fc21", 0, 0, null, true, true, true, "b7b7", "f97f", 12, 0, false, true));
+pg_table03.remove("ac2e");
+pg_table03.put(List.of("a39d", "e97c", "d4c2", 51, 621, 0, true, true, false, "c6d2", "cd9ad", 0, 0, false, false));
+pg_table03.remove("df62");
+pg_table03.put(List.of("dbd3", "b8ff", "d2bc", 73, 0, 0, true, false, true, "d213", "c682", 185, 92, true, true));
+pg_table03.put(List.of("e244", "c52c", "e46b", 0, 0, 7566, false, false, true, "ff12", "d25f", 36, 22, false, false));
+pg_table03.put(Arrays.asList("f4bc3", "c08b", "a3ef", 15, null, 9212, true, true, false, "eaee", "b545e", 0, 14, true, false));
+pg_table03.put(List.of("b054", "fbab", "b2a6", 0, 0, 708, true, true, false, "bf28", "f39", 0, 2631, false, true));
+pg_table03.put(List.of("d2955", "b87d", "d92f", 0, 3799, 0, true, false, false, "c239", "f792", 0, 0, false, false));
+pg_table03.put(List.of("e1b4", "c90f", "fbaf", 196, 0, 0, false, true, true, "bccf", "b070", 275, 0, false, false));
+pg_table03.put(List.of("b73d", "a355", "ae20", 0, 8, 0, true, true, true, "ccb6", "eb31", 0, 0, false, false));
+pg_table03.put(Arrays.asList("f147a", null, "bb970", 62739, 185, 3, true, false, false, "a1d3", "bd54", 0, 43, false, false));
+pg_table03.put(List.of("d599", "a2d2", "c0fc", 43502, 0, 0, false, true, false, "ee8", "aa79", 1, 8, false, true));
+pg_table03.put(List.of("b43e", "b27c", "dd3b", 1266, 22, 6, true, false, true, "def47", "dce5", 50905, 0, true, false));
+pg_table03.put(List.of("cc44", "c8a2", "c4285", 597, 1168, 144, true, false, true, "c4c8", "efa4", 55, 0, true, false));
+pg_table03.put(List.of("cb8e", "c33e", "f5d5", 1119, 18, 35, false, false, false, "dc05", "a448", 0, 2176, true, false));
+pg_table03.put(List.of("c99f", "e8fc", "a28a", 0, 0, 463, true, false, true, "ea5b", "ec6f", 0, 74, false, false));
+pg_table03.get("cb22");
+pg_table03.put(Arrays.asList("f126", "dac46", "a13d", 0, 26, 0, false, false, false, "b16d", "c580", 0, 94, false, null));
+pg_table03.get("b3bd");
+pg_table03.put(Arrays.asList("b180", "eb18", null, 0, 955, 250, false, false, true, "b032", "c007", null, 0, false, true));
+pg_table03.put(Arrays.asList("a06af", "bce9", "c2f0", 14556, 5, 4677, false, true, false, "b441", null, 685, 0, false, false));
+pg_table03.remove("a577");
+pg_table03.put(List.of("c4dc", "cd07", "ac20", 0, 2, 26, true, false, true, "b49a", "a309", 166, 2937, false, false));
+pg_table03.get("eb8f");
+pg_table03.remove("a54f5");
+pg_table03.put(List.of("b71c", "e940", "b6af", 0, 69443, 26, true, false, true, "d1c3", "b1f7", 6, 1177, true, true));
+pg_table03.put(List.of("a6a1", "dbec", "e49d", 3591, 1531, 0, true, false, true, "e9b0", "f6b2", 1, 5580, true, true));
+pg_table03.put(List.of("a67d", "c9fb", "eff9", 1540, 328, 283, false, false, false, "d6cf", "d546", 4056, 0, false, false));
+pg_table03.put(List.of("a012c", "afd87", "ff6", 0, 0, 0, true, false, false, "afd5", "b414", 4, 485, false, true));
+pg_table03.put(List.of("b2423", "af9e", "bb6a", 70, 0, 55, true, false, true, "ac75", "f37f", 0, 166, true, true));
+pg_table03.remove("d42c");
+pg_table03.put(Arrays.asList("a0b3", "b354", null, 0, 99997, 13733, false, false, true, "a304", "af18", 563, 2718, true, false));
+pg_table03.put(List.of("f2d4", "ed57", "edcf9", 0, 1861, 0, true, false, false, "a8cd", "debe", 239, 0, true, false));
+pg_table03.put(List.of("c9b7", "a995", "c098a", 88, 36, 458, false, true, true, "caef", "dc9c", 32, 2577, true, true));
+pg_table03.put(List.of("ba07", "fff3", "a8ab", 0, 173, 8, false, false, true, "abae", "f5853", 194, 0, false, false));
+pg_table03.put(List.of("ce5d1", "cdc7", "cbe9", 0, 44, 510, true, true, false, "b0ad", "e8ae", 100, 13497, false, true));
+pg_table03.put(List.of("be68e", "a9d0", "a39b3", 8, 27, 0, false, true, true, "b2fe", "ae58", 30289, 0, true, true));
+pg_table03.remove("a81a");
+pg_table03.put(List.of("d2c6e", "dcf5", "a727", 0, 1829, 0, true, true, true, "dcbf", "ddd6", 5, 8537, true, true));
+pg_table03.remove("eef5");
+pg_table03.put(Arrays.asList("c0c0", "ea7f", "abafe", 5229, 1653, 0, true, false, false, "ca8b", "e5e", 0, 0, null, true));
+pg_table03.put(List.of("b303", "a209", "fa54", 317, 0, 1, false, false, false, "ae27", "c142", 6010, 7491, true, false));
+pg_table03.put(List.of("abf5", "ae86", "ed47", 65, 6, 4, false, false, true, "d446", "c9d2", 3, 0, true, false));
+pg_table03.remove("eb79");
+pg_table03.put(List.of("e6e", "b012", "a5de", 1889, 3, 0, true, true, false, "dd98", "cff7", 27, 1, true, false));
+pg_table03.put(List.of("c443", "ce8b", "b27e", 0, 450, 1610, false, false, true, "fe4a", "f62d", 109, 0, false, false));
+pg_table03.get("b0a7");
+pg_table03.put(Arrays.asList("d52dc", "abf20", null, 8, 0, 46, true, true, false, "c7c1", "eee2", 1, 0, false, false));
+pg_table03.put(List.of("d945", "dcb2", "d494", 12, 13058, 5, true, true, false, "a0f80", "cab3", 0, 184, true, true));
+pg_table03.put(List.of("c675", "e6ed", "e6d6", 0, 0, 7, true, false, false, "c3b", "a778", 9, 0, false, false));
+pg_table03.get("ceb1");
+pg_table03.put(List.of("ce2d", "a584", "ceec", 47, 495, 5146, false, false, false, "a3856", "a1e1", 0, 0, true, false));
+pg_table03.put(List.of("e349", "a258", "efca", 0, 95, 11, false, true, true, "d795", "a89a", 37, 14398, true, false));
+pg_table03.remove("a356");
+pg_table03.remove("b548");
+pg_table03.put(Arrays.asList("f5f3", "e240", "dccb", 0, 0, 9411, true, false, true, "b129e", "da06", null, 3284, false, true));
+pg_table03.remove("ebd5");
+pg_table03.put(List.of("b542", "d761", "a5e5", 13, 204867, 0, true, false, true, "a245", "c1b", 4510, 9338, false, false));
+pg_table03.put(Arrays.asList("a64c", "a25c", "f495", 0, 0, 0, true, false, true, "b291", "ae72", null, 0, false, false));
+pg_table03.put(List.of("b047", "dd5a", "d3e8", 7, 33, 2659, true, true, true, "e5d", "eb9c", 63214, 411, false, false));
+pg_table03.put(List.of("a385", "c721", "d532", 123, 28594, 1716103, true, true, true, "bb76", "fb58", 0, 168, false, false));
+pg_table03.put(List.of("d38f", "cac6", "fcfe", 192060, 0, 1, false, false, false, "d9cc", "d741", 0, 6063, false, true));
+pg_table03.put(List.of("cd99", "b224", "b83e", 971, 0, 0, true, true, false, "a1d7", "b4c2", 0, 19489, false, true));
+pg_table03.put(Arrays.asList("c13f", "c9ad", "ad9c", 31, 94, 200, true, true, false, "a0e6", "ab6f", 0, null, true, false));
+pg_table03.put(List.of("bb4f", "fe75", "a400", 3902, 1141, 406317, true, false, true, "b556", "d943", 0, 0, true, true));
+pg_table03.put(List.of("b28f", "a264f", "efb", 130, 7241, 0, true, false, true, "ba094", "dd3a", 0, 9397, false, true));
+pg_table03.put(List.of("b188", "f219", "f577", 4252, 0, 0, true, false, true, "dc1e", "b55bd", 0, 0, true, false));
+pg_table03.get("ecbf");
+pg_table03.remove("a0b8");
+pg_table03.put(List.of("a254", "f3fe", "e99d", 20, 0, 0, true, false, false, "e34e", "a26f", 8, 0, false, true));
+pg_table03.get("ddbb");
+pg_table03.get("fa87");
+pg_table03.remove("cf10");
+pg_table03.put(List.of("c2a0", "afdf", "e362", 0, 1388, 210, true, true, true, "d8da", "a10b", 0, 0, false, true));
+pg_table03.remove("a716");
+pg_table03.put(List.of("fcb3", "a06ad", "d55e", 0, 0, 498, false, true, false, "b058", "bbcc", 950, 0, false, false));
+pg_table03.remove("ddf0");
+pg_table03.get("e9be");
+pg_table03.put(List.of("cc31", "f435", "ce10", 21, 0, 0, true, false, false, "bb77", "c8e3", 38, 0, true, true));
+pg_table03.put(List.of("eccf", "c162", "be0bd", 4658, 0, 0, true, false, false, "fc64", "c7e3", 184, 593, true, true));
+pg_table03.put(List.of("e81f", "e080", "bf05", 0, 88, 4737, true, true, true, "a23b", "e26d", 11, 0, false, false));
+pg_table03.put(List.of("c29c", "adf0", "a9d9", 239, 0, 2, false, false, true, "e558", "f6e9", 0, 0, true, false));
+pg_table03.put(List.of("a9f26", "b926", "ac2f", 0, 0, 0, true, true, true, "ce0c", "b80b", 1533, 0, false, true));
+pg_table03.put(List.of("a076", "ca9c", "c1e9", 2659, 12171, 0, true, true, false, "a970", "a850", 1, 0, true, true));
+pg_table03.put(List.of("dde9", "c5e2", "a346", 0, 1705, 8, false, false, false, "aed7", "da28", 0, 0, true, false));
+pg_table03.put(Arrays.asList("f939", "e46e", "a71d", 24, 0, 0, false, false, true, "def2", "c9392", 0, 0, null, false));
+pg_table03.put(List.of("f2f6", "e4fa", "ccee", 0, 10182, 0, false, false, true, "d9d7", "a1f1", 79, 0, true, true));
+pg_table03.put(List.of("dfee", "ef96", "fada", 0, 0, 0, true, true, false, "aee7", "b1a6", 0, 654, true, false));
+pg_table03.remove("cb2a");
+pg_table03.put(List.of("a78d", "a2b82", "d0ef", 0, 0, 0, false, true, true, "ef23", "a976", 160635, 42351, true, false));
+pg_table03.put(List.of("b822", "b81d", "b4c5", 0, 0, 66173, false, false, false, "a4d9", "d1d8", 0, 0, true, true));
+pg_table03.put(List.of("d3da", "ce41", "d76f", 695, 12, 0, true, true, false, "ca83", "da69", 7, 0, true, true));
+pg_table03.put(List.of("a5659", "dcab", "d65a", 0, 5, 0, false, false, false, "fdd5", "dcb8", 0, 10, true, false));
+pg_table03.put(List.of("f52c", "e48c", "de42", 0, 4281, 13, true, true, true, "c351", "e5e6", 4, 59230, false, false));
+pg_table03.remove("b6b9");
+pg_table03.put(List.of("ebeb", "c6e4", "e56e", 578, 0, 44, true, true, true, "c66a", "b60f6", 0, 0, true, true));
+pg_table03.remove("b2fb1");
+pg_table03.put(List.of("b819", "bc90e", "d7ef", 0, 156, 1, false, true, true, "a210", "cf48", 1, 0, false, false));
+pg_table03.put(Arrays.asList("e565", "a82d", "d9b1", 4991, 56, 107, true, false, false, "bb20", "aaa3", 1, 8, false, null));
+pg_table03.remove("e6f1");
+pg_table03.remove("f652");
+pg_table03.get("bc267");
+pg_table03.remove("b9bf");
+pg_table03.get("a131");
+pg_table03.put(List.of("ac9c", "f8b0", "ed78", 11, 0, 201, false, true, true, "d40", "daef", 0, 69, true, false));
+pg_table03.put(List.of("a938", "f415", "d4f9", 0, 0, 0, false, true, true, "f5ef", "a4e8", 22, 5070, false, false));
+pg_table03.put(List.of("a2b", "c033", "e9c09", 1741, 6928, 1, false, true, false, "db82", "a6f2", 0, 0, true, false));
+pg_table03.put(List.of("d173", "c710", "f41d", 12, 62, 27488, true, true, true, "cc7f", "a673", 36369, 0, true, false));
+pg_table03.put(List.of("fc42", "b4b4", "e2f2", 665, 0, 497, true, true, true, "bc63", "ffc4", 0, 0, false, true));
+pg_table03.get("c119");
+pg_table03.remove("eeb0");
+pg_table03.put(List.of("a226", "ac94", "dc88", 34, 0, 41162, true, false, false, "ad8c4", "d13e", 125258, 11, true, true));
+pg_table03.put(Arrays.asList("e630", "ce58f", "d812", 31, 25227, 182, true, false, false, "e577", null, 0, 0, false, false));
+pg_table03.put(Arrays.asList("be50", "bcea", "d3936", 7, 8, 514, true, true, true, "e5c8", "f351", 537, 0, true, null));
+pg_table03.put(List.of("c107", "cd03", "e871", 0, 14186, 0, true, false, true, "fedc", "d1d6", 0, 0, false, true));
+pg_table03.put(Arrays.asList("ca1b6", "cd31", "b606", 0, 6, 4289, false, null, true, "a2c2", "ff5e", 0, 0, null, true));
+pg_table03.remove("d7d8");
+pg_table03.put(List.of("bb86", "c5db", "fe0e", 7047, 15811, 0, false, false, true, "cef7", "d465", 0, 2, true, true));
+pg_table03.put(List.of("a721", "c4ca", "d3b96", 0, 72, 603, false, false, true, "a7fa", "e228", 1, 1415, true, false));
+pg_table03.put(Arrays.asList("ec3e", "a7e9", "e3f", 0, 0, null, false, false, true, "fbc0", "a4cc", 0, 0, true, false));
+pg_table03.put(List.of("c7e4", "f7a9", "cb4b", 0, 0, 645, false, false, false, "a4c6", "ff8b", 88, 0, false, true));
+pg_table03.put(List.of("b908", "b2e0", "c4d1", 744, 0, 0, false, false, false, "fde9", "cb3b", 75, 74, false, true));
+pg_table03.put(Arrays.asList(null, "a4ec", "ab5a", 0, 0, 7, false, true, true, "a94c", "b8b6", 13, 1403, false, false));
+pg_table03.put(List.of("f889", "b310", "b3a1", 0, 659499, 0, false, true, false, "bbdea", "c36f", 0, 4270, true, true));
+pg_table03.put(List.of("fadb", "d612", "bd1a", 112853, 0, 0, false, false, false, "aa09", "daed", 1, 0, true, false));
+pg_table03.remove("a165");
+pg_table03.put(List.of("d13d", "f79e", "f9de", 0, 483, 0, false, true, false, "e4d1", "c136", 0, 641, false, true));
+pg_table03.put(List.of("dd54", "f3ec", "c4f", 6, 1580, 352505, true, true, false, "d735", "c283", 1303, 0, false, false));
+pg_table03.put(List.of("b0e9", "e7209", "fa71", 0, 0, 0, false, false, false, "f9bd", "e12d", 0, 687, true, false));
+pg_table03.put(List.of("af51", "a1d9", "ec9d", 0, 1272, 7, true, true, true, "d34f", "b904", 0, 35, false, true));
+pg_table03.put(List.of("f195", "cee9", "d237", 0, 0, 2, true, true, false, "bda4", "af38", 4322, 20191, false, false));
+pg_table03.remove("cea69");
+pg_table03.put(List.of("d68d", "b4ea", "a5a7", 11354, 0, 3, false, true, false, "b6de", "aab0", 0, 2437, false, true));
+pg_table03.put(List.of("c1a0", "a532", "ec43", 0, 73, 0, true, false, true, "f470", "cd09", 5, 0, false, false));
+pg_table03.remove("b161");
+pg_table03.remove("b662");
+pg_table03.put(List.of("c704", "c97d", "b3fb", 6, 0, 2, false, true, true, "f25c", "e1f4", 2093, 2, true, true));
+pg_table03.put(List.of("fffd", "a32e", "aab6", 0, 47, 0, false, true, false, "c2ac", "bb4c0", 0, 0, false, true));
+pg_table03.put(List.of("cbfd", "b9a6", "d5f0", 46, 0, 3749, true, false, true, "f55c", "baf6", 0, 485, true, false));
+pg_table03.remove("e474");
+pg_table03.put(List.of("f049", "a9d7", "ced3", 0, 0, 0, false, false, false, "b63a", "bae0", 0, 0, false, true));
+pg_table03.put(List.of("ceb4", "f193", "df0", 1164, 1913, 7, true, true, true, "adf6", "c12d5", 1777, 0, true, false));
+pg_table03.put(List.of("bd0f", "b455", "d953", 0, 148520, 0, false, false, true, "c843", "dadb", 1032, 10, false, false));
+pg_table03.remove("ced4");
+pg_table03.put(List.of("c2cb", "b270", "fbba", 0, 0, 37263, false, true, false, "daa0", "f82d", 0, 73224, true, false));
+pg_table03.put(List.of("cc7fa", "d926", "e452", 0, 7974, 5837, true, false, false, "c936", "e53c", 141103, 0, false, true));
+pg_table03.get("c6df9");
+pg_table03.remove("f079");
+pg_table03.put(List.of("d661", "a1e8", "baa9", 8, 226, 0, true, false, true, "ca68", "d2cd", 0, 2, true, false));
+pg_table03.remove("ff0a");
+pg_table03.remove("a682");
+pg_table03.put(Arrays.asList("ef68", "e7d4", "f19a", 459, 53, 0, false, true, null, "ac02", "d265", 0, 1, true, false));
+pg_table03.put(Arrays.asList("e9255", "c00b", "b2e9", 23802, 4672, 0, false, true, false, "ab77", null, 0, 9, false, true));
+pg_table03.remove("b9c97");
+pg_table03.get("bd3e");
+pg_table03.remove("cb79");
+pg_table03.remove("ca93");
+pg_table03.put(Arrays.asList("c185", "c1fb", "aad7", 1, 129, 0, false, false, null, "ccf1", "f7fe", 0, null, false, false));
+pg_table03.put(List.of("ff39", "d969", "d51b", 1, 1, 0, true, true, true, "be1f", "ce78", 0, 25460, true, true));
+pg_table03.get("a2ae");
+pg_table03.remove("a08f");
+pg_table03.put(List.of("ec07", "ef5e", "d456", 57, 230, 38, true, false, true, "d7ff", "c78d", 7, 121, false, true));
+pg_table03.put(Arrays.asList(null, "a88f", "bc0b", 0, 0, 657, true, true, false, "e4cd", "c6fa", 52, 25, false, false));
+pg_table03.put(Arrays.asList("bd09", "c624", null, 53601, 24502, 1, false, true, true, "ddfb", "f146", 522, 29189, true, false));
+pg_table03.put(List.of("ef83", "a992", "f359", 0, 0, 1875, true, false, true, "a9f5", "cb68", 0, 0, false, true));
+pg_table03.remove("f13f");
+pg_table03.put(List.of("f473", "c2ec", "ff06", 8, 0, 36609, true, true, false, "bca2", "a9da", 0, 0, false, true));
+pg_table03.put(List.of("bad4", "a173", "a7c0", 0, 5, 316, true, true, false, "aad8", "a0e85", 22501, 1029, false, true));
+pg_table03.get("e413");
+pg_table03.remove("b67b");
+pg_table03.put(List.of("f9ec", "e2ab", "bad9a", 38, 1, 2, true, false, true, "bff7", "bfd2", 21, 8391, true, true));
+pg_table03.put(List.of("ea49", "ec54", "b212", 1011, 2, 0, true, true, true, "dfcc", "caa5", 0, 0, false, true));
+pg_table03.put(List.of("d5cc", "ee1c", "a9d5", 5955, 0, 264, true, false, true, "f111", "cfe9", 44, 0, true, false));
+pg_table03.remove("abfa");
+pg_table03.put(List.of("e78e", "e77a", "de0b", 0, 0, 321998, true, false, true, "c9c3", "d8f4", 129, 0, true, false));
+pg_table03.remove("f680");
+pg_table03.put(Arrays.asList("ae68b", "a743", "ffe3", 23, 9015, 35, true, false, false, "ba98", "bc93", 0, null, false, true));
+pg_table03.remove("f949");
+pg_table03.put(List.of("ce66", "cc934", "dd32", 0, 195, 0, false, true, true, "dd83", "ec61", 2, 56875, true, false));
+pg_table03.remove("a125");
+pg_table03.put(List.of("bd48", "eb47", "b658", 0, 0, 79, true, false, true, "f5c8", "eb19", 166, 0, false, false));
+pg_table03.remove("bef3");
+pg_table03.put(List.of("f561", "ac6c", "a7d6", 0, 0, 2047, false, true, false, "a605", "d98da", 0, 87, false, true));
+pg_table03.put(List.of("e0c1", "e4e2", "add8", 53, 0, 927, false, false, true, "b8da", "e698c", 27, 0, false, true));
+pg_table03.put(List.of("d218", "a0cfb", "ec7d", 10, 11447, 272, true, false, true, "a9cd", "cf67", 0, 4, true, true));
+pg_table03.get("b5bb");
+pg_table03.put(List.of("eab1", "b5b", "ae4f", 0, 12, 8242, false, true, true, "ad8d", "b9d0", 4788, 0, false, false));
+pg_table03.put(List.of("e02c", "bd59", "d118", 436, 0, 0, false, true, true, "c8d0", "e616", 0, 262, false, false));
+pg_table03.put(List.of("c54a", "b938", "b981", 5, 469, 2, true, true, false, "e94a", "e7e7", 413, 398, true, false));
+pg_table03.remove("c10d");
+pg_table03.put(List.of("cfcb", "e785", "ec21", 10103, 0, 0, false, true, true, "a548", "cb3c1", 29833, 0, false, true));
+pg_table03.put(List.of("f542", "b6e2", "f582", 0, 0, 0, false, true, false, "a506", "e51b9", 18, 537, true, true));
+pg_table03.remove("de9a");
+pg_table03.put(List.of("ef3b", "a843", "d85d", 5494, 38, 4, true, true, false, "c021", "e345", 0, 41320, true, true));
+pg_table03.put(List.of("f776", "baec", "cd76", 0, 0, 0, false, true, true, "a313", "ecea", 0, 2462, false, false));
+pg_table03.put(List.of("c9b4", "e508", "fb5c", 17130, 4, 0, false, false, true, "ea91", "b7dd", 17, 31, true, false));
+pg_table03.put(List.of("d504", "a03c", "df9e", 21059, 0, 126, false, false, false, "be0c", "a035e", 13, 16850, false, false));
+pg_table03.put(List.of("d769", "e928", "b7a9", 818, 245, 0, false, true, true, "f158", "b245", 1, 0, false, true));
+pg_table03.put(List.of("df6a", "c7dc8", "f8c8e", 0, 21, 151, false, true, true, "e921", "a7848", 0, 252, false, false));
+pg_table03.remove("e454");
+pg_table03.put(List.of("af4f", "fc94", "f331", 4, 0, 0, false, true, false, "e265", "f531", 0, 13109, true, false));
+pg_table03.remove("ad24");
+pg_table03.put(Arrays.asList("ce45", "c0d4", "b3cd1", 0, 14, 17, true, false, false, "c9bd6", "a6d0", 5808, 635, false, null));
+pg_table03.get("d045");
+pg_table03.put(Arrays.asList(null, "c04e", "aab8", 0, 27, 0, true, true, false, "b183", "ece3", 30, 0, false, true));
+pg_table03.put(List.of("c348", "a0fa", "d6ec", 278, 0, 4914, true, true, true, "b201", "d6dd", 2052, 0, false, false));
+pg_table03.get("afd6");
+pg_table03.put(List.of("a79c", "e63b", "cfb3", 0, 50, 0, true, false, true, "b62c", "c17c", 60470, 5796, true, false));
+pg_table03.remove("b711");
+pg_table03.put(List.of("d209", "baff", "a566", 0, 26366, 0, false, true, false, "e392", "a4d8", 25, 637, true, true));
+pg_table03.put(List.of("bd28", "abf9", "ba63", 132, 0, 28, false, true, true, "ff336", "b84e", 0, 6, false, true));
+pg_table03.put(List.of("a296", "ad6c", "b7dc", 1, 1574, 24, false, false, true, "c115", "d6fa", 97, 81520, true, true));
+pg_table03.put(List.of("ab21", "ad6d", "af96", 11, 0, 0, false, true, true, "e724", "c221", 2, 11000, true, false));
+pg_table03.put(List.of("b30c5", "abf8", "c2e1", 0, 843, 0, false, true, true, "b645", "a43e", 1, 7, false, true));
+pg_table03.put(List.of("b3f8", "d747", "ee62", 35174, 1, 232, false, false, false, "f38d", "e663", 0, 545814, true, true));
+pg_table03.get("c000");
+pg_table03.put(List.of("bae2", "e590", "b483", 22318, 0, 0, true, true, false, "e0c88", "fa0e", 0, 0, true, true));
+pg_table03.put(List.of("e5b6", "a4c9", "f989", 175, 0, 0, true, true, false, "a3af", "b776", 9508, 0, false, true));
+pg_table03.put(List.of("a487", "e03f", "a217", 43959, 0, 31, false, false, true, "fc7b", "feaa", 189, 308641, false, false));
+pg_table03.put(List.of("b239", "f850", "e572", 0, 0, 2, true, true, false, "b0e5", "da64", 0, 0, true, true));
+pg_table03.put(List.of("ff7f", "b91f", "a64a", 0, 20, 28, true, false, false, "e8aa", "a565", 0, 0, false, false));
+pg_table03.put(Arrays.asList("d64d", "e154", "ba93", null, 0, 204, false, false, false, "ad66", "aa65", 372, 0, true, true));
+pg_table03.put(List.of("a8fa", "dc13", "b7fd", 0, 0, 0, true, true, true, "a3d6", "d286", 0, 0, false, true));
+pg_table03.put(Arrays.asList("f3fa", "a7ab", "b8d4", 34359, 5263, null, true, false, false, "ba80", "bbeb", 9, 0, false, true));
+pg_table03.put(List.of("fcd0", "d714", "abeb", 0, 954, 5040, true, true, true, "b53a", "a5666", 45, 961, true, false));
+pg_table03.put(List.of("a53c", "d82f", "e756c", 5548, 820, 57579, true, true, true, "c494", "f340", 1390, 472, false, false));
+pg_table03.get("ed72");
+pg_table03.put(List.of("fdc4", "fa6e", "ea6c", 207, 0, 0, false, true, false, "d205", "c24c", 1, 143, true, false));
+pg_table03.put(List.of("c1fd", "eb1c", "a5b4", 0, 0, 1, false, true, false, "a9fb", "bff0", 32, 0, true, false));
+pg_table03.get("f0e8");
+pg_table03.put(List.of("e40da", "bdefe", "a5c9", 0, 26, 19, false, false, true, "be9ff", "b72a", 4883, 0, false, true));
+pg_table03.put(List.of("a63e", "a7f9", "e1dc", 0, 25, 0, true, true, true, "ff85", "d10e", 2753, 0, true, false));
+pg_table03.put(List.of("a366", "d8d6", "acdc", 3381, 5, 0, true, true, false, "b3d1", "e2b2", 4305, 0, true, false));
+pg_table03.remove("b75c");
+pg_table03.put(List.of("a7ae", "aabe", "f58f", 0, 0, 0, false, true, false, "e980", "dbc7", 16, 19, true, true));
+pg_table03.put(Arrays.asList("c574", "fe27", "fac4", 0, 0, 0, null, false, false, "ab57", "db1c", 0, 0, false, false));
+pg_table03.put(Arrays.asList("edf7", "e3aa", "d815", null, 16, 10350, false, false, false, "a708", "b15d", 0, 1783, true, true));
+pg_table03.put(List.of("d335", "a7a4", "bd42", 0, 0, 13, false, true, true, "b213", "fd5b", 3079, 3, false, true));
+pg_table03.put(List.of("a77a", "ae1e", "a4d4", 0, 1582, 0, true, false, true, "a39e", "c776", 0, 0, false, true));
+pg_table03.put(Arrays.asList("bbc4", "e65a", "bd6e", 0, 0, 20, false, false, true, "d2a7c", "c4a1", 31, 81, true, null));
+pg_table03.put(List.of("f114", "a39ab", "fe08c", 5, 896, 24, false, false, true, "d7af", "c884", 2634, 0, false, true));
+pg_table03.put(List.of("d55c", "c8f2", "ebff", 23, 32742, 414, true, true, true, "b706", "e82df", 23, 296, true, true));
+pg_table03.put(List.of("c7eb", "b464", "e5b8", 2, 6, 0, true, true, true, "a6734", "b733", 0, 0, false, false));
+pg_table03.remove("a4cd");
+pg_table03.remove("db32");
+pg_table03.remove("ba84");
+pg_table03.remove("c3c1");
+pg_table03.put(List.of("cc93", "b78d", "baee", 0, 37, 7, false, true, false, "c7ab", "f765", 1369, 0, false, false));
+pg_table03.put(List.of("d600", "bf77", "cf8b", 0, 0, 0, true, true, true, "a322", "eec9", 30142, 280, true, true));
+pg_table03.put(List.of("d727", "acdca", "fb64", 0, 0, 138064, false, false, true, "a3c6", "edc1", 0, 13, false, false));
+pg_table03.put(List.of("dc2c", "c702", "b064", 591, 0, 2, false, true, false, "ddb0", "f24e", 211, 11850, false, true));
+pg_table03.put(List.of("baba", "a862", "b0af", 4938, 13975, 8, false, true, false, "ffc3", "d7c70", 847, 14, false, true));
+pg_table03.get("a02a");
+pg_table03.put(List.of("e06ca", "ad93", "a1cd", 0, 0, 0, false, false, true, "e4f8", "c69e", 834, 26, false, false));
+pg_table03.remove("f518");
+pg_table03.remove("a650");
+pg_table03.put(List.of("de91", "c1d4", "c8b0", 6859, 1, 56, false, true, false, "b15c6", "b698", 17, 0, false, false));
+pg_table03.put(List.of("d464", "d810", "adcae", 0, 21, 3, true, false, false, "c648", "ce6d", 0, 243, false, false));
+pg_table03.put(List.of("bb44", "e489", "c56e", 0, 28115, 147, true, true, true, "c6da", "f09f", 0, 0, false, false));
+pg_table03.remove("d43c");
+pg_table03.get("cd5dc");
+pg_table03.put(Arrays.asList("bb1b", "a921", "dea1", 31, 0, 5, false, true, null, "abe6", "e98b", 29, 9304, true, true));
+pg_table03.put(List.of("a563", "aa49", "a3ea", 4661, 3573, 3, false, true, true, "ca148", "b23b", 0, 0, false, false));
+pg_table03.get("b8e9");
+pg_table03.get("af3a");
+pg_table03.put(List.of("b684", "a064", "f843", 896, 11094, 259, true, true, false, "f676", "bbf4", 0, 0, true, true));
+pg_table03.put(List.of("a44e", "a809", "b5e87", 46, 0, 16, false, false, false, "d2d7", "c340", 0, 0, true, true));
+pg_table03.put(List.of("e29f", "c12e", "ae1c", 1282, 1286, 52, false, true, true, "d93d", "b196", 140, 75, false, false));
+pg_table03.put(List.of("a3e2f", "bc6f", "ba71", 0, 3, 0, true, true, true, "f09b", "b434", 2, 6349, false, false));
+pg_table03.put(List.of("d2d0", "f6f5", "a906", 15, 0, 5, true, true, true, "ee3a", "bcd7", 0, 0, true, false));
+pg_table03.put(List.of("cc95", "fa6c", "a45b", 0, 6041, 53, true, false, false, "d77c7", "d178", 28384, 0, true, true));
+pg_table03.put(List.of("a503", "aa92", "d974", 112, 0, 0, false, true, false, "d832", "be70", 12, 0, true, false));
+pg_table03.remove("d321");
+pg_table03.put(List.of("c56c", "bbde", "dca8", 5, 0, 6, false, true, true, "b2ff", "f187", 0, 0, true, true));
+pg_table03.get("ef5a");
+pg_table03.remove("f416");
+pg_table03.put(Arrays.asList("d640", null, "ef59", 0, 62095, 0, false, true, true, "da49", "b8a1", 6561, 1390, true, true));
+pg_table03.remove("d0ee");
+pg_table03.get("a4dc");
+pg_table03.get("ab14");
+pg_table03.put(List.of("f0a4", "a034", "b4ca", 7090, 0, 0, false, true, false, "b1c75", "f52a", 0, 19, true, true));
+pg_table03.put(List.of("ba70", "ddfc", "e647", 34001, 513, 0, false, false, false, "a978a", "eebb9", 1, 253, true, false));
+pg_table03.put(List.of("d78d", "a20e", "e0cb", 284, 0, 1, false, false, true, "c709", "a342", 210, 0, false, false));
+pg_table03.put(List.of("b005", "e7f1", "cce4", 5712, 0, 0, false, true, false, "a00d", "a29b", 0, 554, false, true));
+pg_table03.put(List.of("b70c", "c3e4", "a92d", 0, 843, 2364, false, false, false, "c723", "b55a", 0, 16, true, false));
+pg_table03.remove("da86");
+pg_table03.remove("d8e9");
+pg_table03.get("a28b");
+pg_table03.put(List.of("f03d", "c6cf0", "aa8b", 0, 0, 11, true, true, false, "e204", "adf92", 5926, 57, false, true));
+pg_table03.put(List.of("d073", "ff9f", "a1d4", 0, 0, 251829, true, true, true, "a134", "f242", 0, 2, false, false));
+pg_table03.remove("d8e04");
+pg_table03.put(Arrays.asList("b342", "ab10", "a939", 0, 62, 0, true, false, false, "eb08", "d467", 0, null, false, false));
+pg_table03.remove("c84c");
+pg_table03.put(List.of("bf5f", "b250", "e7829", 26, 30, 9, false, false, true, "bf12", "bc1a", 796, 0, false, true));
+pg_table03.put(List.of("d249", "da7bb", "e0e6", 69205, 0, 17, false, true, true, "bf0e", "ab4c", 225, 10103, false, false));
+pg_table03.remove("f793");
+pg_table03.put(List.of("f010", "da3d", "cfcec", 64578, 75, 0, true, false, true, "f935", "b627", 0, 69, false, true));
+pg_table03.put(List.of("aa0", "edb9", "cd74", 0, 0, 0, true, false, false, "db3f", "e9c2", 1, 0, true, true));
+pg_table03.put(List.of("ebaf", "cf4c", "a731", 0, 1089, 14999, false, false, false, "bc12", "aa33", 0, 254, false, false));
+pg_table03.put(List.of("a1ae", "c10b", "bb04", 6, 0, 35, false, false, true, "ec59", "fb28", 0, 105, true, false));
+pg_table03.put(List.of("b4d4", "cd62", "eb17", 1031, 0, 0, false, false, false, "f06f5", "d88b", 0, 0, true, true));
+pg_table03.put(Arrays.asList("d30f", "f7be", "f731", 83, 2068, null, true, false, false, "d470", "b41f", 7061, 3504, false, true));
+pg_table03.put(List.of("c144", "fc974", "e06e", 0, 20478, 0, true, true, true, "ac06", "f34b", 217, 1, true, false));
+pg_table03.put(List.of("aba1", "c10f", "b194", 416, 14, 63, true, true, false, "a616", "fd2b0", 0, 3, true, false));
+pg_table03.put(List.of("b19c", "e9f7", "d26d", 521, 0, 55, false, false, false, "be6c", "ace3", 2026, 0, false, false));
+pg_table03.put(Arrays.asList("dc4f1", "b2b2", "c58d", 2, 27891, 0, false, true, false, "a972", null, 260, 0, true, false));
+pg_table03.put(List.of("c1af", "b5eca8", "aad4c", 6492, 480, 0, true, true, false, "e3679", "b8d1", 925, 0, true, false));
+pg_table03.put(List.of("e54d", "f3b5", "d001", 2209, 2444, 18715, false, true, false, "cde7", "e757", 0, 0, true, true));
+pg_table03.put(List.of("c7a9", "ff3b", "ee4c", 0, 0, 0, false, true, false, "d19b", "c300", 0, 0, false, false));
+pg_table03.put(Arrays.asList("c9a26", null, "f839", 0, 208, 1194, true, true, false, "c027", "abd8", 0, 0, false, false));
+pg_table03.put(List.of("adf9", "a0f6", "f41a", 0, 1, 0, false, false, false, "f96b", "a57c", 0, 6, false, true));
+pg_table03.put(List.of("bb42", "ff4", "e54a", 0, 0, 6, false, true, false, "bd3a", "f90a", 0, 0, true, true));
+pg_table03.get("b60e");
+pg_table03.remove("f0b3");
+pg_table03.get("db42");
+pg_table03.put(List.of("cda9", "be07", "e5d0", 0, 743, 6572, true, false, true, "ce28", "c220", 0, 5280, true, true));
+pg_table03.put(List.of("fa2c", "d324", "e4ab", 288442, 13934, 0, true, true, false, "c0b2", "bccb", 4, 1, true, false));
+pg_table03.get("ebada");
+pg_table03.remove("d061");
+pg_table03.put(List.of("f10f", "e1de", "fd77", 8, 21054, 681, false, false, true, "e60b", "a5ac", 0, 406, true, false));
+pg_table03.put(List.of("c0b8", "db3d", "d3f3", 0, 0, 1741, false, true, true, "ff96", "c8ec", 0, 1041, false, true));
+pg_table03.put(List.of("d7c1", "d83d", "b975", 0, 0, 0, true, false, true, "e348", "c051", 0, 0, false, false));
+pg_table03.put(List.of("e07e", "f5d4", "c39c", 15, 0, 854, true, false, true, "f899", "ad36e", 572, 62704, false, false));
+pg_table03.put(List.of("f592", "d9d4", "c2d9", 0, 214, 0, false, false, false, "d7dd", "c616", 26, 10, false, true));
+pg_table03.put(List.of("a7e5", "f361", "e6eb", 1, 0, 0, false, true, false, "c36a", "b993", 10, 671, false, false));
+pg_table03.put(List.of("d541", "f418", "f79f", 0, 0, 892, true, false, false, "cf11", "c010", 0, 0, false, true));
+pg_table03.remove("aa4f");
+pg_table03.put(Arrays.asList("a7dce", "c0d6", "b77b", 0, 1358, 0, null, true, false, "c123", "c3b9", 31, 15557, false, false));
+pg_table03.put(List.of("d11ff", "b729", "bb99", 2371, 4287, 78, false, true, true, "fe88", "e5875", 177, 0, true, true));
+pg_table03.remove("f5f4");
+pg_table03.remove("eae2");
+pg_table03.put(List.of("e3a22", "f7947", "ab81", 114, 61, 110, false, false, true, "b019", "e377c", 5072, 0, false, true));
+pg_table03.get("a707");
+pg_table03.put(List.of("b977", "c424", "d16e", 0, 858, 113, false, false, false, "ae90", "ac49", 8, 0, true, true));
+pg_table03.put(List.of("ab9d", "ce90", "bb65", 0, 63, 0, true, false, true, "d0d5", "a8ee", 5, 0, true, false));
+pg_table03.put(List.of("f606", "f165", "bf290c", 28, 0, 72, true, true, true, "b759", "ebf9", 0, 0, true, false));
+pg_table03.remove("e874");
+pg_table03.put(Arrays.asList("a681", "bc83a", "b014", null, 0, 539, false, false, false, "b298", "c757", 4, 24629, false, false));
+pg_table03.remove("ac18e");
+pg_table03.put(List.of("bb283", "aace8", "bec6", 217, 0, 1101, false, true, true, "ef10", "b0df", 43, 16154, false, true));
+pg_table03.put(List.of("a48f", "e7f9", "ff3a", 0, 8, 2528, true, false, true, "c31e", "dbc4", 1, 0, true, false));
+pg_table03.remove("a1efc");
+pg_table03.put(List.of("f966", "bded", "afc5a", 0, 0, 0, false, true, true, "ac93", "d236", 1, 0, true, true));
+pg_table03.remove("aee8");
+pg_table03.get("d093");
+pg_table03.put(Arrays.asList(null, "b16f", "bf9c", 0, 0, 1190, false, false, false, "e1fca", "a6cb", 33567, 0, false, true));
+pg_table03.put(List.of("ee78", "d1c8", "c361", 0, 51, 0, true, false, true, "b6c1", "e27a", 0, 0, true, true));
+pg_table03.put(List.of("e79d2", "dc9d", "e07f", 0, 0, 0, true, true, true, "ea10", "ec4e", 27, 118, false, false));
+pg_table03.put(List.of("e6ba", "da59", "a6fd", 5956, 0, 40, true, false, false, "ca4e", "dc9e7", 15, 0, true, true));
+pg_table03.get("a9bd");
+pg_table03.put(List.of("fa69", "ab8a", "a91f", 1501, 0, 33920, false, false, true, "c9ce", "d12c", 163846, 61686, false, false));
+pg_table03.put(List.of("c054", "cc3f", "b335", 3, 0, 0, true, false, false, "c78c", "d784d", 3448, 18, false, true));
+pg_table03.remove("d9b8");
+pg_table03.put(List.of("e41a", "f2f2", "bc019", 58, 1824, 2, false, false, false, "c996", "f893", 30, 0, false, true));
+pg_table03.remove("d035");
+pg_table03.remove("ab824");
+pg_table03.put(List.of("e06b", "a272", "e14b", 22485, 183, 0, false, true, false, "cc7e", "aefc", 1250, 1456, true, false));
+pg_table03.remove("b0be");
+pg_table03.put(List.of("be36e", "e9b2", "b870", 201, 92, 6, true, false, false, "c6fe", "a5dc3", 0, 187, true, false));
+pg_table03.put(List.of("cfb2", "d959", "f0fd", 0, 0, 1, true, true, false, "cb36", "a911", 11, 0, true, true));
+pg_table03.get("c8d4");
+pg_table03.put(List.of("f79cd", "a38a", "ed4b", 0, 1733, 0, false, true, false, "af5c", "b4ec", 256, 1, true, true));
+pg_table03.put(List.of("b28e", "cbbd", "c4a7", 0, 0, 1, false, true, false, "f747", "b0ca", 0, 6, false, false));
+pg_table03.remove("f7cf");
+pg_table03.put(Arrays.asList("b12f", "a438", "ef22", 174, 0, 44, false, false, true, "b2b8", "f389", null, 0, true, false));
+pg_table03.put(List.of("fed4", "c193", "f2ef", 0, 0, 58, false, true, false, "c31b", "a744a", 1, 149, false, false));
+pg_table03.put(List.of("ed12", "b11e7", "e2c8", 0, 228826, 0, true, true, true, "f1e9", "a3e9", 5, 1466, false, true));
+pg_table03.remove("e312");
+pg_table03.put(List.of("d211d", "eabf", "aa4c", 9, 0, 424, false, true, false, "a5cd", "d5af", 607, 0, false, true));
+pg_table03.put(List.of("e478", "de5c8", "c8fb", 0, 23, 202633, false, true, false, "a41c", "efe0", 39504, 0, true, false));
+pg_table03.put(Arrays.asList("dd28", "b329", "aa9f", 176, 0, null, true, true, false, "c63b", "d167", 32, 0, false, false));
+pg_table03.put(List.of("cacd", "ad5b", "efd4", 131, 0, 0, false, false, false, "d616", "aa60", 0, 51, false, true));
+pg_table03.put(List.of("ed83", "a295", "aff2", 0, 143, 0, false, true, false, "e0a3", "c5c5e", 0, 0, false, false));
+pg_table03.put(List.of("c0bb", "a281", "ab22b", 0, 705, 0, false, true, false, "c1fc", "ff08", 0, 28, true, false));
+pg_table03.get("a6cd");
+pg_table03.put(List.of("ad07", "a885", "cc3c", 10, 1096, 0, false, false, false, "b7bb", "bb45", 0, 0, true, true));
+pg_table03.remove("b8e4");
+pg_table03.remove("acf6f");
+pg_table03.get("db000");
+pg_table03.put(List.of("a17c", "fcdc", "c363", 11, 27, 0, false, true, true, "a99e", "dc83", 0, 1481, false, false));
+pg_table03.put(List.of("b0c3", "ebf8", "e52c", 8979, 2, 0, false, false, false, "a341", "c5c5", 0, 56757, true, true));
+pg_table03.put(Arrays.asList("e24b", "ef3c", "a759", 0, 1482, 41, false, false, false, "a397", "d7f7", 1058220, null, false, false));
+pg_table03.put(List.of("e817", "b86d", "d35a", 159, 934, 0, true, false, true, "f077", "b076", 124, 65622, true, false));
+pg_table03.put(List.of("aa382", "c93b9", "c7c4", 27510, 328, 0, false, true, true, "d9c8", "d7f6", 8, 935, true, true));
+pg_table03.put(List.of("be52", "ee1b", "abd7", 0, 15, 0, true, false, true, "be03", "d826", 0, 4436, true, true));
+pg_table03.put(List.of("b1db", "a469e", "b15e", 358, 0, 5, true, true, false, "d143", "daa5", 12, 63, false, true));
+pg_table03.put(List.of("df2b", "f6c6", "c9c0", 3081, 2, 0, false, false, true, "c18fd", "e539", 35998, 0, false, true));
+pg_table03.put(List.of("cedf", "e2db5", "beb1", 13, 34, 0, false, true, true, "d385", "eccb", 117, 313, true, true));
+pg_table03.put(List.of("c4ac", "e28ca", "ca016", 0, 7623, 3, true, true, true, "a91b", "a2b6", 0, 0, false, false));
+pg_table03.put(List.of("b6df", "c312", "df8a", 7, 17, 0, false, true, true, "dd29", "a8b2", 16528, 24, false, false));
+pg_table03.put(List.of("e097", "d2b2", "a2cf", 2, 0, 0, true, false, true, "b1d7", "d176", 0, 418, false, false));
+pg_table03.put(List.of("d97a", "ebcff", "a6935", 2039, 1, 505, true, false, true, "d32a", "cdbf", 0, 35738, true, true));
+pg_table03.remove("d1af");
+pg_table03.get("de28");
+pg_table03.remove("a38b4");
+pg_table03.put(List.of("bf7d", "ccc5", "cb41", 0, 0, 1753, false, false, true, "c795", "f62b", 11484, 98747, false, false));
+pg_table03.put(List.of("b359", "e87d", "fa52", 278, 1, 0, true, false, true, "d9cd", "ad70", 812, 1725, false, false));
+pg_table03.get("d6e1");
+pg_table03.remove("ea3");
+pg_table03.remove("ac21");
+pg_table03.put(List.of("ccaa", "fb33", "a661", 254, 311, 0, true, true, true, "bdaa8d", "b38c2", 13685, 13, true, false));
+pg_table03.put(List.of("ca75", "c635", "f49", 40, 4868, 1, false, false, true, "a4b1", "a435", 2057, 26377, false, false));
+pg_table03.put(List.of("b272", "c8cc", "e3e2", 4, 0, 329, true, true, false, "a907", "eeb2", 75, 80, true, false));
+pg_table03.remove("bec2c");
+pg_table03.put(List.of("d53a", "affb", "aabf", 0, 407, 8270, false, true, true, "e59b", "daf0", 10, 94, false, false));
+pg_table03.put(List.of("adc5", "ead5", "dffa", 1975, 33992, 4, true, true, false, "b677", "aa05", 5685, 393, false, true));
+pg_table03.put(List.of("d233", "c024", "cc8d", 66, 0, 0, false, true, true, "b5a71", "e350", 49, 0, false, false));
+pg_table03.put(Arrays.asList("d5b5", "d63f", null, 0, 0, 436938, true, false, false, "d731d", "d814", 0, 25, false, true));
+pg_table03.put(List.of("d6b8", "e4f2", "dc26", 0, 0, 1584, false, false, false, "d038", "b901", 436, 12360, true, true));
+pg_table03.put(List.of("d012", "df9d", "efb0c", 0, 0, 2330, false, false, true, "ee44", "cf88", 5370, 0, true, true));
+pg_table03.remove("e10a");
+pg_table03.put(List.of("a12ee", "cc63", "d254", 0, 27, 6687, false, false, false, "cf66", "c93c", 521, 368, true, false));
+pg_table03.put(List.of("a454", "be5e", "e9d4", 48, 0, 0, true, true, true, "ca76a", "a282", 12044, 2, true, false));
+pg_table03.put(List.of("e291", "a860", "cd451", 7, 1687, 0, true, false, true, "b05f", "a246", 18, 0, false, false));
+pg_table03.remove("cfbd");
+pg_table03.put(Arrays.asList("ca2f6", "f10b", null, 0, 0, 1252, true, true, false, "c30c", "bf75", 0, 27, true, false));
+pg_table03.put(List.of("b40eb", "f6f2", "d418d", 0, 2, 56, true, false, false, "c522", "f32d", 0, 0, false, false));
+pg_table03.get("c2ea");
+pg_table03.remove("eb4b");
+pg_table03.put(List.of("fcd8", "bc03", "a703", 0, 515, 0, true, false, true, "b69a", "fb04", 0, 0, false, true));
+pg_table03.remove("e36c");
+pg_table03.put(List.of("bbb2", "f07f", "bb29", 25437, 3, 0, false, true, false, "df46", "f252", 6, 0, false, false));
+pg_table03.put(List.of("a1c6", "ca90", "f8e3", 2, 0, 0, false, true, true, "db4e", "df90", 2891, 0, false, true));
+pg_table03.put(List.of("b373", "bfe4", "a7bba", 0, 0, 0, false, true, false, "f77c", "a547", 803, 351, false, false));
+pg_table03.remove("f740");
+pg_table03.put(List.of("caea", "d9be", "d794", 462, 1173, 0, false, true, false, "deaa", "de55c", 135, 0, false, false));
+pg_table03.get("bcca");
+pg_table03.put(Arrays.asList("d776", "b795", "b2af", 0, 0, 2, true, false, true, "ca66", "b589", 285, null, false, true));
+pg_table03.get("af47");
+pg_table03.put(Arrays.asList("a9a1", null, "d00f", 0, 221, 0, true, true, true, "cb0e", "d041", 0, 42, true, false));
+pg_table03.get("e595");
+pg_table03.put(List.of("cb46", "ed08", "ba17", 4198, 0, 0, false, true, true, "c1d8", "e2f3", 0, 1, false, true));
+pg_table03.put(List.of("b44fa", "c87b", "bf82", 0, 0, 0, true, false, false, "cce7", "e2ff", 473, 0, true, false));
+pg_table03.put(List.of("a219", "b95e", "a77e", 2, 24, 8, true, true, true, "d76a", "c6ef", 0, 2860, true, false));
+pg_table03.put(List.of("cf07", "e878", "c3811", 9, 43303, 56, true, false, false, "eca1", "e2a4", 38796, 127, true, false));
+pg_table03.put(List.of("c8fd", "f8cf", "c8b8", 0, 203, 0, true, false, false, "c3fa", "a6f34", 128, 0, false, true));
+pg_table03.put(List.of("f580", "ca13", "c01f", 0, 1, 0, false, true, true, "bff65", "d629", 4450, 0, true, true));
+pg_table03.put(Arrays.asList("d7c0", "e71e8", "e847", 0, 7818, 0, false, true, true, "a3d4", null, 0, 0, false, false));
+pg_table03.put(List.of("a20a", "db7a", "a7b5", 12074, 49, 0, true, true, true, "d284", "e6201", 165, 370, true, true));
+pg_table03.put(List.of("dc52", "e74d", "e2e5", 0, 3, 311, false, false, true, "b746", "c56f", 6, 6, true, true));
+pg_table03.remove("ff17");
+pg_table03.put(Arrays.asList("d486", "a6ce", "ae5d", 2002, 1920, 190, false, false, null, "b056", "c987", 0, 1, false, false));
+pg_table03.remove("c52b");
+pg_table03.put(List.of("a7b9", "f71", "d4d0", 0, 1, 160, true, true, false, "a33f", "c78b", 2850, 1002, false, false));
+pg_table03.put(Arrays.asList("ea3c", "b03e", "ba33", 118545, 0, 0, null, false, false, "eb01", "f325", 3682, 1913, false, true));
+pg_table03.put(List.of("d778", "ac27", "a4fa", 44, 0, 0, false, true, false, "badf", "c55c", 0, 1055, false, false));
+pg_table03.put(Arrays.asList("bec8", "ec64", "ac29", 1337, 551, 589, null, false, false, "d647", "d662", 33, 0, true, true));
+pg_table03.put(Arrays.asList("d609", "b7127", "cfa5", 0, 11686, 115, true, true, null, "a5b8", "c3aa", 115, 176, true, false));
+pg_table03.put(List.of("ffd24", "a8af", "b3b9", 44917, 0, 106, false, false, true, "f698", "c4a5", 0, 0, true, false));
+pg_table03.get("cd104");
+pg_table03.remove("a8f5");
+pg_table03.put(List.of("c5b5", "e0b8", "cd5c", 0, 828, 0, true, false, true, "e972", "cdc3", 57, 2, false, true));
+pg_table03.put(List.of("aac3", "bcf5", "cabd", 0, 25799, 437, true, true, true, "bedb", "e190", 127, 0, true, false));
+pg_table03.put(List.of("aaff8", "aa88", "da6ef", 0, 0, 0, true, false, true, "a760", "cca4", 0, 4634, false, true));
+pg_table03.put(List.of("d4f1", "ebde", "f208", 0, 0, 67, true, true, true, "dec0", "ba8d", 0, 1875, false, false));
+pg_table03.get("c780");
+pg_table03.remove("f241");
+pg_table03.put(List.of("e0ac", "f93f", "a524", 0, 10, 1401, false, true, true, "e5f9", "b03f", 8, 0, false, true));
+pg_table03.put(List.of("a467", "f590", "dd70", 1, 0, 1, false, true, true, "e5b06", "b769", 995, 0, true, false));
+pg_table03.remove("c3d5");
+pg_table03.get("d1f6");
+pg_table03.get("dca5");
+pg_table03.remove("b7cc");
+pg_table03.put(List.of("a30d9", "d25e", "ebdb", 98, 18, 0, false, true, true, "a443", "a5b80", 0, 0, false, false));
+pg_table03.put(Arrays.asList("dc23", "ae9f", "ebd75", 0, 0, 16, false, false, true, "cb20", "be9a", 1, 0, null, true));
+pg_table03.put(List.of("a12a", "ac4ff", "da5f", 105, 19, 0, true, false, true, "b6f6", "b2ea", 1, 671, false, false));
+pg_table03.put(List.of("ede8", "e3e8", "d78e", 9, 227, 0, true, false, false, "b2f4", "edd6", 0, 2, true, true));
+pg_table03.put(List.of("e063", "b646", "c146", 5825, 0, 0, false, false, true, "e659", "a4906", 523, 0, true, false));
+pg_table03.get("f836");
+pg_table03.put(List.of("d8f1", "d4e18", "e18a", 0, 0, 0, false, false, false, "b016", "c238", 1322, 111, false, false));
+pg_table03.put(List.of("bbe5", "b41a", "a67a", 2, 0, 2893, false, true, false, "d0f8", "e9bc4", 1434, 9385, false, false));
+pg_table03.put(List.of("bafb", "bd80", "aca3", 1524, 0, 4, true, false, false, "d694", "bce8", 0, 113, false, true));
+pg_table03.put(List.of("f2bc", "ce7d", "ad99", 262923, 692, 19, true, false, false, "b152", "cdbc", 40199, 0, false, false));
+pg_table03.put(List.of("e39f", "a614", "fa1a", 0, 0, 868, false, false, true, "f058", "d36c", 3, 18, false, false));
+pg_table03.put(List.of("b531", "d58f", "c37f", 0, 0, 4088, true, true, true, "dcd0", "e09d", 0, 0, true, false));
+pg_table03.put(List.of("cdd0", "d6ed", "b04a", 0, 1, 0, false, false, false, "e79f0", "c456", 14660, 0, false, false));
+pg_table03.remove("c4a3");
+pg_table03.put(List.of("a7b1", "c075", "a172", 277, 120, 28, false, true, false, "e7cc", "cad1", 6, 1066, true, false));
+pg_table03.remove("c533");
+pg_table03.put(List.of("c6ed9", "c6cc", "e5c0", 4802, 780, 0, false, true, false, "f274", "be7b", 23, 11, false, false));
+pg_table03.remove("d000");
+pg_table03.put(List.of("a8e0", "d9f5", "f3e8", 13, 0, 1562, false, true, false, "e2e2", "a053", 4, 1836, true, false));
+pg_table03.put(List.of("b887", "fd37", "cb32", 113, 8439, 0, false, false, true, "b1cd", "b4b3", 0, 0, true, true));
+pg_table03.put(List.of("d518", "b514", "ab95", 3278768, 1285, 22688, false, false, true, "f59c", "aa784", 67, 2, true, false));
+pg_table03.get("c062");
+pg_table03.put(Arrays.asList("f212", "fcc0", "cfbe", 3354, 331, 0, false, true, false, "b787", null, 2773, 72, false, true));
+pg_table03.put(List.of("bf84", "eda2", "bd916", 360, 0, 1743, false, false, true, "f86b", "dd35", 0, 54, true, false));
+pg_table03.put(List.of("abc9", "c33c", "acf6", 35, 1, 0, true, true, true, "beb4", "f434", 0, 0, false, false));
+pg_table03.remove("cbd7");
+pg_table03.put(List.of("c290", "dcc7", "ac969", 4, 235, 0, true, false, false, "eed6", "ccc0", 86, 9420, false, false));
+pg_table03.remove("f944");
+pg_table03.put(List.of("e1df", "a928", "b033", 2451, 0, 16699, false, false, true, "ea4e", "a8b7", 0, 0, true, false));
+pg_table03.remove("f567");
+pg_table03.put(List.of("a290", "ec9ca", "f196", 8176, 1, 520, true, false, false, "b85c", "dbbe", 0, 0, false, false));
+pg_table03.remove("ca24");
+pg_table03.put(List.of("d5e7", "bc5d", "b447", 165, 1107, 2, false, false, true, "ca76", "fe80", 0, 0, false, false));
+pg_table03.get("d5a7");
+pg_table03.put(Arrays.asList("f6d0", "aa5d", "bdfd", 0, 0, 0, true, true, true, "b745", "f9c7", 0, 41, false, null));
+pg_table03.put(List.of("e076", "da93", "dfc2", 0, 0, 382, true, true, true, "aeb5", "f72f", 3, 0, false, true));
+pg_table03.put(List.of("c98b", "e5ac4", "d5d2", 1044, 0, 31517, true, false, false, "b490", "cb16", 15, 0, true, true));
+pg_table03.put(Arrays.asList(null, "db7b", "a2ed", 0, 0, 0, false, true, false, "c94c", "e46c", 202, 120, true, false));
+pg_table03.put(List.of("c4d3", "d129", "fb14", 4734, 2, 0, false, true, false, "ad33", "aecd", 0, 16354, true, true));
+pg_table03.put(List.of("d6bc", "f78e", "a4bc", 0, 0, 726, true, true, false, "a024d", "c820", 4848, 26, false, true));
+pg_table03.remove("e755");
+pg_table03.get("d4d2");
+pg_table03.put(Arrays.asList(null, "ce53", "aabb", 1705, 342, 0, true, false, false, "e3ee", "c1ac", 0, 19984, true, true));
+pg_table03.put(List.of("bd81", "ded7", "a2d1", 0, 0, 0, false, true, true, "d5bf", "c47b", 2, 0, true, true));
+pg_table03.put(List.of("a9be", "b9aa", "b036", 0, 0, 4, false, true, false, "b425", "a5f3", 0, 48, false, false));
+pg_table03.put(Arrays.asList("d4e4", "c484", "d709", 13, 0, 3, true, false, false, "ae8e", "bed4", null, 16756, true, true));
+pg_table03.put(List.of("da6a", "e721", "c790", 77, 0, 36, false, true, true, "e08a", "c3c4", 0, 9753, false, false));
+pg_table03.put(List.of("b6fb", "fae9", "f622", 0, 16589, 26, true, true, true, "ab20", "b413", 0, 2024, false, true));
+pg_table03.remove("de59");
+pg_table03.put(Arrays.asList("b559", null, "e279", 0, 0, 0, false, false, true, "c979", "e760d", 0, 38, false, false));
+pg_table03.put(List.of("a698", "fa4b", "c869", 0, 11, 0, true, true, false, "b8b8", "f522", 229, 0, false, true));
+pg_table03.put(List.of("afda", "ba82", "d681", 0, 1829, 0, false, false, true, "b4cd", "afc2", 11226, 0, false, true));
+pg_table03.put(List.of("a118", "ab0a", "cc5b", 13515, 0, 3, true, false, true, "b546", "f583", 303, 0, false, true));
+pg_table03.get("ae52");
+pg_table03.put(List.of("c84a", "f552", "e820", 21779, 18, 0, false, false, false, "c401", "a40c", 854, 177, true, true));
+pg_table03.put(Arrays.asList("cdab", "d159", "a4a8", 0, 0, 0, true, false, true, "e167", "acb8", 0, 0, false, null));
+pg_table03.put(List.of("c613", "c467", "b853", 14, 502, 1, true, true, true, "c8b6", "b0b4", 0, 0, false, true));
+pg_table03.put(List.of("c7ed", "a9d8", "f1d2", 0, 23, 0, false, false, true, "e168", "c446", 61, 0, false, false));
+pg_table03.put(List.of("d555", "df1d", "fb9b", 3, 83930, 499, true, true, false, "eca5a", "f0d1", 93, 1, true, false));
+pg_table03.put(List.of("c48d", "e43c", "a1dad", 0, 0, 4, true, false, true, "b438", "eb6f", 0, 275, true, false));
+pg_table03.put(List.of("ea26", "d895", "bfe9", 0, 110, 0, true, false, false, "a880", "a983", 0, 19, false, false));
+pg_table03.put(List.of("dea9", "fc05", "b96d", 0, 0, 4804, true, false, false, "efae", "afde", 6, 0, false, true));
+pg_table03.put(List.of("a0e3e", "c57e", "ac34", 0, 509, 2424, true, true, true, "b5e0", "f069", 3, 47891, false, false));
+pg_table03.put(List.of("adfa", "de22", "df44", 0, 9348, 0, false, true, true, "d725", "dc39", 40, 34, false, false));
+pg_table03.put(Arrays.asList("d164", "c96b", "e1d8", 3, 0, 1, true, false, false, "a4df", "b3a9", null, 0, true, false));
+pg_table03.put(List.of("d350", "ac30", "a655d", 487, 2053, 71, false, false, true, "c0b3", "b673", 1592, 371, true, false));
+pg_table03.put(Arrays.asList("d9df", "d8f8", "f0ab", 0, 8, 11, true, true, null, "dcff", "a4bf", 0, 0, true, false));
+pg_table03.put(List.of("ce5e", "b985", "d0f3", 30, 0, 6382, false, false, false, "baa2", "ae7e", 6, 11163, true, false));
+pg_table03.remove("bc4c");
+pg_table03.put(List.of("a73a", "a5d9", "a60d", 0, 1, 0, false, false, true, "f997b", "ccc8", 5, 173, false, false));
+pg_table03.remove("ed39");
+pg_table03.put(Arrays.asList("a7b3", "dba0", "fba2", 0, 0, null, false, false, true, "b30dc", "d268", 0, 5, false, false));
+pg_table03.put(Arrays.asList("aae6", "c89c", "d392", 0, 15, 174, true, null, false, "be88", "d6e0", 0, 47, false, false));
+pg_table03.put(List.of("b4b2", "d179", "b8c1", 0, 699, 0, true, false, true, "bafa", "a5b3", 0, 0, true, true));
+pg_table03.put(List.of("fb3d", "ba65", "cd77", 0, 5, 163, true, false, false, "a241", "a11b", 8, 1, true, false));
+pg_table03.remove("c149");
+pg_table03.put(List.of("a124", "c3ec", "af48", 0, 7, 2073, false, true, false, "e66a", "bb7f", 5958, 0, false, true));
+pg_table03.remove("c2c2");
+pg_table03.put(List.of("bad6", "fb7c", "b962", 328, 0, 624, true, true, false, "a319", "cc88", 308905, 42, true, true));
+pg_table03.put(Arrays.asList("f817", "a52d", "a193", 329, 211, null, true, false, true, "bc7b", "afae5", 0, 0, false, true));
+pg_table03.put(Arrays.asList("c3f6", "a859", null, 12, 1296, 96, false, true, false, "c927", "e42a", 0, 0, false, true));
+pg_table03.put(List.of("ad45", "e091", "cdb7", 1245, 8, 1, true, false, true, "d437", "b3b4b", 3, 207, false, true));
+pg_table03.get("e4c25");
+// Random Seed: 1796769154
+pg_table03 = null;
+
+pg_table03 = new PagedFileTable("pg_table03");
+pg_table03.getTableName();
+pg_table03.getColumnNames();
+pg_table03.getColumnTypes();
+pg_table03.getPrimaryIndex();
+pg_table03.getTableName();
+pg_table03.getColumnNames();
+pg_table03.getColumnTypes();
+pg_table03.getPrimaryIndex();
+pg_table03.get("f4a1");
+pg_table03.get("fbb1");
+pg_table03.get("cfc9");
+pg_table03.get("d4b1");
+pg_table03.get("da75");
+pg_table03.get("c8cf");
+pg_table03.get("b40a");
+pg_table03.get("ccad");
+pg_table03.get("d502");
+pg_table03.get("c824");
+pg_table03.get("f91b");
+pg_table03.get("c129");
+pg_table03.get("a2de4");
+pg_table03.get("a0bd");
+pg_table03.get("c51e");
+pg_table03.get("ab17b");
+pg_table03.get("e176");
+pg_table03.get("aa91");
+pg_table03.get("e135");
+pg_table03.get("ca64");
+pg_table03.get("caf9");
+pg_table03.get("bd61");
+pg_table03.get("dfe5");
+pg_table03.get("eda3");
+pg_table03.get("df30");
+pg_table03.get("fbb3");
+pg_table03.get("d5e9");
+pg_table03.get("da87");
+pg_table03.get("e47d");
+pg_table03.get("cc38");
+pg_table03.get("c09d");
+pg_table03.get("e21d");
+pg_table03.get("dbc5");
+pg_table03.get("cb5c");
+pg_table03.get("ed62c");
+pg_table03.get("c400");
+pg_table03.get("d594");
+pg_table03.get("c206");
+pg_table03.get("b2b7");
+pg_table03.get("a9092");
+pg_table03.get("a106");
+pg_table03.get("ec0a");
+pg_table03.get("d230");
+pg_table03.get("a53e");
+pg_table03.get("ba1d");
+pg_table03.get("b1d1");
+pg_table03.get("a73d");
+pg_table03.get("c3577");
+pg_table03.get("f34a");
+pg_table03.get("dbc8");
+pg_table03.get("cbfb");
+pg_table03.get("f74b");
+pg_table03.get("b75d");
+pg_table03.get("a0521");
+pg_table03.get("e218");
+pg_table03.get("e472");
+pg_table03.get("dc913");
+pg_table03.get("bb2e0");
+pg_table03.get("e8b2");
+pg_table03.get("bd7f");
+pg_table03.get("d06c");
+pg_table03.get("bf54");
+pg_table03.get("c0e6");
+pg_table03.get("cc1d");
+pg_table03.get("a76b");
+pg_table03.get("a56d0");
+pg_table03.get("e965");
+pg_table03.get("e147");
+pg_table03.get("fa32f");
+pg_table03.get("e337");
+pg_table03.get("b498");
+pg_table03.get("aae4");
+pg_table03.get("d430");
+pg_table03.get("f0eb");
+pg_table03.get("e395");
+pg_table03.get("a865");
+pg_table03.get("cfd9c");
+pg_table03.get("ac65");
+pg_table03.get("fcd9");
+pg_table03.get("e7bb");
+pg_table03.get("ff4f");
+pg_table03.get("c8fc");
+pg_table03.get("fd06");
+pg_table03.get("bcfb");
+pg_table03.get("b805");
+pg_table03.get("edd5");
+pg_table03.get("a546");
+pg_table03.get("f78b");
+pg_table03.get("cce8");
+pg_table03.get("ce776");
+pg_table03.get("ff79");
+pg_table03.get("c0e0b");
+pg_table03.get("f847");
+pg_table03.get("b9fe7");
+pg_table03.get("cb67a");
+pg_table03.get("f8a4");
+pg_table03.get("eb1f1");
+pg_table03.get("ea39");
+pg_table03.get("af15");
+pg_table03.get("a521d");
+pg_table03.get("d04f");
+pg_table03.get("bac8");
+pg_table03.get("bebe1");
+pg_table03.get("b5c3");
+pg_table03.get("a3d1");
+pg_table03.get("ada3");
+pg_table03.get("be12a");
+pg_table03.get("bd2e");
+pg_table03.get("f247");
+pg_table03.get("a83aa");
+pg_table03.get("d8dbd");
+pg_table03.get("b6db");
+pg_table03.get("c413");
+pg_table03.get("ac46");
+pg_table03.get("d019");
+pg_table03.get("e30e");
+pg_table03.get("c686");
+pg_table03.get("a46f");
+pg_table03.get("e21f");
+pg_table03.get("efbdb");
+pg_table03.get("a293");
+pg_table03.get("b07f");
+pg_table03.get("a2d7");
+pg_table03.get("c9623");
+pg_table03.get("a9ff");
+pg_table03.get("b529");
+pg_table03.get("e45e");
+pg_table03.get("fc7a");
+pg_table03.get("ad91");
+pg_table03.get("dd01");
+pg_table03.get("bf9f");
+pg_table03.get("ff45");
+pg_table03.get("b370");
+pg_table03.get("fd36");
+pg_table03.get("c0d1");
+pg_table03.get("b9cf");
+pg_table03.get("db18");
+pg_table03.get("ec8b");
+pg_table03.get("cc0e");
+pg_table03.get("f6f0");
+pg_table03.get("b33a");
+pg_table03.get("a8fdb");
+pg_table03.get("a561");
+pg_table03.get("f72b");
+pg_table03.get("ce446");
+pg_table03.get("b10d");
+pg_table03.get("b31c");
+pg_table03.get("b5d3");
+pg_table03.get("a662");
+pg_table03.get("a0d5");
+pg_table03.get("aca10");
+pg_table03.get("d219");
+pg_table03.get("f555");
+pg_table03.get("a048");
+pg_table03.get("b5ac");
+pg_table03.get("c1a6");
+pg_table03.get("eb07");
+pg_table03.get("e123");
+pg_table03.get("b566");
+pg_table03.get("c5f6");
+pg_table03.get("ab75c");
+pg_table03.get("c609");
+pg_table03.get("b4e6");
+pg_table03.get("beef");
+pg_table03.get("c6bb9");
+pg_table03.get("bd2a");
+pg_table03.get("aad1");
+pg_table03.get("a0d03");
+pg_table03.get("d6b6");
+pg_table03.get("a0f7");
+pg_table03.get("f13b");
+pg_table03.get("ef65");
+pg_table03.get("c03a");
+pg_table03.get("baae");
+pg_table03.get("fe40");
+pg_table03.get("b6e9");
+pg_table03.get("c9d1");
+pg_table03.get("b8c6");
+pg_table03.get("bd7b");
+pg_table03.get("f5f7");
+pg_table03.get("ccd72");
+pg_table03.get("bdf3");
+pg_table03.get("aab87");
+pg_table03.get("d113");
+pg_table03.get("a7af");
+pg_table03.get("cba6");
+pg_table03.get("ed0e");
+pg_table03.get("bf3e");
+pg_table03.get("b4b5");
+pg_table03.get("a0ef");
+pg_table03.get("c3f8");
+pg_table03.get("cb6c");
+pg_table03.get("d4ff");
+pg_table03.get("e682");
+pg_table03.get("b7d5");
+pg_table03.get("ca50");
+pg_table03.get("c5ae");
+pg_table03.get("e4b0");
+pg_table03.get("daf7");
+pg_table03.get("da48");
+pg_table03.get("ab95b");
+pg_table03.get("da2f");
+pg_table03.get("ae07");
+pg_table03.get("dcc1");
+pg_table03.get("b635");
+pg_table03.get("e02a");
+pg_table03.get("a72b");
+pg_table03.get("e102c");
+pg_table03.get("e0a2");
+pg_table03.get("ce27");
+pg_table03.get("feff");
+pg_table03.get("d407");
+pg_table03.get("c0f4");
+pg_table03.get("ed73");
+pg_table03.get("f1b5f");
+pg_table03.get("f523");
+pg_table03.get("ea14");
+pg_table03.get("c8335");
+pg_table03.get("d3db");
+pg_table03.get("bd12");
+pg_table03.get("e3bd");
+pg_table03.get("f3aab");
+pg_table03.get("cb53");
+pg_table03.get("bf24");
+pg_table03.get("aa9d");
+pg_table03.get("cc75");
+pg_table03.get("cc34");
+pg_table03.get("afe5");
+pg_table03.get("a138");
+pg_table03.get("c4f3");
+pg_table03.get("f92c");
+pg_table03.get("ca0b");
+pg_table03.get("d499");
+pg_table03.get("ff46");
+pg_table03.get("fa08");
+pg_table03.get("c26a6");
+pg_table03.get("f668");
+pg_table03.get("b27b3");
+pg_table03.get("ecb8");
+pg_table03.get("b4d5");
+pg_table03.get("cfc7");
+pg_table03.get("e5624");
+pg_table03.get("ec5c");
+pg_table03.get("ad48");
+pg_table03.get("d56d");
+pg_table03.get("e4a9");
+pg_table03.get("ce5b");
+pg_table03.get("a794");
+pg_table03.get("c345");
+pg_table03.get("f56c");
+pg_table03.get("fd1c");
+pg_table03.get("af8e");
+pg_table03.get("c02a");
+pg_table03.get("eb2c");
+pg_table03.get("a1001");
+pg_table03.get("ad71");
+pg_table03.get("bb34");
+pg_table03.get("ab9a");
+pg_table03.get("b038");
+pg_table03.get("d1cd");
+pg_table03.get("cd5e");
+pg_table03.get("b3ff");
+pg_table03.get("b561");
+pg_table03.get("c99a5");
+pg_table03.get("fc1a");
+pg_table03.get("ff7d");
+pg_table03.get("dfd1");
+pg_table03.get("a9b2");
+pg_table03.get("dee0");
+pg_table03.get("cc90");
+pg_table03.get("b3fc");
+pg_table03.get("df40");
+pg_table03.get("e071");
+pg_table03.get("a091");
+pg_table03.get("d28d");
+pg_table03.get("c7f0");
+pg_table03.get("ff1b");
+pg_table03.get("a204");
+pg_table03.get("d5a3");
+pg_table03.get("bc81");
+pg_table03.get("bed1");
+pg_table03.get("d7fa");
+pg_table03.get("c6a0");
+pg_table03.get("d3d5");
+pg_table03.get("ca10");
+pg_table03.get("db6c");
+pg_table03.get("cbcb");
+pg_table03.get("aed5");
+pg_table03.get("d8b1");
+pg_table03.get("dbce");
+pg_table03.get("c2eab");
+pg_table03.get("a020");
+pg_table03.get("fc36");
+pg_table03.get("b9c3");
+pg_table03.get("c086");
+pg_table03.get("a312");
+pg_table03.get("aaf62");
+pg_table03.get("d22f");
+pg_table03.get("bdd4");
+pg_table03.get("b703");
+pg_table03.get("c828");
+pg_table03.get("b10f");
+pg_table03.get("f5ae");
+pg_table03.get("d3eb0");
+pg_table03.get("a248");
+pg_table03.get("aa5a");
+pg_table03.get("e2ea");
+pg_table03.get("f20c");
+pg_table03.get("b771");
+pg_table03.get("a4cf");
+pg_table03.get("df60");
+pg_table03.get("daa1");
+pg_table03.get("b7a3");
+pg_table03.get("b0e6");
+pg_table03.get("ca23");
+pg_table03.get("dad7");
+pg_table03.get("b46ba");
+pg_table03.get("be74");
+pg_table03.get("b60ec");
+pg_table03.get("ffa6");
+pg_table03.get("b174");
+pg_table03.get("af52");
+pg_table03.get("a221");
+pg_table03.get("b1bd");
+pg_table03.get("fbb0");
+pg_table03.get("b07a");
+pg_table03.get("d243");
+pg_table03.get("accf");
+pg_table03.get("e3d3");
+pg_table03.get("f5cb");
+pg_table03.get("f339");
+pg_table03.get("c6d4");
+pg_table03.get("f54b3");
+pg_table03.get("aea9");
+pg_table03.get("eef9");
+pg_table03.get("c63e");
+pg_table03.get("e5fa");
+pg_table03.get("be99");
+pg_table03.get("ace1");
+pg_table03.get("c885");
+pg_table03.get("f82e");
+pg_table03.get("d1c2");
+pg_table03.get("d68b");
+pg_table03.get("d5c1");
+pg_table03.get("a1c0");
+pg_table03.get("e335");
+pg_table03.get("f9322");
+pg_table03.get("f699");
+pg_table03.get("a6cad");
+pg_table03.get("c0ce");
+pg_table03.get("f110");
+pg_table03.get("c1e5");
+pg_table03.get("bc9c");
+pg_table03.get("dc6b");
+pg_table03.get("a9a2");
+pg_table03.get("de53");
+pg_table03.get("c8e6");
+pg_table03.get("d3b0");
+pg_table03.get("ac44");
+pg_table03.get("d78c");
+pg_table03.get("c364");
+pg_table03.get("f7c4");
+pg_table03.get("a464");
+pg_table03.get("af5d");
+pg_table03.get("e941f");
+pg_table03.get("a6221");
+pg_table03.get("d0c6");
+pg_table03.get("edb0");
+pg_table03.get("e795");
+pg_table03.get("e9e3");
+pg_table03.get("ff18");
+pg_table03.get("a48b");
+pg_table03.get("b33b");
+pg_table03.get("bf2e");
+pg_table03.get("a1ba8");
+pg_table03.get("fa94");
+pg_table03.get("aab3");
+pg_table03.get("d14a");
+pg_table03.get("af0a");
+pg_table03.get("abea");
+pg_table03.get("fe70");
+pg_table03.get("ddad");
+pg_table03.get("b33c");
+pg_table03.get("bc3c");
+pg_table03.get("c418");
+pg_table03.get("fcbd");
+pg_table03.get("e152");
+pg_table03.get("e514");
+pg_table03.get("a0e4");
+pg_table03.get("da67");
+pg_table03.get("f8b8");
+pg_table03.get("c737");
+pg_table03.get("e19b");
+pg_table03.get("d655");
+pg_table03.get("b37d");
+pg_table03.get("c2d0");
+pg_table03.get("b6a5");
+pg_table03.get("cce5");
+pg_table03.get("f8bc");
+pg_table03.get("b9d4");
+pg_table03.get("a492");
+pg_table03.get("f663");
+pg_table03.get("cd28");
+pg_table03.get("ba94");
+pg_table03.get("d952");
+pg_table03.get("a5d3");
+pg_table03.get("a026");
+pg_table03.get("bd01");
+pg_table03.get("a8bf");
+pg_table03.get("ed58b");
+pg_table03.get("db261");
+pg_table03.get("bf22");
+pg_table03.get("e875");
+pg_table03.get("d6921");
+pg_table03.get("b84f");
+pg_table03.get("f2bb");
+pg_table03.get("baca");
+pg_table03.get("a8ff");
+pg_table03.get("c1fa");
+pg_table03.get("abba");
+pg_table03.get("bb5b");
+pg_table03.get("a33a");
+pg_table03.get("da88");
+pg_table03.get("bfa0");
+pg_table03.get("ac2b");
+pg_table03.get("b15b");
+pg_table03.get("d637d");
+pg_table03.get("f90f");
+pg_table03.get("b0a6");
+pg_table03.get("f7fd");
+pg_table03.get("db44");
+pg_table03.get("a3ce");
+pg_table03.get("db650");
+pg_table03.get("cd1a");
+pg_table03.get("f119");
+pg_table03.get("c7e1");
+pg_table03.get("a29e");
+pg_table03.get("be53");
+pg_table03.get("e97b");
+pg_table03.get("daa3");
+pg_table03.get("aeb2");
+pg_table03.get("d31b");
+pg_table03.get("cd23a");
+pg_table03.get("a792");
+pg_table03.get("b1b3");
+pg_table03.get("ef3a");
+pg_table03.get("adff");
+pg_table03.get("b083");
+pg_table03.get("b2b5");
+pg_table03.get("f687");
+pg_table03.get("dbe1");
+pg_table03.get("c1973");
+pg_table03.get("bc7d");
+pg_table03.get("f971");
+pg_table03.get("d93f");
+pg_table03.get("aaa0e");
+pg_table03.get("fc7d");
+pg_table03.get("e29c");
+pg_table03.get("cfe2f");
+pg_table03.get("cceb");
+pg_table03.get("a2393");
+pg_table03.get("a8ca");
+pg_table03.get("d4c5");
+pg_table03.get("b87e");
+pg_table03.get("aa474");
+pg_table03.get("c82b");
+pg_table03.get("aa3a");
+pg_table03.get("b9af");
+pg_table03.get("ace9");
+pg_table03.get("befa");
+pg_table03.get("af13d");
+pg_table03.get("c2f5");
+pg_table03.get("cd38");
+pg_table03.get("a264");
+pg_table03.get("eb41");
+pg_table03.get("ec5dd");
+pg_table03.get("c836");
+pg_table03.get("d21f");
+pg_table03.get("cebe");
+pg_table03.get("a34c");
+pg_table03.get("caeb");
+pg_table03.get("aac6");
+pg_table03.get("c45e");
+pg_table03.get("a3f2");
+pg_table03.get("b82c");
+pg_table03.get("b5eb");
+pg_table03.get("f962");
+pg_table03.get("ce40");
+pg_table03.get("b9b4");
+pg_table03.get("adef");
+pg_table03.get("a2e2");
+pg_table03.get("d7c6");
+pg_table03.get("c2be");
+pg_table03.get("aa85");
+pg_table03.get("dc6f");
+pg_table03.get("d006");
+pg_table03.get("c6be");
+pg_table03.get("e1c2");
+pg_table03.get("b32a0");
+pg_table03.get("adfc");
+pg_table03.get("defc7");
+pg_table03.get("aad4");
+pg_table03.get("c0a2e");
+pg_table03.get("a169");
+pg_table03.get("ee4b");
+pg_table03.get("a0b2");
+pg_table03.get("fbdb");
+pg_table03.get("cb28");
+pg_table03.get("f1de");
+pg_table03.get("ebc2");
+pg_table03.get("edaf");
+pg_table03.get("aa3f");
+pg_table03.get("b8d8");
+pg_table03.get("f509");
+pg_table03.get("cc94");
+pg_table03.get("deee4");
+pg_table03.get("a303");
+pg_table03.get("a2af");
+pg_table03.get("b7df");
+pg_table03.get("c2e0");
+pg_table03.get("f001");
+pg_table03.get("ce05");
+pg_table03.get("d2a3");
+pg_table03.get("a982");
+pg_table03.get("cdbb");
+pg_table03.get("d8d2");
+pg_table03.get("bfd9");
+pg_table03.get("cafa");
+pg_table03.get("d918");
+pg_table03.get("dad4");
+pg_table03.get("d004");
+pg_table03.get("d055");
+pg_table03.get("a2f0");
+pg_table03.get("d9f3");
+pg_table03.get("bfcd");
+pg_table03.get("ffec");
+pg_table03.get("f833");
+pg_table03.get("a851");
+pg_table03.get("ef9a");
+pg_table03.get("adbc");
+pg_table03.get("a2a81");
+pg_table03.get("ffe2");
+pg_table03.get("b1ef");
+pg_table03.get("b58e");
+pg_table03.get("e758");
+pg_table03.get("fa78");
+pg_table03.get("b8dc");
+pg_table03.get("cdf7");
+pg_table03.get("d70f");
+pg_table03.get("a422");
+pg_table03.get("aa982");
+pg_table03.get("f234");
+pg_table03.get("d4fa");
+pg_table03.get("e692");
+pg_table03.get("a41e");
+pg_table03.get("aa25");
+pg_table03.get("a53b");
+pg_table03.get("deda");
+pg_table03.get("bcc2");
+pg_table03.get("d758");
+pg_table03.get("c545");
+pg_table03.get("f2d00");
+pg_table03.get("ab55");
+pg_table03.get("cc43");
+pg_table03.get("b165");
+pg_table03.get("d83f");
+pg_table03.get("a298");
+pg_table03.get("e2b6");
+pg_table03.get("cae3");
+pg_table03.get("bbe7");
+pg_table03.get("a32f");
+pg_table03.get("a98c");
+pg_table03.get("b701");
+pg_table03.get("b97f");
+pg_table03.get("bad5");
+pg_table03.get("a6d3");
+pg_table03.get("ba12");
+pg_table03.get("ec4f");
+pg_table03.get("d69e");
+pg_table03.get("ba0a");
+pg_table03.get("a770");
+pg_table03.get("ade5");
+pg_table03.get("aeaa");
+pg_table03.get("d82c");
+pg_table03.get("b9c7");
+pg_table03.get("d297");
+pg_table03.get("f02a");
+pg_table03.get("f7a5");
+pg_table03.get("ac4c");
+pg_table03.get("a72e");
+pg_table03.get("e32c");
+pg_table03.get("dee28");
+pg_table03.get("ea0e");
+pg_table03.get("f4b3");
+pg_table03.get("fb32");
+pg_table03.get("d16b2");
+pg_table03.get("aa24c");
+pg_table03.get("ae67");
+pg_table03.get("f54c");
+pg_table03.get("b4b6");
+pg_table03.get("af92");
+pg_table03.get("a26a");
+pg_table03.get("f47e");
+pg_table03.get("a64d8");
+pg_table03.get("c943");
+pg_table03.get("eddb");
+pg_table03.get("e7c2");
+pg_table03.get("c2fe");
+pg_table03.get("cbf9");
+pg_table03.get("c202");
+pg_table03.get("acd0");
+pg_table03.get("c430d");
+pg_table03.get("a7df");
+pg_table03.get("b114");
+pg_table03.get("c4d6");
+pg_table03.get("e1b7");
+pg_table03.get("b6c3");
+pg_table03.get("d90f");
+pg_table03.get("a7d7");
+pg_table03.get("b98f");
+pg_table03.get("acc5");
+pg_table03.get("ade3");
+pg_table03.get("c095");
+pg_table03.get("ea60");
+pg_table03.get("d1121");
+pg_table03.get("dd4c");
+pg_table03.get("d19c");
+pg_table03.get("dda7");
+pg_table03.get("f338");
+pg_table03.get("c356");
+pg_table03.get("d6cd");
+pg_table03.get("e0cd");
+pg_table03.get("e411");
+pg_table03.get("d3c1");
+pg_table03.get("ddc7");
+pg_table03.get("a7a9");
+pg_table03.get("d2147");
+pg_table03.get("c772");
+pg_table03.get("ca94");
+pg_table03.get("f46a");
+pg_table03.get("abca");
+pg_table03.get("af12");
+pg_table03.get("b5de");
+pg_table03.get("d28a");
+pg_table03.get("b53c");
+pg_table03.get("bdd7");
+pg_table03.get("c9e4");
+pg_table03.get("b32b");
+pg_table03.get("ba72");
+pg_table03.get("e2fb");
+pg_table03.get("e1a4");
+pg_table03.get("eddf");
+pg_table03.get("adbd");
+pg_table03.get("defa");
+pg_table03.get("a244");
+pg_table03.get("ae9a");
+pg_table03.get("d37a");
+pg_table03.get("a7acc");
+pg_table03.get("c803");
+pg_table03.get("fa8a");
+pg_table03.get("ad38");
+pg_table03.get("a3cf");
+pg_table03.get("a314");
+pg_table03.get("fd243");
+pg_table03.get("ac93b");
+pg_table03.get("c5b4");
+pg_table03.get("c623");
+pg_table03.get("e17f");
+pg_table03.get("e270");
+pg_table03.get("aaad");
+pg_table03.get("b835");
+pg_table03.get("ee8c");
+pg_table03.get("bf0b");
+pg_table03.get("a719");
+pg_table03.get("df435");
+pg_table03.get("e138");
+pg_table03.get("f9dd");
+pg_table03.get("f334");
+pg_table03.get("eb04");
+pg_table03.get("b03c");
+pg_table03.get("d9f6");
+pg_table03.get("dbdb");
+pg_table03.get("ed7f");
+pg_table03.get("b03b");
+pg_table03.get("c3f2");
+pg_table03.get("d734");
+pg_table03.get("fa30");
+pg_table03.get("bb38");
+pg_table03.get("c71d");
+pg_table03.get("ed6b9");
+pg_table03.get("b62a");
+pg_table03.get("e911");
+pg_table03.get("d2ed");
+pg_table03.get("bccbc");
+pg_table03.get("e9f8");
+pg_table03.get("dee2");
+pg_table03.get("e8a7");
+pg_table03.get("a081");
+pg_table03.get("d84d");
+pg_table03.get("c9be");
+pg_table03.get("d3b9");
+pg_table03.get("ef82");
+pg_table03.get("b81c");
+pg_table03.get("c440");
+pg_table03.get("e60f");
+pg_table03.get("c515");
+pg_table03.get("d134");
+pg_table03.get("ab73");
+pg_table03.get("c1eb");
+pg_table03.get("a00aa");
+pg_table03.get("c3b7");
+pg_table03.get("c050");
+pg_table03.get("d7a1");
+pg_table03.get("ad806");
+pg_table03.get("ae0a");
+pg_table03.get("dd43");
+pg_table03.get("c6b6");
+pg_table03.get("a5a0a");
+pg_table03.get("bff4f");
+pg_table03.get("ba8f");
+pg_table03.get("a6fa");
+pg_table03.get("a3be");
+pg_table03.get("c8d7");
+pg_table03.get("c8b7");
+pg_table03.get("bc32");
+pg_table03.get("ed21");
+pg_table03.get("e124");
+pg_table03.get("ab72");
+pg_table03.get("d01d");
+pg_table03.get("f088");
+pg_table03.get("a9f2");
+pg_table03.get("a1d6");
+pg_table03.get("d35c");
+pg_table03.get("a40e2");
+pg_table03.get("e614");
+pg_table03.get("ba5d");
+pg_table03.get("fc1f");
+pg_table03.get("a25e");
+pg_table03.get("c556");
+pg_table03.get("f67b");
+pg_table03.get("a2fb");
+pg_table03.get("c38d");
+pg_table03.get("bfe1");
+pg_table03.get("a6ec");
+pg_table03.get("fa07");
+pg_table03.get("bbf6");
+pg_table03.get("b349");
+pg_table03.get("bad7");
+pg_table03.get("a5ae");
+pg_table03.get("f81f");
+pg_table03.get("c3529");
+pg_table03.get("b9fc");
+pg_table03.get("d663");
+pg_table03.get("c17f");
+pg_table03.get("c9f0");
+pg_table03.get("cc6b");
+pg_table03.get("f4f5");
+pg_table03.get("ccaf");
+pg_table03.get("cf22");
+pg_table03.get("b0e0");
+pg_table03.get("a52b");
+pg_table03.get("ccf5");
+pg_table03.get("d65d");
+pg_table03.get("b7ce");
+pg_table03.get("cad8");
+pg_table03.get("afc6");
+pg_table03.get("d957");
+pg_table03.get("eec0");
+pg_table03.get("a3df");
+pg_table03.get("b9fd");
+pg_table03.get("a59e");
+pg_table03.get("f797");
+pg_table03.get("a6c5b");
+pg_table03.get("bb75");
+pg_table03.get("f6b6");
+pg_table03.get("c758");
+pg_table03.get("c3bb1");
+pg_table03.get("d076");
+pg_table03.get("f1a9");
+pg_table03.get("e6f7");
+pg_table03.get("e049");
+pg_table03.get("ec91");
+pg_table03.get("b9dd");
+pg_table03.get("eb87");
+pg_table03.get("bd7d");
+pg_table03.get("c2ef");
+pg_table03.get("d674");
+pg_table03.get("c56d");
+pg_table03.get("b1a7");
+pg_table03.get("f13d");
+pg_table03.get("a28f");
+pg_table03.get("dab0");
+pg_table03.get("aa81");
+pg_table03.get("c1a1");
+pg_table03.get("a010");
+pg_table03.get("f232d");
+pg_table03.get("f30e");
+pg_table03.get("eaf9");
+pg_table03.get("b9fb");
+pg_table03.get("b44a");
+pg_table03.get("a8a8");
+pg_table03.get("e383");
+pg_table03.get("b13f7");
+pg_table03.get("a5546");
+pg_table03.get("ecce");
+pg_table03.get("b69f");
+pg_table03.get("b33aa");
+pg_table03.get("ddb2");
+pg_table03.get("c9c1");
+pg_table03.get("df63");
+pg_table03.get("dc1b");
+pg_table03.get("c391");
+pg_table03.get("c665");
+pg_table03.get("cd14");
+pg_table03.get("e480");
+pg_table03.get("ad460");
+pg_table03.get("eece");
+pg_table03.get("f96c");
+pg_table03.get("ddfe");
+pg_table03.get("b3e9");
+pg_table03.get("a15f");
+pg_table03.get("deb4");
+pg_table03.get("a0fc");
+pg_table03.get("c0ca");
+pg_table03.get("b96a");
+pg_table03.get("bbf85");
+pg_table03.get("c0157");
+pg_table03.get("c80a");
+pg_table03.get("f056");
+pg_table03.get("b9f7d");
+pg_table03.get("f3a5");
+pg_table03.get("a474d");
+pg_table03.get("be0d");
+pg_table03.get("da02");
+pg_table03.get("af40");
+pg_table03.get("cb66");
+pg_table03.get("ff420");
+pg_table03.get("c208");
+pg_table03.get("b5b7");
+pg_table03.get("ee8d");
+pg_table03.get("d93c");
+pg_table03.get("ca7b");
+pg_table03.get("bb6b");
+pg_table03.get("a354");
+pg_table03.get("b356");
+pg_table03.get("ea4a");
+pg_table03.get("cc510");
+pg_table03.get("c343");
+pg_table03.get("ac9a");
+pg_table03.get("ee1f");
+pg_table03.get("a45f");
+pg_table03.get("f936");
+pg_table03.get("f6b7");
+pg_table03.get("ea0da");
+pg_table03.get("c8e5");
+pg_table03.get("c205");
+pg_table03.get("efdf");
+pg_table03.get("bf2b");
+pg_table03.get("e995");
+pg_table03.get("fe3c");
+pg_table03.get("cb5b");
+pg_table03.get("d111");
+pg_table03.get("a840");
+pg_table03.get("ad81");
+pg_table03.get("ebe9");
+pg_table03.get("bbfb");
+pg_table03.get("e71c");
+pg_table03.get("ade6");
+pg_table03.get("c952");
+pg_table03.get("c090");
+pg_table03.get("df579");
+pg_table03.get("d015");
+pg_table03.get("bf98");
+pg_table03.get("fadc");
+pg_table03.get("c8ee");
+pg_table03.get("e6f5");
+pg_table03.get("b00b");
+pg_table03.get("b44c");
+pg_table03.get("df6c");
+pg_table03.get("d3a8");
+pg_table03.get("b3ae");
+pg_table03.get("dc45f");
+pg_table03.get("c918");
+pg_table03.get("cc6e");
+pg_table03.get("a4a6");
+pg_table03.get("c924");
+pg_table03.get("b51e");
+pg_table03.get("a4672");
+pg_table03.get("e112");
+pg_table03.get("ea69");
+pg_table03.get("c044");
+pg_table03.get("bd51");
+pg_table03.get("a347");
+pg_table03.get("c699");
+pg_table03.get("eed2");
+pg_table03.get("c982");
+pg_table03.get("a9e0");
+pg_table03.get("bb87");
+pg_table03.get("f3ea");
+pg_table03.get("e1e6");
+pg_table03.get("b0ce");
+pg_table03.get("f190");
+pg_table03.get("fbed");
+pg_table03.get("a85f");
+pg_table03.get("c377");
+pg_table03.get("bc29");
+pg_table03.get("f8b5");
+pg_table03.get("cb5cd");
+pg_table03.get("f08f");
+pg_table03.get("d636");
+pg_table03.get("c5bb");
+pg_table03.get("c816");
+pg_table03.get("b226");
+pg_table03.get("b902b");
+pg_table03.get("a1d0");
+pg_table03.get("f4abf");
+pg_table03.get("af8d");
+pg_table03.get("a3c10");
+pg_table03.get("b26b");
+pg_table03.get("cd54");
+pg_table03.get("c8da");
+pg_table03.get("a1ce");
+pg_table03.get("a037");
+pg_table03.get("eb14");
+pg_table03.get("d61a");
+pg_table03.get("beeb");
+pg_table03.get("bbd2");
+pg_table03.get("b509");
+pg_table03.get("b7e5");
+pg_table03.get("b41b");
+pg_table03.get("d75c");
+pg_table03.get("fb12");
+pg_table03.get("ee41");
+pg_table03.get("fa44");
+pg_table03.get("c9a8");
+pg_table03.get("ad18");
+pg_table03.get("ad58");
+pg_table03.get("c4d64");
+pg_table03.get("a8cf");
+pg_table03.get("be6dc");
+pg_table03.get("c67d");
+pg_table03.get("a325");
+pg_table03.get("b2e5");
+pg_table03.get("b798");
+pg_table03.get("b312db");
+pg_table03.get("fb91");
+pg_table03.get("fa88");
+pg_table03.get("ff33");
+pg_table03.get("d88c");
+pg_table03.get("db2b");
+pg_table03.get("c258");
+pg_table03.get("cdb0");
+pg_table03.get("bb3c3");
+pg_table03.get("e5d4");
+pg_table03.get("def0");
+pg_table03.get("bb52");
+pg_table03.get("cf71");
+pg_table03.get("cd9d");
+pg_table03.get("b376");
+pg_table03.get("a567");
+pg_table03.get("a5b9");
+pg_table03.get("a2e1");
+pg_table03.get("b8f1");
+pg_table03.get("ae97");
+pg_table03.get("c275");
+pg_table03.get("dd3d");
+pg_table03.get("a641");
+pg_table03.get("b588");
+pg_table03.get("f0a03");
+pg_table03.get("aed9");
+pg_table03.get("bace");
+pg_table03.get("b889");
+pg_table03.get("b94d9");
+pg_table03.get("a30a");
+pg_table03.get("b5f9");
+pg_table03.get("a752");
+pg_table03.get("aea7");
+pg_table03.get("db5f");
+pg_table03.get("a291");
+pg_table03.get("d45e");
+pg_table03.get("dc4f");
+pg_table03.get("a575");
+pg_table03.get("b9d7");
+pg_table03.get("c07e");
+pg_table03.get("f3d2");
+pg_table03.get("b4d3");
+pg_table03.get("e14e");
+pg_table03.get("efac");
+pg_table03.get("bf3b");
+pg_table03.get("a1ab");
+pg_table03.get("acab");
+pg_table03.get("c7ef");
+pg_table03.get("a402");
+pg_table03.get("de6e");
+pg_table03.get("c8a7");
+pg_table03.get("a50c");
+pg_table03.get("b4b84");
+pg_table03.get("c9c5");
+pg_table03.get("d5f8");
+pg_table03.get("f573");
+pg_table03.get("d9bf");
+pg_table03.get("a42f");
+pg_table03.get("dfe4");
+pg_table03.get("d1559");
+pg_table03.get("ca3b");
+pg_table03.get("d929");
+pg_table03.get("a30e");
+pg_table03.get("a3435");
+pg_table03.get("ca84");
+pg_table03.get("ab06");
+pg_table03.get("ad50");
+pg_table03.get("f5ff");
+pg_table03.get("fb026");
+pg_table03.get("d737");
+pg_table03.get("cb9b");
+pg_table03.get("d949");
+pg_table03.get("a763");
+pg_table03.get("ab47");
+pg_table03.get("fce7");
+pg_table03.get("f8d1");
+pg_table03.get("f9c9");
+pg_table03.get("dd15");
+pg_table03.get("b5df");
+pg_table03.get("add0");
+pg_table03.get("d8af");
+pg_table03.get("b468");
+pg_table03.get("d94a");
+pg_table03.get("aa59");
+pg_table03.get("b624");
+pg_table03.get("b66eb");
+pg_table03.get("ae1b");
+pg_table03.get("bf4d");
+pg_table03.get("c544");
+pg_table03.get("aecc");
+pg_table03.get("dd5b");
+pg_table03.get("ca15");
+pg_table03.get("ba6e");
+pg_table03.get("b15fd");
+pg_table03.get("b7cd");
+pg_table03.get("d967");
+pg_table03.get("e288a");
+pg_table03.get("e074");
+pg_table03.get("dc86");
+pg_table03.get("b90a");
+pg_table03.get("b400");
+pg_table03.get("b4c0");
+pg_table03.get("aaed");
+pg_table03.get("a5f9");
+pg_table03.get("e23f");
+pg_table03.get("f28e");
+pg_table03.get("f61a");
+pg_table03.get("c27b");
+pg_table03.get("c21e1");
+pg_table03.get("f50c");
+pg_table03.get("af42e");
+pg_table03.get("cb13");
+pg_table03.get("ce12");
+pg_table03.get("bbd5");
+pg_table03.get("c572");
+pg_table03.get("f729");
+pg_table03.get("c257");
+pg_table03.get("b636");
+pg_table03.get("c79f");
+pg_table03.get("fcb5");
+pg_table03.get("b500");
+pg_table03.get("b666");
+pg_table03.get("d7d3");
+pg_table03.get("a820");
+pg_table03.get("f94b");
+pg_table03.get("fcaf");
+pg_table03.get("a826");
+pg_table03.get("b6ade");
+pg_table03.get("b2d6");
+pg_table03.get("d846");
+pg_table03.get("cba7");
+pg_table03.get("c8a3");
+pg_table03.get("b9b0");
+pg_table03.get("ba22");
+pg_table03.get("b0a2");
+pg_table03.get("dba5");
+pg_table03.get("c9c2d");
+pg_table03.get("ef5f");
+pg_table03.get("c32b");
+pg_table03.get("ac87e");
+pg_table03.get("a53d");
+pg_table03.get("ad7e");
+pg_table03.get("feeb");
+pg_table03.get("c286");
+pg_table03.get("b824");
+pg_table03.get("ff89");
+pg_table03.get("f31b");
+pg_table03.get("aa82");
+pg_table03.get("e437");
+pg_table03.get("c268");
+pg_table03.get("b78e");
+pg_table03.get("c2dc");
+pg_table03.get("c5af");
+pg_table03.get("df35");
+pg_table03.get("a971");
+pg_table03.get("e31b");
+pg_table03.get("a633");
+pg_table03.get("e8d2");
+pg_table03.get("b4e4");
+pg_table03.get("b491");
+pg_table03.get("efd6");
+pg_table03.get("d06e");
+pg_table03.get("b398");
+pg_table03.get("fa79");
+pg_table03.get("bd1e");
+pg_table03.get("df26");
+pg_table03.get("df250");
+pg_table03.get("c150");
+pg_table03.get("dfa2");
+pg_table03.get("acc1");
+pg_table03.get("b4a3");
+pg_table03.get("c17d");
+pg_table03.get("f791");
+pg_table03.get("aa9fa");
+pg_table03.get("d6f5");
+pg_table03.get("d8ce");
+pg_table03.get("be32");
+pg_table03.clear();
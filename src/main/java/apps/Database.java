@@ -2,9 +2,22 @@ package apps;
 
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.LinkedList;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+import drivers.CompactTable;
 import drivers.CreateTable;
 import drivers.Driver;
 import drivers.DropTable;
@@ -14,41 +27,144 @@ import drivers.Import;
 import drivers.InsertRow;
 import drivers.Range;
 import drivers.Macros; 
+import drivers.Parser;
+import drivers.PreparedQuery;
 import drivers.SquaresBelow; 
+import drivers.ShowStats;
 import drivers.ShowTable;
 import drivers.ShowTables;
 import drivers.SQLError;
 import drivers.Select;
+import tables.Durability;
+import tables.HashArrayTable;
+import tables.HashFileTable;
+import tables.PagedFileTable;
 import tables.Table;
 
 /**
  * This class implements a
  * database management system.
  * <p>
+ * A persistent database stores each table it creates
+ * in a file. When it is initialized, it reads only the
+ * name of each stored table, and reopens the table
+ * the first time it is used.
+ * <p>
+ * The tables are cataloged in a concurrent hash map
+ * by name, or by lower-case name in a database whose
+ * table names are case-insensitive, so that finding a
+ * table takes constant time however many there are.
+ * <p>
+ * Every file-based table in the database has the
+ * durability level of the database. Under group
+ * commit, the tables are committed periodically
+ * by a background thread.
+ * <p>
  * Do not modify existing protocols,
  * but you may add new protocols.
  */
 public class Database implements Closeable {
-	private final List<Table> tables;
+	/**
+	 * The default interval between group commits.
+	 */
+	public static final long DEFAULT_GROUP_COMMIT_MILLIS = 10;
+
+	private static final ScheduledExecutorService COMMITTER = Executors.newSingleThreadScheduledExecutor(task -> {
+		Thread thread = new Thread(task, "group-commit");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/*
+	 * The opened tables, and the names of the stored
+	 * tables not yet reopened, by catalog key.
+	 */
+	private final Map<String, Table> tables;
+	private final Map<String, String> unopened;
+	private final boolean caseInsensitive;
 	private final List<Driver> drivers;
+
+	/*
+	 * The drivers by the keywords of their queries,
+	 * and the drivers which have no keywords.
+	 */
+	private final Map<String, List<Driver>> dispatch;
+	private final List<Driver> fallback;
 	private final boolean persistent;
+	private final Durability durability;
+	private final long groupCommitMillis;
+	private GroupCommit groupCommit;
 
 	/**
-	 * Initializes the drivers and the tables.
+	 * Initializes the drivers and the tables,
+	 * with group commit at the default interval.
 	 *
 	 * @param persistent whether the database is persistent.
 	 */
 	public Database(boolean persistent) {
+		this(persistent, Durability.GROUP_COMMIT);
+	}
+
+	/**
+	 * Initializes the drivers and the tables, with
+	 * the given durability level and, for group commit,
+	 * the default interval.
+	 *
+	 * @param persistent whether the database is persistent.
+	 * @param durability the durability level.
+	 */
+	public Database(boolean persistent, Durability durability) {
+		this(persistent, durability, DEFAULT_GROUP_COMMIT_MILLIS);
+	}
+
+	/**
+	 * Initializes the drivers and the tables, with
+	 * the given durability level and, for group commit,
+	 * the given interval.
+	 *
+	 * @param persistent whether the database is persistent.
+	 * @param durability the durability level.
+	 * @param groupCommitMillis the milliseconds between group commits.
+	 */
+	public Database(boolean persistent, Durability durability, long groupCommitMillis) {
+		this(persistent, durability, groupCommitMillis, false);
+	}
+
+	/**
+	 * Initializes the drivers and the tables, with
+	 * the given durability level and, for group commit,
+	 * the given interval, and with table names which
+	 * are optionally case-insensitive.
+	 *
+	 * @param persistent whether the database is persistent.
+	 * @param durability the durability level.
+	 * @param groupCommitMillis the milliseconds between group commits.
+	 * @param caseInsensitive whether table names are case-insensitive.
+	 */
+	public Database(boolean persistent, Durability durability, long groupCommitMillis, boolean caseInsensitive) {
+		if (groupCommitMillis <= 0)
+			throw new IllegalArgumentException("Group commit interval <%d> must be positive".formatted(groupCommitMillis));
+
 		this.persistent = persistent;
+		this.durability = Objects.requireNonNull(durability);
+		this.groupCommitMillis = groupCommitMillis;
+		this.caseInsensitive = caseInsensitive;
 
-		tables = new LinkedList<>();
+		tables = new ConcurrentHashMap<>();
+		unopened = new ConcurrentHashMap<>();
+		if (persistent) {
+			for (var tableName: HashFileTable.storedTableNames())
+				unopened.put(key(tableName), tableName);
+		}
 
 		drivers = List.of(
 			new Echo(),
 			new Range(),
 			new ShowTable(),
 			new ShowTables(), 
+			new ShowStats(),
 			new DropTable(),
+			new CompactTable(),
 			new CreateTable(), 
 			new InsertRow(),
 			new Select(),
@@ -57,6 +173,15 @@ public class Database implements Closeable {
 			new Macros()
 			
 		);
+
+		dispatch = new HashMap<>();
+		fallback = new ArrayList<>();
+		for (var driver: drivers) {
+			if (driver.keywords().isEmpty())
+				fallback.add(driver);
+			for (var keyword: driver.keywords())
+				dispatch.computeIfAbsent(keyword, k -> new ArrayList<>()).add(driver);
+		}
 	}
 
 	/**
@@ -68,14 +193,63 @@ public class Database implements Closeable {
 		return persistent;
 	}
 
+	/**
+	 * Returns the durability level of
+	 * the file-based tables in the database.
+	 *
+	 * @return the durability level.
+	 */
+	public Durability getDurability() {
+		return durability;
+	}
+
+	/**
+	 * Returns whether table names are case-insensitive.
+	 *
+	 * @return whether table names are case-insensitive.
+	 */
+	public boolean isCaseInsensitive() {
+		return caseInsensitive;
+	}
+
 	/**
 	 * Returns an unmodifiable list
-	 * of the tables in the database.
+	 * of the tables in the database,
+	 * opening every stored table
+	 * not yet opened.
 	 *
 	 * @return the list of tables.
 	 */
 	public List<Table> tables() {
-		return List.copyOf(tables);
+		for (var tableName: List.copyOf(unopened.values()))
+			find(tableName);
+		return List.copyOf(catalog());
+	}
+
+	/**
+	 * Returns an unmodifiable view of the opened
+	 * tables in the database, which is not copied
+	 * and reflects tables created, opened, or dropped
+	 * while it is iterated.
+	 * <p>
+	 * The stored tables not yet opened are
+	 * listed by {@link #unopenedTableNames()}.
+	 *
+	 * @return the view of the tables.
+	 */
+	public Collection<Table> catalog() {
+		return Collections.unmodifiableCollection(tables.values());
+	}
+
+	/**
+	 * Returns an unmodifiable view of the names of
+	 * the stored tables not yet opened, which are
+	 * opened by {@link #find(String)} as needed.
+	 *
+	 * @return the view of the table names.
+	 */
+	public Collection<String> unopenedTableNames() {
+		return Collections.unmodifiableCollection(unopened.values());
 	}
 
 	/**
@@ -86,12 +260,11 @@ public class Database implements Closeable {
 	 * @return the corresponding table, if any.
 	 */
 	public Table find(String tableName) {
-		for (var table:tables) {
-			if (table.getTableName().equals(tableName)) {
-				return table; 
-			}
-		} 
-		return null; 
+		String key = key(tableName);
+		Table table = tables.get(key);
+		if (table == null && unopened.containsKey(key))
+			table = reopen(key);
+		return table;
 	}
 
 	/**
@@ -102,12 +275,8 @@ public class Database implements Closeable {
 	 * @return whether the corresponding table exists.
 	 */
 	public boolean exists(String tableName) {
-		for (int i = 0 ; i < tables.size(); i++) {
-			if (tables.get(i).getTableName().equals(tableName)) {
-				return true; 
-			}
-		}
-		return false; 
+		String key = key(tableName);
+		return tables.containsKey(key) || unopened.containsKey(key);
 	}
 
 	/**
@@ -119,43 +288,135 @@ public class Database implements Closeable {
 	 *
 	 * @return whether the table was created.
 	 */
-	public boolean create(Table table) {
+	public synchronized boolean create(Table table) {
 		if (exists(table.getTableName())) 
 			return false; 
-			
-		tables.add(table); 
+
+		attach(table);
 		return true; 
 	}
 
+	/**
+	 * Creates a table with the given schema, which is
+	 * file-based if the database is persistent, unless
+	 * a table with the given name exists.
+	 * <p>
+	 * Returns the table if created
+	 * or <code>null</code> otherwise.
+	 *
+	 * @param tableName the table name.
+	 * @param columnNames the column names.
+	 * @param columnTypes the column types.
+	 * @param primaryIndex the primary index.
+	 * @return the table, if created.
+	 */
+	public synchronized Table create(String tableName, List<String> columnNames, List<String> columnTypes, int primaryIndex) {
+		if (exists(tableName))
+			return null;
+
+		Table table = persistent
+			? new HashFileTable(tableName, columnNames, columnTypes, primaryIndex)
+			: new HashArrayTable(tableName, columnNames, columnTypes, primaryIndex);
+		attach(table);
+		return table;
+	}
+
+	private synchronized Table reopen(String key) {
+		String tableName = unopened.get(key);
+		if (tableName == null)
+			return tables.get(key);
+
+		// A file which cannot be opened is left as if absent.
+		Table table;
+		try {
+			table = new HashFileTable(tableName);
+		}
+		catch (IllegalArgumentException e) {
+			unopened.remove(key);
+			return null;
+		}
+		attach(table);
+		unopened.remove(key);
+		return table;
+	}
+
+	private void attach(Table table) {
+		if (table instanceof HashFileTable fileTable) {
+			fileTable.setDurability(durability);
+			if (durability == Durability.GROUP_COMMIT && groupCommit == null)
+				groupCommit = new GroupCommit(this, groupCommitMillis);
+		}
+		tables.put(key(table.getTableName()), table);
+	}
+
+	private String key(String tableName) {
+		return caseInsensitive ? tableName.toLowerCase(Locale.ROOT) : tableName;
+	}
+
 	/**
 	 * Drops the table with the given name, unless
-	 * no table with the given name exists.
+	 * no table with the given name exists, deleting
+	 * its files if it is file-based.
 	 * <p>
 	 * Returns <code>true</code> if dropped
 	 * or <code>false</code> otherwise.
 	 *
 	 * @return whether the table was dropped.
 	 */
-	public boolean drop(String tableName) {		
-		for (int i = 0 ; i < tables.size(); i++) {
-			if (tables.get(i).getTableName().equals(tableName)) {
-				tables.remove(i); 
-				return true; 
-			}
+	public synchronized boolean drop(String tableName) {		
+		String key = key(tableName);
+		Table table = tables.remove(key);
+		if (table instanceof HashFileTable fileTable) {
+			fileTable.close();
+			HashFileTable.delete(fileTable.getTableName());
+		}
+		else if (table instanceof PagedFileTable pagedTable) {
+			pagedTable.close();
+			PagedFileTable.delete(pagedTable.getTableName());
+		}
+		else if (table == null) {
+			String storedName = unopened.remove(key);
+			if (storedName == null)
+				return false;
+			HashFileTable.delete(storedName);
+		}
+		return true; 
+	}
+
+	/**
+	 * Commits every file-based table, so that each
+	 * operation so far survives a crash as far as
+	 * the durability level allows.
+	 */
+	public void commit() {
+		for (var table: tables.values()) {
+			if (table instanceof HashFileTable fileTable)
+				fileTable.commit();
 		}
-		return false; 
 	}
 
 	/**
 	 * Interprets a list of queries and returns
 	 * a list of results to each in sequence.
+	 * <p>
+	 * Each query is only offered to the drivers
+	 * registered for its first word, and then
+	 * to the drivers without keywords.
 	 *
 	 * @param queries the list of queries.
 	 * @return the list of results.
 	 * @throws SQLError
 	 */
 	public Object interpret(String query) throws SQLError {
-		for (var driver: drivers) {
+		var candidates = dispatch.get(keyword(query));
+		if (candidates != null) {
+			for (var driver: candidates) {
+				var res = driver.execute(query,  this); 
+				if (res != null)
+					return res;
+			}
+		}
+		for (var driver: fallback) {
 			var res = driver.execute(query,  this); 
 			if (res != null)
 				return res;
@@ -163,12 +424,105 @@ public class Database implements Closeable {
 		throw new SQLError("Unrecognized query");
 	}
 
+	/**
+	 * Parses an INSERT, REPLACE, or SELECT query once,
+	 * with a <code>?</code> placeholder for each value
+	 * to be bound later, and resolves its table and
+	 * columns, so that executing it skips both.
+	 * <p>
+	 * The prepared query is bound to the table as it
+	 * is when prepared. If that table is dropped, the
+	 * query must be prepared again.
+	 *
+	 * @param query the query.
+	 * @return the prepared query.
+	 * @throws SQLError if the query cannot be prepared.
+	 */
+	public PreparedQuery prepare(String query) throws SQLError {
+		var insert = Parser.parseInsert(query);
+		if (insert != null)
+			return InsertRow.prepare(insert, this);
+
+		var select = Parser.parseSelect(query);
+		if (select != null)
+			return Select.prepare(select, this);
+
+		throw new SQLError("Only INSERT, REPLACE, and SELECT queries can be prepared");
+	}
+
+	/*
+	 * Returns the leading letters of the
+	 * query, ignoring whitespace, in upper case.
+	 */
+	private static String keyword(String query) {
+		int start = 0;
+		while (start < query.length() && Character.isWhitespace(query.charAt(start)))
+			start++;
+
+		int end = start;
+		while (end < query.length() && Character.isLetter(query.charAt(end)))
+			end++;
+
+		return query.substring(start, end).toUpperCase(Locale.ROOT);
+	}
+
 	/**
 	 * Executes any required tasks when
-	 * the database is closed.
+	 * the database is closed, which stops
+	 * group commit, then flushes every
+	 * file-based table to the device and
+	 * closes its files, and empties the
+	 * catalog.
 	 */
 	@Override
-	public void close() throws IOException {
+	public synchronized void close() throws IOException {
+		if (groupCommit != null) {
+			groupCommit.cancel();
+			groupCommit = null;
+		}
+
+		for (var table: tables.values()) {
+			if (table instanceof HashFileTable fileTable) {
+				fileTable.flush();
+				fileTable.close();
+			}
+			else if (table instanceof PagedFileTable pagedTable) {
+				pagedTable.flush();
+				pagedTable.close();
+			}
+		}
+		tables.clear();
+		unopened.clear();
+	}
 
+	/*
+	 * Commits a database at a fixed delay on the shared
+	 * committer thread. The task holds the database only
+	 * weakly, so that a database which is never closed can
+	 * still be collected, and then the task cancels itself.
+	 */
+	private static final class GroupCommit implements Runnable {
+		private final WeakReference<Database> database;
+		private volatile ScheduledFuture<?> future;
+
+		GroupCommit(Database database, long millis) {
+			this.database = new WeakReference<>(database);
+			this.future = COMMITTER.scheduleWithFixedDelay(this, millis, millis, TimeUnit.MILLISECONDS);
+		}
+
+		@Override
+		public void run() {
+			Database db = database.get();
+			if (db != null)
+				db.commit();
+			else
+				cancel();
+		}
+
+		void cancel() {
+			ScheduledFuture<?> scheduled = future;
+			if (scheduled != null)
+				scheduled.cancel(false);
+		}
 	}
 }
@@ -0,0 +1,321 @@
+package drivers;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import apps.Database;
+import tables.Table;
+
+/**
+ * Reads and writes a table as a compact binary
+ * snapshot, which is a sequence of frames.
+ * <p>
+ * Each frame is its payload length, the CRC32 of its
+ * payload, and its payload. The first frame holds the
+ * schema and the number of rows. Each later frame is
+ * a block of up to {@link #BLOCK_ROWS} rows, and an
+ * empty block marks the end of the file.
+ * <p>
+ * Within a block, each column is stored in turn:
+ * a bitmask with a 1-bit for each non-null field and
+ * a 0-bit for each null field, and then the non-null
+ * fields, each integer in 4 bytes, each string as its
+ * length and its UTF-8 bytes, and the booleans as one
+ * more bitmask. Each bitmask is stored in 8-byte words,
+ * with the field at row <code>r</code> in bit
+ * <code>r % 64</code> of word <code>r / 64</code>.
+ */
+final class BinarySnapshot {
+	static final int MAGIC = 0x43534231;
+	static final int BLOCK_ROWS = 1 << 16;
+
+	private static final byte
+		STRING = 1,
+		INTEGER = 2,
+		BOOLEAN = 3;
+
+	private BinarySnapshot() {
+	}
+
+	/**
+	 * Writes the schema and then each block of
+	 * rows of the given table to the given file.
+	 *
+	 * @param path the file.
+	 * @param table the table.
+	 * @throws SQLError if a column type is unknown.
+	 */
+	static void write(Path path, Table table) throws SQLError {
+		byte[] kinds = kinds(table.getColumnTypes());
+
+		try {
+			Files.createDirectories(path.getParent());
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), Export.BUFFER_SIZE))) {
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				DataOutputStream header = new DataOutputStream(bytes);
+				header.writeInt(MAGIC);
+				writeString(header, table.getTableName());
+				header.writeInt(kinds.length);
+				for (int i = 0; i < kinds.length; i++) {
+					writeString(header, table.getColumnNames().get(i));
+					writeString(header, table.getColumnTypes().get(i));
+				}
+				header.writeInt(table.getPrimaryIndex());
+				header.writeInt(table.size());
+				writeFrame(out, bytes);
+
+				List<List<Object>> block = new ArrayList<>(BLOCK_ROWS);
+				for (List<Object> row: table) {
+					block.add(row);
+					if (block.size() == BLOCK_ROWS) {
+						writeFrame(out, encode(block, kinds));
+						block.clear();
+					}
+				}
+				if (!block.isEmpty())
+					writeFrame(out, encode(block, kinds));
+				writeFrame(out, encode(List.of(), kinds));
+			}
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Reads the schema from the given file, creates the
+	 * table, and then puts each block of rows into it,
+	 * checking the checksum of each frame first.
+	 *
+	 * @param path the file.
+	 * @param tablename the table name, or <code>null</code>
+	 * 		for the name in the file.
+	 * @param db the database.
+	 * @return the imported table.
+	 * @throws SQLError if the file is missing, truncated, or corrupt.
+	 */
+	static Table read(Path path, String tablename, Database db) throws SQLError {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(path.toFile())))) {
+			ByteBuffer header = readFrame(in, 0);
+			if (header.getInt() != MAGIC)
+				throw new SQLError("File is not a binary table");
+
+			String table_name = readString(header);
+			if (tablename != null)
+				table_name = tablename;
+
+			int columns = header.getInt();
+			List<String> column_names = new ArrayList<>(columns);
+			List<String> column_types = new ArrayList<>(columns);
+			for (int i = 0; i < columns; i++) {
+				column_names.add(readString(header));
+				column_types.add(readString(header));
+			}
+			int primary_index = header.getInt();
+			int rows = header.getInt();
+
+			byte[] kinds = kinds(column_types);
+			Table table = Import.create(table_name, column_names, column_types, primary_index, db);
+			table.ensureCapacity(rows);
+
+			// A snapshot is restored entirely or not at all.
+			boolean restored = false;
+			try {
+				for (int frame = 1; ; frame++) {
+					List<List<Object>> block = decode(readFrame(in, frame), kinds, frame);
+					if (block.isEmpty()) {
+						restored = true;
+						return table;
+					}
+
+					for (List<Object> row: block) {
+						if (row.get(primary_index) == null)
+							throw new SQLError("Primary index key value cannot be a null");
+					}
+					table.putAll(block);
+				}
+			}
+			finally {
+				if (!restored)
+					db.drop(table.getTableName());
+			}
+		}
+		catch (FileNotFoundException e) {
+			throw new SQLError("File Not Found");
+		}
+		catch (EOFException e) {
+			throw new SQLError("File is truncated");
+		}
+		catch (BufferUnderflowException | NegativeArraySizeException e) {
+			throw new SQLError("File is corrupt");
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static ByteArrayOutputStream encode(List<List<Object>> block, byte[] kinds) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+
+		int size = block.size();
+		out.writeInt(size);
+		for (int c = 0; c < kinds.length; c++) {
+			long[] present = new long[words(size)];
+			for (int r = 0; r < size; r++) {
+				if (block.get(r).get(c) != null)
+					present[r >>> 6] |= 1L << r;
+			}
+			writeWords(out, present);
+
+			if (kinds[c] == BOOLEAN) {
+				long[] flags = new long[words(size)];
+				for (int r = 0; r < size; r++) {
+					if (Boolean.TRUE.equals(block.get(r).get(c)))
+						flags[r >>> 6] |= 1L << r;
+				}
+				writeWords(out, flags);
+				continue;
+			}
+
+			for (int r = 0; r < size; r++) {
+				Object field = block.get(r).get(c);
+				if (field == null)
+					continue;
+
+				if (kinds[c] == INTEGER) {
+					out.writeInt((Integer) field);
+				}
+				else {
+					writeString(out, (String) field);
+				}
+			}
+		}
+		return bytes;
+	}
+
+	private static List<List<Object>> decode(ByteBuffer payload, byte[] kinds, int frame) throws SQLError {
+		int size = payload.getInt();
+		if (size < 0 || size > BLOCK_ROWS)
+			throw new SQLError("Block <%d> is corrupt".formatted(frame));
+
+		Object[][] fields = new Object[size][kinds.length];
+		for (int c = 0; c < kinds.length; c++) {
+			long[] present = readWords(payload, size);
+
+			if (kinds[c] == BOOLEAN) {
+				long[] flags = readWords(payload, size);
+				for (int r = 0; r < size; r++) {
+					if (getBit(present, r))
+						fields[r][c] = getBit(flags, r);
+				}
+				continue;
+			}
+
+			for (int r = 0; r < size; r++) {
+				if (!getBit(present, r))
+					continue;
+
+				if (kinds[c] == INTEGER) {
+					fields[r][c] = payload.getInt();
+				}
+				else {
+					fields[r][c] = readString(payload);
+				}
+			}
+		}
+
+		List<List<Object>> block = new ArrayList<>(size);
+		for (Object[] row: fields)
+			block.add(Arrays.asList(row));
+		return block;
+	}
+
+	private static void writeFrame(DataOutputStream out, ByteArrayOutputStream payload) throws IOException {
+		CRC32 crc = new CRC32();
+		crc.update(payload.toByteArray());
+
+		out.writeInt(payload.size());
+		out.writeInt((int) crc.getValue());
+		payload.writeTo(out);
+	}
+
+	private static ByteBuffer readFrame(DataInputStream in, int frame) throws IOException, SQLError {
+		int length = in.readInt();
+		int checksum = in.readInt();
+		if (length < 0)
+			throw new SQLError("Block <%d> is corrupt".formatted(frame));
+
+		byte[] payload = in.readNBytes(length);
+		if (payload.length != length)
+			throw new EOFException();
+
+		CRC32 crc = new CRC32();
+		crc.update(payload);
+		if ((int) crc.getValue() != checksum)
+			throw new SQLError("Checksum of block <%d> does not match".formatted(frame));
+
+		return ByteBuffer.wrap(payload);
+	}
+
+	private static void writeString(DataOutputStream out, String str) throws IOException {
+		byte[] utf8 = str.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(utf8.length);
+		out.write(utf8);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		byte[] utf8 = new byte[buffer.getInt()];
+		buffer.get(utf8);
+		return new String(utf8, StandardCharsets.UTF_8);
+	}
+
+	private static byte[] kinds(List<String> types) throws SQLError {
+		byte[] kinds = new byte[types.size()];
+		for (int i = 0; i < kinds.length; i++) {
+			kinds[i] = switch (types.get(i).toLowerCase()) {
+				case "string" -> STRING;
+				case "integer" -> INTEGER;
+				case "boolean" -> BOOLEAN;
+				default -> throw new SQLError("Unknown type");
+			};
+		}
+		return kinds;
+	}
+
+	private static void writeWords(DataOutputStream out, long[] words) throws IOException {
+		for (long word: words)
+			out.writeLong(word);
+	}
+
+	private static long[] readWords(ByteBuffer buffer, int bits) {
+		long[] words = new long[words(bits)];
+		for (int i = 0; i < words.length; i++)
+			words[i] = buffer.getLong();
+		return words;
+	}
+
+	private static int words(int bits) {
+		return (bits + 63) >>> 6;
+	}
+
+	private static boolean getBit(long[] bits, int index) {
+		return (bits[index >>> 6] & (1L << index)) != 0;
+	}
+}
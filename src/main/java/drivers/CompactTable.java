@@ -0,0 +1,40 @@
+package drivers;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import apps.Database;
+import tables.Table;
+
+/*
+ * Example:
+ *   COMPACT TABLE example_table
+ *
+ * Result:
+ * 	 integer (affected rows): the number of tombstones removed
+ */
+public class CompactTable implements Driver {
+	static final Pattern pattern = Pattern.compile(
+		"COMPACT\\s+TABLE\\s+([a-z][a-z0-9_]*)",
+		Pattern.CASE_INSENSITIVE
+	);
+
+	@Override
+	public List<String> keywords() {
+		return List.of("COMPACT");
+	}
+
+	@Override
+	public Object execute(String query, Database db) throws SQLError {
+		var matcher = pattern.matcher(query.strip());
+		if (!matcher.matches()) return null;
+
+		String table_name = matcher.group(1);
+
+		Table table = db.find(table_name);
+		if (table == null) {
+			throw new SQLError("Table <%s> does not exist".formatted(table_name));
+		}
+		return table.compact();
+	}
+}
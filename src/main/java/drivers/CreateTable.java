@@ -2,54 +2,50 @@ package drivers;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import apps.Database;
-import tables.HashArrayTable;
+import tables.ColumnarTable;
 import tables.Table;
 
 /*
  * Example:
- *   SHOW TABLE example_table
+ *   CREATE TABLE example_table (id INTEGER PRIMARY, name STRING, flag BOOLEAN)
+ *   CREATE TABLE example_table (id INTEGER PRIMARY, name STRING) USING COLUMNAR
  *
  * Result:
- * 	 result set: the example_table in the database
+ * 	 table: the created example_table
  */
 public class CreateTable implements Driver {
-	static final Pattern pattern = Pattern.compile(
-			"CREATE\\s+TABLE\\s+([a-z][a-z0-9_]*)\\s*\\(\\s*([a-z][a-z0-9_]*\\s+(?:INTEGER|BOOLEAN|STRING)\\s*(?:PRIMARY)*(?:\\s*,\\s*[a-z][a-z0-9_]*\\s+(?:INTEGER|BOOLEAN|STRING)\\s*(?:PRIMARY)*)*)\\s*\\)",
-			Pattern.CASE_INSENSITIVE
-		);
+		static final int MAX_NAME = 15, MAX_COLUMNS = 15;
+
+		@Override
+		public List<String> keywords() {
+			return List.of("CREATE");
+		}
 
-		@SuppressWarnings("null")
 		@Override
 		public Object execute(String query, Database db) throws SQLError {
-			Matcher matcher = pattern.matcher(query.strip());
-			if (!matcher.matches()) return null;
+			Statement.Create create = Parser.parseCreate(query);
+			if (create == null) return null;
 			
-			// Set tablename to string, and determine if table with name already exists. 
-			String tablename = matcher.group(1).toString();
+			// Determine if the table name is valid and if a table with that name already exists. 
+			String tablename = create.tableName();
 			
-			if (tablename.length() < 1) {
-				throw new SQLError("table name is too short"); 
-			}else if (tablename.length() > 15) {
+			if (tablename.length() > MAX_NAME) {
 				throw new SQLError("Tablename is too long"); 
 			}
 			if(db.find(tablename) != null) {
 				throw new SQLError("Table <%s> already exsists".formatted(tablename)); 
 			}
 			
-			
-			// Split the column definitions into individual columns by delimiter ","
-			String column_defs = matcher.group(2); 
-			String[] cols = column_defs.split(","); 
-			
+			// A columnar table is held in memory, so it would not survive reopening.
+			if (create.columnar() && db.isPersistent()) {
+				throw new SQLError("Columnar tables are not supported by a persistent database"); 
+			}
 			
 			//Determine if there are a valid number of columns (i.e. more than 0, and less than 16)
-			if(cols.length < 1) {
-				throw new SQLError("Too few columns"); 
-			}else if (cols.length > 15) {
+			List<Statement.Column> cols = create.columns(); 
+			if (cols.size() > MAX_COLUMNS) {
 				throw new SQLError("Too many columns"); 
 			}
 			
@@ -58,15 +54,11 @@ public class CreateTable implements Driver {
 			List<String> ColumnTypes = new ArrayList<String>(); 
 			int PrimaryIndex = -1; 
 			
-			// For each column declared, parse its unique values and store in respective list
-			for (int i = 0; i < cols.length ; i++) {
-				
-				// Split cols into values based on whitespace; 
-				String[] col_vals = cols[i].strip().split(" "); 
+			// For each column declared, store its name and type in the respective list
+			for (int i = 0; i < cols.size() ; i++) {
+				Statement.Column col = cols.get(i); 
 				
-				
-				// if there are three values in the column, we can assume this to be the primary index 
-				if(col_vals.length == 3 && col_vals[2].equalsIgnoreCase("PRIMARY")) {
+				if(col.primary()) {
 					 if(PrimaryIndex != -1) {
 						 throw new SQLError("Multiple primary indexes in table"); 
 					 }else {
@@ -74,30 +66,30 @@ public class CreateTable implements Driver {
 					 }
 				}
 				
-				// determine if column name already exists
-				if(ColumnNames.contains(col_vals[0])) {
-					throw new SQLError("Column Name <%s> already exsists".formatted(col_vals[0])); 
-				}else {
-					ColumnNames.add(col_vals[0]); 
+				// determine if column name is valid and does not already exist
+				if (col.name().length() > MAX_NAME) {
+					throw new SQLError("Column Name <%s> is too long".formatted(col.name())); 
 				}
-				
-				// Determine if the type is valid
-				if(col_vals[1].strip().equalsIgnoreCase("string") || col_vals[1].strip().equalsIgnoreCase("integer") || col_vals[1].strip().equalsIgnoreCase("boolean")) {
-					ColumnTypes.add(col_vals[1].toLowerCase());
+				if(ColumnNames.contains(col.name())) {
+					throw new SQLError("Column Name <%s> already exsists".formatted(col.name())); 
 				}else {
-					throw new SQLError("Invalid column type"); 
+					ColumnNames.add(col.name()); 
 				}
-			
 				
+				ColumnTypes.add(col.type());
 			}
 			
 			if(PrimaryIndex == -1) {
 				throw new SQLError("No Primary Index assigned"); 
 			}
 			
-			Table newTable = new HashArrayTable(tablename, ColumnNames, ColumnTypes, PrimaryIndex); 			
-			db.create(newTable); 			
-			Table table = db.find(tablename); 
+			if (create.columnar()) {
+				Table table = new ColumnarTable(tablename, ColumnNames, ColumnTypes, PrimaryIndex); 
+				return db.create(table) ? table : null; 
+			}
+			
+			// A persistent database creates a file-based table.
+			Table table = db.create(tablename, ColumnNames, ColumnTypes, PrimaryIndex); 
 			return table; 
 		}
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package drivers;
 
+import java.util.List;
+
 import apps.Database;
 
 /**
@@ -20,4 +22,20 @@ public interface Driver {
 	 * @throws SQLError if the query fails.
 	 **/
 	Object execute(String query, Database db) throws SQLError;
+
+	/**
+	 * Returns the keywords, in upper case, which a
+	 * query must begin with for this driver to execute
+	 * it, or an empty list if the driver may execute
+	 * a query beginning with any word.
+	 * <p>
+	 * A database only offers each query to the drivers
+	 * whose keywords include its first word, and then
+	 * to the drivers without keywords.
+	 *
+	 * @return the keywords.
+	 */
+	default List<String> keywords() {
+		return List.of();
+	}
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package drivers;
 
+import java.util.List;
 import java.util.regex.Pattern;
 
 import apps.Database;
@@ -11,6 +12,11 @@ public class DropTable implements Driver {
 			Pattern.CASE_INSENSITIVE
 		);
 
+		@Override
+		public List<String> keywords() {
+			return List.of("DROP");
+		}
+
 		@Override
 		public Object execute(String query, Database db) throws SQLError {
 			var matcher = pattern.matcher(query.strip());
@@ -18,11 +24,11 @@ public class DropTable implements Driver {
 
 			String table_name = matcher.group(1);
 
-			if (!db.exists(table_name)) {
+			var table = db.find(table_name); 
+			if (table == null) {
 				throw new SQLError("Table <%s> does not exist".formatted(table_name));
 			}
 			else {
-				var table = db.find(table_name); 
 				db.drop(table_name); 
 				int str = table.size(); 
 				return str; 
@@ -1,5 +1,6 @@
 package drivers;
 
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -18,6 +19,11 @@ public class Echo implements Driver {
 		Pattern.CASE_INSENSITIVE
 	);
 
+	@Override
+	public List<String> keywords() {
+		return List.of("ECHO");
+	}
+
 	@Override
 	public Object execute(String query, Database db) throws SQLError {
 		Matcher matcher = pattern.matcher(query.strip());
@@ -1,56 +1,52 @@
 package drivers;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Result;
-import javax.xml.transform.Source;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
 import apps.Database;
 import jakarta.json.Json;
-import jakarta.json.JsonArrayBuilder;
-import jakarta.json.JsonObject;
-import jakarta.json.JsonObjectBuilder;
-import jakarta.json.JsonWriter;
-import jakarta.json.JsonWriterFactory;
 import jakarta.json.stream.JsonGenerator;
-import tables.HashArrayTable;
+import jakarta.json.stream.JsonGeneratorFactory;
 import tables.Table;
 
 /*
- * Example:
- *   SHOW TABLE example_table
+ * Examples:
+ *   EXPORT example_table AS JSON
+ *   EXPORT example_table TO example_file.json COMPACT
+ *   EXPORT example_table AS XML
+ *   EXPORT example_table AS BIN
  *
  * Result:
- * 	 result set: the example_table in the database
+ * 	 boolean: whether the table was exported
  */
 public class Export implements Driver {
 	static final Pattern pattern = Pattern.compile(
-			"EXPORT\\s+([a-z][a-z0-9_]*)\\s+((?:TO\\s+([a-z0-9_][a-z0-9_]*.(?:xml|json)))|(?:AS\\s+(XML|JSON)))",
+			"EXPORT\\s+([a-z][a-z0-9_]*)\\s+((?:TO\\s+([a-z0-9_][a-z0-9_]*.(?:xml|json|bin)))|(?:AS\\s+(XML|JSON|BIN)))(?:\\s+(COMPACT))?",
 			Pattern.CASE_INSENSITIVE
 		);
 	
+	static final int BUFFER_SIZE = 1 << 16;
+	
+	@Override
+	public List<String> keywords() {
+		return List.of("EXPORT");
+	}
+
 	public Object execute(String query, Database db) throws SQLError {
 		Matcher matcher = pattern.matcher(query.strip());
 		if (!matcher.matches()) return null;
@@ -72,6 +68,8 @@ public class Export implements Driver {
 				file_type = "JSON"; 
 			}else if (fileParts[1].equalsIgnoreCase("xml")) {
 				file_type = "XML"; 
+			}else if (fileParts[1].equalsIgnoreCase("bin")) {
+				file_type = "BIN"; 
 			}else {
 				throw new SQLError("EXPORT type not recognized");
 			}
@@ -82,6 +80,9 @@ public class Export implements Driver {
 			}else if(arr[1].equalsIgnoreCase("XML")) {
 				file_name = (tablename + ".xml"); 
 				file_type = "XML";	
+			}else if(arr[1].equalsIgnoreCase("BIN")) {
+				file_name = (tablename + ".bin"); 
+				file_type = "BIN";	
 			}else {
 				throw new SQLError("EXPORT type not recognized");
 			}
@@ -110,144 +111,202 @@ public class Export implements Driver {
 			}
 		}
 		
+		boolean compact = matcher.group(5) != null; 
 		if(file_type.equalsIgnoreCase("JSON")) {
-			writeJSON(path, tablename, db); 
+			writeJSON(path, tablename, db, !compact); 
 		}else if(file_type.equalsIgnoreCase("XML")) {
-			writeXML(path, tablename, db); 
+			writeXML(path, tablename, db, !compact); 
+		}else if(file_type.equalsIgnoreCase("BIN")) {
+			writeBIN(path, tablename, db); 
 		}
 		
 		return true; 
 	}
 	
 	public static void writeJSON(Path path, String table_name, Database db) throws SQLError {
+		writeJSON(path, table_name, db, true); 
+	}
+	
+	/**
+	 * Streams the schema and then each row of the table
+	 * straight from its iterator to the file, so that the
+	 * table is never copied in memory, however large.
+	 *
+	 * @param path the file.
+	 * @param table_name the table name.
+	 * @param db the database.
+	 * @param pretty whether to indent the output.
+	 * @throws SQLError if the table does not exist.
+	 */
+	public static void writeJSON(Path path, String table_name, Database db, boolean pretty) throws SQLError {
+		Table table = db.find(table_name); 
+		if(table == null) {
+			throw new SQLError("Table <%s> does not exist".formatted(table_name)); 
+		}
+		List<String> tableCols = table.getColumnNames();
+		List<String> colTypes = table.getColumnTypes();
+		int primaryIndex = table.getPrimaryIndex(); 
+		
 		try {
-			
-			if(db.find(table_name) == null) {
-				throw new SQLError("Table <%s> does not exist".formatted(table_name)); 
-			}
-			Table table = db.find(table_name); 
-			List<String> tableCols = table.getColumnNames();
-			List<String> colTypes = table.getColumnTypes();
-			int primaryIndex = table.getPrimaryIndex(); 			
-			
-			// Create Object builder
-			JsonObjectBuilder root_object_builder = Json.createObjectBuilder();
-			
-			// Create the Schema
-			JsonArrayBuilder column_names_builder = Json.createArrayBuilder();
-			JsonArrayBuilder column_types_builder = Json.createArrayBuilder();
-			for(int i = 0; i < tableCols.size(); i++) {
-				column_names_builder.add(tableCols.get(i));
-				column_types_builder.add(colTypes.get(i));
-			}
-			
-			// Build the Schema 
-			JsonObjectBuilder schema_builder = Json.createObjectBuilder();
-			schema_builder.add("table_name", table_name);
-			schema_builder.add("column_names", column_names_builder);
-			schema_builder.add("column_types", column_types_builder);
-			schema_builder.add("primary_index", primaryIndex);
-			root_object_builder.add("schema", schema_builder.build());
-			
-			// Build the State
-			JsonArrayBuilder row_builder = Json.createArrayBuilder();
-			JsonArrayBuilder root_array_builder = Json.createArrayBuilder();	
-			Set<List<Object>> rows = table.rows(); 
-			for ( List<Object> row : rows) {
-				for (int i = 0; i < row.size(); i++) {
-					if(row.get(i) == null || row.get(i).equals("null")) {
-						row_builder.addNull(); 
-					}else if(colTypes.get(i).equalsIgnoreCase("string")) {
-						row_builder.add((String) row.get(i)); 
-					}else if(colTypes.get(i).equalsIgnoreCase("integer")) {
-						row_builder.add((Integer) row.get(i)); 
-					}else if(colTypes.get(i).equalsIgnoreCase("boolean")) {
-						row_builder.add((Boolean) row.get(i)); 
+			Files.createDirectories(path.getParent());
+			JsonGeneratorFactory factory = Json.createGeneratorFactory(pretty ? Map.of(JsonGenerator.PRETTY_PRINTING, true) : Map.of());
+			try (JsonGenerator generator = factory.createGenerator(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE), StandardCharsets.UTF_8)) {
+				generator.writeStartObject(); 
+				
+				// Write the Schema
+				generator.writeStartObject("schema"); 
+				generator.write("table_name", table_name); 
+				generator.writeStartArray("column_names"); 
+				for (String name: tableCols) {
+					generator.write(name); 
+				}
+				generator.writeEnd(); 
+				generator.writeStartArray("column_types"); 
+				for (String type: colTypes) {
+					generator.write(type); 
+				}
+				generator.writeEnd(); 
+				generator.write("primary_index", primaryIndex); 
+				generator.writeEnd(); 
+				
+				// Write the State
+				generator.writeStartArray("state"); 
+				for (List<Object> row : table) {
+					generator.writeStartArray(); 
+					for (int i = 0; i < row.size(); i++) {
+						if(row.get(i) == null || row.get(i).equals("null")) {
+							generator.writeNull(); 
+						}else if(colTypes.get(i).equalsIgnoreCase("string")) {
+							generator.write((String) row.get(i)); 
+						}else if(colTypes.get(i).equalsIgnoreCase("integer")) {
+							generator.write((Integer) row.get(i)); 
+						}else if(colTypes.get(i).equalsIgnoreCase("boolean")) {
+							generator.write((Boolean) row.get(i)); 
+						}
 					}
+					generator.writeEnd(); 
 				}
-				root_array_builder.add(row_builder.build());
+				generator.writeEnd(); 
+				
+				generator.writeEnd(); 
 			}
-			root_object_builder.add("state", root_array_builder.build());
-			
-
-			JsonObject root_object = root_object_builder.build();
-
-			Files.createDirectories(path.getParent());
-			JsonWriterFactory factory = Json.createWriterFactory(Map.of(JsonGenerator.PRETTY_PRINTING, true));
-			JsonWriter writer = factory.createWriter(new FileOutputStream(path.toFile()));
-			writer.writeObject(root_object);
-			writer.close();
 		}
 		catch (IOException e) {
 			throw new RuntimeException(e);
 		}
-		return; 
+	}
+	
+	/**
+	 * Writes the table as a compact binary snapshot,
+	 * streaming its rows in checksummed blocks which
+	 * store each column together.
+	 *
+	 * @param path the file.
+	 * @param table_name the table name.
+	 * @param db the database.
+	 * @throws SQLError if the table does not exist.
+	 */
+	public static void writeBIN(Path path, String table_name, Database db) throws SQLError {
+		Table table = db.find(table_name); 
+		if(table == null) {
+			throw new SQLError("Table <%s> does not exist".formatted(table_name)); 
+		}
+		BinarySnapshot.write(path, table); 
 	}
 	
 	public static void writeXML(Path path, String table_name, Database db) throws SQLError {
+		writeXML(path, table_name, db, true); 
+	}
+	
+	/**
+	 * Streams the schema and then each row of the table
+	 * straight from its iterator to the file, so that the
+	 * table is never copied in memory, however large.
+	 *
+	 * @param path the file.
+	 * @param table_name the table name.
+	 * @param db the database.
+	 * @param pretty whether to indent the output.
+	 * @throws SQLError if the table does not exist.
+	 */
+	public static void writeXML(Path path, String table_name, Database db, boolean pretty) throws SQLError {
+		// Setup table data 
+		Table table = db.find(table_name); 
+		if(table == null) {
+			throw new SQLError("Table <%s> does not exist".formatted(table_name)); 
+		}
+		List<String> colNames = table.getColumnNames();
+		List<String> colTypes = table.getColumnTypes();
+		Integer primaryIndex = table.getPrimaryIndex();
+		String priInd = primaryIndex.toString(); 
+		
 		try {
-			// Setup table data 
-			if(db.find(table_name) == null) {
-				throw new SQLError("Table <%s> does not exist".formatted(table_name)); 
-			}
-			Table table = db.find(table_name); 
-			List<String> colNames = table.getColumnNames();
-			List<String> colTypes = table.getColumnTypes();
-			Integer primaryIndex = table.getPrimaryIndex();
-			String priInd = primaryIndex.toString(); 
-			
-			// Create DOM
-			Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
-
-			Element root = doc.createElement("table");
-			root.setAttribute("name", table_name);
-			doc.appendChild(root);
-
-			Element schema = doc.createElement("schema");
-			root.appendChild(schema);
-
-				Element columns = doc.createElement("columns");
-				columns.setAttribute("primary", priInd);
-				schema.appendChild(columns);
-
-				for(int i = 0 ; i < colTypes.size(); i++) {	
-					Element column = doc.createElement("column");				
-					column.setAttribute("name", colNames.get(i));
-					column.setAttribute("type", colTypes.get(i));
-					columns.appendChild(column);
-				}
+			Files.createDirectories(path.getParent());
+			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE)) {
+				XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out, "UTF-8");
+				
+				writer.writeStartElement("table");
+				writer.writeAttribute("name", table_name);
 				
-			Element state = doc.createElement("state");
-			root.appendChild(state);
+				indent(writer, 1, pretty); 
+				writer.writeStartElement("schema");
 				
-			Set<List<Object>> rows = table.rows(); 
-			for ( List<Object> row1 : rows) {
-				Element row = doc.createElement("row");
-				for (int i = 0; i < row1.size(); i++) {
-					Element field = doc.createElement("field");
-					if(row1.get(i) == null || row1.get(i).equals("null")) {
-						field.setAttribute("null", "yes");
-					}else{
-						String val = row1.get(i).toString(); 
-						field.setTextContent(val); 
+					indent(writer, 2, pretty); 
+					writer.writeStartElement("columns");
+					writer.writeAttribute("primary", priInd);
+	
+					for(int i = 0 ; i < colTypes.size(); i++) {	
+						indent(writer, 3, pretty); 
+						writer.writeEmptyElement("column");
+						writer.writeAttribute("name", colNames.get(i));
+						writer.writeAttribute("type", colTypes.get(i));
+					}
+					
+					indent(writer, 2, pretty); 
+					writer.writeEndElement();
+				
+				indent(writer, 1, pretty); 
+				writer.writeEndElement();
+				
+				indent(writer, 1, pretty); 
+				writer.writeStartElement("state");
+				for (List<Object> row : table) {
+					indent(writer, 2, pretty); 
+					writer.writeStartElement("row");
+					for (int i = 0; i < row.size(); i++) {
+						indent(writer, 3, pretty); 
+						if(row.get(i) == null || row.get(i).equals("null")) {
+							writer.writeEmptyElement("field");
+							writer.writeAttribute("null", "yes");
+						}else{
+							writer.writeStartElement("field");
+							writer.writeCharacters(row.get(i).toString()); 
+							writer.writeEndElement();
+						}
 					}
-					row.appendChild(field); 
+					indent(writer, 2, pretty); 
+					writer.writeEndElement();
 				}
-				state.appendChild(row);
+				indent(writer, 1, pretty); 
+				writer.writeEndElement();
+				
+				indent(writer, 0, pretty); 
+				writer.writeEndElement();
+				writer.writeCharacters(pretty ? "\n" : ""); 
+				writer.close(); 
 			}
-		
-		
-			Files.createDirectories(path.getParent());
-		    Source from = new DOMSource(doc);
-		    Result to = new StreamResult(path.toFile());
-			Transformer transformer = TransformerFactory.newInstance().newTransformer();
-		    transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-		    transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-		    transformer.transform(from, to);
 		}
-		catch (IOException | ParserConfigurationException | TransformerException e) {
+		catch (IOException | XMLStreamException e) {
 			throw new RuntimeException(e);
 		}
-		return; 
+	}
+	
+	/*
+	 * Starts a new line at the given depth, if pretty.
+	 */
+	private static void indent(XMLStreamWriter writer, int depth, boolean pretty) throws XMLStreamException {
+		if (pretty) {
+			writer.writeCharacters("\n" + "    ".repeat(depth)); 
+		}
 	}
 }
\ No newline at end of file
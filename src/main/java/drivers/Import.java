@@ -1,9 +1,12 @@
 package drivers;
 
+import java.io.BufferedInputStream;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -16,49 +19,41 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Result;
-import javax.xml.transform.Source;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import apps.Database;
 import jakarta.json.Json;
-import jakarta.json.JsonArray;
-import jakarta.json.JsonArrayBuilder;
-import jakarta.json.JsonObject;
-import jakarta.json.JsonObjectBuilder;
-import jakarta.json.JsonReader;
-import jakarta.json.JsonWriter;
-import jakarta.json.JsonWriterFactory;
-import jakarta.json.stream.JsonGenerator;
-import tables.HashArrayTable;
-import tables.SearchTable;
+import jakarta.json.JsonException;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.JsonValue.ValueType;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
 import tables.Table;
 
 /*
- * Example:
- *   SHOW TABLE example_table
+ * Examples:
+ *   IMPORT example_table.json
+ *   IMPORT example_table.bin TO restored_table
  *
  * Result:
- * 	 result set: the example_table in the database
+ * 	 result set: the imported table
  */
 public class Import implements Driver {
 	static final Pattern pattern = Pattern.compile(
-			"IMPORT\\s+([a-z0-9_][a-z0-9_]*.(?:xml|json))\s*(?:\\s+TO\\s+([a-z][a-z0-9_]*))?",
+			"IMPORT\\s+([a-z0-9_][a-z0-9_]*.(?:xml|json|bin))\s*(?:\\s+TO\\s+([a-z][a-z0-9_]*))?",
 			Pattern.CASE_INSENSITIVE
 		);
 	
+	@Override
+	public List<String> keywords() {
+		return List.of("IMPORT");
+	}
+
 	public Object execute(String query, Database db) throws SQLError {
 		Matcher matcher = pattern.matcher(query.strip());
 		if (!matcher.matches()) return null;
@@ -76,6 +71,8 @@ public class Import implements Driver {
 			file_type = "JSON"; 
 		}else if (fileParts[1].equalsIgnoreCase("xml")) {
 			file_type = "XML"; 
+		}else if (fileParts[1].equalsIgnoreCase("bin")) {
+			file_type = "BIN"; 
 		}else {
 			throw new SQLError("EXPORT type not recognized");
 		}
@@ -87,166 +84,392 @@ public class Import implements Driver {
 		}else if(file_type.equalsIgnoreCase("XML")) {
 			Path path = Paths.get("data", "exported", filename);
 			table = readXML(path, tablename, db); 
+		}else if(file_type.equalsIgnoreCase("BIN")) {
+			Path path = Paths.get("data", "exported", filename);
+			table = readBIN(path, tablename, db); 
 		}
 
 		return table; 
 	}
 	
+	/**
+	 * Reads the schema and then each row from the file
+	 * as a stream of events, passing the rows in batches
+	 * through an {@link ImportPipeline} which decodes them
+	 * in parallel, so that the file is never held in
+	 * memory, however large.
+	 * <p>
+	 * The schema must come before the state,
+	 * as it does in an exported file.
+	 *
+	 * @param path the file.
+	 * @param tablename the table name, or <code>null</code>
+	 * 		for the name in the file.
+	 * @param db the database.
+	 * @return the imported table.
+	 * @throws SQLError if the file is missing or malformed.
+	 */
 	public static Table readJSON(Path path, String tablename, Database db) throws SQLError {
-		try {
-			JsonReader reader = Json.createReader(new FileInputStream(path.toFile()));
-			JsonObject root_object = reader.readObject();
-			reader.close();
+		// A file is imported entirely or not at all.
+		Table table = null; 
+		boolean imported = false; 
+		try (JsonParser parser = Json.createParser(new BufferedInputStream(new FileInputStream(path.toFile())))) {
+			expect(parser, Event.START_OBJECT); 
 			
-			JsonObject Schema = root_object.getJsonObject("schema"); 
-
 			String table_name = tablename; 
-			if(table_name == null) {
-				table_name = Schema.getString("table_name");
-			}
-			
-			if(db.find(table_name) != null) {
-				int i = 1; 
-				table_name = table_name + "_" ; 
-				int length = table_name.length(); 
-				table_name = table_name + i ;
-				while(db.find(table_name) != null) {
-					table_name = table_name.substring(0, length); 
-					i++; 
-					table_name = table_name + i;
-				}
-			}
-
-			JsonArray column_names_array = Schema.getJsonArray("column_names");
 			List<String> column_names = new LinkedList<>();
-			for (int i = 0; i < column_names_array.size(); i++) {
-				column_names.add(column_names_array.getString(i));
-			}
-
-			JsonArray column_types_array = Schema.getJsonArray("column_types");
 			List<String> column_types = new LinkedList<>();
-			for (int i = 0; i < column_types_array.size(); i++) {
-				column_types.add(column_types_array.getString(i));
-			}
-
-			int primary_index = Schema.getInt("primary_index");
-
-			Table table = new SearchTable(
-				table_name,
-				column_names,
-				column_types,
-				primary_index
-			);
-			db.create(table);
+			int primary_index = 0; 
+			boolean schema = false; 
 			
-			JsonArray state = root_object.getJsonArray("state"); 
-			for(int j = 0; j < state.size(); j++) { 
-				Object[] newRow = new Object[column_types.size()];
-		    	for(int i = 0; i < column_types.size(); i++) {
-			    	JsonArray row = state.getJsonArray(j);
-					if(row.isNull(i)) {
-						newRow[i] = null; 
-					}else if(column_types.get(i).equalsIgnoreCase("string")) {
-						newRow[i] =  row.getString(i); 
-					}else if(column_types.get(i).equalsIgnoreCase("integer")) {
-						newRow[i] = row.getInt(i); 
-					}else if(column_types.get(i).equalsIgnoreCase("boolean")) {
-						newRow[i] = row.getBoolean(i); 
-					}else {
-						throw new SQLError("Unknown type"); 
+			while (expect(parser, Event.KEY_NAME, Event.END_OBJECT) == Event.KEY_NAME) {
+				switch (parser.getString()) {
+					case "schema" -> {
+						expect(parser, Event.START_OBJECT); 
+						while (expect(parser, Event.KEY_NAME, Event.END_OBJECT) == Event.KEY_NAME) {
+							switch (parser.getString()) {
+								case "table_name" -> {
+									expect(parser, Event.VALUE_STRING); 
+									if(table_name == null) {
+										table_name = parser.getString();
+									}
+								}
+								case "column_names" -> readStrings(parser, column_names); 
+								case "column_types" -> readStrings(parser, column_types); 
+								case "primary_index" -> {
+									expect(parser, Event.VALUE_NUMBER); 
+									primary_index = parser.getInt(); 
+								}
+								default -> skip(parser); 
+							}
+						}
+						schema = true; 
+					}
+					case "state" -> {
+						if(!schema) {
+							throw new SQLError("Schema must precede state"); 
+						}
+						if(table != null) {
+							throw new SQLError("State is repeated"); 
+						}
+						table = create(table_name, column_names, column_types, primary_index, db); 
+						
+						String[] types = column_types.toArray(new String[0]); 
+						try (ImportPipeline pipeline = new ImportPipeline(table, raw -> decodeJSON(raw, types))) {
+							expect(parser, Event.START_ARRAY); 
+							while (expect(parser, Event.START_ARRAY, Event.END_ARRAY) == Event.START_ARRAY) {
+								pipeline.add(readRow(parser)); 
+							}
+							pipeline.finish(); 
+						}
 					}
+					default -> skip(parser); 
 				}
-				List<Object> validRow = Arrays.asList(newRow);
-				table.put(validRow);
 			}
-
+			
+			if(table == null) {
+				throw new SQLError("State not found"); 
+			}
+			imported = true; 
 			return table;
 		}catch (FileNotFoundException e) {
 			throw new SQLError("File Not Found");
+		}catch (JsonException e) {
+			throw new SQLError("Malformed JSON file: %s".formatted(e.getMessage()));
+		}
+		finally {
+			if (!imported && table != null) {
+				db.drop(table.getTableName()); 
+			}
 		}
 	}
 	
-	public static Table readXML(Path path, String tablename, Database db) throws SQLError {
-		try {
-			try {
-				Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(path.toFile());
-				Element root = doc.getDocumentElement();
-				root.normalize();
-				
-				String table_name = tablename; 
+	/*
+	 * Reads the raw fields of one row,
+	 * after its opening bracket has been read.
+	 */
+	private static Object[] readRow(JsonParser parser) {
+		List<JsonValue> fields = new ArrayList<>(); 
+		while (parser.next() != Event.END_ARRAY) {
+			fields.add(parser.getValue()); 
+		}
+		return fields.toArray(); 
+	}
 	
-				if(tablename == null) {
-					table_name = root.getAttribute("name");
-				}
-				
-				if(db.find(table_name) != null) {
-					int i = 1; 
-					table_name = table_name + "_" ; 
-					int length = table_name.length(); 
-					table_name = table_name + i ;
-					while(db.find(table_name) != null) {
-						table_name = table_name.substring(0, length); 
-						i++; 
-						table_name = table_name + i;
-					}
+	/*
+	 * Decodes the raw fields of one row read from JSON.
+	 */
+	private static List<Object> decodeJSON(Object[] raw, String[] types) throws SQLError {
+		if(raw.length != types.length) {
+			throw new SQLError("Fields does not equal column count"); 
+		}
+		
+		Object[] newRow = new Object[types.length];
+		for (int i = 0; i < types.length; i++) {
+			JsonValue value = (JsonValue) raw[i]; 
+			ValueType kind = value.getValueType(); 
+			if(kind == ValueType.NULL) {
+				newRow[i] = null; 
+			}else if(types[i].equalsIgnoreCase("string") && kind == ValueType.STRING) {
+				newRow[i] = checkLength(((JsonString) value).getString(), i); 
+			}else if(types[i].equalsIgnoreCase("integer") && kind == ValueType.NUMBER && ((JsonNumber) value).isIntegral()) {
+				try {
+					newRow[i] = ((JsonNumber) value).intValueExact(); 
+				}catch (ArithmeticException e) {
+					throw new SQLError("Type mismatch in column <%d>".formatted(i)); 
 				}
+			}else if(types[i].equalsIgnoreCase("boolean") && (kind == ValueType.TRUE || kind == ValueType.FALSE)) {
+				newRow[i] = kind == ValueType.TRUE; 
+			}else {
+				throw new SQLError("Type mismatch in column <%d>".formatted(i)); 
+			}
+		}
+		return Arrays.asList(newRow); 
+	}
 	
-				List<String> column_names = new LinkedList<>();
-				List<String> column_types = new LinkedList<>();
+	/*
+	 * Returns the given string of the given column, unless its
+	 * encoded bytes are more than a string field may hold.
+	 */
+	private static String checkLength(String str, int column) throws SQLError {
+		if (str.getBytes(StandardCharsets.UTF_8).length > InsertRow.MAX_STRING) {
+			throw new SQLError("String in column <%d> is too long".formatted(column)); 
+		}
+		return str; 
+	}
 	
-				Element columns_elem = (Element) root.getElementsByTagName("columns").item(0);
+	/*
+	 * Reads an array of strings into the given list.
+	 */
+	private static void readStrings(JsonParser parser, List<String> strings) throws SQLError {
+		expect(parser, Event.START_ARRAY); 
+		while (expect(parser, Event.VALUE_STRING, Event.END_ARRAY) == Event.VALUE_STRING) {
+			strings.add(parser.getString()); 
+		}
+	}
 	
-				NodeList column_nodes = columns_elem.getElementsByTagName("column");
-				for (int i = 0; i < column_nodes.getLength(); i++) {
-					Element column_elem = (Element) column_nodes.item(i);
-					column_names.add(column_elem.getAttribute("name"));
-					column_types.add(column_elem.getAttribute("type"));
-				}
+	/*
+	 * Skips the value of a key which is not read.
+	 */
+	private static void skip(JsonParser parser) {
+		switch (parser.next()) {
+			case START_OBJECT -> parser.skipObject(); 
+			case START_ARRAY -> parser.skipArray(); 
+			default -> {}
+		}
+	}
 	
-				int primary_index = Integer.parseInt(columns_elem.getAttribute("primary"));
+	/*
+	 * Reads the next event, which must be one of the given events.
+	 */
+	private static Event expect(JsonParser parser, Event... expected) throws SQLError {
+		Event event = parser.hasNext() ? parser.next() : null; 
+		for (Event e: expected) {
+			if (e == event) {
+				return event; 
+			}
+		}
+		throw new SQLError("Expected %s but found %s in JSON file".formatted(Arrays.toString(expected), event)); 
+	}
 	
-				Table table = new SearchTable(
-					table_name,
-					column_names,
-					column_types,
-					primary_index
-				);
-				db.create(table);
+	/**
+	 * Reads the schema and then each row from the file
+	 * as a stream of events, passing the rows in batches
+	 * through an {@link ImportPipeline} which decodes them
+	 * in parallel, so that the file is never held in
+	 * memory, however large.
+	 *
+	 * @param path the file.
+	 * @param tablename the table name, or <code>null</code>
+	 * 		for the name in the file.
+	 * @param db the database.
+	 * @return the imported table.
+	 * @throws SQLError if the file is missing or malformed.
+	 */
+	public static Table readXML(Path path, String tablename, Database db) throws SQLError {
+		// A file is imported entirely or not at all.
+		Table table = null; 
+		boolean imported = false; 
+		try (InputStream in = new BufferedInputStream(new FileInputStream(path.toFile()))) {
+			XMLInputFactory factory = XMLInputFactory.newInstance();
+			factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+			factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+			XMLStreamReader reader = factory.createXMLStreamReader(in);
+			
+			String table_name = tablename; 
+			List<String> column_names = new LinkedList<>();
+			List<String> column_types = new LinkedList<>();
+			int primary_index = 0; 
+			
+			while (reader.hasNext()) {
+				if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+					continue; 
+				}
 				
-				NodeList row_nodes = root.getElementsByTagName("row");
-				for (int i = 0; i < row_nodes.getLength(); i++) {
-					Element row_elem = (Element) row_nodes.item(i);
-					NodeList field_nodes = row_elem.getElementsByTagName("field");
-					Object[] newRow = new Object[column_types.size()]; 
-					if(column_types.size() != field_nodes.getLength()) {
-						throw new SQLError("Fields does not equal column count"); 
+				switch (reader.getLocalName()) {
+					case "table" -> {
+						if(table_name == null) {
+							table_name = reader.getAttributeValue(null, "name");
+						}
+					}
+					case "columns" -> {
+						try {
+							primary_index = Integer.parseInt(reader.getAttributeValue(null, "primary"));
+						}catch (NumberFormatException e) {
+							throw new SQLError("Primary index is malformed"); 
+						}
 					}
-					for (int j = 0; j < field_nodes.getLength(); j++) {
-						if(field_nodes.item(j).hasAttributes()) {
-							newRow[j] = null; 
-						}else if(column_types.get(j).equalsIgnoreCase("string")) {
-							newRow[j] = field_nodes.item(j).getTextContent(); 
-						}else if(column_types.get(j).equalsIgnoreCase("integer")) {
-							newRow[j] = Integer.parseInt(field_nodes.item(j).getTextContent()); 
-						}else if(column_types.get(j).equalsIgnoreCase("boolean")) {
-							newRow[j] = Boolean.parseBoolean(field_nodes.item(j).getTextContent()); 
-						}else {
-							throw new SQLError("Type for element cast, undeterminable"); 
+					case "column" -> {
+						column_names.add(reader.getAttributeValue(null, "name"));
+						column_types.add(reader.getAttributeValue(null, "type"));
+					}
+					case "state" -> {
+						if(table != null) {
+							throw new SQLError("State is repeated"); 
+						}
+						table = create(table_name, column_names, column_types, primary_index, db); 
+						String[] types = column_types.toArray(new String[0]); 
+						try (ImportPipeline pipeline = new ImportPipeline(table, raw -> decodeXML(raw, types))) {
+							readRows(reader, pipeline); 
+							pipeline.finish(); 
 						}
 					}
-					
-					List<Object> row = Arrays.asList(newRow); 
-					
-					table.put(row); 
 				}
-				return table;
-			}catch (FileNotFoundException e) {
-				throw new SQLError("File not Found"); 
 			}
+			reader.close(); 
+			
+			if(table == null) {
+				throw new SQLError("State not found"); 
+			}
+			imported = true; 
+			return table;
+		}
+		catch (FileNotFoundException e) {
+			throw new SQLError("File not Found"); 
 		}
-		catch (IOException | ParserConfigurationException | SAXException  e) {
+		catch (XMLStreamException e) {
+			throw new SQLError("Malformed XML file: %s".formatted(e.getMessage())); 
+		}
+		catch (IOException e) {
 			throw new RuntimeException(e);
 		}
+		finally {
+			if (!imported && table != null) {
+				db.drop(table.getTableName()); 
+			}
+		}
+	}
+	
+	/**
+	 * Restores a binary snapshot written by
+	 * {@link Export#writeBIN(Path, String, Database)},
+	 * checking the checksum of each block.
+	 *
+	 * @param path the file.
+	 * @param tablename the table name, or <code>null</code>
+	 * 		for the name in the file.
+	 * @param db the database.
+	 * @return the imported table.
+	 * @throws SQLError if the file is missing, truncated, or corrupt.
+	 */
+	public static Table readBIN(Path path, String tablename, Database db) throws SQLError {
+		return BinarySnapshot.read(path, tablename, db); 
+	}
+	
+	/*
+	 * Reads the raw fields of each row until the
+	 * end of the state, the text of each field,
+	 * or null if it has the null attribute.
+	 */
+	private static void readRows(XMLStreamReader reader, ImportPipeline pipeline) throws XMLStreamException, SQLError {
+		List<String> fields = new ArrayList<>(); 
+		while (reader.hasNext()) {
+			int event = reader.next(); 
+			if (event == XMLStreamConstants.START_ELEMENT && reader.getLocalName().equals("field")) {
+				fields.add(reader.getAttributeCount() > 0 ? null : reader.getElementText()); 
+			}else if (event == XMLStreamConstants.END_ELEMENT && reader.getLocalName().equals("row")) {
+				pipeline.add(fields.toArray()); 
+				fields.clear(); 
+			}else if (event == XMLStreamConstants.END_ELEMENT && reader.getLocalName().equals("state")) {
+				return; 
+			}
+		}
+	}
+	
+	/*
+	 * Decodes the raw fields of one row read from XML.
+	 */
+	private static List<Object> decodeXML(Object[] raw, String[] types) throws SQLError {
+		if(raw.length != types.length) {
+			throw new SQLError("Fields does not equal column count"); 
+		}
+		
+		Object[] newRow = new Object[types.length]; 
+		for (int j = 0; j < types.length; j++) {
+			String text = (String) raw[j]; 
+			if(text == null) {
+				newRow[j] = null; 
+			}else if(types[j].equalsIgnoreCase("string")) {
+				newRow[j] = checkLength(text, j); 
+			}else if(types[j].equalsIgnoreCase("integer")) {
+				try {
+					newRow[j] = Integer.parseInt(text); 
+				}catch (NumberFormatException e) {
+					throw new SQLError("Type mismatch in column <%d>".formatted(j)); 
+				}
+			}else if(types[j].equalsIgnoreCase("boolean")) {
+				newRow[j] = Boolean.parseBoolean(text); 
+			}else {
+				throw new SQLError("Type for element cast, undeterminable"); 
+			}
+		}
+		return Arrays.asList(newRow); 
+	}
+	
+	/*
+	 * Creates the table to import into, which is
+	 * a hash table, or file-based if the database
+	 * is persistent, under an unused name, checking
+	 * the names against the limits of CREATE TABLE.
+	 */
+	static Table create(String table_name, List<String> column_names, List<String> column_types, int primary_index, Database db) throws SQLError {
+		if(table_name == null) {
+			throw new SQLError("Table name not found"); 
+		}
+		String name = unusedName(table_name, db); 
+		if(name.length() > CreateTable.MAX_NAME) {
+			throw new SQLError("Tablename <%s> is too long".formatted(name)); 
+		}
+		for (String column: column_names) {
+			if(column.length() > CreateTable.MAX_NAME) {
+				throw new SQLError("Column Name <%s> is too long".formatted(column)); 
+			}
+		}
+		
+		Table table = db.create(name, column_names, column_types, primary_index); 
+		if(table == null) {
+			throw new SQLError("Table <%s> already exists".formatted(table_name)); 
+		}
+		return table; 
+	}
+	
+	/*
+	 * Returns the given table name, or if that table
+	 * exists, the name with the first unused suffix.
+	 */
+	private static String unusedName(String table_name, Database db) {
+		if(db.find(table_name) != null) {
+			int i = 1; 
+			table_name = table_name + "_" ; 
+			int length = table_name.length(); 
+			table_name = table_name + i ;
+			while(db.find(table_name) != null) {
+				table_name = table_name.substring(0, length); 
+				i++; 
+				table_name = table_name + i;
+			}
+		}
+		return table_name; 
 	}
 	
 }
\ No newline at end of file
@@ -0,0 +1,171 @@
+package drivers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import tables.Table;
+
+/**
+ * Loads rows read from a file into a table
+ * in three overlapping stages.
+ * <p>
+ * The reader, on the calling thread, collects the raw
+ * fields of each row into batches. A pool of workers
+ * decodes and validates each batch. A single writer
+ * puts each batch into the table, in the order the
+ * batches were read, since a table is not thread-safe.
+ * <p>
+ * Only a bounded number of batches are in flight at
+ * once, so a reader which outpaces the writer waits
+ * for it, and memory use does not grow with the file.
+ */
+class ImportPipeline implements AutoCloseable {
+	static final int BATCH_SIZE = 4096;
+
+	/**
+	 * Decodes the raw fields of a row.
+	 */
+	@FunctionalInterface
+	interface Decoder {
+		/**
+		 * Decodes and validates the raw fields of a row.
+		 *
+		 * @param raw the raw fields, as read from the file.
+		 * @return the row.
+		 * @throws SQLError if the fields violate the schema.
+		 */
+		List<Object> decode(Object[] raw) throws SQLError;
+	}
+
+	private final Table table;
+	private final Decoder decoder;
+	private final ExecutorService workers;
+	private final ExecutorService writer;
+	private final Semaphore inFlight;
+	private volatile Throwable failure;
+	private List<Object[]> batch;
+
+	/**
+	 * Starts a pipeline into the given table.
+	 *
+	 * @param table the table.
+	 * @param decoder the decoder of each row.
+	 */
+	ImportPipeline(Table table, Decoder decoder) {
+		this.table = table;
+		this.decoder = decoder;
+
+		int threads = Runtime.getRuntime().availableProcessors();
+		workers = Executors.newFixedThreadPool(threads);
+		writer = Executors.newSingleThreadExecutor();
+		inFlight = new Semaphore(2 * threads + 1);
+		batch = new ArrayList<>(BATCH_SIZE);
+	}
+
+	/**
+	 * Adds the raw fields of the next row,
+	 * submitting the batch once it is full.
+	 *
+	 * @param raw the raw fields.
+	 * @throws SQLError if an earlier batch failed.
+	 */
+	void add(Object[] raw) throws SQLError {
+		batch.add(raw);
+		if (batch.size() == BATCH_SIZE)
+			submit();
+	}
+
+	/**
+	 * Submits the last batch, then waits
+	 * for every batch to be put.
+	 *
+	 * @throws SQLError if any batch failed.
+	 */
+	void finish() throws SQLError {
+		if (!batch.isEmpty())
+			submit();
+
+		writer.shutdown();
+		try {
+			writer.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		}
+		catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+		rethrow();
+	}
+
+	/**
+	 * Stops the workers and the writer, abandoning
+	 * any batch in flight, and waits for the writer
+	 * to finish any batch it is putting, so that the
+	 * table may be dropped once this returns.
+	 */
+	@Override
+	public void close() {
+		workers.shutdownNow();
+		writer.shutdownNow();
+		try {
+			writer.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void submit() throws SQLError {
+		rethrow();
+
+		List<Object[]> raws = batch;
+		batch = new ArrayList<>(BATCH_SIZE);
+
+		inFlight.acquireUninterruptibly();
+		Future<List<List<Object>>> decoded = workers.submit(() -> decode(raws));
+		writer.execute(() -> {
+			try {
+				if (failure == null)
+					table.putAll(decoded.get());
+			}
+			catch (ExecutionException e) {
+				failure = e.getCause();
+			}
+			catch (InterruptedException | RuntimeException e) {
+				failure = e;
+			}
+			finally {
+				inFlight.release();
+			}
+		});
+	}
+
+	private List<List<Object>> decode(List<Object[]> raws) throws SQLError {
+		List<List<Object>> rows = new ArrayList<>(raws.size());
+		for (Object[] raw: raws) {
+			List<Object> row = decoder.decode(raw);
+			if (row.get(table.getPrimaryIndex()) == null)
+				throw new SQLError("Primary index key value cannot be a null");
+			rows.add(row);
+		}
+		return rows;
+	}
+
+	private void rethrow() throws SQLError {
+		Throwable cause = failure;
+		if (cause == null)
+			return;
+
+		if (cause instanceof SQLError e)
+			throw e;
+		if (cause instanceof RuntimeException e)
+			throw e;
+		if (cause instanceof Error e)
+			throw e;
+		throw new RuntimeException(cause);
+	}
+}
@@ -2,55 +2,61 @@ package drivers;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Set;
 
 import apps.Database;
-import tables.HashArrayTable;
 import tables.Table;
 
 /*
- * Example:
- *   SHOW TABLE example_table
+ * Examples:
+ *   INSERT INTO example_table VALUES ("a", 1, true)
+ *   REPLACE INTO example_table (name, id) VALUES ("b", 2), ("c", 3)
  *
  * Result:
- * 	 result set: the example_table in the database
+ * 	 integer (affected rows): the number of rows inserted
  */
 public class InsertRow implements Driver {
-	static final Pattern pattern = Pattern.compile(
-			"(INSERT|REPLACE)\\s+INTO\\s+([a-z][a-z0-9_]*)\\s*(?:\\(\\s*([a-z][a-z0-9_-]*\\s*(?:,\\s*(?:[a-z][a-z0-9_-]*))*)\\s*\\))?\\s+VALUES\\s+\\(([^()]*)\\)",
-			Pattern.CASE_INSENSITIVE
-	);
+	static final int MAX_STRING = 127;
+
+	@Override
+	public List<String> keywords() {
+		return List.of("INSERT", "REPLACE");
+	}
 
-	@SuppressWarnings({ "null", "unused" })
 	@Override
 	public Object execute(String query, Database db) throws SQLError {
-		Matcher matcher = pattern.matcher(query.strip());
-		if (!matcher.matches()) return null;
+		Statement.Insert insert = Parser.parseInsert(query);
+		if (insert == null) return null;
 		
-		String tablename = matcher.group(2).toString();
+		return prepare(insert, db).execute(); 
+	}
+	
+	/**
+	 * Resolves the table and columns of the given
+	 * query, and returns the query ready to execute.
+	 *
+	 * @param insert the parsed query.
+	 * @param db the database.
+	 * @return the prepared query.
+	 * @throws SQLError if the table or a column does not exist.
+	 */
+	public static PreparedQuery prepare(Statement.Insert insert, Database db) throws SQLError {
+		String tablename = insert.tableName();
 		
-		if(db.find(tablename) == null) {
+		Table table = db.find(tablename); 
+		if(table == null) {
 			throw new SQLError("Table <%s> does not exist".formatted(tablename)); 
 		}
-		Table table = db.find(tablename); 
 		List<String> tableCols = table.getColumnNames();
 		List<String> colTypes = table.getColumnTypes(); 
+		int primaryIndex = table.getPrimaryIndex(); 
 		
-
-		List<Object> ptrList = new ArrayList<Object>(); 
-		List<Object> cols = new ArrayList<Object>(); 
-		String column_defs = matcher.group(3);
-		if(column_defs != null) { 
-			String[] colsArr = column_defs.split(","); 
-			// Clean up values
-			for(int i = 0; i < colsArr.length; i++) {
-				cols.add(colsArr[i].strip());
-			}
-		}
-		
-		if (column_defs != null) {
+		// Map each listed column to its index in the table, or list every column in order.
+		List<Integer> ptrList = new ArrayList<Integer>(); 
+		List<String> cols = insert.columnNames(); 
+		if (cols != null) {
 			for (int i = 0; i < cols.size() ; i++) {
 				int j = tableCols.indexOf(cols.get(i)); 
 				if (j == -1) {
@@ -64,9 +70,8 @@ public class InsertRow implements Driver {
 				ptrList.add(j); 
 			}
 			
-			if(!cols.contains(tableCols.get(table.getPrimaryIndex()))) {
+			if(!ptrList.contains(primaryIndex)) {
 				throw new SQLError("Primary column value not given"); 
-
 			}
 		}else {
 			for (int j = 0; j < tableCols.size(); j++) {
@@ -74,89 +79,64 @@ public class InsertRow implements Driver {
 			}
 		}
 		
-		int counter = 0; 
-		List<Object> vals = new ArrayList<Object>(); 
-		String column_vals = matcher.group(4); 
-		String[] valsArr = column_vals.split(","); 
-		for(int i = 0; i < valsArr.length; i++) {
-			vals.add(valsArr[i].strip());
-		}
-		
-		if(vals.size() != ptrList.size()) {
-			throw new SQLError("Number of values passed is not equal to number of columns"); 
+		for (List<Statement.Operand> vals: insert.rows()) {
+			if(vals.size() != ptrList.size()) {
+				throw new SQLError("Number of values passed is not equal to number of columns"); 
+			}
 		}
 		
-		Object[] newRow = new Object[tableCols.size()]; 
+		int[] pointers = ptrList.stream().mapToInt(Integer::intValue).toArray(); 
+		String[] types = colTypes.toArray(new String[0]); 
 		
-		for(int i = 0; i < ptrList.size(); i++) {
-
-//			System.out.println("Loop Iteration: " + i + " | Row Value: " + Arrays.deepToString(newRow)); 
-			int j = (int) ptrList.get(i); 
-			String value = (String) vals.get(i); 
-			String name = tableCols.get(j); 
-			String type = colTypes.get(j); 
-//			System.out.println("Value: " + value); 
-			
-//			System.out.println(value); // Debug code
-			
- 
-			if(value.matches("\"[^\"]*\"")) {
-				if(!type.equalsIgnoreCase("string")) {
-					throw new SQLError("Type mismatch"); 
-				}else if(value.length() > 129) {
-					throw new SQLError("value for column is too long"); 
-				}else if(value.length() < 1) {
-					throw new SQLError("value <s%> is too short".formatted(value)); 
-				}else {
-					value = value.replace("\"", "");  
-					newRow[j] = value; 
-				}
-			}else if(value.matches("[+-]*\\d+")) {
-				if(!type.equalsIgnoreCase("integer")) {
-					throw new SQLError("Type mismatch"); 
-				}else if(value.matches("[+|-]*^0\\d+")) {
-					throw new SQLError("Integer cannot start with 0"); 
-				}
-				try {
-					int intValue = Integer.parseInt(value); 
-					newRow[j] = intValue;
-				}catch(Exception e) {
-					throw new SQLError("Error parsing integer upon insert"); 
-				} 
-			}else if(value.toLowerCase().matches("true|false")) {
-				if(!type.equalsIgnoreCase("boolean")) {
-					throw new SQLError("Type mismatch"); 
+		// Each placeholder takes the type of the column it is listed under.
+		String[] parameterTypes = new String[insert.parameters()]; 
+		for (List<Statement.Operand> vals: insert.rows()) {
+			for (int i = 0; i < pointers.length; i++) {
+				if (vals.get(i) instanceof Statement.Parameter parameter) {
+					parameterTypes[parameter.index()] = types[pointers[i]]; 
 				}
-				
-				try {
-					boolean booleanVal = Boolean.parseBoolean(value); 
-					newRow[j] = booleanVal; 
-				}catch(Exception e) {
-					throw new SQLError("Error parsing boolean upon insert"); 
-				}
-			}else if(!value.toLowerCase().matches("null")){
-				throw new SQLError("Type for value not determinable"); 
 			}
+		}
+		
+		return values -> {
+			Statement.Literal[] bound = Statement.bind(parameterTypes, values); 
 			
-			Object key = null;
-			if (j == table.getPrimaryIndex()) {
-				key = newRow[j];
+			// Validate every row before inserting any, so that a failed query inserts none.
+			List<List<Object>> validRows = new ArrayList<>(insert.rows().size()); 
+			Set<Object> keys = new HashSet<>(); 
+			for (List<Statement.Operand> vals: insert.rows()) {
+				Object[] newRow = new Object[types.length]; 
+				for(int i = 0; i < pointers.length; i++) {
+					int j = pointers[i]; 
+					Statement.Literal value = vals.get(i).resolve(bound); 
+					
+					if (value.type() != null && !value.type().equals(types[j])) {
+						throw new SQLError("Type mismatch"); 
+					}
+					if (value.value() instanceof String str && str.length() > MAX_STRING) {
+						throw new SQLError("value for column is too long"); 
+					}
+					newRow[j] = value.value(); 
+				}
 				
+				Object key = newRow[primaryIndex];
 				if(key == null) {
-					throw new SQLError("Primary index key value cannot be a null. Key Value: ".formatted(key)); 
+					throw new SQLError("Primary index key value cannot be a null"); 
+				}
+				if(!keys.add(key) && !insert.replace()) {
+					throw new SQLError("Primary index key value is repeated in the query on insert"); 
 				}
 				
-				if(matcher.group(1).equalsIgnoreCase("insert") && table.get(key) != null) {
-					throw new SQLError("Primary index key value already exists in the table on insert"); 
-				}	
+				validRows.add(Arrays.asList(newRow)); 
 			}
 			
-			
-			
-		}
-		List<Object> validRow = Arrays.asList(newRow); 
-//		System.out.println("Final Value: " + validRow.toString());
-		table.put(validRow); 
-		return 1; 
+			// One probe per row, which undoes the rows already put on a hit.
+			if (insert.replace()) {
+				table.putAll(validRows); 
+			}else if (!table.putAllIfAbsent(validRows)) {
+				throw new SQLError("Primary index key value already exists in the table on insert"); 
+			}
+			return validRows.size(); 
+		}; 
 	}
-}
\ No newline at end of file
+}
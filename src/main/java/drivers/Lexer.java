@@ -0,0 +1,93 @@
+package drivers;
+
+/**
+ * Splits a query into tokens in a single pass,
+ * one token at a time.
+ * <p>
+ * Whitespace separates tokens but is otherwise
+ * ignored, except within strings, which may hold
+ * any character but a double quote.
+ */
+public class Lexer {
+	private final String query;
+	private int offset;
+
+	/**
+	 * Creates a lexer for the given query.
+	 *
+	 * @param query the query.
+	 */
+	public Lexer(String query) {
+		this.query = query;
+	}
+
+	/**
+	 * Returns the next token, or an end token
+	 * once the query is exhausted.
+	 *
+	 * @return the next token.
+	 * @throws SQLError if the query has a malformed token.
+	 */
+	public Token next() throws SQLError {
+		while (offset < query.length() && Character.isWhitespace(query.charAt(offset)))
+			offset++;
+
+		int start = offset;
+		if (offset == query.length())
+			return new Token(Token.Kind.END, "", start);
+
+		char c = query.charAt(offset);
+		if (isLetter(c)) {
+			while (offset < query.length() && isWordPart(query.charAt(offset)))
+				offset++;
+			return new Token(Token.Kind.WORD, query.substring(start, offset), start);
+		}
+
+		if (isDigit(c) || ((c == '+' || c == '-') && offset + 1 < query.length() && isDigit(query.charAt(offset + 1)))) {
+			offset++;
+			while (offset < query.length() && isDigit(query.charAt(offset)))
+				offset++;
+			if (offset < query.length() && (isWordPart(query.charAt(offset)) || query.charAt(offset) == '.'))
+				throw new SQLError("Malformed number at position %d".formatted(start));
+			return new Token(Token.Kind.NUMBER, query.substring(start, offset), start);
+		}
+
+		if (c == '"') {
+			int end = query.indexOf('"', offset + 1);
+			if (end == -1)
+				throw new SQLError("Unterminated string at position %d".formatted(start));
+			offset = end + 1;
+			return new Token(Token.Kind.STRING, query.substring(start + 1, end), start);
+		}
+
+		offset++;
+		switch (c) {
+			case '(', ')', ',', '*', '=', '?' -> {
+				return new Token(Token.Kind.SYMBOL, String.valueOf(c), start);
+			}
+			case '<' -> {
+				if (offset < query.length() && (query.charAt(offset) == '>' || query.charAt(offset) == '='))
+					offset++;
+				return new Token(Token.Kind.SYMBOL, query.substring(start, offset), start);
+			}
+			case '>' -> {
+				if (offset < query.length() && query.charAt(offset) == '=')
+					offset++;
+				return new Token(Token.Kind.SYMBOL, query.substring(start, offset), start);
+			}
+			default -> throw new SQLError("Unexpected character <%c> at position %d".formatted(c, start));
+		}
+	}
+
+	private static boolean isLetter(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isWordPart(char c) {
+		return isLetter(c) || isDigit(c) || c == '_';
+	}
+}
@@ -6,7 +6,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import apps.Database;
-import tables.SearchTable;
+import tables.BPlusTreeTable;
 import tables.Table;
 
 /**
@@ -22,6 +22,11 @@ public class Macros implements Driver {
 		Pattern.CASE_INSENSITIVE
 	);
 
+	@Override
+	public List<String> keywords() {
+		return List.of("MACRO");
+	}
+
 	@Override
 	public Object execute(String query, Database db) throws SQLError {
 		Matcher matcher = pattern.matcher(query.strip());
@@ -39,7 +44,7 @@ public class Macros implements Driver {
 		 *   [table also injected into database]
 		 */
 		if (macro.equals("1")) {
-			Table table = new SearchTable(
+			Table table = new BPlusTreeTable(
 				"macro_1",
 				List.of("letter", "order", "vowel"),
 				List.of("string", "integer", "boolean"),
@@ -59,7 +64,7 @@ public class Macros implements Driver {
 		}
 		
 		if (macro.equals("3")) {
-			Table table = new SearchTable(
+			Table table = new BPlusTreeTable(
 				"macro_3",
 				List.of("FirstName", "LastName", "ID", "City"),
 				List.of("string", "string", "integer", "string"),
@@ -78,7 +83,7 @@ public class Macros implements Driver {
 		}
 		
 		if (macro.equals("4")) {
-			Table table = new SearchTable(
+			Table table = new BPlusTreeTable(
 				"AnimalTable",
 				List.of("name", "mammal", "legs", "extinct"),
 				List.of("string", "boolean", "integer", "boolean"),
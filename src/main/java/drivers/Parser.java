@@ -0,0 +1,289 @@
+package drivers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses a query into a {@link Statement} by
+ * recursive descent, reading each token once.
+ * <p>
+ * Keywords are not case-sensitive and are not
+ * reserved, so they may also be used as names.
+ * Each entry point returns <code>null</code> if the
+ * query does not begin with its keyword, so that
+ * a driver can decline the query, and otherwise
+ * throws an {@link SQLError} if the query is not
+ * well-formed.
+ */
+public class Parser {
+	private final Lexer lexer;
+	private Token token;
+	private int parameters;
+
+	private Parser(String query) throws SQLError {
+		lexer = new Lexer(query);
+		token = lexer.next();
+	}
+
+	/**
+	 * Parses a <code>CREATE TABLE</code> query.
+	 *
+	 * @param query the query.
+	 * @return the statement, or <code>null</code>
+	 * 		if the query is not a create query.
+	 * @throws SQLError if the query is malformed.
+	 */
+	public static Statement.Create parseCreate(String query) throws SQLError {
+		var parser = new Parser(query);
+		if (!parser.token.is("CREATE"))
+			return null;
+
+		return parser.create();
+	}
+
+	/**
+	 * Parses an <code>INSERT</code> or
+	 * <code>REPLACE</code> query.
+	 *
+	 * @param query the query.
+	 * @return the statement, or <code>null</code>
+	 * 		if the query is not an insert query.
+	 * @throws SQLError if the query is malformed.
+	 */
+	public static Statement.Insert parseInsert(String query) throws SQLError {
+		var parser = new Parser(query);
+		if (!parser.token.is("INSERT") && !parser.token.is("REPLACE"))
+			return null;
+
+		return parser.insert();
+	}
+
+	/**
+	 * Parses a <code>SELECT</code> query.
+	 *
+	 * @param query the query.
+	 * @return the statement, or <code>null</code>
+	 * 		if the query is not a select query.
+	 * @throws SQLError if the query is malformed.
+	 */
+	public static Statement.Select parseSelect(String query) throws SQLError {
+		var parser = new Parser(query);
+		if (!parser.token.is("SELECT"))
+			return null;
+
+		return parser.select();
+	}
+
+	/*
+	 * CREATE TABLE name ( column , ... ) [ USING COLUMNAR ]
+	 */
+	private Statement.Create create() throws SQLError {
+		expect("CREATE");
+		expect("TABLE");
+		String tableName = name("table name");
+
+		expect("(");
+		List<Statement.Column> columns = new ArrayList<>();
+		do {
+			String columnName = name("column name");
+			String type = type();
+			boolean primary = accept("PRIMARY");
+			columns.add(new Statement.Column(columnName, type, primary));
+		} while (accept(","));
+		expect(")");
+
+		boolean columnar = false;
+		if (accept("USING")) {
+			expect("COLUMNAR");
+			columnar = true;
+		}
+		end();
+
+		return new Statement.Create(tableName, columns, columnar);
+	}
+
+	/*
+	 * ( INSERT | REPLACE ) INTO name [ ( name , ... ) ]
+	 * VALUES ( literal , ... ) , ...
+	 */
+	private Statement.Insert insert() throws SQLError {
+		boolean replace = token.is("REPLACE");
+		advance();
+		expect("INTO");
+		String tableName = name("table name");
+
+		List<String> columnNames = null;
+		if (accept("(")) {
+			columnNames = new ArrayList<>();
+			do {
+				columnNames.add(name("column name"));
+			} while (accept(","));
+			expect(")");
+		}
+
+		expect("VALUES");
+		List<List<Statement.Operand>> rows = new ArrayList<>();
+		do {
+			expect("(");
+			List<Statement.Operand> row = new ArrayList<>();
+			do {
+				row.add(operand());
+			} while (accept(","));
+			expect(")");
+			rows.add(row);
+		} while (accept(","));
+		end();
+
+		return new Statement.Insert(replace, tableName, columnNames, rows, parameters);
+	}
+
+	/*
+	 * SELECT ( * | name [ AS name ] , ... ) FROM name [ WHERE condition ]
+	 */
+	private Statement.Select select() throws SQLError {
+		expect("SELECT");
+		boolean parenthesized = accept("(");
+
+		List<Statement.Item> items = new ArrayList<>();
+		if (!accept("*")) {
+			do {
+				String column = name("column name");
+				String alias = accept("AS") ? name("alias") : column;
+				items.add(new Statement.Item(column, alias));
+			} while (accept(","));
+		}
+
+		if (parenthesized)
+			expect(")");
+		expect("FROM");
+		String tableName = name("table name");
+
+		Statement.Condition where = accept("WHERE") ? disjunction() : null;
+		end();
+
+		return new Statement.Select(items, tableName, where, parameters);
+	}
+
+	/*
+	 * conjunction OR ...
+	 */
+	private Statement.Condition disjunction() throws SQLError {
+		var condition = conjunction();
+		while (accept("OR"))
+			condition = new Statement.Or(condition, conjunction());
+		return condition;
+	}
+
+	/*
+	 * comparison AND ...
+	 */
+	private Statement.Condition conjunction() throws SQLError {
+		var condition = comparison();
+		while (accept("AND"))
+			condition = new Statement.And(condition, comparison());
+		return condition;
+	}
+
+	/*
+	 * ( condition ) | name operator literal
+	 */
+	private Statement.Condition comparison() throws SQLError {
+		if (accept("(")) {
+			var condition = disjunction();
+			expect(")");
+			return condition;
+		}
+
+		String column = name("left hand side");
+		boolean comparable = token.kind() == Token.Kind.SYMBOL && switch (token.text()) {
+			case "=", "<>", "<", ">", "<=", ">=" -> true;
+			default -> false;
+		};
+		if (!comparable)
+			throw error("operator");
+		String operator = token.text();
+		advance();
+
+		return new Statement.Comparison(column, operator, operand());
+	}
+
+	private String type() throws SQLError {
+		if (token.is("STRING") || token.is("INTEGER") || token.is("BOOLEAN")) {
+			String type = token.text().toLowerCase();
+			advance();
+			return type;
+		}
+		throw error("column type");
+	}
+
+	private Statement.Operand operand() throws SQLError {
+		if (accept("?"))
+			return new Statement.Parameter(parameters++);
+
+		return literal();
+	}
+
+	private Statement.Literal literal() throws SQLError {
+		Statement.Literal literal = switch (token.kind()) {
+			case STRING -> new Statement.Literal("string", token.text());
+			case NUMBER -> {
+				String text = token.text();
+				int digits = Character.isDigit(text.charAt(0)) ? 0 : 1;
+				if (text.charAt(digits) == '0' && text.length() > digits + 1)
+					throw new SQLError("Integer <%s> cannot start with 0".formatted(text));
+				try {
+					yield new Statement.Literal("integer", Integer.parseInt(text));
+				}
+				catch (NumberFormatException e) {
+					throw new SQLError("Integer <%s> is out of range".formatted(text));
+				}
+			}
+			case WORD -> {
+				if (token.is("TRUE") || token.is("FALSE"))
+					yield new Statement.Literal("boolean", token.is("TRUE"));
+				if (token.is("NULL"))
+					yield new Statement.Literal(null, null);
+				throw new SQLError("Type for value <%s> not determinable".formatted(token.text()));
+			}
+			default -> throw error("value");
+		};
+		advance();
+		return literal;
+	}
+
+	private String name(String description) throws SQLError {
+		if (token.kind() != Token.Kind.WORD)
+			throw error(description);
+
+		String name = token.text();
+		advance();
+		return name;
+	}
+
+	private boolean accept(String keywordOrSymbol) throws SQLError {
+		if (!token.is(keywordOrSymbol))
+			return false;
+
+		advance();
+		return true;
+	}
+
+	private void expect(String keywordOrSymbol) throws SQLError {
+		if (!accept(keywordOrSymbol))
+			throw error("<%s>".formatted(keywordOrSymbol));
+	}
+
+	private void end() throws SQLError {
+		if (token.kind() != Token.Kind.END)
+			throw error("end of query");
+	}
+
+	private void advance() throws SQLError {
+		token = lexer.next();
+	}
+
+	private SQLError error(String expected) {
+		String found = token.kind() == Token.Kind.END ? "end of query" : "<%s>".formatted(token.text());
+		return new SQLError("Expected %s but found %s at position %d".formatted(expected, found, token.position()));
+	}
+}
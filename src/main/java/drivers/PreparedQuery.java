@@ -0,0 +1,22 @@
+package drivers;
+
+/**
+ * Represents a query which has been parsed and
+ * resolved against a table, so that it may be
+ * executed many times, with different values bound
+ * to its placeholders, without parsing it or
+ * finding the table again.
+ */
+@FunctionalInterface
+public interface PreparedQuery {
+	/**
+	 * Executes the query with the given values bound
+	 * to its placeholders, and returns the result.
+	 *
+	 * @param values the values, in order, each a string,
+	 * 		an integer, a boolean, or <code>null</code>.
+	 * @return the result of the query.
+	 * @throws SQLError if the query fails.
+	 */
+	Object execute(Object... values) throws SQLError;
+}
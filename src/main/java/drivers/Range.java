@@ -6,7 +6,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import apps.Database;
-import tables.SearchTable;
+import tables.BPlusTreeTable;
 import tables.Table;
 
 /*
@@ -30,6 +30,11 @@ public class Range implements Driver {
 		Pattern.CASE_INSENSITIVE
 	);
 
+	@Override
+	public List<String> keywords() {
+		return List.of("RANGE");
+	}
+
 	@Override
 	public Object execute(String query, Database db) throws SQLError {
 		Matcher matcher = pattern.matcher(query.strip());
@@ -38,7 +43,7 @@ public class Range implements Driver {
 		int upper = Integer.parseInt(matcher.group(1));
 		String name = matcher.group(2) != null ? matcher.group(2) : "number";
 
-		Table result_set = new SearchTable(
+		Table result_set = new BPlusTreeTable(
 			"_range",
 			List.of(name),
 			List.of("integer"),
@@ -3,250 +3,284 @@ package drivers;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.BiPredicate;
 
 import apps.Database;
+import tables.ColumnarTable;
 import tables.HashArrayTable;
 import tables.Table;
 
 /*
- * Example:
- *   SHOW TABLE example_table
+ * Examples:
+ *   SELECT * FROM example_table
+ *   SELECT id, name AS label FROM example_table WHERE id > 3 AND (flag = true OR name = "x")
+ *   SELECT * FROM example_table WHERE id = ?
  *
  * Result:
- * 	 result set: the example_table in the database
+ * 	 result set: the selected columns of the matching rows
  */
 	public class Select implements Driver {
-		static final Pattern pattern = Pattern.compile(
-				"SELECT\\s+\\(?(\\*|(?:[a-z][a-z0-9_]*(?:\\s+AS\\s+(?:[a-z][a-z0-9_]*))?)\\s*(?:,\\s*(?:\\*|[a-z][a-z0-9_]*(?:\\s+AS\\s+(?:[a-z][a-z0-9_]*))?)\\s*)*)\\)?\\s+FROM\\s+([a-z][a-z0-9_]*)(\\s+WHERE\\s+(?:[a-z][a-z0-9_]*)\\s*(?:\\>|\\<|\\=|\\<\\>|\\<\\=|\\>\\=)\\s*\\\"?(?:[a-z0-9][a-z0-9_]*)*\\\"?)?",
-				Pattern.CASE_INSENSITIVE
-		);
-	
-		@SuppressWarnings({ "null", "unused" })
+		@Override
+		public List<String> keywords() {
+			return List.of("SELECT");
+		}
+
 		@Override
 		public Object execute(String query, Database db) throws SQLError {
-			Matcher matcher = pattern.matcher(query.strip());
-			if (!matcher.matches()) return null;
+			Statement.Select select = Parser.parseSelect(query);
+			if (select == null) return null;
 			
-System.out.println("Group 1: " + matcher.group(1).strip()); 
-System.out.println("Group 2: " + matcher.group(2).strip()); 
-System.out.println("Group 3: " + matcher.group(3)); 
-			
-			String tablename = matcher.group(2).toString().strip();
+			return prepare(select, db).execute(); 
+		}
+		
+		/**
+		 * Resolves the table, columns, and condition of
+		 * the given query, and returns the query ready
+		 * to execute.
+		 *
+		 * @param select the parsed query.
+		 * @param db the database.
+		 * @return the prepared query.
+		 * @throws SQLError if the table or a column does not exist.
+		 */
+		public static PreparedQuery prepare(Statement.Select select, Database db) throws SQLError {
+			String tablename = select.tableName();
 			
-			if(db.find(tablename) == null) {
+			Table table = db.find(tablename); 
+			if(table == null) {
 				throw new SQLError("Table <%s> does not exist".formatted(tablename)); 
 			}
-			Table table = db.find(tablename); 
 			List<String> tableCols = table.getColumnNames();
 			List<String> colTypes = table.getColumnTypes(); 
 			
-			List<Object> ptrList = new ArrayList<Object>(); 
-			List<Object> cols = new ArrayList<Object>(); 
+			List<Integer> ptrList = new ArrayList<Integer>(); 
 			List<String> selectSchema = new ArrayList<String>(); 
 			List<String> referenceSchema = new ArrayList<String>(); 
-			int primaryIndex = 0; 
 			List<String> selectType = new ArrayList<String>();
+			int primaryIndex = 0; 
 			
-			String lhsName = null; 
-			String lhsType = null; 
-			String operator = null; 
-			String rhsValue = null;
-			String rhsType = null; 
-			
-			
-			String column_defs = matcher.group(1);
-			if(column_defs != null) { 
-				String[] colsArr = column_defs.split(","); 
-				// Clean up values
-				for(int i = 0; i < colsArr.length; i++) {
-					String[] temp = colsArr[i].strip().split("(?i)\\s+AS\\s+"); 
-					cols.add(temp[0]);
-					if (temp.length > 1) {
-						if(selectSchema.contains(temp[1])) {
-							throw new SQLError("Duplicate/Unambiguous Column Names");
-						}else {
-							selectSchema.add(temp[1]);
-							referenceSchema.add(temp[0]); 
-						}
-					}else {
-						if(selectSchema.contains(temp[0])) {
-							throw new SQLError("Duplicate/Unambiguous Column Names"); 
-						}else {
-							selectSchema.add(temp[0]);
-							referenceSchema.add(temp[0]);
-						}
+			if(select.items().isEmpty()) {
+				selectSchema = tableCols;
+				selectType = colTypes; 
+				primaryIndex = table.getPrimaryIndex(); 
+				for (int i = 0; i < selectSchema.size(); i++) {
+					ptrList.add(i); 
+				}
+			}else {
+				for (Statement.Item item: select.items()) {
+					if(selectSchema.contains(item.alias())) {
+						throw new SQLError("Duplicate/Unambiguous Column Names");
+					}
+					selectSchema.add(item.alias());
+					referenceSchema.add(item.column()); 
+				}
+				
+				for (Statement.Item item: select.items()) {
+					int j = tableCols.indexOf(item.column()); 
+					if (j == -1) {
+						throw new SQLError("Column <%s> does not exist".formatted(item.column())); 
 					}
+					
+					ptrList.add(j); 
+					selectType.add(colTypes.get(j)); 
+				}
+				if(!referenceSchema.contains(tableCols.get(table.getPrimaryIndex()))){
+					throw new SQLError("Primary Index not Included"); 
 				}
+				primaryIndex = referenceSchema.indexOf(tableCols.get(table.getPrimaryIndex())); 
+			}
+
+			Statement.Condition where = select.where(); 
+			String[] parameterTypes = new String[select.parameters()]; 
+			if (where != null) {
+				validate(where, tableCols, colTypes, parameterTypes); 
 			}
 			
-			if (column_defs != null) {
-				if(cols.get(0).equals("*")) {
-					selectSchema = tableCols;
-					selectType = colTypes; 
-					primaryIndex = table.getPrimaryIndex(); 
-					for (int i = 0; i < selectSchema.size(); i++) {
-						ptrList.add(i); 
-					}
-				}else {
-					for (int i = 0; i < cols.size() ; i++) {
-						int j = tableCols.indexOf(cols.get(i)); 
-						if (j == -1) {
-							throw new SQLError("Column <%s> does not exist".formatted(cols.get(i))); 
-						}
-						
-						ptrList.add(j); 
+			int[] pointers = ptrList.stream().mapToInt(Integer::intValue).toArray(); 
+			List<String> schema = selectSchema, types = selectType; 
+			int resultIndex = primaryIndex; 
+			
+			// A query for one key looks the key up instead of scanning.
+			Statement.Comparison lookup = where instanceof Statement.Comparison comparison
+				&& comparison.operator().equals("=")
+				&& comparison.column().equals(tableCols.get(table.getPrimaryIndex()))
+					? comparison
+					: null; 
+			BiPredicate<List<Object>, Statement.Literal[]> test = where != null ? compile(where, tableCols, colTypes) : (row, bound) -> true; 
+			
+			return values -> {
+				Statement.Literal[] bound = Statement.bind(parameterTypes, values); 
+				Table resultSet = new HashArrayTable("_select", schema, types, resultIndex); 
+				
+				if (lookup != null) {
+					// A key of another type matches no row.
+					Statement.Literal key = lookup.value().resolve(bound); 
+					List<Object> row = colTypes.get(table.getPrimaryIndex()).equals(key.type()) ? table.get(key.value()) : null; 
+					if (row != null) {
+						resultSet.put(project(row, pointers)); 
 					}
-					for (int i = 0; i < ptrList.size(); i++) {
-						selectType.add(colTypes.get((int) ptrList.get(i))); 
+					return resultSet; 
+				}
+				
+				if (table instanceof ColumnarTable columnar) {
+					int[] positions = where != null ? filter(columnar, where, bound) : all(columnar.size()); 
+					for (int p: positions) {
+						resultSet.put(new ArrayList<Object>(columnar.project(p, pointers))); 
 					}
-					if(!referenceSchema.contains(tableCols.get(table.getPrimaryIndex()))){
-						throw new SQLError("Primary Index not Included"); 
+					return resultSet; 
+				}
+				
+				for (List<Object> row : table.rows()) {
+					if(test.test(row, bound)) {
+						resultSet.put(project(row, pointers)); 
 					}
-					primaryIndex = referenceSchema.indexOf(tableCols.get(table.getPrimaryIndex())); 
 				}
+				return resultSet; 
+			}; 
+		}
+		
+		private static List<Object> project(List<Object> row, int[] pointers) {
+			List<Object> newRow = new ArrayList<Object>(pointers.length); 
+			for(int j = 0 ; j < pointers.length; j++) {
+				newRow.add(row.get(pointers[j])); 
 			}
-			
-				if(primaryIndex == -1) {
-				primaryIndex = 0; 
+			return newRow; 
+		}
+		
+		private static int[] all(int size) {
+			int[] positions = new int[size]; 
+			for (int p = 0; p < positions.length; p++) {
+				positions[p] = p; 
 			}
-
-System.out.println(ptrList); 
-System.out.println(selectSchema); 
-System.out.println(selectType);		
-System.out.println(primaryIndex);	
-
-
-			Table resultSet = new HashArrayTable("_select", selectSchema, selectType, primaryIndex); 
-
-			if (matcher.group(3) != null) {
-				String whereClause = matcher.group(3).strip();
-				String[] whereArr = whereClause.split("\\s+"); 
-System.out.println("whereClause: " + Arrays.toString(whereArr));
-				
-				if(whereArr.length < 4) {
-					throw new SQLError("Invalid number of operators in WHERE statement"); 
-				}
-				
-				lhsName = whereArr[1].strip(); 
-System.out.println("lhsName: " + lhsName); 
-				if(!tableCols.contains(lhsName)) {
+			return positions; 
+		}
+		
+		/*
+		 * Checks that every comparison in the WHERE clause
+		 * refers to an existing column with a valid literal,
+		 * and gives each placeholder the type of its column.
+		 */
+		private static void validate(Statement.Condition condition, List<String> tableCols, List<String> colTypes, String[] parameterTypes) throws SQLError {
+			if (condition instanceof Statement.And and) {
+				validate(and.left(), tableCols, colTypes, parameterTypes); 
+				validate(and.right(), tableCols, colTypes, parameterTypes); 
+			}else if (condition instanceof Statement.Or or) {
+				validate(or.left(), tableCols, colTypes, parameterTypes); 
+				validate(or.right(), tableCols, colTypes, parameterTypes); 
+			}else if (condition instanceof Statement.Comparison comparison) {
+				int lhsIndex = tableCols.indexOf(comparison.column()); 
+				if(lhsIndex == -1) {
 					throw new SQLError("Left Hand Side must be defined"); 
 				}
-				lhsType = colTypes.get(tableCols.indexOf(lhsName)); 
-				operator = whereArr[2].strip(); 
-				rhsValue = whereArr[3].strip(); 
-				rhsType = null; 
-//System.out.println(lhsName);
-//System.out.println(lhsType); 
-//System.out.println(operator);
-//System.out.println(rhsValue);	
-				if(rhsValue.matches("\"[^\"]*\"")) {
-					if(!lhsType.equalsIgnoreCase("string")) {
-				return resultSet; 
-//						throw new SQLError("Type mismatch"); 
-					}else if(rhsValue.length() > 129) {
-						throw new SQLError("value for column is too long"); 
-					}else if(rhsValue.length() < 1) {
-						throw new SQLError("value <s%> is too short".formatted(rhsValue)); 
-					}else {
-						rhsValue = rhsValue.replace("\"", "");  
-						rhsType = "string"; 
-					}
-				}else if(rhsValue.matches("[+-]*\\d+")) {
-					if(!lhsType.equalsIgnoreCase("integer")) {
-				return resultSet;
-//						throw new SQLError("Type mismatch"); 
-					}else if(rhsValue.matches("[+|-]*^0\\d+")) {
-						throw new SQLError("Integer cannot start with 0"); 
-					}
-					try {
-						int intValue = Integer.parseInt(rhsValue); 
-						rhsType = "integer";
-					}catch(Exception e) {
-						throw new SQLError("Error parsing integer upon insert"); 
-					} 
-				}else if(rhsValue.toLowerCase().matches("true|false")) {
-					if(!lhsType.equalsIgnoreCase("boolean")) {
-				return resultSet;
-//						throw new SQLError("Type mismatch"); 
-					}
-					
-					rhsType = "boolean"; 
-//					try {
-//						boolean booleanVal = Boolean.parseBoolean(rhsValue); 
-//						
-//					}catch(Exception e) {
-//						throw new SQLError("Error parsing boolean upon insert"); 
-//					}
-				}else if(!rhsValue.toLowerCase().matches("null")){
-					throw new SQLError("Type for value not determinable"); 
-				}		
+				if(comparison.value() instanceof Statement.Literal literal && literal.value() instanceof String str && str.length() > InsertRow.MAX_STRING) {
+					throw new SQLError("value for column is too long"); 
+				}
+				if(comparison.value() instanceof Statement.Parameter parameter) {
+					parameterTypes[parameter.index()] = colTypes.get(lhsIndex); 
+				}
+			}
+		}
+		
+		/*
+		 * Builds a test of the WHERE clause against a row
+		 * and the bound placeholders, resolving each column
+		 * index once.
+		 */
+		private static BiPredicate<List<Object>, Statement.Literal[]> compile(Statement.Condition condition, List<String> tableCols, List<String> colTypes) {
+			if (condition instanceof Statement.And and) {
+				return compile(and.left(), tableCols, colTypes).and(compile(and.right(), tableCols, colTypes)); 
+			}else if (condition instanceof Statement.Or or) {
+				return compile(or.left(), tableCols, colTypes).or(compile(or.right(), tableCols, colTypes)); 
 			}
 			
-			Set<List<Object>> rows = table.rows();
-
-			for (List<Object> row : rows) {
-				boolean flag = true; 
-				if(matcher.group(3) != null) {
-					var lhsValue = row.get(tableCols.indexOf(lhsName)); 
-System.out.println(row); 
-					
-					if(rhsValue == null || lhsValue == null) {
-						flag = false; 
-					}else {
-						var compResult = -1; 
-						if(!rhsValue.equals("null")) {
-							if (lhsType.equalsIgnoreCase("string") && rhsType.equalsIgnoreCase("string")) {
-System.out.println("lhsval: " + lhsValue.toString());
-System.out.println("rhsval: " + rhsValue);
-								compResult =  lhsValue.toString().compareTo(rhsValue); 
-							}else if(lhsType.equalsIgnoreCase("integer") && rhsType.equalsIgnoreCase("integer")) {
-								Integer lhsInt = (Integer) lhsValue; 
-								compResult =  lhsInt.compareTo(Integer.parseInt(rhsValue)); 
-							}else if(lhsType.equalsIgnoreCase("boolean") && rhsType.equalsIgnoreCase("boolean")) {
-								Boolean lhsBool = (Boolean) lhsValue; 
-								compResult =  lhsBool.compareTo(Boolean.parseBoolean(rhsValue)); 
-							}else {
-								String lhsString = lhsValue.toString(); 
-								compResult = lhsString.compareTo(rhsValue); 
-							}
-						}
-System.out.println(compResult); 
-
-						if(operator.strip().equals("=")){
-							flag = (compResult == 0); 
-						}else if (operator.strip().equals("<>")) {
-							flag = (compResult != 0); 
-						}else if (operator.strip().equals("<")) {
-							flag = (compResult < 0); 
-						}else if (operator.strip().equals(">")) {
-							flag = (compResult > 0); 
-						}else if (operator.strip().equals("<=")) {
-							flag = (compResult <= 0); 
-						}else if (operator.strip().equals(">=")) {
-							flag = (compResult >= 0); 
-						}	
-						
-						if(rhsValue == null || rhsValue.equals("null")) {
-							flag = false; 
-						}
-					}
+			var comparison = (Statement.Comparison) condition; 
+			int lhsIndex = tableCols.indexOf(comparison.column()); 
+			String lhsType = colTypes.get(lhsIndex); 
+			return (row, bound) -> {
+				var lhsValue = row.get(lhsIndex); 
+				return lhsValue != null && compare(lhsValue, lhsType, comparison.operator(), comparison.value().resolve(bound)); 
+			}; 
+		}
+		
+		/*
+		 * Returns the positions of the rows matching the given
+		 * condition in order, by filtering one column for each
+		 * comparison and merging the sorted positions.
+		 */
+		private static int[] filter(ColumnarTable table, Statement.Condition condition, Statement.Literal[] bound) {
+			if (condition instanceof Statement.And and) {
+				return intersect(filter(table, and.left(), bound), filter(table, and.right(), bound)); 
+			}else if (condition instanceof Statement.Or or) {
+				return union(filter(table, or.left(), bound), filter(table, or.right(), bound)); 
+			}
+			
+			var comparison = (Statement.Comparison) condition; 
+			int lhsIndex = table.getColumnNames().indexOf(comparison.column()); 
+			String lhsType = table.getColumnTypes().get(lhsIndex); 
+			Statement.Literal rhs = comparison.value().resolve(bound); 
+			if (rhs.type() == null || !rhs.type().equals(lhsType)) {
+				return new int[0]; 
+			}
+			return table.filter(lhsIndex, lhsValue -> compare(lhsValue, lhsType, comparison.operator(), rhs)); 
+		}
+		
+		private static int[] intersect(int[] a, int[] b) {
+			int[] merged = new int[Math.min(a.length, b.length)]; 
+			int i = 0, j = 0, count = 0; 
+			while (i < a.length && j < b.length) {
+				if (a[i] < b[j]) {
+					i++; 
+				}else if (a[i] > b[j]) {
+					j++; 
+				}else {
+					merged[count++] = a[i]; 
+					i++; 
+					j++; 
 				}
-				
-
-				if(flag == true) {
-					List<Object> newRow = new ArrayList<Object>(); 
-					for(int j = 0 ; j < ptrList.size(); j++) {
-						newRow.add(row.get((int) ptrList.get(j))); 
-					}
-System.out.println(newRow); 
-					resultSet.put(newRow); 
+			}
+			return Arrays.copyOf(merged, count); 
+		}
+		
+		private static int[] union(int[] a, int[] b) {
+			int[] merged = new int[a.length + b.length]; 
+			int i = 0, j = 0, count = 0; 
+			while (i < a.length || j < b.length) {
+				if (j == b.length || (i < a.length && a[i] < b[j])) {
+					merged[count++] = a[i++]; 
+				}else if (i == a.length || b[j] < a[i]) {
+					merged[count++] = b[j++]; 
+				}else {
+					merged[count++] = a[i]; 
+					i++; 
+					j++; 
 				}
 			}
+			return Arrays.copyOf(merged, count); 
+		}
+		
+		/*
+		 * Compares a non-null field on the left hand side
+		 * to the literal on the right hand side, and never
+		 * matches null or a literal of another type.
+		 */
+		private static boolean compare(Object lhsValue, String lhsType, String operator, Statement.Literal rhs) {
+			if(rhs.type() == null || !lhsType.equals(rhs.type())) {
+				return false; 
+			}
 			
-			return resultSet; 
+			int compResult = switch (lhsType) {
+				case "string" -> ((String) lhsValue).compareTo((String) rhs.value()); 
+				case "integer" -> ((Integer) lhsValue).compareTo((Integer) rhs.value()); 
+				default -> ((Boolean) lhsValue).compareTo((Boolean) rhs.value()); 
+			}; 
+
+			return switch (operator) {
+				case "=" -> compResult == 0; 
+				case "<>" -> compResult != 0; 
+				case "<" -> compResult < 0; 
+				case ">" -> compResult > 0; 
+				case "<=" -> compResult <= 0; 
+				default -> compResult >= 0; 
+			}; 
 		}
-}
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package drivers;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import apps.Database;
+import tables.BPlusTreeTable;
+import tables.Table;
+import tables.TableStats;
+
+/*
+ * Example:
+ *   SHOW STATS example_table
+ *
+ * Result:
+ *   result set:
+ * 	   primary string column "statistic", string column "value"
+ *	   rows ["average_probe_length", "1.250"]; ["bytes_used", "76"]; ...
+ */
+public class ShowStats implements Driver {
+	static final Pattern pattern = Pattern.compile(
+		"SHOW\\s+STATS\\s+([a-z][a-z0-9_]*)",
+		Pattern.CASE_INSENSITIVE
+	);
+
+	@Override
+	public List<String> keywords() {
+		return List.of("SHOW");
+	}
+
+	@Override
+	public Object execute(String query, Database db) throws SQLError {
+		var matcher = pattern.matcher(query.strip());
+		if (!matcher.matches()) return null;
+
+		String table_name = matcher.group(1);
+
+		Table table = db.find(table_name);
+		if (table == null) {
+			throw new SQLError("Table <%s> does not exist".formatted(table_name));
+		}
+
+		TableStats stats = table.stats();
+
+		Table result_set = new BPlusTreeTable(
+			"_stats",
+			List.of("statistic", "value"),
+			List.of("string", "string"),
+			0
+		);
+		result_set.put(List.of("size", String.valueOf(stats.size())));
+		result_set.put(List.of("capacity", String.valueOf(stats.capacity())));
+		result_set.put(List.of("load_factor", "%.3f".formatted(stats.loadFactor())));
+		result_set.put(List.of("tombstones", String.valueOf(stats.tombstones())));
+		result_set.put(List.of("tombstone_ratio", "%.3f".formatted(stats.tombstoneRatio())));
+		result_set.put(List.of("average_probe_length", "%.3f".formatted(stats.averageProbeLength())));
+		result_set.put(List.of("p99_probe_length", String.valueOf(stats.p99ProbeLength())));
+		result_set.put(List.of("max_probe_length", String.valueOf(stats.maxProbeLength())));
+		result_set.put(List.of("resizes", String.valueOf(stats.resizes())));
+		result_set.put(List.of("compactions", String.valueOf(stats.compactions())));
+		result_set.put(List.of("bytes_used", String.valueOf(stats.bytesUsed())));
+
+		return result_set;
+	}
+}
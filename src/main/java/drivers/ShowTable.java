@@ -1,5 +1,6 @@
 package drivers;
 
+import java.util.List;
 import java.util.regex.Pattern;
 
 import apps.Database;
@@ -18,6 +19,11 @@ public class ShowTable implements Driver {
 		Pattern.CASE_INSENSITIVE
 	);
 
+	@Override
+	public List<String> keywords() {
+		return List.of("SHOW");
+	}
+
 	@Override
 	public Object execute(String query, Database db) throws SQLError {
 		var matcher = pattern.matcher(query.strip());
@@ -25,11 +31,11 @@ public class ShowTable implements Driver {
 
 		String table_name = matcher.group(1);
 
-		if (!db.exists(table_name)) {
+		Table table = db.find(table_name);
+		if (table == null) {
 			throw new SQLError("Table <%s> does not exist".formatted(table_name));
 		}
 		else {
-			Table table = db.find(table_name);
 			return table;
 		}
 	}
@@ -6,7 +6,8 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import apps.Database;
-import tables.SearchTable;
+import tables.BPlusTreeTable;
+import tables.HashFileTable;
 import tables.Table;
 
 /*
@@ -30,12 +31,17 @@ public class ShowTables implements Driver {
 		Pattern.CASE_INSENSITIVE
 	);
 
+	@Override
+	public List<String> keywords() {
+		return List.of("SHOW");
+	}
+
 	@Override
 	public Object execute(String query, Database db) throws SQLError {
 		Matcher matcher = pattern.matcher(query.strip());
 		if (!matcher.matches()) return null;
 
-		Table result_set = new SearchTable(
+		Table result_set = new BPlusTreeTable(
 			"_tables",
 			List.of("table_name", "column_count", "row_count"),
 			List.of("string", "integer", "integer"),
@@ -43,16 +49,29 @@ public class ShowTables implements Driver {
 		);
 
 		// for each table t in the database
-		List<Table> t = db.tables(); 
-		for (int i = 0; i < t.size(); i++) {
+		for (Table t: db.catalog()) {
 			List<Object> row = new LinkedList<>(); 
 			// add each of the corresponding fields to the row 
-			row.add(t.get(i).getTableName()); // table name from t
-			row.add(t.get(i).getColumnTypes().size());	// column count from t's schema 
-			row.add(t.get(i).size());	// row count from t's size
+			row.add(t.getTableName()); // table name from t
+			row.add(t.getColumnTypes().size());	// column count from t's schema 
+			row.add(t.size());	// row count from t's size
 			result_set.put(row);
 		}
 
+		// stored tables are only opened if their counts are not in their headers
+		for (String tableName: List.copyOf(db.unopenedTableNames())) {
+			List<Integer> counts = HashFileTable.storedCounts(tableName); 
+			if (counts == null) {
+				Table t = db.find(tableName); 
+				if (t != null) {
+					counts = List.of(t.getColumnTypes().size(), t.size()); 
+				}
+			}
+			if (counts != null) {
+				result_set.put(List.of(tableName, counts.get(0), counts.get(1)));
+			}
+		}
+
 		return result_set;
 	}
 }
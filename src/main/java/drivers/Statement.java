@@ -0,0 +1,176 @@
+package drivers;
+
+import java.util.List;
+
+/**
+ * Represents a parsed query as a syntax tree,
+ * which a driver validates against the database
+ * and then executes.
+ * <p>
+ * A query may have <code>?</code> placeholders
+ * in place of its values, which are numbered from 0
+ * in order and bound to values when it is executed.
+ */
+public sealed interface Statement permits Statement.Create, Statement.Insert, Statement.Select {
+	/**
+	 * Represents a column definition.
+	 *
+	 * @param name the column name.
+	 * @param type the column type, in lower case.
+	 * @param primary whether the column is primary.
+	 */
+	record Column(String name, String type, boolean primary) {}
+
+	/**
+	 * Represents a value in a query,
+	 * either a literal or a placeholder.
+	 */
+	sealed interface Operand permits Literal, Parameter {
+		/**
+		 * Returns the literal this operand stands for,
+		 * given the bound values of the placeholders.
+		 *
+		 * @param bound the bound values.
+		 * @return the literal.
+		 */
+		Literal resolve(Literal[] bound);
+	}
+
+	/**
+	 * Represents a literal value.
+	 *
+	 * @param type the type of the value, in lower case,
+	 * 		or <code>null</code> if the value is null.
+	 * @param value the value, which is a string, an
+	 * 		integer, a boolean, or <code>null</code>.
+	 */
+	record Literal(String type, Object value) implements Operand {
+		@Override
+		public Literal resolve(Literal[] bound) {
+			return this;
+		}
+	}
+
+	/**
+	 * Represents a <code>?</code> placeholder.
+	 *
+	 * @param index the index of the placeholder.
+	 */
+	record Parameter(int index) implements Operand {
+		@Override
+		public Literal resolve(Literal[] bound) {
+			return bound[index];
+		}
+	}
+
+	/**
+	 * Converts the values bound to the placeholders of
+	 * a query into literals, checking their number and
+	 * that each non-null value has the type of the
+	 * column its placeholder stands for.
+	 *
+	 * @param types the column type of each placeholder.
+	 * @param values the values, each a string, an integer,
+	 * 		a boolean, or <code>null</code>.
+	 * @return the literals.
+	 * @throws SQLError if the values are invalid.
+	 */
+	static Literal[] bind(String[] types, Object[] values) throws SQLError {
+		int parameters = types.length;
+		if (values.length != parameters)
+			throw new SQLError("Number of values bound <%d> is not equal to number of placeholders <%d>".formatted(values.length, parameters));
+
+		Literal[] bound = new Literal[parameters];
+		for (int i = 0; i < parameters; i++) {
+			Object value = values[i];
+			String type;
+			if (value == null)
+				type = null;
+			else if (value instanceof String)
+				type = "string";
+			else if (value instanceof Integer)
+				type = "integer";
+			else if (value instanceof Boolean)
+				type = "boolean";
+			else
+				throw new SQLError("Value <%s> bound to placeholder %d has unsupported type".formatted(value, i));
+
+			if (type != null && !type.equals(types[i]))
+				throw new SQLError("Type mismatch");
+			bound[i] = new Literal(type, value);
+		}
+		return bound;
+	}
+
+	/**
+	 * Represents a selected column.
+	 *
+	 * @param column the column name.
+	 * @param alias the name in the result set.
+	 */
+	record Item(String column, String alias) {}
+
+	/**
+	 * Represents a condition on the rows of a table.
+	 */
+	sealed interface Condition permits Comparison, And, Or {}
+
+	/**
+	 * Represents a comparison of a column to a literal.
+	 *
+	 * @param column the column name.
+	 * @param operator the operator.
+	 * @param value the literal or placeholder.
+	 */
+	record Comparison(String column, String operator, Operand value) implements Condition {}
+
+	/**
+	 * Represents a conjunction of conditions.
+	 *
+	 * @param left the left condition.
+	 * @param right the right condition.
+	 */
+	record And(Condition left, Condition right) implements Condition {}
+
+	/**
+	 * Represents a disjunction of conditions.
+	 *
+	 * @param left the left condition.
+	 * @param right the right condition.
+	 */
+	record Or(Condition left, Condition right) implements Condition {}
+
+	/**
+	 * Represents a <code>CREATE TABLE</code> query.
+	 *
+	 * @param tableName the table name.
+	 * @param columns the column definitions.
+	 * @param columnar whether the table stores its rows by column.
+	 */
+	record Create(String tableName, List<Column> columns, boolean columnar) implements Statement {}
+
+	/**
+	 * Represents an <code>INSERT</code> or
+	 * <code>REPLACE</code> query.
+	 *
+	 * @param replace whether existing keys are replaced.
+	 * @param tableName the table name.
+	 * @param columnNames the column names, or
+	 * 		<code>null</code> for every column in order.
+	 * @param rows the rows of literals and placeholders.
+	 * @param parameters the number of placeholders.
+	 */
+	record Insert(boolean replace, String tableName, List<String> columnNames, List<List<Operand>> rows, int parameters) implements Statement {}
+
+	/**
+	 * Represents a <code>SELECT</code> query.
+	 *
+	 * @param items the selected columns, or an
+	 * 		empty list for every column.
+	 * @param tableName the table name.
+	 * @param where the condition, or <code>null</code>
+	 * 		for every row.
+	 * @param parameters the number of placeholders.
+	 */
+	record Select(List<Item> items, String tableName, Condition where, int parameters) implements Statement {}
+}
@@ -0,0 +1,60 @@
+package drivers;
+
+/**
+ * Represents a token of a query.
+ * <p>
+ * The text of a word, number, or symbol is as
+ * written in the query, and the text of a string
+ * excludes its quotes.
+ *
+ * @param kind the kind of token.
+ * @param text the text of the token.
+ * @param position the offset of the token in the query.
+ */
+public record Token(Token.Kind kind, String text, int position) {
+	/**
+	 * Enumerates the kinds of tokens.
+	 */
+	public enum Kind {
+		/**
+		 * A keyword or name, which begins with a letter
+		 * and continues with letters, digits, and underscores.
+		 */
+		WORD,
+
+		/**
+		 * An integer, with an optional sign.
+		 */
+		NUMBER,
+
+		/**
+		 * A string in double quotes.
+		 */
+		STRING,
+
+		/**
+		 * A punctuation mark or operator.
+		 */
+		SYMBOL,
+
+		/**
+		 * The end of the query.
+		 */
+		END
+	}
+
+	/**
+	 * Returns whether this token is the given keyword,
+	 * ignoring case, or the given symbol.
+	 *
+	 * @param keywordOrSymbol a keyword or symbol.
+	 * @return whether this token matches.
+	 */
+	public boolean is(String keywordOrSymbol) {
+		return switch (kind) {
+			case WORD -> text.equalsIgnoreCase(keywordOrSymbol);
+			case SYMBOL -> text.equals(keywordOrSymbol);
+			default -> false;
+		};
+	}
+}
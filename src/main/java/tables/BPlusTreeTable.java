@@ -0,0 +1,447 @@
+package tables;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Implements a search-based table
+ * using a B+ tree data structure.
+ * <p>
+ * Rows are ordered by key, in the same
+ * order as a {@link SearchTable}, but each
+ * point operation runs in logarithmic time.
+ * Rows are only stored in the leaves, which
+ * are linked in key order, so that the
+ * {@link #iterator()} and each
+ * {@link #range(Object, Object)} scan
+ * walk the leaves without revisiting
+ * the interior of the tree.
+ * <p>
+ * The drivers build their ordered result
+ * sets with this table, while a table
+ * created by a query is a hash table.
+ */
+public class BPlusTreeTable extends Table {
+	/*
+	 * The maximum number of keys in a node, and the
+	 * minimum for any node except the root. Each node
+	 * has one spare slot to hold an overflow until split.
+	 */
+	private static final int ORDER = 64;
+	private static final int MIN_KEYS = ORDER / 2;
+
+	private RowKeyComparator comparator;
+	private Class<?> keyType;
+	private Node root;
+	private Leaf head;
+	private int size;
+
+	/*
+	 * Results passed up from a recursive call, to
+	 * avoid allocating a result object per call.
+	 */
+	private Object splitKey;
+	private boolean hit;
+
+	private abstract static class Node {
+		final Object[] keys = new Object[ORDER + 1];
+		int count;
+	}
+
+	private static final class Leaf extends Node {
+		final Object[] rows = new Object[ORDER + 1];
+		Leaf next;
+	}
+
+	private static final class Inner extends Node {
+		final Node[] children = new Node[ORDER + 2];
+	}
+
+	/**
+	 * Creates a table and initializes
+	 * the data structure.
+	 *
+	 * @param tableName the table name
+	 * @param columnNames the column names
+	 * @param columnTypes the column types
+	 * @param primaryIndex the primary index
+	 */
+	public BPlusTreeTable(String tableName, List<String> columnNames, List<String> columnTypes, int primaryIndex) {
+		setTableName(tableName);
+		setColumnNames(columnNames);
+		setColumnTypes(columnTypes);
+		setPrimaryIndex(primaryIndex);
+
+		comparator = new RowKeyComparator(primaryIndex);
+		keyType = switch (columnTypes.get(primaryIndex)) {
+			case "integer" -> Integer.class;
+			case "boolean" -> Boolean.class;
+			default -> String.class;
+		};
+		clear();
+	}
+
+	@Override
+	public void clear() {
+		head = new Leaf();
+		root = head;
+		size = 0;
+	}
+
+	@Override
+	public boolean put(List<Object> row) {
+		Object key = row.get(getPrimaryIndex());
+		if (key == null)
+			throw new NullPointerException("Key field %d must not be null".formatted(getPrimaryIndex()));
+
+		hit = false;
+		Node right = insert(root, key, row);
+		if (right != null) {
+			Inner newRoot = new Inner();
+			newRoot.keys[0] = splitKey;
+			newRoot.children[0] = root;
+			newRoot.children[1] = right;
+			newRoot.count = 1;
+			root = newRoot;
+		}
+		return hit;
+	}
+
+	@Override
+	public boolean remove(Object key) {
+		// A key of another type is never stored.
+		if (!keyType.isInstance(key))
+			return false;
+
+		boolean found = delete(root, key);
+		if (root instanceof Inner inner && inner.count == 0)
+			root = inner.children[0];
+		return found;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public List<Object> get(Object key) {
+		if (!keyType.isInstance(key))
+			return null;
+
+		Leaf leaf = findLeaf(key);
+		int i = search(leaf, key);
+		return i >= 0 ? (List<Object>) leaf.rows[i] : null;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int capacity() {
+		return size();
+	}
+
+	@Override
+	public Iterator<List<Object>> iterator() {
+		return new LeafIterator(head, 0, null);
+	}
+
+	/**
+	 * Returns an iterator over each row in the state
+	 * with a key from the given lower bound (inclusive)
+	 * to the given upper bound (exclusive), in key order.
+	 * <p>
+	 * A <code>null</code> bound is unbounded.
+	 *
+	 * @param from the lower bound, or null.
+	 * @param to the upper bound, or null.
+	 * @return an iterator of rows.
+	 */
+	public Iterator<List<Object>> range(Object from, Object to) {
+		if (from == null)
+			return new LeafIterator(head, 0, to);
+
+		Leaf leaf = findLeaf(from);
+		int i = search(leaf, from);
+		return new LeafIterator(leaf, i >= 0 ? i : -i - 1, to);
+	}
+
+	private class LeafIterator implements Iterator<List<Object>> {
+		private Leaf leaf;
+		private int index;
+		private final Object to;
+
+		LeafIterator(Leaf leaf, int index, Object to) {
+			this.leaf = leaf;
+			this.index = index;
+			this.to = to;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (leaf != null && index >= leaf.count) {
+				leaf = leaf.next;
+				index = 0;
+			}
+			return leaf != null
+				&& (to == null || comparator.compare(leaf.keys[index], to) < 0);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public List<Object> next() {
+			if (!hasNext())
+				throw new NoSuchElementException();
+
+			return (List<Object>) leaf.rows[index++];
+		}
+	}
+
+	private Leaf findLeaf(Object key) {
+		Node node = root;
+		while (node instanceof Inner inner)
+			node = inner.children[childIndex(inner, key)];
+		return (Leaf) node;
+	}
+
+	/*
+	 * Returns the index of the key in the node if found,
+	 * otherwise -(insertion point) - 1.
+	 */
+	private int search(Node node, Object key) {
+		int lo = 0, hi = node.count - 1;
+		while (lo <= hi) {
+			int mid = (lo + hi) >>> 1;
+			int cmp = comparator.compare(node.keys[mid], key);
+			if (cmp < 0)
+				lo = mid + 1;
+			else if (cmp > 0)
+				hi = mid - 1;
+			else
+				return mid;
+		}
+		return -(lo + 1);
+	}
+
+	/*
+	 * Each separator key is the least key
+	 * in the subtree to its right.
+	 */
+	private int childIndex(Inner inner, Object key) {
+		int i = search(inner, key);
+		return i >= 0 ? i + 1 : -i - 1;
+	}
+
+	/*
+	 * Inserts into the subtree, returning the new right
+	 * sibling if the node split (with its separator in
+	 * splitKey) or null otherwise.
+	 */
+	private Node insert(Node node, Object key, List<Object> row) {
+		if (node instanceof Leaf leaf) {
+			int i = search(leaf, key);
+			if (i >= 0) {
+				leaf.rows[i] = row;
+				hit = true;
+				return null;
+			}
+
+			i = -i - 1;
+			System.arraycopy(leaf.keys, i, leaf.keys, i + 1, leaf.count - i);
+			System.arraycopy(leaf.rows, i, leaf.rows, i + 1, leaf.count - i);
+			leaf.keys[i] = key;
+			leaf.rows[i] = row;
+			leaf.count++;
+			size++;
+
+			return leaf.count > ORDER ? splitLeaf(leaf) : null;
+		}
+
+		Inner inner = (Inner) node;
+		int c = childIndex(inner, key);
+		Node right = insert(inner.children[c], key, row);
+		if (right == null)
+			return null;
+
+		System.arraycopy(inner.keys, c, inner.keys, c + 1, inner.count - c);
+		System.arraycopy(inner.children, c + 1, inner.children, c + 2, inner.count - c);
+		inner.keys[c] = splitKey;
+		inner.children[c + 1] = right;
+		inner.count++;
+
+		return inner.count > ORDER ? splitInner(inner) : null;
+	}
+
+	private Leaf splitLeaf(Leaf left) {
+		Leaf right = new Leaf();
+		int half = left.count / 2;
+
+		right.count = left.count - half;
+		System.arraycopy(left.keys, half, right.keys, 0, right.count);
+		System.arraycopy(left.rows, half, right.rows, 0, right.count);
+		clear(left, half, left.count);
+		left.count = half;
+
+		right.next = left.next;
+		left.next = right;
+
+		splitKey = right.keys[0];
+		return right;
+	}
+
+	private Inner splitInner(Inner left) {
+		Inner right = new Inner();
+		int mid = left.count / 2;
+
+		splitKey = left.keys[mid];
+		right.count = left.count - mid - 1;
+		System.arraycopy(left.keys, mid + 1, right.keys, 0, right.count);
+		System.arraycopy(left.children, mid + 1, right.children, 0, right.count + 1);
+		clear(left, mid, left.count);
+		left.count = mid;
+
+		return right;
+	}
+
+	/*
+	 * Deletes from the subtree, returning whether the key
+	 * was found. The caller rebalances the node if it
+	 * underflowed.
+	 */
+	private boolean delete(Node node, Object key) {
+		if (node instanceof Leaf leaf) {
+			int i = search(leaf, key);
+			if (i < 0)
+				return false;
+
+			System.arraycopy(leaf.keys, i + 1, leaf.keys, i, leaf.count - i - 1);
+			System.arraycopy(leaf.rows, i + 1, leaf.rows, i, leaf.count - i - 1);
+			leaf.count--;
+			clear(leaf, leaf.count, leaf.count + 1);
+			size--;
+			return true;
+		}
+
+		Inner inner = (Inner) node;
+		int c = childIndex(inner, key);
+		if (!delete(inner.children[c], key))
+			return false;
+
+		if (inner.children[c].count < MIN_KEYS)
+			rebalance(inner, c);
+		return true;
+	}
+
+	/*
+	 * Every child of an inner node has a sibling,
+	 * since an inner node has at least 2 children.
+	 */
+	private void rebalance(Inner parent, int c) {
+		Node left = c > 0 ? parent.children[c - 1] : null;
+		Node right = c < parent.count ? parent.children[c + 1] : null;
+
+		if (left != null && left.count > MIN_KEYS)
+			borrowFromLeft(parent, c);
+		else if (right != null && right.count > MIN_KEYS)
+			borrowFromRight(parent, c);
+		else if (left != null)
+			merge(parent, c - 1);
+		else
+			merge(parent, c);
+	}
+
+	private void borrowFromLeft(Inner parent, int c) {
+		Node child = parent.children[c];
+		Node left = parent.children[c - 1];
+
+		System.arraycopy(child.keys, 0, child.keys, 1, child.count);
+		if (child instanceof Leaf leaf) {
+			Leaf leftLeaf = (Leaf) left;
+			System.arraycopy(leaf.rows, 0, leaf.rows, 1, leaf.count);
+			leaf.keys[0] = leftLeaf.keys[leftLeaf.count - 1];
+			leaf.rows[0] = leftLeaf.rows[leftLeaf.count - 1];
+			parent.keys[c - 1] = leaf.keys[0];
+		}
+		else {
+			Inner inner = (Inner) child;
+			Inner leftInner = (Inner) left;
+			System.arraycopy(inner.children, 0, inner.children, 1, inner.count + 1);
+			inner.keys[0] = parent.keys[c - 1];
+			inner.children[0] = leftInner.children[leftInner.count];
+			parent.keys[c - 1] = leftInner.keys[leftInner.count - 1];
+		}
+		child.count++;
+		left.count--;
+		clear(left, left.count, left.count + 1);
+	}
+
+	private void borrowFromRight(Inner parent, int c) {
+		Node child = parent.children[c];
+		Node right = parent.children[c + 1];
+
+		if (child instanceof Leaf leaf) {
+			Leaf rightLeaf = (Leaf) right;
+			leaf.keys[leaf.count] = rightLeaf.keys[0];
+			leaf.rows[leaf.count] = rightLeaf.rows[0];
+			System.arraycopy(rightLeaf.keys, 1, rightLeaf.keys, 0, rightLeaf.count - 1);
+			System.arraycopy(rightLeaf.rows, 1, rightLeaf.rows, 0, rightLeaf.count - 1);
+			parent.keys[c] = rightLeaf.keys[0];
+		}
+		else {
+			Inner inner = (Inner) child;
+			Inner rightInner = (Inner) right;
+			inner.keys[inner.count] = parent.keys[c];
+			inner.children[inner.count + 1] = rightInner.children[0];
+			parent.keys[c] = rightInner.keys[0];
+			System.arraycopy(rightInner.keys, 1, rightInner.keys, 0, rightInner.count - 1);
+			System.arraycopy(rightInner.children, 1, rightInner.children, 0, rightInner.count);
+		}
+		child.count++;
+		right.count--;
+		clear(right, right.count, right.count + 1);
+	}
+
+	/*
+	 * Merges the child at i + 1 into the child at i,
+	 * then removes their separator from the parent.
+	 */
+	private void merge(Inner parent, int i) {
+		Node left = parent.children[i];
+		Node right = parent.children[i + 1];
+
+		if (left instanceof Leaf leftLeaf) {
+			Leaf rightLeaf = (Leaf) right;
+			System.arraycopy(rightLeaf.keys, 0, leftLeaf.keys, leftLeaf.count, rightLeaf.count);
+			System.arraycopy(rightLeaf.rows, 0, leftLeaf.rows, leftLeaf.count, rightLeaf.count);
+			leftLeaf.count += rightLeaf.count;
+			leftLeaf.next = rightLeaf.next;
+		}
+		else {
+			Inner leftInner = (Inner) left;
+			Inner rightInner = (Inner) right;
+			leftInner.keys[leftInner.count] = parent.keys[i];
+			System.arraycopy(rightInner.keys, 0, leftInner.keys, leftInner.count + 1, rightInner.count);
+			System.arraycopy(rightInner.children, 0, leftInner.children, leftInner.count + 1, rightInner.count + 1);
+			leftInner.count += rightInner.count + 1;
+		}
+
+		System.arraycopy(parent.keys, i + 1, parent.keys, i, parent.count - i - 1);
+		System.arraycopy(parent.children, i + 2, parent.children, i + 1, parent.count - i - 1);
+		parent.count--;
+		clear(parent, parent.count, parent.count + 1);
+	}
+
+	/*
+	 * Clears stale references past the end of a node,
+	 * so that removed rows can be garbage collected.
+	 */
+	private static void clear(Node node, int from, int to) {
+		for (int i = from; i < to; i++) {
+			node.keys[i] = null;
+			if (node instanceof Leaf leaf)
+				leaf.rows[i] = null;
+			else
+				((Inner) node).children[i + 1] = null;
+		}
+	}
+}
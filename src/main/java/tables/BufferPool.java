@@ -0,0 +1,285 @@
+package tables;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Caches the fixed-size pages of a file
+ * in a bounded number of frames.
+ * <p>
+ * A page is read into a free frame on its first use.
+ * When every frame is in use, a victim is chosen by the
+ * CLOCK algorithm: a hand sweeps the frames, sparing
+ * each frame used since its last sweep once, and evicts
+ * the first frame which was not. A page written since
+ * it was read is written back before its frame is reused,
+ * or when the pool is flushed.
+ * <p>
+ * Pages past the end of the file read as zeros. A buffer
+ * returned by {@link #read(long)} or {@link #write(long)}
+ * is only valid until the next call to either method,
+ * and must only be accessed at absolute offsets.
+ */
+final class BufferPool {
+	private FileChannel channel;
+	private final int pageSize;
+	private final byte[] zeros;
+
+	/*
+	 * For each frame, its buffer, the page it holds or -1
+	 * if it is free, whether it was written since it was
+	 * read, and whether it was used since the last sweep.
+	 */
+	private final ByteBuffer[] frames;
+	private final long[] pageIds;
+	private final boolean[] dirty;
+	private final boolean[] referenced;
+	private int hand;
+
+	/*
+	 * Maps each cached page to its frame with linear probing,
+	 * where -1 marks an empty slot. Slots are never left as
+	 * tombstones, since removal shifts later entries back.
+	 */
+	private final long[] slotPages;
+	private final int[] slotFrames;
+	private final int slotMask;
+
+	private long hits, misses, evictions, writes;
+
+	/**
+	 * Creates a pool over the given file.
+	 *
+	 * @param channel an open file.
+	 * @param pageSize the bytes in each page.
+	 * @param frameCount the number of frames.
+	 */
+	BufferPool(FileChannel channel, int pageSize, int frameCount) {
+		if (frameCount < 1)
+			throw new IllegalArgumentException("Frame count <%d> must be positive".formatted(frameCount));
+
+		this.channel = channel;
+		this.pageSize = pageSize;
+		this.zeros = new byte[pageSize];
+
+		frames = new ByteBuffer[frameCount];
+		pageIds = new long[frameCount];
+		dirty = new boolean[frameCount];
+		referenced = new boolean[frameCount];
+		Arrays.fill(pageIds, -1);
+
+		int slots = Integer.highestOneBit(frameCount * 2 - 1) * 2;
+		slotPages = new long[slots];
+		slotFrames = new int[slots];
+		slotMask = slots - 1;
+		Arrays.fill(slotPages, -1);
+	}
+
+	/**
+	 * Returns the buffer of the given page for reading.
+	 *
+	 * @param pageId a page number.
+	 * @return the page buffer.
+	 */
+	ByteBuffer read(long pageId) {
+		return frames[fetch(pageId)];
+	}
+
+	/**
+	 * Returns the buffer of the given page for writing,
+	 * marking the page to be written back.
+	 *
+	 * @param pageId a page number.
+	 * @return the page buffer.
+	 */
+	ByteBuffer write(long pageId) {
+		int frame = fetch(pageId);
+		dirty[frame] = true;
+		return frames[frame];
+	}
+
+	/**
+	 * Writes back every page written since it was
+	 * read, then forces the file to the device.
+	 */
+	void flush() {
+		for (int frame = 0; frame < frames.length; frame++)
+			if (pageIds[frame] != -1 && dirty[frame])
+				writeBack(frame);
+		try {
+			channel.force(false);
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Drops every cached page without writing it back,
+	 * for when the file is truncated or replaced.
+	 */
+	void discard() {
+		Arrays.fill(pageIds, -1);
+		Arrays.fill(dirty, false);
+		Arrays.fill(referenced, false);
+		Arrays.fill(slotPages, -1);
+		hand = 0;
+	}
+
+	/**
+	 * Drops every cached page without writing it back,
+	 * and caches the pages of the given file instead,
+	 * reusing the frames.
+	 *
+	 * @param channel an open file.
+	 */
+	void attach(FileChannel channel) {
+		discard();
+		this.channel = channel;
+	}
+
+	/**
+	 * Returns the number of page requests
+	 * served without reading the file.
+	 *
+	 * @return the hit count.
+	 */
+	long hits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of page requests
+	 * which read the file.
+	 *
+	 * @return the miss count.
+	 */
+	long misses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the number of pages evicted.
+	 *
+	 * @return the eviction count.
+	 */
+	long evictions() {
+		return evictions;
+	}
+
+	/**
+	 * Returns the number of pages written back.
+	 *
+	 * @return the write count.
+	 */
+	long writes() {
+		return writes;
+	}
+
+	private int fetch(long pageId) {
+		int frame = lookup(pageId);
+		if (frame != -1) {
+			hits++;
+			referenced[frame] = true;
+			return frame;
+		}
+
+		misses++;
+		frame = victim();
+		if (pageIds[frame] != -1) {
+			if (dirty[frame])
+				writeBack(frame);
+			unmap(pageIds[frame]);
+			evictions++;
+		}
+
+		load(frame, pageId);
+		pageIds[frame] = pageId;
+		dirty[frame] = false;
+		referenced[frame] = true;
+		map(pageId, frame);
+		return frame;
+	}
+
+	private int victim() {
+		while (true) {
+			int frame = hand;
+			hand = (hand + 1) % frames.length;
+			if (pageIds[frame] == -1 || !referenced[frame])
+				return frame;
+			referenced[frame] = false;
+		}
+	}
+
+	private void load(int frame, long pageId) {
+		if (frames[frame] == null)
+			frames[frame] = ByteBuffer.allocateDirect(pageSize);
+
+		ByteBuffer buffer = frames[frame];
+		buffer.put(0, zeros);
+		buffer.clear();
+		try {
+			long position = pageId * pageSize;
+			while (buffer.hasRemaining())
+				if (channel.read(buffer, position + buffer.position()) < 0)
+					break;
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		buffer.clear();
+	}
+
+	private void writeBack(int frame) {
+		ByteBuffer buffer = frames[frame].duplicate().clear();
+		try {
+			long position = pageIds[frame] * pageSize;
+			while (buffer.hasRemaining())
+				channel.write(buffer, position + buffer.position());
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		dirty[frame] = false;
+		writes++;
+	}
+
+	private int home(long pageId) {
+		return Probing.hash(Long.hashCode(pageId)) & slotMask;
+	}
+
+	private int lookup(long pageId) {
+		for (int slot = home(pageId); slotPages[slot] != -1; slot = (slot + 1) & slotMask)
+			if (slotPages[slot] == pageId)
+				return slotFrames[slot];
+		return -1;
+	}
+
+	private void map(long pageId, int frame) {
+		int slot = home(pageId);
+		while (slotPages[slot] != -1)
+			slot = (slot + 1) & slotMask;
+		slotPages[slot] = pageId;
+		slotFrames[slot] = frame;
+	}
+
+	private void unmap(long pageId) {
+		int hole = home(pageId);
+		while (slotPages[hole] != pageId)
+			hole = (hole + 1) & slotMask;
+		slotPages[hole] = -1;
+
+		// Shift back each later entry whose home is not between the hole and it.
+		for (int slot = (hole + 1) & slotMask; slotPages[slot] != -1; slot = (slot + 1) & slotMask) {
+			int home = home(slotPages[slot]);
+			if (((slot - home) & slotMask) >= ((slot - hole) & slotMask)) {
+				slotPages[hole] = slotPages[slot];
+				slotFrames[hole] = slotFrames[slot];
+				slotPages[slot] = -1;
+				hole = slot;
+			}
+		}
+	}
+}
@@ -0,0 +1,461 @@
+package tables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Implements a column-oriented table
+ * using typed array data structures.
+ * <p>
+ * Each column is stored in its own array:
+ * an <code>int[]</code> for an integer column,
+ * a bitset for a boolean column, and an
+ * <code>int[]</code> of dictionary codes for a
+ * string column, with each distinct string
+ * stored once in that column's dictionary.
+ * Each column also has a bitset of its nulls.
+ * <p>
+ * Rows are kept dense in positions
+ * <code>0</code> to <code>size - 1</code>,
+ * and are only materialized as lists at the
+ * {@link #iterator()} boundary. The
+ * {@link #filter(int, Predicate)} and
+ * {@link #project(int, int[])} methods let
+ * queries touch only the columns they reference.
+ */
+public class ColumnarTable extends Table {
+	private static final int INITIAL_CAPACITY = 16;
+
+	private static final byte
+		STRING = 1,
+		INTEGER = 2,
+		BOOLEAN = 3;
+
+	private byte[] kinds;
+
+	/*
+	 * For each integer column, the values.
+	 * For each string column, the dictionary codes.
+	 * For each boolean column, null.
+	 */
+	private int[][] values;
+
+	/*
+	 * For each boolean column, a bitset of the values.
+	 * For each other column, null.
+	 */
+	private long[][] flags;
+
+	/*
+	 * For each column, a bitset of the null fields.
+	 */
+	private long[][] nulls;
+
+	/*
+	 * For each string column, the distinct strings
+	 * in order of their codes, and the inverse map.
+	 * For each other column, null.
+	 */
+	private List<List<String>> dictionaries;
+	private List<Map<String, Integer>> codes;
+
+	private Map<Object, Integer> positions;
+	private int size;
+	private int capacity;
+
+	/**
+	 * Creates a table and initializes
+	 * the data structure.
+	 *
+	 * @param tableName the table name
+	 * @param columnNames the column names
+	 * @param columnTypes the column types
+	 * @param primaryIndex the primary index
+	 */
+	public ColumnarTable(String tableName, List<String> columnNames, List<String> columnTypes, int primaryIndex) {
+		setTableName(tableName);
+		setColumnNames(columnNames);
+		setColumnTypes(columnTypes);
+		setPrimaryIndex(primaryIndex);
+
+		kinds = new byte[columnTypes.size()];
+		for (int i = 0; i < kinds.length; i++) {
+			kinds[i] = switch (columnTypes.get(i)) {
+				case "string" -> STRING;
+				case "integer" -> INTEGER;
+				default -> BOOLEAN;
+			};
+		}
+
+		clear();
+	}
+
+	@Override
+	public void clear() {
+		int columns = kinds.length;
+
+		values = new int[columns][];
+		flags = new long[columns][];
+		nulls = new long[columns][];
+		dictionaries = new ArrayList<>(columns);
+		codes = new ArrayList<>(columns);
+
+		capacity = INITIAL_CAPACITY;
+		for (int i = 0; i < columns; i++) {
+			if (kinds[i] == BOOLEAN)
+				flags[i] = new long[words(capacity)];
+			else
+				values[i] = new int[capacity];
+			nulls[i] = new long[words(capacity)];
+
+			dictionaries.add(kinds[i] == STRING ? new ArrayList<>() : null);
+			codes.add(kinds[i] == STRING ? new HashMap<>() : null);
+		}
+
+		positions = new HashMap<>();
+		size = 0;
+	}
+
+	@Override
+	public boolean put(List<Object> row) {
+		if (row.size() != kinds.length)
+			throw new IllegalArgumentException("Row size <%d> must match column count <%d>".formatted(row.size(), kinds.length));
+
+		Object key = row.get(getPrimaryIndex());
+		if (key == null)
+			throw new NullPointerException("Key field %d must not be null".formatted(getPrimaryIndex()));
+
+		for (int i = 0; i < kinds.length; i++)
+			checkField(i, row.get(i));
+
+		Integer position = positions.get(key);
+		boolean hit = position != null;
+		if (!hit) {
+			if (size == capacity)
+				grow(capacity * 2);
+			position = size++;
+			positions.put(key, position);
+		}
+
+		for (int i = 0; i < kinds.length; i++)
+			write(position, i, row.get(i));
+
+		return hit;
+	}
+
+	@Override
+	public boolean putIfAbsent(List<Object> row) {
+		if (row.size() != kinds.length)
+			throw new IllegalArgumentException("Row size <%d> must match column count <%d>".formatted(row.size(), kinds.length));
+
+		Object key = row.get(getPrimaryIndex());
+		if (key == null)
+			throw new NullPointerException("Key field %d must not be null".formatted(getPrimaryIndex()));
+
+		for (int i = 0; i < kinds.length; i++)
+			checkField(i, row.get(i));
+
+		if (positions.putIfAbsent(key, size) != null)
+			return true;
+
+		if (size == capacity)
+			grow(capacity * 2);
+		int position = size++;
+		for (int i = 0; i < kinds.length; i++)
+			write(position, i, row.get(i));
+
+		return false;
+	}
+
+	@Override
+	public void ensureCapacity(int rows) {
+		if (rows > capacity)
+			grow(Math.max(rows, capacity * 2));
+	}
+
+	@Override
+	public boolean remove(Object key) {
+		Integer position = positions.remove(key);
+		if (position == null)
+			return false;
+
+		// Move the last row into the gap to keep rows dense.
+		int last = --size;
+		if (position != last) {
+			for (int i = 0; i < kinds.length; i++)
+				move(last, position, i);
+			positions.put(field(position, getPrimaryIndex()), position);
+		}
+		for (int i = 0; i < kinds.length; i++)
+			setBit(nulls[i], last, false);
+
+		return true;
+	}
+
+	@Override
+	public List<Object> get(Object key) {
+		Integer position = positions.get(key);
+		if (position == null)
+			return null;
+
+		return row(position);
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return positions.containsKey(key);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Rebuilds the dictionary of each string column
+	 * with only the strings still referenced by a row,
+	 * since overwritten and removed strings are never
+	 * freed as they go.
+	 *
+	 * @return the number of strings removed.
+	 */
+	@Override
+	public int compact() {
+		int removed = 0;
+		for (int i = 0; i < kinds.length; i++) {
+			if (kinds[i] != STRING)
+				continue;
+
+			List<String> dictionary = dictionaries.get(i);
+			List<String> live = new ArrayList<>();
+			Map<String, Integer> liveCodes = new HashMap<>();
+			int[] recoded = new int[dictionary.size()];
+			Arrays.fill(recoded, -1);
+
+			int[] column_codes = values[i];
+			for (int p = 0; p < size; p++) {
+				if (getBit(nulls[i], p))
+					continue;
+
+				int code = column_codes[p];
+				if (recoded[code] == -1) {
+					recoded[code] = live.size();
+					live.add(dictionary.get(code));
+					liveCodes.put(dictionary.get(code), recoded[code]);
+				}
+				column_codes[p] = recoded[code];
+			}
+
+			removed += dictionary.size() - live.size();
+			dictionaries.set(i, live);
+			codes.set(i, liveCodes);
+		}
+		return removed;
+	}
+
+	/**
+	 * Returns the field in the given column
+	 * of the row at the given position.
+	 *
+	 * @param position a position from 0 to size - 1.
+	 * @param column a column index.
+	 * @return the field, which may be null.
+	 */
+	public Object field(int position, int column) {
+		if (position < 0 || position >= size)
+			throw new IndexOutOfBoundsException("Position <%d> must be from 0 to %d".formatted(position, size - 1));
+
+		if (getBit(nulls[column], position))
+			return null;
+
+		return switch (kinds[column]) {
+			case INTEGER -> values[column][position];
+			case STRING -> dictionaries.get(column).get(values[column][position]);
+			default -> getBit(flags[column], position);
+		};
+	}
+
+	/**
+	 * Returns the positions of the rows whose field in the
+	 * given column satisfies the given predicate, in order.
+	 * Null fields are never passed to the predicate and
+	 * never match.
+	 * <p>
+	 * Only the given column is read. For a string
+	 * column, the predicate is evaluated once per
+	 * distinct string rather than once per row, and
+	 * for a boolean column at most twice.
+	 *
+	 * @param column a column index.
+	 * @param predicate a predicate on non-null fields.
+	 * @return the matching positions.
+	 */
+	public int[] filter(int column, Predicate<Object> predicate) {
+		int[] matches = new int[size];
+		int count = 0;
+
+		long[] columnNulls = nulls[column];
+		switch (kinds[column]) {
+			case INTEGER -> {
+				int[] column_values = values[column];
+				for (int p = 0; p < size; p++)
+					if (!getBit(columnNulls, p) && predicate.test(column_values[p]))
+						matches[count++] = p;
+			}
+			case STRING -> {
+				List<String> dictionary = dictionaries.get(column);
+				boolean[] accepted = new boolean[dictionary.size()];
+				for (int c = 0; c < accepted.length; c++)
+					accepted[c] = predicate.test(dictionary.get(c));
+
+				int[] column_codes = values[column];
+				for (int p = 0; p < size; p++)
+					if (!getBit(columnNulls, p) && accepted[column_codes[p]])
+						matches[count++] = p;
+			}
+			default -> {
+				boolean acceptsTrue = predicate.test(true);
+				boolean acceptsFalse = predicate.test(false);
+
+				long[] column_flags = flags[column];
+				for (int p = 0; p < size; p++)
+					if (!getBit(columnNulls, p) && (getBit(column_flags, p) ? acceptsTrue : acceptsFalse))
+						matches[count++] = p;
+			}
+		}
+
+		return Arrays.copyOf(matches, count);
+	}
+
+	/**
+	 * Materializes only the given columns
+	 * of the row at the given position.
+	 *
+	 * @param position a position from 0 to size - 1.
+	 * @param columns the column indices, in order.
+	 * @return the projected fields.
+	 */
+	public List<Object> project(int position, int[] columns) {
+		Object[] fields = new Object[columns.length];
+		for (int i = 0; i < columns.length; i++)
+			fields[i] = field(position, columns[i]);
+		return Arrays.asList(fields);
+	}
+
+	@Override
+	public Set<Object> keys() {
+		Set<Object> keys = new HashSet<>(positions.keySet());
+		return Set.copyOf(keys);
+	}
+
+	@Override
+	public Iterator<List<Object>> iterator() {
+		return new Iterator<>() {
+			int position = 0;
+
+			@Override
+			public boolean hasNext() {
+				return position < size;
+			}
+
+			@Override
+			public List<Object> next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				return row(position++);
+			}
+		};
+	}
+
+	private List<Object> row(int position) {
+		Object[] fields = new Object[kinds.length];
+		for (int i = 0; i < kinds.length; i++)
+			fields[i] = field(position, i);
+		return Arrays.asList(fields);
+	}
+
+	private void checkField(int column, Object field) {
+		if (field == null)
+			return;
+
+		boolean valid = switch (kinds[column]) {
+			case STRING -> field instanceof String;
+			case INTEGER -> field instanceof Integer;
+			default -> field instanceof Boolean;
+		};
+		if (!valid)
+			throw new IllegalArgumentException("Field <%d> must be a %s".formatted(column, getColumnTypes().get(column)));
+	}
+
+	private void write(int position, int column, Object field) {
+		setBit(nulls[column], position, field == null);
+		if (field == null)
+			return;
+
+		switch (kinds[column]) {
+			case INTEGER -> values[column][position] = (Integer) field;
+			case STRING -> values[column][position] = encode(column, (String) field);
+			default -> setBit(flags[column], position, (Boolean) field);
+		}
+	}
+
+	private void move(int from, int to, int column) {
+		setBit(nulls[column], to, getBit(nulls[column], from));
+		if (kinds[column] == BOOLEAN)
+			setBit(flags[column], to, getBit(flags[column], from));
+		else
+			values[column][to] = values[column][from];
+	}
+
+	private int encode(int column, String str) {
+		Map<String, Integer> columnCodes = codes.get(column);
+		Integer code = columnCodes.get(str);
+		if (code == null) {
+			List<String> dictionary = dictionaries.get(column);
+			code = dictionary.size();
+			dictionary.add(str);
+			columnCodes.put(str, code);
+		}
+		return code;
+	}
+
+	private void grow(int newCapacity) {
+		capacity = newCapacity;
+		for (int i = 0; i < kinds.length; i++) {
+			if (values[i] != null)
+				values[i] = Arrays.copyOf(values[i], capacity);
+			if (flags[i] != null)
+				flags[i] = Arrays.copyOf(flags[i], words(capacity));
+			nulls[i] = Arrays.copyOf(nulls[i], words(capacity));
+		}
+	}
+
+	private static int words(int bits) {
+		return (bits + 63) >>> 6;
+	}
+
+	private static boolean getBit(long[] bits, int index) {
+		return (bits[index >>> 6] & (1L << index)) != 0;
+	}
+
+	private static void setBit(long[] bits, int index, boolean on) {
+		if (on)
+			bits[index >>> 6] |= 1L << index;
+		else
+			bits[index >>> 6] &= ~(1L << index);
+	}
+}
@@ -0,0 +1,35 @@
+package tables;
+
+/**
+ * Enumerates how much of the work of a file-based
+ * table survives a crash, from the fastest level
+ * to the safest.
+ */
+public enum Durability {
+	/**
+	 * Operations are not logged, so a crash may lose
+	 * any operation since the last checkpoint.
+	 */
+	NONE,
+
+	/**
+	 * Operations are logged but left to the operating
+	 * system to write out, so they survive a crash of
+	 * the process but not of the machine.
+	 */
+	OS_BUFFERED,
+
+	/**
+	 * Operations are logged and forced to the device
+	 * one at a time, so each survives once it returns.
+	 */
+	FSYNC_PER_COMMIT,
+
+	/**
+	 * Operations are logged and forced to the device
+	 * in groups, so each survives once its group is
+	 * committed, either when the group fills or when
+	 * the table is committed explicitly.
+	 */
+	GROUP_COMMIT
+}
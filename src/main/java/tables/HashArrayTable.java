@@ -10,10 +10,28 @@ import java.io.*;
  */
 public class HashArrayTable extends Table {
 	Object[] table; 
+	/*
+	 * When the primary column is an integer column,
+	 * each key is also kept unboxed in this array,
+	 * parallel to the slots, so that probes compare
+	 * ints in place instead of chasing each row.
+	 * Otherwise, this is null.
+	 */
+	private int[] keys;
 	private int size;
-	@SuppressWarnings("unused")
 	private int contaminations;
+	private ProbeHistogram probes;
+	private int resizes;
+	private int compactions;
 	private static final List<Object> TOMBSTONE = List.of(); 
+	
+	/*
+	 * The array grows once the rows fill this fraction of it,
+	 * and is rebuilt at the same capacity once the rows and
+	 * tombstones together fill this fraction of it.
+	 */
+	private static final double LOAD_FACTOR = .8; 
+	private static final double CONTAMINATION_FACTOR = .9; 
 
 	/* Creates a table and initializes
 	 * the data structure.
@@ -35,17 +53,41 @@ public class HashArrayTable extends Table {
 	@Override
 	public void clear() {
 		table = new Object[19]; 	// Instantiate new table 
+		keys = isIntegerKeyed() ? new int[19] : null; 
+		probes = new ProbeHistogram(); 
+		resizes = 0; 
+		compactions = 0; 
 		size = 0; 					// keeps track of the current size of the table. 
 		contaminations = 0 ; 
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public boolean put(List<Object> row) {
-		Object key = (Object) row.get(this.getPrimaryIndex()); 
+		return put(row, true); 
+	}
+	
+	@Override
+	public boolean putIfAbsent(List<Object> row) {
+		return put(row, false); 
+	}
+	
+	/*
+	 * Probes once for the key of the given row, and on
+	 * a hit replaces the row only if asked to.
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean put(List<Object> row, boolean replace) {
+		Object key = row.get(this.getPrimaryIndex()); 
+		if (key == null)
+			throw new NullPointerException("Key field %d must not be null".formatted(getPrimaryIndex()));
+		if (keys != null) {
+			if (!(key instanceof Integer intKey))
+				throw new IllegalArgumentException("Key field %d must be an integer".formatted(getPrimaryIndex()));
+			return putInt(intKey, row, replace); 
+		}
 		int RIndex = -1; 
-		int index = hash(key); 
-		int initIndex = index; 
+		int home = hash(key); 
+		int index = home; 
 		for (int i = 0 ; i < this.capacity() ; i++) {
 			
 			if (table[index] == TOMBSTONE && RIndex == -1) {
@@ -53,6 +95,7 @@ public class HashArrayTable extends Table {
 			}
 			
 			if(table[index] == null) {// if the table location is null, then the value is input and the size is incremented. 
+				probes.record(i + 1); 
 				if (RIndex == -1) {
 					table[index] = row; 
 					size++; 
@@ -61,13 +104,15 @@ public class HashArrayTable extends Table {
 					size++; 
 					contaminations--; 
 				}
-				if (size >= this.capacity() * .8) {
-					rehash(); 
-				}
+				maintain(); 
 				return false; 
 			}
 			
-			if (table[index] != null && table[index] != TOMBSTONE && (((List<Object>) table[index]).get(this.getPrimaryIndex()).equals(row.get(this.getPrimaryIndex())))) {
+			if (table[index] != TOMBSTONE && (((List<Object>) table[index]).get(this.getPrimaryIndex()).equals(key))) {
+				probes.record(i + 1); 
+				if (!replace) {
+					return true; 
+				}
 				if(RIndex == -1) {
 					table[index] = row; 
 				}else {
@@ -77,13 +122,14 @@ public class HashArrayTable extends Table {
 				return true;
 			}
 		
-			if (i%2 == 1) {
-				index = initIndex + (int) Math.pow((i + 1), 2); 
-			}else {
-				index = initIndex + (int) Math.pow((i + 1), 2); 
-				index = index * -1; 
-			}
-			index = Math.floorMod(index, this.capacity()); 		
+			index = Probing.probe(home, i + 1, this.capacity()); 
+		}
+		probes.record(this.capacity()); 
+		if (RIndex != -1) { // every slot was probed, so the key is absent and a tombstone can be reused. 
+			table[RIndex] = row; 
+			size++; 
+			contaminations--; 
+			maintain(); 
 		}
 		return false;
 	}
@@ -91,54 +137,186 @@ public class HashArrayTable extends Table {
 	@SuppressWarnings("unchecked")
 	@Override
 	public boolean remove(Object key) {
-		int index = hash(key); 
-		int initIndex = index; 
-		for (int i = 0 ; i < this.capacity() - 1 ; i++) {
+		if (keys != null) {
+			return key instanceof Integer intKey && removeInt(intKey); 
+		}
+		int home = hash(key); 
+		int index = home; 
+		for (int i = 0 ; i < this.capacity() ; i++) {
 			
 			if(table[index] == null) {
+				probes.record(i + 1); 
 				return false; 
 			}
-			else if (table[index] != null && table[index] != TOMBSTONE && ((List<Object>) table[index]).get(this.getPrimaryIndex()).equals(key)) {
+			else if (table[index] != TOMBSTONE && ((List<Object>) table[index]).get(this.getPrimaryIndex()).equals(key)) {
+				probes.record(i + 1); 
 				table[index] = TOMBSTONE; 
 				size--; 
 				contaminations++; 
+				maintain(); 
 				return true; 
 			}
 						
-			if (i%2 == 1) {
-				index = initIndex + (int) Math.pow((i + 1), 2); 
-			}else {
-				index = initIndex + (int) Math.pow((i + 1), 2); 
-				index = index * -1; 
-			}
-			index = Math.floorMod(index, this.capacity()); 
+			index = Probing.probe(home, i + 1, this.capacity()); 
 		}
+		probes.record(this.capacity()); 
 		return false; 
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public List<Object> get(Object key) {
-		int index = hash(key); 
-		int initIndex = index; 
-		for (int i = 0 ; i < this.capacity() - 1 ; i++) {
+		if (keys != null) {
+			return key instanceof Integer intKey ? getInt(intKey) : null; 
+		}
+		int home = hash(key); 
+		int index = home; 
+		for (int i = 0 ; i < this.capacity() ; i++) {
 					
 			if (table[index] == null){
+				probes.record(i + 1); 
 				return null; 
-			}else if (table[index] != null && table[index] != TOMBSTONE && ((List<Object>) table[index]).get(this.getPrimaryIndex()).equals(key)) { 
-					return (List<Object>) table[index]; 
+			}else if (table[index] != TOMBSTONE && ((List<Object>) table[index]).get(this.getPrimaryIndex()).equals(key)) { 
+				probes.record(i + 1); 
+				return (List<Object>) table[index]; 
 			}
 									
-			if (i%2 == 1) {
-				index = initIndex + (int) Math.pow((i + 1), 2); 
-			}else {
-				index = initIndex + (int) Math.pow((i + 1), 2); 
-				index = index * -1; 
+			index = Probing.probe(home, i + 1, this.capacity()); 
+		}
+		probes.record(this.capacity()); 
+		return null; 
+	}
+
+	private boolean putInt(int key, List<Object> row, boolean replace) {
+		int RIndex = -1; 
+		int home = hash(key); 
+		int index = home; 
+		for (int i = 0 ; i < this.capacity() ; i++) {
+			
+			if (table[index] == TOMBSTONE && RIndex == -1) {
+				RIndex = index;
 			}
-			index = Math.floorMod(index, this.capacity()); 		}
+			
+			if(table[index] == null) {
+				probes.record(i + 1); 
+				if (RIndex == -1) {
+					table[index] = row; 
+					keys[index] = key; 
+				}else {
+					table[RIndex] = row;
+					keys[RIndex] = key; 
+					contaminations--; 
+				}
+				size++; 
+				maintain(); 
+				return false; 
+			}
+			
+			if (table[index] != TOMBSTONE && keys[index] == key) {
+				probes.record(i + 1); 
+				if (!replace) {
+					return true; 
+				}
+				if(RIndex == -1) {
+					table[index] = row; 
+				}else {
+					table[RIndex] = row; 
+					keys[RIndex] = key; 
+					table[index] = TOMBSTONE;
+				}
+				return true;
+			}
+		
+			index = Probing.probe(home, i + 1, this.capacity()); 
+		}
+		probes.record(this.capacity()); 
+		if (RIndex != -1) { // every slot was probed, so the key is absent and a tombstone can be reused. 
+			table[RIndex] = row; 
+			keys[RIndex] = key; 
+			size++; 
+			contaminations--; 
+			maintain(); 
+		}
+		return false;
+	}
+
+	private boolean removeInt(int key) {
+		int home = hash(key); 
+		int index = home; 
+		for (int i = 0 ; i < this.capacity() ; i++) {
+			
+			if(table[index] == null) {
+				probes.record(i + 1); 
+				return false; 
+			}
+			else if (table[index] != TOMBSTONE && keys[index] == key) {
+				probes.record(i + 1); 
+				table[index] = TOMBSTONE; 
+				size--; 
+				contaminations++; 
+				maintain(); 
+				return true; 
+			}
+						
+			index = Probing.probe(home, i + 1, this.capacity()); 
+		}
+		probes.record(this.capacity()); 
+		return false; 
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> getInt(int key) {
+		int home = hash(key); 
+		int index = home; 
+		for (int i = 0 ; i < this.capacity() ; i++) {
+					
+			if (table[index] == null){
+				probes.record(i + 1); 
+				return null; 
+			}else if (table[index] != TOMBSTONE && keys[index] == key) { 
+				probes.record(i + 1); 
+				return (List<Object>) table[index]; 
+			}
+									
+			index = Probing.probe(home, i + 1, this.capacity()); 
+		}
+		probes.record(this.capacity()); 
 		return null; 
 	}
 
+	/**
+	 * Returns the histogram of how many slots each
+	 * put, remove, and get has probed since the
+	 * table was created or last cleared.
+	 *
+	 * @return the probe-length histogram.
+	 */
+	public ProbeHistogram probeHistogram() {
+		return probes;
+	}
+
+	/**
+	 * Returns the statistics of the table, where the
+	 * bytes used are those of the slot arrays, assuming
+	 * compressed references, and not of the rows.
+	 *
+	 * @return the statistics.
+	 */
+	@Override
+	public TableStats stats() {
+		long bytesUsed = (long) table.length * Integer.BYTES + (keys != null ? (long) keys.length * Integer.BYTES : 0); 
+		return TableStats.of(this, contaminations, probes, resizes, compactions, bytesUsed); 
+	}
+	/**
+	 * Returns whether the primary column is an integer
+	 * column, in which case the keys are kept unboxed.
+	 *
+	 * @return whether the table is integer-keyed.
+	 */
+	public boolean isIntegerKeyed() {
+		return getColumnTypes().get(getPrimaryIndex()).equals("integer");
+	}
+
 	@Override
 	public int size() {
 		return size;
@@ -187,55 +365,66 @@ public class HashArrayTable extends Table {
 		return val; 
 	}
 	
-	@SuppressWarnings("rawtypes")
-	public int hash(Object key) { //
-		int hash = 0; 
-		Class keyType = key.getClass(); 
-		if (keyType.getName() == "java.lang.String") { // Determines if the key is a String based on the java naming convention. 
-			String strKey = (String) key; // cast to a string. 
-			for (int i = 0; i < strKey.length(); i++) { // run a primitive hash function upon key string. 
-				hash = hash + strKey.charAt(i) * 67; //This hash takes each character from the string, squares it to its current position in the string, then multiplies it by 67
-			}
-			return Math.floorMod(hash, this.capacity()); // Returns the hash modulo array capacity. 
-		}else {
-			return Math.floorMod(key.hashCode(), this.capacity()); // Returns the hashCode, modulo the arrays current capacity. 
+	public int hash(int key) {
+		return Probing.home(Probing.hash(key), this.capacity()); 
+	}
+
+	public int hash(Object key) {
+		return Probing.home(Probing.hash(key), this.capacity()); 
+	}
+	
+	private void maintain() {
+		if (size >= this.capacity() * LOAD_FACTOR) {
+			rehash(); 
+		}else if (size + contaminations >= this.capacity() * CONTAMINATION_FACTOR) {
+			compact(); 
+		}
+	}
+	
+	/**
+	 * Grows the array at once, if needed, so that the
+	 * given number of rows fit below the load factor,
+	 * at least doubling it so that a load made of many
+	 * batches still grows it only logarithmically often.
+	 *
+	 * @param rows the number of rows.
+	 */
+	@Override
+	public void ensureCapacity(int rows) {
+		if (rows >= this.capacity() * LOAD_FACTOR) {
+			resizes++; 
+			rebuild(Probing.nextPrime(Math.max(this.capacity() * 2, (int) Math.ceil(rows / LOAD_FACTOR) + 1))); 
 		}
 	}
 	
-	@SuppressWarnings("unchecked")
 	public void rehash() {
-		int arraySize = primeFinder(this.capacity() * 2); 
+		resizes++; 
+		rebuild(Probing.nextPrime(this.capacity() * 2)); 
+	}
+	
+	@Override
+	public int compact() {
+		int removed = contaminations; 
+		compactions++; 
+		rebuild(this.capacity()); 
+		return removed; 
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void rebuild(int arraySize) {
 		Object[] oldTable = table; 
 		Object[] newTable = new Object[arraySize];
 		table = newTable; 
+		keys = keys != null ? new int[arraySize] : null; 
 		size = 0; 
 		contaminations = 0; 
+		ProbeHistogram recorded = probes; 
+		probes = new ProbeHistogram(); // the re-inserts below are not user operations. 
 		for (int i = 0 ;  i < oldTable.length ; i++) {
 			if ((List<Object>) oldTable[i] != null && (List<Object>) oldTable[i] != TOMBSTONE && ((List<Object>) oldTable[i]).get(this.getPrimaryIndex()) != null && ((List<Object>) oldTable[i]).get(this.getPrimaryIndex()) != TOMBSTONE){ 
 			put((List<Object>) oldTable[i]); 
 			}
 		}
-		return; 
-	}
-	
-	@SuppressWarnings("unchecked")
-	public int colRes(int hash) {
-		int newIndex = hash; 
-		int counter = 0; 
-		while((List<Object>) table[newIndex] != null || (List<Object>)  table[newIndex] != TOMBSTONE ) {
-			newIndex = Math.floorMod(((int) Math.pow((hash + counter + 1), 2) * -1), this.capacity()); 
-			counter++; 
-		}
-		return newIndex; 
-	}
-	
-	public static int primeFinder(int initialInt) {
-		int val = initialInt + 1 ;
-		if(val % 2 != 0 && val % 4 == 3 && val % 3 != 0 && val % 4 != 0 && val % 5 != 0) {
-			return val; 
-		}else {
-			val = primeFinder(val); 
-		}
-		return val; 
+		probes = recorded; 
 	}
 }
@@ -1,8 +1,10 @@
 package tables;
 
 import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.nio.file.StandardOpenOption.WRITE;
 
 import java.io.File;
@@ -14,13 +16,30 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List; 
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Implements a hash-based table
  * using a random access file structure.
+ * <p>
+ * By default, every string field reserves 128 bytes
+ * in its record. A table created with a number of
+ * inline bytes instead stores each string up to that
+ * length in its record, and each longer string in a
+ * heap file beside the table file.
+ * <p>
+ * Each put, remove, and clear is appended to a
+ * write-ahead log before it is applied, and the log
+ * is forced as its {@link Durability} level directs.
+ * Once the log grows past a bound, or the table is
+ * flushed, the file structure is forced and the log
+ * is discarded. Reopening a table which was not
+ * checkpointed replays its log.
  */
 public class HashFileTable extends Table {
 	private Path path; 
@@ -28,21 +47,90 @@ public class HashFileTable extends Table {
 	private MappedByteBuffer header, records; 
 
 	private static final short TOMBSTONE = (short) 0xFFFF;
+
+	/*
+	 * The table grows once its size reaches this fraction
+	 * of its capacity, and is rebuilt at the same capacity
+	 * once its size and tombstones together reach this
+	 * fraction. Each put or remove during a resize
+	 * migrates this many slots from the old region, so
+	 * that no single call rehashes the whole table.
+	 */
+	private static final double LOAD_FACTOR = 0.75;
+	private static final double CONTAMINATION_FACTOR = 0.9;
+	private static final int MIGRATE_STEP = 64;
 	
 	private String tableName; 
 	private int size; 
 	private int contaminations; 
 	private int record_width; 
+	
+	private RecordCodec codec; 
+	
+	/*
+	 * The bytes of each string stored inline, or 0 if
+	 * every string is stored inline in full. Longer
+	 * strings are stored in the heap, which is null
+	 * when the inline bytes are 0.
+	 */
+	private int inlineBytes; 
+	private StringHeap heap; 
+	
+	/*
+	 * The bytes of the heap which the strings of the rows
+	 * occupy, so that the rest is garbage. The heap is
+	 * compacted once it is more than the given multiple
+	 * of the live bytes, and past the given bytes.
+	 */
+	private long heapLive; 
+	private static final int HEAP_GARBAGE_FACTOR = 2; 
+	private static final long HEAP_COMPACTION_BYTES = 1 << 20; 
+	
 	private int capacity; 
+	private long recordsOffset; 
+	
+	/*
+	 * While a resize is in progress, the old region is
+	 * still mapped and holds every row not yet migrated,
+	 * from slot <code>migrated</code> onward. Otherwise,
+	 * the old capacity is 0 and the old region is null.
+	 */
+	private MappedByteBuffer oldRecords; 
+	private int oldCapacity; 
+	private long oldOffset; 
+	private int migrated; 
+	
+	/*
+	 * The probe lengths of each operation, and the
+	 * number of slots probed by the current one.
+	 */
+	private ProbeHistogram probes = new ProbeHistogram(); 
+	private int probed; 
+	private int resizes; 
+	private int compactions; 
 	private List<String> columnNames; 
 	private List<String> columnTypes; 
 	private Integer primaryIndex; 
 	
+	/*
+	 * The log of operations since the last checkpoint, which
+	 * is not appended to while it is replayed. The header is
+	 * marked dirty before the first operation after each
+	 * checkpoint, at the given offset.
+	 */
+	private WriteAheadLog log; 
+	private Durability durability = Durability.GROUP_COMMIT; 
+	private boolean recovering; 
+	private boolean dirty; 
+	private int dirtyOffset; 
+	
+	private static final long CHECKPOINT_BYTES = 1 << 20; 
+	
 	public HashFileTable(String tableName) {
 		this.tableName = tableName; 
-		this.path = Paths.get("data", "Persistent", "%s.bin".formatted(tableName)); 
+		this.path = file(tableName, "bin"); 
 		
-		open();
+		open(false);
 		
 		reopenTable(); 
 		
@@ -50,116 +138,493 @@ public class HashFileTable extends Table {
 		setColumnNames(this.columnNames);
 		setColumnTypes(this.columnTypes);
 		setPrimaryIndex(this.primaryIndex);
+		
+		openLog(false); 
+		if (dirty || log.size() > 0) {
+			recover(); 
+		}
+		countHeapLive(); 
 	}
 	
 	public HashFileTable(String tableName, List<String> columnNames, List<String> columnTypes, int primaryIndex) {
+		this(tableName, columnNames, columnTypes, primaryIndex, 0); 
+	}
+	
+	/**
+	 * Creates a table which stores each string field
+	 * of up to the given number of bytes in its record,
+	 * and each longer string in a heap file.
+	 *
+	 * @param tableName the table name
+	 * @param columnNames the column names
+	 * @param columnTypes the column types
+	 * @param primaryIndex the primary index
+	 * @param inlineBytes the inline bytes, from 8 to 127,
+	 * 		or 0 to store every string inline in full
+	 */
+	public HashFileTable(String tableName, List<String> columnNames, List<String> columnTypes, int primaryIndex, int inlineBytes) {
 		this.tableName = tableName; 
-		this.path = Paths.get("data", "Persistent", "%s.bin".formatted(tableName)); 
+		this.path = file(tableName, "bin"); 
+		this.inlineBytes = inlineBytes; 
+		if (inlineBytes != 0 && (inlineBytes < RecordCodec.MIN_INLINE_BYTES || inlineBytes > RecordCodec.INLINE_BYTES))
+			throw new IllegalArgumentException("Inline bytes <%d> must be 0 or from %d to %d".formatted(inlineBytes, RecordCodec.MIN_INLINE_BYTES, RecordCodec.INLINE_BYTES));
 		
 		setTableName(tableName);
 		setColumnNames(columnNames);
 		setColumnTypes(columnTypes);
 		setPrimaryIndex(primaryIndex);
 		
-		open(); 
+		open(true); 
 		
 		createTable(tableName, columnNames, columnTypes, primaryIndex); 
+		openLog(true); 
 	}
 	
-	private final Charset
+	private static final Charset
 	STRING_ENCODING = StandardCharsets.UTF_8;
 
-	private final int
+	private static final int
 		MAX_COLUMNS = 15,
 		MAX_COL_NAME = 15, 
 		MAX_NAME = 127;
 		
-	private final int
+	private static final int
 		LENGTH_BYTES = 1,
 		CHAR_BYTES = 1,
 		NAME_BYTES = LENGTH_BYTES + CHAR_BYTES * MAX_NAME,
 		COL_BYTES = LENGTH_BYTES + CHAR_BYTES * MAX_COL_NAME, 
 		TYPE_BYTES = 1,
 		INTEGER_BYTES = 4,
-		SHORT_BYTES = 2,
-		BOOLEAN_BYTES = 1,
-		STRING_BYTES = NAME_BYTES, 
-		MASK_BYTES = SHORT_BYTES;
+		LONG_BYTES = 8;
 		
-	private final int
+	private static final int
 		COLUMN_WIDTH = COL_BYTES + TYPE_BYTES,
-		HEADER_WIDTH = NAME_BYTES + INTEGER_BYTES * 5 + COLUMN_WIDTH * MAX_COLUMNS;
+		HEADER_WIDTH = NAME_BYTES + INTEGER_BYTES * 11 + LONG_BYTES * 2 + COLUMN_WIDTH * MAX_COLUMNS;
+	
+	/*
+	 * The header stores these after the table name, so that
+	 * a file written in an older layout, which stores the
+	 * primary index there, is rejected instead of misread.
+	 * The version changes whenever the layout changes.
+	 */
+	private static final int
+		FORMAT_MAGIC = 0x48465442,
+		FORMAT_VERSION = 2;
+	
+	/*
+	 * The offsets in the header of the fields read
+	 * without opening the table, as the header
+	 * schema is written.
+	 */
+	private static final int
+		SIZE_AT = COL_BYTES + INTEGER_BYTES * 4,
+		DIRTY_AT = SIZE_AT + INTEGER_BYTES * 5 + LONG_BYTES * 2,
+		COLUMN_COUNT_AT = DIRTY_AT + INTEGER_BYTES;
 	
-	private void open() {
+	private void open(boolean truncate) {
 		try {
 			Files.createDirectories(path.getParent());
-			channel = FileChannel.open(path, CREATE, READ, WRITE);
+			channel = truncate
+				? FileChannel.open(path, CREATE, READ, WRITE, TRUNCATE_EXISTING)
+				: FileChannel.open(path, CREATE, READ, WRITE);
 		}
 		catch (IOException e) {
 			throw new RuntimeException(e);
 		}
 	}
 	
+	private static Path file(String tableName, String extension) {
+		return Paths.get("data", "Persistent", "%s.%s".formatted(tableName, extension)); 
+	}
+	
+	/**
+	 * Returns the names of the tables stored in the
+	 * data directory, reading only the table name and
+	 * format from the header of each table file, so that
+	 * the time taken does not depend on their sizes.
+	 * A file in another format is skipped.
+	 *
+	 * @return the table names.
+	 */
+	public static List<String> storedTableNames() {
+		Path directory = Paths.get("data", "Persistent"); 
+		if (!Files.isDirectory(directory)) {
+			return List.of(); 
+		}
+		
+		List<String> names = new LinkedList<>(); 
+		try (var files = Files.newDirectoryStream(directory, "*.bin")) {
+			for (Path file: files) {
+				ByteBuffer fields = readStoredHeader(file); 
+				if (fields == null) {
+					continue; 
+				}
+				
+				int length = fields.get(0); 
+				String tableName = length > 0 && length <= MAX_COL_NAME
+					? new String(fields.array(), LENGTH_BYTES, length, STRING_ENCODING)
+					: null; 
+				
+				// Skip any file which is not named after its table.
+				if (tableName != null && file.getFileName().toString().equals("%s.bin".formatted(tableName))) {
+					names.add(tableName); 
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return names; 
+	}
+	
+	/**
+	 * Returns the column count and then the row count
+	 * stored in the header of the table with the given
+	 * name, without opening it, or <code>null</code> if
+	 * the table was not checkpointed, so that its row
+	 * count is only known once it is opened and recovered,
+	 * or if its file is missing or in another format.
+	 *
+	 * @param tableName the table name.
+	 * @return the column count and the row count, if known.
+	 */
+	public static List<Integer> storedCounts(String tableName) {
+		ByteBuffer fields = readStoredHeader(file(tableName, "bin")); 
+		if (fields == null || fields.getInt(DIRTY_AT) != 0) {
+			return null; 
+		}
+		return List.of(fields.getInt(COLUMN_COUNT_AT), fields.getInt(SIZE_AT)); 
+	}
+	
+	/*
+	 * Reads the fixed fields at the start of the header of
+	 * the given file, or returns null if the file is missing,
+	 * too short, or in another format.
+	 */
+	private static ByteBuffer readStoredHeader(Path file) {
+		if (!Files.exists(file)) {
+			return null; 
+		}
+		try (var channel = FileChannel.open(file, READ)) {
+			if (channel.size() < HEADER_WIDTH) {
+				return null; 
+			}
+			
+			ByteBuffer fields = ByteBuffer.allocate(COLUMN_COUNT_AT + INTEGER_BYTES); 
+			while (fields.hasRemaining() && channel.read(fields) >= 0); 
+			if (fields.getInt(COL_BYTES) != FORMAT_MAGIC || fields.getInt(COL_BYTES + INTEGER_BYTES) != FORMAT_VERSION) {
+				return null; 
+			}
+			return fields; 
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+	
+	/**
+	 * Deletes the files of the table with the given
+	 * name, which must not be open.
+	 *
+	 * @param tableName the table name.
+	 */
+	public static void delete(String tableName) {
+		try {
+			for (String extension: List.of("bin", "heap", "heap.tmp", "heap.new", "wal")) {
+				Files.deleteIfExists(file(tableName, extension)); 
+			}
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+	
+	/**
+	 * Closes the files of the table, after
+	 * which it must not be used again.
+	 */
+	public void close() {
+		try {
+			channel.close(); 
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		log.close(); 
+		if (heap != null) {
+			heap.close(); 
+		}
+	}
+	
 	private void reopenTable() {
-		System.out.printf("Reopen tableName: %s\n\n", tableName);
-
+		checkFormat(); 
 		bufferHeader();
 
 		readHeaderSchema();
-
-		System.out.printf("Read columnCount:   %s\n", columnNames.size());
-		System.out.printf("Read primaryIndex:  %s\n", primaryIndex);
-		System.out.printf("Read columnNames:   %s\n", columnNames);
-		System.out.printf("Read columnTypes:   %s\n\n", columnTypes);
-		
+		openHeap(false); 
 
 		measureRecord();
 		bufferRecords();
+		if (oldCapacity > 0) {
+			bufferOldRecords(); 
+		}
+		if (heap != null && Files.exists(file(tableName, "heap.new"))) {
+			finishHeapCompaction(); 
+		}
 	}
 	
 	private void createTable(String tableName, List<String> columnNames, List<String> columnTypes, int primaryIndex) {
-		System.out.printf("Create tableName: %s\n\n", tableName);
-
 		bufferHeader(); 
 		
 		this.capacity = 911; 
+		this.recordsOffset = HEADER_WIDTH; 
 		
 		this.columnNames = columnNames;
 		this.columnTypes = columnTypes;
 		this.primaryIndex = primaryIndex;
 
 		writeHeaderSchema();
+		openHeap(true); 
 		measureRecord();
 		bufferRecords();
-
-		System.out.printf("Write columnCount:  %s\n", columnNames.size());
-		System.out.printf("Write primaryIndex: %s\n", primaryIndex);
-		System.out.printf("Write columnNames:  %s\n", columnNames);
-		System.out.printf("Write columnTypes:  %s\n\n", columnTypes);
+	}
+	
+	/*
+	 * Reads the format fields after the table name before
+	 * anything is mapped, and closes the file and rejects it
+	 * if it was written in another layout.
+	 */
+	private void checkFormat() {
+		try {
+			ByteBuffer format = ByteBuffer.allocate(COL_BYTES + INTEGER_BYTES * 2); 
+			while (format.hasRemaining() && channel.read(format, format.position()) >= 0); 
+			int magic = format.getInt(COL_BYTES); 
+			int version = format.getInt(COL_BYTES + INTEGER_BYTES); 
+			if (format.hasRemaining() || magic != FORMAT_MAGIC || version != FORMAT_VERSION) {
+				channel.close(); 
+				throw new IllegalArgumentException(magic == FORMAT_MAGIC
+					? "Table file <%s> has format version %d, not %d".formatted(path, version, FORMAT_VERSION)
+					: "Table file <%s> is not in a supported format".formatted(path)); 
+			}
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
 	}
 	
 	private void bufferRecords() {
 		try {
-			records = channel.map(READ_WRITE, HEADER_WIDTH, capacity * record_width);
+			records = channel.map(READ_WRITE, recordsOffset, (long) capacity * record_width);
 		}
 		catch (IOException e) {
 			throw new RuntimeException(e);
 		}
 	}
 	
-	public void measureRecord() {
-		record_width = 0 ; 
-		record_width += MASK_BYTES; 
-		
-		for (int i = 0 ; i < columnTypes.size(); i ++) {
-			if (columnTypes.get(i).equalsIgnoreCase("string")) {
-				record_width += NAME_BYTES;
-			} else if (columnTypes.get(i).equalsIgnoreCase("integer")) {
-				record_width += 4;
-			} else if (columnTypes.get(i).equalsIgnoreCase("boolean")) {
-				record_width += 1;
+	private void bufferOldRecords() {
+		try {
+			oldRecords = channel.map(READ_WRITE, oldOffset, (long) oldCapacity * record_width);
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+	
+	/*
+	 * Opens the heap file if strings may overflow into it,
+	 * or else deletes any heap file left from a table
+	 * previously created with the same name. A partial copy
+	 * left by an interrupted heap compaction is discarded.
+	 */
+	private void openHeap(boolean create) {
+		Path heapPath = file(tableName, "heap"); 
+		try {
+			Files.deleteIfExists(file(tableName, "heap.tmp")); 
+			if (create || inlineBytes == 0) {
+				Files.deleteIfExists(file(tableName, "heap.new")); 
 			}
 		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		if (inlineBytes > 0) {
+			heap = new StringHeap(heapPath, create); 
+			return; 
+		}
+		try {
+			Files.deleteIfExists(heapPath); 
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+	
+	private void openLog(boolean create) {
+		Path logPath = file(tableName, "wal"); 
+		log = new WriteAheadLog(logPath, columnTypes, primaryIndex, create); 
+	}
+	
+	/*
+	 * Restores the file structure of a table which was not
+	 * checkpointed, by finishing any resize in progress,
+	 * recounting the rows and tombstones, and replaying
+	 * the log, then checkpoints it.
+	 */
+	private void recover() {
+		if (oldCapacity > 0) {
+			for (; migrated < oldCapacity; migrated++) {
+				if (isNull(oldRecords, migrated) || isTombstone(oldRecords, migrated)) {
+					continue; 
+				}
+				
+				// The row may have been migrated before the crash.
+				Object key = readField(oldRecords, migrated, this.getPrimaryIndex()); 
+				if (find(records, capacity, key) == -1) {
+					records.put(freeSlot(key) * record_width, oldRecords, migrated * record_width, record_width); 
+				}
+			}
+			
+			// The old region may be reused once the copies are durable.
+			records.force(); 
+			oldRecords = null; 
+			oldCapacity = 0; 
+			oldOffset = 0; 
+			migrated = 0; 
+		}
+		
+		size = 0; 
+		contaminations = 0; 
+		for (int i = 0; i < capacity; i++) {
+			if (isTombstone(i)) {
+				contaminations++; 
+			}else if (!isNull(i)) {
+				size++; 
+			}
+		}
+		
+		recovering = true; 
+		try {
+			log.replay(this::put, this::remove, this::clear); 
+		}
+		finally {
+			recovering = false; 
+		}
+		probes.reset(); 
+		checkpoint(); 
+	}
+	
+	/*
+	 * Marks the header dirty before the first operation
+	 * since the last checkpoint, and returns whether the
+	 * operation is to be appended to the log.
+	 */
+	private boolean beginOperation() {
+		if (recovering) {
+			return false; 
+		}
+		if (!dirty) {
+			dirty = true; 
+			header.putInt(dirtyOffset, 1); 
+			header.force(); 
+		}
+		return durability != Durability.NONE; 
+	}
+	
+	/*
+	 * Checkpoints the table once the log passes its bound,
+	 * or compacts the heap, which checkpoints it first,
+	 * once most of the heap is garbage. The heap is only
+	 * compacted between resizes, since it relocates the
+	 * strings of the current region alone.
+	 */
+	private void endOperation() {
+		if (recovering) {
+			return; 
+		}
+		if (heap != null && oldCapacity == 0 && heap.size() > HEAP_COMPACTION_BYTES && heap.size() > heapLive * HEAP_GARBAGE_FACTOR) {
+			compactHeap(); 
+		}else if (log.size() > CHECKPOINT_BYTES) {
+			checkpoint(); 
+		}
+	}
+	
+	/*
+	 * Forces the file structure, then discards the log,
+	 * whose operations are all reflected in it.
+	 */
+	private void checkpoint() {
+		records.force(); 
+		if (oldRecords != null) {
+			oldRecords.force(); 
+		}
+		if (heap != null) {
+			heap.force(); 
+		}
+		
+		updateVals(); 
+		dirty = false; 
+		header.putInt(dirtyOffset, 0); 
+		header.force(); 
+		log.truncate(); 
+	}
+	
+	/**
+	 * Forces every operation on the table so far
+	 * to the write-ahead log, so that it survives
+	 * a crash, unless the durability level leaves
+	 * the log to the operating system.
+	 * <p>
+	 * This may be called from a thread other
+	 * than the one operating on the table.
+	 */
+	public void commit() {
+		if (durability == Durability.FSYNC_PER_COMMIT || durability == Durability.GROUP_COMMIT) {
+			log.commit(); 
+		}
+	}
+	
+	/**
+	 * Forces the file structure of the table
+	 * to the device and discards its log, so that
+	 * reopening it does not need to replay the log.
+	 */
+	public void flush() {
+		checkpoint(); 
+	}
+	
+	/**
+	 * Returns the durability level of the table.
+	 *
+	 * @return the durability level.
+	 */
+	public Durability getDurability() {
+		return durability; 
+	}
+	
+	/**
+	 * Sets the durability level of the table, which
+	 * applies to every later operation. Setting it to
+	 * {@link Durability#NONE} first flushes the table.
+	 *
+	 * @param durability the durability level.
+	 */
+	public void setDurability(Durability durability) {
+		Objects.requireNonNull(durability); 
+		if (durability == Durability.NONE && this.durability != Durability.NONE) {
+			checkpoint(); 
+		}
+		
+		this.durability = durability; 
+		log.setGroupSize(switch (durability) {
+			case FSYNC_PER_COMMIT -> 1; 
+			case GROUP_COMMIT -> WriteAheadLog.GROUP_SIZE; 
+			default -> 0; 
+		}); 
+	}
+	
+	public void measureRecord() {
+		codec = heap != null ? new RecordCodec(columnTypes, inlineBytes, heap) : new RecordCodec(columnTypes); 
+		record_width = codec.width(); 
 	}
 	
 	private void bufferHeader() {
@@ -175,10 +640,19 @@ public class HashFileTable extends Table {
 		header.position(0);
 	
 		writeHeaderStr(tableName); 
+		header.putInt(FORMAT_MAGIC); 
+		header.putInt(FORMAT_VERSION); 
 		header.putInt(this.primaryIndex);
 		header.putInt(this.capacity);
 		header.putInt(this.size); 
 		header.putInt(this.contaminations); 
+		header.putLong(this.recordsOffset); 
+		header.putInt(this.oldCapacity); 
+		header.putLong(this.oldOffset); 
+		header.putInt(this.migrated); 
+		header.putInt(this.inlineBytes); 
+		dirtyOffset = header.position(); 
+		header.putInt(0); 
 
 		int columnCount = columnNames.size();
 		header.putInt(columnCount);
@@ -187,12 +661,7 @@ public class HashFileTable extends Table {
 	    	writeHeaderStr(columnNames.get(i));
 
 	    	String type = columnTypes.get(i);
-	    	header.put(switch (type) {
-		    	case "string" -> (byte) 1;
-		    	case "integer" -> (byte) 2;
-		    	case "boolean" -> (byte) 3;
-		    	default -> throw new IllegalArgumentException();
-	    	});
+	    	header.put(RecordCodec.kindOf(type));
 	    }
 	}
 
@@ -200,10 +669,18 @@ public class HashFileTable extends Table {
 		header.position(0);
 		
 		tableName = readHeaderStr(); 
+		header.position(header.position() + INTEGER_BYTES * 2); 
 		this.primaryIndex = header.getInt(); 
 		this.capacity = header.getInt(); 
 		this.size = header.getInt(); 
 		this.contaminations = header.getInt(); 
+		this.recordsOffset = header.getLong(); 
+		this.oldCapacity = header.getInt(); 
+		this.oldOffset = header.getLong(); 
+		this.migrated = header.getInt(); 
+		this.inlineBytes = header.getInt(); 
+		dirtyOffset = header.position(); 
+		this.dirty = header.getInt() != 0; 
 
 		int columnCount = header.getInt();
 
@@ -212,17 +689,14 @@ public class HashFileTable extends Table {
 		for (int i = 0; i < columnCount; i++) {
 			columnNames.add(readHeaderStr());
 
-			columnTypes.add(switch (header.get()) {
-		    	case 1 -> "string";
-		    	case 2 -> "integer";
-		    	case 3 -> "boolean";
-		    	default -> throw new RuntimeException();
-	    	});
+			columnTypes.add(RecordCodec.typeOf(header.get()));
 	    }
 	}
 	
 	public void writeHeaderStr(String str) {
 		final byte[] chars = str.getBytes(STRING_ENCODING);
+		if (chars.length > MAX_COL_NAME)
+			throw new IllegalArgumentException("Name <%s> is longer than %d bytes".formatted(str, MAX_COL_NAME));
 		header.put((byte) chars.length);
 		header.put(chars);
 		header.position(header.position() + MAX_COL_NAME - chars.length);
@@ -239,99 +713,428 @@ public class HashFileTable extends Table {
 
 	@Override
 	public void clear() {
+		if (beginOperation()) {
+			log.logClear(); 
+		}
+		
 		for(int i = 0 ; i < capacity() ; i++) {
 			 writeNull(i); 
 		}
+		if (heap != null) {
+			heap.clear(); 
+		}
+		heapLive = 0; 
 		size = 0; 					// keeps track of the current size of the table. 
 		contaminations = 0 ; 
+		probes.reset(); 
+		resizes = 0; 
+		compactions = 0; 
+		
+		// Abandon any resize in progress.
+		oldRecords = null; 
+		oldCapacity = 0; 
+		oldOffset = 0; 
+		migrated = 0; 
+		
+		updateVals(); 
+		endOperation(); 
 	}
 
 	@Override
 	public boolean put(List<Object> row) {
+		codec.check(row, this.getPrimaryIndex()); 
 		Object key = (Object) row.get(this.getPrimaryIndex()); 
+		if (beginOperation()) {
+			log.logPut(row); 
+		}
+		if (oldCapacity > 0) {
+			migrate(MIGRATE_STEP); 
+		}
+		
+		probed = 0; 
+		boolean hit = upsert(key, row); 
+		probes.record(probed); 
+		endOperation(); 
+		return hit; 
+	}
+	
+	private boolean upsert(Object key, List<Object> row) {
 		int RIndex = -1; 
-		int index = hash(key); 
-		int initIndex = index; 
+		int home = hash(key); 
+		int index = home; 
 		for (int i = 0 ; i < this.capacity() ; i++) {
+			probed++; 
 			
 			if (isTombstone(index) && RIndex == -1) {
 				RIndex = index;
 			}
 			
 			if(isNull(index)) {// if the table location is null, then the value is input and the size is incremented. 
-				if (RIndex == -1) {
-					write(index, row); 
-					size++; 
-				}else {
-					write(RIndex, row); 
-					size++; 
-					contaminations--; 
-				}
-
-				updateVals(); 
-				return false; 
+				return insert(RIndex == -1 ? index : RIndex, key, row); 
 			}
 			
-			if (isNull(index) && !isTombstone(index) && (((List<Object>) read(index)).get(this.getPrimaryIndex()).equals(row.get(this.getPrimaryIndex())))) {
+			if (!isTombstone(index) && keyEquals(records, index, key)) {
 				if(RIndex == -1) {
+					heapLive -= codec.heapBytes(records, index * record_width); 
 					write(index, row); 
 				}else {
 					write(RIndex, row); 
-					writeTombstone(index); 
+					discard(records, index); 
 				}
 
 				updateVals(); 
 				return true;
 			}
 		
-			if (i%2 == 1) {
-				index = initIndex + (int) Math.pow((i + 1), 2); 
-			}else {
-				index = initIndex + (int) Math.pow((i + 1), 2); 
-				index = index * -1; 
-			}
-			index = Math.floorMod(index, this.capacity()); 		
+			index = Probing.probe(home, i + 1, this.capacity()); 
+		}
+		if (RIndex != -1) {
+			return insert(RIndex, key, row); 
 		}
 		updateVals(); 
 		return false;
 	}
 	
+	/*
+	 * Writes a row whose key is not in the current region
+	 * into the given free slot. If the key was still in
+	 * the old region, the row has moved and it is a hit.
+	 */
+	private boolean insert(int index, Object key, List<Object> row) {
+		boolean moved = oldCapacity > 0 && removeFrom(oldRecords, oldCapacity, key); 
+		
+		if (isTombstone(index)) {
+			contaminations--; 
+		}
+		write(index, row); 
+		if (!moved) {
+			size++; 
+		}
+		
+		maintain(); 
+		updateVals(); 
+		return moved; 
+	}
+	
+	private void maintain() {
+		if (size >= this.capacity() * LOAD_FACTOR) {
+			if (oldCapacity > 0) {
+				migrate(oldCapacity); 
+			}
+			resize(Probing.nextPrime(this.capacity() * 2)); 
+		}else if (oldCapacity == 0 && size + contaminations >= this.capacity() * CONTAMINATION_FACTOR) {
+			resize(this.capacity()); 
+		}
+	}
+	
+	/**
+	 * Migrates every row at once, if needed, into a region
+	 * large enough for the given number of rows to fit
+	 * below the load factor, and at least twice as large.
+	 *
+	 * @param rows the number of rows.
+	 */
+	@Override
+	public void ensureCapacity(int rows) {
+		if (rows < this.capacity() * LOAD_FACTOR) {
+			return; 
+		}
+		
+		beginOperation(); 
+		if (oldCapacity > 0) {
+			migrate(oldCapacity); 
+		}
+		resize(Probing.nextPrime(Math.max(this.capacity() * 2, (int) Math.ceil(rows / LOAD_FACTOR) + 1))); 
+		migrate(oldCapacity); 
+		updateVals(); 
+		endOperation(); 
+	}
+	
+	/**
+	 * Rebuilds the file structure by migrating every row
+	 * into a fresh region of the same capacity, finishing
+	 * any resize in progress first, and checkpoints it.
+	 *
+	 * @return the number of tombstones removed.
+	 */
+	@Override
+	public int compact() {
+		beginOperation(); 
+		if (oldCapacity > 0) {
+			migrate(oldCapacity); 
+		}
+		int removed = contaminations; 
+		resize(this.capacity()); 
+		migrate(oldCapacity); 
+		compactHeap(); 
+		checkpoint(); 
+		return removed; 
+	}
+	
+	/*
+	 * Rewrites the heap with only the strings of the rows,
+	 * dropping overwritten ones. The live strings are copied
+	 * to a temporary file, which is renamed once it is forced,
+	 * and only then are the records pointed at it.
+	 */
+	private void compactHeap() {
+		if (heap == null) {
+			return; 
+		}
+		
+		checkpoint(); 
+		Path copy = file(tableName, "heap.tmp"); 
+		StringHeap live = new StringHeap(copy, true); 
+		for (int i = 0; i < capacity; i++) {
+			if (!isNull(i) && !isTombstone(i)) {
+				codec.copyStrings(records, i * record_width, live); 
+			}
+		}
+		live.force(); 
+		live.close(); 
+		
+		try {
+			Files.move(copy, file(tableName, "heap.new"), ATOMIC_MOVE); 
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		finishHeapCompaction(); 
+	}
+	
+	/*
+	 * Points every record at its strings in the compacted
+	 * heap, forces the records, then moves the compacted heap
+	 * over the old one. The pointers follow from the string
+	 * lengths alone, so a compaction interrupted by a crash
+	 * is finished by repeating this when the table is reopened.
+	 */
+	private void finishHeapCompaction() {
+		long offset = 0; 
+		for (int i = 0; i < capacity; i++) {
+			if (!isNull(i) && !isTombstone(i)) {
+				offset = codec.relocate(records, i * record_width, offset); 
+			}
+		}
+		records.force(); 
+		heap.replaceWith(file(tableName, "heap.new")); 
+		heapLive = offset; 
+	}
+	
+	/*
+	 * Counts the bytes of the heap which the strings of
+	 * the rows occupy, in both regions during a resize.
+	 */
+	private void countHeapLive() {
+		heapLive = 0; 
+		if (heap == null) {
+			return; 
+		}
+		for (int i = 0; i < capacity; i++) {
+			if (!isNull(i) && !isTombstone(i)) {
+				heapLive += codec.heapBytes(records, i * record_width); 
+			}
+		}
+		for (int i = migrated; i < oldCapacity; i++) {
+			if (!isNull(oldRecords, i) && !isTombstone(oldRecords, i)) {
+				heapLive += codec.heapBytes(oldRecords, i * record_width); 
+			}
+		}
+	}
+	
+	/*
+	 * Starts migrating every row into a new region with the
+	 * given capacity. The new region reuses the space before
+	 * the current region if it fits, and otherwise follows
+	 * the current region, so that rebuilds at the same
+	 * capacity alternate between two regions instead of
+	 * growing the file. Where the new region
+	 * lies past the end of the file, the bytes are zero and
+	 * so every slot is already null, so that it writes
+	 * nothing. Otherwise it reuses the space of an earlier
+	 * region, which it nulls first.
+	 */
+	private void resize(int newCapacity) {
+		long newWidth = (long) newCapacity * record_width; 
+		long newOffset = HEADER_WIDTH + newWidth <= recordsOffset
+			? HEADER_WIDTH
+			: recordsOffset + (long) capacity * record_width; 
+		boolean reused; 
+		try {
+			reused = newOffset < channel.size(); 
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		
+		if (newCapacity == capacity) {
+			compactions++; 
+		}else {
+			resizes++; 
+		}
+		
+		oldRecords = records; 
+		oldCapacity = capacity; 
+		oldOffset = recordsOffset; 
+		migrated = 0; 
+		
+		capacity = newCapacity; 
+		recordsOffset = newOffset; 
+		contaminations = 0; 
+		bufferRecords(); 
+		if (reused) {
+			for (int i = 0; i < capacity; i++) {
+				writeNull(i); 
+			}
+			
+			// The reused region must be durable before the header refers to it.
+			records.force(); 
+		}
+		updateVals(); 
+	}
+	
+	/*
+	 * Migrates up to the given number of slots from the
+	 * old region, leaving a tombstone in each migrated
+	 * slot so that probes for later slots still work.
+	 * The copies are forced before any slot is tombstoned,
+	 * since the mapped pages may otherwise be written back
+	 * in any order, and a crash could then lose a row which
+	 * was checkpointed, and so is no longer in the log.
+	 */
+	private void migrate(int slots) {
+		int start = migrated; 
+		int end = Math.min(oldCapacity, migrated + slots); 
+		boolean copied = false; 
+		for (int i = start; i < end; i++) {
+			if (isNull(oldRecords, i) || isTombstone(oldRecords, i)) {
+				continue; 
+			}
+			
+			Object key = readField(oldRecords, i, this.getPrimaryIndex()); 
+			int index = freeSlot(key); 
+			if (isTombstone(index)) {
+				contaminations--; 
+			}
+			records.put(index * record_width, oldRecords, i * record_width, record_width); 
+			copied = true; 
+		}
+		
+		if (copied) {
+			records.force(); 
+			for (int i = start; i < end; i++) {
+				if (!isNull(oldRecords, i)) {
+					writeTombstone(oldRecords, i); 
+				}
+			}
+		}
+		migrated = end; 
+		
+		if (migrated == oldCapacity) {
+			oldRecords = null; 
+			oldCapacity = 0; 
+			oldOffset = 0; 
+			migrated = 0; 
+		}
+	}
+	
+	/*
+	 * Returns the first null or tombstone slot in the probe
+	 * sequence of a key known not to be in the current region.
+	 */
+	private int freeSlot(Object key) {
+		int home = hash(key); 
+		int index = home; 
+		for (int i = 0 ; i < this.capacity() ; i++) {
+			if (isNull(index) || isTombstone(index)) {
+				return index; 
+			}
+			
+			index = Probing.probe(home, i + 1, this.capacity()); 
+		}
+		throw new IllegalStateException("No free slot for key <%s>".formatted(key)); 
+	}
+	
+	/*
+	 * Returns the slot of the given key in the given region,
+	 * or -1 if the key is not in the region.
+	 */
+	private int find(MappedByteBuffer region, int regionCapacity, Object key) {
+		int home = hash(key, regionCapacity); 
+		int index = home; 
+		for (int i = 0 ; i < regionCapacity ; i++) {
+			probed++; 
+			
+			if(isNull(region, index)) {
+				return -1; 
+			}
+			else if (!isTombstone(region, index) && keyEquals(region, index, key)) {
+				return index; 
+			}
+						
+			index = Probing.probe(home, i + 1, regionCapacity); 
+		}
+		return -1; 
+	}
+	
+	private boolean removeFrom(MappedByteBuffer region, int regionCapacity, Object key) {
+		int index = find(region, regionCapacity, key); 
+		if (index == -1) {
+			return false; 
+		}
+		discard(region, index); 
+		return true; 
+	}
+	
 	public void updateVals() {
 		header.position(0);
 		
 		writeHeaderStr(this.tableName); 
+		header.putInt(FORMAT_MAGIC); 
+		header.putInt(FORMAT_VERSION); 
 		header.putInt(this.primaryIndex);
 		header.putInt(this.capacity);
 		header.putInt(this.size); 
 		header.putInt(this.contaminations); 
+		header.putLong(this.recordsOffset); 
+		header.putInt(this.oldCapacity); 
+		header.putLong(this.oldOffset); 
+		header.putInt(this.migrated); 
 		return; 
 	}
 	
 	@Override
 	public boolean remove(Object key) {
-		int index = hash(key); 
-		int initIndex = index; 
-		for (int i = 0 ; i < this.capacity() - 1 ; i++) {
-			
-			if(isNull(index)) {
-				return false; 
-			}
-			else if (isNull(index) && !isTombstone(index) && ((List<Object>) read(index)).get(this.getPrimaryIndex()).equals(key)) {
-				writeTombstone(index); 
-				size--; 
-				contaminations++; 
-				return true; 
-			}
-						
-			if (i%2 == 1) {
-				index = initIndex + (int) Math.pow((i + 1), 2); 
-			}else {
-				index = initIndex + (int) Math.pow((i + 1), 2); 
-				index = index * -1; 
-			}
-			index = Math.floorMod(index, this.capacity()); 
+		// A miss logs nothing, but may still migrate slots.
+		boolean logged = beginOperation(); 
+		if (oldCapacity > 0) {
+			migrate(MIGRATE_STEP); 
 		}
-		return false;
+		
+		probed = 0; 
+		int index = find(records, capacity, key); 
+		int oldIndex = index == -1 && oldCapacity > 0 ? find(oldRecords, oldCapacity, key) : -1; 
+		probes.record(probed); 
+		if (index == -1 && oldIndex == -1) {
+			updateVals(); 
+			endOperation(); 
+			return false; 
+		}
+		
+		if (logged) {
+			log.logRemove(key); 
+		}
+		if (index != -1) {
+			discard(records, index); 
+			contaminations++; 
+		}else {
+			discard(oldRecords, oldIndex); 
+		}
+		size--; 
+		maintain(); 
+		updateVals(); 
+		endOperation(); 
+		return true;
 	}
 //
 //	@SuppressWarnings("unchecked")
@@ -361,27 +1164,52 @@ public class HashFileTable extends Table {
 //		}
 //		return false; 
 //	}
-//@Override
+	@Override
 	public List<Object> get(Object key) {
-		int index = hash(key); 
-		int initIndex = index; 
-		for (int i = 0 ; i < this.capacity() - 1 ; i++) {
-					
-				if (isNull(index)){
-					return null; 
-				}else if (isNull(index) && !isTombstone(index) && ((List<Object>) read(index)).get(this.getPrimaryIndex()).equals(key)) { 
-						return (List<Object>) read(index); 
-				}
-										
-				if (i%2 == 1) {
-					index = initIndex + (int) Math.pow((i + 1), 2); 
-				}else {
-					index = initIndex + (int) Math.pow((i + 1), 2); 
-					index = index * -1; 
-				}
-			index = Math.floorMod(index, this.capacity());
+		probed = 0; 
+		List<Object> row = null; 
+		int index = find(records, capacity, key); 
+		if (index != -1) {
+			row = read(index); 
+		}else if (oldCapacity > 0) {
+			index = find(oldRecords, oldCapacity, key); 
+			if (index != -1) {
+				row = read(oldRecords, index); 
 			}
-		return null;
+		}
+		probes.record(probed); 
+		return row;
+	}
+	
+	/**
+	 * Returns the histogram of how many slots each
+	 * put, remove, and get has probed since the
+	 * table was opened or last cleared, counting
+	 * both regions while a resize is in progress.
+	 *
+	 * @return the probe-length histogram.
+	 */
+	public ProbeHistogram probeHistogram() {
+		return probes;
+	}
+	
+	/**
+	 * Returns the statistics of the table, where the
+	 * bytes used are the length of the files, and the
+	 * resizes and compactions count those since the
+	 * table was opened.
+	 *
+	 * @return the statistics.
+	 */
+	@Override
+	public TableStats stats() {
+		try {
+			long bytesUsed = channel.size() + (heap != null ? heap.size() : 0); 
+			return TableStats.of(this, contaminations, probes, resizes, compactions, bytesUsed); 
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
 	}
 	
 	
@@ -393,9 +1221,11 @@ public class HashFileTable extends Table {
 			@Override
 			public boolean hasNext() {				
 				
-				// Iterate until value is found
-				while (index < capacity()){
-					if(!isNull(index) && !isTombstone(index)) { // if not null or tombstone, return true
+				// Iterate until value is found, in the current region then the old region
+				while (index < capacity() + oldCapacity){
+					MappedByteBuffer region = index < capacity() ? records : oldRecords; 
+					int slot = index < capacity() ? index : index - capacity(); 
+					if(!isNull(region, slot) && !isTombstone(region, slot)) { // if not null or tombstone, return true
 						return true; 
 					}
 					index++; 
@@ -407,7 +1237,7 @@ public class HashFileTable extends Table {
 			public List<Object> next() {
 				if (!hasNext()) return null; 
 				
-				List<Object> temp = read(index); 
+				List<Object> temp = index < capacity() ? read(index) : read(oldRecords, index - capacity()); 
 				index++;
 				return temp; // returns the row
 			}	
@@ -422,19 +1252,12 @@ public class HashFileTable extends Table {
 //		return val; 
 //	}
 //	
-	@SuppressWarnings("rawtypes")
 	public int hash(Object key) { 
-		int hash = 0; 
-		Class keyType = key.getClass(); 
-		if (keyType.getName() == "java.lang.String") { // Determines if the key is a String based on the java naming convention. 
-			String strKey = (String) key; // cast to a string. 
-			for (int i = 0; i < strKey.length(); i++) { // run a primitive hash function upon key string. 
-				hash = hash + strKey.charAt(i) * 67; //This hash takes each character from the string, squares it to its current position in the string, then multiplies it by 67
-			}
-			return Math.floorMod(hash, this.capacity()); // Returns the hash modulo array capacity. 
-		}else {
-			return Math.floorMod(key.hashCode(), this.capacity()); // Returns the hashCode, modulo the arrays current capacity. 
-		}
+		return hash(key, this.capacity()); 
+	}
+
+	private int hash(Object key, int capacity) { 
+		return Probing.home(Probing.hash(key), capacity); 
 	}
 
 @Override
@@ -486,100 +1309,81 @@ public int capacity() {
 //	}
 //}
 
-	@SuppressWarnings("null")
 	public void write(int index, List<Object> row) {
-		MappedByteBuffer record = records.slice(index * record_width, record_width);
+		write(records, index, row); 
+	}
+
+	private void write(MappedByteBuffer region, int index, List<Object> row) {
+		codec.encode(region, index * record_width, row); 
+		heapLive += codec.heapBytes(region, index * record_width); 
+	}
 	
-		
-		short mask = 0;
-		for (int i = 0; i < row.size(); i++) {
-			if (row.get(i) != null) {
-			mask = (short) (mask | (1 << i));
-			}
-		}
-		record.putShort(mask);
-			
-		for(int i = 0 ; i < columnTypes.size(); i++) {
-			if(columnTypes.get(i).equalsIgnoreCase("string")) {
-				try { 
-					String letter = (String) row.get(0);
-					byte[] chars = letter.getBytes(STRING_ENCODING);
-					record.put((byte) chars.length);
-					record.put(chars);
-					record.put(new byte[STRING_BYTES - chars.length - LENGTH_BYTES]);
-				} catch (Exception e) {
-					record.put(new byte[STRING_BYTES]);  
-				}
-			}else if (columnTypes.get(i).equalsIgnoreCase("integer")) {
-				try {
-					int order = (int) row.get(1);
-					record.putInt(order);
-				}catch (Exception e) {
-					record.put(new byte[4]);  
-				}
-			}else if (columnTypes.get(i).equalsIgnoreCase("integer")) {	
-				try {
-					boolean vowel = (boolean) row.get(2);
-					record.put(vowel ? (byte) 1 : 0);
-				}catch(Exception e) {
-					record.put(new byte[1]);  
-				}
-			}
-		}
-		return; 
+	/*
+	 * Tombstones the row in the given slot, whose
+	 * strings become garbage in the heap.
+	 */
+	private void discard(MappedByteBuffer region, int index) {
+		heapLive -= codec.heapBytes(region, index * record_width); 
+		writeTombstone(region, index); 
 	}
 	
 	public void writeNull(int index) {
-		records.position(index * record_width);
-		records.putShort((short) 0);
+		records.putShort(index * record_width, (short) 0);
 		return; 
 	}
 	
 	public void writeTombstone(int index) {
-		records.position(index * record_width);
-		records.putShort(TOMBSTONE);
+		writeTombstone(records, index); 
+	}
+	
+	private void writeTombstone(MappedByteBuffer region, int index) {
+		region.putShort(index * record_width, TOMBSTONE);
 		return; 
 	}
 	
 	public List<Object> read(int index) {
-		MappedByteBuffer record = records.slice(index * record_width, record_width);
+		return read(records, index); 
+	}
 	
-		short mask = record.getShort();
-		if (mask == 0)
+	private List<Object> read(MappedByteBuffer region, int index) {
+		if (isNull(region, index))
 			throw new IllegalStateException();
 	
-		byte[] chars = new byte[record.get()];
-		record.get(chars);
-		record.position(record.position() + STRING_BYTES - chars.length - LENGTH_BYTES);
-		String letter = new String(chars, STRING_ENCODING);
-	
-		int order = record.getInt();
-	
-		boolean vowel = record.get() == 1;
+		Object[] fields = new Object[codec.columns()]; 
+		for (int column = 0; column < fields.length; column++) {
+			fields[column] = readField(region, index, column); 
+		}
+		return Arrays.asList(fields); 
+	}
 	
-		List<Object> row = List.of(letter, order, vowel);
+	private Object readField(MappedByteBuffer region, int index, int column) {
+		return codec.decode(region, index * record_width, column); 
+	}
 	
-		return row;
+	private boolean keyEquals(MappedByteBuffer region, int index, Object key) {
+		return codec.equals(region, index * record_width, this.getPrimaryIndex(), key); 
 	}
 	
 	public boolean isNull(int index) {
+		return isNull(records, index); 
+	}
 
-		// Putting the position
-		records.position(index * record_width);
+	private boolean isNull(MappedByteBuffer region, int index) {
 
 		// Getting the mask
-		short mask = records.getShort();
+		short mask = region.getShort(index * record_width);
 
 		return mask == 0;
 	}
 
 	public boolean isTombstone(int index) {
+		return isTombstone(records, index); 
+	}
 
-		// Putting the position
-		records.position(index * record_width);
+	private boolean isTombstone(MappedByteBuffer region, int index) {
 
 		// Getting the mask
-		short mask = records.getShort();
+		short mask = region.getShort(index * record_width);
 
 		return mask == TOMBSTONE;
 	}
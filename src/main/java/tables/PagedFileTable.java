@@ -0,0 +1,553 @@
+package tables;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Implements a hash-based table
+ * using a paged file structure.
+ * <p>
+ * The file is divided into fixed-size pages: the first
+ * holds the schema and counts, and the rest hold the
+ * fixed-width records, which never span two pages. Pages
+ * are cached in a {@link BufferPool} with a bounded number
+ * of frames, so the memory used by a table does not grow
+ * with its size, and its file may exceed 2 GB.
+ * <p>
+ * Modified pages are written back when they are evicted,
+ * and all of them by {@link #flush()}. A table must be
+ * flushed before its file is reopened.
+ */
+public class PagedFileTable extends Table {
+	/**
+	 * The bytes in each page.
+	 */
+	public static final int PAGE_SIZE = 4096;
+
+	/**
+	 * The number of frames in the buffer pool by default,
+	 * which caches 1 MiB of pages.
+	 */
+	public static final int DEFAULT_FRAMES = 256;
+
+	/*
+	 * The null mask of a record has a bit per column and
+	 * must never equal the tombstone, so one bit is spare.
+	 */
+	private static final int MAX_COLUMNS = 15;
+
+	private static final int INITIAL_CAPACITY = 911;
+	private static final double LOAD_FACTOR = 0.75;
+	private static final double CONTAMINATION_FACTOR = 0.9;
+
+	private static final short TOMBSTONE = (short) 0xFFFF;
+
+	/*
+	 * The offsets of the counts and schema in the first page.
+	 */
+	private static final int
+		CAPACITY_AT = 0,
+		SIZE_AT = 4,
+		CONTAMINATIONS_AT = 8,
+		PRIMARY_INDEX_AT = 12,
+		COLUMN_COUNT_AT = 16,
+		COLUMNS_AT = 20;
+
+	private final Path path;
+	private final int frameCount;
+	private FileChannel channel;
+	private BufferPool pool;
+
+	/*
+	 * The pool which a rebuild writes through, kept
+	 * between rebuilds so that its frames are reused,
+	 * or null before the first rebuild.
+	 */
+	private BufferPool spare;
+
+	private RecordCodec codec;
+	private int recordWidth;
+	private int recordsPerPage;
+
+	private int capacity;
+	private int size;
+	private int contaminations;
+
+	private ProbeHistogram probes;
+	private int resizes;
+	private int compactions;
+
+	/**
+	 * Reopens a table from its file with
+	 * the default number of frames.
+	 *
+	 * @param tableName the table name
+	 */
+	public PagedFileTable(String tableName) {
+		this(tableName, DEFAULT_FRAMES);
+	}
+
+	/**
+	 * Reopens a table from its file with
+	 * the given number of frames.
+	 *
+	 * @param tableName the table name
+	 * @param frameCount the number of frames
+	 */
+	public PagedFileTable(String tableName, int frameCount) {
+		this.path = pathOf(tableName);
+		this.frameCount = frameCount;
+
+		open(false);
+		readHeader(tableName);
+		measureRecord();
+		probes = new ProbeHistogram();
+	}
+
+	/**
+	 * Creates a table and initializes the file
+	 * structure with the default number of frames.
+	 *
+	 * @param tableName the table name
+	 * @param columnNames the column names
+	 * @param columnTypes the column types
+	 * @param primaryIndex the primary index
+	 */
+	public PagedFileTable(String tableName, List<String> columnNames, List<String> columnTypes, int primaryIndex) {
+		this(tableName, columnNames, columnTypes, primaryIndex, DEFAULT_FRAMES);
+	}
+
+	/**
+	 * Creates a table and initializes the file
+	 * structure with the given number of frames.
+	 *
+	 * @param tableName the table name
+	 * @param columnNames the column names
+	 * @param columnTypes the column types
+	 * @param primaryIndex the primary index
+	 * @param frameCount the number of frames
+	 */
+	public PagedFileTable(String tableName, List<String> columnNames, List<String> columnTypes, int primaryIndex, int frameCount) {
+		if (columnNames.size() > MAX_COLUMNS)
+			throw new IllegalArgumentException("Column count <%d> must be at most %d".formatted(columnNames.size(), MAX_COLUMNS));
+
+		setTableName(tableName);
+		setColumnNames(columnNames);
+		setColumnTypes(columnTypes);
+		setPrimaryIndex(primaryIndex);
+
+		this.path = pathOf(tableName);
+		this.frameCount = frameCount;
+
+		measureRecord();
+		open(true);
+		clear();
+	}
+
+	private static Path pathOf(String tableName) {
+		return Paths.get("data", "Persistent", "%s.pages".formatted(tableName));
+	}
+
+	/**
+	 * Deletes the file of the table with the
+	 * given name, which must not be open.
+	 *
+	 * @param tableName the table name.
+	 */
+	public static void delete(String tableName) {
+		Path path = pathOf(tableName);
+		try {
+			Files.deleteIfExists(path);
+			Files.deleteIfExists(path.resolveSibling(path.getFileName() + ".tmp"));
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Closes the file of the table, after which it
+	 * must not be used again. Modified pages which
+	 * were not flushed are not written back.
+	 */
+	public void close() {
+		try {
+			channel.close();
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private void open(boolean truncate) {
+		try {
+			Files.createDirectories(path.getParent());
+			channel = truncate
+				? FileChannel.open(path, CREATE, READ, WRITE, TRUNCATE_EXISTING)
+				: FileChannel.open(path, READ, WRITE);
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		pool = new BufferPool(channel, PAGE_SIZE, frameCount);
+	}
+
+	private void measureRecord() {
+		codec = new RecordCodec(getColumnTypes());
+		recordWidth = codec.width();
+		recordsPerPage = PAGE_SIZE / recordWidth;
+	}
+
+	private void writeHeader() {
+		ByteBuffer page = pool.write(0);
+		page.putInt(CAPACITY_AT, capacity);
+		page.putInt(SIZE_AT, size);
+		page.putInt(CONTAMINATIONS_AT, contaminations);
+		page.putInt(PRIMARY_INDEX_AT, getPrimaryIndex());
+		page.putInt(COLUMN_COUNT_AT, getColumnNames().size());
+
+		int at = COLUMNS_AT;
+		for (int i = 0; i < getColumnNames().size(); i++) {
+			byte[] chars = getColumnNames().get(i).getBytes(StandardCharsets.UTF_8);
+			page.put(at, (byte) chars.length);
+			page.put(at + 1, chars);
+			at += 1 + chars.length;
+			page.put(at, RecordCodec.kindOf(getColumnTypes().get(i)));
+			at += 1;
+		}
+	}
+
+	private void writeCounts() {
+		ByteBuffer page = pool.write(0);
+		page.putInt(CAPACITY_AT, capacity);
+		page.putInt(SIZE_AT, size);
+		page.putInt(CONTAMINATIONS_AT, contaminations);
+	}
+
+	private void readHeader(String tableName) {
+		ByteBuffer page = pool.read(0);
+		capacity = page.getInt(CAPACITY_AT);
+		size = page.getInt(SIZE_AT);
+		contaminations = page.getInt(CONTAMINATIONS_AT);
+		int primaryIndex = page.getInt(PRIMARY_INDEX_AT);
+		int columnCount = page.getInt(COLUMN_COUNT_AT);
+
+		List<String> columnNames = new LinkedList<>();
+		List<String> columnTypes = new LinkedList<>();
+		int at = COLUMNS_AT;
+		for (int i = 0; i < columnCount; i++) {
+			byte[] chars = new byte[page.get(at)];
+			page.get(at + 1, chars);
+			at += 1 + chars.length;
+			columnNames.add(new String(chars, StandardCharsets.UTF_8));
+			columnTypes.add(RecordCodec.typeOf(page.get(at)));
+			at += 1;
+		}
+
+		setTableName(tableName);
+		setColumnNames(columnNames);
+		setColumnTypes(columnTypes);
+		setPrimaryIndex(primaryIndex);
+	}
+
+	@Override
+	public void clear() {
+		try {
+			channel.truncate(0);
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		pool.discard();
+
+		capacity = INITIAL_CAPACITY;
+		size = 0;
+		contaminations = 0;
+		probes = new ProbeHistogram();
+		resizes = 0;
+		compactions = 0;
+		writeHeader();
+	}
+
+	@Override
+	public boolean put(List<Object> row) {
+		codec.check(row, getPrimaryIndex());
+		Object key = row.get(getPrimaryIndex());
+
+		int free = -1;
+		int home = Probing.home(Probing.hash(key), capacity);
+		int index = home;
+		for (int i = 0; i < capacity; i++) {
+			ByteBuffer page = pool.read(pageOf(index));
+			short mask = page.getShort(offsetOf(index));
+
+			if (mask == TOMBSTONE) {
+				if (free == -1)
+					free = index;
+			}
+			else if (mask == 0) {
+				probes.record(i + 1);
+				insert(free != -1 ? free : index, row);
+				return false;
+			}
+			else if (codec.equals(page, offsetOf(index), getPrimaryIndex(), key)) {
+				probes.record(i + 1);
+				if (free == -1) {
+					codec.encode(pool.write(pageOf(index)), offsetOf(index), row);
+				}
+				else {
+					pool.write(pageOf(index)).putShort(offsetOf(index), TOMBSTONE);
+					codec.encode(pool.write(pageOf(free)), offsetOf(free), row);
+				}
+				return true;
+			}
+
+			index = Probing.probe(home, i + 1, capacity);
+		}
+		probes.record(capacity);
+		if (free != -1)
+			insert(free, row);
+		return false;
+	}
+
+	private void insert(int index, List<Object> row) {
+		ByteBuffer page = pool.write(pageOf(index));
+		if (page.getShort(offsetOf(index)) == TOMBSTONE)
+			contaminations--;
+		codec.encode(page, offsetOf(index), row);
+		size++;
+
+		writeCounts();
+		maintain();
+	}
+
+	@Override
+	public boolean remove(Object key) {
+		int index = find(key);
+		if (index == -1)
+			return false;
+
+		pool.write(pageOf(index)).putShort(offsetOf(index), TOMBSTONE);
+		size--;
+		contaminations++;
+
+		writeCounts();
+		maintain();
+		return true;
+	}
+
+	@Override
+	public List<Object> get(Object key) {
+		int index = find(key);
+		if (index == -1)
+			return null;
+
+		return read(pool.read(pageOf(index)), offsetOf(index));
+	}
+
+	/*
+	 * Returns the slot of the given key,
+	 * or -1 if the key is not in the table.
+	 */
+	private int find(Object key) {
+		if (key == null)
+			return -1;
+
+		int home = Probing.home(Probing.hash(key), capacity);
+		int index = home;
+		for (int i = 0; i < capacity; i++) {
+			ByteBuffer page = pool.read(pageOf(index));
+			short mask = page.getShort(offsetOf(index));
+
+			if (mask == 0) {
+				probes.record(i + 1);
+				return -1;
+			}
+			else if (mask != TOMBSTONE && codec.equals(page, offsetOf(index), getPrimaryIndex(), key)) {
+				probes.record(i + 1);
+				return index;
+			}
+
+			index = Probing.probe(home, i + 1, capacity);
+		}
+		probes.record(capacity);
+		return -1;
+	}
+
+	private void maintain() {
+		if (size >= capacity * LOAD_FACTOR) {
+			resizes++;
+			rebuild(Probing.nextPrime(capacity * 2));
+		}
+		else if (size + contaminations >= capacity * CONTAMINATION_FACTOR) {
+			compactions++;
+			rebuild(capacity);
+		}
+	}
+
+	/**
+	 * Rebuilds the file structure at the same
+	 * capacity without the tombstones.
+	 *
+	 * @return the number of tombstones removed.
+	 */
+	@Override
+	public int compact() {
+		int removed = contaminations;
+		compactions++;
+		rebuild(capacity);
+		return removed;
+	}
+
+	/*
+	 * Copies every record into a new file with the given
+	 * capacity through the spare pool, then replaces the
+	 * file with it, and keeps the old pool as the spare.
+	 * Slots of the new file start as zeros, which are
+	 * empty, so only the rows are written.
+	 */
+	private void rebuild(int newCapacity) {
+		Path rebuiltPath = path.resolveSibling(path.getFileName() + ".tmp");
+		int oldCapacity = capacity;
+		BufferPool oldPool = pool;
+		FileChannel oldChannel = channel;
+
+		try {
+			channel = FileChannel.open(rebuiltPath, CREATE, READ, WRITE, TRUNCATE_EXISTING);
+			if (spare == null)
+				spare = new BufferPool(channel, PAGE_SIZE, frameCount);
+			else
+				spare.attach(channel);
+			pool = spare;
+			capacity = newCapacity;
+			contaminations = 0;
+			writeHeader();
+
+			for (int index = 0; index < oldCapacity; index++) {
+				ByteBuffer oldPage = oldPool.read(pageOf(index));
+				short mask = oldPage.getShort(offsetOf(index));
+				if (mask == 0 || mask == TOMBSTONE)
+					continue;
+
+				Object key = codec.decode(oldPage, offsetOf(index), getPrimaryIndex());
+				int slot = freeSlot(key);
+				pool.write(pageOf(slot)).put(offsetOf(slot), oldPage, offsetOf(index), recordWidth);
+			}
+			pool.flush();
+
+			oldChannel.close();
+			Files.move(rebuiltPath, path, REPLACE_EXISTING);
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+
+		oldPool.discard();
+		spare = oldPool;
+	}
+
+	/*
+	 * Returns the first empty slot in the probe sequence
+	 * of a key which is not in the table, during a rebuild.
+	 */
+	private int freeSlot(Object key) {
+		int home = Probing.home(Probing.hash(key), capacity);
+		int index = home;
+		for (int i = 0; i < capacity; i++) {
+			if (pool.read(pageOf(index)).getShort(offsetOf(index)) == 0)
+				return index;
+			index = Probing.probe(home, i + 1, capacity);
+		}
+		throw new IllegalStateException("No free slot for key <%s>".formatted(key));
+	}
+
+	/**
+	 * Writes every modified page back to the
+	 * file and forces it to the device.
+	 */
+	public void flush() {
+		pool.flush();
+	}
+
+	private long pageOf(int index) {
+		return 1 + index / recordsPerPage;
+	}
+
+	private int offsetOf(int index) {
+		return index % recordsPerPage * recordWidth;
+	}
+
+	private List<Object> read(ByteBuffer page, int base) {
+		Object[] fields = new Object[codec.columns()];
+		for (int i = 0; i < fields.length; i++)
+			fields[i] = codec.decode(page, base, i);
+		return Arrays.asList(fields);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns the statistics of the table, where the
+	 * bytes used are the length of the file, including
+	 * modified pages not yet written back.
+	 *
+	 * @return the statistics.
+	 */
+	@Override
+	public TableStats stats() {
+		long bytesUsed = (pageOf(capacity - 1) + 1) * PAGE_SIZE;
+		return TableStats.of(this, contaminations, probes, resizes, compactions, bytesUsed);
+	}
+
+	@Override
+	public Iterator<List<Object>> iterator() {
+		return new Iterator<>() {
+			int index = 0;
+
+			@Override
+			public boolean hasNext() {
+				while (index < capacity) {
+					short mask = pool.read(pageOf(index)).getShort(offsetOf(index));
+					if (mask != 0 && mask != TOMBSTONE)
+						return true;
+					index++;
+				}
+				return false;
+			}
+
+			@Override
+			public List<Object> next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				List<Object> row = read(pool.read(pageOf(index)), offsetOf(index));
+				index++;
+				return row;
+			}
+		};
+	}
+}
@@ -0,0 +1,119 @@
+package tables;
+
+import java.util.Arrays;
+
+/**
+ * Counts how many slots each operation
+ * on a hash-based table had to probe.
+ * <p>
+ * Probe lengths up to {@link #LIMIT} are counted
+ * exactly, and longer ones share the last bucket;
+ * the mean and maximum are always exact.
+ */
+public class ProbeHistogram {
+	public static final int LIMIT = 64;
+
+	private final long[] counts = new long[LIMIT + 1];
+	private long operations;
+	private long probes;
+	private int max;
+
+	/**
+	 * Records one operation which probed
+	 * the given number of slots.
+	 *
+	 * @param length a non-negative probe length.
+	 */
+	public void record(int length) {
+		counts[Math.min(length, LIMIT)]++;
+		operations++;
+		probes += length;
+		if (length > max) {
+			max = length;
+		}
+	}
+
+	/**
+	 * Returns the number of operations which probed
+	 * the given number of slots, or for the limit,
+	 * at least that many slots.
+	 *
+	 * @param length a probe length from 0 to the limit.
+	 * @return the operation count.
+	 */
+	public long count(int length) {
+		return counts[length];
+	}
+
+	/**
+	 * Returns the number of recorded operations.
+	 *
+	 * @return the operation count.
+	 */
+	public long operations() {
+		return operations;
+	}
+
+	/**
+	 * Returns the mean probe length,
+	 * or 0 if nothing is recorded.
+	 *
+	 * @return the mean probe length.
+	 */
+	public double mean() {
+		return operations == 0 ? 0 : (double) probes / operations;
+	}
+
+	/**
+	 * Returns the longest recorded probe length,
+	 * or 0 if nothing is recorded.
+	 *
+	 * @return the maximum probe length.
+	 */
+	public int max() {
+		return max;
+	}
+
+	/**
+	 * Returns the shortest probe length at least the
+	 * given fraction of operations did not exceed, or the
+	 * maximum if that length is beyond the limit, or 0
+	 * if nothing is recorded.
+	 *
+	 * @param fraction a fraction from 0 to 1.
+	 * @return the percentile probe length.
+	 */
+	public int percentile(double fraction) {
+		long rank = Math.max(1, (long) Math.ceil(fraction * operations));
+		long seen = 0;
+		for (int length = 0; length < LIMIT; length++) {
+			seen += counts[length];
+			if (seen >= rank) {
+				return length;
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Forgets every recorded operation.
+	 */
+	public void reset() {
+		Arrays.fill(counts, 0);
+		operations = 0;
+		probes = 0;
+		max = 0;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("ProbeHistogram[operations=%d, mean=%.3f, max=%d".formatted(operations, mean(), max));
+		for (int length = 0; length <= LIMIT; length++) {
+			if (counts[length] > 0) {
+				sb.append(", %s%d=%d".formatted(length == LIMIT ? ">=" : "", length, counts[length]));
+			}
+		}
+		return sb.append("]").toString();
+	}
+}
@@ -0,0 +1,108 @@
+package tables;
+
+/**
+ * Computes the hashes and probe sequences
+ * shared by the hash-based tables.
+ * <p>
+ * Collisions are resolved by alternating quadratic
+ * probing: attempt <code>i</code> visits the home slot
+ * offset by <code>+1, -1, +4, -4, +9, -9, ...</code>.
+ * When the capacity is a prime congruent to 3 mod 4,
+ * the first <code>capacity</code> attempts visit every
+ * slot exactly once, so a probe only fails to find a
+ * free slot when the table is full.
+ */
+final class Probing {
+	private Probing() {
+	}
+
+	/**
+	 * Returns a well-mixed hash of the given key.
+	 * <p>
+	 * The key's own hash code is put through the
+	 * MurmurHash3 finalizer so that sequential integers
+	 * and similar strings spread across the table. The
+	 * result depends only on the key's value, so it is
+	 * stable across runs for tables stored in files.
+	 *
+	 * @param key a non-null key.
+	 * @return the mixed hash.
+	 */
+	static int hash(Object key) {
+		return mix(key.hashCode());
+	}
+
+	/**
+	 * Returns a well-mixed hash of the given integer key.
+	 * It is equal to {@link #hash(Object)} of the boxed key.
+	 *
+	 * @param key a key.
+	 * @return the mixed hash.
+	 */
+	static int hash(int key) {
+		return mix(key);
+	}
+
+	/**
+	 * Returns the home slot of the given hash.
+	 *
+	 * @param hash a mixed hash.
+	 * @param capacity the number of slots.
+	 * @return a slot from 0 to capacity - 1.
+	 */
+	static int home(int hash, int capacity) {
+		return Math.floorMod(hash, capacity);
+	}
+
+	/**
+	 * Returns the slot visited by the given attempt,
+	 * using only integer arithmetic.
+	 *
+	 * @param home the home slot, visited by attempt 0.
+	 * @param attempt an attempt from 0 to capacity - 1.
+	 * @param capacity the number of slots.
+	 * @return a slot from 0 to capacity - 1.
+	 */
+	static int probe(int home, int attempt, int capacity) {
+		long step = (attempt + 1) >>> 1;
+		long offset = step * step % capacity;
+		return (int) Math.floorMod((attempt & 1) == 1 ? home + offset : home - offset, (long) capacity);
+	}
+
+	/**
+	 * Returns the smallest prime congruent to 3 mod 4
+	 * which is at least the given minimum.
+	 *
+	 * @param minimum a lower bound.
+	 * @return a capacity with full probe coverage.
+	 */
+	static int nextPrime(int minimum) {
+		int candidate = Math.max(minimum, 3);
+		candidate += Math.floorMod(3 - candidate, 4);
+		while (!isPrime(candidate)) {
+			candidate += 4;
+		}
+		return candidate;
+	}
+
+	private static boolean isPrime(int n) {
+		if (n % 2 == 0 || n % 3 == 0) {
+			return n == 2 || n == 3;
+		}
+		for (long d = 5; d * d <= n; d += 6) {
+			if (n % d == 0 || n % (d + 2) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int mix(int h) {
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		h ^= h >>> 13;
+		h *= 0xc2b2ae35;
+		h ^= h >>> 16;
+		return h;
+	}
+}
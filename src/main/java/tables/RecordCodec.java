@@ -0,0 +1,385 @@
+package tables;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Encodes and decodes the fixed-width records
+ * of a file-based table, compiled once per schema.
+ * <p>
+ * A record starts with a 2-byte mask, where bit
+ * <code>i</code> is set if field <code>i</code> is
+ * not null, followed by each field at a fixed offset:
+ * a length byte and up to 127 bytes for a string,
+ * 4 bytes for an integer, and 1 byte for a boolean.
+ * The bytes of a null field are unspecified.
+ * <p>
+ * With a {@link StringHeap}, each string slot instead
+ * holds a 2-byte length and a fixed number of inline
+ * bytes. A string which fits is stored inline, and a
+ * longer string is appended to the heap and its slot
+ * holds the 8-byte heap offset, so that short strings
+ * no longer pay for the longest one.
+ * <p>
+ * Every method reads and writes at absolute offsets,
+ * so a codec never moves the position of a buffer.
+ */
+final class RecordCodec {
+	static final Charset STRING_ENCODING = StandardCharsets.UTF_8;
+
+	static final byte
+		STRING = 1,
+		INTEGER = 2,
+		BOOLEAN = 3;
+
+	static final int
+		MASK_BYTES = 2,
+		INLINE_BYTES = 127,
+		MIN_INLINE_BYTES = 8,
+		INTEGER_BYTES = 4,
+		BOOLEAN_BYTES = 1;
+
+	private final byte[] kinds;
+	private final int[] offsets;
+	private final int width;
+
+	/*
+	 * The string slot layout: the bytes of the length,
+	 * the bytes stored inline, and the longest string.
+	 * Without a heap, the heap is null.
+	 */
+	private final int lengthBytes;
+	private final int inline;
+	private final int maxStringBytes;
+	private final StringHeap heap;
+
+	/**
+	 * Compiles a codec for the given column types
+	 * which stores every string inline.
+	 *
+	 * @param columnTypes the column types.
+	 */
+	RecordCodec(List<String> columnTypes) {
+		this(columnTypes, INLINE_BYTES, null);
+	}
+
+	/**
+	 * Compiles a codec for the given column types which
+	 * stores strings longer than the given inline bytes
+	 * in the given heap.
+	 *
+	 * @param columnTypes the column types.
+	 * @param inline the inline bytes, from 8 to 127.
+	 * @param heap the heap, or null to store every string inline.
+	 */
+	RecordCodec(List<String> columnTypes, int inline, StringHeap heap) {
+		if (heap != null && (inline < MIN_INLINE_BYTES || inline > INLINE_BYTES))
+			throw new IllegalArgumentException("Inline bytes <%d> must be from %d to %d".formatted(inline, MIN_INLINE_BYTES, INLINE_BYTES));
+
+		this.heap = heap;
+		this.inline = heap != null ? inline : INLINE_BYTES;
+		this.lengthBytes = heap != null ? 2 : 1;
+		this.maxStringBytes = heap != null ? 0xFFFF : INLINE_BYTES;
+
+		kinds = new byte[columnTypes.size()];
+		offsets = new int[kinds.length];
+
+		int offset = MASK_BYTES;
+		for (int i = 0; i < kinds.length; i++) {
+			kinds[i] = kindOf(columnTypes.get(i));
+			offsets[i] = offset;
+			offset += switch (kinds[i]) {
+				case STRING -> lengthBytes + this.inline;
+				case INTEGER -> INTEGER_BYTES;
+				default -> BOOLEAN_BYTES;
+			};
+		}
+		width = offset;
+	}
+
+	/**
+	 * Returns the code stored for the given column type.
+	 *
+	 * @param type a column type.
+	 * @return the type code.
+	 */
+	static byte kindOf(String type) {
+		return switch (type) {
+			case "string" -> STRING;
+			case "integer" -> INTEGER;
+			case "boolean" -> BOOLEAN;
+			default -> throw new IllegalArgumentException("Column type <%s> must be string, integer, or boolean".formatted(type));
+		};
+	}
+
+	/**
+	 * Returns the column type for the given stored code.
+	 *
+	 * @param kind a type code.
+	 * @return the column type.
+	 */
+	static String typeOf(byte kind) {
+		return switch (kind) {
+			case STRING -> "string";
+			case INTEGER -> "integer";
+			case BOOLEAN -> "boolean";
+			default -> throw new IllegalStateException("Type code <%d> must be 1, 2, or 3".formatted(kind));
+		};
+	}
+
+	/**
+	 * Returns the number of bytes in a record.
+	 *
+	 * @return the record width.
+	 */
+	int width() {
+		return width;
+	}
+
+	/**
+	 * Returns the number of fields in a record.
+	 *
+	 * @return the column count.
+	 */
+	int columns() {
+		return kinds.length;
+	}
+
+	/**
+	 * Checks that the given row can be encoded.
+	 *
+	 * @param row a row.
+	 * @param primaryIndex the primary index.
+	 *
+	 * @throws IllegalArgumentException
+	 * if the row violates the schema.
+	 *
+	 * @throws NullPointerException
+	 * if the row contains a null key.
+	 */
+	void check(List<Object> row, int primaryIndex) {
+		if (row.size() != kinds.length)
+			throw new IllegalArgumentException("Row size <%d> must match column count <%d>".formatted(row.size(), kinds.length));
+
+		if (row.get(primaryIndex) == null)
+			throw new NullPointerException("Key field %d must not be null".formatted(primaryIndex));
+
+		for (int i = 0; i < kinds.length; i++) {
+			Object field = row.get(i);
+			if (field == null)
+				continue;
+
+			boolean valid = switch (kinds[i]) {
+				case STRING -> field instanceof String str && encodedLength(str) <= maxStringBytes;
+				case INTEGER -> field instanceof Integer;
+				default -> field instanceof Boolean;
+			};
+			if (!valid)
+				throw new IllegalArgumentException(
+					kinds[i] == STRING && field instanceof String
+						? "String field <%d> must be at most %d bytes".formatted(i, maxStringBytes)
+						: "Field <%d> must be a %s".formatted(i, typeOf(kinds[i]))
+				);
+		}
+	}
+
+	/**
+	 * Encodes the given row into the record at the given
+	 * offset, writing the mask after the fields.
+	 *
+	 * @param region a buffer of records.
+	 * @param base the offset of the record.
+	 * @param row a row which passes {@link #check}.
+	 */
+	void encode(ByteBuffer region, int base, List<Object> row) {
+		int mask = 0;
+		for (int i = 0; i < kinds.length; i++) {
+			Object field = row.get(i);
+			if (field == null)
+				continue;
+
+			mask |= 1 << i;
+			int at = base + offsets[i];
+			switch (kinds[i]) {
+				case STRING -> encodeString(region, at, (String) field);
+				case INTEGER -> region.putInt(at, (Integer) field);
+				default -> region.put(at, (Boolean) field ? (byte) 1 : (byte) 0);
+			}
+		}
+		region.putShort(base, (short) mask);
+	}
+
+	/**
+	 * Decodes one field of the record at the given offset.
+	 *
+	 * @param region a buffer of records.
+	 * @param base the offset of the record.
+	 * @param column a column index.
+	 * @return the field, which may be null.
+	 */
+	Object decode(ByteBuffer region, int base, int column) {
+		if ((region.getShort(base) & (1 << column)) == 0)
+			return null;
+
+		int at = base + offsets[column];
+		return switch (kinds[column]) {
+			case STRING -> decodeString(region, at);
+			case INTEGER -> region.getInt(at);
+			default -> region.get(at) == 1;
+		};
+	}
+
+	/**
+	 * Returns whether the given field of the record at the
+	 * given offset equals the given non-null key, comparing
+	 * the encoded field in place so that nothing is allocated
+	 * for integer, boolean, and ASCII string keys.
+	 *
+	 * @param region a buffer of records.
+	 * @param base the offset of the record.
+	 * @param column a column index.
+	 * @param key a key.
+	 * @return whether the field equals the key.
+	 */
+	boolean equals(ByteBuffer region, int base, int column, Object key) {
+		if ((region.getShort(base) & (1 << column)) == 0)
+			return false;
+
+		int at = base + offsets[column];
+		switch (kinds[column]) {
+			case INTEGER:
+				return key instanceof Integer intKey && region.getInt(at) == intKey;
+			case BOOLEAN:
+				return key instanceof Boolean boolKey && (region.get(at) == 1) == boolKey;
+			default:
+				if (!(key instanceof String strKey))
+					return false;
+
+				int length = stringLength(region, at);
+				if (length > inline)
+					return strKey.length() <= length && strKey.equals(decodeString(region, at));
+
+				for (int i = 0; i < strKey.length(); i++) {
+					char c = strKey.charAt(i);
+					if (c >= 0x80)
+						return strKey.equals(decodeString(region, at));
+					if (i >= length || region.get(at + lengthBytes + i) != (byte) c)
+						return false;
+				}
+				return length == strKey.length();
+		}
+	}
+
+	/**
+	 * Appends each string of the record at the given offset
+	 * which is stored in this codec's heap to the given heap,
+	 * in column order, without changing the record.
+	 *
+	 * @param region a buffer of records.
+	 * @param base the offset of the record.
+	 * @param target the heap to copy into.
+	 */
+	void copyStrings(ByteBuffer region, int base, StringHeap target) {
+		int mask = region.getShort(base);
+		for (int i = 0; i < kinds.length; i++) {
+			if (kinds[i] != STRING || (mask & (1 << i)) == 0)
+				continue;
+
+			int at = base + offsets[i];
+			int length = stringLength(region, at);
+			if (length > inline)
+				target.append(heap.read(region.getLong(at + lengthBytes), length));
+		}
+	}
+
+	/**
+	 * Returns the bytes which the strings of the record at
+	 * the given offset occupy in this codec's heap.
+	 *
+	 * @param region a buffer of records.
+	 * @param base the offset of the record.
+	 * @return the bytes in the heap.
+	 */
+	long heapBytes(ByteBuffer region, int base) {
+		return heap != null ? relocate(region, base, 0, false) : 0;
+	}
+
+	/**
+	 * Points each string of the record at the given offset
+	 * which is stored in a heap at consecutive offsets from
+	 * the given one, in the order {@link #copyStrings} appends
+	 * them. The pointers depend only on the string lengths,
+	 * so relocating a record again gives the same result.
+	 *
+	 * @param region a buffer of records.
+	 * @param base the offset of the record.
+	 * @param offset the offset of its first string in the heap.
+	 * @return the offset after its last string.
+	 */
+	long relocate(ByteBuffer region, int base, long offset) {
+		return relocate(region, base, offset, true);
+	}
+
+	private long relocate(ByteBuffer region, int base, long offset, boolean write) {
+		int mask = region.getShort(base);
+		for (int i = 0; i < kinds.length; i++) {
+			if (kinds[i] != STRING || (mask & (1 << i)) == 0)
+				continue;
+
+			int at = base + offsets[i];
+			int length = stringLength(region, at);
+			if (length > inline) {
+				if (write)
+					region.putLong(at + lengthBytes, offset);
+				offset += length;
+			}
+		}
+		return offset;
+	}
+
+	private void encodeString(ByteBuffer region, int at, String str) {
+		byte[] chars = str.getBytes(STRING_ENCODING);
+		if (heap == null)
+			region.put(at, (byte) chars.length);
+		else
+			region.putShort(at, (short) chars.length);
+
+		if (chars.length <= inline)
+			region.put(at + lengthBytes, chars);
+		else
+			region.putLong(at + lengthBytes, heap.append(chars));
+	}
+
+	private String decodeString(ByteBuffer region, int at) {
+		int length = stringLength(region, at);
+		byte[] chars;
+		if (length <= inline) {
+			chars = new byte[length];
+			region.get(at + lengthBytes, chars);
+		}
+		else {
+			chars = heap.read(region.getLong(at + lengthBytes), length);
+		}
+		return new String(chars, STRING_ENCODING);
+	}
+
+	private int stringLength(ByteBuffer region, int at) {
+		return heap == null ? region.get(at) : Short.toUnsignedInt(region.getShort(at));
+	}
+
+	private static int encodedLength(String str) {
+		int length = 0;
+		for (int i = 0; i < str.length(); i++) {
+			char c = str.charAt(i);
+			if (c < 0x80)
+				length += 1;
+			else if (c < 0x800 || Character.isSurrogate(c))
+				length += 2;
+			else
+				length += 3;
+		}
+		return length;
+	}
+}
@@ -0,0 +1,48 @@
+package tables;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Orders rows and keys by the natural
+ * ordering of the key, where a row is
+ * represented by its primary field.
+ * <p>
+ * This is the ordering shared by the
+ * search-based tables.
+ */
+class RowKeyComparator implements Comparator<Object> {
+	private final int primaryIndex;
+
+	/*
+	 * The number of comparisons made so far,
+	 * for measuring the length of each search.
+	 */
+	int comparisons;
+
+	/**
+	 * Creates a comparator for rows
+	 * with the given primary index.
+	 *
+	 * @param primaryIndex the primary index.
+	 */
+	RowKeyComparator(int primaryIndex) {
+		this.primaryIndex = primaryIndex;
+	}
+
+	@Override
+	public int compare(Object o1, Object o2) {
+		comparisons++;
+		return keyOf(o1).compareTo(keyOf(o2)); 
+	}
+	
+	@SuppressWarnings("unchecked")
+	private Comparable<Object> keyOf(Object obj){
+		if (obj instanceof List<?> row) {
+			return (Comparable<Object>) row.get(primaryIndex); 
+		}
+		else {
+			return (Comparable<Object>) obj; 
+		}
+	}
+}
@@ -1,7 +1,6 @@
 package tables;
 
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -12,6 +11,8 @@ import java.util.List;
  */
 public class SearchTable extends Table {
 	private List<List<Object>> list;
+	private RowKeyComparator comparator;
+	private ProbeHistogram probes;
 
 	/**
 	 * Creates a table and initializes
@@ -29,25 +30,8 @@ public class SearchTable extends Table {
 		setPrimaryIndex(primaryIndex);
 
 		list = new LinkedList<>();
-	}
-
-	
-	private class RowKeyComparator implements Comparator<Object> {
-
-		@Override
-		public int compare(Object o1, Object o2) {
-			return keyOf(o1).compareTo(keyOf(o2)); 
-		}
-		
-		@SuppressWarnings("unchecked")
-		private Comparable<Object> keyOf(Object obj){
-			if (obj instanceof List<?> row) {
-				return (Comparable<Object>) row.get(getPrimaryIndex()); 
-			}
-			else {
-				return (Comparable<Object>) obj; 
-			}
-		}
+		comparator = new RowKeyComparator(primaryIndex);
+		probes = new ProbeHistogram();
 	}
 
 	@Override
@@ -57,7 +41,7 @@ public class SearchTable extends Table {
 
 	@Override
 	public boolean put(List<Object> row) {
-		int index = Collections.binarySearch(list, row, new RowKeyComparator()); 
+		int index = search(row); 
 		
 		if(index >= 0) {
 			list.set(index, row);
@@ -106,7 +90,7 @@ public class SearchTable extends Table {
 
 	@Override
 	public boolean remove(Object key) {
-		int index = Collections.binarySearch(list, key, new RowKeyComparator()); 
+		int index = search(key); 
 		
 		if(index >= 0) {
 			list.remove(index);
@@ -119,7 +103,7 @@ public class SearchTable extends Table {
 
 	@Override
 	public List<Object> get(Object key) {
-		int index = Collections.binarySearch(list, key, new RowKeyComparator()); 
+		int index = search(key); 
 		
 		if(index >= 0) {
 			return list.get(index);
@@ -145,6 +129,30 @@ public class SearchTable extends Table {
 	public int capacity() {
 		return size();
 	}
+
+	/**
+	 * Returns the statistics of the table, where the probe
+	 * lengths are the number of keys each search compared,
+	 * and the bytes used are those of the list nodes,
+	 * assuming compressed references, and not of the rows.
+	 *
+	 * @return the statistics.
+	 */
+	@Override
+	public TableStats stats() {
+		return TableStats.of(this, 0, probes, 0, 0, (long) list.size() * 24);
+	}
+
+	/*
+	 * Binary searches the list for the given row or key,
+	 * recording how many keys were compared.
+	 */
+	private int search(Object rowOrKey) {
+		int before = comparator.comparisons;
+		int index = Collections.binarySearch(list, rowOrKey, comparator);
+		probes.record(comparator.comparisons - before);
+		return index;
+	}
 	
 	public static int hash(String key) { //
 		if (key instanceof String) {
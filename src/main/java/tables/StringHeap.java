@@ -0,0 +1,162 @@
+package tables;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Implements an append-only file of the strings
+ * too long to store inline in a file-based table.
+ * <p>
+ * Each string is addressed by its offset in the file
+ * and its length, which the record stores in its slot.
+ * Overwritten strings remain in the file as garbage
+ * until it is rewritten by {@link #replaceWith(Path)}.
+ */
+final class StringHeap {
+	private final Path path;
+	private FileChannel channel;
+	private long end;
+
+	/**
+	 * Opens the heap file at the given path,
+	 * creating it if it does not exist.
+	 *
+	 * @param path the path of the heap file.
+	 * @param truncate whether to discard existing strings.
+	 */
+	StringHeap(Path path, boolean truncate) {
+		this.path = path;
+		try {
+			Files.createDirectories(path.getParent());
+			channel = truncate
+				? FileChannel.open(path, CREATE, READ, WRITE, TRUNCATE_EXISTING)
+				: FileChannel.open(path, CREATE, READ, WRITE);
+			end = channel.size();
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Appends the given encoded string.
+	 *
+	 * @param bytes the encoded string.
+	 * @return the offset of the string.
+	 */
+	long append(byte[] bytes) {
+		long offset = end;
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			while (buffer.hasRemaining())
+				channel.write(buffer, offset + buffer.position());
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		end += bytes.length;
+		return offset;
+	}
+
+	/**
+	 * Reads the encoded string at the given offset.
+	 *
+	 * @param offset the offset of the string.
+	 * @param length the length of the string.
+	 * @return the encoded string.
+	 */
+	byte[] read(long offset, int length) {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		try {
+			while (buffer.hasRemaining())
+				if (channel.read(buffer, offset + buffer.position()) < 0)
+					throw new IllegalStateException("String at offset <%d> is past the end of the heap".formatted(offset));
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return buffer.array();
+	}
+
+	/**
+	 * Returns the length of the heap file in bytes.
+	 *
+	 * @return the heap size.
+	 */
+	long size() {
+		return end;
+	}
+
+	/**
+	 * Forces every appended string to the device.
+	 */
+	void force() {
+		try {
+			channel.force(false);
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Discards every string.
+	 */
+	void clear() {
+		try {
+			channel.truncate(0);
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		end = 0;
+	}
+
+	/**
+	 * Replaces the file of this heap with the given file,
+	 * which holds only the live strings, in one atomic move.
+	 *
+	 * @param other the path of the replacement file.
+	 */
+	void replaceWith(Path other) {
+		try {
+			channel.close();
+			Files.move(other, path, ATOMIC_MOVE);
+			channel = FileChannel.open(path, READ, WRITE);
+			end = channel.size();
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Closes the file.
+	 */
+	void close() {
+		try {
+			channel.close();
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Returns the path of the heap file.
+	 *
+	 * @return the path.
+	 */
+	Path path() {
+		return path;
+	}
+}
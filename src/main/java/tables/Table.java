@@ -1,5 +1,6 @@
 package tables;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -142,17 +143,93 @@ public abstract class Table implements Iterable<List<Object>> {
 	 */
 	public abstract boolean put(List<Object> row);
 
+	/**
+	 * On a hit, leaves the state unchanged,
+	 * then returns <code>true</code>.
+	 * <p>
+	 * On a miss, creates the given row in the state,
+	 * then returns <code>false</code>.
+	 * <p>
+	 * By default, finds the key and then puts the row,
+	 * but an implementation may do both in one probe.
+	 *
+	 * @param row a row.
+	 * @return whether the operation was a hit.
+	 *
+	 * @throws IllegalArgumentException
+	 * if the row violates the schema.
+	 *
+	 * @throws NullPointerException
+	 * if the row contains a null key.
+	 */
+	public boolean putIfAbsent(List<Object> row) {
+		if (contains(row.get(getPrimaryIndex())))
+			return true;
+
+		put(row);
+		return false;
+	}
+
 	/**
 	 * Tries to {@link #put(List)} each row
-	 * from the given iterable of rows.
+	 * from the given iterable of rows,
+	 * first ensuring capacity for them
+	 * all if it is a collection.
 	 *
 	 * @param rows an iterable of rows.
 	 */
 	public void putAll(Iterable<List<Object>> rows) {
+		if (rows instanceof Collection<?> collection)
+			ensureCapacity(size() + collection.size());
+
 		for (List<Object> row: rows)
 			put(row);
 	}
 
+	/**
+	 * Tries to {@link #putIfAbsent(List)} each row from
+	 * the given list of rows, first ensuring capacity
+	 * for them all.
+	 * <p>
+	 * If any row is a hit, including on a key repeated
+	 * in the list, removes the rows created so far,
+	 * then returns <code>false</code>. Otherwise,
+	 * returns <code>true</code>.
+	 *
+	 * @param rows a list of rows.
+	 * @return whether every row was created.
+	 *
+	 * @throws IllegalArgumentException
+	 * if a row violates the schema.
+	 *
+	 * @throws NullPointerException
+	 * if a row contains a null key.
+	 */
+	public boolean putAllIfAbsent(List<List<Object>> rows) {
+		ensureCapacity(size() + rows.size());
+
+		for (int i = 0; i < rows.size(); i++) {
+			if (putIfAbsent(rows.get(i))) {
+				for (int j = 0; j < i; j++)
+					remove(rows.get(j).get(getPrimaryIndex()));
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Prepares the state to hold at least the given
+	 * number of rows without growing, so that a bulk
+	 * load grows it at most once.
+	 * <p>
+	 * By default, does nothing.
+	 *
+	 * @param rows the number of rows.
+	 */
+	public void ensureCapacity(int rows) {
+	}
+
 	/**
 	 * On a hit, removes the corresponding row
 	 * from the state, then returns <code>true</code>.
@@ -225,6 +302,33 @@ public abstract class Table implements Iterable<List<Object>> {
 		return (double) size() / (double) capacity();
 	}
 
+	/**
+	 * Rebuilds the data/file structure without the
+	 * tombstones left behind by removed rows, so that
+	 * probe sequences return to their length from
+	 * before the removals.
+	 * <p>
+	 * A structure without tombstones is unchanged.
+	 *
+	 * @return the number of tombstones removed.
+	 */
+	public int compact() {
+		return 0;
+	}
+
+	/**
+	 * Returns the current statistics of the table,
+	 * such as its probe lengths and tombstones.
+	 * <p>
+	 * By default, only the size and capacity
+	 * are reported.
+	 *
+	 * @return the statistics.
+	 */
+	public TableStats stats() {
+		return TableStats.of(this, 0, null, 0, 0, 0);
+	}
+
 	/**
 	 * Returns a string representation of this table,
 	 * including its schema and state.
@@ -0,0 +1,80 @@
+package tables;
+
+/**
+ * Captures the statistics of a table at one moment,
+ * to explain how its operations perform over time.
+ * <p>
+ * The probe lengths count the slots a hash-based table
+ * examined, or the keys a search-based table compared,
+ * for each operation since the table was created,
+ * opened, or cleared. Structures without probes or
+ * tombstones report zeros for them.
+ *
+ * @param size the number of rows.
+ * @param capacity the capacity.
+ * @param tombstones the number of tombstones.
+ * @param averageProbeLength the mean probe length.
+ * @param p99ProbeLength the 99th percentile probe length.
+ * @param maxProbeLength the longest probe length.
+ * @param resizes the number of times the structure grew.
+ * @param compactions the number of times the structure
+ * 		was rebuilt at the same capacity.
+ * @param bytesUsed the bytes used by the structure.
+ */
+public record TableStats(
+	int size,
+	int capacity,
+	int tombstones,
+	double averageProbeLength,
+	int p99ProbeLength,
+	int maxProbeLength,
+	int resizes,
+	int compactions,
+	long bytesUsed
+) {
+	/**
+	 * Returns the statistics of the given table
+	 * with the given probe lengths.
+	 *
+	 * @param table a table.
+	 * @param tombstones the number of tombstones.
+	 * @param probes the probe lengths, or null if none.
+	 * @param resizes the number of resizes.
+	 * @param compactions the number of compactions.
+	 * @param bytesUsed the bytes used by the structure.
+	 * @return the statistics.
+	 */
+	static TableStats of(Table table, int tombstones, ProbeHistogram probes, int resizes, int compactions, long bytesUsed) {
+		return new TableStats(
+			table.size(),
+			table.capacity(),
+			tombstones,
+			probes == null ? 0 : probes.mean(),
+			probes == null ? 0 : probes.percentile(.99),
+			probes == null ? 0 : probes.max(),
+			resizes,
+			compactions,
+			bytesUsed
+		);
+	}
+
+	/**
+	 * Returns the load factor, which is
+	 * the size divided by the capacity.
+	 *
+	 * @return the load factor.
+	 */
+	public double loadFactor() {
+		return capacity == 0 ? 0 : (double) size / capacity;
+	}
+
+	/**
+	 * Returns the tombstone ratio, which is
+	 * the tombstones divided by the capacity.
+	 *
+	 * @return the tombstone ratio.
+	 */
+	public double tombstoneRatio() {
+		return capacity == 0 ? 0 : (double) tombstones / capacity;
+	}
+}
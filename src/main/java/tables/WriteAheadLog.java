@@ -0,0 +1,340 @@
+package tables;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Implements an append-only log of the operations
+ * on a file-based table since its last checkpoint.
+ * <p>
+ * Each entry is written to the file as soon as it is
+ * appended, so it survives the process, and entries
+ * are forced to the device in groups, so that one
+ * force commits many operations. An entry is a length,
+ * a CRC-32 checksum, an operation code, and the row
+ * or key of the operation, with each field encoded as
+ * a presence byte followed by its value.
+ * <p>
+ * Replay stops at the first incomplete or corrupt
+ * entry, which marks the end of the log after a crash.
+ * <p>
+ * Entries are appended by one thread, but the log
+ * may be committed from another.
+ */
+final class WriteAheadLog {
+	private static final byte
+		PUT = 1,
+		REMOVE = 2,
+		CLEAR = 3;
+
+	private static final int
+		LENGTH_BYTES = 4,
+		CHECKSUM_BYTES = 4,
+		ENTRY_HEADER_BYTES = LENGTH_BYTES + CHECKSUM_BYTES;
+
+	/**
+	 * The number of entries forced together by default.
+	 */
+	static final int GROUP_SIZE = 64;
+
+	private final Path path;
+	private final byte[] kinds;
+	private final int primaryIndex;
+	private final FileChannel channel;
+	private final CRC32 checksum = new CRC32();
+
+	private ByteBuffer entry = ByteBuffer.allocate(1024);
+	private long end;
+	private int unforced;
+	private int groupSize = GROUP_SIZE;
+
+	/**
+	 * Opens the log at the given path,
+	 * creating it if it does not exist.
+	 *
+	 * @param path the path of the log file.
+	 * @param columnTypes the column types.
+	 * @param primaryIndex the primary index.
+	 * @param truncate whether to discard existing entries.
+	 */
+	WriteAheadLog(Path path, List<String> columnTypes, int primaryIndex, boolean truncate) {
+		this.path = path;
+		this.primaryIndex = primaryIndex;
+
+		kinds = new byte[columnTypes.size()];
+		for (int i = 0; i < kinds.length; i++)
+			kinds[i] = RecordCodec.kindOf(columnTypes.get(i));
+
+		try {
+			Files.createDirectories(path.getParent());
+			channel = truncate
+				? FileChannel.open(path, CREATE, READ, WRITE, TRUNCATE_EXISTING)
+				: FileChannel.open(path, CREATE, READ, WRITE);
+			end = channel.size();
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Appends a put of the given row.
+	 *
+	 * @param row a valid row.
+	 */
+	void logPut(List<Object> row) {
+		begin(PUT);
+		for (int i = 0; i < kinds.length; i++)
+			encode(kinds[i], row.get(i));
+		append();
+	}
+
+	/**
+	 * Appends a remove of the given key.
+	 *
+	 * @param key a key.
+	 */
+	void logRemove(Object key) {
+		begin(REMOVE);
+		encode(kinds[primaryIndex], key);
+		append();
+	}
+
+	/**
+	 * Appends a clear.
+	 */
+	void logClear() {
+		begin(CLEAR);
+		append();
+	}
+
+	/**
+	 * Sets the number of entries forced together,
+	 * or 0 to force only by {@link #commit()}.
+	 *
+	 * @param groupSize the group size.
+	 */
+	void setGroupSize(int groupSize) {
+		this.groupSize = groupSize;
+	}
+
+	/**
+	 * Forces every entry appended so far to the device.
+	 */
+	synchronized void commit() {
+		if (unforced == 0 || !channel.isOpen())
+			return;
+
+		try {
+			channel.force(false);
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		unforced = 0;
+	}
+
+	/**
+	 * Returns the length of the log in bytes.
+	 *
+	 * @return the log size.
+	 */
+	long size() {
+		return end;
+	}
+
+	/**
+	 * Closes the file.
+	 */
+	synchronized void close() {
+		try {
+			channel.close();
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Returns the path of the log file.
+	 *
+	 * @return the path.
+	 */
+	Path path() {
+		return path;
+	}
+
+	/**
+	 * Discards every entry, after a checkpoint
+	 * has made their effects durable.
+	 */
+	synchronized void truncate() {
+		try {
+			channel.truncate(0);
+			channel.force(false);
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		end = 0;
+		unforced = 0;
+	}
+
+	/**
+	 * Passes each complete entry in order to the given
+	 * operations, then truncates any incomplete or
+	 * corrupt entries at the end of the log.
+	 *
+	 * @param put the operation for a put of a row.
+	 * @param remove the operation for a remove of a key.
+	 * @param clear the operation for a clear.
+	 * @return the number of entries replayed.
+	 */
+	int replay(Consumer<List<Object>> put, Consumer<Object> remove, Runnable clear) {
+		ByteBuffer header = ByteBuffer.allocate(ENTRY_HEADER_BYTES);
+		long position = 0;
+		int replayed = 0;
+		try {
+			while (position + ENTRY_HEADER_BYTES <= end) {
+				header.clear();
+				readFully(header, position);
+				int length = header.getInt(0);
+				int expected = header.getInt(LENGTH_BYTES);
+				if (length < 1 || position + ENTRY_HEADER_BYTES + length > end)
+					break;
+
+				ByteBuffer body = ByteBuffer.allocate(length);
+				readFully(body, position + ENTRY_HEADER_BYTES);
+				checksum.reset();
+				checksum.update(body.array(), 0, length);
+				if ((int) checksum.getValue() != expected)
+					break;
+
+				body.position(1);
+				switch (body.get(0)) {
+					case PUT -> {
+						Object[] fields = new Object[kinds.length];
+						for (int i = 0; i < kinds.length; i++)
+							fields[i] = decode(kinds[i], body);
+						put.accept(Arrays.asList(fields));
+					}
+					case REMOVE -> remove.accept(decode(kinds[primaryIndex], body));
+					case CLEAR -> clear.run();
+					default -> throw new IllegalStateException("Log entry at <%d> has unknown operation".formatted(position));
+				}
+
+				position += ENTRY_HEADER_BYTES + length;
+				replayed++;
+			}
+
+			if (position < end) {
+				channel.truncate(position);
+				end = position;
+			}
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return replayed;
+	}
+
+	private void begin(byte operation) {
+		entry.clear();
+		entry.position(ENTRY_HEADER_BYTES);
+		entry.put(operation);
+	}
+
+	private synchronized void append() {
+		int length = entry.position() - ENTRY_HEADER_BYTES;
+		checksum.reset();
+		checksum.update(entry.array(), ENTRY_HEADER_BYTES, length);
+		entry.putInt(0, length);
+		entry.putInt(LENGTH_BYTES, (int) checksum.getValue());
+		entry.flip();
+
+		try {
+			while (entry.hasRemaining())
+				channel.write(entry, end + entry.position());
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		end += entry.limit();
+
+		unforced++;
+		if (groupSize > 0 && unforced >= groupSize)
+			commit();
+	}
+
+	private void encode(byte kind, Object field) {
+		if (field == null) {
+			reserve(1);
+			entry.put((byte) 0);
+			return;
+		}
+
+		switch (kind) {
+			case RecordCodec.STRING -> {
+				byte[] chars = ((String) field).getBytes(StandardCharsets.UTF_8);
+				reserve(1 + 4 + chars.length);
+				entry.put((byte) 1);
+				entry.putInt(chars.length);
+				entry.put(chars);
+			}
+			case RecordCodec.INTEGER -> {
+				reserve(1 + 4);
+				entry.put((byte) 1);
+				entry.putInt((Integer) field);
+			}
+			default -> {
+				reserve(1 + 1);
+				entry.put((byte) 1);
+				entry.put((Boolean) field ? (byte) 1 : (byte) 0);
+			}
+		}
+	}
+
+	private static Object decode(byte kind, ByteBuffer body) {
+		if (body.get() == 0)
+			return null;
+
+		return switch (kind) {
+			case RecordCodec.STRING -> {
+				byte[] chars = new byte[body.getInt()];
+				body.get(chars);
+				yield new String(chars, StandardCharsets.UTF_8);
+			}
+			case RecordCodec.INTEGER -> body.getInt();
+			default -> body.get() == 1;
+		};
+	}
+
+	private void reserve(int bytes) {
+		if (entry.remaining() < bytes) {
+			ByteBuffer larger = ByteBuffer.allocate(Math.max(entry.capacity() * 2, entry.position() + bytes));
+			entry.flip();
+			larger.put(entry);
+			entry = larger;
+		}
+	}
+
+	private void readFully(ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining())
+			if (channel.read(buffer, position + buffer.position()) < 0)
+				throw new IOException("Log ends before entry at <%d>".formatted(position));
+		buffer.flip();
+	}
+}
@@ -0,0 +1,210 @@
+package grade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import tables.BPlusTreeTable;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class BPlusTreeModule extends DFSModule {
+	@BeforeAll
+	public static void setup() {
+		module_tag = "BT";
+		calls_per_table = 6;
+		table_count = 1;
+	}
+
+	@TestFactory
+    @DisplayName("Prerequisites")
+    @Order(0)
+    public final Stream<DynamicTest> audits() throws IllegalAccessException {
+		return Stream.of(
+			dynamicTest("Constructor (4-ary)", () -> {
+				ungraded++;
+				try {
+					actualTable = firstTestConstructor(() -> {
+						return new BPlusTreeTable(
+							"bt_table00",
+							List.of("a", "b", "c"),
+							List.of("string", "integer", "boolean"),
+							0
+						);
+			        });
+				}
+				catch (Exception e) {
+					fail("Unexpected exception with 4-ary constructor", e);
+				}
+    		}),
+			dynamicTest("Forbidden Classes", () -> {
+				ungraded++;
+				if (actualTable == null)
+					fail("Depends on constructor prerequisite");
+
+				testForbiddenClasses(
+					actualTable,
+					BPlusTreeTable.class,
+					List.of(
+						"tables",
+						"java.lang",
+						"java.util.ImmutableCollections",
+						"java.util.LinkedList"
+					)
+				);
+    		})
+    	);
+    }
+
+	/*
+	 * Enough keys for a tree of several levels,
+	 * drawn from a range which makes some repeat.
+	 */
+	private static final int KEYS = 5000, KEY_RANGE = 20000;
+
+	private static BPlusTreeTable table;
+	private static NavigableMap<Object, List<Object>> expected;
+
+	@TestFactory
+	@DisplayName("Order and scan bt_table01 [i*, s] and bt_table02 [s*, i]")
+	@Order(1)
+	public final Stream<DynamicTest> orderAndRange() {
+		return Stream.of(
+			dynamicTest("Iterate in key order after puts", () -> {
+				table = new BPlusTreeTable("bt_table01", List.of(n(), n()), List.of("integer", "string"), 0);
+				expected = new TreeMap<>();
+				for (var i = 0; i < KEYS; i++) {
+					var key = RNG.nextInt(KEY_RANGE) - KEY_RANGE / 2;
+					var row = List.<Object>of(key, "row %d".formatted(i));
+					assertEquals(expected.put(key, row) != null, table.put(row), "Unexpected hit or miss for key <%d>".formatted(key));
+				}
+
+				assertOrdered();
+
+				passed++;
+			}),
+			dynamicTest("Iterate in key order after removes", () -> {
+				var keys = new ArrayList<>(expected.keySet());
+				for (var i = 0; i < keys.size(); i++) {
+					if (RNG.nextDouble() < 0.6) {
+						var key = keys.get(i);
+						expected.remove(key);
+						assertEquals(true, table.remove(key), "Expected to remove key <%s>".formatted(key));
+						assertNull(table.get(key), "Expected no row for removed key <%s>".formatted(key));
+					}
+				}
+				assertEquals(false, table.remove(KEY_RANGE), "Expected no key <%d>".formatted(KEY_RANGE));
+
+				assertOrdered();
+
+				passed++;
+			}),
+			dynamicTest("Scan bounded ranges", () -> {
+				for (var i = 0; i < 200; i++) {
+					var from = RNG.nextInt(KEY_RANGE) - KEY_RANGE / 2;
+					var to = RNG.nextInt(KEY_RANGE) - KEY_RANGE / 2;
+					assertRange(from, to);
+				}
+				var first = expected.firstKey();
+				assertRange(first, first);
+				assertRange(first, (Integer) first + 1);
+
+				passed++;
+			}),
+			dynamicTest("Scan unbounded ranges", () -> {
+				for (var i = 0; i < 50; i++) {
+					var bound = RNG.nextInt(KEY_RANGE) - KEY_RANGE / 2;
+					assertRange(null, bound);
+					assertRange(bound, null);
+				}
+				assertRange(null, null);
+
+				passed++;
+			}),
+			dynamicTest("Scan string keys in lexicographic order", () -> {
+				table = new BPlusTreeTable("bt_table02", List.of(n(), n()), List.of("string", "integer"), 0);
+				expected = new TreeMap<>();
+				for (var i = 0; i < KEYS; i++) {
+					var key = Integer.toString(RNG.nextInt(KEY_RANGE), 36);
+					var row = List.<Object>of(key, i);
+					expected.put(key, row);
+					table.put(row);
+				}
+
+				assertOrdered();
+				assertRange("a", "m");
+				assertRange("1", "2");
+				assertRange("m", "a");
+
+				passed++;
+			}),
+			dynamicTest("Miss keys of another type", () -> {
+				var size = table.size();
+				for (var key: List.<Object>of(1, true, 'a', 1.0)) {
+					assertNull(table.get(key), "Expected no row for key %s".formatted(key));
+					assertFalse(table.remove(key), "Expected no removal for key %s".formatted(key));
+				}
+				assertEquals(size, table.size(), "Unexpected size after missed removes");
+
+				passed++;
+			})
+		);
+	}
+
+	/*
+	 * Expects the size, each row by key,
+	 * and the iterator in key order.
+	 */
+	private static void assertOrdered() {
+		assertEquals(expected.size(), table.size(), "Unexpected size");
+		for (var entry: expected.entrySet())
+			assertEquals(entry.getValue(), table.get(entry.getKey()), "Unexpected row for key <%s>".formatted(entry.getKey()));
+		assertEquals(new ArrayList<>(expected.values()), list(table.iterator()), "Rows are out of key order");
+	}
+
+	/*
+	 * Expects the rows with keys from the lower bound
+	 * (inclusive) to the upper bound (exclusive), in key
+	 * order, where a null bound is unbounded, and
+	 * none if the bounds are out of order.
+	 */
+	@SuppressWarnings("unchecked")
+	private static void assertRange(Object from, Object to) {
+		NavigableMap<Object, List<Object>> sub = expected;
+		if (from != null && to != null && ((Comparable<Object>) from).compareTo(to) > 0)
+			sub = Collections.emptyNavigableMap();
+		else if (from != null)
+			sub = sub.tailMap(from, true);
+		if (to != null)
+			sub = sub.headMap(to, false);
+
+		assertEquals(
+			new ArrayList<>(sub.values()),
+			list(table.range(from, to)),
+			"Unexpected rows in range from <%s> to <%s>".formatted(from, to)
+		);
+	}
+
+	private static List<List<Object>> list(Iterator<List<Object>> iterator) {
+		var rows = new ArrayList<List<Object>>();
+		iterator.forEachRemaining(rows::add);
+		return rows;
+	}
+}
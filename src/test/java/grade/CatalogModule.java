@@ -0,0 +1,117 @@
+package grade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import apps.Database;
+import tables.HashFileTable;
+import tables.Table;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class CatalogModule extends DFSModule {
+	@BeforeAll
+	public static void setup() throws IOException {
+		module_tag = "CG";
+		calls_per_table = 3;
+		table_count = 1;
+
+		var dir = Paths.get("data", "Persistent");
+		if (Files.isDirectory(dir)) {
+			try (var files = Files.newDirectoryStream(dir, "cg_*")) {
+				for (var file: files)
+					Files.delete(file);
+			}
+		}
+	}
+
+	private static final int ROWS = 500;
+
+	private static final List<String> tableNames = List.of("cg_table01", "cg_table02");
+	private static final String staleName = "cg_stale";
+
+	private static Database db;
+
+	@TestFactory
+	@DisplayName("List stored tables without opening them")
+	@Order(1)
+	public final Stream<DynamicTest> showTables() {
+		return Stream.of(
+			dynamicTest("Count the rows of unopened tables", () -> {
+				for (var tableName: tableNames) {
+					var table = new HashFileTable(tableName, List.of(n(), n()), List.of("integer", "string"), 0);
+					for (var i = 0; i < ROWS; i++)
+						table.put(Arrays.asList(i, s()));
+					table.flush();
+					table.close();
+				}
+
+				db = new Database(true);
+				var result = (Table) db.interpret("SHOW TABLES");
+
+				for (var tableName: tableNames) {
+					assertEquals(Arrays.asList(tableName, 2, ROWS), result.get(tableName), "Unexpected row for %s".formatted(tableName));
+					assertOpened(tableName, false);
+				}
+
+				passed++;
+			}),
+			dynamicTest("Skip a file of another format", () -> {
+				Path file = Paths.get("data", "Persistent", "%s.bin".formatted(staleName));
+				var bytes = new byte[1024];
+				RNG.nextBytes(bytes);
+				Files.write(file, bytes);
+
+				var stale = new Database(true);
+				var result = (Table) stale.interpret("SHOW TABLES");
+
+				assertNull(result.get(staleName), "Expected no row for %s".formatted(staleName));
+				assertFalse(stale.exists(staleName), "Expected %s not to exist".formatted(staleName));
+				assertNull(stale.find(staleName), "Expected %s not to be found".formatted(staleName));
+				stale.close();
+
+				passed++;
+			}),
+			dynamicTest("Open tables only when found", () -> {
+				var table = db.find(tableNames.get(0));
+
+				assertNotNull(table, "Expected %s to be found".formatted(tableNames.get(0)));
+				assertEquals(ROWS, table.size(), "Unexpected size of %s".formatted(tableNames.get(0)));
+				assertOpened(tableNames.get(0), true);
+				assertOpened(tableNames.get(1), false);
+				db.close();
+
+				passed++;
+			})
+		);
+	}
+
+	/*
+	 * Expects the table to be opened, or not,
+	 * by checking the catalog of the database.
+	 */
+	private static void assertOpened(String tableName, boolean opened) {
+		var found = db.catalog().stream().anyMatch(t -> t.getTableName().equals(tableName));
+		assertEquals(opened, found, "Expected %s %sto be opened".formatted(tableName, opened ? "" : "not "));
+		assertTrue(opened || db.unopenedTableNames().contains(tableName), "Expected %s to be listed as unopened".formatted(tableName));
+	}
+}
@@ -0,0 +1,275 @@
+package grade;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import apps.Database;
+import drivers.SQLError;
+import tables.ColumnarTable;
+import tables.Table;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ColumnarModule extends DFSModule {
+	@BeforeAll
+	public static void setup() {
+		module_tag = "CT";
+		calls_per_table = 5;
+		table_count = 2;
+	}
+
+	@TestFactory
+    @DisplayName("Prerequisites")
+    @Order(0)
+    public final Stream<DynamicTest> audits() throws IllegalAccessException {
+		return Stream.of(
+			dynamicTest("Constructor (4-ary)", () -> {
+				ungraded++;
+				try {
+					actualTable = firstTestConstructor(() -> {
+						return new ColumnarTable(
+							"ct_table00",
+							List.of("a", "b", "c"),
+							List.of("string", "integer", "boolean"),
+							0
+						);
+			        });
+				}
+				catch (Exception e) {
+					fail("Unexpected exception with 4-ary constructor", e);
+				}
+    		}),
+			dynamicTest("Forbidden Classes", () -> {
+				ungraded++;
+				if (actualTable == null)
+					fail("Depends on constructor prerequisite");
+
+				testForbiddenClasses(
+					actualTable,
+					ColumnarTable.class,
+					List.of(
+						"tables",
+						"java.lang",
+						"java.util.ImmutableCollections",
+						"java.util.LinkedList",
+						"java.util.ArrayList",
+						"java.util.HashMap"
+					)
+				);
+    		})
+    	);
+    }
+
+	/*
+	 * Few enough labels that each
+	 * repeats across many rows.
+	 */
+	private static final int ROWS = 2000, LABELS = 10;
+
+	private static final List<String> columnTypes = List.of("string", "integer", "boolean", "string");
+
+	private static ColumnarTable table;
+	private static Set<String> labelsPut;
+
+	@TestFactory
+	@DisplayName("Filter and project ct_table01 [s*, i, b, s]")
+	@Order(1)
+	public final Stream<DynamicTest> filterAndProject() {
+		return Stream.of(
+			dynamicTest("Filter an integer column", () -> {
+				table = new ColumnarTable("ct_table01", List.of(n(), n(), n(), n()), columnTypes, 0);
+				expectedTable = new ReadWriteTable("ct_table01", table.getColumnNames(), columnTypes, 0);
+				labelsPut = new HashSet<>();
+				for (var i = 0; i < ROWS; i++)
+					put("key %d".formatted(RNG.nextInt(ROWS)));
+
+				assertFilter(1, x -> (Integer) x < 0);
+				assertFilter(1, x -> true);
+
+				passed++;
+			}),
+			dynamicTest("Filter a string column once per distinct string", () -> {
+				assertFilter(3, x -> ((String) x).endsWith("3"));
+
+				var calls = new int[1];
+				table.filter(3, x -> calls[0]++ < 0);
+				assertTrue(calls[0] <= labelsPut.size(), "Expected at most %d calls, not %d".formatted(labelsPut.size(), calls[0]));
+
+				assertFilter(0, x -> ((String) x).startsWith("key 1"));
+
+				passed++;
+			}),
+			dynamicTest("Filter a boolean column at most twice", () -> {
+				assertFilter(2, x -> (Boolean) x);
+
+				var calls = new int[1];
+				table.filter(2, x -> calls[0]++ < 0);
+				assertTrue(calls[0] <= 2, "Expected at most 2 calls, not %d".formatted(calls[0]));
+
+				passed++;
+			}),
+			dynamicTest("Project the chosen columns", () -> {
+				var columns = new int[] { 3, 0, 1 };
+				for (var position: table.filter(0, x -> true)) {
+					var row = expectedTable.get(table.field(position, 0));
+					assertEquals(Arrays.asList(row.get(3), row.get(0), row.get(1)), table.project(position, columns));
+					assertEquals(List.of(), table.project(position, new int[0]));
+				}
+
+				passed++;
+			}),
+			dynamicTest("Compact the dictionaries", () -> {
+				var keys = new ArrayList<>(expectedTable.keys());
+				for (var key: keys.subList(0, keys.size() / 2)) {
+					expectedTable.remove(key);
+					table.remove(key);
+				}
+				for (var key: keys.subList(keys.size() / 2, keys.size()))
+					put(key);
+
+				var labelsLeft = new HashSet<>();
+				for (var row: expectedTable)
+					if (row.get(3) != null)
+						labelsLeft.add(row.get(3));
+
+				assertEquals(keys.size() / 2 + labelsPut.size() - labelsLeft.size(), table.compact(), "Unexpected number of strings removed");
+				assertEquals(0, table.compact(), "Expected nothing more to remove");
+				assertEquals(expectedTable.rows(), table.rows(), "Rows differ after compaction");
+				assertFilter(3, x -> ((String) x).endsWith("3"));
+
+				passed++;
+			})
+		);
+	}
+
+	private static Database db;
+
+	@TestFactory
+	@DisplayName("Create and query ct_table02 [i*, s, b] with SQL")
+	@Order(2)
+	public final Stream<DynamicTest> queryTable02() {
+		return Stream.of(
+			dynamicTest("Create a table USING COLUMNAR", () -> {
+				db = new Database(false);
+				var created = db.interpret("CREATE TABLE ct_table02 (id INTEGER PRIMARY, label STRING, flag BOOLEAN) USING COLUMNAR");
+
+				assertTrue(created instanceof ColumnarTable, "Expected a columnar table to be created");
+				assertTrue(db.find("ct_table02") instanceof ColumnarTable, "Expected the database to hold the columnar table");
+
+				passed++;
+			}),
+			dynamicTest("Select every row", () -> {
+				expectedTable = new ReadWriteTable("ct_table02", List.of("id", "label", "flag"), List.of("integer", "string", "boolean"), 0);
+				for (var i = 0; i < ROWS; i++) {
+					var row = Arrays.<Object>asList(i, "label %d".formatted(RNG.nextInt(LABELS)), b());
+					expectedTable.put(row);
+					db.interpret("INSERT INTO ct_table02 VALUES (%d, \"%s\", %b)".formatted(row.get(0), row.get(1), row.get(2)));
+				}
+
+				assertEquals(expectedTable.rows(), select("SELECT * FROM ct_table02").rows(), "Rows differ");
+
+				passed++;
+			}),
+			dynamicTest("Select rows by a string column", () -> {
+				var expected = new HashSet<>();
+				for (var row: expectedTable)
+					if (row.get(1).equals("label 3"))
+						expected.add(List.of(row.get(0), row.get(2)));
+
+				assertEquals(expected, select("SELECT id, flag FROM ct_table02 WHERE label = \"label 3\"").rows(), "Rows differ");
+
+				passed++;
+			}),
+			dynamicTest("Select rows by a compound condition", () -> {
+				var expected = new HashSet<>();
+				for (var row: expectedTable)
+					if ((Integer) row.get(0) < 100 && (Boolean) row.get(2) || row.get(1).equals("label 7"))
+						expected.add(row);
+
+				assertEquals(expected, select("SELECT * FROM ct_table02 WHERE id < 100 AND flag = true OR label = \"label 7\"").rows(), "Rows differ");
+
+				passed++;
+			}),
+			dynamicTest("Reject a columnar table in a persistent database", () -> {
+				var persistent = new Database(true);
+				assertThrows(SQLError.class, () -> persistent.interpret("CREATE TABLE ct_table03 (id INTEGER PRIMARY) USING COLUMNAR"));
+				assertFalse(persistent.exists("ct_table03"), "Expected no table to be created");
+				persistent.close();
+
+				assertThrows(SQLError.class, () -> db.interpret("CREATE TABLE ct_table03 (id INTEGER PRIMARY) USING HASH"));
+				assertFalse(db.exists("ct_table03"), "Expected no table to be created");
+
+				passed++;
+			})
+		);
+	}
+
+	/*
+	 * Interprets the given query as a select query.
+	 */
+	private static Table select(String query) throws SQLError {
+		return (Table) db.interpret(query);
+	}
+
+	/*
+	 * Puts a row under the given key into both tables, with a
+	 * label in the last column and a null in each other column
+	 * one time in ten.
+	 */
+	private static void put(Object key) {
+		var label = "label %d".formatted(RNG.nextInt(LABELS));
+		var row = Arrays.<Object>asList(
+			key,
+			RNG.nextInt(10) == 0 ? null : i(),
+			RNG.nextInt(10) == 0 ? null : b(),
+			RNG.nextInt(10) == 0 ? null : label
+		);
+		if (row.get(3) != null)
+			labelsPut.add(label);
+
+		expectedTable.put(row);
+		table.put(row);
+	}
+
+	/*
+	 * Expects the filter to match the positions, in order,
+	 * of exactly the rows with a non-null field which
+	 * satisfies the predicate.
+	 */
+	private static void assertFilter(int column, Predicate<Object> predicate) {
+		var expected = new HashSet<>();
+		for (var row: expectedTable)
+			if (row.get(column) != null && predicate.test(row.get(column)))
+				expected.add(row.get(0));
+
+		var positions = table.filter(column, predicate);
+		var sorted = positions.clone();
+		Arrays.sort(sorted);
+		assertArrayEquals(sorted, positions, "Positions are out of order");
+
+		var actual = new HashSet<>();
+		for (var position: positions)
+			actual.add(table.field(position, 0));
+		assertEquals(expected, actual, "Filter on column %d matched the wrong rows".formatted(column));
+	}
+}
@@ -0,0 +1,114 @@
+package grade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import tables.Durability;
+import tables.HashFileTable;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class CompactionModule extends DFSModule {
+	@BeforeAll
+	public static void setup() {
+		module_tag = "CP";
+		calls_per_table = 3;
+		table_count = 1;
+	}
+
+	/*
+	 * Enough cycles of a put and a remove for
+	 * dozens of rebuilds at the initial capacity.
+	 */
+	private static final int CYCLES = 50_000;
+
+	private static final String tableName = "cp_table01";
+	private static final List<String> columnNames = List.of(n(), n());
+	private static final List<String> columnTypes = List.of("integer", "string");
+
+	private static HashFileTable table;
+	private static long initialBytes;
+
+	@TestFactory
+	@DisplayName("Compact cp_table01 [i*, s] under churn")
+	@Order(1)
+	public final Stream<DynamicTest> churn() {
+		final Path file = Paths.get("data", "Persistent", "%s.bin".formatted(tableName));
+
+		return Stream.of(
+			dynamicTest("Rebuild at the same capacity within a bounded file", () -> {
+				table = new HashFileTable(tableName, columnNames, columnTypes, 0);
+				table.setDurability(Durability.NONE);
+				initialBytes = Files.size(file);
+				var capacity = table.capacity();
+
+				for (var i = 0; i < CYCLES; i++) {
+					table.put(Arrays.asList(i, "row %d".formatted(i)));
+					table.remove(i);
+				}
+
+				assertEquals(capacity, table.capacity(), "Expected churn not to resize an empty table");
+				assertTrue(table.stats().compactions() > 10, "Expected churn to rebuild the table repeatedly");
+				assertBounded(file);
+
+				passed++;
+			}),
+			dynamicTest("Keep the rows through rebuilds", () -> {
+				expectedTable = new ReadWriteTable(tableName, columnNames, columnTypes, 0);
+				for (var i = 0; i < CYCLES; i++) {
+					var key = RNG.nextInt(200);
+					if (RNG.nextBoolean()) {
+						var row = Arrays.<Object>asList(key, "row %d".formatted(i));
+						expectedTable.put(row);
+						table.put(row);
+					}
+					else {
+						expectedTable.remove(key);
+						table.remove(key);
+					}
+				}
+				table.flush();
+
+				assertEquals(expectedTable.rows(), table.rows(), "Rows differ after rebuilds");
+				assertEquals(expectedTable.rows(), new HashFileTable(tableName).rows(), "Rows differ after reopening");
+				assertBounded(file);
+
+				passed++;
+			}),
+			dynamicTest("Compact repeatedly within a bounded file", () -> {
+				table = new HashFileTable(tableName);
+				for (var i = 0; i < 20; i++)
+					table.compact();
+
+				assertEquals(expectedTable.rows(), table.rows(), "Rows differ after compact");
+				assertBounded(file);
+
+				passed++;
+			})
+		);
+	}
+
+	/*
+	 * Expects the file to hold no more than the header
+	 * and two regions at the initial capacity.
+	 */
+	private static void assertBounded(Path file) throws Exception {
+		var bytes = Files.size(file);
+		assertTrue(bytes <= 2 * initialBytes, "Expected at most %,d bytes, not %,d".formatted(2 * initialBytes, bytes));
+	}
+}
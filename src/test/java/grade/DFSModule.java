@@ -51,6 +51,7 @@ public abstract class DFSModule {
 
 	protected static String module_tag;
 	protected static int calls_per_table;
+	protected static int table_count;
 
 	protected static Table actualTable;
 	protected static Table expectedTable;
@@ -64,6 +65,7 @@ public abstract class DFSModule {
 	protected static final void initialize() throws IOException {
 		ungraded = 0;
 		passed = 0;
+		table_count = 3;
 
 		actualTable = null;
 		expectedTable = null;
@@ -421,8 +423,6 @@ public abstract class DFSModule {
 
 	@AfterAll
 	public static final void report(TestReporter reporter) {
-		final var TABLE_COUNT = 3;
-
 		var put_hit_rate = ((double) put_hits / puts) * 100;
 		System.out.printf(
 			"Puts: %,d (%.0f%% Hit, %.0f%% Miss)\n",
@@ -449,7 +449,7 @@ public abstract class DFSModule {
 
 		System.out.println();
 
-		var graded = calls_per_table * TABLE_COUNT;
+		var graded = calls_per_table * table_count;
 		var earned = (int) Math.ceil(passed / (double) graded * 100);
 		if (ungraded > 0)
 			System.out.println("Prerequisites (Ungraded): %s".formatted(ungraded));
@@ -0,0 +1,348 @@
+package grade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import apps.Database;
+import drivers.SQLError;
+import tables.Table;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ExportImportModule extends DFSModule {
+	private static Database db, persistent;
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		module_tag = "EI";
+		calls_per_table = 16;
+		table_count = 1;
+
+		// Export never overwrites a file, so remove those of earlier runs.
+		for (var dir: List.of(Paths.get("data", "exported"), Paths.get("data", "Persistent"))) {
+			if (Files.isDirectory(dir)) {
+				try (var files = Files.newDirectoryStream(dir, "ei_*")) {
+					for (var file: files)
+						Files.delete(file);
+				}
+			}
+		}
+
+		db = new Database(false);
+		persistent = new Database(true);
+	}
+
+	/*
+	 * More rows than fit in one batch of an import.
+	 */
+	private static final int LARGE_ROWS = 10_000;
+
+	@TestFactory
+	@DisplayName("Round trip tables through JSON")
+	@Order(1)
+	public final Stream<DynamicTest> json() {
+		return Stream.of(
+			dynamicTest("Round trip ei_table01 [s*, i, b] with escapes and nulls", () -> {
+				roundTrip(tricky("ei_table01"), "EXPORT ei_table01 AS JSON", "IMPORT ei_table01.json TO ei_json01");
+
+				passed++;
+			}),
+			dynamicTest("Round trip ei_table02 [i, s*] in compact form", () -> {
+				roundTrip(large("ei_table02"), "EXPORT ei_table02 TO ei_table02.json COMPACT", "IMPORT ei_table02.json TO ei_json02");
+
+				passed++;
+			})
+		);
+	}
+
+	@TestFactory
+	@DisplayName("Round trip tables through XML")
+	@Order(2)
+	public final Stream<DynamicTest> xml() {
+		return Stream.of(
+			dynamicTest("Round trip ei_table03 [s*, i, b] with escapes and nulls", () -> {
+				roundTrip(tricky("ei_table03"), "EXPORT ei_table03 AS XML", "IMPORT ei_table03.xml TO ei_xml03");
+
+				passed++;
+			}),
+			dynamicTest("Round trip ei_table04 [i, s*] in compact form", () -> {
+				roundTrip(large("ei_table04"), "EXPORT ei_table04 TO ei_table04.xml COMPACT", "IMPORT ei_table04.xml TO ei_xml04");
+
+				passed++;
+			})
+		);
+	}
+
+	@TestFactory
+	@DisplayName("Stream JSON files written by hand")
+	@Order(3)
+	public final Stream<DynamicTest> handwrittenJson() {
+		return Stream.of(
+			dynamicTest("Skip keys which are not read", () -> {
+				write("ei_extra.json", """
+					{
+						"comment": {"nested": [1, {"deeper": [true]}]},
+						"schema": {
+							"table_name": "ei_extra",
+							"note": ["ignored"],
+							"column_names": ["id", "name"],
+							"column_types": ["integer", "string"],
+							"primary_index": 0
+						},
+						"state": [[1, "a"], [2, null]],
+						"trailer": "ignored"
+					}
+					""");
+
+				var imported = (Table) db.interpret("IMPORT ei_extra.json");
+				assertEquals("ei_extra", imported.getTableName());
+				assertEquals(Set.of(List.of(1, "a"), Arrays.asList(2, null)), imported.rows());
+
+				passed++;
+			}),
+			dynamicTest("Reject a state before its schema", () -> {
+				write("ei_early.json", """
+					{
+						"state": [[1, "a"]],
+						"schema": {"table_name": "ei_early", "column_names": ["id", "name"], "column_types": ["integer", "string"], "primary_index": 0}
+					}
+					""");
+
+				assertThrows(SQLError.class, () -> db.interpret("IMPORT ei_early.json"));
+				assertFalse(db.exists("ei_early"), "Expected no table from a rejected file");
+
+				passed++;
+			})
+		);
+	}
+
+	@TestFactory
+	@DisplayName("Roll back failed imports in memory and on disk")
+	@Order(4)
+	public final Stream<DynamicTest> failedImport() {
+		return Stream.of(
+			dynamicTest("Drop a JSON import which fails in a late batch", () -> {
+				var json = new StringBuilder("""
+					{"schema": {"table_name": "ei_badjson", "column_names": ["id", "name"], "column_types": ["integer", "string"], "primary_index": 0}, "state": [
+					""");
+				for (var i = 0; i < LARGE_ROWS; i++)
+					json.append("[%d, \"row %d\"],".formatted(i, i));
+				json.append("[\"late\", \"row\"]]}");
+				write("ei_badjson.json", json.toString());
+
+				assertRolledBack("IMPORT ei_badjson.json", "ei_badjson");
+
+				passed++;
+			}),
+			dynamicTest("Drop a JSON import which is malformed in a late batch", () -> {
+				var json = new StringBuilder("""
+					{"schema": {"table_name": "ei_brokenjson", "column_names": ["id", "name"], "column_types": ["integer", "string"], "primary_index": 0}, "state": [
+					""");
+				for (var i = 0; i < LARGE_ROWS; i++)
+					json.append("[%d, \"row %d\"],".formatted(i, i));
+				json.append("[-1, \"row\" }");
+				write("ei_brokenjson.json", json.toString());
+
+				assertRolledBack("IMPORT ei_brokenjson.json", "ei_brokenjson");
+
+				passed++;
+			}),
+			dynamicTest("Drop a JSON import with a string too long to store", () -> {
+				var json = new StringBuilder("""
+					{"schema": {"table_name": "ei_longjson", "column_names": ["id", "name"], "column_types": ["integer", "string"], "primary_index": 0}, "state": [
+					""");
+				for (var i = 0; i < LARGE_ROWS; i++)
+					json.append("[%d, \"row %d\"],".formatted(i, i));
+				// Fewer characters than the limit, but more bytes once encoded.
+				json.append("[-1, \"%s\"]]}".formatted("\u00e9".repeat(64)));
+				write("ei_longjson.json", json.toString());
+
+				assertRolledBack("IMPORT ei_longjson.json", "ei_longjson");
+
+				passed++;
+			}),
+			dynamicTest("Drop an XML import with a malformed integer", () -> {
+				var xml = new StringBuilder("""
+					<table name="ei_badxml"><schema><columns primary="0">
+					<column name="id" type="integer"/><column name="name" type="string"/>
+					</columns></schema><state>
+					""");
+				for (var i = 0; i < LARGE_ROWS; i++)
+					xml.append("<row><field>%d</field><field>row %d</field></row>".formatted(i, i));
+				xml.append("<row><field>1x</field><field>late</field></row></state></table>");
+				write("ei_badxml.xml", xml.toString());
+
+				assertRolledBack("IMPORT ei_badxml.xml", "ei_badxml");
+
+				passed++;
+			}),
+			dynamicTest("Drop an XML import which is malformed in a late batch", () -> {
+				var xml = new StringBuilder("""
+					<table name="ei_brokenxml"><schema><columns primary="0">
+					<column name="id" type="integer"/><column name="name" type="string"/>
+					</columns></schema><state>
+					""");
+				for (var i = 0; i < LARGE_ROWS; i++)
+					xml.append("<row><field>%d</field><field>row %d</field></row>".formatted(i, i));
+				xml.append("<row><field>-1</field><field>late</row></state></table>");
+				write("ei_brokenxml.xml", xml.toString());
+
+				assertRolledBack("IMPORT ei_brokenxml.xml", "ei_brokenxml");
+
+				passed++;
+			}),
+			dynamicTest("Drop an XML import with a string too long to store", () -> {
+				var xml = new StringBuilder("""
+					<table name="ei_longxml"><schema><columns primary="0">
+					<column name="id" type="integer"/><column name="name" type="string"/>
+					</columns></schema><state>
+					""");
+				for (var i = 0; i < LARGE_ROWS; i++)
+					xml.append("<row><field>%d</field><field>row %d</field></row>".formatted(i, i));
+				// Fewer characters than the limit, but more bytes once encoded.
+				xml.append("<row><field>-1</field><field>%s</field></row></state></table>".formatted("\u00e9".repeat(64)));
+				write("ei_longxml.xml", xml.toString());
+
+				assertRolledBack("IMPORT ei_longxml.xml", "ei_longxml");
+
+				passed++;
+			}),
+			dynamicTest("Reject a suffixed name which is too long", () -> {
+				var tableName = "ei_table_name15";
+				write("ei_longname.json", """
+					{"schema": {"table_name": "%s", "column_names": ["id"], "column_types": ["integer"], "primary_index": 0}, "state": [[1]]}
+					""".formatted(tableName));
+
+				for (var database: List.of(db, persistent)) {
+					database.create(tableName, List.of("id"), List.of("integer"), 0);
+					assertThrows(SQLError.class, () -> database.interpret("IMPORT ei_longname.json"));
+					assertFalse(database.exists(tableName + "_1"), "Expected no table from a rejected name");
+				}
+				persistent.close();
+
+				passed++;
+			})
+		);
+	}
+
+	@TestFactory
+	@DisplayName("Round trip tables through binary snapshots")
+	@Order(5)
+	public final Stream<DynamicTest> bin() {
+		final var exported = Paths.get("data", "exported");
+
+		return Stream.of(
+			dynamicTest("Round trip ei_table05 [i, s*] and ei_table06 [s*, i, b]", () -> {
+				roundTrip(large("ei_table05"), "EXPORT ei_table05 AS BIN", "IMPORT ei_table05.bin TO ei_bin05");
+				roundTrip(tricky("ei_table06"), "EXPORT ei_table06 TO ei_table06.bin", "IMPORT ei_table06.bin TO ei_bin06");
+
+				passed++;
+			}),
+			dynamicTest("Reject a snapshot with a flipped byte", () -> {
+				var bytes = Files.readAllBytes(exported.resolve("ei_table05.bin"));
+				bytes[bytes.length / 2] ^= 1;
+				Files.write(exported.resolve("ei_corrupt.bin"), bytes);
+
+				var error = assertThrows(SQLError.class, () -> db.interpret("IMPORT ei_corrupt.bin TO ei_corrupt"));
+				assertTrue(error.getMessage().startsWith("Checksum of block"), "Expected a checksum error, not <%s>".formatted(error.getMessage()));
+				assertFalse(db.exists("ei_corrupt"), "Expected no table from a corrupt file");
+
+				passed++;
+			}),
+			dynamicTest("Reject a truncated snapshot", () -> {
+				var bytes = Files.readAllBytes(exported.resolve("ei_table05.bin"));
+				Files.write(exported.resolve("ei_truncated.bin"), Arrays.copyOf(bytes, bytes.length - 16));
+
+				var error = assertThrows(SQLError.class, () -> db.interpret("IMPORT ei_truncated.bin TO ei_truncated"));
+				assertEquals("File is truncated", error.getMessage());
+				assertFalse(db.exists("ei_truncated"), "Expected no table from a truncated file");
+
+				passed++;
+			})
+		);
+	}
+
+	/*
+	 * Creates a table whose strings need escaping
+	 * in every format, with a null in each column
+	 * but the primary one.
+	 */
+	private static Table tricky(String tableName) {
+		var table = db.create(tableName, List.of(n(), n(), n()), List.of("string", "integer", "boolean"), 0);
+		table.put(List.of("plain", 0, false));
+		table.put(List.of("comma, and \"quotes\"", -1, true));
+		table.put(List.of("back\\slash and \ttab", Integer.MAX_VALUE, false));
+		table.put(List.of("<markup> & 'apostrophes'", Integer.MIN_VALUE, true));
+		table.put(List.of("unicode é中😀", 42, true));
+		table.put(Arrays.asList("nulls", null, null));
+		table.put(List.of("", 7, false));
+		return table;
+	}
+
+	/*
+	 * Creates a table with more rows than fit
+	 * in one batch, keyed on its second column.
+	 */
+	private static Table large(String tableName) {
+		var table = db.create(tableName, List.of(n(), n()), List.of("integer", "string"), 1);
+		for (var i = 0; i < LARGE_ROWS; i++)
+			table.put(Arrays.asList(i % 7 == 0 ? null : i(), "row %d".formatted(i)));
+		return table;
+	}
+
+	/*
+	 * Writes a file where IMPORT looks for it.
+	 */
+	private static void write(String fileName, String content) throws IOException {
+		var path = Paths.get("data", "exported", fileName);
+		Files.createDirectories(path.getParent());
+		Files.writeString(path, content);
+	}
+
+	/*
+	 * Expects the import to fail in each database,
+	 * leaving neither a table nor any of its files.
+	 */
+	private static void assertRolledBack(String importQuery, String tableName) {
+		for (var database: List.of(db, persistent)) {
+			assertThrows(SQLError.class, () -> database.interpret(importQuery));
+			assertFalse(database.exists(tableName), "Expected no table from a failed import");
+		}
+		assertFalse(
+			Files.exists(Paths.get("data", "Persistent", "%s.bin".formatted(tableName))),
+			"Expected no files from a failed import"
+		);
+	}
+
+	/*
+	 * Exports the given table and imports it under another
+	 * name, and expects the same schema and rows.
+	 */
+	private static void roundTrip(Table table, String export, String imports) throws SQLError {
+		assertEquals(true, db.interpret(export), "Expected %s to export".formatted(table.getTableName()));
+
+		var imported = (Table) db.interpret(imports);
+		assertEquals(table.getColumnNames(), imported.getColumnNames(), "Column names differ after a round trip");
+		assertEquals(table.getColumnTypes(), imported.getColumnTypes(), "Column types differ after a round trip");
+		assertEquals(table.getPrimaryIndex(), imported.getPrimaryIndex(), "Primary index differs after a round trip");
+		assertEquals(table.rows(), imported.rows(), "Rows differ after a round trip");
+	}
+}
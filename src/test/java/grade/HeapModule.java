@@ -0,0 +1,184 @@
+package grade;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import tables.Durability;
+import tables.HashFileTable;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class HeapModule extends DFSModule {
+	@BeforeAll
+	public static void setup() {
+		module_tag = "HP";
+		calls_per_table = 3;
+		table_count = 2;
+	}
+
+	private static final int OPERATIONS = 2500;
+
+	/*
+	 * Enough overwrites of a few rows to write
+	 * several times the heap compaction bound.
+	 */
+	private static final int CYCLES = 100_000, KEYS = 200;
+
+	/*
+	 * The heap bytes below which a table never
+	 * compacts its heap on its own.
+	 */
+	private static final long COMPACTION_BYTES = 1 << 20;
+
+	private static final List<String> columnNames = List.of(n(), n(), n());
+	private static final List<String> columnTypes = List.of("string", "string", "integer");
+
+	@TestFactory
+	@DisplayName("Compact and reopen hp_table01 [s*, s, i] with 8 inline bytes")
+	@Order(1)
+	public final Stream<DynamicTest> compactTable01() {
+		final var tableName = "hp_table01";
+		final var heap = heap(tableName);
+
+		return Stream.of(
+			dynamicTest("compact()", () -> {
+				var table = new HashFileTable(tableName, columnNames, columnTypes, 0, 8);
+				expectedTable = new ReadWriteTable(tableName, columnNames, columnTypes, 0);
+
+				// Overwrites and removes leave dead strings in the heap.
+				for (var i = 0; i < OPERATIONS; i++) {
+					var key = "overflowing key %d".formatted(RNG.nextInt(OPERATIONS / 4));
+					if (RNG.nextDouble() < 0.8) {
+						var row = Arrays.<Object>asList(key, "overflowing value %s".formatted(n()), i());
+						expectedTable.put(row);
+						table.put(row);
+					}
+					else {
+						expectedTable.remove(key);
+						table.remove(key);
+					}
+				}
+
+				long before = Files.size(heap);
+				table.compact();
+				assertTrue(Files.size(heap) < before, "Expected compact to shrink the heap");
+				assertEquals(expectedTable.rows(), table.rows(), "Rows differ after compact");
+
+				passed++;
+			}),
+			dynamicTest("Reopen after compact()", () -> {
+				var table = new HashFileTable(tableName);
+				assertEquals(expectedTable.rows(), table.rows(), "Rows differ after reopening a compacted table");
+
+				passed++;
+			}),
+			dynamicTest("Reopen after an interrupted compact()", () -> {
+				// Leave the files as a crash after the compacted heap is
+				// renamed, but before the records are pointed at it, would.
+				Files.copy(heap, heap.resolveSibling("%s.heap.new".formatted(tableName)), REPLACE_EXISTING);
+				Files.write(heap.resolveSibling("%s.heap.tmp".formatted(tableName)), new byte[] { 1, 2, 3 });
+
+				var table = new HashFileTable(tableName);
+				assertEquals(expectedTable.rows(), table.rows(), "Rows differ after finishing an interrupted compact");
+				assertFalse(Files.exists(heap.resolveSibling("%s.heap.new".formatted(tableName))), "Expected the compacted heap to replace the heap");
+				assertFalse(Files.exists(heap.resolveSibling("%s.heap.tmp".formatted(tableName))), "Expected the partial heap copy to be discarded");
+
+				passed++;
+			})
+		);
+	}
+
+	@TestFactory
+	@DisplayName("Compact the heap of hp_table02 [s*, s, i] under overwrites")
+	@Order(2)
+	public final Stream<DynamicTest> churnTable02() {
+		final var tableName = "hp_table02";
+		final var heap = heap(tableName);
+
+		return Stream.of(
+			dynamicTest("Bound the heap under overwrites", () -> {
+				var table = new HashFileTable(tableName, columnNames, columnTypes, 0, 8);
+				table.setDurability(Durability.NONE);
+				expectedTable = new ReadWriteTable(tableName, columnNames, columnTypes, 0);
+
+				churn(table);
+				table.flush();
+
+				assertBounded(heap);
+				assertEquals(expectedTable.rows(), table.rows(), "Rows differ after overwrites");
+
+				passed++;
+			}),
+			dynamicTest("Keep the rows through heap compactions", () -> {
+				var table = new HashFileTable(tableName);
+				assertEquals(expectedTable.rows(), table.rows(), "Rows differ after reopening");
+
+				passed++;
+			}),
+			dynamicTest("Bound the heap under overwrites after reopening", () -> {
+				var table = new HashFileTable(tableName);
+				table.setDurability(Durability.NONE);
+
+				churn(table);
+				table.flush();
+
+				assertBounded(heap);
+				assertEquals(expectedTable.rows(), new HashFileTable(tableName).rows(), "Rows differ after reopening");
+
+				passed++;
+			})
+		);
+	}
+
+	/*
+	 * Overwrites and removes a few rows with strings
+	 * long enough to be stored in the heap.
+	 */
+	private static void churn(HashFileTable table) {
+		for (var i = 0; i < CYCLES; i++) {
+			var key = "overflowing key %d".formatted(RNG.nextInt(KEYS));
+			if (RNG.nextDouble() < 0.9) {
+				var row = Arrays.<Object>asList(key, "overflowing value %d %s".formatted(i, s()), i());
+				expectedTable.put(row);
+				table.put(row);
+			}
+			else {
+				expectedTable.remove(key);
+				table.remove(key);
+			}
+		}
+	}
+
+	/*
+	 * Expects the heap to hold no more than the
+	 * garbage allowed before it is compacted.
+	 */
+	private static void assertBounded(Path heap) throws Exception {
+		var bytes = Files.size(heap);
+		assertTrue(bytes <= 2 * COMPACTION_BYTES, "Expected at most %,d heap bytes, not %,d".formatted(2 * COMPACTION_BYTES, bytes));
+	}
+
+	/*
+	 * Returns the path of the heap of the given table.
+	 */
+	private static Path heap(String tableName) {
+		return Paths.get("data", "Persistent", "%s.heap".formatted(tableName));
+	}
+}
@@ -0,0 +1,245 @@
+package grade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import apps.Database;
+import tables.PagedFileTable;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class PagedModule extends DFSModule {
+	@BeforeAll
+	public static void setup() {
+		module_tag = "PG";
+		calls_per_table = 7;
+		table_count = 1;
+	}
+
+	@TestFactory
+    @DisplayName("Prerequisites")
+    @Order(0)
+    public final Stream<DynamicTest> audits() throws IllegalAccessException {
+		return Stream.of(
+			dynamicTest("Constructor (4-ary)", () -> {
+				ungraded++;
+
+				try {
+					actualTable = firstTestConstructor(() -> {
+						return new PagedFileTable(
+							"pg_table00",
+							List.of("a", "b", "c"),
+							List.of("string", "integer", "boolean"),
+							0
+						);
+			        });
+				}
+				catch (Exception e) {
+					fail("Unexpected exception with 4-ary constructor", e);
+				}
+    		}),
+			dynamicTest("Constructor (1-ary)", () -> {
+				ungraded++;
+				try {
+					if (actualTable != null)
+						((PagedFileTable) actualTable).flush();
+					actualTable = firstTestConstructor(() -> {
+						return new PagedFileTable("pg_table00");
+			        });
+				}
+				catch (Exception e) {
+					fail("Unexpected exception with 1-ary constructor", e);
+				}
+    		}),
+			dynamicTest("Forbidden Classes", () -> {
+				ungraded++;
+				if (actualTable == null)
+					fail("Depends on constructor prerequisite");
+
+				testForbiddenClasses(
+					actualTable,
+					PagedFileTable.class,
+					List.of(
+						"tables",
+						"java.lang",
+						"java.util.ImmutableCollections",
+						"java.util.LinkedList",
+						"java.nio",
+						"sun.nio.ch",
+						"sun.nio.cs",
+						"sun.nio.fs"
+					)
+				);
+    		})
+    	);
+    }
+
+	/*
+	 * So few frames that almost every access
+	 * evicts a page, and enough rows to fill
+	 * far more pages than there are frames.
+	 */
+	private static final int FRAMES = 3, ROWS = 3000;
+
+	private static final String tableName = "pg_table01";
+	private static final List<String> columnNames = List.of(n(), n(), n());
+	private static final List<String> columnTypes = List.of("string", "integer", "boolean");
+
+	private static PagedFileTable table;
+
+	@TestFactory
+	@DisplayName("Evict, flush, and reopen pg_table01 [s*, i, b] in few frames")
+	@Order(1)
+	public final Stream<DynamicTest> evictAndReopen() {
+		return Stream.of(
+			dynamicTest("Write back evicted pages", () -> {
+				table = new PagedFileTable(tableName, columnNames, columnTypes, 0, FRAMES);
+				expectedTable = new ReadWriteTable(tableName, columnNames, columnTypes, 0);
+				change(ROWS);
+
+				var pages = table.stats().bytesUsed() / PagedFileTable.PAGE_SIZE;
+				assertTrue(pages > FRAMES * 10, "Expected many more pages than frames, not %d".formatted(pages));
+				assertRows("after evictions");
+
+				passed++;
+			}),
+			dynamicTest("Evict pages during a scan", () -> {
+				var keys = new ArrayList<>(expectedTable.keys());
+				var scanned = new ArrayList<List<Object>>();
+				for (var row: table) {
+					scanned.add(row);
+					var key = keys.get(RNG.nextInt(keys.size()));
+					assertEquals(expectedTable.get(key), table.get(key), "Unexpected row for key <%s> during a scan".formatted(key));
+				}
+				assertEquals(expectedTable.size(), scanned.size(), "Unexpected number of rows in a scan");
+				assertEquals(expectedTable.rows(), new HashSet<>(scanned), "Rows differ in a scan");
+
+				passed++;
+			}),
+			dynamicTest("Flush and reopen", () -> {
+				table.flush();
+
+				for (var frames: List.of(FRAMES, PagedFileTable.DEFAULT_FRAMES)) {
+					table = new PagedFileTable(tableName, frames);
+					assertEquals(columnNames, table.getColumnNames(), "Column names differ after reopening");
+					assertEquals(columnTypes, table.getColumnTypes(), "Column types differ after reopening");
+					assertEquals(0, table.getPrimaryIndex(), "Primary index differs after reopening");
+					assertRows("after reopening with %d frames".formatted(frames));
+				}
+
+				passed++;
+			}),
+			dynamicTest("Change, flush, and reopen again", () -> {
+				table = new PagedFileTable(tableName, FRAMES);
+				change(ROWS / 2);
+				table.flush();
+
+				table = new PagedFileTable(tableName, FRAMES);
+				assertRows("after reopening again");
+
+				passed++;
+			})
+		);
+	}
+
+	@TestFactory
+	@DisplayName("Rebuild, drop, and limit pg_table02 [i*, s]")
+	@Order(2)
+	public final Stream<DynamicTest> rebuildAndDrop() {
+		final var tableName = "pg_table02";
+		final var file = Paths.get("data", "Persistent", "%s.pages".formatted(tableName));
+
+		return Stream.of(
+			dynamicTest("Keep the rows through repeated rebuilds", () -> {
+				table = new PagedFileTable(tableName, List.of("id", "name"), List.of("integer", "string"), 0, FRAMES);
+				expectedTable = new ReadWriteTable(tableName, table.getColumnNames(), table.getColumnTypes(), 0);
+				for (var i = 0; i < ROWS; i++) {
+					var row = Arrays.<Object>asList(i, "row %d".formatted(i));
+					expectedTable.put(row);
+					table.put(row);
+					if (i % 500 == 0)
+						table.compact();
+				}
+
+				assertTrue(table.stats().resizes() > 0, "Expected the table to resize");
+				assertRows("after rebuilds");
+
+				passed++;
+			}),
+			dynamicTest("Drop a paged table and its file", () -> {
+				var db = new Database(false);
+				db.create(table);
+				assertTrue(db.drop(tableName), "Expected %s to be dropped".formatted(tableName));
+				assertFalse(db.exists(tableName), "Expected no table after a drop");
+				assertFalse(Files.exists(file), "Expected no file after a drop");
+
+				passed++;
+			}),
+			dynamicTest("Reject more than 15 columns", () -> {
+				var names = new ArrayList<String>();
+				var types = new ArrayList<String>();
+				for (var i = 0; i < 16; i++) {
+					names.add("c%d".formatted(i));
+					types.add("boolean");
+				}
+				assertThrows(IllegalArgumentException.class, () -> new PagedFileTable(tableName, names, types, 0));
+
+				var fifteen = new PagedFileTable(tableName, names.subList(0, 15), types.subList(0, 15), 0);
+				var row = Arrays.<Object>asList(true, true, true, true, true, true, true, true, true, true, true, true, true, true, true);
+				fifteen.put(row);
+				assertEquals(row, fifteen.get(true), "Expected a row with every column non-null");
+				fifteen.close();
+				PagedFileTable.delete(tableName);
+
+				passed++;
+			})
+		);
+	}
+
+	/*
+	 * Puts or removes random keys in both tables,
+	 * mostly puts, so that the table grows.
+	 */
+	private static void change(int operations) {
+		for (var i = 0; i < operations; i++) {
+			var key = "key %d".formatted(RNG.nextInt(ROWS * 2));
+			if (RNG.nextDouble() < 0.8) {
+				var row = Arrays.<Object>asList(key, RNG.nextInt(100) == 0 ? null : i(), RNG.nextInt(100) == 0 ? null : b());
+				assertEquals(expectedTable.put(row), table.put(row), "Unexpected hit or miss for key <%s>".formatted(key));
+			}
+			else {
+				assertEquals(expectedTable.remove(key), table.remove(key), "Unexpected hit or miss for key <%s>".formatted(key));
+			}
+		}
+	}
+
+	/*
+	 * Expects the size, each row by key, and
+	 * the rows of the expected table.
+	 */
+	private static void assertRows(String when) {
+		assertEquals(expectedTable.size(), table.size(), "Unexpected size %s".formatted(when));
+		for (var key: expectedTable.keys())
+			assertEquals(expectedTable.get(key), table.get(key), "Unexpected row for key <%s> %s".formatted(key, when));
+		assertEquals(expectedTable.rows(), table.rows(), "Rows differ %s".formatted(when));
+	}
+}
@@ -0,0 +1,157 @@
+package grade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import apps.Database;
+import drivers.Parser;
+import drivers.SQLError;
+import drivers.Statement;
+import tables.ColumnarTable;
+import tables.Table;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ParserModule extends DFSModule {
+	private static Database db;
+
+	@BeforeAll
+	public static void setup() {
+		module_tag = "P";
+		calls_per_table = 3;
+
+		db = new Database(false);
+	}
+
+	@TestFactory
+	@DisplayName("Parse p_table01 [s*, i, b] with quoted commas")
+	@Order(1)
+	public final Stream<DynamicTest> quotedCommas() {
+		return Stream.of(
+			dynamicTest("INSERT strings holding commas and parentheses", () -> {
+				db.interpret("CREATE TABLE p_table01 (label STRING PRIMARY, n INTEGER, flag BOOLEAN)");
+				assertEquals(3, db.interpret("INSERT INTO p_table01 VALUES (\"a, b\", 1, true), (\"(c, d)\", 2, false), (\"x AND y OR z\", 3, null)"));
+
+				var table = db.find("p_table01");
+				assertEquals(List.of("a, b", 1, true), table.get("a, b"));
+				assertEquals(List.of("(c, d)", 2, false), table.get("(c, d)"));
+				assertEquals(Arrays.asList("x AND y OR z", 3, null), table.get("x AND y OR z"));
+
+				passed++;
+			}),
+			dynamicTest("SELECT a string holding a comma", () -> {
+				assertEquals(
+					Set.of(List.of("a, b", 1, true)),
+					select("SELECT * FROM p_table01 WHERE label = \"a, b\"").rows()
+				);
+
+				passed++;
+			}),
+			dynamicTest("SELECT a string holding keywords", () -> {
+				var result = select("SELECT label AS l, n FROM p_table01 WHERE label = \"x AND y OR z\" OR label = \"(c, d)\"");
+				assertEquals(List.of("l", "n"), result.getColumnNames());
+				assertEquals(Set.of(List.of("x AND y OR z", 3), List.of("(c, d)", 2)), result.rows());
+
+				passed++;
+			})
+		);
+	}
+
+	@TestFactory
+	@DisplayName("Parse conditions on p_table02 [i*, b, b, b] by precedence")
+	@Order(2)
+	public final Stream<DynamicTest> precedence() {
+		return Stream.of(
+			dynamicTest("AND binds tighter than a preceding OR", () -> {
+				db.interpret("CREATE TABLE p_table02 (id INTEGER PRIMARY, a BOOLEAN, b BOOLEAN, c BOOLEAN)");
+				for (var id = 0; id < 8; id++)
+					db.interpret("INSERT INTO p_table02 VALUES (%d, %b, %b, %b)".formatted(id, (id & 4) != 0, (id & 2) != 0, (id & 1) != 0));
+
+				var query = "SELECT * FROM p_table02 WHERE a = true OR b = true AND c = true";
+				assertInstanceOf(Statement.Or.class, Parser.parseSelect(query).where());
+				assertEquals(ids(id -> (id & 4) != 0 || ((id & 2) != 0 && (id & 1) != 0)), select(query).keys());
+
+				passed++;
+			}),
+			dynamicTest("AND binds tighter than a following OR", () -> {
+				var query = "SELECT * FROM p_table02 WHERE a = true AND b = true OR c = true";
+				assertInstanceOf(Statement.Or.class, Parser.parseSelect(query).where());
+				assertEquals(ids(id -> ((id & 4) != 0 && (id & 2) != 0) || (id & 1) != 0), select(query).keys());
+
+				passed++;
+			}),
+			dynamicTest("Parentheses override precedence", () -> {
+				var query = "SELECT * FROM p_table02 WHERE a = true AND (b = true OR c = true)";
+				assertInstanceOf(Statement.And.class, Parser.parseSelect(query).where());
+				assertEquals(ids(id -> (id & 4) != 0 && ((id & 2) != 0 || (id & 1) != 0)), select(query).keys());
+
+				passed++;
+			})
+		);
+	}
+
+	@TestFactory
+	@DisplayName("Compare p_table03 [i*, s] and columnar p_table04 [i*, s] to literals of other types")
+	@Order(3)
+	public final Stream<DynamicTest> typeMismatch() {
+		return Stream.of(
+			dynamicTest("An integer column never matches a string", () -> {
+				db.interpret("CREATE TABLE p_table03 (id INTEGER PRIMARY, name STRING)");
+				db.create(new ColumnarTable("p_table04", List.of("id", "name"), List.of("integer", "string"), 0));
+				for (var id = 1; id <= 12; id++) {
+					db.interpret("INSERT INTO p_table03 VALUES (%d, \"%d\")".formatted(id, id));
+					db.interpret("INSERT INTO p_table04 VALUES (%d, \"%d\")".formatted(id, id));
+				}
+
+				for (var table: List.of("p_table03", "p_table04")) {
+					assertEquals(Set.of(), select("SELECT * FROM %s WHERE id < \"5\"".formatted(table)).rows());
+					assertEquals(Set.of(), select("SELECT * FROM %s WHERE id = \"5\"".formatted(table)).rows());
+				}
+
+				passed++;
+			}),
+			dynamicTest("A string column never matches an integer", () -> {
+				for (var table: List.of("p_table03", "p_table04"))
+					assertEquals(Set.of(), select("SELECT * FROM %s WHERE name = 1 OR name <> 1".formatted(table)).rows());
+
+				passed++;
+			}),
+			dynamicTest("A mismatched comparison is false within OR", () -> {
+				for (var table: List.of("p_table03", "p_table04"))
+					assertEquals(
+						Set.of(List.of(1, "1"), List.of(2, "2")),
+						select("SELECT * FROM %s WHERE id < 3 OR name = 1".formatted(table)).rows()
+					);
+
+				passed++;
+			})
+		);
+	}
+
+	private static Table select(String query) throws SQLError {
+		return (Table) db.interpret(query);
+	}
+
+	private static Set<Object> ids(Predicate<Integer> condition) {
+		var ids = new HashSet<Object>();
+		for (var id = 0; id < 8; id++)
+			if (condition.test(id))
+				ids.add(id);
+		return ids;
+	}
+}
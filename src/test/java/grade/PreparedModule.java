@@ -0,0 +1,131 @@
+package grade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.function.Executable;
+
+import apps.Database;
+import drivers.PreparedQuery;
+import drivers.SQLError;
+import tables.Table;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class PreparedModule extends DFSModule {
+	private static Database db;
+
+	@BeforeAll
+	public static void setup() throws SQLError {
+		module_tag = "PQ";
+		calls_per_table = 2;
+
+		db = new Database(false);
+		db.interpret("CREATE TABLE pq_table01 (id INTEGER PRIMARY, name STRING, flag BOOLEAN)");
+		db.interpret("CREATE TABLE pq_table02 (id INTEGER PRIMARY, name STRING)");
+		for (var id = 1; id <= 5; id++)
+			db.interpret("INSERT INTO pq_table02 VALUES (%d, \"n%d\")".formatted(id, id));
+	}
+
+	@TestFactory
+	@DisplayName("Bind INSERT values into pq_table01 [i*, s, b]")
+	@Order(1)
+	public final Stream<DynamicTest> insert() {
+		return Stream.of(
+			dynamicTest("Bind values of the column types", () -> {
+				var all = db.prepare("INSERT INTO pq_table01 VALUES (?, ?, ?)");
+				assertEquals(1, all.execute(1, "a", true));
+				assertEquals(1, all.execute(2, null, false));
+
+				var listed = db.prepare("INSERT INTO pq_table01 (name, id) VALUES (?, ?)");
+				assertEquals(1, listed.execute("c", 3));
+
+				assertEquals(
+					Set.of(List.of(1, "a", true), Arrays.asList(2, null, false), Arrays.asList(3, "c", null)),
+					db.find("pq_table01").rows()
+				);
+
+				passed++;
+			}),
+			dynamicTest("Reject values of other types", () -> {
+				var all = db.prepare("INSERT INTO pq_table01 VALUES (?, ?, ?)");
+				assertMismatch(() -> all.execute("4", "d", true));
+				assertMismatch(() -> all.execute(4, 5, true));
+				assertMismatch(() -> all.execute(4, "d", "true"));
+
+				var listed = db.prepare("INSERT INTO pq_table01 (name, id) VALUES (?, ?)");
+				assertMismatch(() -> listed.execute(4, "d"));
+
+				assertEquals(3, db.find("pq_table01").size());
+
+				passed++;
+			})
+		);
+	}
+
+	@TestFactory
+	@DisplayName("Bind a key to look up in pq_table02 [i*, s]")
+	@Order(2)
+	public final Stream<DynamicTest> lookup() {
+		return Stream.of(
+			dynamicTest("Bind keys of the key type", () -> {
+				var query = db.prepare("SELECT * FROM pq_table02 WHERE id = ?");
+				assertEquals(Set.of(List.of(2, "n2")), select(query, 2).rows());
+				assertEquals(Set.of(), select(query, 9).rows());
+				assertEquals(Set.of(), select(query, (Object) null).rows());
+
+				passed++;
+			}),
+			dynamicTest("Reject keys of other types", () -> {
+				var query = db.prepare("SELECT * FROM pq_table02 WHERE id = ?");
+				assertMismatch(() -> query.execute("2"));
+				assertMismatch(() -> query.execute(true));
+
+				passed++;
+			})
+		);
+	}
+
+	@TestFactory
+	@DisplayName("Bind values to scan pq_table02 [i*, s]")
+	@Order(3)
+	public final Stream<DynamicTest> scan() {
+		return Stream.of(
+			dynamicTest("Bind values of the column types", () -> {
+				var query = db.prepare("SELECT * FROM pq_table02 WHERE name = ? OR id > ?");
+				assertEquals(Set.of(List.of(1, "n1"), List.of(5, "n5")), select(query, "n1", 4).rows());
+				assertEquals(Set.of(List.of(3, "n3")), select(query, "n3", null).rows());
+
+				passed++;
+			}),
+			dynamicTest("Reject values of other types", () -> {
+				var query = db.prepare("SELECT * FROM pq_table02 WHERE name = ? OR id > ?");
+				assertMismatch(() -> query.execute(1, 4));
+				assertMismatch(() -> query.execute("n1", "4"));
+				assertThrows(SQLError.class, () -> query.execute("n1"));
+
+				passed++;
+			})
+		);
+	}
+
+	private static Table select(PreparedQuery query, Object... values) throws SQLError {
+		return (Table) query.execute(values);
+	}
+
+	private static void assertMismatch(Executable executable) {
+		assertEquals("Type mismatch", assertThrows(SQLError.class, executable).getMessage());
+	}
+}
@@ -0,0 +1,238 @@
+package grade;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import tables.Durability;
+import tables.HashFileTable;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class WriteAheadLogModule extends DFSModule {
+	@BeforeAll
+	public static void setup() {
+		module_tag = "WAL";
+		calls_per_table = 2;
+		table_count = 4;
+	}
+
+	/*
+	 * Few enough operations that the table never
+	 * resizes or reaches the checkpoint bound.
+	 */
+	private static final int OPERATIONS = 200;
+
+	private static final List<String> columnNames = List.of(n(), n(), n());
+	private static final List<String> columnTypes = List.of("string", "integer", "boolean");
+
+	@FunctionalInterface
+	private interface Damage {
+		void apply(Path log) throws IOException;
+	}
+
+	@TestFactory
+	@DisplayName("Recover wal_table01 [s*, i, b] from a truncated last entry")
+	@Order(1)
+	public final Stream<DynamicTest> truncatedTail() {
+		return testRecovery("wal_table01", log -> {
+			try (var channel = FileChannel.open(log, WRITE)) {
+				channel.truncate(channel.size() - 3);
+			}
+		}, false);
+	}
+
+	@TestFactory
+	@DisplayName("Recover wal_table02 [s*, i, b] from a corrupt last entry")
+	@Order(2)
+	public final Stream<DynamicTest> corruptTail() {
+		return testRecovery("wal_table02", log -> {
+			try (var channel = FileChannel.open(log, READ, WRITE)) {
+				var last = ByteBuffer.allocate(1);
+				channel.read(last, channel.size() - 1);
+				last.put(0, (byte) ~last.get(0));
+				channel.write(last.rewind(), channel.size() - 1);
+			}
+		}, false);
+	}
+
+	@TestFactory
+	@DisplayName("Recover wal_table03 [s*, i, b] from a torn entry after the last")
+	@Order(3)
+	public final Stream<DynamicTest> tornTail() {
+		return testRecovery("wal_table03", log -> {
+			var torn = ByteBuffer.allocate(12);
+			torn.putInt(Integer.MAX_VALUE).putInt(0).putInt(-1);
+			Files.write(log, torn.array(), APPEND);
+		}, true);
+	}
+
+	@TestFactory
+	@DisplayName("Recover wal_table04 [i*, s] after a kill during a resize")
+	@Order(4)
+	public final Stream<DynamicTest> killedMigration() {
+		final var tableName = "wal_table04";
+
+		return Stream.of(
+			dynamicTest("Finish the migration and replay the log", () -> {
+				var process = new ProcessBuilder(
+					Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+					"-cp", System.getProperty("java.class.path"),
+					Migration.class.getName(), tableName
+				).redirectErrorStream(true).start();
+
+				String ready;
+				try (var out = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+					ready = out.readLine();
+					assertTrue(ready != null && ready.startsWith("ready "), "Expected the writer to be ready, not <%s>".formatted(ready));
+				}
+				finally {
+					process.destroyForcibly().waitFor();
+				}
+
+				var last = Integer.parseInt(ready.substring("ready ".length()));
+				expectedTable = new ReadWriteTable(tableName, Migration.columnNames, Migration.columnTypes, 0);
+				for (var key = Migration.REMOVED; key <= last; key++)
+					expectedTable.put(Arrays.asList(key, "row %d".formatted(key)));
+
+				actualTable = new HashFileTable(tableName);
+				assertEquals(expectedTable.rows(), actualTable.rows(), "Rows differ after a kill during a resize of %s".formatted(tableName));
+
+				passed++;
+			}),
+			dynamicTest("Resize again after recovery", () -> {
+				for (var key = -1; key >= -Migration.CHECKPOINTED; key--) {
+					var row = Arrays.<Object>asList(key, "row %d".formatted(key));
+					expectedTable.put(row);
+					actualTable.put(row);
+				}
+				((HashFileTable) actualTable).flush();
+
+				var reopened = new HashFileTable(tableName);
+				assertEquals(expectedTable.rows(), reopened.rows(), "Rows differ after resizing %s again".formatted(tableName));
+
+				passed++;
+			})
+		);
+	}
+
+	/**
+	 * Runs in a separate process, which is killed once it
+	 * has checkpointed a table, started a resize, and
+	 * migrated part of the old region, so that every row
+	 * put before the checkpoint is no longer in the log.
+	 */
+	static final class Migration {
+		static final List<String> columnNames = List.of("id", "name");
+		static final List<String> columnTypes = List.of("integer", "string");
+
+		/*
+		 * The rows put before the checkpoint, which is
+		 * below the load factor, and the number of them
+		 * removed during the resize.
+		 */
+		static final int CHECKPOINTED = 600, REMOVED = 5;
+
+		public static void main(String[] args) throws InterruptedException {
+			var table = new HashFileTable(args[0], columnNames, columnTypes, 0);
+			table.setDurability(Durability.OS_BUFFERED);
+
+			var key = 0;
+			for (; key < CHECKPOINTED; key++)
+				table.put(Arrays.asList(key, "row %d".formatted(key)));
+			table.flush();
+
+			for (; table.stats().resizes() == 0; key++)
+				table.put(Arrays.asList(key, "row %d".formatted(key)));
+			for (var i = 0; i < REMOVED; i++)
+				table.remove(i);
+
+			System.out.println("ready %d".formatted(key - 1));
+			System.out.flush();
+			Thread.sleep(Long.MAX_VALUE);
+		}
+	}
+
+	/*
+	 * Checkpoints a new table, logs random operations ending
+	 * with a put of a new key, and restores the table file to
+	 * the checkpoint, as a crash before the next checkpoint
+	 * would leave it. Then damages the log, and expects the
+	 * reopened table to replay every entry before the damage.
+	 */
+	private final Stream<DynamicTest> testRecovery(String tableName, Damage damage, boolean keepsLast) {
+		final var file = Paths.get("data", "Persistent", "%s.bin".formatted(tableName));
+		final var log = file.resolveSibling("%s.wal".formatted(tableName));
+
+		return Stream.of(
+			dynamicTest("Replay up to the damage", () -> {
+				var table = new HashFileTable(tableName, columnNames, columnTypes, 0);
+				table.flush();
+				var checkpointed = Files.readAllBytes(file);
+
+				expectedTable = new ReadWriteTable(tableName, columnNames, columnTypes, 0);
+				for (var i = 0; i < OPERATIONS; i++) {
+					var key = "key %d".formatted(RNG.nextInt(OPERATIONS / 2));
+					if (RNG.nextDouble() < 0.7) {
+						var row = Arrays.<Object>asList(key, i(), b());
+						expectedTable.put(row);
+						table.put(row);
+					}
+					else {
+						expectedTable.remove(key);
+						table.remove(key);
+					}
+				}
+
+				var last = Arrays.<Object>asList("last key", i(), b());
+				table.put(last);
+				if (keepsLast)
+					expectedTable.put(last);
+
+				Files.write(file, checkpointed, WRITE);
+				damage.apply(log);
+
+				actualTable = new HashFileTable(tableName);
+				assertEquals(expectedTable.rows(), actualTable.rows(), "Rows differ after replaying the log of %s".formatted(tableName));
+
+				passed++;
+			}),
+			dynamicTest("Log again after recovery", () -> {
+				var checkpointed = Files.readAllBytes(file);
+
+				var row = Arrays.<Object>asList("after recovery", i(), b());
+				expectedTable.put(row);
+				actualTable.put(row);
+
+				Files.write(file, checkpointed, WRITE);
+
+				var reopened = new HashFileTable(tableName);
+				assertEquals(expectedTable.rows(), reopened.rows(), "Rows differ after replaying the log of %s again".formatted(tableName));
+
+				passed++;
+			})
+		);
+	}
+}